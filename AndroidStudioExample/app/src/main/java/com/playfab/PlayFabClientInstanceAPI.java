@@ -0,0 +1,12822 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * APIs which provide the full range of PlayFab features available to the client - authentication, account and data
+     * management, inventory, friends, matchmaking, reporting, and platform-specific functionality
+     *
+     * Instance-scoped version of PlayFabClientAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabClientInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabClientInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabClientInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @return Async Task will return AcceptTradeResponse
+     */
+    public FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request) {
+        return AcceptTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AcceptTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AcceptTradeResponse>>() {
+            public PlayFabResult<AcceptTradeResponse> call() throws Exception {
+                return privateAcceptTradeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @return AcceptTradeResponse
+     */
+    public PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request) {
+        return AcceptTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AcceptTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AcceptTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AcceptTradeResponse>>() {
+            public PlayFabResult<AcceptTradeResponse> call() throws Exception {
+                return privateAcceptTradeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AcceptTradeResponse> exceptionResult = new PlayFabResult<AcceptTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AcceptTradeResultType = new TypeToken<PlayFabJsonSuccess<AcceptTradeResponse>>(){}.getType();
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AcceptTradeResponse> privateAcceptTradeAsync(final AcceptTradeRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AcceptTrade"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AcceptTradeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AcceptTradeResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AcceptTradeResponse> resultData = (PlayFabJsonSuccess<AcceptTradeResponse>) httpResult;
+        AcceptTradeResponse result = resultData.data;
+
+        PlayFabResult<AcceptTradeResponse> pfResult = new PlayFabResult<AcceptTradeResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return Async Task will return AddFriendResult
+     */
+    public FutureTask<PlayFabResult<AddFriendResult>> AddFriendAsync(final AddFriendRequest request) {
+        return AddFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddFriendResult>> AddFriendAsync(final AddFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddFriendResult>>() {
+            public PlayFabResult<AddFriendResult> call() throws Exception {
+                return privateAddFriendAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return AddFriendResult
+     */
+    public PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request) {
+        return AddFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddFriendResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddFriendResult>>() {
+            public PlayFabResult<AddFriendResult> call() throws Exception {
+                return privateAddFriendAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddFriendResult> exceptionResult = new PlayFabResult<AddFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddFriendResultType = new TypeToken<PlayFabJsonSuccess<AddFriendResult>>(){}.getType();
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddFriendResult> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddFriend"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddFriendResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddFriendResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddFriendResult> resultData = (PlayFabJsonSuccess<AddFriendResult>) httpResult;
+        AddFriendResult result = resultData.data;
+
+        PlayFabResult<AddFriendResult> pfResult = new PlayFabResult<AddFriendResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @return Async Task will return AddGenericIDResult
+     */
+    public FutureTask<PlayFabResult<AddGenericIDResult>> AddGenericIDAsync(final AddGenericIDRequest request) {
+        return AddGenericIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddGenericIDResult>> AddGenericIDAsync(final AddGenericIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddGenericIDResult>>() {
+            public PlayFabResult<AddGenericIDResult> call() throws Exception {
+                return privateAddGenericIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @return AddGenericIDResult
+     */
+    public PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request) {
+        return AddGenericID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddGenericIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddGenericIDResult>>() {
+            public PlayFabResult<AddGenericIDResult> call() throws Exception {
+                return privateAddGenericIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddGenericIDResult> exceptionResult = new PlayFabResult<AddGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddGenericIDResultType = new TypeToken<PlayFabJsonSuccess<AddGenericIDResult>>(){}.getType();
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddGenericIDResult> privateAddGenericIDAsync(final AddGenericIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddGenericID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddGenericIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddGenericIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddGenericIDResult> resultData = (PlayFabJsonSuccess<AddGenericIDResult>) httpResult;
+        AddGenericIDResult result = resultData.data;
+
+        PlayFabResult<AddGenericIDResult> pfResult = new PlayFabResult<AddGenericIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @return Async Task will return AddOrUpdateContactEmailResult
+     */
+    public FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) {
+        return AddOrUpdateContactEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddOrUpdateContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+            public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
+                return privateAddOrUpdateContactEmailAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @return AddOrUpdateContactEmailResult
+     */
+    public PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
+        return AddOrUpdateContactEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddOrUpdateContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+            public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
+                return privateAddOrUpdateContactEmailAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddOrUpdateContactEmailResult> exceptionResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddOrUpdateContactEmailResultType = new TypeToken<PlayFabJsonSuccess<AddOrUpdateContactEmailResult>>(){}.getType();
+
+    /** Adds or updates a contact email to the player's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddOrUpdateContactEmailResult> privateAddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddOrUpdateContactEmail"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddOrUpdateContactEmailResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddOrUpdateContactEmailResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = (PlayFabJsonSuccess<AddOrUpdateContactEmailResult>) httpResult;
+        AddOrUpdateContactEmailResult result = resultData.data;
+
+        PlayFabResult<AddOrUpdateContactEmailResult> pfResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    public FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
+        return AddSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+            public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                return privateAddSharedGroupMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @return AddSharedGroupMembersResult
+     */
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+        return AddSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+            public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                return privateAddSharedGroupMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType();
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddSharedGroupMembers"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddSharedGroupMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddSharedGroupMembersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
+        AddSharedGroupMembersResult result = resultData.data;
+
+        PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @return Async Task will return AddUsernamePasswordResult
+     */
+    public FutureTask<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePasswordAsync(final AddUsernamePasswordRequest request) {
+        return AddUsernamePasswordAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddUsernamePasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePasswordAsync(final AddUsernamePasswordRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+            public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
+                return privateAddUsernamePasswordAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @return AddUsernamePasswordResult
+     */
+    public PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request) {
+        return AddUsernamePassword(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddUsernamePasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddUsernamePasswordResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+            public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
+                return privateAddUsernamePasswordAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddUsernamePasswordResult> exceptionResult = new PlayFabResult<AddUsernamePasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddUsernamePasswordResultType = new TypeToken<PlayFabJsonSuccess<AddUsernamePasswordResult>>(){}.getType();
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddUsernamePasswordResult> privateAddUsernamePasswordAsync(final AddUsernamePasswordRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddUsernamePassword"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddUsernamePasswordResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddUsernamePasswordResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = (PlayFabJsonSuccess<AddUsernamePasswordResult>) httpResult;
+        AddUsernamePasswordResult result = resultData.data;
+
+        PlayFabResult<AddUsernamePasswordResult> pfResult = new PlayFabResult<AddUsernamePasswordResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /** Increments the user's balance of the specified virtual currency by the stated amount */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AddUserVirtualCurrency"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AddUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @return Async Task will return AndroidDevicePushNotificationRegistrationResult
+     */
+    public FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) {
+        return AndroidDevicePushNotificationRegistrationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AndroidDevicePushNotificationRegistrationResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+            public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
+                return privateAndroidDevicePushNotificationRegistrationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @return AndroidDevicePushNotificationRegistrationResult
+     */
+    public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
+        return AndroidDevicePushNotificationRegistration(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AndroidDevicePushNotificationRegistrationResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+            public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
+                return privateAndroidDevicePushNotificationRegistrationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AndroidDevicePushNotificationRegistrationResult> exceptionResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AndroidDevicePushNotificationRegistrationResultType = new TypeToken<PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>>(){}.getType();
+
+    /** Registers the Android device to receive push notifications */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AndroidDevicePushNotificationRegistrationResult> privateAndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AndroidDevicePushNotificationRegistration"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AndroidDevicePushNotificationRegistrationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = (PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>) httpResult;
+        AndroidDevicePushNotificationRegistrationResult result = resultData.data;
+
+        PlayFabResult<AndroidDevicePushNotificationRegistrationResult> pfResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @return Async Task will return AttributeInstallResult
+     */
+    public FutureTask<PlayFabResult<AttributeInstallResult>> AttributeInstallAsync(final AttributeInstallRequest request) {
+        return AttributeInstallAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AttributeInstallResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AttributeInstallResult>> AttributeInstallAsync(final AttributeInstallRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AttributeInstallResult>>() {
+            public PlayFabResult<AttributeInstallResult> call() throws Exception {
+                return privateAttributeInstallAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @return AttributeInstallResult
+     */
+    public PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request) {
+        return AttributeInstall(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AttributeInstallResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AttributeInstallResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AttributeInstallResult>>() {
+            public PlayFabResult<AttributeInstallResult> call() throws Exception {
+                return privateAttributeInstallAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AttributeInstallResult> exceptionResult = new PlayFabResult<AttributeInstallResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AttributeInstallResultType = new TypeToken<PlayFabJsonSuccess<AttributeInstallResult>>(){}.getType();
+
+    /** Attributes an install for advertisment. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AttributeInstallResult> privateAttributeInstallAsync(final AttributeInstallRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/AttributeInstall"), request, "X-Authorization", authenticationContext.ClientSessionTicket, AttributeInstallResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AttributeInstallResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AttributeInstallResult> resultData = (PlayFabJsonSuccess<AttributeInstallResult>) httpResult;
+        AttributeInstallResult result = resultData.data;
+        // Modify AdvertisingIdType:  Prevents us from sending the id multiple times, and allows automated tests to determine id was sent successfully
+        PlayFabSettings.AdvertisingIdType += "_Successful";
+
+        PlayFabResult<AttributeInstallResult> pfResult = new PlayFabResult<AttributeInstallResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @return Async Task will return CancelTradeResponse
+     */
+    public FutureTask<PlayFabResult<CancelTradeResponse>> CancelTradeAsync(final CancelTradeRequest request) {
+        return CancelTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CancelTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CancelTradeResponse>> CancelTradeAsync(final CancelTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CancelTradeResponse>>() {
+            public PlayFabResult<CancelTradeResponse> call() throws Exception {
+                return privateCancelTradeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @return CancelTradeResponse
+     */
+    public PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request) {
+        return CancelTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CancelTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CancelTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CancelTradeResponse>>() {
+            public PlayFabResult<CancelTradeResponse> call() throws Exception {
+                return privateCancelTradeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CancelTradeResponse> exceptionResult = new PlayFabResult<CancelTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CancelTradeResultType = new TypeToken<PlayFabJsonSuccess<CancelTradeResponse>>(){}.getType();
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CancelTradeResponse> privateCancelTradeAsync(final CancelTradeRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/CancelTrade"), request, "X-Authorization", authenticationContext.ClientSessionTicket, CancelTradeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CancelTradeResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CancelTradeResponse> resultData = (PlayFabJsonSuccess<CancelTradeResponse>) httpResult;
+        CancelTradeResponse result = resultData.data;
+
+        PlayFabResult<CancelTradeResponse> pfResult = new PlayFabResult<CancelTradeResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @return Async Task will return ConfirmPurchaseResult
+     */
+    public FutureTask<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchaseAsync(final ConfirmPurchaseRequest request) {
+        return ConfirmPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConfirmPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchaseAsync(final ConfirmPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+            public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
+                return privateConfirmPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @return ConfirmPurchaseResult
+     */
+    public PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request) {
+        return ConfirmPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConfirmPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConfirmPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+            public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
+                return privateConfirmPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ConfirmPurchaseResult> exceptionResult = new PlayFabResult<ConfirmPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ConfirmPurchaseResultType = new TypeToken<PlayFabJsonSuccess<ConfirmPurchaseResult>>(){}.getType();
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ConfirmPurchaseResult> privateConfirmPurchaseAsync(final ConfirmPurchaseRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ConfirmPurchase"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ConfirmPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ConfirmPurchaseResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = (PlayFabJsonSuccess<ConfirmPurchaseResult>) httpResult;
+        ConfirmPurchaseResult result = resultData.data;
+
+        PlayFabResult<ConfirmPurchaseResult> pfResult = new PlayFabResult<ConfirmPurchaseResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return Async Task will return ConsumeItemResult
+     */
+    public FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
+        return ConsumeItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
+            public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                return privateConsumeItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return ConsumeItemResult
+     */
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
+        return ConsumeItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
+            public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                return privateConsumeItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ConsumeItemResultType = new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType();
+
+    /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ConsumeItem"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ConsumeItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ConsumeItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
+        ConsumeItemResult result = resultData.data;
+
+        PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @return Async Task will return ConsumeXboxEntitlementsResult
+     */
+    public FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) {
+        return ConsumeXboxEntitlementsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeXboxEntitlementsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+            public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
+                return privateConsumeXboxEntitlementsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @return ConsumeXboxEntitlementsResult
+     */
+    public PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
+        return ConsumeXboxEntitlements(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeXboxEntitlementsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+            public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
+                return privateConsumeXboxEntitlementsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ConsumeXboxEntitlementsResult> exceptionResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ConsumeXboxEntitlementsResultType = new TypeToken<PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>>(){}.getType();
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ConsumeXboxEntitlementsResult> privateConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ConsumeXboxEntitlements"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ConsumeXboxEntitlementsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ConsumeXboxEntitlementsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = (PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>) httpResult;
+        ConsumeXboxEntitlementsResult result = resultData.data;
+
+        PlayFabResult<ConsumeXboxEntitlementsResult> pfResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    public FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
+        return CreateSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+            public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                return privateCreateSharedGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @return CreateSharedGroupResult
+     */
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
+        return CreateSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+            public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                return privateCreateSharedGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType();
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/CreateSharedGroup"), request, "X-Authorization", authenticationContext.ClientSessionTicket, CreateSharedGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateSharedGroupResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
+        CreateSharedGroupResult result = resultData.data;
+
+        PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) {
+        return ExecuteCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteCloudScriptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
+        return ExecuteCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteCloudScriptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ExecuteCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
+    /** Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ExecuteCloudScript"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ExecuteCloudScriptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ExecuteCloudScriptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
+        ExecuteCloudScriptResult result = resultData.data;
+
+        PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @return Async Task will return GetAccountInfoResult
+     */
+    public FutureTask<PlayFabResult<GetAccountInfoResult>> GetAccountInfoAsync(final GetAccountInfoRequest request) {
+        return GetAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetAccountInfoResult>> GetAccountInfoAsync(final GetAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAccountInfoResult>>() {
+            public PlayFabResult<GetAccountInfoResult> call() throws Exception {
+                return privateGetAccountInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @return GetAccountInfoResult
+     */
+    public PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request) {
+        return GetAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAccountInfoResult>>() {
+            public PlayFabResult<GetAccountInfoResult> call() throws Exception {
+                return privateGetAccountInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetAccountInfoResult> exceptionResult = new PlayFabResult<GetAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<GetAccountInfoResult>>(){}.getType();
+
+    /** Retrieves the user's PlayFab account details */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetAccountInfoResult> privateGetAccountInfoAsync(final GetAccountInfoRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetAccountInfo"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetAccountInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetAccountInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetAccountInfoResult> resultData = (PlayFabJsonSuccess<GetAccountInfoResult>) httpResult;
+        GetAccountInfoResult result = resultData.data;
+
+        PlayFabResult<GetAccountInfoResult> pfResult = new PlayFabResult<GetAccountInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    public FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
+        return GetAllUsersCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+            public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                return privateGetAllUsersCharactersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return ListUsersCharactersResult
+     */
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+        return GetAllUsersCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+            public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                return privateGetAllUsersCharactersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetAllUsersCharactersResultType = new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType();
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetAllUsersCharacters"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetAllUsersCharactersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListUsersCharactersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
+        ListUsersCharactersResult result = resultData.data;
+
+        PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
+    /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCatalogItems"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCatalogItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCatalogItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
+        GetCatalogItemsResult result = resultData.data;
+
+        PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return Async Task will return GetCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
+        return GetCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
+        return GetCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the character which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCharacterData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCharacterDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
+        GetCharacterDataResult result = resultData.data;
+
+        PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
+        return GetCharacterInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+            public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                return privateGetCharacterInventoryAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return GetCharacterInventoryResult
+     */
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+        return GetCharacterInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+            public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                return privateGetCharacterInventoryAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType();
+
+    /** Retrieves the specified character's current inventory of virtual goods */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCharacterInventory"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCharacterInventoryResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
+        GetCharacterInventoryResult result = resultData.data;
+
+        PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
+        return GetCharacterLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+            public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                return privateGetCharacterLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return GetCharacterLeaderboardResult
+     */
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+        return GetCharacterLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+            public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                return privateGetCharacterLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType();
+
+    /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCharacterLeaderboard"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCharacterLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
+        GetCharacterLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return Async Task will return GetCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
+        return GetCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+        return GetCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the character which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCharacterReadOnlyData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCharacterReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
+        GetCharacterDataResult result = resultData.data;
+
+        PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
+        return GetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+            public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                return privateGetCharacterStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @return GetCharacterStatisticsResult
+     */
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+        return GetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+            public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                return privateGetCharacterStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType();
+
+    /** Retrieves the details of all title-specific statistics for the user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCharacterStatistics"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCharacterStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
+        GetCharacterStatisticsResult result = resultData.data;
+
+        PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    public FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
+        return GetContentDownloadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+            public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                return privateGetContentDownloadUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return GetContentDownloadUrlResult
+     */
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+        return GetContentDownloadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+            public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                return privateGetContentDownloadUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetContentDownloadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType();
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetContentDownloadUrl"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetContentDownloadUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetContentDownloadUrlResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
+        GetContentDownloadUrlResult result = resultData.data;
+
+        PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @return Async Task will return CurrentGamesResult
+     */
+    public FutureTask<PlayFabResult<CurrentGamesResult>> GetCurrentGamesAsync(final CurrentGamesRequest request) {
+        return GetCurrentGamesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CurrentGamesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CurrentGamesResult>> GetCurrentGamesAsync(final CurrentGamesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CurrentGamesResult>>() {
+            public PlayFabResult<CurrentGamesResult> call() throws Exception {
+                return privateGetCurrentGamesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @return CurrentGamesResult
+     */
+    public PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request) {
+        return GetCurrentGames(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CurrentGamesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CurrentGamesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CurrentGamesResult>>() {
+            public PlayFabResult<CurrentGamesResult> call() throws Exception {
+                return privateGetCurrentGamesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CurrentGamesResult> exceptionResult = new PlayFabResult<CurrentGamesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCurrentGamesResultType = new TypeToken<PlayFabJsonSuccess<CurrentGamesResult>>(){}.getType();
+
+    /** Get details about all current running game servers matching the given parameters. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CurrentGamesResult> privateGetCurrentGamesAsync(final CurrentGamesRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetCurrentGames"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetCurrentGamesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CurrentGamesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CurrentGamesResult> resultData = (PlayFabJsonSuccess<CurrentGamesResult>) httpResult;
+        CurrentGamesResult result = resultData.data;
+
+        PlayFabResult<CurrentGamesResult> pfResult = new PlayFabResult<CurrentGamesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return Async Task will return GetLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
+        return GetFriendLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetFriendLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+        return GetFriendLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetFriendLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFriendLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetFriendLeaderboard"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetFriendLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
+        GetLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @return Async Task will return GetFriendLeaderboardAroundPlayerResult
+     */
+    public FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) {
+        return GetFriendLeaderboardAroundPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+            public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
+                return privateGetFriendLeaderboardAroundPlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @return GetFriendLeaderboardAroundPlayerResult
+     */
+    public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
+        return GetFriendLeaderboardAroundPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+            public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
+                return privateGetFriendLeaderboardAroundPlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetFriendLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFriendLeaderboardAroundPlayerResultType = new TypeToken<PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>>(){}.getType();
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetFriendLeaderboardAroundPlayerResult> privateGetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetFriendLeaderboardAroundPlayer"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetFriendLeaderboardAroundPlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>) httpResult;
+        GetFriendLeaderboardAroundPlayerResult result = resultData.data;
+
+        PlayFabResult<GetFriendLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return Async Task will return GetFriendsListResult
+     */
+    public FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
+        return GetFriendsListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
+            public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                return privateGetFriendsListAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return GetFriendsListResult
+     */
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
+        return GetFriendsList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendsListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
+            public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                return privateGetFriendsListAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFriendsListResultType = new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType();
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetFriendsList"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetFriendsListResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetFriendsListResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
+        GetFriendsListResult result = resultData.data;
+
+        PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @return Async Task will return GameServerRegionsResult
+     */
+    public FutureTask<PlayFabResult<GameServerRegionsResult>> GetGameServerRegionsAsync(final GameServerRegionsRequest request) {
+        return GetGameServerRegionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GameServerRegionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GameServerRegionsResult>> GetGameServerRegionsAsync(final GameServerRegionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GameServerRegionsResult>>() {
+            public PlayFabResult<GameServerRegionsResult> call() throws Exception {
+                return privateGetGameServerRegionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @return GameServerRegionsResult
+     */
+    public PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request) {
+        return GetGameServerRegions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GameServerRegionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GameServerRegionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GameServerRegionsResult>>() {
+            public PlayFabResult<GameServerRegionsResult> call() throws Exception {
+                return privateGetGameServerRegionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GameServerRegionsResult> exceptionResult = new PlayFabResult<GameServerRegionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetGameServerRegionsResultType = new TypeToken<PlayFabJsonSuccess<GameServerRegionsResult>>(){}.getType();
+
+    /** Get details about the regions hosting game servers matching the given parameters. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GameServerRegionsResult> privateGetGameServerRegionsAsync(final GameServerRegionsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetGameServerRegions"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetGameServerRegionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GameServerRegionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GameServerRegionsResult> resultData = (PlayFabJsonSuccess<GameServerRegionsResult>) httpResult;
+        GameServerRegionsResult result = resultData.data;
+
+        PlayFabResult<GameServerRegionsResult> pfResult = new PlayFabResult<GameServerRegionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return Async Task will return GetLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
+        return GetLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
+        return GetLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
+    /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetLeaderboard"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
+        GetLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
+        return GetLeaderboardAroundCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+            public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                return privateGetLeaderboardAroundCharacterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+        return GetLeaderboardAroundCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+            public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                return privateGetLeaderboardAroundCharacterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardAroundCharacterResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType();
+
+    /** Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetLeaderboardAroundCharacter"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetLeaderboardAroundCharacterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
+        GetLeaderboardAroundCharacterResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @return Async Task will return GetLeaderboardAroundPlayerResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) {
+        return GetLeaderboardAroundPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+            public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
+                return privateGetLeaderboardAroundPlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @return GetLeaderboardAroundPlayerResult
+     */
+    public PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
+        return GetLeaderboardAroundPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+            public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
+                return privateGetLeaderboardAroundPlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardAroundPlayerResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>>(){}.getType();
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardAroundPlayerResult> privateGetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetLeaderboardAroundPlayer"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetLeaderboardAroundPlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>) httpResult;
+        GetLeaderboardAroundPlayerResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
+        return GetLeaderboardForUserCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+            public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                return privateGetLeaderboardForUserCharactersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+        return GetLeaderboardForUserCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+            public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                return privateGetLeaderboardForUserCharactersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardForUserCharactersResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType();
+
+    /** Retrieves a list of all of the user's characters for the given statistic. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetLeaderboardForUserCharacters"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetLeaderboardForUserCharactersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
+        GetLeaderboardForUsersCharactersResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @return Async Task will return GetPaymentTokenResult
+     */
+    public FutureTask<PlayFabResult<GetPaymentTokenResult>> GetPaymentTokenAsync(final GetPaymentTokenRequest request) {
+        return GetPaymentTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPaymentTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPaymentTokenResult>> GetPaymentTokenAsync(final GetPaymentTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+            public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
+                return privateGetPaymentTokenAsync(request);
+            }
+        });
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @return GetPaymentTokenResult
+     */
+    public PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request) {
+        return GetPaymentToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPaymentTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPaymentTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+            public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
+                return privateGetPaymentTokenAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPaymentTokenResult> exceptionResult = new PlayFabResult<GetPaymentTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPaymentTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPaymentTokenResult>>(){}.getType();
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPaymentTokenResult> privateGetPaymentTokenAsync(final GetPaymentTokenRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPaymentToken"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPaymentTokenResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPaymentTokenResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = (PlayFabJsonSuccess<GetPaymentTokenResult>) httpResult;
+        GetPaymentTokenResult result = resultData.data;
+
+        PlayFabResult<GetPaymentTokenResult> pfResult = new PlayFabResult<GetPaymentTokenResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @return Async Task will return GetPhotonAuthenticationTokenResult
+     */
+    public FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) {
+        return GetPhotonAuthenticationTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPhotonAuthenticationTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+            public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
+                return privateGetPhotonAuthenticationTokenAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @return GetPhotonAuthenticationTokenResult
+     */
+    public PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
+        return GetPhotonAuthenticationToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPhotonAuthenticationTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+            public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
+                return privateGetPhotonAuthenticationTokenAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPhotonAuthenticationTokenResult> exceptionResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPhotonAuthenticationTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>>(){}.getType();
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPhotonAuthenticationTokenResult> privateGetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPhotonAuthenticationToken"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPhotonAuthenticationTokenResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = (PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>) httpResult;
+        GetPhotonAuthenticationTokenResult result = resultData.data;
+
+        PlayFabResult<GetPhotonAuthenticationTokenResult> pfResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
+        return GetPlayerCombinedInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+            public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                return privateGetPlayerCombinedInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return GetPlayerCombinedInfoResult
+     */
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+        return GetPlayerCombinedInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+            public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                return privateGetPlayerCombinedInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerCombinedInfoResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType();
+
+    /** Retrieves all of the user's different kinds of info. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerCombinedInfo"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerCombinedInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
+        GetPlayerCombinedInfoResult result = resultData.data;
+
+        PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
+    /** Retrieves the player's profile */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerProfile"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerProfileResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerProfileResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
+        GetPlayerProfileResult result = resultData.data;
+
+        PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
+    /** List all segments that a player currently belongs to at this moment in time. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerSegments"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerSegmentsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerSegmentsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
+        GetPlayerSegmentsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
+        return GetPlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+            public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                return privateGetPlayerStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @return GetPlayerStatisticsResult
+     */
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+        return GetPlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+            public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                return privateGetPlayerStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType();
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerStatistics"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
+        GetPlayerStatisticsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
+    /** Retrieves the information on the available versions of the specified statistic. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerStatisticVersions"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerStatisticVersionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
+        GetPlayerStatisticVersionsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
+    /** Get all tags with a given Namespace (optional) from a player profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerTags"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerTagsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
+        GetPlayerTagsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @return Async Task will return GetPlayerTradesResponse
+     */
+    public FutureTask<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTradesAsync(final GetPlayerTradesRequest request) {
+        return GetPlayerTradesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTradesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTradesAsync(final GetPlayerTradesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+            public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
+                return privateGetPlayerTradesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @return GetPlayerTradesResponse
+     */
+    public PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request) {
+        return GetPlayerTrades(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTradesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTradesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+            public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
+                return privateGetPlayerTradesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTradesResponse> exceptionResult = new PlayFabResult<GetPlayerTradesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerTradesResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTradesResponse>>(){}.getType();
+
+    /** Gets all trades the player has either opened or accepted, optionally filtered by trade status. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerTradesResponse> privateGetPlayerTradesAsync(final GetPlayerTradesRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayerTrades"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayerTradesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerTradesResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = (PlayFabJsonSuccess<GetPlayerTradesResponse>) httpResult;
+        GetPlayerTradesResponse result = resultData.data;
+
+        PlayFabResult<GetPlayerTradesResponse> pfResult = new PlayFabResult<GetPlayerTradesResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        return GetPlayFabIDsFromFacebookIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        return GetPlayFabIDsFromFacebookIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromFacebookIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromFacebookIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromFacebookIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
+        GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        return GetPlayFabIDsFromFacebookInstantGamesIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        return GetPlayFabIDsFromFacebookInstantGamesIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromFacebookInstantGamesIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromFacebookInstantGamesIdsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
+        GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) {
+        return GetPlayFabIDsFromGameCenterIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
+        return GetPlayFabIDsFromGameCenterIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromGameCenterIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> privateGetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromGameCenterIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromGameCenterIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>) httpResult;
+        GetPlayFabIDsFromGameCenterIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromGenericIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) {
+        return GetPlayFabIDsFromGenericIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGenericIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @return GetPlayFabIDsFromGenericIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+        return GetPlayFabIDsFromGenericIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGenericIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGenericIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromGenericIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromGenericIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromGenericIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>) httpResult;
+        GetPlayFabIDsFromGenericIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromGoogleIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) {
+        return GetPlayFabIDsFromGoogleIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGoogleIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGoogleIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @return GetPlayFabIDsFromGoogleIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
+        return GetPlayFabIDsFromGoogleIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGoogleIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromGoogleIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromGoogleIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> privateGetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromGoogleIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromGoogleIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>) httpResult;
+        GetPlayFabIDsFromGoogleIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromKongregateIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) {
+        return GetPlayFabIDsFromKongregateIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromKongregateIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromKongregateIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @return GetPlayFabIDsFromKongregateIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
+        return GetPlayFabIDsFromKongregateIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromKongregateIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromKongregateIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromKongregateIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> privateGetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromKongregateIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromKongregateIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>) httpResult;
+        GetPlayFabIDsFromKongregateIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
+        return GetPlayFabIDsFromSteamIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+        return GetPlayFabIDsFromSteamIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromSteamIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromSteamIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromSteamIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
+        GetPlayFabIDsFromSteamIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromTwitchIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) {
+        return GetPlayFabIDsFromTwitchIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromTwitchIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromTwitchIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @return GetPlayFabIDsFromTwitchIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
+        return GetPlayFabIDsFromTwitchIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromTwitchIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromTwitchIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromTwitchIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> privateGetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPlayFabIDsFromTwitchIDs"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPlayFabIDsFromTwitchIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>) httpResult;
+        GetPlayFabIDsFromTwitchIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return Async Task will return GetPublisherDataResult
+     */
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom publisher settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPublisherData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPublisherDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
+        GetPublisherDataResult result = resultData.data;
+
+        PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @return Async Task will return GetPurchaseResult
+     */
+    public FutureTask<PlayFabResult<GetPurchaseResult>> GetPurchaseAsync(final GetPurchaseRequest request) {
+        return GetPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPurchaseResult>> GetPurchaseAsync(final GetPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPurchaseResult>>() {
+            public PlayFabResult<GetPurchaseResult> call() throws Exception {
+                return privateGetPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @return GetPurchaseResult
+     */
+    public PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request) {
+        return GetPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPurchaseResult>>() {
+            public PlayFabResult<GetPurchaseResult> call() throws Exception {
+                return privateGetPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPurchaseResult> exceptionResult = new PlayFabResult<GetPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPurchaseResultType = new TypeToken<PlayFabJsonSuccess<GetPurchaseResult>>(){}.getType();
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPurchaseResult> privateGetPurchaseAsync(final GetPurchaseRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetPurchase"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPurchaseResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPurchaseResult> resultData = (PlayFabJsonSuccess<GetPurchaseResult>) httpResult;
+        GetPurchaseResult result = resultData.data;
+
+        PlayFabResult<GetPurchaseResult> pfResult = new PlayFabResult<GetPurchaseResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    public FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
+        return GetSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+            public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                return privateGetSharedGroupDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @return GetSharedGroupDataResult
+     */
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+        return GetSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+            public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                return privateGetSharedGroupDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType();
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetSharedGroupData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetSharedGroupDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetSharedGroupDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
+        GetSharedGroupDataResult result = resultData.data;
+
+        PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return Async Task will return GetStoreItemsResult
+     */
+    public FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
+        return GetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
+            public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                return privateGetStoreItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return GetStoreItemsResult
+     */
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
+        return GetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
+            public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                return privateGetStoreItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType();
+
+    /** Retrieves the set of items defined for the specified store, including all prices defined */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetStoreItems"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetStoreItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetStoreItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
+        GetStoreItemsResult result = resultData.data;
+
+        PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return Async Task will return GetTimeResult
+     */
+    public FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
+        return GetTimeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
+            public PlayFabResult<GetTimeResult> call() throws Exception {
+                return privateGetTimeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return GetTimeResult
+     */
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
+        return GetTime(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTimeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
+            public PlayFabResult<GetTimeResult> call() throws Exception {
+                return privateGetTimeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTimeResultType = new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType();
+
+    /** Retrieves the current server time */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetTime"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetTimeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTimeResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
+        GetTimeResult result = resultData.data;
+
+        PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return Async Task will return GetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom title settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetTitleData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetTitleDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
+        GetTitleDataResult result = resultData.data;
+
+        PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return Async Task will return GetTitleNewsResult
+     */
+    public FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
+        return GetTitleNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
+            public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                return privateGetTitleNewsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return GetTitleNewsResult
+     */
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
+        return GetTitleNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
+            public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                return privateGetTitleNewsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleNewsResultType = new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType();
+
+    /** Retrieves the title news feed, as configured in the developer portal */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetTitleNews"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetTitleNewsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleNewsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
+        GetTitleNewsResult result = resultData.data;
+
+        PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @return Async Task will return GetTitlePublicKeyResult
+     */
+    public FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) {
+        return GetTitlePublicKeyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitlePublicKeyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+            public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
+                return privateGetTitlePublicKeyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @return GetTitlePublicKeyResult
+     */
+    public PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
+        return GetTitlePublicKey(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitlePublicKeyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitlePublicKeyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+            public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
+                return privateGetTitlePublicKeyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitlePublicKeyResult> exceptionResult = new PlayFabResult<GetTitlePublicKeyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitlePublicKeyResultType = new TypeToken<PlayFabJsonSuccess<GetTitlePublicKeyResult>>(){}.getType();
+
+    /** Returns the title's base 64 encoded RSA CSP blob. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitlePublicKeyResult> privateGetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) throws Exception {
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetTitlePublicKey"), request, null, null, GetTitlePublicKeyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitlePublicKeyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = (PlayFabJsonSuccess<GetTitlePublicKeyResult>) httpResult;
+        GetTitlePublicKeyResult result = resultData.data;
+
+        PlayFabResult<GetTitlePublicKeyResult> pfResult = new PlayFabResult<GetTitlePublicKeyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @return Async Task will return GetTradeStatusResponse
+     */
+    public FutureTask<PlayFabResult<GetTradeStatusResponse>> GetTradeStatusAsync(final GetTradeStatusRequest request) {
+        return GetTradeStatusAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTradeStatusResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTradeStatusResponse>> GetTradeStatusAsync(final GetTradeStatusRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+            public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
+                return privateGetTradeStatusAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @return GetTradeStatusResponse
+     */
+    public PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request) {
+        return GetTradeStatus(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTradeStatusResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTradeStatusResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+            public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
+                return privateGetTradeStatusAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTradeStatusResponse> exceptionResult = new PlayFabResult<GetTradeStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTradeStatusResultType = new TypeToken<PlayFabJsonSuccess<GetTradeStatusResponse>>(){}.getType();
+
+    /** Gets the current status of an existing trade. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTradeStatusResponse> privateGetTradeStatusAsync(final GetTradeStatusRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetTradeStatus"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetTradeStatusResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTradeStatusResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = (PlayFabJsonSuccess<GetTradeStatusResponse>) httpResult;
+        GetTradeStatusResponse result = resultData.data;
+
+        PlayFabResult<GetTradeStatusResponse> pfResult = new PlayFabResult<GetTradeStatusResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetUserData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return Async Task will return GetUserInventoryResult
+     */
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
+    /** Retrieves the user's current inventory of virtual goods */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetUserInventory"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetUserInventoryResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
+        GetUserInventoryResult result = resultData.data;
+
+        PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetUserPublisherData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetUserPublisherReadOnlyData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetUserPublisherReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetUserReadOnlyData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GetUserReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @return Async Task will return GetWindowsHelloChallengeResponse
+     */
+    public FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> GetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request) {
+        return GetWindowsHelloChallengeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetWindowsHelloChallengeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> GetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
+            public PlayFabResult<GetWindowsHelloChallengeResponse> call() throws Exception {
+                return privateGetWindowsHelloChallengeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @return GetWindowsHelloChallengeResponse
+     */
+    public PlayFabResult<GetWindowsHelloChallengeResponse> GetWindowsHelloChallenge(final GetWindowsHelloChallengeRequest request) {
+        return GetWindowsHelloChallenge(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetWindowsHelloChallengeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetWindowsHelloChallengeResponse> GetWindowsHelloChallenge(final GetWindowsHelloChallengeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
+            public PlayFabResult<GetWindowsHelloChallengeResponse> call() throws Exception {
+                return privateGetWindowsHelloChallengeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetWindowsHelloChallengeResponse> exceptionResult = new PlayFabResult<GetWindowsHelloChallengeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetWindowsHelloChallengeResultType = new TypeToken<PlayFabJsonSuccess<GetWindowsHelloChallengeResponse>>(){}.getType();
+
+    /** Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetWindowsHelloChallengeResponse> privateGetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request) throws Exception {
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GetWindowsHelloChallenge"), request, null, null, GetWindowsHelloChallengeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetWindowsHelloChallengeResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetWindowsHelloChallengeResponse> resultData = (PlayFabJsonSuccess<GetWindowsHelloChallengeResponse>) httpResult;
+        GetWindowsHelloChallengeResponse result = resultData.data;
+
+        PlayFabResult<GetWindowsHelloChallengeResponse> pfResult = new PlayFabResult<GetWindowsHelloChallengeResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    public FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
+        return GrantCharacterToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+            public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                return privateGrantCharacterToUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return GrantCharacterToUserResult
+     */
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+        return GrantCharacterToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+            public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                return privateGrantCharacterToUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantCharacterToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType();
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/GrantCharacterToUser"), request, "X-Authorization", authenticationContext.ClientSessionTicket, GrantCharacterToUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantCharacterToUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
+        GrantCharacterToUserResult result = resultData.data;
+
+        PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @return Async Task will return LinkAndroidDeviceIDResult
+     */
+    public FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) {
+        return LinkAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+            public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
+                return privateLinkAndroidDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @return LinkAndroidDeviceIDResult
+     */
+    public PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
+        return LinkAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+            public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
+                return privateLinkAndroidDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LinkAndroidDeviceIDResult>>(){}.getType();
+
+    /** Links the Android device identifier to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkAndroidDeviceIDResult> privateLinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkAndroidDeviceID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkAndroidDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkAndroidDeviceIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkAndroidDeviceIDResult>) httpResult;
+        LinkAndroidDeviceIDResult result = resultData.data;
+
+        PlayFabResult<LinkAndroidDeviceIDResult> pfResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @return Async Task will return LinkCustomIDResult
+     */
+    public FutureTask<PlayFabResult<LinkCustomIDResult>> LinkCustomIDAsync(final LinkCustomIDRequest request) {
+        return LinkCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkCustomIDResult>> LinkCustomIDAsync(final LinkCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkCustomIDResult>>() {
+            public PlayFabResult<LinkCustomIDResult> call() throws Exception {
+                return privateLinkCustomIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @return LinkCustomIDResult
+     */
+    public PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request) {
+        return LinkCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkCustomIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkCustomIDResult>>() {
+            public PlayFabResult<LinkCustomIDResult> call() throws Exception {
+                return privateLinkCustomIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkCustomIDResult> exceptionResult = new PlayFabResult<LinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkCustomIDResultType = new TypeToken<PlayFabJsonSuccess<LinkCustomIDResult>>(){}.getType();
+
+    /** Links the custom identifier, generated by the title, to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkCustomIDResult> privateLinkCustomIDAsync(final LinkCustomIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkCustomID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkCustomIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkCustomIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkCustomIDResult> resultData = (PlayFabJsonSuccess<LinkCustomIDResult>) httpResult;
+        LinkCustomIDResult result = resultData.data;
+
+        PlayFabResult<LinkCustomIDResult> pfResult = new PlayFabResult<LinkCustomIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @return Async Task will return LinkFacebookAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccountAsync(final LinkFacebookAccountRequest request) {
+        return LinkFacebookAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccountAsync(final LinkFacebookAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+            public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
+                return privateLinkFacebookAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @return LinkFacebookAccountResult
+     */
+    public PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
+        return LinkFacebookAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkFacebookAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+            public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
+                return privateLinkFacebookAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkFacebookAccountResult> exceptionResult = new PlayFabResult<LinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkFacebookAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkFacebookAccountResult>>(){}.getType();
+
+    /** Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkFacebookAccountResult> privateLinkFacebookAccountAsync(final LinkFacebookAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkFacebookAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkFacebookAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkFacebookAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<LinkFacebookAccountResult>) httpResult;
+        LinkFacebookAccountResult result = resultData.data;
+
+        PlayFabResult<LinkFacebookAccountResult> pfResult = new PlayFabResult<LinkFacebookAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @return Async Task will return LinkFacebookInstantGamesIdResult
+     */
+    public FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) {
+        return LinkFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+            public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
+                return privateLinkFacebookInstantGamesIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @return LinkFacebookInstantGamesIdResult
+     */
+    public PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
+        return LinkFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+            public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
+                return privateLinkFacebookInstantGamesIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>>(){}.getType();
+
+    /** Links the Facebook Instant Games Id to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkFacebookInstantGamesIdResult> privateLinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkFacebookInstantGamesId"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkFacebookInstantGamesIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>) httpResult;
+        LinkFacebookInstantGamesIdResult result = resultData.data;
+
+        PlayFabResult<LinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @return Async Task will return LinkGameCenterAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) {
+        return LinkGameCenterAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+            public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
+                return privateLinkGameCenterAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @return LinkGameCenterAccountResult
+     */
+    public PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
+        return LinkGameCenterAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkGameCenterAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+            public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
+                return privateLinkGameCenterAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkGameCenterAccountResult> exceptionResult = new PlayFabResult<LinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkGameCenterAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkGameCenterAccountResult>>(){}.getType();
+
+    /** Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkGameCenterAccountResult> privateLinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkGameCenterAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkGameCenterAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkGameCenterAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<LinkGameCenterAccountResult>) httpResult;
+        LinkGameCenterAccountResult result = resultData.data;
+
+        PlayFabResult<LinkGameCenterAccountResult> pfResult = new PlayFabResult<LinkGameCenterAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @return Async Task will return LinkGoogleAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccountAsync(final LinkGoogleAccountRequest request) {
+        return LinkGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccountAsync(final LinkGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+            public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
+                return privateLinkGoogleAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @return LinkGoogleAccountResult
+     */
+    public PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
+        return LinkGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkGoogleAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+            public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
+                return privateLinkGoogleAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkGoogleAccountResult> exceptionResult = new PlayFabResult<LinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkGoogleAccountResult>>(){}.getType();
+
+    /** Links the currently signed-in user account to their Google account, using their Google account credentials */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkGoogleAccountResult> privateLinkGoogleAccountAsync(final LinkGoogleAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkGoogleAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkGoogleAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkGoogleAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<LinkGoogleAccountResult>) httpResult;
+        LinkGoogleAccountResult result = resultData.data;
+
+        PlayFabResult<LinkGoogleAccountResult> pfResult = new PlayFabResult<LinkGoogleAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @return Async Task will return LinkIOSDeviceIDResult
+     */
+    public FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) {
+        return LinkIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+            public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
+                return privateLinkIOSDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @return LinkIOSDeviceIDResult
+     */
+    public PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
+        return LinkIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+            public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
+                return privateLinkIOSDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<LinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LinkIOSDeviceIDResult>>(){}.getType();
+
+    /** Links the vendor-specific iOS device identifier to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkIOSDeviceIDResult> privateLinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkIOSDeviceID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkIOSDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkIOSDeviceIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkIOSDeviceIDResult>) httpResult;
+        LinkIOSDeviceIDResult result = resultData.data;
+
+        PlayFabResult<LinkIOSDeviceIDResult> pfResult = new PlayFabResult<LinkIOSDeviceIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @return Async Task will return LinkKongregateAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkKongregateAccountResult>> LinkKongregateAsync(final LinkKongregateAccountRequest request) {
+        return LinkKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkKongregateAccountResult>> LinkKongregateAsync(final LinkKongregateAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+            public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
+                return privateLinkKongregateAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @return LinkKongregateAccountResult
+     */
+    public PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request) {
+        return LinkKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkKongregateAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+            public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
+                return privateLinkKongregateAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkKongregateAccountResult> exceptionResult = new PlayFabResult<LinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkKongregateResultType = new TypeToken<PlayFabJsonSuccess<LinkKongregateAccountResult>>(){}.getType();
+
+    /** Links the Kongregate identifier to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkKongregateAccountResult> privateLinkKongregateAsync(final LinkKongregateAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkKongregate"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkKongregateResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkKongregateAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<LinkKongregateAccountResult>) httpResult;
+        LinkKongregateAccountResult result = resultData.data;
+
+        PlayFabResult<LinkKongregateAccountResult> pfResult = new PlayFabResult<LinkKongregateAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @return Async Task will return LinkNintendoSwitchDeviceIdResult
+     */
+    public FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) {
+        return LinkNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+            public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                return privateLinkNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @return LinkNintendoSwitchDeviceIdResult
+     */
+    public PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
+        return LinkNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+            public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                return privateLinkNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType();
+
+    /** Links the NintendoSwitchDeviceId to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkNintendoSwitchDeviceIdResult> privateLinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkNintendoSwitchDeviceId"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkNintendoSwitchDeviceIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>) httpResult;
+        LinkNintendoSwitchDeviceIdResult result = resultData.data;
+
+        PlayFabResult<LinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @return Async Task will return LinkSteamAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccountAsync(final LinkSteamAccountRequest request) {
+        return LinkSteamAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccountAsync(final LinkSteamAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+            public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
+                return privateLinkSteamAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @return LinkSteamAccountResult
+     */
+    public PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request) {
+        return LinkSteamAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkSteamAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+            public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
+                return privateLinkSteamAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkSteamAccountResult> exceptionResult = new PlayFabResult<LinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkSteamAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkSteamAccountResult>>(){}.getType();
+
+    /** Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkSteamAccountResult> privateLinkSteamAccountAsync(final LinkSteamAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkSteamAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkSteamAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkSteamAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = (PlayFabJsonSuccess<LinkSteamAccountResult>) httpResult;
+        LinkSteamAccountResult result = resultData.data;
+
+        PlayFabResult<LinkSteamAccountResult> pfResult = new PlayFabResult<LinkSteamAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @return Async Task will return LinkTwitchAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkTwitchAccountResult>> LinkTwitchAsync(final LinkTwitchAccountRequest request) {
+        return LinkTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkTwitchAccountResult>> LinkTwitchAsync(final LinkTwitchAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+            public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
+                return privateLinkTwitchAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @return LinkTwitchAccountResult
+     */
+    public PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request) {
+        return LinkTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkTwitchAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+            public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
+                return privateLinkTwitchAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkTwitchAccountResult> exceptionResult = new PlayFabResult<LinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkTwitchResultType = new TypeToken<PlayFabJsonSuccess<LinkTwitchAccountResult>>(){}.getType();
+
+    /** Links the Twitch account associated with the token to the user's PlayFab account. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkTwitchAccountResult> privateLinkTwitchAsync(final LinkTwitchAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkTwitch"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkTwitchResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkTwitchAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<LinkTwitchAccountResult>) httpResult;
+        LinkTwitchAccountResult result = resultData.data;
+
+        PlayFabResult<LinkTwitchAccountResult> pfResult = new PlayFabResult<LinkTwitchAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @return Async Task will return LinkWindowsHelloAccountResponse
+     */
+    public FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> LinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request) {
+        return LinkWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> LinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
+            public PlayFabResult<LinkWindowsHelloAccountResponse> call() throws Exception {
+                return privateLinkWindowsHelloAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @return LinkWindowsHelloAccountResponse
+     */
+    public PlayFabResult<LinkWindowsHelloAccountResponse> LinkWindowsHello(final LinkWindowsHelloAccountRequest request) {
+        return LinkWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkWindowsHelloAccountResponse> LinkWindowsHello(final LinkWindowsHelloAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
+            public PlayFabResult<LinkWindowsHelloAccountResponse> call() throws Exception {
+                return privateLinkWindowsHelloAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkWindowsHelloAccountResponse> exceptionResult = new PlayFabResult<LinkWindowsHelloAccountResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LinkWindowsHelloAccountResponse>>(){}.getType();
+
+    /** Link Windows Hello authentication to the current PlayFab Account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkWindowsHelloAccountResponse> privateLinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkWindowsHello"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkWindowsHelloResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkWindowsHelloAccountResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkWindowsHelloAccountResponse> resultData = (PlayFabJsonSuccess<LinkWindowsHelloAccountResponse>) httpResult;
+        LinkWindowsHelloAccountResponse result = resultData.data;
+
+        PlayFabResult<LinkWindowsHelloAccountResponse> pfResult = new PlayFabResult<LinkWindowsHelloAccountResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @return Async Task will return LinkXboxAccountResult
+     */
+    public FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request) {
+        return LinkXboxAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+            public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                return privateLinkXboxAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @return LinkXboxAccountResult
+     */
+    public PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
+        return LinkXboxAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkXboxAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+            public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                return privateLinkXboxAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LinkXboxAccountResult> exceptionResult = new PlayFabResult<LinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LinkXboxAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType();
+
+    /** Links the Xbox Live account associated with the provided access code to the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final LinkXboxAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LinkXboxAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, LinkXboxAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LinkXboxAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = (PlayFabJsonSuccess<LinkXboxAccountResult>) httpResult;
+        LinkXboxAccountResult result = resultData.data;
+
+        PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request) {
+        return LoginWithAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithAndroidDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
+        return LoginWithAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithAndroidDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithAndroidDeviceID"), request, null, null, LoginWithAndroidDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithCustomIDAsync(final LoginWithCustomIDRequest request) {
+        return LoginWithCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithCustomIDAsync(final LoginWithCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithCustomIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request) {
+        return LoginWithCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithCustomIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithCustomIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithCustomIDAsync(final LoginWithCustomIDRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithCustomID"), request, null, null, LoginWithCustomIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request) {
+        return LoginWithEmailAddressAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithEmailAddressAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
+        return LoginWithEmailAddress(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithEmailAddressAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithEmailAddressResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithEmailAddress"), request, null, null, LoginWithEmailAddressResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookAsync(final LoginWithFacebookRequest request) {
+        return LoginWithFacebookAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookAsync(final LoginWithFacebookRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithFacebookAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request) {
+        return LoginWithFacebook(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithFacebookAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithFacebookResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithFacebookAsync(final LoginWithFacebookRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithFacebook"), request, null, null, LoginWithFacebookResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) {
+        return LoginWithFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithFacebookInstantGamesIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
+        return LoginWithFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithFacebookInstantGamesIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithFacebookInstantGamesId"), request, null, null, LoginWithFacebookInstantGamesIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithGameCenterAsync(final LoginWithGameCenterRequest request) {
+        return LoginWithGameCenterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithGameCenterAsync(final LoginWithGameCenterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithGameCenterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
+        return LoginWithGameCenter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithGameCenterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithGameCenterResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithGameCenterAsync(final LoginWithGameCenterRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithGameCenter"), request, null, null, LoginWithGameCenterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) {
+        return LoginWithGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithGoogleAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
+        return LoginWithGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithGoogleAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /** Signs the user in using their Google account credentials */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithGoogleAccount"), request, null, null, LoginWithGoogleAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request) {
+        return LoginWithIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithIOSDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
+        return LoginWithIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithIOSDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithIOSDeviceID"), request, null, null, LoginWithIOSDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithKongregateAsync(final LoginWithKongregateRequest request) {
+        return LoginWithKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithKongregateAsync(final LoginWithKongregateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithKongregateAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request) {
+        return LoginWithKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithKongregateAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithKongregateResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /** Signs the user in using a Kongregate player account. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithKongregateAsync(final LoginWithKongregateRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithKongregate"), request, null, null, LoginWithKongregateResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request) {
+        return LoginWithNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
+        return LoginWithNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithNintendoSwitchDeviceId"), request, null, null, LoginWithNintendoSwitchDeviceIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithPlayFabAsync(final LoginWithPlayFabRequest request) {
+        return LoginWithPlayFabAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithPlayFabAsync(final LoginWithPlayFabRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithPlayFabAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
+        return LoginWithPlayFab(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithPlayFabAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithPlayFabResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithPlayFabAsync(final LoginWithPlayFabRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithPlayFab"), request, null, null, LoginWithPlayFabResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithSteamAsync(final LoginWithSteamRequest request) {
+        return LoginWithSteamAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithSteamAsync(final LoginWithSteamRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithSteamAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request) {
+        return LoginWithSteam(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithSteamAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithSteamResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithSteamAsync(final LoginWithSteamRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithSteam"), request, null, null, LoginWithSteamResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithTwitchAsync(final LoginWithTwitchRequest request) {
+        return LoginWithTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithTwitchAsync(final LoginWithTwitchRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithTwitchAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request) {
+        return LoginWithTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithTwitchAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithTwitchResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /** Signs the user in using a Twitch access token. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithTwitchAsync(final LoginWithTwitchRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithTwitch"), request, null, null, LoginWithTwitchResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithWindowsHelloAsync(final LoginWithWindowsHelloRequest request) {
+        return LoginWithWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithWindowsHelloAsync(final LoginWithWindowsHelloRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithWindowsHelloAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithWindowsHello(final LoginWithWindowsHelloRequest request) {
+        return LoginWithWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithWindowsHello(final LoginWithWindowsHelloRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithWindowsHelloAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithWindowsHelloAsync(final LoginWithWindowsHelloRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithWindowsHello"), request, null, null, LoginWithWindowsHelloResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request) {
+        return LoginWithXboxAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithXboxAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
+        return LoginWithXbox(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateLoginWithXboxAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type LoginWithXboxResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateLoginWithXboxAsync(final LoginWithXboxRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/LoginWithXbox"), request, null, null, LoginWithXboxResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @return Async Task will return MatchmakeResult
+     */
+    public FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request) {
+        return MatchmakeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MatchmakeResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MatchmakeResult>>() {
+            public PlayFabResult<MatchmakeResult> call() throws Exception {
+                return privateMatchmakeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @return MatchmakeResult
+     */
+    public PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request) {
+        return Matchmake(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MatchmakeResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MatchmakeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MatchmakeResult>>() {
+            public PlayFabResult<MatchmakeResult> call() throws Exception {
+                return privateMatchmakeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<MatchmakeResult> exceptionResult = new PlayFabResult<MatchmakeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type MatchmakeResultType = new TypeToken<PlayFabJsonSuccess<MatchmakeResult>>(){}.getType();
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<MatchmakeResult> privateMatchmakeAsync(final MatchmakeRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/Matchmake"), request, "X-Authorization", authenticationContext.ClientSessionTicket, MatchmakeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<MatchmakeResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<MatchmakeResult> resultData = (PlayFabJsonSuccess<MatchmakeResult>) httpResult;
+        MatchmakeResult result = resultData.data;
+
+        PlayFabResult<MatchmakeResult> pfResult = new PlayFabResult<MatchmakeResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @return Async Task will return OpenTradeResponse
+     */
+    public FutureTask<PlayFabResult<OpenTradeResponse>> OpenTradeAsync(final OpenTradeRequest request) {
+        return OpenTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return OpenTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<OpenTradeResponse>> OpenTradeAsync(final OpenTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<OpenTradeResponse>>() {
+            public PlayFabResult<OpenTradeResponse> call() throws Exception {
+                return privateOpenTradeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @return OpenTradeResponse
+     */
+    public PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request) {
+        return OpenTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return OpenTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<OpenTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<OpenTradeResponse>>() {
+            public PlayFabResult<OpenTradeResponse> call() throws Exception {
+                return privateOpenTradeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<OpenTradeResponse> exceptionResult = new PlayFabResult<OpenTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type OpenTradeResultType = new TypeToken<PlayFabJsonSuccess<OpenTradeResponse>>(){}.getType();
+
+    /** Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<OpenTradeResponse> privateOpenTradeAsync(final OpenTradeRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/OpenTrade"), request, "X-Authorization", authenticationContext.ClientSessionTicket, OpenTradeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<OpenTradeResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<OpenTradeResponse> resultData = (PlayFabJsonSuccess<OpenTradeResponse>) httpResult;
+        OpenTradeResponse result = resultData.data;
+
+        PlayFabResult<OpenTradeResponse> pfResult = new PlayFabResult<OpenTradeResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @return Async Task will return PayForPurchaseResult
+     */
+    public FutureTask<PlayFabResult<PayForPurchaseResult>> PayForPurchaseAsync(final PayForPurchaseRequest request) {
+        return PayForPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PayForPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<PayForPurchaseResult>> PayForPurchaseAsync(final PayForPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PayForPurchaseResult>>() {
+            public PlayFabResult<PayForPurchaseResult> call() throws Exception {
+                return privatePayForPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @return PayForPurchaseResult
+     */
+    public PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request) {
+        return PayForPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PayForPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PayForPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PayForPurchaseResult>>() {
+            public PlayFabResult<PayForPurchaseResult> call() throws Exception {
+                return privatePayForPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<PayForPurchaseResult> exceptionResult = new PlayFabResult<PayForPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type PayForPurchaseResultType = new TypeToken<PlayFabJsonSuccess<PayForPurchaseResult>>(){}.getType();
+
+    /** Selects a payment option for purchase order created via StartPurchase */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<PayForPurchaseResult> privatePayForPurchaseAsync(final PayForPurchaseRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/PayForPurchase"), request, "X-Authorization", authenticationContext.ClientSessionTicket, PayForPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<PayForPurchaseResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<PayForPurchaseResult> resultData = (PlayFabJsonSuccess<PayForPurchaseResult>) httpResult;
+        PayForPurchaseResult result = resultData.data;
+
+        PlayFabResult<PayForPurchaseResult> pfResult = new PlayFabResult<PayForPurchaseResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @return Async Task will return PurchaseItemResult
+     */
+    public FutureTask<PlayFabResult<PurchaseItemResult>> PurchaseItemAsync(final PurchaseItemRequest request) {
+        return PurchaseItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PurchaseItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<PurchaseItemResult>> PurchaseItemAsync(final PurchaseItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PurchaseItemResult>>() {
+            public PlayFabResult<PurchaseItemResult> call() throws Exception {
+                return privatePurchaseItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @return PurchaseItemResult
+     */
+    public PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request) {
+        return PurchaseItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PurchaseItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PurchaseItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PurchaseItemResult>>() {
+            public PlayFabResult<PurchaseItemResult> call() throws Exception {
+                return privatePurchaseItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<PurchaseItemResult> exceptionResult = new PlayFabResult<PurchaseItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type PurchaseItemResultType = new TypeToken<PlayFabJsonSuccess<PurchaseItemResult>>(){}.getType();
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<PurchaseItemResult> privatePurchaseItemAsync(final PurchaseItemRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/PurchaseItem"), request, "X-Authorization", authenticationContext.ClientSessionTicket, PurchaseItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<PurchaseItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<PurchaseItemResult> resultData = (PlayFabJsonSuccess<PurchaseItemResult>) httpResult;
+        PurchaseItemResult result = resultData.data;
+
+        PlayFabResult<PurchaseItemResult> pfResult = new PlayFabResult<PurchaseItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return Async Task will return RedeemCouponResult
+     */
+    public FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
+        return RedeemCouponAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
+            public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                return privateRedeemCouponAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return RedeemCouponResult
+     */
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
+        return RedeemCoupon(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemCouponResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
+            public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                return privateRedeemCouponAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RedeemCouponResultType = new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType();
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RedeemCoupon"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RedeemCouponResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RedeemCouponResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
+        RedeemCouponResult result = resultData.data;
+
+        PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @return Async Task will return RegisterForIOSPushNotificationResult
+     */
+    public FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) {
+        return RegisterForIOSPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterForIOSPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+            public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
+                return privateRegisterForIOSPushNotificationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @return RegisterForIOSPushNotificationResult
+     */
+    public PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
+        return RegisterForIOSPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterForIOSPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+            public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
+                return privateRegisterForIOSPushNotificationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RegisterForIOSPushNotificationResult> exceptionResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RegisterForIOSPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>>(){}.getType();
+
+    /** Registers the iOS device to receive push notifications */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RegisterForIOSPushNotificationResult> privateRegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RegisterForIOSPushNotification"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RegisterForIOSPushNotificationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RegisterForIOSPushNotificationResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = (PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>) httpResult;
+        RegisterForIOSPushNotificationResult result = resultData.data;
+
+        PlayFabResult<RegisterForIOSPushNotificationResult> pfResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @return Async Task will return RegisterPlayFabUserResult
+     */
+    public FutureTask<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request) {
+        return RegisterPlayFabUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterPlayFabUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+            public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
+                return privateRegisterPlayFabUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @return RegisterPlayFabUserResult
+     */
+    public PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
+        return RegisterPlayFabUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterPlayFabUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterPlayFabUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+            public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
+                return privateRegisterPlayFabUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RegisterPlayFabUserResult> exceptionResult = new PlayFabResult<RegisterPlayFabUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RegisterPlayFabUserResultType = new TypeToken<PlayFabJsonSuccess<RegisterPlayFabUserResult>>(){}.getType();
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RegisterPlayFabUserResult> privateRegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RegisterPlayFabUser"), request, null, null, RegisterPlayFabUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RegisterPlayFabUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = (PlayFabJsonSuccess<RegisterPlayFabUserResult>) httpResult;
+        RegisterPlayFabUserResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<RegisterPlayFabUserResult> pfResult = new PlayFabResult<RegisterPlayFabUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @return Async Task will return LoginResult
+     */
+    public FutureTask<PlayFabResult<LoginResult>> RegisterWithWindowsHelloAsync(final RegisterWithWindowsHelloRequest request) {
+        return RegisterWithWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LoginResult>> RegisterWithWindowsHelloAsync(final RegisterWithWindowsHelloRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateRegisterWithWindowsHelloAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> RegisterWithWindowsHello(final RegisterWithWindowsHelloRequest request) {
+        return RegisterWithWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LoginResult> RegisterWithWindowsHello(final RegisterWithWindowsHelloRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
+            public PlayFabResult<LoginResult> call() throws Exception {
+                return privateRegisterWithWindowsHelloAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RegisterWithWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LoginResult> privateRegisterWithWindowsHelloAsync(final RegisterWithWindowsHelloRequest request) throws Exception {
+        request.TitleId = settings.TitleId != null ? settings.TitleId : request.TitleId;
+        if (request.TitleId == null) throw new Exception ("Must be have PlayFabApiSettings.TitleId set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RegisterWithWindowsHello"), request, null, null, RegisterWithWindowsHelloResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LoginResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
+        LoginResult result = resultData.data;
+        authenticationContext.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : authenticationContext.ClientSessionTicket;
+        if (result.EntityToken != null) authenticationContext.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : authenticationContext.EntityToken;
+        MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
+
+        PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @return Async Task will return RemoveContactEmailResult
+     */
+    public FutureTask<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmailAsync(final RemoveContactEmailRequest request) {
+        return RemoveContactEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmailAsync(final RemoveContactEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+            public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
+                return privateRemoveContactEmailAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @return RemoveContactEmailResult
+     */
+    public PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request) {
+        return RemoveContactEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveContactEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+            public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
+                return privateRemoveContactEmailAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveContactEmailResult> exceptionResult = new PlayFabResult<RemoveContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveContactEmailResultType = new TypeToken<PlayFabJsonSuccess<RemoveContactEmailResult>>(){}.getType();
+
+    /** Removes a contact email from the player's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveContactEmailResult> privateRemoveContactEmailAsync(final RemoveContactEmailRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RemoveContactEmail"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RemoveContactEmailResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveContactEmailResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = (PlayFabJsonSuccess<RemoveContactEmailResult>) httpResult;
+        RemoveContactEmailResult result = resultData.data;
+
+        PlayFabResult<RemoveContactEmailResult> pfResult = new PlayFabResult<RemoveContactEmailResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @return Async Task will return RemoveFriendResult
+     */
+    public FutureTask<PlayFabResult<RemoveFriendResult>> RemoveFriendAsync(final RemoveFriendRequest request) {
+        return RemoveFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveFriendResult>> RemoveFriendAsync(final RemoveFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveFriendResult>>() {
+            public PlayFabResult<RemoveFriendResult> call() throws Exception {
+                return privateRemoveFriendAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @return RemoveFriendResult
+     */
+    public PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request) {
+        return RemoveFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveFriendResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveFriendResult>>() {
+            public PlayFabResult<RemoveFriendResult> call() throws Exception {
+                return privateRemoveFriendAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveFriendResult> exceptionResult = new PlayFabResult<RemoveFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveFriendResultType = new TypeToken<PlayFabJsonSuccess<RemoveFriendResult>>(){}.getType();
+
+    /** Removes a specified user from the friend list of the local user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveFriendResult> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RemoveFriend"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RemoveFriendResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveFriendResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveFriendResult> resultData = (PlayFabJsonSuccess<RemoveFriendResult>) httpResult;
+        RemoveFriendResult result = resultData.data;
+
+        PlayFabResult<RemoveFriendResult> pfResult = new PlayFabResult<RemoveFriendResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @return Async Task will return RemoveGenericIDResult
+     */
+    public FutureTask<PlayFabResult<RemoveGenericIDResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request) {
+        return RemoveGenericIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveGenericIDResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+            public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
+                return privateRemoveGenericIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @return RemoveGenericIDResult
+     */
+    public PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request) {
+        return RemoveGenericID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveGenericIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+            public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
+                return privateRemoveGenericIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveGenericIDResult> exceptionResult = new PlayFabResult<RemoveGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveGenericIDResultType = new TypeToken<PlayFabJsonSuccess<RemoveGenericIDResult>>(){}.getType();
+
+    /** Removes the specified generic service identifier from the player's PlayFab account. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveGenericIDResult> privateRemoveGenericIDAsync(final RemoveGenericIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RemoveGenericID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RemoveGenericIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveGenericIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = (PlayFabJsonSuccess<RemoveGenericIDResult>) httpResult;
+        RemoveGenericIDResult result = resultData.data;
+
+        PlayFabResult<RemoveGenericIDResult> pfResult = new PlayFabResult<RemoveGenericIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
+    public FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
+        return RemoveSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+            public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                return privateRemoveSharedGroupMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @return RemoveSharedGroupMembersResult
+     */
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+        return RemoveSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+            public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                return privateRemoveSharedGroupMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType();
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RemoveSharedGroupMembers"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RemoveSharedGroupMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
+        RemoveSharedGroupMembersResult result = resultData.data;
+
+        PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> ReportDeviceInfoAsync(final DeviceInfoRequest request) {
+        return ReportDeviceInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> ReportDeviceInfoAsync(final DeviceInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateReportDeviceInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request) {
+        return ReportDeviceInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateReportDeviceInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ReportDeviceInfoResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateReportDeviceInfoAsync(final DeviceInfoRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ReportDeviceInfo"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ReportDeviceInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @return Async Task will return ReportPlayerClientResult
+     */
+    public FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request) {
+        return ReportPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ReportPlayerClientResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+            public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
+                return privateReportPlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @return ReportPlayerClientResult
+     */
+    public PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request) {
+        return ReportPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ReportPlayerClientResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ReportPlayerClientResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+            public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
+                return privateReportPlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ReportPlayerClientResult> exceptionResult = new PlayFabResult<ReportPlayerClientResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ReportPlayerResultType = new TypeToken<PlayFabJsonSuccess<ReportPlayerClientResult>>(){}.getType();
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ReportPlayerClientResult> privateReportPlayerAsync(final ReportPlayerClientRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ReportPlayer"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ReportPlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ReportPlayerClientResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = (PlayFabJsonSuccess<ReportPlayerClientResult>) httpResult;
+        ReportPlayerClientResult result = resultData.data;
+
+        PlayFabResult<ReportPlayerClientResult> pfResult = new PlayFabResult<ReportPlayerClientResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @return Async Task will return RestoreIOSPurchasesResult
+     */
+    public FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) {
+        return RestoreIOSPurchasesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RestoreIOSPurchasesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+            public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
+                return privateRestoreIOSPurchasesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @return RestoreIOSPurchasesResult
+     */
+    public PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
+        return RestoreIOSPurchases(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RestoreIOSPurchasesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+            public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
+                return privateRestoreIOSPurchasesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RestoreIOSPurchasesResult> exceptionResult = new PlayFabResult<RestoreIOSPurchasesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RestoreIOSPurchasesResultType = new TypeToken<PlayFabJsonSuccess<RestoreIOSPurchasesResult>>(){}.getType();
+
+    /** Restores all in-app purchases based on the given restore receipt */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RestoreIOSPurchasesResult> privateRestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/RestoreIOSPurchases"), request, "X-Authorization", authenticationContext.ClientSessionTicket, RestoreIOSPurchasesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RestoreIOSPurchasesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = (PlayFabJsonSuccess<RestoreIOSPurchasesResult>) httpResult;
+        RestoreIOSPurchasesResult result = resultData.data;
+
+        PlayFabResult<RestoreIOSPurchasesResult> pfResult = new PlayFabResult<RestoreIOSPurchasesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    public FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
+        return SendAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendAccountRecoveryEmailAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return SendAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+        return SendAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendAccountRecoveryEmailAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SendAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType();
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/SendAccountRecoveryEmail"), request, null, null, SendAccountRecoveryEmailResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
+        SendAccountRecoveryEmailResult result = resultData.data;
+
+        PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @return Async Task will return SetFriendTagsResult
+     */
+    public FutureTask<PlayFabResult<SetFriendTagsResult>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
+        return SetFriendTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetFriendTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetFriendTagsResult>> SetFriendTagsAsync(final SetFriendTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetFriendTagsResult>>() {
+            public PlayFabResult<SetFriendTagsResult> call() throws Exception {
+                return privateSetFriendTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @return SetFriendTagsResult
+     */
+    public PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request) {
+        return SetFriendTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetFriendTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetFriendTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetFriendTagsResult>>() {
+            public PlayFabResult<SetFriendTagsResult> call() throws Exception {
+                return privateSetFriendTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetFriendTagsResult> exceptionResult = new PlayFabResult<SetFriendTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetFriendTagsResultType = new TypeToken<PlayFabJsonSuccess<SetFriendTagsResult>>(){}.getType();
+
+    /** Updates the tag list for a specified user in the friend list of the local user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetFriendTagsResult> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/SetFriendTags"), request, "X-Authorization", authenticationContext.ClientSessionTicket, SetFriendTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetFriendTagsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetFriendTagsResult> resultData = (PlayFabJsonSuccess<SetFriendTagsResult>) httpResult;
+        SetFriendTagsResult result = resultData.data;
+
+        PlayFabResult<SetFriendTagsResult> pfResult = new PlayFabResult<SetFriendTagsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/SetPlayerSecret"), request, "X-Authorization", authenticationContext.ClientSessionTicket, SetPlayerSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPlayerSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
+        SetPlayerSecretResult result = resultData.data;
+
+        PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @return Async Task will return StartGameResult
+     */
+    public FutureTask<PlayFabResult<StartGameResult>> StartGameAsync(final StartGameRequest request) {
+        return StartGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartGameResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<StartGameResult>> StartGameAsync(final StartGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResult>>() {
+            public PlayFabResult<StartGameResult> call() throws Exception {
+                return privateStartGameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @return StartGameResult
+     */
+    public PlayFabResult<StartGameResult> StartGame(final StartGameRequest request) {
+        return StartGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartGameResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<StartGameResult> StartGame(final StartGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartGameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResult>>() {
+            public PlayFabResult<StartGameResult> call() throws Exception {
+                return privateStartGameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<StartGameResult> exceptionResult = new PlayFabResult<StartGameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type StartGameResultType = new TypeToken<PlayFabJsonSuccess<StartGameResult>>(){}.getType();
+
+    /** Start a new game server with a given configuration, add the current player and return the connection information. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<StartGameResult> privateStartGameAsync(final StartGameRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/StartGame"), request, "X-Authorization", authenticationContext.ClientSessionTicket, StartGameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<StartGameResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<StartGameResult> resultData = (PlayFabJsonSuccess<StartGameResult>) httpResult;
+        StartGameResult result = resultData.data;
+
+        PlayFabResult<StartGameResult> pfResult = new PlayFabResult<StartGameResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @return Async Task will return StartPurchaseResult
+     */
+    public FutureTask<PlayFabResult<StartPurchaseResult>> StartPurchaseAsync(final StartPurchaseRequest request) {
+        return StartPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<StartPurchaseResult>> StartPurchaseAsync(final StartPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartPurchaseResult>>() {
+            public PlayFabResult<StartPurchaseResult> call() throws Exception {
+                return privateStartPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @return StartPurchaseResult
+     */
+    public PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request) {
+        return StartPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartPurchaseResult>>() {
+            public PlayFabResult<StartPurchaseResult> call() throws Exception {
+                return privateStartPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<StartPurchaseResult> exceptionResult = new PlayFabResult<StartPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type StartPurchaseResultType = new TypeToken<PlayFabJsonSuccess<StartPurchaseResult>>(){}.getType();
+
+    /** Creates an order for a list of items from the title catalog */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<StartPurchaseResult> privateStartPurchaseAsync(final StartPurchaseRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/StartPurchase"), request, "X-Authorization", authenticationContext.ClientSessionTicket, StartPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<StartPurchaseResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<StartPurchaseResult> resultData = (PlayFabJsonSuccess<StartPurchaseResult>) httpResult;
+        StartPurchaseResult result = resultData.data;
+
+        PlayFabResult<StartPurchaseResult> pfResult = new PlayFabResult<StartPurchaseResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/SubtractUserVirtualCurrency"), request, "X-Authorization", authenticationContext.ClientSessionTicket, SubtractUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @return Async Task will return UnlinkAndroidDeviceIDResult
+     */
+    public FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) {
+        return UnlinkAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+            public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
+                return privateUnlinkAndroidDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @return UnlinkAndroidDeviceIDResult
+     */
+    public PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
+        return UnlinkAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+            public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
+                return privateUnlinkAndroidDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>>(){}.getType();
+
+    /** Unlinks the related Android device identifier from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkAndroidDeviceIDResult> privateUnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkAndroidDeviceID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkAndroidDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>) httpResult;
+        UnlinkAndroidDeviceIDResult result = resultData.data;
+
+        PlayFabResult<UnlinkAndroidDeviceIDResult> pfResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @return Async Task will return UnlinkCustomIDResult
+     */
+    public FutureTask<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomIDAsync(final UnlinkCustomIDRequest request) {
+        return UnlinkCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomIDAsync(final UnlinkCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+            public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
+                return privateUnlinkCustomIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @return UnlinkCustomIDResult
+     */
+    public PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request) {
+        return UnlinkCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkCustomIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+            public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
+                return privateUnlinkCustomIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkCustomIDResult> exceptionResult = new PlayFabResult<UnlinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkCustomIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkCustomIDResult>>(){}.getType();
+
+    /** Unlinks the related custom identifier from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkCustomIDResult> privateUnlinkCustomIDAsync(final UnlinkCustomIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkCustomID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkCustomIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkCustomIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = (PlayFabJsonSuccess<UnlinkCustomIDResult>) httpResult;
+        UnlinkCustomIDResult result = resultData.data;
+
+        PlayFabResult<UnlinkCustomIDResult> pfResult = new PlayFabResult<UnlinkCustomIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @return Async Task will return UnlinkFacebookAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) {
+        return UnlinkFacebookAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+            public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
+                return privateUnlinkFacebookAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @return UnlinkFacebookAccountResult
+     */
+    public PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
+        return UnlinkFacebookAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+            public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
+                return privateUnlinkFacebookAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkFacebookAccountResult> exceptionResult = new PlayFabResult<UnlinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkFacebookAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkFacebookAccountResult>>(){}.getType();
+
+    /** Unlinks the related Facebook account from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkFacebookAccountResult> privateUnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkFacebookAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkFacebookAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkFacebookAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookAccountResult>) httpResult;
+        UnlinkFacebookAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkFacebookAccountResult> pfResult = new PlayFabResult<UnlinkFacebookAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @return Async Task will return UnlinkFacebookInstantGamesIdResult
+     */
+    public FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) {
+        return UnlinkFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+            public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
+                return privateUnlinkFacebookInstantGamesIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @return UnlinkFacebookInstantGamesIdResult
+     */
+    public PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
+        return UnlinkFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+            public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
+                return privateUnlinkFacebookInstantGamesIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>>(){}.getType();
+
+    /** Unlinks the related Facebook Instant Game Ids from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkFacebookInstantGamesIdResult> privateUnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkFacebookInstantGamesId"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkFacebookInstantGamesIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>) httpResult;
+        UnlinkFacebookInstantGamesIdResult result = resultData.data;
+
+        PlayFabResult<UnlinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @return Async Task will return UnlinkGameCenterAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) {
+        return UnlinkGameCenterAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+            public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
+                return privateUnlinkGameCenterAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @return UnlinkGameCenterAccountResult
+     */
+    public PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
+        return UnlinkGameCenterAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+            public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
+                return privateUnlinkGameCenterAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkGameCenterAccountResult> exceptionResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkGameCenterAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkGameCenterAccountResult>>(){}.getType();
+
+    /** Unlinks the related Game Center account from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkGameCenterAccountResult> privateUnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkGameCenterAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkGameCenterAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkGameCenterAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGameCenterAccountResult>) httpResult;
+        UnlinkGameCenterAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkGameCenterAccountResult> pfResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @return Async Task will return UnlinkGoogleAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) {
+        return UnlinkGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+            public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
+                return privateUnlinkGoogleAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @return UnlinkGoogleAccountResult
+     */
+    public PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
+        return UnlinkGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+            public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
+                return privateUnlinkGoogleAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkGoogleAccountResult> exceptionResult = new PlayFabResult<UnlinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkGoogleAccountResult>>(){}.getType();
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkGoogleAccountResult> privateUnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkGoogleAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkGoogleAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkGoogleAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGoogleAccountResult>) httpResult;
+        UnlinkGoogleAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkGoogleAccountResult> pfResult = new PlayFabResult<UnlinkGoogleAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @return Async Task will return UnlinkIOSDeviceIDResult
+     */
+    public FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) {
+        return UnlinkIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+            public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
+                return privateUnlinkIOSDeviceIDAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @return UnlinkIOSDeviceIDResult
+     */
+    public PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
+        return UnlinkIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+            public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
+                return privateUnlinkIOSDeviceIDAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>>(){}.getType();
+
+    /** Unlinks the related iOS device identifier from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkIOSDeviceIDResult> privateUnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkIOSDeviceID"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkIOSDeviceIDResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkIOSDeviceIDResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>) httpResult;
+        UnlinkIOSDeviceIDResult result = resultData.data;
+
+        PlayFabResult<UnlinkIOSDeviceIDResult> pfResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @return Async Task will return UnlinkKongregateAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) {
+        return UnlinkKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregateAsync(final UnlinkKongregateAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+            public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
+                return privateUnlinkKongregateAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @return UnlinkKongregateAccountResult
+     */
+    public PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
+        return UnlinkKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+            public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
+                return privateUnlinkKongregateAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkKongregateAccountResult> exceptionResult = new PlayFabResult<UnlinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkKongregateResultType = new TypeToken<PlayFabJsonSuccess<UnlinkKongregateAccountResult>>(){}.getType();
+
+    /** Unlinks the related Kongregate identifier from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkKongregateAccountResult> privateUnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkKongregate"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkKongregateResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkKongregateAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<UnlinkKongregateAccountResult>) httpResult;
+        UnlinkKongregateAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkKongregateAccountResult> pfResult = new PlayFabResult<UnlinkKongregateAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @return Async Task will return UnlinkNintendoSwitchDeviceIdResult
+     */
+    public FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) {
+        return UnlinkNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+            public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                return privateUnlinkNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @return UnlinkNintendoSwitchDeviceIdResult
+     */
+    public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
+        return UnlinkNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+            public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                return privateUnlinkNintendoSwitchDeviceIdAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType();
+
+    /** Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> privateUnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkNintendoSwitchDeviceId"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkNintendoSwitchDeviceIdResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>) httpResult;
+        UnlinkNintendoSwitchDeviceIdResult result = resultData.data;
+
+        PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @return Async Task will return UnlinkSteamAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) {
+        return UnlinkSteamAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+            public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
+                return privateUnlinkSteamAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @return UnlinkSteamAccountResult
+     */
+    public PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
+        return UnlinkSteamAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkSteamAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+            public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
+                return privateUnlinkSteamAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkSteamAccountResult> exceptionResult = new PlayFabResult<UnlinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkSteamAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkSteamAccountResult>>(){}.getType();
+
+    /** Unlinks the related Steam account from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkSteamAccountResult> privateUnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkSteamAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkSteamAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkSteamAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = (PlayFabJsonSuccess<UnlinkSteamAccountResult>) httpResult;
+        UnlinkSteamAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkSteamAccountResult> pfResult = new PlayFabResult<UnlinkSteamAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @return Async Task will return UnlinkTwitchAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) {
+        return UnlinkTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitchAsync(final UnlinkTwitchAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+            public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
+                return privateUnlinkTwitchAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @return UnlinkTwitchAccountResult
+     */
+    public PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
+        return UnlinkTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+            public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
+                return privateUnlinkTwitchAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkTwitchAccountResult> exceptionResult = new PlayFabResult<UnlinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkTwitchResultType = new TypeToken<PlayFabJsonSuccess<UnlinkTwitchAccountResult>>(){}.getType();
+
+    /** Unlinks the related Twitch account from the user's PlayFab account. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkTwitchAccountResult> privateUnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkTwitch"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkTwitchResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkTwitchAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<UnlinkTwitchAccountResult>) httpResult;
+        UnlinkTwitchAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkTwitchAccountResult> pfResult = new PlayFabResult<UnlinkTwitchAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @return Async Task will return UnlinkWindowsHelloAccountResponse
+     */
+    public FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> UnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request) {
+        return UnlinkWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> UnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
+            public PlayFabResult<UnlinkWindowsHelloAccountResponse> call() throws Exception {
+                return privateUnlinkWindowsHelloAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @return UnlinkWindowsHelloAccountResponse
+     */
+    public PlayFabResult<UnlinkWindowsHelloAccountResponse> UnlinkWindowsHello(final UnlinkWindowsHelloAccountRequest request) {
+        return UnlinkWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkWindowsHelloAccountResponse> UnlinkWindowsHello(final UnlinkWindowsHelloAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
+            public PlayFabResult<UnlinkWindowsHelloAccountResponse> call() throws Exception {
+                return privateUnlinkWindowsHelloAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkWindowsHelloAccountResponse> exceptionResult = new PlayFabResult<UnlinkWindowsHelloAccountResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse>>(){}.getType();
+
+    /** Unlink Windows Hello authentication from the current PlayFab Account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkWindowsHelloAccountResponse> privateUnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkWindowsHello"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkWindowsHelloResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkWindowsHelloAccountResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse> resultData = (PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse>) httpResult;
+        UnlinkWindowsHelloAccountResponse result = resultData.data;
+
+        PlayFabResult<UnlinkWindowsHelloAccountResponse> pfResult = new PlayFabResult<UnlinkWindowsHelloAccountResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @return Async Task will return UnlinkXboxAccountResult
+     */
+    public FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) {
+        return UnlinkXboxAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+            public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                return privateUnlinkXboxAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @return UnlinkXboxAccountResult
+     */
+    public PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+        return UnlinkXboxAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkXboxAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+            public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                return privateUnlinkXboxAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlinkXboxAccountResult> exceptionResult = new PlayFabResult<UnlinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlinkXboxAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType();
+
+    /** Unlinks the related Xbox Live account from the user's PlayFab account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlinkXboxAccount"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlinkXboxAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlinkXboxAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = (PlayFabJsonSuccess<UnlinkXboxAccountResult>) httpResult;
+        UnlinkXboxAccountResult result = resultData.data;
+
+        PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
+        return UnlockContainerInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerInstanceAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+        return UnlockContainerInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerInstanceAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlockContainerInstanceResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlockContainerInstance"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlockContainerInstanceResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlockContainerItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
+        UnlockContainerItemResult result = resultData.data;
+
+        PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
+        return UnlockContainerItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
+        return UnlockContainerItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlockContainerItemResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UnlockContainerItem"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UnlockContainerItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlockContainerItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
+        UnlockContainerItemResult result = resultData.data;
+
+        PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
+        return UpdateAvatarUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateAvatarUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+        return UpdateAvatarUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateAvatarUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateAvatarUrlResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Update the avatar URL of the player */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateAvatarUrl"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateAvatarUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
+    /** Creates and updates the title-specific custom data for the user's character which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateCharacterData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateCharacterDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
+        UpdateCharacterDataResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
+        return UpdateCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+            public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                return privateUpdateCharacterStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @return UpdateCharacterStatisticsResult
+     */
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+        return UpdateCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+            public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                return privateUpdateCharacterStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType();
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateCharacterStatistics"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateCharacterStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
+        UpdateCharacterStatisticsResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
+        return UpdatePlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                return privateUpdatePlayerStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @return UpdatePlayerStatisticsResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+        return UpdatePlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                return privateUpdatePlayerStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdatePlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType();
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdatePlayerStatistics"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdatePlayerStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
+        UpdatePlayerStatisticsResult result = resultData.data;
+
+        PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
+        return UpdateSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+            public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                return privateUpdateSharedGroupDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @return UpdateSharedGroupDataResult
+     */
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+        return UpdateSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+            public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                return privateUpdateSharedGroupDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType();
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateSharedGroupData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateSharedGroupDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateSharedGroupDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
+        UpdateSharedGroupDataResult result = resultData.data;
+
+        PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Creates and updates the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateUserData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Creates and updates the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateUserPublisherData"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
+        return UpdateUserTitleDisplayNameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+            public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                return privateUpdateUserTitleDisplayNameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+        return UpdateUserTitleDisplayName(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+            public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                return privateUpdateUserTitleDisplayNameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserTitleDisplayNameResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType();
+
+    /** Updates the title specific display name for the user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/UpdateUserTitleDisplayName"), request, "X-Authorization", authenticationContext.ClientSessionTicket, UpdateUserTitleDisplayNameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
+        UpdateUserTitleDisplayNameResult result = resultData.data;
+
+        PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @return Async Task will return ValidateAmazonReceiptResult
+     */
+    public FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) {
+        return ValidateAmazonIAPReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateAmazonReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+            public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
+                return privateValidateAmazonIAPReceiptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @return ValidateAmazonReceiptResult
+     */
+    public PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
+        return ValidateAmazonIAPReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateAmazonReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+            public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
+                return privateValidateAmazonIAPReceiptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ValidateAmazonReceiptResult> exceptionResult = new PlayFabResult<ValidateAmazonReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ValidateAmazonIAPReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateAmazonReceiptResult>>(){}.getType();
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ValidateAmazonReceiptResult> privateValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ValidateAmazonIAPReceipt"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ValidateAmazonIAPReceiptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ValidateAmazonReceiptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = (PlayFabJsonSuccess<ValidateAmazonReceiptResult>) httpResult;
+        ValidateAmazonReceiptResult result = resultData.data;
+
+        PlayFabResult<ValidateAmazonReceiptResult> pfResult = new PlayFabResult<ValidateAmazonReceiptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @return Async Task will return ValidateGooglePlayPurchaseResult
+     */
+    public FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) {
+        return ValidateGooglePlayPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateGooglePlayPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+            public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
+                return privateValidateGooglePlayPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @return ValidateGooglePlayPurchaseResult
+     */
+    public PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
+        return ValidateGooglePlayPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateGooglePlayPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+            public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
+                return privateValidateGooglePlayPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ValidateGooglePlayPurchaseResult> exceptionResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ValidateGooglePlayPurchaseResultType = new TypeToken<PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>>(){}.getType();
+
+    /** Validates a Google Play purchase and gives the corresponding item to the player. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ValidateGooglePlayPurchaseResult> privateValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ValidateGooglePlayPurchase"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ValidateGooglePlayPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = (PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>) httpResult;
+        ValidateGooglePlayPurchaseResult result = resultData.data;
+
+        PlayFabResult<ValidateGooglePlayPurchaseResult> pfResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @return Async Task will return ValidateIOSReceiptResult
+     */
+    public FutureTask<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) {
+        return ValidateIOSReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateIOSReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+            public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
+                return privateValidateIOSReceiptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @return ValidateIOSReceiptResult
+     */
+    public PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
+        return ValidateIOSReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateIOSReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateIOSReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+            public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
+                return privateValidateIOSReceiptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ValidateIOSReceiptResult> exceptionResult = new PlayFabResult<ValidateIOSReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ValidateIOSReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateIOSReceiptResult>>(){}.getType();
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ValidateIOSReceiptResult> privateValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ValidateIOSReceipt"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ValidateIOSReceiptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ValidateIOSReceiptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = (PlayFabJsonSuccess<ValidateIOSReceiptResult>) httpResult;
+        ValidateIOSReceiptResult result = resultData.data;
+
+        PlayFabResult<ValidateIOSReceiptResult> pfResult = new PlayFabResult<ValidateIOSReceiptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @return Async Task will return ValidateWindowsReceiptResult
+     */
+    public FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) {
+        return ValidateWindowsStoreReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateWindowsReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+            public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
+                return privateValidateWindowsStoreReceiptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @return ValidateWindowsReceiptResult
+     */
+    public PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
+        return ValidateWindowsStoreReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateWindowsReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+            public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
+                return privateValidateWindowsStoreReceiptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ValidateWindowsReceiptResult> exceptionResult = new PlayFabResult<ValidateWindowsReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ValidateWindowsStoreReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateWindowsReceiptResult>>(){}.getType();
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ValidateWindowsReceiptResult> privateValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/ValidateWindowsStoreReceipt"), request, "X-Authorization", authenticationContext.ClientSessionTicket, ValidateWindowsStoreReceiptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ValidateWindowsReceiptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = (PlayFabJsonSuccess<ValidateWindowsReceiptResult>) httpResult;
+        ValidateWindowsReceiptResult result = resultData.data;
+
+        PlayFabResult<ValidateWindowsReceiptResult> pfResult = new PlayFabResult<ValidateWindowsReceiptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteClientCharacterEventRequest request) {
+        return WriteCharacterEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteClientCharacterEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteCharacterEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
+        return WriteCharacterEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteCharacterEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WriteCharacterEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a character-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteClientCharacterEventRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/WriteCharacterEvent"), request, "X-Authorization", authenticationContext.ClientSessionTicket, WriteCharacterEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteClientPlayerEventRequest request) {
+        return WritePlayerEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteClientPlayerEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWritePlayerEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
+        return WritePlayerEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWritePlayerEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WritePlayerEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a player-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteClientPlayerEventRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/WritePlayerEvent"), request, "X-Authorization", authenticationContext.ClientSessionTicket, WritePlayerEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
+        return WriteTitleEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteTitleEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
+        return WriteTitleEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteTitleEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WriteTitleEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a title-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
+        if (authenticationContext.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Client/WriteTitleEvent"), request, "X-Authorization", authenticationContext.ClientSessionTicket, WriteTitleEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    public void MultiStepClientLogin(Boolean needsAttribution) {
+        if (needsAttribution && !PlayFabSettings.DisableAdvertising && PlayFabSettings.AdvertisingIdType != null && PlayFabSettings.AdvertisingIdValue != null) {
+            PlayFabClientModels.AttributeInstallRequest request = new PlayFabClientModels.AttributeInstallRequest();
+            if (PlayFabSettings.AdvertisingIdType == PlayFabSettings.AD_TYPE_IDFA)
+                request.Idfa = PlayFabSettings.AdvertisingIdValue;
+            else if (PlayFabSettings.AdvertisingIdType == PlayFabSettings.AD_TYPE_ANDROID_ID)
+                request.Adid = PlayFabSettings.AdvertisingIdValue;
+            else
+                return;
+            FutureTask<PlayFabResult<AttributeInstallResult>> task = AttributeInstallAsync(request);
+            task.run();
+        }
+    }
+}
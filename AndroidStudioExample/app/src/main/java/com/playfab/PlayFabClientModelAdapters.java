@@ -0,0 +1,16714 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabClientModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabClientModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabClientModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AcceptTradeRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new AcceptTradeResponseAdapter(gson);
+                case 2: return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case 3: return (TypeAdapter<T>) new AddFriendRequestAdapter(gson);
+                case 4: return (TypeAdapter<T>) new AddFriendResultAdapter(gson);
+                case 5: return (TypeAdapter<T>) new AddGenericIDRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new AddGenericIDResultAdapter(gson);
+                case 7: return (TypeAdapter<T>) new AddOrUpdateContactEmailRequestAdapter(gson);
+                case 8: return (TypeAdapter<T>) new AddOrUpdateContactEmailResultAdapter(gson);
+                case 9: return (TypeAdapter<T>) new AddSharedGroupMembersRequestAdapter(gson);
+                case 10: return (TypeAdapter<T>) new AddSharedGroupMembersResultAdapter(gson);
+                case 11: return (TypeAdapter<T>) new AddUsernamePasswordRequestAdapter(gson);
+                case 12: return (TypeAdapter<T>) new AddUsernamePasswordResultAdapter(gson);
+                case 13: return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case 14: return (TypeAdapter<T>) new AndroidDevicePushNotificationRegistrationRequestAdapter(gson);
+                case 15: return (TypeAdapter<T>) new AndroidDevicePushNotificationRegistrationResultAdapter(gson);
+                case 16: return (TypeAdapter<T>) new AttributeInstallRequestAdapter(gson);
+                case 17: return (TypeAdapter<T>) new AttributeInstallResultAdapter(gson);
+                case 18: return (TypeAdapter<T>) new CancelTradeRequestAdapter(gson);
+                case 19: return (TypeAdapter<T>) new CancelTradeResponseAdapter(gson);
+                case 20: return (TypeAdapter<T>) new CartItemAdapter(gson);
+                case 21: return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case 22: return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case 23: return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case 24: return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case 25: return (TypeAdapter<T>) new CharacterInventoryAdapter(gson);
+                case 26: return (TypeAdapter<T>) new CharacterLeaderboardEntryAdapter(gson);
+                case 27: return (TypeAdapter<T>) new CharacterResultAdapter(gson);
+                case 28: return (TypeAdapter<T>) new CollectionFilterAdapter(gson);
+                case 29: return (TypeAdapter<T>) new ConfirmPurchaseRequestAdapter(gson);
+                case 30: return (TypeAdapter<T>) new ConfirmPurchaseResultAdapter(gson);
+                case 31: return (TypeAdapter<T>) new ConsumeItemRequestAdapter(gson);
+                case 32: return (TypeAdapter<T>) new ConsumeItemResultAdapter(gson);
+                case 33: return (TypeAdapter<T>) new ConsumeXboxEntitlementsRequestAdapter(gson);
+                case 34: return (TypeAdapter<T>) new ConsumeXboxEntitlementsResultAdapter(gson);
+                case 35: return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case 36: return (TypeAdapter<T>) new Container_Dictionary_String_StringAdapter(gson);
+                case 37: return (TypeAdapter<T>) new CreateSharedGroupRequestAdapter(gson);
+                case 38: return (TypeAdapter<T>) new CreateSharedGroupResultAdapter(gson);
+                case 39: return (TypeAdapter<T>) new CurrentGamesRequestAdapter(gson);
+                case 40: return (TypeAdapter<T>) new CurrentGamesResultAdapter(gson);
+                case 41: return (TypeAdapter<T>) new DeviceInfoRequestAdapter(gson);
+                case 42: return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case 43: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 44: return (TypeAdapter<T>) new EntityTokenResponseAdapter(gson);
+                case 45: return (TypeAdapter<T>) new ExecuteCloudScriptRequestAdapter(gson);
+                case 46: return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case 47: return (TypeAdapter<T>) new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+                case 48: return (TypeAdapter<T>) new FacebookPlayFabIdPairAdapter(gson);
+                case 49: return (TypeAdapter<T>) new FriendInfoAdapter(gson);
+                case 50: return (TypeAdapter<T>) new GameCenterPlayFabIdPairAdapter(gson);
+                case 51: return (TypeAdapter<T>) new GameInfoAdapter(gson);
+                case 52: return (TypeAdapter<T>) new GameServerRegionsRequestAdapter(gson);
+                case 53: return (TypeAdapter<T>) new GameServerRegionsResultAdapter(gson);
+                case 54: return (TypeAdapter<T>) new GenericPlayFabIdPairAdapter(gson);
+                case 55: return (TypeAdapter<T>) new GenericServiceIdAdapter(gson);
+                case 56: return (TypeAdapter<T>) new GetAccountInfoRequestAdapter(gson);
+                case 57: return (TypeAdapter<T>) new GetAccountInfoResultAdapter(gson);
+                case 58: return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case 59: return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case 60: return (TypeAdapter<T>) new GetCharacterDataRequestAdapter(gson);
+                case 61: return (TypeAdapter<T>) new GetCharacterDataResultAdapter(gson);
+                case 62: return (TypeAdapter<T>) new GetCharacterInventoryRequestAdapter(gson);
+                case 63: return (TypeAdapter<T>) new GetCharacterInventoryResultAdapter(gson);
+                case 64: return (TypeAdapter<T>) new GetCharacterLeaderboardRequestAdapter(gson);
+                case 65: return (TypeAdapter<T>) new GetCharacterLeaderboardResultAdapter(gson);
+                case 66: return (TypeAdapter<T>) new GetCharacterStatisticsRequestAdapter(gson);
+                case 67: return (TypeAdapter<T>) new GetCharacterStatisticsResultAdapter(gson);
+                case 68: return (TypeAdapter<T>) new GetContentDownloadUrlRequestAdapter(gson);
+                case 69: return (TypeAdapter<T>) new GetContentDownloadUrlResultAdapter(gson);
+                case 70: return (TypeAdapter<T>) new GetFriendLeaderboardAroundPlayerRequestAdapter(gson);
+                case 71: return (TypeAdapter<T>) new GetFriendLeaderboardAroundPlayerResultAdapter(gson);
+                case 72: return (TypeAdapter<T>) new GetFriendLeaderboardRequestAdapter(gson);
+                case 73: return (TypeAdapter<T>) new GetFriendsListRequestAdapter(gson);
+                case 74: return (TypeAdapter<T>) new GetFriendsListResultAdapter(gson);
+                case 75: return (TypeAdapter<T>) new GetLeaderboardAroundCharacterRequestAdapter(gson);
+                case 76: return (TypeAdapter<T>) new GetLeaderboardAroundCharacterResultAdapter(gson);
+                case 77: return (TypeAdapter<T>) new GetLeaderboardAroundPlayerRequestAdapter(gson);
+                case 78: return (TypeAdapter<T>) new GetLeaderboardAroundPlayerResultAdapter(gson);
+                case 79: return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+                case 80: return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersResultAdapter(gson);
+                case 81: return (TypeAdapter<T>) new GetLeaderboardRequestAdapter(gson);
+                case 82: return (TypeAdapter<T>) new GetLeaderboardResultAdapter(gson);
+                case 83: return (TypeAdapter<T>) new GetPaymentTokenRequestAdapter(gson);
+                case 84: return (TypeAdapter<T>) new GetPaymentTokenResultAdapter(gson);
+                case 85: return (TypeAdapter<T>) new GetPhotonAuthenticationTokenRequestAdapter(gson);
+                case 86: return (TypeAdapter<T>) new GetPhotonAuthenticationTokenResultAdapter(gson);
+                case 87: return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestAdapter(gson);
+                case 88: return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+                case 89: return (TypeAdapter<T>) new GetPlayerCombinedInfoResultAdapter(gson);
+                case 90: return (TypeAdapter<T>) new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+                case 91: return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case 92: return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case 93: return (TypeAdapter<T>) new GetPlayerSegmentsRequestAdapter(gson);
+                case 94: return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case 95: return (TypeAdapter<T>) new GetPlayerStatisticsRequestAdapter(gson);
+                case 96: return (TypeAdapter<T>) new GetPlayerStatisticsResultAdapter(gson);
+                case 97: return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case 98: return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case 99: return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case 100: return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case 101: return (TypeAdapter<T>) new GetPlayerTradesRequestAdapter(gson);
+                case 102: return (TypeAdapter<T>) new GetPlayerTradesResponseAdapter(gson);
+                case 103: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+                case 104: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+                case 105: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+                case 106: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+                case 107: return (TypeAdapter<T>) new GetPlayFabIDsFromGameCenterIDsRequestAdapter(gson);
+                case 108: return (TypeAdapter<T>) new GetPlayFabIDsFromGameCenterIDsResultAdapter(gson);
+                case 109: return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsRequestAdapter(gson);
+                case 110: return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsResultAdapter(gson);
+                case 111: return (TypeAdapter<T>) new GetPlayFabIDsFromGoogleIDsRequestAdapter(gson);
+                case 112: return (TypeAdapter<T>) new GetPlayFabIDsFromGoogleIDsResultAdapter(gson);
+                case 113: return (TypeAdapter<T>) new GetPlayFabIDsFromKongregateIDsRequestAdapter(gson);
+                case 114: return (TypeAdapter<T>) new GetPlayFabIDsFromKongregateIDsResultAdapter(gson);
+                case 115: return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+                case 116: return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+                case 117: return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+                case 118: return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+                case 119: return (TypeAdapter<T>) new GetPlayFabIDsFromTwitchIDsRequestAdapter(gson);
+                case 120: return (TypeAdapter<T>) new GetPlayFabIDsFromTwitchIDsResultAdapter(gson);
+                case 121: return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case 122: return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case 123: return (TypeAdapter<T>) new GetPurchaseRequestAdapter(gson);
+                case 124: return (TypeAdapter<T>) new GetPurchaseResultAdapter(gson);
+                case 125: return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case 126: return (TypeAdapter<T>) new GetSharedGroupDataRequestAdapter(gson);
+                case 127: return (TypeAdapter<T>) new GetSharedGroupDataResultAdapter(gson);
+                case 128: return (TypeAdapter<T>) new GetStoreItemsRequestAdapter(gson);
+                case 129: return (TypeAdapter<T>) new GetStoreItemsResultAdapter(gson);
+                case 130: return (TypeAdapter<T>) new GetTimeRequestAdapter(gson);
+                case 131: return (TypeAdapter<T>) new GetTimeResultAdapter(gson);
+                case 132: return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case 133: return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case 134: return (TypeAdapter<T>) new GetTitleNewsRequestAdapter(gson);
+                case 135: return (TypeAdapter<T>) new GetTitleNewsResultAdapter(gson);
+                case 136: return (TypeAdapter<T>) new GetTitlePublicKeyRequestAdapter(gson);
+                case 137: return (TypeAdapter<T>) new GetTitlePublicKeyResultAdapter(gson);
+                case 138: return (TypeAdapter<T>) new GetTradeStatusRequestAdapter(gson);
+                case 139: return (TypeAdapter<T>) new GetTradeStatusResponseAdapter(gson);
+                case 140: return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case 141: return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case 142: return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case 143: return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case 144: return (TypeAdapter<T>) new GetWindowsHelloChallengeRequestAdapter(gson);
+                case 145: return (TypeAdapter<T>) new GetWindowsHelloChallengeResponseAdapter(gson);
+                case 146: return (TypeAdapter<T>) new GooglePlayFabIdPairAdapter(gson);
+                case 147: return (TypeAdapter<T>) new GrantCharacterToUserRequestAdapter(gson);
+                case 148: return (TypeAdapter<T>) new GrantCharacterToUserResultAdapter(gson);
+                case 149: return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case 150: return (TypeAdapter<T>) new ItemPurchaseRequestAdapter(gson);
+                case 151: return (TypeAdapter<T>) new KongregatePlayFabIdPairAdapter(gson);
+                case 152: return (TypeAdapter<T>) new LinkAndroidDeviceIDRequestAdapter(gson);
+                case 153: return (TypeAdapter<T>) new LinkAndroidDeviceIDResultAdapter(gson);
+                case 154: return (TypeAdapter<T>) new LinkCustomIDRequestAdapter(gson);
+                case 155: return (TypeAdapter<T>) new LinkCustomIDResultAdapter(gson);
+                case 156: return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case 157: return (TypeAdapter<T>) new LinkFacebookAccountRequestAdapter(gson);
+                case 158: return (TypeAdapter<T>) new LinkFacebookAccountResultAdapter(gson);
+                case 159: return (TypeAdapter<T>) new LinkFacebookInstantGamesIdRequestAdapter(gson);
+                case 160: return (TypeAdapter<T>) new LinkFacebookInstantGamesIdResultAdapter(gson);
+                case 161: return (TypeAdapter<T>) new LinkGameCenterAccountRequestAdapter(gson);
+                case 162: return (TypeAdapter<T>) new LinkGameCenterAccountResultAdapter(gson);
+                case 163: return (TypeAdapter<T>) new LinkGoogleAccountRequestAdapter(gson);
+                case 164: return (TypeAdapter<T>) new LinkGoogleAccountResultAdapter(gson);
+                case 165: return (TypeAdapter<T>) new LinkIOSDeviceIDRequestAdapter(gson);
+                case 166: return (TypeAdapter<T>) new LinkIOSDeviceIDResultAdapter(gson);
+                case 167: return (TypeAdapter<T>) new LinkKongregateAccountRequestAdapter(gson);
+                case 168: return (TypeAdapter<T>) new LinkKongregateAccountResultAdapter(gson);
+                case 169: return (TypeAdapter<T>) new LinkNintendoSwitchDeviceIdRequestAdapter(gson);
+                case 170: return (TypeAdapter<T>) new LinkNintendoSwitchDeviceIdResultAdapter(gson);
+                case 171: return (TypeAdapter<T>) new LinkSteamAccountRequestAdapter(gson);
+                case 172: return (TypeAdapter<T>) new LinkSteamAccountResultAdapter(gson);
+                case 173: return (TypeAdapter<T>) new LinkTwitchAccountRequestAdapter(gson);
+                case 174: return (TypeAdapter<T>) new LinkTwitchAccountResultAdapter(gson);
+                case 175: return (TypeAdapter<T>) new LinkWindowsHelloAccountRequestAdapter(gson);
+                case 176: return (TypeAdapter<T>) new LinkWindowsHelloAccountResponseAdapter(gson);
+                case 177: return (TypeAdapter<T>) new LinkXboxAccountRequestAdapter(gson);
+                case 178: return (TypeAdapter<T>) new LinkXboxAccountResultAdapter(gson);
+                case 179: return (TypeAdapter<T>) new ListUsersCharactersRequestAdapter(gson);
+                case 180: return (TypeAdapter<T>) new ListUsersCharactersResultAdapter(gson);
+                case 181: return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case 182: return (TypeAdapter<T>) new LoginResultAdapter(gson);
+                case 183: return (TypeAdapter<T>) new LoginWithAndroidDeviceIDRequestAdapter(gson);
+                case 184: return (TypeAdapter<T>) new LoginWithCustomIDRequestAdapter(gson);
+                case 185: return (TypeAdapter<T>) new LoginWithEmailAddressRequestAdapter(gson);
+                case 186: return (TypeAdapter<T>) new LoginWithFacebookInstantGamesIdRequestAdapter(gson);
+                case 187: return (TypeAdapter<T>) new LoginWithFacebookRequestAdapter(gson);
+                case 188: return (TypeAdapter<T>) new LoginWithGameCenterRequestAdapter(gson);
+                case 189: return (TypeAdapter<T>) new LoginWithGoogleAccountRequestAdapter(gson);
+                case 190: return (TypeAdapter<T>) new LoginWithIOSDeviceIDRequestAdapter(gson);
+                case 191: return (TypeAdapter<T>) new LoginWithKongregateRequestAdapter(gson);
+                case 192: return (TypeAdapter<T>) new LoginWithNintendoSwitchDeviceIdRequestAdapter(gson);
+                case 193: return (TypeAdapter<T>) new LoginWithPlayFabRequestAdapter(gson);
+                case 194: return (TypeAdapter<T>) new LoginWithSteamRequestAdapter(gson);
+                case 195: return (TypeAdapter<T>) new LoginWithTwitchRequestAdapter(gson);
+                case 196: return (TypeAdapter<T>) new LoginWithWindowsHelloRequestAdapter(gson);
+                case 197: return (TypeAdapter<T>) new LoginWithXboxRequestAdapter(gson);
+                case 198: return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case 199: return (TypeAdapter<T>) new MatchmakeRequestAdapter(gson);
+                case 200: return (TypeAdapter<T>) new MatchmakeResultAdapter(gson);
+                case 201: return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case 202: return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case 203: return (TypeAdapter<T>) new NintendoSwitchPlayFabIdPairAdapter(gson);
+                case 204: return (TypeAdapter<T>) new OpenTradeRequestAdapter(gson);
+                case 205: return (TypeAdapter<T>) new OpenTradeResponseAdapter(gson);
+                case 206: return (TypeAdapter<T>) new PayForPurchaseRequestAdapter(gson);
+                case 207: return (TypeAdapter<T>) new PayForPurchaseResultAdapter(gson);
+                case 208: return (TypeAdapter<T>) new PaymentOptionAdapter(gson);
+                case 209: return (TypeAdapter<T>) new PlayerLeaderboardEntryAdapter(gson);
+                case 210: return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case 211: return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case 212: return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case 213: return (TypeAdapter<T>) new PurchaseItemRequestAdapter(gson);
+                case 214: return (TypeAdapter<T>) new PurchaseItemResultAdapter(gson);
+                case 215: return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case 216: return (TypeAdapter<T>) new RedeemCouponRequestAdapter(gson);
+                case 217: return (TypeAdapter<T>) new RedeemCouponResultAdapter(gson);
+                case 218: return (TypeAdapter<T>) new RegionInfoAdapter(gson);
+                case 219: return (TypeAdapter<T>) new RegisterForIOSPushNotificationRequestAdapter(gson);
+                case 220: return (TypeAdapter<T>) new RegisterForIOSPushNotificationResultAdapter(gson);
+                case 221: return (TypeAdapter<T>) new RegisterPlayFabUserRequestAdapter(gson);
+                case 222: return (TypeAdapter<T>) new RegisterPlayFabUserResultAdapter(gson);
+                case 223: return (TypeAdapter<T>) new RegisterWithWindowsHelloRequestAdapter(gson);
+                case 224: return (TypeAdapter<T>) new RemoveContactEmailRequestAdapter(gson);
+                case 225: return (TypeAdapter<T>) new RemoveContactEmailResultAdapter(gson);
+                case 226: return (TypeAdapter<T>) new RemoveFriendRequestAdapter(gson);
+                case 227: return (TypeAdapter<T>) new RemoveFriendResultAdapter(gson);
+                case 228: return (TypeAdapter<T>) new RemoveGenericIDRequestAdapter(gson);
+                case 229: return (TypeAdapter<T>) new RemoveGenericIDResultAdapter(gson);
+                case 230: return (TypeAdapter<T>) new RemoveSharedGroupMembersRequestAdapter(gson);
+                case 231: return (TypeAdapter<T>) new RemoveSharedGroupMembersResultAdapter(gson);
+                case 232: return (TypeAdapter<T>) new ReportPlayerClientRequestAdapter(gson);
+                case 233: return (TypeAdapter<T>) new ReportPlayerClientResultAdapter(gson);
+                case 234: return (TypeAdapter<T>) new RestoreIOSPurchasesRequestAdapter(gson);
+                case 235: return (TypeAdapter<T>) new RestoreIOSPurchasesResultAdapter(gson);
+                case 236: return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case 237: return (TypeAdapter<T>) new SendAccountRecoveryEmailRequestAdapter(gson);
+                case 238: return (TypeAdapter<T>) new SendAccountRecoveryEmailResultAdapter(gson);
+                case 239: return (TypeAdapter<T>) new SetFriendTagsRequestAdapter(gson);
+                case 240: return (TypeAdapter<T>) new SetFriendTagsResultAdapter(gson);
+                case 241: return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case 242: return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case 243: return (TypeAdapter<T>) new SharedGroupDataRecordAdapter(gson);
+                case 244: return (TypeAdapter<T>) new StartGameRequestAdapter(gson);
+                case 245: return (TypeAdapter<T>) new StartGameResultAdapter(gson);
+                case 246: return (TypeAdapter<T>) new StartPurchaseRequestAdapter(gson);
+                case 247: return (TypeAdapter<T>) new StartPurchaseResultAdapter(gson);
+                case 248: return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case 249: return (TypeAdapter<T>) new StatisticNameVersionAdapter(gson);
+                case 250: return (TypeAdapter<T>) new StatisticUpdateAdapter(gson);
+                case 251: return (TypeAdapter<T>) new StatisticValueAdapter(gson);
+                case 252: return (TypeAdapter<T>) new SteamPlayFabIdPairAdapter(gson);
+                case 253: return (TypeAdapter<T>) new StoreItemAdapter(gson);
+                case 254: return (TypeAdapter<T>) new StoreMarketingModelAdapter(gson);
+                case 255: return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case 256: return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case 257: return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case 258: return (TypeAdapter<T>) new TitleNewsItemAdapter(gson);
+                case 259: return (TypeAdapter<T>) new TradeInfoAdapter(gson);
+                case 260: return (TypeAdapter<T>) new TwitchPlayFabIdPairAdapter(gson);
+                case 261: return (TypeAdapter<T>) new UnlinkAndroidDeviceIDRequestAdapter(gson);
+                case 262: return (TypeAdapter<T>) new UnlinkAndroidDeviceIDResultAdapter(gson);
+                case 263: return (TypeAdapter<T>) new UnlinkCustomIDRequestAdapter(gson);
+                case 264: return (TypeAdapter<T>) new UnlinkCustomIDResultAdapter(gson);
+                case 265: return (TypeAdapter<T>) new UnlinkFacebookAccountRequestAdapter(gson);
+                case 266: return (TypeAdapter<T>) new UnlinkFacebookAccountResultAdapter(gson);
+                case 267: return (TypeAdapter<T>) new UnlinkFacebookInstantGamesIdRequestAdapter(gson);
+                case 268: return (TypeAdapter<T>) new UnlinkFacebookInstantGamesIdResultAdapter(gson);
+                case 269: return (TypeAdapter<T>) new UnlinkGameCenterAccountRequestAdapter(gson);
+                case 270: return (TypeAdapter<T>) new UnlinkGameCenterAccountResultAdapter(gson);
+                case 271: return (TypeAdapter<T>) new UnlinkGoogleAccountRequestAdapter(gson);
+                case 272: return (TypeAdapter<T>) new UnlinkGoogleAccountResultAdapter(gson);
+                case 273: return (TypeAdapter<T>) new UnlinkIOSDeviceIDRequestAdapter(gson);
+                case 274: return (TypeAdapter<T>) new UnlinkIOSDeviceIDResultAdapter(gson);
+                case 275: return (TypeAdapter<T>) new UnlinkKongregateAccountRequestAdapter(gson);
+                case 276: return (TypeAdapter<T>) new UnlinkKongregateAccountResultAdapter(gson);
+                case 277: return (TypeAdapter<T>) new UnlinkNintendoSwitchDeviceIdRequestAdapter(gson);
+                case 278: return (TypeAdapter<T>) new UnlinkNintendoSwitchDeviceIdResultAdapter(gson);
+                case 279: return (TypeAdapter<T>) new UnlinkSteamAccountRequestAdapter(gson);
+                case 280: return (TypeAdapter<T>) new UnlinkSteamAccountResultAdapter(gson);
+                case 281: return (TypeAdapter<T>) new UnlinkTwitchAccountRequestAdapter(gson);
+                case 282: return (TypeAdapter<T>) new UnlinkTwitchAccountResultAdapter(gson);
+                case 283: return (TypeAdapter<T>) new UnlinkWindowsHelloAccountRequestAdapter(gson);
+                case 284: return (TypeAdapter<T>) new UnlinkWindowsHelloAccountResponseAdapter(gson);
+                case 285: return (TypeAdapter<T>) new UnlinkXboxAccountRequestAdapter(gson);
+                case 286: return (TypeAdapter<T>) new UnlinkXboxAccountResultAdapter(gson);
+                case 287: return (TypeAdapter<T>) new UnlockContainerInstanceRequestAdapter(gson);
+                case 288: return (TypeAdapter<T>) new UnlockContainerItemRequestAdapter(gson);
+                case 289: return (TypeAdapter<T>) new UnlockContainerItemResultAdapter(gson);
+                case 290: return (TypeAdapter<T>) new UpdateAvatarUrlRequestAdapter(gson);
+                case 291: return (TypeAdapter<T>) new UpdateCharacterDataRequestAdapter(gson);
+                case 292: return (TypeAdapter<T>) new UpdateCharacterDataResultAdapter(gson);
+                case 293: return (TypeAdapter<T>) new UpdateCharacterStatisticsRequestAdapter(gson);
+                case 294: return (TypeAdapter<T>) new UpdateCharacterStatisticsResultAdapter(gson);
+                case 295: return (TypeAdapter<T>) new UpdatePlayerStatisticsRequestAdapter(gson);
+                case 296: return (TypeAdapter<T>) new UpdatePlayerStatisticsResultAdapter(gson);
+                case 297: return (TypeAdapter<T>) new UpdateSharedGroupDataRequestAdapter(gson);
+                case 298: return (TypeAdapter<T>) new UpdateSharedGroupDataResultAdapter(gson);
+                case 299: return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case 300: return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case 301: return (TypeAdapter<T>) new UpdateUserTitleDisplayNameRequestAdapter(gson);
+                case 302: return (TypeAdapter<T>) new UpdateUserTitleDisplayNameResultAdapter(gson);
+                case 303: return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case 304: return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case 305: return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case 306: return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case 307: return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case 308: return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case 309: return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case 310: return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case 311: return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case 312: return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case 313: return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case 314: return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case 315: return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case 316: return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case 317: return (TypeAdapter<T>) new UserSettingsAdapter(gson);
+                case 318: return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case 319: return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case 320: return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case 321: return (TypeAdapter<T>) new UserWindowsHelloInfoAdapter(gson);
+                case 322: return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case 323: return (TypeAdapter<T>) new ValidateAmazonReceiptRequestAdapter(gson);
+                case 324: return (TypeAdapter<T>) new ValidateAmazonReceiptResultAdapter(gson);
+                case 325: return (TypeAdapter<T>) new ValidateGooglePlayPurchaseRequestAdapter(gson);
+                case 326: return (TypeAdapter<T>) new ValidateGooglePlayPurchaseResultAdapter(gson);
+                case 327: return (TypeAdapter<T>) new ValidateIOSReceiptRequestAdapter(gson);
+                case 328: return (TypeAdapter<T>) new ValidateIOSReceiptResultAdapter(gson);
+                case 329: return (TypeAdapter<T>) new ValidateWindowsReceiptRequestAdapter(gson);
+                case 330: return (TypeAdapter<T>) new ValidateWindowsReceiptResultAdapter(gson);
+                case 331: return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case 332: return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case 333: return (TypeAdapter<T>) new WriteClientCharacterEventRequestAdapter(gson);
+                case 334: return (TypeAdapter<T>) new WriteClientPlayerEventRequestAdapter(gson);
+                case 335: return (TypeAdapter<T>) new WriteEventResponseAdapter(gson);
+                case 336: return (TypeAdapter<T>) new WriteTitleEventRequestAdapter(gson);
+                case 337: return (TypeAdapter<T>) CloudScriptRevisionOptionAdapter;
+                case 338: return (TypeAdapter<T>) ContinentCodeAdapter;
+                case 339: return (TypeAdapter<T>) CountryCodeAdapter;
+                case 340: return (TypeAdapter<T>) CurrencyAdapter;
+                case 341: return (TypeAdapter<T>) EmailVerificationStatusAdapter;
+                case 342: return (TypeAdapter<T>) GameInstanceStateAdapter;
+                case 343: return (TypeAdapter<T>) LoginIdentityProviderAdapter;
+                case 344: return (TypeAdapter<T>) MatchmakeStatusAdapter;
+                case 345: return (TypeAdapter<T>) PushNotificationPlatformAdapter;
+                case 346: return (TypeAdapter<T>) RegionAdapter;
+                case 347: return (TypeAdapter<T>) SourceTypeAdapter;
+                case 348: return (TypeAdapter<T>) SubscriptionProviderStatusAdapter;
+                case 349: return (TypeAdapter<T>) TitleActivationStatusAdapter;
+                case 350: return (TypeAdapter<T>) TradeStatusAdapter;
+                case 351: return (TypeAdapter<T>) TransactionStatusAdapter;
+                case 352: return (TypeAdapter<T>) UserDataPermissionAdapter;
+                case 353: return (TypeAdapter<T>) UserOriginationAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AcceptTradeRequest.class, 0);
+        ids.put(AcceptTradeResponse.class, 1);
+        ids.put(AdCampaignAttributionModel.class, 2);
+        ids.put(AddFriendRequest.class, 3);
+        ids.put(AddFriendResult.class, 4);
+        ids.put(AddGenericIDRequest.class, 5);
+        ids.put(AddGenericIDResult.class, 6);
+        ids.put(AddOrUpdateContactEmailRequest.class, 7);
+        ids.put(AddOrUpdateContactEmailResult.class, 8);
+        ids.put(AddSharedGroupMembersRequest.class, 9);
+        ids.put(AddSharedGroupMembersResult.class, 10);
+        ids.put(AddUsernamePasswordRequest.class, 11);
+        ids.put(AddUsernamePasswordResult.class, 12);
+        ids.put(AddUserVirtualCurrencyRequest.class, 13);
+        ids.put(AndroidDevicePushNotificationRegistrationRequest.class, 14);
+        ids.put(AndroidDevicePushNotificationRegistrationResult.class, 15);
+        ids.put(AttributeInstallRequest.class, 16);
+        ids.put(AttributeInstallResult.class, 17);
+        ids.put(CancelTradeRequest.class, 18);
+        ids.put(CancelTradeResponse.class, 19);
+        ids.put(CartItem.class, 20);
+        ids.put(CatalogItem.class, 21);
+        ids.put(CatalogItemBundleInfo.class, 22);
+        ids.put(CatalogItemConsumableInfo.class, 23);
+        ids.put(CatalogItemContainerInfo.class, 24);
+        ids.put(CharacterInventory.class, 25);
+        ids.put(CharacterLeaderboardEntry.class, 26);
+        ids.put(CharacterResult.class, 27);
+        ids.put(CollectionFilter.class, 28);
+        ids.put(ConfirmPurchaseRequest.class, 29);
+        ids.put(ConfirmPurchaseResult.class, 30);
+        ids.put(ConsumeItemRequest.class, 31);
+        ids.put(ConsumeItemResult.class, 32);
+        ids.put(ConsumeXboxEntitlementsRequest.class, 33);
+        ids.put(ConsumeXboxEntitlementsResult.class, 34);
+        ids.put(ContactEmailInfoModel.class, 35);
+        ids.put(Container_Dictionary_String_String.class, 36);
+        ids.put(CreateSharedGroupRequest.class, 37);
+        ids.put(CreateSharedGroupResult.class, 38);
+        ids.put(CurrentGamesRequest.class, 39);
+        ids.put(CurrentGamesResult.class, 40);
+        ids.put(DeviceInfoRequest.class, 41);
+        ids.put(EmptyResponse.class, 42);
+        ids.put(EntityKey.class, 43);
+        ids.put(EntityTokenResponse.class, 44);
+        ids.put(ExecuteCloudScriptRequest.class, 45);
+        ids.put(ExecuteCloudScriptResult.class, 46);
+        ids.put(FacebookInstantGamesPlayFabIdPair.class, 47);
+        ids.put(FacebookPlayFabIdPair.class, 48);
+        ids.put(FriendInfo.class, 49);
+        ids.put(GameCenterPlayFabIdPair.class, 50);
+        ids.put(GameInfo.class, 51);
+        ids.put(GameServerRegionsRequest.class, 52);
+        ids.put(GameServerRegionsResult.class, 53);
+        ids.put(GenericPlayFabIdPair.class, 54);
+        ids.put(GenericServiceId.class, 55);
+        ids.put(GetAccountInfoRequest.class, 56);
+        ids.put(GetAccountInfoResult.class, 57);
+        ids.put(GetCatalogItemsRequest.class, 58);
+        ids.put(GetCatalogItemsResult.class, 59);
+        ids.put(GetCharacterDataRequest.class, 60);
+        ids.put(GetCharacterDataResult.class, 61);
+        ids.put(GetCharacterInventoryRequest.class, 62);
+        ids.put(GetCharacterInventoryResult.class, 63);
+        ids.put(GetCharacterLeaderboardRequest.class, 64);
+        ids.put(GetCharacterLeaderboardResult.class, 65);
+        ids.put(GetCharacterStatisticsRequest.class, 66);
+        ids.put(GetCharacterStatisticsResult.class, 67);
+        ids.put(GetContentDownloadUrlRequest.class, 68);
+        ids.put(GetContentDownloadUrlResult.class, 69);
+        ids.put(GetFriendLeaderboardAroundPlayerRequest.class, 70);
+        ids.put(GetFriendLeaderboardAroundPlayerResult.class, 71);
+        ids.put(GetFriendLeaderboardRequest.class, 72);
+        ids.put(GetFriendsListRequest.class, 73);
+        ids.put(GetFriendsListResult.class, 74);
+        ids.put(GetLeaderboardAroundCharacterRequest.class, 75);
+        ids.put(GetLeaderboardAroundCharacterResult.class, 76);
+        ids.put(GetLeaderboardAroundPlayerRequest.class, 77);
+        ids.put(GetLeaderboardAroundPlayerResult.class, 78);
+        ids.put(GetLeaderboardForUsersCharactersRequest.class, 79);
+        ids.put(GetLeaderboardForUsersCharactersResult.class, 80);
+        ids.put(GetLeaderboardRequest.class, 81);
+        ids.put(GetLeaderboardResult.class, 82);
+        ids.put(GetPaymentTokenRequest.class, 83);
+        ids.put(GetPaymentTokenResult.class, 84);
+        ids.put(GetPhotonAuthenticationTokenRequest.class, 85);
+        ids.put(GetPhotonAuthenticationTokenResult.class, 86);
+        ids.put(GetPlayerCombinedInfoRequest.class, 87);
+        ids.put(GetPlayerCombinedInfoRequestParams.class, 88);
+        ids.put(GetPlayerCombinedInfoResult.class, 89);
+        ids.put(GetPlayerCombinedInfoResultPayload.class, 90);
+        ids.put(GetPlayerProfileRequest.class, 91);
+        ids.put(GetPlayerProfileResult.class, 92);
+        ids.put(GetPlayerSegmentsRequest.class, 93);
+        ids.put(GetPlayerSegmentsResult.class, 94);
+        ids.put(GetPlayerStatisticsRequest.class, 95);
+        ids.put(GetPlayerStatisticsResult.class, 96);
+        ids.put(GetPlayerStatisticVersionsRequest.class, 97);
+        ids.put(GetPlayerStatisticVersionsResult.class, 98);
+        ids.put(GetPlayerTagsRequest.class, 99);
+        ids.put(GetPlayerTagsResult.class, 100);
+        ids.put(GetPlayerTradesRequest.class, 101);
+        ids.put(GetPlayerTradesResponse.class, 102);
+        ids.put(GetPlayFabIDsFromFacebookIDsRequest.class, 103);
+        ids.put(GetPlayFabIDsFromFacebookIDsResult.class, 104);
+        ids.put(GetPlayFabIDsFromFacebookInstantGamesIdsRequest.class, 105);
+        ids.put(GetPlayFabIDsFromFacebookInstantGamesIdsResult.class, 106);
+        ids.put(GetPlayFabIDsFromGameCenterIDsRequest.class, 107);
+        ids.put(GetPlayFabIDsFromGameCenterIDsResult.class, 108);
+        ids.put(GetPlayFabIDsFromGenericIDsRequest.class, 109);
+        ids.put(GetPlayFabIDsFromGenericIDsResult.class, 110);
+        ids.put(GetPlayFabIDsFromGoogleIDsRequest.class, 111);
+        ids.put(GetPlayFabIDsFromGoogleIDsResult.class, 112);
+        ids.put(GetPlayFabIDsFromKongregateIDsRequest.class, 113);
+        ids.put(GetPlayFabIDsFromKongregateIDsResult.class, 114);
+        ids.put(GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest.class, 115);
+        ids.put(GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class, 116);
+        ids.put(GetPlayFabIDsFromSteamIDsRequest.class, 117);
+        ids.put(GetPlayFabIDsFromSteamIDsResult.class, 118);
+        ids.put(GetPlayFabIDsFromTwitchIDsRequest.class, 119);
+        ids.put(GetPlayFabIDsFromTwitchIDsResult.class, 120);
+        ids.put(GetPublisherDataRequest.class, 121);
+        ids.put(GetPublisherDataResult.class, 122);
+        ids.put(GetPurchaseRequest.class, 123);
+        ids.put(GetPurchaseResult.class, 124);
+        ids.put(GetSegmentResult.class, 125);
+        ids.put(GetSharedGroupDataRequest.class, 126);
+        ids.put(GetSharedGroupDataResult.class, 127);
+        ids.put(GetStoreItemsRequest.class, 128);
+        ids.put(GetStoreItemsResult.class, 129);
+        ids.put(GetTimeRequest.class, 130);
+        ids.put(GetTimeResult.class, 131);
+        ids.put(GetTitleDataRequest.class, 132);
+        ids.put(GetTitleDataResult.class, 133);
+        ids.put(GetTitleNewsRequest.class, 134);
+        ids.put(GetTitleNewsResult.class, 135);
+        ids.put(GetTitlePublicKeyRequest.class, 136);
+        ids.put(GetTitlePublicKeyResult.class, 137);
+        ids.put(GetTradeStatusRequest.class, 138);
+        ids.put(GetTradeStatusResponse.class, 139);
+        ids.put(GetUserDataRequest.class, 140);
+        ids.put(GetUserDataResult.class, 141);
+        ids.put(GetUserInventoryRequest.class, 142);
+        ids.put(GetUserInventoryResult.class, 143);
+        ids.put(GetWindowsHelloChallengeRequest.class, 144);
+        ids.put(GetWindowsHelloChallengeResponse.class, 145);
+        ids.put(GooglePlayFabIdPair.class, 146);
+        ids.put(GrantCharacterToUserRequest.class, 147);
+        ids.put(GrantCharacterToUserResult.class, 148);
+        ids.put(ItemInstance.class, 149);
+        ids.put(ItemPurchaseRequest.class, 150);
+        ids.put(KongregatePlayFabIdPair.class, 151);
+        ids.put(LinkAndroidDeviceIDRequest.class, 152);
+        ids.put(LinkAndroidDeviceIDResult.class, 153);
+        ids.put(LinkCustomIDRequest.class, 154);
+        ids.put(LinkCustomIDResult.class, 155);
+        ids.put(LinkedPlatformAccountModel.class, 156);
+        ids.put(LinkFacebookAccountRequest.class, 157);
+        ids.put(LinkFacebookAccountResult.class, 158);
+        ids.put(LinkFacebookInstantGamesIdRequest.class, 159);
+        ids.put(LinkFacebookInstantGamesIdResult.class, 160);
+        ids.put(LinkGameCenterAccountRequest.class, 161);
+        ids.put(LinkGameCenterAccountResult.class, 162);
+        ids.put(LinkGoogleAccountRequest.class, 163);
+        ids.put(LinkGoogleAccountResult.class, 164);
+        ids.put(LinkIOSDeviceIDRequest.class, 165);
+        ids.put(LinkIOSDeviceIDResult.class, 166);
+        ids.put(LinkKongregateAccountRequest.class, 167);
+        ids.put(LinkKongregateAccountResult.class, 168);
+        ids.put(LinkNintendoSwitchDeviceIdRequest.class, 169);
+        ids.put(LinkNintendoSwitchDeviceIdResult.class, 170);
+        ids.put(LinkSteamAccountRequest.class, 171);
+        ids.put(LinkSteamAccountResult.class, 172);
+        ids.put(LinkTwitchAccountRequest.class, 173);
+        ids.put(LinkTwitchAccountResult.class, 174);
+        ids.put(LinkWindowsHelloAccountRequest.class, 175);
+        ids.put(LinkWindowsHelloAccountResponse.class, 176);
+        ids.put(LinkXboxAccountRequest.class, 177);
+        ids.put(LinkXboxAccountResult.class, 178);
+        ids.put(ListUsersCharactersRequest.class, 179);
+        ids.put(ListUsersCharactersResult.class, 180);
+        ids.put(LocationModel.class, 181);
+        ids.put(LoginResult.class, 182);
+        ids.put(LoginWithAndroidDeviceIDRequest.class, 183);
+        ids.put(LoginWithCustomIDRequest.class, 184);
+        ids.put(LoginWithEmailAddressRequest.class, 185);
+        ids.put(LoginWithFacebookInstantGamesIdRequest.class, 186);
+        ids.put(LoginWithFacebookRequest.class, 187);
+        ids.put(LoginWithGameCenterRequest.class, 188);
+        ids.put(LoginWithGoogleAccountRequest.class, 189);
+        ids.put(LoginWithIOSDeviceIDRequest.class, 190);
+        ids.put(LoginWithKongregateRequest.class, 191);
+        ids.put(LoginWithNintendoSwitchDeviceIdRequest.class, 192);
+        ids.put(LoginWithPlayFabRequest.class, 193);
+        ids.put(LoginWithSteamRequest.class, 194);
+        ids.put(LoginWithTwitchRequest.class, 195);
+        ids.put(LoginWithWindowsHelloRequest.class, 196);
+        ids.put(LoginWithXboxRequest.class, 197);
+        ids.put(LogStatement.class, 198);
+        ids.put(MatchmakeRequest.class, 199);
+        ids.put(MatchmakeResult.class, 200);
+        ids.put(MembershipModel.class, 201);
+        ids.put(ModifyUserVirtualCurrencyResult.class, 202);
+        ids.put(NintendoSwitchPlayFabIdPair.class, 203);
+        ids.put(OpenTradeRequest.class, 204);
+        ids.put(OpenTradeResponse.class, 205);
+        ids.put(PayForPurchaseRequest.class, 206);
+        ids.put(PayForPurchaseResult.class, 207);
+        ids.put(PaymentOption.class, 208);
+        ids.put(PlayerLeaderboardEntry.class, 209);
+        ids.put(PlayerProfileModel.class, 210);
+        ids.put(PlayerProfileViewConstraints.class, 211);
+        ids.put(PlayerStatisticVersion.class, 212);
+        ids.put(PurchaseItemRequest.class, 213);
+        ids.put(PurchaseItemResult.class, 214);
+        ids.put(PushNotificationRegistrationModel.class, 215);
+        ids.put(RedeemCouponRequest.class, 216);
+        ids.put(RedeemCouponResult.class, 217);
+        ids.put(RegionInfo.class, 218);
+        ids.put(RegisterForIOSPushNotificationRequest.class, 219);
+        ids.put(RegisterForIOSPushNotificationResult.class, 220);
+        ids.put(RegisterPlayFabUserRequest.class, 221);
+        ids.put(RegisterPlayFabUserResult.class, 222);
+        ids.put(RegisterWithWindowsHelloRequest.class, 223);
+        ids.put(RemoveContactEmailRequest.class, 224);
+        ids.put(RemoveContactEmailResult.class, 225);
+        ids.put(RemoveFriendRequest.class, 226);
+        ids.put(RemoveFriendResult.class, 227);
+        ids.put(RemoveGenericIDRequest.class, 228);
+        ids.put(RemoveGenericIDResult.class, 229);
+        ids.put(RemoveSharedGroupMembersRequest.class, 230);
+        ids.put(RemoveSharedGroupMembersResult.class, 231);
+        ids.put(ReportPlayerClientRequest.class, 232);
+        ids.put(ReportPlayerClientResult.class, 233);
+        ids.put(RestoreIOSPurchasesRequest.class, 234);
+        ids.put(RestoreIOSPurchasesResult.class, 235);
+        ids.put(ScriptExecutionError.class, 236);
+        ids.put(SendAccountRecoveryEmailRequest.class, 237);
+        ids.put(SendAccountRecoveryEmailResult.class, 238);
+        ids.put(SetFriendTagsRequest.class, 239);
+        ids.put(SetFriendTagsResult.class, 240);
+        ids.put(SetPlayerSecretRequest.class, 241);
+        ids.put(SetPlayerSecretResult.class, 242);
+        ids.put(SharedGroupDataRecord.class, 243);
+        ids.put(StartGameRequest.class, 244);
+        ids.put(StartGameResult.class, 245);
+        ids.put(StartPurchaseRequest.class, 246);
+        ids.put(StartPurchaseResult.class, 247);
+        ids.put(StatisticModel.class, 248);
+        ids.put(StatisticNameVersion.class, 249);
+        ids.put(StatisticUpdate.class, 250);
+        ids.put(StatisticValue.class, 251);
+        ids.put(SteamPlayFabIdPair.class, 252);
+        ids.put(StoreItem.class, 253);
+        ids.put(StoreMarketingModel.class, 254);
+        ids.put(SubscriptionModel.class, 255);
+        ids.put(SubtractUserVirtualCurrencyRequest.class, 256);
+        ids.put(TagModel.class, 257);
+        ids.put(TitleNewsItem.class, 258);
+        ids.put(TradeInfo.class, 259);
+        ids.put(TwitchPlayFabIdPair.class, 260);
+        ids.put(UnlinkAndroidDeviceIDRequest.class, 261);
+        ids.put(UnlinkAndroidDeviceIDResult.class, 262);
+        ids.put(UnlinkCustomIDRequest.class, 263);
+        ids.put(UnlinkCustomIDResult.class, 264);
+        ids.put(UnlinkFacebookAccountRequest.class, 265);
+        ids.put(UnlinkFacebookAccountResult.class, 266);
+        ids.put(UnlinkFacebookInstantGamesIdRequest.class, 267);
+        ids.put(UnlinkFacebookInstantGamesIdResult.class, 268);
+        ids.put(UnlinkGameCenterAccountRequest.class, 269);
+        ids.put(UnlinkGameCenterAccountResult.class, 270);
+        ids.put(UnlinkGoogleAccountRequest.class, 271);
+        ids.put(UnlinkGoogleAccountResult.class, 272);
+        ids.put(UnlinkIOSDeviceIDRequest.class, 273);
+        ids.put(UnlinkIOSDeviceIDResult.class, 274);
+        ids.put(UnlinkKongregateAccountRequest.class, 275);
+        ids.put(UnlinkKongregateAccountResult.class, 276);
+        ids.put(UnlinkNintendoSwitchDeviceIdRequest.class, 277);
+        ids.put(UnlinkNintendoSwitchDeviceIdResult.class, 278);
+        ids.put(UnlinkSteamAccountRequest.class, 279);
+        ids.put(UnlinkSteamAccountResult.class, 280);
+        ids.put(UnlinkTwitchAccountRequest.class, 281);
+        ids.put(UnlinkTwitchAccountResult.class, 282);
+        ids.put(UnlinkWindowsHelloAccountRequest.class, 283);
+        ids.put(UnlinkWindowsHelloAccountResponse.class, 284);
+        ids.put(UnlinkXboxAccountRequest.class, 285);
+        ids.put(UnlinkXboxAccountResult.class, 286);
+        ids.put(UnlockContainerInstanceRequest.class, 287);
+        ids.put(UnlockContainerItemRequest.class, 288);
+        ids.put(UnlockContainerItemResult.class, 289);
+        ids.put(UpdateAvatarUrlRequest.class, 290);
+        ids.put(UpdateCharacterDataRequest.class, 291);
+        ids.put(UpdateCharacterDataResult.class, 292);
+        ids.put(UpdateCharacterStatisticsRequest.class, 293);
+        ids.put(UpdateCharacterStatisticsResult.class, 294);
+        ids.put(UpdatePlayerStatisticsRequest.class, 295);
+        ids.put(UpdatePlayerStatisticsResult.class, 296);
+        ids.put(UpdateSharedGroupDataRequest.class, 297);
+        ids.put(UpdateSharedGroupDataResult.class, 298);
+        ids.put(UpdateUserDataRequest.class, 299);
+        ids.put(UpdateUserDataResult.class, 300);
+        ids.put(UpdateUserTitleDisplayNameRequest.class, 301);
+        ids.put(UpdateUserTitleDisplayNameResult.class, 302);
+        ids.put(UserAccountInfo.class, 303);
+        ids.put(UserAndroidDeviceInfo.class, 304);
+        ids.put(UserCustomIdInfo.class, 305);
+        ids.put(UserDataRecord.class, 306);
+        ids.put(UserFacebookInfo.class, 307);
+        ids.put(UserFacebookInstantGamesIdInfo.class, 308);
+        ids.put(UserGameCenterInfo.class, 309);
+        ids.put(UserGoogleInfo.class, 310);
+        ids.put(UserIosDeviceInfo.class, 311);
+        ids.put(UserKongregateInfo.class, 312);
+        ids.put(UserNintendoSwitchDeviceIdInfo.class, 313);
+        ids.put(UserOpenIdInfo.class, 314);
+        ids.put(UserPrivateAccountInfo.class, 315);
+        ids.put(UserPsnInfo.class, 316);
+        ids.put(UserSettings.class, 317);
+        ids.put(UserSteamInfo.class, 318);
+        ids.put(UserTitleInfo.class, 319);
+        ids.put(UserTwitchInfo.class, 320);
+        ids.put(UserWindowsHelloInfo.class, 321);
+        ids.put(UserXboxInfo.class, 322);
+        ids.put(ValidateAmazonReceiptRequest.class, 323);
+        ids.put(ValidateAmazonReceiptResult.class, 324);
+        ids.put(ValidateGooglePlayPurchaseRequest.class, 325);
+        ids.put(ValidateGooglePlayPurchaseResult.class, 326);
+        ids.put(ValidateIOSReceiptRequest.class, 327);
+        ids.put(ValidateIOSReceiptResult.class, 328);
+        ids.put(ValidateWindowsReceiptRequest.class, 329);
+        ids.put(ValidateWindowsReceiptResult.class, 330);
+        ids.put(ValueToDateModel.class, 331);
+        ids.put(VirtualCurrencyRechargeTime.class, 332);
+        ids.put(WriteClientCharacterEventRequest.class, 333);
+        ids.put(WriteClientPlayerEventRequest.class, 334);
+        ids.put(WriteEventResponse.class, 335);
+        ids.put(WriteTitleEventRequest.class, 336);
+        ids.put(CloudScriptRevisionOption.class, 337);
+        ids.put(ContinentCode.class, 338);
+        ids.put(CountryCode.class, 339);
+        ids.put(Currency.class, 340);
+        ids.put(EmailVerificationStatus.class, 341);
+        ids.put(GameInstanceState.class, 342);
+        ids.put(LoginIdentityProvider.class, 343);
+        ids.put(MatchmakeStatus.class, 344);
+        ids.put(PushNotificationPlatform.class, 345);
+        ids.put(Region.class, 346);
+        ids.put(SourceType.class, 347);
+        ids.put(SubscriptionProviderStatus.class, 348);
+        ids.put(TitleActivationStatus.class, 349);
+        ids.put(TradeStatus.class, 350);
+        ids.put(TransactionStatus.class, 351);
+        ids.put(UserDataPermission.class, 352);
+        ids.put(UserOrigination.class, 353);
+    }
+
+    static final class AcceptTradeRequestAdapter extends TypeAdapter<AcceptTradeRequest> {
+        AcceptTradeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AcceptTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AcceptedInventoryInstanceIds != null) {
+                out.name("AcceptedInventoryInstanceIds");
+                PlayFabModelAdapters.writeList(out, value.AcceptedInventoryInstanceIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.OfferingPlayerId != null) {
+                out.name("OfferingPlayerId");
+                out.value(value.OfferingPlayerId);
+            }
+            if (value.TradeId != null) {
+                out.name("TradeId");
+                out.value(value.TradeId);
+            }
+            out.endObject();
+        }
+
+        public AcceptTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptTradeRequest value = new AcceptTradeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "OfferingPlayerId": value.OfferingPlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "TradeId": value.TradeId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AcceptTradeResponseAdapter extends TypeAdapter<AcceptTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        AcceptTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        public void write(JsonWriter out, AcceptTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Trade != null) {
+                out.name("Trade");
+                tradeInfoAdapter.write(out, value.Trade);
+            }
+            out.endObject();
+        }
+
+        public AcceptTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptTradeResponse value = new AcceptTradeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AttributedAt != null) {
+                out.name("AttributedAt");
+                dateAdapter.write(out, value.AttributedAt);
+            }
+            if (value.CampaignId != null) {
+                out.name("CampaignId");
+                out.value(value.CampaignId);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                out.value(value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                    case "CampaignId": value.CampaignId = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddFriendRequestAdapter extends TypeAdapter<AddFriendRequest> {
+        AddFriendRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendEmail != null) {
+                out.name("FriendEmail");
+                out.value(value.FriendEmail);
+            }
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.FriendTitleDisplayName != null) {
+                out.name("FriendTitleDisplayName");
+                out.value(value.FriendTitleDisplayName);
+            }
+            if (value.FriendUsername != null) {
+                out.name("FriendUsername");
+                out.value(value.FriendUsername);
+            }
+            out.endObject();
+        }
+
+        public AddFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendRequest value = new AddFriendRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendEmail": value.FriendEmail = PlayFabModelAdapters.readString(in); break;
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "FriendTitleDisplayName": value.FriendTitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "FriendUsername": value.FriendUsername = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddFriendResultAdapter extends TypeAdapter<AddFriendResult> {
+        AddFriendResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddFriendResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Created != null) {
+                out.name("Created");
+                out.value(value.Created.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public AddFriendResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendResult value = new AddFriendResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Created": value.Created = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddGenericIDRequestAdapter extends TypeAdapter<AddGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        AddGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        public void write(JsonWriter out, AddGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GenericId != null) {
+                out.name("GenericId");
+                genericServiceIdAdapter.write(out, value.GenericId);
+            }
+            out.endObject();
+        }
+
+        public AddGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddGenericIDRequest value = new AddGenericIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddGenericIDResultAdapter extends TypeAdapter<AddGenericIDResult> {
+        AddGenericIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddGenericIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddGenericIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddGenericIDResult value = new AddGenericIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddOrUpdateContactEmailRequestAdapter extends TypeAdapter<AddOrUpdateContactEmailRequest> {
+        AddOrUpdateContactEmailRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddOrUpdateContactEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            out.endObject();
+        }
+
+        public AddOrUpdateContactEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddOrUpdateContactEmailRequest value = new AddOrUpdateContactEmailRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddOrUpdateContactEmailResultAdapter extends TypeAdapter<AddOrUpdateContactEmailResult> {
+        AddOrUpdateContactEmailResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddOrUpdateContactEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddOrUpdateContactEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddOrUpdateContactEmailResult value = new AddOrUpdateContactEmailResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddSharedGroupMembersRequestAdapter extends TypeAdapter<AddSharedGroupMembersRequest> {
+        AddSharedGroupMembersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabIds != null) {
+                out.name("PlayFabIds");
+                PlayFabModelAdapters.writeList(out, value.PlayFabIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public AddSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersRequest value = new AddSharedGroupMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabIds": value.PlayFabIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddSharedGroupMembersResultAdapter extends TypeAdapter<AddSharedGroupMembersResult> {
+        AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersResult value = new AddSharedGroupMembersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddUsernamePasswordRequestAdapter extends TypeAdapter<AddUsernamePasswordRequest> {
+        AddUsernamePasswordRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddUsernamePasswordRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public AddUsernamePasswordRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUsernamePasswordRequest value = new AddUsernamePasswordRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddUsernamePasswordResultAdapter extends TypeAdapter<AddUsernamePasswordResult> {
+        AddUsernamePasswordResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddUsernamePasswordResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public AddUsernamePasswordResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUsernamePasswordResult value = new AddUsernamePasswordResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AndroidDevicePushNotificationRegistrationRequestAdapter extends TypeAdapter<AndroidDevicePushNotificationRegistrationRequest> {
+        AndroidDevicePushNotificationRegistrationRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AndroidDevicePushNotificationRegistrationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ConfirmationMessage != null) {
+                out.name("ConfirmationMessage");
+                out.value(value.ConfirmationMessage);
+            }
+            if (value.DeviceToken != null) {
+                out.name("DeviceToken");
+                out.value(value.DeviceToken);
+            }
+            if (value.SendPushNotificationConfirmation != null) {
+                out.name("SendPushNotificationConfirmation");
+                out.value(value.SendPushNotificationConfirmation.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public AndroidDevicePushNotificationRegistrationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AndroidDevicePushNotificationRegistrationRequest value = new AndroidDevicePushNotificationRegistrationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ConfirmationMessage": value.ConfirmationMessage = PlayFabModelAdapters.readString(in); break;
+                    case "DeviceToken": value.DeviceToken = PlayFabModelAdapters.readString(in); break;
+                    case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AndroidDevicePushNotificationRegistrationResultAdapter extends TypeAdapter<AndroidDevicePushNotificationRegistrationResult> {
+        AndroidDevicePushNotificationRegistrationResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AndroidDevicePushNotificationRegistrationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AndroidDevicePushNotificationRegistrationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AndroidDevicePushNotificationRegistrationResult value = new AndroidDevicePushNotificationRegistrationResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AttributeInstallRequestAdapter extends TypeAdapter<AttributeInstallRequest> {
+        AttributeInstallRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AttributeInstallRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Adid != null) {
+                out.name("Adid");
+                out.value(value.Adid);
+            }
+            if (value.Idfa != null) {
+                out.name("Idfa");
+                out.value(value.Idfa);
+            }
+            out.endObject();
+        }
+
+        public AttributeInstallRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AttributeInstallRequest value = new AttributeInstallRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Adid": value.Adid = PlayFabModelAdapters.readString(in); break;
+                    case "Idfa": value.Idfa = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AttributeInstallResultAdapter extends TypeAdapter<AttributeInstallResult> {
+        AttributeInstallResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AttributeInstallResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AttributeInstallResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AttributeInstallResult value = new AttributeInstallResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CancelTradeRequestAdapter extends TypeAdapter<CancelTradeRequest> {
+        CancelTradeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CancelTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TradeId != null) {
+                out.name("TradeId");
+                out.value(value.TradeId);
+            }
+            out.endObject();
+        }
+
+        public CancelTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelTradeRequest value = new CancelTradeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TradeId": value.TradeId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CancelTradeResponseAdapter extends TypeAdapter<CancelTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        CancelTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        public void write(JsonWriter out, CancelTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Trade != null) {
+                out.name("Trade");
+                tradeInfoAdapter.write(out, value.Trade);
+            }
+            out.endObject();
+        }
+
+        public CancelTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelTradeResponse value = new CancelTradeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CartItemAdapter extends TypeAdapter<CartItem> {
+        CartItemAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CartItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.VCAmount != null) {
+                out.name("VCAmount");
+                PlayFabModelAdapters.writeMap(out, value.VCAmount, PlayFabModelAdapters.LONG);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CartItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CartItem value = new CartItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VCAmount": value.VCAmount = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+        }
+
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bundle != null) {
+                out.name("Bundle");
+                catalogItemBundleInfoAdapter.write(out, value.Bundle);
+            }
+            if (value.CanBecomeCharacter != null) {
+                out.name("CanBecomeCharacter");
+                out.value(value.CanBecomeCharacter.booleanValue());
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Consumable != null) {
+                out.name("Consumable");
+                catalogItemConsumableInfoAdapter.write(out, value.Consumable);
+            }
+            if (value.Container != null) {
+                out.name("Container");
+                catalogItemContainerInfoAdapter.write(out, value.Container);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                out.value(value.CustomData);
+            }
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.InitialLimitedEditionCount != null) {
+                out.name("InitialLimitedEditionCount");
+                out.value(value.InitialLimitedEditionCount);
+            }
+            if (value.IsLimitedEdition != null) {
+                out.name("IsLimitedEdition");
+                out.value(value.IsLimitedEdition.booleanValue());
+            }
+            if (value.IsStackable != null) {
+                out.name("IsStackable");
+                out.value(value.IsStackable.booleanValue());
+            }
+            if (value.IsTradable != null) {
+                out.name("IsTradable");
+                out.value(value.IsTradable.booleanValue());
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemImageUrl != null) {
+                out.name("ItemImageUrl");
+                out.value(value.ItemImageUrl);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                    case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabModelAdapters.readBoolean(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                    case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readString(in); break;
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "IsLimitedEdition": value.IsLimitedEdition = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsStackable": value.IsStackable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsTradable": value.IsTradable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemImageUrl": value.ItemImageUrl = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        CatalogItemBundleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BundledItems != null) {
+                out.name("BundledItems");
+                PlayFabModelAdapters.writeList(out, value.BundledItems, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledResultTables != null) {
+                out.name("BundledResultTables");
+                PlayFabModelAdapters.writeList(out, value.BundledResultTables, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledVirtualCurrencies != null) {
+                out.name("BundledVirtualCurrencies");
+                PlayFabModelAdapters.writeMap(out, value.BundledVirtualCurrencies, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BundledItems": value.BundledItems = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledResultTables": value.BundledResultTables = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UsageCount != null) {
+                out.name("UsageCount");
+                out.value(value.UsageCount);
+            }
+            if (value.UsagePeriod != null) {
+                out.name("UsagePeriod");
+                out.value(value.UsagePeriod);
+            }
+            if (value.UsagePeriodGroup != null) {
+                out.name("UsagePeriodGroup");
+                out.value(value.UsagePeriodGroup);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UsageCount": value.UsageCount = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriod": value.UsagePeriod = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        CatalogItemContainerInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemContents != null) {
+                out.name("ItemContents");
+                PlayFabModelAdapters.writeList(out, value.ItemContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeyItemId != null) {
+                out.name("KeyItemId");
+                out.value(value.KeyItemId);
+            }
+            if (value.ResultTableContents != null) {
+                out.name("ResultTableContents");
+                PlayFabModelAdapters.writeList(out, value.ResultTableContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyContents != null) {
+                out.name("VirtualCurrencyContents");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyContents, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemContents": value.ItemContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "KeyItemId": value.KeyItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ResultTableContents": value.ResultTableContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterInventoryAdapter extends TypeAdapter<CharacterInventory> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        CharacterInventoryAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, CharacterInventory value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public CharacterInventory read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterInventory value = new CharacterInventory();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterLeaderboardEntryAdapter extends TypeAdapter<CharacterLeaderboardEntry> {
+        CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Position != null) {
+                out.name("Position");
+                out.value(value.Position);
+            }
+            if (value.StatValue != null) {
+                out.name("StatValue");
+                out.value(value.StatValue);
+            }
+            out.endObject();
+        }
+
+        public CharacterLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterLeaderboardEntry value = new CharacterLeaderboardEntry();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Position": value.Position = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatValue": value.StatValue = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterResultAdapter extends TypeAdapter<CharacterResult> {
+        CharacterResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            out.endObject();
+        }
+
+        public CharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterResult value = new CharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CollectionFilterAdapter extends TypeAdapter<CollectionFilter> {
+        private final TypeAdapter<Container_Dictionary_String_String> container_Dictionary_String_StringAdapter;
+
+        CollectionFilterAdapter(Gson gson) {
+            container_Dictionary_String_StringAdapter = gson.getAdapter(Container_Dictionary_String_String.class);
+        }
+
+        public void write(JsonWriter out, CollectionFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Excludes != null) {
+                out.name("Excludes");
+                PlayFabModelAdapters.writeList(out, value.Excludes, container_Dictionary_String_StringAdapter);
+            }
+            if (value.Includes != null) {
+                out.name("Includes");
+                PlayFabModelAdapters.writeList(out, value.Includes, container_Dictionary_String_StringAdapter);
+            }
+            out.endObject();
+        }
+
+        public CollectionFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CollectionFilter value = new CollectionFilter();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Excludes": value.Excludes = PlayFabModelAdapters.readList(in, container_Dictionary_String_StringAdapter); break;
+                    case "Includes": value.Includes = PlayFabModelAdapters.readList(in, container_Dictionary_String_StringAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConfirmPurchaseRequestAdapter extends TypeAdapter<ConfirmPurchaseRequest> {
+        ConfirmPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConfirmPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            out.endObject();
+        }
+
+        public ConfirmPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConfirmPurchaseRequest value = new ConfirmPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConfirmPurchaseResultAdapter extends TypeAdapter<ConfirmPurchaseResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ConfirmPurchaseResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ConfirmPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, itemInstanceAdapter);
+            }
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            out.endObject();
+        }
+
+        public ConfirmPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConfirmPurchaseResult value = new ConfirmPurchaseResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeItemRequestAdapter extends TypeAdapter<ConsumeItemRequest> {
+        ConsumeItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ConsumeCount != null) {
+                out.name("ConsumeCount");
+                out.value(value.ConsumeCount);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            out.endObject();
+        }
+
+        public ConsumeItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemRequest value = new ConsumeItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ConsumeCount": value.ConsumeCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeItemResultAdapter extends TypeAdapter<ConsumeItemResult> {
+        ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConsumeItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            out.endObject();
+        }
+
+        public ConsumeItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemResult value = new ConsumeItemResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeXboxEntitlementsRequestAdapter extends TypeAdapter<ConsumeXboxEntitlementsRequest> {
+        ConsumeXboxEntitlementsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConsumeXboxEntitlementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public ConsumeXboxEntitlementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeXboxEntitlementsRequest value = new ConsumeXboxEntitlementsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeXboxEntitlementsResultAdapter extends TypeAdapter<ConsumeXboxEntitlementsResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        ConsumeXboxEntitlementsResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, ConsumeXboxEntitlementsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public ConsumeXboxEntitlementsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeXboxEntitlementsResult value = new ConsumeXboxEntitlementsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.VerificationStatus != null) {
+                out.name("VerificationStatus");
+                emailVerificationStatusAdapter.write(out, value.VerificationStatus);
+            }
+            out.endObject();
+        }
+
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class Container_Dictionary_String_StringAdapter extends TypeAdapter<Container_Dictionary_String_String> {
+        Container_Dictionary_String_StringAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, Container_Dictionary_String_String value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public Container_Dictionary_String_String read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Container_Dictionary_String_String value = new Container_Dictionary_String_String();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateSharedGroupRequestAdapter extends TypeAdapter<CreateSharedGroupRequest> {
+        CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public CreateSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupRequest value = new CreateSharedGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateSharedGroupResultAdapter extends TypeAdapter<CreateSharedGroupResult> {
+        CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public CreateSharedGroupResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupResult value = new CreateSharedGroupResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CurrentGamesRequestAdapter extends TypeAdapter<CurrentGamesRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<CollectionFilter> collectionFilterAdapter;
+
+        CurrentGamesRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            collectionFilterAdapter = gson.getAdapter(CollectionFilter.class);
+        }
+
+        public void write(JsonWriter out, CurrentGamesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.TagFilter != null) {
+                out.name("TagFilter");
+                collectionFilterAdapter.write(out, value.TagFilter);
+            }
+            out.endObject();
+        }
+
+        public CurrentGamesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CurrentGamesRequest value = new CurrentGamesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "TagFilter": value.TagFilter = collectionFilterAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CurrentGamesResultAdapter extends TypeAdapter<CurrentGamesResult> {
+        private final TypeAdapter<GameInfo> gameInfoAdapter;
+
+        CurrentGamesResultAdapter(Gson gson) {
+            gameInfoAdapter = gson.getAdapter(GameInfo.class);
+        }
+
+        public void write(JsonWriter out, CurrentGamesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCount != null) {
+                out.name("GameCount");
+                out.value(value.GameCount);
+            }
+            if (value.Games != null) {
+                out.name("Games");
+                PlayFabModelAdapters.writeList(out, value.Games, gameInfoAdapter);
+            }
+            if (value.PlayerCount != null) {
+                out.name("PlayerCount");
+                out.value(value.PlayerCount);
+            }
+            out.endObject();
+        }
+
+        public CurrentGamesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CurrentGamesResult value = new CurrentGamesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCount": value.GameCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "Games": value.Games = PlayFabModelAdapters.readList(in, gameInfoAdapter); break;
+                    case "PlayerCount": value.PlayerCount = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeviceInfoRequestAdapter extends TypeAdapter<DeviceInfoRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        DeviceInfoRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, DeviceInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Info != null) {
+                out.name("Info");
+                PlayFabModelAdapters.writeMap(out, value.Info, objectAdapter);
+            }
+            out.endObject();
+        }
+
+        public DeviceInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeviceInfoRequest value = new DeviceInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Info": value.Info = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityTokenResponseAdapter extends TypeAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, EntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.EntityToken != null) {
+                out.name("EntityToken");
+                out.value(value.EntityToken);
+            }
+            if (value.TokenExpiration != null) {
+                out.name("TokenExpiration");
+                dateAdapter.write(out, value.TokenExpiration);
+            }
+            out.endObject();
+        }
+
+        public EntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityTokenResponse value = new EntityTokenResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "EntityToken": value.EntityToken = PlayFabModelAdapters.readString(in); break;
+                    case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptRequestAdapter extends TypeAdapter<ExecuteCloudScriptRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteCloudScriptRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionParameter != null) {
+                out.name("FunctionParameter");
+                objectAdapter.write(out, value.FunctionParameter);
+            }
+            if (value.GeneratePlayStreamEvent != null) {
+                out.name("GeneratePlayStreamEvent");
+                out.value(value.GeneratePlayStreamEvent.booleanValue());
+            }
+            if (value.RevisionSelection != null) {
+                out.name("RevisionSelection");
+                cloudScriptRevisionOptionAdapter.write(out, value.RevisionSelection);
+            }
+            if (value.SpecificRevision != null) {
+                out.name("SpecificRevision");
+                out.value(value.SpecificRevision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptRequest value = new ExecuteCloudScriptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                    case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabModelAdapters.readBoolean(in); break;
+                    case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                    case "SpecificRevision": value.SpecificRevision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.APIRequestsIssued != null) {
+                out.name("APIRequestsIssued");
+                out.value(value.APIRequestsIssued);
+            }
+            if (value.Error != null) {
+                out.name("Error");
+                scriptExecutionErrorAdapter.write(out, value.Error);
+            }
+            if (value.ExecutionTimeSeconds != null) {
+                out.name("ExecutionTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ExecutionTimeSeconds);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionResult != null) {
+                out.name("FunctionResult");
+                objectAdapter.write(out, value.FunctionResult);
+            }
+            if (value.FunctionResultTooLarge != null) {
+                out.name("FunctionResultTooLarge");
+                out.value(value.FunctionResultTooLarge.booleanValue());
+            }
+            if (value.HttpRequestsIssued != null) {
+                out.name("HttpRequestsIssued");
+                out.value(value.HttpRequestsIssued);
+            }
+            if (value.Logs != null) {
+                out.name("Logs");
+                PlayFabModelAdapters.writeList(out, value.Logs, logStatementAdapter);
+            }
+            if (value.LogsTooLarge != null) {
+                out.name("LogsTooLarge");
+                out.value(value.LogsTooLarge.booleanValue());
+            }
+            if (value.MemoryConsumedBytes != null) {
+                out.name("MemoryConsumedBytes");
+                out.value(value.MemoryConsumedBytes);
+            }
+            if (value.ProcessorTimeSeconds != null) {
+                out.name("ProcessorTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ProcessorTimeSeconds);
+            }
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "APIRequestsIssued": value.APIRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                    case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                    case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Logs": value.Logs = PlayFabModelAdapters.readList(in, logStatementAdapter); break;
+                    case "LogsTooLarge": value.LogsTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabModelAdapters.readLong(in); break;
+                    case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FacebookInstantGamesPlayFabIdPairAdapter extends TypeAdapter<FacebookInstantGamesPlayFabIdPair> {
+        FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public FacebookInstantGamesPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookInstantGamesPlayFabIdPair value = new FacebookInstantGamesPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FacebookPlayFabIdPairAdapter extends TypeAdapter<FacebookPlayFabIdPair> {
+        FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookId != null) {
+                out.name("FacebookId");
+                out.value(value.FacebookId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public FacebookPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookPlayFabIdPair value = new FacebookPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookId": value.FacebookId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FriendInfoAdapter extends TypeAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        public void write(JsonWriter out, FriendInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CurrentMatchmakerLobbyId != null) {
+                out.name("CurrentMatchmakerLobbyId");
+                out.value(value.CurrentMatchmakerLobbyId);
+            }
+            if (value.FacebookInfo != null) {
+                out.name("FacebookInfo");
+                userFacebookInfoAdapter.write(out, value.FacebookInfo);
+            }
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.GameCenterInfo != null) {
+                out.name("GameCenterInfo");
+                userGameCenterInfoAdapter.write(out, value.GameCenterInfo);
+            }
+            if (value.Profile != null) {
+                out.name("Profile");
+                playerProfileModelAdapter.write(out, value.Profile);
+            }
+            if (value.PSNInfo != null) {
+                out.name("PSNInfo");
+                userPsnInfoAdapter.write(out, value.PSNInfo);
+            }
+            if (value.SteamInfo != null) {
+                out.name("SteamInfo");
+                userSteamInfoAdapter.write(out, value.SteamInfo);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.TitleDisplayName != null) {
+                out.name("TitleDisplayName");
+                out.value(value.TitleDisplayName);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.XboxInfo != null) {
+                out.name("XboxInfo");
+                userXboxInfoAdapter.write(out, value.XboxInfo);
+            }
+            out.endObject();
+        }
+
+        public FriendInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FriendInfo value = new FriendInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CurrentMatchmakerLobbyId": value.CurrentMatchmakerLobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                    case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                    case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); break;
+                    case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "TitleDisplayName": value.TitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GameCenterPlayFabIdPairAdapter extends TypeAdapter<GameCenterPlayFabIdPair> {
+        GameCenterPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GameCenterPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCenterId != null) {
+                out.name("GameCenterId");
+                out.value(value.GameCenterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GameCenterPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameCenterPlayFabIdPair value = new GameCenterPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCenterId": value.GameCenterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GameInfoAdapter extends TypeAdapter<GameInfo> {
+        private final TypeAdapter<GameInstanceState> gameInstanceStateAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        GameInfoAdapter(Gson gson) {
+            gameInstanceStateAdapter = gson.getAdapter(GameInstanceState.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, GameInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.GameServerData != null) {
+                out.name("GameServerData");
+                out.value(value.GameServerData);
+            }
+            if (value.GameServerStateEnum != null) {
+                out.name("GameServerStateEnum");
+                gameInstanceStateAdapter.write(out, value.GameServerStateEnum);
+            }
+            if (value.LastHeartbeat != null) {
+                out.name("LastHeartbeat");
+                dateAdapter.write(out, value.LastHeartbeat);
+            }
+            if (value.LobbyID != null) {
+                out.name("LobbyID");
+                out.value(value.LobbyID);
+            }
+            if (value.MaxPlayers != null) {
+                out.name("MaxPlayers");
+                out.value(value.MaxPlayers);
+            }
+            if (value.PlayerUserIds != null) {
+                out.name("PlayerUserIds");
+                PlayFabModelAdapters.writeList(out, value.PlayerUserIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.RunTime != null) {
+                out.name("RunTime");
+                out.value(value.RunTime);
+            }
+            if (value.ServerHostname != null) {
+                out.name("ServerHostname");
+                out.value(value.ServerHostname);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeMap(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GameInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameInfo value = new GameInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "GameServerData": value.GameServerData = PlayFabModelAdapters.readString(in); break;
+                    case "GameServerStateEnum": value.GameServerStateEnum = gameInstanceStateAdapter.read(in); break;
+                    case "LastHeartbeat": value.LastHeartbeat = dateAdapter.read(in); break;
+                    case "LobbyID": value.LobbyID = PlayFabModelAdapters.readString(in); break;
+                    case "MaxPlayers": value.MaxPlayers = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayerUserIds": value.PlayerUserIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "RunTime": value.RunTime = PlayFabModelAdapters.readLong(in); break;
+                    case "ServerHostname": value.ServerHostname = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readInteger(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GameServerRegionsRequestAdapter extends TypeAdapter<GameServerRegionsRequest> {
+        GameServerRegionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GameServerRegionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public GameServerRegionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameServerRegionsRequest value = new GameServerRegionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GameServerRegionsResultAdapter extends TypeAdapter<GameServerRegionsResult> {
+        private final TypeAdapter<RegionInfo> regionInfoAdapter;
+
+        GameServerRegionsResultAdapter(Gson gson) {
+            regionInfoAdapter = gson.getAdapter(RegionInfo.class);
+        }
+
+        public void write(JsonWriter out, GameServerRegionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Regions != null) {
+                out.name("Regions");
+                PlayFabModelAdapters.writeList(out, value.Regions, regionInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GameServerRegionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameServerRegionsResult value = new GameServerRegionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Regions": value.Regions = PlayFabModelAdapters.readList(in, regionInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GenericPlayFabIdPairAdapter extends TypeAdapter<GenericPlayFabIdPair> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        GenericPlayFabIdPairAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        public void write(JsonWriter out, GenericPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GenericId != null) {
+                out.name("GenericId");
+                genericServiceIdAdapter.write(out, value.GenericId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GenericPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericPlayFabIdPair value = new GenericPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GenericServiceIdAdapter extends TypeAdapter<GenericServiceId> {
+        GenericServiceIdAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GenericServiceId value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ServiceName != null) {
+                out.name("ServiceName");
+                out.value(value.ServiceName);
+            }
+            if (value.UserId != null) {
+                out.name("UserId");
+                out.value(value.UserId);
+            }
+            out.endObject();
+        }
+
+        public GenericServiceId read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericServiceId value = new GenericServiceId();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ServiceName": value.ServiceName = PlayFabModelAdapters.readString(in); break;
+                    case "UserId": value.UserId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAccountInfoRequestAdapter extends TypeAdapter<GetAccountInfoRequest> {
+        GetAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TitleDisplayName != null) {
+                out.name("TitleDisplayName");
+                out.value(value.TitleDisplayName);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public GetAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAccountInfoRequest value = new GetAccountInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleDisplayName": value.TitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAccountInfoResultAdapter extends TypeAdapter<GetAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        GetAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        public void write(JsonWriter out, GetAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccountInfo != null) {
+                out.name("AccountInfo");
+                userAccountInfoAdapter.write(out, value.AccountInfo);
+            }
+            out.endObject();
+        }
+
+        public GetAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAccountInfoResult value = new GetAccountInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Catalog != null) {
+                out.name("Catalog");
+                PlayFabModelAdapters.writeList(out, value.Catalog, catalogItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Catalog": value.Catalog = PlayFabModelAdapters.readList(in, catalogItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterDataRequestAdapter extends TypeAdapter<GetCharacterDataRequest> {
+        GetCharacterDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.IfChangedFromDataVersion != null) {
+                out.name("IfChangedFromDataVersion");
+                out.value(value.IfChangedFromDataVersion);
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataRequest value = new GetCharacterDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterDataResultAdapter extends TypeAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, userDataRecordAdapter);
+            }
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataResult value = new GetCharacterDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterInventoryRequestAdapter extends TypeAdapter<GetCharacterInventoryRequest> {
+        GetCharacterInventoryRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryRequest value = new GetCharacterInventoryRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterInventoryResultAdapter extends TypeAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryResult value = new GetCharacterInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterLeaderboardRequestAdapter extends TypeAdapter<GetCharacterLeaderboardRequest> {
+        GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardRequest value = new GetCharacterLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterLeaderboardResultAdapter extends TypeAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardResult value = new GetCharacterLeaderboardResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterStatisticsRequestAdapter extends TypeAdapter<GetCharacterStatisticsRequest> {
+        GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsRequest value = new GetCharacterStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterStatisticsResultAdapter extends TypeAdapter<GetCharacterStatisticsResult> {
+        GetCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterStatistics != null) {
+                out.name("CharacterStatistics");
+                PlayFabModelAdapters.writeMap(out, value.CharacterStatistics, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsResult value = new GetCharacterStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterStatistics": value.CharacterStatistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentDownloadUrlRequestAdapter extends TypeAdapter<GetContentDownloadUrlRequest> {
+        GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.HttpMethod != null) {
+                out.name("HttpMethod");
+                out.value(value.HttpMethod);
+            }
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.ThruCDN != null) {
+                out.name("ThruCDN");
+                out.value(value.ThruCDN.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public GetContentDownloadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlRequest value = new GetContentDownloadUrlRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "HttpMethod": value.HttpMethod = PlayFabModelAdapters.readString(in); break;
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "ThruCDN": value.ThruCDN = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentDownloadUrlResultAdapter extends TypeAdapter<GetContentDownloadUrlResult> {
+        GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.URL != null) {
+                out.name("URL");
+                out.value(value.URL);
+            }
+            out.endObject();
+        }
+
+        public GetContentDownloadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlResult value = new GetContentDownloadUrlResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "URL": value.URL = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendLeaderboardAroundPlayerRequestAdapter extends TypeAdapter<GetFriendLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetFriendLeaderboardAroundPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IncludeFacebookFriends != null) {
+                out.name("IncludeFacebookFriends");
+                out.value(value.IncludeFacebookFriends.booleanValue());
+            }
+            if (value.IncludeSteamFriends != null) {
+                out.name("IncludeSteamFriends");
+                out.value(value.IncludeSteamFriends.booleanValue());
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public GetFriendLeaderboardAroundPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardAroundPlayerRequest value = new GetFriendLeaderboardAroundPlayerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendLeaderboardAroundPlayerResultAdapter extends TypeAdapter<GetFriendLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetFriendLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetFriendLeaderboardAroundPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, playerLeaderboardEntryAdapter);
+            }
+            if (value.NextReset != null) {
+                out.name("NextReset");
+                dateAdapter.write(out, value.NextReset);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetFriendLeaderboardAroundPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardAroundPlayerResult value = new GetFriendLeaderboardAroundPlayerResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, playerLeaderboardEntryAdapter); break;
+                    case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendLeaderboardRequestAdapter extends TypeAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IncludeFacebookFriends != null) {
+                out.name("IncludeFacebookFriends");
+                out.value(value.IncludeFacebookFriends.booleanValue());
+            }
+            if (value.IncludeSteamFriends != null) {
+                out.name("IncludeSteamFriends");
+                out.value(value.IncludeSteamFriends.booleanValue());
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public GetFriendLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardRequest value = new GetFriendLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendsListRequestAdapter extends TypeAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendsListRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IncludeFacebookFriends != null) {
+                out.name("IncludeFacebookFriends");
+                out.value(value.IncludeFacebookFriends.booleanValue());
+            }
+            if (value.IncludeSteamFriends != null) {
+                out.name("IncludeSteamFriends");
+                out.value(value.IncludeSteamFriends.booleanValue());
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public GetFriendsListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListRequest value = new GetFriendsListRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendsListResultAdapter extends TypeAdapter<GetFriendsListResult> {
+        private final TypeAdapter<FriendInfo> friendInfoAdapter;
+
+        GetFriendsListResultAdapter(Gson gson) {
+            friendInfoAdapter = gson.getAdapter(FriendInfo.class);
+        }
+
+        public void write(JsonWriter out, GetFriendsListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Friends != null) {
+                out.name("Friends");
+                PlayFabModelAdapters.writeList(out, value.Friends, friendInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetFriendsListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListResult value = new GetFriendsListResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Friends": value.Friends = PlayFabModelAdapters.readList(in, friendInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterRequestAdapter extends TypeAdapter<GetLeaderboardAroundCharacterRequest> {
+        GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterRequest value = new GetLeaderboardAroundCharacterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterResultAdapter extends TypeAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterResult value = new GetLeaderboardAroundCharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundPlayerRequestAdapter extends TypeAdapter<GetLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundPlayerRequest value = new GetLeaderboardAroundPlayerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundPlayerResultAdapter extends TypeAdapter<GetLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, playerLeaderboardEntryAdapter);
+            }
+            if (value.NextReset != null) {
+                out.name("NextReset");
+                dateAdapter.write(out, value.NextReset);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundPlayerResult value = new GetLeaderboardAroundPlayerResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, playerLeaderboardEntryAdapter); break;
+                    case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersRequestAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersRequest> {
+        GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardForUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersRequest value = new GetLeaderboardForUsersCharactersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersResultAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardForUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersResult value = new GetLeaderboardForUsersCharactersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardRequestAdapter extends TypeAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardRequest value = new GetLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardResultAdapter extends TypeAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, playerLeaderboardEntryAdapter);
+            }
+            if (value.NextReset != null) {
+                out.name("NextReset");
+                dateAdapter.write(out, value.NextReset);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardResult value = new GetLeaderboardResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, playerLeaderboardEntryAdapter); break;
+                    case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPaymentTokenRequestAdapter extends TypeAdapter<GetPaymentTokenRequest> {
+        GetPaymentTokenRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPaymentTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TokenProvider != null) {
+                out.name("TokenProvider");
+                out.value(value.TokenProvider);
+            }
+            out.endObject();
+        }
+
+        public GetPaymentTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPaymentTokenRequest value = new GetPaymentTokenRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TokenProvider": value.TokenProvider = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPaymentTokenResultAdapter extends TypeAdapter<GetPaymentTokenResult> {
+        GetPaymentTokenResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPaymentTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.ProviderToken != null) {
+                out.name("ProviderToken");
+                out.value(value.ProviderToken);
+            }
+            out.endObject();
+        }
+
+        public GetPaymentTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPaymentTokenResult value = new GetPaymentTokenResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "ProviderToken": value.ProviderToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPhotonAuthenticationTokenRequestAdapter extends TypeAdapter<GetPhotonAuthenticationTokenRequest> {
+        GetPhotonAuthenticationTokenRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPhotonAuthenticationTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PhotonApplicationId != null) {
+                out.name("PhotonApplicationId");
+                out.value(value.PhotonApplicationId);
+            }
+            out.endObject();
+        }
+
+        public GetPhotonAuthenticationTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPhotonAuthenticationTokenRequest value = new GetPhotonAuthenticationTokenRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PhotonApplicationId": value.PhotonApplicationId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPhotonAuthenticationTokenResultAdapter extends TypeAdapter<GetPhotonAuthenticationTokenResult> {
+        GetPhotonAuthenticationTokenResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPhotonAuthenticationTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PhotonCustomAuthenticationToken != null) {
+                out.name("PhotonCustomAuthenticationToken");
+                out.value(value.PhotonCustomAuthenticationToken);
+            }
+            out.endObject();
+        }
+
+        public GetPhotonAuthenticationTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPhotonAuthenticationTokenResult value = new GetPhotonAuthenticationTokenResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PhotonCustomAuthenticationToken": value.PhotonCustomAuthenticationToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestAdapter extends TypeAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequest value = new GetPlayerCombinedInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestParamsAdapter extends TypeAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GetCharacterInventories != null) {
+                out.name("GetCharacterInventories");
+                out.value(value.GetCharacterInventories.booleanValue());
+            }
+            if (value.GetCharacterList != null) {
+                out.name("GetCharacterList");
+                out.value(value.GetCharacterList.booleanValue());
+            }
+            if (value.GetPlayerProfile != null) {
+                out.name("GetPlayerProfile");
+                out.value(value.GetPlayerProfile.booleanValue());
+            }
+            if (value.GetPlayerStatistics != null) {
+                out.name("GetPlayerStatistics");
+                out.value(value.GetPlayerStatistics.booleanValue());
+            }
+            if (value.GetTitleData != null) {
+                out.name("GetTitleData");
+                out.value(value.GetTitleData.booleanValue());
+            }
+            if (value.GetUserAccountInfo != null) {
+                out.name("GetUserAccountInfo");
+                out.value(value.GetUserAccountInfo.booleanValue());
+            }
+            if (value.GetUserData != null) {
+                out.name("GetUserData");
+                out.value(value.GetUserData.booleanValue());
+            }
+            if (value.GetUserInventory != null) {
+                out.name("GetUserInventory");
+                out.value(value.GetUserInventory.booleanValue());
+            }
+            if (value.GetUserReadOnlyData != null) {
+                out.name("GetUserReadOnlyData");
+                out.value(value.GetUserReadOnlyData.booleanValue());
+            }
+            if (value.GetUserVirtualCurrency != null) {
+                out.name("GetUserVirtualCurrency");
+                out.value(value.GetUserVirtualCurrency.booleanValue());
+            }
+            if (value.PlayerStatisticNames != null) {
+                out.name("PlayerStatisticNames");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatisticNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.TitleDataKeys != null) {
+                out.name("TitleDataKeys");
+                PlayFabModelAdapters.writeList(out, value.TitleDataKeys, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserDataKeys != null) {
+                out.name("UserDataKeys");
+                PlayFabModelAdapters.writeList(out, value.UserDataKeys, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserReadOnlyDataKeys != null) {
+                out.name("UserReadOnlyDataKeys");
+                PlayFabModelAdapters.writeList(out, value.UserReadOnlyDataKeys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoRequestParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequestParams value = new GetPlayerCombinedInfoRequestParams();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GetCharacterInventories": value.GetCharacterInventories = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetCharacterList": value.GetCharacterList = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetPlayerProfile": value.GetPlayerProfile = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetPlayerStatistics": value.GetPlayerStatistics = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetTitleData": value.GetTitleData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserAccountInfo": value.GetUserAccountInfo = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserData": value.GetUserData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserInventory": value.GetUserInventory = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserReadOnlyData": value.GetUserReadOnlyData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerStatisticNames": value.PlayerStatisticNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "TitleDataKeys": value.TitleDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "UserDataKeys": value.UserDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultAdapter extends TypeAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.InfoResultPayload != null) {
+                out.name("InfoResultPayload");
+                getPlayerCombinedInfoResultPayloadAdapter.write(out, value.InfoResultPayload);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResult value = new GetPlayerCombinedInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultPayloadAdapter extends TypeAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<CharacterInventory> characterInventoryAdapter;
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryAdapter = gson.getAdapter(CharacterInventory.class);
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccountInfo != null) {
+                out.name("AccountInfo");
+                userAccountInfoAdapter.write(out, value.AccountInfo);
+            }
+            if (value.CharacterInventories != null) {
+                out.name("CharacterInventories");
+                PlayFabModelAdapters.writeList(out, value.CharacterInventories, characterInventoryAdapter);
+            }
+            if (value.CharacterList != null) {
+                out.name("CharacterList");
+                PlayFabModelAdapters.writeList(out, value.CharacterList, characterResultAdapter);
+            }
+            if (value.PlayerProfile != null) {
+                out.name("PlayerProfile");
+                playerProfileModelAdapter.write(out, value.PlayerProfile);
+            }
+            if (value.PlayerStatistics != null) {
+                out.name("PlayerStatistics");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatistics, statisticValueAdapter);
+            }
+            if (value.TitleData != null) {
+                out.name("TitleData");
+                PlayFabModelAdapters.writeMap(out, value.TitleData, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserData != null) {
+                out.name("UserData");
+                PlayFabModelAdapters.writeMap(out, value.UserData, userDataRecordAdapter);
+            }
+            if (value.UserDataVersion != null) {
+                out.name("UserDataVersion");
+                out.value(value.UserDataVersion);
+            }
+            if (value.UserInventory != null) {
+                out.name("UserInventory");
+                PlayFabModelAdapters.writeList(out, value.UserInventory, itemInstanceAdapter);
+            }
+            if (value.UserReadOnlyData != null) {
+                out.name("UserReadOnlyData");
+                PlayFabModelAdapters.writeMap(out, value.UserReadOnlyData, userDataRecordAdapter);
+            }
+            if (value.UserReadOnlyDataVersion != null) {
+                out.name("UserReadOnlyDataVersion");
+                out.value(value.UserReadOnlyDataVersion);
+            }
+            if (value.UserVirtualCurrency != null) {
+                out.name("UserVirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.UserVirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.UserVirtualCurrencyRechargeTimes != null) {
+                out.name("UserVirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoResultPayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResultPayload value = new GetPlayerCombinedInfoResultPayload();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                    case "CharacterInventories": value.CharacterInventories = PlayFabModelAdapters.readList(in, characterInventoryAdapter); break;
+                    case "CharacterList": value.CharacterList = PlayFabModelAdapters.readList(in, characterResultAdapter); break;
+                    case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                    case "PlayerStatistics": value.PlayerStatistics = PlayFabModelAdapters.readList(in, statisticValueAdapter); break;
+                    case "TitleData": value.TitleData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "UserData": value.UserData = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "UserDataVersion": value.UserDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "UserInventory": value.UserInventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "UserReadOnlyData": value.UserReadOnlyData = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "UserVirtualCurrency": value.UserVirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerProfile != null) {
+                out.name("PlayerProfile");
+                playerProfileModelAdapter.write(out, value.PlayerProfile);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSegmentsRequestAdapter extends TypeAdapter<GetPlayerSegmentsRequest> {
+        GetPlayerSegmentsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetPlayerSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsRequest value = new GetPlayerSegmentsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Segments != null) {
+                out.name("Segments");
+                PlayFabModelAdapters.writeList(out, value.Segments, getSegmentResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Segments": value.Segments = PlayFabModelAdapters.readList(in, getSegmentResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticsRequestAdapter extends TypeAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<StatisticNameVersion> statisticNameVersionAdapter;
+
+        GetPlayerStatisticsRequestAdapter(Gson gson) {
+            statisticNameVersionAdapter = gson.getAdapter(StatisticNameVersion.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticNames != null) {
+                out.name("StatisticNames");
+                PlayFabModelAdapters.writeList(out, value.StatisticNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.StatisticNameVersions != null) {
+                out.name("StatisticNameVersions");
+                PlayFabModelAdapters.writeList(out, value.StatisticNameVersions, statisticNameVersionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsRequest value = new GetPlayerStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticNames": value.StatisticNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "StatisticNameVersions": value.StatisticNameVersions = PlayFabModelAdapters.readList(in, statisticNameVersionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticsResultAdapter extends TypeAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+
+        GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticValueAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsResult value = new GetPlayerStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticValueAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticVersions != null) {
+                out.name("StatisticVersions");
+                PlayFabModelAdapters.writeList(out, value.StatisticVersions, playerStatisticVersionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticVersions": value.StatisticVersions = PlayFabModelAdapters.readList(in, playerStatisticVersionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        GetPlayerTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Namespace != null) {
+                out.name("Namespace");
+                out.value(value.Namespace);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Namespace": value.Namespace = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        GetPlayerTagsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTradesRequestAdapter extends TypeAdapter<GetPlayerTradesRequest> {
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        GetPlayerTradesRequestAdapter(Gson gson) {
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerTradesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatusFilter != null) {
+                out.name("StatusFilter");
+                tradeStatusAdapter.write(out, value.StatusFilter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTradesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTradesRequest value = new GetPlayerTradesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatusFilter": value.StatusFilter = tradeStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTradesResponseAdapter extends TypeAdapter<GetPlayerTradesResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        GetPlayerTradesResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerTradesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AcceptedTrades != null) {
+                out.name("AcceptedTrades");
+                PlayFabModelAdapters.writeList(out, value.AcceptedTrades, tradeInfoAdapter);
+            }
+            if (value.OpenedTrades != null) {
+                out.name("OpenedTrades");
+                PlayFabModelAdapters.writeList(out, value.OpenedTrades, tradeInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTradesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTradesResponse value = new GetPlayerTradesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AcceptedTrades": value.AcceptedTrades = PlayFabModelAdapters.readList(in, tradeInfoAdapter); break;
+                    case "OpenedTrades": value.OpenedTrades = PlayFabModelAdapters.readList(in, tradeInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookIDs != null) {
+                out.name("FacebookIDs");
+                PlayFabModelAdapters.writeList(out, value.FacebookIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsRequest value = new GetPlayFabIDsFromFacebookIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookIDs": value.FacebookIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<FacebookPlayFabIdPair> facebookPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairAdapter = gson.getAdapter(FacebookPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, facebookPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsResult value = new GetPlayFabIDsFromFacebookIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, facebookPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesIds != null) {
+                out.name("FacebookInstantGamesIds");
+                PlayFabModelAdapters.writeList(out, value.FacebookInstantGamesIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookInstantGamesIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsRequest value = new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<FacebookInstantGamesPlayFabIdPair> facebookInstantGamesPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairAdapter = gson.getAdapter(FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, facebookInstantGamesPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookInstantGamesIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsResult value = new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, facebookInstantGamesPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGameCenterIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGameCenterIDsRequest> {
+        GetPlayFabIDsFromGameCenterIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGameCenterIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCenterIDs != null) {
+                out.name("GameCenterIDs");
+                PlayFabModelAdapters.writeList(out, value.GameCenterIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGameCenterIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGameCenterIDsRequest value = new GetPlayFabIDsFromGameCenterIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCenterIDs": value.GameCenterIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGameCenterIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGameCenterIDsResult> {
+        private final TypeAdapter<GameCenterPlayFabIdPair> gameCenterPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromGameCenterIDsResultAdapter(Gson gson) {
+            gameCenterPlayFabIdPairAdapter = gson.getAdapter(GameCenterPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGameCenterIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, gameCenterPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGameCenterIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGameCenterIDsResult value = new GetPlayFabIDsFromGameCenterIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, gameCenterPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        GetPlayFabIDsFromGenericIDsRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GenericIDs != null) {
+                out.name("GenericIDs");
+                PlayFabModelAdapters.writeList(out, value.GenericIDs, genericServiceIdAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGenericIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsRequest value = new GetPlayFabIDsFromGenericIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GenericIDs": value.GenericIDs = PlayFabModelAdapters.readList(in, genericServiceIdAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsResult> {
+        private final TypeAdapter<GenericPlayFabIdPair> genericPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromGenericIDsResultAdapter(Gson gson) {
+            genericPlayFabIdPairAdapter = gson.getAdapter(GenericPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, genericPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGenericIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsResult value = new GetPlayFabIDsFromGenericIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, genericPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGoogleIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGoogleIDsRequest> {
+        GetPlayFabIDsFromGoogleIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGoogleIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GoogleIDs != null) {
+                out.name("GoogleIDs");
+                PlayFabModelAdapters.writeList(out, value.GoogleIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGoogleIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGoogleIDsRequest value = new GetPlayFabIDsFromGoogleIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GoogleIDs": value.GoogleIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromGoogleIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGoogleIDsResult> {
+        private final TypeAdapter<GooglePlayFabIdPair> googlePlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromGoogleIDsResultAdapter(Gson gson) {
+            googlePlayFabIdPairAdapter = gson.getAdapter(GooglePlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromGoogleIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, googlePlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromGoogleIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGoogleIDsResult value = new GetPlayFabIDsFromGoogleIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, googlePlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromKongregateIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromKongregateIDsRequest> {
+        GetPlayFabIDsFromKongregateIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromKongregateIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.KongregateIDs != null) {
+                out.name("KongregateIDs");
+                PlayFabModelAdapters.writeList(out, value.KongregateIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromKongregateIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromKongregateIDsRequest value = new GetPlayFabIDsFromKongregateIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "KongregateIDs": value.KongregateIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromKongregateIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromKongregateIDsResult> {
+        private final TypeAdapter<KongregatePlayFabIdPair> kongregatePlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromKongregateIDsResultAdapter(Gson gson) {
+            kongregatePlayFabIdPairAdapter = gson.getAdapter(KongregatePlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromKongregateIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, kongregatePlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromKongregateIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromKongregateIDsResult value = new GetPlayFabIDsFromKongregateIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, kongregatePlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceIds != null) {
+                out.name("NintendoSwitchDeviceIds");
+                PlayFabModelAdapters.writeList(out, value.NintendoSwitchDeviceIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<NintendoSwitchPlayFabIdPair> nintendoSwitchPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairAdapter = gson.getAdapter(NintendoSwitchPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, nintendoSwitchPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, nintendoSwitchPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SteamStringIDs != null) {
+                out.name("SteamStringIDs");
+                PlayFabModelAdapters.writeList(out, value.SteamStringIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromSteamIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsRequest value = new GetPlayFabIDsFromSteamIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SteamStringIDs": value.SteamStringIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<SteamPlayFabIdPair> steamPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairAdapter = gson.getAdapter(SteamPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, steamPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromSteamIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsResult value = new GetPlayFabIDsFromSteamIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, steamPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromTwitchIDsRequest> {
+        GetPlayFabIDsFromTwitchIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TwitchIds != null) {
+                out.name("TwitchIds");
+                PlayFabModelAdapters.writeList(out, value.TwitchIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromTwitchIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromTwitchIDsRequest value = new GetPlayFabIDsFromTwitchIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TwitchIds": value.TwitchIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromTwitchIDsResult> {
+        private final TypeAdapter<TwitchPlayFabIdPair> twitchPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromTwitchIDsResultAdapter(Gson gson) {
+            twitchPlayFabIdPairAdapter = gson.getAdapter(TwitchPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, twitchPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromTwitchIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromTwitchIDsResult value = new GetPlayFabIDsFromTwitchIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, twitchPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        GetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        GetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPurchaseRequestAdapter extends TypeAdapter<GetPurchaseRequest> {
+        GetPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            out.endObject();
+        }
+
+        public GetPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPurchaseRequest value = new GetPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPurchaseResultAdapter extends TypeAdapter<GetPurchaseResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetPurchaseResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.PaymentProvider != null) {
+                out.name("PaymentProvider");
+                out.value(value.PaymentProvider);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.TransactionId != null) {
+                out.name("TransactionId");
+                out.value(value.TransactionId);
+            }
+            if (value.TransactionStatus != null) {
+                out.name("TransactionStatus");
+                out.value(value.TransactionStatus);
+            }
+            out.endObject();
+        }
+
+        public GetPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPurchaseResult value = new GetPurchaseResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "PaymentProvider": value.PaymentProvider = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "TransactionId": value.TransactionId = PlayFabModelAdapters.readString(in); break;
+                    case "TransactionStatus": value.TransactionStatus = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ABTestParent != null) {
+                out.name("ABTestParent");
+                out.value(value.ABTestParent);
+            }
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            out.endObject();
+        }
+
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ABTestParent": value.ABTestParent = PlayFabModelAdapters.readString(in); break;
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSharedGroupDataRequestAdapter extends TypeAdapter<GetSharedGroupDataRequest> {
+        GetSharedGroupDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GetMembers != null) {
+                out.name("GetMembers");
+                out.value(value.GetMembers.booleanValue());
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public GetSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataRequest value = new GetSharedGroupDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GetMembers": value.GetMembers = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSharedGroupDataResultAdapter extends TypeAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<SharedGroupDataRecord> sharedGroupDataRecordAdapter;
+
+        GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordAdapter = gson.getAdapter(SharedGroupDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, sharedGroupDataRecordAdapter);
+            }
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataResult value = new GetSharedGroupDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, sharedGroupDataRecordAdapter); break;
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetStoreItemsRequestAdapter extends TypeAdapter<GetStoreItemsRequest> {
+        GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public GetStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsRequest value = new GetStoreItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetStoreItemsResultAdapter extends TypeAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        public void write(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.MarketingData != null) {
+                out.name("MarketingData");
+                storeMarketingModelAdapter.write(out, value.MarketingData);
+            }
+            if (value.Source != null) {
+                out.name("Source");
+                sourceTypeAdapter.write(out, value.Source);
+            }
+            if (value.Store != null) {
+                out.name("Store");
+                PlayFabModelAdapters.writeList(out, value.Store, storeItemAdapter);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public GetStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsResult value = new GetStoreItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                    case "Source": value.Source = sourceTypeAdapter.read(in); break;
+                    case "Store": value.Store = PlayFabModelAdapters.readList(in, storeItemAdapter); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTimeRequestAdapter extends TypeAdapter<GetTimeRequest> {
+        GetTimeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTimeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetTimeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeRequest value = new GetTimeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTimeResultAdapter extends TypeAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetTimeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Time != null) {
+                out.name("Time");
+                dateAdapter.write(out, value.Time);
+            }
+            out.endObject();
+        }
+
+        public GetTimeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeResult value = new GetTimeResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Time": value.Time = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        GetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        GetTitleDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleNewsRequestAdapter extends TypeAdapter<GetTitleNewsRequest> {
+        GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Count != null) {
+                out.name("Count");
+                out.value(value.Count);
+            }
+            out.endObject();
+        }
+
+        public GetTitleNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsRequest value = new GetTitleNewsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Count": value.Count = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleNewsResultAdapter extends TypeAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<TitleNewsItem> titleNewsItemAdapter;
+
+        GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemAdapter = gson.getAdapter(TitleNewsItem.class);
+        }
+
+        public void write(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.News != null) {
+                out.name("News");
+                PlayFabModelAdapters.writeList(out, value.News, titleNewsItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetTitleNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsResult value = new GetTitleNewsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "News": value.News = PlayFabModelAdapters.readList(in, titleNewsItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitlePublicKeyRequestAdapter extends TypeAdapter<GetTitlePublicKeyRequest> {
+        GetTitlePublicKeyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitlePublicKeyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TitleSharedSecret != null) {
+                out.name("TitleSharedSecret");
+                out.value(value.TitleSharedSecret);
+            }
+            out.endObject();
+        }
+
+        public GetTitlePublicKeyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePublicKeyRequest value = new GetTitlePublicKeyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleSharedSecret": value.TitleSharedSecret = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitlePublicKeyResultAdapter extends TypeAdapter<GetTitlePublicKeyResult> {
+        GetTitlePublicKeyResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitlePublicKeyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RSAPublicKey != null) {
+                out.name("RSAPublicKey");
+                out.value(value.RSAPublicKey);
+            }
+            out.endObject();
+        }
+
+        public GetTitlePublicKeyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePublicKeyResult value = new GetTitlePublicKeyResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RSAPublicKey": value.RSAPublicKey = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTradeStatusRequestAdapter extends TypeAdapter<GetTradeStatusRequest> {
+        GetTradeStatusRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTradeStatusRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OfferingPlayerId != null) {
+                out.name("OfferingPlayerId");
+                out.value(value.OfferingPlayerId);
+            }
+            if (value.TradeId != null) {
+                out.name("TradeId");
+                out.value(value.TradeId);
+            }
+            out.endObject();
+        }
+
+        public GetTradeStatusRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTradeStatusRequest value = new GetTradeStatusRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OfferingPlayerId": value.OfferingPlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "TradeId": value.TradeId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTradeStatusResponseAdapter extends TypeAdapter<GetTradeStatusResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        GetTradeStatusResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        public void write(JsonWriter out, GetTradeStatusResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Trade != null) {
+                out.name("Trade");
+                tradeInfoAdapter.write(out, value.Trade);
+            }
+            out.endObject();
+        }
+
+        public GetTradeStatusResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTradeStatusResponse value = new GetTradeStatusResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        GetUserDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IfChangedFromDataVersion != null) {
+                out.name("IfChangedFromDataVersion");
+                out.value(value.IfChangedFromDataVersion);
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, userDataRecordAdapter);
+            }
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        GetUserInventoryRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetWindowsHelloChallengeRequestAdapter extends TypeAdapter<GetWindowsHelloChallengeRequest> {
+        GetWindowsHelloChallengeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetWindowsHelloChallengeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PublicKeyHint != null) {
+                out.name("PublicKeyHint");
+                out.value(value.PublicKeyHint);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public GetWindowsHelloChallengeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetWindowsHelloChallengeRequest value = new GetWindowsHelloChallengeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PublicKeyHint": value.PublicKeyHint = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetWindowsHelloChallengeResponseAdapter extends TypeAdapter<GetWindowsHelloChallengeResponse> {
+        GetWindowsHelloChallengeResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetWindowsHelloChallengeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Challenge != null) {
+                out.name("Challenge");
+                out.value(value.Challenge);
+            }
+            out.endObject();
+        }
+
+        public GetWindowsHelloChallengeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetWindowsHelloChallengeResponse value = new GetWindowsHelloChallengeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Challenge": value.Challenge = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GooglePlayFabIdPairAdapter extends TypeAdapter<GooglePlayFabIdPair> {
+        GooglePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GooglePlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GoogleId != null) {
+                out.name("GoogleId");
+                out.value(value.GoogleId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GooglePlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GooglePlayFabIdPair value = new GooglePlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GoogleId": value.GoogleId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantCharacterToUserRequestAdapter extends TypeAdapter<GrantCharacterToUserRequest> {
+        GrantCharacterToUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            out.endObject();
+        }
+
+        public GrantCharacterToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserRequest value = new GrantCharacterToUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantCharacterToUserResultAdapter extends TypeAdapter<GrantCharacterToUserResult> {
+        GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.Result != null) {
+                out.name("Result");
+                out.value(value.Result.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public GrantCharacterToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserResult value = new GrantCharacterToUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "Result": value.Result = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemPurchaseRequestAdapter extends TypeAdapter<ItemPurchaseRequest> {
+        ItemPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ItemPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.Quantity != null) {
+                out.name("Quantity");
+                out.value(value.Quantity);
+            }
+            if (value.UpgradeFromItems != null) {
+                out.name("UpgradeFromItems");
+                PlayFabModelAdapters.writeList(out, value.UpgradeFromItems, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public ItemPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemPurchaseRequest value = new ItemPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "Quantity": value.Quantity = PlayFabModelAdapters.readLong(in); break;
+                    case "UpgradeFromItems": value.UpgradeFromItems = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class KongregatePlayFabIdPairAdapter extends TypeAdapter<KongregatePlayFabIdPair> {
+        KongregatePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, KongregatePlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public KongregatePlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            KongregatePlayFabIdPair value = new KongregatePlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkAndroidDeviceIDRequestAdapter extends TypeAdapter<LinkAndroidDeviceIDRequest> {
+        LinkAndroidDeviceIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDevice != null) {
+                out.name("AndroidDevice");
+                out.value(value.AndroidDevice);
+            }
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.OS != null) {
+                out.name("OS");
+                out.value(value.OS);
+            }
+            out.endObject();
+        }
+
+        public LinkAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkAndroidDeviceIDRequest value = new LinkAndroidDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDevice": value.AndroidDevice = PlayFabModelAdapters.readString(in); break;
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "OS": value.OS = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkAndroidDeviceIDResultAdapter extends TypeAdapter<LinkAndroidDeviceIDResult> {
+        LinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkAndroidDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkAndroidDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkAndroidDeviceIDResult value = new LinkAndroidDeviceIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkCustomIDRequestAdapter extends TypeAdapter<LinkCustomIDRequest> {
+        LinkCustomIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public LinkCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkCustomIDRequest value = new LinkCustomIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkCustomIDResultAdapter extends TypeAdapter<LinkCustomIDResult> {
+        LinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkCustomIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkCustomIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkCustomIDResult value = new LinkCustomIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                loginIdentityProviderAdapter.write(out, value.Platform);
+            }
+            if (value.PlatformUserId != null) {
+                out.name("PlatformUserId");
+                out.value(value.PlatformUserId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                    case "PlatformUserId": value.PlatformUserId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkFacebookAccountRequestAdapter extends TypeAdapter<LinkFacebookAccountRequest> {
+        LinkFacebookAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkFacebookAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccessToken != null) {
+                out.name("AccessToken");
+                out.value(value.AccessToken);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public LinkFacebookAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookAccountRequest value = new LinkFacebookAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccessToken": value.AccessToken = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkFacebookAccountResultAdapter extends TypeAdapter<LinkFacebookAccountResult> {
+        LinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkFacebookAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkFacebookAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookAccountResult value = new LinkFacebookAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkFacebookInstantGamesIdRequestAdapter extends TypeAdapter<LinkFacebookInstantGamesIdRequest> {
+        LinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesSignature != null) {
+                out.name("FacebookInstantGamesSignature");
+                out.value(value.FacebookInstantGamesSignature);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public LinkFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookInstantGamesIdRequest value = new LinkFacebookInstantGamesIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkFacebookInstantGamesIdResultAdapter extends TypeAdapter<LinkFacebookInstantGamesIdResult> {
+        LinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkFacebookInstantGamesIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkFacebookInstantGamesIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookInstantGamesIdResult value = new LinkFacebookInstantGamesIdResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkGameCenterAccountRequestAdapter extends TypeAdapter<LinkGameCenterAccountRequest> {
+        LinkGameCenterAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkGameCenterAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.GameCenterId != null) {
+                out.name("GameCenterId");
+                out.value(value.GameCenterId);
+            }
+            out.endObject();
+        }
+
+        public LinkGameCenterAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGameCenterAccountRequest value = new LinkGameCenterAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GameCenterId": value.GameCenterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkGameCenterAccountResultAdapter extends TypeAdapter<LinkGameCenterAccountResult> {
+        LinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkGameCenterAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkGameCenterAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGameCenterAccountResult value = new LinkGameCenterAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkGoogleAccountRequestAdapter extends TypeAdapter<LinkGoogleAccountRequest> {
+        LinkGoogleAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.ServerAuthCode != null) {
+                out.name("ServerAuthCode");
+                out.value(value.ServerAuthCode);
+            }
+            out.endObject();
+        }
+
+        public LinkGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGoogleAccountRequest value = new LinkGoogleAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ServerAuthCode": value.ServerAuthCode = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkGoogleAccountResultAdapter extends TypeAdapter<LinkGoogleAccountResult> {
+        LinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkGoogleAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkGoogleAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGoogleAccountResult value = new LinkGoogleAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkIOSDeviceIDRequestAdapter extends TypeAdapter<LinkIOSDeviceIDRequest> {
+        LinkIOSDeviceIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DeviceId != null) {
+                out.name("DeviceId");
+                out.value(value.DeviceId);
+            }
+            if (value.DeviceModel != null) {
+                out.name("DeviceModel");
+                out.value(value.DeviceModel);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.OS != null) {
+                out.name("OS");
+                out.value(value.OS);
+            }
+            out.endObject();
+        }
+
+        public LinkIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkIOSDeviceIDRequest value = new LinkIOSDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DeviceId": value.DeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "DeviceModel": value.DeviceModel = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "OS": value.OS = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkIOSDeviceIDResultAdapter extends TypeAdapter<LinkIOSDeviceIDResult> {
+        LinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkIOSDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkIOSDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkIOSDeviceIDResult value = new LinkIOSDeviceIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkKongregateAccountRequestAdapter extends TypeAdapter<LinkKongregateAccountRequest> {
+        LinkKongregateAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkKongregateAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AuthTicket != null) {
+                out.name("AuthTicket");
+                out.value(value.AuthTicket);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            out.endObject();
+        }
+
+        public LinkKongregateAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkKongregateAccountRequest value = new LinkKongregateAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AuthTicket": value.AuthTicket = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkKongregateAccountResultAdapter extends TypeAdapter<LinkKongregateAccountResult> {
+        LinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkKongregateAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkKongregateAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkKongregateAccountResult value = new LinkKongregateAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<LinkNintendoSwitchDeviceIdRequest> {
+        LinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            out.endObject();
+        }
+
+        public LinkNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkNintendoSwitchDeviceIdRequest value = new LinkNintendoSwitchDeviceIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdResultAdapter extends TypeAdapter<LinkNintendoSwitchDeviceIdResult> {
+        LinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkNintendoSwitchDeviceIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkNintendoSwitchDeviceIdResult value = new LinkNintendoSwitchDeviceIdResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkSteamAccountRequestAdapter extends TypeAdapter<LinkSteamAccountRequest> {
+        LinkSteamAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkSteamAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.SteamTicket != null) {
+                out.name("SteamTicket");
+                out.value(value.SteamTicket);
+            }
+            out.endObject();
+        }
+
+        public LinkSteamAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkSteamAccountRequest value = new LinkSteamAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "SteamTicket": value.SteamTicket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkSteamAccountResultAdapter extends TypeAdapter<LinkSteamAccountResult> {
+        LinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkSteamAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkSteamAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkSteamAccountResult value = new LinkSteamAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkTwitchAccountRequestAdapter extends TypeAdapter<LinkTwitchAccountRequest> {
+        LinkTwitchAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkTwitchAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccessToken != null) {
+                out.name("AccessToken");
+                out.value(value.AccessToken);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public LinkTwitchAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkTwitchAccountRequest value = new LinkTwitchAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccessToken": value.AccessToken = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkTwitchAccountResultAdapter extends TypeAdapter<LinkTwitchAccountResult> {
+        LinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkTwitchAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkTwitchAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkTwitchAccountResult value = new LinkTwitchAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkWindowsHelloAccountRequestAdapter extends TypeAdapter<LinkWindowsHelloAccountRequest> {
+        LinkWindowsHelloAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkWindowsHelloAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DeviceName != null) {
+                out.name("DeviceName");
+                out.value(value.DeviceName);
+            }
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.PublicKey != null) {
+                out.name("PublicKey");
+                out.value(value.PublicKey);
+            }
+            if (value.UserName != null) {
+                out.name("UserName");
+                out.value(value.UserName);
+            }
+            out.endObject();
+        }
+
+        public LinkWindowsHelloAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkWindowsHelloAccountRequest value = new LinkWindowsHelloAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DeviceName": value.DeviceName = PlayFabModelAdapters.readString(in); break;
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PublicKey": value.PublicKey = PlayFabModelAdapters.readString(in); break;
+                    case "UserName": value.UserName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkWindowsHelloAccountResponseAdapter extends TypeAdapter<LinkWindowsHelloAccountResponse> {
+        LinkWindowsHelloAccountResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkWindowsHelloAccountResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkWindowsHelloAccountResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkWindowsHelloAccountResponse value = new LinkWindowsHelloAccountResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkXboxAccountRequestAdapter extends TypeAdapter<LinkXboxAccountRequest> {
+        LinkXboxAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceLink != null) {
+                out.name("ForceLink");
+                out.value(value.ForceLink.booleanValue());
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public LinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountRequest value = new LinkXboxAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceLink": value.ForceLink = PlayFabModelAdapters.readBoolean(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkXboxAccountResultAdapter extends TypeAdapter<LinkXboxAccountResult> {
+        LinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public LinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountResult value = new LinkXboxAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListUsersCharactersRequestAdapter extends TypeAdapter<ListUsersCharactersRequest> {
+        ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ListUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersRequest value = new ListUsersCharactersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListUsersCharactersResultAdapter extends TypeAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+
+        ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+        }
+
+        public void write(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Characters != null) {
+                out.name("Characters");
+                PlayFabModelAdapters.writeList(out, value.Characters, characterResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersResult value = new ListUsersCharactersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Characters": value.Characters = PlayFabModelAdapters.readList(in, characterResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.City != null) {
+                out.name("City");
+                out.value(value.City);
+            }
+            if (value.ContinentCode != null) {
+                out.name("ContinentCode");
+                continentCodeAdapter.write(out, value.ContinentCode);
+            }
+            if (value.CountryCode != null) {
+                out.name("CountryCode");
+                countryCodeAdapter.write(out, value.CountryCode);
+            }
+            if (value.Latitude != null) {
+                out.name("Latitude");
+                PlayFabModelAdapters.writeDouble(out, value.Latitude);
+            }
+            if (value.Longitude != null) {
+                out.name("Longitude");
+                PlayFabModelAdapters.writeDouble(out, value.Longitude);
+            }
+            out.endObject();
+        }
+
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "City": value.City = PlayFabModelAdapters.readString(in); break;
+                    case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                    case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                    case "Latitude": value.Latitude = PlayFabModelAdapters.readDouble(in); break;
+                    case "Longitude": value.Longitude = PlayFabModelAdapters.readDouble(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginResultAdapter extends TypeAdapter<LoginResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+
+        LoginResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+        }
+
+        public void write(JsonWriter out, LoginResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EntityToken != null) {
+                out.name("EntityToken");
+                entityTokenResponseAdapter.write(out, value.EntityToken);
+            }
+            if (value.InfoResultPayload != null) {
+                out.name("InfoResultPayload");
+                getPlayerCombinedInfoResultPayloadAdapter.write(out, value.InfoResultPayload);
+            }
+            if (value.LastLoginTime != null) {
+                out.name("LastLoginTime");
+                dateAdapter.write(out, value.LastLoginTime);
+            }
+            if (value.NewlyCreated != null) {
+                out.name("NewlyCreated");
+                out.value(value.NewlyCreated.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SessionTicket != null) {
+                out.name("SessionTicket");
+                out.value(value.SessionTicket);
+            }
+            if (value.SettingsForUser != null) {
+                out.name("SettingsForUser");
+                userSettingsAdapter.write(out, value.SettingsForUser);
+            }
+            out.endObject();
+        }
+
+        public LoginResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginResult value = new LoginResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); break;
+                    case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                    case "LastLoginTime": value.LastLoginTime = dateAdapter.read(in); break;
+                    case "NewlyCreated": value.NewlyCreated = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SessionTicket": value.SessionTicket = PlayFabModelAdapters.readString(in); break;
+                    case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithAndroidDeviceIDRequestAdapter extends TypeAdapter<LoginWithAndroidDeviceIDRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithAndroidDeviceIDRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDevice != null) {
+                out.name("AndroidDevice");
+                out.value(value.AndroidDevice);
+            }
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.OS != null) {
+                out.name("OS");
+                out.value(value.OS);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithAndroidDeviceIDRequest value = new LoginWithAndroidDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDevice": value.AndroidDevice = PlayFabModelAdapters.readString(in); break;
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "OS": value.OS = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithCustomIDRequestAdapter extends TypeAdapter<LoginWithCustomIDRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithCustomIDRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithCustomIDRequest value = new LoginWithCustomIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithEmailAddressRequestAdapter extends TypeAdapter<LoginWithEmailAddressRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithEmailAddressRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithEmailAddressRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithEmailAddressRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithEmailAddressRequest value = new LoginWithEmailAddressRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithFacebookInstantGamesIdRequestAdapter extends TypeAdapter<LoginWithFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.FacebookInstantGamesSignature != null) {
+                out.name("FacebookInstantGamesSignature");
+                out.value(value.FacebookInstantGamesSignature);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithFacebookInstantGamesIdRequest value = new LoginWithFacebookInstantGamesIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithFacebookRequestAdapter extends TypeAdapter<LoginWithFacebookRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithFacebookRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithFacebookRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccessToken != null) {
+                out.name("AccessToken");
+                out.value(value.AccessToken);
+            }
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithFacebookRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithFacebookRequest value = new LoginWithFacebookRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccessToken": value.AccessToken = PlayFabModelAdapters.readString(in); break;
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithGameCenterRequestAdapter extends TypeAdapter<LoginWithGameCenterRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithGameCenterRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithGameCenterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithGameCenterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithGameCenterRequest value = new LoginWithGameCenterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithGoogleAccountRequestAdapter extends TypeAdapter<LoginWithGoogleAccountRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithGoogleAccountRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.ServerAuthCode != null) {
+                out.name("ServerAuthCode");
+                out.value(value.ServerAuthCode);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithGoogleAccountRequest value = new LoginWithGoogleAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "ServerAuthCode": value.ServerAuthCode = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithIOSDeviceIDRequestAdapter extends TypeAdapter<LoginWithIOSDeviceIDRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithIOSDeviceIDRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.DeviceId != null) {
+                out.name("DeviceId");
+                out.value(value.DeviceId);
+            }
+            if (value.DeviceModel != null) {
+                out.name("DeviceModel");
+                out.value(value.DeviceModel);
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.OS != null) {
+                out.name("OS");
+                out.value(value.OS);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithIOSDeviceIDRequest value = new LoginWithIOSDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "DeviceId": value.DeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "DeviceModel": value.DeviceModel = PlayFabModelAdapters.readString(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "OS": value.OS = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithKongregateRequestAdapter extends TypeAdapter<LoginWithKongregateRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithKongregateRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithKongregateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AuthTicket != null) {
+                out.name("AuthTicket");
+                out.value(value.AuthTicket);
+            }
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithKongregateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithKongregateRequest value = new LoginWithKongregateRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AuthTicket": value.AuthTicket = PlayFabModelAdapters.readString(in); break;
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<LoginWithNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithNintendoSwitchDeviceIdRequest value = new LoginWithNintendoSwitchDeviceIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithPlayFabRequestAdapter extends TypeAdapter<LoginWithPlayFabRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithPlayFabRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithPlayFabRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public LoginWithPlayFabRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithPlayFabRequest value = new LoginWithPlayFabRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithSteamRequestAdapter extends TypeAdapter<LoginWithSteamRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithSteamRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithSteamRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.SteamTicket != null) {
+                out.name("SteamTicket");
+                out.value(value.SteamTicket);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithSteamRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithSteamRequest value = new LoginWithSteamRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "SteamTicket": value.SteamTicket = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithTwitchRequestAdapter extends TypeAdapter<LoginWithTwitchRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithTwitchRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithTwitchRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccessToken != null) {
+                out.name("AccessToken");
+                out.value(value.AccessToken);
+            }
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithTwitchRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithTwitchRequest value = new LoginWithTwitchRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccessToken": value.AccessToken = PlayFabModelAdapters.readString(in); break;
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithWindowsHelloRequestAdapter extends TypeAdapter<LoginWithWindowsHelloRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithWindowsHelloRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithWindowsHelloRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ChallengeSignature != null) {
+                out.name("ChallengeSignature");
+                out.value(value.ChallengeSignature);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PublicKeyHint != null) {
+                out.name("PublicKeyHint");
+                out.value(value.PublicKeyHint);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public LoginWithWindowsHelloRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithWindowsHelloRequest value = new LoginWithWindowsHelloRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ChallengeSignature": value.ChallengeSignature = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PublicKeyHint": value.PublicKeyHint = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LoginWithXboxRequestAdapter extends TypeAdapter<LoginWithXboxRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithXboxRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, LoginWithXboxRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreateAccount != null) {
+                out.name("CreateAccount");
+                out.value(value.CreateAccount.booleanValue());
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public LoginWithXboxRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithXboxRequest value = new LoginWithXboxRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreateAccount": value.CreateAccount = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                objectAdapter.write(out, value.Data);
+            }
+            if (value.Level != null) {
+                out.name("Level");
+                out.value(value.Level);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            out.endObject();
+        }
+
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = objectAdapter.read(in); break;
+                    case "Level": value.Level = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MatchmakeRequestAdapter extends TypeAdapter<MatchmakeRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<CollectionFilter> collectionFilterAdapter;
+
+        MatchmakeRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            collectionFilterAdapter = gson.getAdapter(CollectionFilter.class);
+        }
+
+        public void write(JsonWriter out, MatchmakeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.StartNewIfNoneFound != null) {
+                out.name("StartNewIfNoneFound");
+                out.value(value.StartNewIfNoneFound.booleanValue());
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.TagFilter != null) {
+                out.name("TagFilter");
+                collectionFilterAdapter.write(out, value.TagFilter);
+            }
+            out.endObject();
+        }
+
+        public MatchmakeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakeRequest value = new MatchmakeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "StartNewIfNoneFound": value.StartNewIfNoneFound = PlayFabModelAdapters.readBoolean(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "TagFilter": value.TagFilter = collectionFilterAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MatchmakeResultAdapter extends TypeAdapter<MatchmakeResult> {
+        private final TypeAdapter<MatchmakeStatus> matchmakeStatusAdapter;
+
+        MatchmakeResultAdapter(Gson gson) {
+            matchmakeStatusAdapter = gson.getAdapter(MatchmakeStatus.class);
+        }
+
+        public void write(JsonWriter out, MatchmakeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expires != null) {
+                out.name("Expires");
+                out.value(value.Expires);
+            }
+            if (value.LobbyID != null) {
+                out.name("LobbyID");
+                out.value(value.LobbyID);
+            }
+            if (value.PollWaitTimeMS != null) {
+                out.name("PollWaitTimeMS");
+                out.value(value.PollWaitTimeMS);
+            }
+            if (value.ServerHostname != null) {
+                out.name("ServerHostname");
+                out.value(value.ServerHostname);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                matchmakeStatusAdapter.write(out, value.Status);
+            }
+            if (value.Ticket != null) {
+                out.name("Ticket");
+                out.value(value.Ticket);
+            }
+            out.endObject();
+        }
+
+        public MatchmakeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakeResult value = new MatchmakeResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expires": value.Expires = PlayFabModelAdapters.readString(in); break;
+                    case "LobbyID": value.LobbyID = PlayFabModelAdapters.readString(in); break;
+                    case "PollWaitTimeMS": value.PollWaitTimeMS = PlayFabModelAdapters.readInteger(in); break;
+                    case "ServerHostname": value.ServerHostname = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readInteger(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    case "Status": value.Status = matchmakeStatusAdapter.read(in); break;
+                    case "Ticket": value.Ticket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.MembershipExpiration != null) {
+                out.name("MembershipExpiration");
+                dateAdapter.write(out, value.MembershipExpiration);
+            }
+            if (value.MembershipId != null) {
+                out.name("MembershipId");
+                out.value(value.MembershipId);
+            }
+            if (value.OverrideExpiration != null) {
+                out.name("OverrideExpiration");
+                dateAdapter.write(out, value.OverrideExpiration);
+            }
+            if (value.Subscriptions != null) {
+                out.name("Subscriptions");
+                PlayFabModelAdapters.writeList(out, value.Subscriptions, subscriptionModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                    case "MembershipId": value.MembershipId = PlayFabModelAdapters.readString(in); break;
+                    case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                    case "Subscriptions": value.Subscriptions = PlayFabModelAdapters.readList(in, subscriptionModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Balance != null) {
+                out.name("Balance");
+                out.value(value.Balance);
+            }
+            if (value.BalanceChange != null) {
+                out.name("BalanceChange");
+                out.value(value.BalanceChange);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Balance": value.Balance = PlayFabModelAdapters.readInteger(in); break;
+                    case "BalanceChange": value.BalanceChange = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NintendoSwitchPlayFabIdPairAdapter extends TypeAdapter<NintendoSwitchPlayFabIdPair> {
+        NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public NintendoSwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NintendoSwitchPlayFabIdPair value = new NintendoSwitchPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class OpenTradeRequestAdapter extends TypeAdapter<OpenTradeRequest> {
+        OpenTradeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, OpenTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AllowedPlayerIds != null) {
+                out.name("AllowedPlayerIds");
+                PlayFabModelAdapters.writeList(out, value.AllowedPlayerIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.OfferedInventoryInstanceIds != null) {
+                out.name("OfferedInventoryInstanceIds");
+                PlayFabModelAdapters.writeList(out, value.OfferedInventoryInstanceIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.RequestedCatalogItemIds != null) {
+                out.name("RequestedCatalogItemIds");
+                PlayFabModelAdapters.writeList(out, value.RequestedCatalogItemIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public OpenTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenTradeRequest value = new OpenTradeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AllowedPlayerIds": value.AllowedPlayerIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class OpenTradeResponseAdapter extends TypeAdapter<OpenTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        OpenTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        public void write(JsonWriter out, OpenTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Trade != null) {
+                out.name("Trade");
+                tradeInfoAdapter.write(out, value.Trade);
+            }
+            out.endObject();
+        }
+
+        public OpenTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenTradeResponse value = new OpenTradeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PayForPurchaseRequestAdapter extends TypeAdapter<PayForPurchaseRequest> {
+        PayForPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PayForPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Currency != null) {
+                out.name("Currency");
+                out.value(value.Currency);
+            }
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.ProviderName != null) {
+                out.name("ProviderName");
+                out.value(value.ProviderName);
+            }
+            if (value.ProviderTransactionId != null) {
+                out.name("ProviderTransactionId");
+                out.value(value.ProviderTransactionId);
+            }
+            out.endObject();
+        }
+
+        public PayForPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PayForPurchaseRequest value = new PayForPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Currency": value.Currency = PlayFabModelAdapters.readString(in); break;
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "ProviderName": value.ProviderName = PlayFabModelAdapters.readString(in); break;
+                    case "ProviderTransactionId": value.ProviderTransactionId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PayForPurchaseResultAdapter extends TypeAdapter<PayForPurchaseResult> {
+        private final TypeAdapter<TransactionStatus> transactionStatusAdapter;
+
+        PayForPurchaseResultAdapter(Gson gson) {
+            transactionStatusAdapter = gson.getAdapter(TransactionStatus.class);
+        }
+
+        public void write(JsonWriter out, PayForPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreditApplied != null) {
+                out.name("CreditApplied");
+                out.value(value.CreditApplied);
+            }
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.ProviderData != null) {
+                out.name("ProviderData");
+                out.value(value.ProviderData);
+            }
+            if (value.ProviderToken != null) {
+                out.name("ProviderToken");
+                out.value(value.ProviderToken);
+            }
+            if (value.PurchaseConfirmationPageURL != null) {
+                out.name("PurchaseConfirmationPageURL");
+                out.value(value.PurchaseConfirmationPageURL);
+            }
+            if (value.PurchaseCurrency != null) {
+                out.name("PurchaseCurrency");
+                out.value(value.PurchaseCurrency);
+            }
+            if (value.PurchasePrice != null) {
+                out.name("PurchasePrice");
+                out.value(value.PurchasePrice);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                transactionStatusAdapter.write(out, value.Status);
+            }
+            if (value.VCAmount != null) {
+                out.name("VCAmount");
+                PlayFabModelAdapters.writeMap(out, value.VCAmount, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public PayForPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PayForPurchaseResult value = new PayForPurchaseResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreditApplied": value.CreditApplied = PlayFabModelAdapters.readLong(in); break;
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "ProviderData": value.ProviderData = PlayFabModelAdapters.readString(in); break;
+                    case "ProviderToken": value.ProviderToken = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseConfirmationPageURL": value.PurchaseConfirmationPageURL = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseCurrency": value.PurchaseCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "PurchasePrice": value.PurchasePrice = PlayFabModelAdapters.readLong(in); break;
+                    case "Status": value.Status = transactionStatusAdapter.read(in); break;
+                    case "VCAmount": value.VCAmount = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PaymentOptionAdapter extends TypeAdapter<PaymentOption> {
+        PaymentOptionAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PaymentOption value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Currency != null) {
+                out.name("Currency");
+                out.value(value.Currency);
+            }
+            if (value.Price != null) {
+                out.name("Price");
+                out.value(value.Price);
+            }
+            if (value.ProviderName != null) {
+                out.name("ProviderName");
+                out.value(value.ProviderName);
+            }
+            if (value.StoreCredit != null) {
+                out.name("StoreCredit");
+                out.value(value.StoreCredit);
+            }
+            out.endObject();
+        }
+
+        public PaymentOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PaymentOption value = new PaymentOption();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Currency": value.Currency = PlayFabModelAdapters.readString(in); break;
+                    case "Price": value.Price = PlayFabModelAdapters.readLong(in); break;
+                    case "ProviderName": value.ProviderName = PlayFabModelAdapters.readString(in); break;
+                    case "StoreCredit": value.StoreCredit = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLeaderboardEntryAdapter extends TypeAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        public void write(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Position != null) {
+                out.name("Position");
+                out.value(value.Position);
+            }
+            if (value.Profile != null) {
+                out.name("Profile");
+                playerProfileModelAdapter.write(out, value.Profile);
+            }
+            if (value.StatValue != null) {
+                out.name("StatValue");
+                out.value(value.StatValue);
+            }
+            out.endObject();
+        }
+
+        public PlayerLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeaderboardEntry value = new PlayerLeaderboardEntry();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Position": value.Position = PlayFabModelAdapters.readInteger(in); break;
+                    case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                    case "StatValue": value.StatValue = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdCampaignAttributions != null) {
+                out.name("AdCampaignAttributions");
+                PlayFabModelAdapters.writeList(out, value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            }
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.BannedUntil != null) {
+                out.name("BannedUntil");
+                dateAdapter.write(out, value.BannedUntil);
+            }
+            if (value.ContactEmailAddresses != null) {
+                out.name("ContactEmailAddresses");
+                PlayFabModelAdapters.writeList(out, value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.LinkedAccounts != null) {
+                out.name("LinkedAccounts");
+                PlayFabModelAdapters.writeList(out, value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            }
+            if (value.Locations != null) {
+                out.name("Locations");
+                PlayFabModelAdapters.writeList(out, value.Locations, locationModelAdapter);
+            }
+            if (value.Memberships != null) {
+                out.name("Memberships");
+                PlayFabModelAdapters.writeList(out, value.Memberships, membershipModelAdapter);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                loginIdentityProviderAdapter.write(out, value.Origination);
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PublisherId != null) {
+                out.name("PublisherId");
+                out.value(value.PublisherId);
+            }
+            if (value.PushNotificationRegistrations != null) {
+                out.name("PushNotificationRegistrations");
+                PlayFabModelAdapters.writeList(out, value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticModelAdapter);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, tagModelAdapter);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TotalValueToDateInUSD != null) {
+                out.name("TotalValueToDateInUSD");
+                out.value(value.TotalValueToDateInUSD);
+            }
+            if (value.ValuesToDate != null) {
+                out.name("ValuesToDate");
+                PlayFabModelAdapters.writeList(out, value.ValuesToDate, valueToDateModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabModelAdapters.readList(in, adCampaignAttributionModelAdapter); break;
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                    case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabModelAdapters.readList(in, contactEmailInfoModelAdapter); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "LinkedAccounts": value.LinkedAccounts = PlayFabModelAdapters.readList(in, linkedPlatformAccountModelAdapter); break;
+                    case "Locations": value.Locations = PlayFabModelAdapters.readList(in, locationModelAdapter); break;
+                    case "Memberships": value.Memberships = PlayFabModelAdapters.readList(in, membershipModelAdapter); break;
+                    case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PublisherId": value.PublisherId = PlayFabModelAdapters.readString(in); break;
+                    case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabModelAdapters.readList(in, pushNotificationRegistrationModelAdapter); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticModelAdapter); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, tagModelAdapter); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabModelAdapters.readLong(in); break;
+                    case "ValuesToDate": value.ValuesToDate = PlayFabModelAdapters.readList(in, valueToDateModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ShowAvatarUrl != null) {
+                out.name("ShowAvatarUrl");
+                out.value(value.ShowAvatarUrl.booleanValue());
+            }
+            if (value.ShowBannedUntil != null) {
+                out.name("ShowBannedUntil");
+                out.value(value.ShowBannedUntil.booleanValue());
+            }
+            if (value.ShowCampaignAttributions != null) {
+                out.name("ShowCampaignAttributions");
+                out.value(value.ShowCampaignAttributions.booleanValue());
+            }
+            if (value.ShowContactEmailAddresses != null) {
+                out.name("ShowContactEmailAddresses");
+                out.value(value.ShowContactEmailAddresses.booleanValue());
+            }
+            if (value.ShowCreated != null) {
+                out.name("ShowCreated");
+                out.value(value.ShowCreated.booleanValue());
+            }
+            if (value.ShowDisplayName != null) {
+                out.name("ShowDisplayName");
+                out.value(value.ShowDisplayName.booleanValue());
+            }
+            if (value.ShowLastLogin != null) {
+                out.name("ShowLastLogin");
+                out.value(value.ShowLastLogin.booleanValue());
+            }
+            if (value.ShowLinkedAccounts != null) {
+                out.name("ShowLinkedAccounts");
+                out.value(value.ShowLinkedAccounts.booleanValue());
+            }
+            if (value.ShowLocations != null) {
+                out.name("ShowLocations");
+                out.value(value.ShowLocations.booleanValue());
+            }
+            if (value.ShowMemberships != null) {
+                out.name("ShowMemberships");
+                out.value(value.ShowMemberships.booleanValue());
+            }
+            if (value.ShowOrigination != null) {
+                out.name("ShowOrigination");
+                out.value(value.ShowOrigination.booleanValue());
+            }
+            if (value.ShowPushNotificationRegistrations != null) {
+                out.name("ShowPushNotificationRegistrations");
+                out.value(value.ShowPushNotificationRegistrations.booleanValue());
+            }
+            if (value.ShowStatistics != null) {
+                out.name("ShowStatistics");
+                out.value(value.ShowStatistics.booleanValue());
+            }
+            if (value.ShowTags != null) {
+                out.name("ShowTags");
+                out.value(value.ShowTags.booleanValue());
+            }
+            if (value.ShowTotalValueToDateInUsd != null) {
+                out.name("ShowTotalValueToDateInUsd");
+                out.value(value.ShowTotalValueToDateInUsd.booleanValue());
+            }
+            if (value.ShowValuesToDate != null) {
+                out.name("ShowValuesToDate");
+                out.value(value.ShowValuesToDate.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowBannedUntil": value.ShowBannedUntil = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCreated": value.ShowCreated = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowDisplayName": value.ShowDisplayName = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLastLogin": value.ShowLastLogin = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLocations": value.ShowLocations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowMemberships": value.ShowMemberships = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowOrigination": value.ShowOrigination = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowStatistics": value.ShowStatistics = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTags": value.ShowTags = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowValuesToDate": value.ShowValuesToDate = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActivationTime != null) {
+                out.name("ActivationTime");
+                dateAdapter.write(out, value.ActivationTime);
+            }
+            if (value.DeactivationTime != null) {
+                out.name("DeactivationTime");
+                dateAdapter.write(out, value.DeactivationTime);
+            }
+            if (value.ScheduledActivationTime != null) {
+                out.name("ScheduledActivationTime");
+                dateAdapter.write(out, value.ScheduledActivationTime);
+            }
+            if (value.ScheduledDeactivationTime != null) {
+                out.name("ScheduledDeactivationTime");
+                dateAdapter.write(out, value.ScheduledDeactivationTime);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                    case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                    case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                    case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PurchaseItemRequestAdapter extends TypeAdapter<PurchaseItemRequest> {
+        PurchaseItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PurchaseItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.Price != null) {
+                out.name("Price");
+                out.value(value.Price);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public PurchaseItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PurchaseItemRequest value = new PurchaseItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "Price": value.Price = PlayFabModelAdapters.readInteger(in); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PurchaseItemResultAdapter extends TypeAdapter<PurchaseItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        PurchaseItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, PurchaseItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public PurchaseItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PurchaseItemResult value = new PurchaseItemResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NotificationEndpointARN != null) {
+                out.name("NotificationEndpointARN");
+                out.value(value.NotificationEndpointARN);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemCouponRequestAdapter extends TypeAdapter<RedeemCouponRequest> {
+        RedeemCouponRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CouponCode != null) {
+                out.name("CouponCode");
+                out.value(value.CouponCode);
+            }
+            out.endObject();
+        }
+
+        public RedeemCouponRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponRequest value = new RedeemCouponRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CouponCode": value.CouponCode = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemCouponResultAdapter extends TypeAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, RedeemCouponResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GrantedItems != null) {
+                out.name("GrantedItems");
+                PlayFabModelAdapters.writeList(out, value.GrantedItems, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public RedeemCouponResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponResult value = new RedeemCouponResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GrantedItems": value.GrantedItems = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegionInfoAdapter extends TypeAdapter<RegionInfo> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        RegionInfoAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, RegionInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Available != null) {
+                out.name("Available");
+                out.value(value.Available.booleanValue());
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.PingUrl != null) {
+                out.name("PingUrl");
+                out.value(value.PingUrl);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            out.endObject();
+        }
+
+        public RegionInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegionInfo value = new RegionInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Available": value.Available = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "PingUrl": value.PingUrl = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterForIOSPushNotificationRequestAdapter extends TypeAdapter<RegisterForIOSPushNotificationRequest> {
+        RegisterForIOSPushNotificationRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RegisterForIOSPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ConfirmationMessage != null) {
+                out.name("ConfirmationMessage");
+                out.value(value.ConfirmationMessage);
+            }
+            if (value.DeviceToken != null) {
+                out.name("DeviceToken");
+                out.value(value.DeviceToken);
+            }
+            if (value.SendPushNotificationConfirmation != null) {
+                out.name("SendPushNotificationConfirmation");
+                out.value(value.SendPushNotificationConfirmation.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public RegisterForIOSPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterForIOSPushNotificationRequest value = new RegisterForIOSPushNotificationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ConfirmationMessage": value.ConfirmationMessage = PlayFabModelAdapters.readString(in); break;
+                    case "DeviceToken": value.DeviceToken = PlayFabModelAdapters.readString(in); break;
+                    case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterForIOSPushNotificationResultAdapter extends TypeAdapter<RegisterForIOSPushNotificationResult> {
+        RegisterForIOSPushNotificationResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RegisterForIOSPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RegisterForIOSPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterForIOSPushNotificationResult value = new RegisterForIOSPushNotificationResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterPlayFabUserRequestAdapter extends TypeAdapter<RegisterPlayFabUserRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        RegisterPlayFabUserRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, RegisterPlayFabUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.RequireBothUsernameAndEmail != null) {
+                out.name("RequireBothUsernameAndEmail");
+                out.value(value.RequireBothUsernameAndEmail.booleanValue());
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public RegisterPlayFabUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterPlayFabUserRequest value = new RegisterPlayFabUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "RequireBothUsernameAndEmail": value.RequireBothUsernameAndEmail = PlayFabModelAdapters.readBoolean(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterPlayFabUserResultAdapter extends TypeAdapter<RegisterPlayFabUserResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+
+        RegisterPlayFabUserResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+        }
+
+        public void write(JsonWriter out, RegisterPlayFabUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EntityToken != null) {
+                out.name("EntityToken");
+                entityTokenResponseAdapter.write(out, value.EntityToken);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SessionTicket != null) {
+                out.name("SessionTicket");
+                out.value(value.SessionTicket);
+            }
+            if (value.SettingsForUser != null) {
+                out.name("SettingsForUser");
+                userSettingsAdapter.write(out, value.SettingsForUser);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public RegisterPlayFabUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterPlayFabUserResult value = new RegisterPlayFabUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SessionTicket": value.SessionTicket = PlayFabModelAdapters.readString(in); break;
+                    case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterWithWindowsHelloRequestAdapter extends TypeAdapter<RegisterWithWindowsHelloRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        RegisterWithWindowsHelloRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, RegisterWithWindowsHelloRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DeviceName != null) {
+                out.name("DeviceName");
+                out.value(value.DeviceName);
+            }
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.LoginTitlePlayerAccountEntity != null) {
+                out.name("LoginTitlePlayerAccountEntity");
+                out.value(value.LoginTitlePlayerAccountEntity.booleanValue());
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.PublicKey != null) {
+                out.name("PublicKey");
+                out.value(value.PublicKey);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.UserName != null) {
+                out.name("UserName");
+                out.value(value.UserName);
+            }
+            out.endObject();
+        }
+
+        public RegisterWithWindowsHelloRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterWithWindowsHelloRequest value = new RegisterWithWindowsHelloRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DeviceName": value.DeviceName = PlayFabModelAdapters.readString(in); break;
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "LoginTitlePlayerAccountEntity": value.LoginTitlePlayerAccountEntity = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "PublicKey": value.PublicKey = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "UserName": value.UserName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveContactEmailRequestAdapter extends TypeAdapter<RemoveContactEmailRequest> {
+        RemoveContactEmailRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveContactEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveContactEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveContactEmailRequest value = new RemoveContactEmailRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveContactEmailResultAdapter extends TypeAdapter<RemoveContactEmailResult> {
+        RemoveContactEmailResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveContactEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveContactEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveContactEmailResult value = new RemoveContactEmailResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveFriendRequestAdapter extends TypeAdapter<RemoveFriendRequest> {
+        RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RemoveFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendRequest value = new RemoveFriendRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveFriendResultAdapter extends TypeAdapter<RemoveFriendResult> {
+        RemoveFriendResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveFriendResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveFriendResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendResult value = new RemoveFriendResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveGenericIDRequestAdapter extends TypeAdapter<RemoveGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        RemoveGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        public void write(JsonWriter out, RemoveGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GenericId != null) {
+                out.name("GenericId");
+                genericServiceIdAdapter.write(out, value.GenericId);
+            }
+            out.endObject();
+        }
+
+        public RemoveGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGenericIDRequest value = new RemoveGenericIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveGenericIDResultAdapter extends TypeAdapter<RemoveGenericIDResult> {
+        RemoveGenericIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveGenericIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveGenericIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGenericIDResult value = new RemoveGenericIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveSharedGroupMembersRequestAdapter extends TypeAdapter<RemoveSharedGroupMembersRequest> {
+        RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabIds != null) {
+                out.name("PlayFabIds");
+                PlayFabModelAdapters.writeList(out, value.PlayFabIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public RemoveSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersRequest value = new RemoveSharedGroupMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabIds": value.PlayFabIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveSharedGroupMembersResultAdapter extends TypeAdapter<RemoveSharedGroupMembersResult> {
+        RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersResult value = new RemoveSharedGroupMembersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ReportPlayerClientRequestAdapter extends TypeAdapter<ReportPlayerClientRequest> {
+        ReportPlayerClientRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ReportPlayerClientRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ReporteeId != null) {
+                out.name("ReporteeId");
+                out.value(value.ReporteeId);
+            }
+            out.endObject();
+        }
+
+        public ReportPlayerClientRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerClientRequest value = new ReportPlayerClientRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ReporteeId": value.ReporteeId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ReportPlayerClientResultAdapter extends TypeAdapter<ReportPlayerClientResult> {
+        ReportPlayerClientResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ReportPlayerClientResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SubmissionsRemaining != null) {
+                out.name("SubmissionsRemaining");
+                out.value(value.SubmissionsRemaining);
+            }
+            out.endObject();
+        }
+
+        public ReportPlayerClientResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerClientResult value = new ReportPlayerClientResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SubmissionsRemaining": value.SubmissionsRemaining = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RestoreIOSPurchasesRequestAdapter extends TypeAdapter<RestoreIOSPurchasesRequest> {
+        RestoreIOSPurchasesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RestoreIOSPurchasesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ReceiptData != null) {
+                out.name("ReceiptData");
+                out.value(value.ReceiptData);
+            }
+            out.endObject();
+        }
+
+        public RestoreIOSPurchasesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RestoreIOSPurchasesRequest value = new RestoreIOSPurchasesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ReceiptData": value.ReceiptData = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RestoreIOSPurchasesResultAdapter extends TypeAdapter<RestoreIOSPurchasesResult> {
+        RestoreIOSPurchasesResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RestoreIOSPurchasesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RestoreIOSPurchasesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RestoreIOSPurchasesResult value = new RestoreIOSPurchasesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                out.value(value.Error);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.StackTrace != null) {
+                out.name("StackTrace");
+                out.value(value.StackTrace);
+            }
+            out.endObject();
+        }
+
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "StackTrace": value.StackTrace = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendAccountRecoveryEmailRequest> {
+        SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.EmailTemplateId != null) {
+                out.name("EmailTemplateId");
+                out.value(value.EmailTemplateId);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public SendAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailRequest value = new SendAccountRecoveryEmailRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "EmailTemplateId": value.EmailTemplateId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendAccountRecoveryEmailResultAdapter extends TypeAdapter<SendAccountRecoveryEmailResult> {
+        SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SendAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailResult value = new SendAccountRecoveryEmailResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetFriendTagsRequestAdapter extends TypeAdapter<SetFriendTagsRequest> {
+        SetFriendTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public SetFriendTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsRequest value = new SetFriendTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetFriendTagsResultAdapter extends TypeAdapter<SetFriendTagsResult> {
+        SetFriendTagsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetFriendTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetFriendTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsResult value = new SetFriendTagsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EncryptedRequest != null) {
+                out.name("EncryptedRequest");
+                out.value(value.EncryptedRequest);
+            }
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            out.endObject();
+        }
+
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EncryptedRequest": value.EncryptedRequest = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SharedGroupDataRecordAdapter extends TypeAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LastUpdated != null) {
+                out.name("LastUpdated");
+                dateAdapter.write(out, value.LastUpdated);
+            }
+            if (value.LastUpdatedBy != null) {
+                out.name("LastUpdatedBy");
+                out.value(value.LastUpdatedBy);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SharedGroupDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedGroupDataRecord value = new SharedGroupDataRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                    case "LastUpdatedBy": value.LastUpdatedBy = PlayFabModelAdapters.readString(in); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartGameRequestAdapter extends TypeAdapter<StartGameRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        StartGameRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, StartGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CustomCommandLineData != null) {
+                out.name("CustomCommandLineData");
+                out.value(value.CustomCommandLineData);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public StartGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameRequest value = new StartGameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CustomCommandLineData": value.CustomCommandLineData = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartGameResultAdapter extends TypeAdapter<StartGameResult> {
+        StartGameResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StartGameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expires != null) {
+                out.name("Expires");
+                out.value(value.Expires);
+            }
+            if (value.LobbyID != null) {
+                out.name("LobbyID");
+                out.value(value.LobbyID);
+            }
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.ServerHostname != null) {
+                out.name("ServerHostname");
+                out.value(value.ServerHostname);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            if (value.Ticket != null) {
+                out.name("Ticket");
+                out.value(value.Ticket);
+            }
+            out.endObject();
+        }
+
+        public StartGameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameResult value = new StartGameResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expires": value.Expires = PlayFabModelAdapters.readString(in); break;
+                    case "LobbyID": value.LobbyID = PlayFabModelAdapters.readString(in); break;
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "ServerHostname": value.ServerHostname = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readInteger(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    case "Ticket": value.Ticket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartPurchaseRequestAdapter extends TypeAdapter<StartPurchaseRequest> {
+        private final TypeAdapter<ItemPurchaseRequest> itemPurchaseRequestAdapter;
+
+        StartPurchaseRequestAdapter(Gson gson) {
+            itemPurchaseRequestAdapter = gson.getAdapter(ItemPurchaseRequest.class);
+        }
+
+        public void write(JsonWriter out, StartPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, itemPurchaseRequestAdapter);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public StartPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartPurchaseRequest value = new StartPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, itemPurchaseRequestAdapter); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartPurchaseResultAdapter extends TypeAdapter<StartPurchaseResult> {
+        private final TypeAdapter<CartItem> cartItemAdapter;
+        private final TypeAdapter<PaymentOption> paymentOptionAdapter;
+
+        StartPurchaseResultAdapter(Gson gson) {
+            cartItemAdapter = gson.getAdapter(CartItem.class);
+            paymentOptionAdapter = gson.getAdapter(PaymentOption.class);
+        }
+
+        public void write(JsonWriter out, StartPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Contents != null) {
+                out.name("Contents");
+                PlayFabModelAdapters.writeList(out, value.Contents, cartItemAdapter);
+            }
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.PaymentOptions != null) {
+                out.name("PaymentOptions");
+                PlayFabModelAdapters.writeList(out, value.PaymentOptions, paymentOptionAdapter);
+            }
+            if (value.VirtualCurrencyBalances != null) {
+                out.name("VirtualCurrencyBalances");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyBalances, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public StartPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartPurchaseResult value = new StartPurchaseResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Contents": value.Contents = PlayFabModelAdapters.readList(in, cartItemAdapter); break;
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "PaymentOptions": value.PaymentOptions = PlayFabModelAdapters.readList(in, paymentOptionAdapter); break;
+                    case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticNameVersionAdapter extends TypeAdapter<StatisticNameVersion> {
+        StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticNameVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticNameVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticNameVersion value = new StatisticNameVersion();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticUpdateAdapter extends TypeAdapter<StatisticUpdate> {
+        StatisticUpdateAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticUpdate value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticUpdate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticUpdate value = new StatisticUpdate();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticValueAdapter extends TypeAdapter<StatisticValue> {
+        StatisticValueAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticValue value = new StatisticValue();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SteamPlayFabIdPairAdapter extends TypeAdapter<SteamPlayFabIdPair> {
+        SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SteamStringId != null) {
+                out.name("SteamStringId");
+                out.value(value.SteamStringId);
+            }
+            out.endObject();
+        }
+
+        public SteamPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SteamPlayFabIdPair value = new SteamPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SteamStringId": value.SteamStringId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StoreItemAdapter extends TypeAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, StoreItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                objectAdapter.write(out, value.CustomData);
+            }
+            if (value.DisplayPosition != null) {
+                out.name("DisplayPosition");
+                out.value(value.DisplayPosition);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public StoreItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreItem value = new StoreItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomData": value.CustomData = objectAdapter.read(in); break;
+                    case "DisplayPosition": value.DisplayPosition = PlayFabModelAdapters.readLong(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StoreMarketingModelAdapter extends TypeAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, StoreMarketingModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Metadata != null) {
+                out.name("Metadata");
+                objectAdapter.write(out, value.Metadata);
+            }
+            out.endObject();
+        }
+
+        public StoreMarketingModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreMarketingModel value = new StoreMarketingModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Metadata": value.Metadata = objectAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.InitialSubscriptionTime != null) {
+                out.name("InitialSubscriptionTime");
+                dateAdapter.write(out, value.InitialSubscriptionTime);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                subscriptionProviderStatusAdapter.write(out, value.Status);
+            }
+            if (value.SubscriptionId != null) {
+                out.name("SubscriptionId");
+                out.value(value.SubscriptionId);
+            }
+            if (value.SubscriptionItemId != null) {
+                out.name("SubscriptionItemId");
+                out.value(value.SubscriptionItemId);
+            }
+            if (value.SubscriptionProvider != null) {
+                out.name("SubscriptionProvider");
+                out.value(value.SubscriptionProvider);
+            }
+            out.endObject();
+        }
+
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                    case "SubscriptionId": value.SubscriptionId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionItemId": value.SubscriptionItemId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionProvider": value.SubscriptionProvider = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TagModelAdapter extends TypeAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TagValue != null) {
+                out.name("TagValue");
+                out.value(value.TagValue);
+            }
+            out.endObject();
+        }
+
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TagValue": value.TagValue = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TitleNewsItemAdapter extends TypeAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, TitleNewsItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                out.value(value.Body);
+            }
+            if (value.NewsId != null) {
+                out.name("NewsId");
+                out.value(value.NewsId);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.Title != null) {
+                out.name("Title");
+                out.value(value.Title);
+            }
+            out.endObject();
+        }
+
+        public TitleNewsItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleNewsItem value = new TitleNewsItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readString(in); break;
+                    case "NewsId": value.NewsId = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "Title": value.Title = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TradeInfoAdapter extends TypeAdapter<TradeInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        TradeInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        public void write(JsonWriter out, TradeInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AcceptedInventoryInstanceIds != null) {
+                out.name("AcceptedInventoryInstanceIds");
+                PlayFabModelAdapters.writeList(out, value.AcceptedInventoryInstanceIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.AcceptedPlayerId != null) {
+                out.name("AcceptedPlayerId");
+                out.value(value.AcceptedPlayerId);
+            }
+            if (value.AllowedPlayerIds != null) {
+                out.name("AllowedPlayerIds");
+                PlayFabModelAdapters.writeList(out, value.AllowedPlayerIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.CancelledAt != null) {
+                out.name("CancelledAt");
+                dateAdapter.write(out, value.CancelledAt);
+            }
+            if (value.FilledAt != null) {
+                out.name("FilledAt");
+                dateAdapter.write(out, value.FilledAt);
+            }
+            if (value.InvalidatedAt != null) {
+                out.name("InvalidatedAt");
+                dateAdapter.write(out, value.InvalidatedAt);
+            }
+            if (value.OfferedCatalogItemIds != null) {
+                out.name("OfferedCatalogItemIds");
+                PlayFabModelAdapters.writeList(out, value.OfferedCatalogItemIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.OfferedInventoryInstanceIds != null) {
+                out.name("OfferedInventoryInstanceIds");
+                PlayFabModelAdapters.writeList(out, value.OfferedInventoryInstanceIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.OfferingPlayerId != null) {
+                out.name("OfferingPlayerId");
+                out.value(value.OfferingPlayerId);
+            }
+            if (value.OpenedAt != null) {
+                out.name("OpenedAt");
+                dateAdapter.write(out, value.OpenedAt);
+            }
+            if (value.RequestedCatalogItemIds != null) {
+                out.name("RequestedCatalogItemIds");
+                PlayFabModelAdapters.writeList(out, value.RequestedCatalogItemIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                tradeStatusAdapter.write(out, value.Status);
+            }
+            if (value.TradeId != null) {
+                out.name("TradeId");
+                out.value(value.TradeId);
+            }
+            out.endObject();
+        }
+
+        public TradeInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TradeInfo value = new TradeInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "AcceptedPlayerId": value.AcceptedPlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "AllowedPlayerIds": value.AllowedPlayerIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "CancelledAt": value.CancelledAt = dateAdapter.read(in); break;
+                    case "FilledAt": value.FilledAt = dateAdapter.read(in); break;
+                    case "InvalidatedAt": value.InvalidatedAt = dateAdapter.read(in); break;
+                    case "OfferedCatalogItemIds": value.OfferedCatalogItemIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "OfferingPlayerId": value.OfferingPlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "OpenedAt": value.OpenedAt = dateAdapter.read(in); break;
+                    case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Status": value.Status = tradeStatusAdapter.read(in); break;
+                    case "TradeId": value.TradeId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TwitchPlayFabIdPairAdapter extends TypeAdapter<TwitchPlayFabIdPair> {
+        TwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, TwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TwitchId != null) {
+                out.name("TwitchId");
+                out.value(value.TwitchId);
+            }
+            out.endObject();
+        }
+
+        public TwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TwitchPlayFabIdPair value = new TwitchPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TwitchId": value.TwitchId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkAndroidDeviceIDRequestAdapter extends TypeAdapter<UnlinkAndroidDeviceIDRequest> {
+        UnlinkAndroidDeviceIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UnlinkAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkAndroidDeviceIDRequest value = new UnlinkAndroidDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkAndroidDeviceIDResultAdapter extends TypeAdapter<UnlinkAndroidDeviceIDResult> {
+        UnlinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkAndroidDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkAndroidDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkAndroidDeviceIDResult value = new UnlinkAndroidDeviceIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkCustomIDRequestAdapter extends TypeAdapter<UnlinkCustomIDRequest> {
+        UnlinkCustomIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            out.endObject();
+        }
+
+        public UnlinkCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkCustomIDRequest value = new UnlinkCustomIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkCustomIDResultAdapter extends TypeAdapter<UnlinkCustomIDResult> {
+        UnlinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkCustomIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkCustomIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkCustomIDResult value = new UnlinkCustomIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkFacebookAccountRequestAdapter extends TypeAdapter<UnlinkFacebookAccountRequest> {
+        UnlinkFacebookAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkFacebookAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkFacebookAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookAccountRequest value = new UnlinkFacebookAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkFacebookAccountResultAdapter extends TypeAdapter<UnlinkFacebookAccountResult> {
+        UnlinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkFacebookAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkFacebookAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookAccountResult value = new UnlinkFacebookAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkFacebookInstantGamesIdRequestAdapter extends TypeAdapter<UnlinkFacebookInstantGamesIdRequest> {
+        UnlinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            out.endObject();
+        }
+
+        public UnlinkFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookInstantGamesIdRequest value = new UnlinkFacebookInstantGamesIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkFacebookInstantGamesIdResultAdapter extends TypeAdapter<UnlinkFacebookInstantGamesIdResult> {
+        UnlinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkFacebookInstantGamesIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkFacebookInstantGamesIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookInstantGamesIdResult value = new UnlinkFacebookInstantGamesIdResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkGameCenterAccountRequestAdapter extends TypeAdapter<UnlinkGameCenterAccountRequest> {
+        UnlinkGameCenterAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkGameCenterAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkGameCenterAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGameCenterAccountRequest value = new UnlinkGameCenterAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkGameCenterAccountResultAdapter extends TypeAdapter<UnlinkGameCenterAccountResult> {
+        UnlinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkGameCenterAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkGameCenterAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGameCenterAccountResult value = new UnlinkGameCenterAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkGoogleAccountRequestAdapter extends TypeAdapter<UnlinkGoogleAccountRequest> {
+        UnlinkGoogleAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGoogleAccountRequest value = new UnlinkGoogleAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkGoogleAccountResultAdapter extends TypeAdapter<UnlinkGoogleAccountResult> {
+        UnlinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkGoogleAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkGoogleAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGoogleAccountResult value = new UnlinkGoogleAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkIOSDeviceIDRequestAdapter extends TypeAdapter<UnlinkIOSDeviceIDRequest> {
+        UnlinkIOSDeviceIDRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DeviceId != null) {
+                out.name("DeviceId");
+                out.value(value.DeviceId);
+            }
+            out.endObject();
+        }
+
+        public UnlinkIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkIOSDeviceIDRequest value = new UnlinkIOSDeviceIDRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DeviceId": value.DeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkIOSDeviceIDResultAdapter extends TypeAdapter<UnlinkIOSDeviceIDResult> {
+        UnlinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkIOSDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkIOSDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkIOSDeviceIDResult value = new UnlinkIOSDeviceIDResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkKongregateAccountRequestAdapter extends TypeAdapter<UnlinkKongregateAccountRequest> {
+        UnlinkKongregateAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkKongregateAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkKongregateAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkKongregateAccountRequest value = new UnlinkKongregateAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkKongregateAccountResultAdapter extends TypeAdapter<UnlinkKongregateAccountResult> {
+        UnlinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkKongregateAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkKongregateAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkKongregateAccountResult value = new UnlinkKongregateAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<UnlinkNintendoSwitchDeviceIdRequest> {
+        UnlinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UnlinkNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkNintendoSwitchDeviceIdRequest value = new UnlinkNintendoSwitchDeviceIdRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdResultAdapter extends TypeAdapter<UnlinkNintendoSwitchDeviceIdResult> {
+        UnlinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkNintendoSwitchDeviceIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkNintendoSwitchDeviceIdResult value = new UnlinkNintendoSwitchDeviceIdResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkSteamAccountRequestAdapter extends TypeAdapter<UnlinkSteamAccountRequest> {
+        UnlinkSteamAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkSteamAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkSteamAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkSteamAccountRequest value = new UnlinkSteamAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkSteamAccountResultAdapter extends TypeAdapter<UnlinkSteamAccountResult> {
+        UnlinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkSteamAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkSteamAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkSteamAccountResult value = new UnlinkSteamAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkTwitchAccountRequestAdapter extends TypeAdapter<UnlinkTwitchAccountRequest> {
+        UnlinkTwitchAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkTwitchAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkTwitchAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkTwitchAccountRequest value = new UnlinkTwitchAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkTwitchAccountResultAdapter extends TypeAdapter<UnlinkTwitchAccountResult> {
+        UnlinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkTwitchAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkTwitchAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkTwitchAccountResult value = new UnlinkTwitchAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkWindowsHelloAccountRequestAdapter extends TypeAdapter<UnlinkWindowsHelloAccountRequest> {
+        UnlinkWindowsHelloAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkWindowsHelloAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PublicKeyHint != null) {
+                out.name("PublicKeyHint");
+                out.value(value.PublicKeyHint);
+            }
+            out.endObject();
+        }
+
+        public UnlinkWindowsHelloAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkWindowsHelloAccountRequest value = new UnlinkWindowsHelloAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PublicKeyHint": value.PublicKeyHint = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkWindowsHelloAccountResponseAdapter extends TypeAdapter<UnlinkWindowsHelloAccountResponse> {
+        UnlinkWindowsHelloAccountResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkWindowsHelloAccountResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkWindowsHelloAccountResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkWindowsHelloAccountResponse value = new UnlinkWindowsHelloAccountResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkXboxAccountRequestAdapter extends TypeAdapter<UnlinkXboxAccountRequest> {
+        UnlinkXboxAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public UnlinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountRequest value = new UnlinkXboxAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlinkXboxAccountResultAdapter extends TypeAdapter<UnlinkXboxAccountResult> {
+        UnlinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UnlinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountResult value = new UnlinkXboxAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerInstanceRequestAdapter extends TypeAdapter<UnlockContainerInstanceRequest> {
+        UnlockContainerInstanceRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ContainerItemInstanceId != null) {
+                out.name("ContainerItemInstanceId");
+                out.value(value.ContainerItemInstanceId);
+            }
+            if (value.KeyItemInstanceId != null) {
+                out.name("KeyItemInstanceId");
+                out.value(value.KeyItemInstanceId);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerInstanceRequest value = new UnlockContainerInstanceRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ContainerItemInstanceId": value.ContainerItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "KeyItemInstanceId": value.KeyItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerItemRequestAdapter extends TypeAdapter<UnlockContainerItemRequest> {
+        UnlockContainerItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ContainerItemId != null) {
+                out.name("ContainerItemId");
+                out.value(value.ContainerItemId);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemRequest value = new UnlockContainerItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ContainerItemId": value.ContainerItemId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerItemResultAdapter extends TypeAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GrantedItems != null) {
+                out.name("GrantedItems");
+                PlayFabModelAdapters.writeList(out, value.GrantedItems, itemInstanceAdapter);
+            }
+            if (value.UnlockedItemInstanceId != null) {
+                out.name("UnlockedItemInstanceId");
+                out.value(value.UnlockedItemInstanceId);
+            }
+            if (value.UnlockedWithItemInstanceId != null) {
+                out.name("UnlockedWithItemInstanceId");
+                out.value(value.UnlockedWithItemInstanceId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemResult value = new UnlockContainerItemResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GrantedItems": value.GrantedItems = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateAvatarUrlRequestAdapter extends TypeAdapter<UpdateAvatarUrlRequest> {
+        UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ImageUrl != null) {
+                out.name("ImageUrl");
+                out.value(value.ImageUrl);
+            }
+            out.endObject();
+        }
+
+        public UpdateAvatarUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateAvatarUrlRequest value = new UpdateAvatarUrlRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ImageUrl": value.ImageUrl = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterDataRequestAdapter extends TypeAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateCharacterDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataRequest value = new UpdateCharacterDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterDataResultAdapter extends TypeAdapter<UpdateCharacterDataResult> {
+        UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataResult value = new UpdateCharacterDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterStatisticsRequestAdapter extends TypeAdapter<UpdateCharacterStatisticsRequest> {
+        UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterStatistics != null) {
+                out.name("CharacterStatistics");
+                PlayFabModelAdapters.writeMap(out, value.CharacterStatistics, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsRequest value = new UpdateCharacterStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterStatistics": value.CharacterStatistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterStatisticsResultAdapter extends TypeAdapter<UpdateCharacterStatisticsResult> {
+        UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsResult value = new UpdateCharacterStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticsRequestAdapter extends TypeAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<StatisticUpdate> statisticUpdateAdapter;
+
+        UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            statisticUpdateAdapter = gson.getAdapter(StatisticUpdate.class);
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticUpdateAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsRequest value = new UpdatePlayerStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticUpdateAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticsResultAdapter extends TypeAdapter<UpdatePlayerStatisticsResult> {
+        UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsResult value = new UpdatePlayerStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateSharedGroupDataRequestAdapter extends TypeAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public UpdateSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataRequest value = new UpdateSharedGroupDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateSharedGroupDataResultAdapter extends TypeAdapter<UpdateSharedGroupDataResult> {
+        UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataResult value = new UpdateSharedGroupDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameRequestAdapter extends TypeAdapter<UpdateUserTitleDisplayNameRequest> {
+        UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserTitleDisplayNameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameRequest value = new UpdateUserTitleDisplayNameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameResultAdapter extends TypeAdapter<UpdateUserTitleDisplayNameResult> {
+        UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserTitleDisplayNameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameResult value = new UpdateUserTitleDisplayNameResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserWindowsHelloInfo> userWindowsHelloInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userWindowsHelloInfoAdapter = gson.getAdapter(UserWindowsHelloInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceInfo != null) {
+                out.name("AndroidDeviceInfo");
+                userAndroidDeviceInfoAdapter.write(out, value.AndroidDeviceInfo);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.CustomIdInfo != null) {
+                out.name("CustomIdInfo");
+                userCustomIdInfoAdapter.write(out, value.CustomIdInfo);
+            }
+            if (value.FacebookInfo != null) {
+                out.name("FacebookInfo");
+                userFacebookInfoAdapter.write(out, value.FacebookInfo);
+            }
+            if (value.FacebookInstantGamesIdInfo != null) {
+                out.name("FacebookInstantGamesIdInfo");
+                userFacebookInstantGamesIdInfoAdapter.write(out, value.FacebookInstantGamesIdInfo);
+            }
+            if (value.GameCenterInfo != null) {
+                out.name("GameCenterInfo");
+                userGameCenterInfoAdapter.write(out, value.GameCenterInfo);
+            }
+            if (value.GoogleInfo != null) {
+                out.name("GoogleInfo");
+                userGoogleInfoAdapter.write(out, value.GoogleInfo);
+            }
+            if (value.IosDeviceInfo != null) {
+                out.name("IosDeviceInfo");
+                userIosDeviceInfoAdapter.write(out, value.IosDeviceInfo);
+            }
+            if (value.KongregateInfo != null) {
+                out.name("KongregateInfo");
+                userKongregateInfoAdapter.write(out, value.KongregateInfo);
+            }
+            if (value.NintendoSwitchDeviceIdInfo != null) {
+                out.name("NintendoSwitchDeviceIdInfo");
+                userNintendoSwitchDeviceIdInfoAdapter.write(out, value.NintendoSwitchDeviceIdInfo);
+            }
+            if (value.OpenIdInfo != null) {
+                out.name("OpenIdInfo");
+                PlayFabModelAdapters.writeList(out, value.OpenIdInfo, userOpenIdInfoAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.PrivateInfo != null) {
+                out.name("PrivateInfo");
+                userPrivateAccountInfoAdapter.write(out, value.PrivateInfo);
+            }
+            if (value.PsnInfo != null) {
+                out.name("PsnInfo");
+                userPsnInfoAdapter.write(out, value.PsnInfo);
+            }
+            if (value.SteamInfo != null) {
+                out.name("SteamInfo");
+                userSteamInfoAdapter.write(out, value.SteamInfo);
+            }
+            if (value.TitleInfo != null) {
+                out.name("TitleInfo");
+                userTitleInfoAdapter.write(out, value.TitleInfo);
+            }
+            if (value.TwitchInfo != null) {
+                out.name("TwitchInfo");
+                userTwitchInfoAdapter.write(out, value.TwitchInfo);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.WindowsHelloInfo != null) {
+                out.name("WindowsHelloInfo");
+                userWindowsHelloInfoAdapter.write(out, value.WindowsHelloInfo);
+            }
+            if (value.XboxInfo != null) {
+                out.name("XboxInfo");
+                userXboxInfoAdapter.write(out, value.XboxInfo);
+            }
+            out.endObject();
+        }
+
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                    case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                    case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                    case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                    case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                    case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                    case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                    case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                    case "OpenIdInfo": value.OpenIdInfo = PlayFabModelAdapters.readList(in, userOpenIdInfoAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                    case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                    case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                    case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                    case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloInfo": value.WindowsHelloInfo = userWindowsHelloInfoAdapter.read(in); break;
+                    case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            out.endObject();
+        }
+
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LastUpdated != null) {
+                out.name("LastUpdated");
+                dateAdapter.write(out, value.LastUpdated);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookId != null) {
+                out.name("FacebookId");
+                out.value(value.FacebookId);
+            }
+            if (value.FullName != null) {
+                out.name("FullName");
+                out.value(value.FullName);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookId": value.FacebookId = PlayFabModelAdapters.readString(in); break;
+                    case "FullName": value.FullName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCenterId != null) {
+                out.name("GameCenterId");
+                out.value(value.GameCenterId);
+            }
+            out.endObject();
+        }
+
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCenterId": value.GameCenterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GoogleEmail != null) {
+                out.name("GoogleEmail");
+                out.value(value.GoogleEmail);
+            }
+            if (value.GoogleGender != null) {
+                out.name("GoogleGender");
+                out.value(value.GoogleGender);
+            }
+            if (value.GoogleId != null) {
+                out.name("GoogleId");
+                out.value(value.GoogleId);
+            }
+            if (value.GoogleLocale != null) {
+                out.name("GoogleLocale");
+                out.value(value.GoogleLocale);
+            }
+            out.endObject();
+        }
+
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GoogleEmail": value.GoogleEmail = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleGender": value.GoogleGender = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleId": value.GoogleId = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleLocale": value.GoogleLocale = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IosDeviceId != null) {
+                out.name("IosDeviceId");
+                out.value(value.IosDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IosDeviceId": value.IosDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            if (value.KongregateName != null) {
+                out.name("KongregateName");
+                out.value(value.KongregateName);
+            }
+            out.endObject();
+        }
+
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    case "KongregateName": value.KongregateName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ConnectionId != null) {
+                out.name("ConnectionId");
+                out.value(value.ConnectionId);
+            }
+            if (value.Issuer != null) {
+                out.name("Issuer");
+                out.value(value.Issuer);
+            }
+            if (value.Subject != null) {
+                out.name("Subject");
+                out.value(value.Subject);
+            }
+            out.endObject();
+        }
+
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ConnectionId": value.ConnectionId = PlayFabModelAdapters.readString(in); break;
+                    case "Issuer": value.Issuer = PlayFabModelAdapters.readString(in); break;
+                    case "Subject": value.Subject = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            out.endObject();
+        }
+
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PsnAccountId != null) {
+                out.name("PsnAccountId");
+                out.value(value.PsnAccountId);
+            }
+            if (value.PsnOnlineId != null) {
+                out.name("PsnOnlineId");
+                out.value(value.PsnOnlineId);
+            }
+            out.endObject();
+        }
+
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PsnAccountId": value.PsnAccountId = PlayFabModelAdapters.readString(in); break;
+                    case "PsnOnlineId": value.PsnOnlineId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserSettingsAdapter extends TypeAdapter<UserSettings> {
+        UserSettingsAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserSettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GatherDeviceInfo != null) {
+                out.name("GatherDeviceInfo");
+                out.value(value.GatherDeviceInfo.booleanValue());
+            }
+            if (value.GatherFocusInfo != null) {
+                out.name("GatherFocusInfo");
+                out.value(value.GatherFocusInfo.booleanValue());
+            }
+            if (value.NeedsAttribution != null) {
+                out.name("NeedsAttribution");
+                out.value(value.NeedsAttribution.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public UserSettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSettings value = new UserSettings();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GatherDeviceInfo": value.GatherDeviceInfo = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GatherFocusInfo": value.GatherFocusInfo = PlayFabModelAdapters.readBoolean(in); break;
+                    case "NeedsAttribution": value.NeedsAttribution = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SteamActivationStatus != null) {
+                out.name("SteamActivationStatus");
+                titleActivationStatusAdapter.write(out, value.SteamActivationStatus);
+            }
+            if (value.SteamCountry != null) {
+                out.name("SteamCountry");
+                out.value(value.SteamCountry);
+            }
+            if (value.SteamCurrency != null) {
+                out.name("SteamCurrency");
+                currencyAdapter.write(out, value.SteamCurrency);
+            }
+            if (value.SteamId != null) {
+                out.name("SteamId");
+                out.value(value.SteamId);
+            }
+            out.endObject();
+        }
+
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                    case "SteamCountry": value.SteamCountry = PlayFabModelAdapters.readString(in); break;
+                    case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                    case "SteamId": value.SteamId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.FirstLogin != null) {
+                out.name("FirstLogin");
+                dateAdapter.write(out, value.FirstLogin);
+            }
+            if (value.isBanned != null) {
+                out.name("isBanned");
+                out.value(value.isBanned.booleanValue());
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                userOriginationAdapter.write(out, value.Origination);
+            }
+            if (value.TitlePlayerAccount != null) {
+                out.name("TitlePlayerAccount");
+                entityKeyAdapter.write(out, value.TitlePlayerAccount);
+            }
+            out.endObject();
+        }
+
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                    case "isBanned": value.isBanned = PlayFabModelAdapters.readBoolean(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                    case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TwitchId != null) {
+                out.name("TwitchId");
+                out.value(value.TwitchId);
+            }
+            if (value.TwitchUserName != null) {
+                out.name("TwitchUserName");
+                out.value(value.TwitchUserName);
+            }
+            out.endObject();
+        }
+
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TwitchId": value.TwitchId = PlayFabModelAdapters.readString(in); break;
+                    case "TwitchUserName": value.TwitchUserName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserWindowsHelloInfoAdapter extends TypeAdapter<UserWindowsHelloInfo> {
+        UserWindowsHelloInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserWindowsHelloInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.WindowsHelloDeviceName != null) {
+                out.name("WindowsHelloDeviceName");
+                out.value(value.WindowsHelloDeviceName);
+            }
+            if (value.WindowsHelloPublicKeyHash != null) {
+                out.name("WindowsHelloPublicKeyHash");
+                out.value(value.WindowsHelloPublicKeyHash);
+            }
+            out.endObject();
+        }
+
+        public UserWindowsHelloInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserWindowsHelloInfo value = new UserWindowsHelloInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "WindowsHelloDeviceName": value.WindowsHelloDeviceName = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloPublicKeyHash": value.WindowsHelloPublicKeyHash = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.XboxUserId != null) {
+                out.name("XboxUserId");
+                out.value(value.XboxUserId);
+            }
+            out.endObject();
+        }
+
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "XboxUserId": value.XboxUserId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateAmazonReceiptRequestAdapter extends TypeAdapter<ValidateAmazonReceiptRequest> {
+        ValidateAmazonReceiptRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateAmazonReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CurrencyCode != null) {
+                out.name("CurrencyCode");
+                out.value(value.CurrencyCode);
+            }
+            if (value.PurchasePrice != null) {
+                out.name("PurchasePrice");
+                out.value(value.PurchasePrice);
+            }
+            if (value.ReceiptId != null) {
+                out.name("ReceiptId");
+                out.value(value.ReceiptId);
+            }
+            if (value.UserId != null) {
+                out.name("UserId");
+                out.value(value.UserId);
+            }
+            out.endObject();
+        }
+
+        public ValidateAmazonReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateAmazonReceiptRequest value = new ValidateAmazonReceiptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CurrencyCode": value.CurrencyCode = PlayFabModelAdapters.readString(in); break;
+                    case "PurchasePrice": value.PurchasePrice = PlayFabModelAdapters.readInteger(in); break;
+                    case "ReceiptId": value.ReceiptId = PlayFabModelAdapters.readString(in); break;
+                    case "UserId": value.UserId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateAmazonReceiptResultAdapter extends TypeAdapter<ValidateAmazonReceiptResult> {
+        ValidateAmazonReceiptResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateAmazonReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ValidateAmazonReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateAmazonReceiptResult value = new ValidateAmazonReceiptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateGooglePlayPurchaseRequestAdapter extends TypeAdapter<ValidateGooglePlayPurchaseRequest> {
+        ValidateGooglePlayPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateGooglePlayPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CurrencyCode != null) {
+                out.name("CurrencyCode");
+                out.value(value.CurrencyCode);
+            }
+            if (value.PurchasePrice != null) {
+                out.name("PurchasePrice");
+                out.value(value.PurchasePrice);
+            }
+            if (value.ReceiptJson != null) {
+                out.name("ReceiptJson");
+                out.value(value.ReceiptJson);
+            }
+            if (value.Signature != null) {
+                out.name("Signature");
+                out.value(value.Signature);
+            }
+            out.endObject();
+        }
+
+        public ValidateGooglePlayPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateGooglePlayPurchaseRequest value = new ValidateGooglePlayPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CurrencyCode": value.CurrencyCode = PlayFabModelAdapters.readString(in); break;
+                    case "PurchasePrice": value.PurchasePrice = PlayFabModelAdapters.readLong(in); break;
+                    case "ReceiptJson": value.ReceiptJson = PlayFabModelAdapters.readString(in); break;
+                    case "Signature": value.Signature = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateGooglePlayPurchaseResultAdapter extends TypeAdapter<ValidateGooglePlayPurchaseResult> {
+        ValidateGooglePlayPurchaseResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateGooglePlayPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ValidateGooglePlayPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateGooglePlayPurchaseResult value = new ValidateGooglePlayPurchaseResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateIOSReceiptRequestAdapter extends TypeAdapter<ValidateIOSReceiptRequest> {
+        ValidateIOSReceiptRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateIOSReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CurrencyCode != null) {
+                out.name("CurrencyCode");
+                out.value(value.CurrencyCode);
+            }
+            if (value.PurchasePrice != null) {
+                out.name("PurchasePrice");
+                out.value(value.PurchasePrice);
+            }
+            if (value.ReceiptData != null) {
+                out.name("ReceiptData");
+                out.value(value.ReceiptData);
+            }
+            out.endObject();
+        }
+
+        public ValidateIOSReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateIOSReceiptRequest value = new ValidateIOSReceiptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CurrencyCode": value.CurrencyCode = PlayFabModelAdapters.readString(in); break;
+                    case "PurchasePrice": value.PurchasePrice = PlayFabModelAdapters.readInteger(in); break;
+                    case "ReceiptData": value.ReceiptData = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateIOSReceiptResultAdapter extends TypeAdapter<ValidateIOSReceiptResult> {
+        ValidateIOSReceiptResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateIOSReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ValidateIOSReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateIOSReceiptResult value = new ValidateIOSReceiptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateWindowsReceiptRequestAdapter extends TypeAdapter<ValidateWindowsReceiptRequest> {
+        ValidateWindowsReceiptRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateWindowsReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CurrencyCode != null) {
+                out.name("CurrencyCode");
+                out.value(value.CurrencyCode);
+            }
+            if (value.PurchasePrice != null) {
+                out.name("PurchasePrice");
+                out.value(value.PurchasePrice);
+            }
+            if (value.Receipt != null) {
+                out.name("Receipt");
+                out.value(value.Receipt);
+            }
+            out.endObject();
+        }
+
+        public ValidateWindowsReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateWindowsReceiptRequest value = new ValidateWindowsReceiptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CurrencyCode": value.CurrencyCode = PlayFabModelAdapters.readString(in); break;
+                    case "PurchasePrice": value.PurchasePrice = PlayFabModelAdapters.readLong(in); break;
+                    case "Receipt": value.Receipt = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValidateWindowsReceiptResultAdapter extends TypeAdapter<ValidateWindowsReceiptResult> {
+        ValidateWindowsReceiptResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValidateWindowsReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ValidateWindowsReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateWindowsReceiptResult value = new ValidateWindowsReceiptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Currency != null) {
+                out.name("Currency");
+                out.value(value.Currency);
+            }
+            if (value.TotalValue != null) {
+                out.name("TotalValue");
+                out.value(value.TotalValue);
+            }
+            if (value.TotalValueAsDecimal != null) {
+                out.name("TotalValueAsDecimal");
+                out.value(value.TotalValueAsDecimal);
+            }
+            out.endObject();
+        }
+
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Currency": value.Currency = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValue": value.TotalValue = PlayFabModelAdapters.readLong(in); break;
+                    case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RechargeMax != null) {
+                out.name("RechargeMax");
+                out.value(value.RechargeMax);
+            }
+            if (value.RechargeTime != null) {
+                out.name("RechargeTime");
+                dateAdapter.write(out, value.RechargeTime);
+            }
+            if (value.SecondsToRecharge != null) {
+                out.name("SecondsToRecharge");
+                out.value(value.SecondsToRecharge);
+            }
+            out.endObject();
+        }
+
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RechargeMax": value.RechargeMax = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                    case "SecondsToRecharge": value.SecondsToRecharge = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteClientCharacterEventRequestAdapter extends TypeAdapter<WriteClientCharacterEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteClientCharacterEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteClientCharacterEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteClientCharacterEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteClientCharacterEventRequest value = new WriteClientCharacterEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteClientPlayerEventRequestAdapter extends TypeAdapter<WriteClientPlayerEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteClientPlayerEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteClientPlayerEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteClientPlayerEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteClientPlayerEventRequest value = new WriteClientPlayerEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteEventResponseAdapter extends TypeAdapter<WriteEventResponse> {
+        WriteEventResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, WriteEventResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EventId != null) {
+                out.name("EventId");
+                out.value(value.EventId);
+            }
+            out.endObject();
+        }
+
+        public WriteEventResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventResponse value = new WriteEventResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EventId": value.EventId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteTitleEventRequestAdapter extends TypeAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteTitleEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteTitleEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteTitleEventRequest value = new WriteTitleEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<CloudScriptRevisionOption> CloudScriptRevisionOptionAdapter = new TypeAdapter<CloudScriptRevisionOption>() {
+        public void write(JsonWriter out, CloudScriptRevisionOption value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CloudScriptRevisionOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Live": return CloudScriptRevisionOption.Live;
+                case "Latest": return CloudScriptRevisionOption.Latest;
+                case "Specific": return CloudScriptRevisionOption.Specific;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ContinentCode> ContinentCodeAdapter = new TypeAdapter<ContinentCode>() {
+        public void write(JsonWriter out, ContinentCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ContinentCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return ContinentCode.AF;
+                case "AN": return ContinentCode.AN;
+                case "AS": return ContinentCode.AS;
+                case "EU": return ContinentCode.EU;
+                case "NA": return ContinentCode.NA;
+                case "OC": return ContinentCode.OC;
+                case "SA": return ContinentCode.SA;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<CountryCode> CountryCodeAdapter = new TypeAdapter<CountryCode>() {
+        public void write(JsonWriter out, CountryCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CountryCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return CountryCode.AF;
+                case "AX": return CountryCode.AX;
+                case "AL": return CountryCode.AL;
+                case "DZ": return CountryCode.DZ;
+                case "AS": return CountryCode.AS;
+                case "AD": return CountryCode.AD;
+                case "AO": return CountryCode.AO;
+                case "AI": return CountryCode.AI;
+                case "AQ": return CountryCode.AQ;
+                case "AG": return CountryCode.AG;
+                case "AR": return CountryCode.AR;
+                case "AM": return CountryCode.AM;
+                case "AW": return CountryCode.AW;
+                case "AU": return CountryCode.AU;
+                case "AT": return CountryCode.AT;
+                case "AZ": return CountryCode.AZ;
+                case "BS": return CountryCode.BS;
+                case "BH": return CountryCode.BH;
+                case "BD": return CountryCode.BD;
+                case "BB": return CountryCode.BB;
+                case "BY": return CountryCode.BY;
+                case "BE": return CountryCode.BE;
+                case "BZ": return CountryCode.BZ;
+                case "BJ": return CountryCode.BJ;
+                case "BM": return CountryCode.BM;
+                case "BT": return CountryCode.BT;
+                case "BO": return CountryCode.BO;
+                case "BQ": return CountryCode.BQ;
+                case "BA": return CountryCode.BA;
+                case "BW": return CountryCode.BW;
+                case "BV": return CountryCode.BV;
+                case "BR": return CountryCode.BR;
+                case "IO": return CountryCode.IO;
+                case "BN": return CountryCode.BN;
+                case "BG": return CountryCode.BG;
+                case "BF": return CountryCode.BF;
+                case "BI": return CountryCode.BI;
+                case "KH": return CountryCode.KH;
+                case "CM": return CountryCode.CM;
+                case "CA": return CountryCode.CA;
+                case "CV": return CountryCode.CV;
+                case "KY": return CountryCode.KY;
+                case "CF": return CountryCode.CF;
+                case "TD": return CountryCode.TD;
+                case "CL": return CountryCode.CL;
+                case "CN": return CountryCode.CN;
+                case "CX": return CountryCode.CX;
+                case "CC": return CountryCode.CC;
+                case "CO": return CountryCode.CO;
+                case "KM": return CountryCode.KM;
+                case "CG": return CountryCode.CG;
+                case "CD": return CountryCode.CD;
+                case "CK": return CountryCode.CK;
+                case "CR": return CountryCode.CR;
+                case "CI": return CountryCode.CI;
+                case "HR": return CountryCode.HR;
+                case "CU": return CountryCode.CU;
+                case "CW": return CountryCode.CW;
+                case "CY": return CountryCode.CY;
+                case "CZ": return CountryCode.CZ;
+                case "DK": return CountryCode.DK;
+                case "DJ": return CountryCode.DJ;
+                case "DM": return CountryCode.DM;
+                case "DO": return CountryCode.DO;
+                case "EC": return CountryCode.EC;
+                case "EG": return CountryCode.EG;
+                case "SV": return CountryCode.SV;
+                case "GQ": return CountryCode.GQ;
+                case "ER": return CountryCode.ER;
+                case "EE": return CountryCode.EE;
+                case "ET": return CountryCode.ET;
+                case "FK": return CountryCode.FK;
+                case "FO": return CountryCode.FO;
+                case "FJ": return CountryCode.FJ;
+                case "FI": return CountryCode.FI;
+                case "FR": return CountryCode.FR;
+                case "GF": return CountryCode.GF;
+                case "PF": return CountryCode.PF;
+                case "TF": return CountryCode.TF;
+                case "GA": return CountryCode.GA;
+                case "GM": return CountryCode.GM;
+                case "GE": return CountryCode.GE;
+                case "DE": return CountryCode.DE;
+                case "GH": return CountryCode.GH;
+                case "GI": return CountryCode.GI;
+                case "GR": return CountryCode.GR;
+                case "GL": return CountryCode.GL;
+                case "GD": return CountryCode.GD;
+                case "GP": return CountryCode.GP;
+                case "GU": return CountryCode.GU;
+                case "GT": return CountryCode.GT;
+                case "GG": return CountryCode.GG;
+                case "GN": return CountryCode.GN;
+                case "GW": return CountryCode.GW;
+                case "GY": return CountryCode.GY;
+                case "HT": return CountryCode.HT;
+                case "HM": return CountryCode.HM;
+                case "VA": return CountryCode.VA;
+                case "HN": return CountryCode.HN;
+                case "HK": return CountryCode.HK;
+                case "HU": return CountryCode.HU;
+                case "IS": return CountryCode.IS;
+                case "IN": return CountryCode.IN;
+                case "ID": return CountryCode.ID;
+                case "IR": return CountryCode.IR;
+                case "IQ": return CountryCode.IQ;
+                case "IE": return CountryCode.IE;
+                case "IM": return CountryCode.IM;
+                case "IL": return CountryCode.IL;
+                case "IT": return CountryCode.IT;
+                case "JM": return CountryCode.JM;
+                case "JP": return CountryCode.JP;
+                case "JE": return CountryCode.JE;
+                case "JO": return CountryCode.JO;
+                case "KZ": return CountryCode.KZ;
+                case "KE": return CountryCode.KE;
+                case "KI": return CountryCode.KI;
+                case "KP": return CountryCode.KP;
+                case "KR": return CountryCode.KR;
+                case "KW": return CountryCode.KW;
+                case "KG": return CountryCode.KG;
+                case "LA": return CountryCode.LA;
+                case "LV": return CountryCode.LV;
+                case "LB": return CountryCode.LB;
+                case "LS": return CountryCode.LS;
+                case "LR": return CountryCode.LR;
+                case "LY": return CountryCode.LY;
+                case "LI": return CountryCode.LI;
+                case "LT": return CountryCode.LT;
+                case "LU": return CountryCode.LU;
+                case "MO": return CountryCode.MO;
+                case "MK": return CountryCode.MK;
+                case "MG": return CountryCode.MG;
+                case "MW": return CountryCode.MW;
+                case "MY": return CountryCode.MY;
+                case "MV": return CountryCode.MV;
+                case "ML": return CountryCode.ML;
+                case "MT": return CountryCode.MT;
+                case "MH": return CountryCode.MH;
+                case "MQ": return CountryCode.MQ;
+                case "MR": return CountryCode.MR;
+                case "MU": return CountryCode.MU;
+                case "YT": return CountryCode.YT;
+                case "MX": return CountryCode.MX;
+                case "FM": return CountryCode.FM;
+                case "MD": return CountryCode.MD;
+                case "MC": return CountryCode.MC;
+                case "MN": return CountryCode.MN;
+                case "ME": return CountryCode.ME;
+                case "MS": return CountryCode.MS;
+                case "MA": return CountryCode.MA;
+                case "MZ": return CountryCode.MZ;
+                case "MM": return CountryCode.MM;
+                case "NA": return CountryCode.NA;
+                case "NR": return CountryCode.NR;
+                case "NP": return CountryCode.NP;
+                case "NL": return CountryCode.NL;
+                case "NC": return CountryCode.NC;
+                case "NZ": return CountryCode.NZ;
+                case "NI": return CountryCode.NI;
+                case "NE": return CountryCode.NE;
+                case "NG": return CountryCode.NG;
+                case "NU": return CountryCode.NU;
+                case "NF": return CountryCode.NF;
+                case "MP": return CountryCode.MP;
+                case "NO": return CountryCode.NO;
+                case "OM": return CountryCode.OM;
+                case "PK": return CountryCode.PK;
+                case "PW": return CountryCode.PW;
+                case "PS": return CountryCode.PS;
+                case "PA": return CountryCode.PA;
+                case "PG": return CountryCode.PG;
+                case "PY": return CountryCode.PY;
+                case "PE": return CountryCode.PE;
+                case "PH": return CountryCode.PH;
+                case "PN": return CountryCode.PN;
+                case "PL": return CountryCode.PL;
+                case "PT": return CountryCode.PT;
+                case "PR": return CountryCode.PR;
+                case "QA": return CountryCode.QA;
+                case "RE": return CountryCode.RE;
+                case "RO": return CountryCode.RO;
+                case "RU": return CountryCode.RU;
+                case "RW": return CountryCode.RW;
+                case "BL": return CountryCode.BL;
+                case "SH": return CountryCode.SH;
+                case "KN": return CountryCode.KN;
+                case "LC": return CountryCode.LC;
+                case "MF": return CountryCode.MF;
+                case "PM": return CountryCode.PM;
+                case "VC": return CountryCode.VC;
+                case "WS": return CountryCode.WS;
+                case "SM": return CountryCode.SM;
+                case "ST": return CountryCode.ST;
+                case "SA": return CountryCode.SA;
+                case "SN": return CountryCode.SN;
+                case "RS": return CountryCode.RS;
+                case "SC": return CountryCode.SC;
+                case "SL": return CountryCode.SL;
+                case "SG": return CountryCode.SG;
+                case "SX": return CountryCode.SX;
+                case "SK": return CountryCode.SK;
+                case "SI": return CountryCode.SI;
+                case "SB": return CountryCode.SB;
+                case "SO": return CountryCode.SO;
+                case "ZA": return CountryCode.ZA;
+                case "GS": return CountryCode.GS;
+                case "SS": return CountryCode.SS;
+                case "ES": return CountryCode.ES;
+                case "LK": return CountryCode.LK;
+                case "SD": return CountryCode.SD;
+                case "SR": return CountryCode.SR;
+                case "SJ": return CountryCode.SJ;
+                case "SZ": return CountryCode.SZ;
+                case "SE": return CountryCode.SE;
+                case "CH": return CountryCode.CH;
+                case "SY": return CountryCode.SY;
+                case "TW": return CountryCode.TW;
+                case "TJ": return CountryCode.TJ;
+                case "TZ": return CountryCode.TZ;
+                case "TH": return CountryCode.TH;
+                case "TL": return CountryCode.TL;
+                case "TG": return CountryCode.TG;
+                case "TK": return CountryCode.TK;
+                case "TO": return CountryCode.TO;
+                case "TT": return CountryCode.TT;
+                case "TN": return CountryCode.TN;
+                case "TR": return CountryCode.TR;
+                case "TM": return CountryCode.TM;
+                case "TC": return CountryCode.TC;
+                case "TV": return CountryCode.TV;
+                case "UG": return CountryCode.UG;
+                case "UA": return CountryCode.UA;
+                case "AE": return CountryCode.AE;
+                case "GB": return CountryCode.GB;
+                case "US": return CountryCode.US;
+                case "UM": return CountryCode.UM;
+                case "UY": return CountryCode.UY;
+                case "UZ": return CountryCode.UZ;
+                case "VU": return CountryCode.VU;
+                case "VE": return CountryCode.VE;
+                case "VN": return CountryCode.VN;
+                case "VG": return CountryCode.VG;
+                case "VI": return CountryCode.VI;
+                case "WF": return CountryCode.WF;
+                case "EH": return CountryCode.EH;
+                case "YE": return CountryCode.YE;
+                case "ZM": return CountryCode.ZM;
+                case "ZW": return CountryCode.ZW;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Currency> CurrencyAdapter = new TypeAdapter<Currency>() {
+        public void write(JsonWriter out, Currency value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Currency read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AED": return Currency.AED;
+                case "AFN": return Currency.AFN;
+                case "ALL": return Currency.ALL;
+                case "AMD": return Currency.AMD;
+                case "ANG": return Currency.ANG;
+                case "AOA": return Currency.AOA;
+                case "ARS": return Currency.ARS;
+                case "AUD": return Currency.AUD;
+                case "AWG": return Currency.AWG;
+                case "AZN": return Currency.AZN;
+                case "BAM": return Currency.BAM;
+                case "BBD": return Currency.BBD;
+                case "BDT": return Currency.BDT;
+                case "BGN": return Currency.BGN;
+                case "BHD": return Currency.BHD;
+                case "BIF": return Currency.BIF;
+                case "BMD": return Currency.BMD;
+                case "BND": return Currency.BND;
+                case "BOB": return Currency.BOB;
+                case "BRL": return Currency.BRL;
+                case "BSD": return Currency.BSD;
+                case "BTN": return Currency.BTN;
+                case "BWP": return Currency.BWP;
+                case "BYR": return Currency.BYR;
+                case "BZD": return Currency.BZD;
+                case "CAD": return Currency.CAD;
+                case "CDF": return Currency.CDF;
+                case "CHF": return Currency.CHF;
+                case "CLP": return Currency.CLP;
+                case "CNY": return Currency.CNY;
+                case "COP": return Currency.COP;
+                case "CRC": return Currency.CRC;
+                case "CUC": return Currency.CUC;
+                case "CUP": return Currency.CUP;
+                case "CVE": return Currency.CVE;
+                case "CZK": return Currency.CZK;
+                case "DJF": return Currency.DJF;
+                case "DKK": return Currency.DKK;
+                case "DOP": return Currency.DOP;
+                case "DZD": return Currency.DZD;
+                case "EGP": return Currency.EGP;
+                case "ERN": return Currency.ERN;
+                case "ETB": return Currency.ETB;
+                case "EUR": return Currency.EUR;
+                case "FJD": return Currency.FJD;
+                case "FKP": return Currency.FKP;
+                case "GBP": return Currency.GBP;
+                case "GEL": return Currency.GEL;
+                case "GGP": return Currency.GGP;
+                case "GHS": return Currency.GHS;
+                case "GIP": return Currency.GIP;
+                case "GMD": return Currency.GMD;
+                case "GNF": return Currency.GNF;
+                case "GTQ": return Currency.GTQ;
+                case "GYD": return Currency.GYD;
+                case "HKD": return Currency.HKD;
+                case "HNL": return Currency.HNL;
+                case "HRK": return Currency.HRK;
+                case "HTG": return Currency.HTG;
+                case "HUF": return Currency.HUF;
+                case "IDR": return Currency.IDR;
+                case "ILS": return Currency.ILS;
+                case "IMP": return Currency.IMP;
+                case "INR": return Currency.INR;
+                case "IQD": return Currency.IQD;
+                case "IRR": return Currency.IRR;
+                case "ISK": return Currency.ISK;
+                case "JEP": return Currency.JEP;
+                case "JMD": return Currency.JMD;
+                case "JOD": return Currency.JOD;
+                case "JPY": return Currency.JPY;
+                case "KES": return Currency.KES;
+                case "KGS": return Currency.KGS;
+                case "KHR": return Currency.KHR;
+                case "KMF": return Currency.KMF;
+                case "KPW": return Currency.KPW;
+                case "KRW": return Currency.KRW;
+                case "KWD": return Currency.KWD;
+                case "KYD": return Currency.KYD;
+                case "KZT": return Currency.KZT;
+                case "LAK": return Currency.LAK;
+                case "LBP": return Currency.LBP;
+                case "LKR": return Currency.LKR;
+                case "LRD": return Currency.LRD;
+                case "LSL": return Currency.LSL;
+                case "LYD": return Currency.LYD;
+                case "MAD": return Currency.MAD;
+                case "MDL": return Currency.MDL;
+                case "MGA": return Currency.MGA;
+                case "MKD": return Currency.MKD;
+                case "MMK": return Currency.MMK;
+                case "MNT": return Currency.MNT;
+                case "MOP": return Currency.MOP;
+                case "MRO": return Currency.MRO;
+                case "MUR": return Currency.MUR;
+                case "MVR": return Currency.MVR;
+                case "MWK": return Currency.MWK;
+                case "MXN": return Currency.MXN;
+                case "MYR": return Currency.MYR;
+                case "MZN": return Currency.MZN;
+                case "NAD": return Currency.NAD;
+                case "NGN": return Currency.NGN;
+                case "NIO": return Currency.NIO;
+                case "NOK": return Currency.NOK;
+                case "NPR": return Currency.NPR;
+                case "NZD": return Currency.NZD;
+                case "OMR": return Currency.OMR;
+                case "PAB": return Currency.PAB;
+                case "PEN": return Currency.PEN;
+                case "PGK": return Currency.PGK;
+                case "PHP": return Currency.PHP;
+                case "PKR": return Currency.PKR;
+                case "PLN": return Currency.PLN;
+                case "PYG": return Currency.PYG;
+                case "QAR": return Currency.QAR;
+                case "RON": return Currency.RON;
+                case "RSD": return Currency.RSD;
+                case "RUB": return Currency.RUB;
+                case "RWF": return Currency.RWF;
+                case "SAR": return Currency.SAR;
+                case "SBD": return Currency.SBD;
+                case "SCR": return Currency.SCR;
+                case "SDG": return Currency.SDG;
+                case "SEK": return Currency.SEK;
+                case "SGD": return Currency.SGD;
+                case "SHP": return Currency.SHP;
+                case "SLL": return Currency.SLL;
+                case "SOS": return Currency.SOS;
+                case "SPL": return Currency.SPL;
+                case "SRD": return Currency.SRD;
+                case "STD": return Currency.STD;
+                case "SVC": return Currency.SVC;
+                case "SYP": return Currency.SYP;
+                case "SZL": return Currency.SZL;
+                case "THB": return Currency.THB;
+                case "TJS": return Currency.TJS;
+                case "TMT": return Currency.TMT;
+                case "TND": return Currency.TND;
+                case "TOP": return Currency.TOP;
+                case "TRY": return Currency.TRY;
+                case "TTD": return Currency.TTD;
+                case "TVD": return Currency.TVD;
+                case "TWD": return Currency.TWD;
+                case "TZS": return Currency.TZS;
+                case "UAH": return Currency.UAH;
+                case "UGX": return Currency.UGX;
+                case "USD": return Currency.USD;
+                case "UYU": return Currency.UYU;
+                case "UZS": return Currency.UZS;
+                case "VEF": return Currency.VEF;
+                case "VND": return Currency.VND;
+                case "VUV": return Currency.VUV;
+                case "WST": return Currency.WST;
+                case "XAF": return Currency.XAF;
+                case "XCD": return Currency.XCD;
+                case "XDR": return Currency.XDR;
+                case "XOF": return Currency.XOF;
+                case "XPF": return Currency.XPF;
+                case "YER": return Currency.YER;
+                case "ZAR": return Currency.ZAR;
+                case "ZMW": return Currency.ZMW;
+                case "ZWD": return Currency.ZWD;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<EmailVerificationStatus> EmailVerificationStatusAdapter = new TypeAdapter<EmailVerificationStatus>() {
+        public void write(JsonWriter out, EmailVerificationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public EmailVerificationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unverified": return EmailVerificationStatus.Unverified;
+                case "Pending": return EmailVerificationStatus.Pending;
+                case "Confirmed": return EmailVerificationStatus.Confirmed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<GameInstanceState> GameInstanceStateAdapter = new TypeAdapter<GameInstanceState>() {
+        public void write(JsonWriter out, GameInstanceState value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public GameInstanceState read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Open": return GameInstanceState.Open;
+                case "Closed": return GameInstanceState.Closed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<LoginIdentityProvider> LoginIdentityProviderAdapter = new TypeAdapter<LoginIdentityProvider>() {
+        public void write(JsonWriter out, LoginIdentityProvider value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public LoginIdentityProvider read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unknown": return LoginIdentityProvider.Unknown;
+                case "PlayFab": return LoginIdentityProvider.PlayFab;
+                case "Custom": return LoginIdentityProvider.Custom;
+                case "GameCenter": return LoginIdentityProvider.GameCenter;
+                case "GooglePlay": return LoginIdentityProvider.GooglePlay;
+                case "Steam": return LoginIdentityProvider.Steam;
+                case "XBoxLive": return LoginIdentityProvider.XBoxLive;
+                case "PSN": return LoginIdentityProvider.PSN;
+                case "Kongregate": return LoginIdentityProvider.Kongregate;
+                case "Facebook": return LoginIdentityProvider.Facebook;
+                case "IOSDevice": return LoginIdentityProvider.IOSDevice;
+                case "AndroidDevice": return LoginIdentityProvider.AndroidDevice;
+                case "Twitch": return LoginIdentityProvider.Twitch;
+                case "WindowsHello": return LoginIdentityProvider.WindowsHello;
+                case "GameServer": return LoginIdentityProvider.GameServer;
+                case "CustomServer": return LoginIdentityProvider.CustomServer;
+                case "NintendoSwitch": return LoginIdentityProvider.NintendoSwitch;
+                case "FacebookInstantGames": return LoginIdentityProvider.FacebookInstantGames;
+                case "OpenIdConnect": return LoginIdentityProvider.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<MatchmakeStatus> MatchmakeStatusAdapter = new TypeAdapter<MatchmakeStatus>() {
+        public void write(JsonWriter out, MatchmakeStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public MatchmakeStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Complete": return MatchmakeStatus.Complete;
+                case "Waiting": return MatchmakeStatus.Waiting;
+                case "GameNotFound": return MatchmakeStatus.GameNotFound;
+                case "NoAvailableSlots": return MatchmakeStatus.NoAvailableSlots;
+                case "SessionClosed": return MatchmakeStatus.SessionClosed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<PushNotificationPlatform> PushNotificationPlatformAdapter = new TypeAdapter<PushNotificationPlatform>() {
+        public void write(JsonWriter out, PushNotificationPlatform value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public PushNotificationPlatform read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "ApplePushNotificationService": return PushNotificationPlatform.ApplePushNotificationService;
+                case "GoogleCloudMessaging": return PushNotificationPlatform.GoogleCloudMessaging;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Region> RegionAdapter = new TypeAdapter<Region>() {
+        public void write(JsonWriter out, Region value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Region read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "USCentral": return Region.USCentral;
+                case "USEast": return Region.USEast;
+                case "EUWest": return Region.EUWest;
+                case "Singapore": return Region.Singapore;
+                case "Japan": return Region.Japan;
+                case "Brazil": return Region.Brazil;
+                case "Australia": return Region.Australia;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<SourceType> SourceTypeAdapter = new TypeAdapter<SourceType>() {
+        public void write(JsonWriter out, SourceType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public SourceType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Admin": return SourceType.Admin;
+                case "BackEnd": return SourceType.BackEnd;
+                case "GameClient": return SourceType.GameClient;
+                case "GameServer": return SourceType.GameServer;
+                case "Partner": return SourceType.Partner;
+                case "Custom": return SourceType.Custom;
+                case "API": return SourceType.API;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<SubscriptionProviderStatus> SubscriptionProviderStatusAdapter = new TypeAdapter<SubscriptionProviderStatus>() {
+        public void write(JsonWriter out, SubscriptionProviderStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public SubscriptionProviderStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "NoError": return SubscriptionProviderStatus.NoError;
+                case "Cancelled": return SubscriptionProviderStatus.Cancelled;
+                case "UnknownError": return SubscriptionProviderStatus.UnknownError;
+                case "BillingError": return SubscriptionProviderStatus.BillingError;
+                case "ProductUnavailable": return SubscriptionProviderStatus.ProductUnavailable;
+                case "CustomerDidNotAcceptPriceChange": return SubscriptionProviderStatus.CustomerDidNotAcceptPriceChange;
+                case "FreeTrial": return SubscriptionProviderStatus.FreeTrial;
+                case "PaymentPending": return SubscriptionProviderStatus.PaymentPending;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TitleActivationStatus> TitleActivationStatusAdapter = new TypeAdapter<TitleActivationStatus>() {
+        public void write(JsonWriter out, TitleActivationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TitleActivationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "None": return TitleActivationStatus.None;
+                case "ActivatedTitleKey": return TitleActivationStatus.ActivatedTitleKey;
+                case "PendingSteam": return TitleActivationStatus.PendingSteam;
+                case "ActivatedSteam": return TitleActivationStatus.ActivatedSteam;
+                case "RevokedSteam": return TitleActivationStatus.RevokedSteam;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TradeStatus> TradeStatusAdapter = new TypeAdapter<TradeStatus>() {
+        public void write(JsonWriter out, TradeStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TradeStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Invalid": return TradeStatus.Invalid;
+                case "Opening": return TradeStatus.Opening;
+                case "Open": return TradeStatus.Open;
+                case "Accepting": return TradeStatus.Accepting;
+                case "Accepted": return TradeStatus.Accepted;
+                case "Filled": return TradeStatus.Filled;
+                case "Cancelled": return TradeStatus.Cancelled;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TransactionStatus> TransactionStatusAdapter = new TypeAdapter<TransactionStatus>() {
+        public void write(JsonWriter out, TransactionStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TransactionStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "CreateCart": return TransactionStatus.CreateCart;
+                case "Init": return TransactionStatus.Init;
+                case "Approved": return TransactionStatus.Approved;
+                case "Succeeded": return TransactionStatus.Succeeded;
+                case "FailedByProvider": return TransactionStatus.FailedByProvider;
+                case "DisputePending": return TransactionStatus.DisputePending;
+                case "RefundPending": return TransactionStatus.RefundPending;
+                case "Refunded": return TransactionStatus.Refunded;
+                case "RefundFailed": return TransactionStatus.RefundFailed;
+                case "ChargedBack": return TransactionStatus.ChargedBack;
+                case "FailedByUber": return TransactionStatus.FailedByUber;
+                case "FailedByPlayFab": return TransactionStatus.FailedByPlayFab;
+                case "Revoked": return TransactionStatus.Revoked;
+                case "TradePending": return TransactionStatus.TradePending;
+                case "Traded": return TransactionStatus.Traded;
+                case "Upgraded": return TransactionStatus.Upgraded;
+                case "StackPending": return TransactionStatus.StackPending;
+                case "Stacked": return TransactionStatus.Stacked;
+                case "Other": return TransactionStatus.Other;
+                case "Failed": return TransactionStatus.Failed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserDataPermission> UserDataPermissionAdapter = new TypeAdapter<UserDataPermission>() {
+        public void write(JsonWriter out, UserDataPermission value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserDataPermission read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Private": return UserDataPermission.Private;
+                case "Public": return UserDataPermission.Public;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserOrigination> UserOriginationAdapter = new TypeAdapter<UserOrigination>() {
+        public void write(JsonWriter out, UserOrigination value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserOrigination read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Organic": return UserOrigination.Organic;
+                case "Steam": return UserOrigination.Steam;
+                case "Google": return UserOrigination.Google;
+                case "Amazon": return UserOrigination.Amazon;
+                case "Facebook": return UserOrigination.Facebook;
+                case "Kongregate": return UserOrigination.Kongregate;
+                case "GamersFirst": return UserOrigination.GamersFirst;
+                case "Unknown": return UserOrigination.Unknown;
+                case "IOS": return UserOrigination.IOS;
+                case "LoadTest": return UserOrigination.LoadTest;
+                case "Android": return UserOrigination.Android;
+                case "PSN": return UserOrigination.PSN;
+                case "GameCenter": return UserOrigination.GameCenter;
+                case "CustomId": return UserOrigination.CustomId;
+                case "XboxLive": return UserOrigination.XboxLive;
+                case "Parse": return UserOrigination.Parse;
+                case "Twitch": return UserOrigination.Twitch;
+                case "WindowsHello": return UserOrigination.WindowsHello;
+                case "ServerCustomId": return UserOrigination.ServerCustomId;
+                case "NintendoSwitchDeviceId": return UserOrigination.NintendoSwitchDeviceId;
+                case "FacebookInstantGamesId": return UserOrigination.FacebookInstantGamesId;
+                case "OpenIdConnect": return UserOrigination.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+}
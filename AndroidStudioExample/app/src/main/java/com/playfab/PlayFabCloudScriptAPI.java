@@ -6,22 +6,31 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /** API methods for executing CloudScript using an Entity Profile */
 public class PlayFabCloudScriptAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) {
+        return ExecuteEntityCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
      * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
      * @param request ExecuteEntityCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return ExecuteCloudScriptResult
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+    public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteEntityCloudScriptAsync(request);
             }
@@ -34,9 +43,20 @@ public class PlayFabCloudScriptAPI {
      * @param request ExecuteEntityCloudScriptRequest
      * @return ExecuteCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
-        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+        return ExecuteEntityCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteEntityCloudScriptAsync(request);
             }
@@ -45,10 +65,14 @@ public class PlayFabCloudScriptAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ExecuteEntityCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
     /**
      * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
      * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
@@ -57,7 +81,7 @@ public class PlayFabCloudScriptAPI {
     private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ExecuteEntityCloudScript"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ExecuteEntityCloudScript"), request, "X-EntityToken", PlayFabSettings.EntityToken, ExecuteEntityCloudScriptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -68,9 +92,8 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -0,0 +1,624 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabDataModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * Store arbitrary data associated with an entity. Objects are small (~1KB) JSON-compatible objects which are stored
+     * directly on the entity profile. Objects are made available for use in other PlayFab contexts, such as PlayStream events
+     * and CloudScript functions. Files can efficiently store data of any size or format. Both objects and files support a
+     * flexible permissions system to control read and write access by other entities.
+     *
+     * Instance-scoped version of PlayFabDataAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabDataInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabDataInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabDataInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @return Async Task will return AbortFileUploadsResponse
+     */
+    public FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request) {
+        return AbortFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AbortFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+            public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
+                return privateAbortFileUploadsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @return AbortFileUploadsResponse
+     */
+    public PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request) {
+        return AbortFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AbortFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AbortFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+            public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
+                return privateAbortFileUploadsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AbortFileUploadsResponse> exceptionResult = new PlayFabResult<AbortFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AbortFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<AbortFileUploadsResponse>>(){}.getType();
+
+    /** Abort pending file uploads to an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AbortFileUploadsResponse> privateAbortFileUploadsAsync(final AbortFileUploadsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/File/AbortFileUploads"), request, "X-EntityToken", authenticationContext.EntityToken, AbortFileUploadsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AbortFileUploadsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = (PlayFabJsonSuccess<AbortFileUploadsResponse>) httpResult;
+        AbortFileUploadsResponse result = resultData.data;
+
+        PlayFabResult<AbortFileUploadsResponse> pfResult = new PlayFabResult<AbortFileUploadsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @return Async Task will return DeleteFilesResponse
+     */
+    public FutureTask<PlayFabResult<DeleteFilesResponse>> DeleteFilesAsync(final DeleteFilesRequest request) {
+        return DeleteFilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteFilesResponse>> DeleteFilesAsync(final DeleteFilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteFilesResponse>>() {
+            public PlayFabResult<DeleteFilesResponse> call() throws Exception {
+                return privateDeleteFilesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @return DeleteFilesResponse
+     */
+    public PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request) {
+        return DeleteFiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteFilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteFilesResponse>>() {
+            public PlayFabResult<DeleteFilesResponse> call() throws Exception {
+                return privateDeleteFilesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteFilesResponse> exceptionResult = new PlayFabResult<DeleteFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteFilesResultType = new TypeToken<PlayFabJsonSuccess<DeleteFilesResponse>>(){}.getType();
+
+    /** Delete files on an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteFilesResponse> privateDeleteFilesAsync(final DeleteFilesRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/File/DeleteFiles"), request, "X-EntityToken", authenticationContext.EntityToken, DeleteFilesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteFilesResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteFilesResponse> resultData = (PlayFabJsonSuccess<DeleteFilesResponse>) httpResult;
+        DeleteFilesResponse result = resultData.data;
+
+        PlayFabResult<DeleteFilesResponse> pfResult = new PlayFabResult<DeleteFilesResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @return Async Task will return FinalizeFileUploadsResponse
+     */
+    public FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) {
+        return FinalizeFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return FinalizeFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+            public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
+                return privateFinalizeFileUploadsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @return FinalizeFileUploadsResponse
+     */
+    public PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
+        return FinalizeFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return FinalizeFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+            public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
+                return privateFinalizeFileUploadsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<FinalizeFileUploadsResponse> exceptionResult = new PlayFabResult<FinalizeFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type FinalizeFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<FinalizeFileUploadsResponse>>(){}.getType();
+
+    /** Finalize file uploads to an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<FinalizeFileUploadsResponse> privateFinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/File/FinalizeFileUploads"), request, "X-EntityToken", authenticationContext.EntityToken, FinalizeFileUploadsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<FinalizeFileUploadsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = (PlayFabJsonSuccess<FinalizeFileUploadsResponse>) httpResult;
+        FinalizeFileUploadsResponse result = resultData.data;
+
+        PlayFabResult<FinalizeFileUploadsResponse> pfResult = new PlayFabResult<FinalizeFileUploadsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @return Async Task will return GetFilesResponse
+     */
+    public FutureTask<PlayFabResult<GetFilesResponse>> GetFilesAsync(final GetFilesRequest request) {
+        return GetFilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetFilesResponse>> GetFilesAsync(final GetFilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFilesResponse>>() {
+            public PlayFabResult<GetFilesResponse> call() throws Exception {
+                return privateGetFilesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @return GetFilesResponse
+     */
+    public PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request) {
+        return GetFiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFilesResponse>>() {
+            public PlayFabResult<GetFilesResponse> call() throws Exception {
+                return privateGetFilesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetFilesResponse> exceptionResult = new PlayFabResult<GetFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFilesResultType = new TypeToken<PlayFabJsonSuccess<GetFilesResponse>>(){}.getType();
+
+    /** Retrieves file metadata from an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetFilesResponse> privateGetFilesAsync(final GetFilesRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/File/GetFiles"), request, "X-EntityToken", authenticationContext.EntityToken, GetFilesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetFilesResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetFilesResponse> resultData = (PlayFabJsonSuccess<GetFilesResponse>) httpResult;
+        GetFilesResponse result = resultData.data;
+
+        PlayFabResult<GetFilesResponse> pfResult = new PlayFabResult<GetFilesResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @return Async Task will return GetObjectsResponse
+     */
+    public FutureTask<PlayFabResult<GetObjectsResponse>> GetObjectsAsync(final GetObjectsRequest request) {
+        return GetObjectsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetObjectsResponse>> GetObjectsAsync(final GetObjectsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetObjectsResponse>>() {
+            public PlayFabResult<GetObjectsResponse> call() throws Exception {
+                return privateGetObjectsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @return GetObjectsResponse
+     */
+    public PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request) {
+        return GetObjects(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetObjectsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetObjectsResponse>>() {
+            public PlayFabResult<GetObjectsResponse> call() throws Exception {
+                return privateGetObjectsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetObjectsResponse> exceptionResult = new PlayFabResult<GetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetObjectsResultType = new TypeToken<PlayFabJsonSuccess<GetObjectsResponse>>(){}.getType();
+
+    /** Retrieves objects from an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetObjectsResponse> privateGetObjectsAsync(final GetObjectsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Object/GetObjects"), request, "X-EntityToken", authenticationContext.EntityToken, GetObjectsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetObjectsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetObjectsResponse> resultData = (PlayFabJsonSuccess<GetObjectsResponse>) httpResult;
+        GetObjectsResponse result = resultData.data;
+
+        PlayFabResult<GetObjectsResponse> pfResult = new PlayFabResult<GetObjectsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @return Async Task will return InitiateFileUploadsResponse
+     */
+    public FutureTask<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploadsAsync(final InitiateFileUploadsRequest request) {
+        return InitiateFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return InitiateFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploadsAsync(final InitiateFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+            public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
+                return privateInitiateFileUploadsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @return InitiateFileUploadsResponse
+     */
+    public PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request) {
+        return InitiateFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return InitiateFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<InitiateFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+            public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
+                return privateInitiateFileUploadsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<InitiateFileUploadsResponse> exceptionResult = new PlayFabResult<InitiateFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type InitiateFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<InitiateFileUploadsResponse>>(){}.getType();
+
+    /** Initiates file uploads to an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<InitiateFileUploadsResponse> privateInitiateFileUploadsAsync(final InitiateFileUploadsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/File/InitiateFileUploads"), request, "X-EntityToken", authenticationContext.EntityToken, InitiateFileUploadsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<InitiateFileUploadsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = (PlayFabJsonSuccess<InitiateFileUploadsResponse>) httpResult;
+        InitiateFileUploadsResponse result = resultData.data;
+
+        PlayFabResult<InitiateFileUploadsResponse> pfResult = new PlayFabResult<InitiateFileUploadsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @return Async Task will return SetObjectsResponse
+     */
+    public FutureTask<PlayFabResult<SetObjectsResponse>> SetObjectsAsync(final SetObjectsRequest request) {
+        return SetObjectsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetObjectsResponse>> SetObjectsAsync(final SetObjectsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetObjectsResponse>>() {
+            public PlayFabResult<SetObjectsResponse> call() throws Exception {
+                return privateSetObjectsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @return SetObjectsResponse
+     */
+    public PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request) {
+        return SetObjects(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetObjectsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetObjectsResponse>>() {
+            public PlayFabResult<SetObjectsResponse> call() throws Exception {
+                return privateSetObjectsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetObjectsResponse> exceptionResult = new PlayFabResult<SetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetObjectsResultType = new TypeToken<PlayFabJsonSuccess<SetObjectsResponse>>(){}.getType();
+
+    /** Sets objects on an entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetObjectsResponse> privateSetObjectsAsync(final SetObjectsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Object/SetObjects"), request, "X-EntityToken", authenticationContext.EntityToken, SetObjectsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetObjectsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetObjectsResponse> resultData = (PlayFabJsonSuccess<SetObjectsResponse>) httpResult;
+        SetObjectsResponse result = resultData.data;
+
+        PlayFabResult<SetObjectsResponse> pfResult = new PlayFabResult<SetObjectsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
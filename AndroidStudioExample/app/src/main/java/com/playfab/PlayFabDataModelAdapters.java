@@ -0,0 +1,1035 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabDataModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabDataModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabDataModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AbortFileUploadsRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new AbortFileUploadsResponseAdapter(gson);
+                case 2: return (TypeAdapter<T>) new DeleteFilesRequestAdapter(gson);
+                case 3: return (TypeAdapter<T>) new DeleteFilesResponseAdapter(gson);
+                case 4: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 5: return (TypeAdapter<T>) new FinalizeFileUploadsRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new FinalizeFileUploadsResponseAdapter(gson);
+                case 7: return (TypeAdapter<T>) new GetFileMetadataAdapter(gson);
+                case 8: return (TypeAdapter<T>) new GetFilesRequestAdapter(gson);
+                case 9: return (TypeAdapter<T>) new GetFilesResponseAdapter(gson);
+                case 10: return (TypeAdapter<T>) new GetObjectsRequestAdapter(gson);
+                case 11: return (TypeAdapter<T>) new GetObjectsResponseAdapter(gson);
+                case 12: return (TypeAdapter<T>) new InitiateFileUploadMetadataAdapter(gson);
+                case 13: return (TypeAdapter<T>) new InitiateFileUploadsRequestAdapter(gson);
+                case 14: return (TypeAdapter<T>) new InitiateFileUploadsResponseAdapter(gson);
+                case 15: return (TypeAdapter<T>) new ObjectResultAdapter(gson);
+                case 16: return (TypeAdapter<T>) new SetObjectAdapter(gson);
+                case 17: return (TypeAdapter<T>) new SetObjectInfoAdapter(gson);
+                case 18: return (TypeAdapter<T>) new SetObjectsRequestAdapter(gson);
+                case 19: return (TypeAdapter<T>) new SetObjectsResponseAdapter(gson);
+                case 20: return (TypeAdapter<T>) OperationTypesAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AbortFileUploadsRequest.class, 0);
+        ids.put(AbortFileUploadsResponse.class, 1);
+        ids.put(DeleteFilesRequest.class, 2);
+        ids.put(DeleteFilesResponse.class, 3);
+        ids.put(EntityKey.class, 4);
+        ids.put(FinalizeFileUploadsRequest.class, 5);
+        ids.put(FinalizeFileUploadsResponse.class, 6);
+        ids.put(GetFileMetadata.class, 7);
+        ids.put(GetFilesRequest.class, 8);
+        ids.put(GetFilesResponse.class, 9);
+        ids.put(GetObjectsRequest.class, 10);
+        ids.put(GetObjectsResponse.class, 11);
+        ids.put(InitiateFileUploadMetadata.class, 12);
+        ids.put(InitiateFileUploadsRequest.class, 13);
+        ids.put(InitiateFileUploadsResponse.class, 14);
+        ids.put(ObjectResult.class, 15);
+        ids.put(SetObject.class, 16);
+        ids.put(SetObjectInfo.class, 17);
+        ids.put(SetObjectsRequest.class, 18);
+        ids.put(SetObjectsResponse.class, 19);
+        ids.put(OperationTypes.class, 20);
+    }
+
+    static final class AbortFileUploadsRequestAdapter extends TypeAdapter<AbortFileUploadsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AbortFileUploadsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, AbortFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.FileNames != null) {
+                out.name("FileNames");
+                PlayFabModelAdapters.writeList(out, value.FileNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public AbortFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortFileUploadsRequest value = new AbortFileUploadsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "FileNames": value.FileNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AbortFileUploadsResponseAdapter extends TypeAdapter<AbortFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AbortFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, AbortFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public AbortFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortFileUploadsResponse value = new AbortFileUploadsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteFilesRequestAdapter extends TypeAdapter<DeleteFilesRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteFilesRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, DeleteFilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.FileNames != null) {
+                out.name("FileNames");
+                PlayFabModelAdapters.writeList(out, value.FileNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public DeleteFilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteFilesRequest value = new DeleteFilesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "FileNames": value.FileNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteFilesResponseAdapter extends TypeAdapter<DeleteFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, DeleteFilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public DeleteFilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteFilesResponse value = new DeleteFilesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FinalizeFileUploadsRequestAdapter extends TypeAdapter<FinalizeFileUploadsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        FinalizeFileUploadsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, FinalizeFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.FileNames != null) {
+                out.name("FileNames");
+                PlayFabModelAdapters.writeList(out, value.FileNames, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public FinalizeFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FinalizeFileUploadsRequest value = new FinalizeFileUploadsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "FileNames": value.FileNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FinalizeFileUploadsResponseAdapter extends TypeAdapter<FinalizeFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GetFileMetadata> getFileMetadataAdapter;
+
+        FinalizeFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataAdapter = gson.getAdapter(GetFileMetadata.class);
+        }
+
+        public void write(JsonWriter out, FinalizeFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Metadata != null) {
+                out.name("Metadata");
+                PlayFabModelAdapters.writeMap(out, value.Metadata, getFileMetadataAdapter);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public FinalizeFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FinalizeFileUploadsResponse value = new FinalizeFileUploadsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Metadata": value.Metadata = PlayFabModelAdapters.readMap(in, getFileMetadataAdapter); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFileMetadataAdapter extends TypeAdapter<GetFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetFileMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Checksum != null) {
+                out.name("Checksum");
+                out.value(value.Checksum);
+            }
+            if (value.DownloadUrl != null) {
+                out.name("DownloadUrl");
+                out.value(value.DownloadUrl);
+            }
+            if (value.FileName != null) {
+                out.name("FileName");
+                out.value(value.FileName);
+            }
+            if (value.LastModified != null) {
+                out.name("LastModified");
+                dateAdapter.write(out, value.LastModified);
+            }
+            if (value.Size != null) {
+                out.name("Size");
+                out.value(value.Size);
+            }
+            out.endObject();
+        }
+
+        public GetFileMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFileMetadata value = new GetFileMetadata();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Checksum": value.Checksum = PlayFabModelAdapters.readString(in); break;
+                    case "DownloadUrl": value.DownloadUrl = PlayFabModelAdapters.readString(in); break;
+                    case "FileName": value.FileName = PlayFabModelAdapters.readString(in); break;
+                    case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                    case "Size": value.Size = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFilesRequestAdapter extends TypeAdapter<GetFilesRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetFilesRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetFilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            out.endObject();
+        }
+
+        public GetFilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFilesRequest value = new GetFilesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFilesResponseAdapter extends TypeAdapter<GetFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GetFileMetadata> getFileMetadataAdapter;
+
+        GetFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataAdapter = gson.getAdapter(GetFileMetadata.class);
+        }
+
+        public void write(JsonWriter out, GetFilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Metadata != null) {
+                out.name("Metadata");
+                PlayFabModelAdapters.writeMap(out, value.Metadata, getFileMetadataAdapter);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public GetFilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFilesResponse value = new GetFilesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Metadata": value.Metadata = PlayFabModelAdapters.readMap(in, getFileMetadataAdapter); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetObjectsRequestAdapter extends TypeAdapter<GetObjectsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetObjectsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetObjectsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.EscapeObject != null) {
+                out.name("EscapeObject");
+                out.value(value.EscapeObject.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public GetObjectsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetObjectsRequest value = new GetObjectsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "EscapeObject": value.EscapeObject = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetObjectsResponseAdapter extends TypeAdapter<GetObjectsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ObjectResult> objectResultAdapter;
+
+        GetObjectsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectResultAdapter = gson.getAdapter(ObjectResult.class);
+        }
+
+        public void write(JsonWriter out, GetObjectsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Objects != null) {
+                out.name("Objects");
+                PlayFabModelAdapters.writeMap(out, value.Objects, objectResultAdapter);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public GetObjectsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetObjectsResponse value = new GetObjectsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Objects": value.Objects = PlayFabModelAdapters.readMap(in, objectResultAdapter); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InitiateFileUploadMetadataAdapter extends TypeAdapter<InitiateFileUploadMetadata> {
+        InitiateFileUploadMetadataAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, InitiateFileUploadMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FileName != null) {
+                out.name("FileName");
+                out.value(value.FileName);
+            }
+            if (value.UploadUrl != null) {
+                out.name("UploadUrl");
+                out.value(value.UploadUrl);
+            }
+            out.endObject();
+        }
+
+        public InitiateFileUploadMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadMetadata value = new InitiateFileUploadMetadata();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FileName": value.FileName = PlayFabModelAdapters.readString(in); break;
+                    case "UploadUrl": value.UploadUrl = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InitiateFileUploadsRequestAdapter extends TypeAdapter<InitiateFileUploadsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        InitiateFileUploadsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, InitiateFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.FileNames != null) {
+                out.name("FileNames");
+                PlayFabModelAdapters.writeList(out, value.FileNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            out.endObject();
+        }
+
+        public InitiateFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadsRequest value = new InitiateFileUploadsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "FileNames": value.FileNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InitiateFileUploadsResponseAdapter extends TypeAdapter<InitiateFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InitiateFileUploadMetadata> initiateFileUploadMetadataAdapter;
+
+        InitiateFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            initiateFileUploadMetadataAdapter = gson.getAdapter(InitiateFileUploadMetadata.class);
+        }
+
+        public void write(JsonWriter out, InitiateFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.UploadDetails != null) {
+                out.name("UploadDetails");
+                PlayFabModelAdapters.writeList(out, value.UploadDetails, initiateFileUploadMetadataAdapter);
+            }
+            out.endObject();
+        }
+
+        public InitiateFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadsResponse value = new InitiateFileUploadsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "UploadDetails": value.UploadDetails = PlayFabModelAdapters.readList(in, initiateFileUploadMetadataAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ObjectResultAdapter extends TypeAdapter<ObjectResult> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        ObjectResultAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, ObjectResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataObject != null) {
+                out.name("DataObject");
+                objectAdapter.write(out, value.DataObject);
+            }
+            if (value.EscapedDataObject != null) {
+                out.name("EscapedDataObject");
+                out.value(value.EscapedDataObject);
+            }
+            if (value.ObjectName != null) {
+                out.name("ObjectName");
+                out.value(value.ObjectName);
+            }
+            out.endObject();
+        }
+
+        public ObjectResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ObjectResult value = new ObjectResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                    case "EscapedDataObject": value.EscapedDataObject = PlayFabModelAdapters.readString(in); break;
+                    case "ObjectName": value.ObjectName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetObjectAdapter extends TypeAdapter<SetObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        SetObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, SetObject value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataObject != null) {
+                out.name("DataObject");
+                objectAdapter.write(out, value.DataObject);
+            }
+            if (value.DeleteObject != null) {
+                out.name("DeleteObject");
+                out.value(value.DeleteObject.booleanValue());
+            }
+            if (value.EscapedDataObject != null) {
+                out.name("EscapedDataObject");
+                out.value(value.EscapedDataObject);
+            }
+            if (value.ObjectName != null) {
+                out.name("ObjectName");
+                out.value(value.ObjectName);
+            }
+            out.endObject();
+        }
+
+        public SetObject read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObject value = new SetObject();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                    case "DeleteObject": value.DeleteObject = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EscapedDataObject": value.EscapedDataObject = PlayFabModelAdapters.readString(in); break;
+                    case "ObjectName": value.ObjectName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetObjectInfoAdapter extends TypeAdapter<SetObjectInfo> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        SetObjectInfoAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        public void write(JsonWriter out, SetObjectInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ObjectName != null) {
+                out.name("ObjectName");
+                out.value(value.ObjectName);
+            }
+            if (value.OperationReason != null) {
+                out.name("OperationReason");
+                out.value(value.OperationReason);
+            }
+            if (value.SetResult != null) {
+                out.name("SetResult");
+                operationTypesAdapter.write(out, value.SetResult);
+            }
+            out.endObject();
+        }
+
+        public SetObjectInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectInfo value = new SetObjectInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ObjectName": value.ObjectName = PlayFabModelAdapters.readString(in); break;
+                    case "OperationReason": value.OperationReason = PlayFabModelAdapters.readString(in); break;
+                    case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetObjectsRequestAdapter extends TypeAdapter<SetObjectsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<SetObject> setObjectAdapter;
+
+        SetObjectsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            setObjectAdapter = gson.getAdapter(SetObject.class);
+        }
+
+        public void write(JsonWriter out, SetObjectsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.ExpectedProfileVersion != null) {
+                out.name("ExpectedProfileVersion");
+                out.value(value.ExpectedProfileVersion);
+            }
+            if (value.Objects != null) {
+                out.name("Objects");
+                PlayFabModelAdapters.writeList(out, value.Objects, setObjectAdapter);
+            }
+            out.endObject();
+        }
+
+        public SetObjectsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectsRequest value = new SetObjectsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Objects": value.Objects = PlayFabModelAdapters.readList(in, setObjectAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetObjectsResponseAdapter extends TypeAdapter<SetObjectsResponse> {
+        private final TypeAdapter<SetObjectInfo> setObjectInfoAdapter;
+
+        SetObjectsResponseAdapter(Gson gson) {
+            setObjectInfoAdapter = gson.getAdapter(SetObjectInfo.class);
+        }
+
+        public void write(JsonWriter out, SetObjectsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.SetResults != null) {
+                out.name("SetResults");
+                PlayFabModelAdapters.writeList(out, value.SetResults, setObjectInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public SetObjectsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectsResponse value = new SetObjectsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "SetResults": value.SetResults = PlayFabModelAdapters.readList(in, setObjectInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<OperationTypes> OperationTypesAdapter = new TypeAdapter<OperationTypes>() {
+        public void write(JsonWriter out, OperationTypes value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public OperationTypes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Created": return OperationTypes.Created;
+                case "Updated": return OperationTypes.Updated;
+                case "Deleted": return OperationTypes.Deleted;
+                case "None": return OperationTypes.None;
+                default: return null;
+            }
+        }
+    };
+}
@@ -0,0 +1,2346 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabGroupsModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabGroupsModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabGroupsModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AcceptGroupApplicationRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new AcceptGroupInvitationRequestAdapter(gson);
+                case 2: return (TypeAdapter<T>) new AddMembersRequestAdapter(gson);
+                case 3: return (TypeAdapter<T>) new ApplyToGroupRequestAdapter(gson);
+                case 4: return (TypeAdapter<T>) new ApplyToGroupResponseAdapter(gson);
+                case 5: return (TypeAdapter<T>) new BlockEntityRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new ChangeMemberRoleRequestAdapter(gson);
+                case 7: return (TypeAdapter<T>) new CreateGroupRequestAdapter(gson);
+                case 8: return (TypeAdapter<T>) new CreateGroupResponseAdapter(gson);
+                case 9: return (TypeAdapter<T>) new CreateGroupRoleRequestAdapter(gson);
+                case 10: return (TypeAdapter<T>) new CreateGroupRoleResponseAdapter(gson);
+                case 11: return (TypeAdapter<T>) new DeleteGroupRequestAdapter(gson);
+                case 12: return (TypeAdapter<T>) new DeleteRoleRequestAdapter(gson);
+                case 13: return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case 14: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 15: return (TypeAdapter<T>) new EntityMemberRoleAdapter(gson);
+                case 16: return (TypeAdapter<T>) new EntityWithLineageAdapter(gson);
+                case 17: return (TypeAdapter<T>) new GetGroupRequestAdapter(gson);
+                case 18: return (TypeAdapter<T>) new GetGroupResponseAdapter(gson);
+                case 19: return (TypeAdapter<T>) new GroupApplicationAdapter(gson);
+                case 20: return (TypeAdapter<T>) new GroupBlockAdapter(gson);
+                case 21: return (TypeAdapter<T>) new GroupInvitationAdapter(gson);
+                case 22: return (TypeAdapter<T>) new GroupRoleAdapter(gson);
+                case 23: return (TypeAdapter<T>) new GroupWithRolesAdapter(gson);
+                case 24: return (TypeAdapter<T>) new InviteToGroupRequestAdapter(gson);
+                case 25: return (TypeAdapter<T>) new InviteToGroupResponseAdapter(gson);
+                case 26: return (TypeAdapter<T>) new IsMemberRequestAdapter(gson);
+                case 27: return (TypeAdapter<T>) new IsMemberResponseAdapter(gson);
+                case 28: return (TypeAdapter<T>) new ListGroupApplicationsRequestAdapter(gson);
+                case 29: return (TypeAdapter<T>) new ListGroupApplicationsResponseAdapter(gson);
+                case 30: return (TypeAdapter<T>) new ListGroupBlocksRequestAdapter(gson);
+                case 31: return (TypeAdapter<T>) new ListGroupBlocksResponseAdapter(gson);
+                case 32: return (TypeAdapter<T>) new ListGroupInvitationsRequestAdapter(gson);
+                case 33: return (TypeAdapter<T>) new ListGroupInvitationsResponseAdapter(gson);
+                case 34: return (TypeAdapter<T>) new ListGroupMembersRequestAdapter(gson);
+                case 35: return (TypeAdapter<T>) new ListGroupMembersResponseAdapter(gson);
+                case 36: return (TypeAdapter<T>) new ListMembershipOpportunitiesRequestAdapter(gson);
+                case 37: return (TypeAdapter<T>) new ListMembershipOpportunitiesResponseAdapter(gson);
+                case 38: return (TypeAdapter<T>) new ListMembershipRequestAdapter(gson);
+                case 39: return (TypeAdapter<T>) new ListMembershipResponseAdapter(gson);
+                case 40: return (TypeAdapter<T>) new RemoveGroupApplicationRequestAdapter(gson);
+                case 41: return (TypeAdapter<T>) new RemoveGroupInvitationRequestAdapter(gson);
+                case 42: return (TypeAdapter<T>) new RemoveMembersRequestAdapter(gson);
+                case 43: return (TypeAdapter<T>) new UnblockEntityRequestAdapter(gson);
+                case 44: return (TypeAdapter<T>) new UpdateGroupRequestAdapter(gson);
+                case 45: return (TypeAdapter<T>) new UpdateGroupResponseAdapter(gson);
+                case 46: return (TypeAdapter<T>) new UpdateGroupRoleRequestAdapter(gson);
+                case 47: return (TypeAdapter<T>) new UpdateGroupRoleResponseAdapter(gson);
+                case 48: return (TypeAdapter<T>) OperationTypesAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AcceptGroupApplicationRequest.class, 0);
+        ids.put(AcceptGroupInvitationRequest.class, 1);
+        ids.put(AddMembersRequest.class, 2);
+        ids.put(ApplyToGroupRequest.class, 3);
+        ids.put(ApplyToGroupResponse.class, 4);
+        ids.put(BlockEntityRequest.class, 5);
+        ids.put(ChangeMemberRoleRequest.class, 6);
+        ids.put(CreateGroupRequest.class, 7);
+        ids.put(CreateGroupResponse.class, 8);
+        ids.put(CreateGroupRoleRequest.class, 9);
+        ids.put(CreateGroupRoleResponse.class, 10);
+        ids.put(DeleteGroupRequest.class, 11);
+        ids.put(DeleteRoleRequest.class, 12);
+        ids.put(EmptyResponse.class, 13);
+        ids.put(EntityKey.class, 14);
+        ids.put(EntityMemberRole.class, 15);
+        ids.put(EntityWithLineage.class, 16);
+        ids.put(GetGroupRequest.class, 17);
+        ids.put(GetGroupResponse.class, 18);
+        ids.put(GroupApplication.class, 19);
+        ids.put(GroupBlock.class, 20);
+        ids.put(GroupInvitation.class, 21);
+        ids.put(GroupRole.class, 22);
+        ids.put(GroupWithRoles.class, 23);
+        ids.put(InviteToGroupRequest.class, 24);
+        ids.put(InviteToGroupResponse.class, 25);
+        ids.put(IsMemberRequest.class, 26);
+        ids.put(IsMemberResponse.class, 27);
+        ids.put(ListGroupApplicationsRequest.class, 28);
+        ids.put(ListGroupApplicationsResponse.class, 29);
+        ids.put(ListGroupBlocksRequest.class, 30);
+        ids.put(ListGroupBlocksResponse.class, 31);
+        ids.put(ListGroupInvitationsRequest.class, 32);
+        ids.put(ListGroupInvitationsResponse.class, 33);
+        ids.put(ListGroupMembersRequest.class, 34);
+        ids.put(ListGroupMembersResponse.class, 35);
+        ids.put(ListMembershipOpportunitiesRequest.class, 36);
+        ids.put(ListMembershipOpportunitiesResponse.class, 37);
+        ids.put(ListMembershipRequest.class, 38);
+        ids.put(ListMembershipResponse.class, 39);
+        ids.put(RemoveGroupApplicationRequest.class, 40);
+        ids.put(RemoveGroupInvitationRequest.class, 41);
+        ids.put(RemoveMembersRequest.class, 42);
+        ids.put(UnblockEntityRequest.class, 43);
+        ids.put(UpdateGroupRequest.class, 44);
+        ids.put(UpdateGroupResponse.class, 45);
+        ids.put(UpdateGroupRoleRequest.class, 46);
+        ids.put(UpdateGroupRoleResponse.class, 47);
+        ids.put(OperationTypes.class, 48);
+    }
+
+    static final class AcceptGroupApplicationRequestAdapter extends TypeAdapter<AcceptGroupApplicationRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AcceptGroupApplicationRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, AcceptGroupApplicationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public AcceptGroupApplicationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptGroupApplicationRequest value = new AcceptGroupApplicationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AcceptGroupInvitationRequestAdapter extends TypeAdapter<AcceptGroupInvitationRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AcceptGroupInvitationRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, AcceptGroupInvitationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public AcceptGroupInvitationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptGroupInvitationRequest value = new AcceptGroupInvitationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddMembersRequestAdapter extends TypeAdapter<AddMembersRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AddMembersRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, AddMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, entityKeyAdapter);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public AddMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddMembersRequest value = new AddMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, entityKeyAdapter); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ApplyToGroupRequestAdapter extends TypeAdapter<ApplyToGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ApplyToGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ApplyToGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AutoAcceptOutstandingInvite != null) {
+                out.name("AutoAcceptOutstandingInvite");
+                out.value(value.AutoAcceptOutstandingInvite.booleanValue());
+            }
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ApplyToGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApplyToGroupRequest value = new ApplyToGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AutoAcceptOutstandingInvite": value.AutoAcceptOutstandingInvite = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ApplyToGroupResponseAdapter extends TypeAdapter<ApplyToGroupResponse> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ApplyToGroupResponseAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ApplyToGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityWithLineageAdapter.write(out, value.Entity);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ApplyToGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApplyToGroupResponse value = new ApplyToGroupResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BlockEntityRequestAdapter extends TypeAdapter<BlockEntityRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        BlockEntityRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, BlockEntityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public BlockEntityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BlockEntityRequest value = new BlockEntityRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ChangeMemberRoleRequestAdapter extends TypeAdapter<ChangeMemberRoleRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ChangeMemberRoleRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ChangeMemberRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DestinationRoleId != null) {
+                out.name("DestinationRoleId");
+                out.value(value.DestinationRoleId);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, entityKeyAdapter);
+            }
+            if (value.OriginRoleId != null) {
+                out.name("OriginRoleId");
+                out.value(value.OriginRoleId);
+            }
+            out.endObject();
+        }
+
+        public ChangeMemberRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ChangeMemberRoleRequest value = new ChangeMemberRoleRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DestinationRoleId": value.DestinationRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, entityKeyAdapter); break;
+                    case "OriginRoleId": value.OriginRoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateGroupRequestAdapter extends TypeAdapter<CreateGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, CreateGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            out.endObject();
+        }
+
+        public CreateGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRequest value = new CreateGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateGroupResponseAdapter extends TypeAdapter<CreateGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, CreateGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdminRoleId != null) {
+                out.name("AdminRoleId");
+                out.value(value.AdminRoleId);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            if (value.MemberRoleId != null) {
+                out.name("MemberRoleId");
+                out.value(value.MemberRoleId);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.Roles != null) {
+                out.name("Roles");
+                PlayFabModelAdapters.writeMap(out, value.Roles, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public CreateGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupResponse value = new CreateGroupResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdminRoleId": value.AdminRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    case "MemberRoleId": value.MemberRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Roles": value.Roles = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateGroupRoleRequestAdapter extends TypeAdapter<CreateGroupRoleRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateGroupRoleRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, CreateGroupRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            if (value.RoleName != null) {
+                out.name("RoleName");
+                out.value(value.RoleName);
+            }
+            out.endObject();
+        }
+
+        public CreateGroupRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRoleRequest value = new CreateGroupRoleRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    case "RoleName": value.RoleName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateGroupRoleResponseAdapter extends TypeAdapter<CreateGroupRoleResponse> {
+        CreateGroupRoleResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateGroupRoleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            if (value.RoleName != null) {
+                out.name("RoleName");
+                out.value(value.RoleName);
+            }
+            out.endObject();
+        }
+
+        public CreateGroupRoleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRoleResponse value = new CreateGroupRoleResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    case "RoleName": value.RoleName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteGroupRequestAdapter extends TypeAdapter<DeleteGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, DeleteGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public DeleteGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteGroupRequest value = new DeleteGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteRoleRequestAdapter extends TypeAdapter<DeleteRoleRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteRoleRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, DeleteRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public DeleteRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteRoleRequest value = new DeleteRoleRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityMemberRoleAdapter extends TypeAdapter<EntityMemberRole> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        EntityMemberRoleAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        public void write(JsonWriter out, EntityMemberRole value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, entityWithLineageAdapter);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            if (value.RoleName != null) {
+                out.name("RoleName");
+                out.value(value.RoleName);
+            }
+            out.endObject();
+        }
+
+        public EntityMemberRole read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityMemberRole value = new EntityMemberRole();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, entityWithLineageAdapter); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    case "RoleName": value.RoleName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityWithLineageAdapter extends TypeAdapter<EntityWithLineage> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        EntityWithLineageAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, EntityWithLineage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                entityKeyAdapter.write(out, value.Key);
+            }
+            if (value.Lineage != null) {
+                out.name("Lineage");
+                PlayFabModelAdapters.writeMap(out, value.Lineage, entityKeyAdapter);
+            }
+            out.endObject();
+        }
+
+        public EntityWithLineage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityWithLineage value = new EntityWithLineage();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = entityKeyAdapter.read(in); break;
+                    case "Lineage": value.Lineage = PlayFabModelAdapters.readMap(in, entityKeyAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetGroupRequestAdapter extends TypeAdapter<GetGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            out.endObject();
+        }
+
+        public GetGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGroupRequest value = new GetGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetGroupResponseAdapter extends TypeAdapter<GetGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdminRoleId != null) {
+                out.name("AdminRoleId");
+                out.value(value.AdminRoleId);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            if (value.MemberRoleId != null) {
+                out.name("MemberRoleId");
+                out.value(value.MemberRoleId);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.Roles != null) {
+                out.name("Roles");
+                PlayFabModelAdapters.writeMap(out, value.Roles, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGroupResponse value = new GetGroupResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdminRoleId": value.AdminRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    case "MemberRoleId": value.MemberRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Roles": value.Roles = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GroupApplicationAdapter extends TypeAdapter<GroupApplication> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GroupApplicationAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GroupApplication value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityWithLineageAdapter.write(out, value.Entity);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public GroupApplication read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupApplication value = new GroupApplication();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GroupBlockAdapter extends TypeAdapter<GroupBlock> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GroupBlockAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GroupBlock value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityWithLineageAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public GroupBlock read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupBlock value = new GroupBlock();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GroupInvitationAdapter extends TypeAdapter<GroupInvitation> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        GroupInvitationAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        public void write(JsonWriter out, GroupInvitation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.InvitedByEntity != null) {
+                out.name("InvitedByEntity");
+                entityWithLineageAdapter.write(out, value.InvitedByEntity);
+            }
+            if (value.InvitedEntity != null) {
+                out.name("InvitedEntity");
+                entityWithLineageAdapter.write(out, value.InvitedEntity);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public GroupInvitation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupInvitation value = new GroupInvitation();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); break;
+                    case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GroupRoleAdapter extends TypeAdapter<GroupRole> {
+        GroupRoleAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GroupRole value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            if (value.RoleName != null) {
+                out.name("RoleName");
+                out.value(value.RoleName);
+            }
+            out.endObject();
+        }
+
+        public GroupRole read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupRole value = new GroupRole();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    case "RoleName": value.RoleName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GroupWithRolesAdapter extends TypeAdapter<GroupWithRoles> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GroupRole> groupRoleAdapter;
+
+        GroupWithRolesAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            groupRoleAdapter = gson.getAdapter(GroupRole.class);
+        }
+
+        public void write(JsonWriter out, GroupWithRoles value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.Roles != null) {
+                out.name("Roles");
+                PlayFabModelAdapters.writeList(out, value.Roles, groupRoleAdapter);
+            }
+            out.endObject();
+        }
+
+        public GroupWithRoles read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupWithRoles value = new GroupWithRoles();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Roles": value.Roles = PlayFabModelAdapters.readList(in, groupRoleAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InviteToGroupRequestAdapter extends TypeAdapter<InviteToGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        InviteToGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, InviteToGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AutoAcceptOutstandingApplication != null) {
+                out.name("AutoAcceptOutstandingApplication");
+                out.value(value.AutoAcceptOutstandingApplication.booleanValue());
+            }
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public InviteToGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InviteToGroupRequest value = new InviteToGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AutoAcceptOutstandingApplication": value.AutoAcceptOutstandingApplication = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InviteToGroupResponseAdapter extends TypeAdapter<InviteToGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        InviteToGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        public void write(JsonWriter out, InviteToGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.InvitedByEntity != null) {
+                out.name("InvitedByEntity");
+                entityWithLineageAdapter.write(out, value.InvitedByEntity);
+            }
+            if (value.InvitedEntity != null) {
+                out.name("InvitedEntity");
+                entityWithLineageAdapter.write(out, value.InvitedEntity);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public InviteToGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InviteToGroupResponse value = new InviteToGroupResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); break;
+                    case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IsMemberRequestAdapter extends TypeAdapter<IsMemberRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        IsMemberRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, IsMemberRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public IsMemberRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IsMemberRequest value = new IsMemberRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IsMemberResponseAdapter extends TypeAdapter<IsMemberResponse> {
+        IsMemberResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, IsMemberResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IsMember != null) {
+                out.name("IsMember");
+                out.value(value.IsMember.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public IsMemberResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IsMemberResponse value = new IsMemberResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IsMember": value.IsMember = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupApplicationsRequestAdapter extends TypeAdapter<ListGroupApplicationsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupApplicationsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListGroupApplicationsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ListGroupApplicationsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupApplicationsRequest value = new ListGroupApplicationsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupApplicationsResponseAdapter extends TypeAdapter<ListGroupApplicationsResponse> {
+        private final TypeAdapter<GroupApplication> groupApplicationAdapter;
+
+        ListGroupApplicationsResponseAdapter(Gson gson) {
+            groupApplicationAdapter = gson.getAdapter(GroupApplication.class);
+        }
+
+        public void write(JsonWriter out, ListGroupApplicationsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Applications != null) {
+                out.name("Applications");
+                PlayFabModelAdapters.writeList(out, value.Applications, groupApplicationAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListGroupApplicationsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupApplicationsResponse value = new ListGroupApplicationsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Applications": value.Applications = PlayFabModelAdapters.readList(in, groupApplicationAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupBlocksRequestAdapter extends TypeAdapter<ListGroupBlocksRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupBlocksRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListGroupBlocksRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ListGroupBlocksRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupBlocksRequest value = new ListGroupBlocksRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupBlocksResponseAdapter extends TypeAdapter<ListGroupBlocksResponse> {
+        private final TypeAdapter<GroupBlock> groupBlockAdapter;
+
+        ListGroupBlocksResponseAdapter(Gson gson) {
+            groupBlockAdapter = gson.getAdapter(GroupBlock.class);
+        }
+
+        public void write(JsonWriter out, ListGroupBlocksResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BlockedEntities != null) {
+                out.name("BlockedEntities");
+                PlayFabModelAdapters.writeList(out, value.BlockedEntities, groupBlockAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListGroupBlocksResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupBlocksResponse value = new ListGroupBlocksResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BlockedEntities": value.BlockedEntities = PlayFabModelAdapters.readList(in, groupBlockAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupInvitationsRequestAdapter extends TypeAdapter<ListGroupInvitationsRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupInvitationsRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListGroupInvitationsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ListGroupInvitationsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupInvitationsRequest value = new ListGroupInvitationsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupInvitationsResponseAdapter extends TypeAdapter<ListGroupInvitationsResponse> {
+        private final TypeAdapter<GroupInvitation> groupInvitationAdapter;
+
+        ListGroupInvitationsResponseAdapter(Gson gson) {
+            groupInvitationAdapter = gson.getAdapter(GroupInvitation.class);
+        }
+
+        public void write(JsonWriter out, ListGroupInvitationsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Invitations != null) {
+                out.name("Invitations");
+                PlayFabModelAdapters.writeList(out, value.Invitations, groupInvitationAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListGroupInvitationsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupInvitationsResponse value = new ListGroupInvitationsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Invitations": value.Invitations = PlayFabModelAdapters.readList(in, groupInvitationAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupMembersRequestAdapter extends TypeAdapter<ListGroupMembersRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupMembersRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public ListGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupMembersRequest value = new ListGroupMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListGroupMembersResponseAdapter extends TypeAdapter<ListGroupMembersResponse> {
+        private final TypeAdapter<EntityMemberRole> entityMemberRoleAdapter;
+
+        ListGroupMembersResponseAdapter(Gson gson) {
+            entityMemberRoleAdapter = gson.getAdapter(EntityMemberRole.class);
+        }
+
+        public void write(JsonWriter out, ListGroupMembersResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, entityMemberRoleAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListGroupMembersResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupMembersResponse value = new ListGroupMembersResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, entityMemberRoleAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListMembershipOpportunitiesRequestAdapter extends TypeAdapter<ListMembershipOpportunitiesRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListMembershipOpportunitiesRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListMembershipOpportunitiesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            out.endObject();
+        }
+
+        public ListMembershipOpportunitiesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipOpportunitiesRequest value = new ListMembershipOpportunitiesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListMembershipOpportunitiesResponseAdapter extends TypeAdapter<ListMembershipOpportunitiesResponse> {
+        private final TypeAdapter<GroupApplication> groupApplicationAdapter;
+        private final TypeAdapter<GroupInvitation> groupInvitationAdapter;
+
+        ListMembershipOpportunitiesResponseAdapter(Gson gson) {
+            groupApplicationAdapter = gson.getAdapter(GroupApplication.class);
+            groupInvitationAdapter = gson.getAdapter(GroupInvitation.class);
+        }
+
+        public void write(JsonWriter out, ListMembershipOpportunitiesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Applications != null) {
+                out.name("Applications");
+                PlayFabModelAdapters.writeList(out, value.Applications, groupApplicationAdapter);
+            }
+            if (value.Invitations != null) {
+                out.name("Invitations");
+                PlayFabModelAdapters.writeList(out, value.Invitations, groupInvitationAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListMembershipOpportunitiesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipOpportunitiesResponse value = new ListMembershipOpportunitiesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Applications": value.Applications = PlayFabModelAdapters.readList(in, groupApplicationAdapter); break;
+                    case "Invitations": value.Invitations = PlayFabModelAdapters.readList(in, groupInvitationAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListMembershipRequestAdapter extends TypeAdapter<ListMembershipRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListMembershipRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, ListMembershipRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            out.endObject();
+        }
+
+        public ListMembershipRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipRequest value = new ListMembershipRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListMembershipResponseAdapter extends TypeAdapter<ListMembershipResponse> {
+        private final TypeAdapter<GroupWithRoles> groupWithRolesAdapter;
+
+        ListMembershipResponseAdapter(Gson gson) {
+            groupWithRolesAdapter = gson.getAdapter(GroupWithRoles.class);
+        }
+
+        public void write(JsonWriter out, ListMembershipResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Groups != null) {
+                out.name("Groups");
+                PlayFabModelAdapters.writeList(out, value.Groups, groupWithRolesAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListMembershipResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipResponse value = new ListMembershipResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Groups": value.Groups = PlayFabModelAdapters.readList(in, groupWithRolesAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveGroupApplicationRequestAdapter extends TypeAdapter<RemoveGroupApplicationRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveGroupApplicationRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, RemoveGroupApplicationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public RemoveGroupApplicationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGroupApplicationRequest value = new RemoveGroupApplicationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveGroupInvitationRequestAdapter extends TypeAdapter<RemoveGroupInvitationRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveGroupInvitationRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, RemoveGroupInvitationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public RemoveGroupInvitationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGroupInvitationRequest value = new RemoveGroupInvitationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveMembersRequestAdapter extends TypeAdapter<RemoveMembersRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveMembersRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, RemoveMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, entityKeyAdapter);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            out.endObject();
+        }
+
+        public RemoveMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveMembersRequest value = new RemoveMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, entityKeyAdapter); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnblockEntityRequestAdapter extends TypeAdapter<UnblockEntityRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UnblockEntityRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UnblockEntityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            out.endObject();
+        }
+
+        public UnblockEntityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnblockEntityRequest value = new UnblockEntityRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateGroupRequestAdapter extends TypeAdapter<UpdateGroupRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UpdateGroupRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UpdateGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdminRoleId != null) {
+                out.name("AdminRoleId");
+                out.value(value.AdminRoleId);
+            }
+            if (value.ExpectedProfileVersion != null) {
+                out.name("ExpectedProfileVersion");
+                out.value(value.ExpectedProfileVersion);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.GroupName != null) {
+                out.name("GroupName");
+                out.value(value.GroupName);
+            }
+            if (value.MemberRoleId != null) {
+                out.name("MemberRoleId");
+                out.value(value.MemberRoleId);
+            }
+            out.endObject();
+        }
+
+        public UpdateGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRequest value = new UpdateGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdminRoleId": value.AdminRoleId = PlayFabModelAdapters.readString(in); break;
+                    case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "GroupName": value.GroupName = PlayFabModelAdapters.readString(in); break;
+                    case "MemberRoleId": value.MemberRoleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateGroupResponseAdapter extends TypeAdapter<UpdateGroupResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        UpdateGroupResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        public void write(JsonWriter out, UpdateGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OperationReason != null) {
+                out.name("OperationReason");
+                out.value(value.OperationReason);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.SetResult != null) {
+                out.name("SetResult");
+                operationTypesAdapter.write(out, value.SetResult);
+            }
+            out.endObject();
+        }
+
+        public UpdateGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupResponse value = new UpdateGroupResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OperationReason": value.OperationReason = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateGroupRoleRequestAdapter extends TypeAdapter<UpdateGroupRoleRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UpdateGroupRoleRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UpdateGroupRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ExpectedProfileVersion != null) {
+                out.name("ExpectedProfileVersion");
+                out.value(value.ExpectedProfileVersion);
+            }
+            if (value.Group != null) {
+                out.name("Group");
+                entityKeyAdapter.write(out, value.Group);
+            }
+            if (value.RoleId != null) {
+                out.name("RoleId");
+                out.value(value.RoleId);
+            }
+            if (value.RoleName != null) {
+                out.name("RoleName");
+                out.value(value.RoleName);
+            }
+            out.endObject();
+        }
+
+        public UpdateGroupRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRoleRequest value = new UpdateGroupRoleRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Group": value.Group = entityKeyAdapter.read(in); break;
+                    case "RoleId": value.RoleId = PlayFabModelAdapters.readString(in); break;
+                    case "RoleName": value.RoleName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateGroupRoleResponseAdapter extends TypeAdapter<UpdateGroupRoleResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        UpdateGroupRoleResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        public void write(JsonWriter out, UpdateGroupRoleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OperationReason != null) {
+                out.name("OperationReason");
+                out.value(value.OperationReason);
+            }
+            if (value.ProfileVersion != null) {
+                out.name("ProfileVersion");
+                out.value(value.ProfileVersion);
+            }
+            if (value.SetResult != null) {
+                out.name("SetResult");
+                operationTypesAdapter.write(out, value.SetResult);
+            }
+            out.endObject();
+        }
+
+        public UpdateGroupRoleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRoleResponse value = new UpdateGroupRoleResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OperationReason": value.OperationReason = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileVersion": value.ProfileVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<OperationTypes> OperationTypesAdapter = new TypeAdapter<OperationTypes>() {
+        public void write(JsonWriter out, OperationTypes value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public OperationTypes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Created": return OperationTypes.Created;
+                case "Updated": return OperationTypes.Updated;
+                case "Deleted": return OperationTypes.Deleted;
+                case "None": return OperationTypes.None;
+                default: return null;
+            }
+        }
+    };
+}
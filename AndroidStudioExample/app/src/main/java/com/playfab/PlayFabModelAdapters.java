@@ -0,0 +1,331 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.*;
+
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * Precompiled, reflection-free Gson TypeAdapters for the PlayFab request/result models and the PlayFab json envelopes.
+ *
+ * FACTORY covers every generated model class and enum plus PlayFabJsonSuccess and PlayFabJsonError; PlayFabHTTP registers it,
+ * and an app that (de)serializes models with its own Gson can do the same:
+ *     Gson gson = new GsonBuilder().registerTypeAdapterFactory(PlayFabModelAdapters.FACTORY).create();
+ * The adapters produce the same json as Gson's reflective adapters: null fields are omitted, fields are written in declaration
+ * order, unknown names are skipped and unknown enum values read as null
+ */
+public class PlayFabModelAdapters {
+    private static final TypeAdapterFactory[] factories = new TypeAdapterFactory[] {
+        PlayFabAuthenticationModelAdapters.FACTORY,
+        PlayFabClientModelAdapters.FACTORY,
+        PlayFabCloudScriptModelAdapters.FACTORY,
+        PlayFabDataModelAdapters.FACTORY,
+        PlayFabGroupsModelAdapters.FACTORY,
+        PlayFabProfilesModelAdapters.FACTORY,
+        new EnvelopeAdapterFactory()
+    };
+
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            for (TypeAdapterFactory factory : factories) {
+                TypeAdapter<T> adapter = factory.create(gson, type);
+                if (adapter != null)
+                    return adapter;
+            }
+            return null;
+        }
+    };
+
+    // Scalar reads and writes, with the same leniency as Gson's built-in adapters
+
+    static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING)
+            return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+    static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    static Double readDouble(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextDouble();
+    }
+
+    static void writeDouble(JsonWriter out, Double value) throws IOException {
+        double number = value.doubleValue();
+        if (Double.isNaN(number) || Double.isInfinite(number))
+            throw new IllegalArgumentException(number + " is not a valid double value as per JSON specification.");
+        out.value(value);
+    }
+
+    static final TypeAdapter<String> STRING = new TypeAdapter<String>() {
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        public String read(JsonReader in) throws IOException {
+            return readString(in);
+        }
+    };
+
+    static final TypeAdapter<Boolean> BOOLEAN = new TypeAdapter<Boolean>() {
+        public void write(JsonWriter out, Boolean value) throws IOException {
+            if (value == null)
+                out.nullValue();
+            else
+                out.value(value.booleanValue());
+        }
+
+        public Boolean read(JsonReader in) throws IOException {
+            return readBoolean(in);
+        }
+    };
+
+    static final TypeAdapter<Integer> INTEGER = new TypeAdapter<Integer>() {
+        public void write(JsonWriter out, Integer value) throws IOException {
+            out.value(value);
+        }
+
+        public Integer read(JsonReader in) throws IOException {
+            return readInteger(in);
+        }
+    };
+
+    static final TypeAdapter<Long> LONG = new TypeAdapter<Long>() {
+        public void write(JsonWriter out, Long value) throws IOException {
+            out.value(value);
+        }
+
+        public Long read(JsonReader in) throws IOException {
+            return readLong(in);
+        }
+    };
+
+    static final TypeAdapter<Double> DOUBLE = new TypeAdapter<Double>() {
+        public void write(JsonWriter out, Double value) throws IOException {
+            if (value == null)
+                out.nullValue();
+            else
+                writeDouble(out, value);
+        }
+
+        public Double read(JsonReader in) throws IOException {
+            return readDouble(in);
+        }
+    };
+
+    // Collections, matching the ArrayList and Map<String, X> fields of the models
+
+    static <E> void writeList(JsonWriter out, List<E> list, TypeAdapter<E> elementAdapter) throws IOException {
+        out.beginArray();
+        for (int i = 0; i < list.size(); i++)
+            elementAdapter.write(out, list.get(i));
+        out.endArray();
+    }
+
+    static <E> ArrayList<E> readList(JsonReader in, TypeAdapter<E> elementAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        ArrayList<E> list = new ArrayList<E>();
+        in.beginArray();
+        while (in.hasNext())
+            list.add(elementAdapter.read(in));
+        in.endArray();
+        return list;
+    }
+
+    static <V> void writeMap(JsonWriter out, Map<String, V> map, TypeAdapter<V> valueAdapter) throws IOException {
+        out.beginObject();
+        for (Map.Entry<String, V> pair : map.entrySet()) {
+            out.name(String.valueOf(pair.getKey()));
+            valueAdapter.write(out, pair.getValue());
+        }
+        out.endObject();
+    }
+
+    static <V> Map<String, V> readMap(JsonReader in, TypeAdapter<V> valueAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, V> map = new LinkedHashMap<String, V>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            V value = valueAdapter.read(in);
+            if (map.put(key, value) != null)
+                throw new JsonSyntaxException("duplicate key: " + key);
+        }
+        in.endObject();
+        return map;
+    }
+
+    // Envelopes
+
+    private static class EnvelopeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw == PlayFabJsonError.class)
+                return (TypeAdapter<T>) new JsonErrorAdapter(gson);
+            if (raw != PlayFabJsonSuccess.class)
+                return null;
+
+            Type dataType = Object.class;
+            if (type.getType() instanceof ParameterizedType)
+                dataType = ((ParameterizedType) type.getType()).getActualTypeArguments()[0];
+            return (TypeAdapter<T>) new JsonSuccessAdapter<Object>((TypeAdapter<Object>) gson.getAdapter(TypeToken.get(dataType)));
+        }
+    }
+
+    private static final class JsonSuccessAdapter<E> extends TypeAdapter<PlayFabJsonSuccess<E>> {
+        private final TypeAdapter<E> dataAdapter;
+
+        JsonSuccessAdapter(TypeAdapter<E> dataAdapter) {
+            this.dataAdapter = dataAdapter;
+        }
+
+        public void write(JsonWriter out, PlayFabJsonSuccess<E> value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("code").value(value.code);
+            if (value.status != null)
+                out.name("status").value(value.status);
+            if (value.data != null) {
+                out.name("data");
+                dataAdapter.write(out, value.data);
+            }
+            out.endObject();
+        }
+
+        public PlayFabJsonSuccess<E> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayFabJsonSuccess<E> value = new PlayFabJsonSuccess<E>();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "code": value.code = readPrimitiveInt(in, value.code); break;
+                    case "status": value.status = readString(in); break;
+                    case "data": value.data = dataAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static final class JsonErrorAdapter extends TypeAdapter<PlayFabJsonError> {
+        private final TypeAdapter<Map<String, List<String>>> errorDetailsAdapter;
+
+        JsonErrorAdapter(Gson gson) {
+            errorDetailsAdapter = gson.getAdapter(new TypeToken<Map<String, List<String>>>(){});
+        }
+
+        public void write(JsonWriter out, PlayFabJsonError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("code").value(value.code);
+            if (value.status != null)
+                out.name("status").value(value.status);
+            if (value.error != null)
+                out.name("error").value(value.error);
+            out.name("errorCode").value(value.errorCode);
+            if (value.errorMessage != null)
+                out.name("errorMessage").value(value.errorMessage);
+            if (value.errorDetails != null) {
+                out.name("errorDetails");
+                errorDetailsAdapter.write(out, value.errorDetails);
+            }
+            if (value.retryAfterSeconds != null)
+                out.name("retryAfterSeconds").value(value.retryAfterSeconds);
+            out.endObject();
+        }
+
+        public PlayFabJsonError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayFabJsonError value = new PlayFabJsonError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "code": value.code = readPrimitiveInt(in, value.code); break;
+                    case "status": value.status = readString(in); break;
+                    case "error": value.error = readString(in); break;
+                    case "errorCode": value.errorCode = readPrimitiveInt(in, value.errorCode); break;
+                    case "errorMessage": value.errorMessage = readString(in); break;
+                    case "errorDetails": value.errorDetails = errorDetailsAdapter.read(in); break;
+                    case "retryAfterSeconds": value.retryAfterSeconds = readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    // A json null leaves a primitive field at its current value, as with Gson's reflective adapter
+    private static int readPrimitiveInt(JsonReader in, int current) throws IOException {
+        Integer value = readInteger(in);
+        return value != null ? value : current;
+    }
+}
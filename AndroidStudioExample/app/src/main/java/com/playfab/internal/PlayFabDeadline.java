@@ -0,0 +1,137 @@
+package com.playfab.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * The time limit and cancellation state of one API call. PlayFabHTTP stops retrying and waiting for rate limit permits
+ * once it has passed; transports size their connect and read timeouts from it, and register the connection in flight so
+ * that cancel() can abort it from any thread. PlayFabCallTask makes the deadline of its call current on the running thread
+ */
+public class PlayFabDeadline {
+    private static final ThreadLocal<PlayFabDeadline> current = new ThreadLocal<PlayFabDeadline>();
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+    private final AtomicReference<Closeable> inFlight = new AtomicReference<Closeable>();
+    private final CountDownLatch cancelSignal = new CountDownLatch(1);
+    private volatile boolean cancelled;
+
+    /** @param timeoutMs The time the call may take from now; 0 or less for no limit */
+    public PlayFabDeadline(long timeoutMs) {
+        this.bounded = timeoutMs > 0;
+        this.deadlineNanos = bounded ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : 0;
+    }
+
+    private PlayFabDeadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    /** A deadline that ends with this one but can be cancelled on its own, for one of several requests made by a call */
+    public PlayFabDeadline child() {
+        return new PlayFabDeadline(deadlineNanos, bounded);
+    }
+
+    /** The deadline of the call running on this thread, or null outside of a PlayFabCallTask */
+    public static PlayFabDeadline current() {
+        return current.get();
+    }
+
+    static PlayFabDeadline enter(PlayFabDeadline deadline) {
+        PlayFabDeadline previous = current.get();
+        current.set(deadline);
+        return previous;
+    }
+
+    static void exit(PlayFabDeadline previous) {
+        if (previous == null)
+            current.remove();
+        else
+            current.set(previous);
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /** Time left, or Long.MAX_VALUE without a limit */
+    public long remainingNanos() {
+        return bounded ? Math.max(0, deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+    }
+
+    public long remainingMs() {
+        return bounded ? TimeUnit.NANOSECONDS.toMillis(remainingNanos()) : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return bounded && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Marks the call cancelled and aborts whatever I/O it has in flight */
+    public void cancel() {
+        cancelled = true;
+        cancelSignal.countDown();
+        closeQuietly(inFlight.getAndSet(null));
+    }
+
+    /**
+     * Waits for up to the given time, returning early when the call is cancelled or the deadline passes
+     * @return false if the call has been cancelled
+     */
+    public boolean sleep(long nanos) throws InterruptedException {
+        long limit = Math.min(nanos, remainingNanos());
+        if (limit > 0)
+            cancelSignal.await(limit, TimeUnit.NANOSECONDS);
+        return !cancelled;
+    }
+
+    /** PlayFabSettings.ConnectTimeoutMs, shortened to the time left; 0 means no timeout, as for URLConnection */
+    public int connectTimeoutMs() {
+        return timeoutMs(PlayFabSettings.ConnectTimeoutMs);
+    }
+
+    /** PlayFabSettings.ReadTimeoutMs, shortened to the time left; 0 means no timeout, as for URLConnection */
+    public int readTimeoutMs() {
+        return timeoutMs(PlayFabSettings.ReadTimeoutMs);
+    }
+
+    private int timeoutMs(long configuredMs) {
+        long limit = configuredMs > 0 ? configuredMs : Long.MAX_VALUE;
+        if (bounded)
+            limit = Math.min(limit, remainingMs());
+        if (limit == Long.MAX_VALUE)
+            return 0;
+        return (int) Math.max(1, Math.min(limit, Integer.MAX_VALUE));
+    }
+
+    /** Registers what to close to abort the call's I/O; it is closed at once when the call has already been cancelled */
+    public void setInFlight(Closeable abort) {
+        inFlight.set(abort);
+        if (cancelled && inFlight.compareAndSet(abort, null))
+            closeQuietly(abort);
+    }
+
+    public void clearInFlight(Closeable abort) {
+        inFlight.compareAndSet(abort, null);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null)
+            return;
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Aborting is best effort: the call fails either way
+        }
+    }
+}
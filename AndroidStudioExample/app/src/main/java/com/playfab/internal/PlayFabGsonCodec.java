@@ -0,0 +1,57 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+import com.playfab.PlayFabModelAdapters;
+
+/** The default PlayFabJsonCodec: Gson, over the JDK's UTF-8 stream readers and writers */
+public class PlayFabGsonCodec implements PlayFabJsonCodec {
+    public static final String DateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    private final Gson gson;
+
+    public PlayFabGsonCodec() {
+        this(createGson());
+    }
+
+    /** Uses a Gson configured by the app, which should keep the PlayFab date format */
+    public PlayFabGsonCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    /** Gson as the SDK configures it: the PlayFab date format and the precompiled model adapters */
+    public static Gson createGson() {
+        return new GsonBuilder().setDateFormat(DateFormat).registerTypeAdapterFactory(PlayFabModelAdapters.FACTORY).create();
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    public void encode(Object value, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        try {
+            gson.toJson(value, value.getClass(), new JsonWriter(writer));
+        } catch (JsonIOException e) {
+            throw e.getCause() instanceof IOException ? (IOException)e.getCause() : new IOException(e);
+        }
+        writer.flush();
+    }
+
+    public Object decode(InputStream in, Type type) throws IOException {
+        try {
+            return gson.fromJson(new JsonReader(new InputStreamReader(in, "UTF-8")), type);
+        } catch (JsonSyntaxException e) {
+            // Gson reports a failed read as a syntax error; only malformed or truncated json really is one
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException && !(cause instanceof MalformedJsonException) && !(cause instanceof EOFException))
+                throw (IOException)cause;
+            throw e;
+        }
+    }
+}
@@ -4,8 +4,9 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.net.*;
 import java.io.*;
-import com.google.gson.*;
+import java.lang.reflect.Type;
 
+import com.playfab.PlayFabAsync;
 import com.playfab.PlayFabSettings;
 import com.playfab.PlayFabErrors.PlayFabError;
 import com.playfab.PlayFabErrors.PlayFabErrorCode;
@@ -13,58 +14,517 @@ import com.playfab.PlayFabErrors.PlayFabJsonError;
 import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
 
 public class PlayFabHTTP {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static volatile PlayFabJsonCodec jsonCodec = new PlayFabGsonCodec();
+    private static volatile PlayFabTransport transport = createDefaultTransport();
+    private static volatile PlayFabMetricsRecorder metricsRecorder;
+    private static volatile PlayFabRetryPolicy retryPolicy = new PlayFabRetryPolicy();
+    private static final PlayFabRateLimiter rateLimiter = new PlayFabRateLimiter();
+    private static final PlayFabCircuitBreaker circuitBreaker = new PlayFabCircuitBreaker();
+    private static final PlayFabHedgePolicy hedgePolicy = new PlayFabHedgePolicy();
+    private static final PlayFabBulkheads bulkheads = new PlayFabBulkheads();
+    private static final PlayFabSingleFlight singleFlight = new PlayFabSingleFlight();
+    private static final PlayFabTitleDataCache titleDataCache = new PlayFabTitleDataCache();
+    private static final PlayFabSessionTicketCache sessionTicketCache = new PlayFabSessionTicketCache();
+    private static final PlayFabMetrics metrics = new PlayFabMetrics();
+
+    private static PlayFabTransport createDefaultTransport() {
+        if (PlayFabSettings.PreferHttp2 && PlayFabHttp2Transport.isSupported())
+            return new PlayFabHttp2Transport();
+        return new PlayFabUrlConnectionTransport();
+    }
+
+    /** Replaces the transport used by every API call */
+    public static void setTransport(PlayFabTransport newTransport) {
+        if (newTransport == null)
+            throw new IllegalArgumentException("transport");
+        transport = newTransport;
+    }
+
+    public static PlayFabTransport getTransport() {
+        return transport;
+    }
+
+    /** Replaces the json codec used by every API call, for example with a PlayFabStreamingJsonCodec */
+    public static void setJsonCodec(PlayFabJsonCodec newJsonCodec) {
+        if (newJsonCodec == null)
+            throw new IllegalArgumentException("jsonCodec");
+        jsonCodec = newJsonCodec;
+    }
+
+    public static PlayFabJsonCodec getJsonCodec() {
+        return jsonCodec;
+    }
+
+    /** Adds a recorder that receives the measurements of every API call, alongside the built-in metrics; null to remove it */
+    public static void setMetricsRecorder(PlayFabMetricsRecorder newMetricsRecorder) {
+        metricsRecorder = newMetricsRecorder;
+    }
+
+    public static PlayFabMetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /** The built-in per-endpoint latency histograms and outcome counters, fed while PlayFabSettings.RecordMetrics is set */
+    public static PlayFabMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** Replaces the policy that retries failed calls; null to disable retries */
+    public static void setRetryPolicy(PlayFabRetryPolicy newRetryPolicy) {
+        retryPolicy = newRetryPolicy;
+    }
+
+    public static PlayFabRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /** The client-side rate limits every call is checked against; none are set by default */
+    public static PlayFabRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /** The per-path circuit breakers, active while PlayFabSettings.CircuitBreakerEnabled is set */
+    public static PlayFabCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /** Which reads are hedged, and the budget that pays for hedges, while PlayFabSettings.HedgeReads is set */
+    public static PlayFabHedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /** The compartments that bound concurrent calls per API family or class of traffic; none are defined by default */
+    public static PlayFabBulkheads getBulkheads() {
+        return bulkheads;
+    }
+
+    /** Which identical concurrent reads share one call while PlayFabSettings.CoalesceReads is set */
+    public static PlayFabSingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /** The title, title internal and publisher data cache used while PlayFabSettings.CacheTitleData is set */
+    public static PlayFabTitleDataCache getTitleDataCache() {
+        return titleDataCache;
+    }
+
+    /** The AuthenticateSessionTicket validation cache used while PlayFabSettings.CacheSessionTickets is set */
+    public static PlayFabSessionTicketCache getSessionTicketCache() {
+        return sessionTicketCache;
+    }
+
+    /**
+     * Opens connections to the PlayFab host for the current PlayFabSettings.TitleId ahead of the first API calls
+     * @param connections The number of connections to establish, normally no more than PlayFabSettings.MaxConnectionsPerHost
+     * @return The number of connections that were successfully established
+     */
+    public static int prewarm(int connections) {
+        return transport.prewarm(PlayFabSettings.GetURL("/"), connections);
+    }
+
+    /** Per-host connection statistics, when the active transport is pooled */
+    public static Map<String, PlayFabConnectionPool.HostStats> getConnectionStats() {
+        PlayFabTransport current = transport;
+        if (current instanceof PlayFabUrlConnectionTransport)
+            return ((PlayFabUrlConnectionTransport)current).getPool().getStats();
+        if (current instanceof PlayFabHttp2Transport)
+            return ((PlayFabHttp2Transport)current).getPool().getStats();
+        return Collections.emptyMap();
+    }
 
     public static FutureTask<Object> doPost(final String url, final Object request, final String authType, final String authKey) {
+        return doPost(url, request, authType, authKey, null);
+    }
+
+    /**
+     * Posts a request, and decodes a successful response straight from the connection stream.
+     * The call runs under the PlayFabDeadline of the PlayFabCallTask running it, or else under PlayFabSettings.CallTimeoutMs
+     * @param resultType The PlayFabJsonSuccess envelope type to decode a successful response into, or null to receive the raw json String
+     * @return Task that returns either a PlayFabError, or the decoded envelope (raw json when resultType is null)
+     */
+    public static FutureTask<Object> doPost(final String url, final Object request, final String authType, final String authKey, final Type resultType) {
         return new FutureTask<Object>(new Callable<Object>() {
             public Object call() throws Exception {
-                return doPostPrivate(url, request, authType, authKey);
+                return doPostPrivate(url, request, authType, authKey, resultType);
+            }
+        });
+    }
+
+    private static Object doPostPrivate(String url, Object request, String authType, String authKey, Type resultType) throws Exception {
+        String path = PlayFabMetrics.apiPath(url);
+        PlayFabDeadline deadline = PlayFabDeadline.current();
+        if (deadline == null)
+            deadline = new PlayFabDeadline(PlayFabSettings.CallTimeoutMs);
+        if (titleDataCache.isCached(path))
+            return titleDataCache.get(url, path, request, authType, authKey, resultType, deadline);
+        if (sessionTicketCache.isCached(path))
+            return sessionTicketCache.get(url, path, request, authType, authKey, resultType, deadline);
+        Object result = doPostShared(url, request, authType, authKey, resultType, path, deadline);
+        if (!(result instanceof PlayFabError)) {
+            titleDataCache.onSuccess(url, path, request);
+            sessionTicketCache.onSuccess(path, request);
+        }
+        return result;
+    }
+
+    /** Makes the call, or shares the identical one in flight when its path is coalescable */
+    static Object doPostShared(final String url, final Object request, final String authType, final String authKey, final Type resultType, final String path, final PlayFabDeadline deadline) throws Exception {
+        if (!singleFlight.isCoalescable(path))
+            return doPostCall(url, request, authType, authKey, resultType, path, deadline);
+        // Encoded once, both to identify the call and as the body it sends
+        PlayFabJsonCodec codec = jsonCodec;
+        final String requestJson = request == null || request instanceof String ? (String) request : encode(codec, request);
+        String key = PlayFabSingleFlight.key(path, authType, authKey, resultType, requestJson);
+        return singleFlight.execute(key, deadline, codec, resultType, new Callable<Object>() {
+            public Object call() throws Exception {
+                return doPostCall(url, requestJson, authType, authKey, resultType, path, deadline);
             }
         });
     }
 
-    private static Object doPostPrivate(String url, Object request, String authType, String authKey) throws Exception {
-        String bodyString = null;
+    private static String encode(PlayFabJsonCodec codec, Object request) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        codec.encode(request, json);
+        return json.toString("UTF-8");
+    }
+
+    static Object doPostCall(String url, Object request, String authType, String authKey, Type resultType, String path, PlayFabDeadline deadline) throws Exception {
+        PlayFabRetryPolicy policy = retryPolicy;
+        long start = System.nanoTime();
+        int attempts = 0;
+        long delayMs = 0;
+        while (true) {
+            if (deadline.isCancelled())
+                return GeneratePfError(0, PlayFabErrorCode.ServiceUnavailable, "Call to " + path + " was cancelled", null);
+            if (deadline.isExpired())
+                return GeneratePfError(0, PlayFabErrorCode.ServiceUnavailable, "Call to " + path + " ran out of time after " + (System.nanoTime() - start) / 1000000 + " ms", null);
+
+            PlayFabError rejected = circuitBreaker.acquire(path);
+            if (rejected != null)
+                return rejected;
+            rejected = rateLimiter.acquire(path, deadline);
+            if (rejected != null) {
+                circuitBreaker.release(path);
+                return rejected;
+            }
+            PlayFabBulkheads.Compartment compartment = bulkheads.forPath(path);
+            if (compartment != null) {
+                rejected = compartment.acquire(deadline);
+                if (rejected != null) {
+                    circuitBreaker.release(path);
+                    return rejected;
+                }
+            }
+
+            long attemptStart = System.nanoTime();
+            Object result;
+            try {
+                long hedgeDelayMicros = hedgePolicy.hedgeDelayMicros(path);
+                result = hedgeDelayMicros >= 0
+                    ? doPostHedged(url, request, authType, authKey, resultType, deadline, path, hedgeDelayMicros)
+                    : doPostAttempt(url, request, authType, authKey, resultType, deadline);
+            } finally {
+                if (compartment != null)
+                    compartment.release();
+            }
+            attempts++;
+            if (deadline.isCancelled()) {
+                circuitBreaker.release(path);
+                continue;
+            }
+            circuitBreaker.onResult(path, result, System.nanoTime() - attemptStart);
+            rateLimiter.onResult(path, result);
+            if (!(result instanceof PlayFabError)) {
+                if (policy != null)
+                    policy.onSuccess(attempts);
+                return result;
+            }
+
+            if (policy == null)
+                return result;
+            delayMs = policy.nextDelayMs(path, (PlayFabError)result, attempts, delayMs, (System.nanoTime() - start) / 1000000, deadline.remainingMs());
+            if (delayMs < 0)
+                return result;
+            try {
+                deadline.sleep(TimeUnit.MILLISECONDS.toNanos(delayMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Makes the request on this thread and, if it has not been answered after hedgeDelayMicros, the same request again on
+     * the PlayFabAsync executor. The first successful answer is returned, and the other request is aborted; an error is
+     * returned only once both requests have failed, or when the first fails before there is a second to wait for.
+     * The second request takes its own circuit breaker permit, bulkhead slot and rate limit permit, and is skipped when any
+     * of them would make it wait; it never records an outcome with the circuit breaker, since the call records the winner
+     */
+    private static Object doPostHedged(final String url, final Object request, final String authType, final String authKey, final Type resultType, PlayFabDeadline deadline, final String path, long hedgeDelayMicros) throws Exception {
+        final Hedge hedge = new Hedge(deadline);
+        deadline.setInFlight(hedge);
+        ScheduledFuture<?> timer = HedgeTimer.scheduler.schedule(new Runnable() {
+            public void run() {
+                if (hedge.isDone() || !hedgePolicy.tryHedge())
+                    return;
+                if (circuitBreaker.acquire(path) != null)
+                    return;
+                final PlayFabBulkheads.Compartment compartment = bulkheads.forPath(path);
+                if (compartment != null && !compartment.tryAcquire()) {
+                    circuitBreaker.release(path);
+                    return;
+                }
+                if (rateLimiter.tryAcquire(path) != null) {
+                    releaseHedge(path, compartment);
+                    return;
+                }
+                if (!hedge.startSecond()) {
+                    releaseHedge(path, compartment);
+                    return;
+                }
+                try {
+                    PlayFabAsync.getExecutor().execute(new Runnable() {
+                        public void run() {
+                            Object result = null;
+                            try {
+                                result = doPostAttempt(url, request, authType, authKey, resultType, hedge.second);
+                            } catch (Exception e) {
+                                hedge.second.cancel();
+                            } finally {
+                                releaseHedge(path, compartment);
+                            }
+                            hedge.complete(result, hedge.first);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    releaseHedge(path, compartment);
+                    hedge.complete(null, hedge.first);
+                }
+            }
+        }, hedgeDelayMicros, TimeUnit.MICROSECONDS);
 
-        if(request == null) {
-            bodyString = "{}";
+        try {
+            Object result;
+            try {
+                result = doPostAttempt(url, request, authType, authKey, resultType, hedge.first);
+            } catch (Exception e) {
+                // Still worth waiting for a hedge in flight; when there is none, or it fails too, the call fails as usual
+                hedge.complete(null, hedge.second);
+                result = hedge.awaitWinner();
+                timer.cancel(false);
+                if (result == null)
+                    throw e;
+                return result;
+            }
+            hedge.complete(result, hedge.second);
+            result = hedge.awaitWinner();
+            timer.cancel(false);
+            return result;
+        } finally {
+            deadline.clearInFlight(hedge);
         }
-        else if (request instanceof String) {
-            bodyString = (String)request;
+    }
+
+    private static void releaseHedge(String path, PlayFabBulkheads.Compartment compartment) {
+        if (compartment != null)
+            compartment.release();
+        circuitBreaker.release(path);
+    }
+
+    /**
+     * The two requests of a hedged call: the first success wins, and cancels the other. A failed request waits for the
+     * other one while it is still running, and the call fails only when neither succeeds, with the first request's error
+     */
+    private static class Hedge implements Closeable {
+        final PlayFabDeadline first;
+        final PlayFabDeadline second;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private int running = 1;
+        private boolean decided;
+        private Object failure;
+        private Object winner;
+
+        Hedge(PlayFabDeadline deadline) {
+            first = deadline.child();
+            second = deadline.child();
         }
-        else {
-            bodyString = gson.toJson(request);
+
+        synchronized boolean isDone() {
+            return decided;
         }
 
-        // System.out.println("Sending: " + bodyString);
+        /** Counts the second request as running; false once the call is decided, when it must not be sent */
+        synchronized boolean startSecond() {
+            if (decided)
+                return false;
+            running++;
+            return true;
+        }
 
-        HttpURLConnection con = (HttpURLConnection) new URL(url).openConnection();
-        con.setRequestMethod("POST");
-        con.setRequestProperty("Content-Type", "application/json");
+        /**
+         * Records a request's outcome
+         * @param result The request's result, or null when it threw
+         * @return true when this outcome decided the call
+         */
+        boolean complete(Object result, PlayFabDeadline other) {
+            synchronized (this) {
+                running--;
+                if (decided)
+                    return false;
+                if (result == null || result instanceof PlayFabError) {
+                    if (failure == null || (other == second && result != null))
+                        failure = result;
+                    if (running > 0)
+                        return false;
+                    result = failure;
+                }
+                decided = true;
+                winner = result;
+                if (other == first && !(result instanceof PlayFabError))
+                    hedgePolicy.onHedgeWon();
+            }
+            other.cancel();
+            done.countDown();
+            return true;
+        }
+
+        /** @return The deciding result, or null when every request threw */
+        Object awaitWinner() throws InterruptedException {
+            done.await();
+            synchronized (this) {
+                return winner;
+            }
+        }
+
+        /** Cancelling the call cancels both requests */
+        public void close() {
+            first.cancel();
+            second.cancel();
+        }
+    }
+
+    // Initialized on first use, so calls that are never hedged never start its thread
+    private static class HedgeTimer {
+        static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "PlayFabHedgeTimer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private static Object doPostAttempt(String url, Object request, String authType, String authKey, Type resultType, PlayFabDeadline deadline) throws Exception {
+        Object flightEvent = PlayFabFlightRecorder.beginCall();
+        PlayFabMetricsRecorder.Call call = new PlayFabMetricsRecorder.Call();
+        call.path = PlayFabMetrics.apiPath(url);
+        long start = System.nanoTime();
+        PlayFabJsonCodec codec = jsonCodec;
+        PlayFabRequestBody requestBody = PlayFabRequestBody.json(codec, request);
+        long serialized = System.nanoTime();
+        call.requestBytes = requestBody.contentLength();
+        if (call.requestBytes >= 0)
+            call.serializeNanos = serialized - start;
+
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Content-Type", "application/json");
         if(authType != null) {
-            con.setRequestProperty(authType, authKey);
+            headers.put(authType, authKey);
         }
-        con.setRequestProperty("X-PlayFabSDK", PlayFabSettings.SdkVersionString);
-        con.setDoOutput(true);
-        con.setDoInput(true);
+        headers.put("X-PlayFabSDK", PlayFabSettings.SdkVersionString);
 
         // Make the API-Call and get the normal response httpCode
-        int httpCode = 503; // default to SERVICE_UNAVAILABLE
+        PlayFabTransport.Response response = null;
+        Object result;
         try {
-            OutputStreamWriter writer = new OutputStreamWriter(con.getOutputStream());
-            writer.write(bodyString);
-            writer.close();
-            httpCode = con.getResponseCode();
+            response = transport.post(url, headers, requestBody, deadline);
+        } catch(ConnectException e) {
+            // The request never left, so even a write may be retried
+            result = GeneratePfError(503, PlayFabErrorCode.ConnectionError, "Failed to connect to server: " + url, null);
+            record(call, start, result, flightEvent, deadline);
+            return result;
+        } catch(SocketTimeoutException e) {
+            result = GeneratePfError(503, PlayFabErrorCode.ServiceUnavailable, "Timed out posting to server: " + url, null);
+            record(call, start, result, flightEvent, deadline);
+            return result;
         } catch(Exception e) {
-            return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Failed to post to server: " + url, null);
+            result = GeneratePfError(503, PlayFabErrorCode.ServiceUnavailable, "Failed to post to server: " + url, null);
+            record(call, start, result, flightEvent, deadline);
+            return result;
+        }
+        long firstByte = System.nanoTime();
+        call.timeToFirstByteNanos = firstByte - serialized;
+        call.httpCode = response.httpCode;
+
+        // Always close the response, which drains the body so the connection can be reused
+        try {
+            result = readResponse(response, resultType, codec, call);
+        } finally {
+            response.close();
+        }
+        call.deserializeNanos = System.nanoTime() - firstByte;
+        record(call, start, result, flightEvent, deadline);
+        return result;
+    }
+
+    private static void record(PlayFabMetricsRecorder.Call call, long start, Object result, Object flightEvent, PlayFabDeadline deadline) {
+        // An aborted request (the call was cancelled, or a hedge answered first) says nothing about the endpoint
+        if (deadline.isCancelled())
+            return;
+        PlayFabMetricsRecorder recorder = metricsRecorder;
+        if (!PlayFabSettings.RecordMetrics && recorder == null && flightEvent == null)
+            return;
+
+        call.totalNanos = System.nanoTime() - start;
+        if (result instanceof PlayFabError)
+            call.errorCode = ((PlayFabError)result).pfErrorCode;
+        PlayFabFlightRecorder.commitCall(flightEvent, call);
+        if (PlayFabSettings.RecordMetrics)
+            metrics.record(call);
+        if (recorder != null) {
+            try {
+                recorder.record(call);
+            } catch(RuntimeException e) {
+                // A failing recorder must never fail the call it measured
+            }
+        }
+    }
+
+    private static Object readResponse(PlayFabTransport.Response response, Type resultType, PlayFabJsonCodec codec, PlayFabMetricsRecorder.Call call) {
+        int httpCode = response.httpCode;
+        CountingInputStream body = null;
+        try {
+            InputStream raw = response.getBody();
+            body = raw != null ? new CountingInputStream(raw, call) : null;
+        } catch(IOException e) {
+            body = null;
+        }
+
+        // Successful responses are decoded in one pass from the stream: the body is never held as a String
+        if (httpCode == 200 && body != null && resultType != null) {
+            Object envelope = null;
+            Object decodeEvent = PlayFabFlightRecorder.beginDecode();
+            try {
+                envelope = codec.decode(body, resultType);
+                PlayFabFlightRecorder.commitDecode(decodeEvent, call.path, resultType, call.responseBytes);
+            } catch(IOException e) {
+                return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Failed to read server response", null);
+            } catch(Exception e) {
+                return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json", null);
+            }
+            if (envelope == null)
+                return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Empty server response", null);
+            return envelope;
         }
 
         // Get the response string
         String responseString = null;
         try {
-            responseString = receive(con.getInputStream());
+            if (body != null)
+                responseString = receive(body);
         } catch(IOException e) {
-            responseString = receive(con.getErrorStream());
+            responseString = null;
         }
 
         // Check for normal error results
@@ -74,13 +534,15 @@ public class PlayFabHTTP {
 
             PlayFabJsonError errorResult = null;
             try {
-                errorResult = gson.fromJson(responseString, PlayFabJsonError.class);
+                errorResult = (PlayFabJsonError) codec.decode(new ByteArrayInputStream(responseString.getBytes("UTF-8")), PlayFabJsonError.class);
             } catch(Exception e) {
                 return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json :" + responseString, null);
             }
 
             httpCode = errorResult.code;
-            return GeneratePfError(httpCode, PlayFabErrorCode.getFromCode(errorResult.errorCode), errorResult.errorMessage, errorResult.errorDetails);
+            PlayFabError error = GeneratePfError(httpCode, PlayFabErrorCode.getFromCode(errorResult.errorCode), errorResult.errorMessage, errorResult.errorDetails);
+            error.retryAfterSeconds = errorResult.retryAfterSeconds;
+            return error;
         }
 
         return responseString;
@@ -88,17 +550,47 @@ public class PlayFabHTTP {
 
     public static String receive(InputStream in) throws IOException {
         StringBuilder recieved = new StringBuilder();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        Reader reader = new InputStreamReader(in, "UTF-8");
 
-        String line = null;
-        while ((line = reader.readLine()) != null) {
-            recieved.append(line);
-            recieved.append('\n');
-        }
+        char[] buffer = new char[4096];
+        int count;
+        while ((count = reader.read(buffer)) != -1)
+            recieved.append(buffer, 0, count);
 
         return recieved.toString();
     }
 
+    /** Counts the response bytes the decoder consumes into the call's metrics */
+    private static class CountingInputStream extends FilterInputStream {
+        private final PlayFabMetricsRecorder.Call call;
+
+        CountingInputStream(InputStream in, PlayFabMetricsRecorder.Call call) {
+            super(in);
+            this.call = call;
+            call.responseBytes = 0;
+        }
+
+        public int read() throws IOException {
+            int value = in.read();
+            if (value >= 0)
+                call.responseBytes++;
+            return value;
+        }
+
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = in.read(buffer, offset, length);
+            if (count > 0)
+                call.responseBytes += count;
+            return count;
+        }
+
+        public long skip(long count) throws IOException {
+            long skipped = in.skip(count);
+            call.responseBytes += skipped;
+            return skipped;
+        }
+    }
+
     public static PlayFabError GeneratePfError(int httpCode, PlayFabErrorCode pfErrorCode, String errorMessage, Map<String, List<String>> errorDetails) {
         PlayFabError output =  new PlayFabError();
 
@@ -110,4 +602,12 @@ public class PlayFabHTTP {
 
         return output;
     }
+
+    /** The error a synchronous API method or PlayFabAsync returns when its call threw instead of completing */
+    public static PlayFabError GenerateExceptionError(Exception e) {
+        if (e instanceof InterruptedException)
+            Thread.currentThread().interrupt();
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        return GeneratePfError(0, PlayFabErrorCode.Unknown, cause.getMessage(), null);
+    }
 }
@@ -0,0 +1,97 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Chooses which calls PlayFabHTTP hedges while PlayFabSettings.HedgeReads is set: when a call to one of getHedgeablePaths
+ * has not been answered after the HedgeQuantile latency of its path, as measured by PlayFabHTTP.getMetrics(), an identical
+ * second request is sent and whichever answers first is used; the other is aborted. Only idempotent reads belong in the
+ * list, since both requests may reach PlayFab.
+ *
+ * Hedges are paid for from a budget that every hedgeable call adds HedgeBudgetPercent of a hedge to, holding at most
+ * HedgeMaxBurst hedges, so hedging cannot add more than that share of extra load even when PlayFab is slow across the board
+ */
+public class PlayFabHedgePolicy {
+    private static final long MilliHedge = 1000;
+
+    private final Set<String> hedgeablePaths = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final AtomicLong budget = new AtomicLong();
+    private final AtomicLong hedgeableCalls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    public PlayFabHedgePolicy() {
+        hedgeablePaths.add("/Client/GetTitleData");
+        hedgeablePaths.add("/Server/GetTitleData");
+        hedgeablePaths.add("/Server/GetTitleInternalData");
+        hedgeablePaths.add("/Client/GetCatalogItems");
+        hedgeablePaths.add("/Server/GetCatalogItems");
+        hedgeablePaths.add("/Client/GetUserReadOnlyData");
+        hedgeablePaths.add("/Server/GetUserReadOnlyData");
+        hedgeablePaths.add("/Client/GetLeaderboard");
+        hedgeablePaths.add("/Server/GetLeaderboard");
+        hedgeablePaths.add("/Profile/GetProfiles");
+    }
+
+    /** The API paths that may be hedged; may be edited at any time */
+    public Set<String> getHedgeablePaths() {
+        return hedgeablePaths;
+    }
+
+    /**
+     * Called by PlayFabHTTP when a call to a path starts
+     * @return How long to wait for an answer before hedging, or -1 not to hedge the call
+     */
+    public long hedgeDelayMicros(String path) {
+        if (!PlayFabSettings.HedgeReads || !hedgeablePaths.contains(path))
+            return -1;
+        hedgeableCalls.incrementAndGet();
+        long deposit = (long) (PlayFabSettings.HedgeBudgetPercent * MilliHedge / 100);
+        long cap = Math.max(1, PlayFabSettings.HedgeMaxBurst) * MilliHedge;
+        long current;
+        while ((current = budget.get()) < cap && !budget.compareAndSet(current, Math.min(cap, current + deposit))) { }
+        return PlayFabHTTP.getMetrics().getLatencyPercentile(path, PlayFabSettings.HedgeQuantile, PlayFabSettings.HedgeMinCalls);
+    }
+
+    /** Spends a hedge from the budget; false when it is empty and the call should keep waiting on its first request */
+    public boolean tryHedge() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < MilliHedge) {
+                budgetExhausted.incrementAndGet();
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - MilliHedge));
+        hedges.incrementAndGet();
+        return true;
+    }
+
+    /** Called when a hedge answered before the request it was hedging */
+    public void onHedgeWon() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.hedgeableCalls = hedgeableCalls.get();
+        output.hedges = hedges.get();
+        output.hedgeWins = hedgeWins.get();
+        output.budgetExhausted = budgetExhausted.get();
+        output.budgetAvailable = (double) budget.get() / MilliHedge;
+        return output;
+    }
+
+    public static class Stats {
+        public long hedgeableCalls; // Calls to hedgeable paths made while HedgeReads was set
+        public long hedges; // Second requests sent
+        public long hedgeWins; // Second requests that answered first
+        public long budgetExhausted; // Calls that were due a hedge but found the budget empty
+        public double budgetAvailable; // Hedges the budget can currently pay for
+    }
+}
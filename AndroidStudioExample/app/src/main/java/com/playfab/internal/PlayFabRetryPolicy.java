@@ -0,0 +1,225 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Decides whether, and after how long, PlayFabHTTP retries a failed call.
+ * Any call is retried when its PlayFabErrorCode is in getRetryableErrors or its HTTP status is in getRetryableHttpCodes:
+ * by default, failures to connect and throttling, where PlayFab provably never ran the request. A call to one of
+ * getIdempotentPaths (the read calls by default) is also retried on getIdempotentRetryableErrors and
+ * getIdempotentRetryableHttpCodes: 5xx, and timeouts or broken connections, where the request may have run already and a
+ * write would run twice. Delays use decorrelated jitter: each is random between PlayFabSettings.RetryBaseDelayMs and three
+ * times the previous delay, capped at RetryMaxDelayMs, and never shorter than a retryAfterSeconds sent by PlayFab.
+ *
+ * Retries are bounded per call by RetryMaxAttempts and by RetryBudgetMs of elapsed time, and across all calls by a shared
+ * token bucket of RetryTokenBucketSize tokens: each retry spends RetryTokenCost, each successful call returns one. When most
+ * calls are failing the bucket drains and calls fail on their first error, so retries cannot multiply the load of an outage
+ */
+public class PlayFabRetryPolicy {
+    private static final String[] readPaths = new String[] {
+        "/Admin/CheckLimitedEditionItemAvailability", "/Admin/GetActionsOnPlayersInSegmentTaskInstance",
+        "/Admin/GetAllSegments", "/Admin/GetCatalogItems", "/Admin/GetCloudScriptRevision",
+        "/Admin/GetCloudScriptTaskInstance", "/Admin/GetCloudScriptVersions", "/Admin/GetContentList",
+        "/Admin/GetContentUploadUrl", "/Admin/GetDataReport", "/Admin/GetMatchmakerGameInfo",
+        "/Admin/GetMatchmakerGameModes", "/Admin/GetPlayedTitleList", "/Admin/GetPlayerIdFromAuthToken",
+        "/Admin/GetPlayerProfile", "/Admin/GetPlayerSegments", "/Admin/GetPlayerSharedSecrets",
+        "/Admin/GetPlayerStatisticDefinitions", "/Admin/GetPlayerStatisticVersions", "/Admin/GetPlayerTags",
+        "/Admin/GetPlayersInSegment", "/Admin/GetPolicy", "/Admin/GetPublisherData", "/Admin/GetRandomResultTables",
+        "/Admin/GetServerBuildInfo", "/Admin/GetServerBuildUploadUrl", "/Admin/GetStoreItems", "/Admin/GetTaskInstances",
+        "/Admin/GetTasks", "/Admin/GetTitleData", "/Admin/GetTitleInternalData", "/Admin/GetUserAccountInfo",
+        "/Admin/GetUserBans", "/Admin/GetUserData", "/Admin/GetUserInternalData", "/Admin/GetUserInventory",
+        "/Admin/GetUserPublisherData", "/Admin/GetUserPublisherInternalData", "/Admin/GetUserPublisherReadOnlyData",
+        "/Admin/GetUserReadOnlyData", "/Admin/ListServerBuilds", "/Admin/ListVirtualCurrencyTypes",
+        "/Authentication/GetEntityToken", "/Client/GetAccountInfo", "/Client/GetAllUsersCharacters",
+        "/Client/GetCatalogItems", "/Client/GetCharacterData", "/Client/GetCharacterInventory",
+        "/Client/GetCharacterLeaderboard", "/Client/GetCharacterReadOnlyData", "/Client/GetCharacterStatistics",
+        "/Client/GetContentDownloadUrl", "/Client/GetCurrentGames", "/Client/GetFriendLeaderboard",
+        "/Client/GetFriendLeaderboardAroundPlayer", "/Client/GetFriendsList", "/Client/GetGameServerRegions",
+        "/Client/GetLeaderboard", "/Client/GetLeaderboardAroundCharacter", "/Client/GetLeaderboardAroundPlayer",
+        "/Client/GetLeaderboardForUserCharacters", "/Client/GetPaymentToken", "/Client/GetPhotonAuthenticationToken",
+        "/Client/GetPlayFabIDsFromFacebookIDs", "/Client/GetPlayFabIDsFromFacebookInstantGamesIds",
+        "/Client/GetPlayFabIDsFromGameCenterIDs", "/Client/GetPlayFabIDsFromGenericIDs",
+        "/Client/GetPlayFabIDsFromGoogleIDs", "/Client/GetPlayFabIDsFromKongregateIDs",
+        "/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds", "/Client/GetPlayFabIDsFromSteamIDs",
+        "/Client/GetPlayFabIDsFromTwitchIDs", "/Client/GetPlayerCombinedInfo", "/Client/GetPlayerProfile",
+        "/Client/GetPlayerSegments", "/Client/GetPlayerStatisticVersions", "/Client/GetPlayerStatistics",
+        "/Client/GetPlayerTags", "/Client/GetPlayerTrades", "/Client/GetPublisherData", "/Client/GetPurchase",
+        "/Client/GetSharedGroupData", "/Client/GetStoreItems", "/Client/GetTime", "/Client/GetTitleData",
+        "/Client/GetTitleNews", "/Client/GetTitlePublicKey", "/Client/GetTradeStatus", "/Client/GetUserData",
+        "/Client/GetUserInventory", "/Client/GetUserPublisherData", "/Client/GetUserPublisherReadOnlyData",
+        "/Client/GetUserReadOnlyData", "/Client/GetWindowsHelloChallenge", "/File/GetFiles", "/Group/GetGroup",
+        "/Group/ListGroupApplications", "/Group/ListGroupBlocks", "/Group/ListGroupInvitations", "/Group/ListGroupMembers",
+        "/Group/ListMembership", "/Group/ListMembershipOpportunities", "/Locale/GetLanguageList", "/Object/GetObjects",
+        "/Profile/GetGlobalPolicy", "/Profile/GetProfile", "/Profile/GetProfiles", "/Server/AuthenticateSessionTicket",
+        "/Server/EvaluateRandomResultTable", "/Server/GetAllSegments", "/Server/GetAllUsersCharacters",
+        "/Server/GetCatalogItems", "/Server/GetCharacterData", "/Server/GetCharacterInternalData",
+        "/Server/GetCharacterInventory", "/Server/GetCharacterLeaderboard", "/Server/GetCharacterReadOnlyData",
+        "/Server/GetCharacterStatistics", "/Server/GetContentDownloadUrl", "/Server/GetFriendLeaderboard",
+        "/Server/GetFriendsList", "/Server/GetLeaderboard", "/Server/GetLeaderboardAroundCharacter",
+        "/Server/GetLeaderboardAroundUser", "/Server/GetLeaderboardForUserCharacters",
+        "/Server/GetPlayFabIDsFromFacebookIDs", "/Server/GetPlayFabIDsFromFacebookInstantGamesIds",
+        "/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds", "/Server/GetPlayFabIDsFromSteamIDs",
+        "/Server/GetPlayerCombinedInfo", "/Server/GetPlayerProfile", "/Server/GetPlayerSegments",
+        "/Server/GetPlayerStatisticVersions", "/Server/GetPlayerStatistics", "/Server/GetPlayerTags",
+        "/Server/GetPlayersInSegment", "/Server/GetPublisherData", "/Server/GetRandomResultTables",
+        "/Server/GetSharedGroupData", "/Server/GetTime", "/Server/GetTitleData", "/Server/GetTitleInternalData",
+        "/Server/GetTitleNews", "/Server/GetUserAccountInfo", "/Server/GetUserBans", "/Server/GetUserData",
+        "/Server/GetUserInternalData", "/Server/GetUserInventory", "/Server/GetUserPublisherData",
+        "/Server/GetUserPublisherInternalData", "/Server/GetUserPublisherReadOnlyData", "/Server/GetUserReadOnlyData"
+    };
+
+    private final Set<PlayFabErrorCode> retryableErrors = Collections.newSetFromMap(new ConcurrentHashMap<PlayFabErrorCode, Boolean>());
+    private final Set<Integer> retryableHttpCodes = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+    private final Set<String> idempotentPaths = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Set<PlayFabErrorCode> idempotentRetryableErrors = Collections.newSetFromMap(new ConcurrentHashMap<PlayFabErrorCode, Boolean>());
+    private final Set<Integer> idempotentRetryableHttpCodes = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+    private final AtomicInteger tokensSpent = new AtomicInteger();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong retriedSuccesses = new AtomicLong();
+    private final AtomicLong attemptsExhausted = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    private final AtomicLong tokensExhausted = new AtomicLong();
+
+    public PlayFabRetryPolicy() {
+        retryableErrors.add(PlayFabErrorCode.ConnectionError);
+        retryableErrors.add(PlayFabErrorCode.APIRequestLimitExceeded);
+        retryableErrors.add(PlayFabErrorCode.APIClientRequestRateLimitExceeded);
+        retryableErrors.add(PlayFabErrorCode.APIConcurrentRequestLimitExceeded);
+        retryableHttpCodes.add(429);
+        idempotentPaths.addAll(Arrays.asList(readPaths));
+        idempotentRetryableErrors.add(PlayFabErrorCode.ServiceUnavailable);
+        idempotentRetryableErrors.add(PlayFabErrorCode.DownstreamServiceUnavailable);
+        idempotentRetryableHttpCodes.add(500);
+        idempotentRetryableHttpCodes.add(502);
+        idempotentRetryableHttpCodes.add(503);
+        idempotentRetryableHttpCodes.add(504);
+    }
+
+    /** The error codes that are retried on any call, since the request was never run; may be edited at any time */
+    public Set<PlayFabErrorCode> getRetryableErrors() {
+        return retryableErrors;
+    }
+
+    /** The HTTP statuses that are retried on any call, since the request was never run; may be edited at any time */
+    public Set<Integer> getRetryableHttpCodes() {
+        return retryableHttpCodes;
+    }
+
+    /** The API paths that are safe to run twice, such as "/Server/GetTitleData"; may be edited at any time */
+    public Set<String> getIdempotentPaths() {
+        return idempotentPaths;
+    }
+
+    /** The error codes that are retried on getIdempotentPaths only; may be edited at any time */
+    public Set<PlayFabErrorCode> getIdempotentRetryableErrors() {
+        return idempotentRetryableErrors;
+    }
+
+    /** The HTTP statuses that are retried on getIdempotentPaths only; may be edited at any time */
+    public Set<Integer> getIdempotentRetryableHttpCodes() {
+        return idempotentRetryableHttpCodes;
+    }
+
+    /** Whether a failed call to a path is worth retrying at all, before attempts, budget and tokens are considered */
+    public boolean isRetryable(String path, PlayFabError error) {
+        if ((error.pfErrorCode != null && retryableErrors.contains(error.pfErrorCode)) || retryableHttpCodes.contains(error.httpCode))
+            return true;
+        return idempotentPaths.contains(path)
+            && ((error.pfErrorCode != null && idempotentRetryableErrors.contains(error.pfErrorCode)) || idempotentRetryableHttpCodes.contains(error.httpCode));
+    }
+
+    /**
+     * Called by PlayFabHTTP after a failed attempt
+     * @param path The API path, such as "/Server/GetTitleData"
+     * @param attempts The attempts made so far, including the one that failed
+     * @param previousDelayMs The delay before the failed attempt, 0 after the first one
+     * @param elapsedMs Time since the call started
+     * @param remainingMs Time left before the call's deadline, or Long.MAX_VALUE
+     * @return The delay before the next attempt, or -1 to give up and return the error
+     */
+    public long nextDelayMs(String path, PlayFabError error, int attempts, long previousDelayMs, long elapsedMs, long remainingMs) {
+        if (!isRetryable(path, error))
+            return -1;
+        if (attempts >= PlayFabSettings.RetryMaxAttempts) {
+            attemptsExhausted.incrementAndGet();
+            return -1;
+        }
+
+        long base = Math.max(1, PlayFabSettings.RetryBaseDelayMs);
+        long cap = Math.max(base, PlayFabSettings.RetryMaxDelayMs);
+        long upper = Math.min(cap, Math.max(base, previousDelayMs * 3));
+        long delay = upper > base ? base + Jitter.nextLong(upper - base + 1) : base;
+        if (error.retryAfterSeconds != null)
+            delay = Math.max(delay, error.retryAfterSeconds.longValue() * 1000);
+        if (elapsedMs + delay > PlayFabSettings.RetryBudgetMs || delay >= remainingMs) {
+            budgetExhausted.incrementAndGet();
+            return -1;
+        }
+
+        if (!spendToken()) {
+            tokensExhausted.incrementAndGet();
+            return -1;
+        }
+        retries.incrementAndGet();
+        return delay;
+    }
+
+    /** Called by PlayFabHTTP when a call succeeds, refilling the token bucket */
+    public void onSuccess(int attempts) {
+        if (attempts > 1)
+            retriedSuccesses.incrementAndGet();
+        int spent;
+        while ((spent = tokensSpent.get()) > 0 && !tokensSpent.compareAndSet(spent, spent - 1)) { }
+    }
+
+    private boolean spendToken() {
+        int cost = Math.max(0, PlayFabSettings.RetryTokenCost);
+        int spent;
+        do {
+            spent = tokensSpent.get();
+            if (spent + cost > PlayFabSettings.RetryTokenBucketSize)
+                return false;
+        } while (!tokensSpent.compareAndSet(spent, spent + cost));
+        return true;
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.tokensAvailable = Math.max(0, PlayFabSettings.RetryTokenBucketSize - tokensSpent.get());
+        output.retries = retries.get();
+        output.retriedSuccesses = retriedSuccesses.get();
+        output.attemptsExhausted = attemptsExhausted.get();
+        output.budgetExhausted = budgetExhausted.get();
+        output.tokensExhausted = tokensExhausted.get();
+        return output;
+    }
+
+    public static class Stats {
+        public int tokensAvailable; // Left in the shared retry bucket
+        public long retries; // Attempts made after a retryable error
+        public long retriedSuccesses; // Calls that succeeded after at least one retry
+        public long attemptsExhausted; // Calls that failed on their last allowed attempt
+        public long budgetExhausted; // Calls that gave up because the next delay would overrun RetryBudgetMs or the deadline
+        public long tokensExhausted; // Calls that gave up because the shared retry bucket was empty
+    }
+
+    /** A per-thread Random, since ThreadLocalRandom only exists from Android API 21 */
+    static class Jitter {
+        static final ThreadLocal<Random> random = new ThreadLocal<Random>() {
+            protected Random initialValue() {
+                return new Random();
+            }
+        };
+
+        static long nextLong(long bound) {
+            return (long) (random.get().nextDouble() * bound);
+        }
+    }
+}
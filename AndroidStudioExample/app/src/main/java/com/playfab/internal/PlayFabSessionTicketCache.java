@@ -0,0 +1,243 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/**
+ * Remembers successful AuthenticateSessionTicket validations while PlayFabSettings.CacheSessionTickets is set, so a ticket
+ * validated again within SessionTicketCacheTtlMs is answered from memory with the account info PlayFab returned for it.
+ * Entries are keyed by a SHA-256 hash of the ticket, so tickets themselves are never held, and the least recently used
+ * are evicted beyond SessionTicketCacheMaxEntries. Concurrent validations of one ticket share a single call, and
+ * failed validations are not cached.
+ *
+ * A successful BanUsers, DeletePlayer or DeleteMasterPlayerAccount made through the SDK drops the entries of the players
+ * it names, and a ban by IP or MAC address drops every entry; call invalidatePlayer for changes made anywhere else.
+ * Account info is held as the json PlayFab returned, and each validation answered from memory decodes its own copy, so
+ * callers may modify what they get. Requests and results are read through the json codec, since the server models are
+ * not part of every module that shares this package
+ */
+public class PlayFabSessionTicketCache {
+    private static final String AuthenticatePath = "/Server/AuthenticateSessionTicket";
+    private static final Set<String> playerWrites = new HashSet<String>(Arrays.asList(
+        "/Server/BanUsers", "/Admin/BanUsers", "/Server/DeletePlayer", "/Admin/DeletePlayer", "/Admin/DeleteMasterPlayerAccount"));
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private final Map<String, Set<String>> keysByPlayer = new HashMap<String, Set<String>>();
+    // Bumped by every invalidation, so a validation that started before one cannot cache what it dropped
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public boolean isCached(String path) {
+        return PlayFabSettings.CacheSessionTickets && AuthenticatePath.equals(path);
+    }
+
+    /** Drops every cached ticket of a player, so their next validation goes to PlayFab */
+    public void invalidatePlayer(String playFabId) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            Set<String> keys = keysByPlayer.remove(playFabId);
+            if (keys != null)
+                for (String key : keys)
+                    entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+            keysByPlayer.clear();
+        } finally {
+            lock.unlock();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /** Called by PlayFabHTTP after every successful call, to drop the tickets of players a ban or deletion has changed */
+    void onSuccess(String path, Object request) {
+        if (!playerWrites.contains(path) || request == null)
+            return;
+        JsonObject tree;
+        try {
+            tree = PlayFabModelJson.toTree(PlayFabHTTP.getJsonCodec(), request);
+        } catch (IOException e) {
+            invalidateAll(); // The players the write changed cannot be told
+            return;
+        }
+        JsonElement bans = tree.get("Bans");
+        if (bans != null && bans.isJsonArray()) {
+            for (JsonElement ban : bans.getAsJsonArray()) {
+                if (!ban.isJsonObject())
+                    continue;
+                JsonObject fields = ban.getAsJsonObject();
+                if (PlayFabModelJson.getString(fields, "IPAddress") != null || PlayFabModelJson.getString(fields, "MACAddress") != null) {
+                    invalidateAll(); // The players an address ban affects are not known here
+                    return;
+                }
+                String playFabId = PlayFabModelJson.getString(fields, "PlayFabId");
+                if (playFabId != null)
+                    invalidatePlayer(playFabId);
+            }
+            return;
+        }
+        String playFabId = PlayFabModelJson.getString(tree, "PlayFabId");
+        if (playFabId != null)
+            invalidatePlayer(playFabId);
+    }
+
+    /** Answers a validation from memory, or makes it, sharing the call with concurrent validations of the same ticket */
+    Object get(final String url, final String path, final Object request, final String authType, final String authKey, final Type resultType, final PlayFabDeadline deadline) throws Exception {
+        String ticket = request != null ? PlayFabModelJson.getString(PlayFabModelJson.toTree(PlayFabHTTP.getJsonCodec(), request), "SessionTicket") : null;
+        if (ticket == null)
+            return PlayFabHTTP.doPostShared(url, request, authType, authKey, resultType, path, deadline);
+        // The secret key is part of the key, so a ticket validated for one title is never answered for another
+        final String key = PlayFabModelJson.hash(url + "\n" + authKey + "\n" + ticket);
+
+        long now = System.nanoTime();
+        JsonObject data = null;
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.expiresNanos <= 0)
+                    data = entry.data;
+                else
+                    remove(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (data != null) {
+            hits.incrementAndGet();
+            return envelope(data, resultType);
+        }
+
+        misses.incrementAndGet();
+        return PlayFabHTTP.getSingleFlight().execute(AuthenticatePath + "\n" + key, deadline, PlayFabHTTP.getJsonCodec(), resultType, new Callable<Object>() {
+            public Object call() throws Exception {
+                long started = generation.get();
+                Object result = PlayFabHTTP.doPostCall(url, request, authType, authKey, resultType, path, deadline);
+                if (!(result instanceof PlayFabError))
+                    put(key, (PlayFabJsonSuccess<?>) result, started);
+                return result;
+            }
+        });
+    }
+
+    private void put(String key, PlayFabJsonSuccess<?> result, long started) {
+        long ttlMs = PlayFabSettings.SessionTicketCacheTtlMs;
+        int maxEntries = PlayFabSettings.SessionTicketCacheMaxEntries;
+        if (ttlMs <= 0 || maxEntries <= 0 || result.data == null)
+            return;
+        // Encoded now, so the entry is a copy that the caller making the call cannot change afterwards
+        JsonObject data;
+        try {
+            data = PlayFabModelJson.toTree(PlayFabHTTP.getJsonCodec(), result.data);
+        } catch (IOException e) {
+            return; // The validation still succeeded; it is just not cached
+        }
+        JsonObject userInfo = PlayFabModelJson.getObject(data, "UserInfo");
+        String playFabId = userInfo != null ? PlayFabModelJson.getString(userInfo, "PlayFabId") : null;
+        if (playFabId == null)
+            return;
+
+        Entry entry = new Entry();
+        entry.data = data;
+        entry.playFabId = playFabId;
+        entry.expiresNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        lock.lock();
+        try {
+            if (generation.get() != started)
+                return;
+            Entry previous = entries.put(key, entry);
+            if (previous != null)
+                unindex(key, previous);
+            Set<String> keys = keysByPlayer.get(entry.playFabId);
+            if (keys == null) {
+                keys = new HashSet<String>();
+                keysByPlayer.put(entry.playFabId, keys);
+            }
+            keys.add(key);
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                Map.Entry<String, Entry> pair = eldest.next();
+                eldest.remove();
+                unindex(pair.getKey(), pair.getValue());
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held
+    private void remove(String key, Entry entry) {
+        entries.remove(key);
+        unindex(key, entry);
+    }
+
+    private void unindex(String key, Entry entry) {
+        Set<String> keys = keysByPlayer.get(entry.playFabId);
+        if (keys != null && keys.remove(key) && keys.isEmpty())
+            keysByPlayer.remove(entry.playFabId);
+    }
+
+    /** A new result of the caller's type holding the cached account info, decoded by the codec so each hit gets its own */
+    private static Object envelope(JsonObject data, Type resultType) throws IOException {
+        JsonObject output = new JsonObject();
+        output.addProperty("code", 200);
+        output.addProperty("status", "OK");
+        output.add("data", data);
+        return PlayFabModelJson.fromTree(PlayFabHTTP.getJsonCodec(), output, resultType);
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.hits = hits.get();
+        output.misses = misses.get();
+        output.evictions = evictions.get();
+        output.invalidations = invalidations.get();
+        lock.lock();
+        try {
+            output.entries = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return output;
+    }
+
+    public static class Stats {
+        public long hits; // Validations answered from memory
+        public long misses; // Validations that went to PlayFab, or shared a call that did
+        public long evictions; // Entries dropped to stay within SessionTicketCacheMaxEntries
+        public long invalidations;
+        public int entries;
+    }
+
+    private static class Entry {
+        JsonObject data; // The AuthenticateSessionTicketResult, as the codec writes it
+        String playFabId;
+        long expiresNanos;
+    }
+}
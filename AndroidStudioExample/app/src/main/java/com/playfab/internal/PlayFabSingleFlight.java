@@ -0,0 +1,171 @@
+package com.playfab.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Collapses identical concurrent reads into one HTTP call while PlayFabSettings.CoalesceReads is set. Calls to one of
+ * getCoalescablePaths with the same credentials and the same request json share the call of whichever of them started
+ * first. That caller receives the decoded result, and every other caller its own copy, decoded again from the result's
+ * json, so callers may modify what they receive.
+ * A caller whose deadline passes stops waiting without affecting the others; if the caller that made the shared call is
+ * cancelled or runs out of time, the callers still waiting start over
+ */
+public class PlayFabSingleFlight {
+    private final Set<String> coalescablePaths = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<String, Flight>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public PlayFabSingleFlight() {
+        coalescablePaths.add("/Client/GetTitleData");
+        coalescablePaths.add("/Server/GetTitleData");
+        coalescablePaths.add("/Server/GetTitleInternalData");
+        coalescablePaths.add("/Client/GetPublisherData");
+        coalescablePaths.add("/Server/GetPublisherData");
+        coalescablePaths.add("/Client/GetCatalogItems");
+        coalescablePaths.add("/Server/GetCatalogItems");
+        coalescablePaths.add("/Client/GetStoreItems");
+        coalescablePaths.add("/Server/GetStoreItems");
+        coalescablePaths.add("/Client/GetTitleNews");
+        coalescablePaths.add("/Server/GetTitleNews");
+        coalescablePaths.add("/Server/GetRandomResultTables");
+    }
+
+    /** The API paths whose identical concurrent calls are shared; may be edited at any time */
+    public Set<String> getCoalescablePaths() {
+        return coalescablePaths;
+    }
+
+    public boolean isCoalescable(String path) {
+        return PlayFabSettings.CoalesceReads && coalescablePaths.contains(path);
+    }
+
+    /**
+     * The identity of a call: its path, credentials, result type and request json.
+     * The json is compared as the codec wrote it, which is the same for equal requests of one model class; two requests
+     * that differ only in the order of a map's entries are not shared
+     * @param requestJson The request as encoded for sending, or null for a call without a request
+     */
+    public static String key(String path, String authType, String authKey, Type resultType, String requestJson) {
+        return new StringBuilder(path).append('\n').append(authType).append('\n').append(authKey).append('\n')
+            .append(resultType).append('\n').append(requestJson).toString();
+    }
+
+    /**
+     * Runs the call, or waits for the identical call already in flight
+     * @param deadline The deadline of this caller: a caller that runs out of time stops waiting, and a call whose deadline
+     *     was cancelled or passed does not hand its result to the others, who make the call again if they have time left
+     * @param codec Encodes the result once for the callers that shared it, and decodes a copy for each of them
+     * @param resultType The type the result decodes as
+     */
+    public Object execute(String key, PlayFabDeadline deadline, PlayFabJsonCodec codec, Type resultType, Callable<Object> call) throws Exception {
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                calls.incrementAndGet();
+                try {
+                    flight.result = call.call();
+                    return flight.result;
+                } catch (Exception e) {
+                    flight.error = e;
+                    throw e;
+                } finally {
+                    flight.abandoned = deadline.isCancelled() || deadline.isExpired();
+                    flights.remove(key, flight);
+                    // Closes the flight to new followers, so the result is only encoded when someone is waiting for it
+                    if (flight.followers.getAndSet(-1) > 0 && !flight.abandoned && !(flight.result instanceof PlayFabError))
+                        flight.encoded = encode(codec, flight.result);
+                    flight.done.countDown();
+                }
+            }
+
+            if (!existing.follow())
+                continue; // It finished just now, without us
+            coalesced.incrementAndGet();
+            try {
+                if (!existing.done.await(deadline.remainingNanos(), TimeUnit.NANOSECONDS))
+                    return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.ServiceUnavailable, "Ran out of time waiting for an identical call in flight", null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.ServiceUnavailable, "Interrupted waiting for an identical call in flight", null);
+            }
+            if (existing.abandoned)
+                continue;
+            if (existing.error != null)
+                throw existing.error;
+            if (existing.result instanceof PlayFabError)
+                return copy((PlayFabError) existing.result);
+            if (existing.encoded == null)
+                continue; // The result could not be encoded for sharing, so make the call ourselves
+            return codec.decode(new ByteArrayInputStream(existing.encoded), resultType);
+        }
+    }
+
+    private static byte[] encode(PlayFabJsonCodec codec, Object result) {
+        try {
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            codec.encode(result, json);
+            return json.toByteArray();
+        } catch (IOException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static PlayFabError copy(PlayFabError error) {
+        PlayFabError output = new PlayFabError();
+        output.httpCode = error.httpCode;
+        output.httpStatus = error.httpStatus;
+        output.pfErrorCode = error.pfErrorCode;
+        output.errorMessage = error.errorMessage;
+        output.errorDetails = error.errorDetails != null ? new HashMap<String, List<String>>(error.errorDetails) : null;
+        output.retryAfterSeconds = error.retryAfterSeconds;
+        return output;
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.calls = calls.get();
+        output.coalesced = coalesced.get();
+        output.inFlight = flights.size();
+        return output;
+    }
+
+    public static class Stats {
+        public long calls; // Coalescable calls that went to PlayFab
+        public long coalesced; // Calls that shared one of those instead
+        public int inFlight;
+    }
+
+    private static class Flight {
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicInteger followers = new AtomicInteger(); // -1 once the call has finished and takes no more followers
+        volatile Object result;
+        volatile byte[] encoded;
+        volatile Exception error;
+        volatile boolean abandoned;
+
+        boolean follow() {
+            int current;
+            do {
+                current = followers.get();
+                if (current < 0)
+                    return false;
+            } while (!followers.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.playfab.benchmarks;
+
+import java.lang.reflect.*;
+import java.util.*;
+import com.google.gson.*;
+
+import com.playfab.internal.PlayFabGsonCodec;
+
+/**
+ * Deterministic, fully populated model instances for the benchmarks.
+ * Every field of every nested model is filled, and every list and map gets collectionSize entries, so the payloads exercise
+ * each field type the generated adapters handle
+ */
+public class BenchmarkModels {
+    /** Gson as the SDK configured it before the precompiled adapters: every model goes through the reflective adapter */
+    public static Gson reflectiveGson() {
+        return new GsonBuilder().setDateFormat(PlayFabGsonCodec.DateFormat).create();
+    }
+
+    /** Gson as the default PlayFabJsonCodec configures it */
+    public static Gson generatedGson() {
+        return PlayFabGsonCodec.createGson();
+    }
+
+    public static <T> T populate(Class<T> type, int collectionSize) {
+        try {
+            return type.cast(value(type, collectionSize, 0, new Random(type.getName().hashCode())));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not populate " + type.getName(), e);
+        }
+    }
+
+    private static Object value(Type type, int collectionSize, int depth, Random random) throws Exception {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType generic = (ParameterizedType) type;
+            Type[] arguments = generic.getActualTypeArguments();
+            if (List.class.isAssignableFrom((Class<?>) generic.getRawType())) {
+                ArrayList<Object> list = new ArrayList<Object>();
+                for (int i = 0; i < collectionSize; i++)
+                    list.add(value(arguments[0], collectionSize, depth + 1, random));
+                return list;
+            }
+            Map<String, Object> map = new HashMap<String, Object>();
+            for (int i = 0; i < collectionSize; i++)
+                map.put("Key" + i, value(arguments[1], collectionSize, depth + 1, random));
+            return map;
+        }
+
+        Class<?> raw = (Class<?>) type;
+        if (raw == String.class)
+            return "Value" + random.nextInt(100000);
+        if (raw == Boolean.class)
+            return random.nextBoolean();
+        if (raw == Integer.class)
+            return random.nextInt(100000);
+        if (raw == Long.class)
+            return (long) random.nextInt(Integer.MAX_VALUE) * 1000L;
+        if (raw == Double.class)
+            return random.nextInt(100000) / 100.0;
+        if (raw == Date.class)
+            return new Date(1500000000000L + random.nextInt(Integer.MAX_VALUE));
+        if (raw == Object.class)
+            return "Object" + random.nextInt(100000);
+        if (raw.isEnum())
+            return raw.getEnumConstants()[random.nextInt(raw.getEnumConstants().length)];
+        if (depth > 4)
+            return null;
+
+        Object model = raw.newInstance();
+        for (Field field : raw.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()))
+                field.set(model, value(field.getGenericType(), collectionSize, depth + 1, random));
+        }
+        return model;
+    }
+}
@@ -0,0 +1,79 @@
+package com.playfab.benchmarks;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.concurrent.*;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabServerAPI;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * The full round trip of a call against an in-process StubServer: a raw PlayFabHTTP.doPost, and the same call through a
+ * generated API method, with each bundled json codec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoPostBenchmark {
+    private static final Type resultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    @Param({"gson", "streaming"})
+    public String codecName;
+
+    @Param({"16"})
+    public int collectionSize;
+
+    private StubServer server;
+    private String url;
+    private GetTitleDataRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        PlayFabJsonSuccess<GetTitleDataResult> success = new PlayFabJsonSuccess<GetTitleDataResult>();
+        success.code = 200;
+        success.status = "OK";
+        success.data = BenchmarkModels.populate(GetTitleDataResult.class, collectionSize);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new PlayFabGsonCodec().encode(success, body);
+        server = new StubServer(body.toByteArray());
+
+        PlayFabSettings.TitleId = "ABCD";
+        PlayFabSettings.DeveloperSecretKey = "benchmark";
+        PlayFabSettings.ProductionEnvironmentUrl = server.getUrl();
+        PlayFabHTTP.setJsonCodec(codecName.equals("streaming") ? new PlayFabStreamingJsonCodec() : new PlayFabGsonCodec());
+        url = PlayFabSettings.GetURL("/Server/GetTitleData");
+        request = BenchmarkModels.populate(GetTitleDataRequest.class, collectionSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+        PlayFabHTTP.setJsonCodec(new PlayFabGsonCodec());
+    }
+
+    @Benchmark
+    public Object doPost() throws Exception {
+        FutureTask<Object> task = PlayFabHTTP.doPost(url, request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, resultType);
+        task.run();
+        Object result = task.get();
+        if (result instanceof PlayFabError)
+            throw new IllegalStateException(((PlayFabError) result).errorMessage);
+        return result;
+    }
+
+    @Benchmark
+    public Object generatedApiCall() {
+        PlayFabResult<GetTitleDataResult> result = PlayFabServerAPI.GetTitleData(request);
+        if (result.Error != null)
+            throw new IllegalStateException(result.Error.errorMessage);
+        return result.Result;
+    }
+}
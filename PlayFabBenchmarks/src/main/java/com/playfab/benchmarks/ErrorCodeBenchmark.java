@@ -0,0 +1,24 @@
+package com.playfab.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/** Error code lookup, which runs on every failed call */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorCodeBenchmark {
+    // InvalidParams near the start of the table, ServiceUnavailable in the middle, the last declared code, and an unknown code
+    @Param({"1000", "1123", "2035", "99999"})
+    public int errorCode;
+
+    @Benchmark
+    public PlayFabErrorCode getFromCode() {
+        return PlayFabErrorCode.getFromCode(errorCode);
+    }
+}
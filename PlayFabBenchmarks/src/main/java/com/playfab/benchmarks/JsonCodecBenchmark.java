@@ -0,0 +1,63 @@
+package com.playfab.benchmarks;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * The bundled PlayFabJsonCodecs side by side: encoding a request-sized model to bytes, and decoding a full
+ * PlayFabJsonSuccess envelope from bytes, which is the work PlayFabHTTP hands the codec on every call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+    private static final Type envelopeType = new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType();
+
+    @Param({"gson", "streaming"})
+    public String codecName;
+
+    @Param({"4", "32"})
+    public int collectionSize;
+
+    private PlayFabJsonCodec codec;
+    private GetPlayerCombinedInfoResult model;
+    private byte[] envelope;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = codecName.equals("streaming") ? new PlayFabStreamingJsonCodec() : new PlayFabGsonCodec();
+        model = BenchmarkModels.populate(GetPlayerCombinedInfoResult.class, collectionSize);
+
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> success = new PlayFabJsonSuccess<GetPlayerCombinedInfoResult>();
+        success.code = 200;
+        success.status = "OK";
+        success.data = model;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new PlayFabGsonCodec().encode(success, bytes);
+        envelope = bytes.toByteArray();
+        output = new ByteArrayOutputStream(envelope.length);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        output.reset();
+        codec.encode(model, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return codec.decode(new ByteArrayInputStream(envelope), envelopeType);
+    }
+}
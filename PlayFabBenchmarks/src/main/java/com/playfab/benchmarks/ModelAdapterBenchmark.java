@@ -0,0 +1,67 @@
+package com.playfab.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import com.google.gson.*;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabClientModels.*;
+
+/**
+ * Reflective Gson adapters against the precompiled PlayFabModelAdapters, for a large result model.
+ * The first-use benchmarks measure a fresh Gson, which is what a cold start pays for adapter construction
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelAdapterBenchmark {
+    @Param({"4", "32"})
+    public int collectionSize;
+
+    private Gson reflective;
+    private Gson generated;
+    private GetPlayerCombinedInfoResult model;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        reflective = BenchmarkModels.reflectiveGson();
+        generated = BenchmarkModels.generatedGson();
+        model = BenchmarkModels.populate(GetPlayerCombinedInfoResult.class, collectionSize);
+        json = reflective.toJson(model);
+        if (!json.equals(generated.toJson(model)))
+            throw new IllegalStateException("The generated adapters disagree with the reflective adapters");
+    }
+
+    @Benchmark
+    public String toJsonReflective() {
+        return reflective.toJson(model);
+    }
+
+    @Benchmark
+    public String toJsonGenerated() {
+        return generated.toJson(model);
+    }
+
+    @Benchmark
+    public GetPlayerCombinedInfoResult fromJsonReflective() {
+        return reflective.fromJson(json, GetPlayerCombinedInfoResult.class);
+    }
+
+    @Benchmark
+    public GetPlayerCombinedInfoResult fromJsonGenerated() {
+        return generated.fromJson(json, GetPlayerCombinedInfoResult.class);
+    }
+
+    @Benchmark
+    public GetPlayerCombinedInfoResult firstUseReflective() {
+        return BenchmarkModels.reflectiveGson().fromJson(json, GetPlayerCombinedInfoResult.class);
+    }
+
+    @Benchmark
+    public GetPlayerCombinedInfoResult firstUseGenerated() {
+        return BenchmarkModels.generatedGson().fromJson(json, GetPlayerCombinedInfoResult.class);
+    }
+}
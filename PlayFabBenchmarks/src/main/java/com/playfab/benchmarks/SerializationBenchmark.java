@@ -0,0 +1,52 @@
+package com.playfab.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import com.google.gson.*;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabServerModels;
+
+/** Gson toJson and fromJson, configured as the SDK configures it, for representative large result models */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"GetPlayerCombinedInfoResult", "GetCatalogItemsResult", "GetPlayersInSegmentResult"})
+    public String modelName;
+
+    @Param({"16"})
+    public int collectionSize;
+
+    private Gson gson;
+    private Class<?> modelType;
+    private Object model;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        if (modelName.equals("GetPlayerCombinedInfoResult"))
+            modelType = PlayFabClientModels.GetPlayerCombinedInfoResult.class;
+        else if (modelName.equals("GetCatalogItemsResult"))
+            modelType = PlayFabClientModels.GetCatalogItemsResult.class;
+        else
+            modelType = PlayFabServerModels.GetPlayersInSegmentResult.class;
+
+        gson = BenchmarkModels.generatedGson();
+        model = BenchmarkModels.populate(modelType, collectionSize);
+        json = gson.toJson(model);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return gson.toJson(model);
+    }
+
+    @Benchmark
+    public Object fromJson() {
+        return gson.fromJson(json, modelType);
+    }
+}
@@ -0,0 +1,25 @@
+package com.playfab.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabSettings;
+
+/** Url building, which runs on every call */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsBenchmark {
+    @Setup
+    public void setUp() {
+        PlayFabSettings.TitleId = "ABCD";
+    }
+
+    @Benchmark
+    public String getUrl() {
+        return PlayFabSettings.GetURL("/Client/LoginWithCustomID");
+    }
+}
@@ -0,0 +1,54 @@
+package com.playfab.benchmarks;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.concurrent.*;
+import com.sun.net.httpserver.*;
+
+/**
+ * An in-process HTTP server that answers every POST with the same canned PlayFab response, so a benchmark measures the SDK's
+ * side of a round trip: serialization, the transport, connection reuse and envelope decoding
+ */
+public class StubServer {
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubServer(final byte[] responseBody) throws IOException {
+        // Without TCP_NODELAY the response headers and body go out as separate segments, and every call waits out a delayed ack
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) != -1) { }
+                in.close();
+
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, responseBody.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(responseBody);
+                out.close();
+            }
+        });
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "StubServer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /** The base url, suitable for PlayFabSettings.ProductionEnvironmentUrl */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,35 @@
+package com.playfab;
+
+import java.util.Map;
+
+/**
+ * Immutable title configuration for the PlayFabXxxInstanceAPI classes.
+ * Unlike the PlayFabSettings statics, each instance API captures one of these at construction, so a single process can
+ * talk to any number of titles at once
+ */
+public class PlayFabApiSettings {
+    public final String TitleId;
+    public final String DeveloperSecretKey;
+    public final String ProductionEnvironmentUrl;
+    public final String VerticalName;
+
+    public PlayFabApiSettings(String titleId, String developerSecretKey) {
+        this(titleId, developerSecretKey, ".playfabapi.com", null);
+    }
+
+    public PlayFabApiSettings(String titleId, String developerSecretKey, String productionEnvironmentUrl, String verticalName) {
+        this.TitleId = titleId;
+        this.DeveloperSecretKey = developerSecretKey;
+        this.ProductionEnvironmentUrl = productionEnvironmentUrl;
+        this.VerticalName = verticalName;
+    }
+
+    /** Captures the current PlayFabSettings title configuration */
+    public static PlayFabApiSettings fromGlobalSettings() {
+        return new PlayFabApiSettings(PlayFabSettings.TitleId, PlayFabSettings.DeveloperSecretKey, PlayFabSettings.ProductionEnvironmentUrl, PlayFabSettings.VerticalName);
+    }
+
+    public String GetURL(String apiCall) {
+        return PlayFabSettings.GetURL(ProductionEnvironmentUrl, VerticalName, TitleId, apiCall);
+    }
+}
@@ -0,0 +1,25 @@
+package com.playfab;
+
+/**
+ * The session state of one player or entity for the PlayFabXxxInstanceAPI classes.
+ * Login calls store their session ticket and entity token here instead of in PlayFabSettings, so each simulated player,
+ * or each title, keeps its own session. Share one context between the instance APIs that act for the same player
+ */
+public class PlayFabAuthenticationContext {
+    public volatile String ClientSessionTicket; // Set by any Client Login Call made through an instance API using this context
+    public volatile String EntityToken; // Set by GetEntityToken, or by a Client Login Call
+
+    public PlayFabAuthenticationContext() {
+    }
+
+    public PlayFabAuthenticationContext(String clientSessionTicket, String entityToken) {
+        this.ClientSessionTicket = clientSessionTicket;
+        this.EntityToken = entityToken;
+    }
+
+    /** Forgets the session, as if the player had never logged in */
+    public void ForgetAllCredentials() {
+        ClientSessionTicket = null;
+        EntityToken = null;
+    }
+}
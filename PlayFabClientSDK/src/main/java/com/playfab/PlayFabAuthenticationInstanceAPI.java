@@ -0,0 +1,135 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabAuthenticationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * The Authentication APIs provide a convenient way to convert classic authentication responses into entity authentication
+     * models. These APIs will provide you with the entity authentication token needed for subsequent Entity API calls.
+     *
+     * Instance-scoped version of PlayFabAuthenticationAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabAuthenticationInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabAuthenticationInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabAuthenticationInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @return Async Task will return GetEntityTokenResponse
+     */
+    public FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request) {
+        return GetEntityTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetEntityTokenResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+            public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
+                return privateGetEntityTokenAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @return GetEntityTokenResponse
+     */
+    public PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request) {
+        return GetEntityToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityTokenResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityTokenResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+            public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
+                return privateGetEntityTokenAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetEntityTokenResponse> exceptionResult = new PlayFabResult<GetEntityTokenResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetEntityTokenResultType = new TypeToken<PlayFabJsonSuccess<GetEntityTokenResponse>>(){}.getType();
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetEntityTokenResponse> privateGetEntityTokenAsync(final GetEntityTokenRequest request) throws Exception {
+        String authKey = null, authValue = null;
+        if (authenticationContext.EntityToken != null) { authKey = "X-EntityToken"; authValue = authenticationContext.EntityToken; }
+        else if (authenticationContext.ClientSessionTicket != null) { authKey = "X-Authorization"; authValue = authenticationContext.ClientSessionTicket; }
+        else if (settings.DeveloperSecretKey != null) { authKey = "X-SecretKey"; authValue = settings.DeveloperSecretKey; }
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Authentication/GetEntityToken"), request, authKey, authValue, GetEntityTokenResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetEntityTokenResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = (PlayFabJsonSuccess<GetEntityTokenResponse>) httpResult;
+        GetEntityTokenResponse result = resultData.data;
+        authenticationContext.EntityToken = result.EntityToken != null ? result.EntityToken : authenticationContext.EntityToken;
+
+        PlayFabResult<GetEntityTokenResponse> pfResult = new PlayFabResult<GetEntityTokenResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -0,0 +1,173 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabAuthenticationModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabAuthenticationModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabAuthenticationModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 1: return (TypeAdapter<T>) new GetEntityTokenRequestAdapter(gson);
+                case 2: return (TypeAdapter<T>) new GetEntityTokenResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(EntityKey.class, 0);
+        ids.put(GetEntityTokenRequest.class, 1);
+        ids.put(GetEntityTokenResponse.class, 2);
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityTokenRequestAdapter extends TypeAdapter<GetEntityTokenRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityTokenRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetEntityTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            out.endObject();
+        }
+
+        public GetEntityTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityTokenRequest value = new GetEntityTokenRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityTokenResponseAdapter extends TypeAdapter<GetEntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetEntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetEntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.EntityToken != null) {
+                out.name("EntityToken");
+                out.value(value.EntityToken);
+            }
+            if (value.TokenExpiration != null) {
+                out.name("TokenExpiration");
+                dateAdapter.write(out, value.TokenExpiration);
+            }
+            out.endObject();
+        }
+
+        public GetEntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityTokenResponse value = new GetEntityTokenResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "EntityToken": value.EntityToken = PlayFabModelAdapters.readString(in); break;
+                    case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -6,26 +6,36 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * APIs which provide the full range of PlayFab features available to the client - authentication, account and data
      * management, inventory, friends, matchmaking, reporting, and platform-specific functionality
      */
 public class PlayFabClientAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @return Async Task will return AcceptTradeResponse
+     */
+    public static FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request) {
+        return AcceptTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
      * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
      * items will be swapped between the two players' inventories.
      * @param request AcceptTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return AcceptTradeResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AcceptTradeResponse>>() {
+    public static FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AcceptTradeResponse>>() {
             public PlayFabResult<AcceptTradeResponse> call() throws Exception {
                 return privateAcceptTradeAsync(request);
             }
@@ -39,9 +49,21 @@ public class PlayFabClientAPI {
      * @param request AcceptTradeRequest
      * @return AcceptTradeResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request) {
-        FutureTask<PlayFabResult<AcceptTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<AcceptTradeResponse>>() {
+        return AcceptTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AcceptTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AcceptTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AcceptTradeResponse>>() {
             public PlayFabResult<AcceptTradeResponse> call() throws Exception {
                 return privateAcceptTradeAsync(request);
             }
@@ -50,10 +72,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AcceptTradeResponse> exceptionResult = new PlayFabResult<AcceptTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AcceptTradeResultType = new TypeToken<PlayFabJsonSuccess<AcceptTradeResponse>>(){}.getType();
+
     /**
      * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
      * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
@@ -63,7 +89,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<AcceptTradeResponse> privateAcceptTradeAsync(final AcceptTradeRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AcceptTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AcceptTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AcceptTradeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -74,9 +100,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AcceptTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AcceptTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<AcceptTradeResponse> resultData = (PlayFabJsonSuccess<AcceptTradeResponse>) httpResult;
         AcceptTradeResponse result = resultData.data;
 
         PlayFabResult<AcceptTradeResponse> pfResult = new PlayFabResult<AcceptTradeResponse>();
@@ -90,9 +115,20 @@ public class PlayFabClientAPI {
      * @param request AddFriendRequest
      * @return Async Task will return AddFriendResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddFriendResult>> AddFriendAsync(final AddFriendRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddFriendResult>>() {
+        return AddFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddFriendResult>> AddFriendAsync(final AddFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddFriendResult>>() {
             public PlayFabResult<AddFriendResult> call() throws Exception {
                 return privateAddFriendAsync(request);
             }
@@ -105,9 +141,20 @@ public class PlayFabClientAPI {
      * @param request AddFriendRequest
      * @return AddFriendResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request) {
-        FutureTask<PlayFabResult<AddFriendResult>> task = new FutureTask(new Callable<PlayFabResult<AddFriendResult>>() {
+        return AddFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddFriendResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddFriendResult>>() {
             public PlayFabResult<AddFriendResult> call() throws Exception {
                 return privateAddFriendAsync(request);
             }
@@ -116,10 +163,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddFriendResult> exceptionResult = new PlayFabResult<AddFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddFriendResultType = new TypeToken<PlayFabJsonSuccess<AddFriendResult>>(){}.getType();
+
     /**
      * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
      * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
@@ -128,7 +179,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<AddFriendResult> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddFriendResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -139,9 +190,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<AddFriendResult> resultData = (PlayFabJsonSuccess<AddFriendResult>) httpResult;
         AddFriendResult result = resultData.data;
 
         PlayFabResult<AddFriendResult> pfResult = new PlayFabResult<AddFriendResult>();
@@ -156,9 +206,21 @@ public class PlayFabClientAPI {
      * @param request AddGenericIDRequest
      * @return Async Task will return AddGenericIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddGenericIDResult>> AddGenericIDAsync(final AddGenericIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddGenericIDResult>>() {
+        return AddGenericIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddGenericIDResult>> AddGenericIDAsync(final AddGenericIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddGenericIDResult>>() {
             public PlayFabResult<AddGenericIDResult> call() throws Exception {
                 return privateAddGenericIDAsync(request);
             }
@@ -172,9 +234,21 @@ public class PlayFabClientAPI {
      * @param request AddGenericIDRequest
      * @return AddGenericIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request) {
-        FutureTask<PlayFabResult<AddGenericIDResult>> task = new FutureTask(new Callable<PlayFabResult<AddGenericIDResult>>() {
+        return AddGenericID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddGenericIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddGenericIDResult>>() {
             public PlayFabResult<AddGenericIDResult> call() throws Exception {
                 return privateAddGenericIDAsync(request);
             }
@@ -183,10 +257,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddGenericIDResult> exceptionResult = new PlayFabResult<AddGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddGenericIDResultType = new TypeToken<PlayFabJsonSuccess<AddGenericIDResult>>(){}.getType();
+
     /**
      * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
      * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
@@ -196,7 +274,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<AddGenericIDResult> privateAddGenericIDAsync(final AddGenericIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddGenericIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -207,9 +285,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<AddGenericIDResult> resultData = (PlayFabJsonSuccess<AddGenericIDResult>) httpResult;
         AddGenericIDResult result = resultData.data;
 
         PlayFabResult<AddGenericIDResult> pfResult = new PlayFabResult<AddGenericIDResult>();
@@ -222,9 +299,19 @@ public class PlayFabClientAPI {
      * @param request AddOrUpdateContactEmailRequest
      * @return Async Task will return AddOrUpdateContactEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+        return AddOrUpdateContactEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddOrUpdateContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
             public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
                 return privateAddOrUpdateContactEmailAsync(request);
             }
@@ -236,9 +323,19 @@ public class PlayFabClientAPI {
      * @param request AddOrUpdateContactEmailRequest
      * @return AddOrUpdateContactEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
-        FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> task = new FutureTask(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+        return AddOrUpdateContactEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddOrUpdateContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
             public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
                 return privateAddOrUpdateContactEmailAsync(request);
             }
@@ -247,16 +344,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddOrUpdateContactEmailResult> exceptionResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddOrUpdateContactEmailResultType = new TypeToken<PlayFabJsonSuccess<AddOrUpdateContactEmailResult>>(){}.getType();
+
     /** Adds or updates a contact email to the player's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AddOrUpdateContactEmailResult> privateAddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddOrUpdateContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddOrUpdateContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddOrUpdateContactEmailResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -267,9 +368,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddOrUpdateContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = (PlayFabJsonSuccess<AddOrUpdateContactEmailResult>) httpResult;
         AddOrUpdateContactEmailResult result = resultData.data;
 
         PlayFabResult<AddOrUpdateContactEmailResult> pfResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
@@ -284,9 +384,21 @@ public class PlayFabClientAPI {
      * @param request AddSharedGroupMembersRequest
      * @return Async Task will return AddSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+        return AddSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
                 return privateAddSharedGroupMembersAsync(request);
             }
@@ -300,9 +412,21 @@ public class PlayFabClientAPI {
      * @param request AddSharedGroupMembersRequest
      * @return AddSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
-        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+        return AddSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
                 return privateAddSharedGroupMembersAsync(request);
             }
@@ -311,10 +435,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType();
+
     /**
      * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
      * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
@@ -324,7 +452,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddSharedGroupMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -335,9 +463,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -351,9 +478,20 @@ public class PlayFabClientAPI {
      * @param request AddUsernamePasswordRequest
      * @return Async Task will return AddUsernamePasswordResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePasswordAsync(final AddUsernamePasswordRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+        return AddUsernamePasswordAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddUsernamePasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePasswordAsync(final AddUsernamePasswordRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
             public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
                 return privateAddUsernamePasswordAsync(request);
             }
@@ -366,9 +504,20 @@ public class PlayFabClientAPI {
      * @param request AddUsernamePasswordRequest
      * @return AddUsernamePasswordResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request) {
-        FutureTask<PlayFabResult<AddUsernamePasswordResult>> task = new FutureTask(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+        return AddUsernamePassword(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddUsernamePasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddUsernamePasswordResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
             public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
                 return privateAddUsernamePasswordAsync(request);
             }
@@ -377,10 +526,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddUsernamePasswordResult> exceptionResult = new PlayFabResult<AddUsernamePasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddUsernamePasswordResultType = new TypeToken<PlayFabJsonSuccess<AddUsernamePasswordResult>>(){}.getType();
+
     /**
      * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
      * ID login.
@@ -389,7 +542,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<AddUsernamePasswordResult> privateAddUsernamePasswordAsync(final AddUsernamePasswordRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUsernamePassword"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUsernamePassword"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddUsernamePasswordResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -400,9 +553,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddUsernamePasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = (PlayFabJsonSuccess<AddUsernamePasswordResult>) httpResult;
         AddUsernamePasswordResult result = resultData.data;
 
         PlayFabResult<AddUsernamePasswordResult> pfResult = new PlayFabResult<AddUsernamePasswordResult>();
@@ -415,9 +567,19 @@ public class PlayFabClientAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -429,9 +591,19 @@ public class PlayFabClientAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -440,16 +612,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /** Increments the user's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AddUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -460,9 +636,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -475,9 +650,19 @@ public class PlayFabClientAPI {
      * @param request AndroidDevicePushNotificationRegistrationRequest
      * @return Async Task will return AndroidDevicePushNotificationRegistrationResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+        return AndroidDevicePushNotificationRegistrationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AndroidDevicePushNotificationRegistrationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
             public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
                 return privateAndroidDevicePushNotificationRegistrationAsync(request);
             }
@@ -489,9 +674,19 @@ public class PlayFabClientAPI {
      * @param request AndroidDevicePushNotificationRegistrationRequest
      * @return AndroidDevicePushNotificationRegistrationResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
-        FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> task = new FutureTask(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+        return AndroidDevicePushNotificationRegistration(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AndroidDevicePushNotificationRegistrationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
             public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
                 return privateAndroidDevicePushNotificationRegistrationAsync(request);
             }
@@ -500,16 +695,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AndroidDevicePushNotificationRegistrationResult> exceptionResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AndroidDevicePushNotificationRegistrationResultType = new TypeToken<PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>>(){}.getType();
+
     /** Registers the Android device to receive push notifications */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> privateAndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AndroidDevicePushNotificationRegistration"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AndroidDevicePushNotificationRegistration"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AndroidDevicePushNotificationRegistrationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -520,9 +719,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>>(){}.getType());
+        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = (PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>) httpResult;
         AndroidDevicePushNotificationRegistrationResult result = resultData.data;
 
         PlayFabResult<AndroidDevicePushNotificationRegistrationResult> pfResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
@@ -535,9 +733,19 @@ public class PlayFabClientAPI {
      * @param request AttributeInstallRequest
      * @return Async Task will return AttributeInstallResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AttributeInstallResult>> AttributeInstallAsync(final AttributeInstallRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AttributeInstallResult>>() {
+        return AttributeInstallAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AttributeInstallResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AttributeInstallResult>> AttributeInstallAsync(final AttributeInstallRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AttributeInstallResult>>() {
             public PlayFabResult<AttributeInstallResult> call() throws Exception {
                 return privateAttributeInstallAsync(request);
             }
@@ -549,9 +757,19 @@ public class PlayFabClientAPI {
      * @param request AttributeInstallRequest
      * @return AttributeInstallResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request) {
-        FutureTask<PlayFabResult<AttributeInstallResult>> task = new FutureTask(new Callable<PlayFabResult<AttributeInstallResult>>() {
+        return AttributeInstall(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AttributeInstallResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AttributeInstallResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AttributeInstallResult>>() {
             public PlayFabResult<AttributeInstallResult> call() throws Exception {
                 return privateAttributeInstallAsync(request);
             }
@@ -560,16 +778,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AttributeInstallResult> exceptionResult = new PlayFabResult<AttributeInstallResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AttributeInstallResultType = new TypeToken<PlayFabJsonSuccess<AttributeInstallResult>>(){}.getType();
+
     /** Attributes an install for advertisment. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AttributeInstallResult> privateAttributeInstallAsync(final AttributeInstallRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AttributeInstall"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AttributeInstall"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, AttributeInstallResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -580,9 +802,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AttributeInstallResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AttributeInstallResult>>(){}.getType());
+        PlayFabJsonSuccess<AttributeInstallResult> resultData = (PlayFabJsonSuccess<AttributeInstallResult>) httpResult;
         AttributeInstallResult result = resultData.data;
         // Modify AdvertisingIdType:  Prevents us from sending the id multiple times, and allows automated tests to determine id was sent successfully
         PlayFabSettings.AdvertisingIdType += "_Successful";
@@ -599,9 +820,21 @@ public class PlayFabClientAPI {
      * @param request CancelTradeRequest
      * @return Async Task will return CancelTradeResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CancelTradeResponse>> CancelTradeAsync(final CancelTradeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CancelTradeResponse>>() {
+        return CancelTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CancelTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CancelTradeResponse>> CancelTradeAsync(final CancelTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CancelTradeResponse>>() {
             public PlayFabResult<CancelTradeResponse> call() throws Exception {
                 return privateCancelTradeAsync(request);
             }
@@ -615,9 +848,21 @@ public class PlayFabClientAPI {
      * @param request CancelTradeRequest
      * @return CancelTradeResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request) {
-        FutureTask<PlayFabResult<CancelTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<CancelTradeResponse>>() {
+        return CancelTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CancelTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CancelTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CancelTradeResponse>>() {
             public PlayFabResult<CancelTradeResponse> call() throws Exception {
                 return privateCancelTradeAsync(request);
             }
@@ -626,10 +871,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CancelTradeResponse> exceptionResult = new PlayFabResult<CancelTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CancelTradeResultType = new TypeToken<PlayFabJsonSuccess<CancelTradeResponse>>(){}.getType();
+
     /**
      * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
      * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
@@ -639,7 +888,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<CancelTradeResponse> privateCancelTradeAsync(final CancelTradeRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CancelTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CancelTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, CancelTradeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -650,9 +899,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<CancelTradeResponse> resultData = (PlayFabJsonSuccess<CancelTradeResponse>) httpResult;
         CancelTradeResponse result = resultData.data;
 
         PlayFabResult<CancelTradeResponse> pfResult = new PlayFabResult<CancelTradeResponse>();
@@ -666,9 +914,20 @@ public class PlayFabClientAPI {
      * @param request ConfirmPurchaseRequest
      * @return Async Task will return ConfirmPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchaseAsync(final ConfirmPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+        return ConfirmPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConfirmPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchaseAsync(final ConfirmPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
             public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
                 return privateConfirmPurchaseAsync(request);
             }
@@ -681,9 +940,20 @@ public class PlayFabClientAPI {
      * @param request ConfirmPurchaseRequest
      * @return ConfirmPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request) {
-        FutureTask<PlayFabResult<ConfirmPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+        return ConfirmPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConfirmPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConfirmPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
             public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
                 return privateConfirmPurchaseAsync(request);
             }
@@ -692,10 +962,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ConfirmPurchaseResult> exceptionResult = new PlayFabResult<ConfirmPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ConfirmPurchaseResultType = new TypeToken<PlayFabJsonSuccess<ConfirmPurchaseResult>>(){}.getType();
+
     /**
      * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
      * currency balances as appropriate
@@ -704,7 +978,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ConfirmPurchaseResult> privateConfirmPurchaseAsync(final ConfirmPurchaseRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConfirmPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConfirmPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ConfirmPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -715,9 +989,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConfirmPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = (PlayFabJsonSuccess<ConfirmPurchaseResult>) httpResult;
         ConfirmPurchaseResult result = resultData.data;
 
         PlayFabResult<ConfirmPurchaseResult> pfResult = new PlayFabResult<ConfirmPurchaseResult>();
@@ -730,9 +1003,19 @@ public class PlayFabClientAPI {
      * @param request ConsumeItemRequest
      * @return Async Task will return ConsumeItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
+        return ConsumeItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
                 return privateConsumeItemAsync(request);
             }
@@ -744,9 +1027,19 @@ public class PlayFabClientAPI {
      * @param request ConsumeItemRequest
      * @return ConsumeItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
-        FutureTask<PlayFabResult<ConsumeItemResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
+        return ConsumeItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
                 return privateConsumeItemAsync(request);
             }
@@ -755,16 +1048,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ConsumeItemResultType = new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType();
+
     /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ConsumeItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -775,9 +1072,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -791,24 +1087,46 @@ public class PlayFabClientAPI {
      * @param request ConsumeXboxEntitlementsRequest
      * @return Async Task will return ConsumeXboxEntitlementsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
-            public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
-                return privateConsumeXboxEntitlementsAsync(request);
-            }
-        });
+        return ConsumeXboxEntitlementsAsync(request, PlayFabSettings.CallTimeoutMs);
     }
 
     /**
      * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
      * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
      * @param request ConsumeXboxEntitlementsRequest
-     * @return ConsumeXboxEntitlementsResult
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeXboxEntitlementsResult
      */
     @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+            public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
+                return privateConsumeXboxEntitlementsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @return ConsumeXboxEntitlementsResult
+     */
     public static PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
-        FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+        return ConsumeXboxEntitlements(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeXboxEntitlementsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
             public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
                 return privateConsumeXboxEntitlementsAsync(request);
             }
@@ -817,10 +1135,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ConsumeXboxEntitlementsResult> exceptionResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ConsumeXboxEntitlementsResultType = new TypeToken<PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>>(){}.getType();
+
     /**
      * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
      * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
@@ -829,7 +1151,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ConsumeXboxEntitlementsResult> privateConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeXboxEntitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeXboxEntitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ConsumeXboxEntitlementsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -840,9 +1162,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = (PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>) httpResult;
         ConsumeXboxEntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumeXboxEntitlementsResult> pfResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
@@ -858,9 +1179,22 @@ public class PlayFabClientAPI {
      * @param request CreateSharedGroupRequest
      * @return Async Task will return CreateSharedGroupResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+        return CreateSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
                 return privateCreateSharedGroupAsync(request);
             }
@@ -875,9 +1209,22 @@ public class PlayFabClientAPI {
      * @param request CreateSharedGroupRequest
      * @return CreateSharedGroupResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
-        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+        return CreateSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
                 return privateCreateSharedGroupAsync(request);
             }
@@ -886,10 +1233,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType();
+
     /**
      * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
      * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
@@ -900,7 +1251,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CreateSharedGroup"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CreateSharedGroup"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, CreateSharedGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -911,9 +1262,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -926,9 +1276,19 @@ public class PlayFabClientAPI {
      * @param request ExecuteCloudScriptRequest
      * @return Async Task will return ExecuteCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+        return ExecuteCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteCloudScriptAsync(request);
             }
@@ -940,9 +1300,19 @@ public class PlayFabClientAPI {
      * @param request ExecuteCloudScriptRequest
      * @return ExecuteCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
-        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+        return ExecuteCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteCloudScriptAsync(request);
             }
@@ -951,16 +1321,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ExecuteCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
     /** Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ExecuteCloudScript"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ExecuteCloudScript"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ExecuteCloudScriptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -971,9 +1345,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -986,9 +1359,19 @@ public class PlayFabClientAPI {
      * @param request GetAccountInfoRequest
      * @return Async Task will return GetAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetAccountInfoResult>> GetAccountInfoAsync(final GetAccountInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetAccountInfoResult>>() {
+        return GetAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetAccountInfoResult>> GetAccountInfoAsync(final GetAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAccountInfoResult>>() {
             public PlayFabResult<GetAccountInfoResult> call() throws Exception {
                 return privateGetAccountInfoAsync(request);
             }
@@ -1000,9 +1383,19 @@ public class PlayFabClientAPI {
      * @param request GetAccountInfoRequest
      * @return GetAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request) {
-        FutureTask<PlayFabResult<GetAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetAccountInfoResult>>() {
+        return GetAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAccountInfoResult>>() {
             public PlayFabResult<GetAccountInfoResult> call() throws Exception {
                 return privateGetAccountInfoAsync(request);
             }
@@ -1011,16 +1404,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetAccountInfoResult> exceptionResult = new PlayFabResult<GetAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<GetAccountInfoResult>>(){}.getType();
+
     /** Retrieves the user's PlayFab account details */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetAccountInfoResult> privateGetAccountInfoAsync(final GetAccountInfoRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAccountInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAccountInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetAccountInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1031,9 +1428,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAccountInfoResult> resultData = (PlayFabJsonSuccess<GetAccountInfoResult>) httpResult;
         GetAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetAccountInfoResult> pfResult = new PlayFabResult<GetAccountInfoResult>();
@@ -1047,9 +1443,20 @@ public class PlayFabClientAPI {
      * @param request ListUsersCharactersRequest
      * @return Async Task will return ListUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+        return GetAllUsersCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
                 return privateGetAllUsersCharactersAsync(request);
             }
@@ -1062,9 +1469,20 @@ public class PlayFabClientAPI {
      * @param request ListUsersCharactersRequest
      * @return ListUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
-        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+        return GetAllUsersCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
                 return privateGetAllUsersCharactersAsync(request);
             }
@@ -1073,10 +1491,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetAllUsersCharactersResultType = new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType();
+
     /**
      * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
      * evaluated with the parent PlayFabId to guarantee uniqueness.
@@ -1085,7 +1507,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAllUsersCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAllUsersCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetAllUsersCharactersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1096,9 +1518,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1111,9 +1532,19 @@ public class PlayFabClientAPI {
      * @param request GetCatalogItemsRequest
      * @return Async Task will return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1125,9 +1556,19 @@ public class PlayFabClientAPI {
      * @param request GetCatalogItemsRequest
      * @return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
-        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1136,16 +1577,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCatalogItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCatalogItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCatalogItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1156,9 +1601,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1171,9 +1615,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterDataRequest
      * @return Async Task will return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterDataAsync(request);
             }
@@ -1185,9 +1639,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterDataRequest
      * @return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
-        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterDataAsync(request);
             }
@@ -1196,16 +1660,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCharacterDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1216,9 +1684,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1231,9 +1698,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterInventoryRequest
      * @return Async Task will return GetCharacterInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+        return GetCharacterInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
                 return privateGetCharacterInventoryAsync(request);
             }
@@ -1245,9 +1722,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterInventoryRequest
      * @return GetCharacterInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
-        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+        return GetCharacterInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
                 return privateGetCharacterInventoryAsync(request);
             }
@@ -1256,16 +1743,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType();
+
     /** Retrieves the specified character's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCharacterInventoryResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1276,9 +1767,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1291,9 +1781,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterLeaderboardRequest
      * @return Async Task will return GetCharacterLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+        return GetCharacterLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
                 return privateGetCharacterLeaderboardAsync(request);
             }
@@ -1305,9 +1805,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterLeaderboardRequest
      * @return GetCharacterLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+        return GetCharacterLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
                 return privateGetCharacterLeaderboardAsync(request);
             }
@@ -1316,16 +1826,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType();
+
     /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCharacterLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1336,9 +1850,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1351,9 +1864,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterDataRequest
      * @return Async Task will return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterReadOnlyDataAsync(request);
             }
@@ -1365,9 +1888,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterDataRequest
      * @return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
-        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterReadOnlyDataAsync(request);
             }
@@ -1376,16 +1909,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the character which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCharacterReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1396,9 +1933,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1411,9 +1947,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterStatisticsRequest
      * @return Async Task will return GetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+        return GetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
                 return privateGetCharacterStatisticsAsync(request);
             }
@@ -1425,9 +1971,19 @@ public class PlayFabClientAPI {
      * @param request GetCharacterStatisticsRequest
      * @return GetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
-        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+        return GetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
                 return privateGetCharacterStatisticsAsync(request);
             }
@@ -1436,16 +1992,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType();
+
     /** Retrieves the details of all title-specific statistics for the user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCharacterStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1456,9 +2016,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1476,9 +2035,24 @@ public class PlayFabClientAPI {
      * @param request GetContentDownloadUrlRequest
      * @return Async Task will return GetContentDownloadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+        return GetContentDownloadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
                 return privateGetContentDownloadUrlAsync(request);
             }
@@ -1495,9 +2069,24 @@ public class PlayFabClientAPI {
      * @param request GetContentDownloadUrlRequest
      * @return GetContentDownloadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
-        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+        return GetContentDownloadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
                 return privateGetContentDownloadUrlAsync(request);
             }
@@ -1506,10 +2095,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetContentDownloadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType();
+
     /**
      * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
      * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
@@ -1522,7 +2115,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetContentDownloadUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetContentDownloadUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetContentDownloadUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1533,9 +2126,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1548,23 +2140,43 @@ public class PlayFabClientAPI {
      * @param request CurrentGamesRequest
      * @return Async Task will return CurrentGamesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CurrentGamesResult>> GetCurrentGamesAsync(final CurrentGamesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CurrentGamesResult>>() {
-            public PlayFabResult<CurrentGamesResult> call() throws Exception {
-                return privateGetCurrentGamesAsync(request);
-            }
-        });
+        return GetCurrentGamesAsync(request, PlayFabSettings.CallTimeoutMs);
     }
 
     /**
      * Get details about all current running game servers matching the given parameters.
      * @param request CurrentGamesRequest
-     * @return CurrentGamesResult
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CurrentGamesResult
      */
     @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CurrentGamesResult>> GetCurrentGamesAsync(final CurrentGamesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CurrentGamesResult>>() {
+            public PlayFabResult<CurrentGamesResult> call() throws Exception {
+                return privateGetCurrentGamesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @return CurrentGamesResult
+     */
     public static PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request) {
-        FutureTask<PlayFabResult<CurrentGamesResult>> task = new FutureTask(new Callable<PlayFabResult<CurrentGamesResult>>() {
+        return GetCurrentGames(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CurrentGamesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CurrentGamesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CurrentGamesResult>>() {
             public PlayFabResult<CurrentGamesResult> call() throws Exception {
                 return privateGetCurrentGamesAsync(request);
             }
@@ -1573,16 +2185,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CurrentGamesResult> exceptionResult = new PlayFabResult<CurrentGamesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCurrentGamesResultType = new TypeToken<PlayFabJsonSuccess<CurrentGamesResult>>(){}.getType();
+
     /** Get details about all current running game servers matching the given parameters. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CurrentGamesResult> privateGetCurrentGamesAsync(final CurrentGamesRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCurrentGames"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCurrentGames"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetCurrentGamesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1593,9 +2209,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CurrentGamesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CurrentGamesResult>>(){}.getType());
+        PlayFabJsonSuccess<CurrentGamesResult> resultData = (PlayFabJsonSuccess<CurrentGamesResult>) httpResult;
         CurrentGamesResult result = resultData.data;
 
         PlayFabResult<CurrentGamesResult> pfResult = new PlayFabResult<CurrentGamesResult>();
@@ -1609,9 +2224,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendLeaderboardRequest
      * @return Async Task will return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetFriendLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetFriendLeaderboardAsync(request);
             }
@@ -1624,9 +2250,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendLeaderboardRequest
      * @return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetFriendLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetFriendLeaderboardAsync(request);
             }
@@ -1635,10 +2272,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFriendLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
     /**
      * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
      * the leaderboard
@@ -1647,7 +2288,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetFriendLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1658,9 +2299,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1674,9 +2314,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendLeaderboardAroundPlayerRequest
      * @return Async Task will return GetFriendLeaderboardAroundPlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+        return GetFriendLeaderboardAroundPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
                 return privateGetFriendLeaderboardAroundPlayerAsync(request);
             }
@@ -1689,9 +2340,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendLeaderboardAroundPlayerRequest
      * @return GetFriendLeaderboardAroundPlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
-        FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+        return GetFriendLeaderboardAroundPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
                 return privateGetFriendLeaderboardAroundPlayerAsync(request);
             }
@@ -1700,10 +2362,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetFriendLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFriendLeaderboardAroundPlayerResultType = new TypeToken<PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>>(){}.getType();
+
     /**
      * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
      * user. If PlayFabId is empty or null will return currently logged in user.
@@ -1712,7 +2378,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> privateGetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetFriendLeaderboardAroundPlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1723,9 +2389,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>) httpResult;
         GetFriendLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetFriendLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
@@ -1739,9 +2404,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendsListRequest
      * @return Async Task will return GetFriendsListResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
+        return GetFriendsListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
                 return privateGetFriendsListAsync(request);
             }
@@ -1754,9 +2430,20 @@ public class PlayFabClientAPI {
      * @param request GetFriendsListRequest
      * @return GetFriendsListResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
-        FutureTask<PlayFabResult<GetFriendsListResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
+        return GetFriendsList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendsListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
                 return privateGetFriendsListAsync(request);
             }
@@ -1765,10 +2452,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFriendsListResultType = new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType();
+
     /**
      * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
      * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
@@ -1777,7 +2468,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendsList"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendsList"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetFriendsListResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1788,9 +2479,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -1803,9 +2493,19 @@ public class PlayFabClientAPI {
      * @param request GameServerRegionsRequest
      * @return Async Task will return GameServerRegionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GameServerRegionsResult>> GetGameServerRegionsAsync(final GameServerRegionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GameServerRegionsResult>>() {
+        return GetGameServerRegionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GameServerRegionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GameServerRegionsResult>> GetGameServerRegionsAsync(final GameServerRegionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GameServerRegionsResult>>() {
             public PlayFabResult<GameServerRegionsResult> call() throws Exception {
                 return privateGetGameServerRegionsAsync(request);
             }
@@ -1817,9 +2517,19 @@ public class PlayFabClientAPI {
      * @param request GameServerRegionsRequest
      * @return GameServerRegionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request) {
-        FutureTask<PlayFabResult<GameServerRegionsResult>> task = new FutureTask(new Callable<PlayFabResult<GameServerRegionsResult>>() {
+        return GetGameServerRegions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GameServerRegionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GameServerRegionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GameServerRegionsResult>>() {
             public PlayFabResult<GameServerRegionsResult> call() throws Exception {
                 return privateGetGameServerRegionsAsync(request);
             }
@@ -1828,16 +2538,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GameServerRegionsResult> exceptionResult = new PlayFabResult<GameServerRegionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetGameServerRegionsResultType = new TypeToken<PlayFabJsonSuccess<GameServerRegionsResult>>(){}.getType();
+
     /** Get details about the regions hosting game servers matching the given parameters. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GameServerRegionsResult> privateGetGameServerRegionsAsync(final GameServerRegionsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetGameServerRegions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetGameServerRegions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetGameServerRegionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1848,9 +2562,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GameServerRegionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GameServerRegionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GameServerRegionsResult> resultData = (PlayFabJsonSuccess<GameServerRegionsResult>) httpResult;
         GameServerRegionsResult result = resultData.data;
 
         PlayFabResult<GameServerRegionsResult> pfResult = new PlayFabResult<GameServerRegionsResult>();
@@ -1863,9 +2576,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardRequest
      * @return Async Task will return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetLeaderboardAsync(request);
             }
@@ -1877,9 +2600,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardRequest
      * @return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetLeaderboardAsync(request);
             }
@@ -1888,16 +2621,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
     /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1908,9 +2645,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1923,9 +2659,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardAroundCharacterRequest
      * @return Async Task will return GetLeaderboardAroundCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+        return GetLeaderboardAroundCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
                 return privateGetLeaderboardAroundCharacterAsync(request);
             }
@@ -1937,9 +2683,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardAroundCharacterRequest
      * @return GetLeaderboardAroundCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+        return GetLeaderboardAroundCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
                 return privateGetLeaderboardAroundCharacterAsync(request);
             }
@@ -1948,16 +2704,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardAroundCharacterResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType();
+
     /** Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundCharacter"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundCharacter"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetLeaderboardAroundCharacterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1968,9 +2728,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -1984,9 +2743,20 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardAroundPlayerRequest
      * @return Async Task will return GetLeaderboardAroundPlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+        return GetLeaderboardAroundPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
                 return privateGetLeaderboardAroundPlayerAsync(request);
             }
@@ -1999,9 +2769,20 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardAroundPlayerRequest
      * @return GetLeaderboardAroundPlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+        return GetLeaderboardAroundPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundPlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
                 return privateGetLeaderboardAroundPlayerAsync(request);
             }
@@ -2010,10 +2791,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardAroundPlayerResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>>(){}.getType();
+
     /**
      * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
      * null will return currently logged in user.
@@ -2022,7 +2807,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetLeaderboardAroundPlayerResult> privateGetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetLeaderboardAroundPlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2033,9 +2818,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>) httpResult;
         GetLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
@@ -2048,9 +2832,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardForUsersCharactersRequest
      * @return Async Task will return GetLeaderboardForUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+        return GetLeaderboardForUserCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
                 return privateGetLeaderboardForUserCharactersAsync(request);
             }
@@ -2062,9 +2856,19 @@ public class PlayFabClientAPI {
      * @param request GetLeaderboardForUsersCharactersRequest
      * @return GetLeaderboardForUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+        return GetLeaderboardForUserCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
                 return privateGetLeaderboardForUserCharactersAsync(request);
             }
@@ -2073,16 +2877,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardForUserCharactersResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType();
+
     /** Retrieves a list of all of the user's characters for the given statistic. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardForUserCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardForUserCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetLeaderboardForUserCharactersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2093,9 +2901,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2110,9 +2917,21 @@ public class PlayFabClientAPI {
      * @param request GetPaymentTokenRequest
      * @return Async Task will return GetPaymentTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPaymentTokenResult>> GetPaymentTokenAsync(final GetPaymentTokenRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+        return GetPaymentTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPaymentTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPaymentTokenResult>> GetPaymentTokenAsync(final GetPaymentTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPaymentTokenResult>>() {
             public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
                 return privateGetPaymentTokenAsync(request);
             }
@@ -2126,9 +2945,21 @@ public class PlayFabClientAPI {
      * @param request GetPaymentTokenRequest
      * @return GetPaymentTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request) {
-        FutureTask<PlayFabResult<GetPaymentTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+        return GetPaymentToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPaymentTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPaymentTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPaymentTokenResult>>() {
             public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
                 return privateGetPaymentTokenAsync(request);
             }
@@ -2137,10 +2968,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPaymentTokenResult> exceptionResult = new PlayFabResult<GetPaymentTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPaymentTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPaymentTokenResult>>(){}.getType();
+
     /**
      * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
      * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
@@ -2150,7 +2985,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPaymentTokenResult> privateGetPaymentTokenAsync(final GetPaymentTokenRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPaymentToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPaymentToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPaymentTokenResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2161,9 +2996,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPaymentTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = (PlayFabJsonSuccess<GetPaymentTokenResult>) httpResult;
         GetPaymentTokenResult result = resultData.data;
 
         PlayFabResult<GetPaymentTokenResult> pfResult = new PlayFabResult<GetPaymentTokenResult>();
@@ -2177,9 +3011,20 @@ public class PlayFabClientAPI {
      * @param request GetPhotonAuthenticationTokenRequest
      * @return Async Task will return GetPhotonAuthenticationTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+        return GetPhotonAuthenticationTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPhotonAuthenticationTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
             public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
                 return privateGetPhotonAuthenticationTokenAsync(request);
             }
@@ -2192,9 +3037,20 @@ public class PlayFabClientAPI {
      * @param request GetPhotonAuthenticationTokenRequest
      * @return GetPhotonAuthenticationTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
-        FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+        return GetPhotonAuthenticationToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPhotonAuthenticationTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
             public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
                 return privateGetPhotonAuthenticationTokenAsync(request);
             }
@@ -2203,10 +3059,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPhotonAuthenticationTokenResult> exceptionResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPhotonAuthenticationTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>>(){}.getType();
+
     /**
      * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
      * https://api.playfab.com/docs/using-photon-with-playfab/ for more details.
@@ -2215,7 +3075,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPhotonAuthenticationTokenResult> privateGetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPhotonAuthenticationToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPhotonAuthenticationToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPhotonAuthenticationTokenResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2226,9 +3086,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = (PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>) httpResult;
         GetPhotonAuthenticationTokenResult result = resultData.data;
 
         PlayFabResult<GetPhotonAuthenticationTokenResult> pfResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
@@ -2241,9 +3100,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerCombinedInfoRequest
      * @return Async Task will return GetPlayerCombinedInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+        return GetPlayerCombinedInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
                 return privateGetPlayerCombinedInfoAsync(request);
             }
@@ -2255,9 +3124,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerCombinedInfoRequest
      * @return GetPlayerCombinedInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
-        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+        return GetPlayerCombinedInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
                 return privateGetPlayerCombinedInfoAsync(request);
             }
@@ -2266,16 +3145,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerCombinedInfoResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType();
+
     /** Retrieves all of the user's different kinds of info. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerCombinedInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerCombinedInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerCombinedInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2286,9 +3169,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2301,41 +3183,65 @@ public class PlayFabClientAPI {
      * @param request GetPlayerProfileRequest
      * @return Async Task will return GetPlayerProfileResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
-            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
-            }
-        });
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
     }
 
     /**
      * Retrieves the player's profile
      * @param request GetPlayerProfileRequest
-     * @return GetPlayerProfileResult
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
      */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
-        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+    public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
                 return privateGetPlayerProfileAsync(request);
             }
         });
-        try {
-            task.run();
-            return task.get();
-        } catch(Exception e) {
-            return null;
-        }
     }
 
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerProfile"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerProfile"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerProfileResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2346,9 +3252,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2361,9 +3266,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerSegmentsRequest
      * @return Async Task will return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2375,9 +3290,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerSegmentsRequest
      * @return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2386,16 +3311,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerSegments"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerSegments"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerSegmentsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2406,9 +3335,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2422,9 +3350,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayerStatisticsRequest
      * @return Async Task will return GetPlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+        return GetPlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
                 return privateGetPlayerStatisticsAsync(request);
             }
@@ -2437,9 +3376,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayerStatisticsRequest
      * @return GetPlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+        return GetPlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
                 return privateGetPlayerStatisticsAsync(request);
             }
@@ -2448,10 +3398,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType();
+
     /**
      * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
      * player.
@@ -2460,7 +3414,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2471,9 +3425,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2486,9 +3439,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return Async Task will return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2500,9 +3463,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2511,16 +3484,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatisticVersions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatisticVersions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerStatisticVersionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2531,9 +3508,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2546,9 +3522,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerTagsRequest
      * @return Async Task will return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2560,9 +3546,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerTagsRequest
      * @return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2571,16 +3567,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2591,9 +3591,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2606,9 +3605,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerTradesRequest
      * @return Async Task will return GetPlayerTradesResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTradesAsync(final GetPlayerTradesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+        return GetPlayerTradesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTradesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTradesAsync(final GetPlayerTradesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
             public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
                 return privateGetPlayerTradesAsync(request);
             }
@@ -2620,9 +3629,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayerTradesRequest
      * @return GetPlayerTradesResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request) {
-        FutureTask<PlayFabResult<GetPlayerTradesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+        return GetPlayerTrades(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTradesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTradesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
             public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
                 return privateGetPlayerTradesAsync(request);
             }
@@ -2631,16 +3650,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerTradesResponse> exceptionResult = new PlayFabResult<GetPlayerTradesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerTradesResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTradesResponse>>(){}.getType();
+
     /** Gets all trades the player has either opened or accepted, optionally filtered by trade status. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerTradesResponse> privateGetPlayerTradesAsync(final GetPlayerTradesRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTrades"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTrades"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayerTradesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2651,9 +3674,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTradesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = (PlayFabJsonSuccess<GetPlayerTradesResponse>) httpResult;
         GetPlayerTradesResponse result = resultData.data;
 
         PlayFabResult<GetPlayerTradesResponse> pfResult = new PlayFabResult<GetPlayerTradesResponse>();
@@ -2666,9 +3688,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromFacebookIDsRequest
      * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+        return GetPlayFabIDsFromFacebookIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookIDsAsync(request);
             }
@@ -2680,9 +3712,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromFacebookIDsRequest
      * @return GetPlayFabIDsFromFacebookIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+        return GetPlayFabIDsFromFacebookIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookIDsAsync(request);
             }
@@ -2691,16 +3733,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromFacebookIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromFacebookIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2711,9 +3757,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -2726,9 +3771,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
      * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+        return GetPlayFabIDsFromFacebookInstantGamesIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
             }
@@ -2740,9 +3795,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
      * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+        return GetPlayFabIDsFromFacebookInstantGamesIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
             }
@@ -2751,16 +3816,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromFacebookInstantGamesIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromFacebookInstantGamesIdsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2771,9 +3840,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -2787,9 +3855,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGameCenterIDsRequest
      * @return Async Task will return GetPlayFabIDsFromGameCenterIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+        return GetPlayFabIDsFromGameCenterIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
             }
@@ -2802,9 +3881,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGameCenterIDsRequest
      * @return GetPlayFabIDsFromGameCenterIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+        return GetPlayFabIDsFromGameCenterIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
             }
@@ -2813,10 +3903,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromGameCenterIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
      * Programming Guide as the Player Identifier).
@@ -2825,7 +3919,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> privateGetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGameCenterIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGameCenterIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromGameCenterIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2836,9 +3930,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>) httpResult;
         GetPlayFabIDsFromGameCenterIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
@@ -2853,9 +3946,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGenericIDsRequest
      * @return Async Task will return GetPlayFabIDsFromGenericIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+        return GetPlayFabIDsFromGenericIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGenericIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGenericIDsAsync(request);
             }
@@ -2869,9 +3974,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGenericIDsRequest
      * @return GetPlayFabIDsFromGenericIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+        return GetPlayFabIDsFromGenericIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGenericIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGenericIDsAsync(request);
             }
@@ -2880,10 +3997,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromGenericIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromGenericIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
      * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
@@ -2893,7 +4014,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGenericIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGenericIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromGenericIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2904,9 +4025,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>) httpResult;
         GetPlayFabIDsFromGenericIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
@@ -2920,9 +4040,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGoogleIDsRequest
      * @return Async Task will return GetPlayFabIDsFromGoogleIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+        return GetPlayFabIDsFromGoogleIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromGoogleIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGoogleIDsAsync(request);
             }
@@ -2935,9 +4066,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromGoogleIDsRequest
      * @return GetPlayFabIDsFromGoogleIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+        return GetPlayFabIDsFromGoogleIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromGoogleIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromGoogleIDsAsync(request);
             }
@@ -2946,10 +4088,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromGoogleIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
      * the user accounts, available as "id" in the Google+ People API calls.
@@ -2958,7 +4104,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> privateGetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGoogleIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGoogleIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromGoogleIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2969,9 +4115,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>) httpResult;
         GetPlayFabIDsFromGoogleIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
@@ -2986,9 +4131,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromKongregateIDsRequest
      * @return Async Task will return GetPlayFabIDsFromKongregateIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+        return GetPlayFabIDsFromKongregateIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromKongregateIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromKongregateIDsAsync(request);
             }
@@ -3002,9 +4159,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromKongregateIDsRequest
      * @return GetPlayFabIDsFromKongregateIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+        return GetPlayFabIDsFromKongregateIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromKongregateIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromKongregateIDsAsync(request);
             }
@@ -3013,10 +4182,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromKongregateIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
      * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
@@ -3026,7 +4199,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> privateGetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromKongregateIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromKongregateIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromKongregateIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3037,9 +4210,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>) httpResult;
         GetPlayFabIDsFromKongregateIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
@@ -3052,9 +4224,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
      * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
             }
@@ -3066,9 +4248,19 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
      * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
             }
@@ -3077,16 +4269,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3097,9 +4293,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -3113,9 +4308,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromSteamIDsRequest
      * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+        return GetPlayFabIDsFromSteamIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromSteamIDsAsync(request);
             }
@@ -3128,9 +4334,20 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromSteamIDsRequest
      * @return GetPlayFabIDsFromSteamIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+        return GetPlayFabIDsFromSteamIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromSteamIDsAsync(request);
             }
@@ -3139,10 +4356,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromSteamIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
      * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
@@ -3151,7 +4372,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromSteamIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromSteamIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromSteamIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3162,9 +4383,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -3179,9 +4399,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromTwitchIDsRequest
      * @return Async Task will return GetPlayFabIDsFromTwitchIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+        return GetPlayFabIDsFromTwitchIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromTwitchIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromTwitchIDsAsync(request);
             }
@@ -3195,9 +4427,21 @@ public class PlayFabClientAPI {
      * @param request GetPlayFabIDsFromTwitchIDsRequest
      * @return GetPlayFabIDsFromTwitchIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+        return GetPlayFabIDsFromTwitchIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromTwitchIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromTwitchIDsAsync(request);
             }
@@ -3206,10 +4450,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromTwitchIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
      * the user accounts, available as "_id" from the Twitch API methods (ex:
@@ -3219,7 +4467,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> privateGetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromTwitchIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromTwitchIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPlayFabIDsFromTwitchIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3230,9 +4478,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>) httpResult;
         GetPlayFabIDsFromTwitchIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
@@ -3245,9 +4492,19 @@ public class PlayFabClientAPI {
      * @param request GetPublisherDataRequest
      * @return Async Task will return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -3259,9 +4516,19 @@ public class PlayFabClientAPI {
      * @param request GetPublisherDataRequest
      * @return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
-        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -3270,16 +4537,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3290,9 +4561,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3306,9 +4576,20 @@ public class PlayFabClientAPI {
      * @param request GetPurchaseRequest
      * @return Async Task will return GetPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPurchaseResult>> GetPurchaseAsync(final GetPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPurchaseResult>>() {
+        return GetPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPurchaseResult>> GetPurchaseAsync(final GetPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPurchaseResult>>() {
             public PlayFabResult<GetPurchaseResult> call() throws Exception {
                 return privateGetPurchaseAsync(request);
             }
@@ -3321,9 +4602,20 @@ public class PlayFabClientAPI {
      * @param request GetPurchaseRequest
      * @return GetPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request) {
-        FutureTask<PlayFabResult<GetPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<GetPurchaseResult>>() {
+        return GetPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPurchaseResult>>() {
             public PlayFabResult<GetPurchaseResult> call() throws Exception {
                 return privateGetPurchaseAsync(request);
             }
@@ -3332,10 +4624,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPurchaseResult> exceptionResult = new PlayFabResult<GetPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPurchaseResultType = new TypeToken<PlayFabJsonSuccess<GetPurchaseResult>>(){}.getType();
+
     /**
      * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
      * active.
@@ -3344,7 +4640,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetPurchaseResult> privateGetPurchaseAsync(final GetPurchaseRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3355,9 +4651,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPurchaseResult> resultData = (PlayFabJsonSuccess<GetPurchaseResult>) httpResult;
         GetPurchaseResult result = resultData.data;
 
         PlayFabResult<GetPurchaseResult> pfResult = new PlayFabResult<GetPurchaseResult>();
@@ -3373,9 +4668,22 @@ public class PlayFabClientAPI {
      * @param request GetSharedGroupDataRequest
      * @return Async Task will return GetSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+        return GetSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
                 return privateGetSharedGroupDataAsync(request);
             }
@@ -3390,9 +4698,22 @@ public class PlayFabClientAPI {
      * @param request GetSharedGroupDataRequest
      * @return GetSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
-        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+        return GetSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
                 return privateGetSharedGroupDataAsync(request);
             }
@@ -3401,10 +4722,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType();
+
     /**
      * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
      * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
@@ -3415,7 +4740,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetSharedGroupDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3426,9 +4751,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -3441,9 +4765,19 @@ public class PlayFabClientAPI {
      * @param request GetStoreItemsRequest
      * @return Async Task will return GetStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+        return GetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
                 return privateGetStoreItemsAsync(request);
             }
@@ -3455,9 +4789,19 @@ public class PlayFabClientAPI {
      * @param request GetStoreItemsRequest
      * @return GetStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
-        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+        return GetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
                 return privateGetStoreItemsAsync(request);
             }
@@ -3466,16 +4810,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType();
+
     /** Retrieves the set of items defined for the specified store, including all prices defined */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetStoreItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetStoreItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetStoreItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3486,9 +4834,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3501,9 +4848,19 @@ public class PlayFabClientAPI {
      * @param request GetTimeRequest
      * @return Async Task will return GetTimeResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
+        return GetTimeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
                 return privateGetTimeAsync(request);
             }
@@ -3515,9 +4872,19 @@ public class PlayFabClientAPI {
      * @param request GetTimeRequest
      * @return GetTimeResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
-        FutureTask<PlayFabResult<GetTimeResult>> task = new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
+        return GetTime(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTimeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
                 return privateGetTimeAsync(request);
             }
@@ -3526,16 +4893,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTimeResultType = new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType();
+
     /** Retrieves the current server time */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTime"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTime"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetTimeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3546,9 +4917,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -3561,9 +4931,19 @@ public class PlayFabClientAPI {
      * @param request GetTitleDataRequest
      * @return Async Task will return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -3575,9 +4955,19 @@ public class PlayFabClientAPI {
      * @param request GetTitleDataRequest
      * @return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
-        FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -3586,16 +4976,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetTitleDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3606,9 +5000,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3621,9 +5014,19 @@ public class PlayFabClientAPI {
      * @param request GetTitleNewsRequest
      * @return Async Task will return GetTitleNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+        return GetTitleNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
                 return privateGetTitleNewsAsync(request);
             }
@@ -3635,9 +5038,19 @@ public class PlayFabClientAPI {
      * @param request GetTitleNewsRequest
      * @return GetTitleNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
-        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+        return GetTitleNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
                 return privateGetTitleNewsAsync(request);
             }
@@ -3646,16 +5059,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleNewsResultType = new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType();
+
     /** Retrieves the title news feed, as configured in the developer portal */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleNews"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleNews"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetTitleNewsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3666,9 +5083,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -3681,9 +5097,19 @@ public class PlayFabClientAPI {
      * @param request GetTitlePublicKeyRequest
      * @return Async Task will return GetTitlePublicKeyResult
      */
+    public static FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) {
+        return GetTitlePublicKeyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitlePublicKeyResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+    public static FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
             public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
                 return privateGetTitlePublicKeyAsync(request);
             }
@@ -3695,9 +5121,19 @@ public class PlayFabClientAPI {
      * @param request GetTitlePublicKeyRequest
      * @return GetTitlePublicKeyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
-        FutureTask<PlayFabResult<GetTitlePublicKeyResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+        return GetTitlePublicKey(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitlePublicKeyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitlePublicKeyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
             public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
                 return privateGetTitlePublicKeyAsync(request);
             }
@@ -3706,15 +5142,19 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitlePublicKeyResult> exceptionResult = new PlayFabResult<GetTitlePublicKeyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitlePublicKeyResultType = new TypeToken<PlayFabJsonSuccess<GetTitlePublicKeyResult>>(){}.getType();
+
     /** Returns the title's base 64 encoded RSA CSP blob. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitlePublicKeyResult> privateGetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) throws Exception {
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitlePublicKey"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitlePublicKey"), request, null, null, GetTitlePublicKeyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3725,9 +5165,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePublicKeyResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = (PlayFabJsonSuccess<GetTitlePublicKeyResult>) httpResult;
         GetTitlePublicKeyResult result = resultData.data;
 
         PlayFabResult<GetTitlePublicKeyResult> pfResult = new PlayFabResult<GetTitlePublicKeyResult>();
@@ -3740,9 +5179,19 @@ public class PlayFabClientAPI {
      * @param request GetTradeStatusRequest
      * @return Async Task will return GetTradeStatusResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTradeStatusResponse>> GetTradeStatusAsync(final GetTradeStatusRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+        return GetTradeStatusAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTradeStatusResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTradeStatusResponse>> GetTradeStatusAsync(final GetTradeStatusRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTradeStatusResponse>>() {
             public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
                 return privateGetTradeStatusAsync(request);
             }
@@ -3754,9 +5203,19 @@ public class PlayFabClientAPI {
      * @param request GetTradeStatusRequest
      * @return GetTradeStatusResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request) {
-        FutureTask<PlayFabResult<GetTradeStatusResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+        return GetTradeStatus(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTradeStatusResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTradeStatusResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTradeStatusResponse>>() {
             public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
                 return privateGetTradeStatusAsync(request);
             }
@@ -3765,16 +5224,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTradeStatusResponse> exceptionResult = new PlayFabResult<GetTradeStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTradeStatusResultType = new TypeToken<PlayFabJsonSuccess<GetTradeStatusResponse>>(){}.getType();
+
     /** Gets the current status of an existing trade. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTradeStatusResponse> privateGetTradeStatusAsync(final GetTradeStatusRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTradeStatus"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTradeStatus"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetTradeStatusResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3785,9 +5248,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTradeStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = (PlayFabJsonSuccess<GetTradeStatusResponse>) httpResult;
         GetTradeStatusResponse result = resultData.data;
 
         PlayFabResult<GetTradeStatusResponse> pfResult = new PlayFabResult<GetTradeStatusResponse>();
@@ -3800,9 +5262,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3814,9 +5286,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3825,16 +5307,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3845,9 +5331,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3860,9 +5345,19 @@ public class PlayFabClientAPI {
      * @param request GetUserInventoryRequest
      * @return Async Task will return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3874,9 +5369,19 @@ public class PlayFabClientAPI {
      * @param request GetUserInventoryRequest
      * @return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
-        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3885,16 +5390,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
     /** Retrieves the user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetUserInventoryResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3905,9 +5414,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -3920,9 +5428,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3934,9 +5452,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3945,16 +5473,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3965,9 +5497,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3980,9 +5511,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -3994,9 +5535,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -4005,16 +5556,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetUserPublisherReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4025,9 +5580,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4040,9 +5594,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -4054,9 +5618,19 @@ public class PlayFabClientAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -4065,16 +5639,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GetUserReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4085,9 +5663,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4100,9 +5677,19 @@ public class PlayFabClientAPI {
      * @param request GetWindowsHelloChallengeRequest
      * @return Async Task will return GetWindowsHelloChallengeResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> GetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
+        return GetWindowsHelloChallengeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetWindowsHelloChallengeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> GetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
             public PlayFabResult<GetWindowsHelloChallengeResponse> call() throws Exception {
                 return privateGetWindowsHelloChallengeAsync(request);
             }
@@ -4114,9 +5701,19 @@ public class PlayFabClientAPI {
      * @param request GetWindowsHelloChallengeRequest
      * @return GetWindowsHelloChallengeResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetWindowsHelloChallengeResponse> GetWindowsHelloChallenge(final GetWindowsHelloChallengeRequest request) {
-        FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> task = new FutureTask(new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
+        return GetWindowsHelloChallenge(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate.
+     * @param request GetWindowsHelloChallengeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetWindowsHelloChallengeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetWindowsHelloChallengeResponse> GetWindowsHelloChallenge(final GetWindowsHelloChallengeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetWindowsHelloChallengeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetWindowsHelloChallengeResponse>>() {
             public PlayFabResult<GetWindowsHelloChallengeResponse> call() throws Exception {
                 return privateGetWindowsHelloChallengeAsync(request);
             }
@@ -4125,15 +5722,19 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetWindowsHelloChallengeResponse> exceptionResult = new PlayFabResult<GetWindowsHelloChallengeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetWindowsHelloChallengeResultType = new TypeToken<PlayFabJsonSuccess<GetWindowsHelloChallengeResponse>>(){}.getType();
+
     /** Requests a challenge from the server to be signed by Windows Hello Passport service to authenticate. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetWindowsHelloChallengeResponse> privateGetWindowsHelloChallengeAsync(final GetWindowsHelloChallengeRequest request) throws Exception {
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetWindowsHelloChallenge"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetWindowsHelloChallenge"), request, null, null, GetWindowsHelloChallengeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4144,9 +5745,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetWindowsHelloChallengeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetWindowsHelloChallengeResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetWindowsHelloChallengeResponse> resultData = (PlayFabJsonSuccess<GetWindowsHelloChallengeResponse>) httpResult;
         GetWindowsHelloChallengeResponse result = resultData.data;
 
         PlayFabResult<GetWindowsHelloChallengeResponse> pfResult = new PlayFabResult<GetWindowsHelloChallengeResponse>();
@@ -4160,9 +5760,20 @@ public class PlayFabClientAPI {
      * @param request GrantCharacterToUserRequest
      * @return Async Task will return GrantCharacterToUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+        return GrantCharacterToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
                 return privateGrantCharacterToUserAsync(request);
             }
@@ -4175,9 +5786,20 @@ public class PlayFabClientAPI {
      * @param request GrantCharacterToUserRequest
      * @return GrantCharacterToUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
-        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+        return GrantCharacterToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
                 return privateGrantCharacterToUserAsync(request);
             }
@@ -4186,10 +5808,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantCharacterToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType();
+
     /**
      * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
      * with the parent PlayFabId to guarantee uniqueness.
@@ -4198,7 +5824,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GrantCharacterToUser"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GrantCharacterToUser"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, GrantCharacterToUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4209,9 +5835,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -4224,9 +5849,19 @@ public class PlayFabClientAPI {
      * @param request LinkAndroidDeviceIDRequest
      * @return Async Task will return LinkAndroidDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+        return LinkAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
             public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
                 return privateLinkAndroidDeviceIDAsync(request);
             }
@@ -4238,9 +5873,19 @@ public class PlayFabClientAPI {
      * @param request LinkAndroidDeviceIDRequest
      * @return LinkAndroidDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
-        FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+        return LinkAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
             public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
                 return privateLinkAndroidDeviceIDAsync(request);
             }
@@ -4249,16 +5894,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LinkAndroidDeviceIDResult>>(){}.getType();
+
     /** Links the Android device identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkAndroidDeviceIDResult> privateLinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkAndroidDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4269,9 +5918,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkAndroidDeviceIDResult>) httpResult;
         LinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkAndroidDeviceIDResult> pfResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
@@ -4284,9 +5932,19 @@ public class PlayFabClientAPI {
      * @param request LinkCustomIDRequest
      * @return Async Task will return LinkCustomIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkCustomIDResult>> LinkCustomIDAsync(final LinkCustomIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkCustomIDResult>>() {
+        return LinkCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkCustomIDResult>> LinkCustomIDAsync(final LinkCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkCustomIDResult>>() {
             public PlayFabResult<LinkCustomIDResult> call() throws Exception {
                 return privateLinkCustomIDAsync(request);
             }
@@ -4298,9 +5956,19 @@ public class PlayFabClientAPI {
      * @param request LinkCustomIDRequest
      * @return LinkCustomIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request) {
-        FutureTask<PlayFabResult<LinkCustomIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkCustomIDResult>>() {
+        return LinkCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkCustomIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkCustomIDResult>>() {
             public PlayFabResult<LinkCustomIDResult> call() throws Exception {
                 return privateLinkCustomIDAsync(request);
             }
@@ -4309,16 +5977,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkCustomIDResult> exceptionResult = new PlayFabResult<LinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkCustomIDResultType = new TypeToken<PlayFabJsonSuccess<LinkCustomIDResult>>(){}.getType();
+
     /** Links the custom identifier, generated by the title, to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkCustomIDResult> privateLinkCustomIDAsync(final LinkCustomIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkCustomIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4329,9 +6001,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkCustomIDResult> resultData = (PlayFabJsonSuccess<LinkCustomIDResult>) httpResult;
         LinkCustomIDResult result = resultData.data;
 
         PlayFabResult<LinkCustomIDResult> pfResult = new PlayFabResult<LinkCustomIDResult>();
@@ -4344,9 +6015,19 @@ public class PlayFabClientAPI {
      * @param request LinkFacebookAccountRequest
      * @return Async Task will return LinkFacebookAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccountAsync(final LinkFacebookAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+        return LinkFacebookAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccountAsync(final LinkFacebookAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
             public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
                 return privateLinkFacebookAccountAsync(request);
             }
@@ -4358,9 +6039,19 @@ public class PlayFabClientAPI {
      * @param request LinkFacebookAccountRequest
      * @return LinkFacebookAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
-        FutureTask<PlayFabResult<LinkFacebookAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+        return LinkFacebookAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkFacebookAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
             public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
                 return privateLinkFacebookAccountAsync(request);
             }
@@ -4369,16 +6060,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkFacebookAccountResult> exceptionResult = new PlayFabResult<LinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkFacebookAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkFacebookAccountResult>>(){}.getType();
+
     /** Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkFacebookAccountResult> privateLinkFacebookAccountAsync(final LinkFacebookAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkFacebookAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4389,9 +6084,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<LinkFacebookAccountResult>) httpResult;
         LinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<LinkFacebookAccountResult> pfResult = new PlayFabResult<LinkFacebookAccountResult>();
@@ -4404,9 +6098,19 @@ public class PlayFabClientAPI {
      * @param request LinkFacebookInstantGamesIdRequest
      * @return Async Task will return LinkFacebookInstantGamesIdResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+        return LinkFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
                 return privateLinkFacebookInstantGamesIdAsync(request);
             }
@@ -4418,9 +6122,19 @@ public class PlayFabClientAPI {
      * @param request LinkFacebookInstantGamesIdRequest
      * @return LinkFacebookInstantGamesIdResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
-        FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> task = new FutureTask(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+        return LinkFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
                 return privateLinkFacebookInstantGamesIdAsync(request);
             }
@@ -4429,16 +6143,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>>(){}.getType();
+
     /** Links the Facebook Instant Games Id to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkFacebookInstantGamesIdResult> privateLinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkFacebookInstantGamesIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4449,9 +6167,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>) httpResult;
         LinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<LinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
@@ -4464,9 +6181,19 @@ public class PlayFabClientAPI {
      * @param request LinkGameCenterAccountRequest
      * @return Async Task will return LinkGameCenterAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+        return LinkGameCenterAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
             public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
                 return privateLinkGameCenterAccountAsync(request);
             }
@@ -4478,9 +6205,19 @@ public class PlayFabClientAPI {
      * @param request LinkGameCenterAccountRequest
      * @return LinkGameCenterAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
-        FutureTask<PlayFabResult<LinkGameCenterAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+        return LinkGameCenterAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account
+     * @param request LinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkGameCenterAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
             public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
                 return privateLinkGameCenterAccountAsync(request);
             }
@@ -4489,16 +6226,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkGameCenterAccountResult> exceptionResult = new PlayFabResult<LinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkGameCenterAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkGameCenterAccountResult>>(){}.getType();
+
     /** Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkGameCenterAccountResult> privateLinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkGameCenterAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4509,9 +6250,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<LinkGameCenterAccountResult>) httpResult;
         LinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<LinkGameCenterAccountResult> pfResult = new PlayFabResult<LinkGameCenterAccountResult>();
@@ -4524,9 +6264,19 @@ public class PlayFabClientAPI {
      * @param request LinkGoogleAccountRequest
      * @return Async Task will return LinkGoogleAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccountAsync(final LinkGoogleAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+        return LinkGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccountAsync(final LinkGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
             public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
                 return privateLinkGoogleAccountAsync(request);
             }
@@ -4538,9 +6288,19 @@ public class PlayFabClientAPI {
      * @param request LinkGoogleAccountRequest
      * @return LinkGoogleAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
-        FutureTask<PlayFabResult<LinkGoogleAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+        return LinkGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkGoogleAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
             public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
                 return privateLinkGoogleAccountAsync(request);
             }
@@ -4549,16 +6309,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkGoogleAccountResult> exceptionResult = new PlayFabResult<LinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkGoogleAccountResult>>(){}.getType();
+
     /** Links the currently signed-in user account to their Google account, using their Google account credentials */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkGoogleAccountResult> privateLinkGoogleAccountAsync(final LinkGoogleAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkGoogleAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4569,9 +6333,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<LinkGoogleAccountResult>) httpResult;
         LinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<LinkGoogleAccountResult> pfResult = new PlayFabResult<LinkGoogleAccountResult>();
@@ -4584,9 +6347,19 @@ public class PlayFabClientAPI {
      * @param request LinkIOSDeviceIDRequest
      * @return Async Task will return LinkIOSDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+        return LinkIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
             public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
                 return privateLinkIOSDeviceIDAsync(request);
             }
@@ -4598,9 +6371,19 @@ public class PlayFabClientAPI {
      * @param request LinkIOSDeviceIDRequest
      * @return LinkIOSDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
-        FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+        return LinkIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
             public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
                 return privateLinkIOSDeviceIDAsync(request);
             }
@@ -4609,16 +6392,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<LinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LinkIOSDeviceIDResult>>(){}.getType();
+
     /** Links the vendor-specific iOS device identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkIOSDeviceIDResult> privateLinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkIOSDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4629,9 +6416,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkIOSDeviceIDResult>) httpResult;
         LinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkIOSDeviceIDResult> pfResult = new PlayFabResult<LinkIOSDeviceIDResult>();
@@ -4644,9 +6430,19 @@ public class PlayFabClientAPI {
      * @param request LinkKongregateAccountRequest
      * @return Async Task will return LinkKongregateAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkKongregateAccountResult>> LinkKongregateAsync(final LinkKongregateAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+        return LinkKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkKongregateAccountResult>> LinkKongregateAsync(final LinkKongregateAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
             public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
                 return privateLinkKongregateAsync(request);
             }
@@ -4658,9 +6454,19 @@ public class PlayFabClientAPI {
      * @param request LinkKongregateAccountRequest
      * @return LinkKongregateAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request) {
-        FutureTask<PlayFabResult<LinkKongregateAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+        return LinkKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkKongregateAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
             public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
                 return privateLinkKongregateAsync(request);
             }
@@ -4669,16 +6475,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkKongregateAccountResult> exceptionResult = new PlayFabResult<LinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkKongregateResultType = new TypeToken<PlayFabJsonSuccess<LinkKongregateAccountResult>>(){}.getType();
+
     /** Links the Kongregate identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkKongregateAccountResult> privateLinkKongregateAsync(final LinkKongregateAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkKongregateResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4689,9 +6499,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<LinkKongregateAccountResult>) httpResult;
         LinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<LinkKongregateAccountResult> pfResult = new PlayFabResult<LinkKongregateAccountResult>();
@@ -4704,9 +6513,19 @@ public class PlayFabClientAPI {
      * @param request LinkNintendoSwitchDeviceIdRequest
      * @return Async Task will return LinkNintendoSwitchDeviceIdResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+        return LinkNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
                 return privateLinkNintendoSwitchDeviceIdAsync(request);
             }
@@ -4718,9 +6537,19 @@ public class PlayFabClientAPI {
      * @param request LinkNintendoSwitchDeviceIdRequest
      * @return LinkNintendoSwitchDeviceIdResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
-        FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> task = new FutureTask(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+        return LinkNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
                 return privateLinkNintendoSwitchDeviceIdAsync(request);
             }
@@ -4729,16 +6558,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType();
+
     /** Links the NintendoSwitchDeviceId to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkNintendoSwitchDeviceIdResult> privateLinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkNintendoSwitchDeviceIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4749,9 +6582,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>) httpResult;
         LinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<LinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
@@ -4764,9 +6596,19 @@ public class PlayFabClientAPI {
      * @param request LinkSteamAccountRequest
      * @return Async Task will return LinkSteamAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccountAsync(final LinkSteamAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+        return LinkSteamAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccountAsync(final LinkSteamAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkSteamAccountResult>>() {
             public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
                 return privateLinkSteamAccountAsync(request);
             }
@@ -4778,9 +6620,19 @@ public class PlayFabClientAPI {
      * @param request LinkSteamAccountRequest
      * @return LinkSteamAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request) {
-        FutureTask<PlayFabResult<LinkSteamAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+        return LinkSteamAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkSteamAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkSteamAccountResult>>() {
             public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
                 return privateLinkSteamAccountAsync(request);
             }
@@ -4789,16 +6641,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkSteamAccountResult> exceptionResult = new PlayFabResult<LinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkSteamAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkSteamAccountResult>>(){}.getType();
+
     /** Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkSteamAccountResult> privateLinkSteamAccountAsync(final LinkSteamAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkSteamAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4809,9 +6665,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = (PlayFabJsonSuccess<LinkSteamAccountResult>) httpResult;
         LinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<LinkSteamAccountResult> pfResult = new PlayFabResult<LinkSteamAccountResult>();
@@ -4824,9 +6679,19 @@ public class PlayFabClientAPI {
      * @param request LinkTwitchAccountRequest
      * @return Async Task will return LinkTwitchAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkTwitchAccountResult>> LinkTwitchAsync(final LinkTwitchAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+        return LinkTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkTwitchAccountResult>> LinkTwitchAsync(final LinkTwitchAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
             public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
                 return privateLinkTwitchAsync(request);
             }
@@ -4838,9 +6703,19 @@ public class PlayFabClientAPI {
      * @param request LinkTwitchAccountRequest
      * @return LinkTwitchAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request) {
-        FutureTask<PlayFabResult<LinkTwitchAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+        return LinkTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkTwitchAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
             public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
                 return privateLinkTwitchAsync(request);
             }
@@ -4849,16 +6724,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkTwitchAccountResult> exceptionResult = new PlayFabResult<LinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkTwitchResultType = new TypeToken<PlayFabJsonSuccess<LinkTwitchAccountResult>>(){}.getType();
+
     /** Links the Twitch account associated with the token to the user's PlayFab account. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkTwitchAccountResult> privateLinkTwitchAsync(final LinkTwitchAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkTwitchResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4869,9 +6748,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<LinkTwitchAccountResult>) httpResult;
         LinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<LinkTwitchAccountResult> pfResult = new PlayFabResult<LinkTwitchAccountResult>();
@@ -4884,9 +6762,19 @@ public class PlayFabClientAPI {
      * @param request LinkWindowsHelloAccountRequest
      * @return Async Task will return LinkWindowsHelloAccountResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> LinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
+        return LinkWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> LinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
             public PlayFabResult<LinkWindowsHelloAccountResponse> call() throws Exception {
                 return privateLinkWindowsHelloAsync(request);
             }
@@ -4898,9 +6786,19 @@ public class PlayFabClientAPI {
      * @param request LinkWindowsHelloAccountRequest
      * @return LinkWindowsHelloAccountResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkWindowsHelloAccountResponse> LinkWindowsHello(final LinkWindowsHelloAccountRequest request) {
-        FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> task = new FutureTask(new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
+        return LinkWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Link Windows Hello authentication to the current PlayFab Account
+     * @param request LinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkWindowsHelloAccountResponse> LinkWindowsHello(final LinkWindowsHelloAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkWindowsHelloAccountResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkWindowsHelloAccountResponse>>() {
             public PlayFabResult<LinkWindowsHelloAccountResponse> call() throws Exception {
                 return privateLinkWindowsHelloAsync(request);
             }
@@ -4909,16 +6807,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkWindowsHelloAccountResponse> exceptionResult = new PlayFabResult<LinkWindowsHelloAccountResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LinkWindowsHelloAccountResponse>>(){}.getType();
+
     /** Link Windows Hello authentication to the current PlayFab Account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkWindowsHelloAccountResponse> privateLinkWindowsHelloAsync(final LinkWindowsHelloAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkWindowsHello"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkWindowsHello"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkWindowsHelloResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4929,9 +6831,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkWindowsHelloAccountResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkWindowsHelloAccountResponse>>(){}.getType());
+        PlayFabJsonSuccess<LinkWindowsHelloAccountResponse> resultData = (PlayFabJsonSuccess<LinkWindowsHelloAccountResponse>) httpResult;
         LinkWindowsHelloAccountResponse result = resultData.data;
 
         PlayFabResult<LinkWindowsHelloAccountResponse> pfResult = new PlayFabResult<LinkWindowsHelloAccountResponse>();
@@ -4944,9 +6845,19 @@ public class PlayFabClientAPI {
      * @param request LinkXboxAccountRequest
      * @return Async Task will return LinkXboxAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+        return LinkXboxAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
                 return privateLinkXboxAccountAsync(request);
             }
@@ -4958,9 +6869,19 @@ public class PlayFabClientAPI {
      * @param request LinkXboxAccountRequest
      * @return LinkXboxAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
-        FutureTask<PlayFabResult<LinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+        return LinkXboxAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LinkXboxAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
                 return privateLinkXboxAccountAsync(request);
             }
@@ -4969,16 +6890,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LinkXboxAccountResult> exceptionResult = new PlayFabResult<LinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LinkXboxAccountResultType = new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType();
+
     /** Links the Xbox Live account associated with the provided access code to the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final LinkXboxAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, LinkXboxAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4989,9 +6914,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = (PlayFabJsonSuccess<LinkXboxAccountResult>) httpResult;
         LinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
@@ -5005,9 +6929,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithAndroidDeviceIDRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithAndroidDeviceIDAsync(request);
             }
@@ -5020,9 +6955,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithAndroidDeviceIDRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithAndroidDeviceIDAsync(request);
             }
@@ -5031,10 +6977,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
      * API calls which require an authenticated user
@@ -5044,7 +6994,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithAndroidDeviceID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithAndroidDeviceID"), request, null, null, LoginWithAndroidDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5055,9 +7005,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5074,9 +7023,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithCustomIDRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithCustomIDAsync(final LoginWithCustomIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithCustomIDAsync(final LoginWithCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithCustomIDAsync(request);
             }
@@ -5089,9 +7049,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithCustomIDRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithCustomIDAsync(request);
             }
@@ -5100,10 +7071,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithCustomIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
      * subsequently be used for API calls which require an authenticated user
@@ -5113,7 +7088,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithCustomID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithCustomID"), request, null, null, LoginWithCustomIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5124,9 +7099,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5145,9 +7119,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithEmailAddressRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithEmailAddressAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithEmailAddressAsync(request);
             }
@@ -5162,9 +7149,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithEmailAddressRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithEmailAddress(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithEmailAddressAsync(request);
             }
@@ -5173,10 +7173,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithEmailAddressResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
      * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
@@ -5188,7 +7192,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithEmailAddress"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithEmailAddress"), request, null, null, LoginWithEmailAddressResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5199,9 +7203,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5218,9 +7221,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithFacebookRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookAsync(final LoginWithFacebookRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithFacebookAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookAsync(final LoginWithFacebookRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithFacebookAsync(request);
             }
@@ -5233,9 +7247,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithFacebookRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithFacebook(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithFacebookAsync(request);
             }
@@ -5244,10 +7269,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithFacebookResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
      * calls which require an authenticated user
@@ -5257,7 +7286,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebook"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebook"), request, null, null, LoginWithFacebookResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5268,9 +7297,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5287,9 +7315,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithFacebookInstantGamesIdRequest
      * @return Async Task will return LoginResult
      */
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) {
+        return LoginWithFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithFacebookInstantGamesIdAsync(request);
             }
@@ -5302,9 +7341,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithFacebookInstantGamesIdRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithFacebookInstantGamesIdAsync(request);
             }
@@ -5313,10 +7363,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
      * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
@@ -5326,7 +7380,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebookInstantGamesId"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebookInstantGamesId"), request, null, null, LoginWithFacebookInstantGamesIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5337,9 +7391,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5356,9 +7409,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithGameCenterRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithGameCenterAsync(final LoginWithGameCenterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithGameCenterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithGameCenterAsync(final LoginWithGameCenterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithGameCenterAsync(request);
             }
@@ -5371,9 +7435,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithGameCenterRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithGameCenter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user
+     * @param request LoginWithGameCenterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithGameCenterAsync(request);
             }
@@ -5382,10 +7457,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithGameCenterResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
      * used for API calls which require an authenticated user
@@ -5395,7 +7474,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGameCenter"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGameCenter"), request, null, null, LoginWithGameCenterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5406,9 +7485,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5424,9 +7502,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithGoogleAccountRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithGoogleAccountAsync(request);
             }
@@ -5438,9 +7526,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithGoogleAccountRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithGoogleAccountAsync(request);
             }
@@ -5449,17 +7547,21 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /** Signs the user in using their Google account credentials */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LoginResult> privateLoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) throws Exception {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGoogleAccount"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGoogleAccount"), request, null, null, LoginWithGoogleAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5470,9 +7572,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5489,9 +7590,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithIOSDeviceIDRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithIOSDeviceIDAsync(request);
             }
@@ -5504,9 +7616,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithIOSDeviceIDRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithIOSDeviceIDAsync(request);
             }
@@ -5515,10 +7638,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
      * be used for API calls which require an authenticated user
@@ -5528,7 +7655,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithIOSDeviceID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithIOSDeviceID"), request, null, null, LoginWithIOSDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5539,9 +7666,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5557,9 +7683,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithKongregateRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithKongregateAsync(final LoginWithKongregateRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithKongregateAsync(final LoginWithKongregateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithKongregateAsync(request);
             }
@@ -5571,9 +7707,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithKongregateRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithKongregateAsync(request);
             }
@@ -5582,17 +7728,21 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithKongregateResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /** Signs the user in using a Kongregate player account. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LoginResult> privateLoginWithKongregateAsync(final LoginWithKongregateRequest request) throws Exception {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithKongregate"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithKongregate"), request, null, null, LoginWithKongregateResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5603,9 +7753,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5622,9 +7771,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithNintendoSwitchDeviceIdRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithNintendoSwitchDeviceIdAsync(request);
             }
@@ -5637,9 +7797,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithNintendoSwitchDeviceIdRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithNintendoSwitchDeviceIdAsync(request);
             }
@@ -5648,10 +7819,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
      * API calls which require an authenticated user
@@ -5661,7 +7836,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithNintendoSwitchDeviceId"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithNintendoSwitchDeviceId"), request, null, null, LoginWithNintendoSwitchDeviceIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5672,9 +7847,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5693,9 +7867,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithPlayFabRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithPlayFabAsync(final LoginWithPlayFabRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithPlayFabAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithPlayFabAsync(final LoginWithPlayFabRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithPlayFabAsync(request);
             }
@@ -5710,9 +7897,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithPlayFabRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithPlayFab(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithPlayFabAsync(request);
             }
@@ -5721,10 +7921,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithPlayFabResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
      * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
@@ -5736,7 +7940,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithPlayFab"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithPlayFab"), request, null, null, LoginWithPlayFabResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5747,9 +7951,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5766,9 +7969,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithSteamRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithSteamAsync(final LoginWithSteamRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithSteamAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithSteamAsync(final LoginWithSteamRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithSteamAsync(request);
             }
@@ -5781,9 +7995,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithSteamRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithSteam(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithSteamAsync(request);
             }
@@ -5792,10 +8017,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithSteamResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
      * API calls which require an authenticated user
@@ -5805,7 +8034,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithSteam"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithSteam"), request, null, null, LoginWithSteamResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5816,9 +8045,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5834,9 +8062,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithTwitchRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithTwitchAsync(final LoginWithTwitchRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithTwitchAsync(final LoginWithTwitchRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithTwitchAsync(request);
             }
@@ -5848,9 +8086,19 @@ public class PlayFabClientAPI {
      * @param request LoginWithTwitchRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithTwitchAsync(request);
             }
@@ -5859,17 +8107,21 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithTwitchResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /** Signs the user in using a Twitch access token. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LoginResult> privateLoginWithTwitchAsync(final LoginWithTwitchRequest request) throws Exception {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithTwitch"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithTwitch"), request, null, null, LoginWithTwitchResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5880,9 +8132,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5901,9 +8152,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithWindowsHelloRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithWindowsHelloAsync(final LoginWithWindowsHelloRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithWindowsHelloAsync(final LoginWithWindowsHelloRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithWindowsHelloAsync(request);
             }
@@ -5918,9 +8182,22 @@ public class PlayFabClientAPI {
      * @param request LoginWithWindowsHelloRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithWindowsHello(final LoginWithWindowsHelloRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
+     * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
+     * string. Step two is to request the user sign the string via Windows Hello and then send the signed value back to the
+     * server.
+     * @param request LoginWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithWindowsHello(final LoginWithWindowsHelloRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithWindowsHelloAsync(request);
             }
@@ -5929,10 +8206,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Completes the Windows Hello login flow by returning the signed value of the challange from GetWindowsHelloChallenge.
      * Windows Hello has a 2 step client to server authentication scheme. Step one is to request from the server a challenge
@@ -5944,7 +8225,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithWindowsHello"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithWindowsHello"), request, null, null, LoginWithWindowsHelloResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5955,9 +8236,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5974,9 +8254,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithXboxRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithXboxAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithXboxAsync(request);
             }
@@ -5989,9 +8280,20 @@ public class PlayFabClientAPI {
      * @param request LoginWithXboxRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return LoginWithXbox(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateLoginWithXboxAsync(request);
             }
@@ -6000,10 +8302,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type LoginWithXboxResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
      * which require an authenticated user
@@ -6013,7 +8319,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithXbox"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithXbox"), request, null, null, LoginWithXboxResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6024,9 +8330,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6047,13 +8352,42 @@ public class PlayFabClientAPI {
      * @param request MatchmakeRequest
      * @return Async Task will return MatchmakeResult
      */
-    @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<MatchmakeResult>>() {
-            public PlayFabResult<MatchmakeResult> call() throws Exception {
-                return privateMatchmakeAsync(request);
-            }
-        });
+    public static FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request) {
+        return MatchmakeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MatchmakeResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MatchmakeResult>>() {
+            public PlayFabResult<MatchmakeResult> call() throws Exception {
+                return privateMatchmakeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @return MatchmakeResult
+     */
+    public static PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request) {
+        return Matchmake(request, PlayFabSettings.CallTimeoutMs);
     }
 
     /**
@@ -6064,11 +8398,12 @@ public class PlayFabClientAPI {
      * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
      * GameNotFound.
      * @param request MatchmakeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
      * @return MatchmakeResult
      */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request) {
-        FutureTask<PlayFabResult<MatchmakeResult>> task = new FutureTask(new Callable<PlayFabResult<MatchmakeResult>>() {
+    public static PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MatchmakeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MatchmakeResult>>() {
             public PlayFabResult<MatchmakeResult> call() throws Exception {
                 return privateMatchmakeAsync(request);
             }
@@ -6077,10 +8412,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<MatchmakeResult> exceptionResult = new PlayFabResult<MatchmakeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type MatchmakeResultType = new TypeToken<PlayFabJsonSuccess<MatchmakeResult>>(){}.getType();
+
     /**
      * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
      * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
@@ -6093,7 +8432,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<MatchmakeResult> privateMatchmakeAsync(final MatchmakeRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/Matchmake"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/Matchmake"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, MatchmakeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6104,9 +8443,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MatchmakeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MatchmakeResult>>(){}.getType());
+        PlayFabJsonSuccess<MatchmakeResult> resultData = (PlayFabJsonSuccess<MatchmakeResult>) httpResult;
         MatchmakeResult result = resultData.data;
 
         PlayFabResult<MatchmakeResult> pfResult = new PlayFabResult<MatchmakeResult>();
@@ -6119,9 +8457,19 @@ public class PlayFabClientAPI {
      * @param request OpenTradeRequest
      * @return Async Task will return OpenTradeResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<OpenTradeResponse>> OpenTradeAsync(final OpenTradeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<OpenTradeResponse>>() {
+        return OpenTradeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return OpenTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<OpenTradeResponse>> OpenTradeAsync(final OpenTradeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<OpenTradeResponse>>() {
             public PlayFabResult<OpenTradeResponse> call() throws Exception {
                 return privateOpenTradeAsync(request);
             }
@@ -6133,9 +8481,19 @@ public class PlayFabClientAPI {
      * @param request OpenTradeRequest
      * @return OpenTradeResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request) {
-        FutureTask<PlayFabResult<OpenTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<OpenTradeResponse>>() {
+        return OpenTrade(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return OpenTradeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<OpenTradeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<OpenTradeResponse>>() {
             public PlayFabResult<OpenTradeResponse> call() throws Exception {
                 return privateOpenTradeAsync(request);
             }
@@ -6144,16 +8502,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<OpenTradeResponse> exceptionResult = new PlayFabResult<OpenTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type OpenTradeResultType = new TypeToken<PlayFabJsonSuccess<OpenTradeResponse>>(){}.getType();
+
     /** Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<OpenTradeResponse> privateOpenTradeAsync(final OpenTradeRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/OpenTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/OpenTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, OpenTradeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6164,9 +8526,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<OpenTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<OpenTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<OpenTradeResponse> resultData = (PlayFabJsonSuccess<OpenTradeResponse>) httpResult;
         OpenTradeResponse result = resultData.data;
 
         PlayFabResult<OpenTradeResponse> pfResult = new PlayFabResult<OpenTradeResponse>();
@@ -6179,9 +8540,19 @@ public class PlayFabClientAPI {
      * @param request PayForPurchaseRequest
      * @return Async Task will return PayForPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<PayForPurchaseResult>> PayForPurchaseAsync(final PayForPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<PayForPurchaseResult>>() {
+        return PayForPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PayForPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<PayForPurchaseResult>> PayForPurchaseAsync(final PayForPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PayForPurchaseResult>>() {
             public PlayFabResult<PayForPurchaseResult> call() throws Exception {
                 return privatePayForPurchaseAsync(request);
             }
@@ -6193,9 +8564,19 @@ public class PlayFabClientAPI {
      * @param request PayForPurchaseRequest
      * @return PayForPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request) {
-        FutureTask<PlayFabResult<PayForPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<PayForPurchaseResult>>() {
+        return PayForPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PayForPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PayForPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PayForPurchaseResult>>() {
             public PlayFabResult<PayForPurchaseResult> call() throws Exception {
                 return privatePayForPurchaseAsync(request);
             }
@@ -6204,16 +8585,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<PayForPurchaseResult> exceptionResult = new PlayFabResult<PayForPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type PayForPurchaseResultType = new TypeToken<PlayFabJsonSuccess<PayForPurchaseResult>>(){}.getType();
+
     /** Selects a payment option for purchase order created via StartPurchase */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<PayForPurchaseResult> privatePayForPurchaseAsync(final PayForPurchaseRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PayForPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PayForPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, PayForPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6224,9 +8609,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PayForPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PayForPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<PayForPurchaseResult> resultData = (PlayFabJsonSuccess<PayForPurchaseResult>) httpResult;
         PayForPurchaseResult result = resultData.data;
 
         PlayFabResult<PayForPurchaseResult> pfResult = new PlayFabResult<PayForPurchaseResult>();
@@ -6240,9 +8624,20 @@ public class PlayFabClientAPI {
      * @param request PurchaseItemRequest
      * @return Async Task will return PurchaseItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<PurchaseItemResult>> PurchaseItemAsync(final PurchaseItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<PurchaseItemResult>>() {
+        return PurchaseItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PurchaseItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<PurchaseItemResult>> PurchaseItemAsync(final PurchaseItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PurchaseItemResult>>() {
             public PlayFabResult<PurchaseItemResult> call() throws Exception {
                 return privatePurchaseItemAsync(request);
             }
@@ -6255,9 +8650,20 @@ public class PlayFabClientAPI {
      * @param request PurchaseItemRequest
      * @return PurchaseItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request) {
-        FutureTask<PlayFabResult<PurchaseItemResult>> task = new FutureTask(new Callable<PlayFabResult<PurchaseItemResult>>() {
+        return PurchaseItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PurchaseItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PurchaseItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PurchaseItemResult>>() {
             public PlayFabResult<PurchaseItemResult> call() throws Exception {
                 return privatePurchaseItemAsync(request);
             }
@@ -6266,10 +8672,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<PurchaseItemResult> exceptionResult = new PlayFabResult<PurchaseItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type PurchaseItemResultType = new TypeToken<PlayFabJsonSuccess<PurchaseItemResult>>(){}.getType();
+
     /**
      * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
      * the client believes the price to be. This lets the server fail the purchase if the price has changed.
@@ -6278,7 +8688,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<PurchaseItemResult> privatePurchaseItemAsync(final PurchaseItemRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PurchaseItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PurchaseItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, PurchaseItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6289,9 +8699,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PurchaseItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PurchaseItemResult>>(){}.getType());
+        PlayFabJsonSuccess<PurchaseItemResult> resultData = (PlayFabJsonSuccess<PurchaseItemResult>) httpResult;
         PurchaseItemResult result = resultData.data;
 
         PlayFabResult<PurchaseItemResult> pfResult = new PlayFabResult<PurchaseItemResult>();
@@ -6305,9 +8714,20 @@ public class PlayFabClientAPI {
      * @param request RedeemCouponRequest
      * @return Async Task will return RedeemCouponResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
+        return RedeemCouponAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
                 return privateRedeemCouponAsync(request);
             }
@@ -6320,9 +8740,20 @@ public class PlayFabClientAPI {
      * @param request RedeemCouponRequest
      * @return RedeemCouponResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
-        FutureTask<PlayFabResult<RedeemCouponResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
+        return RedeemCoupon(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemCouponResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
                 return privateRedeemCouponAsync(request);
             }
@@ -6331,10 +8762,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RedeemCouponResultType = new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType();
+
     /**
      * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
      * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
@@ -6343,7 +8778,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RedeemCoupon"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RedeemCoupon"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RedeemCouponResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6354,9 +8789,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -6369,9 +8803,19 @@ public class PlayFabClientAPI {
      * @param request RegisterForIOSPushNotificationRequest
      * @return Async Task will return RegisterForIOSPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+        return RegisterForIOSPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterForIOSPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
             public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
                 return privateRegisterForIOSPushNotificationAsync(request);
             }
@@ -6383,9 +8827,19 @@ public class PlayFabClientAPI {
      * @param request RegisterForIOSPushNotificationRequest
      * @return RegisterForIOSPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
-        FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+        return RegisterForIOSPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterForIOSPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
             public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
                 return privateRegisterForIOSPushNotificationAsync(request);
             }
@@ -6394,16 +8848,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RegisterForIOSPushNotificationResult> exceptionResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RegisterForIOSPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>>(){}.getType();
+
     /** Registers the iOS device to receive push notifications */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RegisterForIOSPushNotificationResult> privateRegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterForIOSPushNotification"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterForIOSPushNotification"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RegisterForIOSPushNotificationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6414,9 +8872,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = (PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>) httpResult;
         RegisterForIOSPushNotificationResult result = resultData.data;
 
         PlayFabResult<RegisterForIOSPushNotificationResult> pfResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
@@ -6430,9 +8887,20 @@ public class PlayFabClientAPI {
      * @param request RegisterPlayFabUserRequest
      * @return Async Task will return RegisterPlayFabUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+        return RegisterPlayFabUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterPlayFabUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
             public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
                 return privateRegisterPlayFabUserAsync(request);
             }
@@ -6445,9 +8913,20 @@ public class PlayFabClientAPI {
      * @param request RegisterPlayFabUserRequest
      * @return RegisterPlayFabUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
-        FutureTask<PlayFabResult<RegisterPlayFabUserResult>> task = new FutureTask(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+        return RegisterPlayFabUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterPlayFabUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterPlayFabUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
             public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
                 return privateRegisterPlayFabUserAsync(request);
             }
@@ -6456,10 +8935,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RegisterPlayFabUserResult> exceptionResult = new PlayFabResult<RegisterPlayFabUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RegisterPlayFabUserResultType = new TypeToken<PlayFabJsonSuccess<RegisterPlayFabUserResult>>(){}.getType();
+
     /**
      * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
      * require an authenticated user. You must supply either a username or an email address.
@@ -6469,7 +8952,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterPlayFabUser"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterPlayFabUser"), request, null, null, RegisterPlayFabUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6480,9 +8963,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterPlayFabUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = (PlayFabJsonSuccess<RegisterPlayFabUserResult>) httpResult;
         RegisterPlayFabUserResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         MultiStepClientLogin(resultData.data.SettingsForUser.NeedsAttribution);
@@ -6498,9 +8980,20 @@ public class PlayFabClientAPI {
      * @param request RegisterWithWindowsHelloRequest
      * @return Async Task will return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LoginResult>> RegisterWithWindowsHelloAsync(final RegisterWithWindowsHelloRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return RegisterWithWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LoginResult>> RegisterWithWindowsHelloAsync(final RegisterWithWindowsHelloRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateRegisterWithWindowsHelloAsync(request);
             }
@@ -6513,9 +9006,20 @@ public class PlayFabClientAPI {
      * @param request RegisterWithWindowsHelloRequest
      * @return LoginResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LoginResult> RegisterWithWindowsHello(final RegisterWithWindowsHelloRequest request) {
-        FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
+        return RegisterWithWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request RegisterWithWindowsHelloRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LoginResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LoginResult> RegisterWithWindowsHello(final RegisterWithWindowsHelloRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LoginResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
                 return privateRegisterWithWindowsHelloAsync(request);
             }
@@ -6524,10 +9028,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RegisterWithWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType();
+
     /**
      * Registers a new PlayFab user account using Windows Hello authentication, returning a session ticket that can
      * subsequently be used for API calls which require an authenticated user
@@ -6537,7 +9045,7 @@ public class PlayFabClientAPI {
         request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterWithWindowsHello"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterWithWindowsHello"), request, null, null, RegisterWithWindowsHelloResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6548,9 +9056,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6566,9 +9073,19 @@ public class PlayFabClientAPI {
      * @param request RemoveContactEmailRequest
      * @return Async Task will return RemoveContactEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmailAsync(final RemoveContactEmailRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+        return RemoveContactEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmailAsync(final RemoveContactEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveContactEmailResult>>() {
             public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
                 return privateRemoveContactEmailAsync(request);
             }
@@ -6580,9 +9097,19 @@ public class PlayFabClientAPI {
      * @param request RemoveContactEmailRequest
      * @return RemoveContactEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request) {
-        FutureTask<PlayFabResult<RemoveContactEmailResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+        return RemoveContactEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveContactEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveContactEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveContactEmailResult>>() {
             public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
                 return privateRemoveContactEmailAsync(request);
             }
@@ -6591,16 +9118,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveContactEmailResult> exceptionResult = new PlayFabResult<RemoveContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveContactEmailResultType = new TypeToken<PlayFabJsonSuccess<RemoveContactEmailResult>>(){}.getType();
+
     /** Removes a contact email from the player's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RemoveContactEmailResult> privateRemoveContactEmailAsync(final RemoveContactEmailRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RemoveContactEmailResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6611,9 +9142,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = (PlayFabJsonSuccess<RemoveContactEmailResult>) httpResult;
         RemoveContactEmailResult result = resultData.data;
 
         PlayFabResult<RemoveContactEmailResult> pfResult = new PlayFabResult<RemoveContactEmailResult>();
@@ -6626,9 +9156,19 @@ public class PlayFabClientAPI {
      * @param request RemoveFriendRequest
      * @return Async Task will return RemoveFriendResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemoveFriendResult>> RemoveFriendAsync(final RemoveFriendRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveFriendResult>>() {
+        return RemoveFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemoveFriendResult>> RemoveFriendAsync(final RemoveFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveFriendResult>>() {
             public PlayFabResult<RemoveFriendResult> call() throws Exception {
                 return privateRemoveFriendAsync(request);
             }
@@ -6640,9 +9180,19 @@ public class PlayFabClientAPI {
      * @param request RemoveFriendRequest
      * @return RemoveFriendResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request) {
-        FutureTask<PlayFabResult<RemoveFriendResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveFriendResult>>() {
+        return RemoveFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveFriendResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveFriendResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveFriendResult>>() {
             public PlayFabResult<RemoveFriendResult> call() throws Exception {
                 return privateRemoveFriendAsync(request);
             }
@@ -6651,16 +9201,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveFriendResult> exceptionResult = new PlayFabResult<RemoveFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveFriendResultType = new TypeToken<PlayFabJsonSuccess<RemoveFriendResult>>(){}.getType();
+
     /** Removes a specified user from the friend list of the local user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RemoveFriendResult> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RemoveFriendResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6671,9 +9225,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveFriendResult> resultData = (PlayFabJsonSuccess<RemoveFriendResult>) httpResult;
         RemoveFriendResult result = resultData.data;
 
         PlayFabResult<RemoveFriendResult> pfResult = new PlayFabResult<RemoveFriendResult>();
@@ -6686,9 +9239,19 @@ public class PlayFabClientAPI {
      * @param request RemoveGenericIDRequest
      * @return Async Task will return RemoveGenericIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemoveGenericIDResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+        return RemoveGenericIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemoveGenericIDResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveGenericIDResult>>() {
             public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
                 return privateRemoveGenericIDAsync(request);
             }
@@ -6700,9 +9263,19 @@ public class PlayFabClientAPI {
      * @param request RemoveGenericIDRequest
      * @return RemoveGenericIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request) {
-        FutureTask<PlayFabResult<RemoveGenericIDResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+        return RemoveGenericID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveGenericIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveGenericIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveGenericIDResult>>() {
             public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
                 return privateRemoveGenericIDAsync(request);
             }
@@ -6711,16 +9284,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveGenericIDResult> exceptionResult = new PlayFabResult<RemoveGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveGenericIDResultType = new TypeToken<PlayFabJsonSuccess<RemoveGenericIDResult>>(){}.getType();
+
     /** Removes the specified generic service identifier from the player's PlayFab account. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RemoveGenericIDResult> privateRemoveGenericIDAsync(final RemoveGenericIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RemoveGenericIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6731,9 +9308,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = (PlayFabJsonSuccess<RemoveGenericIDResult>) httpResult;
         RemoveGenericIDResult result = resultData.data;
 
         PlayFabResult<RemoveGenericIDResult> pfResult = new PlayFabResult<RemoveGenericIDResult>();
@@ -6749,9 +9325,22 @@ public class PlayFabClientAPI {
      * @param request RemoveSharedGroupMembersRequest
      * @return Async Task will return RemoveSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+        return RemoveSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
                 return privateRemoveSharedGroupMembersAsync(request);
             }
@@ -6766,9 +9355,22 @@ public class PlayFabClientAPI {
      * @param request RemoveSharedGroupMembersRequest
      * @return RemoveSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
-        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+        return RemoveSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
                 return privateRemoveSharedGroupMembersAsync(request);
             }
@@ -6777,10 +9379,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType();
+
     /**
      * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
      * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
@@ -6791,7 +9397,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RemoveSharedGroupMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6802,9 +9408,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -6818,9 +9423,20 @@ public class PlayFabClientAPI {
      * @param request DeviceInfoRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> ReportDeviceInfoAsync(final DeviceInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return ReportDeviceInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> ReportDeviceInfoAsync(final DeviceInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateReportDeviceInfoAsync(request);
             }
@@ -6833,9 +9449,20 @@ public class PlayFabClientAPI {
      * @param request DeviceInfoRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return ReportDeviceInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateReportDeviceInfoAsync(request);
             }
@@ -6844,10 +9471,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ReportDeviceInfoResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /**
      * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
      * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
@@ -6856,7 +9487,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<EmptyResponse> privateReportDeviceInfoAsync(final DeviceInfoRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportDeviceInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportDeviceInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ReportDeviceInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6867,9 +9498,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6883,9 +9513,20 @@ public class PlayFabClientAPI {
      * @param request ReportPlayerClientRequest
      * @return Async Task will return ReportPlayerClientResult
      */
+    public static FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request) {
+        return ReportPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ReportPlayerClientResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+    public static FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerClientResult>>() {
             public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
                 return privateReportPlayerAsync(request);
             }
@@ -6898,9 +9539,20 @@ public class PlayFabClientAPI {
      * @param request ReportPlayerClientRequest
      * @return ReportPlayerClientResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request) {
-        FutureTask<PlayFabResult<ReportPlayerClientResult>> task = new FutureTask(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+        return ReportPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ReportPlayerClientResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ReportPlayerClientResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerClientResult>>() {
             public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
                 return privateReportPlayerAsync(request);
             }
@@ -6909,10 +9561,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ReportPlayerClientResult> exceptionResult = new PlayFabResult<ReportPlayerClientResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ReportPlayerResultType = new TypeToken<PlayFabJsonSuccess<ReportPlayerClientResult>>(){}.getType();
+
     /**
      * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
      * can take action concerning potentially toxic players.
@@ -6921,7 +9577,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ReportPlayerClientResult> privateReportPlayerAsync(final ReportPlayerClientRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ReportPlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6932,9 +9588,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerClientResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = (PlayFabJsonSuccess<ReportPlayerClientResult>) httpResult;
         ReportPlayerClientResult result = resultData.data;
 
         PlayFabResult<ReportPlayerClientResult> pfResult = new PlayFabResult<ReportPlayerClientResult>();
@@ -6947,9 +9602,19 @@ public class PlayFabClientAPI {
      * @param request RestoreIOSPurchasesRequest
      * @return Async Task will return RestoreIOSPurchasesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+        return RestoreIOSPurchasesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RestoreIOSPurchasesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
             public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
                 return privateRestoreIOSPurchasesAsync(request);
             }
@@ -6961,9 +9626,19 @@ public class PlayFabClientAPI {
      * @param request RestoreIOSPurchasesRequest
      * @return RestoreIOSPurchasesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
-        FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> task = new FutureTask(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+        return RestoreIOSPurchases(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RestoreIOSPurchasesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
             public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
                 return privateRestoreIOSPurchasesAsync(request);
             }
@@ -6972,16 +9647,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RestoreIOSPurchasesResult> exceptionResult = new PlayFabResult<RestoreIOSPurchasesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RestoreIOSPurchasesResultType = new TypeToken<PlayFabJsonSuccess<RestoreIOSPurchasesResult>>(){}.getType();
+
     /** Restores all in-app purchases based on the given restore receipt */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RestoreIOSPurchasesResult> privateRestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RestoreIOSPurchases"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RestoreIOSPurchases"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, RestoreIOSPurchasesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6992,9 +9671,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RestoreIOSPurchasesResult>>(){}.getType());
+        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = (PlayFabJsonSuccess<RestoreIOSPurchasesResult>) httpResult;
         RestoreIOSPurchasesResult result = resultData.data;
 
         PlayFabResult<RestoreIOSPurchasesResult> pfResult = new PlayFabResult<RestoreIOSPurchasesResult>();
@@ -7009,9 +9687,21 @@ public class PlayFabClientAPI {
      * @param request SendAccountRecoveryEmailRequest
      * @return Async Task will return SendAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+        return SendAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendAccountRecoveryEmailAsync(request);
             }
@@ -7025,9 +9715,21 @@ public class PlayFabClientAPI {
      * @param request SendAccountRecoveryEmailRequest
      * @return SendAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
-        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+        return SendAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendAccountRecoveryEmailAsync(request);
             }
@@ -7036,10 +9738,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SendAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType();
+
     /**
      * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
      * change the password.If an account recovery email template ID is provided, an email using the custom email template will
@@ -7048,7 +9754,7 @@ public class PlayFabClientAPI {
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SendAccountRecoveryEmail"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SendAccountRecoveryEmail"), request, null, null, SendAccountRecoveryEmailResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7059,9 +9765,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -7074,9 +9779,19 @@ public class PlayFabClientAPI {
      * @param request SetFriendTagsRequest
      * @return Async Task will return SetFriendTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetFriendTagsResult>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetFriendTagsResult>>() {
+        return SetFriendTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetFriendTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetFriendTagsResult>> SetFriendTagsAsync(final SetFriendTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetFriendTagsResult>>() {
             public PlayFabResult<SetFriendTagsResult> call() throws Exception {
                 return privateSetFriendTagsAsync(request);
             }
@@ -7088,9 +9803,19 @@ public class PlayFabClientAPI {
      * @param request SetFriendTagsRequest
      * @return SetFriendTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request) {
-        FutureTask<PlayFabResult<SetFriendTagsResult>> task = new FutureTask(new Callable<PlayFabResult<SetFriendTagsResult>>() {
+        return SetFriendTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetFriendTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetFriendTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetFriendTagsResult>>() {
             public PlayFabResult<SetFriendTagsResult> call() throws Exception {
                 return privateSetFriendTagsAsync(request);
             }
@@ -7099,16 +9824,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetFriendTagsResult> exceptionResult = new PlayFabResult<SetFriendTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetFriendTagsResultType = new TypeToken<PlayFabJsonSuccess<SetFriendTagsResult>>(){}.getType();
+
     /** Updates the tag list for a specified user in the friend list of the local user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetFriendTagsResult> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetFriendTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetFriendTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, SetFriendTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7119,9 +9848,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetFriendTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetFriendTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<SetFriendTagsResult> resultData = (PlayFabJsonSuccess<SetFriendTagsResult>) httpResult;
         SetFriendTagsResult result = resultData.data;
 
         PlayFabResult<SetFriendTagsResult> pfResult = new PlayFabResult<SetFriendTagsResult>();
@@ -7135,9 +9863,20 @@ public class PlayFabClientAPI {
      * @param request SetPlayerSecretRequest
      * @return Async Task will return SetPlayerSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -7150,9 +9889,20 @@ public class PlayFabClientAPI {
      * @param request SetPlayerSecretRequest
      * @return SetPlayerSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
-        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -7161,10 +9911,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
     /**
      * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
      * secret use the Admin or Server API method SetPlayerSecret.
@@ -7173,7 +9927,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetPlayerSecret"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetPlayerSecret"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, SetPlayerSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7184,9 +9938,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -7199,9 +9952,19 @@ public class PlayFabClientAPI {
      * @param request StartGameRequest
      * @return Async Task will return StartGameResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<StartGameResult>> StartGameAsync(final StartGameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<StartGameResult>>() {
+        return StartGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartGameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<StartGameResult>> StartGameAsync(final StartGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResult>>() {
             public PlayFabResult<StartGameResult> call() throws Exception {
                 return privateStartGameAsync(request);
             }
@@ -7213,9 +9976,19 @@ public class PlayFabClientAPI {
      * @param request StartGameRequest
      * @return StartGameResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<StartGameResult> StartGame(final StartGameRequest request) {
-        FutureTask<PlayFabResult<StartGameResult>> task = new FutureTask(new Callable<PlayFabResult<StartGameResult>>() {
+        return StartGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartGameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<StartGameResult> StartGame(final StartGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartGameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResult>>() {
             public PlayFabResult<StartGameResult> call() throws Exception {
                 return privateStartGameAsync(request);
             }
@@ -7224,16 +9997,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<StartGameResult> exceptionResult = new PlayFabResult<StartGameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type StartGameResultType = new TypeToken<PlayFabJsonSuccess<StartGameResult>>(){}.getType();
+
     /** Start a new game server with a given configuration, add the current player and return the connection information. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<StartGameResult> privateStartGameAsync(final StartGameRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartGame"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartGame"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, StartGameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7244,9 +10021,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<StartGameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartGameResult>>(){}.getType());
+        PlayFabJsonSuccess<StartGameResult> resultData = (PlayFabJsonSuccess<StartGameResult>) httpResult;
         StartGameResult result = resultData.data;
 
         PlayFabResult<StartGameResult> pfResult = new PlayFabResult<StartGameResult>();
@@ -7259,9 +10035,19 @@ public class PlayFabClientAPI {
      * @param request StartPurchaseRequest
      * @return Async Task will return StartPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<StartPurchaseResult>> StartPurchaseAsync(final StartPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<StartPurchaseResult>>() {
+        return StartPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<StartPurchaseResult>> StartPurchaseAsync(final StartPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartPurchaseResult>>() {
             public PlayFabResult<StartPurchaseResult> call() throws Exception {
                 return privateStartPurchaseAsync(request);
             }
@@ -7273,9 +10059,19 @@ public class PlayFabClientAPI {
      * @param request StartPurchaseRequest
      * @return StartPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request) {
-        FutureTask<PlayFabResult<StartPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<StartPurchaseResult>>() {
+        return StartPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartPurchaseResult>>() {
             public PlayFabResult<StartPurchaseResult> call() throws Exception {
                 return privateStartPurchaseAsync(request);
             }
@@ -7284,16 +10080,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<StartPurchaseResult> exceptionResult = new PlayFabResult<StartPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type StartPurchaseResultType = new TypeToken<PlayFabJsonSuccess<StartPurchaseResult>>(){}.getType();
+
     /** Creates an order for a list of items from the title catalog */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<StartPurchaseResult> privateStartPurchaseAsync(final StartPurchaseRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, StartPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7304,9 +10104,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<StartPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<StartPurchaseResult> resultData = (PlayFabJsonSuccess<StartPurchaseResult>) httpResult;
         StartPurchaseResult result = resultData.data;
 
         PlayFabResult<StartPurchaseResult> pfResult = new PlayFabResult<StartPurchaseResult>();
@@ -7320,9 +10119,20 @@ public class PlayFabClientAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -7335,9 +10145,20 @@ public class PlayFabClientAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -7346,10 +10167,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /**
      * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
      * balance negative with this API.
@@ -7358,7 +10183,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SubtractUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SubtractUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, SubtractUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7369,9 +10194,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -7384,9 +10208,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkAndroidDeviceIDRequest
      * @return Async Task will return UnlinkAndroidDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+        return UnlinkAndroidDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
             public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
                 return privateUnlinkAndroidDeviceIDAsync(request);
             }
@@ -7398,9 +10232,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkAndroidDeviceIDRequest
      * @return UnlinkAndroidDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
-        FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+        return UnlinkAndroidDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkAndroidDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
             public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
                 return privateUnlinkAndroidDeviceIDAsync(request);
             }
@@ -7409,16 +10253,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkAndroidDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>>(){}.getType();
+
     /** Unlinks the related Android device identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkAndroidDeviceIDResult> privateUnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkAndroidDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7429,9 +10277,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>) httpResult;
         UnlinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkAndroidDeviceIDResult> pfResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
@@ -7444,9 +10291,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkCustomIDRequest
      * @return Async Task will return UnlinkCustomIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomIDAsync(final UnlinkCustomIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+        return UnlinkCustomIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomIDAsync(final UnlinkCustomIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
             public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
                 return privateUnlinkCustomIDAsync(request);
             }
@@ -7458,9 +10315,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkCustomIDRequest
      * @return UnlinkCustomIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request) {
-        FutureTask<PlayFabResult<UnlinkCustomIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+        return UnlinkCustomID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkCustomIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkCustomIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
             public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
                 return privateUnlinkCustomIDAsync(request);
             }
@@ -7469,16 +10336,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkCustomIDResult> exceptionResult = new PlayFabResult<UnlinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkCustomIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkCustomIDResult>>(){}.getType();
+
     /** Unlinks the related custom identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkCustomIDResult> privateUnlinkCustomIDAsync(final UnlinkCustomIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkCustomIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7489,9 +10360,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = (PlayFabJsonSuccess<UnlinkCustomIDResult>) httpResult;
         UnlinkCustomIDResult result = resultData.data;
 
         PlayFabResult<UnlinkCustomIDResult> pfResult = new PlayFabResult<UnlinkCustomIDResult>();
@@ -7504,9 +10374,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkFacebookAccountRequest
      * @return Async Task will return UnlinkFacebookAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+        return UnlinkFacebookAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
             public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
                 return privateUnlinkFacebookAccountAsync(request);
             }
@@ -7518,9 +10398,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkFacebookAccountRequest
      * @return UnlinkFacebookAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+        return UnlinkFacebookAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkFacebookAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
             public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
                 return privateUnlinkFacebookAccountAsync(request);
             }
@@ -7529,16 +10419,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkFacebookAccountResult> exceptionResult = new PlayFabResult<UnlinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkFacebookAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkFacebookAccountResult>>(){}.getType();
+
     /** Unlinks the related Facebook account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkFacebookAccountResult> privateUnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkFacebookAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7549,9 +10443,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookAccountResult>) httpResult;
         UnlinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookAccountResult> pfResult = new PlayFabResult<UnlinkFacebookAccountResult>();
@@ -7564,9 +10457,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkFacebookInstantGamesIdRequest
      * @return Async Task will return UnlinkFacebookInstantGamesIdResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+        return UnlinkFacebookInstantGamesIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
                 return privateUnlinkFacebookInstantGamesIdAsync(request);
             }
@@ -7578,9 +10481,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkFacebookInstantGamesIdRequest
      * @return UnlinkFacebookInstantGamesIdResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
-        FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+        return UnlinkFacebookInstantGamesId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkFacebookInstantGamesIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
                 return privateUnlinkFacebookInstantGamesIdAsync(request);
             }
@@ -7589,16 +10502,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkFacebookInstantGamesIdResultType = new TypeToken<PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>>(){}.getType();
+
     /** Unlinks the related Facebook Instant Game Ids from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkFacebookInstantGamesIdResult> privateUnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkFacebookInstantGamesIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7609,9 +10526,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>) httpResult;
         UnlinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
@@ -7624,23 +10540,43 @@ public class PlayFabClientAPI {
      * @param request UnlinkGameCenterAccountRequest
      * @return Async Task will return UnlinkGameCenterAccountResult
      */
-    @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
-            public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
-                return privateUnlinkGameCenterAccountAsync(request);
-            }
-        });
+    public static FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) {
+        return UnlinkGameCenterAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkGameCenterAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+            public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
+                return privateUnlinkGameCenterAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @return UnlinkGameCenterAccountResult
+     */
+    public static PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
+        return UnlinkGameCenterAccount(request, PlayFabSettings.CallTimeoutMs);
     }
 
     /**
      * Unlinks the related Game Center account from the user's PlayFab account
      * @param request UnlinkGameCenterAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
      * @return UnlinkGameCenterAccountResult
      */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+    public static PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
             public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
                 return privateUnlinkGameCenterAccountAsync(request);
             }
@@ -7649,16 +10585,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkGameCenterAccountResult> exceptionResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkGameCenterAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkGameCenterAccountResult>>(){}.getType();
+
     /** Unlinks the related Game Center account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkGameCenterAccountResult> privateUnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkGameCenterAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7669,9 +10609,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGameCenterAccountResult>) httpResult;
         UnlinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGameCenterAccountResult> pfResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
@@ -7685,9 +10624,20 @@ public class PlayFabClientAPI {
      * @param request UnlinkGoogleAccountRequest
      * @return Async Task will return UnlinkGoogleAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+        return UnlinkGoogleAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
             public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
                 return privateUnlinkGoogleAccountAsync(request);
             }
@@ -7700,9 +10650,20 @@ public class PlayFabClientAPI {
      * @param request UnlinkGoogleAccountRequest
      * @return UnlinkGoogleAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+        return UnlinkGoogleAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkGoogleAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
             public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
                 return privateUnlinkGoogleAccountAsync(request);
             }
@@ -7711,10 +10672,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkGoogleAccountResult> exceptionResult = new PlayFabResult<UnlinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkGoogleAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkGoogleAccountResult>>(){}.getType();
+
     /**
      * Unlinks the related Google account from the user's PlayFab account
      * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
@@ -7723,7 +10688,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UnlinkGoogleAccountResult> privateUnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkGoogleAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7734,9 +10699,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGoogleAccountResult>) httpResult;
         UnlinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGoogleAccountResult> pfResult = new PlayFabResult<UnlinkGoogleAccountResult>();
@@ -7749,9 +10713,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkIOSDeviceIDRequest
      * @return Async Task will return UnlinkIOSDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+        return UnlinkIOSDeviceIDAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
             public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
                 return privateUnlinkIOSDeviceIDAsync(request);
             }
@@ -7763,9 +10737,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkIOSDeviceIDRequest
      * @return UnlinkIOSDeviceIDResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
-        FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+        return UnlinkIOSDeviceID(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkIOSDeviceIDResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
             public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
                 return privateUnlinkIOSDeviceIDAsync(request);
             }
@@ -7774,16 +10758,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkIOSDeviceIDResultType = new TypeToken<PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>>(){}.getType();
+
     /** Unlinks the related iOS device identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkIOSDeviceIDResult> privateUnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkIOSDeviceIDResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7794,9 +10782,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>) httpResult;
         UnlinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkIOSDeviceIDResult> pfResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
@@ -7809,9 +10796,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkKongregateAccountRequest
      * @return Async Task will return UnlinkKongregateAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+        return UnlinkKongregateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregateAsync(final UnlinkKongregateAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
             public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
                 return privateUnlinkKongregateAsync(request);
             }
@@ -7823,9 +10820,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkKongregateAccountRequest
      * @return UnlinkKongregateAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+        return UnlinkKongregate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkKongregateAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
             public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
                 return privateUnlinkKongregateAsync(request);
             }
@@ -7834,16 +10841,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkKongregateAccountResult> exceptionResult = new PlayFabResult<UnlinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkKongregateResultType = new TypeToken<PlayFabJsonSuccess<UnlinkKongregateAccountResult>>(){}.getType();
+
     /** Unlinks the related Kongregate identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkKongregateAccountResult> privateUnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkKongregateResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7854,9 +10865,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<UnlinkKongregateAccountResult>) httpResult;
         UnlinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkKongregateAccountResult> pfResult = new PlayFabResult<UnlinkKongregateAccountResult>();
@@ -7869,9 +10879,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkNintendoSwitchDeviceIdRequest
      * @return Async Task will return UnlinkNintendoSwitchDeviceIdResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+        return UnlinkNintendoSwitchDeviceIdAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
                 return privateUnlinkNintendoSwitchDeviceIdAsync(request);
             }
@@ -7883,9 +10903,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkNintendoSwitchDeviceIdRequest
      * @return UnlinkNintendoSwitchDeviceIdResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
-        FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+        return UnlinkNintendoSwitchDeviceId(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkNintendoSwitchDeviceIdResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
                 return privateUnlinkNintendoSwitchDeviceIdAsync(request);
             }
@@ -7894,16 +10924,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkNintendoSwitchDeviceIdResultType = new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType();
+
     /** Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> privateUnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkNintendoSwitchDeviceIdResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7914,9 +10948,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>) httpResult;
         UnlinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
@@ -7929,9 +10962,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkSteamAccountRequest
      * @return Async Task will return UnlinkSteamAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+        return UnlinkSteamAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
             public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
                 return privateUnlinkSteamAccountAsync(request);
             }
@@ -7943,9 +10986,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkSteamAccountRequest
      * @return UnlinkSteamAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkSteamAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+        return UnlinkSteamAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkSteamAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkSteamAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
             public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
                 return privateUnlinkSteamAccountAsync(request);
             }
@@ -7954,16 +11007,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkSteamAccountResult> exceptionResult = new PlayFabResult<UnlinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkSteamAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkSteamAccountResult>>(){}.getType();
+
     /** Unlinks the related Steam account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkSteamAccountResult> privateUnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkSteamAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7974,9 +11031,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = (PlayFabJsonSuccess<UnlinkSteamAccountResult>) httpResult;
         UnlinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkSteamAccountResult> pfResult = new PlayFabResult<UnlinkSteamAccountResult>();
@@ -7989,9 +11045,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkTwitchAccountRequest
      * @return Async Task will return UnlinkTwitchAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+        return UnlinkTwitchAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitchAsync(final UnlinkTwitchAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
             public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
                 return privateUnlinkTwitchAsync(request);
             }
@@ -8003,9 +11069,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkTwitchAccountRequest
      * @return UnlinkTwitchAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+        return UnlinkTwitch(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkTwitchAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
             public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
                 return privateUnlinkTwitchAsync(request);
             }
@@ -8014,16 +11090,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkTwitchAccountResult> exceptionResult = new PlayFabResult<UnlinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkTwitchResultType = new TypeToken<PlayFabJsonSuccess<UnlinkTwitchAccountResult>>(){}.getType();
+
     /** Unlinks the related Twitch account from the user's PlayFab account. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkTwitchAccountResult> privateUnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkTwitchResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8034,9 +11114,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<UnlinkTwitchAccountResult>) httpResult;
         UnlinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkTwitchAccountResult> pfResult = new PlayFabResult<UnlinkTwitchAccountResult>();
@@ -8049,9 +11128,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkWindowsHelloAccountRequest
      * @return Async Task will return UnlinkWindowsHelloAccountResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> UnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
+        return UnlinkWindowsHelloAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> UnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
             public PlayFabResult<UnlinkWindowsHelloAccountResponse> call() throws Exception {
                 return privateUnlinkWindowsHelloAsync(request);
             }
@@ -8063,9 +11152,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkWindowsHelloAccountRequest
      * @return UnlinkWindowsHelloAccountResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkWindowsHelloAccountResponse> UnlinkWindowsHello(final UnlinkWindowsHelloAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> task = new FutureTask(new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
+        return UnlinkWindowsHello(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlink Windows Hello authentication from the current PlayFab Account
+     * @param request UnlinkWindowsHelloAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkWindowsHelloAccountResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkWindowsHelloAccountResponse> UnlinkWindowsHello(final UnlinkWindowsHelloAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkWindowsHelloAccountResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkWindowsHelloAccountResponse>>() {
             public PlayFabResult<UnlinkWindowsHelloAccountResponse> call() throws Exception {
                 return privateUnlinkWindowsHelloAsync(request);
             }
@@ -8074,16 +11173,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkWindowsHelloAccountResponse> exceptionResult = new PlayFabResult<UnlinkWindowsHelloAccountResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkWindowsHelloResultType = new TypeToken<PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse>>(){}.getType();
+
     /** Unlink Windows Hello authentication from the current PlayFab Account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkWindowsHelloAccountResponse> privateUnlinkWindowsHelloAsync(final UnlinkWindowsHelloAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkWindowsHello"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkWindowsHello"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkWindowsHelloResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8094,9 +11197,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse> resultData = (PlayFabJsonSuccess<UnlinkWindowsHelloAccountResponse>) httpResult;
         UnlinkWindowsHelloAccountResponse result = resultData.data;
 
         PlayFabResult<UnlinkWindowsHelloAccountResponse> pfResult = new PlayFabResult<UnlinkWindowsHelloAccountResponse>();
@@ -8109,9 +11211,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkXboxAccountRequest
      * @return Async Task will return UnlinkXboxAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+        return UnlinkXboxAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
                 return privateUnlinkXboxAccountAsync(request);
             }
@@ -8123,9 +11235,19 @@ public class PlayFabClientAPI {
      * @param request UnlinkXboxAccountRequest
      * @return UnlinkXboxAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
-        FutureTask<PlayFabResult<UnlinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+        return UnlinkXboxAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlinkXboxAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlinkXboxAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
                 return privateUnlinkXboxAccountAsync(request);
             }
@@ -8134,16 +11256,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlinkXboxAccountResult> exceptionResult = new PlayFabResult<UnlinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlinkXboxAccountResultType = new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType();
+
     /** Unlinks the related Xbox Live account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlinkXboxAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8154,9 +11280,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = (PlayFabJsonSuccess<UnlinkXboxAccountResult>) httpResult;
         UnlinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
@@ -8171,9 +11296,21 @@ public class PlayFabClientAPI {
      * @param request UnlockContainerInstanceRequest
      * @return Async Task will return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerInstanceAsync(request);
             }
@@ -8187,9 +11324,21 @@ public class PlayFabClientAPI {
      * @param request UnlockContainerInstanceRequest
      * @return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
-        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerInstanceAsync(request);
             }
@@ -8198,10 +11347,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlockContainerInstanceResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
     /**
      * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
      * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
@@ -8211,7 +11364,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerInstance"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerInstance"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlockContainerInstanceResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8222,9 +11375,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -8239,9 +11391,21 @@ public class PlayFabClientAPI {
      * @param request UnlockContainerItemRequest
      * @return Async Task will return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerItemAsync(request);
             }
@@ -8255,9 +11419,21 @@ public class PlayFabClientAPI {
      * @param request UnlockContainerItemRequest
      * @return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
-        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerItemAsync(request);
             }
@@ -8266,10 +11442,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlockContainerItemResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
     /**
      * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
      * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
@@ -8279,7 +11459,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UnlockContainerItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8290,9 +11470,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -8305,9 +11484,19 @@ public class PlayFabClientAPI {
      * @param request UpdateAvatarUrlRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateAvatarUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateAvatarUrlAsync(request);
             }
@@ -8319,9 +11508,19 @@ public class PlayFabClientAPI {
      * @param request UpdateAvatarUrlRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateAvatarUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateAvatarUrlAsync(request);
             }
@@ -8330,16 +11529,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateAvatarUrlResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Update the avatar URL of the player */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateAvatarUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateAvatarUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateAvatarUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8350,9 +11553,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8365,9 +11567,19 @@ public class PlayFabClientAPI {
      * @param request UpdateCharacterDataRequest
      * @return Async Task will return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterDataAsync(request);
             }
@@ -8379,9 +11591,19 @@ public class PlayFabClientAPI {
      * @param request UpdateCharacterDataRequest
      * @return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterDataAsync(request);
             }
@@ -8390,16 +11612,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
     /** Creates and updates the title-specific custom data for the user's character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateCharacterDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8410,9 +11636,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -8426,9 +11651,20 @@ public class PlayFabClientAPI {
      * @param request UpdateCharacterStatisticsRequest
      * @return Async Task will return UpdateCharacterStatisticsResult
      */
+    public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
+        return UpdateCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+    public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
                 return privateUpdateCharacterStatisticsAsync(request);
             }
@@ -8441,9 +11677,20 @@ public class PlayFabClientAPI {
      * @param request UpdateCharacterStatisticsRequest
      * @return UpdateCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+        return UpdateCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
                 return privateUpdateCharacterStatisticsAsync(request);
             }
@@ -8452,10 +11699,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType();
+
     /**
      * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
      * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
@@ -8464,7 +11715,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateCharacterStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8475,9 +11726,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -8491,9 +11741,20 @@ public class PlayFabClientAPI {
      * @param request UpdatePlayerStatisticsRequest
      * @return Async Task will return UpdatePlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+        return UpdatePlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
                 return privateUpdatePlayerStatisticsAsync(request);
             }
@@ -8506,9 +11767,20 @@ public class PlayFabClientAPI {
      * @param request UpdatePlayerStatisticsRequest
      * @return UpdatePlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
-        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+        return UpdatePlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
                 return privateUpdatePlayerStatisticsAsync(request);
             }
@@ -8517,10 +11789,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdatePlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType();
+
     /**
      * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
      * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
@@ -8529,7 +11805,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdatePlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdatePlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdatePlayerStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8540,9 +11816,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -8559,9 +11834,23 @@ public class PlayFabClientAPI {
      * @param request UpdateSharedGroupDataRequest
      * @return Async Task will return UpdateSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+        return UpdateSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
                 return privateUpdateSharedGroupDataAsync(request);
             }
@@ -8577,9 +11866,23 @@ public class PlayFabClientAPI {
      * @param request UpdateSharedGroupDataRequest
      * @return UpdateSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
-        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+        return UpdateSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
                 return privateUpdateSharedGroupDataAsync(request);
             }
@@ -8588,10 +11891,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType();
+
     /**
      * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
      * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
@@ -8603,7 +11910,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateSharedGroupDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8614,9 +11921,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -8629,9 +11935,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -8643,9 +11959,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -8654,16 +11980,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Creates and updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8674,9 +12004,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8689,9 +12018,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -8703,9 +12042,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -8714,16 +12063,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Creates and updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8734,9 +12087,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8749,9 +12101,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserTitleDisplayNameRequest
      * @return Async Task will return UpdateUserTitleDisplayNameResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+        return UpdateUserTitleDisplayNameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
                 return privateUpdateUserTitleDisplayNameAsync(request);
             }
@@ -8763,9 +12125,19 @@ public class PlayFabClientAPI {
      * @param request UpdateUserTitleDisplayNameRequest
      * @return UpdateUserTitleDisplayNameResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
-        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+        return UpdateUserTitleDisplayName(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
                 return privateUpdateUserTitleDisplayNameAsync(request);
             }
@@ -8774,16 +12146,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserTitleDisplayNameResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType();
+
     /** Updates the title specific display name for the user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserTitleDisplayName"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserTitleDisplayName"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, UpdateUserTitleDisplayNameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8794,9 +12170,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -8810,9 +12185,20 @@ public class PlayFabClientAPI {
      * @param request ValidateAmazonReceiptRequest
      * @return Async Task will return ValidateAmazonReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+        return ValidateAmazonIAPReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateAmazonReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
             public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
                 return privateValidateAmazonIAPReceiptAsync(request);
             }
@@ -8825,9 +12211,20 @@ public class PlayFabClientAPI {
      * @param request ValidateAmazonReceiptRequest
      * @return ValidateAmazonReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
-        FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+        return ValidateAmazonIAPReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateAmazonReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
             public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
                 return privateValidateAmazonIAPReceiptAsync(request);
             }
@@ -8836,10 +12233,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ValidateAmazonReceiptResult> exceptionResult = new PlayFabResult<ValidateAmazonReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ValidateAmazonIAPReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateAmazonReceiptResult>>(){}.getType();
+
     /**
      * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
      * purchased catalog item
@@ -8848,7 +12249,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ValidateAmazonReceiptResult> privateValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateAmazonIAPReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateAmazonIAPReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ValidateAmazonIAPReceiptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8859,9 +12260,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateAmazonReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = (PlayFabJsonSuccess<ValidateAmazonReceiptResult>) httpResult;
         ValidateAmazonReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateAmazonReceiptResult> pfResult = new PlayFabResult<ValidateAmazonReceiptResult>();
@@ -8874,9 +12274,19 @@ public class PlayFabClientAPI {
      * @param request ValidateGooglePlayPurchaseRequest
      * @return Async Task will return ValidateGooglePlayPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+        return ValidateGooglePlayPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateGooglePlayPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
             public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
                 return privateValidateGooglePlayPurchaseAsync(request);
             }
@@ -8888,9 +12298,19 @@ public class PlayFabClientAPI {
      * @param request ValidateGooglePlayPurchaseRequest
      * @return ValidateGooglePlayPurchaseResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
-        FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+        return ValidateGooglePlayPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateGooglePlayPurchaseResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
             public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
                 return privateValidateGooglePlayPurchaseAsync(request);
             }
@@ -8899,16 +12319,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ValidateGooglePlayPurchaseResult> exceptionResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ValidateGooglePlayPurchaseResultType = new TypeToken<PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>>(){}.getType();
+
     /** Validates a Google Play purchase and gives the corresponding item to the player. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ValidateGooglePlayPurchaseResult> privateValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateGooglePlayPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateGooglePlayPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ValidateGooglePlayPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8919,9 +12343,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = (PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>) httpResult;
         ValidateGooglePlayPurchaseResult result = resultData.data;
 
         PlayFabResult<ValidateGooglePlayPurchaseResult> pfResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
@@ -8935,9 +12358,20 @@ public class PlayFabClientAPI {
      * @param request ValidateIOSReceiptRequest
      * @return Async Task will return ValidateIOSReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+        return ValidateIOSReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateIOSReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
             public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
                 return privateValidateIOSReceiptAsync(request);
             }
@@ -8950,9 +12384,20 @@ public class PlayFabClientAPI {
      * @param request ValidateIOSReceiptRequest
      * @return ValidateIOSReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
-        FutureTask<PlayFabResult<ValidateIOSReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+        return ValidateIOSReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateIOSReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateIOSReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
             public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
                 return privateValidateIOSReceiptAsync(request);
             }
@@ -8961,10 +12406,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ValidateIOSReceiptResult> exceptionResult = new PlayFabResult<ValidateIOSReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ValidateIOSReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateIOSReceiptResult>>(){}.getType();
+
     /**
      * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
      * catalog item
@@ -8973,7 +12422,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ValidateIOSReceiptResult> privateValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateIOSReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateIOSReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ValidateIOSReceiptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8984,9 +12433,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateIOSReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = (PlayFabJsonSuccess<ValidateIOSReceiptResult>) httpResult;
         ValidateIOSReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateIOSReceiptResult> pfResult = new PlayFabResult<ValidateIOSReceiptResult>();
@@ -9000,9 +12448,20 @@ public class PlayFabClientAPI {
      * @param request ValidateWindowsReceiptRequest
      * @return Async Task will return ValidateWindowsReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+        return ValidateWindowsStoreReceiptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ValidateWindowsReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
             public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
                 return privateValidateWindowsStoreReceiptAsync(request);
             }
@@ -9015,9 +12474,20 @@ public class PlayFabClientAPI {
      * @param request ValidateWindowsReceiptRequest
      * @return ValidateWindowsReceiptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
-        FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+        return ValidateWindowsStoreReceipt(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ValidateWindowsReceiptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
             public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
                 return privateValidateWindowsStoreReceiptAsync(request);
             }
@@ -9026,10 +12496,14 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ValidateWindowsReceiptResult> exceptionResult = new PlayFabResult<ValidateWindowsReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ValidateWindowsStoreReceiptResultType = new TypeToken<PlayFabJsonSuccess<ValidateWindowsReceiptResult>>(){}.getType();
+
     /**
      * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
      * purchased catalog item
@@ -9038,7 +12512,7 @@ public class PlayFabClientAPI {
     private static PlayFabResult<ValidateWindowsReceiptResult> privateValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateWindowsStoreReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateWindowsStoreReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, ValidateWindowsStoreReceiptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9049,9 +12523,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateWindowsReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = (PlayFabJsonSuccess<ValidateWindowsReceiptResult>) httpResult;
         ValidateWindowsReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateWindowsReceiptResult> pfResult = new PlayFabResult<ValidateWindowsReceiptResult>();
@@ -9064,9 +12537,19 @@ public class PlayFabClientAPI {
      * @param request WriteClientCharacterEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteClientCharacterEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteCharacterEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteClientCharacterEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteCharacterEventAsync(request);
             }
@@ -9078,9 +12561,19 @@ public class PlayFabClientAPI {
      * @param request WriteClientCharacterEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteCharacterEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteCharacterEventAsync(request);
             }
@@ -9089,16 +12582,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WriteCharacterEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a character-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteClientCharacterEventRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteCharacterEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteCharacterEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, WriteCharacterEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9109,9 +12606,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -9124,9 +12620,19 @@ public class PlayFabClientAPI {
      * @param request WriteClientPlayerEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteClientPlayerEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WritePlayerEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteClientPlayerEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWritePlayerEventAsync(request);
             }
@@ -9138,9 +12644,19 @@ public class PlayFabClientAPI {
      * @param request WriteClientPlayerEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WritePlayerEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWritePlayerEventAsync(request);
             }
@@ -9149,16 +12665,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WritePlayerEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a player-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteClientPlayerEventRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WritePlayerEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WritePlayerEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, WritePlayerEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9169,9 +12689,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -9184,9 +12703,19 @@ public class PlayFabClientAPI {
      * @param request WriteTitleEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteTitleEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteTitleEventAsync(request);
             }
@@ -9198,9 +12727,19 @@ public class PlayFabClientAPI {
      * @param request WriteTitleEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteTitleEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteTitleEventAsync(request);
             }
@@ -9209,16 +12748,20 @@ public class PlayFabClientAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WriteTitleEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a title-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
         if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteTitleEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteTitleEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket, WriteTitleEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9229,9 +12772,8 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
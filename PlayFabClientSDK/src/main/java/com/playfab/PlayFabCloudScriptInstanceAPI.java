@@ -0,0 +1,130 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabCloudScriptModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * API methods for executing CloudScript using an Entity Profile
+     *
+     * Instance-scoped version of PlayFabCloudScriptAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabCloudScriptInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabCloudScriptInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabCloudScriptInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) {
+        return ExecuteEntityCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteEntityCloudScriptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
+        return ExecuteEntityCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteEntityCloudScriptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ExecuteEntityCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ExecuteCloudScriptResult> privateExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/CloudScript/ExecuteEntityCloudScript"), request, "X-EntityToken", authenticationContext.EntityToken, ExecuteEntityCloudScriptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ExecuteCloudScriptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
+        ExecuteCloudScriptResult result = resultData.data;
+
+        PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
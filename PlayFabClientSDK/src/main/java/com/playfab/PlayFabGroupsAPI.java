@@ -6,8 +6,8 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * The Groups API is designed for any permanent or semi-permanent collections of Entities (players, or non-players). If you
@@ -15,16 +15,24 @@ import com.google.gson.reflect.*;
      * parties, or any other persistent collection of entities.
      */
 public class PlayFabGroupsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) {
+        return AcceptGroupApplicationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Accepts an outstanding invitation to to join a group
      * @param request AcceptGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return EmptyResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+    public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAcceptGroupApplicationAsync(request);
             }
@@ -36,9 +44,19 @@ public class PlayFabGroupsAPI {
      * @param request AcceptGroupApplicationRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AcceptGroupApplication(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAcceptGroupApplicationAsync(request);
             }
@@ -47,16 +65,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AcceptGroupApplicationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Accepts an outstanding invitation to to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateAcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken, AcceptGroupApplicationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -67,9 +89,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -82,9 +103,19 @@ public class PlayFabGroupsAPI {
      * @param request AcceptGroupInvitationRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AcceptGroupInvitationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAcceptGroupInvitationAsync(request);
             }
@@ -96,9 +127,19 @@ public class PlayFabGroupsAPI {
      * @param request AcceptGroupInvitationRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AcceptGroupInvitation(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAcceptGroupInvitationAsync(request);
             }
@@ -107,16 +148,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AcceptGroupInvitationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Accepts an invitation to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateAcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken, AcceptGroupInvitationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +172,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -142,9 +186,19 @@ public class PlayFabGroupsAPI {
      * @param request AddMembersRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> AddMembersAsync(final AddMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AddMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> AddMembersAsync(final AddMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAddMembersAsync(request);
             }
@@ -156,9 +210,19 @@ public class PlayFabGroupsAPI {
      * @param request AddMembersRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AddMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAddMembersAsync(request);
             }
@@ -167,16 +231,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddMembersResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Adds members to a group or role. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateAddMembersAsync(final AddMembersRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AddMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AddMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken, AddMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -187,9 +255,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -202,9 +269,19 @@ public class PlayFabGroupsAPI {
      * @param request ApplyToGroupRequest
      * @return Async Task will return ApplyToGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ApplyToGroupResponse>> ApplyToGroupAsync(final ApplyToGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+        return ApplyToGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ApplyToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ApplyToGroupResponse>> ApplyToGroupAsync(final ApplyToGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ApplyToGroupResponse>>() {
             public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
                 return privateApplyToGroupAsync(request);
             }
@@ -216,9 +293,19 @@ public class PlayFabGroupsAPI {
      * @param request ApplyToGroupRequest
      * @return ApplyToGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request) {
-        FutureTask<PlayFabResult<ApplyToGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+        return ApplyToGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ApplyToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ApplyToGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ApplyToGroupResponse>>() {
             public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
                 return privateApplyToGroupAsync(request);
             }
@@ -227,16 +314,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ApplyToGroupResponse> exceptionResult = new PlayFabResult<ApplyToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ApplyToGroupResultType = new TypeToken<PlayFabJsonSuccess<ApplyToGroupResponse>>(){}.getType();
+
     /** Applies to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ApplyToGroupResponse> privateApplyToGroupAsync(final ApplyToGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ApplyToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ApplyToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, ApplyToGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -247,9 +338,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ApplyToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = (PlayFabJsonSuccess<ApplyToGroupResponse>) httpResult;
         ApplyToGroupResponse result = resultData.data;
 
         PlayFabResult<ApplyToGroupResponse> pfResult = new PlayFabResult<ApplyToGroupResponse>();
@@ -262,9 +352,19 @@ public class PlayFabGroupsAPI {
      * @param request BlockEntityRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> BlockEntityAsync(final BlockEntityRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return BlockEntityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> BlockEntityAsync(final BlockEntityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateBlockEntityAsync(request);
             }
@@ -276,9 +376,19 @@ public class PlayFabGroupsAPI {
      * @param request BlockEntityRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return BlockEntity(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateBlockEntityAsync(request);
             }
@@ -287,16 +397,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type BlockEntityResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Blocks a list of entities from joining a group. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateBlockEntityAsync(final BlockEntityRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/BlockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/BlockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken, BlockEntityResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -307,9 +421,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -322,9 +435,19 @@ public class PlayFabGroupsAPI {
      * @param request ChangeMemberRoleRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> ChangeMemberRoleAsync(final ChangeMemberRoleRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return ChangeMemberRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> ChangeMemberRoleAsync(final ChangeMemberRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateChangeMemberRoleAsync(request);
             }
@@ -336,9 +459,19 @@ public class PlayFabGroupsAPI {
      * @param request ChangeMemberRoleRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return ChangeMemberRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateChangeMemberRoleAsync(request);
             }
@@ -347,16 +480,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ChangeMemberRoleResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Changes the role membership of a list of entities from one role to another. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateChangeMemberRoleAsync(final ChangeMemberRoleRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ChangeMemberRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ChangeMemberRole"), request, "X-EntityToken", PlayFabSettings.EntityToken, ChangeMemberRoleResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -367,9 +504,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -382,9 +518,19 @@ public class PlayFabGroupsAPI {
      * @param request CreateGroupRequest
      * @return Async Task will return CreateGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateGroupResponse>> CreateGroupAsync(final CreateGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateGroupResponse>>() {
+        return CreateGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateGroupResponse>> CreateGroupAsync(final CreateGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupResponse>>() {
             public PlayFabResult<CreateGroupResponse> call() throws Exception {
                 return privateCreateGroupAsync(request);
             }
@@ -396,9 +542,19 @@ public class PlayFabGroupsAPI {
      * @param request CreateGroupRequest
      * @return CreateGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request) {
-        FutureTask<PlayFabResult<CreateGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateGroupResponse>>() {
+        return CreateGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupResponse>>() {
             public PlayFabResult<CreateGroupResponse> call() throws Exception {
                 return privateCreateGroupAsync(request);
             }
@@ -407,16 +563,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateGroupResponse> exceptionResult = new PlayFabResult<CreateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateGroupResponse>>(){}.getType();
+
     /** Creates a new group. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CreateGroupResponse> privateCreateGroupAsync(final CreateGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, CreateGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -427,9 +587,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupResponse> resultData = (PlayFabJsonSuccess<CreateGroupResponse>) httpResult;
         CreateGroupResponse result = resultData.data;
 
         PlayFabResult<CreateGroupResponse> pfResult = new PlayFabResult<CreateGroupResponse>();
@@ -442,9 +601,19 @@ public class PlayFabGroupsAPI {
      * @param request CreateGroupRoleRequest
      * @return Async Task will return CreateGroupRoleResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateGroupRoleResponse>> CreateRoleAsync(final CreateGroupRoleRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+        return CreateRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateGroupRoleResponse>> CreateRoleAsync(final CreateGroupRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
             public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
                 return privateCreateRoleAsync(request);
             }
@@ -456,9 +625,19 @@ public class PlayFabGroupsAPI {
      * @param request CreateGroupRoleRequest
      * @return CreateGroupRoleResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request) {
-        FutureTask<PlayFabResult<CreateGroupRoleResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+        return CreateRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateGroupRoleResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
             public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
                 return privateCreateRoleAsync(request);
             }
@@ -467,16 +646,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateGroupRoleResponse> exceptionResult = new PlayFabResult<CreateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateRoleResultType = new TypeToken<PlayFabJsonSuccess<CreateGroupRoleResponse>>(){}.getType();
+
     /** Creates a new group role. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CreateGroupRoleResponse> privateCreateRoleAsync(final CreateGroupRoleRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken, CreateRoleResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -487,9 +670,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = (PlayFabJsonSuccess<CreateGroupRoleResponse>) httpResult;
         CreateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<CreateGroupRoleResponse> pfResult = new PlayFabResult<CreateGroupRoleResponse>();
@@ -502,9 +684,19 @@ public class PlayFabGroupsAPI {
      * @param request DeleteGroupRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteGroupAsync(final DeleteGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> DeleteGroupAsync(final DeleteGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteGroupAsync(request);
             }
@@ -516,9 +708,19 @@ public class PlayFabGroupsAPI {
      * @param request DeleteGroupRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteGroupAsync(request);
             }
@@ -527,16 +729,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteGroupResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Deletes a group and all roles, invitations, join requests, and blocks associated with it. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateDeleteGroupAsync(final DeleteGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, DeleteGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -547,9 +753,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -562,9 +767,19 @@ public class PlayFabGroupsAPI {
      * @param request DeleteRoleRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteRoleAsync(final DeleteRoleRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> DeleteRoleAsync(final DeleteRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteRoleAsync(request);
             }
@@ -576,9 +791,19 @@ public class PlayFabGroupsAPI {
      * @param request DeleteRoleRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteRoleAsync(request);
             }
@@ -587,16 +812,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteRoleResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Deletes an existing role in a group. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateDeleteRoleAsync(final DeleteRoleRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteRole"), request, "X-EntityToken", PlayFabSettings.EntityToken, DeleteRoleResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -607,9 +836,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -622,9 +850,19 @@ public class PlayFabGroupsAPI {
      * @param request GetGroupRequest
      * @return Async Task will return GetGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetGroupResponse>> GetGroupAsync(final GetGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetGroupResponse>>() {
+        return GetGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetGroupResponse>> GetGroupAsync(final GetGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGroupResponse>>() {
             public PlayFabResult<GetGroupResponse> call() throws Exception {
                 return privateGetGroupAsync(request);
             }
@@ -636,9 +874,19 @@ public class PlayFabGroupsAPI {
      * @param request GetGroupRequest
      * @return GetGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request) {
-        FutureTask<PlayFabResult<GetGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<GetGroupResponse>>() {
+        return GetGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGroupResponse>>() {
             public PlayFabResult<GetGroupResponse> call() throws Exception {
                 return privateGetGroupAsync(request);
             }
@@ -647,16 +895,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetGroupResponse> exceptionResult = new PlayFabResult<GetGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetGroupResultType = new TypeToken<PlayFabJsonSuccess<GetGroupResponse>>(){}.getType();
+
     /** Gets information about a group and its roles */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetGroupResponse> privateGetGroupAsync(final GetGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/GetGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/GetGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -667,9 +919,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGroupResponse> resultData = (PlayFabJsonSuccess<GetGroupResponse>) httpResult;
         GetGroupResponse result = resultData.data;
 
         PlayFabResult<GetGroupResponse> pfResult = new PlayFabResult<GetGroupResponse>();
@@ -682,9 +933,19 @@ public class PlayFabGroupsAPI {
      * @param request InviteToGroupRequest
      * @return Async Task will return InviteToGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<InviteToGroupResponse>> InviteToGroupAsync(final InviteToGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<InviteToGroupResponse>>() {
+        return InviteToGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return InviteToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<InviteToGroupResponse>> InviteToGroupAsync(final InviteToGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InviteToGroupResponse>>() {
             public PlayFabResult<InviteToGroupResponse> call() throws Exception {
                 return privateInviteToGroupAsync(request);
             }
@@ -696,9 +957,19 @@ public class PlayFabGroupsAPI {
      * @param request InviteToGroupRequest
      * @return InviteToGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request) {
-        FutureTask<PlayFabResult<InviteToGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<InviteToGroupResponse>>() {
+        return InviteToGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return InviteToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<InviteToGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InviteToGroupResponse>>() {
             public PlayFabResult<InviteToGroupResponse> call() throws Exception {
                 return privateInviteToGroupAsync(request);
             }
@@ -707,16 +978,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<InviteToGroupResponse> exceptionResult = new PlayFabResult<InviteToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type InviteToGroupResultType = new TypeToken<PlayFabJsonSuccess<InviteToGroupResponse>>(){}.getType();
+
     /** Invites a player to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<InviteToGroupResponse> privateInviteToGroupAsync(final InviteToGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/InviteToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/InviteToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, InviteToGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -727,9 +1002,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InviteToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InviteToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<InviteToGroupResponse> resultData = (PlayFabJsonSuccess<InviteToGroupResponse>) httpResult;
         InviteToGroupResponse result = resultData.data;
 
         PlayFabResult<InviteToGroupResponse> pfResult = new PlayFabResult<InviteToGroupResponse>();
@@ -742,9 +1016,19 @@ public class PlayFabGroupsAPI {
      * @param request IsMemberRequest
      * @return Async Task will return IsMemberResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<IsMemberResponse>> IsMemberAsync(final IsMemberRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<IsMemberResponse>>() {
+        return IsMemberAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IsMemberResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<IsMemberResponse>> IsMemberAsync(final IsMemberRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IsMemberResponse>>() {
             public PlayFabResult<IsMemberResponse> call() throws Exception {
                 return privateIsMemberAsync(request);
             }
@@ -756,9 +1040,19 @@ public class PlayFabGroupsAPI {
      * @param request IsMemberRequest
      * @return IsMemberResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request) {
-        FutureTask<PlayFabResult<IsMemberResponse>> task = new FutureTask(new Callable<PlayFabResult<IsMemberResponse>>() {
+        return IsMember(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IsMemberResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IsMemberResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IsMemberResponse>>() {
             public PlayFabResult<IsMemberResponse> call() throws Exception {
                 return privateIsMemberAsync(request);
             }
@@ -767,16 +1061,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<IsMemberResponse> exceptionResult = new PlayFabResult<IsMemberResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type IsMemberResultType = new TypeToken<PlayFabJsonSuccess<IsMemberResponse>>(){}.getType();
+
     /** Checks to see if an entity is a member of a group or role within the group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<IsMemberResponse> privateIsMemberAsync(final IsMemberRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/IsMember"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/IsMember"), request, "X-EntityToken", PlayFabSettings.EntityToken, IsMemberResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -787,9 +1085,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IsMemberResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IsMemberResponse>>(){}.getType());
+        PlayFabJsonSuccess<IsMemberResponse> resultData = (PlayFabJsonSuccess<IsMemberResponse>) httpResult;
         IsMemberResponse result = resultData.data;
 
         PlayFabResult<IsMemberResponse> pfResult = new PlayFabResult<IsMemberResponse>();
@@ -802,9 +1099,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupApplicationsRequest
      * @return Async Task will return ListGroupApplicationsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplicationsAsync(final ListGroupApplicationsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+        return ListGroupApplicationsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupApplicationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplicationsAsync(final ListGroupApplicationsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
             public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
                 return privateListGroupApplicationsAsync(request);
             }
@@ -816,9 +1123,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupApplicationsRequest
      * @return ListGroupApplicationsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request) {
-        FutureTask<PlayFabResult<ListGroupApplicationsResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+        return ListGroupApplications(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupApplicationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupApplicationsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
             public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
                 return privateListGroupApplicationsAsync(request);
             }
@@ -827,16 +1144,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListGroupApplicationsResponse> exceptionResult = new PlayFabResult<ListGroupApplicationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListGroupApplicationsResultType = new TypeToken<PlayFabJsonSuccess<ListGroupApplicationsResponse>>(){}.getType();
+
     /** Lists all outstanding requests to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListGroupApplicationsResponse> privateListGroupApplicationsAsync(final ListGroupApplicationsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupApplications"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupApplications"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListGroupApplicationsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -847,9 +1168,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupApplicationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = (PlayFabJsonSuccess<ListGroupApplicationsResponse>) httpResult;
         ListGroupApplicationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupApplicationsResponse> pfResult = new PlayFabResult<ListGroupApplicationsResponse>();
@@ -862,9 +1182,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupBlocksRequest
      * @return Async Task will return ListGroupBlocksResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocksAsync(final ListGroupBlocksRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+        return ListGroupBlocksAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupBlocksResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocksAsync(final ListGroupBlocksRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
             public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
                 return privateListGroupBlocksAsync(request);
             }
@@ -876,9 +1206,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupBlocksRequest
      * @return ListGroupBlocksResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request) {
-        FutureTask<PlayFabResult<ListGroupBlocksResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+        return ListGroupBlocks(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupBlocksResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupBlocksResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
             public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
                 return privateListGroupBlocksAsync(request);
             }
@@ -887,16 +1227,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListGroupBlocksResponse> exceptionResult = new PlayFabResult<ListGroupBlocksResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListGroupBlocksResultType = new TypeToken<PlayFabJsonSuccess<ListGroupBlocksResponse>>(){}.getType();
+
     /** Lists all entities blocked from joining a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListGroupBlocksResponse> privateListGroupBlocksAsync(final ListGroupBlocksRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupBlocks"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupBlocks"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListGroupBlocksResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -907,9 +1251,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupBlocksResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = (PlayFabJsonSuccess<ListGroupBlocksResponse>) httpResult;
         ListGroupBlocksResponse result = resultData.data;
 
         PlayFabResult<ListGroupBlocksResponse> pfResult = new PlayFabResult<ListGroupBlocksResponse>();
@@ -922,9 +1265,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupInvitationsRequest
      * @return Async Task will return ListGroupInvitationsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitationsAsync(final ListGroupInvitationsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+        return ListGroupInvitationsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupInvitationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitationsAsync(final ListGroupInvitationsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
             public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
                 return privateListGroupInvitationsAsync(request);
             }
@@ -936,9 +1289,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupInvitationsRequest
      * @return ListGroupInvitationsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request) {
-        FutureTask<PlayFabResult<ListGroupInvitationsResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+        return ListGroupInvitations(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupInvitationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupInvitationsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
             public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
                 return privateListGroupInvitationsAsync(request);
             }
@@ -947,16 +1310,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListGroupInvitationsResponse> exceptionResult = new PlayFabResult<ListGroupInvitationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListGroupInvitationsResultType = new TypeToken<PlayFabJsonSuccess<ListGroupInvitationsResponse>>(){}.getType();
+
     /** Lists all outstanding invitations for a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListGroupInvitationsResponse> privateListGroupInvitationsAsync(final ListGroupInvitationsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupInvitations"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupInvitations"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListGroupInvitationsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -967,9 +1334,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupInvitationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = (PlayFabJsonSuccess<ListGroupInvitationsResponse>) httpResult;
         ListGroupInvitationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupInvitationsResponse> pfResult = new PlayFabResult<ListGroupInvitationsResponse>();
@@ -982,9 +1348,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupMembersRequest
      * @return Async Task will return ListGroupMembersResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListGroupMembersResponse>> ListGroupMembersAsync(final ListGroupMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+        return ListGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupMembersResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListGroupMembersResponse>> ListGroupMembersAsync(final ListGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupMembersResponse>>() {
             public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
                 return privateListGroupMembersAsync(request);
             }
@@ -996,9 +1372,19 @@ public class PlayFabGroupsAPI {
      * @param request ListGroupMembersRequest
      * @return ListGroupMembersResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request) {
-        FutureTask<PlayFabResult<ListGroupMembersResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+        return ListGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupMembersResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupMembersResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupMembersResponse>>() {
             public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
                 return privateListGroupMembersAsync(request);
             }
@@ -1007,16 +1393,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListGroupMembersResponse> exceptionResult = new PlayFabResult<ListGroupMembersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<ListGroupMembersResponse>>(){}.getType();
+
     /** Lists all members for a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListGroupMembersResponse> privateListGroupMembersAsync(final ListGroupMembersRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListGroupMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1027,9 +1417,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupMembersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = (PlayFabJsonSuccess<ListGroupMembersResponse>) httpResult;
         ListGroupMembersResponse result = resultData.data;
 
         PlayFabResult<ListGroupMembersResponse> pfResult = new PlayFabResult<ListGroupMembersResponse>();
@@ -1042,9 +1431,19 @@ public class PlayFabGroupsAPI {
      * @param request ListMembershipRequest
      * @return Async Task will return ListMembershipResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListMembershipResponse>> ListMembershipAsync(final ListMembershipRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListMembershipResponse>>() {
+        return ListMembershipAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListMembershipResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListMembershipResponse>> ListMembershipAsync(final ListMembershipRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipResponse>>() {
             public PlayFabResult<ListMembershipResponse> call() throws Exception {
                 return privateListMembershipAsync(request);
             }
@@ -1056,9 +1455,19 @@ public class PlayFabGroupsAPI {
      * @param request ListMembershipRequest
      * @return ListMembershipResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request) {
-        FutureTask<PlayFabResult<ListMembershipResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMembershipResponse>>() {
+        return ListMembership(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListMembershipResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListMembershipResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipResponse>>() {
             public PlayFabResult<ListMembershipResponse> call() throws Exception {
                 return privateListMembershipAsync(request);
             }
@@ -1067,16 +1476,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListMembershipResponse> exceptionResult = new PlayFabResult<ListMembershipResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListMembershipResultType = new TypeToken<PlayFabJsonSuccess<ListMembershipResponse>>(){}.getType();
+
     /** Lists all groups and roles for an entity */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListMembershipResponse> privateListMembershipAsync(final ListMembershipRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembership"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembership"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListMembershipResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1087,9 +1500,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMembershipResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipResponse> resultData = (PlayFabJsonSuccess<ListMembershipResponse>) httpResult;
         ListMembershipResponse result = resultData.data;
 
         PlayFabResult<ListMembershipResponse> pfResult = new PlayFabResult<ListMembershipResponse>();
@@ -1102,9 +1514,19 @@ public class PlayFabGroupsAPI {
      * @param request ListMembershipOpportunitiesRequest
      * @return Async Task will return ListMembershipOpportunitiesResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+        return ListMembershipOpportunitiesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListMembershipOpportunitiesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
             public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
                 return privateListMembershipOpportunitiesAsync(request);
             }
@@ -1116,9 +1538,19 @@ public class PlayFabGroupsAPI {
      * @param request ListMembershipOpportunitiesRequest
      * @return ListMembershipOpportunitiesResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
-        FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+        return ListMembershipOpportunities(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListMembershipOpportunitiesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
             public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
                 return privateListMembershipOpportunitiesAsync(request);
             }
@@ -1127,16 +1559,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListMembershipOpportunitiesResponse> exceptionResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListMembershipOpportunitiesResultType = new TypeToken<PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>>(){}.getType();
+
     /** Lists all outstanding invitations and group applications for an entity */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListMembershipOpportunitiesResponse> privateListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembershipOpportunities"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembershipOpportunities"), request, "X-EntityToken", PlayFabSettings.EntityToken, ListMembershipOpportunitiesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1147,9 +1583,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = (PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>) httpResult;
         ListMembershipOpportunitiesResponse result = resultData.data;
 
         PlayFabResult<ListMembershipOpportunitiesResponse> pfResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
@@ -1162,9 +1597,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveGroupApplicationRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveGroupApplicationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveGroupApplicationAsync(request);
             }
@@ -1176,9 +1621,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveGroupApplicationRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveGroupApplication(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveGroupApplicationAsync(request);
             }
@@ -1187,16 +1642,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveGroupApplicationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Removes an application to join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateRemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken, RemoveGroupApplicationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1207,9 +1666,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1222,9 +1680,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveGroupInvitationRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveGroupInvitationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveGroupInvitationAsync(request);
             }
@@ -1236,9 +1704,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveGroupInvitationRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveGroupInvitation(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveGroupInvitationAsync(request);
             }
@@ -1247,16 +1725,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveGroupInvitationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Removes an invitation join a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateRemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken, RemoveGroupInvitationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1267,9 +1749,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1282,9 +1763,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveMembersRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveMembersAsync(final RemoveMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> RemoveMembersAsync(final RemoveMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveMembersAsync(request);
             }
@@ -1296,9 +1787,19 @@ public class PlayFabGroupsAPI {
      * @param request RemoveMembersRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveMembersAsync(request);
             }
@@ -1307,16 +1808,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveMembersResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Removes members from a group. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateRemoveMembersAsync(final RemoveMembersRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken, RemoveMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1327,9 +1832,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1342,9 +1846,19 @@ public class PlayFabGroupsAPI {
      * @param request UnblockEntityRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> UnblockEntityAsync(final UnblockEntityRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UnblockEntityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> UnblockEntityAsync(final UnblockEntityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUnblockEntityAsync(request);
             }
@@ -1356,9 +1870,19 @@ public class PlayFabGroupsAPI {
      * @param request UnblockEntityRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UnblockEntity(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUnblockEntityAsync(request);
             }
@@ -1367,16 +1891,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnblockEntityResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Unblocks a list of entities from joining a group */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateUnblockEntityAsync(final UnblockEntityRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UnblockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UnblockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken, UnblockEntityResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1387,9 +1915,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1402,9 +1929,19 @@ public class PlayFabGroupsAPI {
      * @param request UpdateGroupRequest
      * @return Async Task will return UpdateGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateGroupResponse>> UpdateGroupAsync(final UpdateGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateGroupResponse>>() {
+        return UpdateGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateGroupResponse>> UpdateGroupAsync(final UpdateGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupResponse>>() {
             public PlayFabResult<UpdateGroupResponse> call() throws Exception {
                 return privateUpdateGroupAsync(request);
             }
@@ -1416,9 +1953,19 @@ public class PlayFabGroupsAPI {
      * @param request UpdateGroupRequest
      * @return UpdateGroupResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request) {
-        FutureTask<PlayFabResult<UpdateGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateGroupResponse>>() {
+        return UpdateGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupResponse>>() {
             public PlayFabResult<UpdateGroupResponse> call() throws Exception {
                 return privateUpdateGroupAsync(request);
             }
@@ -1427,16 +1974,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateGroupResponse> exceptionResult = new PlayFabResult<UpdateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateGroupResultType = new TypeToken<PlayFabJsonSuccess<UpdateGroupResponse>>(){}.getType();
+
     /** Updates non-membership data about a group. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateGroupResponse> privateUpdateGroupAsync(final UpdateGroupRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken, UpdateGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1447,9 +1998,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupResponse> resultData = (PlayFabJsonSuccess<UpdateGroupResponse>) httpResult;
         UpdateGroupResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupResponse> pfResult = new PlayFabResult<UpdateGroupResponse>();
@@ -1462,9 +2012,19 @@ public class PlayFabGroupsAPI {
      * @param request UpdateGroupRoleRequest
      * @return Async Task will return UpdateGroupRoleResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateGroupRoleResponse>> UpdateRoleAsync(final UpdateGroupRoleRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+        return UpdateRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateGroupRoleResponse>> UpdateRoleAsync(final UpdateGroupRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
             public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
                 return privateUpdateRoleAsync(request);
             }
@@ -1476,9 +2036,19 @@ public class PlayFabGroupsAPI {
      * @param request UpdateGroupRoleRequest
      * @return UpdateGroupRoleResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request) {
-        FutureTask<PlayFabResult<UpdateGroupRoleResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+        return UpdateRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateGroupRoleResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
             public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
                 return privateUpdateRoleAsync(request);
             }
@@ -1487,16 +2057,20 @@ public class PlayFabGroupsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateGroupRoleResponse> exceptionResult = new PlayFabResult<UpdateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateRoleResultType = new TypeToken<PlayFabJsonSuccess<UpdateGroupRoleResponse>>(){}.getType();
+
     /** Updates metadata about a role. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateGroupRoleResponse> privateUpdateRoleAsync(final UpdateGroupRoleRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken, UpdateRoleResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1507,9 +2081,8 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = (PlayFabJsonSuccess<UpdateGroupRoleResponse>) httpResult;
         UpdateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupRoleResponse> pfResult = new PlayFabResult<UpdateGroupRoleResponse>();
@@ -0,0 +1,2117 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabGroupsModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * The Groups API is designed for any permanent or semi-permanent collections of Entities (players, or non-players). If you
+     * want to make Guilds/Clans/Corporations/etc., then you should use groups. Groups can also be used to make chatrooms,
+     * parties, or any other persistent collection of entities.
+     *
+     * Instance-scoped version of PlayFabGroupsAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabGroupsInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabGroupsInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabGroupsInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) {
+        return AcceptGroupApplicationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAcceptGroupApplicationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
+        return AcceptGroupApplication(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAcceptGroupApplicationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AcceptGroupApplicationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Accepts an outstanding invitation to to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateAcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/AcceptGroupApplication"), request, "X-EntityToken", authenticationContext.EntityToken, AcceptGroupApplicationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) {
+        return AcceptGroupInvitationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAcceptGroupInvitationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
+        return AcceptGroupInvitation(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAcceptGroupInvitationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AcceptGroupInvitationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Accepts an invitation to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateAcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/AcceptGroupInvitation"), request, "X-EntityToken", authenticationContext.EntityToken, AcceptGroupInvitationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> AddMembersAsync(final AddMembersRequest request) {
+        return AddMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> AddMembersAsync(final AddMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAddMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request) {
+        return AddMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAddMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddMembersResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Adds members to a group or role. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateAddMembersAsync(final AddMembersRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/AddMembers"), request, "X-EntityToken", authenticationContext.EntityToken, AddMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @return Async Task will return ApplyToGroupResponse
+     */
+    public FutureTask<PlayFabResult<ApplyToGroupResponse>> ApplyToGroupAsync(final ApplyToGroupRequest request) {
+        return ApplyToGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ApplyToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ApplyToGroupResponse>> ApplyToGroupAsync(final ApplyToGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+            public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
+                return privateApplyToGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @return ApplyToGroupResponse
+     */
+    public PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request) {
+        return ApplyToGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ApplyToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ApplyToGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+            public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
+                return privateApplyToGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ApplyToGroupResponse> exceptionResult = new PlayFabResult<ApplyToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ApplyToGroupResultType = new TypeToken<PlayFabJsonSuccess<ApplyToGroupResponse>>(){}.getType();
+
+    /** Applies to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ApplyToGroupResponse> privateApplyToGroupAsync(final ApplyToGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ApplyToGroup"), request, "X-EntityToken", authenticationContext.EntityToken, ApplyToGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ApplyToGroupResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = (PlayFabJsonSuccess<ApplyToGroupResponse>) httpResult;
+        ApplyToGroupResponse result = resultData.data;
+
+        PlayFabResult<ApplyToGroupResponse> pfResult = new PlayFabResult<ApplyToGroupResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> BlockEntityAsync(final BlockEntityRequest request) {
+        return BlockEntityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> BlockEntityAsync(final BlockEntityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateBlockEntityAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request) {
+        return BlockEntity(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateBlockEntityAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type BlockEntityResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Blocks a list of entities from joining a group. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateBlockEntityAsync(final BlockEntityRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/BlockEntity"), request, "X-EntityToken", authenticationContext.EntityToken, BlockEntityResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> ChangeMemberRoleAsync(final ChangeMemberRoleRequest request) {
+        return ChangeMemberRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> ChangeMemberRoleAsync(final ChangeMemberRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateChangeMemberRoleAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request) {
+        return ChangeMemberRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateChangeMemberRoleAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ChangeMemberRoleResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Changes the role membership of a list of entities from one role to another. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateChangeMemberRoleAsync(final ChangeMemberRoleRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ChangeMemberRole"), request, "X-EntityToken", authenticationContext.EntityToken, ChangeMemberRoleResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @return Async Task will return CreateGroupResponse
+     */
+    public FutureTask<PlayFabResult<CreateGroupResponse>> CreateGroupAsync(final CreateGroupRequest request) {
+        return CreateGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateGroupResponse>> CreateGroupAsync(final CreateGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupResponse>>() {
+            public PlayFabResult<CreateGroupResponse> call() throws Exception {
+                return privateCreateGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @return CreateGroupResponse
+     */
+    public PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request) {
+        return CreateGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupResponse>>() {
+            public PlayFabResult<CreateGroupResponse> call() throws Exception {
+                return privateCreateGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateGroupResponse> exceptionResult = new PlayFabResult<CreateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateGroupResponse>>(){}.getType();
+
+    /** Creates a new group. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateGroupResponse> privateCreateGroupAsync(final CreateGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/CreateGroup"), request, "X-EntityToken", authenticationContext.EntityToken, CreateGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateGroupResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateGroupResponse> resultData = (PlayFabJsonSuccess<CreateGroupResponse>) httpResult;
+        CreateGroupResponse result = resultData.data;
+
+        PlayFabResult<CreateGroupResponse> pfResult = new PlayFabResult<CreateGroupResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @return Async Task will return CreateGroupRoleResponse
+     */
+    public FutureTask<PlayFabResult<CreateGroupRoleResponse>> CreateRoleAsync(final CreateGroupRoleRequest request) {
+        return CreateRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateGroupRoleResponse>> CreateRoleAsync(final CreateGroupRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+            public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
+                return privateCreateRoleAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @return CreateGroupRoleResponse
+     */
+    public PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request) {
+        return CreateRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateGroupRoleResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+            public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
+                return privateCreateRoleAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateGroupRoleResponse> exceptionResult = new PlayFabResult<CreateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateRoleResultType = new TypeToken<PlayFabJsonSuccess<CreateGroupRoleResponse>>(){}.getType();
+
+    /** Creates a new group role. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateGroupRoleResponse> privateCreateRoleAsync(final CreateGroupRoleRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/CreateRole"), request, "X-EntityToken", authenticationContext.EntityToken, CreateRoleResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateGroupRoleResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = (PlayFabJsonSuccess<CreateGroupRoleResponse>) httpResult;
+        CreateGroupRoleResponse result = resultData.data;
+
+        PlayFabResult<CreateGroupRoleResponse> pfResult = new PlayFabResult<CreateGroupRoleResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteGroupAsync(final DeleteGroupRequest request) {
+        return DeleteGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteGroupAsync(final DeleteGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request) {
+        return DeleteGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteGroupResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Deletes a group and all roles, invitations, join requests, and blocks associated with it. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateDeleteGroupAsync(final DeleteGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/DeleteGroup"), request, "X-EntityToken", authenticationContext.EntityToken, DeleteGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteRoleAsync(final DeleteRoleRequest request) {
+        return DeleteRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteRoleAsync(final DeleteRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteRoleAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request) {
+        return DeleteRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteRoleAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteRoleResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Deletes an existing role in a group. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateDeleteRoleAsync(final DeleteRoleRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/DeleteRole"), request, "X-EntityToken", authenticationContext.EntityToken, DeleteRoleResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @return Async Task will return GetGroupResponse
+     */
+    public FutureTask<PlayFabResult<GetGroupResponse>> GetGroupAsync(final GetGroupRequest request) {
+        return GetGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetGroupResponse>> GetGroupAsync(final GetGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGroupResponse>>() {
+            public PlayFabResult<GetGroupResponse> call() throws Exception {
+                return privateGetGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @return GetGroupResponse
+     */
+    public PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request) {
+        return GetGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGroupResponse>>() {
+            public PlayFabResult<GetGroupResponse> call() throws Exception {
+                return privateGetGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetGroupResponse> exceptionResult = new PlayFabResult<GetGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetGroupResultType = new TypeToken<PlayFabJsonSuccess<GetGroupResponse>>(){}.getType();
+
+    /** Gets information about a group and its roles */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetGroupResponse> privateGetGroupAsync(final GetGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/GetGroup"), request, "X-EntityToken", authenticationContext.EntityToken, GetGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetGroupResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetGroupResponse> resultData = (PlayFabJsonSuccess<GetGroupResponse>) httpResult;
+        GetGroupResponse result = resultData.data;
+
+        PlayFabResult<GetGroupResponse> pfResult = new PlayFabResult<GetGroupResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @return Async Task will return InviteToGroupResponse
+     */
+    public FutureTask<PlayFabResult<InviteToGroupResponse>> InviteToGroupAsync(final InviteToGroupRequest request) {
+        return InviteToGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return InviteToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<InviteToGroupResponse>> InviteToGroupAsync(final InviteToGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InviteToGroupResponse>>() {
+            public PlayFabResult<InviteToGroupResponse> call() throws Exception {
+                return privateInviteToGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @return InviteToGroupResponse
+     */
+    public PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request) {
+        return InviteToGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return InviteToGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<InviteToGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InviteToGroupResponse>>() {
+            public PlayFabResult<InviteToGroupResponse> call() throws Exception {
+                return privateInviteToGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<InviteToGroupResponse> exceptionResult = new PlayFabResult<InviteToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type InviteToGroupResultType = new TypeToken<PlayFabJsonSuccess<InviteToGroupResponse>>(){}.getType();
+
+    /** Invites a player to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<InviteToGroupResponse> privateInviteToGroupAsync(final InviteToGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/InviteToGroup"), request, "X-EntityToken", authenticationContext.EntityToken, InviteToGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<InviteToGroupResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<InviteToGroupResponse> resultData = (PlayFabJsonSuccess<InviteToGroupResponse>) httpResult;
+        InviteToGroupResponse result = resultData.data;
+
+        PlayFabResult<InviteToGroupResponse> pfResult = new PlayFabResult<InviteToGroupResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @return Async Task will return IsMemberResponse
+     */
+    public FutureTask<PlayFabResult<IsMemberResponse>> IsMemberAsync(final IsMemberRequest request) {
+        return IsMemberAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IsMemberResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<IsMemberResponse>> IsMemberAsync(final IsMemberRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IsMemberResponse>>() {
+            public PlayFabResult<IsMemberResponse> call() throws Exception {
+                return privateIsMemberAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @return IsMemberResponse
+     */
+    public PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request) {
+        return IsMember(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IsMemberResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IsMemberResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IsMemberResponse>>() {
+            public PlayFabResult<IsMemberResponse> call() throws Exception {
+                return privateIsMemberAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<IsMemberResponse> exceptionResult = new PlayFabResult<IsMemberResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type IsMemberResultType = new TypeToken<PlayFabJsonSuccess<IsMemberResponse>>(){}.getType();
+
+    /** Checks to see if an entity is a member of a group or role within the group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<IsMemberResponse> privateIsMemberAsync(final IsMemberRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/IsMember"), request, "X-EntityToken", authenticationContext.EntityToken, IsMemberResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<IsMemberResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<IsMemberResponse> resultData = (PlayFabJsonSuccess<IsMemberResponse>) httpResult;
+        IsMemberResponse result = resultData.data;
+
+        PlayFabResult<IsMemberResponse> pfResult = new PlayFabResult<IsMemberResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @return Async Task will return ListGroupApplicationsResponse
+     */
+    public FutureTask<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplicationsAsync(final ListGroupApplicationsRequest request) {
+        return ListGroupApplicationsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupApplicationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplicationsAsync(final ListGroupApplicationsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+            public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
+                return privateListGroupApplicationsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @return ListGroupApplicationsResponse
+     */
+    public PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request) {
+        return ListGroupApplications(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupApplicationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupApplicationsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+            public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
+                return privateListGroupApplicationsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListGroupApplicationsResponse> exceptionResult = new PlayFabResult<ListGroupApplicationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListGroupApplicationsResultType = new TypeToken<PlayFabJsonSuccess<ListGroupApplicationsResponse>>(){}.getType();
+
+    /** Lists all outstanding requests to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListGroupApplicationsResponse> privateListGroupApplicationsAsync(final ListGroupApplicationsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListGroupApplications"), request, "X-EntityToken", authenticationContext.EntityToken, ListGroupApplicationsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListGroupApplicationsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = (PlayFabJsonSuccess<ListGroupApplicationsResponse>) httpResult;
+        ListGroupApplicationsResponse result = resultData.data;
+
+        PlayFabResult<ListGroupApplicationsResponse> pfResult = new PlayFabResult<ListGroupApplicationsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @return Async Task will return ListGroupBlocksResponse
+     */
+    public FutureTask<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocksAsync(final ListGroupBlocksRequest request) {
+        return ListGroupBlocksAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupBlocksResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocksAsync(final ListGroupBlocksRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+            public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
+                return privateListGroupBlocksAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @return ListGroupBlocksResponse
+     */
+    public PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request) {
+        return ListGroupBlocks(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupBlocksResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupBlocksResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+            public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
+                return privateListGroupBlocksAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListGroupBlocksResponse> exceptionResult = new PlayFabResult<ListGroupBlocksResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListGroupBlocksResultType = new TypeToken<PlayFabJsonSuccess<ListGroupBlocksResponse>>(){}.getType();
+
+    /** Lists all entities blocked from joining a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListGroupBlocksResponse> privateListGroupBlocksAsync(final ListGroupBlocksRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListGroupBlocks"), request, "X-EntityToken", authenticationContext.EntityToken, ListGroupBlocksResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListGroupBlocksResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = (PlayFabJsonSuccess<ListGroupBlocksResponse>) httpResult;
+        ListGroupBlocksResponse result = resultData.data;
+
+        PlayFabResult<ListGroupBlocksResponse> pfResult = new PlayFabResult<ListGroupBlocksResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @return Async Task will return ListGroupInvitationsResponse
+     */
+    public FutureTask<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitationsAsync(final ListGroupInvitationsRequest request) {
+        return ListGroupInvitationsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupInvitationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitationsAsync(final ListGroupInvitationsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+            public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
+                return privateListGroupInvitationsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @return ListGroupInvitationsResponse
+     */
+    public PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request) {
+        return ListGroupInvitations(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupInvitationsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupInvitationsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+            public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
+                return privateListGroupInvitationsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListGroupInvitationsResponse> exceptionResult = new PlayFabResult<ListGroupInvitationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListGroupInvitationsResultType = new TypeToken<PlayFabJsonSuccess<ListGroupInvitationsResponse>>(){}.getType();
+
+    /** Lists all outstanding invitations for a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListGroupInvitationsResponse> privateListGroupInvitationsAsync(final ListGroupInvitationsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListGroupInvitations"), request, "X-EntityToken", authenticationContext.EntityToken, ListGroupInvitationsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListGroupInvitationsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = (PlayFabJsonSuccess<ListGroupInvitationsResponse>) httpResult;
+        ListGroupInvitationsResponse result = resultData.data;
+
+        PlayFabResult<ListGroupInvitationsResponse> pfResult = new PlayFabResult<ListGroupInvitationsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @return Async Task will return ListGroupMembersResponse
+     */
+    public FutureTask<PlayFabResult<ListGroupMembersResponse>> ListGroupMembersAsync(final ListGroupMembersRequest request) {
+        return ListGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListGroupMembersResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListGroupMembersResponse>> ListGroupMembersAsync(final ListGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+            public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
+                return privateListGroupMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @return ListGroupMembersResponse
+     */
+    public PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request) {
+        return ListGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListGroupMembersResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListGroupMembersResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+            public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
+                return privateListGroupMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListGroupMembersResponse> exceptionResult = new PlayFabResult<ListGroupMembersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<ListGroupMembersResponse>>(){}.getType();
+
+    /** Lists all members for a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListGroupMembersResponse> privateListGroupMembersAsync(final ListGroupMembersRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListGroupMembers"), request, "X-EntityToken", authenticationContext.EntityToken, ListGroupMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListGroupMembersResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = (PlayFabJsonSuccess<ListGroupMembersResponse>) httpResult;
+        ListGroupMembersResponse result = resultData.data;
+
+        PlayFabResult<ListGroupMembersResponse> pfResult = new PlayFabResult<ListGroupMembersResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @return Async Task will return ListMembershipResponse
+     */
+    public FutureTask<PlayFabResult<ListMembershipResponse>> ListMembershipAsync(final ListMembershipRequest request) {
+        return ListMembershipAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListMembershipResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListMembershipResponse>> ListMembershipAsync(final ListMembershipRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipResponse>>() {
+            public PlayFabResult<ListMembershipResponse> call() throws Exception {
+                return privateListMembershipAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @return ListMembershipResponse
+     */
+    public PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request) {
+        return ListMembership(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListMembershipResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListMembershipResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipResponse>>() {
+            public PlayFabResult<ListMembershipResponse> call() throws Exception {
+                return privateListMembershipAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListMembershipResponse> exceptionResult = new PlayFabResult<ListMembershipResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListMembershipResultType = new TypeToken<PlayFabJsonSuccess<ListMembershipResponse>>(){}.getType();
+
+    /** Lists all groups and roles for an entity */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListMembershipResponse> privateListMembershipAsync(final ListMembershipRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListMembership"), request, "X-EntityToken", authenticationContext.EntityToken, ListMembershipResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListMembershipResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListMembershipResponse> resultData = (PlayFabJsonSuccess<ListMembershipResponse>) httpResult;
+        ListMembershipResponse result = resultData.data;
+
+        PlayFabResult<ListMembershipResponse> pfResult = new PlayFabResult<ListMembershipResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @return Async Task will return ListMembershipOpportunitiesResponse
+     */
+    public FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) {
+        return ListMembershipOpportunitiesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListMembershipOpportunitiesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+            public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
+                return privateListMembershipOpportunitiesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @return ListMembershipOpportunitiesResponse
+     */
+    public PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
+        return ListMembershipOpportunities(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListMembershipOpportunitiesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+            public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
+                return privateListMembershipOpportunitiesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListMembershipOpportunitiesResponse> exceptionResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListMembershipOpportunitiesResultType = new TypeToken<PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>>(){}.getType();
+
+    /** Lists all outstanding invitations and group applications for an entity */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListMembershipOpportunitiesResponse> privateListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/ListMembershipOpportunities"), request, "X-EntityToken", authenticationContext.EntityToken, ListMembershipOpportunitiesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListMembershipOpportunitiesResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = (PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>) httpResult;
+        ListMembershipOpportunitiesResponse result = resultData.data;
+
+        PlayFabResult<ListMembershipOpportunitiesResponse> pfResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) {
+        return RemoveGroupApplicationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveGroupApplicationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
+        return RemoveGroupApplication(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveGroupApplicationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveGroupApplicationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Removes an application to join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateRemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/RemoveGroupApplication"), request, "X-EntityToken", authenticationContext.EntityToken, RemoveGroupApplicationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) {
+        return RemoveGroupInvitationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveGroupInvitationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
+        return RemoveGroupInvitation(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveGroupInvitationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveGroupInvitationResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Removes an invitation join a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateRemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/RemoveGroupInvitation"), request, "X-EntityToken", authenticationContext.EntityToken, RemoveGroupInvitationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveMembersAsync(final RemoveMembersRequest request) {
+        return RemoveMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveMembersAsync(final RemoveMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request) {
+        return RemoveMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveMembersResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Removes members from a group. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateRemoveMembersAsync(final RemoveMembersRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/RemoveMembers"), request, "X-EntityToken", authenticationContext.EntityToken, RemoveMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> UnblockEntityAsync(final UnblockEntityRequest request) {
+        return UnblockEntityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> UnblockEntityAsync(final UnblockEntityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUnblockEntityAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request) {
+        return UnblockEntity(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUnblockEntityAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnblockEntityResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Unblocks a list of entities from joining a group */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateUnblockEntityAsync(final UnblockEntityRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/UnblockEntity"), request, "X-EntityToken", authenticationContext.EntityToken, UnblockEntityResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @return Async Task will return UpdateGroupResponse
+     */
+    public FutureTask<PlayFabResult<UpdateGroupResponse>> UpdateGroupAsync(final UpdateGroupRequest request) {
+        return UpdateGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateGroupResponse>> UpdateGroupAsync(final UpdateGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupResponse>>() {
+            public PlayFabResult<UpdateGroupResponse> call() throws Exception {
+                return privateUpdateGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @return UpdateGroupResponse
+     */
+    public PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request) {
+        return UpdateGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateGroupResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateGroupResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupResponse>>() {
+            public PlayFabResult<UpdateGroupResponse> call() throws Exception {
+                return privateUpdateGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateGroupResponse> exceptionResult = new PlayFabResult<UpdateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateGroupResultType = new TypeToken<PlayFabJsonSuccess<UpdateGroupResponse>>(){}.getType();
+
+    /** Updates non-membership data about a group. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateGroupResponse> privateUpdateGroupAsync(final UpdateGroupRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/UpdateGroup"), request, "X-EntityToken", authenticationContext.EntityToken, UpdateGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateGroupResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateGroupResponse> resultData = (PlayFabJsonSuccess<UpdateGroupResponse>) httpResult;
+        UpdateGroupResponse result = resultData.data;
+
+        PlayFabResult<UpdateGroupResponse> pfResult = new PlayFabResult<UpdateGroupResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @return Async Task will return UpdateGroupRoleResponse
+     */
+    public FutureTask<PlayFabResult<UpdateGroupRoleResponse>> UpdateRoleAsync(final UpdateGroupRoleRequest request) {
+        return UpdateRoleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateGroupRoleResponse>> UpdateRoleAsync(final UpdateGroupRoleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+            public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
+                return privateUpdateRoleAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @return UpdateGroupRoleResponse
+     */
+    public PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request) {
+        return UpdateRole(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateGroupRoleResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateGroupRoleResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+            public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
+                return privateUpdateRoleAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateGroupRoleResponse> exceptionResult = new PlayFabResult<UpdateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateRoleResultType = new TypeToken<PlayFabJsonSuccess<UpdateGroupRoleResponse>>(){}.getType();
+
+    /** Updates metadata about a role. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateGroupRoleResponse> privateUpdateRoleAsync(final UpdateGroupRoleRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Group/UpdateRole"), request, "X-EntityToken", authenticationContext.EntityToken, UpdateRoleResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateGroupRoleResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = (PlayFabJsonSuccess<UpdateGroupRoleResponse>) httpResult;
+        UpdateGroupRoleResponse result = resultData.data;
+
+        PlayFabResult<UpdateGroupRoleResponse> pfResult = new PlayFabResult<UpdateGroupRoleResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
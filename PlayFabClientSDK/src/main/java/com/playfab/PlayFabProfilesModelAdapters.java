@@ -0,0 +1,865 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabProfilesModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabProfilesModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabProfilesModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new EntityDataObjectAdapter(gson);
+                case 1: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 2: return (TypeAdapter<T>) new EntityPermissionStatementAdapter(gson);
+                case 3: return (TypeAdapter<T>) new EntityProfileBodyAdapter(gson);
+                case 4: return (TypeAdapter<T>) new EntityProfileFileMetadataAdapter(gson);
+                case 5: return (TypeAdapter<T>) new GetEntityProfileRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new GetEntityProfileResponseAdapter(gson);
+                case 7: return (TypeAdapter<T>) new GetEntityProfilesRequestAdapter(gson);
+                case 8: return (TypeAdapter<T>) new GetEntityProfilesResponseAdapter(gson);
+                case 9: return (TypeAdapter<T>) new GetGlobalPolicyRequestAdapter(gson);
+                case 10: return (TypeAdapter<T>) new GetGlobalPolicyResponseAdapter(gson);
+                case 11: return (TypeAdapter<T>) new SetEntityProfilePolicyRequestAdapter(gson);
+                case 12: return (TypeAdapter<T>) new SetEntityProfilePolicyResponseAdapter(gson);
+                case 13: return (TypeAdapter<T>) new SetGlobalPolicyRequestAdapter(gson);
+                case 14: return (TypeAdapter<T>) new SetGlobalPolicyResponseAdapter(gson);
+                case 15: return (TypeAdapter<T>) new SetProfileLanguageRequestAdapter(gson);
+                case 16: return (TypeAdapter<T>) new SetProfileLanguageResponseAdapter(gson);
+                case 17: return (TypeAdapter<T>) EffectTypeAdapter;
+                case 18: return (TypeAdapter<T>) OperationTypesAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(EntityDataObject.class, 0);
+        ids.put(EntityKey.class, 1);
+        ids.put(EntityPermissionStatement.class, 2);
+        ids.put(EntityProfileBody.class, 3);
+        ids.put(EntityProfileFileMetadata.class, 4);
+        ids.put(GetEntityProfileRequest.class, 5);
+        ids.put(GetEntityProfileResponse.class, 6);
+        ids.put(GetEntityProfilesRequest.class, 7);
+        ids.put(GetEntityProfilesResponse.class, 8);
+        ids.put(GetGlobalPolicyRequest.class, 9);
+        ids.put(GetGlobalPolicyResponse.class, 10);
+        ids.put(SetEntityProfilePolicyRequest.class, 11);
+        ids.put(SetEntityProfilePolicyResponse.class, 12);
+        ids.put(SetGlobalPolicyRequest.class, 13);
+        ids.put(SetGlobalPolicyResponse.class, 14);
+        ids.put(SetProfileLanguageRequest.class, 15);
+        ids.put(SetProfileLanguageResponse.class, 16);
+        ids.put(EffectType.class, 17);
+        ids.put(OperationTypes.class, 18);
+    }
+
+    static final class EntityDataObjectAdapter extends TypeAdapter<EntityDataObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        EntityDataObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, EntityDataObject value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataObject != null) {
+                out.name("DataObject");
+                objectAdapter.write(out, value.DataObject);
+            }
+            if (value.EscapedDataObject != null) {
+                out.name("EscapedDataObject");
+                out.value(value.EscapedDataObject);
+            }
+            if (value.ObjectName != null) {
+                out.name("ObjectName");
+                out.value(value.ObjectName);
+            }
+            out.endObject();
+        }
+
+        public EntityDataObject read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityDataObject value = new EntityDataObject();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                    case "EscapedDataObject": value.EscapedDataObject = PlayFabModelAdapters.readString(in); break;
+                    case "ObjectName": value.ObjectName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityPermissionStatementAdapter extends TypeAdapter<EntityPermissionStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        EntityPermissionStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        public void write(JsonWriter out, EntityPermissionStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Action != null) {
+                out.name("Action");
+                out.value(value.Action);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.Condition != null) {
+                out.name("Condition");
+                objectAdapter.write(out, value.Condition);
+            }
+            if (value.Effect != null) {
+                out.name("Effect");
+                effectTypeAdapter.write(out, value.Effect);
+            }
+            if (value.Principal != null) {
+                out.name("Principal");
+                objectAdapter.write(out, value.Principal);
+            }
+            if (value.Resource != null) {
+                out.name("Resource");
+                out.value(value.Resource);
+            }
+            out.endObject();
+        }
+
+        public EntityPermissionStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityPermissionStatement value = new EntityPermissionStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Action": value.Action = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "Condition": value.Condition = objectAdapter.read(in); break;
+                    case "Effect": value.Effect = effectTypeAdapter.read(in); break;
+                    case "Principal": value.Principal = objectAdapter.read(in); break;
+                    case "Resource": value.Resource = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityProfileBodyAdapter extends TypeAdapter<EntityProfileBody> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityProfileFileMetadata> entityProfileFileMetadataAdapter;
+        private final TypeAdapter<EntityDataObject> entityDataObjectAdapter;
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        EntityProfileBodyAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityProfileFileMetadataAdapter = gson.getAdapter(EntityProfileFileMetadata.class);
+            entityDataObjectAdapter = gson.getAdapter(EntityDataObject.class);
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, EntityProfileBody value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.EntityChain != null) {
+                out.name("EntityChain");
+                out.value(value.EntityChain);
+            }
+            if (value.Files != null) {
+                out.name("Files");
+                PlayFabModelAdapters.writeMap(out, value.Files, entityProfileFileMetadataAdapter);
+            }
+            if (value.Language != null) {
+                out.name("Language");
+                out.value(value.Language);
+            }
+            if (value.Objects != null) {
+                out.name("Objects");
+                PlayFabModelAdapters.writeMap(out, value.Objects, entityDataObjectAdapter);
+            }
+            if (value.Permissions != null) {
+                out.name("Permissions");
+                PlayFabModelAdapters.writeList(out, value.Permissions, entityPermissionStatementAdapter);
+            }
+            if (value.VersionNumber != null) {
+                out.name("VersionNumber");
+                out.value(value.VersionNumber);
+            }
+            out.endObject();
+        }
+
+        public EntityProfileBody read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityProfileBody value = new EntityProfileBody();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "EntityChain": value.EntityChain = PlayFabModelAdapters.readString(in); break;
+                    case "Files": value.Files = PlayFabModelAdapters.readMap(in, entityProfileFileMetadataAdapter); break;
+                    case "Language": value.Language = PlayFabModelAdapters.readString(in); break;
+                    case "Objects": value.Objects = PlayFabModelAdapters.readMap(in, entityDataObjectAdapter); break;
+                    case "Permissions": value.Permissions = PlayFabModelAdapters.readList(in, entityPermissionStatementAdapter); break;
+                    case "VersionNumber": value.VersionNumber = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityProfileFileMetadataAdapter extends TypeAdapter<EntityProfileFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityProfileFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, EntityProfileFileMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Checksum != null) {
+                out.name("Checksum");
+                out.value(value.Checksum);
+            }
+            if (value.FileName != null) {
+                out.name("FileName");
+                out.value(value.FileName);
+            }
+            if (value.LastModified != null) {
+                out.name("LastModified");
+                dateAdapter.write(out, value.LastModified);
+            }
+            if (value.Size != null) {
+                out.name("Size");
+                out.value(value.Size);
+            }
+            out.endObject();
+        }
+
+        public EntityProfileFileMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityProfileFileMetadata value = new EntityProfileFileMetadata();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Checksum": value.Checksum = PlayFabModelAdapters.readString(in); break;
+                    case "FileName": value.FileName = PlayFabModelAdapters.readString(in); break;
+                    case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                    case "Size": value.Size = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityProfileRequestAdapter extends TypeAdapter<GetEntityProfileRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityProfileRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetEntityProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataAsObject != null) {
+                out.name("DataAsObject");
+                out.value(value.DataAsObject.booleanValue());
+            }
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            out.endObject();
+        }
+
+        public GetEntityProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfileRequest value = new GetEntityProfileRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataAsObject": value.DataAsObject = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityProfileResponseAdapter extends TypeAdapter<GetEntityProfileResponse> {
+        private final TypeAdapter<EntityProfileBody> entityProfileBodyAdapter;
+
+        GetEntityProfileResponseAdapter(Gson gson) {
+            entityProfileBodyAdapter = gson.getAdapter(EntityProfileBody.class);
+        }
+
+        public void write(JsonWriter out, GetEntityProfileResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Profile != null) {
+                out.name("Profile");
+                entityProfileBodyAdapter.write(out, value.Profile);
+            }
+            out.endObject();
+        }
+
+        public GetEntityProfileResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfileResponse value = new GetEntityProfileResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Profile": value.Profile = entityProfileBodyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityProfilesRequestAdapter extends TypeAdapter<GetEntityProfilesRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityProfilesRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, GetEntityProfilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataAsObject != null) {
+                out.name("DataAsObject");
+                out.value(value.DataAsObject.booleanValue());
+            }
+            if (value.Entities != null) {
+                out.name("Entities");
+                PlayFabModelAdapters.writeList(out, value.Entities, entityKeyAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetEntityProfilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfilesRequest value = new GetEntityProfilesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataAsObject": value.DataAsObject = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Entities": value.Entities = PlayFabModelAdapters.readList(in, entityKeyAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetEntityProfilesResponseAdapter extends TypeAdapter<GetEntityProfilesResponse> {
+        private final TypeAdapter<EntityProfileBody> entityProfileBodyAdapter;
+
+        GetEntityProfilesResponseAdapter(Gson gson) {
+            entityProfileBodyAdapter = gson.getAdapter(EntityProfileBody.class);
+        }
+
+        public void write(JsonWriter out, GetEntityProfilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Profiles != null) {
+                out.name("Profiles");
+                PlayFabModelAdapters.writeList(out, value.Profiles, entityProfileBodyAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetEntityProfilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfilesResponse value = new GetEntityProfilesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Profiles": value.Profiles = PlayFabModelAdapters.readList(in, entityProfileBodyAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetGlobalPolicyRequestAdapter extends TypeAdapter<GetGlobalPolicyRequest> {
+        GetGlobalPolicyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetGlobalPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetGlobalPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGlobalPolicyRequest value = new GetGlobalPolicyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetGlobalPolicyResponseAdapter extends TypeAdapter<GetGlobalPolicyResponse> {
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        GetGlobalPolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, GetGlobalPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Permissions != null) {
+                out.name("Permissions");
+                PlayFabModelAdapters.writeList(out, value.Permissions, entityPermissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetGlobalPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGlobalPolicyResponse value = new GetGlobalPolicyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Permissions": value.Permissions = PlayFabModelAdapters.readList(in, entityPermissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetEntityProfilePolicyRequestAdapter extends TypeAdapter<SetEntityProfilePolicyRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        SetEntityProfilePolicyRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, SetEntityProfilePolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.Statements != null) {
+                out.name("Statements");
+                PlayFabModelAdapters.writeList(out, value.Statements, entityPermissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public SetEntityProfilePolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetEntityProfilePolicyRequest value = new SetEntityProfilePolicyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "Statements": value.Statements = PlayFabModelAdapters.readList(in, entityPermissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetEntityProfilePolicyResponseAdapter extends TypeAdapter<SetEntityProfilePolicyResponse> {
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        SetEntityProfilePolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, SetEntityProfilePolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Permissions != null) {
+                out.name("Permissions");
+                PlayFabModelAdapters.writeList(out, value.Permissions, entityPermissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public SetEntityProfilePolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetEntityProfilePolicyResponse value = new SetEntityProfilePolicyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Permissions": value.Permissions = PlayFabModelAdapters.readList(in, entityPermissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGlobalPolicyRequestAdapter extends TypeAdapter<SetGlobalPolicyRequest> {
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        SetGlobalPolicyRequestAdapter(Gson gson) {
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, SetGlobalPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Permissions != null) {
+                out.name("Permissions");
+                PlayFabModelAdapters.writeList(out, value.Permissions, entityPermissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public SetGlobalPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGlobalPolicyRequest value = new SetGlobalPolicyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Permissions": value.Permissions = PlayFabModelAdapters.readList(in, entityPermissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGlobalPolicyResponseAdapter extends TypeAdapter<SetGlobalPolicyResponse> {
+        SetGlobalPolicyResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGlobalPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetGlobalPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGlobalPolicyResponse value = new SetGlobalPolicyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetProfileLanguageRequestAdapter extends TypeAdapter<SetProfileLanguageRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        SetProfileLanguageRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, SetProfileLanguageRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.ExpectedVersion != null) {
+                out.name("ExpectedVersion");
+                out.value(value.ExpectedVersion);
+            }
+            if (value.Language != null) {
+                out.name("Language");
+                out.value(value.Language);
+            }
+            out.endObject();
+        }
+
+        public SetProfileLanguageRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetProfileLanguageRequest value = new SetProfileLanguageRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "ExpectedVersion": value.ExpectedVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "Language": value.Language = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetProfileLanguageResponseAdapter extends TypeAdapter<SetProfileLanguageResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        SetProfileLanguageResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        public void write(JsonWriter out, SetProfileLanguageResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OperationResult != null) {
+                out.name("OperationResult");
+                operationTypesAdapter.write(out, value.OperationResult);
+            }
+            if (value.VersionNumber != null) {
+                out.name("VersionNumber");
+                out.value(value.VersionNumber);
+            }
+            out.endObject();
+        }
+
+        public SetProfileLanguageResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetProfileLanguageResponse value = new SetProfileLanguageResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OperationResult": value.OperationResult = operationTypesAdapter.read(in); break;
+                    case "VersionNumber": value.VersionNumber = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<EffectType> EffectTypeAdapter = new TypeAdapter<EffectType>() {
+        public void write(JsonWriter out, EffectType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public EffectType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Allow": return EffectType.Allow;
+                case "Deny": return EffectType.Deny;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<OperationTypes> OperationTypesAdapter = new TypeAdapter<OperationTypes>() {
+        public void write(JsonWriter out, OperationTypes value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public OperationTypes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Created": return OperationTypes.Created;
+                case "Updated": return OperationTypes.Updated;
+                case "Deleted": return OperationTypes.Deleted;
+                case "None": return OperationTypes.None;
+                default: return null;
+            }
+        }
+    };
+}
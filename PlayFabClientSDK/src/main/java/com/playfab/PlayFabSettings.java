@@ -4,6 +4,7 @@ import java.lang.StringBuilder;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.playfab.PlayFabErrors.ErrorCallback;
 
@@ -35,15 +36,73 @@ public class PlayFabSettings {
     public static final String AD_TYPE_IDFA = "Idfa";
     public static final String AD_TYPE_ANDROID_ID = "Adid";
 
+    // Transport and execution (see PlayFabHTTP.getConnectionStats, PlayFabHTTP.prewarm and PlayFabAsync)
+    public static int MaxConnectionsPerHost = 20; // Upper bound on concurrent calls to a single PlayFab host. The JDK keep-alive cache size is the app's http.maxConnections
+    public static long ConnectionAcquireTimeoutMs = 30000; // How long a call waits for a free connection when the host is at MaxConnectionsPerHost
+    public static boolean KeepAlive = true; // Reuse connections between calls instead of paying for a new TLS handshake each time
+    public static boolean PreferHttp2 = true; // On Java 11+ runtimes, multiplex every call over one HTTP/2 connection per host. Must be set before the first API call
+    public static ExecutorService AsyncExecutor = null; // Runs calls started with PlayFabAsync.submit, and the SDK's background work. When null, a shared pool of daemon threads is used
+    public static boolean UseVirtualThreads = false; // On JDK 21+, PlayFabAsync runs each call and background task on its own virtual thread (ignored when AsyncExecutor is set)
+    public static boolean StreamRequestBodies = false; // Serialize requests directly into the connection (chunked), rather than into a reused per-thread buffer (fixed length). Helps very large bodies; needs a proxy path that accepts chunked requests
+    public static boolean RecordMetrics = true; // Aggregate per-endpoint latency, size and outcome histograms, read with PlayFabHTTP.getMetrics().snapshot()
+
+    // Timeouts (each generated API method also takes a timeoutMs per call)
+    public static long ConnectTimeoutMs = 10000; // Establishing a connection, including the TLS handshake; 0 waits indefinitely
+    public static long ReadTimeoutMs = 30000; // Waiting for PlayFab's response, and for each read of its body; 0 waits indefinitely
+    public static long CallTimeoutMs = 60000; // Deadline for a whole call including retries, counted from when it starts running; 0 for none
+
+    // Retries (see PlayFabHTTP.getRetryPolicy: writes are only retried when PlayFab never ran them, reads also on 5xx and timeouts)
+    public static int RetryMaxAttempts = 3; // Attempts per call, including the first; 1 disables retries
+    public static long RetryBaseDelayMs = 100; // The shortest delay before a retry
+    public static long RetryMaxDelayMs = 5000; // The longest delay before a retry, unless PlayFab asks for a longer one
+    public static long RetryBudgetMs = 15000; // A call stops retrying when the next attempt would start this long after the call did
+    public static int RetryTokenBucketSize = 100; // Retry tokens shared by every call: retries stop while the bucket is empty
+    public static int RetryTokenCost = 5; // Tokens a retry spends; each successful call returns one
+
+    // Circuit breaker (see PlayFabHTTP.getCircuitBreaker; circuit states also appear in PlayFabHTTP.getMetrics().snapshot())
+    public static boolean CircuitBreakerEnabled = true; // Fail calls to an API path fast while it is failing or stalling
+    public static int CircuitWindowSize = 50; // The most recent calls per API path that decide whether its circuit opens
+    public static int CircuitMinimumCalls = 20; // A circuit never opens on fewer calls than this
+    public static double CircuitFailureRateThreshold = 0.5; // The share of failed calls in the window that opens the circuit
+    public static long CircuitSlowCallMs = 10000; // Calls that take longer than this count as slow
+    public static double CircuitSlowCallRateThreshold = 0.8; // The share of slow calls in the window that opens the circuit
+    public static long CircuitOpenMs = 15000; // How long an open circuit rejects calls before letting trial calls through
+    public static int CircuitHalfOpenCalls = 3; // Trial calls that must all succeed to close the circuit again
+
+    // Hedged reads (see PlayFabHTTP.getHedgePolicy, which lists the idempotent reads that may be hedged)
+    public static boolean HedgeReads = false; // Send a second request for a slow read, and use whichever answers first. Needs RecordMetrics
+    public static double HedgeQuantile = 0.95; // A read is hedged once it has taken longer than this quantile of its path's latency
+    public static long HedgeMinCalls = 100; // Reads of a path are not hedged until it has this many measured calls
+    public static double HedgeBudgetPercent = 5; // Hedges may add at most this percentage of extra hedgeable calls
+    public static int HedgeMaxBurst = 10; // The most hedges the budget can save up for a burst of slow reads
+
+    // Read coalescing (see PlayFabHTTP.getSingleFlight, which lists the reads that may be coalesced)
+    public static boolean CoalesceReads = false; // Identical concurrent reads share one call; each caller gets its own copy of the result
+
+    // Title data cache (see PlayFabHTTP.getTitleDataCache, which sets per-key TTLs and invalidates keys written outside the SDK)
+    public static boolean CacheTitleData = false; // Serve GetTitleData, GetTitleInternalData and GetPublisherData reads from memory
+    public static long TitleDataCacheTtlMs = 60000; // How long a cached value is served as is
+    public static long TitleDataCacheStaleMs = 300000; // How much longer an expired value is served while it is refreshed in the background
+    public static int TitleDataCacheMaxStores = 1000; // Caches kept per title, data store and credential; the least recently read are dropped beyond this
+
+    // Session ticket cache (see PlayFabHTTP.getSessionTicketCache)
+    public static boolean CacheSessionTickets = false; // Answer repeated AuthenticateSessionTicket validations of a ticket from memory
+    public static long SessionTicketCacheTtlMs = 300000; // How long a validated ticket is trusted without asking PlayFab again
+    public static int SessionTicketCacheMaxEntries = 10000; // The least recently validated tickets are evicted beyond this
+
     public static String GetURL(String apiCall) {
+        return GetURL(ProductionEnvironmentUrl, VerticalName, TitleId, apiCall);
+    }
+
+    static String GetURL(String productionEnvironmentUrl, String verticalName, String titleId, String apiCall) {
         StringBuilder sb = new StringBuilder(1000);
 
-        String baseUrl = ProductionEnvironmentUrl;
+        String baseUrl = productionEnvironmentUrl;
         if (!baseUrl.startsWith("http")) {
-            if (VerticalName != null) {
-                sb.append("https://").append(VerticalName);
+            if (verticalName != null) {
+                sb.append("https://").append(verticalName);
             } else {
-                sb.append("https://").append(TitleId);
+                sb.append("https://").append(titleId);
             }
         }
 
@@ -0,0 +1,233 @@
+package com.playfab.internal;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Bulkheads between classes of API calls: each Compartment bounds how many calls may be in flight at once, and how many
+ * may queue for a slot, so one class of traffic can never take every connection and thread from the others. API paths
+ * are assigned to compartments by prefix (the longest matching prefix wins), either by family or one endpoint at a time:
+ *     bulkheads.define("interactive", 40, 200);
+ *     bulkheads.define("bulk", 4, 20);
+ *     bulkheads.assign("/Server/AuthenticateSessionTicket", "interactive");
+ *     bulkheads.assign("/Admin/", "bulk");
+ *     bulkheads.assign("/Server/GetPlayersInSegment", "bulk");
+ * Paths without an assigned compartment are not bounded. Queued calls get slots in arrival order, and a call arriving
+ * while others queue joins the back of the queue, so none can be starved. A call that finds its compartment's queue full,
+ * waits longer than its maxWaitMs, or is cancelled while it waits, returns APIConcurrentRequestLimitExceeded with httpCode
+ * 0, and is not retried
+ */
+public class PlayFabBulkheads {
+    private final ConcurrentHashMap<String, Compartment> compartments = new ConcurrentHashMap<String, Compartment>();
+    private final ConcurrentHashMap<String, String> assignments = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Adds or replaces a compartment; calls already holding a slot in the one it replaces finish unaffected
+     * @param maxConcurrent Calls that may be in flight at once
+     * @param maxQueued Calls that may wait for a slot; any more are rejected at once
+     */
+    public Compartment define(String name, int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1)
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        Compartment compartment = new Compartment(name, maxConcurrent, Math.max(0, maxQueued));
+        compartments.put(name, compartment);
+        return compartment;
+    }
+
+    public void remove(String name) {
+        compartments.remove(name);
+    }
+
+    /** Sends calls to every API path starting with pathPrefix through the named compartment */
+    public void assign(String pathPrefix, String compartmentName) {
+        assignments.put(pathPrefix, compartmentName);
+    }
+
+    public void unassign(String pathPrefix) {
+        assignments.remove(pathPrefix);
+    }
+
+    /** The compartment that bounds calls to a path, or null when they are not bounded */
+    public Compartment forPath(String path) {
+        if (assignments.isEmpty())
+            return null;
+        String match = null;
+        int matchLength = -1;
+        for (Map.Entry<String, String> pair : assignments.entrySet()) {
+            String prefix = pair.getKey();
+            if (path.startsWith(prefix) && prefix.length() > matchLength) {
+                match = pair.getValue();
+                matchLength = prefix.length();
+            }
+        }
+        return match != null ? compartments.get(match) : null;
+    }
+
+    public Map<String, CompartmentStats> getStats() {
+        Map<String, CompartmentStats> output = new TreeMap<String, CompartmentStats>();
+        for (Compartment compartment : compartments.values())
+            output.put(compartment.name, compartment.stats());
+        return output;
+    }
+
+    public static class Compartment {
+        public final String name;
+        public final int maxConcurrent;
+        public final int maxQueued;
+        public volatile long maxWaitMs = 30000; // The longest a call queues for a slot before it is rejected
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<Waiter>();
+        private int active;
+        private int peakActive;
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong queuedCalls = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        Compartment(String name, int maxConcurrent, int maxQueued) {
+            this.name = name;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        }
+
+        /**
+         * Takes a slot, queueing for one when the compartment is full; every successful acquire must be followed by release
+         * @param deadline The call's deadline: the call never queues past it or maxWaitMs, and stops queueing when it is
+         *                 cancelled
+         * @return null when the call may proceed, or the error to return instead of making it
+         */
+        public PlayFabError acquire(PlayFabDeadline deadline) {
+            Waiter waiter;
+            lock.lock();
+            try {
+                if (active < maxConcurrent && waiters.isEmpty()) {
+                    addActive();
+                    return null;
+                }
+                if (waiters.size() >= maxQueued)
+                    return reject("Bulkhead " + name + " is full");
+                waiter = new Waiter();
+                waiters.addLast(waiter);
+                queuedCalls.incrementAndGet();
+            } finally {
+                lock.unlock();
+            }
+
+            // Cancelling the call wakes it, like any other I/O it has in flight
+            deadline.setInFlight(waiter);
+            lock.lock();
+            try {
+                try {
+                    long waitNanos = Math.min(deadline.remainingNanos(), TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+                    while (!waiter.granted && !waiter.cancelled && waitNanos > 0)
+                        waitNanos = waiter.woken.awaitNanos(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (waiter.granted)
+                    return null;
+                waiters.remove(waiter);
+            } finally {
+                lock.unlock();
+                deadline.clearInFlight(waiter);
+            }
+            return reject((waiter.cancelled ? "Cancelled" : "Timed out") + " queueing in bulkhead " + name);
+        }
+
+        /** Takes a slot only if one is free now, for optional work such as a hedged request; a miss is not counted as rejected */
+        public boolean tryAcquire() {
+            lock.lock();
+            try {
+                if (active >= maxConcurrent || !waiters.isEmpty())
+                    return false;
+                addActive();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Frees the slot, or hands it straight to the call that has queued longest */
+        public void release() {
+            completed.incrementAndGet();
+            lock.lock();
+            try {
+                Waiter next;
+                while ((next = waiters.pollFirst()) != null && next.cancelled) { }
+                if (next == null) {
+                    active--;
+                    return;
+                }
+                next.granted = true;
+                next.woken.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void addActive() {
+            active++;
+            peakActive = Math.max(peakActive, active);
+        }
+
+        private PlayFabError reject(String message) {
+            rejected.incrementAndGet();
+            return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.APIConcurrentRequestLimitExceeded, message, null);
+        }
+
+        CompartmentStats stats() {
+            CompartmentStats output = new CompartmentStats();
+            output.name = name;
+            output.maxConcurrent = maxConcurrent;
+            output.maxQueued = maxQueued;
+            lock.lock();
+            try {
+                output.active = active;
+                output.queued = waiters.size();
+                output.peakActive = peakActive;
+            } finally {
+                lock.unlock();
+            }
+            output.completed = completed.get();
+            output.queuedCalls = queuedCalls.get();
+            output.rejected = rejected.get();
+            return output;
+        }
+
+        /** A queued call, woken when release() hands it a slot or its call is cancelled */
+        private final class Waiter implements Closeable {
+            final Condition woken = lock.newCondition();
+            boolean granted;
+            boolean cancelled;
+
+            public void close() {
+                lock.lock();
+                try {
+                    cancelled = true;
+                    woken.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    public static class CompartmentStats {
+        public String name;
+        public int maxConcurrent;
+        public int maxQueued;
+        public int active; // Calls in flight now
+        public int queued; // Calls waiting for a slot now
+        public long peakActive;
+        public long completed;
+        public long queuedCalls; // Calls that had to wait for a slot
+        public long rejected;
+    }
+}
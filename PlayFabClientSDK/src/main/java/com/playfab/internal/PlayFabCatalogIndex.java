@@ -0,0 +1,267 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabErrors.PlayFabResult;
+
+/**
+ * One catalog version held in memory, with hash indexes on item id, item class, tag and bundle or container contents.
+ * Each load builds a new immutable Snapshot and swaps it in atomically, so lookups never lock, never see a half-built
+ * index, and can read several answers from the same catalog through getSnapshot(). PlayFabServerCatalog and
+ * PlayFabClientCatalog only say how to fetch the catalog; the items are read through the json codec, since every API
+ * has its own CatalogItem model with the same fields
+ */
+public abstract class PlayFabCatalogIndex<ItemT> {
+    private final Class<ItemT> itemType;
+    private final AtomicReference<Snapshot<ItemT>> current = new AtomicReference<Snapshot<ItemT>>();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong revisions = new AtomicLong();
+    private volatile String catalogVersion;
+
+    /**
+     * @param catalogVersion The catalog version to load, or null for the title's primary catalog
+     * @param itemType The CatalogItem model of the API the catalog is fetched through
+     */
+    protected PlayFabCatalogIndex(String catalogVersion, Class<ItemT> itemType) {
+        this.catalogVersion = catalogVersion;
+        this.itemType = itemType;
+    }
+
+    /** Calls GetCatalogItems for a catalog version, returning its result as the API did */
+    protected abstract PlayFabResult<?> fetch(String catalogVersion);
+
+    /**
+     * Reloads the current catalog version; lookups keep using the previous snapshot until the new one is built. PlayFab
+     * gives catalogs no version stamp, so the reload always fetches every item, but when they are the same as the snapshot
+     * already holds, that snapshot and its revision are kept rather than rebuilt
+     */
+    public PlayFabError refresh() {
+        return load(catalogVersion);
+    }
+
+    /**
+     * Loads a catalog version, and once it has loaded makes it the one refresh reloads
+     * @return null once the new snapshot is in place, or the error that kept it from loading; the previous snapshot is kept
+     */
+    public PlayFabError load(String catalogVersion) {
+        long sequence = loads.incrementAndGet();
+        PlayFabResult<?> response = fetch(catalogVersion);
+        if (response == null)
+            return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.Unknown, "GetCatalogItems returned no result", null);
+        if (response.Error != null)
+            return response.Error;
+        if (response.Result == null)
+            return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.Unknown, "GetCatalogItems returned no result", null);
+
+        PlayFabJsonCodec codec = PlayFabHTTP.getJsonCodec();
+        JsonArray catalog;
+        String fingerprint;
+        List<ItemT> items = new ArrayList<ItemT>();
+        List<JsonObject> trees = new ArrayList<JsonObject>();
+        try {
+            JsonElement tree = PlayFabModelJson.toTree(codec, response.Result).get("Catalog");
+            catalog = tree != null && tree.isJsonArray() ? tree.getAsJsonArray() : new JsonArray();
+            fingerprint = PlayFabModelJson.hash(catalog.toString());
+            Snapshot<ItemT> previous = current.get();
+            if (previous != null && previous.fingerprint.equals(fingerprint)
+                    && (catalogVersion == null ? previous.catalogVersion == null : catalogVersion.equals(previous.catalogVersion))) {
+                this.catalogVersion = catalogVersion;
+                return null; // Unchanged since the snapshot was built
+            }
+            for (JsonElement item : catalog) {
+                if (!item.isJsonObject())
+                    continue;
+                items.add(itemType.cast(PlayFabModelJson.fromTree(codec, item, itemType)));
+                trees.add(item.getAsJsonObject());
+            }
+        } catch (IOException e) {
+            return PlayFabHTTP.GenerateExceptionError(e);
+        }
+
+        Snapshot<ItemT> snapshot = new Snapshot<ItemT>(catalogVersion, sequence, revisions.incrementAndGet(), fingerprint, items, trees);
+        // Of two loads running at once, the one started last wins, however they finish
+        Snapshot<ItemT> previous;
+        do {
+            previous = current.get();
+            if (previous != null && previous.sequence > sequence)
+                return null;
+        } while (!current.compareAndSet(previous, snapshot));
+        this.catalogVersion = catalogVersion;
+        return null;
+    }
+
+    /** The catalog as of the last load, or null before the first one has finished */
+    public Snapshot<ItemT> getSnapshot() {
+        return current.get();
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    public String getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public ItemT getItem(String itemId) {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.getItem(itemId) : null;
+    }
+
+    public List<ItemT> getItems() {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.items : Collections.<ItemT>emptyList();
+    }
+
+    public List<ItemT> getItemsByClass(String itemClass) {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.getItemsByClass(itemClass) : Collections.<ItemT>emptyList();
+    }
+
+    public List<ItemT> getItemsByTag(String tag) {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.getItemsByTag(tag) : Collections.<ItemT>emptyList();
+    }
+
+    public List<ItemT> getContents(String itemId) {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.getContents(itemId) : Collections.<ItemT>emptyList();
+    }
+
+    public List<ItemT> getBundlesAndContainersOf(String itemId) {
+        Snapshot<ItemT> snapshot = current.get();
+        return snapshot != null ? snapshot.getBundlesAndContainersOf(itemId) : Collections.<ItemT>emptyList();
+    }
+
+    /** An immutable, fully indexed catalog version; every list it returns is unmodifiable */
+    public static class Snapshot<ItemT> {
+        public final String catalogVersion;
+        public final long loadedAtMs;
+        public final long revision; // Goes up each time a load finds the catalog changed
+        public final List<ItemT> items;
+        private final long sequence;
+        private final String fingerprint;
+        private final Map<String, ItemT> byId;
+        private final Map<String, List<ItemT>> byClass;
+        private final Map<String, List<ItemT>> byTag;
+        private final Map<String, List<ItemT>> contents;
+        private final Map<String, List<ItemT>> containedIn;
+
+        // The trees are the items as the codec writes them, in the same order, for reading the fields the indexes need
+        Snapshot(String catalogVersion, long sequence, long revision, String fingerprint, List<ItemT> items, List<JsonObject> trees) {
+            this.catalogVersion = catalogVersion;
+            this.sequence = sequence;
+            this.revision = revision;
+            this.fingerprint = fingerprint;
+            this.loadedAtMs = System.currentTimeMillis();
+            this.items = Collections.unmodifiableList(new ArrayList<ItemT>(items));
+
+            Map<String, ItemT> byId = new HashMap<String, ItemT>(items.size() * 2);
+            Map<String, List<ItemT>> byClass = new HashMap<String, List<ItemT>>();
+            Map<String, List<ItemT>> byTag = new HashMap<String, List<ItemT>>();
+            for (int i = 0; i < items.size(); i++) {
+                ItemT item = items.get(i);
+                JsonObject tree = trees.get(i);
+                String id = PlayFabModelJson.getString(tree, "ItemId");
+                if (id != null)
+                    byId.put(id, item);
+                String itemClass = PlayFabModelJson.getString(tree, "ItemClass");
+                if (itemClass != null)
+                    add(byClass, itemClass, item);
+                for (String tag : new LinkedHashSet<String>(PlayFabModelJson.getStrings(tree, "Tags")))
+                    add(byTag, tag, item);
+            }
+
+            // Contents are resolved once the id index is complete, since a bundle may list items after itself
+            Map<String, List<ItemT>> contents = new HashMap<String, List<ItemT>>();
+            Map<String, List<ItemT>> containedIn = new HashMap<String, List<ItemT>>();
+            for (int i = 0; i < items.size(); i++) {
+                ItemT item = items.get(i);
+                JsonObject tree = trees.get(i);
+                String id = PlayFabModelJson.getString(tree, "ItemId");
+                if (id == null)
+                    continue;
+                List<String> contentIds = new ArrayList<String>();
+                JsonObject bundle = PlayFabModelJson.getObject(tree, "Bundle");
+                if (bundle != null)
+                    contentIds.addAll(PlayFabModelJson.getStrings(bundle, "BundledItems"));
+                JsonObject container = PlayFabModelJson.getObject(tree, "Container");
+                if (container != null)
+                    contentIds.addAll(PlayFabModelJson.getStrings(container, "ItemContents"));
+                for (String contentId : contentIds) {
+                    ItemT content = byId.get(contentId);
+                    if (content == null)
+                        continue; // Not in this catalog version
+                    add(contents, id, content);
+                    List<ItemT> containers = containedIn.get(contentId);
+                    if (containers == null || containers.get(containers.size() - 1) != item)
+                        add(containedIn, contentId, item);
+                }
+            }
+
+            this.byId = byId;
+            this.byClass = freeze(byClass);
+            this.byTag = freeze(byTag);
+            this.contents = freeze(contents);
+            this.containedIn = freeze(containedIn);
+        }
+
+        private static <ItemT> void add(Map<String, List<ItemT>> index, String key, ItemT item) {
+            List<ItemT> items = index.get(key);
+            if (items == null) {
+                items = new ArrayList<ItemT>(2);
+                index.put(key, items);
+            }
+            items.add(item);
+        }
+
+        private static <ItemT> Map<String, List<ItemT>> freeze(Map<String, List<ItemT>> index) {
+            for (Map.Entry<String, List<ItemT>> pair : index.entrySet())
+                pair.setValue(Collections.unmodifiableList(pair.getValue()));
+            return index;
+        }
+
+        private static <ItemT> List<ItemT> get(Map<String, List<ItemT>> index, String key) {
+            List<ItemT> items = index.get(key);
+            return items != null ? items : Collections.<ItemT>emptyList();
+        }
+
+        public ItemT getItem(String itemId) {
+            return byId.get(itemId);
+        }
+
+        public List<ItemT> getItemsByClass(String itemClass) {
+            return get(byClass, itemClass);
+        }
+
+        public List<ItemT> getItemsByTag(String tag) {
+            return get(byTag, tag);
+        }
+
+        /** The items a bundle or container holds, once per time it lists them */
+        public List<ItemT> getContents(String itemId) {
+            return get(contents, itemId);
+        }
+
+        /** The bundles and containers that hold an item */
+        public List<ItemT> getBundlesAndContainersOf(String itemId) {
+            return get(containedIn, itemId);
+        }
+
+        public Set<String> getItemClasses() {
+            return Collections.unmodifiableSet(byClass.keySet());
+        }
+
+        public Set<String> getTags() {
+            return Collections.unmodifiableSet(byTag.keySet());
+        }
+    }
+}
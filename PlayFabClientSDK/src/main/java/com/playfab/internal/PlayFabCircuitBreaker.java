@@ -0,0 +1,242 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * A circuit breaker per API path, so calls to a failing or stalled endpoint fail fast instead of tying up their threads.
+ * While Closed, the outcomes of the last PlayFabSettings.CircuitWindowSize calls are kept; once there are at least
+ * CircuitMinimumCalls of them, the circuit opens when the share that failed reaches CircuitFailureRateThreshold, or the
+ * share slower than CircuitSlowCallMs reaches CircuitSlowCallRateThreshold. An Open circuit rejects every call for
+ * CircuitOpenMs, then goes HalfOpen and lets CircuitHalfOpenCalls trial calls through: if they all succeed in time it
+ * closes, and any failure opens it again.
+ *
+ * A failure is PlayFab being unreachable or answering 5xx, ServiceUnavailable or DownstreamServiceUnavailable; errors
+ * about the request itself (InvalidParams, AccountNotFound, throttling) say nothing about the endpoint's health and count
+ * as successes. A rejected call returns ServiceUnavailable with httpCode 0, and is not retried
+ */
+public class PlayFabCircuitBreaker {
+    private final ConcurrentHashMap<String, Circuit> circuits = new ConcurrentHashMap<String, Circuit>();
+
+    public enum State {
+        Closed,
+        Open,
+        HalfOpen
+    }
+
+    /**
+     * Asks whether a call to the path may go ahead; every allowed call must be followed by onResult or release
+     * @return null when the call may proceed, or the error to return instead of making it
+     */
+    public PlayFabError acquire(String path) {
+        if (!PlayFabSettings.CircuitBreakerEnabled)
+            return null;
+        Circuit circuit = getCircuit(path);
+        if (circuit.tryAcquire(System.nanoTime()))
+            return null;
+        return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.ServiceUnavailable, "Circuit open for " + path + " after repeated failures", null);
+    }
+
+    /** Records the outcome of an allowed call */
+    public void onResult(String path, Object result, long elapsedNanos) {
+        if (!PlayFabSettings.CircuitBreakerEnabled)
+            return;
+        boolean failed = result instanceof PlayFabError && isFailure((PlayFabError)result);
+        boolean slow = elapsedNanos > TimeUnit.MILLISECONDS.toNanos(PlayFabSettings.CircuitSlowCallMs);
+        getCircuit(path).record(failed, slow, System.nanoTime());
+    }
+
+    /** Returns an allowed call's slot without recording an outcome, for a call that was never made */
+    public void release(String path) {
+        if (!PlayFabSettings.CircuitBreakerEnabled)
+            return;
+        getCircuit(path).release();
+    }
+
+    public static boolean isFailure(PlayFabError error) {
+        return error.httpCode == 0 || error.httpCode >= 500
+            || error.pfErrorCode == PlayFabErrorCode.ConnectionError
+            || error.pfErrorCode == PlayFabErrorCode.ServiceUnavailable
+            || error.pfErrorCode == PlayFabErrorCode.DownstreamServiceUnavailable;
+    }
+
+    /** The state of a path's circuit; Closed for a path that has not been called */
+    public State getState(String path) {
+        Circuit circuit = circuits.get(path);
+        return circuit != null ? circuit.stats(path, System.nanoTime()).state : State.Closed;
+    }
+
+    /** Closes every circuit and forgets the calls that have been recorded */
+    public void reset() {
+        circuits.clear();
+    }
+
+    public Map<String, CircuitStats> getStats() {
+        long now = System.nanoTime();
+        Map<String, CircuitStats> output = new TreeMap<String, CircuitStats>();
+        for (Map.Entry<String, Circuit> pair : circuits.entrySet())
+            output.put(pair.getKey(), pair.getValue().stats(pair.getKey(), now));
+        return output;
+    }
+
+    /** The stats of one path's circuit, or null for a path that has not been called */
+    public CircuitStats getStats(String path) {
+        Circuit circuit = circuits.get(path);
+        return circuit != null ? circuit.stats(path, System.nanoTime()) : null;
+    }
+
+    private Circuit getCircuit(String path) {
+        Circuit circuit = circuits.get(path);
+        if (circuit == null) {
+            Circuit created = new Circuit(Math.max(1, PlayFabSettings.CircuitWindowSize));
+            circuit = circuits.putIfAbsent(path, created);
+            if (circuit == null)
+                circuit = created;
+        }
+        return circuit;
+    }
+
+    /** One path's circuit: a ring of recent outcomes and the state machine, guarded by a short lock */
+    private static class Circuit {
+        final ReentrantLock lock = new ReentrantLock();
+        final boolean[] failures;
+        final boolean[] slows;
+        int next;
+        int size;
+        int failureCount;
+        int slowCount;
+
+        State state = State.Closed;
+        long openUntilNanos;
+        int trialsStarted;
+        int trialsSucceeded;
+
+        final AtomicLong opened = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+
+        Circuit(int windowSize) {
+            failures = new boolean[windowSize];
+            slows = new boolean[windowSize];
+        }
+
+        boolean tryAcquire(long now) {
+            lock.lock();
+            try {
+                if (state == State.Open && now - openUntilNanos >= 0) {
+                    state = State.HalfOpen;
+                    trialsStarted = 0;
+                    trialsSucceeded = 0;
+                }
+                if (state == State.Closed)
+                    return true;
+                if (state == State.HalfOpen && trialsStarted < Math.max(1, PlayFabSettings.CircuitHalfOpenCalls)) {
+                    trialsStarted++;
+                    return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            rejected.incrementAndGet();
+            return false;
+        }
+
+        void record(boolean failed, boolean slow, long now) {
+            lock.lock();
+            try {
+                if (state == State.HalfOpen) {
+                    if (failed || slow) {
+                        open(now);
+                    } else if (++trialsSucceeded >= Math.max(1, PlayFabSettings.CircuitHalfOpenCalls)) {
+                        state = State.Closed;
+                        clearWindow();
+                    }
+                    return;
+                }
+                if (state == State.Open)
+                    return; // A call that started before the circuit opened
+
+                if (size == failures.length) {
+                    if (failures[next])
+                        failureCount--;
+                    if (slows[next])
+                        slowCount--;
+                } else {
+                    size++;
+                }
+                failures[next] = failed;
+                slows[next] = slow;
+                if (failed)
+                    failureCount++;
+                if (slow)
+                    slowCount++;
+                next = (next + 1) % failures.length;
+
+                if (size >= PlayFabSettings.CircuitMinimumCalls
+                    && (failureCount >= PlayFabSettings.CircuitFailureRateThreshold * size
+                    || slowCount >= PlayFabSettings.CircuitSlowCallRateThreshold * size))
+                    open(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                if (state == State.HalfOpen && trialsStarted > trialsSucceeded)
+                    trialsStarted--;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void open(long now) {
+            state = State.Open;
+            openUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(PlayFabSettings.CircuitOpenMs);
+            clearWindow();
+            opened.incrementAndGet();
+        }
+
+        private void clearWindow() {
+            Arrays.fill(failures, false);
+            Arrays.fill(slows, false);
+            next = 0;
+            size = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+
+        CircuitStats stats(String path, long now) {
+            CircuitStats output = new CircuitStats();
+            output.path = path;
+            lock.lock();
+            try {
+                output.state = state == State.Open && now - openUntilNanos >= 0 ? State.HalfOpen : state;
+                output.windowCalls = size;
+                output.failureRate = size > 0 ? (double) failureCount / size : 0;
+                output.slowCallRate = size > 0 ? (double) slowCount / size : 0;
+            } finally {
+                lock.unlock();
+            }
+            output.opened = opened.get();
+            output.rejected = rejected.get();
+            return output;
+        }
+    }
+
+    public static class CircuitStats {
+        public String path;
+        public State state;
+        public int windowCalls; // Calls in the sliding window; it is emptied whenever the circuit changes state
+        public double failureRate;
+        public double slowCallRate;
+        public long opened; // Times the circuit has opened
+        public long rejected; // Calls failed fast while it was open
+    }
+}
@@ -0,0 +1,127 @@
+package com.playfab.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-size histogram of non-negative longs with log-linear buckets, in the style of HdrHistogram.
+ * Values below 2^significantBits are counted exactly; above that, every power-of-two range is split into
+ * 2^(significantBits - 1) equal buckets, so any recorded value is known to within 1 / 2^(significantBits - 1) of itself.
+ * Recording is a handful of atomic operations and never allocates; values above highestTrackableValue are clamped to it
+ */
+public class PlayFabHistogram {
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketHalf;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param significantBits Precision: 6 keeps every value within about 3%, each extra bit halves that and doubles the footprint
+     * @param highestTrackableValue The largest distinguishable value; larger values are recorded as this one
+     */
+    public PlayFabHistogram(int significantBits, long highestTrackableValue) {
+        if (significantBits < 2 || significantBits > 16)
+            throw new IllegalArgumentException("significantBits must be between 2 and 16");
+        this.subBucketBits = significantBits;
+        this.subBucketCount = 1 << significantBits;
+        this.subBucketHalf = subBucketCount >> 1;
+        this.highestTrackableValue = Math.max(highestTrackableValue, subBucketCount);
+        this.counts = new AtomicLongArray(indexOf(this.highestTrackableValue) + 1);
+    }
+
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+        else if (value > highestTrackableValue)
+            value = highestTrackableValue;
+        counts.incrementAndGet(indexOf(value));
+        sum.addAndGet(value);
+
+        long current;
+        while (value < (current = min.get()) && !min.compareAndSet(current, value)) { }
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) { }
+    }
+
+    /** Copies the current counts. Records that race with the copy may be missing from it, but none are ever counted twice */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(this, copy, count, sum.get(), count > 0 ? min.get() : 0, count > 0 ? max.get() : 0);
+    }
+
+    private int indexOf(long value) {
+        if (value < subBucketCount)
+            return (int) value;
+        int shift = 64 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        return subBucketCount + (shift - 1) * subBucketHalf + (int) (value >>> shift) - subBucketHalf;
+    }
+
+    private long lowestValueAt(int index) {
+        if (index < subBucketCount)
+            return index;
+        int shift = (index - subBucketCount) / subBucketHalf + 1;
+        return ((long) ((index - subBucketCount) % subBucketHalf + subBucketHalf)) << shift;
+    }
+
+    private long widthAt(int index) {
+        return index < subBucketCount ? 1 : 1L << ((index - subBucketCount) / subBucketHalf + 1);
+    }
+
+    /** A point-in-time copy of a PlayFabHistogram; its fields are plain values, so it serializes as-is */
+    public static class Snapshot {
+        public long count;
+        public long sum;
+        public long min;
+        public long max;
+        public double mean;
+        public long p50;
+        public long p90;
+        public long p95;
+        public long p99;
+        public long p999;
+
+        private transient PlayFabHistogram histogram;
+        private transient long[] counts;
+
+        Snapshot(PlayFabHistogram histogram, long[] counts, long count, long sum, long min, long max) {
+            this.histogram = histogram;
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = Math.max(min, max);
+            this.mean = count > 0 ? (double) sum / count : 0;
+            this.p50 = getPercentile(0.5);
+            this.p90 = getPercentile(0.9);
+            this.p95 = getPercentile(0.95);
+            this.p99 = getPercentile(0.99);
+            this.p999 = getPercentile(0.999);
+        }
+
+        /** The value at a quantile (0.5 for the median, 0.999 for p999), as the middle of its bucket; 0 when empty */
+        public long getPercentile(double quantile) {
+            if (count == 0)
+                return 0;
+            long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * count));
+            if (rank >= count)
+                return max;
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    long value = histogram.lowestValueAt(i) + (histogram.widthAt(i) - 1) / 2;
+                    return Math.min(max, Math.max(min, value));
+                }
+            }
+            return max;
+        }
+    }
+}
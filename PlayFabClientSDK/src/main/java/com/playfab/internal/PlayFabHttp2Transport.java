@@ -0,0 +1,30 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * HTTP/2 transport placeholder for runtimes older than Java 11.
+ * The multi-release jar carries the real implementation, built on java.net.http.HttpClient, under META-INF/versions/11;
+ * on those runtimes it replaces this class and PlayFabHTTP selects it automatically (see PlayFabSettings.PreferHttp2)
+ */
+public class PlayFabHttp2Transport implements PlayFabTransport {
+    private final PlayFabConnectionPool pool = new PlayFabConnectionPool();
+
+    /** True when this runtime provides java.net.http and the HTTP/2 transport can be used */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    public PlayFabConnectionPool getPool() {
+        return pool;
+    }
+
+    public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException {
+        throw new IOException("The HTTP/2 transport requires Java 11 or later");
+    }
+
+    public int prewarm(String url, int connections) {
+        return 0;
+    }
+}
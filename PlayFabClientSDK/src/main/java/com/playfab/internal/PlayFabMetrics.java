@@ -0,0 +1,197 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * The SDK's built-in call metrics: per API path, latency histograms for the whole call and each of its phases, request
+ * and response size histograms, and call outcomes by PlayFabErrorCode. Fed by PlayFabHTTP while
+ * PlayFabSettings.RecordMetrics is set; read it with PlayFabHTTP.getMetrics().snapshot().
+ * Latencies are recorded in microseconds, and sizes in bytes
+ */
+public class PlayFabMetrics implements PlayFabMetricsRecorder {
+    private static final int LatencyBits = 6; // Latencies within about 3%, in under 8KB per histogram
+    private static final long MaxLatencyMicros = 3600L * 1000000L;
+    private static final int SizeBits = 5;
+    private static final long MaxSizeBytes = Integer.MAX_VALUE;
+    private static final PlayFabErrorCode[] ErrorCodes = PlayFabErrorCode.values();
+    private static final long PercentileRefreshNanos = TimeUnit.SECONDS.toNanos(1);
+
+    private volatile ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<String, Endpoint>();
+    // Whole-call latency per path since the SDK started, for getLatencyPercentile: snapshotAndReset leaves it alone
+    private final ConcurrentHashMap<String, Latency> latencies = new ConcurrentHashMap<String, Latency>();
+
+    public void record(Call call) {
+        Endpoint endpoint = getEndpoint(call.path);
+        endpoint.total.record(call.totalNanos / 1000);
+        getLatency(call.path).histogram.record(call.totalNanos / 1000);
+        if (call.serializeNanos >= 0)
+            endpoint.serialize.record(call.serializeNanos / 1000);
+        if (call.timeToFirstByteNanos >= 0)
+            endpoint.timeToFirstByte.record(call.timeToFirstByteNanos / 1000);
+        if (call.deserializeNanos >= 0)
+            endpoint.deserialize.record(call.deserializeNanos / 1000);
+        if (call.requestBytes >= 0)
+            endpoint.requestBytes.record(call.requestBytes);
+        if (call.responseBytes >= 0)
+            endpoint.responseBytes.record(call.responseBytes);
+        if (call.errorCode == null)
+            endpoint.successes.incrementAndGet();
+        else
+            endpoint.errors.incrementAndGet(call.errorCode.ordinal());
+    }
+
+    /**
+     * A quantile of whole-call latency for a path since the SDK started, in microseconds, or -1 until the path has had
+     * minCalls calls. The value is computed at most once a second per path, so it is cheap enough to ask for on every call
+     */
+    public long getLatencyPercentile(String path, double quantile, long minCalls) {
+        Latency latency = latencies.get(path);
+        if (latency == null)
+            return -1;
+        long now = System.nanoTime();
+        Percentile cached = latency.percentile;
+        if (cached != null && cached.quantile == quantile && cached.minCalls == minCalls && now - cached.computedNanos < PercentileRefreshNanos)
+            return cached.value;
+        PlayFabHistogram.Snapshot snapshot = latency.histogram.snapshot();
+        long value = snapshot.count >= minCalls ? snapshot.getPercentile(quantile) : -1;
+        latency.percentile = new Percentile(quantile, minCalls, value, now);
+        return value;
+    }
+
+    /** Every path's metrics since the SDK started, or since the last snapshotAndReset */
+    public Map<String, EndpointSnapshot> snapshot() {
+        return snapshot(endpoints);
+    }
+
+    /**
+     * Every path's metrics, starting a fresh interval: for exporters that publish deltas.
+     * A call that completes while the reset happens may be counted in neither interval. The latency history behind
+     * getLatencyPercentile, which hedging relies on, is kept
+     */
+    public Map<String, EndpointSnapshot> snapshotAndReset() {
+        ConcurrentHashMap<String, Endpoint> previous = endpoints;
+        endpoints = new ConcurrentHashMap<String, Endpoint>();
+        return snapshot(previous);
+    }
+
+    /** The API path of a url built by PlayFabSettings.GetURL: https://titleid.playfabapi.com/Server/GetUserData?sdk=... gives /Server/GetUserData */
+    public static String apiPath(String url) {
+        int scheme = url.indexOf("://");
+        int start = url.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+        if (start < 0)
+            return "/";
+        int end = url.indexOf('?', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    private Map<String, EndpointSnapshot> snapshot(ConcurrentHashMap<String, Endpoint> source) {
+        Map<String, EndpointSnapshot> output = new TreeMap<String, EndpointSnapshot>();
+        PlayFabCircuitBreaker circuitBreaker = PlayFabHTTP.getCircuitBreaker();
+        for (Map.Entry<String, Endpoint> pair : source.entrySet()) {
+            EndpointSnapshot endpoint = pair.getValue().snapshot(pair.getKey());
+            PlayFabCircuitBreaker.CircuitStats circuit = circuitBreaker.getStats(pair.getKey());
+            endpoint.circuitState = circuit != null ? circuit.state : PlayFabCircuitBreaker.State.Closed;
+            endpoint.circuitRejections = circuit != null ? circuit.rejected : 0;
+            output.put(pair.getKey(), endpoint);
+        }
+        return output;
+    }
+
+    private Endpoint getEndpoint(String path) {
+        ConcurrentHashMap<String, Endpoint> current = endpoints;
+        Endpoint endpoint = current.get(path);
+        if (endpoint == null) {
+            Endpoint created = new Endpoint();
+            endpoint = current.putIfAbsent(path, created);
+            if (endpoint == null)
+                endpoint = created;
+        }
+        return endpoint;
+    }
+
+    private Latency getLatency(String path) {
+        Latency latency = latencies.get(path);
+        if (latency == null) {
+            Latency created = new Latency();
+            latency = latencies.putIfAbsent(path, created);
+            if (latency == null)
+                latency = created;
+        }
+        return latency;
+    }
+
+    private static class Latency {
+        final PlayFabHistogram histogram = new PlayFabHistogram(LatencyBits, MaxLatencyMicros);
+        volatile Percentile percentile;
+    }
+
+    /** The last answer getLatencyPercentile computed for a path */
+    private static class Percentile {
+        final double quantile;
+        final long minCalls;
+        final long value;
+        final long computedNanos;
+
+        Percentile(double quantile, long minCalls, long value, long computedNanos) {
+            this.quantile = quantile;
+            this.minCalls = minCalls;
+            this.value = value;
+            this.computedNanos = computedNanos;
+        }
+    }
+
+    private static class Endpoint {
+        final PlayFabHistogram total = new PlayFabHistogram(LatencyBits, MaxLatencyMicros);
+        final PlayFabHistogram serialize = new PlayFabHistogram(LatencyBits, MaxLatencyMicros);
+        final PlayFabHistogram timeToFirstByte = new PlayFabHistogram(LatencyBits, MaxLatencyMicros);
+        final PlayFabHistogram deserialize = new PlayFabHistogram(LatencyBits, MaxLatencyMicros);
+        final PlayFabHistogram requestBytes = new PlayFabHistogram(SizeBits, MaxSizeBytes);
+        final PlayFabHistogram responseBytes = new PlayFabHistogram(SizeBits, MaxSizeBytes);
+        final AtomicLong successes = new AtomicLong();
+        final AtomicLongArray errors = new AtomicLongArray(ErrorCodes.length);
+
+        EndpointSnapshot snapshot(String path) {
+            EndpointSnapshot output = new EndpointSnapshot();
+            output.path = path;
+            output.successes = successes.get();
+            output.errors = new TreeMap<PlayFabErrorCode, Long>();
+            for (int i = 0; i < ErrorCodes.length; i++) {
+                long calls = errors.get(i);
+                if (calls > 0) {
+                    output.errors.put(ErrorCodes[i], calls);
+                    output.errorCount += calls;
+                }
+            }
+            output.calls = output.successes + output.errorCount;
+            output.latencyMicros = total.snapshot();
+            output.serializeMicros = serialize.snapshot();
+            output.timeToFirstByteMicros = timeToFirstByte.snapshot();
+            output.deserializeMicros = deserialize.snapshot();
+            output.requestBytes = requestBytes.snapshot();
+            output.responseBytes = responseBytes.snapshot();
+            return output;
+        }
+    }
+
+    /** One API path's metrics at a point in time */
+    public static class EndpointSnapshot {
+        public String path;
+        public long calls;
+        public long successes;
+        public long errorCount;
+        public Map<PlayFabErrorCode, Long> errors; // Failed calls by error code
+        public PlayFabHistogram.Snapshot latencyMicros;
+        public PlayFabHistogram.Snapshot serializeMicros;
+        public PlayFabHistogram.Snapshot timeToFirstByteMicros;
+        public PlayFabHistogram.Snapshot deserializeMicros;
+        public PlayFabHistogram.Snapshot requestBytes;
+        public PlayFabHistogram.Snapshot responseBytes;
+        public PlayFabCircuitBreaker.State circuitState;
+        public long circuitRejections; // Calls failed fast by the open circuit since the SDK started; they are not counted in calls
+    }
+}
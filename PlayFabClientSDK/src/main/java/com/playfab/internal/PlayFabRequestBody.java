@@ -0,0 +1,98 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.Arrays;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * A request body handed to a PlayFabTransport. Request models are serialized straight to bytes by the PlayFabJsonCodec, never
+ * through an intermediate String: either into a per-thread buffer that is reused across calls (sent with a fixed length),
+ * or, with PlayFabSettings.StreamRequestBodies, directly into the connection's OutputStream (sent chunked)
+ */
+public abstract class PlayFabRequestBody {
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024; // Larger buffers are dropped after use rather than held by the thread
+
+    private static final ThreadLocal<ReusableBuffer> buffers = new ThreadLocal<ReusableBuffer>() {
+        protected ReusableBuffer initialValue() {
+            return new ReusableBuffer();
+        }
+    };
+
+    /** Length in bytes, or -1 when the length is unknown and the body must be sent chunked */
+    public abstract int contentLength();
+
+    /** Writes the body. A body may only be written once */
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    /** The body as a standalone array, for transports that cannot write to a stream */
+    public byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, contentLength()));
+        writeTo(out);
+        return out.toByteArray();
+    }
+
+    /** Wraps already-encoded bytes */
+    public static PlayFabRequestBody of(final byte[] bytes, final int offset, final int length) {
+        return new PlayFabRequestBody() {
+            public int contentLength() {
+                return length;
+            }
+
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            public byte[] toByteArray() {
+                return Arrays.copyOfRange(bytes, offset, offset + length);
+            }
+        };
+    }
+
+    /**
+     * Serializes a request model with the given codec, or passes a pre-built json String through
+     * The returned body is only valid on the calling thread, and only until that thread builds its next body
+     */
+    public static PlayFabRequestBody json(final PlayFabJsonCodec codec, final Object request) throws IOException {
+        if (request == null)
+            return utf8("{}");
+        if (request instanceof String)
+            return utf8((String)request);
+
+        if (PlayFabSettings.StreamRequestBodies) {
+            return new PlayFabRequestBody() {
+                public int contentLength() {
+                    return -1;
+                }
+
+                public void writeTo(OutputStream out) throws IOException {
+                    // The connection stream is already buffered by the transport; codecs flush, but never close, the stream
+                    codec.encode(request, out);
+                }
+            };
+        }
+
+        ReusableBuffer buffer = buffers.get();
+        buffer.reset();
+        codec.encode(request, buffer);
+        PlayFabRequestBody body = of(buffer.array(), 0, buffer.size());
+        if (buffer.array().length > MAX_RETAINED_BUFFER)
+            buffers.remove();
+        return body;
+    }
+
+    private static PlayFabRequestBody utf8(String json) throws IOException {
+        byte[] bytes = json.getBytes("UTF-8");
+        return of(bytes, 0, bytes.length);
+    }
+
+    private static class ReusableBuffer extends ByteArrayOutputStream {
+        ReusableBuffer() {
+            super(1024);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
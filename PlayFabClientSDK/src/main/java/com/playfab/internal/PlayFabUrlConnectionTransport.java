@@ -0,0 +1,220 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabAsync;
+import com.playfab.PlayFabSettings;
+
+/**
+ * The default PlayFabTransport: HttpURLConnection over the JDK keep-alive cache, bounded by a PlayFabConnectionPool.
+ * Every response stream (including error streams) is drained to the end and closed, which is what allows the JDK to
+ * hand the socket to the next call instead of paying for a new TLS handshake
+ */
+public class PlayFabUrlConnectionTransport implements PlayFabTransport {
+    private final PlayFabConnectionPool pool;
+
+    public PlayFabUrlConnectionTransport() {
+        this(new PlayFabConnectionPool());
+    }
+
+    public PlayFabUrlConnectionTransport(PlayFabConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    public PlayFabConnectionPool getPool() {
+        return pool;
+    }
+
+    public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException {
+        URL target = new URL(url);
+        String host = PlayFabConnectionPool.hostKey(target);
+        pool.acquire(host, deadline.remainingNanos());
+
+        HttpURLConnection con = null;
+        Closeable abort = null;
+        try {
+            con = (HttpURLConnection) target.openConnection();
+            abort = disconnector(con);
+            deadline.setInFlight(abort);
+            con.setConnectTimeout(deadline.connectTimeoutMs());
+            con.setReadTimeout(deadline.readTimeoutMs());
+            con.setRequestMethod("POST");
+            for (Map.Entry<String, String> pair : headers.entrySet())
+                con.setRequestProperty(pair.getKey(), pair.getValue());
+            if (!PlayFabSettings.KeepAlive)
+                con.setRequestProperty("Connection", "close"); // Per connection, so the JVM-wide http.keepAlive is left to the app
+            con.setDoOutput(true);
+            con.setDoInput(true);
+
+            // Streaming mode writes the body straight to the socket, instead of into HttpURLConnection's own buffer first
+            int contentLength = body.contentLength();
+            if (contentLength >= 0)
+                con.setFixedLengthStreamingMode(contentLength);
+            else
+                con.setChunkedStreamingMode(0);
+
+            try {
+                con.connect();
+            } catch (ConnectException e) {
+                throw e;
+            } catch (IOException e) {
+                // A handshake or lookup failure also means nothing of the request was sent
+                ConnectException unsent = new ConnectException(e.getMessage());
+                unsent.initCause(e);
+                throw unsent;
+            }
+            OutputStream output = con.getOutputStream();
+            body.writeTo(output);
+            output.close();
+            return new UrlConnectionResponse(con, con.getResponseCode(), host, deadline, abort);
+        } catch (IOException e) {
+            if (con != null)
+                con.disconnect();
+            deadline.clearInFlight(abort);
+            pool.release(host, false);
+            throw e;
+        } catch (RuntimeException e) {
+            if (con != null)
+                con.disconnect();
+            deadline.clearInFlight(abort);
+            pool.release(host, false);
+            throw e;
+        }
+    }
+
+    /** Disconnecting a connection from another thread fails its blocked read or write, which is how a cancelled call is aborted */
+    private static Closeable disconnector(final HttpURLConnection con) {
+        return new Closeable() {
+            public void close() {
+                con.disconnect();
+            }
+        };
+    }
+
+    public int prewarm(String url, int connections) {
+        final URL target;
+        try {
+            target = new URL(url);
+        } catch (MalformedURLException e) {
+            return 0;
+        }
+        final String host = PlayFabConnectionPool.hostKey(target);
+
+        // Each connection is opened by its own task, otherwise the JDK would just reuse the first socket for every request
+        final AtomicInteger established = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(connections);
+        Executor executor = PlayFabAsync.getExecutor();
+        for (int i = 0; i < connections; i++) {
+            try {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        try {
+                            if (prewarmOne(target, host))
+                                established.incrementAndGet();
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                done.countDown();
+            }
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return established.get();
+    }
+
+    private boolean prewarmOne(URL target, String host) {
+        try {
+            pool.acquire(host, TimeUnit.MILLISECONDS.toNanos(PlayFabSettings.ConnectionAcquireTimeoutMs));
+        } catch (IOException e) {
+            return false;
+        }
+        HttpURLConnection con = null;
+        boolean reusable = false;
+        try {
+            con = (HttpURLConnection) target.openConnection();
+            con.setConnectTimeout((int) Math.max(0, Math.min(PlayFabSettings.ConnectTimeoutMs, Integer.MAX_VALUE)));
+            con.setReadTimeout((int) Math.max(0, Math.min(PlayFabSettings.ReadTimeoutMs, Integer.MAX_VALUE)));
+            con.setRequestMethod("HEAD");
+            con.setRequestProperty("X-PlayFabSDK", PlayFabSettings.SdkVersionString);
+            drain(con.getResponseCode() < 400 ? con.getInputStream() : con.getErrorStream());
+            pool.prewarmed(host);
+            reusable = true;
+        } catch (IOException e) {
+            if (con != null)
+                con.disconnect();
+        } finally {
+            pool.release(host, reusable);
+        }
+        return reusable;
+    }
+
+    /** Reads a stream to the end and closes it, which is the condition for the JDK to keep its socket alive */
+    static void drain(InputStream in) throws IOException {
+        if (in == null)
+            return;
+        try {
+            byte[] buffer = new byte[4096];
+            while (in.read(buffer) != -1) { }
+        } finally {
+            in.close();
+        }
+    }
+
+    private class UrlConnectionResponse extends Response {
+        private final HttpURLConnection con;
+        private final String host;
+        private final PlayFabDeadline deadline;
+        private final Closeable abort;
+        private InputStream body;
+        private boolean closed;
+
+        UrlConnectionResponse(HttpURLConnection con, int httpCode, String host, PlayFabDeadline deadline, Closeable abort) {
+            this.con = con;
+            this.httpCode = httpCode;
+            this.host = host;
+            this.deadline = deadline;
+            this.abort = abort;
+        }
+
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                try {
+                    body = con.getInputStream();
+                } catch (IOException e) {
+                    body = con.getErrorStream();
+                }
+            }
+            return body;
+        }
+
+        public void close() {
+            if (closed)
+                return;
+            closed = true;
+
+            boolean reusable = false;
+            try {
+                drain(getBody());
+                reusable = true;
+            } catch (IOException e) {
+                con.disconnect();
+            } finally {
+                deadline.clearInFlight(abort);
+                pool.release(host, reusable);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.playfab.loadtest;
+
+import java.util.*;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Raw call latencies and outcomes per endpoint. Each load worker records into its own instance without any
+ * synchronization; the instances are merged once the run is over, and percentiles are read from the sorted samples
+ */
+public class LatencySamples {
+    private final Map<String, Endpoint> endpoints = new TreeMap<String, Endpoint>();
+
+    /** Records one call; errorCode is null for a successful call */
+    public void record(String endpoint, long latencyNanos, PlayFabErrorCode errorCode) {
+        Endpoint samples = endpoints.get(endpoint);
+        if (samples == null) {
+            samples = new Endpoint();
+            endpoints.put(endpoint, samples);
+        }
+        samples.add(latencyNanos);
+        if (errorCode != null)
+            samples.addError(errorCode, 1);
+    }
+
+    public void merge(LatencySamples other) {
+        for (Map.Entry<String, Endpoint> pair : other.endpoints.entrySet()) {
+            Endpoint samples = endpoints.get(pair.getKey());
+            if (samples == null) {
+                samples = new Endpoint();
+                endpoints.put(pair.getKey(), samples);
+            }
+            samples.merge(pair.getValue());
+        }
+    }
+
+    /** Every endpoint's samples, plus an "All" entry across endpoints */
+    public Map<String, Endpoint> getEndpoints() {
+        Map<String, Endpoint> output = new LinkedHashMap<String, Endpoint>(endpoints);
+        Endpoint all = new Endpoint();
+        for (Endpoint samples : endpoints.values())
+            all.merge(samples);
+        output.put("All", all);
+        return output;
+    }
+
+    public static class Endpoint {
+        private long[] latencies = new long[1024];
+        private int count;
+        private boolean sorted;
+        private final Map<PlayFabErrorCode, Long> errors = new TreeMap<PlayFabErrorCode, Long>();
+
+        void add(long latencyNanos) {
+            if (count == latencies.length)
+                latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = latencyNanos;
+            sorted = false;
+        }
+
+        void addError(PlayFabErrorCode errorCode, long calls) {
+            Long current = errors.get(errorCode);
+            errors.put(errorCode, (current != null ? current : 0) + calls);
+        }
+
+        void merge(Endpoint other) {
+            if (count + other.count > latencies.length)
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            sorted = false;
+            for (Map.Entry<PlayFabErrorCode, Long> pair : other.errors.entrySet())
+                addError(pair.getKey(), pair.getValue());
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getErrorCount() {
+            long total = 0;
+            for (Long calls : errors.values())
+                total += calls;
+            return total;
+        }
+
+        public Map<PlayFabErrorCode, Long> getErrors() {
+            return Collections.unmodifiableMap(errors);
+        }
+
+        /** The latency at a quantile (0.5 for the median, 0.999 for p999), nearest-rank, in nanoseconds; 0 with no samples */
+        public long getPercentile(double quantile) {
+            if (count == 0)
+                return 0;
+            if (!sorted) {
+                Arrays.sort(latencies, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(quantile * count);
+            return latencies[Math.min(count, Math.max(1, rank)) - 1];
+        }
+
+        public long getMax() {
+            return getPercentile(1.0);
+        }
+    }
+}
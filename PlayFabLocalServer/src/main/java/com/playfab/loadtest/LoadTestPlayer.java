@@ -0,0 +1,111 @@
+package com.playfab.loadtest;
+
+import java.util.*;
+
+import com.playfab.PlayFabApiSettings;
+import com.playfab.PlayFabAuthenticationContext;
+import com.playfab.PlayFabClientInstanceAPI;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * One synthetic player. It owns a PlayFabClientInstanceAPI with its own PlayFabAuthenticationContext, so its session
+ * ticket is never shared with, or overwritten by, any other player in the run
+ */
+public class LoadTestPlayer {
+    public static final String Login = "LoginWithCustomID";
+    public static final String UpdateUserData = "UpdateUserData";
+    public static final String UpdatePlayerStatistics = "UpdatePlayerStatistics";
+    public static final String GetLeaderboardAroundPlayer = "GetLeaderboardAroundPlayer";
+    public static final String PurchaseItem = "PurchaseItem";
+    public static final String WritePlayerEvent = "WritePlayerEvent";
+    public static final String[] Actions = { UpdateUserData, UpdatePlayerStatistics, GetLeaderboardAroundPlayer, PurchaseItem, WritePlayerEvent };
+
+    private final PlayFabClientInstanceAPI api;
+    private final PlayFabLoadTest.Options options;
+    private final String customId;
+    private String playFabId;
+    private int sessions;
+
+    public LoadTestPlayer(PlayFabApiSettings settings, PlayFabLoadTest.Options options, String customId) {
+        this.api = new PlayFabClientInstanceAPI(settings, new PlayFabAuthenticationContext());
+        this.options = options;
+        this.customId = customId;
+    }
+
+    public String getPlayFabId() {
+        return playFabId;
+    }
+
+    public boolean isLoggedIn() {
+        return playFabId != null;
+    }
+
+    public PlayFabError login(LatencySamples samples) {
+        LoginWithCustomIDRequest request = new LoginWithCustomIDRequest();
+        request.CustomId = customId;
+        request.CreateAccount = true;
+        request.TitleId = api.getSettings().TitleId;
+
+        long start = System.nanoTime();
+        PlayFabResult<LoginResult> result = api.LoginWithCustomID(request);
+        record(samples, Login, start, result);
+        if (result.Error == null)
+            playFabId = result.Result.PlayFabId;
+        return result.Error;
+    }
+
+    /** Runs one scripted session: options.sessionLength actions, each drawn from the weighted mix */
+    public void runSession(LatencySamples samples, Random random) throws InterruptedException {
+        sessions++;
+        for (int i = 0; i < options.sessionLength; i++) {
+            run(options.pickAction(random), samples, random);
+            if (options.thinkTimeMs > 0)
+                Thread.sleep(options.thinkTimeMs);
+        }
+    }
+
+    public void run(String action, LatencySamples samples, Random random) {
+        long start = System.nanoTime();
+        PlayFabResult<?> result;
+        if (action.equals(UpdateUserData)) {
+            UpdateUserDataRequest request = new UpdateUserDataRequest();
+            request.Data = new HashMap<String, String>();
+            request.Data.put("progress", String.valueOf(random.nextInt(1000)));
+            request.Data.put("lastSession", String.valueOf(sessions));
+            result = api.UpdateUserData(request);
+        } else if (action.equals(UpdatePlayerStatistics)) {
+            StatisticUpdate update = new StatisticUpdate();
+            update.StatisticName = options.statisticName;
+            update.Value = random.nextInt(100000);
+            UpdatePlayerStatisticsRequest request = new UpdatePlayerStatisticsRequest();
+            request.Statistics = new ArrayList<StatisticUpdate>();
+            request.Statistics.add(update);
+            result = api.UpdatePlayerStatistics(request);
+        } else if (action.equals(GetLeaderboardAroundPlayer)) {
+            GetLeaderboardAroundPlayerRequest request = new GetLeaderboardAroundPlayerRequest();
+            request.StatisticName = options.statisticName;
+            request.MaxResultsCount = 10;
+            result = api.GetLeaderboardAroundPlayer(request);
+        } else if (action.equals(PurchaseItem)) {
+            PurchaseItemRequest request = new PurchaseItemRequest();
+            request.ItemId = options.itemId;
+            request.VirtualCurrency = options.virtualCurrency;
+            request.Price = options.price;
+            result = api.PurchaseItem(request);
+        } else if (action.equals(WritePlayerEvent)) {
+            WriteClientPlayerEventRequest request = new WriteClientPlayerEventRequest();
+            request.EventName = "loadtest_action";
+            request.Body = new HashMap<String, Object>();
+            request.Body.put("session", sessions);
+            result = api.WritePlayerEvent(request);
+        } else {
+            throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        record(samples, action, start, result);
+    }
+
+    private static void record(LatencySamples samples, String endpoint, long start, PlayFabResult<?> result) {
+        samples.record(endpoint, System.nanoTime() - start, result.Error != null ? result.Error.pfErrorCode : null);
+    }
+}
@@ -0,0 +1,318 @@
+package com.playfab.loadtest;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabApiSettings;
+import com.playfab.PlayFabServerInstanceAPI;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabHistogram;
+import com.playfab.internal.PlayFabMetrics;
+import com.playfab.localserver.PlayFabLocalServer;
+
+/**
+ * Load generator: logs in a population of synthetic players through PlayFabClientInstanceAPI, then has a pool of workers
+ * play scripted sessions for them (UpdateUserData, UpdatePlayerStatistics, GetLeaderboardAroundPlayer, PurchaseItem and
+ * WritePlayerEvent, drawn from a weighted mix) and reports throughput and p50/p99/p999 latency per endpoint.
+ *
+ * Without --url it starts an in-process PlayFabLocalServer and seeds the purchasable item; with --url, --title and
+ * --secret it runs against that title, whose catalog must already sell --item for --price --currency.
+ *
+ *     java -cp local-server.jar com.playfab.loadtest.PlayFabLoadTest --players=5000 --threads=128 --duration=60
+ */
+public class PlayFabLoadTest {
+    public static class Options {
+        public String url; // null to start a local server
+        public String titleId = PlayFabLocalServer.DefaultTitleId;
+        public String secretKey = PlayFabLocalServer.DefaultSecretKey;
+        public int players = 1000;
+        public int threads = 64;
+        public int durationSeconds = 30;
+        public int warmupSeconds = 5; // Calls made during warmup are not reported
+        public int sessionLength = 10; // Actions per session, before the worker moves on to its next player
+        public long thinkTimeMs; // Pause between the actions of a session
+        public String customIdPrefix = "loadtest-";
+        public String statisticName = "loadtest_score";
+        public String itemId = "loadtest_item";
+        public String virtualCurrency = "LT";
+        public int price = 1;
+        public int fundAmount = 1000000; // Currency granted to each player after login, through the Server api; 0 to skip
+        public LinkedHashMap<String, Integer> mix = new LinkedHashMap<String, Integer>();
+
+        private volatile Mix compiledMix; // Built from mix on first use; its fields are final, so every worker sees it whole
+
+        public Options() {
+            mix.put(LoadTestPlayer.UpdateUserData, 30);
+            mix.put(LoadTestPlayer.UpdatePlayerStatistics, 20);
+            mix.put(LoadTestPlayer.GetLeaderboardAroundPlayer, 20);
+            mix.put(LoadTestPlayer.PurchaseItem, 10);
+            mix.put(LoadTestPlayer.WritePlayerEvent, 20);
+        }
+
+        /** --name=value arguments; --mix=UpdateUserData=50,WritePlayerEvent=50 replaces the whole mix */
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                int split = arg.indexOf('=');
+                if (!arg.startsWith("--") || split < 0)
+                    throw new IllegalArgumentException("Expected --name=value, got " + arg);
+                String name = arg.substring(2, split);
+                String value = arg.substring(split + 1);
+                if (name.equals("url")) options.url = value;
+                else if (name.equals("title")) options.titleId = value;
+                else if (name.equals("secret")) options.secretKey = value;
+                else if (name.equals("players")) options.players = Integer.parseInt(value);
+                else if (name.equals("threads")) options.threads = Integer.parseInt(value);
+                else if (name.equals("duration")) options.durationSeconds = Integer.parseInt(value);
+                else if (name.equals("warmup")) options.warmupSeconds = Integer.parseInt(value);
+                else if (name.equals("session")) options.sessionLength = Integer.parseInt(value);
+                else if (name.equals("think")) options.thinkTimeMs = Long.parseLong(value);
+                else if (name.equals("prefix")) options.customIdPrefix = value;
+                else if (name.equals("statistic")) options.statisticName = value;
+                else if (name.equals("item")) options.itemId = value;
+                else if (name.equals("currency")) options.virtualCurrency = value;
+                else if (name.equals("price")) options.price = Integer.parseInt(value);
+                else if (name.equals("fund")) options.fundAmount = Integer.parseInt(value);
+                else if (name.equals("mix")) options.mix = parseMix(value);
+                else throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            return options;
+        }
+
+        private static LinkedHashMap<String, Integer> parseMix(String value) {
+            LinkedHashMap<String, Integer> mix = new LinkedHashMap<String, Integer>();
+            for (String entry : value.split(",")) {
+                String[] pair = entry.split("=");
+                if (pair.length != 2 || !Arrays.asList(LoadTestPlayer.Actions).contains(pair[0]))
+                    throw new IllegalArgumentException("Expected Action=weight with an action from " + Arrays.toString(LoadTestPlayer.Actions) + ", got " + entry);
+                mix.put(pair[0], Integer.parseInt(pair[1]));
+            }
+            return mix;
+        }
+
+        /** A weighted random action from the mix */
+        public String pickAction(Random random) {
+            Mix current = compiledMix;
+            if (current == null) {
+                current = new Mix(mix);
+                compiledMix = current;
+            }
+            return current.pick(random);
+        }
+    }
+
+    /** The mix as cumulative weights, built once and then only read */
+    private static final class Mix {
+        private final String[] actions;
+        private final int[] cumulative;
+
+        Mix(Map<String, Integer> mix) {
+            actions = new String[mix.size()];
+            cumulative = new int[mix.size()];
+            int total = 0, i = 0;
+            for (Map.Entry<String, Integer> pair : mix.entrySet()) {
+                total += pair.getValue();
+                actions[i] = pair.getKey();
+                cumulative[i++] = total;
+            }
+            if (total <= 0)
+                throw new IllegalArgumentException("The mix needs at least one positive weight");
+        }
+
+        String pick(Random random) {
+            int draw = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (draw < cumulative[i])
+                    return actions[i];
+            }
+            return actions[actions.length - 1];
+        }
+    }
+
+    private final Options options;
+    private final PlayFabApiSettings settings;
+
+    public PlayFabLoadTest(Options options, PlayFabApiSettings settings) {
+        this.options = options;
+        this.settings = settings;
+    }
+
+    /** Logs the players in, runs the sessions for warmup plus duration, and returns the samples from after the warmup */
+    public Result run() throws InterruptedException {
+        options.compiledMix = new Mix(options.mix); // Before any worker starts, so a bad mix fails here rather than in every worker
+        final List<LoadTestPlayer> players = new ArrayList<LoadTestPlayer>(options.players);
+        for (int i = 0; i < options.players; i++)
+            players.add(new LoadTestPlayer(settings, options, options.customIdPrefix + i));
+
+        final int threads = Math.max(1, Math.min(options.threads, options.players));
+        final LatencySamples[] measured = new LatencySamples[threads];
+        final CountDownLatch loggedIn = new CountDownLatch(threads);
+        final AtomicInteger loginFailures = new AtomicInteger();
+        final long[] window = new long[2]; // Measurement start and end, set once every player is logged in
+        final CountDownLatch windowReady = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "PlayFabLoadTest");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final LatencySamples[] workerLogins = new LatencySamples[threads];
+        List<Future<?>> workers = new ArrayList<Future<?>>();
+        for (int w = 0; w < threads; w++) {
+            final int worker = w;
+            workers.add(executor.submit(new Callable<Void>() {
+                public Void call() throws Exception {
+                    Random random = new Random(worker * 31L + 7);
+                    List<LoadTestPlayer> mine = new ArrayList<LoadTestPlayer>();
+                    workerLogins[worker] = new LatencySamples();
+                    try {
+                        for (int i = worker; i < players.size(); i += threads) {
+                            LoadTestPlayer player = players.get(i);
+                            if (player.login(workerLogins[worker]) == null && fund(player))
+                                mine.add(player);
+                            else
+                                loginFailures.incrementAndGet();
+                        }
+                    } finally {
+                        loggedIn.countDown();
+                    }
+                    windowReady.await();
+
+                    LatencySamples warmup = new LatencySamples();
+                    LatencySamples samples = new LatencySamples();
+                    measured[worker] = samples;
+                    int next = 0;
+                    while (!mine.isEmpty() && System.nanoTime() < window[1]) {
+                        LoadTestPlayer player = mine.get(next++ % mine.size());
+                        player.runSession(System.nanoTime() < window[0] ? warmup : samples, random);
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        loggedIn.await();
+        long now = System.nanoTime();
+        window[0] = now + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        window[1] = window[0] + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        windowReady.countDown();
+
+        // Start the SDK's own metrics interval with the measurement window, so they cover the same calls
+        long untilWindow = window[0] - System.nanoTime();
+        if (untilWindow > 0)
+            TimeUnit.NANOSECONDS.sleep(untilWindow);
+        PlayFabHTTP.getMetrics().snapshotAndReset();
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+        long end = System.nanoTime();
+        executor.shutdown();
+        Map<String, PlayFabMetrics.EndpointSnapshot> sdkMetrics = PlayFabHTTP.getMetrics().snapshotAndReset();
+
+        Result result = new Result();
+        result.loginFailures = loginFailures.get();
+        result.sdkMetrics = sdkMetrics;
+        result.logins = new LatencySamples();
+        for (LatencySamples samples : workerLogins)
+            result.logins.merge(samples);
+        result.samples = new LatencySamples();
+        for (LatencySamples samples : measured) {
+            if (samples != null)
+                result.samples.merge(samples);
+        }
+        // Sessions already under way at the deadline finish, so the window runs until the last worker stops
+        result.measuredSeconds = Math.max(1e-9, (end - window[0]) / 1e9);
+        return result;
+    }
+
+    private boolean fund(LoadTestPlayer player) {
+        if (options.fundAmount <= 0)
+            return true;
+        AddUserVirtualCurrencyRequest request = new AddUserVirtualCurrencyRequest();
+        request.PlayFabId = player.getPlayFabId();
+        request.VirtualCurrency = options.virtualCurrency;
+        request.Amount = options.fundAmount;
+        return new PlayFabServerInstanceAPI(settings).AddUserVirtualCurrency(request).Error == null;
+    }
+
+    public static class Result {
+        public LatencySamples logins;
+        public LatencySamples samples;
+        public double measuredSeconds;
+        public int loginFailures;
+        public Map<String, PlayFabMetrics.EndpointSnapshot> sdkMetrics; // The same window, as PlayFabHTTP measured it
+
+        public void print(java.io.PrintStream out) {
+            out.println(String.format("%-28s %9s %8s %10s %9s %9s %9s %9s", "Endpoint", "Calls", "Errors", "Calls/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            printRow(out, "Login (setup)", logins.getEndpoints().get("All"), 0);
+            for (Map.Entry<String, LatencySamples.Endpoint> pair : samples.getEndpoints().entrySet())
+                printRow(out, pair.getKey(), pair.getValue(), measuredSeconds);
+
+            out.println();
+            out.println(String.format("%-36s %12s %12s %12s %12s %10s %10s", "SDK phases (p50 / p99 ms)", "serialize", "first byte", "deserialize", "total", "req bytes", "resp bytes"));
+            for (PlayFabMetrics.EndpointSnapshot endpoint : sdkMetrics.values()) {
+                out.println(String.format("%-36s %12s %12s %12s %12s %10.0f %10.0f", endpoint.path, phase(endpoint.serializeMicros), phase(endpoint.timeToFirstByteMicros),
+                    phase(endpoint.deserializeMicros), phase(endpoint.latencyMicros), endpoint.requestBytes.mean, endpoint.responseBytes.mean));
+            }
+            if (loginFailures > 0)
+                out.println(loginFailures + " players failed to log in or be funded, and took no part in the sessions");
+            for (Map.Entry<String, LatencySamples.Endpoint> pair : samples.getEndpoints().entrySet()) {
+                if (!pair.getKey().equals("All") && pair.getValue().getErrorCount() > 0)
+                    out.println(pair.getKey() + " errors: " + pair.getValue().getErrors());
+            }
+        }
+
+        private static String phase(PlayFabHistogram.Snapshot micros) {
+            return String.format("%.2f/%.2f", micros.p50 / 1e3, micros.p99 / 1e3);
+        }
+
+        private static void printRow(java.io.PrintStream out, String name, LatencySamples.Endpoint endpoint, double seconds) {
+            out.println(String.format("%-28s %9d %8d %10s %9.2f %9.2f %9.2f %9.2f", name, endpoint.getCount(), endpoint.getErrorCount(),
+                seconds > 0 ? String.format("%.1f", endpoint.getCount() / seconds) : "-",
+                endpoint.getPercentile(0.5) / 1e6, endpoint.getPercentile(0.99) / 1e6, endpoint.getPercentile(0.999) / 1e6, endpoint.getMax() / 1e6));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        // Let every worker hold its own keep-alive connection; must be set before the first api call creates the transport
+        PlayFabSettings.MaxConnectionsPerHost = Math.max(PlayFabSettings.MaxConnectionsPerHost, options.threads);
+
+        PlayFabLocalServer server = null;
+        String url = options.url;
+        if (url == null) {
+            server = new PlayFabLocalServer(0);
+            server.start();
+            url = server.getUrl();
+            options.titleId = server.getState().titleId;
+            options.secretKey = server.getState().secretKey;
+            CatalogItem item = new CatalogItem();
+            item.ItemId = options.itemId;
+            item.ItemClass = "loadtest";
+            item.VirtualCurrencyPrices = new HashMap<String, Long>();
+            item.VirtualCurrencyPrices.put(options.virtualCurrency, (long) options.price);
+            server.getState().setCatalog("Primary", Collections.singletonList(item));
+        }
+
+        System.out.println("Load test: " + options.players + " players, " + options.threads + " threads, " + options.warmupSeconds + "s warmup + "
+            + options.durationSeconds + "s against " + url + ", mix " + options.mix);
+        try {
+            Result result = new PlayFabLoadTest(options, new PlayFabApiSettings(options.titleId, options.secretKey, url, null)).run();
+            result.print(System.out);
+        } finally {
+            if (server != null)
+                server.stop();
+        }
+    }
+}
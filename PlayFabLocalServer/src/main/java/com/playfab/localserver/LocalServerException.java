@@ -0,0 +1,21 @@
+package com.playfab.localserver;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/** A PlayFab error response: thrown by a route, and written back as a PlayFabJsonError envelope */
+public class LocalServerException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public final int httpCode;
+    public final PlayFabErrorCode errorCode;
+
+    public LocalServerException(int httpCode, PlayFabErrorCode errorCode, String message) {
+        super(message);
+        this.httpCode = httpCode;
+        this.errorCode = errorCode;
+    }
+
+    public static LocalServerException invalidParams(String message) {
+        return new LocalServerException(400, PlayFabErrorCode.InvalidParams, message);
+    }
+}
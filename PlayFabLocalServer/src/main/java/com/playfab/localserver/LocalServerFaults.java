@@ -0,0 +1,94 @@
+package com.playfab.localserver;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Latency and error injection for a PlayFabLocalServer.
+ * A Fault applies to every api path that starts with its prefix ("/" for everything, "/Client/" for an api family,
+ * "/Server/GetTitleData" for one endpoint); the longest matching prefix wins. Changes take effect on the next call
+ */
+public class LocalServerFaults {
+    private final ConcurrentHashMap<String, Fault> faults = new ConcurrentHashMap<String, Fault>();
+
+    /** Adds or replaces the fault for a path prefix */
+    public Fault set(String pathPrefix, Fault fault) {
+        faults.put(pathPrefix, fault);
+        return fault;
+    }
+
+    public void remove(String pathPrefix) {
+        faults.remove(pathPrefix);
+    }
+
+    public void clear() {
+        faults.clear();
+    }
+
+    /** Shorthand: every call under the prefix is delayed by latencyMs plus a uniform random 0..jitterMs */
+    public Fault setLatency(String pathPrefix, long latencyMs, long jitterMs) {
+        Fault fault = new Fault();
+        fault.latencyMs = latencyMs;
+        fault.jitterMs = jitterMs;
+        return set(pathPrefix, fault);
+    }
+
+    /** Shorthand: a random fraction of calls under the prefix fail with the given error */
+    public Fault setErrorRate(String pathPrefix, double errorRate, int httpCode, PlayFabErrorCode errorCode) {
+        Fault fault = new Fault();
+        fault.errorRate = errorRate;
+        fault.httpCode = httpCode;
+        fault.errorCode = errorCode;
+        return set(pathPrefix, fault);
+    }
+
+    /** Shorthand: the next count calls under the prefix fail with the given error, then calls succeed again */
+    public Fault failNext(String pathPrefix, int count, int httpCode, PlayFabErrorCode errorCode) {
+        Fault fault = new Fault();
+        fault.failNext.set(count);
+        fault.httpCode = httpCode;
+        fault.errorCode = errorCode;
+        return set(pathPrefix, fault);
+    }
+
+    /** The fault with the longest prefix of path, or null */
+    public Fault forPath(String path) {
+        Fault match = null;
+        int matchLength = -1;
+        for (Map.Entry<String, Fault> pair : faults.entrySet()) {
+            String prefix = pair.getKey();
+            if (path.startsWith(prefix) && prefix.length() > matchLength) {
+                match = pair.getValue();
+                matchLength = prefix.length();
+            }
+        }
+        return match;
+    }
+
+    public static class Fault {
+        public volatile long latencyMs;
+        public volatile long jitterMs; // Added to latencyMs, uniformly distributed
+        public volatile double errorRate; // 0..1
+        public final AtomicInteger failNext = new AtomicInteger(); // Calls that fail unconditionally before errorRate applies
+        public volatile int httpCode = 503;
+        public volatile PlayFabErrorCode errorCode = PlayFabErrorCode.ServiceUnavailable;
+
+        long delayMs(Random random) {
+            long jitter = jitterMs;
+            return latencyMs + (jitter > 0 ? (long) (random.nextDouble() * jitter) : 0);
+        }
+
+        boolean shouldFail(Random random) {
+            int remaining;
+            while ((remaining = failNext.get()) > 0) {
+                if (failNext.compareAndSet(remaining, remaining - 1))
+                    return true;
+            }
+            double rate = errorRate;
+            return rate > 0 && random.nextDouble() < rate;
+        }
+    }
+}
@@ -0,0 +1,900 @@
+package com.playfab.localserver;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.util.*;
+
+import com.playfab.PlayFabAuthenticationModels;
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabDataModels;
+import com.playfab.PlayFabEventsModels;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.localserver.LocalServerState.*;
+import com.playfab.localserver.PlayFabLocalServer.*;
+
+/**
+ * The endpoints a PlayFabLocalServer answers, and the behaviour behind them.
+ * State is held in server-model form; Client calls return the same models, since both apis share the json shapes
+ */
+class LocalServerRoutes {
+    static final String TitlePlayerAccount = "title_player_account";
+    static final int UserData = 0, ReadOnlyData = 1, InternalData = 2;
+    private static final int DefaultLeaderboardResults = 10, MaxLeaderboardResults = 100;
+
+    static void registerAll(PlayFabLocalServer server) {
+        registerClient(server);
+        registerServer(server);
+        registerEntity(server);
+    }
+
+    private static void registerClient(PlayFabLocalServer server) {
+        server.register("/Client/LoginWithCustomID", Auth.None, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.LoginWithCustomIDRequest request = call.request(PlayFabClientModels.LoginWithCustomIDRequest.class);
+                return loginWithCustomId(call.state(), request);
+            }
+        });
+        server.register("/Client/GetUserData", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.GetUserDataRequest request = call.request(PlayFabClientModels.GetUserDataRequest.class);
+                return getUserData(call.state(), request.PlayFabId != null ? request.PlayFabId : call.playFabId, request.Keys, request.IfChangedFromDataVersion, UserData, false);
+            }
+        });
+        server.register("/Client/GetUserReadOnlyData", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.GetUserDataRequest request = call.request(PlayFabClientModels.GetUserDataRequest.class);
+                return getUserData(call.state(), request.PlayFabId != null ? request.PlayFabId : call.playFabId, request.Keys, request.IfChangedFromDataVersion, ReadOnlyData, false);
+            }
+        });
+        server.register("/Client/UpdateUserData", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.UpdateUserDataRequest request = call.request(PlayFabClientModels.UpdateUserDataRequest.class);
+                UserDataPermission permission = request.Permission != null ? UserDataPermission.valueOf(request.Permission.name()) : null;
+                return updateUserData(call.state(), call.playFabId, request.Data, request.KeysToRemove, permission, UserData);
+            }
+        });
+        server.register("/Client/UpdatePlayerStatistics", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.UpdatePlayerStatisticsRequest request = call.request(PlayFabClientModels.UpdatePlayerStatisticsRequest.class);
+                return updatePlayerStatistics(call.state(), call.playFabId, call.convert(request.Statistics, StatisticUpdate[].class));
+            }
+        });
+        server.register("/Client/GetPlayerStatistics", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.GetPlayerStatisticsRequest request = call.request(PlayFabClientModels.GetPlayerStatisticsRequest.class);
+                GetPlayerStatisticsResult result = getPlayerStatistics(call.state(), call.playFabId, request.StatisticNames);
+                result.PlayFabId = null;
+                return result;
+            }
+        });
+        server.register("/Client/GetLeaderboard", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.GetLeaderboardRequest request = call.request(PlayFabClientModels.GetLeaderboardRequest.class);
+                return getLeaderboard(call.state(), request.StatisticName, request.StartPosition, request.MaxResultsCount, null);
+            }
+        });
+        server.register("/Client/GetLeaderboardAroundPlayer", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.GetLeaderboardAroundPlayerRequest request = call.request(PlayFabClientModels.GetLeaderboardAroundPlayerRequest.class);
+                return getLeaderboard(call.state(), request.StatisticName, null, request.MaxResultsCount, request.PlayFabId != null ? request.PlayFabId : call.playFabId);
+            }
+        });
+        server.register("/Client/GetTitleData", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getTitleData(call.state(), call.request(PlayFabClientModels.GetTitleDataRequest.class).Keys, false);
+            }
+        });
+        server.register("/Client/GetCatalogItems", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getCatalogItems(call.state(), call.request(PlayFabClientModels.GetCatalogItemsRequest.class).CatalogVersion);
+            }
+        });
+        server.register("/Client/PurchaseItem", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return purchaseItem(call, call.request(PlayFabClientModels.PurchaseItemRequest.class));
+            }
+        });
+        server.register("/Client/GetUserInventory", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetUserInventoryResult result = getUserInventory(call.state(), call.playFabId);
+                result.PlayFabId = null;
+                return result;
+            }
+        });
+        server.register("/Client/AddUserVirtualCurrency", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.AddUserVirtualCurrencyRequest request = call.request(PlayFabClientModels.AddUserVirtualCurrencyRequest.class);
+                return modifyVirtualCurrency(call.state(), call.playFabId, request.VirtualCurrency, request.Amount, false);
+            }
+        });
+        server.register("/Client/SubtractUserVirtualCurrency", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabClientModels.SubtractUserVirtualCurrencyRequest request = call.request(PlayFabClientModels.SubtractUserVirtualCurrencyRequest.class);
+                return modifyVirtualCurrency(call.state(), call.playFabId, request.VirtualCurrency, request.Amount, true);
+            }
+        });
+        server.register("/Client/WritePlayerEvent", Auth.Session, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return writeEvent(call.state(), call.request(PlayFabClientModels.WriteClientPlayerEventRequest.class).EventName);
+            }
+        });
+    }
+
+    private static void registerServer(PlayFabLocalServer server) {
+        server.register("/Server/AuthenticateSessionTicket", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                AuthenticateSessionTicketRequest request = call.request(AuthenticateSessionTicketRequest.class);
+                Player player = call.state().getPlayerForTicket(request.SessionTicket);
+                if (player == null)
+                    throw new LocalServerException(400, PlayFabErrorCode.InvalidSessionTicket, "Invalid session ticket");
+                AuthenticateSessionTicketResult result = new AuthenticateSessionTicketResult();
+                result.UserInfo = call.state().getAccountInfo(player);
+                return result;
+            }
+        });
+        server.register("/Server/GetTitleData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getTitleData(call.state(), call.request(GetTitleDataRequest.class).Keys, false);
+            }
+        });
+        server.register("/Server/GetTitleInternalData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getTitleData(call.state(), call.request(GetTitleDataRequest.class).Keys, true);
+            }
+        });
+        server.register("/Server/SetTitleData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return setTitleData(call.state(), call.request(SetTitleDataRequest.class), false);
+            }
+        });
+        server.register("/Server/SetTitleInternalData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return setTitleData(call.state(), call.request(SetTitleDataRequest.class), true);
+            }
+        });
+        server.register("/Server/GetUserData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetUserDataRequest request = call.request(GetUserDataRequest.class);
+                return getUserData(call.state(), request.PlayFabId, request.Keys, request.IfChangedFromDataVersion, UserData, true);
+            }
+        });
+        server.register("/Server/GetUserReadOnlyData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetUserDataRequest request = call.request(GetUserDataRequest.class);
+                return getUserData(call.state(), request.PlayFabId, request.Keys, request.IfChangedFromDataVersion, ReadOnlyData, true);
+            }
+        });
+        server.register("/Server/GetUserInternalData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetUserDataRequest request = call.request(GetUserDataRequest.class);
+                return getUserData(call.state(), request.PlayFabId, request.Keys, request.IfChangedFromDataVersion, InternalData, true);
+            }
+        });
+        server.register("/Server/UpdateUserData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                UpdateUserDataRequest request = call.request(UpdateUserDataRequest.class);
+                return updateUserData(call.state(), request.PlayFabId, request.Data, request.KeysToRemove, request.Permission, UserData);
+            }
+        });
+        server.register("/Server/UpdateUserReadOnlyData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                UpdateUserDataRequest request = call.request(UpdateUserDataRequest.class);
+                return updateUserData(call.state(), request.PlayFabId, request.Data, request.KeysToRemove, request.Permission, ReadOnlyData);
+            }
+        });
+        server.register("/Server/UpdateUserInternalData", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                UpdateUserInternalDataRequest request = call.request(UpdateUserInternalDataRequest.class);
+                return updateUserData(call.state(), request.PlayFabId, request.Data, request.KeysToRemove, null, InternalData);
+            }
+        });
+        server.register("/Server/UpdatePlayerStatistics", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                UpdatePlayerStatisticsRequest request = call.request(UpdatePlayerStatisticsRequest.class);
+                return updatePlayerStatistics(call.state(), request.PlayFabId, request.Statistics != null ? request.Statistics.toArray(new StatisticUpdate[0]) : null);
+            }
+        });
+        server.register("/Server/GetPlayerStatistics", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetPlayerStatisticsRequest request = call.request(GetPlayerStatisticsRequest.class);
+                return getPlayerStatistics(call.state(), request.PlayFabId, request.StatisticNames);
+            }
+        });
+        server.register("/Server/GetLeaderboard", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetLeaderboardRequest request = call.request(GetLeaderboardRequest.class);
+                return getLeaderboard(call.state(), request.StatisticName, request.StartPosition, request.MaxResultsCount, null);
+            }
+        });
+        server.register("/Server/GetLeaderboardAroundUser", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                GetLeaderboardAroundUserRequest request = call.request(GetLeaderboardAroundUserRequest.class);
+                call.state().requirePlayer(request.PlayFabId);
+                return getLeaderboard(call.state(), request.StatisticName, null, request.MaxResultsCount, request.PlayFabId);
+            }
+        });
+        server.register("/Server/GetCatalogItems", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getCatalogItems(call.state(), call.request(GetCatalogItemsRequest.class).CatalogVersion);
+            }
+        });
+        server.register("/Server/GetUserInventory", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return getUserInventory(call.state(), call.request(GetUserInventoryRequest.class).PlayFabId);
+            }
+        });
+        server.register("/Server/GrantItemsToUser", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return grantItemsToUser(call, call.request(GrantItemsToUserRequest.class));
+            }
+        });
+        server.register("/Server/AddUserVirtualCurrency", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                AddUserVirtualCurrencyRequest request = call.request(AddUserVirtualCurrencyRequest.class);
+                return modifyVirtualCurrency(call.state(), request.PlayFabId, request.VirtualCurrency, request.Amount, false);
+            }
+        });
+        server.register("/Server/SubtractUserVirtualCurrency", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                SubtractUserVirtualCurrencyRequest request = call.request(SubtractUserVirtualCurrencyRequest.class);
+                return modifyVirtualCurrency(call.state(), request.PlayFabId, request.VirtualCurrency, request.Amount, true);
+            }
+        });
+        server.register("/Server/BanUsers", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                BanUsersRequest request = call.request(BanUsersRequest.class);
+                if (request.Bans == null || request.Bans.isEmpty())
+                    throw LocalServerException.invalidParams("Bans is required");
+                BanUsersResult result = new BanUsersResult();
+                result.BanData = new ArrayList<BanInfo>();
+                for (BanRequest ban : request.Bans)
+                    result.BanData.add(call.state().ban(ban));
+                return result;
+            }
+        });
+        server.register("/Server/DeletePlayer", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                call.state().deletePlayer(call.request(DeletePlayerRequest.class).PlayFabId);
+                return new DeletePlayerResult();
+            }
+        });
+        server.register("/Server/WritePlayerEvent", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                WriteServerPlayerEventRequest request = call.request(WriteServerPlayerEventRequest.class);
+                call.state().requirePlayer(request.PlayFabId);
+                return writeEvent(call.state(), request.EventName);
+            }
+        });
+        server.register("/Server/WriteTitleEvent", Auth.SecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                return writeEvent(call.state(), call.request(WriteTitleEventRequest.class).EventName);
+            }
+        });
+    }
+
+    private static void registerEntity(PlayFabLocalServer server) {
+        server.register("/Authentication/GetEntityToken", Auth.EntityOrSecretKey, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabAuthenticationModels.GetEntityTokenRequest request = call.request(PlayFabAuthenticationModels.GetEntityTokenRequest.class);
+                String entityId, entityType;
+                if (call.entityId == null) {
+                    // Secret key callers act as the title, or on behalf of any entity they name
+                    entityId = request.Entity != null ? request.Entity.Id : call.state().titleId;
+                    entityType = request.Entity != null ? request.Entity.Type : "title";
+                } else {
+                    entityId = call.entityId;
+                    entityType = call.entityType;
+                }
+                PlayFabAuthenticationModels.GetEntityTokenResponse result = new PlayFabAuthenticationModels.GetEntityTokenResponse();
+                result.Entity = new PlayFabAuthenticationModels.EntityKey();
+                result.Entity.Id = entityId;
+                result.Entity.Type = entityType;
+                result.EntityToken = call.state().createEntityToken(entityId, entityType);
+                result.TokenExpiration = new Date(System.currentTimeMillis() + 24 * 3600000L);
+                return result;
+            }
+        });
+        server.register("/Object/GetObjects", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.GetObjectsRequest request = call.request(PlayFabDataModels.GetObjectsRequest.class);
+                return getObjects(call, requireEntity(call, request.Entity), request.EscapeObject != null && request.EscapeObject.booleanValue());
+            }
+        });
+        server.register("/Object/SetObjects", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.SetObjectsRequest request = call.request(PlayFabDataModels.SetObjectsRequest.class);
+                return setObjects(call, requireEntity(call, request.Entity), request);
+            }
+        });
+        server.register("/File/InitiateFileUploads", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.InitiateFileUploadsRequest request = call.request(PlayFabDataModels.InitiateFileUploadsRequest.class);
+                return initiateFileUploads(call, requireEntity(call, request.Entity), request.FileNames, request.ProfileVersion);
+            }
+        });
+        server.register("/File/FinalizeFileUploads", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.FinalizeFileUploadsRequest request = call.request(PlayFabDataModels.FinalizeFileUploadsRequest.class);
+                return finalizeFileUploads(call, requireEntity(call, request.Entity), request.FileNames);
+            }
+        });
+        server.register("/File/AbortFileUploads", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.AbortFileUploadsRequest request = call.request(PlayFabDataModels.AbortFileUploadsRequest.class);
+                return removeFiles(call, requireEntity(call, request.Entity), request.FileNames, request.ProfileVersion, true);
+            }
+        });
+        server.register("/File/DeleteFiles", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.DeleteFilesRequest request = call.request(PlayFabDataModels.DeleteFilesRequest.class);
+                return removeFiles(call, requireEntity(call, request.Entity), request.FileNames, request.ProfileVersion, false);
+            }
+        });
+        server.register("/File/GetFiles", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabDataModels.GetFilesRequest request = call.request(PlayFabDataModels.GetFilesRequest.class);
+                return getFiles(call, requireEntity(call, request.Entity));
+            }
+        });
+        server.register("/Event/WriteEvents", Auth.Entity, new Route() {
+            public Object handle(Call call) throws LocalServerException {
+                PlayFabEventsModels.WriteEventsRequest request = call.request(PlayFabEventsModels.WriteEventsRequest.class);
+                if (request.Events == null || request.Events.isEmpty())
+                    throw LocalServerException.invalidParams("Events is required");
+                PlayFabEventsModels.WriteEventsResponse result = new PlayFabEventsModels.WriteEventsResponse();
+                result.AssignedEventIds = new ArrayList<String>();
+                for (PlayFabEventsModels.EventContents event : request.Events) {
+                    call.state().recordEvent((event.EventNamespace != null ? event.EventNamespace + "." : "") + event.Name);
+                    result.AssignedEventIds.add(call.state().newId());
+                }
+                return result;
+            }
+        });
+    }
+
+    // Players
+
+    private static PlayFabClientModels.LoginResult loginWithCustomId(LocalServerState state, PlayFabClientModels.LoginWithCustomIDRequest request) throws LocalServerException {
+        if (!state.titleId.equals(request.TitleId))
+            throw new LocalServerException(400, PlayFabErrorCode.InvalidTitleId, "Invalid title id: " + request.TitleId);
+        if (request.CustomId == null || request.CustomId.length() == 0)
+            throw LocalServerException.invalidParams("CustomId is required");
+
+        boolean[] created = new boolean[1];
+        Player player = state.getOrCreatePlayer(request.CustomId, request.CreateAccount != null && request.CreateAccount.booleanValue(), created);
+        if (player == null)
+            throw new LocalServerException(400, PlayFabErrorCode.AccountNotFound, "User not found");
+        if (state.isBanned(player.playFabId))
+            throw new LocalServerException(403, PlayFabErrorCode.AccountBanned, "The account making this request is currently banned");
+
+        PlayFabClientModels.LoginResult result = new PlayFabClientModels.LoginResult();
+        result.LastLoginTime = player.lastLogin;
+        player.lastLogin = new Date();
+        result.NewlyCreated = created[0];
+        result.PlayFabId = player.playFabId;
+        result.SessionTicket = state.createSessionTicket(player);
+        result.SettingsForUser = new PlayFabClientModels.UserSettings();
+        result.SettingsForUser.GatherDeviceInfo = false;
+        result.SettingsForUser.GatherFocusInfo = false;
+        result.SettingsForUser.NeedsAttribution = false;
+        result.EntityToken = new PlayFabClientModels.EntityTokenResponse();
+        result.EntityToken.Entity = new PlayFabClientModels.EntityKey();
+        result.EntityToken.Entity.Id = player.titlePlayerAccountId;
+        result.EntityToken.Entity.Type = TitlePlayerAccount;
+        result.EntityToken.EntityToken = state.createEntityToken(player.titlePlayerAccountId, TitlePlayerAccount);
+        result.EntityToken.TokenExpiration = new Date(System.currentTimeMillis() + 24 * 3600000L);
+        return result;
+    }
+
+    private static Map<String, UserDataRecord> dataFor(Player player, int kind) {
+        return kind == UserData ? player.userData : kind == ReadOnlyData ? player.readOnlyData : player.internalData;
+    }
+
+    private static GetUserDataResult getUserData(LocalServerState state, String playFabId, List<String> keys, Long ifChangedFromDataVersion, int kind, boolean includePlayFabId) throws LocalServerException {
+        Player player = state.requirePlayer(playFabId);
+        GetUserDataResult result = new GetUserDataResult();
+        result.PlayFabId = includePlayFabId ? player.playFabId : null;
+        result.Data = new HashMap<String, UserDataRecord>();
+        player.lock.lock();
+        try {
+            result.DataVersion = kind == UserData ? player.userDataVersion : kind == ReadOnlyData ? player.readOnlyDataVersion : player.internalDataVersion;
+            if (ifChangedFromDataVersion != null && ifChangedFromDataVersion >= result.DataVersion)
+                return result;
+            Map<String, UserDataRecord> data = dataFor(player, kind);
+            for (Map.Entry<String, UserDataRecord> pair : data.entrySet()) {
+                if (keys == null || keys.contains(pair.getKey()))
+                    result.Data.put(pair.getKey(), pair.getValue());
+            }
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    private static UpdateUserDataResult updateUserData(LocalServerState state, String playFabId, Map<String, String> data, List<String> keysToRemove, UserDataPermission permission, int kind) throws LocalServerException {
+        Player player = state.requirePlayer(playFabId);
+        UpdateUserDataResult result = new UpdateUserDataResult();
+        Date now = new Date();
+        player.lock.lock();
+        try {
+            Map<String, UserDataRecord> records = dataFor(player, kind);
+            if (data != null) {
+                for (Map.Entry<String, String> pair : data.entrySet()) {
+                    if (pair.getValue() == null) {
+                        records.remove(pair.getKey());
+                        continue;
+                    }
+                    // Records are replaced, never mutated, so results built from them stay consistent after the lock is released
+                    UserDataRecord record = new UserDataRecord();
+                    record.Value = pair.getValue();
+                    record.LastUpdated = now;
+                    record.Permission = kind == InternalData ? null : permission != null ? permission : UserDataPermission.Private;
+                    records.put(pair.getKey(), record);
+                }
+            }
+            if (keysToRemove != null) {
+                for (String key : keysToRemove)
+                    records.remove(key);
+            }
+            if (kind == UserData)
+                result.DataVersion = ++player.userDataVersion;
+            else if (kind == ReadOnlyData)
+                result.DataVersion = ++player.readOnlyDataVersion;
+            else
+                result.DataVersion = ++player.internalDataVersion;
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    // Statistics and leaderboards
+
+    private static UpdatePlayerStatisticsResult updatePlayerStatistics(LocalServerState state, String playFabId, StatisticUpdate[] statistics) throws LocalServerException {
+        Player player = state.requirePlayer(playFabId);
+        if (statistics == null || statistics.length == 0)
+            throw LocalServerException.invalidParams("Statistics is required");
+        for (StatisticUpdate update : statistics) {
+            if (update.StatisticName == null || update.Value == null)
+                throw LocalServerException.invalidParams("StatisticName and Value are required");
+        }
+        for (StatisticUpdate update : statistics)
+            state.updateStatistic(player, update.StatisticName, update.Value);
+        return new UpdatePlayerStatisticsResult();
+    }
+
+    private static GetPlayerStatisticsResult getPlayerStatistics(LocalServerState state, String playFabId, List<String> statisticNames) throws LocalServerException {
+        Player player = state.requirePlayer(playFabId);
+        GetPlayerStatisticsResult result = new GetPlayerStatisticsResult();
+        result.PlayFabId = player.playFabId;
+        result.Statistics = new ArrayList<StatisticValue>();
+        player.lock.lock();
+        try {
+            for (Map.Entry<String, Integer> pair : player.statistics.entrySet()) {
+                if (statisticNames != null && !statisticNames.contains(pair.getKey()))
+                    continue;
+                StatisticValue value = new StatisticValue();
+                value.StatisticName = pair.getKey();
+                value.Value = pair.getValue();
+                value.Version = 0L;
+                result.Statistics.add(value);
+            }
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    /** A page of a leaderboard: from startPosition, or centred on aroundPlayFabId when that is given */
+    private static GetLeaderboardResult getLeaderboard(LocalServerState state, String statisticName, Integer startPosition, Integer maxResultsCount, String aroundPlayFabId) throws LocalServerException {
+        if (statisticName == null)
+            throw LocalServerException.invalidParams("StatisticName is required");
+        int count = maxResultsCount != null ? maxResultsCount : DefaultLeaderboardResults;
+        if (count < 1 || count > MaxLeaderboardResults)
+            throw LocalServerException.invalidParams("MaxResultsCount must be between 1 and " + MaxLeaderboardResults);
+
+        Leaderboard leaderboard = state.getLeaderboard(statisticName);
+        int start = startPosition != null ? startPosition : 0;
+        if (aroundPlayFabId != null)
+            start = Math.max(0, Math.min(leaderboard.positionOf(aroundPlayFabId) - count / 2, leaderboard.size() - count));
+
+        GetLeaderboardResult result = new GetLeaderboardResult();
+        result.Version = 0;
+        result.Leaderboard = new ArrayList<PlayerLeaderboardEntry>();
+        int position = start;
+        for (Rank rank : leaderboard.range(start, count)) {
+            PlayerLeaderboardEntry entry = new PlayerLeaderboardEntry();
+            entry.PlayFabId = rank.playFabId;
+            entry.Position = position++;
+            entry.StatValue = rank.value;
+            result.Leaderboard.add(entry);
+        }
+        return result;
+    }
+
+    // Title data and catalogs
+
+    private static GetTitleDataResult getTitleData(LocalServerState state, List<String> keys, boolean internal) {
+        GetTitleDataResult result = new GetTitleDataResult();
+        result.Data = new HashMap<String, String>();
+        for (Map.Entry<String, String> pair : state.getTitleData(internal).entrySet()) {
+            if (keys == null || keys.contains(pair.getKey()))
+                result.Data.put(pair.getKey(), pair.getValue());
+        }
+        return result;
+    }
+
+    private static SetTitleDataResult setTitleData(LocalServerState state, SetTitleDataRequest request, boolean internal) throws LocalServerException {
+        if (request.Key == null || request.Key.length() == 0)
+            throw LocalServerException.invalidParams("Key is required");
+        state.setTitleData(internal, request.Key, request.Value);
+        return new SetTitleDataResult();
+    }
+
+    private static GetCatalogItemsResult getCatalogItems(LocalServerState state, String catalogVersion) throws LocalServerException {
+        GetCatalogItemsResult result = new GetCatalogItemsResult();
+        result.Catalog = new ArrayList<CatalogItem>(state.getCatalog(catalogVersion));
+        return result;
+    }
+
+    // Inventory and currency
+
+    private static PlayFabClientModels.PurchaseItemResult purchaseItem(Call call, PlayFabClientModels.PurchaseItemRequest request) throws LocalServerException {
+        if (request.ItemId == null || request.VirtualCurrency == null || request.Price == null)
+            throw LocalServerException.invalidParams("ItemId, VirtualCurrency and Price are required");
+        LocalServerState state = call.state();
+        Player player = state.requirePlayer(call.playFabId);
+        CatalogItem item = state.getCatalogItem(request.CatalogVersion, request.ItemId);
+        Long price = item.VirtualCurrencyPrices != null ? item.VirtualCurrencyPrices.get(request.VirtualCurrency) : null;
+        if (price == null)
+            throw new LocalServerException(400, PlayFabErrorCode.WrongVirtualCurrency, "Item is not for sale in " + request.VirtualCurrency);
+        if (price.longValue() != request.Price.longValue())
+            throw new LocalServerException(400, PlayFabErrorCode.WrongPrice, "Item price is " + price);
+
+        PlayFabClientModels.PurchaseItemResult result = new PlayFabClientModels.PurchaseItemResult();
+        List<ItemInstance> granted;
+        player.lock.lock();
+        try {
+            state.addCurrencyLocked(player, request.VirtualCurrency, -price.intValue());
+            granted = state.grantLocked(player, request.CatalogVersion, item, request.VirtualCurrency, price, "Purchased");
+        } finally {
+            player.lock.unlock();
+        }
+        result.Items = new ArrayList<PlayFabClientModels.ItemInstance>();
+        for (ItemInstance instance : granted)
+            result.Items.add(call.convert(instance, PlayFabClientModels.ItemInstance.class));
+        return result;
+    }
+
+    private static GetUserInventoryResult getUserInventory(LocalServerState state, String playFabId) throws LocalServerException {
+        Player player = state.requirePlayer(playFabId);
+        GetUserInventoryResult result = new GetUserInventoryResult();
+        result.PlayFabId = player.playFabId;
+        player.lock.lock();
+        try {
+            result.Inventory = new ArrayList<ItemInstance>(player.inventory);
+            result.VirtualCurrency = new HashMap<String, Integer>(player.virtualCurrency);
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    private static GrantItemsToUserResult grantItemsToUser(Call call, GrantItemsToUserRequest request) throws LocalServerException {
+        if (request.ItemIds == null || request.ItemIds.isEmpty())
+            throw LocalServerException.invalidParams("ItemIds is required");
+        LocalServerState state = call.state();
+        Player player = state.requirePlayer(request.PlayFabId);
+        List<CatalogItem> items = new ArrayList<CatalogItem>();
+        for (String itemId : request.ItemIds)
+            items.add(state.getCatalogItem(request.CatalogVersion, itemId));
+
+        GrantItemsToUserResult result = new GrantItemsToUserResult();
+        result.ItemGrantResults = new ArrayList<GrantedItemInstance>();
+        player.lock.lock();
+        try {
+            for (CatalogItem item : items) {
+                for (ItemInstance instance : state.grantLocked(player, request.CatalogVersion, item, null, null, request.Annotation)) {
+                    GrantedItemInstance granted = call.convert(instance, GrantedItemInstance.class);
+                    granted.PlayFabId = player.playFabId;
+                    granted.Result = true;
+                    result.ItemGrantResults.add(granted);
+                }
+            }
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    private static ModifyUserVirtualCurrencyResult modifyVirtualCurrency(LocalServerState state, String playFabId, String virtualCurrency, Integer amount, boolean subtract) throws LocalServerException {
+        if (virtualCurrency == null || amount == null || amount < 0)
+            throw LocalServerException.invalidParams("VirtualCurrency and a non-negative Amount are required");
+        Player player = state.requirePlayer(playFabId);
+        ModifyUserVirtualCurrencyResult result = new ModifyUserVirtualCurrencyResult();
+        result.PlayFabId = player.playFabId;
+        result.VirtualCurrency = virtualCurrency;
+        result.BalanceChange = subtract ? -amount : amount;
+        player.lock.lock();
+        try {
+            result.Balance = state.addCurrencyLocked(player, virtualCurrency, result.BalanceChange);
+        } finally {
+            player.lock.unlock();
+        }
+        return result;
+    }
+
+    private static WriteEventResponse writeEvent(LocalServerState state, String eventName) throws LocalServerException {
+        if (eventName == null || eventName.length() == 0)
+            throw LocalServerException.invalidParams("EventName is required");
+        state.recordEvent(eventName);
+        WriteEventResponse result = new WriteEventResponse();
+        result.EventId = state.newId();
+        return result;
+    }
+
+    // Entity objects and files
+
+    /** The entity a call acts on: the requested one, which callers other than the title may only name as themselves */
+    private static PlayFabDataModels.EntityKey requireEntity(Call call, PlayFabDataModels.EntityKey requested) throws LocalServerException {
+        PlayFabDataModels.EntityKey entity = new PlayFabDataModels.EntityKey();
+        entity.Id = requested != null && requested.Id != null ? requested.Id : call.entityId;
+        entity.Type = requested != null && requested.Type != null ? requested.Type : call.entityType;
+        if (!"title".equals(call.entityType) && !(entity.Id.equals(call.entityId) && entity.Type.equals(call.entityType)))
+            throw new LocalServerException(403, PlayFabErrorCode.NotAuthorized, "The caller may not access " + entity.Type + " " + entity.Id);
+        return entity;
+    }
+
+    private static PlayFabDataModels.GetObjectsResponse getObjects(Call call, PlayFabDataModels.EntityKey entity, boolean escapeObject) {
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        PlayFabDataModels.GetObjectsResponse result = new PlayFabDataModels.GetObjectsResponse();
+        result.Entity = entity;
+        result.Objects = new TreeMap<String, PlayFabDataModels.ObjectResult>();
+        data.lock.lock();
+        try {
+            result.ProfileVersion = data.profileVersion;
+            for (Map.Entry<String, Object> pair : data.objects.entrySet()) {
+                PlayFabDataModels.ObjectResult object = new PlayFabDataModels.ObjectResult();
+                object.ObjectName = pair.getKey();
+                if (escapeObject)
+                    object.EscapedDataObject = call.toJson(pair.getValue());
+                else
+                    object.DataObject = pair.getValue();
+                result.Objects.put(pair.getKey(), object);
+            }
+        } finally {
+            data.lock.unlock();
+        }
+        return result;
+    }
+
+    private static PlayFabDataModels.SetObjectsResponse setObjects(Call call, PlayFabDataModels.EntityKey entity, PlayFabDataModels.SetObjectsRequest request) throws LocalServerException {
+        if (request.Objects == null || request.Objects.isEmpty())
+            throw LocalServerException.invalidParams("Objects is required");
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        PlayFabDataModels.SetObjectsResponse result = new PlayFabDataModels.SetObjectsResponse();
+        result.SetResults = new ArrayList<PlayFabDataModels.SetObjectInfo>();
+        data.lock.lock();
+        try {
+            checkProfileVersion(data, request.ExpectedProfileVersion);
+            for (PlayFabDataModels.SetObject object : request.Objects) {
+                PlayFabDataModels.SetObjectInfo info = new PlayFabDataModels.SetObjectInfo();
+                info.ObjectName = object.ObjectName;
+                boolean existed = data.objects.containsKey(object.ObjectName);
+                if (object.DeleteObject != null && object.DeleteObject.booleanValue()) {
+                    data.objects.remove(object.ObjectName);
+                    info.SetResult = existed ? PlayFabDataModels.OperationTypes.Deleted : PlayFabDataModels.OperationTypes.None;
+                } else {
+                    Object value = object.EscapedDataObject != null ? call.parse(object.EscapedDataObject) : object.DataObject;
+                    data.objects.put(object.ObjectName, value);
+                    info.SetResult = existed ? PlayFabDataModels.OperationTypes.Updated : PlayFabDataModels.OperationTypes.Created;
+                }
+                result.SetResults.add(info);
+            }
+            result.ProfileVersion = ++data.profileVersion;
+        } finally {
+            data.lock.unlock();
+        }
+        return result;
+    }
+
+    private static void checkProfileVersion(EntityData data, Integer expectedProfileVersion) throws LocalServerException {
+        if (expectedProfileVersion != null && expectedProfileVersion != data.profileVersion)
+            throw new LocalServerException(400, PlayFabErrorCode.EntityProfileVersionMismatch, "Expected profile version " + expectedProfileVersion + ", current is " + data.profileVersion);
+    }
+
+    private static PlayFabDataModels.InitiateFileUploadsResponse initiateFileUploads(Call call, PlayFabDataModels.EntityKey entity, List<String> fileNames, Integer profileVersion) throws LocalServerException {
+        if (fileNames == null || fileNames.isEmpty())
+            throw LocalServerException.invalidParams("FileNames is required");
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        PlayFabDataModels.InitiateFileUploadsResponse result = new PlayFabDataModels.InitiateFileUploadsResponse();
+        result.Entity = entity;
+        result.UploadDetails = new ArrayList<PlayFabDataModels.InitiateFileUploadMetadata>();
+        data.lock.lock();
+        try {
+            checkProfileVersion(data, profileVersion);
+            for (String fileName : fileNames) {
+                StoredFile file = data.files.get(fileName);
+                if (file == null) {
+                    file = new StoredFile();
+                    data.files.put(fileName, file);
+                }
+                file.uploading = true;
+                file.pending = null;
+                PlayFabDataModels.InitiateFileUploadMetadata upload = new PlayFabDataModels.InitiateFileUploadMetadata();
+                upload.FileName = fileName;
+                upload.UploadUrl = fileUrl(call, entity, fileName);
+                result.UploadDetails.add(upload);
+            }
+            result.ProfileVersion = data.profileVersion;
+        } finally {
+            data.lock.unlock();
+        }
+        return result;
+    }
+
+    private static PlayFabDataModels.FinalizeFileUploadsResponse finalizeFileUploads(Call call, PlayFabDataModels.EntityKey entity, List<String> fileNames) throws LocalServerException {
+        if (fileNames == null || fileNames.isEmpty())
+            throw LocalServerException.invalidParams("FileNames is required");
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        PlayFabDataModels.FinalizeFileUploadsResponse result = new PlayFabDataModels.FinalizeFileUploadsResponse();
+        result.Entity = entity;
+        result.Metadata = new TreeMap<String, PlayFabDataModels.GetFileMetadata>();
+        data.lock.lock();
+        try {
+            for (String fileName : fileNames) {
+                StoredFile file = data.files.get(fileName);
+                if (file == null || !file.uploading || file.pending == null)
+                    throw new LocalServerException(400, PlayFabErrorCode.FileNotFound, "No upload of " + fileName + " to finalize");
+            }
+            Date now = new Date();
+            for (String fileName : fileNames) {
+                StoredFile file = data.files.get(fileName);
+                file.content = file.pending;
+                file.pending = null;
+                file.uploading = false;
+                file.lastModified = now;
+                result.Metadata.put(fileName, fileMetadata(call, entity, fileName, file));
+            }
+            result.ProfileVersion = ++data.profileVersion;
+        } finally {
+            data.lock.unlock();
+        }
+        return result;
+    }
+
+    /** DeleteFiles removes uploaded files; AbortFileUploads only cancels uploads in progress */
+    private static Object removeFiles(Call call, PlayFabDataModels.EntityKey entity, List<String> fileNames, Integer profileVersion, boolean abort) throws LocalServerException {
+        if (fileNames == null || fileNames.isEmpty())
+            throw LocalServerException.invalidParams("FileNames is required");
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        int updatedVersion;
+        data.lock.lock();
+        try {
+            checkProfileVersion(data, profileVersion);
+            for (String fileName : fileNames) {
+                StoredFile file = data.files.get(fileName);
+                if (file == null || (abort ? !file.uploading : file.content == null))
+                    throw new LocalServerException(400, PlayFabErrorCode.FileNotFound, "File not found: " + fileName);
+            }
+            for (String fileName : fileNames) {
+                StoredFile file = data.files.get(fileName);
+                file.uploading = false;
+                file.pending = null;
+                if (!abort)
+                    file.content = null;
+                if (file.content == null)
+                    data.files.remove(fileName);
+            }
+            updatedVersion = abort ? data.profileVersion : ++data.profileVersion;
+        } finally {
+            data.lock.unlock();
+        }
+
+        if (abort) {
+            PlayFabDataModels.AbortFileUploadsResponse result = new PlayFabDataModels.AbortFileUploadsResponse();
+            result.Entity = entity;
+            result.ProfileVersion = updatedVersion;
+            return result;
+        }
+        PlayFabDataModels.DeleteFilesResponse result = new PlayFabDataModels.DeleteFilesResponse();
+        result.Entity = entity;
+        result.ProfileVersion = updatedVersion;
+        return result;
+    }
+
+    private static PlayFabDataModels.GetFilesResponse getFiles(Call call, PlayFabDataModels.EntityKey entity) {
+        EntityData data = call.state().getEntityData(entity.Id, entity.Type);
+        PlayFabDataModels.GetFilesResponse result = new PlayFabDataModels.GetFilesResponse();
+        result.Entity = entity;
+        result.Metadata = new TreeMap<String, PlayFabDataModels.GetFileMetadata>();
+        data.lock.lock();
+        try {
+            for (Map.Entry<String, StoredFile> pair : data.files.entrySet()) {
+                if (pair.getValue().content != null)
+                    result.Metadata.put(pair.getKey(), fileMetadata(call, entity, pair.getKey(), pair.getValue()));
+            }
+            result.ProfileVersion = data.profileVersion;
+        } finally {
+            data.lock.unlock();
+        }
+        return result;
+    }
+
+    private static PlayFabDataModels.GetFileMetadata fileMetadata(Call call, PlayFabDataModels.EntityKey entity, String fileName, StoredFile file) {
+        PlayFabDataModels.GetFileMetadata metadata = new PlayFabDataModels.GetFileMetadata();
+        metadata.FileName = fileName;
+        metadata.DownloadUrl = fileUrl(call, entity, fileName);
+        metadata.LastModified = file.lastModified;
+        metadata.Size = file.content.length;
+        metadata.Checksum = md5(file.content);
+        return metadata;
+    }
+
+    /** Upload and download urls are the same: /FileData/{entity type}/{entity id}/{file name} */
+    private static String fileUrl(Call call, PlayFabDataModels.EntityKey entity, String fileName) {
+        try {
+            return call.server.getUrl() + PlayFabLocalServer.FileDataPath + URLEncoder.encode(entity.Type, "UTF-8") + "/" + URLEncoder.encode(entity.Id, "UTF-8") + "/" + URLEncoder.encode(fileName, "UTF-8");
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** The entity data and file name behind a file url's key, or null */
+    private static Object[] resolveFile(LocalServerState state, String key) {
+        String[] parts = key.split("/", 3);
+        if (parts.length != 3)
+            return null;
+        try {
+            EntityData data = state.getEntityData(URLDecoder.decode(parts[1], "UTF-8"), URLDecoder.decode(parts[0], "UTF-8"));
+            return new Object[] { data, URLDecoder.decode(parts[2], "UTF-8") };
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** A PUT to an upload url; ignored unless an upload of that file is in progress */
+    static void uploadFile(LocalServerState state, String key, byte[] content) {
+        Object[] resolved = resolveFile(state, key);
+        if (resolved == null)
+            return;
+        EntityData data = (EntityData) resolved[0];
+        data.lock.lock();
+        try {
+            StoredFile file = data.files.get((String) resolved[1]);
+            if (file != null && file.uploading)
+                file.pending = content;
+        } finally {
+            data.lock.unlock();
+        }
+    }
+
+    /** A GET of a download url: the finalized content, or null */
+    static byte[] downloadFile(LocalServerState state, String key) {
+        Object[] resolved = resolveFile(state, key);
+        if (resolved == null)
+            return null;
+        EntityData data = (EntityData) resolved[0];
+        data.lock.lock();
+        try {
+            StoredFile file = data.files.get((String) resolved[1]);
+            return file != null ? file.content : null;
+        } finally {
+            data.lock.unlock();
+        }
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(content);
+            StringBuilder output = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
+                output.append(String.format("%02x", b & 0xff));
+            return output.toString();
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
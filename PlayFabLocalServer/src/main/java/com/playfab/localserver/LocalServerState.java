@@ -0,0 +1,453 @@
+package com.playfab.localserver;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * The in-memory title behind a PlayFabLocalServer: players and their sessions, player data, statistics and leaderboards,
+ * inventories and virtual currency, title data, catalogs, entity objects and files, and written events.
+ * Everything is held in server-model form; the Client routes convert on the way out.
+ * Per-player state is guarded by that player's lock, so calls for different players never contend
+ */
+public class LocalServerState {
+    private final AtomicLong nextId = new AtomicLong(0x1000);
+
+    private final ConcurrentHashMap<String, Player> players = new ConcurrentHashMap<String, Player>();
+    private final ConcurrentHashMap<String, String> playersByCustomId = new ConcurrentHashMap<String, String>();
+    private final ConcurrentHashMap<String, String> sessionTickets = new ConcurrentHashMap<String, String>();
+    private final ConcurrentHashMap<String, Entity> entityTokens = new ConcurrentHashMap<String, Entity>();
+    private final ConcurrentHashMap<String, Leaderboard> leaderboards = new ConcurrentHashMap<String, Leaderboard>();
+
+    private final ConcurrentHashMap<String, String> titleData = new ConcurrentHashMap<String, String>();
+    private final ConcurrentHashMap<String, String> titleInternalData = new ConcurrentHashMap<String, String>();
+    private final ConcurrentHashMap<String, List<CatalogItem>> catalogs = new ConcurrentHashMap<String, List<CatalogItem>>();
+    private volatile String primaryCatalogVersion = "Primary";
+
+    private final ConcurrentHashMap<String, EntityData> entities = new ConcurrentHashMap<String, EntityData>();
+    private final ConcurrentHashMap<String, AtomicLong> eventCounts = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentHashMap<String, List<BanInfo>> bans = new ConcurrentHashMap<String, List<BanInfo>>();
+
+    public final String titleId;
+    public final String secretKey;
+
+    public LocalServerState(String titleId, String secretKey) {
+        this.titleId = titleId;
+        this.secretKey = secretKey;
+    }
+
+    public String newId() {
+        return Long.toHexString(nextId.incrementAndGet()).toUpperCase();
+    }
+
+    // Players and sessions
+
+    /** The player for a custom id, created when create is set; null when it does not exist */
+    public Player getOrCreatePlayer(String customId, boolean create, boolean[] created) {
+        String playFabId = playersByCustomId.get(customId);
+        if (playFabId != null) {
+            Player player = players.get(playFabId);
+            if (player != null)
+                return player;
+        }
+        if (!create)
+            return null;
+
+        // Publish the new player before claiming the custom id, so whoever wins the claim is always resolvable
+        Player player = new Player(newId(), customId, newId());
+        players.put(player.playFabId, player);
+        while (true) {
+            String existing = playersByCustomId.putIfAbsent(customId, player.playFabId);
+            if (existing == null) {
+                created[0] = true;
+                return player;
+            }
+            Player winner = players.get(existing);
+            if (winner != null) {
+                players.remove(player.playFabId);
+                return winner;
+            }
+            playersByCustomId.remove(customId, existing); // Left behind by a deleted player
+        }
+    }
+
+    public Player getPlayer(String playFabId) {
+        return playFabId != null ? players.get(playFabId) : null;
+    }
+
+    public Player requirePlayer(String playFabId) throws LocalServerException {
+        Player player = getPlayer(playFabId);
+        if (player == null)
+            throw new LocalServerException(400, PlayFabErrorCode.AccountNotFound, "User not found");
+        return player;
+    }
+
+    public Collection<Player> getPlayers() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    public String createSessionTicket(Player player) {
+        String ticket = player.playFabId + "-" + newId() + "-" + UUID.randomUUID().toString().replace("-", "");
+        sessionTickets.put(ticket, player.playFabId);
+        return ticket;
+    }
+
+    public Player getPlayerForTicket(String ticket) {
+        String playFabId = ticket != null ? sessionTickets.get(ticket) : null;
+        return playFabId != null ? players.get(playFabId) : null;
+    }
+
+    public String createEntityToken(String entityId, String entityType) {
+        String token = UUID.randomUUID().toString().replace("-", "") + newId();
+        entityTokens.put(token, new Entity(entityId, entityType));
+        return token;
+    }
+
+    public Entity getEntityForToken(String token) {
+        return token != null ? entityTokens.get(token) : null;
+    }
+
+    /** Removes the player, their sessions and their leaderboard entries */
+    public void deletePlayer(String playFabId) throws LocalServerException {
+        Player player = requirePlayer(playFabId);
+        player.lock.lock();
+        try {
+            players.remove(playFabId);
+            playersByCustomId.remove(player.customId, playFabId);
+            for (String statisticName : player.statistics.keySet())
+                getLeaderboard(statisticName).remove(playFabId);
+        } finally {
+            player.lock.unlock();
+        }
+        sessionTickets.values().removeAll(Collections.singleton(playFabId));
+        entities.remove(Entity.key(player.titlePlayerAccountId, "title_player_account"));
+        bans.remove(playFabId);
+    }
+
+    public BanInfo ban(BanRequest request) throws LocalServerException {
+        Player player = requirePlayer(request.PlayFabId);
+        BanInfo ban = new BanInfo();
+        ban.Active = true;
+        ban.BanId = newId();
+        ban.Created = new Date();
+        ban.Expires = request.DurationInHours != null ? new Date(ban.Created.getTime() + request.DurationInHours * 3600000L) : null;
+        ban.IPAddress = request.IPAddress;
+        ban.MACAddress = request.MACAddress;
+        ban.PlayFabId = request.PlayFabId;
+        ban.Reason = request.Reason;
+
+        List<BanInfo> list = bans.get(player.playFabId);
+        if (list == null) {
+            List<BanInfo> created = new CopyOnWriteArrayList<BanInfo>();
+            list = bans.putIfAbsent(player.playFabId, created);
+            if (list == null)
+                list = created;
+        }
+        list.add(ban);
+        return ban;
+    }
+
+    public boolean isBanned(String playFabId) {
+        List<BanInfo> list = bans.get(playFabId);
+        if (list == null)
+            return false;
+        long now = System.currentTimeMillis();
+        for (BanInfo ban : list) {
+            if (ban.Active && (ban.Expires == null || ban.Expires.getTime() > now))
+                return true;
+        }
+        return false;
+    }
+
+    public UserAccountInfo getAccountInfo(Player player) {
+        UserAccountInfo info = new UserAccountInfo();
+        info.PlayFabId = player.playFabId;
+        info.Created = player.created;
+        info.CustomIdInfo = new UserCustomIdInfo();
+        info.CustomIdInfo.CustomId = player.customId;
+        info.TitleInfo = new UserTitleInfo();
+        info.TitleInfo.Created = player.created;
+        info.TitleInfo.FirstLogin = player.created;
+        info.TitleInfo.LastLogin = player.lastLogin;
+        info.TitleInfo.isBanned = isBanned(player.playFabId);
+        info.TitleInfo.Origination = UserOrigination.CustomId;
+        info.TitleInfo.TitlePlayerAccount = new EntityKey();
+        info.TitleInfo.TitlePlayerAccount.Id = player.titlePlayerAccountId;
+        info.TitleInfo.TitlePlayerAccount.Type = "title_player_account";
+        return info;
+    }
+
+    // Statistics and leaderboards
+
+    public Leaderboard getLeaderboard(String statisticName) {
+        Leaderboard leaderboard = leaderboards.get(statisticName);
+        if (leaderboard == null) {
+            Leaderboard created = new Leaderboard();
+            leaderboard = leaderboards.putIfAbsent(statisticName, created);
+            if (leaderboard == null)
+                leaderboard = created;
+        }
+        return leaderboard;
+    }
+
+    public void updateStatistic(Player player, String statisticName, int value) {
+        player.lock.lock();
+        try {
+            player.statistics.put(statisticName, value);
+            getLeaderboard(statisticName).put(player.playFabId, value);
+        } finally {
+            player.lock.unlock();
+        }
+    }
+
+    // Title data and catalogs
+
+    public Map<String, String> getTitleData(boolean internal) {
+        return internal ? titleInternalData : titleData;
+    }
+
+    public void setTitleData(boolean internal, String key, String value) {
+        if (value == null)
+            getTitleData(internal).remove(key);
+        else
+            getTitleData(internal).put(key, value);
+    }
+
+    public void setCatalog(String catalogVersion, List<CatalogItem> items) {
+        catalogs.put(catalogVersion, Collections.unmodifiableList(new ArrayList<CatalogItem>(items)));
+    }
+
+    public void setPrimaryCatalogVersion(String catalogVersion) {
+        primaryCatalogVersion = catalogVersion;
+    }
+
+    public String getCatalogVersion(String requested) {
+        return requested != null ? requested : primaryCatalogVersion;
+    }
+
+    public List<CatalogItem> getCatalog(String catalogVersion) throws LocalServerException {
+        List<CatalogItem> items = catalogs.get(getCatalogVersion(catalogVersion));
+        if (items == null)
+            throw new LocalServerException(400, PlayFabErrorCode.CatalogNotConfigured, "Catalog version not found: " + getCatalogVersion(catalogVersion));
+        return items;
+    }
+
+    public CatalogItem getCatalogItem(String catalogVersion, String itemId) throws LocalServerException {
+        for (CatalogItem item : getCatalog(catalogVersion)) {
+            if (item.ItemId.equals(itemId))
+                return item;
+        }
+        throw new LocalServerException(400, PlayFabErrorCode.ItemNotFound, "Item not found: " + itemId);
+    }
+
+    // Inventory and currency
+
+    /** Adds an instance of a catalog item (and of its bundled items) to the player's inventory; the player's lock must be held */
+    public List<ItemInstance> grantLocked(Player player, String catalogVersion, CatalogItem item, String unitCurrency, Long unitPrice, String annotation) throws LocalServerException {
+        List<ItemInstance> granted = new ArrayList<ItemInstance>();
+        ItemInstance instance = new ItemInstance();
+        instance.ItemInstanceId = newId();
+        instance.ItemId = item.ItemId;
+        instance.ItemClass = item.ItemClass;
+        instance.DisplayName = item.DisplayName;
+        instance.CatalogVersion = getCatalogVersion(catalogVersion);
+        instance.PurchaseDate = new Date();
+        instance.UnitCurrency = unitCurrency;
+        instance.UnitPrice = unitPrice;
+        instance.Annotation = annotation;
+        if (item.Consumable != null && item.Consumable.UsageCount != null)
+            instance.RemainingUses = item.Consumable.UsageCount.intValue();
+        player.inventory.add(instance);
+        granted.add(instance);
+
+        if (item.Bundle != null && item.Bundle.BundledItems != null) {
+            instance.BundleContents = new ArrayList<String>();
+            for (String bundledItemId : item.Bundle.BundledItems) {
+                for (ItemInstance child : grantLocked(player, catalogVersion, getCatalogItem(catalogVersion, bundledItemId), unitCurrency, 0L, annotation)) {
+                    child.BundleParent = instance.ItemInstanceId;
+                    instance.BundleContents.add(child.ItemId);
+                    granted.add(child);
+                }
+            }
+        }
+        if (item.Bundle != null && item.Bundle.BundledVirtualCurrencies != null) {
+            for (Map.Entry<String, Long> pair : item.Bundle.BundledVirtualCurrencies.entrySet())
+                addCurrencyLocked(player, pair.getKey(), pair.getValue().intValue());
+        }
+        return granted;
+    }
+
+    /** Changes a balance and returns the new one; the player's lock must be held */
+    public int addCurrencyLocked(Player player, String currency, int amount) throws LocalServerException {
+        Integer balance = player.virtualCurrency.get(currency);
+        int updated = (balance != null ? balance : 0) + amount;
+        if (updated < 0)
+            throw new LocalServerException(400, PlayFabErrorCode.InsufficientFunds, "Insufficient funds");
+        player.virtualCurrency.put(currency, updated);
+        return updated;
+    }
+
+    // Entities
+
+    public EntityData getEntityData(String entityId, String entityType) {
+        String key = Entity.key(entityId, entityType);
+        EntityData data = entities.get(key);
+        if (data == null) {
+            EntityData created = new EntityData();
+            data = entities.putIfAbsent(key, created);
+            if (data == null)
+                data = created;
+        }
+        return data;
+    }
+
+    // Events
+
+    public void recordEvent(String eventName) {
+        String key = eventName != null ? eventName : "";
+        AtomicLong count = eventCounts.get(key);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = eventCounts.putIfAbsent(key, created);
+            if (count == null)
+                count = created;
+        }
+        count.incrementAndGet();
+    }
+
+    /** Events written so far, by event name */
+    public Map<String, Long> getEventCounts() {
+        Map<String, Long> output = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> pair : eventCounts.entrySet())
+            output.put(pair.getKey(), pair.getValue().get());
+        return output;
+    }
+
+    public static class Player {
+        public final String playFabId;
+        public final String customId;
+        public final String titlePlayerAccountId;
+        public final Date created = new Date();
+        public volatile Date lastLogin;
+
+        // Guarded by lock
+        public final ReentrantLock lock = new ReentrantLock();
+        public final Map<String, UserDataRecord> userData = new HashMap<String, UserDataRecord>();
+        public final Map<String, UserDataRecord> readOnlyData = new HashMap<String, UserDataRecord>();
+        public final Map<String, UserDataRecord> internalData = new HashMap<String, UserDataRecord>();
+        public long userDataVersion;
+        public long readOnlyDataVersion;
+        public long internalDataVersion;
+        public final Map<String, Integer> statistics = new HashMap<String, Integer>();
+        public final List<ItemInstance> inventory = new ArrayList<ItemInstance>();
+        public final Map<String, Integer> virtualCurrency = new HashMap<String, Integer>();
+
+        Player(String playFabId, String customId, String titlePlayerAccountId) {
+            this.playFabId = playFabId;
+            this.customId = customId;
+            this.titlePlayerAccountId = titlePlayerAccountId;
+        }
+    }
+
+    public static class Entity {
+        public final String id;
+        public final String type;
+
+        Entity(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        static String key(String id, String type) {
+            return type + "/" + id;
+        }
+    }
+
+    /** Objects and files of one entity, guarded by lock */
+    public static class EntityData {
+        public final ReentrantLock lock = new ReentrantLock();
+        public final Map<String, Object> objects = new TreeMap<String, Object>();
+        public final Map<String, StoredFile> files = new TreeMap<String, StoredFile>();
+        public int profileVersion;
+    }
+
+    /** A file as the File api sees it: content from the last finalized upload, and an upload in progress */
+    public static class StoredFile {
+        public byte[] content; // null until the first upload is finalized
+        public Date lastModified;
+        public boolean uploading; // Between InitiateFileUploads and Finalize or Abort
+        public byte[] pending; // The bytes PUT to the upload url, if any
+    }
+
+    /** One statistic's ranking: highest value first, ties broken by PlayFabId */
+    public static class Leaderboard {
+        private final ConcurrentSkipListSet<Rank> ranking = new ConcurrentSkipListSet<Rank>();
+        private final ConcurrentHashMap<String, Rank> byPlayer = new ConcurrentHashMap<String, Rank>();
+
+        // Callers hold the player's lock, so put and remove for one player never interleave
+        void put(String playFabId, int value) {
+            Rank updated = new Rank(playFabId, value);
+            Rank previous = byPlayer.put(playFabId, updated);
+            if (previous != null)
+                ranking.remove(previous);
+            ranking.add(updated);
+        }
+
+        void remove(String playFabId) {
+            Rank previous = byPlayer.remove(playFabId);
+            if (previous != null)
+                ranking.remove(previous);
+        }
+
+        /** Entries from a zero-based start position */
+        public List<Rank> range(int start, int count) {
+            List<Rank> output = new ArrayList<Rank>(Math.min(count, 100));
+            int position = 0;
+            for (Rank rank : ranking) {
+                if (output.size() >= count)
+                    break;
+                if (position++ >= start)
+                    output.add(rank);
+            }
+            return output;
+        }
+
+        /** The zero-based position of a player, or -1 */
+        public int positionOf(String playFabId) {
+            Rank rank = byPlayer.get(playFabId);
+            return rank != null ? ranking.headSet(rank).size() : -1;
+        }
+
+        public int size() {
+            return byPlayer.size();
+        }
+    }
+
+    public static class Rank implements Comparable<Rank> {
+        public final String playFabId;
+        public final int value;
+
+        Rank(String playFabId, int value) {
+            this.playFabId = playFabId;
+            this.value = value;
+        }
+
+        public int compareTo(Rank other) {
+            if (value != other.value)
+                return value > other.value ? -1 : 1;
+            return playFabId.compareTo(other.playFabId);
+        }
+
+        public boolean equals(Object other) {
+            return other instanceof Rank && compareTo((Rank) other) == 0;
+        }
+
+        public int hashCode() {
+            return playFabId.hashCode() * 31 + value;
+        }
+    }
+}
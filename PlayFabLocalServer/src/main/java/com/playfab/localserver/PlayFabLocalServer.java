@@ -0,0 +1,354 @@
+package com.playfab.localserver;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import com.google.gson.*;
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.internal.PlayFabGsonCodec;
+
+/**
+ * An in-process stand-in for the PlayFab service: speaks the same json envelopes, authentication headers and error codes
+ * as the real endpoints, over plain http on the loopback interface, backed by an in-memory LocalServerState.
+ * It covers the calls a game's hot paths make (login, player data, statistics and leaderboards, title data, catalog and
+ * purchases, inventory and currency, events, entity tokens, objects and files); anything else answers 404.
+ * LocalServerFaults injects latency and errors per api path, for exercising retry, timeout and throttling behaviour offline.
+ *
+ *     PlayFabLocalServer server = new PlayFabLocalServer();
+ *     server.start();
+ *     server.useForSdk();
+ *     // ... PlayFabClientAPI / PlayFabServerAPI calls now go to the local server
+ *     server.stop();
+ */
+public class PlayFabLocalServer {
+    public static final String DefaultTitleId = "LOCAL";
+    public static final String DefaultSecretKey = "local-secret-key";
+    static final String FileDataPath = "/FileData/";
+
+    /** Which credentials an endpoint requires, mirroring the header each SDK api sends */
+    public enum Auth {
+        None,
+        Session, // X-Authorization: a session ticket from a login
+        SecretKey, // X-SecretKey: the title's developer secret key
+        Entity, // X-EntityToken: a token from a login or GetEntityToken
+        EntityOrSecretKey // GetEntityToken accepts either
+    }
+
+    /** One endpoint's behaviour: returns the result model for the data field, or throws the error to send back */
+    public interface Route {
+        Object handle(Call call) throws LocalServerException;
+    }
+
+    private final int port;
+    private final LocalServerState state;
+    private final LocalServerFaults faults = new LocalServerFaults();
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<String, Endpoint>();
+    private final ConcurrentHashMap<String, AtomicLong> callCounts = new ConcurrentHashMap<String, AtomicLong>();
+    private final Gson gson = PlayFabGsonCodec.createGson();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /** A server on a free port, for the default title and secret key */
+    public PlayFabLocalServer() {
+        this(0);
+    }
+
+    public PlayFabLocalServer(int port) {
+        this(port, new LocalServerState(DefaultTitleId, DefaultSecretKey));
+    }
+
+    public PlayFabLocalServer(int port, LocalServerState state) {
+        this.port = port;
+        this.state = state;
+        LocalServerRoutes.registerAll(this);
+    }
+
+    public void start() throws IOException {
+        // Without TCP_NODELAY the response headers and body go out as separate segments, and every call waits out a delayed ack
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                dispatch(exchange);
+            }
+        });
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "PlayFabLocalServer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null)
+            server.stop(0);
+        if (executor != null)
+            executor.shutdownNow();
+    }
+
+    /** The base url, suitable for PlayFabSettings.ProductionEnvironmentUrl */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Points the SDK's static settings at this server and its title */
+    public void useForSdk() {
+        PlayFabSettings.ProductionEnvironmentUrl = getUrl();
+        PlayFabSettings.TitleId = state.titleId;
+        PlayFabSettings.DeveloperSecretKey = state.secretKey;
+    }
+
+    public LocalServerState getState() {
+        return state;
+    }
+
+    public LocalServerFaults getFaults() {
+        return faults;
+    }
+
+    /** Calls received so far, by api path, including failed and injected-fault calls */
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> output = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> pair : callCounts.entrySet())
+            output.put(pair.getKey(), pair.getValue().get());
+        return output;
+    }
+
+    /** Adds or replaces an endpoint, for api calls the bundled routes do not cover */
+    public void register(String path, Auth auth, Route route) {
+        endpoints.put(path, new Endpoint(auth, route));
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = readFully(exchange.getRequestBody());
+        if (path.startsWith(FileDataPath)) {
+            handleFileData(exchange, path.substring(FileDataPath.length()), body);
+            return;
+        }
+
+        AtomicLong count = callCounts.get(path);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = callCounts.putIfAbsent(path, created);
+            if (count == null)
+                count = created;
+        }
+        count.incrementAndGet();
+
+        try {
+            LocalServerFaults.Fault fault = faults.forPath(path);
+            if (fault != null) {
+                Random random = ThreadLocalRandom.current();
+                long delay = fault.delayMs(random);
+                if (delay > 0)
+                    Thread.sleep(delay);
+                if (fault.shouldFail(random))
+                    throw new LocalServerException(fault.httpCode, fault.errorCode, "Injected fault");
+            }
+
+            Endpoint endpoint = endpoints.get(path);
+            if (endpoint == null)
+                throw new LocalServerException(404, PlayFabErrorCode.Unknown, "The local server does not implement " + path);
+
+            Call call = new Call(this, path, new String(body, "UTF-8"));
+            authenticate(exchange.getRequestHeaders(), endpoint.auth, call);
+            Object data = endpoint.route.handle(call);
+
+            JsonObject envelope = new JsonObject();
+            envelope.addProperty("code", 200);
+            envelope.addProperty("status", "OK");
+            envelope.add("data", data != null ? gson.toJsonTree(data) : new JsonObject());
+            send(exchange, 200, envelope);
+        } catch (LocalServerException e) {
+            sendError(exchange, e.httpCode, e.errorCode, e.getMessage());
+        } catch (JsonParseException e) {
+            sendError(exchange, 400, PlayFabErrorCode.InvalidParams, "Invalid request body: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, PlayFabErrorCode.ServiceUnavailable, "The local server is shutting down");
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, PlayFabErrorCode.InternalServerError, e.toString());
+        }
+    }
+
+    private void authenticate(Headers headers, Auth auth, Call call) throws LocalServerException {
+        String secretKey = headers.getFirst("X-SecretKey");
+        String entityToken = headers.getFirst("X-EntityToken");
+        switch (auth) {
+            case None:
+                return;
+            case Session:
+                LocalServerState.Player player = state.getPlayerForTicket(headers.getFirst("X-Authorization"));
+                if (player == null)
+                    throw new LocalServerException(401, PlayFabErrorCode.NotAuthenticated, "This API method does not allow anonymous callers.");
+                if (state.isBanned(player.playFabId))
+                    throw new LocalServerException(403, PlayFabErrorCode.AccountBanned, "The account making this request is currently banned");
+                call.playFabId = player.playFabId;
+                return;
+            case EntityOrSecretKey:
+                if (secretKey != null && entityToken == null)
+                    checkSecretKey(secretKey);
+                else
+                    checkEntityToken(entityToken, call);
+                return;
+            case Entity:
+                checkEntityToken(entityToken, call);
+                return;
+            case SecretKey:
+                checkSecretKey(secretKey);
+                return;
+        }
+    }
+
+    private void checkEntityToken(String entityToken, Call call) throws LocalServerException {
+        LocalServerState.Entity entity = state.getEntityForToken(entityToken);
+        if (entity == null)
+            throw new LocalServerException(401, entityToken == null ? PlayFabErrorCode.EntityTokenMissing : PlayFabErrorCode.EntityTokenInvalid, "Entity token is missing or invalid");
+        call.entityId = entity.id;
+        call.entityType = entity.type;
+    }
+
+    private void checkSecretKey(String secretKey) throws LocalServerException {
+        if (!state.secretKey.equals(secretKey))
+            throw new LocalServerException(401, PlayFabErrorCode.NotAuthenticated, "This API method does not allow anonymous callers.");
+    }
+
+    /** Upload and download urls handed out by the File routes */
+    private void handleFileData(HttpExchange exchange, String key, byte[] body) throws IOException {
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            LocalServerRoutes.uploadFile(state, key, body);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] content = LocalServerRoutes.downloadFile(state, key);
+        if (content == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, content.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(content);
+        out.close();
+    }
+
+    private void sendError(HttpExchange exchange, int httpCode, PlayFabErrorCode errorCode, String message) throws IOException {
+        JsonObject envelope = new JsonObject();
+        envelope.addProperty("code", httpCode);
+        envelope.addProperty("status", statusText(httpCode));
+        envelope.addProperty("error", errorCode.name());
+        envelope.addProperty("errorCode", errorCode.id);
+        envelope.addProperty("errorMessage", message);
+        send(exchange, httpCode, envelope);
+    }
+
+    private void send(HttpExchange exchange, int httpCode, JsonElement envelope) throws IOException {
+        byte[] bytes = gson.toJson(envelope).getBytes("UTF-8");
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(httpCode, bytes.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.close();
+    }
+
+    private static String statusText(int httpCode) {
+        switch (httpCode) {
+            case 400: return "BadRequest";
+            case 401: return "Unauthorized";
+            case 403: return "Forbidden";
+            case 404: return "NotFound";
+            case 429: return "TooManyRequests";
+            case 500: return "InternalServerError";
+            case 503: return "ServiceUnavailable";
+            default: return "Error";
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            bytes.write(buffer, 0, read);
+        in.close();
+        return bytes.toByteArray();
+    }
+
+    private static class Endpoint {
+        final Auth auth;
+        final Route route;
+
+        Endpoint(Auth auth, Route route) {
+            this.auth = auth;
+            this.route = route;
+        }
+    }
+
+    /** One api call as a Route sees it: the path, the caller established by authentication, and the request body */
+    public static class Call {
+        public final PlayFabLocalServer server;
+        public final String path;
+        public final String body;
+        public String playFabId; // Session routes
+        public String entityId; // Entity routes
+        public String entityType;
+
+        Call(PlayFabLocalServer server, String path, String body) {
+            this.server = server;
+            this.path = path;
+            this.body = body;
+        }
+
+        public LocalServerState state() {
+            return server.state;
+        }
+
+        /** The request body as a model; an empty body gives an empty model */
+        public <T> T request(Class<T> type) {
+            T request = body.length() > 0 ? server.gson.fromJson(body, type) : null;
+            if (request != null)
+                return request;
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not create " + type.getName(), e);
+            }
+        }
+
+        public String toJson(Object value) {
+            return server.gson.toJson(value);
+        }
+
+        /** Arbitrary json as gson's generic objects and maps */
+        public Object parse(String json) {
+            return server.gson.fromJson(json, Object.class);
+        }
+
+        /** Copies a model into the same-shaped model of another api, the way the service shares types between apis */
+        public <T> T convert(Object value, Class<T> type) {
+            return server.gson.fromJson(server.gson.toJsonTree(value), type);
+        }
+    }
+
+    /** Runs a standalone server: java -jar local-server.jar [port] */
+    public static void main(String[] args) throws Exception {
+        PlayFabLocalServer server = new PlayFabLocalServer(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+        server.start();
+        System.out.println("PlayFab local server for title " + server.state.titleId + " listening on " + server.getUrl());
+        System.out.println("Developer secret key: " + server.state.secretKey);
+        Thread.currentThread().join();
+    }
+}
@@ -6,21 +6,29 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /** APIs for managing title configurations, uploaded Game Server code executables, and user data */
 public class PlayFabAdminAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public static FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request) {
+        return AbortTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Abort an ongoing task instance.
      * @param request AbortTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return EmptyResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+    public static FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAbortTaskInstanceAsync(request);
             }
@@ -32,9 +40,19 @@ public class PlayFabAdminAPI {
      * @param request AbortTaskInstanceRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AbortTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAbortTaskInstanceAsync(request);
             }
@@ -43,16 +61,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AbortTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Abort an ongoing task instance. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateAbortTaskInstanceAsync(final AbortTaskInstanceRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AbortTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AbortTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AbortTaskInstanceResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -63,9 +85,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -78,9 +99,19 @@ public class PlayFabAdminAPI {
      * @param request AddNewsRequest
      * @return Async Task will return AddNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddNewsResult>> AddNewsAsync(final AddNewsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddNewsResult>>() {
+        return AddNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddNewsResult>> AddNewsAsync(final AddNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddNewsResult>>() {
             public PlayFabResult<AddNewsResult> call() throws Exception {
                 return privateAddNewsAsync(request);
             }
@@ -92,9 +123,19 @@ public class PlayFabAdminAPI {
      * @param request AddNewsRequest
      * @return AddNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request) {
-        FutureTask<PlayFabResult<AddNewsResult>> task = new FutureTask(new Callable<PlayFabResult<AddNewsResult>>() {
+        return AddNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddNewsResult>>() {
             public PlayFabResult<AddNewsResult> call() throws Exception {
                 return privateAddNewsAsync(request);
             }
@@ -103,16 +144,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddNewsResult> exceptionResult = new PlayFabResult<AddNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddNewsResultType = new TypeToken<PlayFabJsonSuccess<AddNewsResult>>(){}.getType();
+
     /** Adds a new news item to the title's news feed */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AddNewsResult> privateAddNewsAsync(final AddNewsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddNewsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -123,9 +168,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<AddNewsResult> resultData = (PlayFabJsonSuccess<AddNewsResult>) httpResult;
         AddNewsResult result = resultData.data;
 
         PlayFabResult<AddNewsResult> pfResult = new PlayFabResult<AddNewsResult>();
@@ -138,9 +182,19 @@ public class PlayFabAdminAPI {
      * @param request AddPlayerTagRequest
      * @return Async Task will return AddPlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+        return AddPlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
                 return privateAddPlayerTagAsync(request);
             }
@@ -152,9 +206,19 @@ public class PlayFabAdminAPI {
      * @param request AddPlayerTagRequest
      * @return AddPlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
-        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+        return AddPlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
                 return privateAddPlayerTagAsync(request);
             }
@@ -163,16 +227,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddPlayerTagResultType = new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType();
+
     /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddPlayerTagResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -183,9 +251,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -199,9 +266,20 @@ public class PlayFabAdminAPI {
      * @param request AddServerBuildRequest
      * @return Async Task will return AddServerBuildResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddServerBuildResult>> AddServerBuildAsync(final AddServerBuildRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddServerBuildResult>>() {
+        return AddServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddServerBuildResult>> AddServerBuildAsync(final AddServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddServerBuildResult>>() {
             public PlayFabResult<AddServerBuildResult> call() throws Exception {
                 return privateAddServerBuildAsync(request);
             }
@@ -214,9 +292,20 @@ public class PlayFabAdminAPI {
      * @param request AddServerBuildRequest
      * @return AddServerBuildResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request) {
-        FutureTask<PlayFabResult<AddServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<AddServerBuildResult>>() {
+        return AddServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddServerBuildResult>>() {
             public PlayFabResult<AddServerBuildResult> call() throws Exception {
                 return privateAddServerBuildAsync(request);
             }
@@ -225,10 +314,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddServerBuildResult> exceptionResult = new PlayFabResult<AddServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddServerBuildResultType = new TypeToken<PlayFabJsonSuccess<AddServerBuildResult>>(){}.getType();
+
     /**
      * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
      * client is permitted to request in a call to StartGame
@@ -237,7 +330,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<AddServerBuildResult> privateAddServerBuildAsync(final AddServerBuildRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddServerBuildResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -248,9 +341,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<AddServerBuildResult> resultData = (PlayFabJsonSuccess<AddServerBuildResult>) httpResult;
         AddServerBuildResult result = resultData.data;
 
         PlayFabResult<AddServerBuildResult> pfResult = new PlayFabResult<AddServerBuildResult>();
@@ -263,9 +355,19 @@ public class PlayFabAdminAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -277,9 +379,19 @@ public class PlayFabAdminAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -288,16 +400,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /** Increments the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -308,9 +424,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -324,9 +439,20 @@ public class PlayFabAdminAPI {
      * @param request AddVirtualCurrencyTypesRequest
      * @return Async Task will return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<BlankResult>> AddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return AddVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<BlankResult>> AddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateAddVirtualCurrencyTypesAsync(request);
             }
@@ -339,9 +465,20 @@ public class PlayFabAdminAPI {
      * @param request AddVirtualCurrencyTypesRequest
      * @return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
-        FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return AddVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateAddVirtualCurrencyTypesAsync(request);
             }
@@ -350,10 +487,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
     /**
      * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
      * 2,147,483,647 when granted to a player. Any value over that will be discarded.
@@ -362,7 +503,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<BlankResult> privateAddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddVirtualCurrencyTypesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -373,9 +514,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -388,9 +528,19 @@ public class PlayFabAdminAPI {
      * @param request BanUsersRequest
      * @return Async Task will return BanUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
+        return BanUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
                 return privateBanUsersAsync(request);
             }
@@ -402,9 +552,19 @@ public class PlayFabAdminAPI {
      * @param request BanUsersRequest
      * @return BanUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
-        FutureTask<PlayFabResult<BanUsersResult>> task = new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
+        return BanUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BanUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
                 return privateBanUsersAsync(request);
             }
@@ -413,16 +573,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type BanUsersResultType = new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType();
+
     /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, BanUsersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -433,9 +597,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -448,9 +611,19 @@ public class PlayFabAdminAPI {
      * @param request CheckLimitedEditionItemAvailabilityRequest
      * @return Async Task will return CheckLimitedEditionItemAvailabilityResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+        return CheckLimitedEditionItemAvailabilityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CheckLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
                 return privateCheckLimitedEditionItemAvailabilityAsync(request);
             }
@@ -462,9 +635,19 @@ public class PlayFabAdminAPI {
      * @param request CheckLimitedEditionItemAvailabilityRequest
      * @return CheckLimitedEditionItemAvailabilityResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
-        FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> task = new FutureTask(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+        return CheckLimitedEditionItemAvailability(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CheckLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
                 return privateCheckLimitedEditionItemAvailabilityAsync(request);
             }
@@ -473,16 +656,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CheckLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CheckLimitedEditionItemAvailabilityResultType = new TypeToken<PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>>(){}.getType();
+
     /** Checks the global count for the limited edition item. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> privateCheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CheckLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CheckLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CheckLimitedEditionItemAvailabilityResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -493,9 +680,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>) httpResult;
         CheckLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<CheckLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
@@ -508,9 +694,19 @@ public class PlayFabAdminAPI {
      * @param request CreateActionsOnPlayerSegmentTaskRequest
      * @return Async Task will return CreateTaskResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
+        return CreateActionsOnPlayersInSegmentTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
                 return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
             }
@@ -522,9 +718,19 @@ public class PlayFabAdminAPI {
      * @param request CreateActionsOnPlayerSegmentTaskRequest
      * @return CreateTaskResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
-        FutureTask<PlayFabResult<CreateTaskResult>> task = new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
+        return CreateActionsOnPlayersInSegmentTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
                 return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
             }
@@ -533,16 +739,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateActionsOnPlayersInSegmentTaskResultType = new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType();
+
     /** Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CreateTaskResult> privateCreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateActionsOnPlayersInSegmentTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateActionsOnPlayersInSegmentTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CreateActionsOnPlayersInSegmentTaskResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -553,9 +763,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -568,9 +777,19 @@ public class PlayFabAdminAPI {
      * @param request CreateCloudScriptTaskRequest
      * @return Async Task will return CreateTaskResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateTaskResult>> CreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
+        return CreateCloudScriptTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateTaskResult>> CreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
                 return privateCreateCloudScriptTaskAsync(request);
             }
@@ -582,9 +801,19 @@ public class PlayFabAdminAPI {
      * @param request CreateCloudScriptTaskRequest
      * @return CreateTaskResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
-        FutureTask<PlayFabResult<CreateTaskResult>> task = new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
+        return CreateCloudScriptTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
                 return privateCreateCloudScriptTaskAsync(request);
             }
@@ -593,16 +822,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateCloudScriptTaskResultType = new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType();
+
     /** Create a CloudScript task, which can run a CloudScript on a schedule. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<CreateTaskResult> privateCreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateCloudScriptTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateCloudScriptTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CreateCloudScriptTaskResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -613,9 +846,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -629,9 +861,20 @@ public class PlayFabAdminAPI {
      * @param request CreatePlayerSharedSecretRequest
      * @return Async Task will return CreatePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+        return CreatePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
             public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
                 return privateCreatePlayerSharedSecretAsync(request);
             }
@@ -644,9 +887,20 @@ public class PlayFabAdminAPI {
      * @param request CreatePlayerSharedSecretRequest
      * @return CreatePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
-        FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+        return CreatePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
             public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
                 return privateCreatePlayerSharedSecretAsync(request);
             }
@@ -655,10 +909,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreatePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<CreatePlayerSharedSecretResult>>(){}.getType();
+
     /**
      * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
      * this API returns.
@@ -667,7 +925,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<CreatePlayerSharedSecretResult> privateCreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CreatePlayerSharedSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -678,9 +936,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<CreatePlayerSharedSecretResult>) httpResult;
         CreatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<CreatePlayerSharedSecretResult> pfResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
@@ -694,9 +951,20 @@ public class PlayFabAdminAPI {
      * @param request CreatePlayerStatisticDefinitionRequest
      * @return Async Task will return CreatePlayerStatisticDefinitionResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+        return CreatePlayerStatisticDefinitionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
                 return privateCreatePlayerStatisticDefinitionAsync(request);
             }
@@ -709,9 +977,20 @@ public class PlayFabAdminAPI {
      * @param request CreatePlayerStatisticDefinitionRequest
      * @return CreatePlayerStatisticDefinitionResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
-        FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> task = new FutureTask(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+        return CreatePlayerStatisticDefinition(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
                 return privateCreatePlayerStatisticDefinitionAsync(request);
             }
@@ -720,10 +999,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreatePlayerStatisticDefinitionResultType = new TypeToken<PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>>(){}.getType();
+
     /**
      * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
      * and an aggregation method.
@@ -732,7 +1015,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<CreatePlayerStatisticDefinitionResult> privateCreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CreatePlayerStatisticDefinitionResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -743,9 +1026,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>) httpResult;
         CreatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<CreatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
@@ -758,9 +1040,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteContentRequest
      * @return Async Task will return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<BlankResult>> DeleteContentAsync(final DeleteContentRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return DeleteContentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<BlankResult>> DeleteContentAsync(final DeleteContentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateDeleteContentAsync(request);
             }
@@ -772,9 +1064,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteContentRequest
      * @return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request) {
-        FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return DeleteContent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateDeleteContentAsync(request);
             }
@@ -783,16 +1085,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteContentResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
     /** Delete a content file from the title. When deleting a file that does not exist, it returns success. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<BlankResult> privateDeleteContentAsync(final DeleteContentRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteContent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteContent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteContentResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -803,9 +1109,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -818,10 +1123,20 @@ public class PlayFabAdminAPI {
      * @param request DeleteMasterPlayerAccountRequest
      * @return Async Task will return DeleteMasterPlayerAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
-            public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
+        return DeleteMasterPlayerAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteMasterPlayerAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+            public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
                 return privateDeleteMasterPlayerAccountAsync(request);
             }
         });
@@ -832,9 +1147,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteMasterPlayerAccountRequest
      * @return DeleteMasterPlayerAccountResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
-        FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+        return DeleteMasterPlayerAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteMasterPlayerAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
             public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
                 return privateDeleteMasterPlayerAccountAsync(request);
             }
@@ -843,16 +1168,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteMasterPlayerAccountResult> exceptionResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteMasterPlayerAccountResultType = new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>>(){}.getType();
+
     /** Removes a master player account entirely from all titles and deletes all associated data */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeleteMasterPlayerAccountResult> privateDeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteMasterPlayerAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteMasterPlayerAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteMasterPlayerAccountResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -863,9 +1192,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = (PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>) httpResult;
         DeleteMasterPlayerAccountResult result = resultData.data;
 
         PlayFabResult<DeleteMasterPlayerAccountResult> pfResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
@@ -878,9 +1206,19 @@ public class PlayFabAdminAPI {
      * @param request DeletePlayerRequest
      * @return Async Task will return DeletePlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
+        return DeletePlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
                 return privateDeletePlayerAsync(request);
             }
@@ -892,9 +1230,19 @@ public class PlayFabAdminAPI {
      * @param request DeletePlayerRequest
      * @return DeletePlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
-        FutureTask<PlayFabResult<DeletePlayerResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
+        return DeletePlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
                 return privateDeletePlayerAsync(request);
             }
@@ -903,16 +1251,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeletePlayerResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType();
+
     /** Removes a user's player account from a title and deletes all associated data */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeletePlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -923,9 +1275,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -939,9 +1290,20 @@ public class PlayFabAdminAPI {
      * @param request DeletePlayerSharedSecretRequest
      * @return Async Task will return DeletePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+        return DeletePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
             public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
                 return privateDeletePlayerSharedSecretAsync(request);
             }
@@ -954,9 +1316,20 @@ public class PlayFabAdminAPI {
      * @param request DeletePlayerSharedSecretRequest
      * @return DeletePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
-        FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+        return DeletePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
             public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
                 return privateDeletePlayerSharedSecretAsync(request);
             }
@@ -965,10 +1338,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeletePlayerSharedSecretResult> exceptionResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeletePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerSharedSecretResult>>(){}.getType();
+
     /**
      * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
      * returns.
@@ -977,7 +1354,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<DeletePlayerSharedSecretResult> privateDeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeletePlayerSharedSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -988,9 +1365,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<DeletePlayerSharedSecretResult>) httpResult;
         DeletePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<DeletePlayerSharedSecretResult> pfResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
@@ -1003,9 +1379,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteStoreRequest
      * @return Async Task will return DeleteStoreResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteStoreResult>> DeleteStoreAsync(final DeleteStoreRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteStoreResult>>() {
+        return DeleteStoreAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteStoreResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteStoreResult>> DeleteStoreAsync(final DeleteStoreRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteStoreResult>>() {
             public PlayFabResult<DeleteStoreResult> call() throws Exception {
                 return privateDeleteStoreAsync(request);
             }
@@ -1017,9 +1403,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteStoreRequest
      * @return DeleteStoreResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request) {
-        FutureTask<PlayFabResult<DeleteStoreResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteStoreResult>>() {
+        return DeleteStore(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteStoreResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteStoreResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteStoreResult>>() {
             public PlayFabResult<DeleteStoreResult> call() throws Exception {
                 return privateDeleteStoreAsync(request);
             }
@@ -1028,16 +1424,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteStoreResult> exceptionResult = new PlayFabResult<DeleteStoreResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteStoreResultType = new TypeToken<PlayFabJsonSuccess<DeleteStoreResult>>(){}.getType();
+
     /** Deletes an existing virtual item store */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeleteStoreResult> privateDeleteStoreAsync(final DeleteStoreRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteStore"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteStore"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteStoreResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1048,9 +1448,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteStoreResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteStoreResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteStoreResult> resultData = (PlayFabJsonSuccess<DeleteStoreResult>) httpResult;
         DeleteStoreResult result = resultData.data;
 
         PlayFabResult<DeleteStoreResult> pfResult = new PlayFabResult<DeleteStoreResult>();
@@ -1063,9 +1462,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteTaskRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteTaskAsync(final DeleteTaskRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> DeleteTaskAsync(final DeleteTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteTaskAsync(request);
             }
@@ -1077,9 +1486,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteTaskRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteTaskAsync(request);
             }
@@ -1088,16 +1507,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteTaskResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Delete a task. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateDeleteTaskAsync(final DeleteTaskRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteTaskResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1108,9 +1531,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1123,9 +1545,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteTitleRequest
      * @return Async Task will return DeleteTitleResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteTitleResult>> DeleteTitleAsync(final DeleteTitleRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteTitleResult>>() {
+        return DeleteTitleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteTitleResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteTitleResult>> DeleteTitleAsync(final DeleteTitleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteTitleResult>>() {
             public PlayFabResult<DeleteTitleResult> call() throws Exception {
                 return privateDeleteTitleAsync(request);
             }
@@ -1137,9 +1569,19 @@ public class PlayFabAdminAPI {
      * @param request DeleteTitleRequest
      * @return DeleteTitleResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request) {
-        FutureTask<PlayFabResult<DeleteTitleResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteTitleResult>>() {
+        return DeleteTitle(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteTitleResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteTitleResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteTitleResult>>() {
             public PlayFabResult<DeleteTitleResult> call() throws Exception {
                 return privateDeleteTitleAsync(request);
             }
@@ -1148,16 +1590,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteTitleResult> exceptionResult = new PlayFabResult<DeleteTitleResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteTitleResultType = new TypeToken<PlayFabJsonSuccess<DeleteTitleResult>>(){}.getType();
+
     /** Permanently deletes a title and all associated configuration */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeleteTitleResult> privateDeleteTitleAsync(final DeleteTitleRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTitle"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTitle"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteTitleResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1168,9 +1614,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteTitleResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTitleResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTitleResult> resultData = (PlayFabJsonSuccess<DeleteTitleResult>) httpResult;
         DeleteTitleResult result = resultData.data;
 
         PlayFabResult<DeleteTitleResult> pfResult = new PlayFabResult<DeleteTitleResult>();
@@ -1183,9 +1628,19 @@ public class PlayFabAdminAPI {
      * @param request ExportMasterPlayerDataRequest
      * @return Async Task will return ExportMasterPlayerDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+        return ExportMasterPlayerDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExportMasterPlayerDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
             public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
                 return privateExportMasterPlayerDataAsync(request);
             }
@@ -1197,9 +1652,19 @@ public class PlayFabAdminAPI {
      * @param request ExportMasterPlayerDataRequest
      * @return ExportMasterPlayerDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
-        FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> task = new FutureTask(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+        return ExportMasterPlayerData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExportMasterPlayerDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
             public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
                 return privateExportMasterPlayerDataAsync(request);
             }
@@ -1208,16 +1673,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ExportMasterPlayerDataResult> exceptionResult = new PlayFabResult<ExportMasterPlayerDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ExportMasterPlayerDataResultType = new TypeToken<PlayFabJsonSuccess<ExportMasterPlayerDataResult>>(){}.getType();
+
     /** Exports all associated data of a master player account */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ExportMasterPlayerDataResult> privateExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ExportMasterPlayerData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ExportMasterPlayerData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ExportMasterPlayerDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1228,9 +1697,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExportMasterPlayerDataResult>>(){}.getType());
+        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = (PlayFabJsonSuccess<ExportMasterPlayerDataResult>) httpResult;
         ExportMasterPlayerDataResult result = resultData.data;
 
         PlayFabResult<ExportMasterPlayerDataResult> pfResult = new PlayFabResult<ExportMasterPlayerDataResult>();
@@ -1243,9 +1711,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstanceRequest
      * @return Async Task will return GetActionsOnPlayersInSegmentTaskInstanceResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+        return GetActionsOnPlayersInSegmentTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
             public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
                 return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
             }
@@ -1257,9 +1735,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstanceRequest
      * @return GetActionsOnPlayersInSegmentTaskInstanceResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
-        FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> task = new FutureTask(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+        return GetActionsOnPlayersInSegmentTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
             public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
                 return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
             }
@@ -1268,16 +1756,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> exceptionResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetActionsOnPlayersInSegmentTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>>(){}.getType();
+
     /** Get information about a ActionsOnPlayersInSegment task instance. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> privateGetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetActionsOnPlayersInSegmentTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetActionsOnPlayersInSegmentTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetActionsOnPlayersInSegmentTaskInstanceResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1288,9 +1780,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>) httpResult;
         GetActionsOnPlayersInSegmentTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> pfResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
@@ -1304,9 +1795,20 @@ public class PlayFabAdminAPI {
      * @param request GetAllSegmentsRequest
      * @return Async Task will return GetAllSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+        return GetAllSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
                 return privateGetAllSegmentsAsync(request);
             }
@@ -1319,9 +1821,20 @@ public class PlayFabAdminAPI {
      * @param request GetAllSegmentsRequest
      * @return GetAllSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
-        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+        return GetAllSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
                 return privateGetAllSegmentsAsync(request);
             }
@@ -1330,10 +1843,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetAllSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType();
+
     /**
      * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
      * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
@@ -1342,7 +1859,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetAllSegmentsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1353,9 +1870,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -1368,9 +1884,19 @@ public class PlayFabAdminAPI {
      * @param request GetCatalogItemsRequest
      * @return Async Task will return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1382,9 +1908,19 @@ public class PlayFabAdminAPI {
      * @param request GetCatalogItemsRequest
      * @return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
-        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1393,16 +1929,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCatalogItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1413,9 +1953,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1428,9 +1967,19 @@ public class PlayFabAdminAPI {
      * @param request GetCloudScriptRevisionRequest
      * @return Async Task will return GetCloudScriptRevisionResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+        return GetCloudScriptRevisionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
             public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
                 return privateGetCloudScriptRevisionAsync(request);
             }
@@ -1442,9 +1991,19 @@ public class PlayFabAdminAPI {
      * @param request GetCloudScriptRevisionRequest
      * @return GetCloudScriptRevisionResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
-        FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+        return GetCloudScriptRevision(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
             public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
                 return privateGetCloudScriptRevisionAsync(request);
             }
@@ -1453,16 +2012,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCloudScriptRevisionResult> exceptionResult = new PlayFabResult<GetCloudScriptRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCloudScriptRevisionResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptRevisionResult>>(){}.getType();
+
     /** Gets the contents and information of a specific Cloud Script revision. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCloudScriptRevisionResult> privateGetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCloudScriptRevisionResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1473,9 +2036,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = (PlayFabJsonSuccess<GetCloudScriptRevisionResult>) httpResult;
         GetCloudScriptRevisionResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptRevisionResult> pfResult = new PlayFabResult<GetCloudScriptRevisionResult>();
@@ -1488,9 +2050,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstanceRequest
      * @return Async Task will return GetCloudScriptTaskInstanceResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+        return GetCloudScriptTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
             public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
                 return privateGetCloudScriptTaskInstanceAsync(request);
             }
@@ -1502,9 +2074,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstanceRequest
      * @return GetCloudScriptTaskInstanceResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
-        FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+        return GetCloudScriptTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
             public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
                 return privateGetCloudScriptTaskInstanceAsync(request);
             }
@@ -1513,16 +2095,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCloudScriptTaskInstanceResult> exceptionResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCloudScriptTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>>(){}.getType();
+
     /** Get detail information about a CloudScript task instance. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCloudScriptTaskInstanceResult> privateGetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCloudScriptTaskInstanceResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1533,9 +2119,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>) httpResult;
         GetCloudScriptTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptTaskInstanceResult> pfResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
@@ -1549,9 +2134,20 @@ public class PlayFabAdminAPI {
      * @param request GetCloudScriptVersionsRequest
      * @return Async Task will return GetCloudScriptVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+        return GetCloudScriptVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
             public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
                 return privateGetCloudScriptVersionsAsync(request);
             }
@@ -1564,9 +2160,20 @@ public class PlayFabAdminAPI {
      * @param request GetCloudScriptVersionsRequest
      * @return GetCloudScriptVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
-        FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+        return GetCloudScriptVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
             public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
                 return privateGetCloudScriptVersionsAsync(request);
             }
@@ -1575,10 +2182,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCloudScriptVersionsResult> exceptionResult = new PlayFabResult<GetCloudScriptVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCloudScriptVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptVersionsResult>>(){}.getType();
+
     /**
      * Lists all the current cloud script versions. For each version, information about the current published and latest
      * revisions is also listed.
@@ -1587,7 +2198,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetCloudScriptVersionsResult> privateGetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCloudScriptVersionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1598,9 +2209,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = (PlayFabJsonSuccess<GetCloudScriptVersionsResult>) httpResult;
         GetCloudScriptVersionsResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptVersionsResult> pfResult = new PlayFabResult<GetCloudScriptVersionsResult>();
@@ -1613,11 +2223,21 @@ public class PlayFabAdminAPI {
      * @param request GetContentListRequest
      * @return Async Task will return GetContentListResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetContentListResult>> GetContentListAsync(final GetContentListRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetContentListResult>>() {
-            public PlayFabResult<GetContentListResult> call() throws Exception {
-                return privateGetContentListAsync(request);
+        return GetContentListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetContentListResult>> GetContentListAsync(final GetContentListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentListResult>>() {
+            public PlayFabResult<GetContentListResult> call() throws Exception {
+                return privateGetContentListAsync(request);
             }
         });
     }
@@ -1627,9 +2247,19 @@ public class PlayFabAdminAPI {
      * @param request GetContentListRequest
      * @return GetContentListResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request) {
-        FutureTask<PlayFabResult<GetContentListResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentListResult>>() {
+        return GetContentList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentListResult>>() {
             public PlayFabResult<GetContentListResult> call() throws Exception {
                 return privateGetContentListAsync(request);
             }
@@ -1638,16 +2268,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetContentListResult> exceptionResult = new PlayFabResult<GetContentListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetContentListResultType = new TypeToken<PlayFabJsonSuccess<GetContentListResult>>(){}.getType();
+
     /** List all contents of the title and get statistics such as size */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetContentListResult> privateGetContentListAsync(final GetContentListRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetContentListResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1658,9 +2292,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentListResult> resultData = (PlayFabJsonSuccess<GetContentListResult>) httpResult;
         GetContentListResult result = resultData.data;
 
         PlayFabResult<GetContentListResult> pfResult = new PlayFabResult<GetContentListResult>();
@@ -1675,9 +2308,21 @@ public class PlayFabAdminAPI {
      * @param request GetContentUploadUrlRequest
      * @return Async Task will return GetContentUploadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrlAsync(final GetContentUploadUrlRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+        return GetContentUploadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentUploadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrlAsync(final GetContentUploadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
             public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
                 return privateGetContentUploadUrlAsync(request);
             }
@@ -1691,9 +2336,21 @@ public class PlayFabAdminAPI {
      * @param request GetContentUploadUrlRequest
      * @return GetContentUploadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
-        FutureTask<PlayFabResult<GetContentUploadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+        return GetContentUploadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentUploadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentUploadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
             public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
                 return privateGetContentUploadUrlAsync(request);
             }
@@ -1702,10 +2359,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetContentUploadUrlResult> exceptionResult = new PlayFabResult<GetContentUploadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetContentUploadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentUploadUrlResult>>(){}.getType();
+
     /**
      * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
      * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
@@ -1715,7 +2376,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetContentUploadUrlResult> privateGetContentUploadUrlAsync(final GetContentUploadUrlRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetContentUploadUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1726,9 +2387,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentUploadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = (PlayFabJsonSuccess<GetContentUploadUrlResult>) httpResult;
         GetContentUploadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentUploadUrlResult> pfResult = new PlayFabResult<GetContentUploadUrlResult>();
@@ -1741,9 +2401,19 @@ public class PlayFabAdminAPI {
      * @param request GetDataReportRequest
      * @return Async Task will return GetDataReportResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetDataReportResult>> GetDataReportAsync(final GetDataReportRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetDataReportResult>>() {
+        return GetDataReportAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetDataReportResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetDataReportResult>> GetDataReportAsync(final GetDataReportRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetDataReportResult>>() {
             public PlayFabResult<GetDataReportResult> call() throws Exception {
                 return privateGetDataReportAsync(request);
             }
@@ -1755,9 +2425,19 @@ public class PlayFabAdminAPI {
      * @param request GetDataReportRequest
      * @return GetDataReportResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request) {
-        FutureTask<PlayFabResult<GetDataReportResult>> task = new FutureTask(new Callable<PlayFabResult<GetDataReportResult>>() {
+        return GetDataReport(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetDataReportResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetDataReportResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetDataReportResult>>() {
             public PlayFabResult<GetDataReportResult> call() throws Exception {
                 return privateGetDataReportAsync(request);
             }
@@ -1766,16 +2446,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetDataReportResult> exceptionResult = new PlayFabResult<GetDataReportResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetDataReportResultType = new TypeToken<PlayFabJsonSuccess<GetDataReportResult>>(){}.getType();
+
     /** Retrieves a download URL for the requested report */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetDataReportResult> privateGetDataReportAsync(final GetDataReportRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetDataReport"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetDataReport"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetDataReportResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1786,9 +2470,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetDataReportResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDataReportResult>>(){}.getType());
+        PlayFabJsonSuccess<GetDataReportResult> resultData = (PlayFabJsonSuccess<GetDataReportResult>) httpResult;
         GetDataReportResult result = resultData.data;
 
         PlayFabResult<GetDataReportResult> pfResult = new PlayFabResult<GetDataReportResult>();
@@ -1801,9 +2484,19 @@ public class PlayFabAdminAPI {
      * @param request GetMatchmakerGameInfoRequest
      * @return Async Task will return GetMatchmakerGameInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+        return GetMatchmakerGameInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetMatchmakerGameInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
             public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
                 return privateGetMatchmakerGameInfoAsync(request);
             }
@@ -1815,9 +2508,19 @@ public class PlayFabAdminAPI {
      * @param request GetMatchmakerGameInfoRequest
      * @return GetMatchmakerGameInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
-        FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+        return GetMatchmakerGameInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetMatchmakerGameInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
             public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
                 return privateGetMatchmakerGameInfoAsync(request);
             }
@@ -1826,16 +2529,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetMatchmakerGameInfoResult> exceptionResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetMatchmakerGameInfoResultType = new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameInfoResult>>(){}.getType();
+
     /** Retrieves the details for a specific completed session, including links to standard out and standard error logs */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetMatchmakerGameInfoResult> privateGetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetMatchmakerGameInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1846,9 +2553,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMatchmakerGameInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakerGameInfoResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameInfoResult>) httpResult;
         GetMatchmakerGameInfoResult result = resultData.data;
 
         PlayFabResult<GetMatchmakerGameInfoResult> pfResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
@@ -1861,9 +2567,19 @@ public class PlayFabAdminAPI {
      * @param request GetMatchmakerGameModesRequest
      * @return Async Task will return GetMatchmakerGameModesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+        return GetMatchmakerGameModesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
             public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
                 return privateGetMatchmakerGameModesAsync(request);
             }
@@ -1875,9 +2591,19 @@ public class PlayFabAdminAPI {
      * @param request GetMatchmakerGameModesRequest
      * @return GetMatchmakerGameModesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
-        FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+        return GetMatchmakerGameModes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
             public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
                 return privateGetMatchmakerGameModesAsync(request);
             }
@@ -1886,16 +2612,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetMatchmakerGameModesResult> exceptionResult = new PlayFabResult<GetMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetMatchmakerGameModesResultType = new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameModesResult>>(){}.getType();
+
     /** Retrieves the details of defined game modes for the specified game server executable */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetMatchmakerGameModesResult> privateGetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetMatchmakerGameModesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1906,9 +2636,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMatchmakerGameModesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameModesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameModesResult>) httpResult;
         GetMatchmakerGameModesResult result = resultData.data;
 
         PlayFabResult<GetMatchmakerGameModesResult> pfResult = new PlayFabResult<GetMatchmakerGameModesResult>();
@@ -1921,9 +2650,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayedTitleListRequest
      * @return Async Task will return GetPlayedTitleListResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleListAsync(final GetPlayedTitleListRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+        return GetPlayedTitleListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayedTitleListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleListAsync(final GetPlayedTitleListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
             public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
                 return privateGetPlayedTitleListAsync(request);
             }
@@ -1935,9 +2674,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayedTitleListRequest
      * @return GetPlayedTitleListResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
-        FutureTask<PlayFabResult<GetPlayedTitleListResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+        return GetPlayedTitleList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayedTitleListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayedTitleListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
             public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
                 return privateGetPlayedTitleListAsync(request);
             }
@@ -1946,16 +2695,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayedTitleListResult> exceptionResult = new PlayFabResult<GetPlayedTitleListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayedTitleListResultType = new TypeToken<PlayFabJsonSuccess<GetPlayedTitleListResult>>(){}.getType();
+
     /** Get the list of titles that the player has played */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayedTitleListResult> privateGetPlayedTitleListAsync(final GetPlayedTitleListRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayedTitleList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayedTitleList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayedTitleListResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1966,9 +2719,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayedTitleListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = (PlayFabJsonSuccess<GetPlayedTitleListResult>) httpResult;
         GetPlayedTitleListResult result = resultData.data;
 
         PlayFabResult<GetPlayedTitleListResult> pfResult = new PlayFabResult<GetPlayedTitleListResult>();
@@ -1981,9 +2733,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerIdFromAuthTokenRequest
      * @return Async Task will return GetPlayerIdFromAuthTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+        return GetPlayerIdFromAuthTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerIdFromAuthTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
             public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
                 return privateGetPlayerIdFromAuthTokenAsync(request);
             }
@@ -1995,9 +2757,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerIdFromAuthTokenRequest
      * @return GetPlayerIdFromAuthTokenResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
-        FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+        return GetPlayerIdFromAuthToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerIdFromAuthTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
             public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
                 return privateGetPlayerIdFromAuthTokenAsync(request);
             }
@@ -2006,16 +2778,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerIdFromAuthTokenResult> exceptionResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerIdFromAuthTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>>(){}.getType();
+
     /** Gets a player's ID from an auth token. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerIdFromAuthTokenResult> privateGetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerIdFromAuthToken"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerIdFromAuthToken"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerIdFromAuthTokenResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2026,9 +2802,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = (PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>) httpResult;
         GetPlayerIdFromAuthTokenResult result = resultData.data;
 
         PlayFabResult<GetPlayerIdFromAuthTokenResult> pfResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
@@ -2041,9 +2816,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerProfileRequest
      * @return Async Task will return GetPlayerProfileResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
                 return privateGetPlayerProfileAsync(request);
             }
@@ -2055,9 +2840,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerProfileRequest
      * @return GetPlayerProfileResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
-        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
                 return privateGetPlayerProfileAsync(request);
             }
@@ -2066,16 +2861,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerProfileResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2086,9 +2885,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2101,9 +2899,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayersSegmentsRequest
      * @return Async Task will return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2115,9 +2923,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayersSegmentsRequest
      * @return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2126,16 +2944,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerSegmentsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2146,9 +2968,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2161,9 +2982,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerSharedSecretsRequest
      * @return Async Task will return GetPlayerSharedSecretsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+        return GetPlayerSharedSecretsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSharedSecretsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
             public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
                 return privateGetPlayerSharedSecretsAsync(request);
             }
@@ -2175,9 +3006,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerSharedSecretsRequest
      * @return GetPlayerSharedSecretsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+        return GetPlayerSharedSecrets(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSharedSecretsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
             public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
                 return privateGetPlayerSharedSecretsAsync(request);
             }
@@ -2186,16 +3027,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerSharedSecretsResult> exceptionResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerSharedSecretsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSharedSecretsResult>>(){}.getType();
+
     /** Returns all Player Shared Secret Keys including disabled and expired. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerSharedSecretsResult> privateGetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSharedSecrets"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSharedSecrets"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerSharedSecretsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2206,9 +3051,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSharedSecretsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = (PlayFabJsonSuccess<GetPlayerSharedSecretsResult>) httpResult;
         GetPlayerSharedSecretsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSharedSecretsResult> pfResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
@@ -2224,9 +3068,22 @@ public class PlayFabAdminAPI {
      * @param request GetPlayersInSegmentRequest
      * @return Async Task will return GetPlayersInSegmentResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+        return GetPlayersInSegmentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
                 return privateGetPlayersInSegmentAsync(request);
             }
@@ -2241,9 +3098,22 @@ public class PlayFabAdminAPI {
      * @param request GetPlayersInSegmentRequest
      * @return GetPlayersInSegmentResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
-        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+        return GetPlayersInSegment(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
                 return privateGetPlayersInSegmentAsync(request);
             }
@@ -2252,10 +3122,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayersInSegmentResultType = new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType();
+
     /**
      * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
      * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
@@ -2266,7 +3140,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayersInSegmentResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2277,9 +3151,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2293,9 +3166,20 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerStatisticDefinitionsRequest
      * @return Async Task will return GetPlayerStatisticDefinitionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+        return GetPlayerStatisticDefinitionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticDefinitionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
             public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
                 return privateGetPlayerStatisticDefinitionsAsync(request);
             }
@@ -2308,9 +3192,20 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerStatisticDefinitionsRequest
      * @return GetPlayerStatisticDefinitionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+        return GetPlayerStatisticDefinitions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticDefinitionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
             public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
                 return privateGetPlayerStatisticDefinitionsAsync(request);
             }
@@ -2319,10 +3214,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticDefinitionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticDefinitionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>>(){}.getType();
+
     /**
      * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
      * a reset interval.
@@ -2331,7 +3230,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetPlayerStatisticDefinitionsResult> privateGetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticDefinitions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticDefinitions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerStatisticDefinitionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2342,9 +3241,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>) httpResult;
         GetPlayerStatisticDefinitionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticDefinitionsResult> pfResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
@@ -2357,9 +3255,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return Async Task will return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2371,9 +3279,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2382,16 +3300,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerStatisticVersionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2402,9 +3324,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2417,9 +3338,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerTagsRequest
      * @return Async Task will return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2431,9 +3362,19 @@ public class PlayFabAdminAPI {
      * @param request GetPlayerTagsRequest
      * @return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2442,16 +3383,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2462,9 +3407,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2477,9 +3421,19 @@ public class PlayFabAdminAPI {
      * @param request GetPolicyRequest
      * @return Async Task will return GetPolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPolicyResponse>> GetPolicyAsync(final GetPolicyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPolicyResponse>>() {
+        return GetPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPolicyResponse>> GetPolicyAsync(final GetPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPolicyResponse>>() {
             public PlayFabResult<GetPolicyResponse> call() throws Exception {
                 return privateGetPolicyAsync(request);
             }
@@ -2491,9 +3445,19 @@ public class PlayFabAdminAPI {
      * @param request GetPolicyRequest
      * @return GetPolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request) {
-        FutureTask<PlayFabResult<GetPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<GetPolicyResponse>>() {
+        return GetPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPolicyResponse>>() {
             public PlayFabResult<GetPolicyResponse> call() throws Exception {
                 return privateGetPolicyAsync(request);
             }
@@ -2502,16 +3466,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPolicyResponse> exceptionResult = new PlayFabResult<GetPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPolicyResultType = new TypeToken<PlayFabJsonSuccess<GetPolicyResponse>>(){}.getType();
+
     /** Gets the requested policy. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPolicyResponse> privateGetPolicyAsync(final GetPolicyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPolicyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2522,9 +3490,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPolicyResponse> resultData = (PlayFabJsonSuccess<GetPolicyResponse>) httpResult;
         GetPolicyResponse result = resultData.data;
 
         PlayFabResult<GetPolicyResponse> pfResult = new PlayFabResult<GetPolicyResponse>();
@@ -2537,9 +3504,19 @@ public class PlayFabAdminAPI {
      * @param request GetPublisherDataRequest
      * @return Async Task will return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -2551,9 +3528,19 @@ public class PlayFabAdminAPI {
      * @param request GetPublisherDataRequest
      * @return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
-        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -2562,16 +3549,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2582,9 +3573,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -2597,9 +3587,19 @@ public class PlayFabAdminAPI {
      * @param request GetRandomResultTablesRequest
      * @return Async Task will return GetRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+        return GetRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
                 return privateGetRandomResultTablesAsync(request);
             }
@@ -2611,9 +3611,19 @@ public class PlayFabAdminAPI {
      * @param request GetRandomResultTablesRequest
      * @return GetRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
-        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+        return GetRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
                 return privateGetRandomResultTablesAsync(request);
             }
@@ -2622,16 +3632,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType();
+
     /** Retrieves the random drop table configuration for the title */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetRandomResultTablesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2642,9 +3656,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -2657,9 +3670,19 @@ public class PlayFabAdminAPI {
      * @param request GetServerBuildInfoRequest
      * @return Async Task will return GetServerBuildInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfoAsync(final GetServerBuildInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+        return GetServerBuildInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetServerBuildInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfoAsync(final GetServerBuildInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
             public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
                 return privateGetServerBuildInfoAsync(request);
             }
@@ -2671,9 +3694,19 @@ public class PlayFabAdminAPI {
      * @param request GetServerBuildInfoRequest
      * @return GetServerBuildInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
-        FutureTask<PlayFabResult<GetServerBuildInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+        return GetServerBuildInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetServerBuildInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetServerBuildInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
             public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
                 return privateGetServerBuildInfoAsync(request);
             }
@@ -2682,16 +3715,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetServerBuildInfoResult> exceptionResult = new PlayFabResult<GetServerBuildInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetServerBuildInfoResultType = new TypeToken<PlayFabJsonSuccess<GetServerBuildInfoResult>>(){}.getType();
+
     /** Retrieves the build details for the specified game server executable */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetServerBuildInfoResult> privateGetServerBuildInfoAsync(final GetServerBuildInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetServerBuildInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2702,9 +3739,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetServerBuildInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBuildInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBuildInfoResult> resultData = (PlayFabJsonSuccess<GetServerBuildInfoResult>) httpResult;
         GetServerBuildInfoResult result = resultData.data;
 
         PlayFabResult<GetServerBuildInfoResult> pfResult = new PlayFabResult<GetServerBuildInfoResult>();
@@ -2718,9 +3754,20 @@ public class PlayFabAdminAPI {
      * @param request GetServerBuildUploadURLRequest
      * @return Async Task will return GetServerBuildUploadURLResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+        return GetServerBuildUploadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetServerBuildUploadURLResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
             public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
                 return privateGetServerBuildUploadUrlAsync(request);
             }
@@ -2733,9 +3780,20 @@ public class PlayFabAdminAPI {
      * @param request GetServerBuildUploadURLRequest
      * @return GetServerBuildUploadURLResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
-        FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+        return GetServerBuildUploadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetServerBuildUploadURLResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
             public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
                 return privateGetServerBuildUploadUrlAsync(request);
             }
@@ -2744,10 +3802,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetServerBuildUploadURLResult> exceptionResult = new PlayFabResult<GetServerBuildUploadURLResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetServerBuildUploadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetServerBuildUploadURLResult>>(){}.getType();
+
     /**
      * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
      * use - see AddServerBuild)
@@ -2756,7 +3818,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<GetServerBuildUploadURLResult> privateGetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetServerBuildUploadUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2767,9 +3829,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetServerBuildUploadURLResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBuildUploadURLResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBuildUploadURLResult> resultData = (PlayFabJsonSuccess<GetServerBuildUploadURLResult>) httpResult;
         GetServerBuildUploadURLResult result = resultData.data;
 
         PlayFabResult<GetServerBuildUploadURLResult> pfResult = new PlayFabResult<GetServerBuildUploadURLResult>();
@@ -2782,9 +3843,19 @@ public class PlayFabAdminAPI {
      * @param request GetStoreItemsRequest
      * @return Async Task will return GetStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+        return GetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
                 return privateGetStoreItemsAsync(request);
             }
@@ -2796,9 +3867,19 @@ public class PlayFabAdminAPI {
      * @param request GetStoreItemsRequest
      * @return GetStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
-        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+        return GetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
                 return privateGetStoreItemsAsync(request);
             }
@@ -2807,16 +3888,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType();
+
     /** Retrieves the set of items defined for the specified store, including all prices defined */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetStoreItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2827,9 +3912,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -2842,9 +3926,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstancesRequest
      * @return Async Task will return GetTaskInstancesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTaskInstancesResult>> GetTaskInstancesAsync(final GetTaskInstancesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+        return GetTaskInstancesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTaskInstancesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTaskInstancesResult>> GetTaskInstancesAsync(final GetTaskInstancesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTaskInstancesResult>>() {
             public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
                 return privateGetTaskInstancesAsync(request);
             }
@@ -2856,9 +3950,19 @@ public class PlayFabAdminAPI {
      * @param request GetTaskInstancesRequest
      * @return GetTaskInstancesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request) {
-        FutureTask<PlayFabResult<GetTaskInstancesResult>> task = new FutureTask(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+        return GetTaskInstances(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTaskInstancesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTaskInstancesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTaskInstancesResult>>() {
             public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
                 return privateGetTaskInstancesAsync(request);
             }
@@ -2867,16 +3971,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTaskInstancesResult> exceptionResult = new PlayFabResult<GetTaskInstancesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTaskInstancesResultType = new TypeToken<PlayFabJsonSuccess<GetTaskInstancesResult>>(){}.getType();
+
     /** Query for task instances by task, status, or time range. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTaskInstancesResult> privateGetTaskInstancesAsync(final GetTaskInstancesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTaskInstances"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTaskInstances"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTaskInstancesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2887,9 +3995,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTaskInstancesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = (PlayFabJsonSuccess<GetTaskInstancesResult>) httpResult;
         GetTaskInstancesResult result = resultData.data;
 
         PlayFabResult<GetTaskInstancesResult> pfResult = new PlayFabResult<GetTaskInstancesResult>();
@@ -2902,9 +4009,19 @@ public class PlayFabAdminAPI {
      * @param request GetTasksRequest
      * @return Async Task will return GetTasksResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTasksResult>> GetTasksAsync(final GetTasksRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTasksResult>>() {
+        return GetTasksAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTasksResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTasksResult>> GetTasksAsync(final GetTasksRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTasksResult>>() {
             public PlayFabResult<GetTasksResult> call() throws Exception {
                 return privateGetTasksAsync(request);
             }
@@ -2916,9 +4033,19 @@ public class PlayFabAdminAPI {
      * @param request GetTasksRequest
      * @return GetTasksResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request) {
-        FutureTask<PlayFabResult<GetTasksResult>> task = new FutureTask(new Callable<PlayFabResult<GetTasksResult>>() {
+        return GetTasks(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTasksResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTasksResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTasksResult>>() {
             public PlayFabResult<GetTasksResult> call() throws Exception {
                 return privateGetTasksAsync(request);
             }
@@ -2927,16 +4054,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTasksResult> exceptionResult = new PlayFabResult<GetTasksResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTasksResultType = new TypeToken<PlayFabJsonSuccess<GetTasksResult>>(){}.getType();
+
     /** Get definition information on a specified task or all tasks within a title. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTasksResult> privateGetTasksAsync(final GetTasksRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTasks"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTasks"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTasksResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2947,9 +4078,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTasksResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTasksResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTasksResult> resultData = (PlayFabJsonSuccess<GetTasksResult>) httpResult;
         GetTasksResult result = resultData.data;
 
         PlayFabResult<GetTasksResult> pfResult = new PlayFabResult<GetTasksResult>();
@@ -2962,9 +4092,19 @@ public class PlayFabAdminAPI {
      * @param request GetTitleDataRequest
      * @return Async Task will return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -2976,9 +4116,19 @@ public class PlayFabAdminAPI {
      * @param request GetTitleDataRequest
      * @return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
-        FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -2987,16 +4137,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom title settings which can be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTitleDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3007,9 +4161,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3022,9 +4175,19 @@ public class PlayFabAdminAPI {
      * @param request GetTitleDataRequest
      * @return Async Task will return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleInternalDataAsync(request);
             }
@@ -3036,9 +4199,19 @@ public class PlayFabAdminAPI {
      * @param request GetTitleDataRequest
      * @return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
-        FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleInternalDataAsync(request);
             }
@@ -3047,16 +4220,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom title settings which cannot be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTitleInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3067,9 +4244,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3082,9 +4258,19 @@ public class PlayFabAdminAPI {
      * @param request LookupUserAccountInfoRequest
      * @return Async Task will return LookupUserAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+        return GetUserAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LookupUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfoAsync(final LookupUserAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
             public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
                 return privateGetUserAccountInfoAsync(request);
             }
@@ -3096,9 +4282,19 @@ public class PlayFabAdminAPI {
      * @param request LookupUserAccountInfoRequest
      * @return LookupUserAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
-        FutureTask<PlayFabResult<LookupUserAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+        return GetUserAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LookupUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LookupUserAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
             public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
                 return privateGetUserAccountInfoAsync(request);
             }
@@ -3107,16 +4303,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<LookupUserAccountInfoResult> exceptionResult = new PlayFabResult<LookupUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<LookupUserAccountInfoResult>>(){}.getType();
+
     /** Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<LookupUserAccountInfoResult> privateGetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserAccountInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3127,9 +4327,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LookupUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = (PlayFabJsonSuccess<LookupUserAccountInfoResult>) httpResult;
         LookupUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<LookupUserAccountInfoResult> pfResult = new PlayFabResult<LookupUserAccountInfoResult>();
@@ -3142,9 +4341,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserBansRequest
      * @return Async Task will return GetUserBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
+        return GetUserBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
                 return privateGetUserBansAsync(request);
             }
@@ -3156,9 +4365,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserBansRequest
      * @return GetUserBansResult
      */
+    public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
+        return GetUserBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserBansResult
+     */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
-        FutureTask<PlayFabResult<GetUserBansResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
+    public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
                 return privateGetUserBansAsync(request);
             }
@@ -3167,16 +4386,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserBansResultType = new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType();
+
     /** Gets all bans for a user. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3187,9 +4410,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3202,9 +4424,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3216,9 +4448,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3227,16 +4469,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3247,9 +4493,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3262,9 +4507,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserInternalDataAsync(request);
             }
@@ -3276,9 +4531,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserInternalDataAsync(request);
             }
@@ -3287,16 +4552,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3307,9 +4576,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3322,9 +4590,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserInventoryRequest
      * @return Async Task will return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3336,9 +4614,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserInventoryRequest
      * @return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
-        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3347,16 +4635,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
     /** Retrieves the specified user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserInventoryResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3367,9 +4659,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -3382,9 +4673,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3396,9 +4697,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3407,16 +4718,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3427,9 +4742,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3442,9 +4756,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherInternalDataAsync(request);
             }
@@ -3456,9 +4780,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherInternalDataAsync(request);
             }
@@ -3467,16 +4801,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3487,9 +4825,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3502,9 +4839,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -3516,9 +4863,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -3527,16 +4884,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3547,9 +4908,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3562,9 +4922,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -3576,9 +4946,19 @@ public class PlayFabAdminAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -3587,16 +4967,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3607,9 +4991,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3622,9 +5005,19 @@ public class PlayFabAdminAPI {
      * @param request GrantItemsToUsersRequest
      * @return Async Task will return GrantItemsToUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+        return GrantItemsToUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
                 return privateGrantItemsToUsersAsync(request);
             }
@@ -3636,9 +5029,19 @@ public class PlayFabAdminAPI {
      * @param request GrantItemsToUsersRequest
      * @return GrantItemsToUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
-        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+        return GrantItemsToUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
                 return privateGrantItemsToUsersAsync(request);
             }
@@ -3647,16 +5050,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantItemsToUsersResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType();
+
     /** Adds the specified items to the specified user inventories */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GrantItemsToUsersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3667,9 +5074,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -3682,9 +5088,19 @@ public class PlayFabAdminAPI {
      * @param request IncrementLimitedEditionItemAvailabilityRequest
      * @return Async Task will return IncrementLimitedEditionItemAvailabilityResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+        return IncrementLimitedEditionItemAvailabilityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IncrementLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
                 return privateIncrementLimitedEditionItemAvailabilityAsync(request);
             }
@@ -3696,9 +5112,19 @@ public class PlayFabAdminAPI {
      * @param request IncrementLimitedEditionItemAvailabilityRequest
      * @return IncrementLimitedEditionItemAvailabilityResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
-        FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> task = new FutureTask(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+        return IncrementLimitedEditionItemAvailability(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IncrementLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
                 return privateIncrementLimitedEditionItemAvailabilityAsync(request);
             }
@@ -3707,16 +5133,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type IncrementLimitedEditionItemAvailabilityResultType = new TypeToken<PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>>(){}.getType();
+
     /** Increases the global count for the given scarce resource. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> privateIncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, IncrementLimitedEditionItemAvailabilityResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3727,9 +5157,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>) httpResult;
         IncrementLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
@@ -3742,9 +5171,19 @@ public class PlayFabAdminAPI {
      * @param request IncrementPlayerStatisticVersionRequest
      * @return Async Task will return IncrementPlayerStatisticVersionResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+        return IncrementPlayerStatisticVersionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IncrementPlayerStatisticVersionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
             public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
                 return privateIncrementPlayerStatisticVersionAsync(request);
             }
@@ -3756,9 +5195,19 @@ public class PlayFabAdminAPI {
      * @param request IncrementPlayerStatisticVersionRequest
      * @return IncrementPlayerStatisticVersionResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
-        FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> task = new FutureTask(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+        return IncrementPlayerStatisticVersion(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IncrementPlayerStatisticVersionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
             public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
                 return privateIncrementPlayerStatisticVersionAsync(request);
             }
@@ -3767,16 +5216,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<IncrementPlayerStatisticVersionResult> exceptionResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type IncrementPlayerStatisticVersionResultType = new TypeToken<PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>>(){}.getType();
+
     /** Resets the indicated statistic, removing all player entries for it and backing up the old values. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<IncrementPlayerStatisticVersionResult> privateIncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementPlayerStatisticVersion"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementPlayerStatisticVersion"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, IncrementPlayerStatisticVersionResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3787,9 +5240,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = (PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>) httpResult;
         IncrementPlayerStatisticVersionResult result = resultData.data;
 
         PlayFabResult<IncrementPlayerStatisticVersionResult> pfResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
@@ -3802,9 +5254,19 @@ public class PlayFabAdminAPI {
      * @param request ListBuildsRequest
      * @return Async Task will return ListBuildsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListBuildsResult>> ListServerBuildsAsync(final ListBuildsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListBuildsResult>>() {
+        return ListServerBuildsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListBuildsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListBuildsResult>> ListServerBuildsAsync(final ListBuildsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListBuildsResult>>() {
             public PlayFabResult<ListBuildsResult> call() throws Exception {
                 return privateListServerBuildsAsync(request);
             }
@@ -3816,9 +5278,19 @@ public class PlayFabAdminAPI {
      * @param request ListBuildsRequest
      * @return ListBuildsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request) {
-        FutureTask<PlayFabResult<ListBuildsResult>> task = new FutureTask(new Callable<PlayFabResult<ListBuildsResult>>() {
+        return ListServerBuilds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListBuildsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListBuildsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListBuildsResult>>() {
             public PlayFabResult<ListBuildsResult> call() throws Exception {
                 return privateListServerBuildsAsync(request);
             }
@@ -3827,16 +5299,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListBuildsResult> exceptionResult = new PlayFabResult<ListBuildsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListServerBuildsResultType = new TypeToken<PlayFabJsonSuccess<ListBuildsResult>>(){}.getType();
+
     /** Retrieves the build details for all game server executables which are currently defined for the title */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListBuildsResult> privateListServerBuildsAsync(final ListBuildsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListServerBuilds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListServerBuilds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ListServerBuildsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3847,9 +5323,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListBuildsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildsResult> resultData = (PlayFabJsonSuccess<ListBuildsResult>) httpResult;
         ListBuildsResult result = resultData.data;
 
         PlayFabResult<ListBuildsResult> pfResult = new PlayFabResult<ListBuildsResult>();
@@ -3862,9 +5337,19 @@ public class PlayFabAdminAPI {
      * @param request ListVirtualCurrencyTypesRequest
      * @return Async Task will return ListVirtualCurrencyTypesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+        return ListVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListVirtualCurrencyTypesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
             public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
                 return privateListVirtualCurrencyTypesAsync(request);
             }
@@ -3876,9 +5361,19 @@ public class PlayFabAdminAPI {
      * @param request ListVirtualCurrencyTypesRequest
      * @return ListVirtualCurrencyTypesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
-        FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> task = new FutureTask(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+        return ListVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListVirtualCurrencyTypesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
             public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
                 return privateListVirtualCurrencyTypesAsync(request);
             }
@@ -3887,16 +5382,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListVirtualCurrencyTypesResult> exceptionResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ListVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>>(){}.getType();
+
     /** Retuns the list of all defined virtual currencies for the title */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ListVirtualCurrencyTypesResult> privateListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ListVirtualCurrencyTypesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3907,9 +5406,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>>(){}.getType());
+        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = (PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>) httpResult;
         ListVirtualCurrencyTypesResult result = resultData.data;
 
         PlayFabResult<ListVirtualCurrencyTypesResult> pfResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
@@ -3922,9 +5420,19 @@ public class PlayFabAdminAPI {
      * @param request ModifyMatchmakerGameModesRequest
      * @return Async Task will return ModifyMatchmakerGameModesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+        return ModifyMatchmakerGameModesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
             public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
                 return privateModifyMatchmakerGameModesAsync(request);
             }
@@ -3936,9 +5444,19 @@ public class PlayFabAdminAPI {
      * @param request ModifyMatchmakerGameModesRequest
      * @return ModifyMatchmakerGameModesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
-        FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+        return ModifyMatchmakerGameModes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
             public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
                 return privateModifyMatchmakerGameModesAsync(request);
             }
@@ -3947,16 +5465,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyMatchmakerGameModesResult> exceptionResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ModifyMatchmakerGameModesResultType = new TypeToken<PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>>(){}.getType();
+
     /** Updates the game server mode details for the specified game server executable */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyMatchmakerGameModesResult> privateModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ModifyMatchmakerGameModesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3967,9 +5489,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyMatchmakerGameModesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>) httpResult;
         ModifyMatchmakerGameModesResult result = resultData.data;
 
         PlayFabResult<ModifyMatchmakerGameModesResult> pfResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
@@ -3982,9 +5503,19 @@ public class PlayFabAdminAPI {
      * @param request ModifyServerBuildRequest
      * @return Async Task will return ModifyServerBuildResult
      */
+    public static FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request) {
+        return ModifyServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyServerBuildResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+    public static FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyServerBuildResult>>() {
             public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
                 return privateModifyServerBuildAsync(request);
             }
@@ -3996,9 +5527,19 @@ public class PlayFabAdminAPI {
      * @param request ModifyServerBuildRequest
      * @return ModifyServerBuildResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request) {
-        FutureTask<PlayFabResult<ModifyServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+        return ModifyServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyServerBuildResult>>() {
             public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
                 return privateModifyServerBuildAsync(request);
             }
@@ -4007,16 +5548,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyServerBuildResult> exceptionResult = new PlayFabResult<ModifyServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ModifyServerBuildResultType = new TypeToken<PlayFabJsonSuccess<ModifyServerBuildResult>>(){}.getType();
+
     /** Updates the build details for the specified game server executable */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyServerBuildResult> privateModifyServerBuildAsync(final ModifyServerBuildRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ModifyServerBuildResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4027,9 +5572,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyServerBuildResult> resultData = (PlayFabJsonSuccess<ModifyServerBuildResult>) httpResult;
         ModifyServerBuildResult result = resultData.data;
 
         PlayFabResult<ModifyServerBuildResult> pfResult = new PlayFabResult<ModifyServerBuildResult>();
@@ -4042,9 +5586,19 @@ public class PlayFabAdminAPI {
      * @param request RefundPurchaseRequest
      * @return Async Task will return RefundPurchaseResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RefundPurchaseResponse>> RefundPurchaseAsync(final RefundPurchaseRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+        return RefundPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RefundPurchaseResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RefundPurchaseResponse>> RefundPurchaseAsync(final RefundPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefundPurchaseResponse>>() {
             public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
                 return privateRefundPurchaseAsync(request);
             }
@@ -4056,9 +5610,19 @@ public class PlayFabAdminAPI {
      * @param request RefundPurchaseRequest
      * @return RefundPurchaseResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request) {
-        FutureTask<PlayFabResult<RefundPurchaseResponse>> task = new FutureTask(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+        return RefundPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RefundPurchaseResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RefundPurchaseResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefundPurchaseResponse>>() {
             public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
                 return privateRefundPurchaseAsync(request);
             }
@@ -4067,16 +5631,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RefundPurchaseResponse> exceptionResult = new PlayFabResult<RefundPurchaseResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RefundPurchaseResultType = new TypeToken<PlayFabJsonSuccess<RefundPurchaseResponse>>(){}.getType();
+
     /** Attempts to process an order refund through the original real money payment provider. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RefundPurchaseResponse> privateRefundPurchaseAsync(final RefundPurchaseRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RefundPurchase"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RefundPurchase"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RefundPurchaseResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4087,9 +5655,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RefundPurchaseResponse>>(){}.getType());
+        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = (PlayFabJsonSuccess<RefundPurchaseResponse>) httpResult;
         RefundPurchaseResponse result = resultData.data;
 
         PlayFabResult<RefundPurchaseResponse> pfResult = new PlayFabResult<RefundPurchaseResponse>();
@@ -4102,9 +5669,19 @@ public class PlayFabAdminAPI {
      * @param request RemovePlayerTagRequest
      * @return Async Task will return RemovePlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+        return RemovePlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
                 return privateRemovePlayerTagAsync(request);
             }
@@ -4116,9 +5693,19 @@ public class PlayFabAdminAPI {
      * @param request RemovePlayerTagRequest
      * @return RemovePlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
-        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+        return RemovePlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
                 return privateRemovePlayerTagAsync(request);
             }
@@ -4127,16 +5714,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemovePlayerTagResultType = new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType();
+
     /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemovePlayerTagResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4147,9 +5738,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -4163,9 +5753,20 @@ public class PlayFabAdminAPI {
      * @param request RemoveServerBuildRequest
      * @return Async Task will return RemoveServerBuildResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuildAsync(final RemoveServerBuildRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+        return RemoveServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuildAsync(final RemoveServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveServerBuildResult>>() {
             public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
                 return privateRemoveServerBuildAsync(request);
             }
@@ -4178,9 +5779,20 @@ public class PlayFabAdminAPI {
      * @param request RemoveServerBuildRequest
      * @return RemoveServerBuildResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request) {
-        FutureTask<PlayFabResult<RemoveServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+        return RemoveServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveServerBuildResult>>() {
             public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
                 return privateRemoveServerBuildAsync(request);
             }
@@ -4189,10 +5801,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveServerBuildResult> exceptionResult = new PlayFabResult<RemoveServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveServerBuildResultType = new TypeToken<PlayFabJsonSuccess<RemoveServerBuildResult>>(){}.getType();
+
     /**
      * Removes the game server executable specified from the set of those a client is permitted to request in a call to
      * StartGame
@@ -4201,7 +5817,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<RemoveServerBuildResult> privateRemoveServerBuildAsync(final RemoveServerBuildRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemoveServerBuildResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4212,9 +5828,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveServerBuildResult> resultData = (PlayFabJsonSuccess<RemoveServerBuildResult>) httpResult;
         RemoveServerBuildResult result = resultData.data;
 
         PlayFabResult<RemoveServerBuildResult> pfResult = new PlayFabResult<RemoveServerBuildResult>();
@@ -4227,9 +5842,19 @@ public class PlayFabAdminAPI {
      * @param request RemoveVirtualCurrencyTypesRequest
      * @return Async Task will return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return RemoveVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateRemoveVirtualCurrencyTypesAsync(request);
             }
@@ -4241,9 +5866,19 @@ public class PlayFabAdminAPI {
      * @param request RemoveVirtualCurrencyTypesRequest
      * @return BlankResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
-        FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
+        return RemoveVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
                 return privateRemoveVirtualCurrencyTypesAsync(request);
             }
@@ -4252,16 +5887,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
     /** Removes one or more virtual currencies from the set defined for the title. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<BlankResult> privateRemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemoveVirtualCurrencyTypesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4272,9 +5911,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -4287,9 +5925,19 @@ public class PlayFabAdminAPI {
      * @param request ResetCharacterStatisticsRequest
      * @return Async Task will return ResetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+        return ResetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
             public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
                 return privateResetCharacterStatisticsAsync(request);
             }
@@ -4301,9 +5949,19 @@ public class PlayFabAdminAPI {
      * @param request ResetCharacterStatisticsRequest
      * @return ResetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
-        FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+        return ResetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
             public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
                 return privateResetCharacterStatisticsAsync(request);
             }
@@ -4312,16 +5970,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ResetCharacterStatisticsResult> exceptionResult = new PlayFabResult<ResetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ResetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<ResetCharacterStatisticsResult>>(){}.getType();
+
     /** Completely removes all statistics for the specified character, for the current game */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ResetCharacterStatisticsResult> privateResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ResetCharacterStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4332,9 +5994,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<ResetCharacterStatisticsResult>) httpResult;
         ResetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetCharacterStatisticsResult> pfResult = new PlayFabResult<ResetCharacterStatisticsResult>();
@@ -4347,9 +6008,19 @@ public class PlayFabAdminAPI {
      * @param request ResetPasswordRequest
      * @return Async Task will return ResetPasswordResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ResetPasswordResult>> ResetPasswordAsync(final ResetPasswordRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ResetPasswordResult>>() {
+        return ResetPasswordAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetPasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ResetPasswordResult>> ResetPasswordAsync(final ResetPasswordRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetPasswordResult>>() {
             public PlayFabResult<ResetPasswordResult> call() throws Exception {
                 return privateResetPasswordAsync(request);
             }
@@ -4361,9 +6032,19 @@ public class PlayFabAdminAPI {
      * @param request ResetPasswordRequest
      * @return ResetPasswordResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request) {
-        FutureTask<PlayFabResult<ResetPasswordResult>> task = new FutureTask(new Callable<PlayFabResult<ResetPasswordResult>>() {
+        return ResetPassword(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetPasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetPasswordResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetPasswordResult>>() {
             public PlayFabResult<ResetPasswordResult> call() throws Exception {
                 return privateResetPasswordAsync(request);
             }
@@ -4372,16 +6053,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ResetPasswordResult> exceptionResult = new PlayFabResult<ResetPasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ResetPasswordResultType = new TypeToken<PlayFabJsonSuccess<ResetPasswordResult>>(){}.getType();
+
     /** Reset a player's password for a given title. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ResetPasswordResult> privateResetPasswordAsync(final ResetPasswordRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetPassword"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetPassword"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ResetPasswordResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4392,9 +6077,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetPasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetPasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetPasswordResult> resultData = (PlayFabJsonSuccess<ResetPasswordResult>) httpResult;
         ResetPasswordResult result = resultData.data;
 
         PlayFabResult<ResetPasswordResult> pfResult = new PlayFabResult<ResetPasswordResult>();
@@ -4407,9 +6091,19 @@ public class PlayFabAdminAPI {
      * @param request ResetUserStatisticsRequest
      * @return Async Task will return ResetUserStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatisticsAsync(final ResetUserStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+        return ResetUserStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetUserStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatisticsAsync(final ResetUserStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
             public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
                 return privateResetUserStatisticsAsync(request);
             }
@@ -4421,9 +6115,19 @@ public class PlayFabAdminAPI {
      * @param request ResetUserStatisticsRequest
      * @return ResetUserStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request) {
-        FutureTask<PlayFabResult<ResetUserStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+        return ResetUserStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetUserStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetUserStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
             public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
                 return privateResetUserStatisticsAsync(request);
             }
@@ -4432,16 +6136,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ResetUserStatisticsResult> exceptionResult = new PlayFabResult<ResetUserStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ResetUserStatisticsResultType = new TypeToken<PlayFabJsonSuccess<ResetUserStatisticsResult>>(){}.getType();
+
     /** Completely removes all statistics for the specified user, for the current game */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ResetUserStatisticsResult> privateResetUserStatisticsAsync(final ResetUserStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetUserStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetUserStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ResetUserStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4452,9 +6160,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetUserStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = (PlayFabJsonSuccess<ResetUserStatisticsResult>) httpResult;
         ResetUserStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetUserStatisticsResult> pfResult = new PlayFabResult<ResetUserStatisticsResult>();
@@ -4467,9 +6174,19 @@ public class PlayFabAdminAPI {
      * @param request ResolvePurchaseDisputeRequest
      * @return Async Task will return ResolvePurchaseDisputeResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+        return ResolvePurchaseDisputeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResolvePurchaseDisputeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
             public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
                 return privateResolvePurchaseDisputeAsync(request);
             }
@@ -4481,9 +6198,19 @@ public class PlayFabAdminAPI {
      * @param request ResolvePurchaseDisputeRequest
      * @return ResolvePurchaseDisputeResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
-        FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> task = new FutureTask(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+        return ResolvePurchaseDispute(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResolvePurchaseDisputeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
             public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
                 return privateResolvePurchaseDisputeAsync(request);
             }
@@ -4492,16 +6219,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ResolvePurchaseDisputeResponse> exceptionResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ResolvePurchaseDisputeResultType = new TypeToken<PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>>(){}.getType();
+
     /** Attempts to resolve a dispute with the original order's payment provider. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ResolvePurchaseDisputeResponse> privateResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResolvePurchaseDispute"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResolvePurchaseDispute"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ResolvePurchaseDisputeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4512,9 +6243,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>>(){}.getType());
+        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = (PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>) httpResult;
         ResolvePurchaseDisputeResponse result = resultData.data;
 
         PlayFabResult<ResolvePurchaseDisputeResponse> pfResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
@@ -4527,9 +6257,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeAllBansForUserRequest
      * @return Async Task will return RevokeAllBansForUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+        return RevokeAllBansForUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
                 return privateRevokeAllBansForUserAsync(request);
             }
@@ -4541,9 +6281,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeAllBansForUserRequest
      * @return RevokeAllBansForUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
-        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+        return RevokeAllBansForUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
                 return privateRevokeAllBansForUserAsync(request);
             }
@@ -4552,16 +6302,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeAllBansForUserResultType = new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType();
+
     /** Revoke all active bans for a user. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeAllBansForUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4572,9 +6326,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -4587,9 +6340,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeBansRequest
      * @return Async Task will return RevokeBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
+        return RevokeBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
                 return privateRevokeBansAsync(request);
             }
@@ -4601,9 +6364,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeBansRequest
      * @return RevokeBansResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
-        FutureTask<PlayFabResult<RevokeBansResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
+        return RevokeBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
                 return privateRevokeBansAsync(request);
             }
@@ -4612,16 +6385,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeBansResultType = new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType();
+
     /** Revoke all active bans specified with BanId. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4632,9 +6409,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -4647,9 +6423,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeInventoryItemRequest
      * @return Async Task will return RevokeInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+        return RevokeInventoryItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
                 return privateRevokeInventoryItemAsync(request);
             }
@@ -4661,9 +6447,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeInventoryItemRequest
      * @return RevokeInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
-        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+        return RevokeInventoryItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
                 return privateRevokeInventoryItemAsync(request);
             }
@@ -4672,16 +6468,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeInventoryItemResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType();
+
     /** Revokes access to an item in a user's inventory */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeInventoryItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4692,9 +6492,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -4707,9 +6506,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeInventoryItemsRequest
      * @return Async Task will return RevokeInventoryItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+        return RevokeInventoryItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
                 return privateRevokeInventoryItemsAsync(request);
             }
@@ -4721,9 +6530,19 @@ public class PlayFabAdminAPI {
      * @param request RevokeInventoryItemsRequest
      * @return RevokeInventoryItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
-        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+        return RevokeInventoryItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
                 return privateRevokeInventoryItemsAsync(request);
             }
@@ -4732,16 +6551,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeInventoryItemsResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType();
+
     /** Revokes access for up to 25 items across multiple users and characters. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeInventoryItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4752,9 +6575,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -4767,9 +6589,19 @@ public class PlayFabAdminAPI {
      * @param request RunTaskRequest
      * @return Async Task will return RunTaskResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RunTaskResult>> RunTaskAsync(final RunTaskRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RunTaskResult>>() {
+        return RunTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RunTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RunTaskResult>> RunTaskAsync(final RunTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RunTaskResult>>() {
             public PlayFabResult<RunTaskResult> call() throws Exception {
                 return privateRunTaskAsync(request);
             }
@@ -4781,9 +6613,19 @@ public class PlayFabAdminAPI {
      * @param request RunTaskRequest
      * @return RunTaskResult
      */
+    public static PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request) {
+        return RunTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RunTaskResult
+     */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request) {
-        FutureTask<PlayFabResult<RunTaskResult>> task = new FutureTask(new Callable<PlayFabResult<RunTaskResult>>() {
+    public static PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RunTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RunTaskResult>>() {
             public PlayFabResult<RunTaskResult> call() throws Exception {
                 return privateRunTaskAsync(request);
             }
@@ -4792,16 +6634,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RunTaskResult> exceptionResult = new PlayFabResult<RunTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RunTaskResultType = new TypeToken<PlayFabJsonSuccess<RunTaskResult>>(){}.getType();
+
     /** Run a task immediately regardless of its schedule. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RunTaskResult> privateRunTaskAsync(final RunTaskRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RunTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RunTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RunTaskResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4812,9 +6658,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RunTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RunTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<RunTaskResult> resultData = (PlayFabJsonSuccess<RunTaskResult>) httpResult;
         RunTaskResult result = resultData.data;
 
         PlayFabResult<RunTaskResult> pfResult = new PlayFabResult<RunTaskResult>();
@@ -4829,9 +6674,21 @@ public class PlayFabAdminAPI {
      * @param request SendAccountRecoveryEmailRequest
      * @return Async Task will return SendAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+        return SendAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendAccountRecoveryEmailAsync(request);
             }
@@ -4845,9 +6702,21 @@ public class PlayFabAdminAPI {
      * @param request SendAccountRecoveryEmailRequest
      * @return SendAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
-        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+        return SendAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendAccountRecoveryEmailAsync(request);
             }
@@ -4856,10 +6725,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SendAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType();
+
     /**
      * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
      * change the password.If an account recovery email template ID is provided, an email using the custom email template will
@@ -4869,7 +6742,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SendAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SendAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SendAccountRecoveryEmailResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4880,9 +6753,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -4895,9 +6767,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateCatalogItemsRequest
      * @return Async Task will return UpdateCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+        return SetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItemsAsync(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
                 return privateSetCatalogItemsAsync(request);
             }
@@ -4909,9 +6791,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateCatalogItemsRequest
      * @return UpdateCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request) {
-        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+        return SetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
                 return privateSetCatalogItemsAsync(request);
             }
@@ -4920,16 +6812,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType();
+
     /** Creates the catalog configuration of all virtual goods for the specified catalog version */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCatalogItemsResult> privateSetCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetCatalogItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4940,9 +6836,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -4955,9 +6850,19 @@ public class PlayFabAdminAPI {
      * @param request SetPlayerSecretRequest
      * @return Async Task will return SetPlayerSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -4969,9 +6874,19 @@ public class PlayFabAdminAPI {
      * @param request SetPlayerSecretRequest
      * @return SetPlayerSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
-        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -4980,16 +6895,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
     /** Sets or resets the player's secret. Player secrets are used to sign API requests. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetPlayerSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5000,9 +6919,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -5015,9 +6933,19 @@ public class PlayFabAdminAPI {
      * @param request SetPublishedRevisionRequest
      * @return Async Task will return SetPublishedRevisionResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevisionAsync(final SetPublishedRevisionRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+        return SetPublishedRevisionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublishedRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevisionAsync(final SetPublishedRevisionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
             public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
                 return privateSetPublishedRevisionAsync(request);
             }
@@ -5029,9 +6957,19 @@ public class PlayFabAdminAPI {
      * @param request SetPublishedRevisionRequest
      * @return SetPublishedRevisionResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request) {
-        FutureTask<PlayFabResult<SetPublishedRevisionResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+        return SetPublishedRevision(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublishedRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublishedRevisionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
             public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
                 return privateSetPublishedRevisionAsync(request);
             }
@@ -5040,16 +6978,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPublishedRevisionResult> exceptionResult = new PlayFabResult<SetPublishedRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPublishedRevisionResultType = new TypeToken<PlayFabJsonSuccess<SetPublishedRevisionResult>>(){}.getType();
+
     /** Sets the currently published revision of a title Cloud Script */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetPublishedRevisionResult> privateSetPublishedRevisionAsync(final SetPublishedRevisionRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublishedRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublishedRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetPublishedRevisionResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5060,9 +7002,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublishedRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = (PlayFabJsonSuccess<SetPublishedRevisionResult>) httpResult;
         SetPublishedRevisionResult result = resultData.data;
 
         PlayFabResult<SetPublishedRevisionResult> pfResult = new PlayFabResult<SetPublishedRevisionResult>();
@@ -5075,9 +7016,19 @@ public class PlayFabAdminAPI {
      * @param request SetPublisherDataRequest
      * @return Async Task will return SetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+        return SetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
                 return privateSetPublisherDataAsync(request);
             }
@@ -5089,9 +7040,19 @@ public class PlayFabAdminAPI {
      * @param request SetPublisherDataRequest
      * @return SetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
-        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+        return SetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
                 return privateSetPublisherDataAsync(request);
             }
@@ -5100,16 +7061,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType();
+
     /** Updates the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5120,9 +7085,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -5135,9 +7099,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateStoreItemsRequest
      * @return Async Task will return UpdateStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> SetStoreItemsAsync(final UpdateStoreItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+        return SetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> SetStoreItemsAsync(final UpdateStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
                 return privateSetStoreItemsAsync(request);
             }
@@ -5149,9 +7123,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateStoreItemsRequest
      * @return UpdateStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request) {
-        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+        return SetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
                 return privateSetStoreItemsAsync(request);
             }
@@ -5160,16 +7144,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType();
+
     /** Sets all the items in one virtual store */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateStoreItemsResult> privateSetStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetStoreItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5180,9 +7168,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -5195,9 +7182,19 @@ public class PlayFabAdminAPI {
      * @param request SetTitleDataRequest
      * @return Async Task will return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleDataAsync(request);
             }
@@ -5209,9 +7206,19 @@ public class PlayFabAdminAPI {
      * @param request SetTitleDataRequest
      * @return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
-        FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleDataAsync(request);
             }
@@ -5220,16 +7227,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
     /** Creates and updates the key-value store of custom title settings which can be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetTitleDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5240,9 +7251,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -5255,9 +7265,19 @@ public class PlayFabAdminAPI {
      * @param request SetTitleDataRequest
      * @return Async Task will return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleInternalDataAsync(request);
             }
@@ -5269,9 +7289,19 @@ public class PlayFabAdminAPI {
      * @param request SetTitleDataRequest
      * @return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
-        FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleInternalDataAsync(request);
             }
@@ -5280,16 +7310,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
     /** Updates the key-value store of custom title settings which cannot be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetTitleInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5300,9 +7334,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -5317,9 +7350,21 @@ public class PlayFabAdminAPI {
      * @param request SetupPushNotificationRequest
      * @return Async Task will return SetupPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetupPushNotificationResult>> SetupPushNotificationAsync(final SetupPushNotificationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+        return SetupPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetupPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetupPushNotificationResult>> SetupPushNotificationAsync(final SetupPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetupPushNotificationResult>>() {
             public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
                 return privateSetupPushNotificationAsync(request);
             }
@@ -5333,9 +7378,21 @@ public class PlayFabAdminAPI {
      * @param request SetupPushNotificationRequest
      * @return SetupPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request) {
-        FutureTask<PlayFabResult<SetupPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+        return SetupPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetupPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetupPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetupPushNotificationResult>>() {
             public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
                 return privateSetupPushNotificationAsync(request);
             }
@@ -5344,10 +7401,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetupPushNotificationResult> exceptionResult = new PlayFabResult<SetupPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetupPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<SetupPushNotificationResult>>(){}.getType();
+
     /**
      * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
      * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
@@ -5357,7 +7418,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<SetupPushNotificationResult> privateSetupPushNotificationAsync(final SetupPushNotificationRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetupPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetupPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetupPushNotificationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5368,9 +7429,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetupPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = (PlayFabJsonSuccess<SetupPushNotificationResult>) httpResult;
         SetupPushNotificationResult result = resultData.data;
 
         PlayFabResult<SetupPushNotificationResult> pfResult = new PlayFabResult<SetupPushNotificationResult>();
@@ -5383,9 +7443,19 @@ public class PlayFabAdminAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -5397,9 +7467,19 @@ public class PlayFabAdminAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -5408,16 +7488,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /** Decrements the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SubtractUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5428,9 +7512,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -5443,9 +7526,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateBansRequest
      * @return Async Task will return UpdateBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
+        return UpdateBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
                 return privateUpdateBansAsync(request);
             }
@@ -5457,9 +7550,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateBansRequest
      * @return UpdateBansResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
-        FutureTask<PlayFabResult<UpdateBansResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
+        return UpdateBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
                 return privateUpdateBansAsync(request);
             }
@@ -5468,16 +7571,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateBansResultType = new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType();
+
     /** Updates information of a list of existing bans specified with Ban Ids. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5488,9 +7595,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -5503,9 +7609,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateCatalogItemsRequest
      * @return Async Task will return UpdateCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+        return UpdateCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
                 return privateUpdateCatalogItemsAsync(request);
             }
@@ -5517,9 +7633,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateCatalogItemsRequest
      * @return UpdateCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
-        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+        return UpdateCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
                 return privateUpdateCatalogItemsAsync(request);
             }
@@ -5528,16 +7654,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType();
+
     /** Updates the catalog configuration for virtual goods in the specified catalog version */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCatalogItemsResult> privateUpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCatalogItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5548,9 +7678,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -5564,9 +7693,20 @@ public class PlayFabAdminAPI {
      * @param request UpdateCloudScriptRequest
      * @return Async Task will return UpdateCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScriptAsync(final UpdateCloudScriptRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+        return UpdateCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScriptAsync(final UpdateCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
             public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
                 return privateUpdateCloudScriptAsync(request);
             }
@@ -5579,9 +7719,20 @@ public class PlayFabAdminAPI {
      * @param request UpdateCloudScriptRequest
      * @return UpdateCloudScriptResult
      */
+    public static PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request) {
+        return UpdateCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCloudScriptResult
+     */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request) {
-        FutureTask<PlayFabResult<UpdateCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+    public static PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
             public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
                 return privateUpdateCloudScriptAsync(request);
             }
@@ -5590,10 +7741,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCloudScriptResult> exceptionResult = new PlayFabResult<UpdateCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<UpdateCloudScriptResult>>(){}.getType();
+
     /**
      * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
      * submitted in the revision.
@@ -5602,7 +7757,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<UpdateCloudScriptResult> privateUpdateCloudScriptAsync(final UpdateCloudScriptRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCloudScriptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5613,9 +7768,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = (PlayFabJsonSuccess<UpdateCloudScriptResult>) httpResult;
         UpdateCloudScriptResult result = resultData.data;
 
         PlayFabResult<UpdateCloudScriptResult> pfResult = new PlayFabResult<UpdateCloudScriptResult>();
@@ -5629,9 +7783,20 @@ public class PlayFabAdminAPI {
      * @param request UpdatePlayerSharedSecretRequest
      * @return Async Task will return UpdatePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+        return UpdatePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
             public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
                 return privateUpdatePlayerSharedSecretAsync(request);
             }
@@ -5644,9 +7809,20 @@ public class PlayFabAdminAPI {
      * @param request UpdatePlayerSharedSecretRequest
      * @return UpdatePlayerSharedSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
-        FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+        return UpdatePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
             public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
                 return privateUpdatePlayerSharedSecretAsync(request);
             }
@@ -5655,10 +7831,14 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdatePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>>(){}.getType();
+
     /**
      * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
      * after this API returns.
@@ -5667,7 +7847,7 @@ public class PlayFabAdminAPI {
     private static PlayFabResult<UpdatePlayerSharedSecretResult> privateUpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdatePlayerSharedSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5678,9 +7858,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>) httpResult;
         UpdatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerSharedSecretResult> pfResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
@@ -5693,9 +7872,19 @@ public class PlayFabAdminAPI {
      * @param request UpdatePlayerStatisticDefinitionRequest
      * @return Async Task will return UpdatePlayerStatisticDefinitionResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+        return UpdatePlayerStatisticDefinitionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
                 return privateUpdatePlayerStatisticDefinitionAsync(request);
             }
@@ -5707,9 +7896,19 @@ public class PlayFabAdminAPI {
      * @param request UpdatePlayerStatisticDefinitionRequest
      * @return UpdatePlayerStatisticDefinitionResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
-        FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+        return UpdatePlayerStatisticDefinition(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
                 return privateUpdatePlayerStatisticDefinitionAsync(request);
             }
@@ -5718,16 +7917,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdatePlayerStatisticDefinitionResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>>(){}.getType();
+
     /** Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdatePlayerStatisticDefinitionResult> privateUpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdatePlayerStatisticDefinitionResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5738,9 +7941,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>) httpResult;
         UpdatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
@@ -5753,9 +7955,19 @@ public class PlayFabAdminAPI {
      * @param request UpdatePolicyRequest
      * @return Async Task will return UpdatePolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdatePolicyResponse>> UpdatePolicyAsync(final UpdatePolicyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+        return UpdatePolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdatePolicyResponse>> UpdatePolicyAsync(final UpdatePolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePolicyResponse>>() {
             public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
                 return privateUpdatePolicyAsync(request);
             }
@@ -5767,9 +7979,19 @@ public class PlayFabAdminAPI {
      * @param request UpdatePolicyRequest
      * @return UpdatePolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request) {
-        FutureTask<PlayFabResult<UpdatePolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+        return UpdatePolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePolicyResponse>>() {
             public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
                 return privateUpdatePolicyAsync(request);
             }
@@ -5778,16 +8000,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdatePolicyResponse> exceptionResult = new PlayFabResult<UpdatePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdatePolicyResultType = new TypeToken<PlayFabJsonSuccess<UpdatePolicyResponse>>(){}.getType();
+
     /** Changes a policy for a title */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdatePolicyResponse> privateUpdatePolicyAsync(final UpdatePolicyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdatePolicyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5798,9 +8024,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = (PlayFabJsonSuccess<UpdatePolicyResponse>) httpResult;
         UpdatePolicyResponse result = resultData.data;
 
         PlayFabResult<UpdatePolicyResponse> pfResult = new PlayFabResult<UpdatePolicyResponse>();
@@ -5813,9 +8038,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateRandomResultTablesRequest
      * @return Async Task will return UpdateRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+        return UpdateRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
             public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
                 return privateUpdateRandomResultTablesAsync(request);
             }
@@ -5827,9 +8062,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateRandomResultTablesRequest
      * @return UpdateRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
-        FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+        return UpdateRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
             public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
                 return privateUpdateRandomResultTablesAsync(request);
             }
@@ -5838,16 +8083,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateRandomResultTablesResult> exceptionResult = new PlayFabResult<UpdateRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<UpdateRandomResultTablesResult>>(){}.getType();
+
     /** Updates the random drop table configuration for the title */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateRandomResultTablesResult> privateUpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateRandomResultTablesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5858,9 +8107,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = (PlayFabJsonSuccess<UpdateRandomResultTablesResult>) httpResult;
         UpdateRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<UpdateRandomResultTablesResult> pfResult = new PlayFabResult<UpdateRandomResultTablesResult>();
@@ -5873,9 +8121,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateStoreItemsRequest
      * @return Async Task will return UpdateStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItemsAsync(final UpdateStoreItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+        return UpdateStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItemsAsync(final UpdateStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
                 return privateUpdateStoreItemsAsync(request);
             }
@@ -5887,9 +8145,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateStoreItemsRequest
      * @return UpdateStoreItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request) {
-        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+        return UpdateStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
                 return privateUpdateStoreItemsAsync(request);
             }
@@ -5898,16 +8166,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType();
+
     /** Updates an existing virtual item store with new or modified items */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateStoreItemsResult> privateUpdateStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateStoreItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5918,9 +8190,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -5933,9 +8204,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateTaskRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateTaskAsync(final UpdateTaskRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> UpdateTaskAsync(final UpdateTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateTaskAsync(request);
             }
@@ -5947,9 +8228,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateTaskRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateTaskAsync(request);
             }
@@ -5958,16 +8249,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateTaskResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Update an existing task. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateUpdateTaskAsync(final UpdateTaskRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateTaskResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5978,9 +8273,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -5993,9 +8287,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -6007,9 +8311,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -6018,16 +8332,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6038,9 +8356,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6053,9 +8370,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserInternalDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserInternalDataAsync(request);
             }
@@ -6067,9 +8394,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserInternalDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserInternalDataAsync(request);
             }
@@ -6078,16 +8415,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6098,9 +8439,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6113,9 +8453,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -6127,9 +8477,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -6138,16 +8498,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6158,9 +8522,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6173,9 +8536,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserInternalDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherInternalDataAsync(request);
             }
@@ -6187,9 +8560,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserInternalDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherInternalDataAsync(request);
             }
@@ -6198,16 +8581,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6218,9 +8605,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6233,9 +8619,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherReadOnlyDataAsync(request);
             }
@@ -6247,9 +8643,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherReadOnlyDataAsync(request);
             }
@@ -6258,16 +8664,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6278,9 +8688,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6293,9 +8702,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserReadOnlyDataAsync(request);
             }
@@ -6307,9 +8726,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserReadOnlyDataAsync(request);
             }
@@ -6318,16 +8747,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6338,9 +8771,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6353,9 +8785,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserTitleDisplayNameRequest
      * @return Async Task will return UpdateUserTitleDisplayNameResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+        return UpdateUserTitleDisplayNameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
                 return privateUpdateUserTitleDisplayNameAsync(request);
             }
@@ -6367,9 +8809,19 @@ public class PlayFabAdminAPI {
      * @param request UpdateUserTitleDisplayNameRequest
      * @return UpdateUserTitleDisplayNameResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
-        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+        return UpdateUserTitleDisplayName(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
                 return privateUpdateUserTitleDisplayNameAsync(request);
             }
@@ -6378,16 +8830,20 @@ public class PlayFabAdminAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserTitleDisplayNameResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType();
+
     /** Updates the title specific display name for a user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserTitleDisplayName"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserTitleDisplayName"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserTitleDisplayNameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6398,9 +8854,8 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -0,0 +1,174 @@
+package com.playfab;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * Runs the FutureTask returned by any generated XxxAsync method on an executor, instead of on the caller's thread.
+ * The returned PlayFabFuture can be waited on, cancelled, or given callbacks; on Java 8+ a callback is all it takes to
+ * complete a CompletableFuture:
+ *     PlayFabAsync.submit(PlayFabServerAPI.GetTitleDataAsync(request)).addCallback(completable::complete);
+ *
+ * With PlayFabSettings.UseVirtualThreads on a JDK 21+ runtime each call gets its own virtual thread, so tens of thousands of
+ * calls can be in flight without as many OS threads. Nothing under PlayFabHTTP uses synchronized, so blocking I/O on a
+ * virtual thread unmounts it instead of pinning its carrier; the same holds for the synchronous API methods when they
+ * are called from virtual threads.
+ *
+ * getExecutor also runs the SDK's own background work: cache refreshes, hedged requests, random result table
+ * verification and PlayFabHTTP.prewarm. The generated XxxAsync methods are not started on it: by contract they return an
+ * unstarted task that the caller runs, on its own executor or through submit.
+ */
+public class PlayFabAsync {
+    private static final AtomicReference<ExecutorService> defaultExecutor = new AtomicReference<ExecutorService>();
+
+    /**
+     * Starts a generated async call on PlayFabSettings.AsyncExecutor
+     * @param task The unstarted task returned by a generated XxxAsync method
+     * @return A future that completes with the call's result
+     */
+    public static <ResultT> PlayFabFuture<ResultT> submit(FutureTask<PlayFabResult<ResultT>> task) {
+        return submit(task, getExecutor());
+    }
+
+    /**
+     * Starts a generated async call on the given executor
+     * @param task The unstarted task returned by a generated XxxAsync method
+     * @param executor The executor that runs the call
+     * @return A future that completes with the call's result
+     */
+    public static <ResultT> PlayFabFuture<ResultT> submit(final FutureTask<PlayFabResult<ResultT>> task, Executor executor) {
+        PlayFabFuture<ResultT> future = new PlayFabFuture<ResultT>(new Callable<PlayFabResult<ResultT>>() {
+            public PlayFabResult<ResultT> call() throws Exception {
+                task.run();
+                try {
+                    return task.get();
+                } catch (ExecutionException e) {
+                    // Generated methods throw for missing settings (TitleId, DeveloperSecretKey, login): surface those as errors
+                    PlayFabResult<ResultT> result = new PlayFabResult<ResultT>();
+                    result.Error = PlayFabHTTP.GenerateExceptionError(e);
+                    return result;
+                }
+            }
+        });
+        future.call = task;
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * The executor used by submit: PlayFabSettings.AsyncExecutor if set, then a virtual thread per call when
+     * PlayFabSettings.UseVirtualThreads is set and supported, otherwise a shared pool of daemon threads
+     */
+    public static Executor getExecutor() {
+        Executor configured = PlayFabSettings.AsyncExecutor;
+        if (configured != null)
+            return configured;
+        if (PlayFabSettings.UseVirtualThreads && VirtualThreads.executor != null)
+            return VirtualThreads.executor;
+
+        ExecutorService executor = defaultExecutor.get();
+        if (executor == null) {
+            ExecutorService created = Executors.newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "PlayFabAsync-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            if (defaultExecutor.compareAndSet(null, created))
+                executor = created;
+            else {
+                created.shutdown();
+                executor = defaultExecutor.get();
+            }
+        }
+        return executor;
+    }
+
+    /** True when this runtime can run calls on virtual threads (JDK 21+) */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.executor != null;
+    }
+
+    // Initialized on first use; looked up reflectively so the SDK still runs on Java 7 and Android
+    private static class VirtualThreads {
+        static final ExecutorService executor = create();
+
+        private static ExecutorService create() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    public static interface ResultCallback<ResultT> {
+        public void callback(PlayFabResult<ResultT> result);
+    }
+
+    /**
+     * A FutureTask that notifies callbacks when the call completes.
+     * Callbacks added after completion run immediately on the adding thread; otherwise they run on the thread that completed the call
+     */
+    public static class PlayFabFuture<ResultT> extends FutureTask<PlayFabResult<ResultT>> {
+        private final ConcurrentLinkedQueue<ResultCallback<ResultT>> callbacks = new ConcurrentLinkedQueue<ResultCallback<ResultT>>();
+        private volatile Future<?> call;
+
+        public PlayFabFuture(Callable<PlayFabResult<ResultT>> callable) {
+            super(callable);
+        }
+
+        /** Cancels the future, and with it the call: a running PlayFabCallTask aborts its connection */
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Future<?> running = call;
+            if (cancelled && running != null)
+                running.cancel(mayInterruptIfRunning);
+            return cancelled;
+        }
+
+        public PlayFabFuture<ResultT> addCallback(ResultCallback<ResultT> callback) {
+            callbacks.add(callback);
+            if (isDone())
+                fireCallbacks();
+            return this;
+        }
+
+        protected void done() {
+            fireCallbacks();
+        }
+
+        private void fireCallbacks() {
+            // Each callback is removed before it runs, so it fires exactly once even when done() and addCallback race
+            ResultCallback<ResultT> callback;
+            while ((callback = callbacks.poll()) != null)
+                callback.callback(getResultOrError());
+        }
+
+        private PlayFabResult<ResultT> getResultOrError() {
+            try {
+                return get();
+            } catch (CancellationException e) {
+                return errorResult("Call was cancelled");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return errorResult("Interrupted waiting for the call");
+            } catch (ExecutionException e) {
+                return errorResult(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+
+        private PlayFabResult<ResultT> errorResult(String message) {
+            PlayFabResult<ResultT> result = new PlayFabResult<ResultT>();
+            result.Error = PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.Unknown, message, null);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabCloudScriptModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabCloudScriptModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabCloudScriptModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 1: return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case 2: return (TypeAdapter<T>) new ExecuteEntityCloudScriptRequestAdapter(gson);
+                case 3: return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case 4: return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case 5: return (TypeAdapter<T>) CloudScriptRevisionOptionAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(EntityKey.class, 0);
+        ids.put(ExecuteCloudScriptResult.class, 1);
+        ids.put(ExecuteEntityCloudScriptRequest.class, 2);
+        ids.put(LogStatement.class, 3);
+        ids.put(ScriptExecutionError.class, 4);
+        ids.put(CloudScriptRevisionOption.class, 5);
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.APIRequestsIssued != null) {
+                out.name("APIRequestsIssued");
+                out.value(value.APIRequestsIssued);
+            }
+            if (value.Error != null) {
+                out.name("Error");
+                scriptExecutionErrorAdapter.write(out, value.Error);
+            }
+            if (value.ExecutionTimeSeconds != null) {
+                out.name("ExecutionTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ExecutionTimeSeconds);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionResult != null) {
+                out.name("FunctionResult");
+                objectAdapter.write(out, value.FunctionResult);
+            }
+            if (value.FunctionResultTooLarge != null) {
+                out.name("FunctionResultTooLarge");
+                out.value(value.FunctionResultTooLarge.booleanValue());
+            }
+            if (value.HttpRequestsIssued != null) {
+                out.name("HttpRequestsIssued");
+                out.value(value.HttpRequestsIssued);
+            }
+            if (value.Logs != null) {
+                out.name("Logs");
+                PlayFabModelAdapters.writeList(out, value.Logs, logStatementAdapter);
+            }
+            if (value.LogsTooLarge != null) {
+                out.name("LogsTooLarge");
+                out.value(value.LogsTooLarge.booleanValue());
+            }
+            if (value.MemoryConsumedBytes != null) {
+                out.name("MemoryConsumedBytes");
+                out.value(value.MemoryConsumedBytes);
+            }
+            if (value.ProcessorTimeSeconds != null) {
+                out.name("ProcessorTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ProcessorTimeSeconds);
+            }
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "APIRequestsIssued": value.APIRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                    case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                    case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Logs": value.Logs = PlayFabModelAdapters.readList(in, logStatementAdapter); break;
+                    case "LogsTooLarge": value.LogsTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabModelAdapters.readLong(in); break;
+                    case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteEntityCloudScriptRequestAdapter extends TypeAdapter<ExecuteEntityCloudScriptRequest> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteEntityCloudScriptRequestAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        public void write(JsonWriter out, ExecuteEntityCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionParameter != null) {
+                out.name("FunctionParameter");
+                objectAdapter.write(out, value.FunctionParameter);
+            }
+            if (value.GeneratePlayStreamEvent != null) {
+                out.name("GeneratePlayStreamEvent");
+                out.value(value.GeneratePlayStreamEvent.booleanValue());
+            }
+            if (value.RevisionSelection != null) {
+                out.name("RevisionSelection");
+                cloudScriptRevisionOptionAdapter.write(out, value.RevisionSelection);
+            }
+            if (value.SpecificRevision != null) {
+                out.name("SpecificRevision");
+                out.value(value.SpecificRevision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteEntityCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteEntityCloudScriptRequest value = new ExecuteEntityCloudScriptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                    case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabModelAdapters.readBoolean(in); break;
+                    case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                    case "SpecificRevision": value.SpecificRevision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                objectAdapter.write(out, value.Data);
+            }
+            if (value.Level != null) {
+                out.name("Level");
+                out.value(value.Level);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            out.endObject();
+        }
+
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = objectAdapter.read(in); break;
+                    case "Level": value.Level = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                out.value(value.Error);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.StackTrace != null) {
+                out.name("StackTrace");
+                out.value(value.StackTrace);
+            }
+            out.endObject();
+        }
+
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "StackTrace": value.StackTrace = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<CloudScriptRevisionOption> CloudScriptRevisionOptionAdapter = new TypeAdapter<CloudScriptRevisionOption>() {
+        public void write(JsonWriter out, CloudScriptRevisionOption value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CloudScriptRevisionOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Live": return CloudScriptRevisionOption.Live;
+                case "Latest": return CloudScriptRevisionOption.Latest;
+                case "Specific": return CloudScriptRevisionOption.Specific;
+                default: return null;
+            }
+        }
+    };
+}
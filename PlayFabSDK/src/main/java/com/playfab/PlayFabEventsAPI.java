@@ -6,24 +6,32 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * Write custom PlayStream events for any PlayFab entity. PlayStream events can be used for analytics, reporting,
      * debugging, or to trigger custom actions in near real-time.
      */
 public class PlayFabEventsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @return Async Task will return WriteEventsResponse
+     */
+    public static FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request) {
+        return WriteEventsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Write batches of entity based events to PlayStream.
      * @param request WriteEventsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return WriteEventsResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
+    public static FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
                 return privateWriteEventsAsync(request);
             }
@@ -35,9 +43,19 @@ public class PlayFabEventsAPI {
      * @param request WriteEventsRequest
      * @return WriteEventsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request) {
-        FutureTask<PlayFabResult<WriteEventsResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
+        return WriteEvents(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
                 return privateWriteEventsAsync(request);
             }
@@ -46,16 +64,20 @@ public class PlayFabEventsAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventsResponse> exceptionResult = new PlayFabResult<WriteEventsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WriteEventsResultType = new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType();
+
     /** Write batches of entity based events to PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventsResponse> privateWriteEventsAsync(final WriteEventsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Event/WriteEvents"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Event/WriteEvents"), request, "X-EntityToken", PlayFabSettings.EntityToken, WriteEventsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -66,9 +88,8 @@ public class PlayFabEventsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = (PlayFabJsonSuccess<WriteEventsResponse>) httpResult;
         WriteEventsResponse result = resultData.data;
 
         PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
@@ -0,0 +1,232 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabEventsModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabEventsModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabEventsModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 1: return (TypeAdapter<T>) new EventContentsAdapter(gson);
+                case 2: return (TypeAdapter<T>) new WriteEventsRequestAdapter(gson);
+                case 3: return (TypeAdapter<T>) new WriteEventsResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(EntityKey.class, 0);
+        ids.put(EventContents.class, 1);
+        ids.put(WriteEventsRequest.class, 2);
+        ids.put(WriteEventsResponse.class, 3);
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EventContentsAdapter extends TypeAdapter<EventContents> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        EventContentsAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, EventContents value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Entity != null) {
+                out.name("Entity");
+                entityKeyAdapter.write(out, value.Entity);
+            }
+            if (value.EventNamespace != null) {
+                out.name("EventNamespace");
+                out.value(value.EventNamespace);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.OriginalId != null) {
+                out.name("OriginalId");
+                out.value(value.OriginalId);
+            }
+            if (value.OriginalTimestamp != null) {
+                out.name("OriginalTimestamp");
+                dateAdapter.write(out, value.OriginalTimestamp);
+            }
+            if (value.Payload != null) {
+                out.name("Payload");
+                objectAdapter.write(out, value.Payload);
+            }
+            if (value.PayloadJSON != null) {
+                out.name("PayloadJSON");
+                out.value(value.PayloadJSON);
+            }
+            out.endObject();
+        }
+
+        public EventContents read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EventContents value = new EventContents();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                    case "EventNamespace": value.EventNamespace = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "OriginalId": value.OriginalId = PlayFabModelAdapters.readString(in); break;
+                    case "OriginalTimestamp": value.OriginalTimestamp = dateAdapter.read(in); break;
+                    case "Payload": value.Payload = objectAdapter.read(in); break;
+                    case "PayloadJSON": value.PayloadJSON = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteEventsRequestAdapter extends TypeAdapter<WriteEventsRequest> {
+        private final TypeAdapter<EventContents> eventContentsAdapter;
+
+        WriteEventsRequestAdapter(Gson gson) {
+            eventContentsAdapter = gson.getAdapter(EventContents.class);
+        }
+
+        public void write(JsonWriter out, WriteEventsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Events != null) {
+                out.name("Events");
+                PlayFabModelAdapters.writeList(out, value.Events, eventContentsAdapter);
+            }
+            out.endObject();
+        }
+
+        public WriteEventsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventsRequest value = new WriteEventsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Events": value.Events = PlayFabModelAdapters.readList(in, eventContentsAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteEventsResponseAdapter extends TypeAdapter<WriteEventsResponse> {
+        WriteEventsResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, WriteEventsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AssignedEventIds != null) {
+                out.name("AssignedEventIds");
+                PlayFabModelAdapters.writeList(out, value.AssignedEventIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public WriteEventsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventsResponse value = new WriteEventsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AssignedEventIds": value.AssignedEventIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
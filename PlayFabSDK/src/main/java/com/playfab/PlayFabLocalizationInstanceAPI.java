@@ -0,0 +1,123 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabLocalizationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * The Localization APIs give you the tools needed to manage language setup in your title.
+     *
+     * Instance-scoped version of PlayFabLocalizationAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabLocalizationInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabLocalizationInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabLocalizationInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @return Async Task will return GetLanguageListResponse
+     */
+    public FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request) {
+        return GetLanguageListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLanguageListResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLanguageListResponse>>() {
+            public PlayFabResult<GetLanguageListResponse> call() throws Exception {
+                return privateGetLanguageListAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @return GetLanguageListResponse
+     */
+    public PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request) {
+        return GetLanguageList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLanguageListResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLanguageListResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLanguageListResponse>>() {
+            public PlayFabResult<GetLanguageListResponse> call() throws Exception {
+                return privateGetLanguageListAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLanguageListResponse> exceptionResult = new PlayFabResult<GetLanguageListResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLanguageListResultType = new TypeToken<PlayFabJsonSuccess<GetLanguageListResponse>>(){}.getType();
+
+    /** Retrieves the list of allowed languages, only accessible by title entities */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLanguageListResponse> privateGetLanguageListAsync(final GetLanguageListRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Locale/GetLanguageList"), request, "X-EntityToken", authenticationContext.EntityToken, GetLanguageListResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLanguageListResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLanguageListResponse> resultData = (PlayFabJsonSuccess<GetLanguageListResponse>) httpResult;
+        GetLanguageListResponse result = resultData.data;
+
+        PlayFabResult<GetLanguageListResponse> pfResult = new PlayFabResult<GetLanguageListResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -6,21 +6,29 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /** Enables the use of an external match-making service in conjunction with PlayFab hosted Game Server instances */
 public class PlayFabMatchmakerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @return Async Task will return AuthUserResponse
+     */
+    public static FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request) {
+        return AuthUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Validates a user with the PlayFab service
      * @param request AuthUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return AuthUserResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AuthUserResponse>>() {
+    public static FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthUserResponse>>() {
             public PlayFabResult<AuthUserResponse> call() throws Exception {
                 return privateAuthUserAsync(request);
             }
@@ -32,9 +40,19 @@ public class PlayFabMatchmakerAPI {
      * @param request AuthUserRequest
      * @return AuthUserResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request) {
-        FutureTask<PlayFabResult<AuthUserResponse>> task = new FutureTask(new Callable<PlayFabResult<AuthUserResponse>>() {
+        return AuthUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AuthUserResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AuthUserResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthUserResponse>>() {
             public PlayFabResult<AuthUserResponse> call() throws Exception {
                 return privateAuthUserAsync(request);
             }
@@ -43,16 +61,20 @@ public class PlayFabMatchmakerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AuthUserResponse> exceptionResult = new PlayFabResult<AuthUserResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AuthUserResultType = new TypeToken<PlayFabJsonSuccess<AuthUserResponse>>(){}.getType();
+
     /** Validates a user with the PlayFab service */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AuthUserResponse> privateAuthUserAsync(final AuthUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/AuthUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/AuthUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AuthUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -63,9 +85,8 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AuthUserResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthUserResponse>>(){}.getType());
+        PlayFabJsonSuccess<AuthUserResponse> resultData = (PlayFabJsonSuccess<AuthUserResponse>) httpResult;
         AuthUserResponse result = resultData.data;
 
         PlayFabResult<AuthUserResponse> pfResult = new PlayFabResult<AuthUserResponse>();
@@ -78,9 +99,19 @@ public class PlayFabMatchmakerAPI {
      * @param request PlayerJoinedRequest
      * @return Async Task will return PlayerJoinedResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<PlayerJoinedResponse>> PlayerJoinedAsync(final PlayerJoinedRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+        return PlayerJoinedAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PlayerJoinedResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<PlayerJoinedResponse>> PlayerJoinedAsync(final PlayerJoinedRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerJoinedResponse>>() {
             public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
                 return privatePlayerJoinedAsync(request);
             }
@@ -92,9 +123,19 @@ public class PlayFabMatchmakerAPI {
      * @param request PlayerJoinedRequest
      * @return PlayerJoinedResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request) {
-        FutureTask<PlayFabResult<PlayerJoinedResponse>> task = new FutureTask(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+        return PlayerJoined(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PlayerJoinedResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PlayerJoinedResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerJoinedResponse>>() {
             public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
                 return privatePlayerJoinedAsync(request);
             }
@@ -103,16 +144,20 @@ public class PlayFabMatchmakerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<PlayerJoinedResponse> exceptionResult = new PlayFabResult<PlayerJoinedResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type PlayerJoinedResultType = new TypeToken<PlayFabJsonSuccess<PlayerJoinedResponse>>(){}.getType();
+
     /** Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<PlayerJoinedResponse> privatePlayerJoinedAsync(final PlayerJoinedRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerJoined"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerJoined"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, PlayerJoinedResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -123,9 +168,8 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PlayerJoinedResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PlayerJoinedResponse>>(){}.getType());
+        PlayFabJsonSuccess<PlayerJoinedResponse> resultData = (PlayFabJsonSuccess<PlayerJoinedResponse>) httpResult;
         PlayerJoinedResponse result = resultData.data;
 
         PlayFabResult<PlayerJoinedResponse> pfResult = new PlayFabResult<PlayerJoinedResponse>();
@@ -138,9 +182,19 @@ public class PlayFabMatchmakerAPI {
      * @param request PlayerLeftRequest
      * @return Async Task will return PlayerLeftResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<PlayerLeftResponse>> PlayerLeftAsync(final PlayerLeftRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<PlayerLeftResponse>>() {
+        return PlayerLeftAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PlayerLeftResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<PlayerLeftResponse>> PlayerLeftAsync(final PlayerLeftRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerLeftResponse>>() {
             public PlayFabResult<PlayerLeftResponse> call() throws Exception {
                 return privatePlayerLeftAsync(request);
             }
@@ -152,9 +206,19 @@ public class PlayFabMatchmakerAPI {
      * @param request PlayerLeftRequest
      * @return PlayerLeftResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request) {
-        FutureTask<PlayFabResult<PlayerLeftResponse>> task = new FutureTask(new Callable<PlayFabResult<PlayerLeftResponse>>() {
+        return PlayerLeft(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PlayerLeftResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PlayerLeftResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerLeftResponse>>() {
             public PlayFabResult<PlayerLeftResponse> call() throws Exception {
                 return privatePlayerLeftAsync(request);
             }
@@ -163,16 +227,20 @@ public class PlayFabMatchmakerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<PlayerLeftResponse> exceptionResult = new PlayFabResult<PlayerLeftResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type PlayerLeftResultType = new TypeToken<PlayFabJsonSuccess<PlayerLeftResponse>>(){}.getType();
+
     /** Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<PlayerLeftResponse> privatePlayerLeftAsync(final PlayerLeftRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, PlayerLeftResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -183,9 +251,8 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PlayerLeftResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PlayerLeftResponse>>(){}.getType());
+        PlayFabJsonSuccess<PlayerLeftResponse> resultData = (PlayFabJsonSuccess<PlayerLeftResponse>) httpResult;
         PlayerLeftResponse result = resultData.data;
 
         PlayFabResult<PlayerLeftResponse> pfResult = new PlayFabResult<PlayerLeftResponse>();
@@ -198,9 +265,19 @@ public class PlayFabMatchmakerAPI {
      * @param request StartGameRequest
      * @return Async Task will return StartGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<StartGameResponse>> StartGameAsync(final StartGameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<StartGameResponse>>() {
+        return StartGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<StartGameResponse>> StartGameAsync(final StartGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResponse>>() {
             public PlayFabResult<StartGameResponse> call() throws Exception {
                 return privateStartGameAsync(request);
             }
@@ -212,9 +289,19 @@ public class PlayFabMatchmakerAPI {
      * @param request StartGameRequest
      * @return StartGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request) {
-        FutureTask<PlayFabResult<StartGameResponse>> task = new FutureTask(new Callable<PlayFabResult<StartGameResponse>>() {
+        return StartGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResponse>>() {
             public PlayFabResult<StartGameResponse> call() throws Exception {
                 return privateStartGameAsync(request);
             }
@@ -223,16 +310,20 @@ public class PlayFabMatchmakerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<StartGameResponse> exceptionResult = new PlayFabResult<StartGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type StartGameResultType = new TypeToken<PlayFabJsonSuccess<StartGameResponse>>(){}.getType();
+
     /** Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<StartGameResponse> privateStartGameAsync(final StartGameRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/StartGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/StartGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, StartGameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -243,9 +334,8 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<StartGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<StartGameResponse> resultData = (PlayFabJsonSuccess<StartGameResponse>) httpResult;
         StartGameResponse result = resultData.data;
 
         PlayFabResult<StartGameResponse> pfResult = new PlayFabResult<StartGameResponse>();
@@ -259,9 +349,20 @@ public class PlayFabMatchmakerAPI {
      * @param request UserInfoRequest
      * @return Async Task will return UserInfoResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UserInfoResponse>> UserInfoAsync(final UserInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UserInfoResponse>>() {
+        return UserInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UserInfoResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UserInfoResponse>> UserInfoAsync(final UserInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UserInfoResponse>>() {
             public PlayFabResult<UserInfoResponse> call() throws Exception {
                 return privateUserInfoAsync(request);
             }
@@ -274,9 +375,20 @@ public class PlayFabMatchmakerAPI {
      * @param request UserInfoRequest
      * @return UserInfoResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request) {
-        FutureTask<PlayFabResult<UserInfoResponse>> task = new FutureTask(new Callable<PlayFabResult<UserInfoResponse>>() {
+        return UserInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UserInfoResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UserInfoResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UserInfoResponse>>() {
             public PlayFabResult<UserInfoResponse> call() throws Exception {
                 return privateUserInfoAsync(request);
             }
@@ -285,10 +397,14 @@ public class PlayFabMatchmakerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UserInfoResponse> exceptionResult = new PlayFabResult<UserInfoResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UserInfoResultType = new TypeToken<PlayFabJsonSuccess<UserInfoResponse>>(){}.getType();
+
     /**
      * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
      * effective matches
@@ -297,7 +413,7 @@ public class PlayFabMatchmakerAPI {
     private static PlayFabResult<UserInfoResponse> privateUserInfoAsync(final UserInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/UserInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/UserInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UserInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -308,9 +424,8 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UserInfoResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UserInfoResponse>>(){}.getType());
+        PlayFabJsonSuccess<UserInfoResponse> resultData = (PlayFabJsonSuccess<UserInfoResponse>) httpResult;
         UserInfoResponse result = resultData.data;
 
         PlayFabResult<UserInfoResponse> pfResult = new PlayFabResult<UserInfoResponse>();
@@ -0,0 +1,546 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabProfilesModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * All PlayFab entities have profiles, which hold top-level properties about the entity. These APIs give you the tools
+     * needed to manage entity profiles.
+     *
+     * Instance-scoped version of PlayFabProfilesAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabProfilesInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabProfilesInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabProfilesInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @return Async Task will return GetGlobalPolicyResponse
+     */
+    public FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request) {
+        return GetGlobalPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+            public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
+                return privateGetGlobalPolicyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @return GetGlobalPolicyResponse
+     */
+    public PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
+        return GetGlobalPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetGlobalPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+            public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
+                return privateGetGlobalPolicyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetGlobalPolicyResponse> exceptionResult = new PlayFabResult<GetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetGlobalPolicyResultType = new TypeToken<PlayFabJsonSuccess<GetGlobalPolicyResponse>>(){}.getType();
+
+    /** Gets the global title access policy */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetGlobalPolicyResponse> privateGetGlobalPolicyAsync(final GetGlobalPolicyRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/GetGlobalPolicy"), request, "X-EntityToken", authenticationContext.EntityToken, GetGlobalPolicyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetGlobalPolicyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<GetGlobalPolicyResponse>) httpResult;
+        GetGlobalPolicyResponse result = resultData.data;
+
+        PlayFabResult<GetGlobalPolicyResponse> pfResult = new PlayFabResult<GetGlobalPolicyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @return Async Task will return GetEntityProfileResponse
+     */
+    public FutureTask<PlayFabResult<GetEntityProfileResponse>> GetProfileAsync(final GetEntityProfileRequest request) {
+        return GetProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetEntityProfileResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetEntityProfileResponse>> GetProfileAsync(final GetEntityProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+            public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
+                return privateGetProfileAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @return GetEntityProfileResponse
+     */
+    public PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request) {
+        return GetProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityProfileResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityProfileResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+            public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
+                return privateGetProfileAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetEntityProfileResponse> exceptionResult = new PlayFabResult<GetEntityProfileResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetProfileResultType = new TypeToken<PlayFabJsonSuccess<GetEntityProfileResponse>>(){}.getType();
+
+    /** Retrieves the entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetEntityProfileResponse> privateGetProfileAsync(final GetEntityProfileRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/GetProfile"), request, "X-EntityToken", authenticationContext.EntityToken, GetProfileResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetEntityProfileResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = (PlayFabJsonSuccess<GetEntityProfileResponse>) httpResult;
+        GetEntityProfileResponse result = resultData.data;
+
+        PlayFabResult<GetEntityProfileResponse> pfResult = new PlayFabResult<GetEntityProfileResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @return Async Task will return GetEntityProfilesResponse
+     */
+    public FutureTask<PlayFabResult<GetEntityProfilesResponse>> GetProfilesAsync(final GetEntityProfilesRequest request) {
+        return GetProfilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetEntityProfilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetEntityProfilesResponse>> GetProfilesAsync(final GetEntityProfilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+            public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
+                return privateGetProfilesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @return GetEntityProfilesResponse
+     */
+    public PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request) {
+        return GetProfiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityProfilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityProfilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+            public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
+                return privateGetProfilesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetEntityProfilesResponse> exceptionResult = new PlayFabResult<GetEntityProfilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetProfilesResultType = new TypeToken<PlayFabJsonSuccess<GetEntityProfilesResponse>>(){}.getType();
+
+    /** Retrieves the entity's profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetEntityProfilesResponse> privateGetProfilesAsync(final GetEntityProfilesRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/GetProfiles"), request, "X-EntityToken", authenticationContext.EntityToken, GetProfilesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetEntityProfilesResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = (PlayFabJsonSuccess<GetEntityProfilesResponse>) httpResult;
+        GetEntityProfilesResponse result = resultData.data;
+
+        PlayFabResult<GetEntityProfilesResponse> pfResult = new PlayFabResult<GetEntityProfilesResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @return Async Task will return SetGlobalPolicyResponse
+     */
+    public FutureTask<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicyAsync(final SetGlobalPolicyRequest request) {
+        return SetGlobalPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicyAsync(final SetGlobalPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+            public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
+                return privateSetGlobalPolicyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @return SetGlobalPolicyResponse
+     */
+    public PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
+        return SetGlobalPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGlobalPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+            public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
+                return privateSetGlobalPolicyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetGlobalPolicyResponse> exceptionResult = new PlayFabResult<SetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetGlobalPolicyResultType = new TypeToken<PlayFabJsonSuccess<SetGlobalPolicyResponse>>(){}.getType();
+
+    /** Sets the global title access policy */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetGlobalPolicyResponse> privateSetGlobalPolicyAsync(final SetGlobalPolicyRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/SetGlobalPolicy"), request, "X-EntityToken", authenticationContext.EntityToken, SetGlobalPolicyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetGlobalPolicyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<SetGlobalPolicyResponse>) httpResult;
+        SetGlobalPolicyResponse result = resultData.data;
+
+        PlayFabResult<SetGlobalPolicyResponse> pfResult = new PlayFabResult<SetGlobalPolicyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @return Async Task will return SetProfileLanguageResponse
+     */
+    public FutureTask<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguageAsync(final SetProfileLanguageRequest request) {
+        return SetProfileLanguageAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetProfileLanguageResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguageAsync(final SetProfileLanguageRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+            public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
+                return privateSetProfileLanguageAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @return SetProfileLanguageResponse
+     */
+    public PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request) {
+        return SetProfileLanguage(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetProfileLanguageResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetProfileLanguageResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+            public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
+                return privateSetProfileLanguageAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetProfileLanguageResponse> exceptionResult = new PlayFabResult<SetProfileLanguageResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetProfileLanguageResultType = new TypeToken<PlayFabJsonSuccess<SetProfileLanguageResponse>>(){}.getType();
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetProfileLanguageResponse> privateSetProfileLanguageAsync(final SetProfileLanguageRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/SetProfileLanguage"), request, "X-EntityToken", authenticationContext.EntityToken, SetProfileLanguageResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetProfileLanguageResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = (PlayFabJsonSuccess<SetProfileLanguageResponse>) httpResult;
+        SetProfileLanguageResponse result = resultData.data;
+
+        PlayFabResult<SetProfileLanguageResponse> pfResult = new PlayFabResult<SetProfileLanguageResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @return Async Task will return SetEntityProfilePolicyResponse
+     */
+    public FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) {
+        return SetProfilePolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetEntityProfilePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicyAsync(final SetEntityProfilePolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+            public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
+                return privateSetProfilePolicyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @return SetEntityProfilePolicyResponse
+     */
+    public PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
+        return SetProfilePolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetEntityProfilePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+            public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
+                return privateSetProfilePolicyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetEntityProfilePolicyResponse> exceptionResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetProfilePolicyResultType = new TypeToken<PlayFabJsonSuccess<SetEntityProfilePolicyResponse>>(){}.getType();
+
+    /** Sets the profiles access policy */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetEntityProfilePolicyResponse> privateSetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Profile/SetProfilePolicy"), request, "X-EntityToken", authenticationContext.EntityToken, SetProfilePolicyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetEntityProfilePolicyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = (PlayFabJsonSuccess<SetEntityProfilePolicyResponse>) httpResult;
+        SetEntityProfilePolicyResponse result = resultData.data;
+
+        PlayFabResult<SetEntityProfilePolicyResponse> pfResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -0,0 +1,35 @@
+package com.playfab;
+
+import com.playfab.internal.PlayFabCatalogIndex;
+import com.playfab.PlayFabErrors.PlayFabResult;
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * A catalog version loaded once through the Server API and indexed in memory, for O(1) lookups by item id, item class,
+ * tag and bundle or container contents:
+ *     PlayFabServerCatalog catalog = new PlayFabServerCatalog("Main");
+ *     PlayFabErrors.PlayFabError error = catalog.refresh();
+ *     CatalogItem sword = catalog.getItem("sword");
+ * Call refresh again whenever the catalog may have changed; lookups keep reading the previous catalog, without locking,
+ * until the new one is in place
+ */
+public class PlayFabServerCatalog extends PlayFabCatalogIndex<CatalogItem> {
+    private final PlayFabServerInstanceAPI api;
+
+    /** @param catalogVersion The catalog version to load, or null for the title's primary catalog */
+    public PlayFabServerCatalog(String catalogVersion) {
+        this(null, catalogVersion);
+    }
+
+    /** @param api The instance API to load the catalog with, or null to use PlayFabServerAPI */
+    public PlayFabServerCatalog(PlayFabServerInstanceAPI api, String catalogVersion) {
+        super(catalogVersion, CatalogItem.class);
+        this.api = api;
+    }
+
+    protected PlayFabResult<?> fetch(String catalogVersion) {
+        GetCatalogItemsRequest request = new GetCatalogItemsRequest();
+        request.CatalogVersion = catalogVersion;
+        return api != null ? api.GetCatalogItems(request) : PlayFabServerAPI.GetCatalogItems(request);
+    }
+}
@@ -0,0 +1,9800 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * Provides functionality to allow external (developer-controlled) servers to interact with user inventories and data in a
+     * trusted manner, and to handle matchmaking and client connection orchestration
+     *
+     * Instance-scoped version of PlayFabServerAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabServerInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabServerInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabServerInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) {
+        return AddCharacterVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                return privateAddCharacterVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
+        return AddCharacterVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                return privateAddCharacterVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddCharacterVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType();
+
+    /** Increments the character's balance of the specified virtual currency by the stated amount */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateAddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AddCharacterVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, AddCharacterVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
+        ModifyCharacterVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> AddFriendAsync(final AddFriendRequest request) {
+        return AddFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> AddFriendAsync(final AddFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAddFriendAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request) {
+        return AddFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAddFriendAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddFriendResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AddFriend"), request, "X-SecretKey", settings.DeveloperSecretKey, AddFriendResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return Async Task will return AddPlayerTagResult
+     */
+    public FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
+        return AddPlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
+            public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                return privateAddPlayerTagAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return AddPlayerTagResult
+     */
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
+        return AddPlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
+            public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                return privateAddPlayerTagAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddPlayerTagResultType = new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType();
+
+    /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AddPlayerTag"), request, "X-SecretKey", settings.DeveloperSecretKey, AddPlayerTagResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddPlayerTagResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
+        AddPlayerTagResult result = resultData.data;
+
+        PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    public FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
+        return AddSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+            public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                return privateAddSharedGroupMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @return AddSharedGroupMembersResult
+     */
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+        return AddSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+            public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                return privateAddSharedGroupMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType();
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AddSharedGroupMembers"), request, "X-SecretKey", settings.DeveloperSecretKey, AddSharedGroupMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddSharedGroupMembersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
+        AddSharedGroupMembersResult result = resultData.data;
+
+        PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /** Increments the user's balance of the specified virtual currency by the stated amount */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AddUserVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, AddUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @return Async Task will return AuthenticateSessionTicketResult
+     */
+    public FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) {
+        return AuthenticateSessionTicketAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AuthenticateSessionTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+            public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
+                return privateAuthenticateSessionTicketAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @return AuthenticateSessionTicketResult
+     */
+    public PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
+        return AuthenticateSessionTicket(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AuthenticateSessionTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+            public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
+                return privateAuthenticateSessionTicketAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AuthenticateSessionTicketResult> exceptionResult = new PlayFabResult<AuthenticateSessionTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AuthenticateSessionTicketResultType = new TypeToken<PlayFabJsonSuccess<AuthenticateSessionTicketResult>>(){}.getType();
+
+    /** Validated a client's session ticket, and if successful, returns details for that user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AuthenticateSessionTicketResult> privateAuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AuthenticateSessionTicket"), request, "X-SecretKey", settings.DeveloperSecretKey, AuthenticateSessionTicketResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AuthenticateSessionTicketResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = (PlayFabJsonSuccess<AuthenticateSessionTicketResult>) httpResult;
+        AuthenticateSessionTicketResult result = resultData.data;
+
+        PlayFabResult<AuthenticateSessionTicketResult> pfResult = new PlayFabResult<AuthenticateSessionTicketResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @return Async Task will return AwardSteamAchievementResult
+     */
+    public FutureTask<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievementAsync(final AwardSteamAchievementRequest request) {
+        return AwardSteamAchievementAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AwardSteamAchievementResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievementAsync(final AwardSteamAchievementRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+            public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
+                return privateAwardSteamAchievementAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @return AwardSteamAchievementResult
+     */
+    public PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
+        return AwardSteamAchievement(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AwardSteamAchievementResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AwardSteamAchievementResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+            public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
+                return privateAwardSteamAchievementAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AwardSteamAchievementResult> exceptionResult = new PlayFabResult<AwardSteamAchievementResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AwardSteamAchievementResultType = new TypeToken<PlayFabJsonSuccess<AwardSteamAchievementResult>>(){}.getType();
+
+    /** Awards the specified users the specified Steam achievements */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AwardSteamAchievementResult> privateAwardSteamAchievementAsync(final AwardSteamAchievementRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/AwardSteamAchievement"), request, "X-SecretKey", settings.DeveloperSecretKey, AwardSteamAchievementResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AwardSteamAchievementResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = (PlayFabJsonSuccess<AwardSteamAchievementResult>) httpResult;
+        AwardSteamAchievementResult result = resultData.data;
+
+        PlayFabResult<AwardSteamAchievementResult> pfResult = new PlayFabResult<AwardSteamAchievementResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return Async Task will return BanUsersResult
+     */
+    public FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
+        return BanUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
+            public PlayFabResult<BanUsersResult> call() throws Exception {
+                return privateBanUsersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return BanUsersResult
+     */
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
+        return BanUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BanUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
+            public PlayFabResult<BanUsersResult> call() throws Exception {
+                return privateBanUsersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type BanUsersResultType = new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType();
+
+    /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/BanUsers"), request, "X-SecretKey", settings.DeveloperSecretKey, BanUsersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<BanUsersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
+        BanUsersResult result = resultData.data;
+
+        PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return Async Task will return ConsumeItemResult
+     */
+    public FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
+        return ConsumeItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
+            public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                return privateConsumeItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return ConsumeItemResult
+     */
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
+        return ConsumeItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
+            public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                return privateConsumeItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ConsumeItemResultType = new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType();
+
+    /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/ConsumeItem"), request, "X-SecretKey", settings.DeveloperSecretKey, ConsumeItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ConsumeItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
+        ConsumeItemResult result = resultData.data;
+
+        PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    public FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
+        return CreateSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+            public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                return privateCreateSharedGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @return CreateSharedGroupResult
+     */
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
+        return CreateSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+            public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                return privateCreateSharedGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType();
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/CreateSharedGroup"), request, "X-SecretKey", settings.DeveloperSecretKey, CreateSharedGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateSharedGroupResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
+        CreateSharedGroupResult result = resultData.data;
+
+        PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @return Async Task will return DeleteCharacterFromUserResult
+     */
+    public FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) {
+        return DeleteCharacterFromUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+            public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
+                return privateDeleteCharacterFromUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @return DeleteCharacterFromUserResult
+     */
+    public PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
+        return DeleteCharacterFromUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+            public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
+                return privateDeleteCharacterFromUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteCharacterFromUserResult> exceptionResult = new PlayFabResult<DeleteCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteCharacterFromUserResultType = new TypeToken<PlayFabJsonSuccess<DeleteCharacterFromUserResult>>(){}.getType();
+
+    /** Deletes the specific character ID from the specified user. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteCharacterFromUserResult> privateDeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/DeleteCharacterFromUser"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteCharacterFromUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteCharacterFromUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = (PlayFabJsonSuccess<DeleteCharacterFromUserResult>) httpResult;
+        DeleteCharacterFromUserResult result = resultData.data;
+
+        PlayFabResult<DeleteCharacterFromUserResult> pfResult = new PlayFabResult<DeleteCharacterFromUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return Async Task will return DeletePlayerResult
+     */
+    public FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
+        return DeletePlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
+            public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                return privateDeletePlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return DeletePlayerResult
+     */
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
+        return DeletePlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
+            public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                return privateDeletePlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeletePlayerResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType();
+
+    /** Removes a user's player account from a title and deletes all associated data */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/DeletePlayer"), request, "X-SecretKey", settings.DeveloperSecretKey, DeletePlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeletePlayerResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
+        DeletePlayerResult result = resultData.data;
+
+        PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteSharedGroupAsync(final DeleteSharedGroupRequest request) {
+        return DeleteSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteSharedGroupAsync(final DeleteSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteSharedGroupAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
+        return DeleteSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteSharedGroupAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateDeleteSharedGroupAsync(final DeleteSharedGroupRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/DeleteSharedGroup"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteSharedGroupResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @return Async Task will return DeleteUsersResult
+     */
+    @Deprecated
+    public FutureTask<PlayFabResult<DeleteUsersResult>> DeleteUsersAsync(final DeleteUsersRequest request) {
+        return DeleteUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteUsersResult
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteUsersResult>> DeleteUsersAsync(final DeleteUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteUsersResult>>() {
+            public PlayFabResult<DeleteUsersResult> call() throws Exception {
+                return privateDeleteUsersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @return DeleteUsersResult
+     */
+    @Deprecated
+    public PlayFabResult<DeleteUsersResult> DeleteUsers(final DeleteUsersRequest request) {
+        return DeleteUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteUsersResult
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteUsersResult> DeleteUsers(final DeleteUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteUsersResult>>() {
+            public PlayFabResult<DeleteUsersResult> call() throws Exception {
+                return privateDeleteUsersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteUsersResult> exceptionResult = new PlayFabResult<DeleteUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    @Deprecated
+    private static final Type DeleteUsersResultType = new TypeToken<PlayFabJsonSuccess<DeleteUsersResult>>(){}.getType();
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteUsersResult> privateDeleteUsersAsync(final DeleteUsersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/DeleteUsers"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteUsersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteUsersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteUsersResult> resultData = (PlayFabJsonSuccess<DeleteUsersResult>) httpResult;
+        DeleteUsersResult result = resultData.data;
+
+        PlayFabResult<DeleteUsersResult> pfResult = new PlayFabResult<DeleteUsersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @return Async Task will return DeregisterGameResponse
+     */
+    public FutureTask<PlayFabResult<DeregisterGameResponse>> DeregisterGameAsync(final DeregisterGameRequest request) {
+        return DeregisterGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeregisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeregisterGameResponse>> DeregisterGameAsync(final DeregisterGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeregisterGameResponse>>() {
+            public PlayFabResult<DeregisterGameResponse> call() throws Exception {
+                return privateDeregisterGameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @return DeregisterGameResponse
+     */
+    public PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request) {
+        return DeregisterGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeregisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeregisterGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeregisterGameResponse>>() {
+            public PlayFabResult<DeregisterGameResponse> call() throws Exception {
+                return privateDeregisterGameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeregisterGameResponse> exceptionResult = new PlayFabResult<DeregisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeregisterGameResultType = new TypeToken<PlayFabJsonSuccess<DeregisterGameResponse>>(){}.getType();
+
+    /** Inform the matchmaker that a Game Server Instance is removed. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeregisterGameResponse> privateDeregisterGameAsync(final DeregisterGameRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/DeregisterGame"), request, "X-SecretKey", settings.DeveloperSecretKey, DeregisterGameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeregisterGameResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeregisterGameResponse> resultData = (PlayFabJsonSuccess<DeregisterGameResponse>) httpResult;
+        DeregisterGameResponse result = resultData.data;
+
+        PlayFabResult<DeregisterGameResponse> pfResult = new PlayFabResult<DeregisterGameResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @return Async Task will return EvaluateRandomResultTableResult
+     */
+    public FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) {
+        return EvaluateRandomResultTableAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EvaluateRandomResultTableResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+            public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
+                return privateEvaluateRandomResultTableAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @return EvaluateRandomResultTableResult
+     */
+    public PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
+        return EvaluateRandomResultTable(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EvaluateRandomResultTableResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+            public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
+                return privateEvaluateRandomResultTableAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EvaluateRandomResultTableResult> exceptionResult = new PlayFabResult<EvaluateRandomResultTableResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type EvaluateRandomResultTableResultType = new TypeToken<PlayFabJsonSuccess<EvaluateRandomResultTableResult>>(){}.getType();
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EvaluateRandomResultTableResult> privateEvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/EvaluateRandomResultTable"), request, "X-SecretKey", settings.DeveloperSecretKey, EvaluateRandomResultTableResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EvaluateRandomResultTableResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = (PlayFabJsonSuccess<EvaluateRandomResultTableResult>) httpResult;
+        EvaluateRandomResultTableResult result = resultData.data;
+
+        PlayFabResult<EvaluateRandomResultTableResult> pfResult = new PlayFabResult<EvaluateRandomResultTableResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) {
+        return ExecuteCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteCloudScriptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
+        return ExecuteCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+            public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                return privateExecuteCloudScriptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ExecuteCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
+    /** Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/ExecuteCloudScript"), request, "X-SecretKey", settings.DeveloperSecretKey, ExecuteCloudScriptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ExecuteCloudScriptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
+        ExecuteCloudScriptResult result = resultData.data;
+
+        PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    public FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
+        return GetAllSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+            public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                return privateGetAllSegmentsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return GetAllSegmentsResult
+     */
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
+        return GetAllSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+            public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                return privateGetAllSegmentsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetAllSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType();
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetAllSegments"), request, "X-SecretKey", settings.DeveloperSecretKey, GetAllSegmentsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetAllSegmentsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
+        GetAllSegmentsResult result = resultData.data;
+
+        PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    public FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
+        return GetAllUsersCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+            public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                return privateGetAllUsersCharactersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return ListUsersCharactersResult
+     */
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+        return GetAllUsersCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+            public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                return privateGetAllUsersCharactersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetAllUsersCharactersResultType = new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType();
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetAllUsersCharacters"), request, "X-SecretKey", settings.DeveloperSecretKey, GetAllUsersCharactersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListUsersCharactersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
+        ListUsersCharactersResult result = resultData.data;
+
+        PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
+    /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCatalogItems"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCatalogItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCatalogItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
+        GetCatalogItemsResult result = resultData.data;
+
+        PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return Async Task will return GetCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
+        return GetCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
+        return GetCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
+        GetCharacterDataResult result = resultData.data;
+
+        PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @return Async Task will return GetCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalDataAsync(final GetCharacterDataRequest request) {
+        return GetCharacterInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request) {
+        return GetCharacterInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user's character which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterDataResult> privateGetCharacterInternalDataAsync(final GetCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
+        GetCharacterDataResult result = resultData.data;
+
+        PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
+        return GetCharacterInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+            public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                return privateGetCharacterInventoryAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return GetCharacterInventoryResult
+     */
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+        return GetCharacterInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+            public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                return privateGetCharacterInventoryAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType();
+
+    /** Retrieves the specified character's current inventory of virtual goods */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterInventory"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterInventoryResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
+        GetCharacterInventoryResult result = resultData.data;
+
+        PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
+        return GetCharacterLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+            public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                return privateGetCharacterLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return GetCharacterLeaderboardResult
+     */
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+        return GetCharacterLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+            public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                return privateGetCharacterLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType();
+
+    /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterLeaderboard"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
+        GetCharacterLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return Async Task will return GetCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
+        return GetCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+        return GetCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
+            public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                return privateGetCharacterReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user's character which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
+        GetCharacterDataResult result = resultData.data;
+
+        PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    public FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
+        return GetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+            public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                return privateGetCharacterStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @return GetCharacterStatisticsResult
+     */
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+        return GetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+            public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                return privateGetCharacterStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType();
+
+    /** Retrieves the details of all title-specific statistics for the specific character */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetCharacterStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCharacterStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCharacterStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
+        GetCharacterStatisticsResult result = resultData.data;
+
+        PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    public FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
+        return GetContentDownloadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+            public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                return privateGetContentDownloadUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return GetContentDownloadUrlResult
+     */
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+        return GetContentDownloadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+            public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                return privateGetContentDownloadUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetContentDownloadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType();
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetContentDownloadUrl"), request, "X-SecretKey", settings.DeveloperSecretKey, GetContentDownloadUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetContentDownloadUrlResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
+        GetContentDownloadUrlResult result = resultData.data;
+
+        PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return Async Task will return GetLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
+        return GetFriendLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetFriendLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+        return GetFriendLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetFriendLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFriendLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetFriendLeaderboard"), request, "X-SecretKey", settings.DeveloperSecretKey, GetFriendLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
+        GetLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return Async Task will return GetFriendsListResult
+     */
+    public FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
+        return GetFriendsListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
+            public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                return privateGetFriendsListAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return GetFriendsListResult
+     */
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
+        return GetFriendsList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendsListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
+            public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                return privateGetFriendsListAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetFriendsListResultType = new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType();
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetFriendsList"), request, "X-SecretKey", settings.DeveloperSecretKey, GetFriendsListResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetFriendsListResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
+        GetFriendsListResult result = resultData.data;
+
+        PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return Async Task will return GetLeaderboardResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
+        return GetLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetLeaderboardAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
+        return GetLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
+            public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                return privateGetLeaderboardAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
+    /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetLeaderboard"), request, "X-SecretKey", settings.DeveloperSecretKey, GetLeaderboardResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
+        GetLeaderboardResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
+        return GetLeaderboardAroundCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+            public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                return privateGetLeaderboardAroundCharacterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+        return GetLeaderboardAroundCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+            public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                return privateGetLeaderboardAroundCharacterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardAroundCharacterResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType();
+
+    /** Retrieves a list of ranked characters for the given statistic, centered on the requested user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetLeaderboardAroundCharacter"), request, "X-SecretKey", settings.DeveloperSecretKey, GetLeaderboardAroundCharacterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
+        GetLeaderboardAroundCharacterResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @return Async Task will return GetLeaderboardAroundUserResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) {
+        return GetLeaderboardAroundUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+            public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
+                return privateGetLeaderboardAroundUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @return GetLeaderboardAroundUserResult
+     */
+    public PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
+        return GetLeaderboardAroundUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+            public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
+                return privateGetLeaderboardAroundUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundUserResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardAroundUserResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundUserResult>>(){}.getType();
+
+    /** Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardAroundUserResult> privateGetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetLeaderboardAroundUser"), request, "X-SecretKey", settings.DeveloperSecretKey, GetLeaderboardAroundUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardAroundUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundUserResult>) httpResult;
+        GetLeaderboardAroundUserResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardAroundUserResult> pfResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    public FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
+        return GetLeaderboardForUserCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+            public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                return privateGetLeaderboardForUserCharactersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+        return GetLeaderboardForUserCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+            public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                return privateGetLeaderboardForUserCharactersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetLeaderboardForUserCharactersResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType();
+
+    /** Retrieves a list of all of the user's characters for the given statistic. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetLeaderboardForUserCharacters"), request, "X-SecretKey", settings.DeveloperSecretKey, GetLeaderboardForUserCharactersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
+        GetLeaderboardForUsersCharactersResult result = resultData.data;
+
+        PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
+        return GetPlayerCombinedInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+            public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                return privateGetPlayerCombinedInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return GetPlayerCombinedInfoResult
+     */
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+        return GetPlayerCombinedInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+            public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                return privateGetPlayerCombinedInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerCombinedInfoResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType();
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerCombinedInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerCombinedInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
+        GetPlayerCombinedInfoResult result = resultData.data;
+
+        PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
+    /** Retrieves the player's profile */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerProfile"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerProfileResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerProfileResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
+        GetPlayerProfileResult result = resultData.data;
+
+        PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
+    /** List all segments that a player currently belongs to at this moment in time. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerSegments"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerSegmentsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerSegmentsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
+        GetPlayerSegmentsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    public FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
+        return GetPlayersInSegmentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+            public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                return privateGetPlayersInSegmentAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @return GetPlayersInSegmentResult
+     */
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+        return GetPlayersInSegment(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+            public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                return privateGetPlayersInSegmentAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayersInSegmentResultType = new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType();
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayersInSegment"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayersInSegmentResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayersInSegmentResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
+        GetPlayersInSegmentResult result = resultData.data;
+
+        PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
+        return GetPlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+            public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                return privateGetPlayerStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @return GetPlayerStatisticsResult
+     */
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+        return GetPlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+            public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                return privateGetPlayerStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType();
+
+    /** Retrieves the current version and values for the indicated statistics, for the local player. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
+        GetPlayerStatisticsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
+    /** Retrieves the information on the available versions of the specified statistic. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerStatisticVersions"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerStatisticVersionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
+        GetPlayerStatisticVersionsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
+    /** Get all tags with a given Namespace (optional) from a player profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayerTags"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerTagsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
+        GetPlayerTagsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        return GetPlayFabIDsFromFacebookIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        return GetPlayFabIDsFromFacebookIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromFacebookIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayFabIDsFromFacebookIDs"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayFabIDsFromFacebookIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
+        GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        return GetPlayFabIDsFromFacebookInstantGamesIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        return GetPlayFabIDsFromFacebookInstantGamesIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromFacebookInstantGamesIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayFabIDsFromFacebookInstantGamesIdsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
+        GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType();
+
+    /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
+        return GetPlayFabIDsFromSteamIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+        return GetPlayFabIDsFromSteamIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+            public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayFabIDsFromSteamIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType();
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPlayFabIDsFromSteamIDs"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayFabIDsFromSteamIDsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
+        GetPlayFabIDsFromSteamIDsResult result = resultData.data;
+
+        PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return Async Task will return GetPublisherDataResult
+     */
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom publisher settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPublisherDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
+        GetPublisherDataResult result = resultData.data;
+
+        PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    public FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
+        return GetRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+            public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                return privateGetRandomResultTablesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @return GetRandomResultTablesResult
+     */
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+        return GetRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+            public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                return privateGetRandomResultTablesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType();
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetRandomResultTables"), request, "X-SecretKey", settings.DeveloperSecretKey, GetRandomResultTablesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetRandomResultTablesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
+        GetRandomResultTablesResult result = resultData.data;
+
+        PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    public FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
+        return GetSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+            public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                return privateGetSharedGroupDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @return GetSharedGroupDataResult
+     */
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+        return GetSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+            public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                return privateGetSharedGroupDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType();
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetSharedGroupData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetSharedGroupDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetSharedGroupDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
+        GetSharedGroupDataResult result = resultData.data;
+
+        PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return Async Task will return GetTimeResult
+     */
+    public FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
+        return GetTimeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
+            public PlayFabResult<GetTimeResult> call() throws Exception {
+                return privateGetTimeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return GetTimeResult
+     */
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
+        return GetTime(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTimeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
+            public PlayFabResult<GetTimeResult> call() throws Exception {
+                return privateGetTimeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTimeResultType = new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType();
+
+    /** Retrieves the current server time */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetTime"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTimeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTimeResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
+        GetTimeResult result = resultData.data;
+
+        PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return Async Task will return GetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom title settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetTitleData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTitleDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
+        GetTitleDataResult result = resultData.data;
+
+        PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @return Async Task will return GetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
+        return GetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
+        return GetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom internal title settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetTitleInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTitleInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
+        GetTitleDataResult result = resultData.data;
+
+        PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return Async Task will return GetTitleNewsResult
+     */
+    public FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
+        return GetTitleNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
+            public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                return privateGetTitleNewsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return GetTitleNewsResult
+     */
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
+        return GetTitleNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
+            public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                return privateGetTitleNewsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleNewsResultType = new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType();
+
+    /** Retrieves the title news feed, as configured in the developer portal */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetTitleNews"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTitleNewsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleNewsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
+        GetTitleNewsResult result = resultData.data;
+
+        PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @return Async Task will return GetUserAccountInfoResult
+     */
+    public FutureTask<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfoAsync(final GetUserAccountInfoRequest request) {
+        return GetUserAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfoAsync(final GetUserAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+            public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
+                return privateGetUserAccountInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @return GetUserAccountInfoResult
+     */
+    public PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
+        return GetUserAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+            public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
+                return privateGetUserAccountInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserAccountInfoResult> exceptionResult = new PlayFabResult<GetUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<GetUserAccountInfoResult>>(){}.getType();
+
+    /** Retrieves the relevant details for a specified user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserAccountInfoResult> privateGetUserAccountInfoAsync(final GetUserAccountInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserAccountInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserAccountInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserAccountInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = (PlayFabJsonSuccess<GetUserAccountInfoResult>) httpResult;
+        GetUserAccountInfoResult result = resultData.data;
+
+        PlayFabResult<GetUserAccountInfoResult> pfResult = new PlayFabResult<GetUserAccountInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return Async Task will return GetUserBansResult
+     */
+    public FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
+        return GetUserBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
+            public PlayFabResult<GetUserBansResult> call() throws Exception {
+                return privateGetUserBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return GetUserBansResult
+     */
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
+        return GetUserBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
+            public PlayFabResult<GetUserBansResult> call() throws Exception {
+                return privateGetUserBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserBansResultType = new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType();
+
+    /** Gets all bans for a user. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserBans"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
+        GetUserBansResult result = resultData.data;
+
+        PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
+        return GetUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
+        return GetUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return Async Task will return GetUserInventoryResult
+     */
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
+    /** Retrieves the specified user's current inventory of virtual goods */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserInventory"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserInventoryResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
+        GetUserInventoryResult result = resultData.data;
+
+        PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
+        return GetUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserPublisherInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserPublisherReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GetUserReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    public FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
+        return GrantCharacterToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+            public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                return privateGrantCharacterToUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return GrantCharacterToUserResult
+     */
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+        return GrantCharacterToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+            public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                return privateGrantCharacterToUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantCharacterToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType();
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GrantCharacterToUser"), request, "X-SecretKey", settings.DeveloperSecretKey, GrantCharacterToUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantCharacterToUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
+        GrantCharacterToUserResult result = resultData.data;
+
+        PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @return Async Task will return GrantItemsToCharacterResult
+     */
+    public FutureTask<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) {
+        return GrantItemsToCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+            public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
+                return privateGrantItemsToCharacterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @return GrantItemsToCharacterResult
+     */
+    public PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
+        return GrantItemsToCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+            public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
+                return privateGrantItemsToCharacterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToCharacterResult> exceptionResult = new PlayFabResult<GrantItemsToCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantItemsToCharacterResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToCharacterResult>>(){}.getType();
+
+    /** Adds the specified items to the specified character's inventory */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantItemsToCharacterResult> privateGrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GrantItemsToCharacter"), request, "X-SecretKey", settings.DeveloperSecretKey, GrantItemsToCharacterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantItemsToCharacterResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = (PlayFabJsonSuccess<GrantItemsToCharacterResult>) httpResult;
+        GrantItemsToCharacterResult result = resultData.data;
+
+        PlayFabResult<GrantItemsToCharacterResult> pfResult = new PlayFabResult<GrantItemsToCharacterResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @return Async Task will return GrantItemsToUserResult
+     */
+    public FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request) {
+        return GrantItemsToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+            public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
+                return privateGrantItemsToUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @return GrantItemsToUserResult
+     */
+    public PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request) {
+        return GrantItemsToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+            public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
+                return privateGrantItemsToUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUserResult> exceptionResult = new PlayFabResult<GrantItemsToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantItemsToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUserResult>>(){}.getType();
+
+    /** Adds the specified items to the specified user's inventory */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantItemsToUserResult> privateGrantItemsToUserAsync(final GrantItemsToUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GrantItemsToUser"), request, "X-SecretKey", settings.DeveloperSecretKey, GrantItemsToUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantItemsToUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = (PlayFabJsonSuccess<GrantItemsToUserResult>) httpResult;
+        GrantItemsToUserResult result = resultData.data;
+
+        PlayFabResult<GrantItemsToUserResult> pfResult = new PlayFabResult<GrantItemsToUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    public FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
+        return GrantItemsToUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+            public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                return privateGrantItemsToUsersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return GrantItemsToUsersResult
+     */
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+        return GrantItemsToUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+            public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                return privateGrantItemsToUsersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantItemsToUsersResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType();
+
+    /** Adds the specified items to the specified user inventories */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/GrantItemsToUsers"), request, "X-SecretKey", settings.DeveloperSecretKey, GrantItemsToUsersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantItemsToUsersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
+        GrantItemsToUsersResult result = resultData.data;
+
+        PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @return Async Task will return ModifyItemUsesResult
+     */
+    public FutureTask<PlayFabResult<ModifyItemUsesResult>> ModifyItemUsesAsync(final ModifyItemUsesRequest request) {
+        return ModifyItemUsesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyItemUsesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyItemUsesResult>> ModifyItemUsesAsync(final ModifyItemUsesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+            public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
+                return privateModifyItemUsesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @return ModifyItemUsesResult
+     */
+    public PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request) {
+        return ModifyItemUses(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyItemUsesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyItemUsesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+            public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
+                return privateModifyItemUsesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyItemUsesResult> exceptionResult = new PlayFabResult<ModifyItemUsesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ModifyItemUsesResultType = new TypeToken<PlayFabJsonSuccess<ModifyItemUsesResult>>(){}.getType();
+
+    /** Modifies the number of remaining uses of a player's inventory item */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyItemUsesResult> privateModifyItemUsesAsync(final ModifyItemUsesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/ModifyItemUses"), request, "X-SecretKey", settings.DeveloperSecretKey, ModifyItemUsesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyItemUsesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = (PlayFabJsonSuccess<ModifyItemUsesResult>) httpResult;
+        ModifyItemUsesResult result = resultData.data;
+
+        PlayFabResult<ModifyItemUsesResult> pfResult = new PlayFabResult<ModifyItemUsesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @return Async Task will return MoveItemToCharacterFromCharacterResult
+     */
+    public FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) {
+        return MoveItemToCharacterFromCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToCharacterFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+            public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
+                return privateMoveItemToCharacterFromCharacterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @return MoveItemToCharacterFromCharacterResult
+     */
+    public PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
+        return MoveItemToCharacterFromCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToCharacterFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+            public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
+                return privateMoveItemToCharacterFromCharacterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToCharacterFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type MoveItemToCharacterFromCharacterResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>>(){}.getType();
+
+    /** Moves an item from a character's inventory into another of the users's character's inventory. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<MoveItemToCharacterFromCharacterResult> privateMoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/MoveItemToCharacterFromCharacter"), request, "X-SecretKey", settings.DeveloperSecretKey, MoveItemToCharacterFromCharacterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>) httpResult;
+        MoveItemToCharacterFromCharacterResult result = resultData.data;
+
+        PlayFabResult<MoveItemToCharacterFromCharacterResult> pfResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @return Async Task will return MoveItemToCharacterFromUserResult
+     */
+    public FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) {
+        return MoveItemToCharacterFromUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+            public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
+                return privateMoveItemToCharacterFromUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @return MoveItemToCharacterFromUserResult
+     */
+    public PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
+        return MoveItemToCharacterFromUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+            public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
+                return privateMoveItemToCharacterFromUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToCharacterFromUserResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type MoveItemToCharacterFromUserResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>>(){}.getType();
+
+    /** Moves an item from a user's inventory into their character's inventory. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<MoveItemToCharacterFromUserResult> privateMoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/MoveItemToCharacterFromUser"), request, "X-SecretKey", settings.DeveloperSecretKey, MoveItemToCharacterFromUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<MoveItemToCharacterFromUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>) httpResult;
+        MoveItemToCharacterFromUserResult result = resultData.data;
+
+        PlayFabResult<MoveItemToCharacterFromUserResult> pfResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @return Async Task will return MoveItemToUserFromCharacterResult
+     */
+    public FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) {
+        return MoveItemToUserFromCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToUserFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+            public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
+                return privateMoveItemToUserFromCharacterAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @return MoveItemToUserFromCharacterResult
+     */
+    public PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
+        return MoveItemToUserFromCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToUserFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+            public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
+                return privateMoveItemToUserFromCharacterAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToUserFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type MoveItemToUserFromCharacterResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>>(){}.getType();
+
+    /** Moves an item from a character's inventory into the owning user's inventory. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<MoveItemToUserFromCharacterResult> privateMoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/MoveItemToUserFromCharacter"), request, "X-SecretKey", settings.DeveloperSecretKey, MoveItemToUserFromCharacterResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<MoveItemToUserFromCharacterResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>) httpResult;
+        MoveItemToUserFromCharacterResult result = resultData.data;
+
+        PlayFabResult<MoveItemToUserFromCharacterResult> pfResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @return Async Task will return NotifyMatchmakerPlayerLeftResult
+     */
+    public FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) {
+        return NotifyMatchmakerPlayerLeftAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return NotifyMatchmakerPlayerLeftResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+            public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
+                return privateNotifyMatchmakerPlayerLeftAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @return NotifyMatchmakerPlayerLeftResult
+     */
+    public PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
+        return NotifyMatchmakerPlayerLeft(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return NotifyMatchmakerPlayerLeftResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+            public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
+                return privateNotifyMatchmakerPlayerLeftAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<NotifyMatchmakerPlayerLeftResult> exceptionResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type NotifyMatchmakerPlayerLeftResultType = new TypeToken<PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>>(){}.getType();
+
+    /** Informs the PlayFab match-making service that the user specified has left the Game Server Instance */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<NotifyMatchmakerPlayerLeftResult> privateNotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/NotifyMatchmakerPlayerLeft"), request, "X-SecretKey", settings.DeveloperSecretKey, NotifyMatchmakerPlayerLeftResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult> resultData = (PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>) httpResult;
+        NotifyMatchmakerPlayerLeftResult result = resultData.data;
+
+        PlayFabResult<NotifyMatchmakerPlayerLeftResult> pfResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return Async Task will return RedeemCouponResult
+     */
+    public FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
+        return RedeemCouponAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
+            public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                return privateRedeemCouponAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return RedeemCouponResult
+     */
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
+        return RedeemCoupon(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemCouponResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
+            public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                return privateRedeemCouponAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RedeemCouponResultType = new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType();
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RedeemCoupon"), request, "X-SecretKey", settings.DeveloperSecretKey, RedeemCouponResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RedeemCouponResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
+        RedeemCouponResult result = resultData.data;
+
+        PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @return Async Task will return RedeemMatchmakerTicketResult
+     */
+    public FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) {
+        return RedeemMatchmakerTicketAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemMatchmakerTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+            public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
+                return privateRedeemMatchmakerTicketAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @return RedeemMatchmakerTicketResult
+     */
+    public PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
+        return RedeemMatchmakerTicket(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemMatchmakerTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+            public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
+                return privateRedeemMatchmakerTicketAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RedeemMatchmakerTicketResult> exceptionResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RedeemMatchmakerTicketResultType = new TypeToken<PlayFabJsonSuccess<RedeemMatchmakerTicketResult>>(){}.getType();
+
+    /** Validates a Game Server session ticket and returns details about the user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RedeemMatchmakerTicketResult> privateRedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RedeemMatchmakerTicket"), request, "X-SecretKey", settings.DeveloperSecretKey, RedeemMatchmakerTicketResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RedeemMatchmakerTicketResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RedeemMatchmakerTicketResult> resultData = (PlayFabJsonSuccess<RedeemMatchmakerTicketResult>) httpResult;
+        RedeemMatchmakerTicketResult result = resultData.data;
+
+        PlayFabResult<RedeemMatchmakerTicketResult> pfResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @return Async Task will return RefreshGameServerInstanceHeartbeatResult
+     */
+    public FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) {
+        return RefreshGameServerInstanceHeartbeatAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RefreshGameServerInstanceHeartbeatResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+            public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
+                return privateRefreshGameServerInstanceHeartbeatAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @return RefreshGameServerInstanceHeartbeatResult
+     */
+    public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
+        return RefreshGameServerInstanceHeartbeat(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RefreshGameServerInstanceHeartbeatResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+            public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
+                return privateRefreshGameServerInstanceHeartbeatAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RefreshGameServerInstanceHeartbeatResult> exceptionResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RefreshGameServerInstanceHeartbeatResultType = new TypeToken<PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>>(){}.getType();
+
+    /** Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RefreshGameServerInstanceHeartbeatResult> privateRefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RefreshGameServerInstanceHeartbeat"), request, "X-SecretKey", settings.DeveloperSecretKey, RefreshGameServerInstanceHeartbeatResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult> resultData = (PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>) httpResult;
+        RefreshGameServerInstanceHeartbeatResult result = resultData.data;
+
+        PlayFabResult<RefreshGameServerInstanceHeartbeatResult> pfResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @return Async Task will return RegisterGameResponse
+     */
+    public FutureTask<PlayFabResult<RegisterGameResponse>> RegisterGameAsync(final RegisterGameRequest request) {
+        return RegisterGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RegisterGameResponse>> RegisterGameAsync(final RegisterGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterGameResponse>>() {
+            public PlayFabResult<RegisterGameResponse> call() throws Exception {
+                return privateRegisterGameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @return RegisterGameResponse
+     */
+    public PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request) {
+        return RegisterGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterGameResponse>>() {
+            public PlayFabResult<RegisterGameResponse> call() throws Exception {
+                return privateRegisterGameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RegisterGameResponse> exceptionResult = new PlayFabResult<RegisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RegisterGameResultType = new TypeToken<PlayFabJsonSuccess<RegisterGameResponse>>(){}.getType();
+
+    /** Inform the matchmaker that a new Game Server Instance is added. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RegisterGameResponse> privateRegisterGameAsync(final RegisterGameRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RegisterGame"), request, "X-SecretKey", settings.DeveloperSecretKey, RegisterGameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RegisterGameResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RegisterGameResponse> resultData = (PlayFabJsonSuccess<RegisterGameResponse>) httpResult;
+        RegisterGameResponse result = resultData.data;
+
+        PlayFabResult<RegisterGameResponse> pfResult = new PlayFabResult<RegisterGameResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveFriendAsync(final RemoveFriendRequest request) {
+        return RemoveFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> RemoveFriendAsync(final RemoveFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveFriendAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request) {
+        return RemoveFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateRemoveFriendAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveFriendResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Removes the specified friend from the the user's friend list */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RemoveFriend"), request, "X-SecretKey", settings.DeveloperSecretKey, RemoveFriendResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    public FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
+        return RemovePlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+            public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                return privateRemovePlayerTagAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return RemovePlayerTagResult
+     */
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
+        return RemovePlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+            public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                return privateRemovePlayerTagAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemovePlayerTagResultType = new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType();
+
+    /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RemovePlayerTag"), request, "X-SecretKey", settings.DeveloperSecretKey, RemovePlayerTagResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemovePlayerTagResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
+        RemovePlayerTagResult result = resultData.data;
+
+        PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
+    public FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
+        return RemoveSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+            public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                return privateRemoveSharedGroupMembersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @return RemoveSharedGroupMembersResult
+     */
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+        return RemoveSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+            public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                return privateRemoveSharedGroupMembersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType();
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RemoveSharedGroupMembers"), request, "X-SecretKey", settings.DeveloperSecretKey, RemoveSharedGroupMembersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
+        RemoveSharedGroupMembersResult result = resultData.data;
+
+        PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @return Async Task will return ReportPlayerServerResult
+     */
+    public FutureTask<PlayFabResult<ReportPlayerServerResult>> ReportPlayerAsync(final ReportPlayerServerRequest request) {
+        return ReportPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ReportPlayerServerResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ReportPlayerServerResult>> ReportPlayerAsync(final ReportPlayerServerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+            public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
+                return privateReportPlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @return ReportPlayerServerResult
+     */
+    public PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request) {
+        return ReportPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ReportPlayerServerResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ReportPlayerServerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+            public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
+                return privateReportPlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ReportPlayerServerResult> exceptionResult = new PlayFabResult<ReportPlayerServerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ReportPlayerResultType = new TypeToken<PlayFabJsonSuccess<ReportPlayerServerResult>>(){}.getType();
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ReportPlayerServerResult> privateReportPlayerAsync(final ReportPlayerServerRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/ReportPlayer"), request, "X-SecretKey", settings.DeveloperSecretKey, ReportPlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ReportPlayerServerResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = (PlayFabJsonSuccess<ReportPlayerServerResult>) httpResult;
+        ReportPlayerServerResult result = resultData.data;
+
+        PlayFabResult<ReportPlayerServerResult> pfResult = new PlayFabResult<ReportPlayerServerResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    public FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
+        return RevokeAllBansForUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+            public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                return privateRevokeAllBansForUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return RevokeAllBansForUserResult
+     */
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+        return RevokeAllBansForUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+            public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                return privateRevokeAllBansForUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeAllBansForUserResultType = new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType();
+
+    /** Revoke all active bans for a user. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RevokeAllBansForUser"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeAllBansForUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeAllBansForUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
+        RevokeAllBansForUserResult result = resultData.data;
+
+        PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return Async Task will return RevokeBansResult
+     */
+    public FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
+        return RevokeBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
+            public PlayFabResult<RevokeBansResult> call() throws Exception {
+                return privateRevokeBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return RevokeBansResult
+     */
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
+        return RevokeBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
+            public PlayFabResult<RevokeBansResult> call() throws Exception {
+                return privateRevokeBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeBansResultType = new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType();
+
+    /** Revoke all active bans specified with BanId. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RevokeBans"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
+        RevokeBansResult result = resultData.data;
+
+        PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return Async Task will return RevokeInventoryResult
+     */
+    public FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
+        return RevokeInventoryItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
+            public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                return privateRevokeInventoryItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return RevokeInventoryResult
+     */
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+        return RevokeInventoryItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
+            public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                return privateRevokeInventoryItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeInventoryItemResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType();
+
+    /** Revokes access to an item in a user's inventory */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RevokeInventoryItem"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeInventoryItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
+        RevokeInventoryResult result = resultData.data;
+
+        PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    public FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
+        return RevokeInventoryItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+            public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                return privateRevokeInventoryItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return RevokeInventoryItemsResult
+     */
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+        return RevokeInventoryItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+            public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                return privateRevokeInventoryItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeInventoryItemsResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType();
+
+    /** Revokes access for up to 25 items across multiple users and characters. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/RevokeInventoryItems"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeInventoryItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeInventoryItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
+        RevokeInventoryItemsResult result = resultData.data;
+
+        PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @return Async Task will return SendCustomAccountRecoveryEmailResult
+     */
+    public FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) {
+        return SendCustomAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendCustomAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendCustomAccountRecoveryEmailAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @return SendCustomAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
+        return SendCustomAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendCustomAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendCustomAccountRecoveryEmailAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SendCustomAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SendCustomAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>>(){}.getType();
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SendCustomAccountRecoveryEmailResult> privateSendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SendCustomAccountRecoveryEmail"), request, "X-SecretKey", settings.DeveloperSecretKey, SendCustomAccountRecoveryEmailResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>) httpResult;
+        SendCustomAccountRecoveryEmailResult result = resultData.data;
+
+        PlayFabResult<SendCustomAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @return Async Task will return SendEmailFromTemplateResult
+     */
+    public FutureTask<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) {
+        return SendEmailFromTemplateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendEmailFromTemplateResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+            public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
+                return privateSendEmailFromTemplateAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @return SendEmailFromTemplateResult
+     */
+    public PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
+        return SendEmailFromTemplate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendEmailFromTemplateResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendEmailFromTemplateResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+            public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
+                return privateSendEmailFromTemplateAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SendEmailFromTemplateResult> exceptionResult = new PlayFabResult<SendEmailFromTemplateResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SendEmailFromTemplateResultType = new TypeToken<PlayFabJsonSuccess<SendEmailFromTemplateResult>>(){}.getType();
+
+    /** Sends an email based on an email template to a player's contact email */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SendEmailFromTemplateResult> privateSendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SendEmailFromTemplate"), request, "X-SecretKey", settings.DeveloperSecretKey, SendEmailFromTemplateResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SendEmailFromTemplateResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = (PlayFabJsonSuccess<SendEmailFromTemplateResult>) httpResult;
+        SendEmailFromTemplateResult result = resultData.data;
+
+        PlayFabResult<SendEmailFromTemplateResult> pfResult = new PlayFabResult<SendEmailFromTemplateResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @return Async Task will return SendPushNotificationResult
+     */
+    public FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationAsync(final SendPushNotificationRequest request) {
+        return SendPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationAsync(final SendPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendPushNotificationResult>>() {
+            public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                return privateSendPushNotificationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @return SendPushNotificationResult
+     */
+    public PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request) {
+        return SendPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendPushNotificationResult>>() {
+            public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                return privateSendPushNotificationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SendPushNotificationResult> exceptionResult = new PlayFabResult<SendPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SendPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType();
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SendPushNotificationResult> privateSendPushNotificationAsync(final SendPushNotificationRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SendPushNotification"), request, "X-SecretKey", settings.DeveloperSecretKey, SendPushNotificationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SendPushNotificationResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = (PlayFabJsonSuccess<SendPushNotificationResult>) httpResult;
+        SendPushNotificationResult result = resultData.data;
+
+        PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
+        return SetFriendTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> SetFriendTagsAsync(final SetFriendTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateSetFriendTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request) {
+        return SetFriendTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateSetFriendTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetFriendTagsResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Updates the tag list for a specified user in the friend list of another user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetFriendTags"), request, "X-SecretKey", settings.DeveloperSecretKey, SetFriendTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @return Async Task will return SetGameServerInstanceDataResult
+     */
+    public FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) {
+        return SetGameServerInstanceDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+            public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
+                return privateSetGameServerInstanceDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @return SetGameServerInstanceDataResult
+     */
+    public PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
+        return SetGameServerInstanceData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+            public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
+                return privateSetGameServerInstanceDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceDataResult> exceptionResult = new PlayFabResult<SetGameServerInstanceDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetGameServerInstanceDataResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceDataResult>>(){}.getType();
+
+    /** Sets the custom data of the indicated Game Server Instance */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetGameServerInstanceDataResult> privateSetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetGameServerInstanceData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetGameServerInstanceDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetGameServerInstanceDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetGameServerInstanceDataResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceDataResult>) httpResult;
+        SetGameServerInstanceDataResult result = resultData.data;
+
+        PlayFabResult<SetGameServerInstanceDataResult> pfResult = new PlayFabResult<SetGameServerInstanceDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @return Async Task will return SetGameServerInstanceStateResult
+     */
+    public FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) {
+        return SetGameServerInstanceStateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceStateResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+            public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
+                return privateSetGameServerInstanceStateAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @return SetGameServerInstanceStateResult
+     */
+    public PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
+        return SetGameServerInstanceState(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceStateResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+            public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
+                return privateSetGameServerInstanceStateAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceStateResult> exceptionResult = new PlayFabResult<SetGameServerInstanceStateResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetGameServerInstanceStateResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceStateResult>>(){}.getType();
+
+    /** Set the state of the indicated Game Server Instance. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetGameServerInstanceStateResult> privateSetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetGameServerInstanceState"), request, "X-SecretKey", settings.DeveloperSecretKey, SetGameServerInstanceStateResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetGameServerInstanceStateResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetGameServerInstanceStateResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceStateResult>) httpResult;
+        SetGameServerInstanceStateResult result = resultData.data;
+
+        PlayFabResult<SetGameServerInstanceStateResult> pfResult = new PlayFabResult<SetGameServerInstanceStateResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @return Async Task will return SetGameServerInstanceTagsResult
+     */
+    public FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) {
+        return SetGameServerInstanceTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+            public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
+                return privateSetGameServerInstanceTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @return SetGameServerInstanceTagsResult
+     */
+    public PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
+        return SetGameServerInstanceTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+            public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
+                return privateSetGameServerInstanceTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceTagsResult> exceptionResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetGameServerInstanceTagsResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceTagsResult>>(){}.getType();
+
+    /** Set custom tags for the specified Game Server Instance */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetGameServerInstanceTagsResult> privateSetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetGameServerInstanceTags"), request, "X-SecretKey", settings.DeveloperSecretKey, SetGameServerInstanceTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetGameServerInstanceTagsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetGameServerInstanceTagsResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceTagsResult>) httpResult;
+        SetGameServerInstanceTagsResult result = resultData.data;
+
+        PlayFabResult<SetGameServerInstanceTagsResult> pfResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetPlayerSecret"), request, "X-SecretKey", settings.DeveloperSecretKey, SetPlayerSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPlayerSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
+        SetPlayerSecretResult result = resultData.data;
+
+        PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return Async Task will return SetPublisherDataResult
+     */
+    public FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
+        return SetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
+            public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                return privateSetPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return SetPublisherDataResult
+     */
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
+        return SetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
+            public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                return privateSetPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType();
+
+    /** Updates the key-value store of custom publisher settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPublisherDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
+        SetPublisherDataResult result = resultData.data;
+
+        PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return Async Task will return SetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
+        return SetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
+        return SetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
+    /** Updates the key-value store of custom title settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetTitleData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetTitleDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
+        SetTitleDataResult result = resultData.data;
+
+        PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return Async Task will return SetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
+        return SetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
+        return SetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
+    /** Updates the key-value store of custom title settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SetTitleInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetTitleInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
+        SetTitleDataResult result = resultData.data;
+
+        PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) {
+        return SubtractCharacterVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractCharacterVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
+        return SubtractCharacterVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractCharacterVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SubtractCharacterVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType();
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateSubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SubtractCharacterVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, SubtractCharacterVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
+        ModifyCharacterVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/SubtractUserVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, SubtractUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
+        return UnlockContainerInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerInstanceAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+        return UnlockContainerInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerInstanceAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlockContainerInstanceResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UnlockContainerInstance"), request, "X-SecretKey", settings.DeveloperSecretKey, UnlockContainerInstanceResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlockContainerItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
+        UnlockContainerItemResult result = resultData.data;
+
+        PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
+        return UnlockContainerItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
+        return UnlockContainerItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+            public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                return privateUnlockContainerItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UnlockContainerItemResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UnlockContainerItem"), request, "X-SecretKey", settings.DeveloperSecretKey, UnlockContainerItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UnlockContainerItemResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
+        UnlockContainerItemResult result = resultData.data;
+
+        PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
+        return UpdateAvatarUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateAvatarUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+        return UpdateAvatarUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateAvatarUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateAvatarUrlResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Update the avatar URL of the specified player */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateAvatarUrl"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateAvatarUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return Async Task will return UpdateBansResult
+     */
+    public FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
+        return UpdateBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
+            public PlayFabResult<UpdateBansResult> call() throws Exception {
+                return privateUpdateBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return UpdateBansResult
+     */
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
+        return UpdateBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
+            public PlayFabResult<UpdateBansResult> call() throws Exception {
+                return privateUpdateBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateBansResultType = new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType();
+
+    /** Updates information of a list of existing bans specified with Ban Ids. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateBans"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
+        UpdateBansResult result = resultData.data;
+
+        PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user's character which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateCharacterData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCharacterDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
+        UpdateCharacterDataResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user's character which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateCharacterInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCharacterInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
+        UpdateCharacterDataResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
+        return UpdateCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+            public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                return privateUpdateCharacterReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user's character which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateCharacterReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCharacterReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
+        UpdateCharacterDataResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
+    public FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
+        return UpdateCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+            public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                return privateUpdateCharacterStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @return UpdateCharacterStatisticsResult
+     */
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+        return UpdateCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+            public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                return privateUpdateCharacterStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType();
+
+    /** Updates the values of the specified title-specific statistics for the specific character */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateCharacterStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCharacterStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
+        UpdateCharacterStatisticsResult result = resultData.data;
+
+        PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
+        return UpdatePlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                return privateUpdatePlayerStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @return UpdatePlayerStatisticsResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+        return UpdatePlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                return privateUpdatePlayerStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdatePlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType();
+
+    /** Updates the values of the specified title-specific statistics for the user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdatePlayerStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdatePlayerStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
+        UpdatePlayerStatisticsResult result = resultData.data;
+
+        PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
+        return UpdateSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+            public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                return privateUpdateSharedGroupDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @return UpdateSharedGroupDataResult
+     */
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+        return UpdateSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+            public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                return privateUpdateSharedGroupDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType();
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateSharedGroupData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateSharedGroupDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateSharedGroupDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
+        UpdateSharedGroupDataResult result = resultData.data;
+
+        PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
+        return UpdateUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+        return UpdateUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) {
+        return UpdateUserInventoryItemCustomDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateUserInventoryItemCustomDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
+        return UpdateUserInventoryItemCustomData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateUserInventoryItemCustomDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserInventoryItemCustomDataResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Updates the key-value pair data tagged to the specified item, which is read-only from the client. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateUpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserInventoryItemCustomData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserInventoryItemCustomDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
+        return UpdateUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+        return UpdateUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserPublisherInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+        return UpdateUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/UpdateUserReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteServerCharacterEventRequest request) {
+        return WriteCharacterEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteServerCharacterEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteCharacterEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
+        return WriteCharacterEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteCharacterEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WriteCharacterEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a character-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteServerCharacterEventRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/WriteCharacterEvent"), request, "X-SecretKey", settings.DeveloperSecretKey, WriteCharacterEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteServerPlayerEventRequest request) {
+        return WritePlayerEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteServerPlayerEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWritePlayerEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
+        return WritePlayerEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWritePlayerEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WritePlayerEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a player-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteServerPlayerEventRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/WritePlayerEvent"), request, "X-SecretKey", settings.DeveloperSecretKey, WritePlayerEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return Async Task will return WriteEventResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
+        return WriteTitleEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteTitleEventAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
+        return WriteTitleEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> call() throws Exception {
+                return privateWriteTitleEventAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WriteTitleEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
+    /** Writes a title-based event into PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Server/WriteTitleEvent"), request, "X-SecretKey", settings.DeveloperSecretKey, WriteTitleEventResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
+        WriteEventResponse result = resultData.data;
+
+        PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
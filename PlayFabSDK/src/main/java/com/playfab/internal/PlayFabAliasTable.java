@@ -0,0 +1,97 @@
+package com.playfab.internal;
+
+import java.util.*;
+
+/**
+ * A weighted random choice between a fixed set of outcomes, made in O(1) with Vose's alias method: building the table
+ * takes O(n), and each sample then takes one random column and one biased coin flip, however many outcomes there are
+ */
+public class PlayFabAliasTable<T> {
+    private static final ThreadLocal<Random> random = new ThreadLocal<Random>() {
+        protected Random initialValue() {
+            return new Random(); // ThreadLocalRandom only exists from Android API 21
+        }
+    };
+
+    private final List<T> outcomes;
+    private final double[] weights;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param outcomes The outcomes to choose between
+     * @param weights How likely each outcome is, relative to the others; at least one must be positive, and none negative
+     */
+    public PlayFabAliasTable(List<T> outcomes, double[] weights) {
+        int n = outcomes.size();
+        if (n == 0 || weights.length != n)
+            throw new IllegalArgumentException("An alias table needs one weight per outcome, and at least one outcome");
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight))
+                throw new IllegalArgumentException("Weights must be finite and not negative");
+            total += weight;
+        }
+        if (total <= 0)
+            throw new IllegalArgumentException("At least one weight must be positive");
+
+        this.outcomes = Collections.unmodifiableList(new ArrayList<T>(outcomes));
+        this.weights = weights.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale the weights so they average 1, then pair each column that is short of 1 with one that has more to give
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1)
+                small[smallCount++] = more;
+            else
+                large[largeCount++] = more;
+        }
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0)
+            probability[large[--largeCount]] = 1;
+        while (smallCount > 0)
+            probability[small[--smallCount]] = 1;
+    }
+
+    public T sample() {
+        return sample(random.get());
+    }
+
+    public T sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return outcomes.get(random.nextDouble() < probability[column] ? column : alias[column]);
+    }
+
+    public List<T> getOutcomes() {
+        return outcomes;
+    }
+
+    /** The chance of each outcome, in the order of getOutcomes */
+    public double[] getProbabilities() {
+        double total = 0;
+        for (double weight : weights)
+            total += weight;
+        double[] output = new double[weights.length];
+        for (int i = 0; i < weights.length; i++)
+            output[i] = weights[i] / total;
+        return output;
+    }
+}
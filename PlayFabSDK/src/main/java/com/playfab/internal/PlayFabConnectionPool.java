@@ -0,0 +1,139 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.net.ConnectException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Bounds and accounts for the connections PlayFabHTTP has in flight against each PlayFab host.
+ *
+ * The sockets themselves are owned by the JDK keep-alive cache that backs HttpURLConnection; a socket is only returned to
+ * that cache when its response body has been fully drained and closed. This pool does not hold sockets: it caps how many
+ * calls may be in flight per host (PlayFabSettings.MaxConnectionsPerHost), and counts how each lease ended. The HTTP/2
+ * transport leases a slot per stream the same way, though its streams share one socket.
+ *
+ * All bookkeeping is lock-free, so callers on virtual threads never pin
+ */
+public class PlayFabConnectionPool {
+    private final ConcurrentHashMap<String, HostPool> hosts = new ConcurrentHashMap<String, HostPool>();
+
+    /**
+     * Leases a connection slot for the host, blocking while the host is at its limit
+     * @param maxWaitNanos The longest to wait, such as the time left before the call's deadline; the wait is also bounded
+     *                     by PlayFabSettings.ConnectionAcquireTimeoutMs
+     */
+    public void acquire(String host, long maxWaitNanos) throws IOException {
+        HostPool pool = getHostPool(host);
+        if (!pool.permits.tryAcquire()) {
+            pool.waits.incrementAndGet();
+            long waitNanos = Math.min(maxWaitNanos, TimeUnit.MILLISECONDS.toNanos(PlayFabSettings.ConnectionAcquireTimeoutMs));
+            boolean acquired = false;
+            try {
+                acquired = waitNanos > 0 && pool.permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for a connection to " + host);
+            }
+            if (!acquired) {
+                pool.acquireTimeouts.incrementAndGet();
+                throw new ConnectException("Timed out waiting for a connection to " + host);
+            }
+        }
+
+        int leased = pool.leased.incrementAndGet();
+        long peak;
+        while (leased > (peak = pool.peakLeased.get()) && !pool.peakLeased.compareAndSet(peak, leased)) { }
+    }
+
+    /**
+     * Returns a slot leased by acquire
+     * @param drained true if the response was read to the end and closed, which lets the JDK keep the socket alive
+     */
+    public void release(String host, boolean drained) {
+        HostPool pool = getHostPool(host);
+        if (drained)
+            pool.drained.incrementAndGet();
+        else
+            pool.disconnected.incrementAndGet();
+        pool.leased.decrementAndGet();
+        pool.permits.release();
+    }
+
+    /** Records a connection that was opened by PlayFabHTTP.prewarm and handed to the keep-alive cache */
+    public void prewarmed(String host) {
+        getHostPool(host).prewarmed.incrementAndGet();
+    }
+
+    /** A point-in-time copy of the statistics for every host this pool has seen */
+    public Map<String, HostStats> getStats() {
+        Map<String, HostStats> output = new TreeMap<String, HostStats>();
+        for (Map.Entry<String, HostPool> pair : hosts.entrySet())
+            output.put(pair.getKey(), pair.getValue().snapshot(pair.getKey()));
+        return output;
+    }
+
+    /** The pool key for a url: scheme, host and port */
+    public static String hostKey(URL url) {
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        return url.getProtocol() + "://" + url.getHost() + ":" + port;
+    }
+
+    private HostPool getHostPool(String host) {
+        HostPool pool = hosts.get(host);
+        if (pool == null) {
+            HostPool created = new HostPool(Math.max(1, PlayFabSettings.MaxConnectionsPerHost));
+            pool = hosts.putIfAbsent(host, created);
+            if (pool == null)
+                pool = created;
+        }
+        return pool;
+    }
+
+    public static class HostStats {
+        public String host;
+        public int maxConnections;
+        public int leased; // Connections currently carrying a request
+        public long peakLeased;
+        public long drained; // Leases whose response was read to the end, leaving the socket to the keep-alive cache
+        public long disconnected; // Leases that failed or were aborted, closing their socket
+        public long prewarmed;
+        public long waits; // Leases that found the host at MaxConnectionsPerHost and had to queue
+        public long acquireTimeouts;
+    }
+
+    private static class HostPool {
+        final int maxConnections;
+        final Semaphore permits;
+        final AtomicInteger leased = new AtomicInteger();
+        final AtomicLong peakLeased = new AtomicLong();
+        final AtomicLong drained = new AtomicLong();
+        final AtomicLong disconnected = new AtomicLong();
+        final AtomicLong prewarmed = new AtomicLong();
+        final AtomicLong waits = new AtomicLong();
+        final AtomicLong acquireTimeouts = new AtomicLong();
+
+        HostPool(int maxConnections) {
+            this.maxConnections = maxConnections;
+            this.permits = new Semaphore(maxConnections, true);
+        }
+
+        HostStats snapshot(String host) {
+            HostStats output = new HostStats();
+            output.host = host;
+            output.maxConnections = maxConnections;
+            output.leased = leased.get();
+            output.peakLeased = peakLeased.get();
+            output.drained = drained.get();
+            output.disconnected = disconnected.get();
+            output.prewarmed = prewarmed.get();
+            output.waits = waits.get();
+            output.acquireTimeouts = acquireTimeouts.get();
+            return output;
+        }
+    }
+}
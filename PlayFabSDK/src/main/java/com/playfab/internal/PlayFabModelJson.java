@@ -0,0 +1,80 @@
+package com.playfab.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Reads and builds request and result models through the PlayFabJsonCodec, as json trees. The SDK's caches use it to look
+ * inside the models of any API module, whichever of them are compiled in, the same way the wire format does
+ */
+final class PlayFabModelJson {
+    private static final char[] hexDigits = "0123456789abcdef".toCharArray();
+
+    private PlayFabModelJson() {
+    }
+
+    /** The model as the codec writes it; null fields are left out */
+    static JsonObject toTree(PlayFabJsonCodec codec, Object model) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        codec.encode(model, json);
+        JsonElement tree = new JsonParser().parse(json.toString("UTF-8"));
+        return tree.isJsonObject() ? tree.getAsJsonObject() : new JsonObject();
+    }
+
+    /** A new model of the given type, decoded by the codec from the tree */
+    static Object fromTree(PlayFabJsonCodec codec, JsonElement tree, Type type) throws IOException {
+        return codec.decode(new ByteArrayInputStream(tree.toString().getBytes("UTF-8")), type);
+    }
+
+    /** A string member of the tree, or null when it is absent or not a string */
+    static String getString(JsonObject tree, String name) {
+        JsonElement value = tree.get(name);
+        return value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString() ? value.getAsString() : null;
+    }
+
+    /** An object member of the tree, or null when it is absent or not an object */
+    static JsonObject getObject(JsonObject tree, String name) {
+        JsonElement value = tree.get(name);
+        return value != null && value.isJsonObject() ? value.getAsJsonObject() : null;
+    }
+
+    /** The string elements of an array member of the tree; empty when it is absent or not an array */
+    static List<String> getStrings(JsonObject tree, String name) {
+        JsonElement value = tree.get(name);
+        List<String> strings = new ArrayList<String>();
+        if (value != null && value.isJsonArray()) {
+            for (JsonElement element : value.getAsJsonArray())
+                if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString())
+                    strings.add(element.getAsString());
+        }
+        return strings;
+    }
+
+    /** A hex SHA-256, for keeping credentials out of map keys */
+    static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes("UTF-8"));
+            char[] output = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                output[i * 2] = hexDigits[(digest[i] >> 4) & 0xF];
+                output[i * 2 + 1] = hexDigits[digest[i] & 0xF];
+            }
+            return new String(output);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Every Java and Android runtime provides SHA-256
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Client-side token buckets that keep calls within PlayFab's per-title API limits, so a burst is smoothed out locally
+ * instead of being throttled after a full round trip. A Limit applies to every API path that starts with its prefix: set
+ * one on "/Server/" for the whole family and another on "/Server/GetPlayersInSegment" for one endpoint, and a call to that
+ * endpoint needs a permit from both. Paths without a matching limit are never delayed.
+ *
+ * Each limit refills at permitsPerSecond up to burst stored permits; when its bucket is empty a call either waits for the
+ * next permit (Block, up to maxWaitMs), is rejected immediately (FailFast), or joins a first-come first-served queue
+ * (Queue, up to maxQueued waiting calls). No call waits past its deadline, and a cancelled call stops waiting at once. A
+ * rejected call returns APIClientRequestRateLimitExceeded with httpCode 0, and is not retried.
+ *
+ * Limits adapt: a throttling error from PlayFab halves the rate of every limit on the path (down to a tenth of its
+ * configured rate), and holds all calls for any retryAfterSeconds it carries; each success then adds back a twentieth
+ */
+public class PlayFabRateLimiter {
+    private static final double MinRateFraction = 0.1;
+    private static final double RecoveryFraction = 0.05;
+    private static final Limit[] NoLimits = new Limit[0];
+
+    private final ConcurrentHashMap<String, Limit> limits = new ConcurrentHashMap<String, Limit>();
+    private final ConcurrentHashMap<String, Limit[]> pathLimits = new ConcurrentHashMap<String, Limit[]>();
+
+    public enum Mode {
+        Block, // Wait for a permit, up to the limit's maxWaitMs
+        FailFast, // Reject the call when no permit is available now
+        Queue // Wait in arrival order, rejecting calls while maxQueued are already waiting
+    }
+
+    /**
+     * Adds or replaces the limit for a path prefix
+     * @param pathPrefix An API family such as "/Client/", or an endpoint such as "/Client/UpdateUserData"
+     * @param permitsPerSecond The sustained rate of calls
+     * @param burst The calls that may go out back to back after a quiet period
+     */
+    public Limit setLimit(String pathPrefix, double permitsPerSecond, int burst, Mode mode) {
+        if (permitsPerSecond <= 0)
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        Limit limit = new Limit(pathPrefix, permitsPerSecond, Math.max(1, burst), mode);
+        limits.put(pathPrefix, limit);
+        pathLimits.clear();
+        return limit;
+    }
+
+    public void removeLimit(String pathPrefix) {
+        limits.remove(pathPrefix);
+        pathLimits.clear();
+    }
+
+    public void clear() {
+        limits.clear();
+        pathLimits.clear();
+    }
+
+    /**
+     * Takes a permit from every limit on the path, waiting as their modes allow
+     * @param deadline The call's deadline: the call never waits past it, and stops waiting when it is cancelled
+     * @return null when the call may proceed, or the error to return instead of making it
+     */
+    public PlayFabError acquire(String path, PlayFabDeadline deadline) {
+        return acquire(path, deadline.remainingNanos(), deadline);
+    }
+
+    /** Takes a permit from every limit on the path only if none of them would make the call wait */
+    public PlayFabError tryAcquire(String path) {
+        return acquire(path, 0, null);
+    }
+
+    private PlayFabError acquire(String path, long maxWaitNanos, PlayFabDeadline deadline) {
+        Limit[] matching = getLimits(path);
+        if (matching.length == 0)
+            return null;
+
+        // Each limit decides and books the permit in one step, so a concurrent call cannot take the permit that admitted this
+        // one; if a later limit rejects the call, the permits already booked on the earlier ones are given back
+        long now = System.nanoTime();
+        long[] waits = new long[matching.length];
+        long waitNanos = 0;
+        for (int i = 0; i < matching.length; i++) {
+            waits[i] = matching[i].take(now, maxWaitNanos);
+            if (waits[i] < 0) {
+                for (int j = 0; j < i; j++)
+                    matching[j].refund(now, waits[j]);
+                matching[i].rejected.incrementAndGet();
+                return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.APIClientRequestRateLimitExceeded, "Rate limited by the client-side limit on " + matching[i].pathPrefix, null);
+            }
+            waitNanos = Math.max(waitNanos, waits[i]);
+        }
+        if (waitNanos > 0) {
+            for (int i = 0; i < matching.length; i++)
+                if (waits[i] == 0)
+                    matching[i].waiting(1);
+        }
+        try {
+            if (waitNanos <= 0)
+                return null;
+            boolean live = deadline != null ? deadline.sleep(waitNanos) : sleep(waitNanos);
+            if (!live)
+                return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.APIClientRequestRateLimitExceeded, "Cancelled waiting for a rate limit permit", null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.APIClientRequestRateLimitExceeded, "Interrupted waiting for a rate limit permit", null);
+        } finally {
+            for (int i = 0; i < matching.length; i++)
+                if (waitNanos > 0)
+                    matching[i].waiting(-1);
+        }
+        return null;
+    }
+
+    private static boolean sleep(long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+        return true;
+    }
+
+    /** Feeds the outcome of a call back into the limits on its path */
+    public void onResult(String path, Object result) {
+        Limit[] matching = getLimits(path);
+        if (matching.length == 0)
+            return;
+
+        if (result instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)result;
+            if (!isThrottling(error))
+                return;
+            long holdNanos = error.retryAfterSeconds != null ? TimeUnit.SECONDS.toNanos(error.retryAfterSeconds.longValue()) : 0;
+            for (Limit limit : matching)
+                limit.throttled(System.nanoTime(), holdNanos);
+        } else {
+            for (Limit limit : matching)
+                limit.recover();
+        }
+    }
+
+    public static boolean isThrottling(PlayFabError error) {
+        return error.httpCode == 429
+            || error.pfErrorCode == PlayFabErrorCode.APIRequestLimitExceeded
+            || error.pfErrorCode == PlayFabErrorCode.APIClientRequestRateLimitExceeded
+            || error.pfErrorCode == PlayFabErrorCode.APIConcurrentRequestLimitExceeded;
+    }
+
+    public Map<String, LimitStats> getStats() {
+        Map<String, LimitStats> output = new TreeMap<String, LimitStats>();
+        for (Limit limit : limits.values())
+            output.put(limit.pathPrefix, limit.stats());
+        return output;
+    }
+
+    private Limit[] getLimits(String path) {
+        if (limits.isEmpty())
+            return NoLimits;
+        Limit[] matching = pathLimits.get(path);
+        if (matching == null) {
+            List<Limit> found = new ArrayList<Limit>();
+            for (Limit limit : limits.values())
+                if (path.startsWith(limit.pathPrefix))
+                    found.add(limit);
+            matching = found.toArray(new Limit[found.size()]);
+            pathLimits.put(path, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * One token bucket. Permits are handed out by reservation: a call that finds the bucket empty books the next free
+     * permit and sleeps until it is due, so waiting calls are served in arrival order without holding any lock
+     */
+    public static class Limit {
+        public final String pathPrefix;
+        public final double configuredRate;
+        public final int burst;
+        public final Mode mode;
+        public volatile long maxWaitMs = 5000; // Block: the longest a call waits for a permit before it is rejected
+        public volatile int maxQueued = 100; // Queue: the most calls that may wait at once
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private double rate;
+        private double storedPermits;
+        private long nextFreeNanos;
+        private int queued;
+        private final AtomicLong granted = new AtomicLong();
+        private final AtomicLong delayed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+
+        Limit(String pathPrefix, double permitsPerSecond, int burst, Mode mode) {
+            this.pathPrefix = pathPrefix;
+            this.configuredRate = permitsPerSecond;
+            this.burst = burst;
+            this.mode = mode;
+            this.rate = permitsPerSecond;
+            this.storedPermits = burst;
+            this.nextFreeNanos = System.nanoTime();
+        }
+
+        /**
+         * Decides whether a call may take a permit and books it under one lock. A call that must wait for its permit is
+         * counted as waiting in the same step, and must later call waiting(-1)
+         * @return -1 to reject the call, otherwise how long the caller must wait for its permit
+         */
+        long take(long now, long maxWaitNanos) {
+            lock.lock();
+            try {
+                refill(now);
+                if (storedPermits >= 1) {
+                    storedPermits -= 1;
+                    granted.incrementAndGet();
+                    return 0;
+                }
+                double missing = 1 - storedPermits;
+                long due = nextFreeNanos + (long) (missing * intervalNanos());
+                long waitNanos = due - now;
+                boolean admitted;
+                if (waitNanos > maxWaitNanos) {
+                    admitted = false;
+                } else {
+                    switch (mode) {
+                        case FailFast:
+                            admitted = false;
+                            break;
+                        case Queue:
+                            admitted = queued < maxQueued;
+                            break;
+                        default:
+                            admitted = waitNanos <= TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                            break;
+                    }
+                }
+                if (!admitted)
+                    return -1;
+                storedPermits = 0;
+                nextFreeNanos = due;
+                granted.incrementAndGet();
+                if (waitNanos <= 0)
+                    return 0;
+                delayed.incrementAndGet();
+                queued++;
+                return waitNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Gives back a permit booked by take() for a call that another limit then rejected */
+        void refund(long now, long waitNanos) {
+            lock.lock();
+            try {
+                refill(now);
+                granted.decrementAndGet();
+                if (waitNanos > 0) {
+                    delayed.decrementAndGet();
+                    queued--;
+                }
+                if (nextFreeNanos > now)
+                    nextFreeNanos = Math.max(now, nextFreeNanos - (long) intervalNanos());
+                else
+                    storedPermits = Math.min(burst, storedPermits + 1);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void waiting(int delta) {
+            lock.lock();
+            try {
+                queued += delta;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void throttled(long now, long holdNanos) {
+            throttled.incrementAndGet();
+            lock.lock();
+            try {
+                refill(now);
+                rate = Math.max(configuredRate * MinRateFraction, rate / 2);
+                storedPermits = 0;
+                if (holdNanos > 0 && now + holdNanos > nextFreeNanos)
+                    nextFreeNanos = now + holdNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void recover() {
+            lock.lock();
+            try {
+                if (rate < configuredRate)
+                    rate = Math.min(configuredRate, rate + configuredRate * RecoveryFraction);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill(long now) {
+            if (now > nextFreeNanos) {
+                storedPermits = Math.min(burst, storedPermits + (now - nextFreeNanos) / intervalNanos());
+                nextFreeNanos = now;
+            }
+        }
+
+        private double intervalNanos() {
+            return 1000000000.0 / rate;
+        }
+
+        LimitStats stats() {
+            LimitStats output = new LimitStats();
+            output.pathPrefix = pathPrefix;
+            output.mode = mode;
+            output.configuredRate = configuredRate;
+            output.burst = burst;
+            lock.lock();
+            try {
+                refill(System.nanoTime());
+                output.currentRate = rate;
+                output.availablePermits = storedPermits;
+                output.waiting = queued;
+            } finally {
+                lock.unlock();
+            }
+            output.granted = granted.get();
+            output.delayed = delayed.get();
+            output.rejected = rejected.get();
+            output.throttled = throttled.get();
+            return output;
+        }
+    }
+
+    public static class LimitStats {
+        public String pathPrefix;
+        public Mode mode;
+        public double configuredRate;
+        public double currentRate; // Below configuredRate while recovering from throttling
+        public int burst;
+        public double availablePermits;
+        public int waiting; // Calls currently sleeping for a permit
+        public long granted;
+        public long delayed; // Granted calls that had to wait for their permit
+        public long rejected;
+        public long throttled; // Throttling errors PlayFab returned on this limit's paths
+    }
+}
@@ -0,0 +1,44 @@
+package com.playfab.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * The wire layer underneath PlayFabHTTP. Implementations own connection management (pooling, keep-alive, multiplexing),
+ * while PlayFabHTTP owns the PlayFab envelope (serialization, error mapping).
+ * Install a custom implementation with PlayFabHTTP.setTransport
+ */
+public interface PlayFabTransport {
+    /**
+     * Posts a body to the given url
+     * @param url Fully qualified url, as built by PlayFabSettings.GetURL
+     * @param headers Request headers, including the auth header when one applies
+     * @param body The json request body, written by the transport straight into its connection
+     * @param deadline The call's deadline: connect and read timeouts come from it, and the connection in flight must be
+     *     registered with it (setInFlight) until the response is closed, so that cancelling the call aborts it
+     * @return The response, which must always be closed by the caller so the connection can be reused
+     * @throws java.net.ConnectException Only when no connection could be had, so none of the request was sent: PlayFabHTTP
+     *     retries those even for calls that are not safe to run twice
+     */
+    Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException;
+
+    /**
+     * Opens connections to the host of the given url ahead of time, so the first real calls do not pay for the TLS handshake
+     * @param url Any url on the target host
+     * @param connections The number of connections to establish
+     * @return The number of connections that were successfully established
+     */
+    int prewarm(String url, int connections);
+
+    public static abstract class Response implements Closeable {
+        public int httpCode;
+
+        /** The response body (or the error body for non-2xx codes). May be null when the server sent no body */
+        public abstract InputStream getBody() throws IOException;
+
+        /** Drains any unread body and hands the connection back for reuse */
+        public abstract void close();
+    }
+}
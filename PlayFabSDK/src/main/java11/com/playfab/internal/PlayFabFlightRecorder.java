@@ -0,0 +1,140 @@
+package com.playfab.internal;
+
+import java.lang.reflect.Type;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder events for PlayFab API calls (Java 11+).
+ * com.playfab.ApiCall spans PlayFabHTTP's handling of one call, with the endpoint, sizes, outcome and phase timings, and a
+ * stack trace that leads back to the code that made the call; com.playfab.Deserialize spans the decode of one response.
+ * Both are enabled by the default and profile recording settings. When no recording is running, each call costs one
+ * check of a flag and allocates nothing. Runtimes without the jdk.jfr module quietly record nothing
+ */
+public class PlayFabFlightRecorder {
+    private static final EventType callType;
+    private static final EventType decodeType;
+
+    static {
+        EventType call = null, decode = null;
+        try {
+            call = EventType.getEventType(ApiCallEvent.class);
+            decode = EventType.getEventType(DeserializeEvent.class);
+        } catch (LinkageError e) {
+            call = null;
+            decode = null;
+        }
+        callType = call;
+        decodeType = decode;
+    }
+
+    /** True when this runtime can record PlayFab events */
+    public static boolean isSupported() {
+        return callType != null;
+    }
+
+    /** Starts timing an API call; returns the event to pass to commitCall, or null when the event is not being recorded */
+    public static Object beginCall() {
+        if (callType == null || !callType.isEnabled())
+            return null;
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitCall(Object token, PlayFabMetricsRecorder.Call call) {
+        if (token == null)
+            return;
+        ApiCallEvent event = (ApiCallEvent) token;
+        event.end();
+        if (!event.shouldCommit())
+            return;
+        event.endpoint = call.path;
+        event.httpCode = call.httpCode;
+        event.errorCode = call.errorCode != null ? call.errorCode.name() : null;
+        event.requestBytes = call.requestBytes;
+        event.responseBytes = call.responseBytes;
+        event.serializeTime = call.serializeNanos;
+        event.timeToFirstByte = call.timeToFirstByteNanos;
+        event.deserializeTime = call.deserializeNanos;
+        event.commit();
+    }
+
+    /** Starts timing the decode of one response; returns the event to pass to commitDecode, or null */
+    public static Object beginDecode() {
+        if (decodeType == null || !decodeType.isEnabled())
+            return null;
+        DeserializeEvent event = new DeserializeEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitDecode(Object token, String path, Type resultType, long bytes) {
+        if (token == null)
+            return;
+        DeserializeEvent event = (DeserializeEvent) token;
+        event.end();
+        if (!event.shouldCommit())
+            return;
+        event.endpoint = path;
+        event.resultType = resultType != null ? resultType.getTypeName() : null;
+        event.bytes = bytes;
+        event.commit();
+    }
+
+    @Name("com.playfab.ApiCall")
+    @Label("PlayFab API Call")
+    @Category("PlayFab")
+    @Description("One call to a PlayFab API, from serializing the request to decoding the response")
+    @StackTrace(true)
+    static class ApiCallEvent extends Event {
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("HTTP Code")
+        int httpCode;
+
+        @Label("Error Code")
+        @Description("The PlayFabErrorCode of a failed call, empty for a successful one")
+        String errorCode;
+
+        @Label("Request Size")
+        @DataAmount
+        long requestBytes;
+
+        @Label("Response Size")
+        @DataAmount
+        long responseBytes;
+
+        @Label("Serialize Time")
+        @Timespan
+        long serializeTime;
+
+        @Label("Time To First Byte")
+        @Description("Sending the request until the response status arrived, including waiting for a connection")
+        @Timespan
+        long timeToFirstByte;
+
+        @Label("Deserialize Time")
+        @Description("Reading and decoding the response body")
+        @Timespan
+        long deserializeTime;
+    }
+
+    @Name("com.playfab.Deserialize")
+    @Label("PlayFab Response Decode")
+    @Category("PlayFab")
+    @Description("Decoding one PlayFab response body into result models, as it streams in")
+    @StackTrace(false)
+    static class DeserializeEvent extends Event {
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("Result Type")
+        String resultType;
+
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+}
@@ -0,0 +1,148 @@
+package com.playfab;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabGsonCodec;
+
+/**
+ * The generated adapters must produce and accept exactly the json Gson's reflective adapters do, for every model class
+ */
+public class PlayFabModelAdaptersTest
+{
+    private static final Class<?>[] modelFiles = new Class<?>[] {
+        PlayFabAdminModels.class, PlayFabAuthenticationModels.class, PlayFabClientModels.class, PlayFabCloudScriptModels.class,
+        PlayFabDataModels.class, PlayFabEventsModels.class, PlayFabGroupsModels.class, PlayFabLocalizationModels.class,
+        PlayFabMatchmakerModels.class, PlayFabProfilesModels.class, PlayFabServerModels.class
+    };
+
+    private final Gson reflective = new GsonBuilder().setDateFormat(PlayFabGsonCodec.DateFormat).create();
+    private final Gson generated = PlayFabGsonCodec.createGson();
+
+    private static List<Class<?>> modelClasses()
+    {
+        List<Class<?>> output = new ArrayList<Class<?>>();
+        for (Class<?> file : modelFiles)
+            for (Class<?> model : file.getClasses())
+                if (!model.isEnum() && !model.isInterface() && !Modifier.isAbstract(model.getModifiers()))
+                    output.add(model);
+        return output;
+    }
+
+    @Test
+    public void EveryModelHasAGeneratedAdapter()
+    {
+        for (Class<?> file : modelFiles)
+            for (Class<?> model : file.getClasses())
+                if (!model.isInterface())
+                    assertNotNull(model.getName(), PlayFabModelAdapters.FACTORY.create(generated, com.google.gson.reflect.TypeToken.get(model)));
+    }
+
+    @Test
+    public void WritesTheSameJsonAsReflection() throws Exception
+    {
+        for (Class<?> model : modelClasses()) {
+            for (int seed = 0; seed < 4; seed++) {
+                Object value = populate(model, new Random(model.getName().hashCode() * 31 + seed));
+                assertEquals(model.getName(), reflective.toJson(value), generated.toJson(value));
+            }
+        }
+    }
+
+    @Test
+    public void ReadsTheSameJsonAsReflection() throws Exception
+    {
+        for (Class<?> model : modelClasses()) {
+            for (int seed = 0; seed < 4; seed++) {
+                String json = reflective.toJson(populate(model, new Random(model.getName().hashCode() * 17 + seed)));
+                assertEquals(model.getName(), reflective.toJson(reflective.fromJson(json, model)), reflective.toJson(generated.fromJson(json, model)));
+            }
+        }
+    }
+
+    @Test
+    public void SkipsUnknownNamesAndEnumValues()
+    {
+        String json = "{\"Unknown\":{\"Nested\":[1,2,{\"x\":null}]},\"Region\":\"NotARegion\",\"CatalogVersion\":\"v1\",\"PlayFabId\":\"ABC\"}";
+        PlayFabServerModels.GetPlayerProfileRequest reflectiveRequest = reflective.fromJson(json, PlayFabServerModels.GetPlayerProfileRequest.class);
+        PlayFabServerModels.GetPlayerProfileRequest generatedRequest = generated.fromJson(json, PlayFabServerModels.GetPlayerProfileRequest.class);
+        assertEquals(reflective.toJson(reflectiveRequest), reflective.toJson(generatedRequest));
+        assertEquals("ABC", generatedRequest.PlayFabId);
+
+        String enumJson = "{\"Region\":\"NotARegion\"}";
+        assertNull(generated.fromJson(enumJson, PlayFabClientModels.CurrentGamesRequest.class).Region);
+        assertNull(reflective.fromJson(enumJson, PlayFabClientModels.CurrentGamesRequest.class).Region);
+    }
+
+    @Test
+    public void RoundTripsTheEnvelopes()
+    {
+        String json = "{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"a\":\"1\",\"b\":\"2\"}}}";
+        Type type = new com.google.gson.reflect.TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>>(){}.getType();
+        PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult> envelope = generated.fromJson(json, type);
+        assertEquals(200, envelope.code);
+        assertEquals("2", envelope.data.Data.get("b"));
+        assertEquals(reflective.toJson(reflective.fromJson(json, type)), generated.toJson(envelope));
+
+        String error = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Invalid\",\"errorDetails\":{\"Keys\":[\"too many\"]}}";
+        assertEquals(reflective.toJson(reflective.fromJson(error, PlayFabJsonError.class)), generated.toJson(generated.fromJson(error, PlayFabJsonError.class)));
+    }
+
+    // A model with every field set to a random value, or left null about one time in four so omission is covered too
+    private static Object populate(Class<?> model, Random random) throws Exception
+    {
+        return value(model, random, 0);
+    }
+
+    private static Object value(Type type, Random random, int depth) throws Exception
+    {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType generic = (ParameterizedType) type;
+            Type[] arguments = generic.getActualTypeArguments();
+            int size = random.nextInt(3);
+            if (List.class.isAssignableFrom((Class<?>) generic.getRawType())) {
+                ArrayList<Object> list = new ArrayList<Object>();
+                for (int i = 0; i < size; i++)
+                    list.add(value(arguments[0], random, depth + 1));
+                return list;
+            }
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            for (int i = 0; i < size; i++)
+                map.put("Key" + i, value(arguments[1], random, depth + 1));
+            return map;
+        }
+
+        Class<?> raw = (Class<?>) type;
+        if (raw == String.class)
+            return random.nextInt(8) == 0 ? "Quote \" slash \\ unicode é😀" : "Value" + random.nextInt(100000);
+        if (raw == Boolean.class)
+            return random.nextBoolean();
+        if (raw == Integer.class)
+            return random.nextInt() / 2;
+        if (raw == Long.class)
+            return random.nextLong() / 2;
+        if (raw == Double.class)
+            return random.nextInt(100000) / 100.0;
+        if (raw == Date.class)
+            return new Date(1500000000000L + random.nextInt(Integer.MAX_VALUE));
+        if (raw == Object.class)
+            return "Object" + random.nextInt(100000);
+        if (raw.isEnum())
+            return raw.getEnumConstants()[random.nextInt(raw.getEnumConstants().length)];
+        if (depth > 3)
+            return null;
+
+        Object model = raw.getDeclaredConstructor().newInstance();
+        for (Field field : raw.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && random.nextInt(4) != 0)
+                field.set(model, value(field.getGenericType(), random, depth + 1));
+        }
+        return model;
+    }
+}
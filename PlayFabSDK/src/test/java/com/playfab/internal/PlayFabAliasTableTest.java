@@ -0,0 +1,65 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+
+public class PlayFabAliasTableTest
+{
+    @Test
+    public void SamplesFollowTheWeights()
+    {
+        List<String> outcomes = Arrays.asList("common", "uncommon", "rare", "never", "epic");
+        double[] weights = { 50, 25, 15, 0, 10 };
+        PlayFabAliasTable<String> table = new PlayFabAliasTable<String>(outcomes, weights);
+
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        Random random = new Random(42);
+        int samples = 200000;
+        for (int i = 0; i < samples; i++) {
+            String outcome = table.sample(random);
+            Integer count = counts.get(outcome);
+            counts.put(outcome, count != null ? count + 1 : 1);
+        }
+
+        assertNull(counts.get("never"));
+        for (int i = 0; i < outcomes.size(); i++) {
+            Integer count = counts.get(outcomes.get(i));
+            double share = count != null ? count / (double) samples : 0;
+            assertEquals(outcomes.get(i), weights[i] / 100, share, 0.005);
+        }
+    }
+
+    @Test
+    public void ProbabilitiesAreTheNormalizedWeights()
+    {
+        PlayFabAliasTable<String> table = new PlayFabAliasTable<String>(Arrays.asList("a", "b", "c"), new double[] { 1, 1, 2 });
+        assertArrayEquals(new double[] { 0.25, 0.25, 0.5 }, table.getProbabilities(), 1e-12);
+        assertEquals(Arrays.asList("a", "b", "c"), table.getOutcomes());
+
+        PlayFabAliasTable<String> single = new PlayFabAliasTable<String>(Arrays.asList("only"), new double[] { 3 });
+        for (int i = 0; i < 100; i++)
+            assertEquals("only", single.sample(new Random(i)));
+    }
+
+    @Test
+    public void InvalidWeightsAreRejected()
+    {
+        assertRejected(Collections.<String>emptyList(), new double[0]);
+        assertRejected(Arrays.asList("a", "b"), new double[] { 1 });
+        assertRejected(Arrays.asList("a"), new double[] { -1 });
+        assertRejected(Arrays.asList("a"), new double[] { Double.NaN });
+        assertRejected(Arrays.asList("a"), new double[] { Double.POSITIVE_INFINITY });
+        assertRejected(Arrays.asList("a", "b"), new double[] { 0, 0 });
+    }
+
+    private static void assertRejected(List<String> outcomes, double[] weights)
+    {
+        try {
+            new PlayFabAliasTable<String>(outcomes, weights);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+public class PlayFabBulkheadsTest
+{
+    private final PlayFabBulkheads bulkheads = new PlayFabBulkheads();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void StopThreads()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void PathsUseTheCompartmentOfTheirLongestPrefix()
+    {
+        PlayFabBulkheads.Compartment interactive = bulkheads.define("interactive", 2, 10);
+        PlayFabBulkheads.Compartment bulk = bulkheads.define("bulk", 1, 0);
+        bulkheads.assign("/Server/", "interactive");
+        bulkheads.assign("/Server/GetPlayersInSegment", "bulk");
+
+        assertSame(interactive, bulkheads.forPath("/Server/GetUserData"));
+        assertSame(bulk, bulkheads.forPath("/Server/GetPlayersInSegment"));
+        assertNull(bulkheads.forPath("/Client/GetUserData"));
+
+        // A full compartment never holds up calls in another
+        assertNull(bulk.acquire(new PlayFabDeadline(0)));
+        assertNotNull(bulk.acquire(new PlayFabDeadline(0)));
+        assertNull(interactive.acquire(new PlayFabDeadline(0)));
+        assertNull(interactive.acquire(new PlayFabDeadline(0)));
+        assertEquals(2, bulkheads.getStats().get("interactive").active);
+
+        bulkheads.unassign("/Server/GetPlayersInSegment");
+        assertSame(interactive, bulkheads.forPath("/Server/GetPlayersInSegment"));
+    }
+
+    @Test
+    public void TheQueueNeverHoldsMoreThanMaxQueuedCalls() throws Exception
+    {
+        final PlayFabBulkheads.Compartment compartment = bulkheads.define("bulk", 1, 2);
+        assertNull(compartment.acquire(new PlayFabDeadline(0)));
+        Future<PlayFabError> first = queue(compartment, new PlayFabDeadline(0), 1);
+        Future<PlayFabError> second = queue(compartment, new PlayFabDeadline(0), 2);
+
+        PlayFabError error = compartment.acquire(new PlayFabDeadline(0));
+        assertEquals(PlayFabErrorCode.APIConcurrentRequestLimitExceeded, error.pfErrorCode);
+        assertEquals(0, error.httpCode);
+        assertTrue(error.errorMessage.contains("full"));
+        assertFalse(compartment.tryAcquire());
+
+        compartment.release();
+        assertNull(first.get(5, TimeUnit.SECONDS));
+        compartment.release();
+        assertNull(second.get(5, TimeUnit.SECONDS));
+        PlayFabBulkheads.CompartmentStats stats = compartment.stats();
+        assertEquals(1, stats.active);
+        assertEquals(1, stats.peakActive);
+        assertEquals(2, stats.queuedCalls);
+        assertEquals(1, stats.rejected);
+    }
+
+    @Test
+    public void QueuedCallsGetSlotsInArrivalOrder() throws Exception
+    {
+        final PlayFabBulkheads.Compartment compartment = bulkheads.define("bulk", 1, 10);
+        assertNull(compartment.acquire(new PlayFabDeadline(0)));
+
+        final List<Integer> served = new CopyOnWriteArrayList<Integer>();
+        List<Future<PlayFabError>> results = new ArrayList<Future<PlayFabError>>();
+        for (int i = 0; i < 5; i++) {
+            final int caller = i;
+            results.add(executor.submit(new Callable<PlayFabError>() {
+                public PlayFabError call() {
+                    PlayFabError error = compartment.acquire(new PlayFabDeadline(0));
+                    if (error == null) {
+                        served.add(caller);
+                        compartment.release();
+                    }
+                    return error;
+                }
+            }));
+            awaitQueued(compartment, i + 1);
+        }
+
+        // A slot freed while calls queue goes to the oldest of them, never to a newcomer
+        compartment.release();
+        assertFalse(compartment.tryAcquire());
+        for (Future<PlayFabError> result : results)
+            assertNull(result.get(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), served);
+        assertEquals(0, compartment.stats().active);
+    }
+
+    @Test
+    public void CancellingWakesAQueuedCall() throws Exception
+    {
+        PlayFabBulkheads.Compartment compartment = bulkheads.define("bulk", 1, 10);
+        assertNull(compartment.acquire(new PlayFabDeadline(0)));
+        PlayFabDeadline deadline = new PlayFabDeadline(0);
+        Future<PlayFabError> result = queue(compartment, deadline, 1);
+
+        long cancelled = System.nanoTime();
+        deadline.cancel();
+        PlayFabError error = result.get(5, TimeUnit.SECONDS);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelled) < 2000);
+        assertEquals(PlayFabErrorCode.APIConcurrentRequestLimitExceeded, error.pfErrorCode);
+        assertTrue(error.errorMessage.contains("Cancelled"));
+        assertEquals(0, compartment.stats().queued);
+
+        // The slot it was waiting for is not lost
+        compartment.release();
+        assertTrue(compartment.tryAcquire());
+    }
+
+    @Test
+    public void AQueuedCallGivesUpAfterMaxWaitOrItsDeadline()
+    {
+        PlayFabBulkheads.Compartment compartment = bulkheads.define("bulk", 1, 10);
+        assertNull(compartment.acquire(new PlayFabDeadline(0)));
+
+        long start = System.nanoTime();
+        assertTrue(compartment.acquire(new PlayFabDeadline(100)).errorMessage.contains("Timed out"));
+        compartment.maxWaitMs = 100;
+        assertTrue(compartment.acquire(new PlayFabDeadline(0)).errorMessage.contains("Timed out"));
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("took " + tookMs, tookMs >= 180 && tookMs < 2000);
+        assertEquals(0, compartment.stats().queued);
+        assertEquals(2, compartment.stats().rejected);
+    }
+
+    /** Starts a call that queues for the compartment, and waits until it is the queue's nth entry */
+    private Future<PlayFabError> queue(final PlayFabBulkheads.Compartment compartment, final PlayFabDeadline deadline, int position) throws Exception
+    {
+        Future<PlayFabError> result = executor.submit(new Callable<PlayFabError>() {
+            public PlayFabError call() {
+                return compartment.acquire(deadline);
+            }
+        });
+        awaitQueued(compartment, position);
+        return result;
+    }
+
+    private static void awaitQueued(PlayFabBulkheads.Compartment compartment, int queued) throws InterruptedException
+    {
+        long start = System.nanoTime();
+        while (compartment.stats().queued < queued && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5))
+            Thread.sleep(1);
+        assertEquals(queued, compartment.stats().queued);
+    }
+}
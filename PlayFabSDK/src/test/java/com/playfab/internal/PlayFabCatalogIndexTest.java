@@ -0,0 +1,114 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabErrors.PlayFabResult;
+import com.playfab.PlayFabServerModels.*;
+
+public class PlayFabCatalogIndexTest
+{
+    private final FixedCatalog catalog = new FixedCatalog();
+
+    @Test
+    public void ItemsAreIndexedByIdClassTagAndContents()
+    {
+        catalog.respond(item("chest", "Container", "loot"), item("sword", "Weapon", "melee", "loot"), item("bow", "Weapon"), item("pack", "Bundle"));
+        catalog.response.Result.Catalog.get(0).Container = new CatalogItemContainerInfo();
+        catalog.response.Result.Catalog.get(0).Container.ItemContents = new ArrayList<String>(Arrays.asList("sword", "missing"));
+        catalog.response.Result.Catalog.get(3).Bundle = new CatalogItemBundleInfo();
+        catalog.response.Result.Catalog.get(3).Bundle.BundledItems = new ArrayList<String>(Arrays.asList("bow", "bow", "sword"));
+        assertNull(catalog.refresh());
+
+        assertEquals("Weapon", catalog.getItem("sword").ItemClass);
+        assertNotSame(catalog.response.Result.Catalog.get(1), catalog.getItem("sword"));
+        assertEquals(2, catalog.getItemsByClass("Weapon").size());
+        assertEquals(2, catalog.getItemsByTag("loot").size());
+        assertEquals(1, catalog.getContents("chest").size());
+        assertEquals(3, catalog.getContents("pack").size());
+        assertEquals(Arrays.asList("chest", "pack"), ids(catalog.getBundlesAndContainersOf("sword")));
+        assertEquals(1, catalog.getBundlesAndContainersOf("bow").size());
+        assertTrue(catalog.getItemsByTag("none").isEmpty());
+    }
+
+    @Test
+    public void AnUnchangedCatalogKeepsItsSnapshot()
+    {
+        catalog.respond(item("sword", "Weapon"));
+        assertNull(catalog.refresh());
+        PlayFabCatalogIndex.Snapshot<CatalogItem> first = catalog.getSnapshot();
+
+        catalog.respond(item("sword", "Weapon"));
+        assertNull(catalog.refresh());
+        assertSame(first, catalog.getSnapshot());
+
+        catalog.respond(item("sword", "Weapon"), item("bow", "Weapon"));
+        assertNull(catalog.refresh());
+        assertEquals(first.revision + 1, catalog.getSnapshot().revision);
+        assertEquals(2, catalog.getItems().size());
+    }
+
+    @Test
+    public void AFailedLoadKeepsThePreviousSnapshot()
+    {
+        catalog.respond(item("sword", "Weapon"));
+        assertNull(catalog.refresh());
+
+        catalog.response = new PlayFabResult<GetCatalogItemsResult>();
+        catalog.response.Error = PlayFabHTTP.GeneratePfError(500, PlayFabErrorCode.ServiceUnavailable, "Down", null);
+        assertSame(catalog.response.Error, catalog.load("Other"));
+        assertNotNull(catalog.getItem("sword"));
+        assertEquals("Main", catalog.getCatalogVersion());
+
+        catalog.response = new PlayFabResult<GetCatalogItemsResult>();
+        PlayFabError error = catalog.refresh();
+        assertEquals(PlayFabErrorCode.Unknown, error.pfErrorCode);
+        catalog.response = null;
+        assertEquals(PlayFabErrorCode.Unknown, catalog.refresh().pfErrorCode);
+        assertNotNull(catalog.getItem("sword"));
+    }
+
+    private static CatalogItem item(String itemId, String itemClass, String... tags)
+    {
+        CatalogItem item = new CatalogItem();
+        item.ItemId = itemId;
+        item.ItemClass = itemClass;
+        item.Tags = tags.length > 0 ? new ArrayList<String>(Arrays.asList(tags)) : null;
+        return item;
+    }
+
+    private static List<String> ids(List<CatalogItem> items)
+    {
+        List<String> ids = new ArrayList<String>();
+        for (CatalogItem item : items)
+            ids.add(item.ItemId);
+        return ids;
+    }
+
+    /** A catalog that answers every fetch with whatever response it was last given */
+    private static class FixedCatalog extends PlayFabCatalogIndex<CatalogItem>
+    {
+        PlayFabResult<GetCatalogItemsResult> response;
+
+        FixedCatalog()
+        {
+            super("Main", CatalogItem.class);
+        }
+
+        void respond(CatalogItem... items)
+        {
+            response = new PlayFabResult<GetCatalogItemsResult>();
+            response.Result = new GetCatalogItemsResult();
+            response.Result.Catalog = new ArrayList<CatalogItem>(Arrays.asList(items));
+        }
+
+        protected PlayFabResult<?> fetch(String catalogVersion)
+        {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabCircuitBreaker.State;
+
+public class PlayFabCircuitBreakerTest
+{
+    private static final String Path = "/Server/GetTitleData";
+
+    private boolean enabled;
+    private int windowSize, minimumCalls, halfOpenCalls;
+    private double failureRateThreshold, slowCallRateThreshold;
+    private long slowCallMs, openMs;
+    private PlayFabCircuitBreaker breaker;
+
+    @Before
+    public void SetUp()
+    {
+        enabled = PlayFabSettings.CircuitBreakerEnabled;
+        windowSize = PlayFabSettings.CircuitWindowSize;
+        minimumCalls = PlayFabSettings.CircuitMinimumCalls;
+        failureRateThreshold = PlayFabSettings.CircuitFailureRateThreshold;
+        slowCallMs = PlayFabSettings.CircuitSlowCallMs;
+        slowCallRateThreshold = PlayFabSettings.CircuitSlowCallRateThreshold;
+        openMs = PlayFabSettings.CircuitOpenMs;
+        halfOpenCalls = PlayFabSettings.CircuitHalfOpenCalls;
+
+        PlayFabSettings.CircuitBreakerEnabled = true;
+        PlayFabSettings.CircuitWindowSize = 20;
+        PlayFabSettings.CircuitMinimumCalls = 10;
+        PlayFabSettings.CircuitFailureRateThreshold = 0.5;
+        PlayFabSettings.CircuitSlowCallMs = 1000;
+        PlayFabSettings.CircuitSlowCallRateThreshold = 0.8;
+        PlayFabSettings.CircuitOpenMs = 60000;
+        PlayFabSettings.CircuitHalfOpenCalls = 3;
+        breaker = new PlayFabCircuitBreaker();
+    }
+
+    @After
+    public void RestoreSettings()
+    {
+        PlayFabSettings.CircuitBreakerEnabled = enabled;
+        PlayFabSettings.CircuitWindowSize = windowSize;
+        PlayFabSettings.CircuitMinimumCalls = minimumCalls;
+        PlayFabSettings.CircuitFailureRateThreshold = failureRateThreshold;
+        PlayFabSettings.CircuitSlowCallMs = slowCallMs;
+        PlayFabSettings.CircuitSlowCallRateThreshold = slowCallRateThreshold;
+        PlayFabSettings.CircuitOpenMs = openMs;
+        PlayFabSettings.CircuitHalfOpenCalls = halfOpenCalls;
+    }
+
+    @Test
+    public void NeverOpensOnFewerThanTheMinimumCalls()
+    {
+        for (int i = 0; i < 9; i++)
+            call(error(503, PlayFabErrorCode.ServiceUnavailable), 0);
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertEquals(9, breaker.getStats(Path).windowCalls);
+        assertEquals(1.0, breaker.getStats(Path).failureRate, 0.0);
+
+        call(error(503, PlayFabErrorCode.ServiceUnavailable), 0);
+        assertEquals(State.Open, breaker.getState(Path));
+        assertEquals(1, breaker.getStats(Path).opened);
+        assertEquals(0, breaker.getStats(Path).windowCalls);
+    }
+
+    @Test
+    public void OpensWhenTheWindowReachesTheFailureRate()
+    {
+        for (int i = 0; i < 20; i++)
+            call(new Object(), 0);
+        for (int i = 0; i < 9; i++)
+            call(error(0, PlayFabErrorCode.ConnectionError), 0);
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertEquals(20, breaker.getStats(Path).windowCalls);
+        assertEquals(0.45, breaker.getStats(Path).failureRate, 1e-9);
+
+        call(error(500, PlayFabErrorCode.InternalServerError), 0);
+        assertEquals(State.Open, breaker.getState(Path));
+    }
+
+    @Test
+    public void OpensWhenTheWindowReachesTheSlowCallRate()
+    {
+        for (int i = 0; i < 4; i++)
+            call(new Object(), 0);
+        for (int i = 0; i < 15; i++)
+            call(new Object(), 2000);
+        assertEquals(State.Closed, breaker.getState(Path));
+        call(new Object(), 2000);
+        assertEquals(State.Open, breaker.getState(Path));
+    }
+
+    @Test
+    public void ErrorsAboutTheRequestCountAsSuccesses()
+    {
+        for (int i = 0; i < 50; i++) {
+            call(error(400, PlayFabErrorCode.InvalidParams), 0);
+            call(error(429, PlayFabErrorCode.APIRequestLimitExceeded), 0);
+        }
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertEquals(0.0, breaker.getStats(Path).failureRate, 0.0);
+    }
+
+    @Test
+    public void AnOpenCircuitRejectsUntilItsTimeIsUp() throws Exception
+    {
+        open();
+        PlayFabError rejected = breaker.acquire(Path);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, rejected.pfErrorCode);
+        assertEquals(0, rejected.httpCode);
+        assertNull(breaker.acquire("/Server/GetTime"));
+        assertEquals(1, breaker.getStats(Path).rejected);
+
+        breaker.reset();
+        PlayFabSettings.CircuitOpenMs = 50;
+        open();
+        assertEquals(State.Open, breaker.getState(Path));
+        Thread.sleep(100);
+        assertEquals(State.HalfOpen, breaker.getState(Path));
+        assertNull(breaker.acquire(Path));
+    }
+
+    @Test
+    public void HalfOpenClosesOnceEveryTrialSucceeds()
+    {
+        PlayFabSettings.CircuitOpenMs = 0;
+        open();
+        for (int i = 0; i < 3; i++)
+            assertNull(breaker.acquire(Path));
+        assertNotNull(breaker.acquire(Path));
+
+        breaker.onResult(Path, new Object(), 0);
+        breaker.onResult(Path, error(400, PlayFabErrorCode.InvalidParams), 0);
+        assertEquals(State.HalfOpen, breaker.getState(Path));
+        breaker.onResult(Path, new Object(), 0);
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertEquals(0, breaker.getStats(Path).windowCalls);
+        assertNull(breaker.acquire(Path));
+    }
+
+    @Test
+    public void HalfOpenReopensOnAFailedOrSlowTrial()
+    {
+        PlayFabSettings.CircuitOpenMs = 0;
+        open();
+        assertNull(breaker.acquire(Path));
+        PlayFabSettings.CircuitOpenMs = 60000;
+        breaker.onResult(Path, error(503, PlayFabErrorCode.ServiceUnavailable), 0);
+        assertEquals(State.Open, breaker.getState(Path));
+        assertEquals(2, breaker.getStats(Path).opened);
+
+        PlayFabSettings.CircuitOpenMs = 0;
+        breaker.reset();
+        open();
+        assertNull(breaker.acquire(Path));
+        PlayFabSettings.CircuitOpenMs = 60000;
+        breaker.onResult(Path, new Object(), 2000000000L);
+        assertEquals(State.Open, breaker.getState(Path));
+    }
+
+    @Test
+    public void ReleaseHandsBackATrialThatWasNeverMade()
+    {
+        PlayFabSettings.CircuitOpenMs = 0;
+        PlayFabSettings.CircuitHalfOpenCalls = 1;
+        open();
+        assertNull(breaker.acquire(Path));
+        assertNotNull(breaker.acquire(Path));
+        breaker.release(Path);
+        assertNull(breaker.acquire(Path));
+        breaker.onResult(Path, new Object(), 0);
+        assertEquals(State.Closed, breaker.getState(Path));
+    }
+
+    @Test
+    public void ResetClosesEveryCircuit()
+    {
+        open();
+        breaker.reset();
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertNull(breaker.getStats(Path));
+        assertNull(breaker.acquire(Path));
+    }
+
+    @Test
+    public void ADisabledBreakerLetsEveryCallThrough()
+    {
+        PlayFabSettings.CircuitBreakerEnabled = false;
+        for (int i = 0; i < 100; i++)
+            call(error(503, PlayFabErrorCode.ServiceUnavailable), 0);
+        assertEquals(State.Closed, breaker.getState(Path));
+        assertNull(breaker.acquire(Path));
+    }
+
+    private void open()
+    {
+        for (int i = 0; i < PlayFabSettings.CircuitMinimumCalls; i++)
+            call(error(503, PlayFabErrorCode.ServiceUnavailable), 0);
+    }
+
+    private void call(Object result, long elapsedMs)
+    {
+        assertNull(breaker.acquire(Path));
+        breaker.onResult(Path, result, elapsedMs * 1000000);
+    }
+
+    private static PlayFabError error(int httpCode, PlayFabErrorCode errorCode)
+    {
+        PlayFabError error = new PlayFabError();
+        error.httpCode = httpCode;
+        error.pfErrorCode = errorCode;
+        return error;
+    }
+}
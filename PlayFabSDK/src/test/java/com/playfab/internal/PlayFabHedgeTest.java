@@ -0,0 +1,212 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabHedgeTest
+{
+    private static final String Host = "https://hedgetest.example.com";
+    private static final Type ResultType = new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>>(){}.getType();
+    private static final AtomicInteger paths = new AtomicInteger();
+
+    private boolean hedgeReads, recordMetrics;
+    private double hedgeQuantile, hedgeBudgetPercent;
+    private long hedgeMinCalls;
+    private int hedgeMaxBurst;
+    private PlayFabTransport transport;
+    private PlayFabRetryPolicy retryPolicy;
+    private String path;
+
+    @Before
+    public void SetUp()
+    {
+        hedgeReads = PlayFabSettings.HedgeReads;
+        recordMetrics = PlayFabSettings.RecordMetrics;
+        hedgeQuantile = PlayFabSettings.HedgeQuantile;
+        hedgeBudgetPercent = PlayFabSettings.HedgeBudgetPercent;
+        hedgeMinCalls = PlayFabSettings.HedgeMinCalls;
+        hedgeMaxBurst = PlayFabSettings.HedgeMaxBurst;
+        transport = PlayFabHTTP.getTransport();
+        retryPolicy = PlayFabHTTP.getRetryPolicy();
+
+        PlayFabSettings.HedgeReads = true;
+        PlayFabSettings.RecordMetrics = true;
+        PlayFabSettings.HedgeQuantile = 0.5;
+        PlayFabSettings.HedgeBudgetPercent = 100;
+        PlayFabSettings.HedgeMinCalls = 10;
+        PlayFabSettings.HedgeMaxBurst = 10;
+        PlayFabHTTP.setRetryPolicy(null);
+
+        // Each test hedges its own path, so the latency PlayFabMetrics caches for one never decides another's hedge delay
+        path = "/Server/HedgeTest" + paths.incrementAndGet();
+        PlayFabHTTP.getHedgePolicy().getHedgeablePaths().add(path);
+        for (int i = 0; i < 10; i++) {
+            PlayFabMetricsRecorder.Call call = new PlayFabMetricsRecorder.Call();
+            call.path = path;
+            call.totalNanos = TimeUnit.MILLISECONDS.toNanos(50);
+            PlayFabHTTP.getMetrics().record(call);
+        }
+    }
+
+    @After
+    public void RestoreSettings()
+    {
+        PlayFabHTTP.getHedgePolicy().getHedgeablePaths().remove(path);
+        PlayFabSettings.HedgeReads = hedgeReads;
+        PlayFabSettings.RecordMetrics = recordMetrics;
+        PlayFabSettings.HedgeQuantile = hedgeQuantile;
+        PlayFabSettings.HedgeBudgetPercent = hedgeBudgetPercent;
+        PlayFabSettings.HedgeMinCalls = hedgeMinCalls;
+        PlayFabSettings.HedgeMaxBurst = hedgeMaxBurst;
+        PlayFabHTTP.setTransport(transport);
+        PlayFabHTTP.setRetryPolicy(retryPolicy);
+    }
+
+    @Test
+    public void ASlowReadIsHedgedAfterItsPathsLatency() throws Exception
+    {
+        SteppedTransport server = new SteppedTransport(new Step(5000, 200), new Step(0, 200));
+        PlayFabHTTP.setTransport(server);
+        long hedgeWins = PlayFabHTTP.getHedgePolicy().getStats().hedgeWins;
+
+        long start = System.nanoTime();
+        Object result = call();
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(result instanceof PlayFabJsonSuccess);
+        assertTrue("took " + tookMs, tookMs < 2000);
+        assertEquals(2, server.posts.get());
+        long hedgedAfterMs = TimeUnit.NANOSECONDS.toMillis(server.postedAt.get(1) - start);
+        assertTrue("hedged after " + hedgedAfterMs, hedgedAfterMs >= 50);
+        assertTrue(server.aborted.await(5, TimeUnit.SECONDS)); // The slow request is abandoned
+        assertEquals(hedgeWins + 1, PlayFabHTTP.getHedgePolicy().getStats().hedgeWins);
+    }
+
+    @Test
+    public void AFailedHedgeWaitsForTheFirstRequest() throws Exception
+    {
+        SteppedTransport server = new SteppedTransport(new Step(400, 200), new Step(0, 503));
+        PlayFabHTTP.setTransport(server);
+        long hedgeWins = PlayFabHTTP.getHedgePolicy().getStats().hedgeWins;
+
+        long start = System.nanoTime();
+        Object result = call();
+        assertTrue(result instanceof PlayFabJsonSuccess);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 350);
+        assertEquals(2, server.posts.get());
+        assertEquals(hedgeWins, PlayFabHTTP.getHedgePolicy().getStats().hedgeWins);
+    }
+
+    @Test
+    public void AFailedFirstRequestWaitsForTheHedge() throws Exception
+    {
+        SteppedTransport server = new SteppedTransport(new Step(150, 503), new Step(300, 200));
+        PlayFabHTTP.setTransport(server);
+        long hedgeWins = PlayFabHTTP.getHedgePolicy().getStats().hedgeWins;
+
+        assertTrue(call() instanceof PlayFabJsonSuccess);
+        assertEquals(2, server.posts.get());
+        assertEquals(hedgeWins + 1, PlayFabHTTP.getHedgePolicy().getStats().hedgeWins);
+    }
+
+    @Test
+    public void TheCallFailsOnlyWhenBothRequestsFail() throws Exception
+    {
+        SteppedTransport server = new SteppedTransport(new Step(300, 503), new Step(0, 500));
+        PlayFabHTTP.setTransport(server);
+
+        long start = System.nanoTime();
+        Object result = call();
+        assertTrue(result instanceof PlayFabError);
+        assertEquals(503, ((PlayFabError) result).httpCode);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 250);
+        assertEquals(2, server.posts.get());
+    }
+
+    @Test
+    public void AFailureBeforeTheHedgeIsDueIsReturnedAtOnce() throws Exception
+    {
+        SteppedTransport server = new SteppedTransport(new Step(0, 503), new Step(0, 200));
+        PlayFabHTTP.setTransport(server);
+
+        long start = System.nanoTime();
+        Object result = call();
+        assertTrue(result instanceof PlayFabError);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 40);
+        Thread.sleep(150);
+        assertEquals(1, server.posts.get());
+    }
+
+    private Object call() throws Exception
+    {
+        PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+        return PlayFabHTTP.doPostCall(Host + path, request, "X-SecretKey", "secret", ResultType, path, new PlayFabDeadline(10000));
+    }
+
+    private static class Step
+    {
+        final long delayMs;
+        final int httpCode;
+
+        Step(long delayMs, int httpCode)
+        {
+            this.delayMs = delayMs;
+            this.httpCode = httpCode;
+        }
+    }
+
+    /** Answers the nth post with the nth step, after its delay; a request cancelled while it waits is aborted */
+    private static class SteppedTransport implements PlayFabTransport
+    {
+        final Step[] steps;
+        final AtomicInteger posts = new AtomicInteger();
+        final List<Long> postedAt = new CopyOnWriteArrayList<Long>();
+        final CountDownLatch aborted = new CountDownLatch(1);
+
+        SteppedTransport(Step... steps)
+        {
+            this.steps = steps;
+        }
+
+        public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException
+        {
+            postedAt.add(System.nanoTime());
+            Step step = steps[Math.min(posts.getAndIncrement(), steps.length - 1)];
+            try {
+                if (!deadline.sleep(TimeUnit.MILLISECONDS.toNanos(step.delayMs))) {
+                    aborted.countDown();
+                    throw new IOException("Aborted");
+                }
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            final int httpCode = step.httpCode;
+            Response response = new Response() {
+                public InputStream getBody() throws IOException {
+                    return httpCode == 200 ? new ByteArrayInputStream("{\"code\":200,\"status\":\"OK\",\"data\":{}}".getBytes("UTF-8")) : null;
+                }
+
+                public void close() {
+                }
+            };
+            response.httpCode = httpCode;
+            return response;
+        }
+
+        public int prewarm(String url, int connections)
+        {
+            return 0;
+        }
+    }
+}
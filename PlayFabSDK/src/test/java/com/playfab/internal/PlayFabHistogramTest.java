@@ -0,0 +1,125 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class PlayFabHistogramTest
+{
+    @Test
+    public void EmptySnapshotIsAllZero()
+    {
+        PlayFabHistogram.Snapshot snapshot = new PlayFabHistogram(6, 1000000).snapshot();
+        assertEquals(0, snapshot.count);
+        assertEquals(0, snapshot.min);
+        assertEquals(0, snapshot.max);
+        assertEquals(0, snapshot.p50);
+        assertEquals(0, snapshot.getPercentile(0.99));
+        assertEquals(0.0, snapshot.mean, 0.0);
+    }
+
+    @Test
+    public void SmallValuesAreExact()
+    {
+        PlayFabHistogram histogram = new PlayFabHistogram(6, 1000000);
+        for (int value = 1; value <= 63; value++)
+            histogram.record(value);
+        PlayFabHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(63, snapshot.count);
+        assertEquals(63 * 64 / 2, snapshot.sum);
+        assertEquals(1, snapshot.min);
+        assertEquals(63, snapshot.max);
+        assertEquals(32, snapshot.p50);
+        assertEquals(57, snapshot.p90);
+        assertEquals(63, snapshot.p999);
+        for (int rank = 1; rank <= 63; rank++)
+            assertEquals(rank, snapshot.getPercentile((rank - 0.5) / 63));
+    }
+
+    @Test
+    public void PercentilesStayWithinTheBucketPrecision()
+    {
+        for (int bits = 2; bits <= 10; bits++) {
+            Random random = new Random(bits);
+            PlayFabHistogram histogram = new PlayFabHistogram(bits, 1L << 40);
+            long[] values = new long[20000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) Math.exp(random.nextDouble() * 25); // Spread over every power of two up to 2^36
+                histogram.record(values[i]);
+            }
+            Arrays.sort(values);
+            PlayFabHistogram.Snapshot snapshot = histogram.snapshot();
+            assertEquals(values[0], snapshot.min);
+            assertEquals(values[values.length - 1], snapshot.max);
+
+            double precision = 1.0 / (1 << (bits - 1));
+            double[] quantiles = new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999 };
+            for (double quantile : quantiles) {
+                long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+                long estimate = snapshot.getPercentile(quantile);
+                assertTrue("bits " + bits + " q" + quantile + ": " + estimate + " for " + exact,
+                    Math.abs(estimate - exact) <= Math.max(1, exact * precision));
+            }
+        }
+    }
+
+    @Test
+    public void EveryValueFallsInTheBucketThatCoversIt()
+    {
+        // With 4 significant bits, values below 16 are exact and every other bucket is 1/8 of its power of two wide,
+        // so the middle of the bucket a value lands in is within 1/16 of it
+        for (long value = 0; value < 100000; value += 1 + value / 50) {
+            PlayFabHistogram histogram = new PlayFabHistogram(4, 1L << 30);
+            histogram.record(0);
+            histogram.record(value);
+            histogram.record(1L << 29);
+            long median = histogram.snapshot().getPercentile(0.5);
+            assertTrue(value + " read as " + median, Math.abs(median - value) <= value / 16);
+        }
+    }
+
+    @Test
+    public void OutOfRangeValuesAreClamped()
+    {
+        PlayFabHistogram histogram = new PlayFabHistogram(6, 10000);
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        PlayFabHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.count);
+        assertEquals(0, snapshot.min);
+        assertEquals(10000, snapshot.max);
+        assertEquals(10000, snapshot.sum);
+        assertEquals(5000.0, snapshot.mean, 0.0);
+    }
+
+    @Test
+    public void ConcurrentRecordsAreAllCounted() throws Exception
+    {
+        final PlayFabHistogram histogram = new PlayFabHistogram(6, 1L << 30);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int thread = 0; thread < 8; thread++) {
+            final int offset = thread;
+            futures.add(executor.submit(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 100000; i++)
+                        histogram.record(offset * 1000 + i % 1000);
+                }
+            }));
+        }
+        for (Future<?> future : futures)
+            future.get();
+        executor.shutdown();
+
+        PlayFabHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(800000, snapshot.count);
+        assertEquals(0, snapshot.min);
+        assertEquals(7999, snapshot.max);
+        long expectedSum = 0;
+        for (int thread = 0; thread < 8; thread++)
+            expectedSum += 100L * (thread * 1000L * 1000 + 999 * 1000 / 2);
+        assertEquals(expectedSum, snapshot.sum);
+    }
+}
@@ -0,0 +1,58 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.Map;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+public class PlayFabMetricsTest
+{
+    private static final String Path = "/Server/GetTitleData";
+
+    @Test
+    public void PercentilesWaitForTheMinimumCalls()
+    {
+        PlayFabMetrics metrics = new PlayFabMetrics();
+        assertEquals(-1, metrics.getLatencyPercentile(Path, 0.5, 10));
+        for (int i = 1; i <= 10; i++)
+            metrics.record(call(i, null));
+        assertEquals(-1, metrics.getLatencyPercentile(Path, 0.5, 11));
+        assertEquals(5, metrics.getLatencyPercentile(Path, 0.5, 10));
+        assertEquals(10, metrics.getLatencyPercentile(Path, 1.0, 10));
+    }
+
+    @Test
+    public void SnapshotAndResetKeepsTheLatencyHistory()
+    {
+        PlayFabMetrics metrics = new PlayFabMetrics();
+        for (int i = 0; i < 100; i++)
+            metrics.record(call(40000, i % 10 == 0 ? PlayFabErrorCode.ServiceUnavailable : null));
+
+        Map<String, PlayFabMetrics.EndpointSnapshot> interval = metrics.snapshotAndReset();
+        assertEquals(100, interval.get(Path).calls);
+        assertEquals(10, interval.get(Path).errorCount);
+        assertTrue(metrics.snapshot().isEmpty());
+
+        long p95 = metrics.getLatencyPercentile(Path, 0.95, 100);
+        assertTrue(String.valueOf(p95), Math.abs(p95 - 40000) <= 40000 / 32);
+    }
+
+    @Test
+    public void PathsComeFromTheUrl()
+    {
+        assertEquals("/Server/GetUserData", PlayFabMetrics.apiPath("https://title.playfabapi.com/Server/GetUserData?sdk=JavaSDK"));
+        assertEquals("/Client/LoginWithCustomID", PlayFabMetrics.apiPath("https://title.playfabapi.com/Client/LoginWithCustomID"));
+        assertEquals("/", PlayFabMetrics.apiPath("https://title.playfabapi.com"));
+    }
+
+    private static PlayFabMetricsRecorder.Call call(long totalMicros, PlayFabErrorCode errorCode)
+    {
+        PlayFabMetricsRecorder.Call call = new PlayFabMetricsRecorder.Call();
+        call.path = Path;
+        call.totalNanos = totalMicros * 1000;
+        call.errorCode = errorCode;
+        return call;
+    }
+}
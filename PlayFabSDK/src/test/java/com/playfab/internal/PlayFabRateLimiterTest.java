@@ -0,0 +1,210 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+public class PlayFabRateLimiterTest
+{
+    private static final String Path = "/Server/GetTitleData";
+
+    @Test
+    public void PathsWithoutALimitAreNeverDelayed()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit("/Client/", 1, 1, PlayFabRateLimiter.Mode.FailFast);
+        for (int i = 0; i < 100; i++)
+            assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+    }
+
+    @Test
+    public void FailFastRejectsOnceTheBurstIsSpent()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit("/Server/", 0.01, 3, PlayFabRateLimiter.Mode.FailFast);
+        for (int i = 0; i < 3; i++)
+            assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        PlayFabError error = limiter.acquire(Path, new PlayFabDeadline(0));
+        assertEquals(PlayFabErrorCode.APIClientRequestRateLimitExceeded, error.pfErrorCode);
+        assertEquals(0, error.httpCode);
+
+        PlayFabRateLimiter.LimitStats stats = limiter.getStats().get("/Server/");
+        assertEquals(3, stats.granted);
+        assertEquals(1, stats.rejected);
+        assertEquals(0, stats.waiting);
+    }
+
+    @Test
+    public void EveryMatchingPrefixMustGrantAPermit()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit("/Server/", 0.01, 5, PlayFabRateLimiter.Mode.FailFast);
+        limiter.setLimit(Path, 0.01, 1, PlayFabRateLimiter.Mode.FailFast);
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        assertNotNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        assertNull(limiter.acquire("/Server/GetTime", new PlayFabDeadline(0)));
+        assertEquals(2, limiter.getStats().get("/Server/").granted);
+        assertEquals(1, limiter.getStats().get(Path).rejected);
+    }
+
+    @Test
+    public void ARejectedCallGivesBackThePermitsItTook()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit("/Server/", 0.01, 2, PlayFabRateLimiter.Mode.FailFast);
+        limiter.setLimit(Path, 0.01, 1, PlayFabRateLimiter.Mode.FailFast);
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        for (int i = 0; i < 10; i++)
+            assertNotNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+
+        assertNull(limiter.acquire("/Server/GetTime", new PlayFabDeadline(0)));
+        assertNotNull(limiter.acquire("/Server/GetTime", new PlayFabDeadline(0)));
+        PlayFabRateLimiter.LimitStats stats = limiter.getStats().get("/Server/");
+        assertEquals(2, stats.granted);
+        assertEquals(0, stats.waiting);
+    }
+
+    @Test
+    public void ConcurrentCallsNeverTakeMoreThanTheBurst() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit("/Server/", 0.01, 5, PlayFabRateLimiter.Mode.FailFast);
+        limiter.setLimit(Path, 0.01, 5, PlayFabRateLimiter.Mode.FailFast);
+        int callers = 64;
+        List<Future<PlayFabError>> results = startTogether(limiter, callers, new ArrayList<PlayFabDeadline>());
+        int granted = 0;
+        for (Future<PlayFabError> result : results)
+            if (result.get(5, TimeUnit.SECONDS) == null)
+                granted++;
+        assertEquals(5, granted);
+        assertEquals(5, limiter.getStats().get(Path).granted);
+        assertEquals(callers - 5, limiter.getStats().get(Path).rejected + limiter.getStats().get("/Server/").rejected);
+    }
+
+    @Test
+    public void BlockWaitsForTheNextPermit()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit(Path, 10, 1, PlayFabRateLimiter.Mode.Block);
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        long start = System.nanoTime();
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("waited " + waitedMs, waitedMs >= 80);
+        assertEquals(1, limiter.getStats().get(Path).delayed);
+    }
+
+    @Test
+    public void BlockRejectsAWaitLongerThanMaxWaitOrTheDeadline()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        PlayFabRateLimiter.Limit limit = limiter.setLimit(Path, 0.1, 1, PlayFabRateLimiter.Mode.Block);
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        assertNotNull(limiter.acquire(Path, new PlayFabDeadline(100)));
+        limit.maxWaitMs = 100;
+        assertNotNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+        assertNull(limiter.tryAcquire("/Server/GetTime"));
+        assertNotNull(limiter.tryAcquire(Path));
+        assertEquals(3, limiter.getStats().get(Path).rejected);
+    }
+
+    @Test
+    public void QueueNeverHoldsMoreThanMaxQueuedCalls() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        PlayFabRateLimiter.Limit limit = limiter.setLimit(Path, 0.01, 1, PlayFabRateLimiter.Mode.Queue);
+        limit.maxQueued = 3;
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+
+        int callers = 32;
+        List<PlayFabDeadline> deadlines = new ArrayList<PlayFabDeadline>();
+        List<Future<PlayFabError>> results = startTogether(limiter, callers, deadlines);
+        int rejected = 0;
+        for (Future<PlayFabError> result : results) {
+            try {
+                if (result.get(200, TimeUnit.MILLISECONDS) != null)
+                    rejected++;
+            } catch (TimeoutException e) {
+                // One of the queued calls
+            }
+        }
+        assertEquals(callers - 3, rejected);
+        assertEquals(3, limiter.getStats().get(Path).waiting);
+
+        for (PlayFabDeadline deadline : deadlines)
+            deadline.cancel();
+        for (Future<PlayFabError> result : results)
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getStats().get(Path).waiting);
+    }
+
+    @Test
+    public void CancellingWakesAWaitingCall() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit(Path, 0.05, 1, PlayFabRateLimiter.Mode.Queue);
+        assertNull(limiter.acquire(Path, new PlayFabDeadline(0)));
+
+        List<PlayFabDeadline> deadlines = new ArrayList<PlayFabDeadline>();
+        Future<PlayFabError> result = startTogether(limiter, 1, deadlines).get(0);
+        long waitStart = System.nanoTime();
+        while (limiter.getStats().get(Path).waiting == 0 && System.nanoTime() - waitStart < TimeUnit.SECONDS.toNanos(5))
+            Thread.sleep(1);
+        long cancelled = System.nanoTime();
+        deadlines.get(0).cancel();
+        PlayFabError error = result.get(5, TimeUnit.SECONDS);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelled) < 2000);
+        assertTrue(error.errorMessage.contains("Cancelled"));
+        assertEquals(0, limiter.getStats().get(Path).waiting);
+    }
+
+    @Test
+    public void ThrottlingHalvesTheRateAndSuccessesRestoreIt()
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter();
+        limiter.setLimit(Path, 100, 10, PlayFabRateLimiter.Mode.Block);
+        PlayFabError throttled = new PlayFabError();
+        throttled.httpCode = 429;
+        limiter.onResult(Path, throttled);
+        assertEquals(50, limiter.getStats().get(Path).currentRate, 1e-9);
+        for (int i = 0; i < 10; i++)
+            limiter.onResult(Path, throttled);
+        assertEquals(10, limiter.getStats().get(Path).currentRate, 1e-9);
+
+        limiter.onResult(Path, new Object());
+        assertEquals(15, limiter.getStats().get(Path).currentRate, 1e-9);
+        for (int i = 0; i < 100; i++)
+            limiter.onResult(Path, new Object());
+        assertEquals(100, limiter.getStats().get(Path).currentRate, 1e-9);
+        assertEquals(11, limiter.getStats().get(Path).throttled);
+    }
+
+    /** Starts each caller on its own thread, releasing them all at once */
+    private static List<Future<PlayFabError>> startTogether(final PlayFabRateLimiter limiter, int callers, List<PlayFabDeadline> deadlines) throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final CountDownLatch ready = new CountDownLatch(callers);
+        final CountDownLatch go = new CountDownLatch(1);
+        List<Future<PlayFabError>> results = new ArrayList<Future<PlayFabError>>();
+        for (int i = 0; i < callers; i++) {
+            final PlayFabDeadline deadline = new PlayFabDeadline(0);
+            deadlines.add(deadline);
+            results.add(executor.submit(new Callable<PlayFabError>() {
+                public PlayFabError call() throws Exception {
+                    ready.countDown();
+                    go.await();
+                    return limiter.acquire(Path, deadline);
+                }
+            }));
+        }
+        ready.await();
+        go.countDown();
+        executor.shutdown();
+        return results;
+    }
+}
@@ -0,0 +1,304 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabErrors.PlayFabJsonError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabRetryPolicyTest
+{
+    private static final String ReadPath = "/Server/GetTitleData";
+    private static final String WritePath = "/Server/UpdateUserData";
+    private static final Type ResultType = new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>>(){}.getType();
+
+    private int maxAttempts;
+    private long baseDelayMs, maxDelayMs, budgetMs;
+    private int bucketSize, tokenCost;
+    private PlayFabTransport transport;
+    private PlayFabRetryPolicy retryPolicy;
+
+    @Before
+    public void SaveSettings()
+    {
+        maxAttempts = PlayFabSettings.RetryMaxAttempts;
+        baseDelayMs = PlayFabSettings.RetryBaseDelayMs;
+        maxDelayMs = PlayFabSettings.RetryMaxDelayMs;
+        budgetMs = PlayFabSettings.RetryBudgetMs;
+        bucketSize = PlayFabSettings.RetryTokenBucketSize;
+        tokenCost = PlayFabSettings.RetryTokenCost;
+        transport = PlayFabHTTP.getTransport();
+        retryPolicy = PlayFabHTTP.getRetryPolicy();
+    }
+
+    @After
+    public void RestoreSettings()
+    {
+        PlayFabSettings.RetryMaxAttempts = maxAttempts;
+        PlayFabSettings.RetryBaseDelayMs = baseDelayMs;
+        PlayFabSettings.RetryMaxDelayMs = maxDelayMs;
+        PlayFabSettings.RetryBudgetMs = budgetMs;
+        PlayFabSettings.RetryTokenBucketSize = bucketSize;
+        PlayFabSettings.RetryTokenCost = tokenCost;
+        PlayFabHTTP.setTransport(transport);
+        PlayFabHTTP.setRetryPolicy(retryPolicy);
+    }
+
+    @Test
+    public void DelaysStayBetweenTheBaseAndThreeTimesThePreviousDelay()
+    {
+        PlayFabSettings.RetryMaxAttempts = 1000;
+        PlayFabSettings.RetryBaseDelayMs = 100;
+        PlayFabSettings.RetryMaxDelayMs = 5000;
+        PlayFabSettings.RetryBudgetMs = Long.MAX_VALUE;
+        PlayFabSettings.RetryTokenCost = 0;
+        PlayFabRetryPolicy policy = new PlayFabRetryPolicy();
+        PlayFabError error = error(503, PlayFabErrorCode.ServiceUnavailable);
+
+        long previous = 0;
+        boolean reachedCap = false;
+        for (int attempt = 1; attempt < 1000; attempt++) {
+            long delay = policy.nextDelayMs(ReadPath, error, attempt, previous, 0, Long.MAX_VALUE);
+            assertTrue("attempt " + attempt + ": " + delay, delay >= 100);
+            assertTrue("attempt " + attempt + ": " + delay + " after " + previous, delay <= Math.max(100, Math.min(5000, previous * 3)));
+            reachedCap |= delay > 4000;
+            previous = delay;
+        }
+        assertTrue(reachedCap);
+        assertEquals(100, policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void RetryAfterIsNeverCutShort()
+    {
+        PlayFabError error = error(429, PlayFabErrorCode.APIRequestLimitExceeded);
+        error.retryAfterSeconds = 7;
+        PlayFabSettings.RetryMaxDelayMs = 1000;
+        PlayFabSettings.RetryBudgetMs = 15000;
+        assertEquals(7000, new PlayFabRetryPolicy().nextDelayMs(WritePath, error, 1, 0, 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void RetryAfterIsReadFromTheErrorBody() throws Exception
+    {
+        String body = "{\"code\":429,\"status\":\"TooManyRequests\",\"error\":\"APIClientRequestRateLimitExceeded\",\"errorCode\":1199,\"errorMessage\":\"Slow down\",\"retryAfterSeconds\":7}";
+        for (PlayFabJsonCodec codec : new PlayFabJsonCodec[] { new PlayFabGsonCodec(), new PlayFabStreamingJsonCodec() }) {
+            PlayFabJsonError decoded = (PlayFabJsonError) codec.decode(new ByteArrayInputStream(body.getBytes("UTF-8")), PlayFabJsonError.class);
+            assertEquals(Integer.valueOf(7), decoded.retryAfterSeconds);
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            codec.encode(decoded, encoded);
+            assertTrue(encoded.toString("UTF-8").contains("\"retryAfterSeconds\":7"));
+        }
+
+        // A 7 second wait does not fit the budget, so the write is not sent again however short RetryMaxDelayMs is
+        useFastRetries();
+        PlayFabSettings.RetryBudgetMs = 1000;
+        ScriptedTransport transport = new ScriptedTransport(body);
+        PlayFabHTTP.setTransport(transport);
+        PlayFabError error = (PlayFabError) call(WritePath, new PlayFabDeadline(10000));
+        assertEquals(Integer.valueOf(7), error.retryAfterSeconds);
+        assertEquals(1, transport.posts.get());
+
+        PlayFabSettings.RetryBudgetMs = 15000;
+        assertEquals(7000, new PlayFabRetryPolicy().nextDelayMs(WritePath, error, 1, 0, 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void GivesUpAfterTheLastAttempt()
+    {
+        PlayFabSettings.RetryMaxAttempts = 3;
+        PlayFabRetryPolicy policy = new PlayFabRetryPolicy();
+        PlayFabError error = error(503, PlayFabErrorCode.ServiceUnavailable);
+        assertTrue(policy.nextDelayMs(ReadPath, error, 2, 100, 100, Long.MAX_VALUE) > 0);
+        assertEquals(-1, policy.nextDelayMs(ReadPath, error, 3, 100, 200, Long.MAX_VALUE));
+        assertEquals(1, policy.getStats().attemptsExhausted);
+        assertEquals(1, policy.getStats().retries);
+    }
+
+    @Test
+    public void GivesUpWhenTheDelayWouldOverrunTheBudgetOrDeadline()
+    {
+        PlayFabSettings.RetryBaseDelayMs = 100;
+        PlayFabSettings.RetryMaxDelayMs = 100;
+        PlayFabSettings.RetryBudgetMs = 1000;
+        PlayFabRetryPolicy policy = new PlayFabRetryPolicy();
+        PlayFabError error = error(503, PlayFabErrorCode.ServiceUnavailable);
+        assertEquals(100, policy.nextDelayMs(ReadPath, error, 1, 0, 900, Long.MAX_VALUE));
+        assertEquals(-1, policy.nextDelayMs(ReadPath, error, 1, 0, 901, Long.MAX_VALUE));
+        assertEquals(-1, policy.nextDelayMs(ReadPath, error, 1, 0, 0, 100));
+        assertEquals(2, policy.getStats().budgetExhausted);
+    }
+
+    @Test
+    public void TheTokenBucketDrainsAndRefills()
+    {
+        PlayFabSettings.RetryTokenBucketSize = 10;
+        PlayFabSettings.RetryTokenCost = 5;
+        PlayFabRetryPolicy policy = new PlayFabRetryPolicy();
+        PlayFabError error = error(503, PlayFabErrorCode.ServiceUnavailable);
+        assertTrue(policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE) > 0);
+        assertTrue(policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE) > 0);
+        assertEquals(0, policy.getStats().tokensAvailable);
+        assertEquals(-1, policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE));
+        assertEquals(1, policy.getStats().tokensExhausted);
+
+        for (int i = 0; i < 4; i++)
+            policy.onSuccess(1);
+        assertEquals(-1, policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE));
+        policy.onSuccess(2);
+        assertEquals(5, policy.getStats().tokensAvailable);
+        assertEquals(1, policy.getStats().retriedSuccesses);
+        assertTrue(policy.nextDelayMs(ReadPath, error, 1, 0, 0, Long.MAX_VALUE) > 0);
+    }
+
+    @Test
+    public void WritesAreOnlyRetriedWhenTheRequestNeverRan()
+    {
+        PlayFabRetryPolicy policy = new PlayFabRetryPolicy();
+        assertTrue(policy.isRetryable(ReadPath, error(503, PlayFabErrorCode.ServiceUnavailable)));
+        assertTrue(policy.isRetryable(ReadPath, error(500, PlayFabErrorCode.InternalServerError)));
+        assertFalse(policy.isRetryable(WritePath, error(503, PlayFabErrorCode.ServiceUnavailable)));
+        assertFalse(policy.isRetryable(WritePath, error(500, PlayFabErrorCode.InternalServerError)));
+        assertFalse(policy.isRetryable(WritePath, error(200, PlayFabErrorCode.DownstreamServiceUnavailable)));
+        assertTrue(policy.isRetryable(WritePath, error(503, PlayFabErrorCode.ConnectionError)));
+        assertTrue(policy.isRetryable(WritePath, error(429, PlayFabErrorCode.Unknown)));
+        assertTrue(policy.isRetryable(WritePath, error(400, PlayFabErrorCode.APIConcurrentRequestLimitExceeded)));
+        assertFalse(policy.isRetryable(ReadPath, error(400, PlayFabErrorCode.InvalidParams)));
+
+        policy.getIdempotentPaths().add(WritePath);
+        assertTrue(policy.isRetryable(WritePath, error(503, PlayFabErrorCode.ServiceUnavailable)));
+    }
+
+    @Test
+    public void AWriteIsNotSentAgainAfterAServerError() throws Exception
+    {
+        useFastRetries();
+        ScriptedTransport transport = new ScriptedTransport(503);
+        PlayFabHTTP.setTransport(transport);
+        Object result = call(WritePath, new PlayFabDeadline(10000));
+        assertEquals(503, ((PlayFabError) result).httpCode);
+        assertEquals(1, transport.posts.get());
+
+        transport = new ScriptedTransport(503);
+        PlayFabHTTP.setTransport(transport);
+        result = call(ReadPath, new PlayFabDeadline(10000));
+        assertEquals(503, ((PlayFabError) result).httpCode);
+        assertEquals(3, transport.posts.get());
+    }
+
+    @Test
+    public void AWriteIsSentAgainWhenItNeverConnected() throws Exception
+    {
+        useFastRetries();
+        ScriptedTransport transport = new ScriptedTransport(new ConnectException("refused"), 200);
+        PlayFabHTTP.setTransport(transport);
+        Object result = call(WritePath, new PlayFabDeadline(10000));
+        assertFalse(String.valueOf(result), result instanceof PlayFabError);
+        assertEquals(2, transport.posts.get());
+    }
+
+    @Test
+    public void CancellingWakesTheWaitBeforeARetry() throws Exception
+    {
+        PlayFabSettings.RetryMaxAttempts = 3;
+        PlayFabSettings.RetryBaseDelayMs = 30000;
+        PlayFabSettings.RetryMaxDelayMs = 30000;
+        PlayFabSettings.RetryBudgetMs = 60000;
+        PlayFabHTTP.setRetryPolicy(new PlayFabRetryPolicy());
+        ScriptedTransport transport = new ScriptedTransport(503);
+        PlayFabHTTP.setTransport(transport);
+
+        final PlayFabDeadline deadline = new PlayFabDeadline(120000);
+        FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+            public Object call() throws Exception {
+                return PlayFabRetryPolicyTest.call(ReadPath, deadline);
+            }
+        });
+        new Thread(task).start();
+        assertTrue(transport.posted.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        long cancelled = System.nanoTime();
+        deadline.cancel();
+        Object result = task.get(10, TimeUnit.SECONDS);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelled) < 5000);
+        assertTrue(((PlayFabError) result).errorMessage.contains("cancelled"));
+        assertEquals(1, transport.posts.get());
+    }
+
+    private static void useFastRetries()
+    {
+        PlayFabSettings.RetryMaxAttempts = 3;
+        PlayFabSettings.RetryBaseDelayMs = 1;
+        PlayFabSettings.RetryMaxDelayMs = 2;
+        PlayFabSettings.RetryBudgetMs = 10000;
+        PlayFabHTTP.setRetryPolicy(new PlayFabRetryPolicy());
+    }
+
+    private static Object call(String path, PlayFabDeadline deadline) throws Exception
+    {
+        return PlayFabHTTP.doPostCall("https://retrytest.example.com" + path, new Object(), null, null, ResultType, path, deadline);
+    }
+
+    private static PlayFabError error(int httpCode, PlayFabErrorCode errorCode)
+    {
+        PlayFabError error = new PlayFabError();
+        error.httpCode = httpCode;
+        error.pfErrorCode = errorCode;
+        return error;
+    }
+
+    /**
+     * Answers each post with the next step of its script: an HTTP status, an error body, or an exception to throw. The last
+     * step repeats
+     */
+    private static class ScriptedTransport implements PlayFabTransport
+    {
+        final Object[] script;
+        final AtomicInteger posts = new AtomicInteger();
+        final CountDownLatch posted = new CountDownLatch(1);
+
+        ScriptedTransport(Object... script)
+        {
+            this.script = script;
+        }
+
+        public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException
+        {
+            Object step = script[Math.min(posts.getAndIncrement(), script.length - 1)];
+            posted.countDown();
+            if (step instanceof IOException)
+                throw (IOException) step;
+            final String errorBody = step instanceof String ? (String) step : null;
+            final int httpCode = errorBody != null ? 429 : (Integer) step;
+            Response response = new Response() {
+                public InputStream getBody() throws IOException {
+                    if (errorBody != null)
+                        return new ByteArrayInputStream(errorBody.getBytes("UTF-8"));
+                    return httpCode == 200 ? new ByteArrayInputStream("{\"code\":200,\"status\":\"OK\",\"data\":{}}".getBytes("UTF-8")) : null;
+                }
+
+                public void close() {
+                }
+            };
+            response.httpCode = httpCode;
+            return response;
+        }
+
+        public int prewarm(String url, int connections)
+        {
+            return 0;
+        }
+    }
+}
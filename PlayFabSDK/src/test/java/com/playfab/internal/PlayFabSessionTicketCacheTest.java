@@ -0,0 +1,139 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabSessionTicketCacheTest
+{
+    private static final String Path = "/Server/AuthenticateSessionTicket";
+    private static final String Url = "https://tickettest.example.com" + Path;
+    private static final Type ResultType = new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.AuthenticateSessionTicketResult>>(){}.getType();
+
+    private boolean cacheSessionTickets;
+    private PlayFabTransport transport;
+    private final TicketServer server = new TicketServer();
+    private final PlayFabSessionTicketCache cache = new PlayFabSessionTicketCache();
+
+    @Before
+    public void SetUp()
+    {
+        cacheSessionTickets = PlayFabSettings.CacheSessionTickets;
+        transport = PlayFabHTTP.getTransport();
+        PlayFabSettings.CacheSessionTickets = true;
+        PlayFabHTTP.setTransport(server);
+    }
+
+    @After
+    public void RestoreSettings()
+    {
+        PlayFabSettings.CacheSessionTickets = cacheSessionTickets;
+        PlayFabHTTP.setTransport(transport);
+    }
+
+    @Test
+    public void EachValidationFromMemoryGetsItsOwnCopy() throws Exception
+    {
+        PlayFabServerModels.AuthenticateSessionTicketResult first = validate("ticket-PLAYER1");
+        assertEquals("PLAYER1", first.UserInfo.PlayFabId);
+        first.UserInfo.PlayFabId = "changed by the caller";
+
+        PlayFabServerModels.AuthenticateSessionTicketResult second = validate("ticket-PLAYER1");
+        PlayFabServerModels.AuthenticateSessionTicketResult third = validate("ticket-PLAYER1");
+        assertEquals("PLAYER1", second.UserInfo.PlayFabId);
+        assertNotSame(second, third);
+        assertNotSame(second.UserInfo, third.UserInfo);
+        assertEquals(1, server.calls.get());
+        assertEquals(2, cache.getStats().hits);
+    }
+
+    @Test
+    public void BansDropTheTicketsOfThePlayersTheyName() throws Exception
+    {
+        validate("ticket-PLAYER1");
+        validate("ticket-PLAYER2");
+        cache.onSuccess("/Server/BanUsers", banUsers(ban("PLAYER1", null)));
+        validate("ticket-PLAYER1");
+        validate("ticket-PLAYER2");
+        assertEquals(3, server.calls.get());
+
+        cache.onSuccess("/Server/BanUsers", banUsers(ban("PLAYER3", "10.0.0.1")));
+        assertEquals(0, cache.getStats().entries);
+    }
+
+    @Test
+    public void DeletionsDropThePlayersTickets() throws Exception
+    {
+        validate("ticket-PLAYER1");
+        PlayFabServerModels.DeletePlayerRequest delete = new PlayFabServerModels.DeletePlayerRequest();
+        delete.PlayFabId = "PLAYER1";
+        cache.onSuccess("/Server/DeletePlayer", delete);
+        assertEquals(0, cache.getStats().entries);
+        cache.onSuccess("/Server/GetUserData", delete);
+        assertEquals(1, cache.getStats().invalidations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PlayFabServerModels.AuthenticateSessionTicketResult validate(String ticket) throws Exception
+    {
+        PlayFabServerModels.AuthenticateSessionTicketRequest request = new PlayFabServerModels.AuthenticateSessionTicketRequest();
+        request.SessionTicket = ticket;
+        Object result = cache.get(Url, Path, request, "X-SecretKey", "secret", ResultType, new PlayFabDeadline(10000));
+        return ((PlayFabJsonSuccess<PlayFabServerModels.AuthenticateSessionTicketResult>) result).data;
+    }
+
+    private static PlayFabServerModels.BanUsersRequest banUsers(PlayFabServerModels.BanRequest... bans)
+    {
+        PlayFabServerModels.BanUsersRequest request = new PlayFabServerModels.BanUsersRequest();
+        request.Bans = new ArrayList<PlayFabServerModels.BanRequest>(Arrays.asList(bans));
+        return request;
+    }
+
+    private static PlayFabServerModels.BanRequest ban(String playFabId, String ipAddress)
+    {
+        PlayFabServerModels.BanRequest ban = new PlayFabServerModels.BanRequest();
+        ban.PlayFabId = playFabId;
+        ban.IPAddress = ipAddress;
+        return ban;
+    }
+
+    /** Validates any ticket named "ticket-<PlayFabId>" as belonging to that player */
+    private static class TicketServer implements PlayFabTransport
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException
+        {
+            calls.incrementAndGet();
+            JsonObject request = new JsonParser().parse(new String(body.toByteArray(), "UTF-8")).getAsJsonObject();
+            String playFabId = request.get("SessionTicket").getAsString().substring("ticket-".length());
+            final byte[] json = ("{\"code\":200,\"status\":\"OK\",\"data\":{\"UserInfo\":{\"PlayFabId\":\"" + playFabId + "\"}}}").getBytes("UTF-8");
+            Response response = new Response() {
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(json);
+                }
+
+                public void close() {
+                }
+            };
+            response.httpCode = 200;
+            return response;
+        }
+
+        public int prewarm(String url, int connections)
+        {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabServerModels;
+
+public class PlayFabSingleFlightTest
+{
+    private static final String Path = "/Server/GetTitleData";
+    private static final Type ResultType = new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>>(){}.getType();
+
+    private final PlayFabSingleFlight singleFlight = new PlayFabSingleFlight();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void StopThreads()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void KeysIdentifyPathCredentialsAndRequest()
+    {
+        String key = PlayFabSingleFlight.key(Path, "X-SecretKey", "secret", ResultType, "{\"Keys\":[\"a\"]}");
+        assertEquals(key, PlayFabSingleFlight.key(Path, "X-SecretKey", "secret", ResultType, "{\"Keys\":[\"a\"]}"));
+        assertNotEquals(key, PlayFabSingleFlight.key("/Client/GetTitleData", "X-SecretKey", "secret", ResultType, "{\"Keys\":[\"a\"]}"));
+        assertNotEquals(key, PlayFabSingleFlight.key(Path, "X-SecretKey", "other", ResultType, "{\"Keys\":[\"a\"]}"));
+        assertNotEquals(key, PlayFabSingleFlight.key(Path, "X-SecretKey", "secret", ResultType, "{\"Keys\":[\"b\"]}"));
+        assertNotEquals(key, PlayFabSingleFlight.key(Path, "X-SecretKey", "secret", ResultType, null));
+    }
+
+    @Test
+    public void ConcurrentCallsShareOneCallAndEachGetItsOwnResult() throws Exception
+    {
+        for (PlayFabJsonCodec codec : new PlayFabJsonCodec[] { new PlayFabGsonCodec(), new PlayFabStreamingJsonCodec() }) {
+            BlockingCall call = new BlockingCall(titleData("motd", "hello"));
+            List<Future<Object>> results = startCallers(5, "key", new PlayFabDeadline(0), codec, call);
+            call.release();
+
+            Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+            for (Future<Object> result : results) {
+                PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult> envelope = cast(result.get(5, TimeUnit.SECONDS));
+                assertEquals("hello", envelope.data.Data.get("motd"));
+                assertTrue(distinct.add(envelope));
+                assertTrue(distinct.add(envelope.data.Data));
+                envelope.data.Data.put("motd", "changed by one caller");
+            }
+            assertEquals(1, call.calls.get());
+        }
+        assertEquals(2, singleFlight.getStats().calls);
+        assertEquals(8, singleFlight.getStats().coalesced);
+        assertEquals(0, singleFlight.getStats().inFlight);
+    }
+
+    @Test
+    public void FollowersGetTheirOwnCopyOfAnError() throws Exception
+    {
+        PlayFabError error = PlayFabHTTP.GeneratePfError(400, PlayFabErrorCode.InvalidParams, "Bad keys", null);
+        BlockingCall call = new BlockingCall(error);
+        List<Future<Object>> results = startCallers(3, "key", new PlayFabDeadline(0), new PlayFabGsonCodec(), call);
+        call.release();
+
+        int same = 0;
+        for (Future<Object> result : results) {
+            PlayFabError received = (PlayFabError) result.get(5, TimeUnit.SECONDS);
+            assertEquals(PlayFabErrorCode.InvalidParams, received.pfErrorCode);
+            assertEquals("Bad keys", received.errorMessage);
+            if (received == error)
+                same++;
+        }
+        assertEquals(1, same);
+        assertEquals(1, call.calls.get());
+    }
+
+    @Test
+    public void ExceptionsReachEveryCaller() throws Exception
+    {
+        BlockingCall call = new BlockingCall(new IllegalStateException("broken"));
+        List<Future<Object>> results = startCallers(3, "key", new PlayFabDeadline(0), new PlayFabGsonCodec(), call);
+        call.release();
+        for (Future<Object> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertEquals("broken", e.getCause().getMessage());
+            }
+        }
+        assertEquals(1, call.calls.get());
+    }
+
+    @Test
+    public void DifferentKeysAreNotShared() throws Exception
+    {
+        BlockingCall call = new BlockingCall(titleData("a", "b"));
+        List<Future<Object>> results = startCallers(1, "first", new PlayFabDeadline(0), new PlayFabGsonCodec(), call);
+        results.addAll(startCallers(1, "second", new PlayFabDeadline(0), new PlayFabGsonCodec(), call));
+        call.release();
+        for (Future<Object> result : results)
+            result.get(5, TimeUnit.SECONDS);
+        assertEquals(2, call.calls.get());
+    }
+
+    @Test
+    public void AFollowerThatRunsOutOfTimeStopsWaitingAlone() throws Exception
+    {
+        BlockingCall call = new BlockingCall(titleData("a", "b"));
+        Future<Object> leader = startCallers(1, "key", new PlayFabDeadline(0), new PlayFabGsonCodec(), call).get(0);
+        call.started.await(5, TimeUnit.SECONDS);
+        Object timedOut = singleFlight.execute("key", new PlayFabDeadline(50), new PlayFabGsonCodec(), ResultType, call);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, ((PlayFabError) timedOut).pfErrorCode);
+
+        call.release();
+        assertFalse(leader.get(5, TimeUnit.SECONDS) instanceof PlayFabError);
+        assertEquals(1, call.calls.get());
+    }
+
+    @Test
+    public void FollowersStartOverWhenTheLeaderIsCancelled() throws Exception
+    {
+        final PlayFabDeadline leaderDeadline = new PlayFabDeadline(0);
+        BlockingCall call = new BlockingCall(titleData("a", "b"));
+        Future<Object> leader = startCallers(1, "key", leaderDeadline, new PlayFabGsonCodec(), call).get(0);
+        call.started.await(5, TimeUnit.SECONDS);
+        List<Future<Object>> followers = startCallers(2, "key", new PlayFabDeadline(0), new PlayFabGsonCodec(), call);
+        while (singleFlight.getStats().coalesced < 2)
+            Thread.sleep(1);
+
+        leaderDeadline.cancel();
+        call.release();
+        leader.get(5, TimeUnit.SECONDS);
+        for (Future<Object> follower : followers)
+            assertEquals("b", cast(follower.get(5, TimeUnit.SECONDS)).data.Data.get("a"));
+        assertTrue(call.calls.get() >= 2); // The followers may share their new call, or make one each
+    }
+
+    /** Starts callers of the same key, returning once the first of them is making the call and the rest are waiting on it */
+    private List<Future<Object>> startCallers(int callers, final String key, final PlayFabDeadline deadline, final PlayFabJsonCodec codec, final BlockingCall call) throws Exception
+    {
+        List<Future<Object>> results = new ArrayList<Future<Object>>();
+        long coalesced = singleFlight.getStats().coalesced;
+        int expectedFollowers = 0;
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    return singleFlight.execute(key, deadline, codec, ResultType, call);
+                }
+            }));
+            if (i == 0 && !call.started.await(5, TimeUnit.SECONDS))
+                fail("The first caller never started the call");
+            if (i > 0)
+                expectedFollowers++;
+        }
+        while (singleFlight.getStats().coalesced < coalesced + expectedFollowers)
+            Thread.sleep(1);
+        return results;
+    }
+
+    private static PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult> titleData(String key, String value)
+    {
+        PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult> envelope = new PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>();
+        envelope.code = 200;
+        envelope.status = "OK";
+        envelope.data = new PlayFabServerModels.GetTitleDataResult();
+        envelope.data.Data = new HashMap<String, String>();
+        envelope.data.Data.put(key, value);
+        return envelope;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult> cast(Object result)
+    {
+        return (PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>) result;
+    }
+
+    /** A call that blocks until released, then answers with a fixed result, or throws it */
+    private static class BlockingCall implements Callable<Object>
+    {
+        final Object result;
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingCall(Object result)
+        {
+            this.result = result;
+        }
+
+        void release()
+        {
+            released.countDown();
+        }
+
+        public Object call() throws Exception
+        {
+            calls.incrementAndGet();
+            started.countDown();
+            released.await();
+            if (result instanceof Exception)
+                throw (Exception) result;
+            return result;
+        }
+    }
+}
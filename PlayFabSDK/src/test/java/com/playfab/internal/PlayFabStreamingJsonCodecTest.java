@@ -0,0 +1,155 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * Utf8Writer and Utf8Reader must encode and decode exactly as the JDK does, wherever the input is split
+ */
+public class PlayFabStreamingJsonCodecTest
+{
+    private static final String[] pieces = new String[] {
+        "a", "Z", "\"", "é", "߿", "ࠀ", "€", "￿", "😀", "􏿿", "\ud83d", "\ude00"
+    };
+
+    @Test
+    public void WriterMatchesTheJdkEncoder() throws IOException
+    {
+        Random random = new Random(1);
+        for (int round = 0; round < 5000; round++) {
+            String text = randomText(random, random.nextInt(40));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            PlayFabStreamingJsonCodec.Utf8Writer writer = new PlayFabStreamingJsonCodec.Utf8Writer(out);
+            int i = 0;
+            while (i < text.length()) {
+                int length = Math.min(text.length() - i, 1 + random.nextInt(4));
+                switch (random.nextInt(4)) {
+                    case 0: writer.write(text, i, length); break;
+                    case 1: writer.write(text.toCharArray(), i, length); break;
+                    case 2: writer.write(text.charAt(i)); length = 1; break;
+                    default: writer.write(text, i, length); writer.flush(); break;
+                }
+                i += length;
+            }
+            writer.finish();
+            assertArrayEquals(text, text.getBytes("UTF-8"), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void WriterCarriesASurrogatePairAcrossTheBufferAndFlushes() throws IOException
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 8191; i++)
+            text.append('x');
+        text.append("😀");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlayFabStreamingJsonCodec.Utf8Writer writer = new PlayFabStreamingJsonCodec.Utf8Writer(out);
+        writer.write(text.toString());
+        writer.finish();
+        assertArrayEquals(text.toString().getBytes("UTF-8"), out.toByteArray());
+
+        out.reset();
+        writer = new PlayFabStreamingJsonCodec.Utf8Writer(out);
+        writer.write("\ud83d");
+        writer.flush();
+        writer.write("\ude00");
+        writer.finish();
+        assertArrayEquals("😀".getBytes("UTF-8"), out.toByteArray());
+    }
+
+    @Test
+    public void WriterEndsATrailingHighSurrogateAsQuestionMark() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlayFabStreamingJsonCodec.Utf8Writer writer = new PlayFabStreamingJsonCodec.Utf8Writer(out);
+        writer.write("ab\ud83d");
+        writer.flush();
+        assertEquals("ab", out.toString("UTF-8"));
+        writer.close();
+        assertEquals("ab?", out.toString("UTF-8"));
+    }
+
+    @Test
+    public void ReaderMatchesTheJdkDecoderOnValidInput() throws IOException
+    {
+        Random random = new Random(2);
+        for (int round = 0; round < 5000; round++) {
+            String text = randomText(random, random.nextInt(40));
+            byte[] bytes = text.getBytes("UTF-8");
+            assertEquals(text, new String(bytes, "UTF-8"), read(bytes, random));
+        }
+    }
+
+    @Test
+    public void ReaderMatchesTheJdkDecoderOnMalformedInput() throws IOException
+    {
+        Random random = new Random(3);
+        for (int round = 0; round < 20000; round++) {
+            byte[] bytes = new byte[random.nextInt(12)];
+            for (int i = 0; i < bytes.length; i++)
+                bytes[i] = (byte) (random.nextInt(4) == 0 ? random.nextInt(0x80) : 0x80 + random.nextInt(0x80));
+            assertEquals(Arrays.toString(bytes), new String(bytes, "UTF-8"), read(bytes, random));
+        }
+    }
+
+    @Test
+    public void ReaderHandsBackTheLowSurrogateOnTheNextRead() throws IOException
+    {
+        Reader reader = new PlayFabStreamingJsonCodec.Utf8Reader(new ByteArrayInputStream("😀".getBytes("UTF-8")));
+        char[] chars = new char[1];
+        assertEquals(1, reader.read(chars, 0, 1));
+        assertEquals('\ud83d', chars[0]);
+        assertEquals(1, reader.read(chars, 0, 1));
+        assertEquals('\ude00', chars[0]);
+        assertEquals(-1, reader.read(chars, 0, 1));
+    }
+
+    @Test
+    public void CodecRoundTripsModels() throws IOException
+    {
+        PlayFabStreamingJsonCodec codec = new PlayFabStreamingJsonCodec();
+        SetTitleDataRequest request = new SetTitleDataRequest();
+        request.Key = "Greeting 😀";
+        request.Value = "été € \"quoted\"";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(request, out);
+        assertEquals(PlayFabGsonCodec.createGson().toJson(request), out.toString("UTF-8"));
+
+        SetTitleDataRequest decoded = (SetTitleDataRequest) codec.decode(new ByteArrayInputStream(out.toByteArray()), SetTitleDataRequest.class);
+        assertEquals(request.Key, decoded.Key);
+        assertEquals(request.Value, decoded.Value);
+        assertNull(codec.decode(new ByteArrayInputStream(new byte[0]), SetTitleDataRequest.class));
+    }
+
+    private static String randomText(Random random, int pieceCount)
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < pieceCount; i++)
+            text.append(pieces[random.nextInt(pieces.length)]);
+        return text.toString();
+    }
+
+    // Reads through a stream that returns a few bytes at a time, into a char array of random size
+    private static String read(byte[] bytes, Random random) throws IOException
+    {
+        final Random sizes = new Random(random.nextLong());
+        InputStream in = new ByteArrayInputStream(bytes) {
+            public int read(byte[] buffer, int offset, int length) {
+                return super.read(buffer, offset, Math.min(length, 1 + sizes.nextInt(3)));
+            }
+        };
+        Reader reader = new PlayFabStreamingJsonCodec.Utf8Reader(in);
+        StringBuilder output = new StringBuilder();
+        char[] chars = new char[1 + random.nextInt(5)];
+        int n;
+        while ((n = reader.read(chars, 0, chars.length)) != -1)
+            output.append(chars, 0, n);
+        return output.toString();
+    }
+}
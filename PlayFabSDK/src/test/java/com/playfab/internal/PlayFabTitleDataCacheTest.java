@@ -0,0 +1,300 @@
+package com.playfab.internal;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabTitleDataCacheTest
+{
+    private static final String Host = "https://cachetest.example.com";
+    private static final String ReadPath = "/Server/GetTitleData";
+    private static final Type ResultType = new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>>(){}.getType();
+
+    private long ttlMs, staleMs;
+    private int maxStores;
+    private PlayFabTransport transport;
+    private TitleDataServer server;
+    private PlayFabTitleDataCache cache;
+
+    @Before
+    public void SetUp()
+    {
+        ttlMs = PlayFabSettings.TitleDataCacheTtlMs;
+        staleMs = PlayFabSettings.TitleDataCacheStaleMs;
+        maxStores = PlayFabSettings.TitleDataCacheMaxStores;
+        transport = PlayFabHTTP.getTransport();
+
+        PlayFabSettings.TitleDataCacheTtlMs = 60000;
+        PlayFabSettings.TitleDataCacheStaleMs = 300000;
+        server = new TitleDataServer();
+        server.data.put("a", "1");
+        server.data.put("b", "2");
+        server.data.put("c", "3");
+        PlayFabHTTP.setTransport(server);
+        cache = new PlayFabTitleDataCache();
+    }
+
+    @After
+    public void RestoreSettings()
+    {
+        PlayFabSettings.TitleDataCacheTtlMs = ttlMs;
+        PlayFabSettings.TitleDataCacheStaleMs = staleMs;
+        PlayFabSettings.TitleDataCacheMaxStores = maxStores;
+        PlayFabHTTP.setTransport(transport);
+    }
+
+    @Test
+    public void ReadsWithinTheTtlAreServedFromMemory() throws Exception
+    {
+        Map<String, String> first = read("secret", "a", "b");
+        assertEquals("1", first.get("a"));
+        assertEquals("2", first.get("b"));
+        first.put("a", "changed by the caller");
+        server.data.put("a", "changed on PlayFab");
+
+        Map<String, String> second = read("secret", "b", "a");
+        assertEquals("1", second.get("a"));
+        assertEquals(1, server.requests.size());
+        assertEquals(1, cache.getStats().hits);
+        assertEquals(1, cache.getStats().misses);
+        assertEquals(2, cache.getStats().entries);
+    }
+
+    @Test
+    public void OnlyTheMissingKeysAreFetched() throws Exception
+    {
+        read("secret", "a");
+        Map<String, String> data = read("secret", "a", "b", "missing");
+        assertEquals(2, data.size());
+        assertEquals(Arrays.asList("b", "missing"), server.requestedKeys(1));
+
+        read("secret", "missing");
+        assertEquals(2, server.requests.size()); // Keys PlayFab does not have are cached as absent
+    }
+
+    @Test
+    public void ExpiredValuesAreServedWhileTheyRefresh() throws Exception
+    {
+        PlayFabSettings.TitleDataCacheTtlMs = 50;
+        read("secret", "a");
+        server.data.put("a", "new");
+        Thread.sleep(100);
+
+        assertEquals("1", read("secret", "a").get("a"));
+        assertEquals(1, cache.getStats().staleHits);
+        long start = System.nanoTime();
+        while (server.requests.size() < 2 && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5))
+            Thread.sleep(5);
+        Thread.sleep(20);
+        assertEquals(1, cache.getStats().refreshes);
+        assertEquals("new", read("secret", "a").get("a"));
+        assertEquals(1, cache.getStats().misses);
+    }
+
+    @Test
+    public void ValuesPastTheStaleWindowAreFetchedAgain() throws Exception
+    {
+        PlayFabSettings.TitleDataCacheTtlMs = 20;
+        PlayFabSettings.TitleDataCacheStaleMs = 0;
+        read("secret", "a");
+        server.data.put("a", "new");
+        Thread.sleep(50);
+        assertEquals("new", read("secret", "a").get("a"));
+        assertEquals(2, cache.getStats().misses);
+    }
+
+    @Test
+    public void KeysWithoutATtlAreNeverCached() throws Exception
+    {
+        cache.setTtl("a", 0);
+        read("secret", "a", "b");
+        read("secret", "a", "b");
+        assertEquals(Arrays.asList("a"), server.requestedKeys(1));
+        cache.clearTtl("a");
+        read("secret", "a");
+        read("secret", "a");
+        assertEquals(3, server.requests.size());
+    }
+
+    @Test
+    public void AWriteInvalidatesTheKeyItWrote() throws Exception
+    {
+        read("secret", "a", "b");
+        read("ticket", "a");
+        server.data.put("a", "written");
+        PlayFabServerModels.SetTitleDataRequest write = new PlayFabServerModels.SetTitleDataRequest();
+        write.Key = "a";
+        write.Value = "written";
+        cache.onSuccess(Host + "/Server/SetTitleData", "/Server/SetTitleData", write);
+
+        assertEquals("written", read("secret", "a", "b").get("a"));
+        assertEquals(Arrays.asList("a"), server.requestedKeys(2));
+        assertEquals("written", read("ticket", "a").get("a"));
+        assertEquals(4, server.requests.size());
+
+        cache.onSuccess("https://othertitle.example.com/Server/SetTitleData", "/Server/SetTitleData", write);
+        read("secret", "a");
+        assertEquals(4, server.requests.size());
+    }
+
+    @Test
+    public void InvalidateDropsKeysWrittenOutsideTheSdk() throws Exception
+    {
+        read("secret", "a", "b");
+        cache.invalidate("a");
+        read("secret", "a", "b");
+        assertEquals(Arrays.asList("a"), server.requestedKeys(1));
+        cache.invalidateAll();
+        read("secret", "a", "b");
+        assertEquals(Arrays.asList("a", "b"), server.requestedKeys(2));
+        assertEquals(2, cache.getStats().invalidations);
+    }
+
+    @Test
+    public void EachCredentialHasItsOwnCache() throws Exception
+    {
+        read("first ticket", "a");
+        read("second ticket", "a");
+        read("first ticket", "a");
+        assertEquals(2, server.requests.size());
+        assertEquals(2, cache.getStats().stores);
+    }
+
+    @Test
+    public void TheLeastRecentlyReadStoresAreDropped() throws Exception
+    {
+        PlayFabSettings.TitleDataCacheMaxStores = 2;
+        read("first", "a");
+        Thread.sleep(2);
+        read("second", "a");
+        Thread.sleep(2);
+        read("first", "a");
+        Thread.sleep(2);
+        read("third", "a");
+        assertEquals(3, server.requests.size());
+        assertEquals(2, cache.getStats().stores);
+        assertEquals(1, cache.getStats().storesEvicted);
+
+        read("first", "a");
+        assertEquals(3, server.requests.size());
+        read("second", "a");
+        assertEquals(4, server.requests.size());
+    }
+
+    @Test
+    public void AReadOfEveryKeyIsCachedAsOneSnapshot() throws Exception
+    {
+        Map<String, String> all = read("secret");
+        assertEquals(3, all.size());
+        all.clear();
+        assertEquals(3, read("secret").size());
+        assertEquals(1, server.requests.size());
+    }
+
+    @Test
+    public void AReadOfEveryKeyHonoursTheirTtls() throws Exception
+    {
+        cache.setTtl("a", 0);
+        read("secret");
+        server.data.put("a", "new");
+        assertEquals("new", read("secret").get("a"));
+        assertEquals(2, server.requests.size());
+
+        cache.clearTtl("a");
+        read("secret");
+        read("secret");
+        assertEquals(3, server.requests.size());
+
+        // The snapshot expires with its shortest lived key
+        PlayFabSettings.TitleDataCacheStaleMs = 0;
+        cache.setTtl("b", 30);
+        read("secret");
+        read("secret");
+        assertEquals(4, server.requests.size());
+        Thread.sleep(60);
+        server.data.put("b", "new");
+        assertEquals("new", read("secret").get("b"));
+        assertEquals(5, server.requests.size());
+    }
+
+    @Test
+    public void ReadsThatNameMoreThanKeysAreNotCached() throws Exception
+    {
+        Map<String, Object> request = new HashMap<String, Object>();
+        request.put("Keys", Arrays.asList("a"));
+        request.put("OverrideLabel", "beta");
+        cache.get(Host + ReadPath, ReadPath, request, "X-SecretKey", "secret", ResultType, new PlayFabDeadline(10000));
+        cache.get(Host + ReadPath, ReadPath, request, "X-SecretKey", "secret", ResultType, new PlayFabDeadline(10000));
+        assertEquals(2, server.requests.size());
+        assertEquals(0, cache.getStats().stores);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> read(String authKey, String... keys) throws Exception
+    {
+        PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+        request.Keys = keys.length > 0 ? new ArrayList<String>(Arrays.asList(keys)) : null;
+        Object result = cache.get(Host + ReadPath, ReadPath, request, "X-SecretKey", authKey, ResultType, new PlayFabDeadline(10000));
+        return ((PlayFabJsonSuccess<PlayFabServerModels.GetTitleDataResult>) result).data.Data;
+    }
+
+    /** Answers GetTitleData from a map, and keeps every request body it receives */
+    private static class TitleDataServer implements PlayFabTransport
+    {
+        final Map<String, String> data = new ConcurrentHashMap<String, String>();
+        final List<JsonObject> requests = new CopyOnWriteArrayList<JsonObject>();
+
+        List<String> requestedKeys(int request)
+        {
+            List<String> keys = new ArrayList<String>();
+            for (JsonElement key : requests.get(request).getAsJsonArray("Keys"))
+                keys.add(key.getAsString());
+            return keys;
+        }
+
+        public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException
+        {
+            JsonObject request = new JsonParser().parse(new String(body.toByteArray(), "UTF-8")).getAsJsonObject();
+            requests.add(request);
+            JsonObject values = new JsonObject();
+            JsonArray keys = request.getAsJsonArray("Keys");
+            if (keys == null) {
+                for (Map.Entry<String, String> pair : data.entrySet())
+                    values.addProperty(pair.getKey(), pair.getValue());
+            } else {
+                for (JsonElement key : keys)
+                    if (data.containsKey(key.getAsString()))
+                        values.addProperty(key.getAsString(), data.get(key.getAsString()));
+            }
+            final byte[] json = ("{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":" + values + "}}").getBytes("UTF-8");
+            Response response = new Response() {
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(json);
+                }
+
+                public void close() {
+                }
+            };
+            response.httpCode = 200;
+            return response;
+        }
+
+        public int prewarm(String url, int connections)
+        {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,8892 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabAdminModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * APIs for managing title configurations, uploaded Game Server code executables, and user data
+     *
+     * Instance-scoped version of PlayFabAdminAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabAdminInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabAdminInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabAdminInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request) {
+        return AbortTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAbortTaskInstanceAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request) {
+        return AbortTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateAbortTaskInstanceAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AbortTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Abort an ongoing task instance. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateAbortTaskInstanceAsync(final AbortTaskInstanceRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AbortTaskInstance"), request, "X-SecretKey", settings.DeveloperSecretKey, AbortTaskInstanceResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @return Async Task will return AddNewsResult
+     */
+    public FutureTask<PlayFabResult<AddNewsResult>> AddNewsAsync(final AddNewsRequest request) {
+        return AddNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddNewsResult>> AddNewsAsync(final AddNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddNewsResult>>() {
+            public PlayFabResult<AddNewsResult> call() throws Exception {
+                return privateAddNewsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @return AddNewsResult
+     */
+    public PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request) {
+        return AddNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddNewsResult>>() {
+            public PlayFabResult<AddNewsResult> call() throws Exception {
+                return privateAddNewsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddNewsResult> exceptionResult = new PlayFabResult<AddNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddNewsResultType = new TypeToken<PlayFabJsonSuccess<AddNewsResult>>(){}.getType();
+
+    /** Adds a new news item to the title's news feed */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddNewsResult> privateAddNewsAsync(final AddNewsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AddNews"), request, "X-SecretKey", settings.DeveloperSecretKey, AddNewsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddNewsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddNewsResult> resultData = (PlayFabJsonSuccess<AddNewsResult>) httpResult;
+        AddNewsResult result = resultData.data;
+
+        PlayFabResult<AddNewsResult> pfResult = new PlayFabResult<AddNewsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return Async Task will return AddPlayerTagResult
+     */
+    public FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
+        return AddPlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
+            public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                return privateAddPlayerTagAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return AddPlayerTagResult
+     */
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
+        return AddPlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
+            public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                return privateAddPlayerTagAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddPlayerTagResultType = new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType();
+
+    /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AddPlayerTag"), request, "X-SecretKey", settings.DeveloperSecretKey, AddPlayerTagResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddPlayerTagResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
+        AddPlayerTagResult result = resultData.data;
+
+        PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @return Async Task will return AddServerBuildResult
+     */
+    public FutureTask<PlayFabResult<AddServerBuildResult>> AddServerBuildAsync(final AddServerBuildRequest request) {
+        return AddServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AddServerBuildResult>> AddServerBuildAsync(final AddServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddServerBuildResult>>() {
+            public PlayFabResult<AddServerBuildResult> call() throws Exception {
+                return privateAddServerBuildAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @return AddServerBuildResult
+     */
+    public PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request) {
+        return AddServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddServerBuildResult>>() {
+            public PlayFabResult<AddServerBuildResult> call() throws Exception {
+                return privateAddServerBuildAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AddServerBuildResult> exceptionResult = new PlayFabResult<AddServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddServerBuildResultType = new TypeToken<PlayFabJsonSuccess<AddServerBuildResult>>(){}.getType();
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AddServerBuildResult> privateAddServerBuildAsync(final AddServerBuildRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AddServerBuild"), request, "X-SecretKey", settings.DeveloperSecretKey, AddServerBuildResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AddServerBuildResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AddServerBuildResult> resultData = (PlayFabJsonSuccess<AddServerBuildResult>) httpResult;
+        AddServerBuildResult result = resultData.data;
+
+        PlayFabResult<AddServerBuildResult> pfResult = new PlayFabResult<AddServerBuildResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateAddUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /** Increments the specified virtual currency by the stated amount */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AddUserVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, AddUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @return Async Task will return BlankResult
+     */
+    public FutureTask<PlayFabResult<BlankResult>> AddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) {
+        return AddVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<BlankResult>> AddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateAddVirtualCurrencyTypesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
+        return AddVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateAddVirtualCurrencyTypesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AddVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<BlankResult> privateAddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/AddVirtualCurrencyTypes"), request, "X-SecretKey", settings.DeveloperSecretKey, AddVirtualCurrencyTypesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<BlankResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
+        BlankResult result = resultData.data;
+
+        PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return Async Task will return BanUsersResult
+     */
+    public FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
+        return BanUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
+            public PlayFabResult<BanUsersResult> call() throws Exception {
+                return privateBanUsersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return BanUsersResult
+     */
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
+        return BanUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BanUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
+            public PlayFabResult<BanUsersResult> call() throws Exception {
+                return privateBanUsersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type BanUsersResultType = new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType();
+
+    /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/BanUsers"), request, "X-SecretKey", settings.DeveloperSecretKey, BanUsersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<BanUsersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
+        BanUsersResult result = resultData.data;
+
+        PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @return Async Task will return CheckLimitedEditionItemAvailabilityResult
+     */
+    public FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) {
+        return CheckLimitedEditionItemAvailabilityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CheckLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+            public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
+                return privateCheckLimitedEditionItemAvailabilityAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @return CheckLimitedEditionItemAvailabilityResult
+     */
+    public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
+        return CheckLimitedEditionItemAvailability(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CheckLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+            public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
+                return privateCheckLimitedEditionItemAvailabilityAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CheckLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CheckLimitedEditionItemAvailabilityResultType = new TypeToken<PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>>(){}.getType();
+
+    /** Checks the global count for the limited edition item. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CheckLimitedEditionItemAvailabilityResult> privateCheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/CheckLimitedEditionItemAvailability"), request, "X-SecretKey", settings.DeveloperSecretKey, CheckLimitedEditionItemAvailabilityResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>) httpResult;
+        CheckLimitedEditionItemAvailabilityResult result = resultData.data;
+
+        PlayFabResult<CheckLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @return Async Task will return CreateTaskResult
+     */
+    public FutureTask<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) {
+        return CreateActionsOnPlayersInSegmentTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
+            public PlayFabResult<CreateTaskResult> call() throws Exception {
+                return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @return CreateTaskResult
+     */
+    public PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
+        return CreateActionsOnPlayersInSegmentTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
+            public PlayFabResult<CreateTaskResult> call() throws Exception {
+                return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateActionsOnPlayersInSegmentTaskResultType = new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType();
+
+    /** Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateTaskResult> privateCreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/CreateActionsOnPlayersInSegmentTask"), request, "X-SecretKey", settings.DeveloperSecretKey, CreateActionsOnPlayersInSegmentTaskResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateTaskResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
+        CreateTaskResult result = resultData.data;
+
+        PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @return Async Task will return CreateTaskResult
+     */
+    public FutureTask<PlayFabResult<CreateTaskResult>> CreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) {
+        return CreateCloudScriptTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreateTaskResult>> CreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
+            public PlayFabResult<CreateTaskResult> call() throws Exception {
+                return privateCreateCloudScriptTaskAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @return CreateTaskResult
+     */
+    public PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
+        return CreateCloudScriptTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateTaskResult>>() {
+            public PlayFabResult<CreateTaskResult> call() throws Exception {
+                return privateCreateCloudScriptTaskAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreateCloudScriptTaskResultType = new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType();
+
+    /** Create a CloudScript task, which can run a CloudScript on a schedule. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreateTaskResult> privateCreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/CreateCloudScriptTask"), request, "X-SecretKey", settings.DeveloperSecretKey, CreateCloudScriptTaskResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreateTaskResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
+        CreateTaskResult result = resultData.data;
+
+        PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @return Async Task will return CreatePlayerSharedSecretResult
+     */
+    public FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) {
+        return CreatePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+            public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
+                return privateCreatePlayerSharedSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @return CreatePlayerSharedSecretResult
+     */
+    public PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
+        return CreatePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+            public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
+                return privateCreatePlayerSharedSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreatePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<CreatePlayerSharedSecretResult>>(){}.getType();
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreatePlayerSharedSecretResult> privateCreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/CreatePlayerSharedSecret"), request, "X-SecretKey", settings.DeveloperSecretKey, CreatePlayerSharedSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreatePlayerSharedSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<CreatePlayerSharedSecretResult>) httpResult;
+        CreatePlayerSharedSecretResult result = resultData.data;
+
+        PlayFabResult<CreatePlayerSharedSecretResult> pfResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @return Async Task will return CreatePlayerStatisticDefinitionResult
+     */
+    public FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) {
+        return CreatePlayerStatisticDefinitionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+            public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
+                return privateCreatePlayerStatisticDefinitionAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @return CreatePlayerStatisticDefinitionResult
+     */
+    public PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
+        return CreatePlayerStatisticDefinition(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+            public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
+                return privateCreatePlayerStatisticDefinitionAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<CreatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type CreatePlayerStatisticDefinitionResultType = new TypeToken<PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>>(){}.getType();
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<CreatePlayerStatisticDefinitionResult> privateCreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/CreatePlayerStatisticDefinition"), request, "X-SecretKey", settings.DeveloperSecretKey, CreatePlayerStatisticDefinitionResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>) httpResult;
+        CreatePlayerStatisticDefinitionResult result = resultData.data;
+
+        PlayFabResult<CreatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @return Async Task will return BlankResult
+     */
+    public FutureTask<PlayFabResult<BlankResult>> DeleteContentAsync(final DeleteContentRequest request) {
+        return DeleteContentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<BlankResult>> DeleteContentAsync(final DeleteContentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateDeleteContentAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request) {
+        return DeleteContent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateDeleteContentAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteContentResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
+    /** Delete a content file from the title. When deleting a file that does not exist, it returns success. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<BlankResult> privateDeleteContentAsync(final DeleteContentRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeleteContent"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteContentResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<BlankResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
+        BlankResult result = resultData.data;
+
+        PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @return Async Task will return DeleteMasterPlayerAccountResult
+     */
+    public FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) {
+        return DeleteMasterPlayerAccountAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteMasterPlayerAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+            public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
+                return privateDeleteMasterPlayerAccountAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @return DeleteMasterPlayerAccountResult
+     */
+    public PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
+        return DeleteMasterPlayerAccount(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteMasterPlayerAccountResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+            public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
+                return privateDeleteMasterPlayerAccountAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteMasterPlayerAccountResult> exceptionResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteMasterPlayerAccountResultType = new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>>(){}.getType();
+
+    /** Removes a master player account entirely from all titles and deletes all associated data */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteMasterPlayerAccountResult> privateDeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeleteMasterPlayerAccount"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteMasterPlayerAccountResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteMasterPlayerAccountResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = (PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>) httpResult;
+        DeleteMasterPlayerAccountResult result = resultData.data;
+
+        PlayFabResult<DeleteMasterPlayerAccountResult> pfResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return Async Task will return DeletePlayerResult
+     */
+    public FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
+        return DeletePlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
+            public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                return privateDeletePlayerAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return DeletePlayerResult
+     */
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
+        return DeletePlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
+            public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                return privateDeletePlayerAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeletePlayerResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType();
+
+    /** Removes a user's player account from a title and deletes all associated data */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeletePlayer"), request, "X-SecretKey", settings.DeveloperSecretKey, DeletePlayerResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeletePlayerResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
+        DeletePlayerResult result = resultData.data;
+
+        PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @return Async Task will return DeletePlayerSharedSecretResult
+     */
+    public FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) {
+        return DeletePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+            public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
+                return privateDeletePlayerSharedSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @return DeletePlayerSharedSecretResult
+     */
+    public PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
+        return DeletePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+            public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
+                return privateDeletePlayerSharedSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerSharedSecretResult> exceptionResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeletePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerSharedSecretResult>>(){}.getType();
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeletePlayerSharedSecretResult> privateDeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeletePlayerSharedSecret"), request, "X-SecretKey", settings.DeveloperSecretKey, DeletePlayerSharedSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeletePlayerSharedSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<DeletePlayerSharedSecretResult>) httpResult;
+        DeletePlayerSharedSecretResult result = resultData.data;
+
+        PlayFabResult<DeletePlayerSharedSecretResult> pfResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @return Async Task will return DeleteStoreResult
+     */
+    public FutureTask<PlayFabResult<DeleteStoreResult>> DeleteStoreAsync(final DeleteStoreRequest request) {
+        return DeleteStoreAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteStoreResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteStoreResult>> DeleteStoreAsync(final DeleteStoreRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteStoreResult>>() {
+            public PlayFabResult<DeleteStoreResult> call() throws Exception {
+                return privateDeleteStoreAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @return DeleteStoreResult
+     */
+    public PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request) {
+        return DeleteStore(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteStoreResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteStoreResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteStoreResult>>() {
+            public PlayFabResult<DeleteStoreResult> call() throws Exception {
+                return privateDeleteStoreAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteStoreResult> exceptionResult = new PlayFabResult<DeleteStoreResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteStoreResultType = new TypeToken<PlayFabJsonSuccess<DeleteStoreResult>>(){}.getType();
+
+    /** Deletes an existing virtual item store */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteStoreResult> privateDeleteStoreAsync(final DeleteStoreRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeleteStore"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteStoreResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteStoreResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteStoreResult> resultData = (PlayFabJsonSuccess<DeleteStoreResult>) httpResult;
+        DeleteStoreResult result = resultData.data;
+
+        PlayFabResult<DeleteStoreResult> pfResult = new PlayFabResult<DeleteStoreResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteTaskAsync(final DeleteTaskRequest request) {
+        return DeleteTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> DeleteTaskAsync(final DeleteTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteTaskAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request) {
+        return DeleteTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateDeleteTaskAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteTaskResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Delete a task. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateDeleteTaskAsync(final DeleteTaskRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeleteTask"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteTaskResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @return Async Task will return DeleteTitleResult
+     */
+    public FutureTask<PlayFabResult<DeleteTitleResult>> DeleteTitleAsync(final DeleteTitleRequest request) {
+        return DeleteTitleAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteTitleResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<DeleteTitleResult>> DeleteTitleAsync(final DeleteTitleRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteTitleResult>>() {
+            public PlayFabResult<DeleteTitleResult> call() throws Exception {
+                return privateDeleteTitleAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @return DeleteTitleResult
+     */
+    public PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request) {
+        return DeleteTitle(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteTitleResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteTitleResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteTitleResult>>() {
+            public PlayFabResult<DeleteTitleResult> call() throws Exception {
+                return privateDeleteTitleAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<DeleteTitleResult> exceptionResult = new PlayFabResult<DeleteTitleResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type DeleteTitleResultType = new TypeToken<PlayFabJsonSuccess<DeleteTitleResult>>(){}.getType();
+
+    /** Permanently deletes a title and all associated configuration */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<DeleteTitleResult> privateDeleteTitleAsync(final DeleteTitleRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/DeleteTitle"), request, "X-SecretKey", settings.DeveloperSecretKey, DeleteTitleResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<DeleteTitleResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<DeleteTitleResult> resultData = (PlayFabJsonSuccess<DeleteTitleResult>) httpResult;
+        DeleteTitleResult result = resultData.data;
+
+        PlayFabResult<DeleteTitleResult> pfResult = new PlayFabResult<DeleteTitleResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @return Async Task will return ExportMasterPlayerDataResult
+     */
+    public FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) {
+        return ExportMasterPlayerDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExportMasterPlayerDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+            public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
+                return privateExportMasterPlayerDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @return ExportMasterPlayerDataResult
+     */
+    public PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
+        return ExportMasterPlayerData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExportMasterPlayerDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+            public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
+                return privateExportMasterPlayerDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ExportMasterPlayerDataResult> exceptionResult = new PlayFabResult<ExportMasterPlayerDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ExportMasterPlayerDataResultType = new TypeToken<PlayFabJsonSuccess<ExportMasterPlayerDataResult>>(){}.getType();
+
+    /** Exports all associated data of a master player account */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ExportMasterPlayerDataResult> privateExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ExportMasterPlayerData"), request, "X-SecretKey", settings.DeveloperSecretKey, ExportMasterPlayerDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ExportMasterPlayerDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = (PlayFabJsonSuccess<ExportMasterPlayerDataResult>) httpResult;
+        ExportMasterPlayerDataResult result = resultData.data;
+
+        PlayFabResult<ExportMasterPlayerDataResult> pfResult = new PlayFabResult<ExportMasterPlayerDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @return Async Task will return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    public FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) {
+        return GetActionsOnPlayersInSegmentTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+            public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
+                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
+        return GetActionsOnPlayersInSegmentTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+            public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
+                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> exceptionResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetActionsOnPlayersInSegmentTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>>(){}.getType();
+
+    /** Get information about a ActionsOnPlayersInSegment task instance. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> privateGetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetActionsOnPlayersInSegmentTaskInstance"), request, "X-SecretKey", settings.DeveloperSecretKey, GetActionsOnPlayersInSegmentTaskInstanceResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>) httpResult;
+        GetActionsOnPlayersInSegmentTaskInstanceResult result = resultData.data;
+
+        PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> pfResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    public FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
+        return GetAllSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+            public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                return privateGetAllSegmentsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return GetAllSegmentsResult
+     */
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
+        return GetAllSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+            public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                return privateGetAllSegmentsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetAllSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType();
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetAllSegments"), request, "X-SecretKey", settings.DeveloperSecretKey, GetAllSegmentsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetAllSegmentsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
+        GetAllSegmentsResult result = resultData.data;
+
+        PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+            public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                return privateGetCatalogItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
+    /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetCatalogItems"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCatalogItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCatalogItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
+        GetCatalogItemsResult result = resultData.data;
+
+        PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @return Async Task will return GetCloudScriptRevisionResult
+     */
+    public FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) {
+        return GetCloudScriptRevisionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+            public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
+                return privateGetCloudScriptRevisionAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @return GetCloudScriptRevisionResult
+     */
+    public PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
+        return GetCloudScriptRevision(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+            public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
+                return privateGetCloudScriptRevisionAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptRevisionResult> exceptionResult = new PlayFabResult<GetCloudScriptRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCloudScriptRevisionResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptRevisionResult>>(){}.getType();
+
+    /** Gets the contents and information of a specific Cloud Script revision. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCloudScriptRevisionResult> privateGetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetCloudScriptRevision"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCloudScriptRevisionResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCloudScriptRevisionResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = (PlayFabJsonSuccess<GetCloudScriptRevisionResult>) httpResult;
+        GetCloudScriptRevisionResult result = resultData.data;
+
+        PlayFabResult<GetCloudScriptRevisionResult> pfResult = new PlayFabResult<GetCloudScriptRevisionResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @return Async Task will return GetCloudScriptTaskInstanceResult
+     */
+    public FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) {
+        return GetCloudScriptTaskInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+            public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
+                return privateGetCloudScriptTaskInstanceAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @return GetCloudScriptTaskInstanceResult
+     */
+    public PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
+        return GetCloudScriptTaskInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptTaskInstanceResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+            public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
+                return privateGetCloudScriptTaskInstanceAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptTaskInstanceResult> exceptionResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCloudScriptTaskInstanceResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>>(){}.getType();
+
+    /** Get detail information about a CloudScript task instance. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCloudScriptTaskInstanceResult> privateGetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetCloudScriptTaskInstance"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCloudScriptTaskInstanceResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>) httpResult;
+        GetCloudScriptTaskInstanceResult result = resultData.data;
+
+        PlayFabResult<GetCloudScriptTaskInstanceResult> pfResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @return Async Task will return GetCloudScriptVersionsResult
+     */
+    public FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) {
+        return GetCloudScriptVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCloudScriptVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+            public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
+                return privateGetCloudScriptVersionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @return GetCloudScriptVersionsResult
+     */
+    public PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
+        return GetCloudScriptVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCloudScriptVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+            public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
+                return privateGetCloudScriptVersionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptVersionsResult> exceptionResult = new PlayFabResult<GetCloudScriptVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetCloudScriptVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetCloudScriptVersionsResult>>(){}.getType();
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetCloudScriptVersionsResult> privateGetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetCloudScriptVersions"), request, "X-SecretKey", settings.DeveloperSecretKey, GetCloudScriptVersionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetCloudScriptVersionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = (PlayFabJsonSuccess<GetCloudScriptVersionsResult>) httpResult;
+        GetCloudScriptVersionsResult result = resultData.data;
+
+        PlayFabResult<GetCloudScriptVersionsResult> pfResult = new PlayFabResult<GetCloudScriptVersionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @return Async Task will return GetContentListResult
+     */
+    public FutureTask<PlayFabResult<GetContentListResult>> GetContentListAsync(final GetContentListRequest request) {
+        return GetContentListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentListResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetContentListResult>> GetContentListAsync(final GetContentListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentListResult>>() {
+            public PlayFabResult<GetContentListResult> call() throws Exception {
+                return privateGetContentListAsync(request);
+            }
+        });
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @return GetContentListResult
+     */
+    public PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request) {
+        return GetContentList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentListResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentListResult>>() {
+            public PlayFabResult<GetContentListResult> call() throws Exception {
+                return privateGetContentListAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetContentListResult> exceptionResult = new PlayFabResult<GetContentListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetContentListResultType = new TypeToken<PlayFabJsonSuccess<GetContentListResult>>(){}.getType();
+
+    /** List all contents of the title and get statistics such as size */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetContentListResult> privateGetContentListAsync(final GetContentListRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetContentList"), request, "X-SecretKey", settings.DeveloperSecretKey, GetContentListResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetContentListResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetContentListResult> resultData = (PlayFabJsonSuccess<GetContentListResult>) httpResult;
+        GetContentListResult result = resultData.data;
+
+        PlayFabResult<GetContentListResult> pfResult = new PlayFabResult<GetContentListResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @return Async Task will return GetContentUploadUrlResult
+     */
+    public FutureTask<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrlAsync(final GetContentUploadUrlRequest request) {
+        return GetContentUploadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentUploadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrlAsync(final GetContentUploadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+            public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
+                return privateGetContentUploadUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @return GetContentUploadUrlResult
+     */
+    public PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
+        return GetContentUploadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentUploadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentUploadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+            public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
+                return privateGetContentUploadUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetContentUploadUrlResult> exceptionResult = new PlayFabResult<GetContentUploadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetContentUploadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentUploadUrlResult>>(){}.getType();
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetContentUploadUrlResult> privateGetContentUploadUrlAsync(final GetContentUploadUrlRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetContentUploadUrl"), request, "X-SecretKey", settings.DeveloperSecretKey, GetContentUploadUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetContentUploadUrlResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = (PlayFabJsonSuccess<GetContentUploadUrlResult>) httpResult;
+        GetContentUploadUrlResult result = resultData.data;
+
+        PlayFabResult<GetContentUploadUrlResult> pfResult = new PlayFabResult<GetContentUploadUrlResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @return Async Task will return GetDataReportResult
+     */
+    public FutureTask<PlayFabResult<GetDataReportResult>> GetDataReportAsync(final GetDataReportRequest request) {
+        return GetDataReportAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetDataReportResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetDataReportResult>> GetDataReportAsync(final GetDataReportRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetDataReportResult>>() {
+            public PlayFabResult<GetDataReportResult> call() throws Exception {
+                return privateGetDataReportAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @return GetDataReportResult
+     */
+    public PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request) {
+        return GetDataReport(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetDataReportResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetDataReportResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetDataReportResult>>() {
+            public PlayFabResult<GetDataReportResult> call() throws Exception {
+                return privateGetDataReportAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetDataReportResult> exceptionResult = new PlayFabResult<GetDataReportResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetDataReportResultType = new TypeToken<PlayFabJsonSuccess<GetDataReportResult>>(){}.getType();
+
+    /** Retrieves a download URL for the requested report */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetDataReportResult> privateGetDataReportAsync(final GetDataReportRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetDataReport"), request, "X-SecretKey", settings.DeveloperSecretKey, GetDataReportResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetDataReportResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetDataReportResult> resultData = (PlayFabJsonSuccess<GetDataReportResult>) httpResult;
+        GetDataReportResult result = resultData.data;
+
+        PlayFabResult<GetDataReportResult> pfResult = new PlayFabResult<GetDataReportResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @return Async Task will return GetMatchmakerGameInfoResult
+     */
+    public FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) {
+        return GetMatchmakerGameInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetMatchmakerGameInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+            public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
+                return privateGetMatchmakerGameInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @return GetMatchmakerGameInfoResult
+     */
+    public PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
+        return GetMatchmakerGameInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetMatchmakerGameInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+            public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
+                return privateGetMatchmakerGameInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetMatchmakerGameInfoResult> exceptionResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetMatchmakerGameInfoResultType = new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameInfoResult>>(){}.getType();
+
+    /** Retrieves the details for a specific completed session, including links to standard out and standard error logs */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetMatchmakerGameInfoResult> privateGetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetMatchmakerGameInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, GetMatchmakerGameInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetMatchmakerGameInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetMatchmakerGameInfoResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameInfoResult>) httpResult;
+        GetMatchmakerGameInfoResult result = resultData.data;
+
+        PlayFabResult<GetMatchmakerGameInfoResult> pfResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @return Async Task will return GetMatchmakerGameModesResult
+     */
+    public FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) {
+        return GetMatchmakerGameModesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+            public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
+                return privateGetMatchmakerGameModesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @return GetMatchmakerGameModesResult
+     */
+    public PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
+        return GetMatchmakerGameModes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+            public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
+                return privateGetMatchmakerGameModesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetMatchmakerGameModesResult> exceptionResult = new PlayFabResult<GetMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetMatchmakerGameModesResultType = new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameModesResult>>(){}.getType();
+
+    /** Retrieves the details of defined game modes for the specified game server executable */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetMatchmakerGameModesResult> privateGetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetMatchmakerGameModes"), request, "X-SecretKey", settings.DeveloperSecretKey, GetMatchmakerGameModesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetMatchmakerGameModesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameModesResult>) httpResult;
+        GetMatchmakerGameModesResult result = resultData.data;
+
+        PlayFabResult<GetMatchmakerGameModesResult> pfResult = new PlayFabResult<GetMatchmakerGameModesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @return Async Task will return GetPlayedTitleListResult
+     */
+    public FutureTask<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleListAsync(final GetPlayedTitleListRequest request) {
+        return GetPlayedTitleListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayedTitleListResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleListAsync(final GetPlayedTitleListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+            public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
+                return privateGetPlayedTitleListAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @return GetPlayedTitleListResult
+     */
+    public PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
+        return GetPlayedTitleList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayedTitleListResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayedTitleListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+            public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
+                return privateGetPlayedTitleListAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayedTitleListResult> exceptionResult = new PlayFabResult<GetPlayedTitleListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayedTitleListResultType = new TypeToken<PlayFabJsonSuccess<GetPlayedTitleListResult>>(){}.getType();
+
+    /** Get the list of titles that the player has played */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayedTitleListResult> privateGetPlayedTitleListAsync(final GetPlayedTitleListRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayedTitleList"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayedTitleListResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayedTitleListResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = (PlayFabJsonSuccess<GetPlayedTitleListResult>) httpResult;
+        GetPlayedTitleListResult result = resultData.data;
+
+        PlayFabResult<GetPlayedTitleListResult> pfResult = new PlayFabResult<GetPlayedTitleListResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @return Async Task will return GetPlayerIdFromAuthTokenResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) {
+        return GetPlayerIdFromAuthTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerIdFromAuthTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+            public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
+                return privateGetPlayerIdFromAuthTokenAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @return GetPlayerIdFromAuthTokenResult
+     */
+    public PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
+        return GetPlayerIdFromAuthToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerIdFromAuthTokenResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+            public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
+                return privateGetPlayerIdFromAuthTokenAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerIdFromAuthTokenResult> exceptionResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerIdFromAuthTokenResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>>(){}.getType();
+
+    /** Gets a player's ID from an auth token. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerIdFromAuthTokenResult> privateGetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerIdFromAuthToken"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerIdFromAuthTokenResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = (PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>) httpResult;
+        GetPlayerIdFromAuthTokenResult result = resultData.data;
+
+        PlayFabResult<GetPlayerIdFromAuthTokenResult> pfResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+            public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                return privateGetPlayerProfileAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
+    /** Retrieves the player's profile */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerProfile"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerProfileResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerProfileResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
+        GetPlayerProfileResult result = resultData.data;
+
+        PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+            public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                return privateGetPlayerSegmentsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
+    /** List all segments that a player currently belongs to at this moment in time. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerSegments"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerSegmentsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerSegmentsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
+        GetPlayerSegmentsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @return Async Task will return GetPlayerSharedSecretsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) {
+        return GetPlayerSharedSecretsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSharedSecretsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+            public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
+                return privateGetPlayerSharedSecretsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @return GetPlayerSharedSecretsResult
+     */
+    public PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
+        return GetPlayerSharedSecrets(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSharedSecretsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+            public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
+                return privateGetPlayerSharedSecretsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSharedSecretsResult> exceptionResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerSharedSecretsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSharedSecretsResult>>(){}.getType();
+
+    /** Returns all Player Shared Secret Keys including disabled and expired. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerSharedSecretsResult> privateGetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerSharedSecrets"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerSharedSecretsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerSharedSecretsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = (PlayFabJsonSuccess<GetPlayerSharedSecretsResult>) httpResult;
+        GetPlayerSharedSecretsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerSharedSecretsResult> pfResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    public FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
+        return GetPlayersInSegmentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+            public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                return privateGetPlayersInSegmentAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @return GetPlayersInSegmentResult
+     */
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+        return GetPlayersInSegment(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+            public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                return privateGetPlayersInSegmentAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayersInSegmentResultType = new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType();
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayersInSegment"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayersInSegmentResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayersInSegmentResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
+        GetPlayersInSegmentResult result = resultData.data;
+
+        PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @return Async Task will return GetPlayerStatisticDefinitionsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) {
+        return GetPlayerStatisticDefinitionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticDefinitionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
+                return privateGetPlayerStatisticDefinitionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @return GetPlayerStatisticDefinitionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
+        return GetPlayerStatisticDefinitions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticDefinitionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
+                return privateGetPlayerStatisticDefinitionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticDefinitionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticDefinitionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>>(){}.getType();
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticDefinitionsResult> privateGetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerStatisticDefinitions"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerStatisticDefinitionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>) httpResult;
+        GetPlayerStatisticDefinitionsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticDefinitionsResult> pfResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+            public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                return privateGetPlayerStatisticVersionsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
+    /** Retrieves the information on the available versions of the specified statistic. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerStatisticVersions"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerStatisticVersionsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
+        GetPlayerStatisticVersionsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+            public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                return privateGetPlayerTagsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
+    /** Get all tags with a given Namespace (optional) from a player profile. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPlayerTags"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPlayerTagsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPlayerTagsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
+        GetPlayerTagsResult result = resultData.data;
+
+        PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @return Async Task will return GetPolicyResponse
+     */
+    public FutureTask<PlayFabResult<GetPolicyResponse>> GetPolicyAsync(final GetPolicyRequest request) {
+        return GetPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPolicyResponse>> GetPolicyAsync(final GetPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPolicyResponse>>() {
+            public PlayFabResult<GetPolicyResponse> call() throws Exception {
+                return privateGetPolicyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @return GetPolicyResponse
+     */
+    public PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request) {
+        return GetPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPolicyResponse>>() {
+            public PlayFabResult<GetPolicyResponse> call() throws Exception {
+                return privateGetPolicyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPolicyResponse> exceptionResult = new PlayFabResult<GetPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPolicyResultType = new TypeToken<PlayFabJsonSuccess<GetPolicyResponse>>(){}.getType();
+
+    /** Gets the requested policy. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPolicyResponse> privateGetPolicyAsync(final GetPolicyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPolicy"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPolicyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPolicyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPolicyResponse> resultData = (PlayFabJsonSuccess<GetPolicyResponse>) httpResult;
+        GetPolicyResponse result = resultData.data;
+
+        PlayFabResult<GetPolicyResponse> pfResult = new PlayFabResult<GetPolicyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return Async Task will return GetPublisherDataResult
+     */
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
+            public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                return privateGetPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom publisher settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetPublisherDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
+        GetPublisherDataResult result = resultData.data;
+
+        PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    public FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
+        return GetRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+            public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                return privateGetRandomResultTablesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @return GetRandomResultTablesResult
+     */
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+        return GetRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+            public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                return privateGetRandomResultTablesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType();
+
+    /** Retrieves the random drop table configuration for the title */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetRandomResultTables"), request, "X-SecretKey", settings.DeveloperSecretKey, GetRandomResultTablesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetRandomResultTablesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
+        GetRandomResultTablesResult result = resultData.data;
+
+        PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @return Async Task will return GetServerBuildInfoResult
+     */
+    public FutureTask<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfoAsync(final GetServerBuildInfoRequest request) {
+        return GetServerBuildInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetServerBuildInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfoAsync(final GetServerBuildInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+            public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
+                return privateGetServerBuildInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @return GetServerBuildInfoResult
+     */
+    public PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
+        return GetServerBuildInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetServerBuildInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetServerBuildInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+            public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
+                return privateGetServerBuildInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetServerBuildInfoResult> exceptionResult = new PlayFabResult<GetServerBuildInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetServerBuildInfoResultType = new TypeToken<PlayFabJsonSuccess<GetServerBuildInfoResult>>(){}.getType();
+
+    /** Retrieves the build details for the specified game server executable */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetServerBuildInfoResult> privateGetServerBuildInfoAsync(final GetServerBuildInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetServerBuildInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, GetServerBuildInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetServerBuildInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetServerBuildInfoResult> resultData = (PlayFabJsonSuccess<GetServerBuildInfoResult>) httpResult;
+        GetServerBuildInfoResult result = resultData.data;
+
+        PlayFabResult<GetServerBuildInfoResult> pfResult = new PlayFabResult<GetServerBuildInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @return Async Task will return GetServerBuildUploadURLResult
+     */
+    public FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) {
+        return GetServerBuildUploadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetServerBuildUploadURLResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+            public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
+                return privateGetServerBuildUploadUrlAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @return GetServerBuildUploadURLResult
+     */
+    public PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
+        return GetServerBuildUploadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetServerBuildUploadURLResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+            public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
+                return privateGetServerBuildUploadUrlAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetServerBuildUploadURLResult> exceptionResult = new PlayFabResult<GetServerBuildUploadURLResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetServerBuildUploadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetServerBuildUploadURLResult>>(){}.getType();
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetServerBuildUploadURLResult> privateGetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetServerBuildUploadUrl"), request, "X-SecretKey", settings.DeveloperSecretKey, GetServerBuildUploadUrlResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetServerBuildUploadURLResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetServerBuildUploadURLResult> resultData = (PlayFabJsonSuccess<GetServerBuildUploadURLResult>) httpResult;
+        GetServerBuildUploadURLResult result = resultData.data;
+
+        PlayFabResult<GetServerBuildUploadURLResult> pfResult = new PlayFabResult<GetServerBuildUploadURLResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return Async Task will return GetStoreItemsResult
+     */
+    public FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
+        return GetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
+            public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                return privateGetStoreItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return GetStoreItemsResult
+     */
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
+        return GetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetStoreItemsResult>>() {
+            public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                return privateGetStoreItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType();
+
+    /** Retrieves the set of items defined for the specified store, including all prices defined */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetStoreItems"), request, "X-SecretKey", settings.DeveloperSecretKey, GetStoreItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetStoreItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
+        GetStoreItemsResult result = resultData.data;
+
+        PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @return Async Task will return GetTaskInstancesResult
+     */
+    public FutureTask<PlayFabResult<GetTaskInstancesResult>> GetTaskInstancesAsync(final GetTaskInstancesRequest request) {
+        return GetTaskInstancesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTaskInstancesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTaskInstancesResult>> GetTaskInstancesAsync(final GetTaskInstancesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+            public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
+                return privateGetTaskInstancesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @return GetTaskInstancesResult
+     */
+    public PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request) {
+        return GetTaskInstances(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTaskInstancesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTaskInstancesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+            public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
+                return privateGetTaskInstancesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTaskInstancesResult> exceptionResult = new PlayFabResult<GetTaskInstancesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTaskInstancesResultType = new TypeToken<PlayFabJsonSuccess<GetTaskInstancesResult>>(){}.getType();
+
+    /** Query for task instances by task, status, or time range. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTaskInstancesResult> privateGetTaskInstancesAsync(final GetTaskInstancesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetTaskInstances"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTaskInstancesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTaskInstancesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = (PlayFabJsonSuccess<GetTaskInstancesResult>) httpResult;
+        GetTaskInstancesResult result = resultData.data;
+
+        PlayFabResult<GetTaskInstancesResult> pfResult = new PlayFabResult<GetTaskInstancesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @return Async Task will return GetTasksResult
+     */
+    public FutureTask<PlayFabResult<GetTasksResult>> GetTasksAsync(final GetTasksRequest request) {
+        return GetTasksAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTasksResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTasksResult>> GetTasksAsync(final GetTasksRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTasksResult>>() {
+            public PlayFabResult<GetTasksResult> call() throws Exception {
+                return privateGetTasksAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @return GetTasksResult
+     */
+    public PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request) {
+        return GetTasks(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTasksResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTasksResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTasksResult>>() {
+            public PlayFabResult<GetTasksResult> call() throws Exception {
+                return privateGetTasksAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTasksResult> exceptionResult = new PlayFabResult<GetTasksResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTasksResultType = new TypeToken<PlayFabJsonSuccess<GetTasksResult>>(){}.getType();
+
+    /** Get definition information on a specified task or all tasks within a title. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTasksResult> privateGetTasksAsync(final GetTasksRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetTasks"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTasksResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTasksResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTasksResult> resultData = (PlayFabJsonSuccess<GetTasksResult>) httpResult;
+        GetTasksResult result = resultData.data;
+
+        PlayFabResult<GetTasksResult> pfResult = new PlayFabResult<GetTasksResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @return Async Task will return GetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom title settings which can be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetTitleData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTitleDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
+        GetTitleDataResult result = resultData.data;
+
+        PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @return Async Task will return GetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
+        return GetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
+        return GetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
+            public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                return privateGetTitleInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
+    /** Retrieves the key-value store of custom title settings which cannot be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetTitleInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetTitleInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
+        GetTitleDataResult result = resultData.data;
+
+        PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @return Async Task will return LookupUserAccountInfoResult
+     */
+    public FutureTask<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) {
+        return GetUserAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return LookupUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfoAsync(final LookupUserAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+            public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
+                return privateGetUserAccountInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @return LookupUserAccountInfoResult
+     */
+    public PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
+        return GetUserAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return LookupUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<LookupUserAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+            public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
+                return privateGetUserAccountInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<LookupUserAccountInfoResult> exceptionResult = new PlayFabResult<LookupUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<LookupUserAccountInfoResult>>(){}.getType();
+
+    /** Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<LookupUserAccountInfoResult> privateGetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserAccountInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserAccountInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<LookupUserAccountInfoResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = (PlayFabJsonSuccess<LookupUserAccountInfoResult>) httpResult;
+        LookupUserAccountInfoResult result = resultData.data;
+
+        PlayFabResult<LookupUserAccountInfoResult> pfResult = new PlayFabResult<LookupUserAccountInfoResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return Async Task will return GetUserBansResult
+     */
+    public FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
+        return GetUserBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
+            public PlayFabResult<GetUserBansResult> call() throws Exception {
+                return privateGetUserBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return GetUserBansResult
+     */
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
+        return GetUserBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
+            public PlayFabResult<GetUserBansResult> call() throws Exception {
+                return privateGetUserBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserBansResultType = new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType();
+
+    /** Gets all bans for a user. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserBans"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
+        GetUserBansResult result = resultData.data;
+
+        PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
+        return GetUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
+        return GetUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return Async Task will return GetUserInventoryResult
+     */
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
+            public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                return privateGetUserInventoryAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
+    /** Retrieves the specified user's current inventory of virtual goods */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserInventory"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserInventoryResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
+        GetUserInventoryResult result = resultData.data;
+
+        PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
+        return GetUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserPublisherInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserPublisherReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserPublisherReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return Async Task will return GetUserDataResult
+     */
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
+            public PlayFabResult<GetUserDataResult> call() throws Exception {
+                return privateGetUserReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
+    /** Retrieves the title-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GetUserReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, GetUserReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GetUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
+        GetUserDataResult result = resultData.data;
+
+        PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    public FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
+        return GrantItemsToUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+            public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                return privateGrantItemsToUsersAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return GrantItemsToUsersResult
+     */
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+        return GrantItemsToUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+            public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                return privateGrantItemsToUsersAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type GrantItemsToUsersResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType();
+
+    /** Adds the specified items to the specified user inventories */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/GrantItemsToUsers"), request, "X-SecretKey", settings.DeveloperSecretKey, GrantItemsToUsersResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<GrantItemsToUsersResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
+        GrantItemsToUsersResult result = resultData.data;
+
+        PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @return Async Task will return IncrementLimitedEditionItemAvailabilityResult
+     */
+    public FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) {
+        return IncrementLimitedEditionItemAvailabilityAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IncrementLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+            public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
+                return privateIncrementLimitedEditionItemAvailabilityAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @return IncrementLimitedEditionItemAvailabilityResult
+     */
+    public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
+        return IncrementLimitedEditionItemAvailability(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IncrementLimitedEditionItemAvailabilityResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+            public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
+                return privateIncrementLimitedEditionItemAvailabilityAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type IncrementLimitedEditionItemAvailabilityResultType = new TypeToken<PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>>(){}.getType();
+
+    /** Increases the global count for the given scarce resource. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> privateIncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/IncrementLimitedEditionItemAvailability"), request, "X-SecretKey", settings.DeveloperSecretKey, IncrementLimitedEditionItemAvailabilityResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>) httpResult;
+        IncrementLimitedEditionItemAvailabilityResult result = resultData.data;
+
+        PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @return Async Task will return IncrementPlayerStatisticVersionResult
+     */
+    public FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) {
+        return IncrementPlayerStatisticVersionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return IncrementPlayerStatisticVersionResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+            public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
+                return privateIncrementPlayerStatisticVersionAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @return IncrementPlayerStatisticVersionResult
+     */
+    public PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
+        return IncrementPlayerStatisticVersion(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return IncrementPlayerStatisticVersionResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+            public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
+                return privateIncrementPlayerStatisticVersionAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<IncrementPlayerStatisticVersionResult> exceptionResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type IncrementPlayerStatisticVersionResultType = new TypeToken<PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>>(){}.getType();
+
+    /** Resets the indicated statistic, removing all player entries for it and backing up the old values. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<IncrementPlayerStatisticVersionResult> privateIncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/IncrementPlayerStatisticVersion"), request, "X-SecretKey", settings.DeveloperSecretKey, IncrementPlayerStatisticVersionResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = (PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>) httpResult;
+        IncrementPlayerStatisticVersionResult result = resultData.data;
+
+        PlayFabResult<IncrementPlayerStatisticVersionResult> pfResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @return Async Task will return ListBuildsResult
+     */
+    public FutureTask<PlayFabResult<ListBuildsResult>> ListServerBuildsAsync(final ListBuildsRequest request) {
+        return ListServerBuildsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListBuildsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListBuildsResult>> ListServerBuildsAsync(final ListBuildsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListBuildsResult>>() {
+            public PlayFabResult<ListBuildsResult> call() throws Exception {
+                return privateListServerBuildsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @return ListBuildsResult
+     */
+    public PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request) {
+        return ListServerBuilds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListBuildsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListBuildsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListBuildsResult>>() {
+            public PlayFabResult<ListBuildsResult> call() throws Exception {
+                return privateListServerBuildsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListBuildsResult> exceptionResult = new PlayFabResult<ListBuildsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListServerBuildsResultType = new TypeToken<PlayFabJsonSuccess<ListBuildsResult>>(){}.getType();
+
+    /** Retrieves the build details for all game server executables which are currently defined for the title */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListBuildsResult> privateListServerBuildsAsync(final ListBuildsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ListServerBuilds"), request, "X-SecretKey", settings.DeveloperSecretKey, ListServerBuildsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListBuildsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListBuildsResult> resultData = (PlayFabJsonSuccess<ListBuildsResult>) httpResult;
+        ListBuildsResult result = resultData.data;
+
+        PlayFabResult<ListBuildsResult> pfResult = new PlayFabResult<ListBuildsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @return Async Task will return ListVirtualCurrencyTypesResult
+     */
+    public FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) {
+        return ListVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListVirtualCurrencyTypesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+            public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
+                return privateListVirtualCurrencyTypesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @return ListVirtualCurrencyTypesResult
+     */
+    public PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
+        return ListVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListVirtualCurrencyTypesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+            public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
+                return privateListVirtualCurrencyTypesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ListVirtualCurrencyTypesResult> exceptionResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ListVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>>(){}.getType();
+
+    /** Retuns the list of all defined virtual currencies for the title */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ListVirtualCurrencyTypesResult> privateListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ListVirtualCurrencyTypes"), request, "X-SecretKey", settings.DeveloperSecretKey, ListVirtualCurrencyTypesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ListVirtualCurrencyTypesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = (PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>) httpResult;
+        ListVirtualCurrencyTypesResult result = resultData.data;
+
+        PlayFabResult<ListVirtualCurrencyTypesResult> pfResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @return Async Task will return ModifyMatchmakerGameModesResult
+     */
+    public FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) {
+        return ModifyMatchmakerGameModesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+            public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
+                return privateModifyMatchmakerGameModesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @return ModifyMatchmakerGameModesResult
+     */
+    public PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
+        return ModifyMatchmakerGameModes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyMatchmakerGameModesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+            public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
+                return privateModifyMatchmakerGameModesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyMatchmakerGameModesResult> exceptionResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ModifyMatchmakerGameModesResultType = new TypeToken<PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>>(){}.getType();
+
+    /** Updates the game server mode details for the specified game server executable */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyMatchmakerGameModesResult> privateModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ModifyMatchmakerGameModes"), request, "X-SecretKey", settings.DeveloperSecretKey, ModifyMatchmakerGameModesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyMatchmakerGameModesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>) httpResult;
+        ModifyMatchmakerGameModesResult result = resultData.data;
+
+        PlayFabResult<ModifyMatchmakerGameModesResult> pfResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @return Async Task will return ModifyServerBuildResult
+     */
+    public FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request) {
+        return ModifyServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+            public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
+                return privateModifyServerBuildAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @return ModifyServerBuildResult
+     */
+    public PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request) {
+        return ModifyServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+            public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
+                return privateModifyServerBuildAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyServerBuildResult> exceptionResult = new PlayFabResult<ModifyServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ModifyServerBuildResultType = new TypeToken<PlayFabJsonSuccess<ModifyServerBuildResult>>(){}.getType();
+
+    /** Updates the build details for the specified game server executable */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyServerBuildResult> privateModifyServerBuildAsync(final ModifyServerBuildRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ModifyServerBuild"), request, "X-SecretKey", settings.DeveloperSecretKey, ModifyServerBuildResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyServerBuildResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyServerBuildResult> resultData = (PlayFabJsonSuccess<ModifyServerBuildResult>) httpResult;
+        ModifyServerBuildResult result = resultData.data;
+
+        PlayFabResult<ModifyServerBuildResult> pfResult = new PlayFabResult<ModifyServerBuildResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @return Async Task will return RefundPurchaseResponse
+     */
+    public FutureTask<PlayFabResult<RefundPurchaseResponse>> RefundPurchaseAsync(final RefundPurchaseRequest request) {
+        return RefundPurchaseAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RefundPurchaseResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RefundPurchaseResponse>> RefundPurchaseAsync(final RefundPurchaseRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+            public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
+                return privateRefundPurchaseAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @return RefundPurchaseResponse
+     */
+    public PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request) {
+        return RefundPurchase(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RefundPurchaseResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RefundPurchaseResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+            public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
+                return privateRefundPurchaseAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RefundPurchaseResponse> exceptionResult = new PlayFabResult<RefundPurchaseResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RefundPurchaseResultType = new TypeToken<PlayFabJsonSuccess<RefundPurchaseResponse>>(){}.getType();
+
+    /** Attempts to process an order refund through the original real money payment provider. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RefundPurchaseResponse> privateRefundPurchaseAsync(final RefundPurchaseRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RefundPurchase"), request, "X-SecretKey", settings.DeveloperSecretKey, RefundPurchaseResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RefundPurchaseResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = (PlayFabJsonSuccess<RefundPurchaseResponse>) httpResult;
+        RefundPurchaseResponse result = resultData.data;
+
+        PlayFabResult<RefundPurchaseResponse> pfResult = new PlayFabResult<RefundPurchaseResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    public FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
+        return RemovePlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+            public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                return privateRemovePlayerTagAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return RemovePlayerTagResult
+     */
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
+        return RemovePlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+            public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                return privateRemovePlayerTagAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemovePlayerTagResultType = new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType();
+
+    /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RemovePlayerTag"), request, "X-SecretKey", settings.DeveloperSecretKey, RemovePlayerTagResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemovePlayerTagResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
+        RemovePlayerTagResult result = resultData.data;
+
+        PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @return Async Task will return RemoveServerBuildResult
+     */
+    public FutureTask<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuildAsync(final RemoveServerBuildRequest request) {
+        return RemoveServerBuildAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuildAsync(final RemoveServerBuildRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+            public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
+                return privateRemoveServerBuildAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @return RemoveServerBuildResult
+     */
+    public PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request) {
+        return RemoveServerBuild(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveServerBuildResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveServerBuildResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+            public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
+                return privateRemoveServerBuildAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RemoveServerBuildResult> exceptionResult = new PlayFabResult<RemoveServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveServerBuildResultType = new TypeToken<PlayFabJsonSuccess<RemoveServerBuildResult>>(){}.getType();
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RemoveServerBuildResult> privateRemoveServerBuildAsync(final RemoveServerBuildRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RemoveServerBuild"), request, "X-SecretKey", settings.DeveloperSecretKey, RemoveServerBuildResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RemoveServerBuildResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RemoveServerBuildResult> resultData = (PlayFabJsonSuccess<RemoveServerBuildResult>) httpResult;
+        RemoveServerBuildResult result = resultData.data;
+
+        PlayFabResult<RemoveServerBuildResult> pfResult = new PlayFabResult<RemoveServerBuildResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @return Async Task will return BlankResult
+     */
+    public FutureTask<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) {
+        return RemoveVirtualCurrencyTypesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateRemoveVirtualCurrencyTypesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
+        return RemoveVirtualCurrencyTypes(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BlankResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BlankResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BlankResult>>() {
+            public PlayFabResult<BlankResult> call() throws Exception {
+                return privateRemoveVirtualCurrencyTypesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RemoveVirtualCurrencyTypesResultType = new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType();
+
+    /** Removes one or more virtual currencies from the set defined for the title. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<BlankResult> privateRemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RemoveVirtualCurrencyTypes"), request, "X-SecretKey", settings.DeveloperSecretKey, RemoveVirtualCurrencyTypesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<BlankResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
+        BlankResult result = resultData.data;
+
+        PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @return Async Task will return ResetCharacterStatisticsResult
+     */
+    public FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) {
+        return ResetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+            public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
+                return privateResetCharacterStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @return ResetCharacterStatisticsResult
+     */
+    public PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
+        return ResetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+            public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
+                return privateResetCharacterStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ResetCharacterStatisticsResult> exceptionResult = new PlayFabResult<ResetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ResetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<ResetCharacterStatisticsResult>>(){}.getType();
+
+    /** Completely removes all statistics for the specified character, for the current game */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ResetCharacterStatisticsResult> privateResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ResetCharacterStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, ResetCharacterStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ResetCharacterStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<ResetCharacterStatisticsResult>) httpResult;
+        ResetCharacterStatisticsResult result = resultData.data;
+
+        PlayFabResult<ResetCharacterStatisticsResult> pfResult = new PlayFabResult<ResetCharacterStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @return Async Task will return ResetPasswordResult
+     */
+    public FutureTask<PlayFabResult<ResetPasswordResult>> ResetPasswordAsync(final ResetPasswordRequest request) {
+        return ResetPasswordAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetPasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ResetPasswordResult>> ResetPasswordAsync(final ResetPasswordRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetPasswordResult>>() {
+            public PlayFabResult<ResetPasswordResult> call() throws Exception {
+                return privateResetPasswordAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @return ResetPasswordResult
+     */
+    public PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request) {
+        return ResetPassword(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetPasswordResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetPasswordResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetPasswordResult>>() {
+            public PlayFabResult<ResetPasswordResult> call() throws Exception {
+                return privateResetPasswordAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ResetPasswordResult> exceptionResult = new PlayFabResult<ResetPasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ResetPasswordResultType = new TypeToken<PlayFabJsonSuccess<ResetPasswordResult>>(){}.getType();
+
+    /** Reset a player's password for a given title. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ResetPasswordResult> privateResetPasswordAsync(final ResetPasswordRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ResetPassword"), request, "X-SecretKey", settings.DeveloperSecretKey, ResetPasswordResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ResetPasswordResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ResetPasswordResult> resultData = (PlayFabJsonSuccess<ResetPasswordResult>) httpResult;
+        ResetPasswordResult result = resultData.data;
+
+        PlayFabResult<ResetPasswordResult> pfResult = new PlayFabResult<ResetPasswordResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @return Async Task will return ResetUserStatisticsResult
+     */
+    public FutureTask<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatisticsAsync(final ResetUserStatisticsRequest request) {
+        return ResetUserStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResetUserStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatisticsAsync(final ResetUserStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+            public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
+                return privateResetUserStatisticsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @return ResetUserStatisticsResult
+     */
+    public PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request) {
+        return ResetUserStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResetUserStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResetUserStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+            public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
+                return privateResetUserStatisticsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ResetUserStatisticsResult> exceptionResult = new PlayFabResult<ResetUserStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ResetUserStatisticsResultType = new TypeToken<PlayFabJsonSuccess<ResetUserStatisticsResult>>(){}.getType();
+
+    /** Completely removes all statistics for the specified user, for the current game */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ResetUserStatisticsResult> privateResetUserStatisticsAsync(final ResetUserStatisticsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ResetUserStatistics"), request, "X-SecretKey", settings.DeveloperSecretKey, ResetUserStatisticsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ResetUserStatisticsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = (PlayFabJsonSuccess<ResetUserStatisticsResult>) httpResult;
+        ResetUserStatisticsResult result = resultData.data;
+
+        PlayFabResult<ResetUserStatisticsResult> pfResult = new PlayFabResult<ResetUserStatisticsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @return Async Task will return ResolvePurchaseDisputeResponse
+     */
+    public FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) {
+        return ResolvePurchaseDisputeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ResolvePurchaseDisputeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+            public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
+                return privateResolvePurchaseDisputeAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @return ResolvePurchaseDisputeResponse
+     */
+    public PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
+        return ResolvePurchaseDispute(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ResolvePurchaseDisputeResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+            public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
+                return privateResolvePurchaseDisputeAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ResolvePurchaseDisputeResponse> exceptionResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type ResolvePurchaseDisputeResultType = new TypeToken<PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>>(){}.getType();
+
+    /** Attempts to resolve a dispute with the original order's payment provider. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ResolvePurchaseDisputeResponse> privateResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/ResolvePurchaseDispute"), request, "X-SecretKey", settings.DeveloperSecretKey, ResolvePurchaseDisputeResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ResolvePurchaseDisputeResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = (PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>) httpResult;
+        ResolvePurchaseDisputeResponse result = resultData.data;
+
+        PlayFabResult<ResolvePurchaseDisputeResponse> pfResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    public FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
+        return RevokeAllBansForUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+            public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                return privateRevokeAllBansForUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return RevokeAllBansForUserResult
+     */
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+        return RevokeAllBansForUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+            public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                return privateRevokeAllBansForUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeAllBansForUserResultType = new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType();
+
+    /** Revoke all active bans for a user. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RevokeAllBansForUser"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeAllBansForUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeAllBansForUserResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
+        RevokeAllBansForUserResult result = resultData.data;
+
+        PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return Async Task will return RevokeBansResult
+     */
+    public FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
+        return RevokeBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
+            public PlayFabResult<RevokeBansResult> call() throws Exception {
+                return privateRevokeBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return RevokeBansResult
+     */
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
+        return RevokeBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
+            public PlayFabResult<RevokeBansResult> call() throws Exception {
+                return privateRevokeBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeBansResultType = new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType();
+
+    /** Revoke all active bans specified with BanId. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RevokeBans"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
+        RevokeBansResult result = resultData.data;
+
+        PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return Async Task will return RevokeInventoryResult
+     */
+    public FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
+        return RevokeInventoryItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
+            public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                return privateRevokeInventoryItemAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return RevokeInventoryResult
+     */
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+        return RevokeInventoryItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
+            public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                return privateRevokeInventoryItemAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeInventoryItemResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType();
+
+    /** Revokes access to an item in a user's inventory */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RevokeInventoryItem"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeInventoryItemResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeInventoryResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
+        RevokeInventoryResult result = resultData.data;
+
+        PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    public FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
+        return RevokeInventoryItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+            public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                return privateRevokeInventoryItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return RevokeInventoryItemsResult
+     */
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+        return RevokeInventoryItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+            public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                return privateRevokeInventoryItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RevokeInventoryItemsResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType();
+
+    /** Revokes access for up to 25 items across multiple users and characters. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RevokeInventoryItems"), request, "X-SecretKey", settings.DeveloperSecretKey, RevokeInventoryItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RevokeInventoryItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
+        RevokeInventoryItemsResult result = resultData.data;
+
+        PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @return Async Task will return RunTaskResult
+     */
+    public FutureTask<PlayFabResult<RunTaskResult>> RunTaskAsync(final RunTaskRequest request) {
+        return RunTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RunTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<RunTaskResult>> RunTaskAsync(final RunTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RunTaskResult>>() {
+            public PlayFabResult<RunTaskResult> call() throws Exception {
+                return privateRunTaskAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @return RunTaskResult
+     */
+    public PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request) {
+        return RunTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RunTaskResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RunTaskResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RunTaskResult>>() {
+            public PlayFabResult<RunTaskResult> call() throws Exception {
+                return privateRunTaskAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<RunTaskResult> exceptionResult = new PlayFabResult<RunTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type RunTaskResultType = new TypeToken<PlayFabJsonSuccess<RunTaskResult>>(){}.getType();
+
+    /** Run a task immediately regardless of its schedule. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<RunTaskResult> privateRunTaskAsync(final RunTaskRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/RunTask"), request, "X-SecretKey", settings.DeveloperSecretKey, RunTaskResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<RunTaskResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<RunTaskResult> resultData = (PlayFabJsonSuccess<RunTaskResult>) httpResult;
+        RunTaskResult result = resultData.data;
+
+        PlayFabResult<RunTaskResult> pfResult = new PlayFabResult<RunTaskResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    public FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
+        return SendAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendAccountRecoveryEmailAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return SendAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+        return SendAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+            public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                return privateSendAccountRecoveryEmailAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SendAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType();
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SendAccountRecoveryEmail"), request, "X-SecretKey", settings.DeveloperSecretKey, SendAccountRecoveryEmailResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
+        SendAccountRecoveryEmailResult result = resultData.data;
+
+        PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    public FutureTask<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
+        return SetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItemsAsync(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+            public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                return privateSetCatalogItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return UpdateCatalogItemsResult
+     */
+    public PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request) {
+        return SetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+            public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                return privateSetCatalogItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType();
+
+    /** Creates the catalog configuration of all virtual goods for the specified catalog version */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCatalogItemsResult> privateSetCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetCatalogItems"), request, "X-SecretKey", settings.DeveloperSecretKey, SetCatalogItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCatalogItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
+        UpdateCatalogItemsResult result = resultData.data;
+
+        PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+            public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                return privateSetPlayerSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
+    /** Sets or resets the player's secret. Player secrets are used to sign API requests. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetPlayerSecret"), request, "X-SecretKey", settings.DeveloperSecretKey, SetPlayerSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPlayerSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
+        SetPlayerSecretResult result = resultData.data;
+
+        PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @return Async Task will return SetPublishedRevisionResult
+     */
+    public FutureTask<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevisionAsync(final SetPublishedRevisionRequest request) {
+        return SetPublishedRevisionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublishedRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevisionAsync(final SetPublishedRevisionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+            public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
+                return privateSetPublishedRevisionAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @return SetPublishedRevisionResult
+     */
+    public PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request) {
+        return SetPublishedRevision(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublishedRevisionResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublishedRevisionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+            public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
+                return privateSetPublishedRevisionAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPublishedRevisionResult> exceptionResult = new PlayFabResult<SetPublishedRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPublishedRevisionResultType = new TypeToken<PlayFabJsonSuccess<SetPublishedRevisionResult>>(){}.getType();
+
+    /** Sets the currently published revision of a title Cloud Script */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPublishedRevisionResult> privateSetPublishedRevisionAsync(final SetPublishedRevisionRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetPublishedRevision"), request, "X-SecretKey", settings.DeveloperSecretKey, SetPublishedRevisionResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPublishedRevisionResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = (PlayFabJsonSuccess<SetPublishedRevisionResult>) httpResult;
+        SetPublishedRevisionResult result = resultData.data;
+
+        PlayFabResult<SetPublishedRevisionResult> pfResult = new PlayFabResult<SetPublishedRevisionResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return Async Task will return SetPublisherDataResult
+     */
+    public FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
+        return SetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
+            public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                return privateSetPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return SetPublisherDataResult
+     */
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
+        return SetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
+            public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                return privateSetPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType();
+
+    /** Updates the key-value store of custom publisher settings */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetPublisherDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
+        SetPublisherDataResult result = resultData.data;
+
+        PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    public FutureTask<PlayFabResult<UpdateStoreItemsResult>> SetStoreItemsAsync(final UpdateStoreItemsRequest request) {
+        return SetStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateStoreItemsResult>> SetStoreItemsAsync(final UpdateStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+            public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                return privateSetStoreItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @return UpdateStoreItemsResult
+     */
+    public PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request) {
+        return SetStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+            public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                return privateSetStoreItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType();
+
+    /** Sets all the items in one virtual store */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateStoreItemsResult> privateSetStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetStoreItems"), request, "X-SecretKey", settings.DeveloperSecretKey, SetStoreItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateStoreItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
+        UpdateStoreItemsResult result = resultData.data;
+
+        PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @return Async Task will return SetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
+        return SetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
+        return SetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
+    /** Creates and updates the key-value store of custom title settings which can be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetTitleData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetTitleDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
+        SetTitleDataResult result = resultData.data;
+
+        PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @return Async Task will return SetTitleDataResult
+     */
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
+        return SetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
+        return SetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
+            public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                return privateSetTitleInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
+    /** Updates the key-value store of custom title settings which cannot be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetTitleInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, SetTitleInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetTitleDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
+        SetTitleDataResult result = resultData.data;
+
+        PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @return Async Task will return SetupPushNotificationResult
+     */
+    public FutureTask<PlayFabResult<SetupPushNotificationResult>> SetupPushNotificationAsync(final SetupPushNotificationRequest request) {
+        return SetupPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetupPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<SetupPushNotificationResult>> SetupPushNotificationAsync(final SetupPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+            public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
+                return privateSetupPushNotificationAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @return SetupPushNotificationResult
+     */
+    public PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request) {
+        return SetupPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetupPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetupPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+            public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
+                return privateSetupPushNotificationAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<SetupPushNotificationResult> exceptionResult = new PlayFabResult<SetupPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SetupPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<SetupPushNotificationResult>>(){}.getType();
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<SetupPushNotificationResult> privateSetupPushNotificationAsync(final SetupPushNotificationRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SetupPushNotification"), request, "X-SecretKey", settings.DeveloperSecretKey, SetupPushNotificationResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<SetupPushNotificationResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = (PlayFabJsonSuccess<SetupPushNotificationResult>) httpResult;
+        SetupPushNotificationResult result = resultData.data;
+
+        PlayFabResult<SetupPushNotificationResult> pfResult = new PlayFabResult<SetupPushNotificationResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+            public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                return privateSubtractUserVirtualCurrencyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
+    /** Decrements the specified virtual currency by the stated amount */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/SubtractUserVirtualCurrency"), request, "X-SecretKey", settings.DeveloperSecretKey, SubtractUserVirtualCurrencyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
+        ModifyUserVirtualCurrencyResult result = resultData.data;
+
+        PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return Async Task will return UpdateBansResult
+     */
+    public FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
+        return UpdateBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
+            public PlayFabResult<UpdateBansResult> call() throws Exception {
+                return privateUpdateBansAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return UpdateBansResult
+     */
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
+        return UpdateBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
+            public PlayFabResult<UpdateBansResult> call() throws Exception {
+                return privateUpdateBansAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateBansResultType = new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType();
+
+    /** Updates information of a list of existing bans specified with Ban Ids. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateBans"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateBansResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateBansResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
+        UpdateBansResult result = resultData.data;
+
+        PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    public FutureTask<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
+        return UpdateCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+            public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                return privateUpdateCatalogItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return UpdateCatalogItemsResult
+     */
+    public PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
+        return UpdateCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+            public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                return privateUpdateCatalogItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType();
+
+    /** Updates the catalog configuration for virtual goods in the specified catalog version */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCatalogItemsResult> privateUpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateCatalogItems"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCatalogItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCatalogItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
+        UpdateCatalogItemsResult result = resultData.data;
+
+        PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @return Async Task will return UpdateCloudScriptResult
+     */
+    public FutureTask<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScriptAsync(final UpdateCloudScriptRequest request) {
+        return UpdateCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScriptAsync(final UpdateCloudScriptRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+            public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
+                return privateUpdateCloudScriptAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @return UpdateCloudScriptResult
+     */
+    public PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request) {
+        return UpdateCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+            public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
+                return privateUpdateCloudScriptAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateCloudScriptResult> exceptionResult = new PlayFabResult<UpdateCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<UpdateCloudScriptResult>>(){}.getType();
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateCloudScriptResult> privateUpdateCloudScriptAsync(final UpdateCloudScriptRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateCloudScript"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateCloudScriptResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateCloudScriptResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = (PlayFabJsonSuccess<UpdateCloudScriptResult>) httpResult;
+        UpdateCloudScriptResult result = resultData.data;
+
+        PlayFabResult<UpdateCloudScriptResult> pfResult = new PlayFabResult<UpdateCloudScriptResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @return Async Task will return UpdatePlayerSharedSecretResult
+     */
+    public FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) {
+        return UpdatePlayerSharedSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+            public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
+                return privateUpdatePlayerSharedSecretAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @return UpdatePlayerSharedSecretResult
+     */
+    public PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
+        return UpdatePlayerSharedSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerSharedSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+            public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
+                return privateUpdatePlayerSharedSecretAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdatePlayerSharedSecretResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>>(){}.getType();
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdatePlayerSharedSecretResult> privateUpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdatePlayerSharedSecret"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdatePlayerSharedSecretResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdatePlayerSharedSecretResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>) httpResult;
+        UpdatePlayerSharedSecretResult result = resultData.data;
+
+        PlayFabResult<UpdatePlayerSharedSecretResult> pfResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @return Async Task will return UpdatePlayerStatisticDefinitionResult
+     */
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) {
+        return UpdatePlayerStatisticDefinitionAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
+                return privateUpdatePlayerStatisticDefinitionAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @return UpdatePlayerStatisticDefinitionResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
+        return UpdatePlayerStatisticDefinition(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticDefinitionResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+            public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
+                return privateUpdatePlayerStatisticDefinitionAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdatePlayerStatisticDefinitionResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>>(){}.getType();
+
+    /** Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdatePlayerStatisticDefinitionResult> privateUpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdatePlayerStatisticDefinition"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdatePlayerStatisticDefinitionResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>) httpResult;
+        UpdatePlayerStatisticDefinitionResult result = resultData.data;
+
+        PlayFabResult<UpdatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @return Async Task will return UpdatePolicyResponse
+     */
+    public FutureTask<PlayFabResult<UpdatePolicyResponse>> UpdatePolicyAsync(final UpdatePolicyRequest request) {
+        return UpdatePolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdatePolicyResponse>> UpdatePolicyAsync(final UpdatePolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+            public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
+                return privateUpdatePolicyAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @return UpdatePolicyResponse
+     */
+    public PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request) {
+        return UpdatePolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+            public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
+                return privateUpdatePolicyAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdatePolicyResponse> exceptionResult = new PlayFabResult<UpdatePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdatePolicyResultType = new TypeToken<PlayFabJsonSuccess<UpdatePolicyResponse>>(){}.getType();
+
+    /** Changes a policy for a title */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdatePolicyResponse> privateUpdatePolicyAsync(final UpdatePolicyRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdatePolicy"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdatePolicyResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdatePolicyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = (PlayFabJsonSuccess<UpdatePolicyResponse>) httpResult;
+        UpdatePolicyResponse result = resultData.data;
+
+        PlayFabResult<UpdatePolicyResponse> pfResult = new PlayFabResult<UpdatePolicyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @return Async Task will return UpdateRandomResultTablesResult
+     */
+    public FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) {
+        return UpdateRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+            public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
+                return privateUpdateRandomResultTablesAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @return UpdateRandomResultTablesResult
+     */
+    public PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
+        return UpdateRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+            public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
+                return privateUpdateRandomResultTablesAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateRandomResultTablesResult> exceptionResult = new PlayFabResult<UpdateRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<UpdateRandomResultTablesResult>>(){}.getType();
+
+    /** Updates the random drop table configuration for the title */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateRandomResultTablesResult> privateUpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateRandomResultTables"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateRandomResultTablesResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateRandomResultTablesResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = (PlayFabJsonSuccess<UpdateRandomResultTablesResult>) httpResult;
+        UpdateRandomResultTablesResult result = resultData.data;
+
+        PlayFabResult<UpdateRandomResultTablesResult> pfResult = new PlayFabResult<UpdateRandomResultTablesResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    public FutureTask<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItemsAsync(final UpdateStoreItemsRequest request) {
+        return UpdateStoreItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItemsAsync(final UpdateStoreItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+            public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                return privateUpdateStoreItemsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @return UpdateStoreItemsResult
+     */
+    public PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request) {
+        return UpdateStoreItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateStoreItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+            public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                return privateUpdateStoreItemsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateStoreItemsResultType = new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType();
+
+    /** Updates an existing virtual item store with new or modified items */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateStoreItemsResult> privateUpdateStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateStoreItems"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateStoreItemsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateStoreItemsResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
+        UpdateStoreItemsResult result = resultData.data;
+
+        PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @return Async Task will return EmptyResponse
+     */
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateTaskAsync(final UpdateTaskRequest request) {
+        return UpdateTaskAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<EmptyResponse>> UpdateTaskAsync(final UpdateTaskRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateTaskAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request) {
+        return UpdateTask(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
+            public PlayFabResult<EmptyResponse> call() throws Exception {
+                return privateUpdateTaskAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateTaskResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
+    /** Update an existing task. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<EmptyResponse> privateUpdateTaskAsync(final UpdateTaskRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateTask"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateTaskResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<EmptyResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
+        EmptyResponse result = resultData.data;
+
+        PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
+        return UpdateUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+        return UpdateUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserPublisherData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
+        return UpdateUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherInternalDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+        return UpdateUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherInternalDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserPublisherInternalData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherInternalDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+        return UpdateUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the publisher-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserPublisherReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return Async Task will return UpdateUserDataResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
+        return UpdateUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserReadOnlyDataAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+        return UpdateUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
+            public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                return privateUpdateUserReadOnlyDataAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
+    /** Updates the title-specific custom data for the user which can only be read by the client */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserReadOnlyData"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserReadOnlyDataResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserDataResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
+        UpdateUserDataResult result = resultData.data;
+
+        PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    public FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
+        return UpdateUserTitleDisplayNameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+            public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                return privateUpdateUserTitleDisplayNameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+        return UpdateUserTitleDisplayName(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+            public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                return privateUpdateUserTitleDisplayNameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UpdateUserTitleDisplayNameResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType();
+
+    /** Updates the title specific display name for a user */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Admin/UpdateUserTitleDisplayName"), request, "X-SecretKey", settings.DeveloperSecretKey, UpdateUserTitleDisplayNameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
+        UpdateUserTitleDisplayNameResult result = resultData.data;
+
+        PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -0,0 +1,13568 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabAdminModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabAdminModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabAdminModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AbortTaskInstanceRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new ActionsOnPlayersInSegmentTaskParameterAdapter(gson);
+                case 2: return (TypeAdapter<T>) new ActionsOnPlayersInSegmentTaskSummaryAdapter(gson);
+                case 3: return (TypeAdapter<T>) new AdCampaignAttributionAdapter(gson);
+                case 4: return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case 5: return (TypeAdapter<T>) new AddNewsRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new AddNewsResultAdapter(gson);
+                case 7: return (TypeAdapter<T>) new AddPlayerTagRequestAdapter(gson);
+                case 8: return (TypeAdapter<T>) new AddPlayerTagResultAdapter(gson);
+                case 9: return (TypeAdapter<T>) new AddServerBuildRequestAdapter(gson);
+                case 10: return (TypeAdapter<T>) new AddServerBuildResultAdapter(gson);
+                case 11: return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case 12: return (TypeAdapter<T>) new AddVirtualCurrencyTypesRequestAdapter(gson);
+                case 13: return (TypeAdapter<T>) new ApiConditionAdapter(gson);
+                case 14: return (TypeAdapter<T>) new BanInfoAdapter(gson);
+                case 15: return (TypeAdapter<T>) new BanRequestAdapter(gson);
+                case 16: return (TypeAdapter<T>) new BanUsersRequestAdapter(gson);
+                case 17: return (TypeAdapter<T>) new BanUsersResultAdapter(gson);
+                case 18: return (TypeAdapter<T>) new BlankResultAdapter(gson);
+                case 19: return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case 20: return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case 21: return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case 22: return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case 23: return (TypeAdapter<T>) new CheckLimitedEditionItemAvailabilityRequestAdapter(gson);
+                case 24: return (TypeAdapter<T>) new CheckLimitedEditionItemAvailabilityResultAdapter(gson);
+                case 25: return (TypeAdapter<T>) new CloudScriptFileAdapter(gson);
+                case 26: return (TypeAdapter<T>) new CloudScriptTaskParameterAdapter(gson);
+                case 27: return (TypeAdapter<T>) new CloudScriptTaskSummaryAdapter(gson);
+                case 28: return (TypeAdapter<T>) new CloudScriptVersionStatusAdapter(gson);
+                case 29: return (TypeAdapter<T>) new ContactEmailInfoAdapter(gson);
+                case 30: return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case 31: return (TypeAdapter<T>) new ContentInfoAdapter(gson);
+                case 32: return (TypeAdapter<T>) new CreateActionsOnPlayerSegmentTaskRequestAdapter(gson);
+                case 33: return (TypeAdapter<T>) new CreateCloudScriptTaskRequestAdapter(gson);
+                case 34: return (TypeAdapter<T>) new CreatePlayerSharedSecretRequestAdapter(gson);
+                case 35: return (TypeAdapter<T>) new CreatePlayerSharedSecretResultAdapter(gson);
+                case 36: return (TypeAdapter<T>) new CreatePlayerStatisticDefinitionRequestAdapter(gson);
+                case 37: return (TypeAdapter<T>) new CreatePlayerStatisticDefinitionResultAdapter(gson);
+                case 38: return (TypeAdapter<T>) new CreateTaskResultAdapter(gson);
+                case 39: return (TypeAdapter<T>) new DeleteContentRequestAdapter(gson);
+                case 40: return (TypeAdapter<T>) new DeleteMasterPlayerAccountRequestAdapter(gson);
+                case 41: return (TypeAdapter<T>) new DeleteMasterPlayerAccountResultAdapter(gson);
+                case 42: return (TypeAdapter<T>) new DeletePlayerRequestAdapter(gson);
+                case 43: return (TypeAdapter<T>) new DeletePlayerResultAdapter(gson);
+                case 44: return (TypeAdapter<T>) new DeletePlayerSharedSecretRequestAdapter(gson);
+                case 45: return (TypeAdapter<T>) new DeletePlayerSharedSecretResultAdapter(gson);
+                case 46: return (TypeAdapter<T>) new DeleteStoreRequestAdapter(gson);
+                case 47: return (TypeAdapter<T>) new DeleteStoreResultAdapter(gson);
+                case 48: return (TypeAdapter<T>) new DeleteTaskRequestAdapter(gson);
+                case 49: return (TypeAdapter<T>) new DeleteTitleRequestAdapter(gson);
+                case 50: return (TypeAdapter<T>) new DeleteTitleResultAdapter(gson);
+                case 51: return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case 52: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 53: return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case 54: return (TypeAdapter<T>) new ExportMasterPlayerDataRequestAdapter(gson);
+                case 55: return (TypeAdapter<T>) new ExportMasterPlayerDataResultAdapter(gson);
+                case 56: return (TypeAdapter<T>) new GameModeInfoAdapter(gson);
+                case 57: return (TypeAdapter<T>) new GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(gson);
+                case 58: return (TypeAdapter<T>) new GetAllSegmentsRequestAdapter(gson);
+                case 59: return (TypeAdapter<T>) new GetAllSegmentsResultAdapter(gson);
+                case 60: return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case 61: return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case 62: return (TypeAdapter<T>) new GetCloudScriptRevisionRequestAdapter(gson);
+                case 63: return (TypeAdapter<T>) new GetCloudScriptRevisionResultAdapter(gson);
+                case 64: return (TypeAdapter<T>) new GetCloudScriptTaskInstanceResultAdapter(gson);
+                case 65: return (TypeAdapter<T>) new GetCloudScriptVersionsRequestAdapter(gson);
+                case 66: return (TypeAdapter<T>) new GetCloudScriptVersionsResultAdapter(gson);
+                case 67: return (TypeAdapter<T>) new GetContentListRequestAdapter(gson);
+                case 68: return (TypeAdapter<T>) new GetContentListResultAdapter(gson);
+                case 69: return (TypeAdapter<T>) new GetContentUploadUrlRequestAdapter(gson);
+                case 70: return (TypeAdapter<T>) new GetContentUploadUrlResultAdapter(gson);
+                case 71: return (TypeAdapter<T>) new GetDataReportRequestAdapter(gson);
+                case 72: return (TypeAdapter<T>) new GetDataReportResultAdapter(gson);
+                case 73: return (TypeAdapter<T>) new GetMatchmakerGameInfoRequestAdapter(gson);
+                case 74: return (TypeAdapter<T>) new GetMatchmakerGameInfoResultAdapter(gson);
+                case 75: return (TypeAdapter<T>) new GetMatchmakerGameModesRequestAdapter(gson);
+                case 76: return (TypeAdapter<T>) new GetMatchmakerGameModesResultAdapter(gson);
+                case 77: return (TypeAdapter<T>) new GetPlayedTitleListRequestAdapter(gson);
+                case 78: return (TypeAdapter<T>) new GetPlayedTitleListResultAdapter(gson);
+                case 79: return (TypeAdapter<T>) new GetPlayerIdFromAuthTokenRequestAdapter(gson);
+                case 80: return (TypeAdapter<T>) new GetPlayerIdFromAuthTokenResultAdapter(gson);
+                case 81: return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case 82: return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case 83: return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case 84: return (TypeAdapter<T>) new GetPlayerSharedSecretsRequestAdapter(gson);
+                case 85: return (TypeAdapter<T>) new GetPlayerSharedSecretsResultAdapter(gson);
+                case 86: return (TypeAdapter<T>) new GetPlayersInSegmentRequestAdapter(gson);
+                case 87: return (TypeAdapter<T>) new GetPlayersInSegmentResultAdapter(gson);
+                case 88: return (TypeAdapter<T>) new GetPlayersSegmentsRequestAdapter(gson);
+                case 89: return (TypeAdapter<T>) new GetPlayerStatisticDefinitionsRequestAdapter(gson);
+                case 90: return (TypeAdapter<T>) new GetPlayerStatisticDefinitionsResultAdapter(gson);
+                case 91: return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case 92: return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case 93: return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case 94: return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case 95: return (TypeAdapter<T>) new GetPolicyRequestAdapter(gson);
+                case 96: return (TypeAdapter<T>) new GetPolicyResponseAdapter(gson);
+                case 97: return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case 98: return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case 99: return (TypeAdapter<T>) new GetRandomResultTablesRequestAdapter(gson);
+                case 100: return (TypeAdapter<T>) new GetRandomResultTablesResultAdapter(gson);
+                case 101: return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case 102: return (TypeAdapter<T>) new GetServerBuildInfoRequestAdapter(gson);
+                case 103: return (TypeAdapter<T>) new GetServerBuildInfoResultAdapter(gson);
+                case 104: return (TypeAdapter<T>) new GetServerBuildUploadURLRequestAdapter(gson);
+                case 105: return (TypeAdapter<T>) new GetServerBuildUploadURLResultAdapter(gson);
+                case 106: return (TypeAdapter<T>) new GetStoreItemsRequestAdapter(gson);
+                case 107: return (TypeAdapter<T>) new GetStoreItemsResultAdapter(gson);
+                case 108: return (TypeAdapter<T>) new GetTaskInstanceRequestAdapter(gson);
+                case 109: return (TypeAdapter<T>) new GetTaskInstancesRequestAdapter(gson);
+                case 110: return (TypeAdapter<T>) new GetTaskInstancesResultAdapter(gson);
+                case 111: return (TypeAdapter<T>) new GetTasksRequestAdapter(gson);
+                case 112: return (TypeAdapter<T>) new GetTasksResultAdapter(gson);
+                case 113: return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case 114: return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case 115: return (TypeAdapter<T>) new GetUserBansRequestAdapter(gson);
+                case 116: return (TypeAdapter<T>) new GetUserBansResultAdapter(gson);
+                case 117: return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case 118: return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case 119: return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case 120: return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case 121: return (TypeAdapter<T>) new GrantedItemInstanceAdapter(gson);
+                case 122: return (TypeAdapter<T>) new GrantItemsToUsersRequestAdapter(gson);
+                case 123: return (TypeAdapter<T>) new GrantItemsToUsersResultAdapter(gson);
+                case 124: return (TypeAdapter<T>) new IncrementLimitedEditionItemAvailabilityRequestAdapter(gson);
+                case 125: return (TypeAdapter<T>) new IncrementLimitedEditionItemAvailabilityResultAdapter(gson);
+                case 126: return (TypeAdapter<T>) new IncrementPlayerStatisticVersionRequestAdapter(gson);
+                case 127: return (TypeAdapter<T>) new IncrementPlayerStatisticVersionResultAdapter(gson);
+                case 128: return (TypeAdapter<T>) new ItemGrantAdapter(gson);
+                case 129: return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case 130: return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case 131: return (TypeAdapter<T>) new ListBuildsRequestAdapter(gson);
+                case 132: return (TypeAdapter<T>) new ListBuildsResultAdapter(gson);
+                case 133: return (TypeAdapter<T>) new ListVirtualCurrencyTypesRequestAdapter(gson);
+                case 134: return (TypeAdapter<T>) new ListVirtualCurrencyTypesResultAdapter(gson);
+                case 135: return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case 136: return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case 137: return (TypeAdapter<T>) new LookupUserAccountInfoRequestAdapter(gson);
+                case 138: return (TypeAdapter<T>) new LookupUserAccountInfoResultAdapter(gson);
+                case 139: return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case 140: return (TypeAdapter<T>) new ModifyMatchmakerGameModesRequestAdapter(gson);
+                case 141: return (TypeAdapter<T>) new ModifyMatchmakerGameModesResultAdapter(gson);
+                case 142: return (TypeAdapter<T>) new ModifyServerBuildRequestAdapter(gson);
+                case 143: return (TypeAdapter<T>) new ModifyServerBuildResultAdapter(gson);
+                case 144: return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case 145: return (TypeAdapter<T>) new NameIdentifierAdapter(gson);
+                case 146: return (TypeAdapter<T>) new PermissionStatementAdapter(gson);
+                case 147: return (TypeAdapter<T>) new PlayerLinkedAccountAdapter(gson);
+                case 148: return (TypeAdapter<T>) new PlayerLocationAdapter(gson);
+                case 149: return (TypeAdapter<T>) new PlayerProfileAdapter(gson);
+                case 150: return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case 151: return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case 152: return (TypeAdapter<T>) new PlayerStatisticAdapter(gson);
+                case 153: return (TypeAdapter<T>) new PlayerStatisticDefinitionAdapter(gson);
+                case 154: return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case 155: return (TypeAdapter<T>) new PushNotificationRegistrationAdapter(gson);
+                case 156: return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case 157: return (TypeAdapter<T>) new RandomResultTableAdapter(gson);
+                case 158: return (TypeAdapter<T>) new RandomResultTableListingAdapter(gson);
+                case 159: return (TypeAdapter<T>) new RefundPurchaseRequestAdapter(gson);
+                case 160: return (TypeAdapter<T>) new RefundPurchaseResponseAdapter(gson);
+                case 161: return (TypeAdapter<T>) new RemovePlayerTagRequestAdapter(gson);
+                case 162: return (TypeAdapter<T>) new RemovePlayerTagResultAdapter(gson);
+                case 163: return (TypeAdapter<T>) new RemoveServerBuildRequestAdapter(gson);
+                case 164: return (TypeAdapter<T>) new RemoveServerBuildResultAdapter(gson);
+                case 165: return (TypeAdapter<T>) new RemoveVirtualCurrencyTypesRequestAdapter(gson);
+                case 166: return (TypeAdapter<T>) new ResetCharacterStatisticsRequestAdapter(gson);
+                case 167: return (TypeAdapter<T>) new ResetCharacterStatisticsResultAdapter(gson);
+                case 168: return (TypeAdapter<T>) new ResetPasswordRequestAdapter(gson);
+                case 169: return (TypeAdapter<T>) new ResetPasswordResultAdapter(gson);
+                case 170: return (TypeAdapter<T>) new ResetUserStatisticsRequestAdapter(gson);
+                case 171: return (TypeAdapter<T>) new ResetUserStatisticsResultAdapter(gson);
+                case 172: return (TypeAdapter<T>) new ResolvePurchaseDisputeRequestAdapter(gson);
+                case 173: return (TypeAdapter<T>) new ResolvePurchaseDisputeResponseAdapter(gson);
+                case 174: return (TypeAdapter<T>) new ResultTableNodeAdapter(gson);
+                case 175: return (TypeAdapter<T>) new RevokeAllBansForUserRequestAdapter(gson);
+                case 176: return (TypeAdapter<T>) new RevokeAllBansForUserResultAdapter(gson);
+                case 177: return (TypeAdapter<T>) new RevokeBansRequestAdapter(gson);
+                case 178: return (TypeAdapter<T>) new RevokeBansResultAdapter(gson);
+                case 179: return (TypeAdapter<T>) new RevokeInventoryItemAdapter(gson);
+                case 180: return (TypeAdapter<T>) new RevokeInventoryItemRequestAdapter(gson);
+                case 181: return (TypeAdapter<T>) new RevokeInventoryItemsRequestAdapter(gson);
+                case 182: return (TypeAdapter<T>) new RevokeInventoryItemsResultAdapter(gson);
+                case 183: return (TypeAdapter<T>) new RevokeInventoryResultAdapter(gson);
+                case 184: return (TypeAdapter<T>) new RevokeItemErrorAdapter(gson);
+                case 185: return (TypeAdapter<T>) new RunTaskRequestAdapter(gson);
+                case 186: return (TypeAdapter<T>) new RunTaskResultAdapter(gson);
+                case 187: return (TypeAdapter<T>) new ScheduledTaskAdapter(gson);
+                case 188: return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case 189: return (TypeAdapter<T>) new SendAccountRecoveryEmailRequestAdapter(gson);
+                case 190: return (TypeAdapter<T>) new SendAccountRecoveryEmailResultAdapter(gson);
+                case 191: return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case 192: return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case 193: return (TypeAdapter<T>) new SetPublishedRevisionRequestAdapter(gson);
+                case 194: return (TypeAdapter<T>) new SetPublishedRevisionResultAdapter(gson);
+                case 195: return (TypeAdapter<T>) new SetPublisherDataRequestAdapter(gson);
+                case 196: return (TypeAdapter<T>) new SetPublisherDataResultAdapter(gson);
+                case 197: return (TypeAdapter<T>) new SetTitleDataRequestAdapter(gson);
+                case 198: return (TypeAdapter<T>) new SetTitleDataResultAdapter(gson);
+                case 199: return (TypeAdapter<T>) new SetupPushNotificationRequestAdapter(gson);
+                case 200: return (TypeAdapter<T>) new SetupPushNotificationResultAdapter(gson);
+                case 201: return (TypeAdapter<T>) new SharedSecretAdapter(gson);
+                case 202: return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case 203: return (TypeAdapter<T>) new StoreItemAdapter(gson);
+                case 204: return (TypeAdapter<T>) new StoreMarketingModelAdapter(gson);
+                case 205: return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case 206: return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case 207: return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case 208: return (TypeAdapter<T>) new TaskInstanceBasicSummaryAdapter(gson);
+                case 209: return (TypeAdapter<T>) new UpdateBanRequestAdapter(gson);
+                case 210: return (TypeAdapter<T>) new UpdateBansRequestAdapter(gson);
+                case 211: return (TypeAdapter<T>) new UpdateBansResultAdapter(gson);
+                case 212: return (TypeAdapter<T>) new UpdateCatalogItemsRequestAdapter(gson);
+                case 213: return (TypeAdapter<T>) new UpdateCatalogItemsResultAdapter(gson);
+                case 214: return (TypeAdapter<T>) new UpdateCloudScriptRequestAdapter(gson);
+                case 215: return (TypeAdapter<T>) new UpdateCloudScriptResultAdapter(gson);
+                case 216: return (TypeAdapter<T>) new UpdatePlayerSharedSecretRequestAdapter(gson);
+                case 217: return (TypeAdapter<T>) new UpdatePlayerSharedSecretResultAdapter(gson);
+                case 218: return (TypeAdapter<T>) new UpdatePlayerStatisticDefinitionRequestAdapter(gson);
+                case 219: return (TypeAdapter<T>) new UpdatePlayerStatisticDefinitionResultAdapter(gson);
+                case 220: return (TypeAdapter<T>) new UpdatePolicyRequestAdapter(gson);
+                case 221: return (TypeAdapter<T>) new UpdatePolicyResponseAdapter(gson);
+                case 222: return (TypeAdapter<T>) new UpdateRandomResultTablesRequestAdapter(gson);
+                case 223: return (TypeAdapter<T>) new UpdateRandomResultTablesResultAdapter(gson);
+                case 224: return (TypeAdapter<T>) new UpdateStoreItemsRequestAdapter(gson);
+                case 225: return (TypeAdapter<T>) new UpdateStoreItemsResultAdapter(gson);
+                case 226: return (TypeAdapter<T>) new UpdateTaskRequestAdapter(gson);
+                case 227: return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case 228: return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case 229: return (TypeAdapter<T>) new UpdateUserInternalDataRequestAdapter(gson);
+                case 230: return (TypeAdapter<T>) new UpdateUserTitleDisplayNameRequestAdapter(gson);
+                case 231: return (TypeAdapter<T>) new UpdateUserTitleDisplayNameResultAdapter(gson);
+                case 232: return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case 233: return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case 234: return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case 235: return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case 236: return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case 237: return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case 238: return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case 239: return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case 240: return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case 241: return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case 242: return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case 243: return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case 244: return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case 245: return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case 246: return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case 247: return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case 248: return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case 249: return (TypeAdapter<T>) new UserWindowsHelloInfoAdapter(gson);
+                case 250: return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case 251: return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case 252: return (TypeAdapter<T>) new VirtualCurrencyDataAdapter(gson);
+                case 253: return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case 254: return (TypeAdapter<T>) AuthTokenTypeAdapter;
+                case 255: return (TypeAdapter<T>) ConditionalsAdapter;
+                case 256: return (TypeAdapter<T>) ContinentCodeAdapter;
+                case 257: return (TypeAdapter<T>) CountryCodeAdapter;
+                case 258: return (TypeAdapter<T>) CurrencyAdapter;
+                case 259: return (TypeAdapter<T>) EffectTypeAdapter;
+                case 260: return (TypeAdapter<T>) EmailVerificationStatusAdapter;
+                case 261: return (TypeAdapter<T>) GameBuildStatusAdapter;
+                case 262: return (TypeAdapter<T>) GenericErrorCodesAdapter;
+                case 263: return (TypeAdapter<T>) LoginIdentityProviderAdapter;
+                case 264: return (TypeAdapter<T>) PushNotificationPlatformAdapter;
+                case 265: return (TypeAdapter<T>) PushSetupPlatformAdapter;
+                case 266: return (TypeAdapter<T>) RegionAdapter;
+                case 267: return (TypeAdapter<T>) ResolutionOutcomeAdapter;
+                case 268: return (TypeAdapter<T>) ResultTableNodeTypeAdapter;
+                case 269: return (TypeAdapter<T>) ScheduledTaskTypeAdapter;
+                case 270: return (TypeAdapter<T>) SourceTypeAdapter;
+                case 271: return (TypeAdapter<T>) StatisticAggregationMethodAdapter;
+                case 272: return (TypeAdapter<T>) StatisticResetIntervalOptionAdapter;
+                case 273: return (TypeAdapter<T>) StatisticVersionArchivalStatusAdapter;
+                case 274: return (TypeAdapter<T>) StatisticVersionStatusAdapter;
+                case 275: return (TypeAdapter<T>) SubscriptionProviderStatusAdapter;
+                case 276: return (TypeAdapter<T>) TaskInstanceStatusAdapter;
+                case 277: return (TypeAdapter<T>) TitleActivationStatusAdapter;
+                case 278: return (TypeAdapter<T>) UserDataPermissionAdapter;
+                case 279: return (TypeAdapter<T>) UserOriginationAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AbortTaskInstanceRequest.class, 0);
+        ids.put(ActionsOnPlayersInSegmentTaskParameter.class, 1);
+        ids.put(ActionsOnPlayersInSegmentTaskSummary.class, 2);
+        ids.put(AdCampaignAttribution.class, 3);
+        ids.put(AdCampaignAttributionModel.class, 4);
+        ids.put(AddNewsRequest.class, 5);
+        ids.put(AddNewsResult.class, 6);
+        ids.put(AddPlayerTagRequest.class, 7);
+        ids.put(AddPlayerTagResult.class, 8);
+        ids.put(AddServerBuildRequest.class, 9);
+        ids.put(AddServerBuildResult.class, 10);
+        ids.put(AddUserVirtualCurrencyRequest.class, 11);
+        ids.put(AddVirtualCurrencyTypesRequest.class, 12);
+        ids.put(ApiCondition.class, 13);
+        ids.put(BanInfo.class, 14);
+        ids.put(BanRequest.class, 15);
+        ids.put(BanUsersRequest.class, 16);
+        ids.put(BanUsersResult.class, 17);
+        ids.put(BlankResult.class, 18);
+        ids.put(CatalogItem.class, 19);
+        ids.put(CatalogItemBundleInfo.class, 20);
+        ids.put(CatalogItemConsumableInfo.class, 21);
+        ids.put(CatalogItemContainerInfo.class, 22);
+        ids.put(CheckLimitedEditionItemAvailabilityRequest.class, 23);
+        ids.put(CheckLimitedEditionItemAvailabilityResult.class, 24);
+        ids.put(CloudScriptFile.class, 25);
+        ids.put(CloudScriptTaskParameter.class, 26);
+        ids.put(CloudScriptTaskSummary.class, 27);
+        ids.put(CloudScriptVersionStatus.class, 28);
+        ids.put(ContactEmailInfo.class, 29);
+        ids.put(ContactEmailInfoModel.class, 30);
+        ids.put(ContentInfo.class, 31);
+        ids.put(CreateActionsOnPlayerSegmentTaskRequest.class, 32);
+        ids.put(CreateCloudScriptTaskRequest.class, 33);
+        ids.put(CreatePlayerSharedSecretRequest.class, 34);
+        ids.put(CreatePlayerSharedSecretResult.class, 35);
+        ids.put(CreatePlayerStatisticDefinitionRequest.class, 36);
+        ids.put(CreatePlayerStatisticDefinitionResult.class, 37);
+        ids.put(CreateTaskResult.class, 38);
+        ids.put(DeleteContentRequest.class, 39);
+        ids.put(DeleteMasterPlayerAccountRequest.class, 40);
+        ids.put(DeleteMasterPlayerAccountResult.class, 41);
+        ids.put(DeletePlayerRequest.class, 42);
+        ids.put(DeletePlayerResult.class, 43);
+        ids.put(DeletePlayerSharedSecretRequest.class, 44);
+        ids.put(DeletePlayerSharedSecretResult.class, 45);
+        ids.put(DeleteStoreRequest.class, 46);
+        ids.put(DeleteStoreResult.class, 47);
+        ids.put(DeleteTaskRequest.class, 48);
+        ids.put(DeleteTitleRequest.class, 49);
+        ids.put(DeleteTitleResult.class, 50);
+        ids.put(EmptyResponse.class, 51);
+        ids.put(EntityKey.class, 52);
+        ids.put(ExecuteCloudScriptResult.class, 53);
+        ids.put(ExportMasterPlayerDataRequest.class, 54);
+        ids.put(ExportMasterPlayerDataResult.class, 55);
+        ids.put(GameModeInfo.class, 56);
+        ids.put(GetActionsOnPlayersInSegmentTaskInstanceResult.class, 57);
+        ids.put(GetAllSegmentsRequest.class, 58);
+        ids.put(GetAllSegmentsResult.class, 59);
+        ids.put(GetCatalogItemsRequest.class, 60);
+        ids.put(GetCatalogItemsResult.class, 61);
+        ids.put(GetCloudScriptRevisionRequest.class, 62);
+        ids.put(GetCloudScriptRevisionResult.class, 63);
+        ids.put(GetCloudScriptTaskInstanceResult.class, 64);
+        ids.put(GetCloudScriptVersionsRequest.class, 65);
+        ids.put(GetCloudScriptVersionsResult.class, 66);
+        ids.put(GetContentListRequest.class, 67);
+        ids.put(GetContentListResult.class, 68);
+        ids.put(GetContentUploadUrlRequest.class, 69);
+        ids.put(GetContentUploadUrlResult.class, 70);
+        ids.put(GetDataReportRequest.class, 71);
+        ids.put(GetDataReportResult.class, 72);
+        ids.put(GetMatchmakerGameInfoRequest.class, 73);
+        ids.put(GetMatchmakerGameInfoResult.class, 74);
+        ids.put(GetMatchmakerGameModesRequest.class, 75);
+        ids.put(GetMatchmakerGameModesResult.class, 76);
+        ids.put(GetPlayedTitleListRequest.class, 77);
+        ids.put(GetPlayedTitleListResult.class, 78);
+        ids.put(GetPlayerIdFromAuthTokenRequest.class, 79);
+        ids.put(GetPlayerIdFromAuthTokenResult.class, 80);
+        ids.put(GetPlayerProfileRequest.class, 81);
+        ids.put(GetPlayerProfileResult.class, 82);
+        ids.put(GetPlayerSegmentsResult.class, 83);
+        ids.put(GetPlayerSharedSecretsRequest.class, 84);
+        ids.put(GetPlayerSharedSecretsResult.class, 85);
+        ids.put(GetPlayersInSegmentRequest.class, 86);
+        ids.put(GetPlayersInSegmentResult.class, 87);
+        ids.put(GetPlayersSegmentsRequest.class, 88);
+        ids.put(GetPlayerStatisticDefinitionsRequest.class, 89);
+        ids.put(GetPlayerStatisticDefinitionsResult.class, 90);
+        ids.put(GetPlayerStatisticVersionsRequest.class, 91);
+        ids.put(GetPlayerStatisticVersionsResult.class, 92);
+        ids.put(GetPlayerTagsRequest.class, 93);
+        ids.put(GetPlayerTagsResult.class, 94);
+        ids.put(GetPolicyRequest.class, 95);
+        ids.put(GetPolicyResponse.class, 96);
+        ids.put(GetPublisherDataRequest.class, 97);
+        ids.put(GetPublisherDataResult.class, 98);
+        ids.put(GetRandomResultTablesRequest.class, 99);
+        ids.put(GetRandomResultTablesResult.class, 100);
+        ids.put(GetSegmentResult.class, 101);
+        ids.put(GetServerBuildInfoRequest.class, 102);
+        ids.put(GetServerBuildInfoResult.class, 103);
+        ids.put(GetServerBuildUploadURLRequest.class, 104);
+        ids.put(GetServerBuildUploadURLResult.class, 105);
+        ids.put(GetStoreItemsRequest.class, 106);
+        ids.put(GetStoreItemsResult.class, 107);
+        ids.put(GetTaskInstanceRequest.class, 108);
+        ids.put(GetTaskInstancesRequest.class, 109);
+        ids.put(GetTaskInstancesResult.class, 110);
+        ids.put(GetTasksRequest.class, 111);
+        ids.put(GetTasksResult.class, 112);
+        ids.put(GetTitleDataRequest.class, 113);
+        ids.put(GetTitleDataResult.class, 114);
+        ids.put(GetUserBansRequest.class, 115);
+        ids.put(GetUserBansResult.class, 116);
+        ids.put(GetUserDataRequest.class, 117);
+        ids.put(GetUserDataResult.class, 118);
+        ids.put(GetUserInventoryRequest.class, 119);
+        ids.put(GetUserInventoryResult.class, 120);
+        ids.put(GrantedItemInstance.class, 121);
+        ids.put(GrantItemsToUsersRequest.class, 122);
+        ids.put(GrantItemsToUsersResult.class, 123);
+        ids.put(IncrementLimitedEditionItemAvailabilityRequest.class, 124);
+        ids.put(IncrementLimitedEditionItemAvailabilityResult.class, 125);
+        ids.put(IncrementPlayerStatisticVersionRequest.class, 126);
+        ids.put(IncrementPlayerStatisticVersionResult.class, 127);
+        ids.put(ItemGrant.class, 128);
+        ids.put(ItemInstance.class, 129);
+        ids.put(LinkedPlatformAccountModel.class, 130);
+        ids.put(ListBuildsRequest.class, 131);
+        ids.put(ListBuildsResult.class, 132);
+        ids.put(ListVirtualCurrencyTypesRequest.class, 133);
+        ids.put(ListVirtualCurrencyTypesResult.class, 134);
+        ids.put(LocationModel.class, 135);
+        ids.put(LogStatement.class, 136);
+        ids.put(LookupUserAccountInfoRequest.class, 137);
+        ids.put(LookupUserAccountInfoResult.class, 138);
+        ids.put(MembershipModel.class, 139);
+        ids.put(ModifyMatchmakerGameModesRequest.class, 140);
+        ids.put(ModifyMatchmakerGameModesResult.class, 141);
+        ids.put(ModifyServerBuildRequest.class, 142);
+        ids.put(ModifyServerBuildResult.class, 143);
+        ids.put(ModifyUserVirtualCurrencyResult.class, 144);
+        ids.put(NameIdentifier.class, 145);
+        ids.put(PermissionStatement.class, 146);
+        ids.put(PlayerLinkedAccount.class, 147);
+        ids.put(PlayerLocation.class, 148);
+        ids.put(PlayerProfile.class, 149);
+        ids.put(PlayerProfileModel.class, 150);
+        ids.put(PlayerProfileViewConstraints.class, 151);
+        ids.put(PlayerStatistic.class, 152);
+        ids.put(PlayerStatisticDefinition.class, 153);
+        ids.put(PlayerStatisticVersion.class, 154);
+        ids.put(PushNotificationRegistration.class, 155);
+        ids.put(PushNotificationRegistrationModel.class, 156);
+        ids.put(RandomResultTable.class, 157);
+        ids.put(RandomResultTableListing.class, 158);
+        ids.put(RefundPurchaseRequest.class, 159);
+        ids.put(RefundPurchaseResponse.class, 160);
+        ids.put(RemovePlayerTagRequest.class, 161);
+        ids.put(RemovePlayerTagResult.class, 162);
+        ids.put(RemoveServerBuildRequest.class, 163);
+        ids.put(RemoveServerBuildResult.class, 164);
+        ids.put(RemoveVirtualCurrencyTypesRequest.class, 165);
+        ids.put(ResetCharacterStatisticsRequest.class, 166);
+        ids.put(ResetCharacterStatisticsResult.class, 167);
+        ids.put(ResetPasswordRequest.class, 168);
+        ids.put(ResetPasswordResult.class, 169);
+        ids.put(ResetUserStatisticsRequest.class, 170);
+        ids.put(ResetUserStatisticsResult.class, 171);
+        ids.put(ResolvePurchaseDisputeRequest.class, 172);
+        ids.put(ResolvePurchaseDisputeResponse.class, 173);
+        ids.put(ResultTableNode.class, 174);
+        ids.put(RevokeAllBansForUserRequest.class, 175);
+        ids.put(RevokeAllBansForUserResult.class, 176);
+        ids.put(RevokeBansRequest.class, 177);
+        ids.put(RevokeBansResult.class, 178);
+        ids.put(RevokeInventoryItem.class, 179);
+        ids.put(RevokeInventoryItemRequest.class, 180);
+        ids.put(RevokeInventoryItemsRequest.class, 181);
+        ids.put(RevokeInventoryItemsResult.class, 182);
+        ids.put(RevokeInventoryResult.class, 183);
+        ids.put(RevokeItemError.class, 184);
+        ids.put(RunTaskRequest.class, 185);
+        ids.put(RunTaskResult.class, 186);
+        ids.put(ScheduledTask.class, 187);
+        ids.put(ScriptExecutionError.class, 188);
+        ids.put(SendAccountRecoveryEmailRequest.class, 189);
+        ids.put(SendAccountRecoveryEmailResult.class, 190);
+        ids.put(SetPlayerSecretRequest.class, 191);
+        ids.put(SetPlayerSecretResult.class, 192);
+        ids.put(SetPublishedRevisionRequest.class, 193);
+        ids.put(SetPublishedRevisionResult.class, 194);
+        ids.put(SetPublisherDataRequest.class, 195);
+        ids.put(SetPublisherDataResult.class, 196);
+        ids.put(SetTitleDataRequest.class, 197);
+        ids.put(SetTitleDataResult.class, 198);
+        ids.put(SetupPushNotificationRequest.class, 199);
+        ids.put(SetupPushNotificationResult.class, 200);
+        ids.put(SharedSecret.class, 201);
+        ids.put(StatisticModel.class, 202);
+        ids.put(StoreItem.class, 203);
+        ids.put(StoreMarketingModel.class, 204);
+        ids.put(SubscriptionModel.class, 205);
+        ids.put(SubtractUserVirtualCurrencyRequest.class, 206);
+        ids.put(TagModel.class, 207);
+        ids.put(TaskInstanceBasicSummary.class, 208);
+        ids.put(UpdateBanRequest.class, 209);
+        ids.put(UpdateBansRequest.class, 210);
+        ids.put(UpdateBansResult.class, 211);
+        ids.put(UpdateCatalogItemsRequest.class, 212);
+        ids.put(UpdateCatalogItemsResult.class, 213);
+        ids.put(UpdateCloudScriptRequest.class, 214);
+        ids.put(UpdateCloudScriptResult.class, 215);
+        ids.put(UpdatePlayerSharedSecretRequest.class, 216);
+        ids.put(UpdatePlayerSharedSecretResult.class, 217);
+        ids.put(UpdatePlayerStatisticDefinitionRequest.class, 218);
+        ids.put(UpdatePlayerStatisticDefinitionResult.class, 219);
+        ids.put(UpdatePolicyRequest.class, 220);
+        ids.put(UpdatePolicyResponse.class, 221);
+        ids.put(UpdateRandomResultTablesRequest.class, 222);
+        ids.put(UpdateRandomResultTablesResult.class, 223);
+        ids.put(UpdateStoreItemsRequest.class, 224);
+        ids.put(UpdateStoreItemsResult.class, 225);
+        ids.put(UpdateTaskRequest.class, 226);
+        ids.put(UpdateUserDataRequest.class, 227);
+        ids.put(UpdateUserDataResult.class, 228);
+        ids.put(UpdateUserInternalDataRequest.class, 229);
+        ids.put(UpdateUserTitleDisplayNameRequest.class, 230);
+        ids.put(UpdateUserTitleDisplayNameResult.class, 231);
+        ids.put(UserAccountInfo.class, 232);
+        ids.put(UserAndroidDeviceInfo.class, 233);
+        ids.put(UserCustomIdInfo.class, 234);
+        ids.put(UserDataRecord.class, 235);
+        ids.put(UserFacebookInfo.class, 236);
+        ids.put(UserFacebookInstantGamesIdInfo.class, 237);
+        ids.put(UserGameCenterInfo.class, 238);
+        ids.put(UserGoogleInfo.class, 239);
+        ids.put(UserIosDeviceInfo.class, 240);
+        ids.put(UserKongregateInfo.class, 241);
+        ids.put(UserNintendoSwitchDeviceIdInfo.class, 242);
+        ids.put(UserOpenIdInfo.class, 243);
+        ids.put(UserPrivateAccountInfo.class, 244);
+        ids.put(UserPsnInfo.class, 245);
+        ids.put(UserSteamInfo.class, 246);
+        ids.put(UserTitleInfo.class, 247);
+        ids.put(UserTwitchInfo.class, 248);
+        ids.put(UserWindowsHelloInfo.class, 249);
+        ids.put(UserXboxInfo.class, 250);
+        ids.put(ValueToDateModel.class, 251);
+        ids.put(VirtualCurrencyData.class, 252);
+        ids.put(VirtualCurrencyRechargeTime.class, 253);
+        ids.put(AuthTokenType.class, 254);
+        ids.put(Conditionals.class, 255);
+        ids.put(ContinentCode.class, 256);
+        ids.put(CountryCode.class, 257);
+        ids.put(Currency.class, 258);
+        ids.put(EffectType.class, 259);
+        ids.put(EmailVerificationStatus.class, 260);
+        ids.put(GameBuildStatus.class, 261);
+        ids.put(GenericErrorCodes.class, 262);
+        ids.put(LoginIdentityProvider.class, 263);
+        ids.put(PushNotificationPlatform.class, 264);
+        ids.put(PushSetupPlatform.class, 265);
+        ids.put(Region.class, 266);
+        ids.put(ResolutionOutcome.class, 267);
+        ids.put(ResultTableNodeType.class, 268);
+        ids.put(ScheduledTaskType.class, 269);
+        ids.put(SourceType.class, 270);
+        ids.put(StatisticAggregationMethod.class, 271);
+        ids.put(StatisticResetIntervalOption.class, 272);
+        ids.put(StatisticVersionArchivalStatus.class, 273);
+        ids.put(StatisticVersionStatus.class, 274);
+        ids.put(SubscriptionProviderStatus.class, 275);
+        ids.put(TaskInstanceStatus.class, 276);
+        ids.put(TitleActivationStatus.class, 277);
+        ids.put(UserDataPermission.class, 278);
+        ids.put(UserOrigination.class, 279);
+    }
+
+    static final class AbortTaskInstanceRequestAdapter extends TypeAdapter<AbortTaskInstanceRequest> {
+        AbortTaskInstanceRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AbortTaskInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            out.endObject();
+        }
+
+        public AbortTaskInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortTaskInstanceRequest value = new AbortTaskInstanceRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ActionsOnPlayersInSegmentTaskParameterAdapter extends TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> {
+        ActionsOnPlayersInSegmentTaskParameterAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ActionsOnPlayersInSegmentTaskParameter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActionId != null) {
+                out.name("ActionId");
+                out.value(value.ActionId);
+            }
+            if (value.SegmentId != null) {
+                out.name("SegmentId");
+                out.value(value.SegmentId);
+            }
+            out.endObject();
+        }
+
+        public ActionsOnPlayersInSegmentTaskParameter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ActionsOnPlayersInSegmentTaskParameter value = new ActionsOnPlayersInSegmentTaskParameter();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActionId": value.ActionId = PlayFabModelAdapters.readString(in); break;
+                    case "SegmentId": value.SegmentId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ActionsOnPlayersInSegmentTaskSummaryAdapter extends TypeAdapter<ActionsOnPlayersInSegmentTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        ActionsOnPlayersInSegmentTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, ActionsOnPlayersInSegmentTaskSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CompletedAt != null) {
+                out.name("CompletedAt");
+                dateAdapter.write(out, value.CompletedAt);
+            }
+            if (value.ErrorMessage != null) {
+                out.name("ErrorMessage");
+                out.value(value.ErrorMessage);
+            }
+            if (value.ErrorWasFatal != null) {
+                out.name("ErrorWasFatal");
+                out.value(value.ErrorWasFatal.booleanValue());
+            }
+            if (value.EstimatedSecondsRemaining != null) {
+                out.name("EstimatedSecondsRemaining");
+                PlayFabModelAdapters.writeDouble(out, value.EstimatedSecondsRemaining);
+            }
+            if (value.PercentComplete != null) {
+                out.name("PercentComplete");
+                PlayFabModelAdapters.writeDouble(out, value.PercentComplete);
+            }
+            if (value.ScheduledByUserId != null) {
+                out.name("ScheduledByUserId");
+                out.value(value.ScheduledByUserId);
+            }
+            if (value.StartedAt != null) {
+                out.name("StartedAt");
+                dateAdapter.write(out, value.StartedAt);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                taskInstanceStatusAdapter.write(out, value.Status);
+            }
+            if (value.TaskIdentifier != null) {
+                out.name("TaskIdentifier");
+                nameIdentifierAdapter.write(out, value.TaskIdentifier);
+            }
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            if (value.TotalPlayersInSegment != null) {
+                out.name("TotalPlayersInSegment");
+                out.value(value.TotalPlayersInSegment);
+            }
+            if (value.TotalPlayersProcessed != null) {
+                out.name("TotalPlayersProcessed");
+                out.value(value.TotalPlayersProcessed);
+            }
+            out.endObject();
+        }
+
+        public ActionsOnPlayersInSegmentTaskSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ActionsOnPlayersInSegmentTaskSummary value = new ActionsOnPlayersInSegmentTaskSummary();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                    case "ErrorMessage": value.ErrorMessage = PlayFabModelAdapters.readString(in); break;
+                    case "ErrorWasFatal": value.ErrorWasFatal = PlayFabModelAdapters.readBoolean(in); break;
+                    case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = PlayFabModelAdapters.readDouble(in); break;
+                    case "PercentComplete": value.PercentComplete = PlayFabModelAdapters.readDouble(in); break;
+                    case "ScheduledByUserId": value.ScheduledByUserId = PlayFabModelAdapters.readString(in); break;
+                    case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                    case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                    case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalPlayersInSegment": value.TotalPlayersInSegment = PlayFabModelAdapters.readInteger(in); break;
+                    case "TotalPlayersProcessed": value.TotalPlayersProcessed = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AdCampaignAttributionAdapter extends TypeAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AttributedAt != null) {
+                out.name("AttributedAt");
+                dateAdapter.write(out, value.AttributedAt);
+            }
+            if (value.CampaignId != null) {
+                out.name("CampaignId");
+                out.value(value.CampaignId);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                out.value(value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdCampaignAttribution read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttribution value = new AdCampaignAttribution();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                    case "CampaignId": value.CampaignId = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AttributedAt != null) {
+                out.name("AttributedAt");
+                dateAdapter.write(out, value.AttributedAt);
+            }
+            if (value.CampaignId != null) {
+                out.name("CampaignId");
+                out.value(value.CampaignId);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                out.value(value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                    case "CampaignId": value.CampaignId = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddNewsRequestAdapter extends TypeAdapter<AddNewsRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AddNewsRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AddNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                out.value(value.Body);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.Title != null) {
+                out.name("Title");
+                out.value(value.Title);
+            }
+            out.endObject();
+        }
+
+        public AddNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddNewsRequest value = new AddNewsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "Title": value.Title = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddNewsResultAdapter extends TypeAdapter<AddNewsResult> {
+        AddNewsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NewsId != null) {
+                out.name("NewsId");
+                out.value(value.NewsId);
+            }
+            out.endObject();
+        }
+
+        public AddNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddNewsResult value = new AddNewsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NewsId": value.NewsId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddPlayerTagRequestAdapter extends TypeAdapter<AddPlayerTagRequest> {
+        AddPlayerTagRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TagName != null) {
+                out.name("TagName");
+                out.value(value.TagName);
+            }
+            out.endObject();
+        }
+
+        public AddPlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagRequest value = new AddPlayerTagRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TagName": value.TagName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddPlayerTagResultAdapter extends TypeAdapter<AddPlayerTagResult> {
+        AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddPlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddPlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagResult value = new AddPlayerTagResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddServerBuildRequestAdapter extends TypeAdapter<AddServerBuildRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        AddServerBuildRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, AddServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActiveRegions != null) {
+                out.name("ActiveRegions");
+                PlayFabModelAdapters.writeList(out, value.ActiveRegions, regionAdapter);
+            }
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            if (value.CommandLineTemplate != null) {
+                out.name("CommandLineTemplate");
+                out.value(value.CommandLineTemplate);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ExecutablePath != null) {
+                out.name("ExecutablePath");
+                out.value(value.ExecutablePath);
+            }
+            if (value.MaxGamesPerHost != null) {
+                out.name("MaxGamesPerHost");
+                out.value(value.MaxGamesPerHost);
+            }
+            if (value.MinFreeGameSlots != null) {
+                out.name("MinFreeGameSlots");
+                out.value(value.MinFreeGameSlots);
+            }
+            out.endObject();
+        }
+
+        public AddServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddServerBuildRequest value = new AddServerBuildRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActiveRegions": value.ActiveRegions = PlayFabModelAdapters.readList(in, regionAdapter); break;
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    case "CommandLineTemplate": value.CommandLineTemplate = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ExecutablePath": value.ExecutablePath = PlayFabModelAdapters.readString(in); break;
+                    case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabModelAdapters.readInteger(in); break;
+                    case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddServerBuildResultAdapter extends TypeAdapter<AddServerBuildResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        AddServerBuildResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AddServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActiveRegions != null) {
+                out.name("ActiveRegions");
+                PlayFabModelAdapters.writeList(out, value.ActiveRegions, regionAdapter);
+            }
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            if (value.CommandLineTemplate != null) {
+                out.name("CommandLineTemplate");
+                out.value(value.CommandLineTemplate);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ExecutablePath != null) {
+                out.name("ExecutablePath");
+                out.value(value.ExecutablePath);
+            }
+            if (value.MaxGamesPerHost != null) {
+                out.name("MaxGamesPerHost");
+                out.value(value.MaxGamesPerHost);
+            }
+            if (value.MinFreeGameSlots != null) {
+                out.name("MinFreeGameSlots");
+                out.value(value.MinFreeGameSlots);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                gameBuildStatusAdapter.write(out, value.Status);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public AddServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddServerBuildResult value = new AddServerBuildResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActiveRegions": value.ActiveRegions = PlayFabModelAdapters.readList(in, regionAdapter); break;
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    case "CommandLineTemplate": value.CommandLineTemplate = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ExecutablePath": value.ExecutablePath = PlayFabModelAdapters.readString(in); break;
+                    case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabModelAdapters.readInteger(in); break;
+                    case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabModelAdapters.readInteger(in); break;
+                    case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddVirtualCurrencyTypesRequestAdapter extends TypeAdapter<AddVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        AddVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        public void write(JsonWriter out, AddVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.VirtualCurrencies != null) {
+                out.name("VirtualCurrencies");
+                PlayFabModelAdapters.writeList(out, value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            }
+            out.endObject();
+        }
+
+        public AddVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddVirtualCurrencyTypesRequest value = new AddVirtualCurrencyTypesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "VirtualCurrencies": value.VirtualCurrencies = PlayFabModelAdapters.readList(in, virtualCurrencyDataAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ApiConditionAdapter extends TypeAdapter<ApiCondition> {
+        private final TypeAdapter<Conditionals> conditionalsAdapter;
+
+        ApiConditionAdapter(Gson gson) {
+            conditionalsAdapter = gson.getAdapter(Conditionals.class);
+        }
+
+        public void write(JsonWriter out, ApiCondition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.HasSignatureOrEncryption != null) {
+                out.name("HasSignatureOrEncryption");
+                conditionalsAdapter.write(out, value.HasSignatureOrEncryption);
+            }
+            out.endObject();
+        }
+
+        public ApiCondition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApiCondition value = new ApiCondition();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "HasSignatureOrEncryption": value.HasSignatureOrEncryption = conditionalsAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanInfoAdapter extends TypeAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, BanInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Active != null) {
+                out.name("Active");
+                out.value(value.Active.booleanValue());
+            }
+            if (value.BanId != null) {
+                out.name("BanId");
+                out.value(value.BanId);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public BanInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanInfo value = new BanInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Active": value.Active = PlayFabModelAdapters.readBoolean(in); break;
+                    case "BanId": value.BanId = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanRequestAdapter extends TypeAdapter<BanRequest> {
+        BanRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, BanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DurationInHours != null) {
+                out.name("DurationInHours");
+                out.value(value.DurationInHours);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public BanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanRequest value = new BanRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DurationInHours": value.DurationInHours = PlayFabModelAdapters.readLong(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanUsersRequestAdapter extends TypeAdapter<BanUsersRequest> {
+        private final TypeAdapter<BanRequest> banRequestAdapter;
+
+        BanUsersRequestAdapter(Gson gson) {
+            banRequestAdapter = gson.getAdapter(BanRequest.class);
+        }
+
+        public void write(JsonWriter out, BanUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bans != null) {
+                out.name("Bans");
+                PlayFabModelAdapters.writeList(out, value.Bans, banRequestAdapter);
+            }
+            out.endObject();
+        }
+
+        public BanUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersRequest value = new BanUsersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bans": value.Bans = PlayFabModelAdapters.readList(in, banRequestAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanUsersResultAdapter extends TypeAdapter<BanUsersResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        BanUsersResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, BanUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public BanUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersResult value = new BanUsersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BlankResultAdapter extends TypeAdapter<BlankResult> {
+        BlankResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, BlankResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public BlankResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BlankResult value = new BlankResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+        }
+
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bundle != null) {
+                out.name("Bundle");
+                catalogItemBundleInfoAdapter.write(out, value.Bundle);
+            }
+            if (value.CanBecomeCharacter != null) {
+                out.name("CanBecomeCharacter");
+                out.value(value.CanBecomeCharacter.booleanValue());
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Consumable != null) {
+                out.name("Consumable");
+                catalogItemConsumableInfoAdapter.write(out, value.Consumable);
+            }
+            if (value.Container != null) {
+                out.name("Container");
+                catalogItemContainerInfoAdapter.write(out, value.Container);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                out.value(value.CustomData);
+            }
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.InitialLimitedEditionCount != null) {
+                out.name("InitialLimitedEditionCount");
+                out.value(value.InitialLimitedEditionCount);
+            }
+            if (value.IsLimitedEdition != null) {
+                out.name("IsLimitedEdition");
+                out.value(value.IsLimitedEdition.booleanValue());
+            }
+            if (value.IsStackable != null) {
+                out.name("IsStackable");
+                out.value(value.IsStackable.booleanValue());
+            }
+            if (value.IsTradable != null) {
+                out.name("IsTradable");
+                out.value(value.IsTradable.booleanValue());
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemImageUrl != null) {
+                out.name("ItemImageUrl");
+                out.value(value.ItemImageUrl);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                    case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabModelAdapters.readBoolean(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                    case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readString(in); break;
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "IsLimitedEdition": value.IsLimitedEdition = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsStackable": value.IsStackable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsTradable": value.IsTradable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemImageUrl": value.ItemImageUrl = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        CatalogItemBundleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BundledItems != null) {
+                out.name("BundledItems");
+                PlayFabModelAdapters.writeList(out, value.BundledItems, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledResultTables != null) {
+                out.name("BundledResultTables");
+                PlayFabModelAdapters.writeList(out, value.BundledResultTables, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledVirtualCurrencies != null) {
+                out.name("BundledVirtualCurrencies");
+                PlayFabModelAdapters.writeMap(out, value.BundledVirtualCurrencies, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BundledItems": value.BundledItems = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledResultTables": value.BundledResultTables = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UsageCount != null) {
+                out.name("UsageCount");
+                out.value(value.UsageCount);
+            }
+            if (value.UsagePeriod != null) {
+                out.name("UsagePeriod");
+                out.value(value.UsagePeriod);
+            }
+            if (value.UsagePeriodGroup != null) {
+                out.name("UsagePeriodGroup");
+                out.value(value.UsagePeriodGroup);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UsageCount": value.UsageCount = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriod": value.UsagePeriod = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        CatalogItemContainerInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemContents != null) {
+                out.name("ItemContents");
+                PlayFabModelAdapters.writeList(out, value.ItemContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeyItemId != null) {
+                out.name("KeyItemId");
+                out.value(value.KeyItemId);
+            }
+            if (value.ResultTableContents != null) {
+                out.name("ResultTableContents");
+                PlayFabModelAdapters.writeList(out, value.ResultTableContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyContents != null) {
+                out.name("VirtualCurrencyContents");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyContents, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemContents": value.ItemContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "KeyItemId": value.KeyItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ResultTableContents": value.ResultTableContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CheckLimitedEditionItemAvailabilityRequestAdapter extends TypeAdapter<CheckLimitedEditionItemAvailabilityRequest> {
+        CheckLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CheckLimitedEditionItemAvailabilityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            out.endObject();
+        }
+
+        public CheckLimitedEditionItemAvailabilityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CheckLimitedEditionItemAvailabilityRequest value = new CheckLimitedEditionItemAvailabilityRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CheckLimitedEditionItemAvailabilityResultAdapter extends TypeAdapter<CheckLimitedEditionItemAvailabilityResult> {
+        CheckLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CheckLimitedEditionItemAvailabilityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            out.endObject();
+        }
+
+        public CheckLimitedEditionItemAvailabilityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CheckLimitedEditionItemAvailabilityResult value = new CheckLimitedEditionItemAvailabilityResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CloudScriptFileAdapter extends TypeAdapter<CloudScriptFile> {
+        CloudScriptFileAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CloudScriptFile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FileContents != null) {
+                out.name("FileContents");
+                out.value(value.FileContents);
+            }
+            if (value.Filename != null) {
+                out.name("Filename");
+                out.value(value.Filename);
+            }
+            out.endObject();
+        }
+
+        public CloudScriptFile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptFile value = new CloudScriptFile();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FileContents": value.FileContents = PlayFabModelAdapters.readString(in); break;
+                    case "Filename": value.Filename = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CloudScriptTaskParameterAdapter extends TypeAdapter<CloudScriptTaskParameter> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        CloudScriptTaskParameterAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, CloudScriptTaskParameter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Argument != null) {
+                out.name("Argument");
+                objectAdapter.write(out, value.Argument);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            out.endObject();
+        }
+
+        public CloudScriptTaskParameter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptTaskParameter value = new CloudScriptTaskParameter();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Argument": value.Argument = objectAdapter.read(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CloudScriptTaskSummaryAdapter extends TypeAdapter<CloudScriptTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExecuteCloudScriptResult> executeCloudScriptResultAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        CloudScriptTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            executeCloudScriptResultAdapter = gson.getAdapter(ExecuteCloudScriptResult.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, CloudScriptTaskSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CompletedAt != null) {
+                out.name("CompletedAt");
+                dateAdapter.write(out, value.CompletedAt);
+            }
+            if (value.EstimatedSecondsRemaining != null) {
+                out.name("EstimatedSecondsRemaining");
+                PlayFabModelAdapters.writeDouble(out, value.EstimatedSecondsRemaining);
+            }
+            if (value.PercentComplete != null) {
+                out.name("PercentComplete");
+                PlayFabModelAdapters.writeDouble(out, value.PercentComplete);
+            }
+            if (value.Result != null) {
+                out.name("Result");
+                executeCloudScriptResultAdapter.write(out, value.Result);
+            }
+            if (value.ScheduledByUserId != null) {
+                out.name("ScheduledByUserId");
+                out.value(value.ScheduledByUserId);
+            }
+            if (value.StartedAt != null) {
+                out.name("StartedAt");
+                dateAdapter.write(out, value.StartedAt);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                taskInstanceStatusAdapter.write(out, value.Status);
+            }
+            if (value.TaskIdentifier != null) {
+                out.name("TaskIdentifier");
+                nameIdentifierAdapter.write(out, value.TaskIdentifier);
+            }
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            out.endObject();
+        }
+
+        public CloudScriptTaskSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptTaskSummary value = new CloudScriptTaskSummary();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                    case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = PlayFabModelAdapters.readDouble(in); break;
+                    case "PercentComplete": value.PercentComplete = PlayFabModelAdapters.readDouble(in); break;
+                    case "Result": value.Result = executeCloudScriptResultAdapter.read(in); break;
+                    case "ScheduledByUserId": value.ScheduledByUserId = PlayFabModelAdapters.readString(in); break;
+                    case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                    case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                    case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CloudScriptVersionStatusAdapter extends TypeAdapter<CloudScriptVersionStatus> {
+        CloudScriptVersionStatusAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CloudScriptVersionStatus value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LatestRevision != null) {
+                out.name("LatestRevision");
+                out.value(value.LatestRevision);
+            }
+            if (value.PublishedRevision != null) {
+                out.name("PublishedRevision");
+                out.value(value.PublishedRevision);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public CloudScriptVersionStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptVersionStatus value = new CloudScriptVersionStatus();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LatestRevision": value.LatestRevision = PlayFabModelAdapters.readInteger(in); break;
+                    case "PublishedRevision": value.PublishedRevision = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContactEmailInfoAdapter extends TypeAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        public void write(JsonWriter out, ContactEmailInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.VerificationStatus != null) {
+                out.name("VerificationStatus");
+                emailVerificationStatusAdapter.write(out, value.VerificationStatus);
+            }
+            out.endObject();
+        }
+
+        public ContactEmailInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfo value = new ContactEmailInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.VerificationStatus != null) {
+                out.name("VerificationStatus");
+                emailVerificationStatusAdapter.write(out, value.VerificationStatus);
+            }
+            out.endObject();
+        }
+
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContentInfoAdapter extends TypeAdapter<ContentInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ContentInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ContentInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.LastModified != null) {
+                out.name("LastModified");
+                dateAdapter.write(out, value.LastModified);
+            }
+            if (value.Size != null) {
+                out.name("Size");
+                out.value(value.Size);
+            }
+            out.endObject();
+        }
+
+        public ContentInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContentInfo value = new ContentInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                    case "Size": value.Size = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateActionsOnPlayerSegmentTaskRequestAdapter extends TypeAdapter<CreateActionsOnPlayerSegmentTaskRequest> {
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+
+        CreateActionsOnPlayerSegmentTaskRequestAdapter(Gson gson) {
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+        }
+
+        public void write(JsonWriter out, CreateActionsOnPlayerSegmentTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                actionsOnPlayersInSegmentTaskParameterAdapter.write(out, value.Parameter);
+            }
+            if (value.Schedule != null) {
+                out.name("Schedule");
+                out.value(value.Schedule);
+            }
+            out.endObject();
+        }
+
+        public CreateActionsOnPlayerSegmentTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateActionsOnPlayerSegmentTaskRequest value = new CreateActionsOnPlayerSegmentTaskRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); break;
+                    case "Schedule": value.Schedule = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateCloudScriptTaskRequestAdapter extends TypeAdapter<CreateCloudScriptTaskRequest> {
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+
+        CreateCloudScriptTaskRequestAdapter(Gson gson) {
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+        }
+
+        public void write(JsonWriter out, CreateCloudScriptTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                cloudScriptTaskParameterAdapter.write(out, value.Parameter);
+            }
+            if (value.Schedule != null) {
+                out.name("Schedule");
+                out.value(value.Schedule);
+            }
+            out.endObject();
+        }
+
+        public CreateCloudScriptTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateCloudScriptTaskRequest value = new CreateCloudScriptTaskRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); break;
+                    case "Schedule": value.Schedule = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreatePlayerSharedSecretRequestAdapter extends TypeAdapter<CreatePlayerSharedSecretRequest> {
+        CreatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreatePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendlyName != null) {
+                out.name("FriendlyName");
+                out.value(value.FriendlyName);
+            }
+            out.endObject();
+        }
+
+        public CreatePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerSharedSecretRequest value = new CreatePlayerSharedSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendlyName": value.FriendlyName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreatePlayerSharedSecretResultAdapter extends TypeAdapter<CreatePlayerSharedSecretResult> {
+        CreatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreatePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SecretKey != null) {
+                out.name("SecretKey");
+                out.value(value.SecretKey);
+            }
+            out.endObject();
+        }
+
+        public CreatePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerSharedSecretResult value = new CreatePlayerSharedSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SecretKey": value.SecretKey = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreatePlayerStatisticDefinitionRequestAdapter extends TypeAdapter<CreatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        CreatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        public void write(JsonWriter out, CreatePlayerStatisticDefinitionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AggregationMethod != null) {
+                out.name("AggregationMethod");
+                statisticAggregationMethodAdapter.write(out, value.AggregationMethod);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.VersionChangeInterval != null) {
+                out.name("VersionChangeInterval");
+                statisticResetIntervalOptionAdapter.write(out, value.VersionChangeInterval);
+            }
+            out.endObject();
+        }
+
+        public CreatePlayerStatisticDefinitionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerStatisticDefinitionRequest value = new CreatePlayerStatisticDefinitionRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreatePlayerStatisticDefinitionResultAdapter extends TypeAdapter<CreatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        CreatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        public void write(JsonWriter out, CreatePlayerStatisticDefinitionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Statistic != null) {
+                out.name("Statistic");
+                playerStatisticDefinitionAdapter.write(out, value.Statistic);
+            }
+            out.endObject();
+        }
+
+        public CreatePlayerStatisticDefinitionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerStatisticDefinitionResult value = new CreatePlayerStatisticDefinitionResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateTaskResultAdapter extends TypeAdapter<CreateTaskResult> {
+        CreateTaskResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateTaskResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TaskId != null) {
+                out.name("TaskId");
+                out.value(value.TaskId);
+            }
+            out.endObject();
+        }
+
+        public CreateTaskResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateTaskResult value = new CreateTaskResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TaskId": value.TaskId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteContentRequestAdapter extends TypeAdapter<DeleteContentRequest> {
+        DeleteContentRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteContentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            out.endObject();
+        }
+
+        public DeleteContentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteContentRequest value = new DeleteContentRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteMasterPlayerAccountRequestAdapter extends TypeAdapter<DeleteMasterPlayerAccountRequest> {
+        DeleteMasterPlayerAccountRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteMasterPlayerAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MetaData != null) {
+                out.name("MetaData");
+                out.value(value.MetaData);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public DeleteMasterPlayerAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMasterPlayerAccountRequest value = new DeleteMasterPlayerAccountRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MetaData": value.MetaData = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteMasterPlayerAccountResultAdapter extends TypeAdapter<DeleteMasterPlayerAccountResult> {
+        DeleteMasterPlayerAccountResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteMasterPlayerAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.JobReceiptId != null) {
+                out.name("JobReceiptId");
+                out.value(value.JobReceiptId);
+            }
+            if (value.TitleIds != null) {
+                out.name("TitleIds");
+                PlayFabModelAdapters.writeList(out, value.TitleIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public DeleteMasterPlayerAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMasterPlayerAccountResult value = new DeleteMasterPlayerAccountResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "JobReceiptId": value.JobReceiptId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleIds": value.TitleIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerRequestAdapter extends TypeAdapter<DeletePlayerRequest> {
+        DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public DeletePlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerRequest value = new DeletePlayerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerResultAdapter extends TypeAdapter<DeletePlayerResult> {
+        DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeletePlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerResult value = new DeletePlayerResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerSharedSecretRequestAdapter extends TypeAdapter<DeletePlayerSharedSecretRequest> {
+        DeletePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SecretKey != null) {
+                out.name("SecretKey");
+                out.value(value.SecretKey);
+            }
+            out.endObject();
+        }
+
+        public DeletePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerSharedSecretRequest value = new DeletePlayerSharedSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SecretKey": value.SecretKey = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerSharedSecretResultAdapter extends TypeAdapter<DeletePlayerSharedSecretResult> {
+        DeletePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeletePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerSharedSecretResult value = new DeletePlayerSharedSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteStoreRequestAdapter extends TypeAdapter<DeleteStoreRequest> {
+        DeleteStoreRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteStoreRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public DeleteStoreRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteStoreRequest value = new DeleteStoreRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteStoreResultAdapter extends TypeAdapter<DeleteStoreResult> {
+        DeleteStoreResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteStoreResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeleteStoreResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteStoreResult value = new DeleteStoreResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteTaskRequestAdapter extends TypeAdapter<DeleteTaskRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        DeleteTaskRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, DeleteTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Identifier != null) {
+                out.name("Identifier");
+                nameIdentifierAdapter.write(out, value.Identifier);
+            }
+            out.endObject();
+        }
+
+        public DeleteTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTaskRequest value = new DeleteTaskRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteTitleRequestAdapter extends TypeAdapter<DeleteTitleRequest> {
+        DeleteTitleRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteTitleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeleteTitleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleRequest value = new DeleteTitleRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteTitleResultAdapter extends TypeAdapter<DeleteTitleResult> {
+        DeleteTitleResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteTitleResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeleteTitleResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleResult value = new DeleteTitleResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.APIRequestsIssued != null) {
+                out.name("APIRequestsIssued");
+                out.value(value.APIRequestsIssued);
+            }
+            if (value.Error != null) {
+                out.name("Error");
+                scriptExecutionErrorAdapter.write(out, value.Error);
+            }
+            if (value.ExecutionTimeSeconds != null) {
+                out.name("ExecutionTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ExecutionTimeSeconds);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionResult != null) {
+                out.name("FunctionResult");
+                objectAdapter.write(out, value.FunctionResult);
+            }
+            if (value.FunctionResultTooLarge != null) {
+                out.name("FunctionResultTooLarge");
+                out.value(value.FunctionResultTooLarge.booleanValue());
+            }
+            if (value.HttpRequestsIssued != null) {
+                out.name("HttpRequestsIssued");
+                out.value(value.HttpRequestsIssued);
+            }
+            if (value.Logs != null) {
+                out.name("Logs");
+                PlayFabModelAdapters.writeList(out, value.Logs, logStatementAdapter);
+            }
+            if (value.LogsTooLarge != null) {
+                out.name("LogsTooLarge");
+                out.value(value.LogsTooLarge.booleanValue());
+            }
+            if (value.MemoryConsumedBytes != null) {
+                out.name("MemoryConsumedBytes");
+                out.value(value.MemoryConsumedBytes);
+            }
+            if (value.ProcessorTimeSeconds != null) {
+                out.name("ProcessorTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ProcessorTimeSeconds);
+            }
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "APIRequestsIssued": value.APIRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                    case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                    case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Logs": value.Logs = PlayFabModelAdapters.readList(in, logStatementAdapter); break;
+                    case "LogsTooLarge": value.LogsTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabModelAdapters.readLong(in); break;
+                    case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExportMasterPlayerDataRequestAdapter extends TypeAdapter<ExportMasterPlayerDataRequest> {
+        ExportMasterPlayerDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ExportMasterPlayerDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ExportMasterPlayerDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExportMasterPlayerDataRequest value = new ExportMasterPlayerDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExportMasterPlayerDataResultAdapter extends TypeAdapter<ExportMasterPlayerDataResult> {
+        ExportMasterPlayerDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ExportMasterPlayerDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.JobReceiptId != null) {
+                out.name("JobReceiptId");
+                out.value(value.JobReceiptId);
+            }
+            out.endObject();
+        }
+
+        public ExportMasterPlayerDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExportMasterPlayerDataResult value = new ExportMasterPlayerDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "JobReceiptId": value.JobReceiptId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GameModeInfoAdapter extends TypeAdapter<GameModeInfo> {
+        GameModeInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GameModeInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Gamemode != null) {
+                out.name("Gamemode");
+                out.value(value.Gamemode);
+            }
+            if (value.MaxPlayerCount != null) {
+                out.name("MaxPlayerCount");
+                out.value(value.MaxPlayerCount);
+            }
+            if (value.MinPlayerCount != null) {
+                out.name("MinPlayerCount");
+                out.value(value.MinPlayerCount);
+            }
+            if (value.StartOpen != null) {
+                out.name("StartOpen");
+                out.value(value.StartOpen.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public GameModeInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameModeInfo value = new GameModeInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Gamemode": value.Gamemode = PlayFabModelAdapters.readString(in); break;
+                    case "MaxPlayerCount": value.MaxPlayerCount = PlayFabModelAdapters.readLong(in); break;
+                    case "MinPlayerCount": value.MinPlayerCount = PlayFabModelAdapters.readLong(in); break;
+                    case "StartOpen": value.StartOpen = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetActionsOnPlayersInSegmentTaskInstanceResultAdapter extends TypeAdapter<GetActionsOnPlayersInSegmentTaskInstanceResult> {
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskSummary> actionsOnPlayersInSegmentTaskSummaryAdapter;
+
+        GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(Gson gson) {
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+            actionsOnPlayersInSegmentTaskSummaryAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskSummary.class);
+        }
+
+        public void write(JsonWriter out, GetActionsOnPlayersInSegmentTaskInstanceResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                actionsOnPlayersInSegmentTaskParameterAdapter.write(out, value.Parameter);
+            }
+            if (value.Summary != null) {
+                out.name("Summary");
+                actionsOnPlayersInSegmentTaskSummaryAdapter.write(out, value.Summary);
+            }
+            out.endObject();
+        }
+
+        public GetActionsOnPlayersInSegmentTaskInstanceResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetActionsOnPlayersInSegmentTaskInstanceResult value = new GetActionsOnPlayersInSegmentTaskInstanceResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); break;
+                    case "Summary": value.Summary = actionsOnPlayersInSegmentTaskSummaryAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAllSegmentsRequestAdapter extends TypeAdapter<GetAllSegmentsRequest> {
+        GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetAllSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsRequest value = new GetAllSegmentsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAllSegmentsResultAdapter extends TypeAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        public void write(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Segments != null) {
+                out.name("Segments");
+                PlayFabModelAdapters.writeList(out, value.Segments, getSegmentResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetAllSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsResult value = new GetAllSegmentsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Segments": value.Segments = PlayFabModelAdapters.readList(in, getSegmentResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Catalog != null) {
+                out.name("Catalog");
+                PlayFabModelAdapters.writeList(out, value.Catalog, catalogItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Catalog": value.Catalog = PlayFabModelAdapters.readList(in, catalogItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCloudScriptRevisionRequestAdapter extends TypeAdapter<GetCloudScriptRevisionRequest> {
+        GetCloudScriptRevisionRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCloudScriptRevisionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetCloudScriptRevisionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptRevisionRequest value = new GetCloudScriptRevisionRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCloudScriptRevisionResultAdapter extends TypeAdapter<GetCloudScriptRevisionResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<CloudScriptFile> cloudScriptFileAdapter;
+
+        GetCloudScriptRevisionResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            cloudScriptFileAdapter = gson.getAdapter(CloudScriptFile.class);
+        }
+
+        public void write(JsonWriter out, GetCloudScriptRevisionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CreatedAt != null) {
+                out.name("CreatedAt");
+                dateAdapter.write(out, value.CreatedAt);
+            }
+            if (value.Files != null) {
+                out.name("Files");
+                PlayFabModelAdapters.writeList(out, value.Files, cloudScriptFileAdapter);
+            }
+            if (value.IsPublished != null) {
+                out.name("IsPublished");
+                out.value(value.IsPublished.booleanValue());
+            }
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetCloudScriptRevisionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptRevisionResult value = new GetCloudScriptRevisionResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CreatedAt": value.CreatedAt = dateAdapter.read(in); break;
+                    case "Files": value.Files = PlayFabModelAdapters.readList(in, cloudScriptFileAdapter); break;
+                    case "IsPublished": value.IsPublished = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCloudScriptTaskInstanceResultAdapter extends TypeAdapter<GetCloudScriptTaskInstanceResult> {
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+        private final TypeAdapter<CloudScriptTaskSummary> cloudScriptTaskSummaryAdapter;
+
+        GetCloudScriptTaskInstanceResultAdapter(Gson gson) {
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+            cloudScriptTaskSummaryAdapter = gson.getAdapter(CloudScriptTaskSummary.class);
+        }
+
+        public void write(JsonWriter out, GetCloudScriptTaskInstanceResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                cloudScriptTaskParameterAdapter.write(out, value.Parameter);
+            }
+            if (value.Summary != null) {
+                out.name("Summary");
+                cloudScriptTaskSummaryAdapter.write(out, value.Summary);
+            }
+            out.endObject();
+        }
+
+        public GetCloudScriptTaskInstanceResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptTaskInstanceResult value = new GetCloudScriptTaskInstanceResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); break;
+                    case "Summary": value.Summary = cloudScriptTaskSummaryAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCloudScriptVersionsRequestAdapter extends TypeAdapter<GetCloudScriptVersionsRequest> {
+        GetCloudScriptVersionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCloudScriptVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetCloudScriptVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptVersionsRequest value = new GetCloudScriptVersionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCloudScriptVersionsResultAdapter extends TypeAdapter<GetCloudScriptVersionsResult> {
+        private final TypeAdapter<CloudScriptVersionStatus> cloudScriptVersionStatusAdapter;
+
+        GetCloudScriptVersionsResultAdapter(Gson gson) {
+            cloudScriptVersionStatusAdapter = gson.getAdapter(CloudScriptVersionStatus.class);
+        }
+
+        public void write(JsonWriter out, GetCloudScriptVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Versions != null) {
+                out.name("Versions");
+                PlayFabModelAdapters.writeList(out, value.Versions, cloudScriptVersionStatusAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCloudScriptVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptVersionsResult value = new GetCloudScriptVersionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Versions": value.Versions = PlayFabModelAdapters.readList(in, cloudScriptVersionStatusAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentListRequestAdapter extends TypeAdapter<GetContentListRequest> {
+        GetContentListRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Prefix != null) {
+                out.name("Prefix");
+                out.value(value.Prefix);
+            }
+            out.endObject();
+        }
+
+        public GetContentListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentListRequest value = new GetContentListRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Prefix": value.Prefix = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentListResultAdapter extends TypeAdapter<GetContentListResult> {
+        private final TypeAdapter<ContentInfo> contentInfoAdapter;
+
+        GetContentListResultAdapter(Gson gson) {
+            contentInfoAdapter = gson.getAdapter(ContentInfo.class);
+        }
+
+        public void write(JsonWriter out, GetContentListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Contents != null) {
+                out.name("Contents");
+                PlayFabModelAdapters.writeList(out, value.Contents, contentInfoAdapter);
+            }
+            if (value.ItemCount != null) {
+                out.name("ItemCount");
+                out.value(value.ItemCount);
+            }
+            if (value.TotalSize != null) {
+                out.name("TotalSize");
+                out.value(value.TotalSize);
+            }
+            out.endObject();
+        }
+
+        public GetContentListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentListResult value = new GetContentListResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Contents": value.Contents = PlayFabModelAdapters.readList(in, contentInfoAdapter); break;
+                    case "ItemCount": value.ItemCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "TotalSize": value.TotalSize = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentUploadUrlRequestAdapter extends TypeAdapter<GetContentUploadUrlRequest> {
+        GetContentUploadUrlRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentUploadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ContentType != null) {
+                out.name("ContentType");
+                out.value(value.ContentType);
+            }
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            out.endObject();
+        }
+
+        public GetContentUploadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentUploadUrlRequest value = new GetContentUploadUrlRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ContentType": value.ContentType = PlayFabModelAdapters.readString(in); break;
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentUploadUrlResultAdapter extends TypeAdapter<GetContentUploadUrlResult> {
+        GetContentUploadUrlResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentUploadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.URL != null) {
+                out.name("URL");
+                out.value(value.URL);
+            }
+            out.endObject();
+        }
+
+        public GetContentUploadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentUploadUrlResult value = new GetContentUploadUrlResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "URL": value.URL = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetDataReportRequestAdapter extends TypeAdapter<GetDataReportRequest> {
+        GetDataReportRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetDataReportRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Day != null) {
+                out.name("Day");
+                out.value(value.Day);
+            }
+            if (value.Month != null) {
+                out.name("Month");
+                out.value(value.Month);
+            }
+            if (value.ReportName != null) {
+                out.name("ReportName");
+                out.value(value.ReportName);
+            }
+            if (value.Year != null) {
+                out.name("Year");
+                out.value(value.Year);
+            }
+            out.endObject();
+        }
+
+        public GetDataReportRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDataReportRequest value = new GetDataReportRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Day": value.Day = PlayFabModelAdapters.readInteger(in); break;
+                    case "Month": value.Month = PlayFabModelAdapters.readInteger(in); break;
+                    case "ReportName": value.ReportName = PlayFabModelAdapters.readString(in); break;
+                    case "Year": value.Year = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetDataReportResultAdapter extends TypeAdapter<GetDataReportResult> {
+        GetDataReportResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetDataReportResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DownloadUrl != null) {
+                out.name("DownloadUrl");
+                out.value(value.DownloadUrl);
+            }
+            out.endObject();
+        }
+
+        public GetDataReportResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDataReportResult value = new GetDataReportResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DownloadUrl": value.DownloadUrl = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetMatchmakerGameInfoRequestAdapter extends TypeAdapter<GetMatchmakerGameInfoRequest> {
+        GetMatchmakerGameInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetMatchmakerGameInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            out.endObject();
+        }
+
+        public GetMatchmakerGameInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameInfoRequest value = new GetMatchmakerGameInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetMatchmakerGameInfoResultAdapter extends TypeAdapter<GetMatchmakerGameInfoResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        GetMatchmakerGameInfoResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, GetMatchmakerGameInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.EndTime != null) {
+                out.name("EndTime");
+                dateAdapter.write(out, value.EndTime);
+            }
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.Mode != null) {
+                out.name("Mode");
+                out.value(value.Mode);
+            }
+            if (value.Players != null) {
+                out.name("Players");
+                PlayFabModelAdapters.writeList(out, value.Players, PlayFabModelAdapters.STRING);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.ServerAddress != null) {
+                out.name("ServerAddress");
+                out.value(value.ServerAddress);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            if (value.StartTime != null) {
+                out.name("StartTime");
+                dateAdapter.write(out, value.StartTime);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public GetMatchmakerGameInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameInfoResult value = new GetMatchmakerGameInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "EndTime": value.EndTime = dateAdapter.read(in); break;
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "Mode": value.Mode = PlayFabModelAdapters.readString(in); break;
+                    case "Players": value.Players = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "ServerAddress": value.ServerAddress = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readLong(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    case "StartTime": value.StartTime = dateAdapter.read(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetMatchmakerGameModesRequestAdapter extends TypeAdapter<GetMatchmakerGameModesRequest> {
+        GetMatchmakerGameModesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetMatchmakerGameModesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            out.endObject();
+        }
+
+        public GetMatchmakerGameModesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameModesRequest value = new GetMatchmakerGameModesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetMatchmakerGameModesResultAdapter extends TypeAdapter<GetMatchmakerGameModesResult> {
+        private final TypeAdapter<GameModeInfo> gameModeInfoAdapter;
+
+        GetMatchmakerGameModesResultAdapter(Gson gson) {
+            gameModeInfoAdapter = gson.getAdapter(GameModeInfo.class);
+        }
+
+        public void write(JsonWriter out, GetMatchmakerGameModesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameModes != null) {
+                out.name("GameModes");
+                PlayFabModelAdapters.writeList(out, value.GameModes, gameModeInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetMatchmakerGameModesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameModesResult value = new GetMatchmakerGameModesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameModes": value.GameModes = PlayFabModelAdapters.readList(in, gameModeInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayedTitleListRequestAdapter extends TypeAdapter<GetPlayedTitleListRequest> {
+        GetPlayedTitleListRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayedTitleListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayedTitleListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayedTitleListRequest value = new GetPlayedTitleListRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayedTitleListResultAdapter extends TypeAdapter<GetPlayedTitleListResult> {
+        GetPlayedTitleListResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayedTitleListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TitleIds != null) {
+                out.name("TitleIds");
+                PlayFabModelAdapters.writeList(out, value.TitleIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayedTitleListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayedTitleListResult value = new GetPlayedTitleListResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TitleIds": value.TitleIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerIdFromAuthTokenRequestAdapter extends TypeAdapter<GetPlayerIdFromAuthTokenRequest> {
+        private final TypeAdapter<AuthTokenType> authTokenTypeAdapter;
+
+        GetPlayerIdFromAuthTokenRequestAdapter(Gson gson) {
+            authTokenTypeAdapter = gson.getAdapter(AuthTokenType.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerIdFromAuthTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Token != null) {
+                out.name("Token");
+                out.value(value.Token);
+            }
+            if (value.TokenType != null) {
+                out.name("TokenType");
+                authTokenTypeAdapter.write(out, value.TokenType);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerIdFromAuthTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerIdFromAuthTokenRequest value = new GetPlayerIdFromAuthTokenRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Token": value.Token = PlayFabModelAdapters.readString(in); break;
+                    case "TokenType": value.TokenType = authTokenTypeAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerIdFromAuthTokenResultAdapter extends TypeAdapter<GetPlayerIdFromAuthTokenResult> {
+        GetPlayerIdFromAuthTokenResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerIdFromAuthTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerIdFromAuthTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerIdFromAuthTokenResult value = new GetPlayerIdFromAuthTokenResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerProfile != null) {
+                out.name("PlayerProfile");
+                playerProfileModelAdapter.write(out, value.PlayerProfile);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Segments != null) {
+                out.name("Segments");
+                PlayFabModelAdapters.writeList(out, value.Segments, getSegmentResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Segments": value.Segments = PlayFabModelAdapters.readList(in, getSegmentResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSharedSecretsRequestAdapter extends TypeAdapter<GetPlayerSharedSecretsRequest> {
+        GetPlayerSharedSecretsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerSharedSecretsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetPlayerSharedSecretsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSharedSecretsRequest value = new GetPlayerSharedSecretsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSharedSecretsResultAdapter extends TypeAdapter<GetPlayerSharedSecretsResult> {
+        private final TypeAdapter<SharedSecret> sharedSecretAdapter;
+
+        GetPlayerSharedSecretsResultAdapter(Gson gson) {
+            sharedSecretAdapter = gson.getAdapter(SharedSecret.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerSharedSecretsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedSecrets != null) {
+                out.name("SharedSecrets");
+                PlayFabModelAdapters.writeList(out, value.SharedSecrets, sharedSecretAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerSharedSecretsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSharedSecretsResult value = new GetPlayerSharedSecretsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedSecrets": value.SharedSecrets = PlayFabModelAdapters.readList(in, sharedSecretAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersInSegmentRequestAdapter extends TypeAdapter<GetPlayersInSegmentRequest> {
+        GetPlayersInSegmentRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ContinuationToken != null) {
+                out.name("ContinuationToken");
+                out.value(value.ContinuationToken);
+            }
+            if (value.MaxBatchSize != null) {
+                out.name("MaxBatchSize");
+                out.value(value.MaxBatchSize);
+            }
+            if (value.SecondsToLive != null) {
+                out.name("SecondsToLive");
+                out.value(value.SecondsToLive);
+            }
+            if (value.SegmentId != null) {
+                out.name("SegmentId");
+                out.value(value.SegmentId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersInSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentRequest value = new GetPlayersInSegmentRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ContinuationToken": value.ContinuationToken = PlayFabModelAdapters.readString(in); break;
+                    case "MaxBatchSize": value.MaxBatchSize = PlayFabModelAdapters.readLong(in); break;
+                    case "SecondsToLive": value.SecondsToLive = PlayFabModelAdapters.readLong(in); break;
+                    case "SegmentId": value.SegmentId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersInSegmentResultAdapter extends TypeAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<PlayerProfile> playerProfileAdapter;
+
+        GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileAdapter = gson.getAdapter(PlayerProfile.class);
+        }
+
+        public void write(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ContinuationToken != null) {
+                out.name("ContinuationToken");
+                out.value(value.ContinuationToken);
+            }
+            if (value.PlayerProfiles != null) {
+                out.name("PlayerProfiles");
+                PlayFabModelAdapters.writeList(out, value.PlayerProfiles, playerProfileAdapter);
+            }
+            if (value.ProfilesInSegment != null) {
+                out.name("ProfilesInSegment");
+                out.value(value.ProfilesInSegment);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersInSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentResult value = new GetPlayersInSegmentResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ContinuationToken": value.ContinuationToken = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerProfiles": value.PlayerProfiles = PlayFabModelAdapters.readList(in, playerProfileAdapter); break;
+                    case "ProfilesInSegment": value.ProfilesInSegment = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersSegmentsRequestAdapter extends TypeAdapter<GetPlayersSegmentsRequest> {
+        GetPlayersSegmentsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersSegmentsRequest value = new GetPlayersSegmentsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticDefinitionsRequestAdapter extends TypeAdapter<GetPlayerStatisticDefinitionsRequest> {
+        GetPlayerStatisticDefinitionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticDefinitionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetPlayerStatisticDefinitionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticDefinitionsRequest value = new GetPlayerStatisticDefinitionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticDefinitionsResultAdapter extends TypeAdapter<GetPlayerStatisticDefinitionsResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        GetPlayerStatisticDefinitionsResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticDefinitionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, playerStatisticDefinitionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticDefinitionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticDefinitionsResult value = new GetPlayerStatisticDefinitionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, playerStatisticDefinitionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticVersions != null) {
+                out.name("StatisticVersions");
+                PlayFabModelAdapters.writeList(out, value.StatisticVersions, playerStatisticVersionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticVersions": value.StatisticVersions = PlayFabModelAdapters.readList(in, playerStatisticVersionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        GetPlayerTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Namespace != null) {
+                out.name("Namespace");
+                out.value(value.Namespace);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Namespace": value.Namespace = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        GetPlayerTagsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPolicyRequestAdapter extends TypeAdapter<GetPolicyRequest> {
+        GetPolicyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PolicyName != null) {
+                out.name("PolicyName");
+                out.value(value.PolicyName);
+            }
+            out.endObject();
+        }
+
+        public GetPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPolicyRequest value = new GetPolicyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PolicyName": value.PolicyName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPolicyResponseAdapter extends TypeAdapter<GetPolicyResponse> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        GetPolicyResponseAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, GetPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PolicyName != null) {
+                out.name("PolicyName");
+                out.value(value.PolicyName);
+            }
+            if (value.Statements != null) {
+                out.name("Statements");
+                PlayFabModelAdapters.writeList(out, value.Statements, permissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPolicyResponse value = new GetPolicyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PolicyName": value.PolicyName = PlayFabModelAdapters.readString(in); break;
+                    case "Statements": value.Statements = PlayFabModelAdapters.readList(in, permissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        GetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        GetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetRandomResultTablesRequestAdapter extends TypeAdapter<GetRandomResultTablesRequest> {
+        GetRandomResultTablesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            out.endObject();
+        }
+
+        public GetRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesRequest value = new GetRandomResultTablesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetRandomResultTablesResultAdapter extends TypeAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<RandomResultTableListing> randomResultTableListingAdapter;
+
+        GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingAdapter = gson.getAdapter(RandomResultTableListing.class);
+        }
+
+        public void write(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Tables != null) {
+                out.name("Tables");
+                PlayFabModelAdapters.writeMap(out, value.Tables, randomResultTableListingAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesResult value = new GetRandomResultTablesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Tables": value.Tables = PlayFabModelAdapters.readMap(in, randomResultTableListingAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ABTestParent != null) {
+                out.name("ABTestParent");
+                out.value(value.ABTestParent);
+            }
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            out.endObject();
+        }
+
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ABTestParent": value.ABTestParent = PlayFabModelAdapters.readString(in); break;
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetServerBuildInfoRequestAdapter extends TypeAdapter<GetServerBuildInfoRequest> {
+        GetServerBuildInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetServerBuildInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            out.endObject();
+        }
+
+        public GetServerBuildInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildInfoRequest value = new GetServerBuildInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetServerBuildInfoResultAdapter extends TypeAdapter<GetServerBuildInfoResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetServerBuildInfoResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetServerBuildInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActiveRegions != null) {
+                out.name("ActiveRegions");
+                PlayFabModelAdapters.writeList(out, value.ActiveRegions, regionAdapter);
+            }
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ErrorMessage != null) {
+                out.name("ErrorMessage");
+                out.value(value.ErrorMessage);
+            }
+            if (value.MaxGamesPerHost != null) {
+                out.name("MaxGamesPerHost");
+                out.value(value.MaxGamesPerHost);
+            }
+            if (value.MinFreeGameSlots != null) {
+                out.name("MinFreeGameSlots");
+                out.value(value.MinFreeGameSlots);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                gameBuildStatusAdapter.write(out, value.Status);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public GetServerBuildInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildInfoResult value = new GetServerBuildInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActiveRegions": value.ActiveRegions = PlayFabModelAdapters.readList(in, regionAdapter); break;
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ErrorMessage": value.ErrorMessage = PlayFabModelAdapters.readString(in); break;
+                    case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabModelAdapters.readInteger(in); break;
+                    case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabModelAdapters.readInteger(in); break;
+                    case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetServerBuildUploadURLRequestAdapter extends TypeAdapter<GetServerBuildUploadURLRequest> {
+        GetServerBuildUploadURLRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetServerBuildUploadURLRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            out.endObject();
+        }
+
+        public GetServerBuildUploadURLRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildUploadURLRequest value = new GetServerBuildUploadURLRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetServerBuildUploadURLResultAdapter extends TypeAdapter<GetServerBuildUploadURLResult> {
+        GetServerBuildUploadURLResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetServerBuildUploadURLResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.URL != null) {
+                out.name("URL");
+                out.value(value.URL);
+            }
+            out.endObject();
+        }
+
+        public GetServerBuildUploadURLResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildUploadURLResult value = new GetServerBuildUploadURLResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "URL": value.URL = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetStoreItemsRequestAdapter extends TypeAdapter<GetStoreItemsRequest> {
+        GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public GetStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsRequest value = new GetStoreItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetStoreItemsResultAdapter extends TypeAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        public void write(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.MarketingData != null) {
+                out.name("MarketingData");
+                storeMarketingModelAdapter.write(out, value.MarketingData);
+            }
+            if (value.Source != null) {
+                out.name("Source");
+                sourceTypeAdapter.write(out, value.Source);
+            }
+            if (value.Store != null) {
+                out.name("Store");
+                PlayFabModelAdapters.writeList(out, value.Store, storeItemAdapter);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public GetStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsResult value = new GetStoreItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                    case "Source": value.Source = sourceTypeAdapter.read(in); break;
+                    case "Store": value.Store = PlayFabModelAdapters.readList(in, storeItemAdapter); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTaskInstanceRequestAdapter extends TypeAdapter<GetTaskInstanceRequest> {
+        GetTaskInstanceRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTaskInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            out.endObject();
+        }
+
+        public GetTaskInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstanceRequest value = new GetTaskInstanceRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTaskInstancesRequestAdapter extends TypeAdapter<GetTaskInstancesRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        GetTaskInstancesRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, GetTaskInstancesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StartedAtRangeFrom != null) {
+                out.name("StartedAtRangeFrom");
+                dateAdapter.write(out, value.StartedAtRangeFrom);
+            }
+            if (value.StartedAtRangeTo != null) {
+                out.name("StartedAtRangeTo");
+                dateAdapter.write(out, value.StartedAtRangeTo);
+            }
+            if (value.StatusFilter != null) {
+                out.name("StatusFilter");
+                taskInstanceStatusAdapter.write(out, value.StatusFilter);
+            }
+            if (value.TaskIdentifier != null) {
+                out.name("TaskIdentifier");
+                nameIdentifierAdapter.write(out, value.TaskIdentifier);
+            }
+            out.endObject();
+        }
+
+        public GetTaskInstancesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstancesRequest value = new GetTaskInstancesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StartedAtRangeFrom": value.StartedAtRangeFrom = dateAdapter.read(in); break;
+                    case "StartedAtRangeTo": value.StartedAtRangeTo = dateAdapter.read(in); break;
+                    case "StatusFilter": value.StatusFilter = taskInstanceStatusAdapter.read(in); break;
+                    case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTaskInstancesResultAdapter extends TypeAdapter<GetTaskInstancesResult> {
+        private final TypeAdapter<TaskInstanceBasicSummary> taskInstanceBasicSummaryAdapter;
+
+        GetTaskInstancesResultAdapter(Gson gson) {
+            taskInstanceBasicSummaryAdapter = gson.getAdapter(TaskInstanceBasicSummary.class);
+        }
+
+        public void write(JsonWriter out, GetTaskInstancesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Summaries != null) {
+                out.name("Summaries");
+                PlayFabModelAdapters.writeList(out, value.Summaries, taskInstanceBasicSummaryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetTaskInstancesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstancesResult value = new GetTaskInstancesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Summaries": value.Summaries = PlayFabModelAdapters.readList(in, taskInstanceBasicSummaryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTasksRequestAdapter extends TypeAdapter<GetTasksRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        GetTasksRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, GetTasksRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Identifier != null) {
+                out.name("Identifier");
+                nameIdentifierAdapter.write(out, value.Identifier);
+            }
+            out.endObject();
+        }
+
+        public GetTasksRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTasksRequest value = new GetTasksRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTasksResultAdapter extends TypeAdapter<GetTasksResult> {
+        private final TypeAdapter<ScheduledTask> scheduledTaskAdapter;
+
+        GetTasksResultAdapter(Gson gson) {
+            scheduledTaskAdapter = gson.getAdapter(ScheduledTask.class);
+        }
+
+        public void write(JsonWriter out, GetTasksResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Tasks != null) {
+                out.name("Tasks");
+                PlayFabModelAdapters.writeList(out, value.Tasks, scheduledTaskAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetTasksResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTasksResult value = new GetTasksResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Tasks": value.Tasks = PlayFabModelAdapters.readList(in, scheduledTaskAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        GetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        GetTitleDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserBansRequestAdapter extends TypeAdapter<GetUserBansRequest> {
+        GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansRequest value = new GetUserBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserBansResultAdapter extends TypeAdapter<GetUserBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        GetUserBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, GetUserBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetUserBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansResult value = new GetUserBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        GetUserDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IfChangedFromDataVersion != null) {
+                out.name("IfChangedFromDataVersion");
+                out.value(value.IfChangedFromDataVersion);
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, userDataRecordAdapter);
+            }
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        GetUserInventoryRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantedItemInstanceAdapter extends TypeAdapter<GrantedItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GrantedItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GrantedItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.Result != null) {
+                out.name("Result");
+                out.value(value.Result.booleanValue());
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public GrantedItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantedItemInstance value = new GrantedItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "Result": value.Result = PlayFabModelAdapters.readBoolean(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUsersRequestAdapter extends TypeAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<ItemGrant> itemGrantAdapter;
+
+        GrantItemsToUsersRequestAdapter(Gson gson) {
+            itemGrantAdapter = gson.getAdapter(ItemGrant.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.ItemGrants != null) {
+                out.name("ItemGrants");
+                PlayFabModelAdapters.writeList(out, value.ItemGrants, itemGrantAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersRequest value = new GrantItemsToUsersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "ItemGrants": value.ItemGrants = PlayFabModelAdapters.readList(in, itemGrantAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUsersResultAdapter extends TypeAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemGrantResults != null) {
+                out.name("ItemGrantResults");
+                PlayFabModelAdapters.writeList(out, value.ItemGrantResults, grantedItemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersResult value = new GrantItemsToUsersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemGrantResults": value.ItemGrantResults = PlayFabModelAdapters.readList(in, grantedItemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IncrementLimitedEditionItemAvailabilityRequestAdapter extends TypeAdapter<IncrementLimitedEditionItemAvailabilityRequest> {
+        IncrementLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, IncrementLimitedEditionItemAvailabilityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            out.endObject();
+        }
+
+        public IncrementLimitedEditionItemAvailabilityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementLimitedEditionItemAvailabilityRequest value = new IncrementLimitedEditionItemAvailabilityRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IncrementLimitedEditionItemAvailabilityResultAdapter extends TypeAdapter<IncrementLimitedEditionItemAvailabilityResult> {
+        IncrementLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, IncrementLimitedEditionItemAvailabilityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public IncrementLimitedEditionItemAvailabilityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementLimitedEditionItemAvailabilityResult value = new IncrementLimitedEditionItemAvailabilityResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IncrementPlayerStatisticVersionRequestAdapter extends TypeAdapter<IncrementPlayerStatisticVersionRequest> {
+        IncrementPlayerStatisticVersionRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, IncrementPlayerStatisticVersionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public IncrementPlayerStatisticVersionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementPlayerStatisticVersionRequest value = new IncrementPlayerStatisticVersionRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class IncrementPlayerStatisticVersionResultAdapter extends TypeAdapter<IncrementPlayerStatisticVersionResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        IncrementPlayerStatisticVersionResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        public void write(JsonWriter out, IncrementPlayerStatisticVersionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticVersion != null) {
+                out.name("StatisticVersion");
+                playerStatisticVersionAdapter.write(out, value.StatisticVersion);
+            }
+            out.endObject();
+        }
+
+        public IncrementPlayerStatisticVersionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementPlayerStatisticVersionResult value = new IncrementPlayerStatisticVersionResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticVersion": value.StatisticVersion = playerStatisticVersionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemGrantAdapter extends TypeAdapter<ItemGrant> {
+        ItemGrantAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ItemGrant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ItemGrant read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemGrant value = new ItemGrant();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                loginIdentityProviderAdapter.write(out, value.Platform);
+            }
+            if (value.PlatformUserId != null) {
+                out.name("PlatformUserId");
+                out.value(value.PlatformUserId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                    case "PlatformUserId": value.PlatformUserId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListBuildsRequestAdapter extends TypeAdapter<ListBuildsRequest> {
+        ListBuildsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ListBuildsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ListBuildsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildsRequest value = new ListBuildsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListBuildsResultAdapter extends TypeAdapter<ListBuildsResult> {
+        private final TypeAdapter<GetServerBuildInfoResult> getServerBuildInfoResultAdapter;
+
+        ListBuildsResultAdapter(Gson gson) {
+            getServerBuildInfoResultAdapter = gson.getAdapter(GetServerBuildInfoResult.class);
+        }
+
+        public void write(JsonWriter out, ListBuildsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Builds != null) {
+                out.name("Builds");
+                PlayFabModelAdapters.writeList(out, value.Builds, getServerBuildInfoResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListBuildsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildsResult value = new ListBuildsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Builds": value.Builds = PlayFabModelAdapters.readList(in, getServerBuildInfoResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListVirtualCurrencyTypesRequestAdapter extends TypeAdapter<ListVirtualCurrencyTypesRequest> {
+        ListVirtualCurrencyTypesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ListVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ListVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualCurrencyTypesRequest value = new ListVirtualCurrencyTypesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListVirtualCurrencyTypesResultAdapter extends TypeAdapter<ListVirtualCurrencyTypesResult> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        ListVirtualCurrencyTypesResultAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        public void write(JsonWriter out, ListVirtualCurrencyTypesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.VirtualCurrencies != null) {
+                out.name("VirtualCurrencies");
+                PlayFabModelAdapters.writeList(out, value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListVirtualCurrencyTypesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualCurrencyTypesResult value = new ListVirtualCurrencyTypesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "VirtualCurrencies": value.VirtualCurrencies = PlayFabModelAdapters.readList(in, virtualCurrencyDataAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.City != null) {
+                out.name("City");
+                out.value(value.City);
+            }
+            if (value.ContinentCode != null) {
+                out.name("ContinentCode");
+                continentCodeAdapter.write(out, value.ContinentCode);
+            }
+            if (value.CountryCode != null) {
+                out.name("CountryCode");
+                countryCodeAdapter.write(out, value.CountryCode);
+            }
+            if (value.Latitude != null) {
+                out.name("Latitude");
+                PlayFabModelAdapters.writeDouble(out, value.Latitude);
+            }
+            if (value.Longitude != null) {
+                out.name("Longitude");
+                PlayFabModelAdapters.writeDouble(out, value.Longitude);
+            }
+            out.endObject();
+        }
+
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "City": value.City = PlayFabModelAdapters.readString(in); break;
+                    case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                    case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                    case "Latitude": value.Latitude = PlayFabModelAdapters.readDouble(in); break;
+                    case "Longitude": value.Longitude = PlayFabModelAdapters.readDouble(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                objectAdapter.write(out, value.Data);
+            }
+            if (value.Level != null) {
+                out.name("Level");
+                out.value(value.Level);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            out.endObject();
+        }
+
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = objectAdapter.read(in); break;
+                    case "Level": value.Level = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LookupUserAccountInfoRequestAdapter extends TypeAdapter<LookupUserAccountInfoRequest> {
+        LookupUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, LookupUserAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TitleDisplayName != null) {
+                out.name("TitleDisplayName");
+                out.value(value.TitleDisplayName);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public LookupUserAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LookupUserAccountInfoRequest value = new LookupUserAccountInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleDisplayName": value.TitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LookupUserAccountInfoResultAdapter extends TypeAdapter<LookupUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        LookupUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        public void write(JsonWriter out, LookupUserAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UserInfo != null) {
+                out.name("UserInfo");
+                userAccountInfoAdapter.write(out, value.UserInfo);
+            }
+            out.endObject();
+        }
+
+        public LookupUserAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LookupUserAccountInfoResult value = new LookupUserAccountInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.MembershipExpiration != null) {
+                out.name("MembershipExpiration");
+                dateAdapter.write(out, value.MembershipExpiration);
+            }
+            if (value.MembershipId != null) {
+                out.name("MembershipId");
+                out.value(value.MembershipId);
+            }
+            if (value.OverrideExpiration != null) {
+                out.name("OverrideExpiration");
+                dateAdapter.write(out, value.OverrideExpiration);
+            }
+            if (value.Subscriptions != null) {
+                out.name("Subscriptions");
+                PlayFabModelAdapters.writeList(out, value.Subscriptions, subscriptionModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                    case "MembershipId": value.MembershipId = PlayFabModelAdapters.readString(in); break;
+                    case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                    case "Subscriptions": value.Subscriptions = PlayFabModelAdapters.readList(in, subscriptionModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyMatchmakerGameModesRequestAdapter extends TypeAdapter<ModifyMatchmakerGameModesRequest> {
+        private final TypeAdapter<GameModeInfo> gameModeInfoAdapter;
+
+        ModifyMatchmakerGameModesRequestAdapter(Gson gson) {
+            gameModeInfoAdapter = gson.getAdapter(GameModeInfo.class);
+        }
+
+        public void write(JsonWriter out, ModifyMatchmakerGameModesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildVersion != null) {
+                out.name("BuildVersion");
+                out.value(value.BuildVersion);
+            }
+            if (value.GameModes != null) {
+                out.name("GameModes");
+                PlayFabModelAdapters.writeList(out, value.GameModes, gameModeInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public ModifyMatchmakerGameModesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyMatchmakerGameModesRequest value = new ModifyMatchmakerGameModesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildVersion": value.BuildVersion = PlayFabModelAdapters.readString(in); break;
+                    case "GameModes": value.GameModes = PlayFabModelAdapters.readList(in, gameModeInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyMatchmakerGameModesResultAdapter extends TypeAdapter<ModifyMatchmakerGameModesResult> {
+        ModifyMatchmakerGameModesResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyMatchmakerGameModesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ModifyMatchmakerGameModesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyMatchmakerGameModesResult value = new ModifyMatchmakerGameModesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyServerBuildRequestAdapter extends TypeAdapter<ModifyServerBuildRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ModifyServerBuildRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ModifyServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActiveRegions != null) {
+                out.name("ActiveRegions");
+                PlayFabModelAdapters.writeList(out, value.ActiveRegions, regionAdapter);
+            }
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            if (value.CommandLineTemplate != null) {
+                out.name("CommandLineTemplate");
+                out.value(value.CommandLineTemplate);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ExecutablePath != null) {
+                out.name("ExecutablePath");
+                out.value(value.ExecutablePath);
+            }
+            if (value.MaxGamesPerHost != null) {
+                out.name("MaxGamesPerHost");
+                out.value(value.MaxGamesPerHost);
+            }
+            if (value.MinFreeGameSlots != null) {
+                out.name("MinFreeGameSlots");
+                out.value(value.MinFreeGameSlots);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public ModifyServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyServerBuildRequest value = new ModifyServerBuildRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActiveRegions": value.ActiveRegions = PlayFabModelAdapters.readList(in, regionAdapter); break;
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    case "CommandLineTemplate": value.CommandLineTemplate = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ExecutablePath": value.ExecutablePath = PlayFabModelAdapters.readString(in); break;
+                    case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabModelAdapters.readInteger(in); break;
+                    case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabModelAdapters.readInteger(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyServerBuildResultAdapter extends TypeAdapter<ModifyServerBuildResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ModifyServerBuildResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ModifyServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActiveRegions != null) {
+                out.name("ActiveRegions");
+                PlayFabModelAdapters.writeList(out, value.ActiveRegions, regionAdapter);
+            }
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            if (value.CommandLineTemplate != null) {
+                out.name("CommandLineTemplate");
+                out.value(value.CommandLineTemplate);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ExecutablePath != null) {
+                out.name("ExecutablePath");
+                out.value(value.ExecutablePath);
+            }
+            if (value.MaxGamesPerHost != null) {
+                out.name("MaxGamesPerHost");
+                out.value(value.MaxGamesPerHost);
+            }
+            if (value.MinFreeGameSlots != null) {
+                out.name("MinFreeGameSlots");
+                out.value(value.MinFreeGameSlots);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                gameBuildStatusAdapter.write(out, value.Status);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public ModifyServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyServerBuildResult value = new ModifyServerBuildResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActiveRegions": value.ActiveRegions = PlayFabModelAdapters.readList(in, regionAdapter); break;
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    case "CommandLineTemplate": value.CommandLineTemplate = PlayFabModelAdapters.readString(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ExecutablePath": value.ExecutablePath = PlayFabModelAdapters.readString(in); break;
+                    case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabModelAdapters.readInteger(in); break;
+                    case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabModelAdapters.readInteger(in); break;
+                    case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Balance != null) {
+                out.name("Balance");
+                out.value(value.Balance);
+            }
+            if (value.BalanceChange != null) {
+                out.name("BalanceChange");
+                out.value(value.BalanceChange);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Balance": value.Balance = PlayFabModelAdapters.readInteger(in); break;
+                    case "BalanceChange": value.BalanceChange = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NameIdentifierAdapter extends TypeAdapter<NameIdentifier> {
+        NameIdentifierAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, NameIdentifier value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            out.endObject();
+        }
+
+        public NameIdentifier read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NameIdentifier value = new NameIdentifier();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PermissionStatementAdapter extends TypeAdapter<PermissionStatement> {
+        private final TypeAdapter<ApiCondition> apiConditionAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        PermissionStatementAdapter(Gson gson) {
+            apiConditionAdapter = gson.getAdapter(ApiCondition.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        public void write(JsonWriter out, PermissionStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Action != null) {
+                out.name("Action");
+                out.value(value.Action);
+            }
+            if (value.ApiConditions != null) {
+                out.name("ApiConditions");
+                apiConditionAdapter.write(out, value.ApiConditions);
+            }
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.Effect != null) {
+                out.name("Effect");
+                effectTypeAdapter.write(out, value.Effect);
+            }
+            if (value.Principal != null) {
+                out.name("Principal");
+                out.value(value.Principal);
+            }
+            if (value.Resource != null) {
+                out.name("Resource");
+                out.value(value.Resource);
+            }
+            out.endObject();
+        }
+
+        public PermissionStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PermissionStatement value = new PermissionStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Action": value.Action = PlayFabModelAdapters.readString(in); break;
+                    case "ApiConditions": value.ApiConditions = apiConditionAdapter.read(in); break;
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "Effect": value.Effect = effectTypeAdapter.read(in); break;
+                    case "Principal": value.Principal = PlayFabModelAdapters.readString(in); break;
+                    case "Resource": value.Resource = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLinkedAccountAdapter extends TypeAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        public void write(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                loginIdentityProviderAdapter.write(out, value.Platform);
+            }
+            if (value.PlatformUserId != null) {
+                out.name("PlatformUserId");
+                out.value(value.PlatformUserId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public PlayerLinkedAccount read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLinkedAccount value = new PlayerLinkedAccount();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                    case "PlatformUserId": value.PlatformUserId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLocationAdapter extends TypeAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        public void write(JsonWriter out, PlayerLocation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.City != null) {
+                out.name("City");
+                out.value(value.City);
+            }
+            if (value.ContinentCode != null) {
+                out.name("ContinentCode");
+                continentCodeAdapter.write(out, value.ContinentCode);
+            }
+            if (value.CountryCode != null) {
+                out.name("CountryCode");
+                countryCodeAdapter.write(out, value.CountryCode);
+            }
+            if (value.Latitude != null) {
+                out.name("Latitude");
+                PlayFabModelAdapters.writeDouble(out, value.Latitude);
+            }
+            if (value.Longitude != null) {
+                out.name("Longitude");
+                PlayFabModelAdapters.writeDouble(out, value.Longitude);
+            }
+            out.endObject();
+        }
+
+        public PlayerLocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLocation value = new PlayerLocation();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "City": value.City = PlayFabModelAdapters.readString(in); break;
+                    case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                    case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                    case "Latitude": value.Latitude = PlayFabModelAdapters.readDouble(in); break;
+                    case "Longitude": value.Longitude = PlayFabModelAdapters.readDouble(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileAdapter extends TypeAdapter<PlayerProfile> {
+        private final TypeAdapter<AdCampaignAttribution> adCampaignAttributionAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfo> contactEmailInfoAdapter;
+        private final TypeAdapter<PlayerLinkedAccount> playerLinkedAccountAdapter;
+        private final TypeAdapter<PlayerLocation> playerLocationAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PlayerStatistic> playerStatisticAdapter;
+        private final TypeAdapter<PushNotificationRegistration> pushNotificationRegistrationAdapter;
+
+        PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionAdapter = gson.getAdapter(AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoAdapter = gson.getAdapter(ContactEmailInfo.class);
+            playerLinkedAccountAdapter = gson.getAdapter(PlayerLinkedAccount.class);
+            playerLocationAdapter = gson.getAdapter(PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            playerStatisticAdapter = gson.getAdapter(PlayerStatistic.class);
+            pushNotificationRegistrationAdapter = gson.getAdapter(PushNotificationRegistration.class);
+        }
+
+        public void write(JsonWriter out, PlayerProfile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdCampaignAttributions != null) {
+                out.name("AdCampaignAttributions");
+                PlayFabModelAdapters.writeList(out, value.AdCampaignAttributions, adCampaignAttributionAdapter);
+            }
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.BannedUntil != null) {
+                out.name("BannedUntil");
+                dateAdapter.write(out, value.BannedUntil);
+            }
+            if (value.ContactEmailAddresses != null) {
+                out.name("ContactEmailAddresses");
+                PlayFabModelAdapters.writeList(out, value.ContactEmailAddresses, contactEmailInfoAdapter);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.LinkedAccounts != null) {
+                out.name("LinkedAccounts");
+                PlayFabModelAdapters.writeList(out, value.LinkedAccounts, playerLinkedAccountAdapter);
+            }
+            if (value.Locations != null) {
+                out.name("Locations");
+                PlayFabModelAdapters.writeMap(out, value.Locations, playerLocationAdapter);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                loginIdentityProviderAdapter.write(out, value.Origination);
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PlayerStatistics != null) {
+                out.name("PlayerStatistics");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatistics, playerStatisticAdapter);
+            }
+            if (value.PublisherId != null) {
+                out.name("PublisherId");
+                out.value(value.PublisherId);
+            }
+            if (value.PushNotificationRegistrations != null) {
+                out.name("PushNotificationRegistrations");
+                PlayFabModelAdapters.writeList(out, value.PushNotificationRegistrations, pushNotificationRegistrationAdapter);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeMap(out, value.Statistics, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TotalValueToDateInUSD != null) {
+                out.name("TotalValueToDateInUSD");
+                out.value(value.TotalValueToDateInUSD);
+            }
+            if (value.ValuesToDate != null) {
+                out.name("ValuesToDate");
+                PlayFabModelAdapters.writeMap(out, value.ValuesToDate, PlayFabModelAdapters.LONG);
+            }
+            if (value.VirtualCurrencyBalances != null) {
+                out.name("VirtualCurrencyBalances");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyBalances, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public PlayerProfile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfile value = new PlayerProfile();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabModelAdapters.readList(in, adCampaignAttributionAdapter); break;
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                    case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabModelAdapters.readList(in, contactEmailInfoAdapter); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "LinkedAccounts": value.LinkedAccounts = PlayFabModelAdapters.readList(in, playerLinkedAccountAdapter); break;
+                    case "Locations": value.Locations = PlayFabModelAdapters.readMap(in, playerLocationAdapter); break;
+                    case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerStatistics": value.PlayerStatistics = PlayFabModelAdapters.readList(in, playerStatisticAdapter); break;
+                    case "PublisherId": value.PublisherId = PlayFabModelAdapters.readString(in); break;
+                    case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabModelAdapters.readList(in, pushNotificationRegistrationAdapter); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabModelAdapters.readLong(in); break;
+                    case "ValuesToDate": value.ValuesToDate = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdCampaignAttributions != null) {
+                out.name("AdCampaignAttributions");
+                PlayFabModelAdapters.writeList(out, value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            }
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.BannedUntil != null) {
+                out.name("BannedUntil");
+                dateAdapter.write(out, value.BannedUntil);
+            }
+            if (value.ContactEmailAddresses != null) {
+                out.name("ContactEmailAddresses");
+                PlayFabModelAdapters.writeList(out, value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.LinkedAccounts != null) {
+                out.name("LinkedAccounts");
+                PlayFabModelAdapters.writeList(out, value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            }
+            if (value.Locations != null) {
+                out.name("Locations");
+                PlayFabModelAdapters.writeList(out, value.Locations, locationModelAdapter);
+            }
+            if (value.Memberships != null) {
+                out.name("Memberships");
+                PlayFabModelAdapters.writeList(out, value.Memberships, membershipModelAdapter);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                loginIdentityProviderAdapter.write(out, value.Origination);
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PublisherId != null) {
+                out.name("PublisherId");
+                out.value(value.PublisherId);
+            }
+            if (value.PushNotificationRegistrations != null) {
+                out.name("PushNotificationRegistrations");
+                PlayFabModelAdapters.writeList(out, value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticModelAdapter);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, tagModelAdapter);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TotalValueToDateInUSD != null) {
+                out.name("TotalValueToDateInUSD");
+                out.value(value.TotalValueToDateInUSD);
+            }
+            if (value.ValuesToDate != null) {
+                out.name("ValuesToDate");
+                PlayFabModelAdapters.writeList(out, value.ValuesToDate, valueToDateModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabModelAdapters.readList(in, adCampaignAttributionModelAdapter); break;
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                    case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabModelAdapters.readList(in, contactEmailInfoModelAdapter); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "LinkedAccounts": value.LinkedAccounts = PlayFabModelAdapters.readList(in, linkedPlatformAccountModelAdapter); break;
+                    case "Locations": value.Locations = PlayFabModelAdapters.readList(in, locationModelAdapter); break;
+                    case "Memberships": value.Memberships = PlayFabModelAdapters.readList(in, membershipModelAdapter); break;
+                    case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PublisherId": value.PublisherId = PlayFabModelAdapters.readString(in); break;
+                    case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabModelAdapters.readList(in, pushNotificationRegistrationModelAdapter); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticModelAdapter); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, tagModelAdapter); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabModelAdapters.readLong(in); break;
+                    case "ValuesToDate": value.ValuesToDate = PlayFabModelAdapters.readList(in, valueToDateModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ShowAvatarUrl != null) {
+                out.name("ShowAvatarUrl");
+                out.value(value.ShowAvatarUrl.booleanValue());
+            }
+            if (value.ShowBannedUntil != null) {
+                out.name("ShowBannedUntil");
+                out.value(value.ShowBannedUntil.booleanValue());
+            }
+            if (value.ShowCampaignAttributions != null) {
+                out.name("ShowCampaignAttributions");
+                out.value(value.ShowCampaignAttributions.booleanValue());
+            }
+            if (value.ShowContactEmailAddresses != null) {
+                out.name("ShowContactEmailAddresses");
+                out.value(value.ShowContactEmailAddresses.booleanValue());
+            }
+            if (value.ShowCreated != null) {
+                out.name("ShowCreated");
+                out.value(value.ShowCreated.booleanValue());
+            }
+            if (value.ShowDisplayName != null) {
+                out.name("ShowDisplayName");
+                out.value(value.ShowDisplayName.booleanValue());
+            }
+            if (value.ShowLastLogin != null) {
+                out.name("ShowLastLogin");
+                out.value(value.ShowLastLogin.booleanValue());
+            }
+            if (value.ShowLinkedAccounts != null) {
+                out.name("ShowLinkedAccounts");
+                out.value(value.ShowLinkedAccounts.booleanValue());
+            }
+            if (value.ShowLocations != null) {
+                out.name("ShowLocations");
+                out.value(value.ShowLocations.booleanValue());
+            }
+            if (value.ShowMemberships != null) {
+                out.name("ShowMemberships");
+                out.value(value.ShowMemberships.booleanValue());
+            }
+            if (value.ShowOrigination != null) {
+                out.name("ShowOrigination");
+                out.value(value.ShowOrigination.booleanValue());
+            }
+            if (value.ShowPushNotificationRegistrations != null) {
+                out.name("ShowPushNotificationRegistrations");
+                out.value(value.ShowPushNotificationRegistrations.booleanValue());
+            }
+            if (value.ShowStatistics != null) {
+                out.name("ShowStatistics");
+                out.value(value.ShowStatistics.booleanValue());
+            }
+            if (value.ShowTags != null) {
+                out.name("ShowTags");
+                out.value(value.ShowTags.booleanValue());
+            }
+            if (value.ShowTotalValueToDateInUsd != null) {
+                out.name("ShowTotalValueToDateInUsd");
+                out.value(value.ShowTotalValueToDateInUsd.booleanValue());
+            }
+            if (value.ShowValuesToDate != null) {
+                out.name("ShowValuesToDate");
+                out.value(value.ShowValuesToDate.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowBannedUntil": value.ShowBannedUntil = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCreated": value.ShowCreated = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowDisplayName": value.ShowDisplayName = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLastLogin": value.ShowLastLogin = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLocations": value.ShowLocations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowMemberships": value.ShowMemberships = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowOrigination": value.ShowOrigination = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowStatistics": value.ShowStatistics = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTags": value.ShowTags = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowValuesToDate": value.ShowValuesToDate = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticAdapter extends TypeAdapter<PlayerStatistic> {
+        PlayerStatisticAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerStatistic value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.StatisticValue != null) {
+                out.name("StatisticValue");
+                out.value(value.StatisticValue);
+            }
+            if (value.StatisticVersion != null) {
+                out.name("StatisticVersion");
+                out.value(value.StatisticVersion);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatistic read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatistic value = new PlayerStatistic();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticValue": value.StatisticValue = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticVersion": value.StatisticVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticDefinitionAdapter extends TypeAdapter<PlayerStatisticDefinition> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        PlayerStatisticDefinitionAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        public void write(JsonWriter out, PlayerStatisticDefinition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AggregationMethod != null) {
+                out.name("AggregationMethod");
+                statisticAggregationMethodAdapter.write(out, value.AggregationMethod);
+            }
+            if (value.CurrentVersion != null) {
+                out.name("CurrentVersion");
+                out.value(value.CurrentVersion);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.VersionChangeInterval != null) {
+                out.name("VersionChangeInterval");
+                statisticResetIntervalOptionAdapter.write(out, value.VersionChangeInterval);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatisticDefinition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticDefinition value = new PlayerStatisticDefinition();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                    case "CurrentVersion": value.CurrentVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<StatisticVersionStatus> statisticVersionStatusAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            statisticVersionStatusAdapter = gson.getAdapter(StatisticVersionStatus.class);
+        }
+
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActivationTime != null) {
+                out.name("ActivationTime");
+                dateAdapter.write(out, value.ActivationTime);
+            }
+            if (value.ArchiveDownloadUrl != null) {
+                out.name("ArchiveDownloadUrl");
+                out.value(value.ArchiveDownloadUrl);
+            }
+            if (value.DeactivationTime != null) {
+                out.name("DeactivationTime");
+                dateAdapter.write(out, value.DeactivationTime);
+            }
+            if (value.ScheduledActivationTime != null) {
+                out.name("ScheduledActivationTime");
+                dateAdapter.write(out, value.ScheduledActivationTime);
+            }
+            if (value.ScheduledDeactivationTime != null) {
+                out.name("ScheduledDeactivationTime");
+                dateAdapter.write(out, value.ScheduledDeactivationTime);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                statisticVersionStatusAdapter.write(out, value.Status);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                    case "ArchiveDownloadUrl": value.ArchiveDownloadUrl = PlayFabModelAdapters.readString(in); break;
+                    case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                    case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                    case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Status": value.Status = statisticVersionStatusAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationRegistrationAdapter extends TypeAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NotificationEndpointARN != null) {
+                out.name("NotificationEndpointARN");
+                out.value(value.NotificationEndpointARN);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationRegistration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistration value = new PushNotificationRegistration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NotificationEndpointARN != null) {
+                out.name("NotificationEndpointARN");
+                out.value(value.NotificationEndpointARN);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RandomResultTableAdapter extends TypeAdapter<RandomResultTable> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        RandomResultTableAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        public void write(JsonWriter out, RandomResultTable value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Nodes != null) {
+                out.name("Nodes");
+                PlayFabModelAdapters.writeList(out, value.Nodes, resultTableNodeAdapter);
+            }
+            if (value.TableId != null) {
+                out.name("TableId");
+                out.value(value.TableId);
+            }
+            out.endObject();
+        }
+
+        public RandomResultTable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTable value = new RandomResultTable();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Nodes": value.Nodes = PlayFabModelAdapters.readList(in, resultTableNodeAdapter); break;
+                    case "TableId": value.TableId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RandomResultTableListingAdapter extends TypeAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        public void write(JsonWriter out, RandomResultTableListing value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Nodes != null) {
+                out.name("Nodes");
+                PlayFabModelAdapters.writeList(out, value.Nodes, resultTableNodeAdapter);
+            }
+            if (value.TableId != null) {
+                out.name("TableId");
+                out.value(value.TableId);
+            }
+            out.endObject();
+        }
+
+        public RandomResultTableListing read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTableListing value = new RandomResultTableListing();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Nodes": value.Nodes = PlayFabModelAdapters.readList(in, resultTableNodeAdapter); break;
+                    case "TableId": value.TableId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RefundPurchaseRequestAdapter extends TypeAdapter<RefundPurchaseRequest> {
+        RefundPurchaseRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RefundPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public RefundPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefundPurchaseRequest value = new RefundPurchaseRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RefundPurchaseResponseAdapter extends TypeAdapter<RefundPurchaseResponse> {
+        RefundPurchaseResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RefundPurchaseResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PurchaseStatus != null) {
+                out.name("PurchaseStatus");
+                out.value(value.PurchaseStatus);
+            }
+            out.endObject();
+        }
+
+        public RefundPurchaseResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefundPurchaseResponse value = new RefundPurchaseResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PurchaseStatus": value.PurchaseStatus = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemovePlayerTagRequestAdapter extends TypeAdapter<RemovePlayerTagRequest> {
+        RemovePlayerTagRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TagName != null) {
+                out.name("TagName");
+                out.value(value.TagName);
+            }
+            out.endObject();
+        }
+
+        public RemovePlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagRequest value = new RemovePlayerTagRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TagName": value.TagName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemovePlayerTagResultAdapter extends TypeAdapter<RemovePlayerTagResult> {
+        RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemovePlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagResult value = new RemovePlayerTagResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveServerBuildRequestAdapter extends TypeAdapter<RemoveServerBuildRequest> {
+        RemoveServerBuildRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BuildId != null) {
+                out.name("BuildId");
+                out.value(value.BuildId);
+            }
+            out.endObject();
+        }
+
+        public RemoveServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveServerBuildRequest value = new RemoveServerBuildRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BuildId": value.BuildId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveServerBuildResultAdapter extends TypeAdapter<RemoveServerBuildResult> {
+        RemoveServerBuildResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveServerBuildResult value = new RemoveServerBuildResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveVirtualCurrencyTypesRequestAdapter extends TypeAdapter<RemoveVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        RemoveVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        public void write(JsonWriter out, RemoveVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.VirtualCurrencies != null) {
+                out.name("VirtualCurrencies");
+                PlayFabModelAdapters.writeList(out, value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            }
+            out.endObject();
+        }
+
+        public RemoveVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveVirtualCurrencyTypesRequest value = new RemoveVirtualCurrencyTypesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "VirtualCurrencies": value.VirtualCurrencies = PlayFabModelAdapters.readList(in, virtualCurrencyDataAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetCharacterStatisticsRequestAdapter extends TypeAdapter<ResetCharacterStatisticsRequest> {
+        ResetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ResetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetCharacterStatisticsRequest value = new ResetCharacterStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetCharacterStatisticsResultAdapter extends TypeAdapter<ResetCharacterStatisticsResult> {
+        ResetCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ResetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetCharacterStatisticsResult value = new ResetCharacterStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetPasswordRequestAdapter extends TypeAdapter<ResetPasswordRequest> {
+        ResetPasswordRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetPasswordRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Password != null) {
+                out.name("Password");
+                out.value(value.Password);
+            }
+            if (value.Token != null) {
+                out.name("Token");
+                out.value(value.Token);
+            }
+            out.endObject();
+        }
+
+        public ResetPasswordRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetPasswordRequest value = new ResetPasswordRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Password": value.Password = PlayFabModelAdapters.readString(in); break;
+                    case "Token": value.Token = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetPasswordResultAdapter extends TypeAdapter<ResetPasswordResult> {
+        ResetPasswordResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetPasswordResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ResetPasswordResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetPasswordResult value = new ResetPasswordResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetUserStatisticsRequestAdapter extends TypeAdapter<ResetUserStatisticsRequest> {
+        ResetUserStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetUserStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ResetUserStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetUserStatisticsRequest value = new ResetUserStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResetUserStatisticsResultAdapter extends TypeAdapter<ResetUserStatisticsResult> {
+        ResetUserStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResetUserStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public ResetUserStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetUserStatisticsResult value = new ResetUserStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResolvePurchaseDisputeRequestAdapter extends TypeAdapter<ResolvePurchaseDisputeRequest> {
+        private final TypeAdapter<ResolutionOutcome> resolutionOutcomeAdapter;
+
+        ResolvePurchaseDisputeRequestAdapter(Gson gson) {
+            resolutionOutcomeAdapter = gson.getAdapter(ResolutionOutcome.class);
+        }
+
+        public void write(JsonWriter out, ResolvePurchaseDisputeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OrderId != null) {
+                out.name("OrderId");
+                out.value(value.OrderId);
+            }
+            if (value.Outcome != null) {
+                out.name("Outcome");
+                resolutionOutcomeAdapter.write(out, value.Outcome);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public ResolvePurchaseDisputeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResolvePurchaseDisputeRequest value = new ResolvePurchaseDisputeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OrderId": value.OrderId = PlayFabModelAdapters.readString(in); break;
+                    case "Outcome": value.Outcome = resolutionOutcomeAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResolvePurchaseDisputeResponseAdapter extends TypeAdapter<ResolvePurchaseDisputeResponse> {
+        ResolvePurchaseDisputeResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ResolvePurchaseDisputeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PurchaseStatus != null) {
+                out.name("PurchaseStatus");
+                out.value(value.PurchaseStatus);
+            }
+            out.endObject();
+        }
+
+        public ResolvePurchaseDisputeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResolvePurchaseDisputeResponse value = new ResolvePurchaseDisputeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PurchaseStatus": value.PurchaseStatus = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResultTableNodeAdapter extends TypeAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        public void write(JsonWriter out, ResultTableNode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ResultItem != null) {
+                out.name("ResultItem");
+                out.value(value.ResultItem);
+            }
+            if (value.ResultItemType != null) {
+                out.name("ResultItemType");
+                resultTableNodeTypeAdapter.write(out, value.ResultItemType);
+            }
+            if (value.Weight != null) {
+                out.name("Weight");
+                out.value(value.Weight);
+            }
+            out.endObject();
+        }
+
+        public ResultTableNode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResultTableNode value = new ResultTableNode();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ResultItem": value.ResultItem = PlayFabModelAdapters.readString(in); break;
+                    case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); break;
+                    case "Weight": value.Weight = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeAllBansForUserRequestAdapter extends TypeAdapter<RevokeAllBansForUserRequest> {
+        RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeAllBansForUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserRequest value = new RevokeAllBansForUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeAllBansForUserResultAdapter extends TypeAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeAllBansForUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserResult value = new RevokeAllBansForUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeBansRequestAdapter extends TypeAdapter<RevokeBansRequest> {
+        RevokeBansRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanIds != null) {
+                out.name("BanIds");
+                PlayFabModelAdapters.writeList(out, value.BanIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public RevokeBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansRequest value = new RevokeBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanIds": value.BanIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeBansResultAdapter extends TypeAdapter<RevokeBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        RevokeBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, RevokeBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansResult value = new RevokeBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemAdapter extends TypeAdapter<RevokeInventoryItem> {
+        RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItem value = new RevokeInventoryItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemRequestAdapter extends TypeAdapter<RevokeInventoryItemRequest> {
+        RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemRequest value = new RevokeInventoryItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemsRequestAdapter extends TypeAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, revokeInventoryItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsRequest value = new RevokeInventoryItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, revokeInventoryItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemsResultAdapter extends TypeAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<RevokeItemError> revokeItemErrorAdapter;
+
+        RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorAdapter = gson.getAdapter(RevokeItemError.class);
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Errors != null) {
+                out.name("Errors");
+                PlayFabModelAdapters.writeList(out, value.Errors, revokeItemErrorAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsResult value = new RevokeInventoryItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Errors": value.Errors = PlayFabModelAdapters.readList(in, revokeItemErrorAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryResultAdapter extends TypeAdapter<RevokeInventoryResult> {
+        RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RevokeInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryResult value = new RevokeInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeItemErrorAdapter extends TypeAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        public void write(JsonWriter out, RevokeItemError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                genericErrorCodesAdapter.write(out, value.Error);
+            }
+            if (value.Item != null) {
+                out.name("Item");
+                revokeInventoryItemAdapter.write(out, value.Item);
+            }
+            out.endObject();
+        }
+
+        public RevokeItemError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeItemError value = new RevokeItemError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = genericErrorCodesAdapter.read(in); break;
+                    case "Item": value.Item = revokeInventoryItemAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RunTaskRequestAdapter extends TypeAdapter<RunTaskRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        RunTaskRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        public void write(JsonWriter out, RunTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Identifier != null) {
+                out.name("Identifier");
+                nameIdentifierAdapter.write(out, value.Identifier);
+            }
+            out.endObject();
+        }
+
+        public RunTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RunTaskRequest value = new RunTaskRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RunTaskResultAdapter extends TypeAdapter<RunTaskResult> {
+        RunTaskResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RunTaskResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            out.endObject();
+        }
+
+        public RunTaskResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RunTaskResult value = new RunTaskResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ScheduledTaskAdapter extends TypeAdapter<ScheduledTask> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        ScheduledTaskAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        public void write(JsonWriter out, ScheduledTask value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.LastRunTime != null) {
+                out.name("LastRunTime");
+                dateAdapter.write(out, value.LastRunTime);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.NextRunTime != null) {
+                out.name("NextRunTime");
+                dateAdapter.write(out, value.NextRunTime);
+            }
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                objectAdapter.write(out, value.Parameter);
+            }
+            if (value.Schedule != null) {
+                out.name("Schedule");
+                out.value(value.Schedule);
+            }
+            if (value.TaskId != null) {
+                out.name("TaskId");
+                out.value(value.TaskId);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                scheduledTaskTypeAdapter.write(out, value.Type);
+            }
+            out.endObject();
+        }
+
+        public ScheduledTask read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScheduledTask value = new ScheduledTask();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "LastRunTime": value.LastRunTime = dateAdapter.read(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "NextRunTime": value.NextRunTime = dateAdapter.read(in); break;
+                    case "Parameter": value.Parameter = objectAdapter.read(in); break;
+                    case "Schedule": value.Schedule = PlayFabModelAdapters.readString(in); break;
+                    case "TaskId": value.TaskId = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                out.value(value.Error);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.StackTrace != null) {
+                out.name("StackTrace");
+                out.value(value.StackTrace);
+            }
+            out.endObject();
+        }
+
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "StackTrace": value.StackTrace = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendAccountRecoveryEmailRequest> {
+        SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.EmailTemplateId != null) {
+                out.name("EmailTemplateId");
+                out.value(value.EmailTemplateId);
+            }
+            out.endObject();
+        }
+
+        public SendAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailRequest value = new SendAccountRecoveryEmailRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "EmailTemplateId": value.EmailTemplateId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendAccountRecoveryEmailResultAdapter extends TypeAdapter<SendAccountRecoveryEmailResult> {
+        SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SendAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailResult value = new SendAccountRecoveryEmailResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublishedRevisionRequestAdapter extends TypeAdapter<SetPublishedRevisionRequest> {
+        SetPublishedRevisionRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublishedRevisionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public SetPublishedRevisionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublishedRevisionRequest value = new SetPublishedRevisionRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublishedRevisionResultAdapter extends TypeAdapter<SetPublishedRevisionResult> {
+        SetPublishedRevisionResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublishedRevisionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPublishedRevisionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublishedRevisionResult value = new SetPublishedRevisionResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublisherDataRequestAdapter extends TypeAdapter<SetPublisherDataRequest> {
+        SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataRequest value = new SetPublisherDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublisherDataResultAdapter extends TypeAdapter<SetPublisherDataResult> {
+        SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataResult value = new SetPublisherDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetTitleDataRequestAdapter extends TypeAdapter<SetTitleDataRequest> {
+        SetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataRequest value = new SetTitleDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetTitleDataResultAdapter extends TypeAdapter<SetTitleDataResult> {
+        SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataResult value = new SetTitleDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetupPushNotificationRequestAdapter extends TypeAdapter<SetupPushNotificationRequest> {
+        private final TypeAdapter<PushSetupPlatform> pushSetupPlatformAdapter;
+
+        SetupPushNotificationRequestAdapter(Gson gson) {
+            pushSetupPlatformAdapter = gson.getAdapter(PushSetupPlatform.class);
+        }
+
+        public void write(JsonWriter out, SetupPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Credential != null) {
+                out.name("Credential");
+                out.value(value.Credential);
+            }
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.OverwriteOldARN != null) {
+                out.name("OverwriteOldARN");
+                out.value(value.OverwriteOldARN.booleanValue());
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushSetupPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public SetupPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetupPushNotificationRequest value = new SetupPushNotificationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Credential": value.Credential = PlayFabModelAdapters.readString(in); break;
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "OverwriteOldARN": value.OverwriteOldARN = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Platform": value.Platform = pushSetupPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetupPushNotificationResultAdapter extends TypeAdapter<SetupPushNotificationResult> {
+        SetupPushNotificationResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetupPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ARN != null) {
+                out.name("ARN");
+                out.value(value.ARN);
+            }
+            out.endObject();
+        }
+
+        public SetupPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetupPushNotificationResult value = new SetupPushNotificationResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ARN": value.ARN = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SharedSecretAdapter extends TypeAdapter<SharedSecret> {
+        SharedSecretAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SharedSecret value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Disabled != null) {
+                out.name("Disabled");
+                out.value(value.Disabled.booleanValue());
+            }
+            if (value.FriendlyName != null) {
+                out.name("FriendlyName");
+                out.value(value.FriendlyName);
+            }
+            if (value.SecretKey != null) {
+                out.name("SecretKey");
+                out.value(value.SecretKey);
+            }
+            out.endObject();
+        }
+
+        public SharedSecret read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedSecret value = new SharedSecret();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Disabled": value.Disabled = PlayFabModelAdapters.readBoolean(in); break;
+                    case "FriendlyName": value.FriendlyName = PlayFabModelAdapters.readString(in); break;
+                    case "SecretKey": value.SecretKey = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StoreItemAdapter extends TypeAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, StoreItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                objectAdapter.write(out, value.CustomData);
+            }
+            if (value.DisplayPosition != null) {
+                out.name("DisplayPosition");
+                out.value(value.DisplayPosition);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public StoreItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreItem value = new StoreItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomData": value.CustomData = objectAdapter.read(in); break;
+                    case "DisplayPosition": value.DisplayPosition = PlayFabModelAdapters.readLong(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StoreMarketingModelAdapter extends TypeAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, StoreMarketingModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Metadata != null) {
+                out.name("Metadata");
+                objectAdapter.write(out, value.Metadata);
+            }
+            out.endObject();
+        }
+
+        public StoreMarketingModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreMarketingModel value = new StoreMarketingModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Metadata": value.Metadata = objectAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.InitialSubscriptionTime != null) {
+                out.name("InitialSubscriptionTime");
+                dateAdapter.write(out, value.InitialSubscriptionTime);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                subscriptionProviderStatusAdapter.write(out, value.Status);
+            }
+            if (value.SubscriptionId != null) {
+                out.name("SubscriptionId");
+                out.value(value.SubscriptionId);
+            }
+            if (value.SubscriptionItemId != null) {
+                out.name("SubscriptionItemId");
+                out.value(value.SubscriptionItemId);
+            }
+            if (value.SubscriptionProvider != null) {
+                out.name("SubscriptionProvider");
+                out.value(value.SubscriptionProvider);
+            }
+            out.endObject();
+        }
+
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                    case "SubscriptionId": value.SubscriptionId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionItemId": value.SubscriptionItemId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionProvider": value.SubscriptionProvider = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TagModelAdapter extends TypeAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TagValue != null) {
+                out.name("TagValue");
+                out.value(value.TagValue);
+            }
+            out.endObject();
+        }
+
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TagValue": value.TagValue = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TaskInstanceBasicSummaryAdapter extends TypeAdapter<TaskInstanceBasicSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        TaskInstanceBasicSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        public void write(JsonWriter out, TaskInstanceBasicSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CompletedAt != null) {
+                out.name("CompletedAt");
+                dateAdapter.write(out, value.CompletedAt);
+            }
+            if (value.EstimatedSecondsRemaining != null) {
+                out.name("EstimatedSecondsRemaining");
+                PlayFabModelAdapters.writeDouble(out, value.EstimatedSecondsRemaining);
+            }
+            if (value.PercentComplete != null) {
+                out.name("PercentComplete");
+                PlayFabModelAdapters.writeDouble(out, value.PercentComplete);
+            }
+            if (value.ScheduledByUserId != null) {
+                out.name("ScheduledByUserId");
+                out.value(value.ScheduledByUserId);
+            }
+            if (value.StartedAt != null) {
+                out.name("StartedAt");
+                dateAdapter.write(out, value.StartedAt);
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                taskInstanceStatusAdapter.write(out, value.Status);
+            }
+            if (value.TaskIdentifier != null) {
+                out.name("TaskIdentifier");
+                nameIdentifierAdapter.write(out, value.TaskIdentifier);
+            }
+            if (value.TaskInstanceId != null) {
+                out.name("TaskInstanceId");
+                out.value(value.TaskInstanceId);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                scheduledTaskTypeAdapter.write(out, value.Type);
+            }
+            out.endObject();
+        }
+
+        public TaskInstanceBasicSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TaskInstanceBasicSummary value = new TaskInstanceBasicSummary();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                    case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = PlayFabModelAdapters.readDouble(in); break;
+                    case "PercentComplete": value.PercentComplete = PlayFabModelAdapters.readDouble(in); break;
+                    case "ScheduledByUserId": value.ScheduledByUserId = PlayFabModelAdapters.readString(in); break;
+                    case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                    case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                    case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                    case "TaskInstanceId": value.TaskInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBanRequestAdapter extends TypeAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, UpdateBanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Active != null) {
+                out.name("Active");
+                out.value(value.Active.booleanValue());
+            }
+            if (value.BanId != null) {
+                out.name("BanId");
+                out.value(value.BanId);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.Permanent != null) {
+                out.name("Permanent");
+                out.value(value.Permanent.booleanValue());
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public UpdateBanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBanRequest value = new UpdateBanRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Active": value.Active = PlayFabModelAdapters.readBoolean(in); break;
+                    case "BanId": value.BanId = PlayFabModelAdapters.readString(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Permanent": value.Permanent = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBansRequestAdapter extends TypeAdapter<UpdateBansRequest> {
+        private final TypeAdapter<UpdateBanRequest> updateBanRequestAdapter;
+
+        UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestAdapter = gson.getAdapter(UpdateBanRequest.class);
+        }
+
+        public void write(JsonWriter out, UpdateBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bans != null) {
+                out.name("Bans");
+                PlayFabModelAdapters.writeList(out, value.Bans, updateBanRequestAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdateBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansRequest value = new UpdateBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bans": value.Bans = PlayFabModelAdapters.readList(in, updateBanRequestAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBansResultAdapter extends TypeAdapter<UpdateBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        UpdateBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, UpdateBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdateBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansResult value = new UpdateBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCatalogItemsRequestAdapter extends TypeAdapter<UpdateCatalogItemsRequest> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        UpdateCatalogItemsRequestAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        public void write(JsonWriter out, UpdateCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Catalog != null) {
+                out.name("Catalog");
+                PlayFabModelAdapters.writeList(out, value.Catalog, catalogItemAdapter);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.SetAsDefaultCatalog != null) {
+                out.name("SetAsDefaultCatalog");
+                out.value(value.SetAsDefaultCatalog.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public UpdateCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogItemsRequest value = new UpdateCatalogItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Catalog": value.Catalog = PlayFabModelAdapters.readList(in, catalogItemAdapter); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "SetAsDefaultCatalog": value.SetAsDefaultCatalog = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCatalogItemsResultAdapter extends TypeAdapter<UpdateCatalogItemsResult> {
+        UpdateCatalogItemsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogItemsResult value = new UpdateCatalogItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCloudScriptRequestAdapter extends TypeAdapter<UpdateCloudScriptRequest> {
+        private final TypeAdapter<CloudScriptFile> cloudScriptFileAdapter;
+
+        UpdateCloudScriptRequestAdapter(Gson gson) {
+            cloudScriptFileAdapter = gson.getAdapter(CloudScriptFile.class);
+        }
+
+        public void write(JsonWriter out, UpdateCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DeveloperPlayFabId != null) {
+                out.name("DeveloperPlayFabId");
+                out.value(value.DeveloperPlayFabId);
+            }
+            if (value.Files != null) {
+                out.name("Files");
+                PlayFabModelAdapters.writeList(out, value.Files, cloudScriptFileAdapter);
+            }
+            if (value.Publish != null) {
+                out.name("Publish");
+                out.value(value.Publish.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public UpdateCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCloudScriptRequest value = new UpdateCloudScriptRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DeveloperPlayFabId": value.DeveloperPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Files": value.Files = PlayFabModelAdapters.readList(in, cloudScriptFileAdapter); break;
+                    case "Publish": value.Publish = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCloudScriptResultAdapter extends TypeAdapter<UpdateCloudScriptResult> {
+        UpdateCloudScriptResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public UpdateCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCloudScriptResult value = new UpdateCloudScriptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerSharedSecretRequestAdapter extends TypeAdapter<UpdatePlayerSharedSecretRequest> {
+        UpdatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdatePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Disabled != null) {
+                out.name("Disabled");
+                out.value(value.Disabled.booleanValue());
+            }
+            if (value.FriendlyName != null) {
+                out.name("FriendlyName");
+                out.value(value.FriendlyName);
+            }
+            if (value.SecretKey != null) {
+                out.name("SecretKey");
+                out.value(value.SecretKey);
+            }
+            out.endObject();
+        }
+
+        public UpdatePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerSharedSecretRequest value = new UpdatePlayerSharedSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Disabled": value.Disabled = PlayFabModelAdapters.readBoolean(in); break;
+                    case "FriendlyName": value.FriendlyName = PlayFabModelAdapters.readString(in); break;
+                    case "SecretKey": value.SecretKey = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerSharedSecretResultAdapter extends TypeAdapter<UpdatePlayerSharedSecretResult> {
+        UpdatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdatePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdatePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerSharedSecretResult value = new UpdatePlayerSharedSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticDefinitionRequestAdapter extends TypeAdapter<UpdatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        UpdatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticDefinitionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AggregationMethod != null) {
+                out.name("AggregationMethod");
+                statisticAggregationMethodAdapter.write(out, value.AggregationMethod);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.VersionChangeInterval != null) {
+                out.name("VersionChangeInterval");
+                statisticResetIntervalOptionAdapter.write(out, value.VersionChangeInterval);
+            }
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticDefinitionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticDefinitionRequest value = new UpdatePlayerStatisticDefinitionRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticDefinitionResultAdapter extends TypeAdapter<UpdatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        UpdatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticDefinitionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Statistic != null) {
+                out.name("Statistic");
+                playerStatisticDefinitionAdapter.write(out, value.Statistic);
+            }
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticDefinitionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticDefinitionResult value = new UpdatePlayerStatisticDefinitionResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePolicyRequestAdapter extends TypeAdapter<UpdatePolicyRequest> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        UpdatePolicyRequestAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, UpdatePolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.OverwritePolicy != null) {
+                out.name("OverwritePolicy");
+                out.value(value.OverwritePolicy.booleanValue());
+            }
+            if (value.PolicyName != null) {
+                out.name("PolicyName");
+                out.value(value.PolicyName);
+            }
+            if (value.Statements != null) {
+                out.name("Statements");
+                PlayFabModelAdapters.writeList(out, value.Statements, permissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdatePolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePolicyRequest value = new UpdatePolicyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "OverwritePolicy": value.OverwritePolicy = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PolicyName": value.PolicyName = PlayFabModelAdapters.readString(in); break;
+                    case "Statements": value.Statements = PlayFabModelAdapters.readList(in, permissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePolicyResponseAdapter extends TypeAdapter<UpdatePolicyResponse> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        UpdatePolicyResponseAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        public void write(JsonWriter out, UpdatePolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PolicyName != null) {
+                out.name("PolicyName");
+                out.value(value.PolicyName);
+            }
+            if (value.Statements != null) {
+                out.name("Statements");
+                PlayFabModelAdapters.writeList(out, value.Statements, permissionStatementAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdatePolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePolicyResponse value = new UpdatePolicyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PolicyName": value.PolicyName = PlayFabModelAdapters.readString(in); break;
+                    case "Statements": value.Statements = PlayFabModelAdapters.readList(in, permissionStatementAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateRandomResultTablesRequestAdapter extends TypeAdapter<UpdateRandomResultTablesRequest> {
+        private final TypeAdapter<RandomResultTable> randomResultTableAdapter;
+
+        UpdateRandomResultTablesRequestAdapter(Gson gson) {
+            randomResultTableAdapter = gson.getAdapter(RandomResultTable.class);
+        }
+
+        public void write(JsonWriter out, UpdateRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Tables != null) {
+                out.name("Tables");
+                PlayFabModelAdapters.writeList(out, value.Tables, randomResultTableAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdateRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateRandomResultTablesRequest value = new UpdateRandomResultTablesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Tables": value.Tables = PlayFabModelAdapters.readList(in, randomResultTableAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateRandomResultTablesResultAdapter extends TypeAdapter<UpdateRandomResultTablesResult> {
+        UpdateRandomResultTablesResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateRandomResultTablesResult value = new UpdateRandomResultTablesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateStoreItemsRequestAdapter extends TypeAdapter<UpdateStoreItemsRequest> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        UpdateStoreItemsRequestAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        public void write(JsonWriter out, UpdateStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.MarketingData != null) {
+                out.name("MarketingData");
+                storeMarketingModelAdapter.write(out, value.MarketingData);
+            }
+            if (value.Store != null) {
+                out.name("Store");
+                PlayFabModelAdapters.writeList(out, value.Store, storeItemAdapter);
+            }
+            if (value.StoreId != null) {
+                out.name("StoreId");
+                out.value(value.StoreId);
+            }
+            out.endObject();
+        }
+
+        public UpdateStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateStoreItemsRequest value = new UpdateStoreItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                    case "Store": value.Store = PlayFabModelAdapters.readList(in, storeItemAdapter); break;
+                    case "StoreId": value.StoreId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateStoreItemsResultAdapter extends TypeAdapter<UpdateStoreItemsResult> {
+        UpdateStoreItemsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateStoreItemsResult value = new UpdateStoreItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateTaskRequestAdapter extends TypeAdapter<UpdateTaskRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        UpdateTaskRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        public void write(JsonWriter out, UpdateTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.Identifier != null) {
+                out.name("Identifier");
+                nameIdentifierAdapter.write(out, value.Identifier);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Parameter != null) {
+                out.name("Parameter");
+                objectAdapter.write(out, value.Parameter);
+            }
+            if (value.Schedule != null) {
+                out.name("Schedule");
+                out.value(value.Schedule);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                scheduledTaskTypeAdapter.write(out, value.Type);
+            }
+            out.endObject();
+        }
+
+        public UpdateTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateTaskRequest value = new UpdateTaskRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Parameter": value.Parameter = objectAdapter.read(in); break;
+                    case "Schedule": value.Schedule = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserInternalDataRequestAdapter extends TypeAdapter<UpdateUserInternalDataRequest> {
+        UpdateUserInternalDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserInternalDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInternalDataRequest value = new UpdateUserInternalDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameRequestAdapter extends TypeAdapter<UpdateUserTitleDisplayNameRequest> {
+        UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserTitleDisplayNameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameRequest value = new UpdateUserTitleDisplayNameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameResultAdapter extends TypeAdapter<UpdateUserTitleDisplayNameResult> {
+        UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserTitleDisplayNameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameResult value = new UpdateUserTitleDisplayNameResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserWindowsHelloInfo> userWindowsHelloInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userWindowsHelloInfoAdapter = gson.getAdapter(UserWindowsHelloInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceInfo != null) {
+                out.name("AndroidDeviceInfo");
+                userAndroidDeviceInfoAdapter.write(out, value.AndroidDeviceInfo);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.CustomIdInfo != null) {
+                out.name("CustomIdInfo");
+                userCustomIdInfoAdapter.write(out, value.CustomIdInfo);
+            }
+            if (value.FacebookInfo != null) {
+                out.name("FacebookInfo");
+                userFacebookInfoAdapter.write(out, value.FacebookInfo);
+            }
+            if (value.FacebookInstantGamesIdInfo != null) {
+                out.name("FacebookInstantGamesIdInfo");
+                userFacebookInstantGamesIdInfoAdapter.write(out, value.FacebookInstantGamesIdInfo);
+            }
+            if (value.GameCenterInfo != null) {
+                out.name("GameCenterInfo");
+                userGameCenterInfoAdapter.write(out, value.GameCenterInfo);
+            }
+            if (value.GoogleInfo != null) {
+                out.name("GoogleInfo");
+                userGoogleInfoAdapter.write(out, value.GoogleInfo);
+            }
+            if (value.IosDeviceInfo != null) {
+                out.name("IosDeviceInfo");
+                userIosDeviceInfoAdapter.write(out, value.IosDeviceInfo);
+            }
+            if (value.KongregateInfo != null) {
+                out.name("KongregateInfo");
+                userKongregateInfoAdapter.write(out, value.KongregateInfo);
+            }
+            if (value.NintendoSwitchDeviceIdInfo != null) {
+                out.name("NintendoSwitchDeviceIdInfo");
+                userNintendoSwitchDeviceIdInfoAdapter.write(out, value.NintendoSwitchDeviceIdInfo);
+            }
+            if (value.OpenIdInfo != null) {
+                out.name("OpenIdInfo");
+                PlayFabModelAdapters.writeList(out, value.OpenIdInfo, userOpenIdInfoAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.PrivateInfo != null) {
+                out.name("PrivateInfo");
+                userPrivateAccountInfoAdapter.write(out, value.PrivateInfo);
+            }
+            if (value.PsnInfo != null) {
+                out.name("PsnInfo");
+                userPsnInfoAdapter.write(out, value.PsnInfo);
+            }
+            if (value.SteamInfo != null) {
+                out.name("SteamInfo");
+                userSteamInfoAdapter.write(out, value.SteamInfo);
+            }
+            if (value.TitleInfo != null) {
+                out.name("TitleInfo");
+                userTitleInfoAdapter.write(out, value.TitleInfo);
+            }
+            if (value.TwitchInfo != null) {
+                out.name("TwitchInfo");
+                userTwitchInfoAdapter.write(out, value.TwitchInfo);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.WindowsHelloInfo != null) {
+                out.name("WindowsHelloInfo");
+                userWindowsHelloInfoAdapter.write(out, value.WindowsHelloInfo);
+            }
+            if (value.XboxInfo != null) {
+                out.name("XboxInfo");
+                userXboxInfoAdapter.write(out, value.XboxInfo);
+            }
+            out.endObject();
+        }
+
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                    case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                    case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                    case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                    case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                    case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                    case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                    case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                    case "OpenIdInfo": value.OpenIdInfo = PlayFabModelAdapters.readList(in, userOpenIdInfoAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                    case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                    case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                    case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                    case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloInfo": value.WindowsHelloInfo = userWindowsHelloInfoAdapter.read(in); break;
+                    case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            out.endObject();
+        }
+
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LastUpdated != null) {
+                out.name("LastUpdated");
+                dateAdapter.write(out, value.LastUpdated);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookId != null) {
+                out.name("FacebookId");
+                out.value(value.FacebookId);
+            }
+            if (value.FullName != null) {
+                out.name("FullName");
+                out.value(value.FullName);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookId": value.FacebookId = PlayFabModelAdapters.readString(in); break;
+                    case "FullName": value.FullName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCenterId != null) {
+                out.name("GameCenterId");
+                out.value(value.GameCenterId);
+            }
+            out.endObject();
+        }
+
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCenterId": value.GameCenterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GoogleEmail != null) {
+                out.name("GoogleEmail");
+                out.value(value.GoogleEmail);
+            }
+            if (value.GoogleGender != null) {
+                out.name("GoogleGender");
+                out.value(value.GoogleGender);
+            }
+            if (value.GoogleId != null) {
+                out.name("GoogleId");
+                out.value(value.GoogleId);
+            }
+            if (value.GoogleLocale != null) {
+                out.name("GoogleLocale");
+                out.value(value.GoogleLocale);
+            }
+            out.endObject();
+        }
+
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GoogleEmail": value.GoogleEmail = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleGender": value.GoogleGender = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleId": value.GoogleId = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleLocale": value.GoogleLocale = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IosDeviceId != null) {
+                out.name("IosDeviceId");
+                out.value(value.IosDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IosDeviceId": value.IosDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            if (value.KongregateName != null) {
+                out.name("KongregateName");
+                out.value(value.KongregateName);
+            }
+            out.endObject();
+        }
+
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    case "KongregateName": value.KongregateName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ConnectionId != null) {
+                out.name("ConnectionId");
+                out.value(value.ConnectionId);
+            }
+            if (value.Issuer != null) {
+                out.name("Issuer");
+                out.value(value.Issuer);
+            }
+            if (value.Subject != null) {
+                out.name("Subject");
+                out.value(value.Subject);
+            }
+            out.endObject();
+        }
+
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ConnectionId": value.ConnectionId = PlayFabModelAdapters.readString(in); break;
+                    case "Issuer": value.Issuer = PlayFabModelAdapters.readString(in); break;
+                    case "Subject": value.Subject = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            out.endObject();
+        }
+
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PsnAccountId != null) {
+                out.name("PsnAccountId");
+                out.value(value.PsnAccountId);
+            }
+            if (value.PsnOnlineId != null) {
+                out.name("PsnOnlineId");
+                out.value(value.PsnOnlineId);
+            }
+            out.endObject();
+        }
+
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PsnAccountId": value.PsnAccountId = PlayFabModelAdapters.readString(in); break;
+                    case "PsnOnlineId": value.PsnOnlineId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SteamActivationStatus != null) {
+                out.name("SteamActivationStatus");
+                titleActivationStatusAdapter.write(out, value.SteamActivationStatus);
+            }
+            if (value.SteamCountry != null) {
+                out.name("SteamCountry");
+                out.value(value.SteamCountry);
+            }
+            if (value.SteamCurrency != null) {
+                out.name("SteamCurrency");
+                currencyAdapter.write(out, value.SteamCurrency);
+            }
+            if (value.SteamId != null) {
+                out.name("SteamId");
+                out.value(value.SteamId);
+            }
+            out.endObject();
+        }
+
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                    case "SteamCountry": value.SteamCountry = PlayFabModelAdapters.readString(in); break;
+                    case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                    case "SteamId": value.SteamId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.FirstLogin != null) {
+                out.name("FirstLogin");
+                dateAdapter.write(out, value.FirstLogin);
+            }
+            if (value.isBanned != null) {
+                out.name("isBanned");
+                out.value(value.isBanned.booleanValue());
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                userOriginationAdapter.write(out, value.Origination);
+            }
+            if (value.TitlePlayerAccount != null) {
+                out.name("TitlePlayerAccount");
+                entityKeyAdapter.write(out, value.TitlePlayerAccount);
+            }
+            out.endObject();
+        }
+
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                    case "isBanned": value.isBanned = PlayFabModelAdapters.readBoolean(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                    case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TwitchId != null) {
+                out.name("TwitchId");
+                out.value(value.TwitchId);
+            }
+            if (value.TwitchUserName != null) {
+                out.name("TwitchUserName");
+                out.value(value.TwitchUserName);
+            }
+            out.endObject();
+        }
+
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TwitchId": value.TwitchId = PlayFabModelAdapters.readString(in); break;
+                    case "TwitchUserName": value.TwitchUserName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserWindowsHelloInfoAdapter extends TypeAdapter<UserWindowsHelloInfo> {
+        UserWindowsHelloInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserWindowsHelloInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.WindowsHelloDeviceName != null) {
+                out.name("WindowsHelloDeviceName");
+                out.value(value.WindowsHelloDeviceName);
+            }
+            if (value.WindowsHelloPublicKeyHash != null) {
+                out.name("WindowsHelloPublicKeyHash");
+                out.value(value.WindowsHelloPublicKeyHash);
+            }
+            out.endObject();
+        }
+
+        public UserWindowsHelloInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserWindowsHelloInfo value = new UserWindowsHelloInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "WindowsHelloDeviceName": value.WindowsHelloDeviceName = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloPublicKeyHash": value.WindowsHelloPublicKeyHash = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.XboxUserId != null) {
+                out.name("XboxUserId");
+                out.value(value.XboxUserId);
+            }
+            out.endObject();
+        }
+
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "XboxUserId": value.XboxUserId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Currency != null) {
+                out.name("Currency");
+                out.value(value.Currency);
+            }
+            if (value.TotalValue != null) {
+                out.name("TotalValue");
+                out.value(value.TotalValue);
+            }
+            if (value.TotalValueAsDecimal != null) {
+                out.name("TotalValueAsDecimal");
+                out.value(value.TotalValueAsDecimal);
+            }
+            out.endObject();
+        }
+
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Currency": value.Currency = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValue": value.TotalValue = PlayFabModelAdapters.readLong(in); break;
+                    case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class VirtualCurrencyDataAdapter extends TypeAdapter<VirtualCurrencyData> {
+        VirtualCurrencyDataAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, VirtualCurrencyData value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CurrencyCode != null) {
+                out.name("CurrencyCode");
+                out.value(value.CurrencyCode);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.InitialDeposit != null) {
+                out.name("InitialDeposit");
+                out.value(value.InitialDeposit);
+            }
+            if (value.RechargeMax != null) {
+                out.name("RechargeMax");
+                out.value(value.RechargeMax);
+            }
+            if (value.RechargeRate != null) {
+                out.name("RechargeRate");
+                out.value(value.RechargeRate);
+            }
+            out.endObject();
+        }
+
+        public VirtualCurrencyData read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyData value = new VirtualCurrencyData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CurrencyCode": value.CurrencyCode = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "InitialDeposit": value.InitialDeposit = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeMax": value.RechargeMax = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeRate": value.RechargeRate = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RechargeMax != null) {
+                out.name("RechargeMax");
+                out.value(value.RechargeMax);
+            }
+            if (value.RechargeTime != null) {
+                out.name("RechargeTime");
+                dateAdapter.write(out, value.RechargeTime);
+            }
+            if (value.SecondsToRecharge != null) {
+                out.name("SecondsToRecharge");
+                out.value(value.SecondsToRecharge);
+            }
+            out.endObject();
+        }
+
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RechargeMax": value.RechargeMax = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                    case "SecondsToRecharge": value.SecondsToRecharge = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<AuthTokenType> AuthTokenTypeAdapter = new TypeAdapter<AuthTokenType>() {
+        public void write(JsonWriter out, AuthTokenType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public AuthTokenType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Email": return AuthTokenType.Email;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Conditionals> ConditionalsAdapter = new TypeAdapter<Conditionals>() {
+        public void write(JsonWriter out, Conditionals value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Conditionals read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Any": return Conditionals.Any;
+                case "True": return Conditionals.True;
+                case "False": return Conditionals.False;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ContinentCode> ContinentCodeAdapter = new TypeAdapter<ContinentCode>() {
+        public void write(JsonWriter out, ContinentCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ContinentCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return ContinentCode.AF;
+                case "AN": return ContinentCode.AN;
+                case "AS": return ContinentCode.AS;
+                case "EU": return ContinentCode.EU;
+                case "NA": return ContinentCode.NA;
+                case "OC": return ContinentCode.OC;
+                case "SA": return ContinentCode.SA;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<CountryCode> CountryCodeAdapter = new TypeAdapter<CountryCode>() {
+        public void write(JsonWriter out, CountryCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CountryCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return CountryCode.AF;
+                case "AX": return CountryCode.AX;
+                case "AL": return CountryCode.AL;
+                case "DZ": return CountryCode.DZ;
+                case "AS": return CountryCode.AS;
+                case "AD": return CountryCode.AD;
+                case "AO": return CountryCode.AO;
+                case "AI": return CountryCode.AI;
+                case "AQ": return CountryCode.AQ;
+                case "AG": return CountryCode.AG;
+                case "AR": return CountryCode.AR;
+                case "AM": return CountryCode.AM;
+                case "AW": return CountryCode.AW;
+                case "AU": return CountryCode.AU;
+                case "AT": return CountryCode.AT;
+                case "AZ": return CountryCode.AZ;
+                case "BS": return CountryCode.BS;
+                case "BH": return CountryCode.BH;
+                case "BD": return CountryCode.BD;
+                case "BB": return CountryCode.BB;
+                case "BY": return CountryCode.BY;
+                case "BE": return CountryCode.BE;
+                case "BZ": return CountryCode.BZ;
+                case "BJ": return CountryCode.BJ;
+                case "BM": return CountryCode.BM;
+                case "BT": return CountryCode.BT;
+                case "BO": return CountryCode.BO;
+                case "BQ": return CountryCode.BQ;
+                case "BA": return CountryCode.BA;
+                case "BW": return CountryCode.BW;
+                case "BV": return CountryCode.BV;
+                case "BR": return CountryCode.BR;
+                case "IO": return CountryCode.IO;
+                case "BN": return CountryCode.BN;
+                case "BG": return CountryCode.BG;
+                case "BF": return CountryCode.BF;
+                case "BI": return CountryCode.BI;
+                case "KH": return CountryCode.KH;
+                case "CM": return CountryCode.CM;
+                case "CA": return CountryCode.CA;
+                case "CV": return CountryCode.CV;
+                case "KY": return CountryCode.KY;
+                case "CF": return CountryCode.CF;
+                case "TD": return CountryCode.TD;
+                case "CL": return CountryCode.CL;
+                case "CN": return CountryCode.CN;
+                case "CX": return CountryCode.CX;
+                case "CC": return CountryCode.CC;
+                case "CO": return CountryCode.CO;
+                case "KM": return CountryCode.KM;
+                case "CG": return CountryCode.CG;
+                case "CD": return CountryCode.CD;
+                case "CK": return CountryCode.CK;
+                case "CR": return CountryCode.CR;
+                case "CI": return CountryCode.CI;
+                case "HR": return CountryCode.HR;
+                case "CU": return CountryCode.CU;
+                case "CW": return CountryCode.CW;
+                case "CY": return CountryCode.CY;
+                case "CZ": return CountryCode.CZ;
+                case "DK": return CountryCode.DK;
+                case "DJ": return CountryCode.DJ;
+                case "DM": return CountryCode.DM;
+                case "DO": return CountryCode.DO;
+                case "EC": return CountryCode.EC;
+                case "EG": return CountryCode.EG;
+                case "SV": return CountryCode.SV;
+                case "GQ": return CountryCode.GQ;
+                case "ER": return CountryCode.ER;
+                case "EE": return CountryCode.EE;
+                case "ET": return CountryCode.ET;
+                case "FK": return CountryCode.FK;
+                case "FO": return CountryCode.FO;
+                case "FJ": return CountryCode.FJ;
+                case "FI": return CountryCode.FI;
+                case "FR": return CountryCode.FR;
+                case "GF": return CountryCode.GF;
+                case "PF": return CountryCode.PF;
+                case "TF": return CountryCode.TF;
+                case "GA": return CountryCode.GA;
+                case "GM": return CountryCode.GM;
+                case "GE": return CountryCode.GE;
+                case "DE": return CountryCode.DE;
+                case "GH": return CountryCode.GH;
+                case "GI": return CountryCode.GI;
+                case "GR": return CountryCode.GR;
+                case "GL": return CountryCode.GL;
+                case "GD": return CountryCode.GD;
+                case "GP": return CountryCode.GP;
+                case "GU": return CountryCode.GU;
+                case "GT": return CountryCode.GT;
+                case "GG": return CountryCode.GG;
+                case "GN": return CountryCode.GN;
+                case "GW": return CountryCode.GW;
+                case "GY": return CountryCode.GY;
+                case "HT": return CountryCode.HT;
+                case "HM": return CountryCode.HM;
+                case "VA": return CountryCode.VA;
+                case "HN": return CountryCode.HN;
+                case "HK": return CountryCode.HK;
+                case "HU": return CountryCode.HU;
+                case "IS": return CountryCode.IS;
+                case "IN": return CountryCode.IN;
+                case "ID": return CountryCode.ID;
+                case "IR": return CountryCode.IR;
+                case "IQ": return CountryCode.IQ;
+                case "IE": return CountryCode.IE;
+                case "IM": return CountryCode.IM;
+                case "IL": return CountryCode.IL;
+                case "IT": return CountryCode.IT;
+                case "JM": return CountryCode.JM;
+                case "JP": return CountryCode.JP;
+                case "JE": return CountryCode.JE;
+                case "JO": return CountryCode.JO;
+                case "KZ": return CountryCode.KZ;
+                case "KE": return CountryCode.KE;
+                case "KI": return CountryCode.KI;
+                case "KP": return CountryCode.KP;
+                case "KR": return CountryCode.KR;
+                case "KW": return CountryCode.KW;
+                case "KG": return CountryCode.KG;
+                case "LA": return CountryCode.LA;
+                case "LV": return CountryCode.LV;
+                case "LB": return CountryCode.LB;
+                case "LS": return CountryCode.LS;
+                case "LR": return CountryCode.LR;
+                case "LY": return CountryCode.LY;
+                case "LI": return CountryCode.LI;
+                case "LT": return CountryCode.LT;
+                case "LU": return CountryCode.LU;
+                case "MO": return CountryCode.MO;
+                case "MK": return CountryCode.MK;
+                case "MG": return CountryCode.MG;
+                case "MW": return CountryCode.MW;
+                case "MY": return CountryCode.MY;
+                case "MV": return CountryCode.MV;
+                case "ML": return CountryCode.ML;
+                case "MT": return CountryCode.MT;
+                case "MH": return CountryCode.MH;
+                case "MQ": return CountryCode.MQ;
+                case "MR": return CountryCode.MR;
+                case "MU": return CountryCode.MU;
+                case "YT": return CountryCode.YT;
+                case "MX": return CountryCode.MX;
+                case "FM": return CountryCode.FM;
+                case "MD": return CountryCode.MD;
+                case "MC": return CountryCode.MC;
+                case "MN": return CountryCode.MN;
+                case "ME": return CountryCode.ME;
+                case "MS": return CountryCode.MS;
+                case "MA": return CountryCode.MA;
+                case "MZ": return CountryCode.MZ;
+                case "MM": return CountryCode.MM;
+                case "NA": return CountryCode.NA;
+                case "NR": return CountryCode.NR;
+                case "NP": return CountryCode.NP;
+                case "NL": return CountryCode.NL;
+                case "NC": return CountryCode.NC;
+                case "NZ": return CountryCode.NZ;
+                case "NI": return CountryCode.NI;
+                case "NE": return CountryCode.NE;
+                case "NG": return CountryCode.NG;
+                case "NU": return CountryCode.NU;
+                case "NF": return CountryCode.NF;
+                case "MP": return CountryCode.MP;
+                case "NO": return CountryCode.NO;
+                case "OM": return CountryCode.OM;
+                case "PK": return CountryCode.PK;
+                case "PW": return CountryCode.PW;
+                case "PS": return CountryCode.PS;
+                case "PA": return CountryCode.PA;
+                case "PG": return CountryCode.PG;
+                case "PY": return CountryCode.PY;
+                case "PE": return CountryCode.PE;
+                case "PH": return CountryCode.PH;
+                case "PN": return CountryCode.PN;
+                case "PL": return CountryCode.PL;
+                case "PT": return CountryCode.PT;
+                case "PR": return CountryCode.PR;
+                case "QA": return CountryCode.QA;
+                case "RE": return CountryCode.RE;
+                case "RO": return CountryCode.RO;
+                case "RU": return CountryCode.RU;
+                case "RW": return CountryCode.RW;
+                case "BL": return CountryCode.BL;
+                case "SH": return CountryCode.SH;
+                case "KN": return CountryCode.KN;
+                case "LC": return CountryCode.LC;
+                case "MF": return CountryCode.MF;
+                case "PM": return CountryCode.PM;
+                case "VC": return CountryCode.VC;
+                case "WS": return CountryCode.WS;
+                case "SM": return CountryCode.SM;
+                case "ST": return CountryCode.ST;
+                case "SA": return CountryCode.SA;
+                case "SN": return CountryCode.SN;
+                case "RS": return CountryCode.RS;
+                case "SC": return CountryCode.SC;
+                case "SL": return CountryCode.SL;
+                case "SG": return CountryCode.SG;
+                case "SX": return CountryCode.SX;
+                case "SK": return CountryCode.SK;
+                case "SI": return CountryCode.SI;
+                case "SB": return CountryCode.SB;
+                case "SO": return CountryCode.SO;
+                case "ZA": return CountryCode.ZA;
+                case "GS": return CountryCode.GS;
+                case "SS": return CountryCode.SS;
+                case "ES": return CountryCode.ES;
+                case "LK": return CountryCode.LK;
+                case "SD": return CountryCode.SD;
+                case "SR": return CountryCode.SR;
+                case "SJ": return CountryCode.SJ;
+                case "SZ": return CountryCode.SZ;
+                case "SE": return CountryCode.SE;
+                case "CH": return CountryCode.CH;
+                case "SY": return CountryCode.SY;
+                case "TW": return CountryCode.TW;
+                case "TJ": return CountryCode.TJ;
+                case "TZ": return CountryCode.TZ;
+                case "TH": return CountryCode.TH;
+                case "TL": return CountryCode.TL;
+                case "TG": return CountryCode.TG;
+                case "TK": return CountryCode.TK;
+                case "TO": return CountryCode.TO;
+                case "TT": return CountryCode.TT;
+                case "TN": return CountryCode.TN;
+                case "TR": return CountryCode.TR;
+                case "TM": return CountryCode.TM;
+                case "TC": return CountryCode.TC;
+                case "TV": return CountryCode.TV;
+                case "UG": return CountryCode.UG;
+                case "UA": return CountryCode.UA;
+                case "AE": return CountryCode.AE;
+                case "GB": return CountryCode.GB;
+                case "US": return CountryCode.US;
+                case "UM": return CountryCode.UM;
+                case "UY": return CountryCode.UY;
+                case "UZ": return CountryCode.UZ;
+                case "VU": return CountryCode.VU;
+                case "VE": return CountryCode.VE;
+                case "VN": return CountryCode.VN;
+                case "VG": return CountryCode.VG;
+                case "VI": return CountryCode.VI;
+                case "WF": return CountryCode.WF;
+                case "EH": return CountryCode.EH;
+                case "YE": return CountryCode.YE;
+                case "ZM": return CountryCode.ZM;
+                case "ZW": return CountryCode.ZW;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Currency> CurrencyAdapter = new TypeAdapter<Currency>() {
+        public void write(JsonWriter out, Currency value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Currency read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AED": return Currency.AED;
+                case "AFN": return Currency.AFN;
+                case "ALL": return Currency.ALL;
+                case "AMD": return Currency.AMD;
+                case "ANG": return Currency.ANG;
+                case "AOA": return Currency.AOA;
+                case "ARS": return Currency.ARS;
+                case "AUD": return Currency.AUD;
+                case "AWG": return Currency.AWG;
+                case "AZN": return Currency.AZN;
+                case "BAM": return Currency.BAM;
+                case "BBD": return Currency.BBD;
+                case "BDT": return Currency.BDT;
+                case "BGN": return Currency.BGN;
+                case "BHD": return Currency.BHD;
+                case "BIF": return Currency.BIF;
+                case "BMD": return Currency.BMD;
+                case "BND": return Currency.BND;
+                case "BOB": return Currency.BOB;
+                case "BRL": return Currency.BRL;
+                case "BSD": return Currency.BSD;
+                case "BTN": return Currency.BTN;
+                case "BWP": return Currency.BWP;
+                case "BYR": return Currency.BYR;
+                case "BZD": return Currency.BZD;
+                case "CAD": return Currency.CAD;
+                case "CDF": return Currency.CDF;
+                case "CHF": return Currency.CHF;
+                case "CLP": return Currency.CLP;
+                case "CNY": return Currency.CNY;
+                case "COP": return Currency.COP;
+                case "CRC": return Currency.CRC;
+                case "CUC": return Currency.CUC;
+                case "CUP": return Currency.CUP;
+                case "CVE": return Currency.CVE;
+                case "CZK": return Currency.CZK;
+                case "DJF": return Currency.DJF;
+                case "DKK": return Currency.DKK;
+                case "DOP": return Currency.DOP;
+                case "DZD": return Currency.DZD;
+                case "EGP": return Currency.EGP;
+                case "ERN": return Currency.ERN;
+                case "ETB": return Currency.ETB;
+                case "EUR": return Currency.EUR;
+                case "FJD": return Currency.FJD;
+                case "FKP": return Currency.FKP;
+                case "GBP": return Currency.GBP;
+                case "GEL": return Currency.GEL;
+                case "GGP": return Currency.GGP;
+                case "GHS": return Currency.GHS;
+                case "GIP": return Currency.GIP;
+                case "GMD": return Currency.GMD;
+                case "GNF": return Currency.GNF;
+                case "GTQ": return Currency.GTQ;
+                case "GYD": return Currency.GYD;
+                case "HKD": return Currency.HKD;
+                case "HNL": return Currency.HNL;
+                case "HRK": return Currency.HRK;
+                case "HTG": return Currency.HTG;
+                case "HUF": return Currency.HUF;
+                case "IDR": return Currency.IDR;
+                case "ILS": return Currency.ILS;
+                case "IMP": return Currency.IMP;
+                case "INR": return Currency.INR;
+                case "IQD": return Currency.IQD;
+                case "IRR": return Currency.IRR;
+                case "ISK": return Currency.ISK;
+                case "JEP": return Currency.JEP;
+                case "JMD": return Currency.JMD;
+                case "JOD": return Currency.JOD;
+                case "JPY": return Currency.JPY;
+                case "KES": return Currency.KES;
+                case "KGS": return Currency.KGS;
+                case "KHR": return Currency.KHR;
+                case "KMF": return Currency.KMF;
+                case "KPW": return Currency.KPW;
+                case "KRW": return Currency.KRW;
+                case "KWD": return Currency.KWD;
+                case "KYD": return Currency.KYD;
+                case "KZT": return Currency.KZT;
+                case "LAK": return Currency.LAK;
+                case "LBP": return Currency.LBP;
+                case "LKR": return Currency.LKR;
+                case "LRD": return Currency.LRD;
+                case "LSL": return Currency.LSL;
+                case "LYD": return Currency.LYD;
+                case "MAD": return Currency.MAD;
+                case "MDL": return Currency.MDL;
+                case "MGA": return Currency.MGA;
+                case "MKD": return Currency.MKD;
+                case "MMK": return Currency.MMK;
+                case "MNT": return Currency.MNT;
+                case "MOP": return Currency.MOP;
+                case "MRO": return Currency.MRO;
+                case "MUR": return Currency.MUR;
+                case "MVR": return Currency.MVR;
+                case "MWK": return Currency.MWK;
+                case "MXN": return Currency.MXN;
+                case "MYR": return Currency.MYR;
+                case "MZN": return Currency.MZN;
+                case "NAD": return Currency.NAD;
+                case "NGN": return Currency.NGN;
+                case "NIO": return Currency.NIO;
+                case "NOK": return Currency.NOK;
+                case "NPR": return Currency.NPR;
+                case "NZD": return Currency.NZD;
+                case "OMR": return Currency.OMR;
+                case "PAB": return Currency.PAB;
+                case "PEN": return Currency.PEN;
+                case "PGK": return Currency.PGK;
+                case "PHP": return Currency.PHP;
+                case "PKR": return Currency.PKR;
+                case "PLN": return Currency.PLN;
+                case "PYG": return Currency.PYG;
+                case "QAR": return Currency.QAR;
+                case "RON": return Currency.RON;
+                case "RSD": return Currency.RSD;
+                case "RUB": return Currency.RUB;
+                case "RWF": return Currency.RWF;
+                case "SAR": return Currency.SAR;
+                case "SBD": return Currency.SBD;
+                case "SCR": return Currency.SCR;
+                case "SDG": return Currency.SDG;
+                case "SEK": return Currency.SEK;
+                case "SGD": return Currency.SGD;
+                case "SHP": return Currency.SHP;
+                case "SLL": return Currency.SLL;
+                case "SOS": return Currency.SOS;
+                case "SPL": return Currency.SPL;
+                case "SRD": return Currency.SRD;
+                case "STD": return Currency.STD;
+                case "SVC": return Currency.SVC;
+                case "SYP": return Currency.SYP;
+                case "SZL": return Currency.SZL;
+                case "THB": return Currency.THB;
+                case "TJS": return Currency.TJS;
+                case "TMT": return Currency.TMT;
+                case "TND": return Currency.TND;
+                case "TOP": return Currency.TOP;
+                case "TRY": return Currency.TRY;
+                case "TTD": return Currency.TTD;
+                case "TVD": return Currency.TVD;
+                case "TWD": return Currency.TWD;
+                case "TZS": return Currency.TZS;
+                case "UAH": return Currency.UAH;
+                case "UGX": return Currency.UGX;
+                case "USD": return Currency.USD;
+                case "UYU": return Currency.UYU;
+                case "UZS": return Currency.UZS;
+                case "VEF": return Currency.VEF;
+                case "VND": return Currency.VND;
+                case "VUV": return Currency.VUV;
+                case "WST": return Currency.WST;
+                case "XAF": return Currency.XAF;
+                case "XCD": return Currency.XCD;
+                case "XDR": return Currency.XDR;
+                case "XOF": return Currency.XOF;
+                case "XPF": return Currency.XPF;
+                case "YER": return Currency.YER;
+                case "ZAR": return Currency.ZAR;
+                case "ZMW": return Currency.ZMW;
+                case "ZWD": return Currency.ZWD;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<EffectType> EffectTypeAdapter = new TypeAdapter<EffectType>() {
+        public void write(JsonWriter out, EffectType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public EffectType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Allow": return EffectType.Allow;
+                case "Deny": return EffectType.Deny;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<EmailVerificationStatus> EmailVerificationStatusAdapter = new TypeAdapter<EmailVerificationStatus>() {
+        public void write(JsonWriter out, EmailVerificationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public EmailVerificationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unverified": return EmailVerificationStatus.Unverified;
+                case "Pending": return EmailVerificationStatus.Pending;
+                case "Confirmed": return EmailVerificationStatus.Confirmed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<GameBuildStatus> GameBuildStatusAdapter = new TypeAdapter<GameBuildStatus>() {
+        public void write(JsonWriter out, GameBuildStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public GameBuildStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Available": return GameBuildStatus.Available;
+                case "Validating": return GameBuildStatus.Validating;
+                case "InvalidBuildPackage": return GameBuildStatus.InvalidBuildPackage;
+                case "Processing": return GameBuildStatus.Processing;
+                case "FailedToProcess": return GameBuildStatus.FailedToProcess;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<GenericErrorCodes> GenericErrorCodesAdapter = new TypeAdapter<GenericErrorCodes>() {
+        public void write(JsonWriter out, GenericErrorCodes value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public GenericErrorCodes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Success": return GenericErrorCodes.Success;
+                case "UnkownError": return GenericErrorCodes.UnkownError;
+                case "InvalidParams": return GenericErrorCodes.InvalidParams;
+                case "AccountNotFound": return GenericErrorCodes.AccountNotFound;
+                case "AccountBanned": return GenericErrorCodes.AccountBanned;
+                case "InvalidUsernameOrPassword": return GenericErrorCodes.InvalidUsernameOrPassword;
+                case "InvalidTitleId": return GenericErrorCodes.InvalidTitleId;
+                case "InvalidEmailAddress": return GenericErrorCodes.InvalidEmailAddress;
+                case "EmailAddressNotAvailable": return GenericErrorCodes.EmailAddressNotAvailable;
+                case "InvalidUsername": return GenericErrorCodes.InvalidUsername;
+                case "InvalidPassword": return GenericErrorCodes.InvalidPassword;
+                case "UsernameNotAvailable": return GenericErrorCodes.UsernameNotAvailable;
+                case "InvalidSteamTicket": return GenericErrorCodes.InvalidSteamTicket;
+                case "AccountAlreadyLinked": return GenericErrorCodes.AccountAlreadyLinked;
+                case "LinkedAccountAlreadyClaimed": return GenericErrorCodes.LinkedAccountAlreadyClaimed;
+                case "InvalidFacebookToken": return GenericErrorCodes.InvalidFacebookToken;
+                case "AccountNotLinked": return GenericErrorCodes.AccountNotLinked;
+                case "FailedByPaymentProvider": return GenericErrorCodes.FailedByPaymentProvider;
+                case "CouponCodeNotFound": return GenericErrorCodes.CouponCodeNotFound;
+                case "InvalidContainerItem": return GenericErrorCodes.InvalidContainerItem;
+                case "ContainerNotOwned": return GenericErrorCodes.ContainerNotOwned;
+                case "KeyNotOwned": return GenericErrorCodes.KeyNotOwned;
+                case "InvalidItemIdInTable": return GenericErrorCodes.InvalidItemIdInTable;
+                case "InvalidReceipt": return GenericErrorCodes.InvalidReceipt;
+                case "ReceiptAlreadyUsed": return GenericErrorCodes.ReceiptAlreadyUsed;
+                case "ReceiptCancelled": return GenericErrorCodes.ReceiptCancelled;
+                case "GameNotFound": return GenericErrorCodes.GameNotFound;
+                case "GameModeNotFound": return GenericErrorCodes.GameModeNotFound;
+                case "InvalidGoogleToken": return GenericErrorCodes.InvalidGoogleToken;
+                case "UserIsNotPartOfDeveloper": return GenericErrorCodes.UserIsNotPartOfDeveloper;
+                case "InvalidTitleForDeveloper": return GenericErrorCodes.InvalidTitleForDeveloper;
+                case "TitleNameConflicts": return GenericErrorCodes.TitleNameConflicts;
+                case "UserisNotValid": return GenericErrorCodes.UserisNotValid;
+                case "ValueAlreadyExists": return GenericErrorCodes.ValueAlreadyExists;
+                case "BuildNotFound": return GenericErrorCodes.BuildNotFound;
+                case "PlayerNotInGame": return GenericErrorCodes.PlayerNotInGame;
+                case "InvalidTicket": return GenericErrorCodes.InvalidTicket;
+                case "InvalidDeveloper": return GenericErrorCodes.InvalidDeveloper;
+                case "InvalidOrderInfo": return GenericErrorCodes.InvalidOrderInfo;
+                case "RegistrationIncomplete": return GenericErrorCodes.RegistrationIncomplete;
+                case "InvalidPlatform": return GenericErrorCodes.InvalidPlatform;
+                case "UnknownError": return GenericErrorCodes.UnknownError;
+                case "SteamApplicationNotOwned": return GenericErrorCodes.SteamApplicationNotOwned;
+                case "WrongSteamAccount": return GenericErrorCodes.WrongSteamAccount;
+                case "TitleNotActivated": return GenericErrorCodes.TitleNotActivated;
+                case "RegistrationSessionNotFound": return GenericErrorCodes.RegistrationSessionNotFound;
+                case "NoSuchMod": return GenericErrorCodes.NoSuchMod;
+                case "FileNotFound": return GenericErrorCodes.FileNotFound;
+                case "DuplicateEmail": return GenericErrorCodes.DuplicateEmail;
+                case "ItemNotFound": return GenericErrorCodes.ItemNotFound;
+                case "ItemNotOwned": return GenericErrorCodes.ItemNotOwned;
+                case "ItemNotRecycleable": return GenericErrorCodes.ItemNotRecycleable;
+                case "ItemNotAffordable": return GenericErrorCodes.ItemNotAffordable;
+                case "InvalidVirtualCurrency": return GenericErrorCodes.InvalidVirtualCurrency;
+                case "WrongVirtualCurrency": return GenericErrorCodes.WrongVirtualCurrency;
+                case "WrongPrice": return GenericErrorCodes.WrongPrice;
+                case "NonPositiveValue": return GenericErrorCodes.NonPositiveValue;
+                case "InvalidRegion": return GenericErrorCodes.InvalidRegion;
+                case "RegionAtCapacity": return GenericErrorCodes.RegionAtCapacity;
+                case "ServerFailedToStart": return GenericErrorCodes.ServerFailedToStart;
+                case "NameNotAvailable": return GenericErrorCodes.NameNotAvailable;
+                case "InsufficientFunds": return GenericErrorCodes.InsufficientFunds;
+                case "InvalidDeviceID": return GenericErrorCodes.InvalidDeviceID;
+                case "InvalidPushNotificationToken": return GenericErrorCodes.InvalidPushNotificationToken;
+                case "NoRemainingUses": return GenericErrorCodes.NoRemainingUses;
+                case "InvalidPaymentProvider": return GenericErrorCodes.InvalidPaymentProvider;
+                case "PurchaseInitializationFailure": return GenericErrorCodes.PurchaseInitializationFailure;
+                case "DuplicateUsername": return GenericErrorCodes.DuplicateUsername;
+                case "InvalidBuyerInfo": return GenericErrorCodes.InvalidBuyerInfo;
+                case "NoGameModeParamsSet": return GenericErrorCodes.NoGameModeParamsSet;
+                case "BodyTooLarge": return GenericErrorCodes.BodyTooLarge;
+                case "ReservedWordInBody": return GenericErrorCodes.ReservedWordInBody;
+                case "InvalidTypeInBody": return GenericErrorCodes.InvalidTypeInBody;
+                case "InvalidRequest": return GenericErrorCodes.InvalidRequest;
+                case "ReservedEventName": return GenericErrorCodes.ReservedEventName;
+                case "InvalidUserStatistics": return GenericErrorCodes.InvalidUserStatistics;
+                case "NotAuthenticated": return GenericErrorCodes.NotAuthenticated;
+                case "StreamAlreadyExists": return GenericErrorCodes.StreamAlreadyExists;
+                case "ErrorCreatingStream": return GenericErrorCodes.ErrorCreatingStream;
+                case "StreamNotFound": return GenericErrorCodes.StreamNotFound;
+                case "InvalidAccount": return GenericErrorCodes.InvalidAccount;
+                case "PurchaseDoesNotExist": return GenericErrorCodes.PurchaseDoesNotExist;
+                case "InvalidPurchaseTransactionStatus": return GenericErrorCodes.InvalidPurchaseTransactionStatus;
+                case "APINotEnabledForGameClientAccess": return GenericErrorCodes.APINotEnabledForGameClientAccess;
+                case "NoPushNotificationARNForTitle": return GenericErrorCodes.NoPushNotificationARNForTitle;
+                case "BuildAlreadyExists": return GenericErrorCodes.BuildAlreadyExists;
+                case "BuildPackageDoesNotExist": return GenericErrorCodes.BuildPackageDoesNotExist;
+                case "CustomAnalyticsEventsNotEnabledForTitle": return GenericErrorCodes.CustomAnalyticsEventsNotEnabledForTitle;
+                case "InvalidSharedGroupId": return GenericErrorCodes.InvalidSharedGroupId;
+                case "NotAuthorized": return GenericErrorCodes.NotAuthorized;
+                case "MissingTitleGoogleProperties": return GenericErrorCodes.MissingTitleGoogleProperties;
+                case "InvalidItemProperties": return GenericErrorCodes.InvalidItemProperties;
+                case "InvalidPSNAuthCode": return GenericErrorCodes.InvalidPSNAuthCode;
+                case "InvalidItemId": return GenericErrorCodes.InvalidItemId;
+                case "PushNotEnabledForAccount": return GenericErrorCodes.PushNotEnabledForAccount;
+                case "PushServiceError": return GenericErrorCodes.PushServiceError;
+                case "ReceiptDoesNotContainInAppItems": return GenericErrorCodes.ReceiptDoesNotContainInAppItems;
+                case "ReceiptContainsMultipleInAppItems": return GenericErrorCodes.ReceiptContainsMultipleInAppItems;
+                case "InvalidBundleID": return GenericErrorCodes.InvalidBundleID;
+                case "JavascriptException": return GenericErrorCodes.JavascriptException;
+                case "InvalidSessionTicket": return GenericErrorCodes.InvalidSessionTicket;
+                case "UnableToConnectToDatabase": return GenericErrorCodes.UnableToConnectToDatabase;
+                case "InternalServerError": return GenericErrorCodes.InternalServerError;
+                case "InvalidReportDate": return GenericErrorCodes.InvalidReportDate;
+                case "ReportNotAvailable": return GenericErrorCodes.ReportNotAvailable;
+                case "DatabaseThroughputExceeded": return GenericErrorCodes.DatabaseThroughputExceeded;
+                case "InvalidGameTicket": return GenericErrorCodes.InvalidGameTicket;
+                case "ExpiredGameTicket": return GenericErrorCodes.ExpiredGameTicket;
+                case "GameTicketDoesNotMatchLobby": return GenericErrorCodes.GameTicketDoesNotMatchLobby;
+                case "LinkedDeviceAlreadyClaimed": return GenericErrorCodes.LinkedDeviceAlreadyClaimed;
+                case "DeviceAlreadyLinked": return GenericErrorCodes.DeviceAlreadyLinked;
+                case "DeviceNotLinked": return GenericErrorCodes.DeviceNotLinked;
+                case "PartialFailure": return GenericErrorCodes.PartialFailure;
+                case "PublisherNotSet": return GenericErrorCodes.PublisherNotSet;
+                case "ServiceUnavailable": return GenericErrorCodes.ServiceUnavailable;
+                case "VersionNotFound": return GenericErrorCodes.VersionNotFound;
+                case "RevisionNotFound": return GenericErrorCodes.RevisionNotFound;
+                case "InvalidPublisherId": return GenericErrorCodes.InvalidPublisherId;
+                case "DownstreamServiceUnavailable": return GenericErrorCodes.DownstreamServiceUnavailable;
+                case "APINotIncludedInTitleUsageTier": return GenericErrorCodes.APINotIncludedInTitleUsageTier;
+                case "DAULimitExceeded": return GenericErrorCodes.DAULimitExceeded;
+                case "APIRequestLimitExceeded": return GenericErrorCodes.APIRequestLimitExceeded;
+                case "InvalidAPIEndpoint": return GenericErrorCodes.InvalidAPIEndpoint;
+                case "BuildNotAvailable": return GenericErrorCodes.BuildNotAvailable;
+                case "ConcurrentEditError": return GenericErrorCodes.ConcurrentEditError;
+                case "ContentNotFound": return GenericErrorCodes.ContentNotFound;
+                case "CharacterNotFound": return GenericErrorCodes.CharacterNotFound;
+                case "CloudScriptNotFound": return GenericErrorCodes.CloudScriptNotFound;
+                case "ContentQuotaExceeded": return GenericErrorCodes.ContentQuotaExceeded;
+                case "InvalidCharacterStatistics": return GenericErrorCodes.InvalidCharacterStatistics;
+                case "PhotonNotEnabledForTitle": return GenericErrorCodes.PhotonNotEnabledForTitle;
+                case "PhotonApplicationNotFound": return GenericErrorCodes.PhotonApplicationNotFound;
+                case "PhotonApplicationNotAssociatedWithTitle": return GenericErrorCodes.PhotonApplicationNotAssociatedWithTitle;
+                case "InvalidEmailOrPassword": return GenericErrorCodes.InvalidEmailOrPassword;
+                case "FacebookAPIError": return GenericErrorCodes.FacebookAPIError;
+                case "InvalidContentType": return GenericErrorCodes.InvalidContentType;
+                case "KeyLengthExceeded": return GenericErrorCodes.KeyLengthExceeded;
+                case "DataLengthExceeded": return GenericErrorCodes.DataLengthExceeded;
+                case "TooManyKeys": return GenericErrorCodes.TooManyKeys;
+                case "FreeTierCannotHaveVirtualCurrency": return GenericErrorCodes.FreeTierCannotHaveVirtualCurrency;
+                case "MissingAmazonSharedKey": return GenericErrorCodes.MissingAmazonSharedKey;
+                case "AmazonValidationError": return GenericErrorCodes.AmazonValidationError;
+                case "InvalidPSNIssuerId": return GenericErrorCodes.InvalidPSNIssuerId;
+                case "PSNInaccessible": return GenericErrorCodes.PSNInaccessible;
+                case "ExpiredAuthToken": return GenericErrorCodes.ExpiredAuthToken;
+                case "FailedToGetEntitlements": return GenericErrorCodes.FailedToGetEntitlements;
+                case "FailedToConsumeEntitlement": return GenericErrorCodes.FailedToConsumeEntitlement;
+                case "TradeAcceptingUserNotAllowed": return GenericErrorCodes.TradeAcceptingUserNotAllowed;
+                case "TradeInventoryItemIsAssignedToCharacter": return GenericErrorCodes.TradeInventoryItemIsAssignedToCharacter;
+                case "TradeInventoryItemIsBundle": return GenericErrorCodes.TradeInventoryItemIsBundle;
+                case "TradeStatusNotValidForCancelling": return GenericErrorCodes.TradeStatusNotValidForCancelling;
+                case "TradeStatusNotValidForAccepting": return GenericErrorCodes.TradeStatusNotValidForAccepting;
+                case "TradeDoesNotExist": return GenericErrorCodes.TradeDoesNotExist;
+                case "TradeCancelled": return GenericErrorCodes.TradeCancelled;
+                case "TradeAlreadyFilled": return GenericErrorCodes.TradeAlreadyFilled;
+                case "TradeWaitForStatusTimeout": return GenericErrorCodes.TradeWaitForStatusTimeout;
+                case "TradeInventoryItemExpired": return GenericErrorCodes.TradeInventoryItemExpired;
+                case "TradeMissingOfferedAndAcceptedItems": return GenericErrorCodes.TradeMissingOfferedAndAcceptedItems;
+                case "TradeAcceptedItemIsBundle": return GenericErrorCodes.TradeAcceptedItemIsBundle;
+                case "TradeAcceptedItemIsStackable": return GenericErrorCodes.TradeAcceptedItemIsStackable;
+                case "TradeInventoryItemInvalidStatus": return GenericErrorCodes.TradeInventoryItemInvalidStatus;
+                case "TradeAcceptedCatalogItemInvalid": return GenericErrorCodes.TradeAcceptedCatalogItemInvalid;
+                case "TradeAllowedUsersInvalid": return GenericErrorCodes.TradeAllowedUsersInvalid;
+                case "TradeInventoryItemDoesNotExist": return GenericErrorCodes.TradeInventoryItemDoesNotExist;
+                case "TradeInventoryItemIsConsumed": return GenericErrorCodes.TradeInventoryItemIsConsumed;
+                case "TradeInventoryItemIsStackable": return GenericErrorCodes.TradeInventoryItemIsStackable;
+                case "TradeAcceptedItemsMismatch": return GenericErrorCodes.TradeAcceptedItemsMismatch;
+                case "InvalidKongregateToken": return GenericErrorCodes.InvalidKongregateToken;
+                case "FeatureNotConfiguredForTitle": return GenericErrorCodes.FeatureNotConfiguredForTitle;
+                case "NoMatchingCatalogItemForReceipt": return GenericErrorCodes.NoMatchingCatalogItemForReceipt;
+                case "InvalidCurrencyCode": return GenericErrorCodes.InvalidCurrencyCode;
+                case "NoRealMoneyPriceForCatalogItem": return GenericErrorCodes.NoRealMoneyPriceForCatalogItem;
+                case "TradeInventoryItemIsNotTradable": return GenericErrorCodes.TradeInventoryItemIsNotTradable;
+                case "TradeAcceptedCatalogItemIsNotTradable": return GenericErrorCodes.TradeAcceptedCatalogItemIsNotTradable;
+                case "UsersAlreadyFriends": return GenericErrorCodes.UsersAlreadyFriends;
+                case "LinkedIdentifierAlreadyClaimed": return GenericErrorCodes.LinkedIdentifierAlreadyClaimed;
+                case "CustomIdNotLinked": return GenericErrorCodes.CustomIdNotLinked;
+                case "TotalDataSizeExceeded": return GenericErrorCodes.TotalDataSizeExceeded;
+                case "DeleteKeyConflict": return GenericErrorCodes.DeleteKeyConflict;
+                case "InvalidXboxLiveToken": return GenericErrorCodes.InvalidXboxLiveToken;
+                case "ExpiredXboxLiveToken": return GenericErrorCodes.ExpiredXboxLiveToken;
+                case "ResettableStatisticVersionRequired": return GenericErrorCodes.ResettableStatisticVersionRequired;
+                case "NotAuthorizedByTitle": return GenericErrorCodes.NotAuthorizedByTitle;
+                case "NoPartnerEnabled": return GenericErrorCodes.NoPartnerEnabled;
+                case "InvalidPartnerResponse": return GenericErrorCodes.InvalidPartnerResponse;
+                case "APINotEnabledForGameServerAccess": return GenericErrorCodes.APINotEnabledForGameServerAccess;
+                case "StatisticNotFound": return GenericErrorCodes.StatisticNotFound;
+                case "StatisticNameConflict": return GenericErrorCodes.StatisticNameConflict;
+                case "StatisticVersionClosedForWrites": return GenericErrorCodes.StatisticVersionClosedForWrites;
+                case "StatisticVersionInvalid": return GenericErrorCodes.StatisticVersionInvalid;
+                case "APIClientRequestRateLimitExceeded": return GenericErrorCodes.APIClientRequestRateLimitExceeded;
+                case "InvalidJSONContent": return GenericErrorCodes.InvalidJSONContent;
+                case "InvalidDropTable": return GenericErrorCodes.InvalidDropTable;
+                case "StatisticVersionAlreadyIncrementedForScheduledInterval": return GenericErrorCodes.StatisticVersionAlreadyIncrementedForScheduledInterval;
+                case "StatisticCountLimitExceeded": return GenericErrorCodes.StatisticCountLimitExceeded;
+                case "StatisticVersionIncrementRateExceeded": return GenericErrorCodes.StatisticVersionIncrementRateExceeded;
+                case "ContainerKeyInvalid": return GenericErrorCodes.ContainerKeyInvalid;
+                case "CloudScriptExecutionTimeLimitExceeded": return GenericErrorCodes.CloudScriptExecutionTimeLimitExceeded;
+                case "NoWritePermissionsForEvent": return GenericErrorCodes.NoWritePermissionsForEvent;
+                case "CloudScriptFunctionArgumentSizeExceeded": return GenericErrorCodes.CloudScriptFunctionArgumentSizeExceeded;
+                case "CloudScriptAPIRequestCountExceeded": return GenericErrorCodes.CloudScriptAPIRequestCountExceeded;
+                case "CloudScriptAPIRequestError": return GenericErrorCodes.CloudScriptAPIRequestError;
+                case "CloudScriptHTTPRequestError": return GenericErrorCodes.CloudScriptHTTPRequestError;
+                case "InsufficientGuildRole": return GenericErrorCodes.InsufficientGuildRole;
+                case "GuildNotFound": return GenericErrorCodes.GuildNotFound;
+                case "OverLimit": return GenericErrorCodes.OverLimit;
+                case "EventNotFound": return GenericErrorCodes.EventNotFound;
+                case "InvalidEventField": return GenericErrorCodes.InvalidEventField;
+                case "InvalidEventName": return GenericErrorCodes.InvalidEventName;
+                case "CatalogNotConfigured": return GenericErrorCodes.CatalogNotConfigured;
+                case "OperationNotSupportedForPlatform": return GenericErrorCodes.OperationNotSupportedForPlatform;
+                case "SegmentNotFound": return GenericErrorCodes.SegmentNotFound;
+                case "StoreNotFound": return GenericErrorCodes.StoreNotFound;
+                case "InvalidStatisticName": return GenericErrorCodes.InvalidStatisticName;
+                case "TitleNotQualifiedForLimit": return GenericErrorCodes.TitleNotQualifiedForLimit;
+                case "InvalidServiceLimitLevel": return GenericErrorCodes.InvalidServiceLimitLevel;
+                case "ServiceLimitLevelInTransition": return GenericErrorCodes.ServiceLimitLevelInTransition;
+                case "CouponAlreadyRedeemed": return GenericErrorCodes.CouponAlreadyRedeemed;
+                case "GameServerBuildSizeLimitExceeded": return GenericErrorCodes.GameServerBuildSizeLimitExceeded;
+                case "GameServerBuildCountLimitExceeded": return GenericErrorCodes.GameServerBuildCountLimitExceeded;
+                case "VirtualCurrencyCountLimitExceeded": return GenericErrorCodes.VirtualCurrencyCountLimitExceeded;
+                case "VirtualCurrencyCodeExists": return GenericErrorCodes.VirtualCurrencyCodeExists;
+                case "TitleNewsItemCountLimitExceeded": return GenericErrorCodes.TitleNewsItemCountLimitExceeded;
+                case "InvalidTwitchToken": return GenericErrorCodes.InvalidTwitchToken;
+                case "TwitchResponseError": return GenericErrorCodes.TwitchResponseError;
+                case "ProfaneDisplayName": return GenericErrorCodes.ProfaneDisplayName;
+                case "UserAlreadyAdded": return GenericErrorCodes.UserAlreadyAdded;
+                case "InvalidVirtualCurrencyCode": return GenericErrorCodes.InvalidVirtualCurrencyCode;
+                case "VirtualCurrencyCannotBeDeleted": return GenericErrorCodes.VirtualCurrencyCannotBeDeleted;
+                case "IdentifierAlreadyClaimed": return GenericErrorCodes.IdentifierAlreadyClaimed;
+                case "IdentifierNotLinked": return GenericErrorCodes.IdentifierNotLinked;
+                case "InvalidContinuationToken": return GenericErrorCodes.InvalidContinuationToken;
+                case "ExpiredContinuationToken": return GenericErrorCodes.ExpiredContinuationToken;
+                case "InvalidSegment": return GenericErrorCodes.InvalidSegment;
+                case "InvalidSessionId": return GenericErrorCodes.InvalidSessionId;
+                case "SessionLogNotFound": return GenericErrorCodes.SessionLogNotFound;
+                case "InvalidSearchTerm": return GenericErrorCodes.InvalidSearchTerm;
+                case "TwoFactorAuthenticationTokenRequired": return GenericErrorCodes.TwoFactorAuthenticationTokenRequired;
+                case "GameServerHostCountLimitExceeded": return GenericErrorCodes.GameServerHostCountLimitExceeded;
+                case "PlayerTagCountLimitExceeded": return GenericErrorCodes.PlayerTagCountLimitExceeded;
+                case "RequestAlreadyRunning": return GenericErrorCodes.RequestAlreadyRunning;
+                case "ActionGroupNotFound": return GenericErrorCodes.ActionGroupNotFound;
+                case "MaximumSegmentBulkActionJobsRunning": return GenericErrorCodes.MaximumSegmentBulkActionJobsRunning;
+                case "NoActionsOnPlayersInSegmentJob": return GenericErrorCodes.NoActionsOnPlayersInSegmentJob;
+                case "DuplicateStatisticName": return GenericErrorCodes.DuplicateStatisticName;
+                case "ScheduledTaskNameConflict": return GenericErrorCodes.ScheduledTaskNameConflict;
+                case "ScheduledTaskCreateConflict": return GenericErrorCodes.ScheduledTaskCreateConflict;
+                case "InvalidScheduledTaskName": return GenericErrorCodes.InvalidScheduledTaskName;
+                case "InvalidTaskSchedule": return GenericErrorCodes.InvalidTaskSchedule;
+                case "SteamNotEnabledForTitle": return GenericErrorCodes.SteamNotEnabledForTitle;
+                case "LimitNotAnUpgradeOption": return GenericErrorCodes.LimitNotAnUpgradeOption;
+                case "NoSecretKeyEnabledForCloudScript": return GenericErrorCodes.NoSecretKeyEnabledForCloudScript;
+                case "TaskNotFound": return GenericErrorCodes.TaskNotFound;
+                case "TaskInstanceNotFound": return GenericErrorCodes.TaskInstanceNotFound;
+                case "InvalidIdentityProviderId": return GenericErrorCodes.InvalidIdentityProviderId;
+                case "MisconfiguredIdentityProvider": return GenericErrorCodes.MisconfiguredIdentityProvider;
+                case "InvalidScheduledTaskType": return GenericErrorCodes.InvalidScheduledTaskType;
+                case "BillingInformationRequired": return GenericErrorCodes.BillingInformationRequired;
+                case "LimitedEditionItemUnavailable": return GenericErrorCodes.LimitedEditionItemUnavailable;
+                case "InvalidAdPlacementAndReward": return GenericErrorCodes.InvalidAdPlacementAndReward;
+                case "AllAdPlacementViewsAlreadyConsumed": return GenericErrorCodes.AllAdPlacementViewsAlreadyConsumed;
+                case "GoogleOAuthNotConfiguredForTitle": return GenericErrorCodes.GoogleOAuthNotConfiguredForTitle;
+                case "GoogleOAuthError": return GenericErrorCodes.GoogleOAuthError;
+                case "UserNotFriend": return GenericErrorCodes.UserNotFriend;
+                case "InvalidSignature": return GenericErrorCodes.InvalidSignature;
+                case "InvalidPublicKey": return GenericErrorCodes.InvalidPublicKey;
+                case "GoogleOAuthNoIdTokenIncludedInResponse": return GenericErrorCodes.GoogleOAuthNoIdTokenIncludedInResponse;
+                case "StatisticUpdateInProgress": return GenericErrorCodes.StatisticUpdateInProgress;
+                case "LeaderboardVersionNotAvailable": return GenericErrorCodes.LeaderboardVersionNotAvailable;
+                case "StatisticAlreadyHasPrizeTable": return GenericErrorCodes.StatisticAlreadyHasPrizeTable;
+                case "PrizeTableHasOverlappingRanks": return GenericErrorCodes.PrizeTableHasOverlappingRanks;
+                case "PrizeTableHasMissingRanks": return GenericErrorCodes.PrizeTableHasMissingRanks;
+                case "PrizeTableRankStartsAtZero": return GenericErrorCodes.PrizeTableRankStartsAtZero;
+                case "InvalidStatistic": return GenericErrorCodes.InvalidStatistic;
+                case "ExpressionParseFailure": return GenericErrorCodes.ExpressionParseFailure;
+                case "ExpressionInvokeFailure": return GenericErrorCodes.ExpressionInvokeFailure;
+                case "ExpressionTooLong": return GenericErrorCodes.ExpressionTooLong;
+                case "DataUpdateRateExceeded": return GenericErrorCodes.DataUpdateRateExceeded;
+                case "RestrictedEmailDomain": return GenericErrorCodes.RestrictedEmailDomain;
+                case "EncryptionKeyDisabled": return GenericErrorCodes.EncryptionKeyDisabled;
+                case "EncryptionKeyMissing": return GenericErrorCodes.EncryptionKeyMissing;
+                case "EncryptionKeyBroken": return GenericErrorCodes.EncryptionKeyBroken;
+                case "NoSharedSecretKeyConfigured": return GenericErrorCodes.NoSharedSecretKeyConfigured;
+                case "SecretKeyNotFound": return GenericErrorCodes.SecretKeyNotFound;
+                case "PlayerSecretAlreadyConfigured": return GenericErrorCodes.PlayerSecretAlreadyConfigured;
+                case "APIRequestsDisabledForTitle": return GenericErrorCodes.APIRequestsDisabledForTitle;
+                case "InvalidSharedSecretKey": return GenericErrorCodes.InvalidSharedSecretKey;
+                case "PrizeTableHasNoRanks": return GenericErrorCodes.PrizeTableHasNoRanks;
+                case "ProfileDoesNotExist": return GenericErrorCodes.ProfileDoesNotExist;
+                case "ContentS3OriginBucketNotConfigured": return GenericErrorCodes.ContentS3OriginBucketNotConfigured;
+                case "InvalidEnvironmentForReceipt": return GenericErrorCodes.InvalidEnvironmentForReceipt;
+                case "EncryptedRequestNotAllowed": return GenericErrorCodes.EncryptedRequestNotAllowed;
+                case "SignedRequestNotAllowed": return GenericErrorCodes.SignedRequestNotAllowed;
+                case "RequestViewConstraintParamsNotAllowed": return GenericErrorCodes.RequestViewConstraintParamsNotAllowed;
+                case "BadPartnerConfiguration": return GenericErrorCodes.BadPartnerConfiguration;
+                case "XboxBPCertificateFailure": return GenericErrorCodes.XboxBPCertificateFailure;
+                case "XboxXASSExchangeFailure": return GenericErrorCodes.XboxXASSExchangeFailure;
+                case "InvalidEntityId": return GenericErrorCodes.InvalidEntityId;
+                case "StatisticValueAggregationOverflow": return GenericErrorCodes.StatisticValueAggregationOverflow;
+                case "EmailMessageFromAddressIsMissing": return GenericErrorCodes.EmailMessageFromAddressIsMissing;
+                case "EmailMessageToAddressIsMissing": return GenericErrorCodes.EmailMessageToAddressIsMissing;
+                case "SmtpServerAuthenticationError": return GenericErrorCodes.SmtpServerAuthenticationError;
+                case "SmtpServerLimitExceeded": return GenericErrorCodes.SmtpServerLimitExceeded;
+                case "SmtpServerInsufficientStorage": return GenericErrorCodes.SmtpServerInsufficientStorage;
+                case "SmtpServerCommunicationError": return GenericErrorCodes.SmtpServerCommunicationError;
+                case "SmtpServerGeneralFailure": return GenericErrorCodes.SmtpServerGeneralFailure;
+                case "EmailClientTimeout": return GenericErrorCodes.EmailClientTimeout;
+                case "EmailClientCanceledTask": return GenericErrorCodes.EmailClientCanceledTask;
+                case "EmailTemplateMissing": return GenericErrorCodes.EmailTemplateMissing;
+                case "InvalidHostForTitleId": return GenericErrorCodes.InvalidHostForTitleId;
+                case "EmailConfirmationTokenDoesNotExist": return GenericErrorCodes.EmailConfirmationTokenDoesNotExist;
+                case "EmailConfirmationTokenExpired": return GenericErrorCodes.EmailConfirmationTokenExpired;
+                case "AccountDeleted": return GenericErrorCodes.AccountDeleted;
+                case "PlayerSecretNotConfigured": return GenericErrorCodes.PlayerSecretNotConfigured;
+                case "InvalidSignatureTime": return GenericErrorCodes.InvalidSignatureTime;
+                case "NoContactEmailAddressFound": return GenericErrorCodes.NoContactEmailAddressFound;
+                case "InvalidAuthToken": return GenericErrorCodes.InvalidAuthToken;
+                case "AuthTokenDoesNotExist": return GenericErrorCodes.AuthTokenDoesNotExist;
+                case "AuthTokenExpired": return GenericErrorCodes.AuthTokenExpired;
+                case "AuthTokenAlreadyUsedToResetPassword": return GenericErrorCodes.AuthTokenAlreadyUsedToResetPassword;
+                case "MembershipNameTooLong": return GenericErrorCodes.MembershipNameTooLong;
+                case "MembershipNotFound": return GenericErrorCodes.MembershipNotFound;
+                case "GoogleServiceAccountInvalid": return GenericErrorCodes.GoogleServiceAccountInvalid;
+                case "GoogleServiceAccountParseFailure": return GenericErrorCodes.GoogleServiceAccountParseFailure;
+                case "EntityTokenMissing": return GenericErrorCodes.EntityTokenMissing;
+                case "EntityTokenInvalid": return GenericErrorCodes.EntityTokenInvalid;
+                case "EntityTokenExpired": return GenericErrorCodes.EntityTokenExpired;
+                case "EntityTokenRevoked": return GenericErrorCodes.EntityTokenRevoked;
+                case "InvalidProductForSubscription": return GenericErrorCodes.InvalidProductForSubscription;
+                case "XboxInaccessible": return GenericErrorCodes.XboxInaccessible;
+                case "SubscriptionAlreadyTaken": return GenericErrorCodes.SubscriptionAlreadyTaken;
+                case "SmtpAddonNotEnabled": return GenericErrorCodes.SmtpAddonNotEnabled;
+                case "APIConcurrentRequestLimitExceeded": return GenericErrorCodes.APIConcurrentRequestLimitExceeded;
+                case "XboxRejectedXSTSExchangeRequest": return GenericErrorCodes.XboxRejectedXSTSExchangeRequest;
+                case "VariableNotDefined": return GenericErrorCodes.VariableNotDefined;
+                case "TemplateVersionNotDefined": return GenericErrorCodes.TemplateVersionNotDefined;
+                case "FileTooLarge": return GenericErrorCodes.FileTooLarge;
+                case "TitleDeleted": return GenericErrorCodes.TitleDeleted;
+                case "TitleContainsUserAccounts": return GenericErrorCodes.TitleContainsUserAccounts;
+                case "TitleDeletionPlayerCleanupFailure": return GenericErrorCodes.TitleDeletionPlayerCleanupFailure;
+                case "EntityFileOperationPending": return GenericErrorCodes.EntityFileOperationPending;
+                case "NoEntityFileOperationPending": return GenericErrorCodes.NoEntityFileOperationPending;
+                case "EntityProfileVersionMismatch": return GenericErrorCodes.EntityProfileVersionMismatch;
+                case "TemplateVersionTooOld": return GenericErrorCodes.TemplateVersionTooOld;
+                case "MembershipDefinitionInUse": return GenericErrorCodes.MembershipDefinitionInUse;
+                case "PaymentPageNotConfigured": return GenericErrorCodes.PaymentPageNotConfigured;
+                case "FailedLoginAttemptRateLimitExceeded": return GenericErrorCodes.FailedLoginAttemptRateLimitExceeded;
+                case "EntityBlockedByGroup": return GenericErrorCodes.EntityBlockedByGroup;
+                case "RoleDoesNotExist": return GenericErrorCodes.RoleDoesNotExist;
+                case "EntityIsAlreadyMember": return GenericErrorCodes.EntityIsAlreadyMember;
+                case "DuplicateRoleId": return GenericErrorCodes.DuplicateRoleId;
+                case "GroupInvitationNotFound": return GenericErrorCodes.GroupInvitationNotFound;
+                case "GroupApplicationNotFound": return GenericErrorCodes.GroupApplicationNotFound;
+                case "OutstandingInvitationAcceptedInstead": return GenericErrorCodes.OutstandingInvitationAcceptedInstead;
+                case "OutstandingApplicationAcceptedInstead": return GenericErrorCodes.OutstandingApplicationAcceptedInstead;
+                case "RoleIsGroupDefaultMember": return GenericErrorCodes.RoleIsGroupDefaultMember;
+                case "RoleIsGroupAdmin": return GenericErrorCodes.RoleIsGroupAdmin;
+                case "RoleNameNotAvailable": return GenericErrorCodes.RoleNameNotAvailable;
+                case "GroupNameNotAvailable": return GenericErrorCodes.GroupNameNotAvailable;
+                case "EmailReportAlreadySent": return GenericErrorCodes.EmailReportAlreadySent;
+                case "EmailReportRecipientBlacklisted": return GenericErrorCodes.EmailReportRecipientBlacklisted;
+                case "EventNamespaceNotAllowed": return GenericErrorCodes.EventNamespaceNotAllowed;
+                case "EventEntityNotAllowed": return GenericErrorCodes.EventEntityNotAllowed;
+                case "InvalidEntityType": return GenericErrorCodes.InvalidEntityType;
+                case "NullTokenResultFromAad": return GenericErrorCodes.NullTokenResultFromAad;
+                case "InvalidTokenResultFromAad": return GenericErrorCodes.InvalidTokenResultFromAad;
+                case "NoValidCertificateForAad": return GenericErrorCodes.NoValidCertificateForAad;
+                case "InvalidCertificateForAad": return GenericErrorCodes.InvalidCertificateForAad;
+                case "DuplicateDropTableId": return GenericErrorCodes.DuplicateDropTableId;
+                case "MultiplayerServerError": return GenericErrorCodes.MultiplayerServerError;
+                case "MultiplayerServerTooManyRequests": return GenericErrorCodes.MultiplayerServerTooManyRequests;
+                case "MultiplayerServerNoContent": return GenericErrorCodes.MultiplayerServerNoContent;
+                case "MultiplayerServerBadRequest": return GenericErrorCodes.MultiplayerServerBadRequest;
+                case "MultiplayerServerUnauthorized": return GenericErrorCodes.MultiplayerServerUnauthorized;
+                case "MultiplayerServerForbidden": return GenericErrorCodes.MultiplayerServerForbidden;
+                case "MultiplayerServerNotFound": return GenericErrorCodes.MultiplayerServerNotFound;
+                case "MultiplayerServerConflict": return GenericErrorCodes.MultiplayerServerConflict;
+                case "MultiplayerServerInternalServerError": return GenericErrorCodes.MultiplayerServerInternalServerError;
+                case "MultiplayerServerUnavailable": return GenericErrorCodes.MultiplayerServerUnavailable;
+                case "ExplicitContentDetected": return GenericErrorCodes.ExplicitContentDetected;
+                case "PIIContentDetected": return GenericErrorCodes.PIIContentDetected;
+                case "InvalidScheduledTaskParameter": return GenericErrorCodes.InvalidScheduledTaskParameter;
+                case "PerEntityEventRateLimitExceeded": return GenericErrorCodes.PerEntityEventRateLimitExceeded;
+                case "TitleDefaultLanguageNotSet": return GenericErrorCodes.TitleDefaultLanguageNotSet;
+                case "EmailTemplateMissingDefaultVersion": return GenericErrorCodes.EmailTemplateMissingDefaultVersion;
+                case "FacebookInstantGamesIdNotLinked": return GenericErrorCodes.FacebookInstantGamesIdNotLinked;
+                case "InvalidFacebookInstantGamesSignature": return GenericErrorCodes.InvalidFacebookInstantGamesSignature;
+                case "FacebookInstantGamesAuthNotConfiguredForTitle": return GenericErrorCodes.FacebookInstantGamesAuthNotConfiguredForTitle;
+                case "MatchmakingEntityInvalid": return GenericErrorCodes.MatchmakingEntityInvalid;
+                case "MatchmakingPlayerAttributesInvalid": return GenericErrorCodes.MatchmakingPlayerAttributesInvalid;
+                case "MatchmakingCreateRequestMissing": return GenericErrorCodes.MatchmakingCreateRequestMissing;
+                case "MatchmakingCreateRequestCreatorMissing": return GenericErrorCodes.MatchmakingCreateRequestCreatorMissing;
+                case "MatchmakingCreateRequestCreatorIdMissing": return GenericErrorCodes.MatchmakingCreateRequestCreatorIdMissing;
+                case "MatchmakingCreateRequestUserListMissing": return GenericErrorCodes.MatchmakingCreateRequestUserListMissing;
+                case "MatchmakingCreateRequestGiveUpAfterInvalid": return GenericErrorCodes.MatchmakingCreateRequestGiveUpAfterInvalid;
+                case "MatchmakingTicketIdMissing": return GenericErrorCodes.MatchmakingTicketIdMissing;
+                case "MatchmakingMatchIdMissing": return GenericErrorCodes.MatchmakingMatchIdMissing;
+                case "MatchmakingMatchIdIdMissing": return GenericErrorCodes.MatchmakingMatchIdIdMissing;
+                case "MatchmakingQueueNameMissing": return GenericErrorCodes.MatchmakingQueueNameMissing;
+                case "MatchmakingTitleIdMissing": return GenericErrorCodes.MatchmakingTitleIdMissing;
+                case "MatchmakingTicketIdIdMissing": return GenericErrorCodes.MatchmakingTicketIdIdMissing;
+                case "MatchmakingPlayerIdMissing": return GenericErrorCodes.MatchmakingPlayerIdMissing;
+                case "MatchmakingJoinRequestUserMissing": return GenericErrorCodes.MatchmakingJoinRequestUserMissing;
+                case "MatchmakingQueueConfigNotFound": return GenericErrorCodes.MatchmakingQueueConfigNotFound;
+                case "MatchmakingMatchNotFound": return GenericErrorCodes.MatchmakingMatchNotFound;
+                case "MatchmakingTicketNotFound": return GenericErrorCodes.MatchmakingTicketNotFound;
+                case "MatchmakingCreateTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingCreateTicketServerIdentityInvalid;
+                case "MatchmakingCreateTicketClientIdentityInvalid": return GenericErrorCodes.MatchmakingCreateTicketClientIdentityInvalid;
+                case "MatchmakingGetTicketUserMismatch": return GenericErrorCodes.MatchmakingGetTicketUserMismatch;
+                case "MatchmakingJoinTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingJoinTicketServerIdentityInvalid;
+                case "MatchmakingJoinTicketUserIdentityMismatch": return GenericErrorCodes.MatchmakingJoinTicketUserIdentityMismatch;
+                case "MatchmakingCancelTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingCancelTicketServerIdentityInvalid;
+                case "MatchmakingCancelTicketUserIdentityMismatch": return GenericErrorCodes.MatchmakingCancelTicketUserIdentityMismatch;
+                case "MatchmakingGetMatchIdentityMismatch": return GenericErrorCodes.MatchmakingGetMatchIdentityMismatch;
+                case "MatchmakingPlayerIdentityMismatch": return GenericErrorCodes.MatchmakingPlayerIdentityMismatch;
+                case "MatchmakingAlreadyJoinedTicket": return GenericErrorCodes.MatchmakingAlreadyJoinedTicket;
+                case "MatchmakingTicketAlreadyCompleted": return GenericErrorCodes.MatchmakingTicketAlreadyCompleted;
+                case "MatchmakingQueueNameInvalid": return GenericErrorCodes.MatchmakingQueueNameInvalid;
+                case "MatchmakingQueueConfigInvalid": return GenericErrorCodes.MatchmakingQueueConfigInvalid;
+                case "MatchmakingMemberProfileInvalid": return GenericErrorCodes.MatchmakingMemberProfileInvalid;
+                case "WriteAttemptedDuringExport": return GenericErrorCodes.WriteAttemptedDuringExport;
+                case "NintendoSwitchDeviceIdNotLinked": return GenericErrorCodes.NintendoSwitchDeviceIdNotLinked;
+                case "MatchmakingNotEnabled": return GenericErrorCodes.MatchmakingNotEnabled;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<LoginIdentityProvider> LoginIdentityProviderAdapter = new TypeAdapter<LoginIdentityProvider>() {
+        public void write(JsonWriter out, LoginIdentityProvider value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public LoginIdentityProvider read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unknown": return LoginIdentityProvider.Unknown;
+                case "PlayFab": return LoginIdentityProvider.PlayFab;
+                case "Custom": return LoginIdentityProvider.Custom;
+                case "GameCenter": return LoginIdentityProvider.GameCenter;
+                case "GooglePlay": return LoginIdentityProvider.GooglePlay;
+                case "Steam": return LoginIdentityProvider.Steam;
+                case "XBoxLive": return LoginIdentityProvider.XBoxLive;
+                case "PSN": return LoginIdentityProvider.PSN;
+                case "Kongregate": return LoginIdentityProvider.Kongregate;
+                case "Facebook": return LoginIdentityProvider.Facebook;
+                case "IOSDevice": return LoginIdentityProvider.IOSDevice;
+                case "AndroidDevice": return LoginIdentityProvider.AndroidDevice;
+                case "Twitch": return LoginIdentityProvider.Twitch;
+                case "WindowsHello": return LoginIdentityProvider.WindowsHello;
+                case "GameServer": return LoginIdentityProvider.GameServer;
+                case "CustomServer": return LoginIdentityProvider.CustomServer;
+                case "NintendoSwitch": return LoginIdentityProvider.NintendoSwitch;
+                case "FacebookInstantGames": return LoginIdentityProvider.FacebookInstantGames;
+                case "OpenIdConnect": return LoginIdentityProvider.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<PushNotificationPlatform> PushNotificationPlatformAdapter = new TypeAdapter<PushNotificationPlatform>() {
+        public void write(JsonWriter out, PushNotificationPlatform value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public PushNotificationPlatform read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "ApplePushNotificationService": return PushNotificationPlatform.ApplePushNotificationService;
+                case "GoogleCloudMessaging": return PushNotificationPlatform.GoogleCloudMessaging;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<PushSetupPlatform> PushSetupPlatformAdapter = new TypeAdapter<PushSetupPlatform>() {
+        public void write(JsonWriter out, PushSetupPlatform value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public PushSetupPlatform read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "GCM": return PushSetupPlatform.GCM;
+                case "APNS": return PushSetupPlatform.APNS;
+                case "APNS_SANDBOX": return PushSetupPlatform.APNS_SANDBOX;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Region> RegionAdapter = new TypeAdapter<Region>() {
+        public void write(JsonWriter out, Region value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Region read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "USCentral": return Region.USCentral;
+                case "USEast": return Region.USEast;
+                case "EUWest": return Region.EUWest;
+                case "Singapore": return Region.Singapore;
+                case "Japan": return Region.Japan;
+                case "Brazil": return Region.Brazil;
+                case "Australia": return Region.Australia;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ResolutionOutcome> ResolutionOutcomeAdapter = new TypeAdapter<ResolutionOutcome>() {
+        public void write(JsonWriter out, ResolutionOutcome value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ResolutionOutcome read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Revoke": return ResolutionOutcome.Revoke;
+                case "Reinstate": return ResolutionOutcome.Reinstate;
+                case "Manual": return ResolutionOutcome.Manual;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ResultTableNodeType> ResultTableNodeTypeAdapter = new TypeAdapter<ResultTableNodeType>() {
+        public void write(JsonWriter out, ResultTableNodeType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ResultTableNodeType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "ItemId": return ResultTableNodeType.ItemId;
+                case "TableId": return ResultTableNodeType.TableId;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ScheduledTaskType> ScheduledTaskTypeAdapter = new TypeAdapter<ScheduledTaskType>() {
+        public void write(JsonWriter out, ScheduledTaskType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ScheduledTaskType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "CloudScript": return ScheduledTaskType.CloudScript;
+                case "ActionsOnPlayerSegment": return ScheduledTaskType.ActionsOnPlayerSegment;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<SourceType> SourceTypeAdapter = new TypeAdapter<SourceType>() {
+        public void write(JsonWriter out, SourceType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public SourceType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Admin": return SourceType.Admin;
+                case "BackEnd": return SourceType.BackEnd;
+                case "GameClient": return SourceType.GameClient;
+                case "GameServer": return SourceType.GameServer;
+                case "Partner": return SourceType.Partner;
+                case "Custom": return SourceType.Custom;
+                case "API": return SourceType.API;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<StatisticAggregationMethod> StatisticAggregationMethodAdapter = new TypeAdapter<StatisticAggregationMethod>() {
+        public void write(JsonWriter out, StatisticAggregationMethod value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public StatisticAggregationMethod read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Last": return StatisticAggregationMethod.Last;
+                case "Min": return StatisticAggregationMethod.Min;
+                case "Max": return StatisticAggregationMethod.Max;
+                case "Sum": return StatisticAggregationMethod.Sum;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<StatisticResetIntervalOption> StatisticResetIntervalOptionAdapter = new TypeAdapter<StatisticResetIntervalOption>() {
+        public void write(JsonWriter out, StatisticResetIntervalOption value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public StatisticResetIntervalOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Never": return StatisticResetIntervalOption.Never;
+                case "Hour": return StatisticResetIntervalOption.Hour;
+                case "Day": return StatisticResetIntervalOption.Day;
+                case "Week": return StatisticResetIntervalOption.Week;
+                case "Month": return StatisticResetIntervalOption.Month;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<StatisticVersionArchivalStatus> StatisticVersionArchivalStatusAdapter = new TypeAdapter<StatisticVersionArchivalStatus>() {
+        public void write(JsonWriter out, StatisticVersionArchivalStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public StatisticVersionArchivalStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "NotScheduled": return StatisticVersionArchivalStatus.NotScheduled;
+                case "Scheduled": return StatisticVersionArchivalStatus.Scheduled;
+                case "Queued": return StatisticVersionArchivalStatus.Queued;
+                case "InProgress": return StatisticVersionArchivalStatus.InProgress;
+                case "Complete": return StatisticVersionArchivalStatus.Complete;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<StatisticVersionStatus> StatisticVersionStatusAdapter = new TypeAdapter<StatisticVersionStatus>() {
+        public void write(JsonWriter out, StatisticVersionStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public StatisticVersionStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Active": return StatisticVersionStatus.Active;
+                case "SnapshotPending": return StatisticVersionStatus.SnapshotPending;
+                case "Snapshot": return StatisticVersionStatus.Snapshot;
+                case "ArchivalPending": return StatisticVersionStatus.ArchivalPending;
+                case "Archived": return StatisticVersionStatus.Archived;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<SubscriptionProviderStatus> SubscriptionProviderStatusAdapter = new TypeAdapter<SubscriptionProviderStatus>() {
+        public void write(JsonWriter out, SubscriptionProviderStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public SubscriptionProviderStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "NoError": return SubscriptionProviderStatus.NoError;
+                case "Cancelled": return SubscriptionProviderStatus.Cancelled;
+                case "UnknownError": return SubscriptionProviderStatus.UnknownError;
+                case "BillingError": return SubscriptionProviderStatus.BillingError;
+                case "ProductUnavailable": return SubscriptionProviderStatus.ProductUnavailable;
+                case "CustomerDidNotAcceptPriceChange": return SubscriptionProviderStatus.CustomerDidNotAcceptPriceChange;
+                case "FreeTrial": return SubscriptionProviderStatus.FreeTrial;
+                case "PaymentPending": return SubscriptionProviderStatus.PaymentPending;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TaskInstanceStatus> TaskInstanceStatusAdapter = new TypeAdapter<TaskInstanceStatus>() {
+        public void write(JsonWriter out, TaskInstanceStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TaskInstanceStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Succeeded": return TaskInstanceStatus.Succeeded;
+                case "Starting": return TaskInstanceStatus.Starting;
+                case "InProgress": return TaskInstanceStatus.InProgress;
+                case "Failed": return TaskInstanceStatus.Failed;
+                case "Aborted": return TaskInstanceStatus.Aborted;
+                case "Stalled": return TaskInstanceStatus.Stalled;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TitleActivationStatus> TitleActivationStatusAdapter = new TypeAdapter<TitleActivationStatus>() {
+        public void write(JsonWriter out, TitleActivationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TitleActivationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "None": return TitleActivationStatus.None;
+                case "ActivatedTitleKey": return TitleActivationStatus.ActivatedTitleKey;
+                case "PendingSteam": return TitleActivationStatus.PendingSteam;
+                case "ActivatedSteam": return TitleActivationStatus.ActivatedSteam;
+                case "RevokedSteam": return TitleActivationStatus.RevokedSteam;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserDataPermission> UserDataPermissionAdapter = new TypeAdapter<UserDataPermission>() {
+        public void write(JsonWriter out, UserDataPermission value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserDataPermission read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Private": return UserDataPermission.Private;
+                case "Public": return UserDataPermission.Public;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserOrigination> UserOriginationAdapter = new TypeAdapter<UserOrigination>() {
+        public void write(JsonWriter out, UserOrigination value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserOrigination read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Organic": return UserOrigination.Organic;
+                case "Steam": return UserOrigination.Steam;
+                case "Google": return UserOrigination.Google;
+                case "Amazon": return UserOrigination.Amazon;
+                case "Facebook": return UserOrigination.Facebook;
+                case "Kongregate": return UserOrigination.Kongregate;
+                case "GamersFirst": return UserOrigination.GamersFirst;
+                case "Unknown": return UserOrigination.Unknown;
+                case "IOS": return UserOrigination.IOS;
+                case "LoadTest": return UserOrigination.LoadTest;
+                case "Android": return UserOrigination.Android;
+                case "PSN": return UserOrigination.PSN;
+                case "GameCenter": return UserOrigination.GameCenter;
+                case "CustomId": return UserOrigination.CustomId;
+                case "XboxLive": return UserOrigination.XboxLive;
+                case "Parse": return UserOrigination.Parse;
+                case "Twitch": return UserOrigination.Twitch;
+                case "WindowsHello": return UserOrigination.WindowsHello;
+                case "ServerCustomId": return UserOrigination.ServerCustomId;
+                case "NintendoSwitchDeviceId": return UserOrigination.NintendoSwitchDeviceId;
+                case "FacebookInstantGamesId": return UserOrigination.FacebookInstantGamesId;
+                case "OpenIdConnect": return UserOrigination.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+}
@@ -6,25 +6,34 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * The Authentication APIs provide a convenient way to convert classic authentication responses into entity authentication
      * models. These APIs will provide you with the entity authentication token needed for subsequent Entity API calls.
      */
 public class PlayFabAuthenticationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @return Async Task will return GetEntityTokenResponse
+     */
+    public static FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request) {
+        return GetEntityTokenAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
      * Entity Token.
      * @param request GetEntityTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return GetEntityTokenResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+    public static FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityTokenResponse>>() {
             public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
                 return privateGetEntityTokenAsync(request);
             }
@@ -37,9 +46,20 @@ public class PlayFabAuthenticationAPI {
      * @param request GetEntityTokenRequest
      * @return GetEntityTokenResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request) {
-        FutureTask<PlayFabResult<GetEntityTokenResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+        return GetEntityToken(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityTokenResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityTokenResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityTokenResponse>>() {
             public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
                 return privateGetEntityTokenAsync(request);
             }
@@ -48,10 +68,14 @@ public class PlayFabAuthenticationAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetEntityTokenResponse> exceptionResult = new PlayFabResult<GetEntityTokenResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetEntityTokenResultType = new TypeToken<PlayFabJsonSuccess<GetEntityTokenResponse>>(){}.getType();
+
     /**
      * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
      * Entity Token.
@@ -63,7 +87,7 @@ public class PlayFabAuthenticationAPI {
         else if (PlayFabSettings.ClientSessionTicket != null) { authKey = "X-Authorization"; authValue = PlayFabSettings.ClientSessionTicket; }
         else if (PlayFabSettings.DeveloperSecretKey != null) { authKey = "X-SecretKey"; authValue = PlayFabSettings.DeveloperSecretKey; }
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Authentication/GetEntityToken"), request, authKey, authValue);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Authentication/GetEntityToken"), request, authKey, authValue, GetEntityTokenResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -74,9 +98,8 @@ public class PlayFabAuthenticationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityTokenResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = (PlayFabJsonSuccess<GetEntityTokenResponse>) httpResult;
         GetEntityTokenResponse result = resultData.data;
         PlayFabSettings.EntityToken = result.EntityToken != null ? result.EntityToken : PlayFabSettings.EntityToken;
 
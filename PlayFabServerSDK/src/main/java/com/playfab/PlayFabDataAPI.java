@@ -6,8 +6,8 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * Store arbitrary data associated with an entity. Objects are small (~1KB) JSON-compatible objects which are stored
@@ -16,16 +16,24 @@ import com.google.gson.reflect.*;
      * flexible permissions system to control read and write access by other entities.
      */
 public class PlayFabDataAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @return Async Task will return AbortFileUploadsResponse
+     */
+    public static FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request) {
+        return AbortFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Abort pending file uploads to an entity's profile.
      * @param request AbortFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return AbortFileUploadsResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+    public static FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
             public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
                 return privateAbortFileUploadsAsync(request);
             }
@@ -37,9 +45,19 @@ public class PlayFabDataAPI {
      * @param request AbortFileUploadsRequest
      * @return AbortFileUploadsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request) {
-        FutureTask<PlayFabResult<AbortFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+        return AbortFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AbortFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AbortFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
             public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
                 return privateAbortFileUploadsAsync(request);
             }
@@ -48,16 +66,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AbortFileUploadsResponse> exceptionResult = new PlayFabResult<AbortFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AbortFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<AbortFileUploadsResponse>>(){}.getType();
+
     /** Abort pending file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AbortFileUploadsResponse> privateAbortFileUploadsAsync(final AbortFileUploadsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/AbortFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/AbortFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken, AbortFileUploadsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -68,9 +90,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AbortFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = (PlayFabJsonSuccess<AbortFileUploadsResponse>) httpResult;
         AbortFileUploadsResponse result = resultData.data;
 
         PlayFabResult<AbortFileUploadsResponse> pfResult = new PlayFabResult<AbortFileUploadsResponse>();
@@ -83,9 +104,19 @@ public class PlayFabDataAPI {
      * @param request DeleteFilesRequest
      * @return Async Task will return DeleteFilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteFilesResponse>> DeleteFilesAsync(final DeleteFilesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteFilesResponse>>() {
+        return DeleteFilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteFilesResponse>> DeleteFilesAsync(final DeleteFilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteFilesResponse>>() {
             public PlayFabResult<DeleteFilesResponse> call() throws Exception {
                 return privateDeleteFilesAsync(request);
             }
@@ -97,9 +128,19 @@ public class PlayFabDataAPI {
      * @param request DeleteFilesRequest
      * @return DeleteFilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request) {
-        FutureTask<PlayFabResult<DeleteFilesResponse>> task = new FutureTask(new Callable<PlayFabResult<DeleteFilesResponse>>() {
+        return DeleteFiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteFilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteFilesResponse>>() {
             public PlayFabResult<DeleteFilesResponse> call() throws Exception {
                 return privateDeleteFilesAsync(request);
             }
@@ -108,16 +149,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteFilesResponse> exceptionResult = new PlayFabResult<DeleteFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteFilesResultType = new TypeToken<PlayFabJsonSuccess<DeleteFilesResponse>>(){}.getType();
+
     /** Delete files on an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeleteFilesResponse> privateDeleteFilesAsync(final DeleteFilesRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/DeleteFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/DeleteFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken, DeleteFilesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -128,9 +173,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteFilesResponse> resultData = (PlayFabJsonSuccess<DeleteFilesResponse>) httpResult;
         DeleteFilesResponse result = resultData.data;
 
         PlayFabResult<DeleteFilesResponse> pfResult = new PlayFabResult<DeleteFilesResponse>();
@@ -143,9 +187,19 @@ public class PlayFabDataAPI {
      * @param request FinalizeFileUploadsRequest
      * @return Async Task will return FinalizeFileUploadsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+        return FinalizeFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return FinalizeFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
             public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
                 return privateFinalizeFileUploadsAsync(request);
             }
@@ -157,9 +211,19 @@ public class PlayFabDataAPI {
      * @param request FinalizeFileUploadsRequest
      * @return FinalizeFileUploadsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
-        FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+        return FinalizeFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return FinalizeFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
             public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
                 return privateFinalizeFileUploadsAsync(request);
             }
@@ -168,16 +232,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<FinalizeFileUploadsResponse> exceptionResult = new PlayFabResult<FinalizeFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type FinalizeFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<FinalizeFileUploadsResponse>>(){}.getType();
+
     /** Finalize file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<FinalizeFileUploadsResponse> privateFinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/FinalizeFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/FinalizeFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken, FinalizeFileUploadsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -188,9 +256,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<FinalizeFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = (PlayFabJsonSuccess<FinalizeFileUploadsResponse>) httpResult;
         FinalizeFileUploadsResponse result = resultData.data;
 
         PlayFabResult<FinalizeFileUploadsResponse> pfResult = new PlayFabResult<FinalizeFileUploadsResponse>();
@@ -203,9 +270,19 @@ public class PlayFabDataAPI {
      * @param request GetFilesRequest
      * @return Async Task will return GetFilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetFilesResponse>> GetFilesAsync(final GetFilesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetFilesResponse>>() {
+        return GetFilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetFilesResponse>> GetFilesAsync(final GetFilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFilesResponse>>() {
             public PlayFabResult<GetFilesResponse> call() throws Exception {
                 return privateGetFilesAsync(request);
             }
@@ -217,9 +294,19 @@ public class PlayFabDataAPI {
      * @param request GetFilesRequest
      * @return GetFilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request) {
-        FutureTask<PlayFabResult<GetFilesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetFilesResponse>>() {
+        return GetFiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFilesResponse>>() {
             public PlayFabResult<GetFilesResponse> call() throws Exception {
                 return privateGetFilesAsync(request);
             }
@@ -228,16 +315,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetFilesResponse> exceptionResult = new PlayFabResult<GetFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFilesResultType = new TypeToken<PlayFabJsonSuccess<GetFilesResponse>>(){}.getType();
+
     /** Retrieves file metadata from an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetFilesResponse> privateGetFilesAsync(final GetFilesRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/GetFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/GetFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetFilesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -248,9 +339,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetFilesResponse> resultData = (PlayFabJsonSuccess<GetFilesResponse>) httpResult;
         GetFilesResponse result = resultData.data;
 
         PlayFabResult<GetFilesResponse> pfResult = new PlayFabResult<GetFilesResponse>();
@@ -263,9 +353,19 @@ public class PlayFabDataAPI {
      * @param request GetObjectsRequest
      * @return Async Task will return GetObjectsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetObjectsResponse>> GetObjectsAsync(final GetObjectsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetObjectsResponse>>() {
+        return GetObjectsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetObjectsResponse>> GetObjectsAsync(final GetObjectsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetObjectsResponse>>() {
             public PlayFabResult<GetObjectsResponse> call() throws Exception {
                 return privateGetObjectsAsync(request);
             }
@@ -277,9 +377,19 @@ public class PlayFabDataAPI {
      * @param request GetObjectsRequest
      * @return GetObjectsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request) {
-        FutureTask<PlayFabResult<GetObjectsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetObjectsResponse>>() {
+        return GetObjects(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetObjectsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetObjectsResponse>>() {
             public PlayFabResult<GetObjectsResponse> call() throws Exception {
                 return privateGetObjectsAsync(request);
             }
@@ -288,16 +398,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetObjectsResponse> exceptionResult = new PlayFabResult<GetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetObjectsResultType = new TypeToken<PlayFabJsonSuccess<GetObjectsResponse>>(){}.getType();
+
     /** Retrieves objects from an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetObjectsResponse> privateGetObjectsAsync(final GetObjectsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/GetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/GetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetObjectsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -308,9 +422,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetObjectsResponse> resultData = (PlayFabJsonSuccess<GetObjectsResponse>) httpResult;
         GetObjectsResponse result = resultData.data;
 
         PlayFabResult<GetObjectsResponse> pfResult = new PlayFabResult<GetObjectsResponse>();
@@ -323,9 +436,19 @@ public class PlayFabDataAPI {
      * @param request InitiateFileUploadsRequest
      * @return Async Task will return InitiateFileUploadsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploadsAsync(final InitiateFileUploadsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+        return InitiateFileUploadsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return InitiateFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploadsAsync(final InitiateFileUploadsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
             public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
                 return privateInitiateFileUploadsAsync(request);
             }
@@ -337,9 +460,19 @@ public class PlayFabDataAPI {
      * @param request InitiateFileUploadsRequest
      * @return InitiateFileUploadsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request) {
-        FutureTask<PlayFabResult<InitiateFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+        return InitiateFileUploads(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return InitiateFileUploadsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<InitiateFileUploadsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
             public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
                 return privateInitiateFileUploadsAsync(request);
             }
@@ -348,16 +481,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<InitiateFileUploadsResponse> exceptionResult = new PlayFabResult<InitiateFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type InitiateFileUploadsResultType = new TypeToken<PlayFabJsonSuccess<InitiateFileUploadsResponse>>(){}.getType();
+
     /** Initiates file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<InitiateFileUploadsResponse> privateInitiateFileUploadsAsync(final InitiateFileUploadsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/InitiateFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/InitiateFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken, InitiateFileUploadsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -368,9 +505,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InitiateFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = (PlayFabJsonSuccess<InitiateFileUploadsResponse>) httpResult;
         InitiateFileUploadsResponse result = resultData.data;
 
         PlayFabResult<InitiateFileUploadsResponse> pfResult = new PlayFabResult<InitiateFileUploadsResponse>();
@@ -383,9 +519,19 @@ public class PlayFabDataAPI {
      * @param request SetObjectsRequest
      * @return Async Task will return SetObjectsResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetObjectsResponse>> SetObjectsAsync(final SetObjectsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetObjectsResponse>>() {
+        return SetObjectsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetObjectsResponse>> SetObjectsAsync(final SetObjectsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetObjectsResponse>>() {
             public PlayFabResult<SetObjectsResponse> call() throws Exception {
                 return privateSetObjectsAsync(request);
             }
@@ -397,9 +543,19 @@ public class PlayFabDataAPI {
      * @param request SetObjectsRequest
      * @return SetObjectsResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request) {
-        FutureTask<PlayFabResult<SetObjectsResponse>> task = new FutureTask(new Callable<PlayFabResult<SetObjectsResponse>>() {
+        return SetObjects(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetObjectsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetObjectsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetObjectsResponse>>() {
             public PlayFabResult<SetObjectsResponse> call() throws Exception {
                 return privateSetObjectsAsync(request);
             }
@@ -408,16 +564,20 @@ public class PlayFabDataAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetObjectsResponse> exceptionResult = new PlayFabResult<SetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetObjectsResultType = new TypeToken<PlayFabJsonSuccess<SetObjectsResponse>>(){}.getType();
+
     /** Sets objects on an entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetObjectsResponse> privateSetObjectsAsync(final SetObjectsRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/SetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/SetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken, SetObjectsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -428,9 +588,8 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetObjectsResponse> resultData = (PlayFabJsonSuccess<SetObjectsResponse>) httpResult;
         SetObjectsResponse result = resultData.data;
 
         PlayFabResult<SetObjectsResponse> pfResult = new PlayFabResult<SetObjectsResponse>();
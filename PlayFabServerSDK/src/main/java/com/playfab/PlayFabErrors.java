@@ -467,6 +467,7 @@ public class PlayFabErrors {
         public PlayFabErrorCode pfErrorCode;
         public String errorMessage;
         public Map<String, List<String>> errorDetails;
+        public Integer retryAfterSeconds; // Sent with some throttling errors: how long to wait before calling again
     }
 
     // This is the internal definition of an error, that matches the json we receive
@@ -477,6 +478,7 @@ public class PlayFabErrors {
         public int errorCode;
         public String errorMessage;
         public Map<String, List<String>> errorDetails;
+        public Integer retryAfterSeconds;
     }
 
     public static class PlayFabJsonSuccess<E> {
@@ -0,0 +1,124 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * Write custom PlayStream events for any PlayFab entity. PlayStream events can be used for analytics, reporting,
+     * debugging, or to trigger custom actions in near real-time.
+     *
+     * Instance-scoped version of PlayFabEventsAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabEventsInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabEventsInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabEventsInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @return Async Task will return WriteEventsResponse
+     */
+    public FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request) {
+        return WriteEventsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventsResponse>>() {
+            public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                return privateWriteEventsAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @return WriteEventsResponse
+     */
+    public PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request) {
+        return WriteEvents(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream.
+     * @param request WriteEventsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventsResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventsResponse>>() {
+            public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                return privateWriteEventsAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<WriteEventsResponse> exceptionResult = new PlayFabResult<WriteEventsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type WriteEventsResultType = new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType();
+
+    /** Write batches of entity based events to PlayStream. */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<WriteEventsResponse> privateWriteEventsAsync(final WriteEventsRequest request) throws Exception {
+        if (authenticationContext.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Event/WriteEvents"), request, "X-EntityToken", authenticationContext.EntityToken, WriteEventsResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<WriteEventsResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = (PlayFabJsonSuccess<WriteEventsResponse>) httpResult;
+        WriteEventsResponse result = resultData.data;
+
+        PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -6,21 +6,29 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /** The Localization APIs give you the tools needed to manage language setup in your title. */
 public class PlayFabLocalizationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @return Async Task will return GetLanguageListResponse
+     */
+    public static FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request) {
+        return GetLanguageListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Retrieves the list of allowed languages, only accessible by title entities
      * @param request GetLanguageListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return GetLanguageListResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLanguageListResponse>>() {
+    public static FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLanguageListResponse>>() {
             public PlayFabResult<GetLanguageListResponse> call() throws Exception {
                 return privateGetLanguageListAsync(request);
             }
@@ -32,9 +40,19 @@ public class PlayFabLocalizationAPI {
      * @param request GetLanguageListRequest
      * @return GetLanguageListResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request) {
-        FutureTask<PlayFabResult<GetLanguageListResponse>> task = new FutureTask(new Callable<PlayFabResult<GetLanguageListResponse>>() {
+        return GetLanguageList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLanguageListResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLanguageListResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLanguageListResponse>>() {
             public PlayFabResult<GetLanguageListResponse> call() throws Exception {
                 return privateGetLanguageListAsync(request);
             }
@@ -43,16 +61,20 @@ public class PlayFabLocalizationAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLanguageListResponse> exceptionResult = new PlayFabResult<GetLanguageListResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLanguageListResultType = new TypeToken<PlayFabJsonSuccess<GetLanguageListResponse>>(){}.getType();
+
     /** Retrieves the list of allowed languages, only accessible by title entities */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLanguageListResponse> privateGetLanguageListAsync(final GetLanguageListRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Locale/GetLanguageList"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Locale/GetLanguageList"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetLanguageListResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -63,9 +85,8 @@ public class PlayFabLocalizationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLanguageListResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLanguageListResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetLanguageListResponse> resultData = (PlayFabJsonSuccess<GetLanguageListResponse>) httpResult;
         GetLanguageListResponse result = resultData.data;
 
         PlayFabResult<GetLanguageListResponse> pfResult = new PlayFabResult<GetLanguageListResponse>();
@@ -0,0 +1,107 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabLocalizationModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabLocalizationModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabLocalizationModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new GetLanguageListRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new GetLanguageListResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(GetLanguageListRequest.class, 0);
+        ids.put(GetLanguageListResponse.class, 1);
+    }
+
+    static final class GetLanguageListRequestAdapter extends TypeAdapter<GetLanguageListRequest> {
+        GetLanguageListRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLanguageListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetLanguageListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLanguageListRequest value = new GetLanguageListRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLanguageListResponseAdapter extends TypeAdapter<GetLanguageListResponse> {
+        GetLanguageListResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLanguageListResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LanguageList != null) {
+                out.name("LanguageList");
+                PlayFabModelAdapters.writeList(out, value.LanguageList, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetLanguageListResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLanguageListResponse value = new GetLanguageListResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LanguageList": value.LanguageList = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
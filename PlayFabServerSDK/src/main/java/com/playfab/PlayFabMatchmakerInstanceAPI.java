@@ -0,0 +1,462 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabMatchmakerModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
+
+    /**
+     * Enables the use of an external match-making service in conjunction with PlayFab hosted Game Server instances
+     *
+     * Instance-scoped version of PlayFabMatchmakerAPI: title configuration comes from the PlayFabApiSettings and the player session from
+     * the PlayFabAuthenticationContext given at construction, instead of from the PlayFabSettings statics
+     */
+public class PlayFabMatchmakerInstanceAPI {
+    private final PlayFabApiSettings settings;
+    private final PlayFabAuthenticationContext authenticationContext;
+
+    public PlayFabMatchmakerInstanceAPI(PlayFabApiSettings settings) {
+        this(settings, new PlayFabAuthenticationContext());
+    }
+
+    public PlayFabMatchmakerInstanceAPI(PlayFabApiSettings settings, PlayFabAuthenticationContext authenticationContext) {
+        if (settings == null) throw new IllegalArgumentException("settings");
+        if (authenticationContext == null) throw new IllegalArgumentException("authenticationContext");
+        this.settings = settings;
+        this.authenticationContext = authenticationContext;
+    }
+
+    public PlayFabApiSettings getSettings() {
+        return settings;
+    }
+
+    public PlayFabAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @return Async Task will return AuthUserResponse
+     */
+    public FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request) {
+        return AuthUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AuthUserResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthUserResponse>>() {
+            public PlayFabResult<AuthUserResponse> call() throws Exception {
+                return privateAuthUserAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @return AuthUserResponse
+     */
+    public PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request) {
+        return AuthUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AuthUserResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AuthUserResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthUserResponse>>() {
+            public PlayFabResult<AuthUserResponse> call() throws Exception {
+                return privateAuthUserAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<AuthUserResponse> exceptionResult = new PlayFabResult<AuthUserResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type AuthUserResultType = new TypeToken<PlayFabJsonSuccess<AuthUserResponse>>(){}.getType();
+
+    /** Validates a user with the PlayFab service */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<AuthUserResponse> privateAuthUserAsync(final AuthUserRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Matchmaker/AuthUser"), request, "X-SecretKey", settings.DeveloperSecretKey, AuthUserResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<AuthUserResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<AuthUserResponse> resultData = (PlayFabJsonSuccess<AuthUserResponse>) httpResult;
+        AuthUserResponse result = resultData.data;
+
+        PlayFabResult<AuthUserResponse> pfResult = new PlayFabResult<AuthUserResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @return Async Task will return PlayerJoinedResponse
+     */
+    public FutureTask<PlayFabResult<PlayerJoinedResponse>> PlayerJoinedAsync(final PlayerJoinedRequest request) {
+        return PlayerJoinedAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PlayerJoinedResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<PlayerJoinedResponse>> PlayerJoinedAsync(final PlayerJoinedRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+            public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
+                return privatePlayerJoinedAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @return PlayerJoinedResponse
+     */
+    public PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request) {
+        return PlayerJoined(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PlayerJoinedResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PlayerJoinedResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+            public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
+                return privatePlayerJoinedAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<PlayerJoinedResponse> exceptionResult = new PlayFabResult<PlayerJoinedResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type PlayerJoinedResultType = new TypeToken<PlayFabJsonSuccess<PlayerJoinedResponse>>(){}.getType();
+
+    /** Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<PlayerJoinedResponse> privatePlayerJoinedAsync(final PlayerJoinedRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Matchmaker/PlayerJoined"), request, "X-SecretKey", settings.DeveloperSecretKey, PlayerJoinedResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<PlayerJoinedResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<PlayerJoinedResponse> resultData = (PlayFabJsonSuccess<PlayerJoinedResponse>) httpResult;
+        PlayerJoinedResponse result = resultData.data;
+
+        PlayFabResult<PlayerJoinedResponse> pfResult = new PlayFabResult<PlayerJoinedResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @return Async Task will return PlayerLeftResponse
+     */
+    public FutureTask<PlayFabResult<PlayerLeftResponse>> PlayerLeftAsync(final PlayerLeftRequest request) {
+        return PlayerLeftAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return PlayerLeftResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<PlayerLeftResponse>> PlayerLeftAsync(final PlayerLeftRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerLeftResponse>>() {
+            public PlayFabResult<PlayerLeftResponse> call() throws Exception {
+                return privatePlayerLeftAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @return PlayerLeftResponse
+     */
+    public PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request) {
+        return PlayerLeft(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return PlayerLeftResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<PlayerLeftResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<PlayerLeftResponse>>() {
+            public PlayFabResult<PlayerLeftResponse> call() throws Exception {
+                return privatePlayerLeftAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<PlayerLeftResponse> exceptionResult = new PlayFabResult<PlayerLeftResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type PlayerLeftResultType = new TypeToken<PlayFabJsonSuccess<PlayerLeftResponse>>(){}.getType();
+
+    /** Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<PlayerLeftResponse> privatePlayerLeftAsync(final PlayerLeftRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Matchmaker/PlayerLeft"), request, "X-SecretKey", settings.DeveloperSecretKey, PlayerLeftResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<PlayerLeftResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<PlayerLeftResponse> resultData = (PlayFabJsonSuccess<PlayerLeftResponse>) httpResult;
+        PlayerLeftResponse result = resultData.data;
+
+        PlayFabResult<PlayerLeftResponse> pfResult = new PlayFabResult<PlayerLeftResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @return Async Task will return StartGameResponse
+     */
+    public FutureTask<PlayFabResult<StartGameResponse>> StartGameAsync(final StartGameRequest request) {
+        return StartGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return StartGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<StartGameResponse>> StartGameAsync(final StartGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResponse>>() {
+            public PlayFabResult<StartGameResponse> call() throws Exception {
+                return privateStartGameAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @return StartGameResponse
+     */
+    public PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request) {
+        return StartGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return StartGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<StartGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<StartGameResponse>>() {
+            public PlayFabResult<StartGameResponse> call() throws Exception {
+                return privateStartGameAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<StartGameResponse> exceptionResult = new PlayFabResult<StartGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type StartGameResultType = new TypeToken<PlayFabJsonSuccess<StartGameResponse>>(){}.getType();
+
+    /** Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<StartGameResponse> privateStartGameAsync(final StartGameRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Matchmaker/StartGame"), request, "X-SecretKey", settings.DeveloperSecretKey, StartGameResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<StartGameResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<StartGameResponse> resultData = (PlayFabJsonSuccess<StartGameResponse>) httpResult;
+        StartGameResponse result = resultData.data;
+
+        PlayFabResult<StartGameResponse> pfResult = new PlayFabResult<StartGameResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @return Async Task will return UserInfoResponse
+     */
+    public FutureTask<PlayFabResult<UserInfoResponse>> UserInfoAsync(final UserInfoRequest request) {
+        return UserInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UserInfoResponse
+     */
+    @SuppressWarnings("unchecked")
+    public FutureTask<PlayFabResult<UserInfoResponse>> UserInfoAsync(final UserInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UserInfoResponse>>() {
+            public PlayFabResult<UserInfoResponse> call() throws Exception {
+                return privateUserInfoAsync(request);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @return UserInfoResponse
+     */
+    public PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request) {
+        return UserInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UserInfoResponse
+     */
+    @SuppressWarnings("unchecked")
+    public PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UserInfoResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UserInfoResponse>>() {
+            public PlayFabResult<UserInfoResponse> call() throws Exception {
+                return privateUserInfoAsync(request);
+            }
+        });
+        try {
+            task.run();
+            return task.get();
+        } catch(Exception e) {
+            PlayFabResult<UserInfoResponse> exceptionResult = new PlayFabResult<UserInfoResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
+        }
+    }
+
+    private static final Type UserInfoResultType = new TypeToken<PlayFabJsonSuccess<UserInfoResponse>>(){}.getType();
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     */
+    @SuppressWarnings("unchecked")
+    private PlayFabResult<UserInfoResponse> privateUserInfoAsync(final UserInfoRequest request) throws Exception {
+        if (settings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabApiSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(settings.GetURL("/Matchmaker/UserInfo"), request, "X-SecretKey", settings.DeveloperSecretKey, UserInfoResultType);
+        task.run();
+        Object httpResult = task.get();
+        if (httpResult instanceof PlayFabError) {
+            PlayFabError error = (PlayFabError)httpResult;
+            if (PlayFabSettings.GlobalErrorHandler != null)
+                PlayFabSettings.GlobalErrorHandler.callback(error);
+            PlayFabResult result = new PlayFabResult<UserInfoResponse>();
+            result.Error = error;
+            return result;
+        }
+
+        PlayFabJsonSuccess<UserInfoResponse> resultData = (PlayFabJsonSuccess<UserInfoResponse>) httpResult;
+        UserInfoResponse result = resultData.data;
+
+        PlayFabResult<UserInfoResponse> pfResult = new PlayFabResult<UserInfoResponse>();
+        pfResult.Result = result;
+        return pfResult;
+    }
+}
@@ -0,0 +1,690 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabMatchmakerModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabMatchmakerModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabMatchmakerModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AuthUserRequestAdapter(gson);
+                case 1: return (TypeAdapter<T>) new AuthUserResponseAdapter(gson);
+                case 2: return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case 3: return (TypeAdapter<T>) new PlayerJoinedRequestAdapter(gson);
+                case 4: return (TypeAdapter<T>) new PlayerJoinedResponseAdapter(gson);
+                case 5: return (TypeAdapter<T>) new PlayerLeftRequestAdapter(gson);
+                case 6: return (TypeAdapter<T>) new PlayerLeftResponseAdapter(gson);
+                case 7: return (TypeAdapter<T>) new StartGameRequestAdapter(gson);
+                case 8: return (TypeAdapter<T>) new StartGameResponseAdapter(gson);
+                case 9: return (TypeAdapter<T>) new UserInfoRequestAdapter(gson);
+                case 10: return (TypeAdapter<T>) new UserInfoResponseAdapter(gson);
+                case 11: return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case 12: return (TypeAdapter<T>) RegionAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AuthUserRequest.class, 0);
+        ids.put(AuthUserResponse.class, 1);
+        ids.put(ItemInstance.class, 2);
+        ids.put(PlayerJoinedRequest.class, 3);
+        ids.put(PlayerJoinedResponse.class, 4);
+        ids.put(PlayerLeftRequest.class, 5);
+        ids.put(PlayerLeftResponse.class, 6);
+        ids.put(StartGameRequest.class, 7);
+        ids.put(StartGameResponse.class, 8);
+        ids.put(UserInfoRequest.class, 9);
+        ids.put(UserInfoResponse.class, 10);
+        ids.put(VirtualCurrencyRechargeTime.class, 11);
+        ids.put(Region.class, 12);
+    }
+
+    static final class AuthUserRequestAdapter extends TypeAdapter<AuthUserRequest> {
+        AuthUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AuthUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AuthorizationTicket != null) {
+                out.name("AuthorizationTicket");
+                out.value(value.AuthorizationTicket);
+            }
+            out.endObject();
+        }
+
+        public AuthUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthUserRequest value = new AuthUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AuthorizationTicket": value.AuthorizationTicket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AuthUserResponseAdapter extends TypeAdapter<AuthUserResponse> {
+        AuthUserResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AuthUserResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Authorized != null) {
+                out.name("Authorized");
+                out.value(value.Authorized.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public AuthUserResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthUserResponse value = new AuthUserResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Authorized": value.Authorized = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerJoinedRequestAdapter extends TypeAdapter<PlayerJoinedRequest> {
+        PlayerJoinedRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerJoinedRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public PlayerJoinedRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerJoinedRequest value = new PlayerJoinedRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerJoinedResponseAdapter extends TypeAdapter<PlayerJoinedResponse> {
+        PlayerJoinedResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerJoinedResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public PlayerJoinedResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerJoinedResponse value = new PlayerJoinedResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLeftRequestAdapter extends TypeAdapter<PlayerLeftRequest> {
+        PlayerLeftRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerLeftRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public PlayerLeftRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeftRequest value = new PlayerLeftRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLeftResponseAdapter extends TypeAdapter<PlayerLeftResponse> {
+        PlayerLeftResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerLeftResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public PlayerLeftResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeftResponse value = new PlayerLeftResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartGameRequestAdapter extends TypeAdapter<StartGameRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        StartGameRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, StartGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Build != null) {
+                out.name("Build");
+                out.value(value.Build);
+            }
+            if (value.CustomCommandLineData != null) {
+                out.name("CustomCommandLineData");
+                out.value(value.CustomCommandLineData);
+            }
+            if (value.ExternalMatchmakerEventEndpoint != null) {
+                out.name("ExternalMatchmakerEventEndpoint");
+                out.value(value.ExternalMatchmakerEventEndpoint);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            out.endObject();
+        }
+
+        public StartGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameRequest value = new StartGameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Build": value.Build = PlayFabModelAdapters.readString(in); break;
+                    case "CustomCommandLineData": value.CustomCommandLineData = PlayFabModelAdapters.readString(in); break;
+                    case "ExternalMatchmakerEventEndpoint": value.ExternalMatchmakerEventEndpoint = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StartGameResponseAdapter extends TypeAdapter<StartGameResponse> {
+        StartGameResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StartGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameID != null) {
+                out.name("GameID");
+                out.value(value.GameID);
+            }
+            if (value.ServerHostname != null) {
+                out.name("ServerHostname");
+                out.value(value.ServerHostname);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            out.endObject();
+        }
+
+        public StartGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameResponse value = new StartGameResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameID": value.GameID = PlayFabModelAdapters.readString(in); break;
+                    case "ServerHostname": value.ServerHostname = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readLong(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserInfoRequestAdapter extends TypeAdapter<UserInfoRequest> {
+        UserInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MinCatalogVersion != null) {
+                out.name("MinCatalogVersion");
+                out.value(value.MinCatalogVersion);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UserInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserInfoRequest value = new UserInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MinCatalogVersion": value.MinCatalogVersion = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserInfoResponseAdapter extends TypeAdapter<UserInfoResponse> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        UserInfoResponseAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, UserInfoResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.IsDeveloper != null) {
+                out.name("IsDeveloper");
+                out.value(value.IsDeveloper.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SteamId != null) {
+                out.name("SteamId");
+                out.value(value.SteamId);
+            }
+            if (value.TitleDisplayName != null) {
+                out.name("TitleDisplayName");
+                out.value(value.TitleDisplayName);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public UserInfoResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserInfoResponse value = new UserInfoResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "IsDeveloper": value.IsDeveloper = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SteamId": value.SteamId = PlayFabModelAdapters.readString(in); break;
+                    case "TitleDisplayName": value.TitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RechargeMax != null) {
+                out.name("RechargeMax");
+                out.value(value.RechargeMax);
+            }
+            if (value.RechargeTime != null) {
+                out.name("RechargeTime");
+                dateAdapter.write(out, value.RechargeTime);
+            }
+            if (value.SecondsToRecharge != null) {
+                out.name("SecondsToRecharge");
+                out.value(value.SecondsToRecharge);
+            }
+            out.endObject();
+        }
+
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RechargeMax": value.RechargeMax = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                    case "SecondsToRecharge": value.SecondsToRecharge = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<Region> RegionAdapter = new TypeAdapter<Region>() {
+        public void write(JsonWriter out, Region value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Region read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "USCentral": return Region.USCentral;
+                case "USEast": return Region.USEast;
+                case "EUWest": return Region.EUWest;
+                case "Singapore": return Region.Singapore;
+                case "Japan": return Region.Japan;
+                case "Brazil": return Region.Brazil;
+                case "Australia": return Region.Australia;
+                default: return null;
+            }
+        }
+    };
+}
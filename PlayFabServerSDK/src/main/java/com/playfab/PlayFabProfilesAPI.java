@@ -6,24 +6,32 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * All PlayFab entities have profiles, which hold top-level properties about the entity. These APIs give you the tools
      * needed to manage entity profiles.
      */
 public class PlayFabProfilesAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @return Async Task will return GetGlobalPolicyResponse
+     */
+    public static FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request) {
+        return GetGlobalPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Gets the global title access policy
      * @param request GetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return GetGlobalPolicyResponse
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+    public static FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
             public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
                 return privateGetGlobalPolicyAsync(request);
             }
@@ -35,9 +43,19 @@ public class PlayFabProfilesAPI {
      * @param request GetGlobalPolicyRequest
      * @return GetGlobalPolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
-        FutureTask<PlayFabResult<GetGlobalPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+        return GetGlobalPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetGlobalPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
             public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
                 return privateGetGlobalPolicyAsync(request);
             }
@@ -46,16 +64,20 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetGlobalPolicyResponse> exceptionResult = new PlayFabResult<GetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetGlobalPolicyResultType = new TypeToken<PlayFabJsonSuccess<GetGlobalPolicyResponse>>(){}.getType();
+
     /** Gets the global title access policy */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetGlobalPolicyResponse> privateGetGlobalPolicyAsync(final GetGlobalPolicyRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetGlobalPolicyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -66,9 +88,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<GetGlobalPolicyResponse>) httpResult;
         GetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<GetGlobalPolicyResponse> pfResult = new PlayFabResult<GetGlobalPolicyResponse>();
@@ -81,9 +102,19 @@ public class PlayFabProfilesAPI {
      * @param request GetEntityProfileRequest
      * @return Async Task will return GetEntityProfileResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetEntityProfileResponse>> GetProfileAsync(final GetEntityProfileRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+        return GetProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetEntityProfileResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetEntityProfileResponse>> GetProfileAsync(final GetEntityProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfileResponse>>() {
             public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
                 return privateGetProfileAsync(request);
             }
@@ -95,9 +126,19 @@ public class PlayFabProfilesAPI {
      * @param request GetEntityProfileRequest
      * @return GetEntityProfileResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request) {
-        FutureTask<PlayFabResult<GetEntityProfileResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+        return GetProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityProfileResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityProfileResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfileResponse>>() {
             public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
                 return privateGetProfileAsync(request);
             }
@@ -106,16 +147,20 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetEntityProfileResponse> exceptionResult = new PlayFabResult<GetEntityProfileResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetProfileResultType = new TypeToken<PlayFabJsonSuccess<GetEntityProfileResponse>>(){}.getType();
+
     /** Retrieves the entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetEntityProfileResponse> privateGetProfileAsync(final GetEntityProfileRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfile"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfile"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetProfileResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -126,9 +171,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfileResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = (PlayFabJsonSuccess<GetEntityProfileResponse>) httpResult;
         GetEntityProfileResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfileResponse> pfResult = new PlayFabResult<GetEntityProfileResponse>();
@@ -141,9 +185,19 @@ public class PlayFabProfilesAPI {
      * @param request GetEntityProfilesRequest
      * @return Async Task will return GetEntityProfilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetEntityProfilesResponse>> GetProfilesAsync(final GetEntityProfilesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+        return GetProfilesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetEntityProfilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetEntityProfilesResponse>> GetProfilesAsync(final GetEntityProfilesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
             public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
                 return privateGetProfilesAsync(request);
             }
@@ -155,9 +209,19 @@ public class PlayFabProfilesAPI {
      * @param request GetEntityProfilesRequest
      * @return GetEntityProfilesResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request) {
-        FutureTask<PlayFabResult<GetEntityProfilesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+        return GetProfiles(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetEntityProfilesResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetEntityProfilesResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
             public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
                 return privateGetProfilesAsync(request);
             }
@@ -166,16 +230,20 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetEntityProfilesResponse> exceptionResult = new PlayFabResult<GetEntityProfilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetProfilesResultType = new TypeToken<PlayFabJsonSuccess<GetEntityProfilesResponse>>(){}.getType();
+
     /** Retrieves the entity's profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetEntityProfilesResponse> privateGetProfilesAsync(final GetEntityProfilesRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfiles"), request, "X-EntityToken", PlayFabSettings.EntityToken, GetProfilesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -186,9 +254,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = (PlayFabJsonSuccess<GetEntityProfilesResponse>) httpResult;
         GetEntityProfilesResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfilesResponse> pfResult = new PlayFabResult<GetEntityProfilesResponse>();
@@ -201,9 +268,19 @@ public class PlayFabProfilesAPI {
      * @param request SetGlobalPolicyRequest
      * @return Async Task will return SetGlobalPolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicyAsync(final SetGlobalPolicyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+        return SetGlobalPolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicyAsync(final SetGlobalPolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
             public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
                 return privateSetGlobalPolicyAsync(request);
             }
@@ -215,9 +292,19 @@ public class PlayFabProfilesAPI {
      * @param request SetGlobalPolicyRequest
      * @return SetGlobalPolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
-        FutureTask<PlayFabResult<SetGlobalPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+        return SetGlobalPolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGlobalPolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGlobalPolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
             public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
                 return privateSetGlobalPolicyAsync(request);
             }
@@ -226,16 +313,20 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetGlobalPolicyResponse> exceptionResult = new PlayFabResult<SetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetGlobalPolicyResultType = new TypeToken<PlayFabJsonSuccess<SetGlobalPolicyResponse>>(){}.getType();
+
     /** Sets the global title access policy */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetGlobalPolicyResponse> privateSetGlobalPolicyAsync(final SetGlobalPolicyRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken, SetGlobalPolicyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -246,9 +337,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<SetGlobalPolicyResponse>) httpResult;
         SetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<SetGlobalPolicyResponse> pfResult = new PlayFabResult<SetGlobalPolicyResponse>();
@@ -262,9 +352,20 @@ public class PlayFabProfilesAPI {
      * @param request SetProfileLanguageRequest
      * @return Async Task will return SetProfileLanguageResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguageAsync(final SetProfileLanguageRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+        return SetProfileLanguageAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetProfileLanguageResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguageAsync(final SetProfileLanguageRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
             public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
                 return privateSetProfileLanguageAsync(request);
             }
@@ -277,9 +378,20 @@ public class PlayFabProfilesAPI {
      * @param request SetProfileLanguageRequest
      * @return SetProfileLanguageResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request) {
-        FutureTask<PlayFabResult<SetProfileLanguageResponse>> task = new FutureTask(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+        return SetProfileLanguage(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetProfileLanguageResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetProfileLanguageResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
             public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
                 return privateSetProfileLanguageAsync(request);
             }
@@ -288,10 +400,14 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetProfileLanguageResponse> exceptionResult = new PlayFabResult<SetProfileLanguageResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetProfileLanguageResultType = new TypeToken<PlayFabJsonSuccess<SetProfileLanguageResponse>>(){}.getType();
+
     /**
      * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
      * language, Master Player Account language, and then title default language if the first two aren't set or supported.
@@ -300,7 +416,7 @@ public class PlayFabProfilesAPI {
     private static PlayFabResult<SetProfileLanguageResponse> privateSetProfileLanguageAsync(final SetProfileLanguageRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfileLanguage"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfileLanguage"), request, "X-EntityToken", PlayFabSettings.EntityToken, SetProfileLanguageResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -311,9 +427,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetProfileLanguageResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = (PlayFabJsonSuccess<SetProfileLanguageResponse>) httpResult;
         SetProfileLanguageResponse result = resultData.data;
 
         PlayFabResult<SetProfileLanguageResponse> pfResult = new PlayFabResult<SetProfileLanguageResponse>();
@@ -326,9 +441,19 @@ public class PlayFabProfilesAPI {
      * @param request SetEntityProfilePolicyRequest
      * @return Async Task will return SetEntityProfilePolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+        return SetProfilePolicyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetEntityProfilePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicyAsync(final SetEntityProfilePolicyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
             public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
                 return privateSetProfilePolicyAsync(request);
             }
@@ -340,9 +465,19 @@ public class PlayFabProfilesAPI {
      * @param request SetEntityProfilePolicyRequest
      * @return SetEntityProfilePolicyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
-        FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+        return SetProfilePolicy(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetEntityProfilePolicyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
             public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
                 return privateSetProfilePolicyAsync(request);
             }
@@ -351,16 +486,20 @@ public class PlayFabProfilesAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetEntityProfilePolicyResponse> exceptionResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetProfilePolicyResultType = new TypeToken<PlayFabJsonSuccess<SetEntityProfilePolicyResponse>>(){}.getType();
+
     /** Sets the profiles access policy */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetEntityProfilePolicyResponse> privateSetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) throws Exception {
         if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfilePolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfilePolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken, SetProfilePolicyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -371,9 +510,8 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetEntityProfilePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = (PlayFabJsonSuccess<SetEntityProfilePolicyResponse>) httpResult;
         SetEntityProfilePolicyResponse result = resultData.data;
 
         PlayFabResult<SetEntityProfilePolicyResponse> pfResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
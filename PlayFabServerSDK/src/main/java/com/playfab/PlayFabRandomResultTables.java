@@ -0,0 +1,253 @@
+package com.playfab;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.playfab.internal.PlayFabAliasTable;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * Evaluates random result tables locally instead of calling EvaluateRandomResultTable for every drop. refresh() loads the
+ * tables once through GetRandomResultTables, along with every table they reference, and flattens each one, nested tables
+ * included, into an alias table over the items it can drop, so evaluate is O(1) and makes no call:
+ *     PlayFabRandomResultTables tables = new PlayFabRandomResultTables(null, Arrays.asList("BossLoot", "Chest"));
+ *     PlayFabErrors.PlayFabError error = tables.refresh();
+ *     String itemId = tables.evaluate("BossLoot");
+ *
+ * While verifyRate is above 0, that share of evaluations is also made by PlayFab in the background. Since each drop is
+ * random the answers cannot be compared one for one; instead, a server drop the local table could never have produced
+ * means the tables have changed, and they are reloaded
+ */
+public class PlayFabRandomResultTables {
+    private static final ThreadLocal<Random> random = new ThreadLocal<Random>() {
+        protected Random initialValue() {
+            return new Random(); // ThreadLocalRandom only exists from Android API 21
+        }
+    };
+
+    public volatile double verifyRate = 0; // The share of evaluations to verify against PlayFab, from 0 to 1
+
+    private final PlayFabServerInstanceAPI api;
+    private final String catalogVersion;
+    private final List<String> tableIds;
+    private final AtomicReference<Map<String, PlayFabAliasTable<String>>> tables = new AtomicReference<Map<String, PlayFabAliasTable<String>>>();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong mismatches = new AtomicLong();
+    private final AtomicLong verifyErrors = new AtomicLong();
+
+    /**
+     * @param catalogVersion The catalog version the tables belong to, or null for the title's primary catalog
+     * @param tableIds The tables to evaluate; the tables they reference are loaded with them
+     */
+    public PlayFabRandomResultTables(String catalogVersion, List<String> tableIds) {
+        this(null, catalogVersion, tableIds);
+    }
+
+    /** @param api The instance API to load and verify the tables with, or null to use PlayFabServerAPI */
+    public PlayFabRandomResultTables(PlayFabServerInstanceAPI api, String catalogVersion, List<String> tableIds) {
+        this.api = api;
+        this.catalogVersion = catalogVersion;
+        this.tableIds = Collections.unmodifiableList(new ArrayList<String>(tableIds));
+    }
+
+    /**
+     * Loads the tables and every table they reference, then swaps them in at once
+     * @return null once the tables are in place, or the error that kept them from loading; the previous tables are kept
+     */
+    public PlayFabError refresh() {
+        Map<String, RandomResultTableListing> listings = new HashMap<String, RandomResultTableListing>();
+        Set<String> wanted = new TreeSet<String>(tableIds);
+        while (!wanted.isEmpty()) {
+            GetRandomResultTablesRequest request = new GetRandomResultTablesRequest();
+            request.CatalogVersion = catalogVersion;
+            request.TableIDs = new ArrayList<String>(wanted);
+            PlayFabResult<GetRandomResultTablesResult> result = api != null ? api.GetRandomResultTables(request) : PlayFabServerAPI.GetRandomResultTables(request);
+            if (result != null && result.Error != null)
+                return result.Error;
+            if (result == null || result.Result == null)
+                return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.Unknown, "GetRandomResultTables returned no result", null);
+            if (result.Result.Tables != null)
+                listings.putAll(result.Result.Tables);
+
+            Set<String> referenced = new TreeSet<String>();
+            for (String tableId : wanted) {
+                RandomResultTableListing listing = listings.get(tableId);
+                if (listing == null)
+                    return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.InvalidDropTable, "Random result table " + tableId + " was not found", null);
+                if (listing.Nodes == null)
+                    continue;
+                for (ResultTableNode node : listing.Nodes)
+                    if (node.ResultItemType == ResultTableNodeType.TableId && node.ResultItem != null && !listings.containsKey(node.ResultItem))
+                        referenced.add(node.ResultItem);
+            }
+            wanted = referenced;
+        }
+
+        try {
+            tables.set(compile(listings));
+        } catch (IllegalArgumentException e) {
+            return PlayFabHTTP.GeneratePfError(0, PlayFabErrorCode.InvalidDropTable, e.getMessage(), null);
+        }
+        return null;
+    }
+
+    /** Builds an alias table per listing, over the items it drops through every table it nests */
+    static Map<String, PlayFabAliasTable<String>> compile(Map<String, RandomResultTableListing> listings) {
+        Map<String, Map<String, Double>> distributions = new HashMap<String, Map<String, Double>>();
+        Map<String, PlayFabAliasTable<String>> output = new HashMap<String, PlayFabAliasTable<String>>();
+        for (String tableId : listings.keySet()) {
+            Map<String, Double> distribution = distribution(tableId, listings, distributions, new HashSet<String>());
+            List<String> items = new ArrayList<String>(distribution.keySet());
+            double[] weights = new double[items.size()];
+            for (int i = 0; i < weights.length; i++)
+                weights[i] = distribution.get(items.get(i));
+            output.put(tableId, new PlayFabAliasTable<String>(items, weights));
+        }
+        return Collections.unmodifiableMap(output);
+    }
+
+    // The chance of each item a table drops, with nested tables expanded into their items
+    private static Map<String, Double> distribution(String tableId, Map<String, RandomResultTableListing> listings, Map<String, Map<String, Double>> done, Set<String> visiting) {
+        Map<String, Double> output = done.get(tableId);
+        if (output != null)
+            return output;
+        if (!visiting.add(tableId))
+            throw new IllegalArgumentException("Random result table " + tableId + " is part of a reference cycle");
+        RandomResultTableListing listing = listings.get(tableId);
+        if (listing == null)
+            throw new IllegalArgumentException("Random result table " + tableId + " was not found");
+
+        double total = 0;
+        if (listing.Nodes != null)
+            for (ResultTableNode node : listing.Nodes)
+                if (node.Weight != null && node.Weight > 0)
+                    total += node.Weight;
+        if (total <= 0)
+            throw new IllegalArgumentException("Random result table " + tableId + " has no weighted entries");
+
+        output = new LinkedHashMap<String, Double>();
+        for (ResultTableNode node : listing.Nodes) {
+            if (node.Weight == null || node.Weight <= 0)
+                continue;
+            double chance = node.Weight / total;
+            if (node.ResultItemType == ResultTableNodeType.TableId) {
+                for (Map.Entry<String, Double> pair : distribution(node.ResultItem, listings, done, visiting).entrySet())
+                    add(output, pair.getKey(), chance * pair.getValue());
+            } else {
+                add(output, node.ResultItem, chance);
+            }
+        }
+        visiting.remove(tableId);
+        done.put(tableId, output);
+        return output;
+    }
+
+    private static void add(Map<String, Double> distribution, String itemId, double chance) {
+        Double current = distribution.get(itemId);
+        distribution.put(itemId, current != null ? current + chance : chance);
+    }
+
+    /** The item a table drops, chosen locally; null when the table is not loaded */
+    public String evaluate(String tableId) {
+        Map<String, PlayFabAliasTable<String>> current = tables.get();
+        PlayFabAliasTable<String> table = current != null ? current.get(tableId) : null;
+        if (table == null)
+            return null;
+        evaluations.incrementAndGet();
+        Random generator = random.get();
+        double rate = verifyRate;
+        if (rate > 0 && generator.nextDouble() < rate)
+            verify(tableId, table);
+        return table.sample(generator);
+    }
+
+    private void verify(final String tableId, final PlayFabAliasTable<String> table) {
+        Runnable check = new Runnable() {
+            public void run() {
+                try {
+                    check(tableId, table);
+                } catch (Exception e) {
+                    verifyErrors.incrementAndGet(); // Nothing waits on a verification, so this is the only place its failure shows
+                }
+            }
+        };
+        try {
+            PlayFabAsync.getExecutor().execute(check);
+        } catch (RejectedExecutionException e) {
+            verifyErrors.incrementAndGet();
+        }
+    }
+
+    // Has PlayFab evaluate the table, and reloads the tables when it drops an item the local table could never have produced
+    private void check(String tableId, PlayFabAliasTable<String> table) {
+        EvaluateRandomResultTableRequest request = new EvaluateRandomResultTableRequest();
+        request.CatalogVersion = catalogVersion;
+        request.TableId = tableId;
+        PlayFabResult<EvaluateRandomResultTableResult> result = api != null ? api.EvaluateRandomResultTable(request) : PlayFabServerAPI.EvaluateRandomResultTable(request);
+        verifications.incrementAndGet();
+        if (result == null || result.Error != null || result.Result == null) {
+            verifyErrors.incrementAndGet();
+            return;
+        }
+        if (table.getOutcomes().contains(result.Result.ResultItemId))
+            return;
+        mismatches.incrementAndGet();
+        if (reloading.compareAndSet(false, true)) {
+            try {
+                refresh();
+            } finally {
+                reloading.set(false);
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return tables.get() != null;
+    }
+
+    /** The tables requested; getLoadedTableIds also includes the tables they reference */
+    public List<String> getTableIds() {
+        return tableIds;
+    }
+
+    public Set<String> getLoadedTableIds() {
+        Map<String, PlayFabAliasTable<String>> current = tables.get();
+        return current != null ? current.keySet() : Collections.<String>emptySet();
+    }
+
+    /** The chance of each item a table drops, nested tables included; empty when the table is not loaded */
+    public Map<String, Double> getDropChances(String tableId) {
+        Map<String, PlayFabAliasTable<String>> current = tables.get();
+        PlayFabAliasTable<String> table = current != null ? current.get(tableId) : null;
+        Map<String, Double> output = new LinkedHashMap<String, Double>();
+        if (table == null)
+            return output;
+        double[] chances = table.getProbabilities();
+        for (int i = 0; i < chances.length; i++)
+            output.put(table.getOutcomes().get(i), chances[i]);
+        return output;
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.evaluations = evaluations.get();
+        output.verifications = verifications.get();
+        output.mismatches = mismatches.get();
+        output.verifyErrors = verifyErrors.get();
+        return output;
+    }
+
+    public static class Stats {
+        public long evaluations;
+        public long verifications; // Evaluations also made by PlayFab
+        public long mismatches; // Server drops the local tables could not have produced, each of which reloads them
+        public long verifyErrors; // Verifications that could not be made
+    }
+}
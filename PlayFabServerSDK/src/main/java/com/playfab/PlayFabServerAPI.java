@@ -6,24 +6,32 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.lang.reflect.Type;
 
     /**
      * Provides functionality to allow external (developer-controlled) servers to interact with user inventories and data in a
      * trusted manner, and to handle matchmaking and client connection orchestration
      */
 public class PlayFabServerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) {
+        return AddCharacterVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
 
     /**
      * Increments the character's balance of the specified virtual currency by the stated amount
      * @param request AddCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
      * @return Async Task will return ModifyCharacterVirtualCurrencyResult
      */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+    public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
                 return privateAddCharacterVirtualCurrencyAsync(request);
             }
@@ -35,9 +43,19 @@ public class PlayFabServerAPI {
      * @param request AddCharacterVirtualCurrencyRequest
      * @return ModifyCharacterVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+        return AddCharacterVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
                 return privateAddCharacterVirtualCurrencyAsync(request);
             }
@@ -46,16 +64,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddCharacterVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType();
+
     /** Increments the character's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateAddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddCharacterVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -66,9 +88,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -82,9 +103,20 @@ public class PlayFabServerAPI {
      * @param request AddFriendRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> AddFriendAsync(final AddFriendRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AddFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> AddFriendAsync(final AddFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAddFriendAsync(request);
             }
@@ -97,9 +129,20 @@ public class PlayFabServerAPI {
      * @param request AddFriendRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return AddFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateAddFriendAsync(request);
             }
@@ -108,10 +151,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddFriendResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /**
      * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
      * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
@@ -120,7 +167,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<EmptyResponse> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddFriendResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -131,9 +178,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -146,9 +192,19 @@ public class PlayFabServerAPI {
      * @param request AddPlayerTagRequest
      * @return Async Task will return AddPlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+        return AddPlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
                 return privateAddPlayerTagAsync(request);
             }
@@ -160,9 +216,19 @@ public class PlayFabServerAPI {
      * @param request AddPlayerTagRequest
      * @return AddPlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
-        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+        return AddPlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddPlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddPlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
                 return privateAddPlayerTagAsync(request);
             }
@@ -171,16 +237,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddPlayerTagResultType = new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType();
+
     /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddPlayerTagResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -191,9 +261,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -208,9 +277,21 @@ public class PlayFabServerAPI {
      * @param request AddSharedGroupMembersRequest
      * @return Async Task will return AddSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+        return AddSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
                 return privateAddSharedGroupMembersAsync(request);
             }
@@ -224,9 +305,21 @@ public class PlayFabServerAPI {
      * @param request AddSharedGroupMembersRequest
      * @return AddSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
-        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+        return AddSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request AddSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AddSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
                 return privateAddSharedGroupMembersAsync(request);
             }
@@ -235,10 +328,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType();
+
     /**
      * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
      * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
@@ -248,7 +345,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddSharedGroupMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -259,9 +356,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -274,9 +370,19 @@ public class PlayFabServerAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -288,9 +394,19 @@ public class PlayFabServerAPI {
      * @param request AddUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return AddUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateAddUserVirtualCurrencyAsync(request);
             }
@@ -299,16 +415,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AddUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /** Increments the user's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AddUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -319,9 +439,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -334,9 +453,19 @@ public class PlayFabServerAPI {
      * @param request AuthenticateSessionTicketRequest
      * @return Async Task will return AuthenticateSessionTicketResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+        return AuthenticateSessionTicketAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AuthenticateSessionTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
             public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
                 return privateAuthenticateSessionTicketAsync(request);
             }
@@ -348,9 +477,19 @@ public class PlayFabServerAPI {
      * @param request AuthenticateSessionTicketRequest
      * @return AuthenticateSessionTicketResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
-        FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> task = new FutureTask(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+        return AuthenticateSessionTicket(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AuthenticateSessionTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
             public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
                 return privateAuthenticateSessionTicketAsync(request);
             }
@@ -359,16 +498,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AuthenticateSessionTicketResult> exceptionResult = new PlayFabResult<AuthenticateSessionTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AuthenticateSessionTicketResultType = new TypeToken<PlayFabJsonSuccess<AuthenticateSessionTicketResult>>(){}.getType();
+
     /** Validated a client's session ticket, and if successful, returns details for that user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AuthenticateSessionTicketResult> privateAuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AuthenticateSessionTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AuthenticateSessionTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AuthenticateSessionTicketResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -379,9 +522,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthenticateSessionTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = (PlayFabJsonSuccess<AuthenticateSessionTicketResult>) httpResult;
         AuthenticateSessionTicketResult result = resultData.data;
 
         PlayFabResult<AuthenticateSessionTicketResult> pfResult = new PlayFabResult<AuthenticateSessionTicketResult>();
@@ -394,9 +536,19 @@ public class PlayFabServerAPI {
      * @param request AwardSteamAchievementRequest
      * @return Async Task will return AwardSteamAchievementResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievementAsync(final AwardSteamAchievementRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+        return AwardSteamAchievementAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return AwardSteamAchievementResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievementAsync(final AwardSteamAchievementRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
             public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
                 return privateAwardSteamAchievementAsync(request);
             }
@@ -408,9 +560,19 @@ public class PlayFabServerAPI {
      * @param request AwardSteamAchievementRequest
      * @return AwardSteamAchievementResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
-        FutureTask<PlayFabResult<AwardSteamAchievementResult>> task = new FutureTask(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+        return AwardSteamAchievement(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return AwardSteamAchievementResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<AwardSteamAchievementResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
             public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
                 return privateAwardSteamAchievementAsync(request);
             }
@@ -419,16 +581,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<AwardSteamAchievementResult> exceptionResult = new PlayFabResult<AwardSteamAchievementResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type AwardSteamAchievementResultType = new TypeToken<PlayFabJsonSuccess<AwardSteamAchievementResult>>(){}.getType();
+
     /** Awards the specified users the specified Steam achievements */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<AwardSteamAchievementResult> privateAwardSteamAchievementAsync(final AwardSteamAchievementRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AwardSteamAchievement"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AwardSteamAchievement"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, AwardSteamAchievementResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -439,9 +605,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AwardSteamAchievementResult>>(){}.getType());
+        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = (PlayFabJsonSuccess<AwardSteamAchievementResult>) httpResult;
         AwardSteamAchievementResult result = resultData.data;
 
         PlayFabResult<AwardSteamAchievementResult> pfResult = new PlayFabResult<AwardSteamAchievementResult>();
@@ -454,9 +619,19 @@ public class PlayFabServerAPI {
      * @param request BanUsersRequest
      * @return Async Task will return BanUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
+        return BanUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
                 return privateBanUsersAsync(request);
             }
@@ -468,9 +643,19 @@ public class PlayFabServerAPI {
      * @param request BanUsersRequest
      * @return BanUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
-        FutureTask<PlayFabResult<BanUsersResult>> task = new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
+        return BanUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return BanUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<BanUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
                 return privateBanUsersAsync(request);
             }
@@ -479,16 +664,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type BanUsersResultType = new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType();
+
     /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, BanUsersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -499,9 +688,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -514,9 +702,19 @@ public class PlayFabServerAPI {
      * @param request ConsumeItemRequest
      * @return Async Task will return ConsumeItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
+        return ConsumeItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
                 return privateConsumeItemAsync(request);
             }
@@ -528,9 +726,19 @@ public class PlayFabServerAPI {
      * @param request ConsumeItemRequest
      * @return ConsumeItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
-        FutureTask<PlayFabResult<ConsumeItemResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
+        return ConsumeItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ConsumeItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ConsumeItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
                 return privateConsumeItemAsync(request);
             }
@@ -539,16 +747,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ConsumeItemResultType = new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType();
+
     /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ConsumeItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ConsumeItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ConsumeItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -559,9 +771,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -577,9 +788,22 @@ public class PlayFabServerAPI {
      * @param request CreateSharedGroupRequest
      * @return Async Task will return CreateSharedGroupResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+        return CreateSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
                 return privateCreateSharedGroupAsync(request);
             }
@@ -594,9 +818,22 @@ public class PlayFabServerAPI {
      * @param request CreateSharedGroupRequest
      * @return CreateSharedGroupResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
-        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+        return CreateSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request CreateSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return CreateSharedGroupResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
                 return privateCreateSharedGroupAsync(request);
             }
@@ -605,10 +842,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type CreateSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType();
+
     /**
      * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
      * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
@@ -619,7 +860,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/CreateSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/CreateSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, CreateSharedGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -630,9 +871,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -645,9 +885,19 @@ public class PlayFabServerAPI {
      * @param request DeleteCharacterFromUserRequest
      * @return Async Task will return DeleteCharacterFromUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+        return DeleteCharacterFromUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
             public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
                 return privateDeleteCharacterFromUserAsync(request);
             }
@@ -659,9 +909,19 @@ public class PlayFabServerAPI {
      * @param request DeleteCharacterFromUserRequest
      * @return DeleteCharacterFromUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
-        FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+        return DeleteCharacterFromUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
             public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
                 return privateDeleteCharacterFromUserAsync(request);
             }
@@ -670,16 +930,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteCharacterFromUserResult> exceptionResult = new PlayFabResult<DeleteCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteCharacterFromUserResultType = new TypeToken<PlayFabJsonSuccess<DeleteCharacterFromUserResult>>(){}.getType();
+
     /** Deletes the specific character ID from the specified user. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeleteCharacterFromUserResult> privateDeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteCharacterFromUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -690,9 +954,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = (PlayFabJsonSuccess<DeleteCharacterFromUserResult>) httpResult;
         DeleteCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<DeleteCharacterFromUserResult> pfResult = new PlayFabResult<DeleteCharacterFromUserResult>();
@@ -705,9 +968,19 @@ public class PlayFabServerAPI {
      * @param request DeletePlayerRequest
      * @return Async Task will return DeletePlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
+        return DeletePlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
                 return privateDeletePlayerAsync(request);
             }
@@ -719,9 +992,19 @@ public class PlayFabServerAPI {
      * @param request DeletePlayerRequest
      * @return DeletePlayerResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
-        FutureTask<PlayFabResult<DeletePlayerResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
+        return DeletePlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeletePlayerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeletePlayerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
                 return privateDeletePlayerAsync(request);
             }
@@ -730,16 +1013,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeletePlayerResultType = new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType();
+
     /** Removes a user's player account from a title and deletes all associated data */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeletePlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -750,9 +1037,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -767,9 +1053,21 @@ public class PlayFabServerAPI {
      * @param request DeleteSharedGroupRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteSharedGroupAsync(final DeleteSharedGroupRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteSharedGroupAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> DeleteSharedGroupAsync(final DeleteSharedGroupRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteSharedGroupAsync(request);
             }
@@ -783,9 +1081,21 @@ public class PlayFabServerAPI {
      * @param request DeleteSharedGroupRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return DeleteSharedGroup(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request DeleteSharedGroupRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateDeleteSharedGroupAsync(request);
             }
@@ -794,10 +1104,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeleteSharedGroupResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /**
      * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
      * sharing data between a very small number of players, please see our guide:
@@ -807,7 +1121,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<EmptyResponse> privateDeleteSharedGroupAsync(final DeleteSharedGroupRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteSharedGroupResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -818,9 +1132,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -835,9 +1148,21 @@ public class PlayFabServerAPI {
      * @return Async Task will return DeleteUsersResult
      */
     @Deprecated
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeleteUsersResult>> DeleteUsersAsync(final DeleteUsersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeleteUsersResult>>() {
+        return DeleteUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeleteUsersResult
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeleteUsersResult>> DeleteUsersAsync(final DeleteUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteUsersResult>>() {
             public PlayFabResult<DeleteUsersResult> call() throws Exception {
                 return privateDeleteUsersAsync(request);
             }
@@ -851,9 +1176,21 @@ public class PlayFabServerAPI {
      * @return DeleteUsersResult
      */
     @Deprecated
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeleteUsersResult> DeleteUsers(final DeleteUsersRequest request) {
-        FutureTask<PlayFabResult<DeleteUsersResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteUsersResult>>() {
+        return DeleteUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Deletes custom data, all account linkages, and statistics.
+     * @deprecated Please use DeletePlayer instead.
+     * @param request DeleteUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeleteUsersResult
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeleteUsersResult> DeleteUsers(final DeleteUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeleteUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeleteUsersResult>>() {
             public PlayFabResult<DeleteUsersResult> call() throws Exception {
                 return privateDeleteUsersAsync(request);
             }
@@ -862,10 +1199,15 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeleteUsersResult> exceptionResult = new PlayFabResult<DeleteUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    @Deprecated
+    private static final Type DeleteUsersResultType = new TypeToken<PlayFabJsonSuccess<DeleteUsersResult>>(){}.getType();
+
     /**
      * Deletes custom data, all account linkages, and statistics.
      * @deprecated Please use DeletePlayer instead.
@@ -875,7 +1217,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<DeleteUsersResult> privateDeleteUsersAsync(final DeleteUsersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeleteUsersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -886,9 +1228,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteUsersResult> resultData = (PlayFabJsonSuccess<DeleteUsersResult>) httpResult;
         DeleteUsersResult result = resultData.data;
 
         PlayFabResult<DeleteUsersResult> pfResult = new PlayFabResult<DeleteUsersResult>();
@@ -901,9 +1242,19 @@ public class PlayFabServerAPI {
      * @param request DeregisterGameRequest
      * @return Async Task will return DeregisterGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<DeregisterGameResponse>> DeregisterGameAsync(final DeregisterGameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<DeregisterGameResponse>>() {
+        return DeregisterGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return DeregisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<DeregisterGameResponse>> DeregisterGameAsync(final DeregisterGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeregisterGameResponse>>() {
             public PlayFabResult<DeregisterGameResponse> call() throws Exception {
                 return privateDeregisterGameAsync(request);
             }
@@ -915,9 +1266,19 @@ public class PlayFabServerAPI {
      * @param request DeregisterGameRequest
      * @return DeregisterGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request) {
-        FutureTask<PlayFabResult<DeregisterGameResponse>> task = new FutureTask(new Callable<PlayFabResult<DeregisterGameResponse>>() {
+        return DeregisterGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return DeregisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<DeregisterGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<DeregisterGameResponse>>() {
             public PlayFabResult<DeregisterGameResponse> call() throws Exception {
                 return privateDeregisterGameAsync(request);
             }
@@ -926,16 +1287,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<DeregisterGameResponse> exceptionResult = new PlayFabResult<DeregisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type DeregisterGameResultType = new TypeToken<PlayFabJsonSuccess<DeregisterGameResponse>>(){}.getType();
+
     /** Inform the matchmaker that a Game Server Instance is removed. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<DeregisterGameResponse> privateDeregisterGameAsync(final DeregisterGameRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeregisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeregisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, DeregisterGameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -946,9 +1311,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeregisterGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeregisterGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeregisterGameResponse> resultData = (PlayFabJsonSuccess<DeregisterGameResponse>) httpResult;
         DeregisterGameResponse result = resultData.data;
 
         PlayFabResult<DeregisterGameResponse> pfResult = new PlayFabResult<DeregisterGameResponse>();
@@ -962,9 +1326,20 @@ public class PlayFabServerAPI {
      * @param request EvaluateRandomResultTableRequest
      * @return Async Task will return EvaluateRandomResultTableResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+        return EvaluateRandomResultTableAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EvaluateRandomResultTableResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
             public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
                 return privateEvaluateRandomResultTableAsync(request);
             }
@@ -977,9 +1352,20 @@ public class PlayFabServerAPI {
      * @param request EvaluateRandomResultTableRequest
      * @return EvaluateRandomResultTableResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
-        FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> task = new FutureTask(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+        return EvaluateRandomResultTable(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EvaluateRandomResultTableResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
             public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
                 return privateEvaluateRandomResultTableAsync(request);
             }
@@ -988,10 +1374,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EvaluateRandomResultTableResult> exceptionResult = new PlayFabResult<EvaluateRandomResultTableResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type EvaluateRandomResultTableResultType = new TypeToken<PlayFabJsonSuccess<EvaluateRandomResultTableResult>>(){}.getType();
+
     /**
      * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
      * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
@@ -1000,7 +1390,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<EvaluateRandomResultTableResult> privateEvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/EvaluateRandomResultTable"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/EvaluateRandomResultTable"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, EvaluateRandomResultTableResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1011,9 +1401,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EvaluateRandomResultTableResult>>(){}.getType());
+        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = (PlayFabJsonSuccess<EvaluateRandomResultTableResult>) httpResult;
         EvaluateRandomResultTableResult result = resultData.data;
 
         PlayFabResult<EvaluateRandomResultTableResult> pfResult = new PlayFabResult<EvaluateRandomResultTableResult>();
@@ -1026,9 +1415,19 @@ public class PlayFabServerAPI {
      * @param request ExecuteCloudScriptServerRequest
      * @return Async Task will return ExecuteCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+        return ExecuteCloudScriptAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteCloudScriptAsync(request);
             }
@@ -1040,9 +1439,19 @@ public class PlayFabServerAPI {
      * @param request ExecuteCloudScriptServerRequest
      * @return ExecuteCloudScriptResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
-        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+        return ExecuteCloudScript(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ExecuteCloudScriptResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
                 return privateExecuteCloudScriptAsync(request);
             }
@@ -1051,16 +1460,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ExecuteCloudScriptResultType = new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType();
+
     /** Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ExecuteCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ExecuteCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ExecuteCloudScriptResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1071,9 +1484,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -1087,9 +1499,20 @@ public class PlayFabServerAPI {
      * @param request GetAllSegmentsRequest
      * @return Async Task will return GetAllSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+        return GetAllSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
                 return privateGetAllSegmentsAsync(request);
             }
@@ -1102,9 +1525,20 @@ public class PlayFabServerAPI {
      * @param request GetAllSegmentsRequest
      * @return GetAllSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
-        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+        return GetAllSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetAllSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
                 return privateGetAllSegmentsAsync(request);
             }
@@ -1113,10 +1547,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetAllSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType();
+
     /**
      * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
      * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
@@ -1125,7 +1563,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetAllSegmentsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1136,9 +1574,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -1152,9 +1589,20 @@ public class PlayFabServerAPI {
      * @param request ListUsersCharactersRequest
      * @return Async Task will return ListUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+        return GetAllUsersCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
                 return privateGetAllUsersCharactersAsync(request);
             }
@@ -1167,9 +1615,20 @@ public class PlayFabServerAPI {
      * @param request ListUsersCharactersRequest
      * @return ListUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
-        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+        return GetAllUsersCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ListUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
                 return privateGetAllUsersCharactersAsync(request);
             }
@@ -1178,10 +1637,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetAllUsersCharactersResultType = new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType();
+
     /**
      * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
      * evaluated with the parent PlayFabId to guarantee uniqueness.
@@ -1190,7 +1653,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllUsersCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllUsersCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetAllUsersCharactersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1201,9 +1664,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1216,9 +1678,19 @@ public class PlayFabServerAPI {
      * @param request GetCatalogItemsRequest
      * @return Async Task will return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1230,9 +1702,19 @@ public class PlayFabServerAPI {
      * @param request GetCatalogItemsRequest
      * @return GetCatalogItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
-        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+        return GetCatalogItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCatalogItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
                 return privateGetCatalogItemsAsync(request);
             }
@@ -1241,16 +1723,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCatalogItemsResultType = new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType();
+
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCatalogItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1261,9 +1747,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1276,9 +1761,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return Async Task will return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterDataAsync(request);
             }
@@ -1290,9 +1785,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
-        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterDataAsync(request);
             }
@@ -1301,16 +1806,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1321,9 +1830,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1336,9 +1844,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return Async Task will return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalDataAsync(final GetCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterInternalDataAsync(request);
             }
@@ -1350,9 +1868,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request) {
-        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterInternalDataAsync(request);
             }
@@ -1361,16 +1889,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user's character which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterDataResult> privateGetCharacterInternalDataAsync(final GetCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1381,9 +1913,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1396,9 +1927,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterInventoryRequest
      * @return Async Task will return GetCharacterInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+        return GetCharacterInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
                 return privateGetCharacterInventoryAsync(request);
             }
@@ -1410,9 +1951,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterInventoryRequest
      * @return GetCharacterInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
-        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+        return GetCharacterInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
                 return privateGetCharacterInventoryAsync(request);
             }
@@ -1421,16 +1972,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType();
+
     /** Retrieves the specified character's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterInventoryResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1441,9 +1996,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1456,9 +2010,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterLeaderboardRequest
      * @return Async Task will return GetCharacterLeaderboardResult
      */
+    public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
+        return GetCharacterLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterLeaderboardResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+    public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
                 return privateGetCharacterLeaderboardAsync(request);
             }
@@ -1470,9 +2034,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterLeaderboardRequest
      * @return GetCharacterLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+        return GetCharacterLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
                 return privateGetCharacterLeaderboardAsync(request);
             }
@@ -1481,16 +2055,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType();
+
     /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1501,9 +2079,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1516,9 +2093,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return Async Task will return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterReadOnlyDataAsync(request);
             }
@@ -1530,9 +2117,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterDataRequest
      * @return GetCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
-        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+        return GetCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
                 return privateGetCharacterReadOnlyDataAsync(request);
             }
@@ -1541,16 +2138,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user's character which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1561,9 +2162,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1576,9 +2176,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterStatisticsRequest
      * @return Async Task will return GetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+        return GetCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
                 return privateGetCharacterStatisticsAsync(request);
             }
@@ -1590,9 +2200,19 @@ public class PlayFabServerAPI {
      * @param request GetCharacterStatisticsRequest
      * @return GetCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
-        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+        return GetCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
                 return privateGetCharacterStatisticsAsync(request);
             }
@@ -1601,16 +2221,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType();
+
     /** Retrieves the details of all title-specific statistics for the specific character */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetCharacterStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1621,9 +2245,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1641,9 +2264,24 @@ public class PlayFabServerAPI {
      * @param request GetContentDownloadUrlRequest
      * @return Async Task will return GetContentDownloadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+        return GetContentDownloadUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
                 return privateGetContentDownloadUrlAsync(request);
             }
@@ -1660,9 +2298,24 @@ public class PlayFabServerAPI {
      * @param request GetContentDownloadUrlRequest
      * @return GetContentDownloadUrlResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
-        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+        return GetContentDownloadUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/en-us/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetContentDownloadUrlResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
                 return privateGetContentDownloadUrlAsync(request);
             }
@@ -1671,10 +2324,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetContentDownloadUrlResultType = new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType();
+
     /**
      * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
      * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
@@ -1687,7 +2344,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetContentDownloadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetContentDownloadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetContentDownloadUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1698,9 +2355,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1714,9 +2370,20 @@ public class PlayFabServerAPI {
      * @param request GetFriendLeaderboardRequest
      * @return Async Task will return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetFriendLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetFriendLeaderboardAsync(request);
             }
@@ -1729,9 +2396,20 @@ public class PlayFabServerAPI {
      * @param request GetFriendLeaderboardRequest
      * @return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetFriendLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetFriendLeaderboardAsync(request);
             }
@@ -1740,10 +2418,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFriendLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
     /**
      * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
      * leaderboard
@@ -1752,7 +2434,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetFriendLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1763,9 +2445,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1779,9 +2460,20 @@ public class PlayFabServerAPI {
      * @param request GetFriendsListRequest
      * @return Async Task will return GetFriendsListResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
+        return GetFriendsListAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
                 return privateGetFriendsListAsync(request);
             }
@@ -1794,9 +2486,20 @@ public class PlayFabServerAPI {
      * @param request GetFriendsListRequest
      * @return GetFriendsListResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
-        FutureTask<PlayFabResult<GetFriendsListResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
+        return GetFriendsList(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetFriendsListResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetFriendsListResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
                 return privateGetFriendsListAsync(request);
             }
@@ -1805,10 +2508,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetFriendsListResultType = new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType();
+
     /**
      * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
      * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
@@ -1817,7 +2524,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendsList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendsList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetFriendsListResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1828,9 +2535,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -1843,9 +2549,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardRequest
      * @return Async Task will return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetLeaderboardAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetLeaderboardAsync(request);
             }
@@ -1857,9 +2573,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardRequest
      * @return GetLeaderboardResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+        return GetLeaderboard(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
                 return privateGetLeaderboardAsync(request);
             }
@@ -1868,16 +2594,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType();
+
     /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetLeaderboardResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1888,9 +2618,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1903,9 +2632,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardAroundCharacterRequest
      * @return Async Task will return GetLeaderboardAroundCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+        return GetLeaderboardAroundCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
                 return privateGetLeaderboardAroundCharacterAsync(request);
             }
@@ -1917,9 +2656,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardAroundCharacterRequest
      * @return GetLeaderboardAroundCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+        return GetLeaderboardAroundCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
                 return privateGetLeaderboardAroundCharacterAsync(request);
             }
@@ -1928,16 +2677,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardAroundCharacterResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType();
+
     /** Retrieves a list of ranked characters for the given statistic, centered on the requested user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetLeaderboardAroundCharacterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1948,9 +2701,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -1963,9 +2715,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardAroundUserRequest
      * @return Async Task will return GetLeaderboardAroundUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+        return GetLeaderboardAroundUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardAroundUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
             public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
                 return privateGetLeaderboardAroundUserAsync(request);
             }
@@ -1977,9 +2739,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardAroundUserRequest
      * @return GetLeaderboardAroundUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+        return GetLeaderboardAroundUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardAroundUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
             public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
                 return privateGetLeaderboardAroundUserAsync(request);
             }
@@ -1988,16 +2760,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardAroundUserResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardAroundUserResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundUserResult>>(){}.getType();
+
     /** Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardAroundUserResult> privateGetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetLeaderboardAroundUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2008,9 +2784,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundUserResult>) httpResult;
         GetLeaderboardAroundUserResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundUserResult> pfResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
@@ -2023,9 +2798,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardForUsersCharactersRequest
      * @return Async Task will return GetLeaderboardForUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+        return GetLeaderboardForUserCharactersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
                 return privateGetLeaderboardForUserCharactersAsync(request);
             }
@@ -2037,9 +2822,19 @@ public class PlayFabServerAPI {
      * @param request GetLeaderboardForUsersCharactersRequest
      * @return GetLeaderboardForUsersCharactersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
-        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+        return GetLeaderboardForUserCharacters(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
                 return privateGetLeaderboardForUserCharactersAsync(request);
             }
@@ -2048,16 +2843,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetLeaderboardForUserCharactersResultType = new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType();
+
     /** Retrieves a list of all of the user's characters for the given statistic. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardForUserCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardForUserCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetLeaderboardForUserCharactersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2068,9 +2867,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2084,9 +2882,20 @@ public class PlayFabServerAPI {
      * @param request GetPlayerCombinedInfoRequest
      * @return Async Task will return GetPlayerCombinedInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+        return GetPlayerCombinedInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
                 return privateGetPlayerCombinedInfoAsync(request);
             }
@@ -2099,9 +2908,20 @@ public class PlayFabServerAPI {
      * @param request GetPlayerCombinedInfoRequest
      * @return GetPlayerCombinedInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
-        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+        return GetPlayerCombinedInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerCombinedInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
                 return privateGetPlayerCombinedInfoAsync(request);
             }
@@ -2110,10 +2930,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerCombinedInfoResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType();
+
     /**
      * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
      * returned. All parameters default to false.
@@ -2122,7 +2946,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerCombinedInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerCombinedInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerCombinedInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2133,9 +2957,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2148,9 +2971,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerProfileRequest
      * @return Async Task will return GetPlayerProfileResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+        return GetPlayerProfileAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
                 return privateGetPlayerProfileAsync(request);
             }
@@ -2162,9 +2995,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerProfileRequest
      * @return GetPlayerProfileResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
-        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+        return GetPlayerProfile(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerProfileResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
                 return privateGetPlayerProfileAsync(request);
             }
@@ -2173,16 +3016,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerProfileResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType();
+
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerProfileResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2193,9 +3040,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2208,9 +3054,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayersSegmentsRequest
      * @return Async Task will return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegmentsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2222,9 +3078,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayersSegmentsRequest
      * @return GetPlayerSegmentsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+        return GetPlayerSegments(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerSegmentsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
                 return privateGetPlayerSegmentsAsync(request);
             }
@@ -2233,16 +3099,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerSegmentsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType();
+
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerSegmentsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2253,9 +3123,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2271,9 +3140,22 @@ public class PlayFabServerAPI {
      * @param request GetPlayersInSegmentRequest
      * @return Async Task will return GetPlayersInSegmentResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+        return GetPlayersInSegmentAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
                 return privateGetPlayersInSegmentAsync(request);
             }
@@ -2288,9 +3170,22 @@ public class PlayFabServerAPI {
      * @param request GetPlayersInSegmentRequest
      * @return GetPlayersInSegmentResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
-        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+        return GetPlayersInSegment(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation.
+     * @param request GetPlayersInSegmentRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayersInSegmentResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
                 return privateGetPlayersInSegmentAsync(request);
             }
@@ -2299,10 +3194,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayersInSegmentResultType = new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType();
+
     /**
      * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
      * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
@@ -2313,7 +3212,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayersInSegmentResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2324,9 +3223,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2339,9 +3237,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerStatisticsRequest
      * @return Async Task will return GetPlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+        return GetPlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
                 return privateGetPlayerStatisticsAsync(request);
             }
@@ -2353,9 +3261,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerStatisticsRequest
      * @return GetPlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+        return GetPlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
                 return privateGetPlayerStatisticsAsync(request);
             }
@@ -2364,16 +3282,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType();
+
     /** Retrieves the current version and values for the indicated statistics, for the local player. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2384,9 +3306,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2399,9 +3320,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return Async Task will return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersionsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2413,9 +3344,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerStatisticVersionsRequest
      * @return GetPlayerStatisticVersionsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+        return GetPlayerStatisticVersions(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerStatisticVersionsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
                 return privateGetPlayerStatisticVersionsAsync(request);
             }
@@ -2424,16 +3365,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerStatisticVersionsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType();
+
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerStatisticVersionsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2444,9 +3389,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2459,9 +3403,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerTagsRequest
      * @return Async Task will return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2473,9 +3427,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayerTagsRequest
      * @return GetPlayerTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
-        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+        return GetPlayerTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayerTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
                 return privateGetPlayerTagsAsync(request);
             }
@@ -2484,16 +3448,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayerTagsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType();
+
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayerTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2504,9 +3472,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2519,9 +3486,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromFacebookIDsRequest
      * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+        return GetPlayFabIDsFromFacebookIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookIDsAsync(request);
             }
@@ -2533,9 +3510,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromFacebookIDsRequest
      * @return GetPlayFabIDsFromFacebookIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+        return GetPlayFabIDsFromFacebookIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookIDsAsync(request);
             }
@@ -2544,16 +3531,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromFacebookIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayFabIDsFromFacebookIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2564,9 +3555,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -2579,9 +3569,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
      * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+        return GetPlayFabIDsFromFacebookInstantGamesIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
             }
@@ -2593,9 +3593,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
      * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+        return GetPlayFabIDsFromFacebookInstantGamesIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
             }
@@ -2604,16 +3614,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromFacebookInstantGamesIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayFabIDsFromFacebookInstantGamesIdsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2624,9 +3638,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -2639,9 +3652,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
      * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
             }
@@ -2653,9 +3676,19 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
      * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+        return GetPlayFabIDsFromNintendoSwitchDeviceIds(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
             }
@@ -2664,16 +3697,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType();
+
     /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayFabIDsFromNintendoSwitchDeviceIdsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2684,9 +3721,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -2700,9 +3736,20 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromSteamIDsRequest
      * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+        return GetPlayFabIDsFromSteamIDsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromSteamIDsAsync(request);
             }
@@ -2715,9 +3762,20 @@ public class PlayFabServerAPI {
      * @param request GetPlayFabIDsFromSteamIDsRequest
      * @return GetPlayFabIDsFromSteamIDsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
-        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+        return GetPlayFabIDsFromSteamIDs(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
                 return privateGetPlayFabIDsFromSteamIDsAsync(request);
             }
@@ -2726,10 +3784,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPlayFabIDsFromSteamIDsResultType = new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType();
+
     /**
      * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
      * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
@@ -2738,7 +3800,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromSteamIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromSteamIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPlayFabIDsFromSteamIDsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2749,9 +3811,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -2764,9 +3825,19 @@ public class PlayFabServerAPI {
      * @param request GetPublisherDataRequest
      * @return Async Task will return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -2778,9 +3849,19 @@ public class PlayFabServerAPI {
      * @param request GetPublisherDataRequest
      * @return GetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
-        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+        return GetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
                 return privateGetPublisherDataAsync(request);
             }
@@ -2789,16 +3870,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2809,9 +3894,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -2825,9 +3909,20 @@ public class PlayFabServerAPI {
      * @param request GetRandomResultTablesRequest
      * @return Async Task will return GetRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+        return GetRandomResultTablesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
                 return privateGetRandomResultTablesAsync(request);
             }
@@ -2840,9 +3935,20 @@ public class PlayFabServerAPI {
      * @param request GetRandomResultTablesRequest
      * @return GetRandomResultTablesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
-        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+        return GetRandomResultTables(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetRandomResultTablesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
                 return privateGetRandomResultTablesAsync(request);
             }
@@ -2851,10 +3957,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetRandomResultTablesResultType = new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType();
+
     /**
      * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
      * values and weights
@@ -2863,7 +3973,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetRandomResultTablesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2874,9 +3984,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -2891,9 +4000,21 @@ public class PlayFabServerAPI {
      * @param request GetSharedGroupDataRequest
      * @return Async Task will return GetSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+        return GetSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
                 return privateGetSharedGroupDataAsync(request);
             }
@@ -2907,9 +4028,21 @@ public class PlayFabServerAPI {
      * @param request GetSharedGroupDataRequest
      * @return GetSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
-        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+        return GetSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request GetSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
                 return privateGetSharedGroupDataAsync(request);
             }
@@ -2918,10 +4051,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType();
+
     /**
      * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
      * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
@@ -2931,7 +4068,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetSharedGroupDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2942,9 +4079,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -2957,9 +4093,19 @@ public class PlayFabServerAPI {
      * @param request GetTimeRequest
      * @return Async Task will return GetTimeResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
+        return GetTimeAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
                 return privateGetTimeAsync(request);
             }
@@ -2971,9 +4117,19 @@ public class PlayFabServerAPI {
      * @param request GetTimeRequest
      * @return GetTimeResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
-        FutureTask<PlayFabResult<GetTimeResult>> task = new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
+        return GetTime(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTimeResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTimeResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
                 return privateGetTimeAsync(request);
             }
@@ -2982,16 +4138,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTimeResultType = new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType();
+
     /** Retrieves the current server time */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTime"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTime"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTimeResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3002,9 +4162,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -3017,9 +4176,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleDataRequest
      * @return Async Task will return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -3031,9 +4200,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleDataRequest
      * @return GetTitleDataResult
      */
+    public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        return GetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
     @SuppressWarnings("unchecked")
-    public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
-        FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+    public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleDataAsync(request);
             }
@@ -3042,16 +4221,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTitleDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3062,9 +4245,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3077,9 +4259,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleDataRequest
      * @return Async Task will return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleInternalDataAsync(request);
             }
@@ -3091,9 +4283,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleDataRequest
      * @return GetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
-        FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
+        return GetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
                 return privateGetTitleInternalDataAsync(request);
             }
@@ -3102,16 +4304,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType();
+
     /** Retrieves the key-value store of custom internal title settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTitleInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3122,9 +4328,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3137,9 +4342,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleNewsRequest
      * @return Async Task will return GetTitleNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+        return GetTitleNewsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
                 return privateGetTitleNewsAsync(request);
             }
@@ -3151,9 +4366,19 @@ public class PlayFabServerAPI {
      * @param request GetTitleNewsRequest
      * @return GetTitleNewsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
-        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+        return GetTitleNews(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetTitleNewsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetTitleNewsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
                 return privateGetTitleNewsAsync(request);
             }
@@ -3162,16 +4387,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetTitleNewsResultType = new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType();
+
     /** Retrieves the title news feed, as configured in the developer portal */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetTitleNewsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3182,9 +4411,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -3197,9 +4425,19 @@ public class PlayFabServerAPI {
      * @param request GetUserAccountInfoRequest
      * @return Async Task will return GetUserAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfoAsync(final GetUserAccountInfoRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+        return GetUserAccountInfoAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfoAsync(final GetUserAccountInfoRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
             public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
                 return privateGetUserAccountInfoAsync(request);
             }
@@ -3211,9 +4449,19 @@ public class PlayFabServerAPI {
      * @param request GetUserAccountInfoRequest
      * @return GetUserAccountInfoResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
-        FutureTask<PlayFabResult<GetUserAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+        return GetUserAccountInfo(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserAccountInfoResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserAccountInfoResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
             public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
                 return privateGetUserAccountInfoAsync(request);
             }
@@ -3222,16 +4470,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserAccountInfoResult> exceptionResult = new PlayFabResult<GetUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserAccountInfoResultType = new TypeToken<PlayFabJsonSuccess<GetUserAccountInfoResult>>(){}.getType();
+
     /** Retrieves the relevant details for a specified user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserAccountInfoResult> privateGetUserAccountInfoAsync(final GetUserAccountInfoRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserAccountInfoResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3242,9 +4494,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = (PlayFabJsonSuccess<GetUserAccountInfoResult>) httpResult;
         GetUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetUserAccountInfoResult> pfResult = new PlayFabResult<GetUserAccountInfoResult>();
@@ -3257,9 +4508,19 @@ public class PlayFabServerAPI {
      * @param request GetUserBansRequest
      * @return Async Task will return GetUserBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
+        return GetUserBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
                 return privateGetUserBansAsync(request);
             }
@@ -3271,9 +4532,19 @@ public class PlayFabServerAPI {
      * @param request GetUserBansRequest
      * @return GetUserBansResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
-        FutureTask<PlayFabResult<GetUserBansResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
+        return GetUserBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
                 return privateGetUserBansAsync(request);
             }
@@ -3282,16 +4553,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserBansResultType = new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType();
+
     /** Gets all bans for a user. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3302,9 +4577,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3317,9 +4591,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3331,9 +4615,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserDataAsync(request);
             }
@@ -3342,16 +4636,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3362,9 +4660,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3377,9 +4674,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserInternalDataAsync(request);
             }
@@ -3391,9 +4698,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserInternalDataAsync(request);
             }
@@ -3402,16 +4719,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3422,9 +4743,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3437,9 +4757,19 @@ public class PlayFabServerAPI {
      * @param request GetUserInventoryRequest
      * @return Async Task will return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventoryAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3451,9 +4781,19 @@ public class PlayFabServerAPI {
      * @param request GetUserInventoryRequest
      * @return GetUserInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
-        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+        return GetUserInventory(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
                 return privateGetUserInventoryAsync(request);
             }
@@ -3462,16 +4802,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserInventoryResultType = new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType();
+
     /** Retrieves the specified user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserInventoryResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3482,9 +4826,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -3497,9 +4840,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3511,9 +4864,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherDataAsync(request);
             }
@@ -3522,16 +4885,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3542,9 +4909,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3557,9 +4923,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherInternalDataAsync(request);
             }
@@ -3571,9 +4947,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherInternalDataAsync(request);
             }
@@ -3582,16 +4968,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3602,9 +4992,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3617,9 +5006,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -3631,9 +5030,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserPublisherReadOnlyDataAsync(request);
             }
@@ -3642,16 +5051,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserPublisherReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3662,9 +5075,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3677,9 +5089,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return Async Task will return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -3691,9 +5113,19 @@ public class PlayFabServerAPI {
      * @param request GetUserDataRequest
      * @return GetUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
-        FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
+        return GetUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GetUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GetUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
                 return privateGetUserReadOnlyDataAsync(request);
             }
@@ -3702,16 +5134,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GetUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType();
+
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GetUserReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3722,9 +5158,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3738,9 +5173,20 @@ public class PlayFabServerAPI {
      * @param request GrantCharacterToUserRequest
      * @return Async Task will return GrantCharacterToUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+        return GrantCharacterToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
                 return privateGrantCharacterToUserAsync(request);
             }
@@ -3753,9 +5199,20 @@ public class PlayFabServerAPI {
      * @param request GrantCharacterToUserRequest
      * @return GrantCharacterToUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
-        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+        return GrantCharacterToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantCharacterToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
                 return privateGrantCharacterToUserAsync(request);
             }
@@ -3764,10 +5221,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantCharacterToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType();
+
     /**
      * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
      * with the parent PlayFabId to guarantee uniqueness.
@@ -3776,7 +5237,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantCharacterToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantCharacterToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GrantCharacterToUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3787,9 +5248,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -3802,9 +5262,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToCharacterRequest
      * @return Async Task will return GrantItemsToCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+        return GrantItemsToCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
             public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
                 return privateGrantItemsToCharacterAsync(request);
             }
@@ -3816,9 +5286,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToCharacterRequest
      * @return GrantItemsToCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
-        FutureTask<PlayFabResult<GrantItemsToCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+        return GrantItemsToCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
             public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
                 return privateGrantItemsToCharacterAsync(request);
             }
@@ -3827,16 +5307,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantItemsToCharacterResult> exceptionResult = new PlayFabResult<GrantItemsToCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantItemsToCharacterResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToCharacterResult>>(){}.getType();
+
     /** Adds the specified items to the specified character's inventory */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GrantItemsToCharacterResult> privateGrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GrantItemsToCharacterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3847,9 +5331,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = (PlayFabJsonSuccess<GrantItemsToCharacterResult>) httpResult;
         GrantItemsToCharacterResult result = resultData.data;
 
         PlayFabResult<GrantItemsToCharacterResult> pfResult = new PlayFabResult<GrantItemsToCharacterResult>();
@@ -3862,9 +5345,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToUserRequest
      * @return Async Task will return GrantItemsToUserResult
      */
+    public static FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request) {
+        return GrantItemsToUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUserResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+    public static FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUserResult>>() {
             public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
                 return privateGrantItemsToUserAsync(request);
             }
@@ -3876,9 +5369,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToUserRequest
      * @return GrantItemsToUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request) {
-        FutureTask<PlayFabResult<GrantItemsToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+        return GrantItemsToUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUserResult>>() {
             public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
                 return privateGrantItemsToUserAsync(request);
             }
@@ -3887,16 +5390,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantItemsToUserResult> exceptionResult = new PlayFabResult<GrantItemsToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantItemsToUserResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUserResult>>(){}.getType();
+
     /** Adds the specified items to the specified user's inventory */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GrantItemsToUserResult> privateGrantItemsToUserAsync(final GrantItemsToUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GrantItemsToUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3907,9 +5414,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = (PlayFabJsonSuccess<GrantItemsToUserResult>) httpResult;
         GrantItemsToUserResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUserResult> pfResult = new PlayFabResult<GrantItemsToUserResult>();
@@ -3922,9 +5428,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToUsersRequest
      * @return Async Task will return GrantItemsToUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+        return GrantItemsToUsersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
                 return privateGrantItemsToUsersAsync(request);
             }
@@ -3936,9 +5452,19 @@ public class PlayFabServerAPI {
      * @param request GrantItemsToUsersRequest
      * @return GrantItemsToUsersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
-        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+        return GrantItemsToUsers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return GrantItemsToUsersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
                 return privateGrantItemsToUsersAsync(request);
             }
@@ -3947,16 +5473,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type GrantItemsToUsersResultType = new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType();
+
     /** Adds the specified items to the specified user inventories */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, GrantItemsToUsersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3967,9 +5497,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -3982,9 +5511,19 @@ public class PlayFabServerAPI {
      * @param request ModifyItemUsesRequest
      * @return Async Task will return ModifyItemUsesResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyItemUsesResult>> ModifyItemUsesAsync(final ModifyItemUsesRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+        return ModifyItemUsesAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyItemUsesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyItemUsesResult>> ModifyItemUsesAsync(final ModifyItemUsesRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyItemUsesResult>>() {
             public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
                 return privateModifyItemUsesAsync(request);
             }
@@ -3996,9 +5535,19 @@ public class PlayFabServerAPI {
      * @param request ModifyItemUsesRequest
      * @return ModifyItemUsesResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request) {
-        FutureTask<PlayFabResult<ModifyItemUsesResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+        return ModifyItemUses(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyItemUsesResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyItemUsesResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyItemUsesResult>>() {
             public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
                 return privateModifyItemUsesAsync(request);
             }
@@ -4007,16 +5556,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyItemUsesResult> exceptionResult = new PlayFabResult<ModifyItemUsesResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ModifyItemUsesResultType = new TypeToken<PlayFabJsonSuccess<ModifyItemUsesResult>>(){}.getType();
+
     /** Modifies the number of remaining uses of a player's inventory item */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<ModifyItemUsesResult> privateModifyItemUsesAsync(final ModifyItemUsesRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ModifyItemUses"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ModifyItemUses"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ModifyItemUsesResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4027,9 +5580,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyItemUsesResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = (PlayFabJsonSuccess<ModifyItemUsesResult>) httpResult;
         ModifyItemUsesResult result = resultData.data;
 
         PlayFabResult<ModifyItemUsesResult> pfResult = new PlayFabResult<ModifyItemUsesResult>();
@@ -4042,9 +5594,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToCharacterFromCharacterRequest
      * @return Async Task will return MoveItemToCharacterFromCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+        return MoveItemToCharacterFromCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToCharacterFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
             public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
                 return privateMoveItemToCharacterFromCharacterAsync(request);
             }
@@ -4056,9 +5618,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToCharacterFromCharacterRequest
      * @return MoveItemToCharacterFromCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
-        FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+        return MoveItemToCharacterFromCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToCharacterFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
             public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
                 return privateMoveItemToCharacterFromCharacterAsync(request);
             }
@@ -4067,16 +5639,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<MoveItemToCharacterFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type MoveItemToCharacterFromCharacterResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>>(){}.getType();
+
     /** Moves an item from a character's inventory into another of the users's character's inventory. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<MoveItemToCharacterFromCharacterResult> privateMoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, MoveItemToCharacterFromCharacterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4087,9 +5663,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>) httpResult;
         MoveItemToCharacterFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromCharacterResult> pfResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
@@ -4102,9 +5677,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToCharacterFromUserRequest
      * @return Async Task will return MoveItemToCharacterFromUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+        return MoveItemToCharacterFromUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
             public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
                 return privateMoveItemToCharacterFromUserAsync(request);
             }
@@ -4116,9 +5701,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToCharacterFromUserRequest
      * @return MoveItemToCharacterFromUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
-        FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+        return MoveItemToCharacterFromUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToCharacterFromUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
             public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
                 return privateMoveItemToCharacterFromUserAsync(request);
             }
@@ -4127,16 +5722,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<MoveItemToCharacterFromUserResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type MoveItemToCharacterFromUserResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>>(){}.getType();
+
     /** Moves an item from a user's inventory into their character's inventory. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<MoveItemToCharacterFromUserResult> privateMoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, MoveItemToCharacterFromUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4147,9 +5746,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>) httpResult;
         MoveItemToCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromUserResult> pfResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
@@ -4162,9 +5760,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToUserFromCharacterRequest
      * @return Async Task will return MoveItemToUserFromCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+        return MoveItemToUserFromCharacterAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return MoveItemToUserFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
             public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
                 return privateMoveItemToUserFromCharacterAsync(request);
             }
@@ -4176,9 +5784,19 @@ public class PlayFabServerAPI {
      * @param request MoveItemToUserFromCharacterRequest
      * @return MoveItemToUserFromCharacterResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
-        FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+        return MoveItemToUserFromCharacter(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return MoveItemToUserFromCharacterResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
             public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
                 return privateMoveItemToUserFromCharacterAsync(request);
             }
@@ -4187,16 +5805,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<MoveItemToUserFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type MoveItemToUserFromCharacterResultType = new TypeToken<PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>>(){}.getType();
+
     /** Moves an item from a character's inventory into the owning user's inventory. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<MoveItemToUserFromCharacterResult> privateMoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToUserFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToUserFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, MoveItemToUserFromCharacterResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4207,9 +5829,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>) httpResult;
         MoveItemToUserFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToUserFromCharacterResult> pfResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
@@ -4222,9 +5843,19 @@ public class PlayFabServerAPI {
      * @param request NotifyMatchmakerPlayerLeftRequest
      * @return Async Task will return NotifyMatchmakerPlayerLeftResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+        return NotifyMatchmakerPlayerLeftAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return NotifyMatchmakerPlayerLeftResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
             public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
                 return privateNotifyMatchmakerPlayerLeftAsync(request);
             }
@@ -4236,9 +5867,19 @@ public class PlayFabServerAPI {
      * @param request NotifyMatchmakerPlayerLeftRequest
      * @return NotifyMatchmakerPlayerLeftResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
-        FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> task = new FutureTask(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+        return NotifyMatchmakerPlayerLeft(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return NotifyMatchmakerPlayerLeftResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
             public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
                 return privateNotifyMatchmakerPlayerLeftAsync(request);
             }
@@ -4247,16 +5888,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<NotifyMatchmakerPlayerLeftResult> exceptionResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type NotifyMatchmakerPlayerLeftResultType = new TypeToken<PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>>(){}.getType();
+
     /** Informs the PlayFab match-making service that the user specified has left the Game Server Instance */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<NotifyMatchmakerPlayerLeftResult> privateNotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/NotifyMatchmakerPlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/NotifyMatchmakerPlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, NotifyMatchmakerPlayerLeftResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4267,9 +5912,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>>(){}.getType());
+        PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult> resultData = (PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>) httpResult;
         NotifyMatchmakerPlayerLeftResult result = resultData.data;
 
         PlayFabResult<NotifyMatchmakerPlayerLeftResult> pfResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
@@ -4283,9 +5927,20 @@ public class PlayFabServerAPI {
      * @param request RedeemCouponRequest
      * @return Async Task will return RedeemCouponResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
+        return RedeemCouponAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
                 return privateRedeemCouponAsync(request);
             }
@@ -4298,9 +5953,20 @@ public class PlayFabServerAPI {
      * @param request RedeemCouponRequest
      * @return RedeemCouponResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
-        FutureTask<PlayFabResult<RedeemCouponResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
+        return RedeemCoupon(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemCouponResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemCouponResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
                 return privateRedeemCouponAsync(request);
             }
@@ -4309,10 +5975,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RedeemCouponResultType = new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType();
+
     /**
      * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
      * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
@@ -4321,7 +5991,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemCoupon"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemCoupon"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RedeemCouponResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4332,9 +6002,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -4347,9 +6016,19 @@ public class PlayFabServerAPI {
      * @param request RedeemMatchmakerTicketRequest
      * @return Async Task will return RedeemMatchmakerTicketResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+        return RedeemMatchmakerTicketAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RedeemMatchmakerTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
             public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
                 return privateRedeemMatchmakerTicketAsync(request);
             }
@@ -4361,9 +6040,19 @@ public class PlayFabServerAPI {
      * @param request RedeemMatchmakerTicketRequest
      * @return RedeemMatchmakerTicketResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
-        FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+        return RedeemMatchmakerTicket(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RedeemMatchmakerTicketResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
             public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
                 return privateRedeemMatchmakerTicketAsync(request);
             }
@@ -4372,16 +6061,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RedeemMatchmakerTicketResult> exceptionResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RedeemMatchmakerTicketResultType = new TypeToken<PlayFabJsonSuccess<RedeemMatchmakerTicketResult>>(){}.getType();
+
     /** Validates a Game Server session ticket and returns details about the user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RedeemMatchmakerTicketResult> privateRedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemMatchmakerTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemMatchmakerTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RedeemMatchmakerTicketResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4392,9 +6085,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemMatchmakerTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemMatchmakerTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemMatchmakerTicketResult> resultData = (PlayFabJsonSuccess<RedeemMatchmakerTicketResult>) httpResult;
         RedeemMatchmakerTicketResult result = resultData.data;
 
         PlayFabResult<RedeemMatchmakerTicketResult> pfResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
@@ -4407,9 +6099,19 @@ public class PlayFabServerAPI {
      * @param request RefreshGameServerInstanceHeartbeatRequest
      * @return Async Task will return RefreshGameServerInstanceHeartbeatResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+        return RefreshGameServerInstanceHeartbeatAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RefreshGameServerInstanceHeartbeatResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
             public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
                 return privateRefreshGameServerInstanceHeartbeatAsync(request);
             }
@@ -4421,9 +6123,19 @@ public class PlayFabServerAPI {
      * @param request RefreshGameServerInstanceHeartbeatRequest
      * @return RefreshGameServerInstanceHeartbeatResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
-        FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> task = new FutureTask(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+        return RefreshGameServerInstanceHeartbeat(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RefreshGameServerInstanceHeartbeatResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
             public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
                 return privateRefreshGameServerInstanceHeartbeatAsync(request);
             }
@@ -4432,16 +6144,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RefreshGameServerInstanceHeartbeatResult> exceptionResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RefreshGameServerInstanceHeartbeatResultType = new TypeToken<PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>>(){}.getType();
+
     /** Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> privateRefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RefreshGameServerInstanceHeartbeat"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RefreshGameServerInstanceHeartbeat"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RefreshGameServerInstanceHeartbeatResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4452,9 +6168,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>>(){}.getType());
+        PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult> resultData = (PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>) httpResult;
         RefreshGameServerInstanceHeartbeatResult result = resultData.data;
 
         PlayFabResult<RefreshGameServerInstanceHeartbeatResult> pfResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
@@ -4467,9 +6182,19 @@ public class PlayFabServerAPI {
      * @param request RegisterGameRequest
      * @return Async Task will return RegisterGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RegisterGameResponse>> RegisterGameAsync(final RegisterGameRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RegisterGameResponse>>() {
+        return RegisterGameAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RegisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RegisterGameResponse>> RegisterGameAsync(final RegisterGameRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterGameResponse>>() {
             public PlayFabResult<RegisterGameResponse> call() throws Exception {
                 return privateRegisterGameAsync(request);
             }
@@ -4481,9 +6206,19 @@ public class PlayFabServerAPI {
      * @param request RegisterGameRequest
      * @return RegisterGameResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request) {
-        FutureTask<PlayFabResult<RegisterGameResponse>> task = new FutureTask(new Callable<PlayFabResult<RegisterGameResponse>>() {
+        return RegisterGame(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RegisterGameResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RegisterGameResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RegisterGameResponse>>() {
             public PlayFabResult<RegisterGameResponse> call() throws Exception {
                 return privateRegisterGameAsync(request);
             }
@@ -4492,16 +6227,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RegisterGameResponse> exceptionResult = new PlayFabResult<RegisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RegisterGameResultType = new TypeToken<PlayFabJsonSuccess<RegisterGameResponse>>(){}.getType();
+
     /** Inform the matchmaker that a new Game Server Instance is added. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RegisterGameResponse> privateRegisterGameAsync(final RegisterGameRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RegisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RegisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RegisterGameResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4512,9 +6251,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RegisterGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<RegisterGameResponse> resultData = (PlayFabJsonSuccess<RegisterGameResponse>) httpResult;
         RegisterGameResponse result = resultData.data;
 
         PlayFabResult<RegisterGameResponse> pfResult = new PlayFabResult<RegisterGameResponse>();
@@ -4527,9 +6265,19 @@ public class PlayFabServerAPI {
      * @param request RemoveFriendRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveFriendAsync(final RemoveFriendRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveFriendAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> RemoveFriendAsync(final RemoveFriendRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveFriendAsync(request);
             }
@@ -4541,9 +6289,19 @@ public class PlayFabServerAPI {
      * @param request RemoveFriendRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return RemoveFriend(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateRemoveFriendAsync(request);
             }
@@ -4552,16 +6310,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveFriendResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Removes the specified friend from the the user's friend list */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemoveFriendResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4572,9 +6334,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4587,9 +6348,19 @@ public class PlayFabServerAPI {
      * @param request RemovePlayerTagRequest
      * @return Async Task will return RemovePlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+        return RemovePlayerTagAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
                 return privateRemovePlayerTagAsync(request);
             }
@@ -4601,9 +6372,19 @@ public class PlayFabServerAPI {
      * @param request RemovePlayerTagRequest
      * @return RemovePlayerTagResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
-        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+        return RemovePlayerTag(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemovePlayerTagResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
                 return privateRemovePlayerTagAsync(request);
             }
@@ -4612,16 +6393,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemovePlayerTagResultType = new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType();
+
     /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemovePlayerTagResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4632,9 +6417,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -4650,9 +6434,22 @@ public class PlayFabServerAPI {
      * @param request RemoveSharedGroupMembersRequest
      * @return Async Task will return RemoveSharedGroupMembersResult
      */
+    public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
+        return RemoveSharedGroupMembersAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RemoveSharedGroupMembersResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+    public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
                 return privateRemoveSharedGroupMembersAsync(request);
             }
@@ -4667,9 +6464,22 @@ public class PlayFabServerAPI {
      * @param request RemoveSharedGroupMembersRequest
      * @return RemoveSharedGroupMembersResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
-        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+        return RemoveSharedGroupMembers(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request RemoveSharedGroupMembersRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RemoveSharedGroupMembersResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
                 return privateRemoveSharedGroupMembersAsync(request);
             }
@@ -4678,10 +6488,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RemoveSharedGroupMembersResultType = new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType();
+
     /**
      * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
      * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
@@ -4692,7 +6506,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RemoveSharedGroupMembersResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4703,9 +6517,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -4719,9 +6532,20 @@ public class PlayFabServerAPI {
      * @param request ReportPlayerServerRequest
      * @return Async Task will return ReportPlayerServerResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ReportPlayerServerResult>> ReportPlayerAsync(final ReportPlayerServerRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+        return ReportPlayerAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ReportPlayerServerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ReportPlayerServerResult>> ReportPlayerAsync(final ReportPlayerServerRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerServerResult>>() {
             public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
                 return privateReportPlayerAsync(request);
             }
@@ -4734,9 +6558,20 @@ public class PlayFabServerAPI {
      * @param request ReportPlayerServerRequest
      * @return ReportPlayerServerResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request) {
-        FutureTask<PlayFabResult<ReportPlayerServerResult>> task = new FutureTask(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+        return ReportPlayer(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ReportPlayerServerResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ReportPlayerServerResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ReportPlayerServerResult>>() {
             public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
                 return privateReportPlayerAsync(request);
             }
@@ -4745,10 +6580,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ReportPlayerServerResult> exceptionResult = new PlayFabResult<ReportPlayerServerResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type ReportPlayerResultType = new TypeToken<PlayFabJsonSuccess<ReportPlayerServerResult>>(){}.getType();
+
     /**
      * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
      * representatives for the title can take action concerning potentially toxic players.
@@ -4757,7 +6596,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<ReportPlayerServerResult> privateReportPlayerAsync(final ReportPlayerServerRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ReportPlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ReportPlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, ReportPlayerResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4768,9 +6607,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerServerResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = (PlayFabJsonSuccess<ReportPlayerServerResult>) httpResult;
         ReportPlayerServerResult result = resultData.data;
 
         PlayFabResult<ReportPlayerServerResult> pfResult = new PlayFabResult<ReportPlayerServerResult>();
@@ -4783,9 +6621,19 @@ public class PlayFabServerAPI {
      * @param request RevokeAllBansForUserRequest
      * @return Async Task will return RevokeAllBansForUserResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+        return RevokeAllBansForUserAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
                 return privateRevokeAllBansForUserAsync(request);
             }
@@ -4797,9 +6645,19 @@ public class PlayFabServerAPI {
      * @param request RevokeAllBansForUserRequest
      * @return RevokeAllBansForUserResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
-        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+        return RevokeAllBansForUser(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeAllBansForUserResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
                 return privateRevokeAllBansForUserAsync(request);
             }
@@ -4808,16 +6666,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeAllBansForUserResultType = new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType();
+
     /** Revoke all active bans for a user. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeAllBansForUserResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4828,9 +6690,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -4843,9 +6704,19 @@ public class PlayFabServerAPI {
      * @param request RevokeBansRequest
      * @return Async Task will return RevokeBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
+        return RevokeBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
                 return privateRevokeBansAsync(request);
             }
@@ -4857,9 +6728,19 @@ public class PlayFabServerAPI {
      * @param request RevokeBansRequest
      * @return RevokeBansResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
-        FutureTask<PlayFabResult<RevokeBansResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
+        return RevokeBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
                 return privateRevokeBansAsync(request);
             }
@@ -4868,16 +6749,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeBansResultType = new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType();
+
     /** Revoke all active bans specified with BanId. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4888,9 +6773,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -4903,9 +6787,19 @@ public class PlayFabServerAPI {
      * @param request RevokeInventoryItemRequest
      * @return Async Task will return RevokeInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+        return RevokeInventoryItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
                 return privateRevokeInventoryItemAsync(request);
             }
@@ -4917,9 +6811,19 @@ public class PlayFabServerAPI {
      * @param request RevokeInventoryItemRequest
      * @return RevokeInventoryResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
-        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+        return RevokeInventoryItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
                 return privateRevokeInventoryItemAsync(request);
             }
@@ -4928,16 +6832,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeInventoryItemResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType();
+
     /** Revokes access to an item in a user's inventory */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeInventoryItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4948,9 +6856,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -4963,9 +6870,19 @@ public class PlayFabServerAPI {
      * @param request RevokeInventoryItemsRequest
      * @return Async Task will return RevokeInventoryItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+        return RevokeInventoryItemsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
                 return privateRevokeInventoryItemsAsync(request);
             }
@@ -4977,9 +6894,19 @@ public class PlayFabServerAPI {
      * @param request RevokeInventoryItemsRequest
      * @return RevokeInventoryItemsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
-        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+        return RevokeInventoryItems(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return RevokeInventoryItemsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
                 return privateRevokeInventoryItemsAsync(request);
             }
@@ -4988,16 +6915,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type RevokeInventoryItemsResultType = new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType();
+
     /** Revokes access for up to 25 items across multiple users and characters. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, RevokeInventoryItemsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5008,9 +6939,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -5024,9 +6954,20 @@ public class PlayFabServerAPI {
      * @param request SendCustomAccountRecoveryEmailRequest
      * @return Async Task will return SendCustomAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+        return SendCustomAccountRecoveryEmailAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendCustomAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendCustomAccountRecoveryEmailAsync(request);
             }
@@ -5039,9 +6980,20 @@ public class PlayFabServerAPI {
      * @param request SendCustomAccountRecoveryEmailRequest
      * @return SendCustomAccountRecoveryEmailResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
-        FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+        return SendCustomAccountRecoveryEmail(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendCustomAccountRecoveryEmailResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
                 return privateSendCustomAccountRecoveryEmailAsync(request);
             }
@@ -5050,10 +7002,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SendCustomAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SendCustomAccountRecoveryEmailResultType = new TypeToken<PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>>(){}.getType();
+
     /**
      * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
      * email template
@@ -5062,7 +7018,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<SendCustomAccountRecoveryEmailResult> privateSendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendCustomAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendCustomAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SendCustomAccountRecoveryEmailResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5073,9 +7029,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>) httpResult;
         SendCustomAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendCustomAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
@@ -5088,9 +7043,19 @@ public class PlayFabServerAPI {
      * @param request SendEmailFromTemplateRequest
      * @return Async Task will return SendEmailFromTemplateResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+        return SendEmailFromTemplateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendEmailFromTemplateResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
             public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
                 return privateSendEmailFromTemplateAsync(request);
             }
@@ -5102,9 +7067,19 @@ public class PlayFabServerAPI {
      * @param request SendEmailFromTemplateRequest
      * @return SendEmailFromTemplateResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
-        FutureTask<PlayFabResult<SendEmailFromTemplateResult>> task = new FutureTask(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+        return SendEmailFromTemplate(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendEmailFromTemplateResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendEmailFromTemplateResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
             public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
                 return privateSendEmailFromTemplateAsync(request);
             }
@@ -5113,16 +7088,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SendEmailFromTemplateResult> exceptionResult = new PlayFabResult<SendEmailFromTemplateResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SendEmailFromTemplateResultType = new TypeToken<PlayFabJsonSuccess<SendEmailFromTemplateResult>>(){}.getType();
+
     /** Sends an email based on an email template to a player's contact email */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SendEmailFromTemplateResult> privateSendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendEmailFromTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendEmailFromTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SendEmailFromTemplateResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5133,9 +7112,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendEmailFromTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = (PlayFabJsonSuccess<SendEmailFromTemplateResult>) httpResult;
         SendEmailFromTemplateResult result = resultData.data;
 
         PlayFabResult<SendEmailFromTemplateResult> pfResult = new PlayFabResult<SendEmailFromTemplateResult>();
@@ -5149,9 +7127,20 @@ public class PlayFabServerAPI {
      * @param request SendPushNotificationRequest
      * @return Async Task will return SendPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationAsync(final SendPushNotificationRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+        return SendPushNotificationAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SendPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationAsync(final SendPushNotificationRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
                 return privateSendPushNotificationAsync(request);
             }
@@ -5164,9 +7153,20 @@ public class PlayFabServerAPI {
      * @param request SendPushNotificationRequest
      * @return SendPushNotificationResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request) {
-        FutureTask<PlayFabResult<SendPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+        return SendPushNotification(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SendPushNotificationResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SendPushNotificationResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
                 return privateSendPushNotificationAsync(request);
             }
@@ -5175,10 +7175,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SendPushNotificationResult> exceptionResult = new PlayFabResult<SendPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SendPushNotificationResultType = new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType();
+
     /**
      * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
      * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
@@ -5187,7 +7191,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<SendPushNotificationResult> privateSendPushNotificationAsync(final SendPushNotificationRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SendPushNotificationResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5198,9 +7202,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = (PlayFabJsonSuccess<SendPushNotificationResult>) httpResult;
         SendPushNotificationResult result = resultData.data;
 
         PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
@@ -5213,9 +7216,19 @@ public class PlayFabServerAPI {
      * @param request SetFriendTagsRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return SetFriendTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> SetFriendTagsAsync(final SetFriendTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateSetFriendTagsAsync(request);
             }
@@ -5227,9 +7240,19 @@ public class PlayFabServerAPI {
      * @param request SetFriendTagsRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return SetFriendTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateSetFriendTagsAsync(request);
             }
@@ -5238,16 +7261,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetFriendTagsResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Updates the tag list for a specified user in the friend list of another user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetFriendTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetFriendTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetFriendTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5258,9 +7285,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -5273,9 +7299,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceDataRequest
      * @return Async Task will return SetGameServerInstanceDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+        return SetGameServerInstanceDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
             public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
                 return privateSetGameServerInstanceDataAsync(request);
             }
@@ -5287,9 +7323,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceDataRequest
      * @return SetGameServerInstanceDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
-        FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+        return SetGameServerInstanceData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
             public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
                 return privateSetGameServerInstanceDataAsync(request);
             }
@@ -5298,16 +7344,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetGameServerInstanceDataResult> exceptionResult = new PlayFabResult<SetGameServerInstanceDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetGameServerInstanceDataResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceDataResult>>(){}.getType();
+
     /** Sets the custom data of the indicated Game Server Instance */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetGameServerInstanceDataResult> privateSetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetGameServerInstanceDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5318,9 +7368,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetGameServerInstanceDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceDataResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceDataResult>) httpResult;
         SetGameServerInstanceDataResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceDataResult> pfResult = new PlayFabResult<SetGameServerInstanceDataResult>();
@@ -5333,9 +7382,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceStateRequest
      * @return Async Task will return SetGameServerInstanceStateResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+        return SetGameServerInstanceStateAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceStateResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
             public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
                 return privateSetGameServerInstanceStateAsync(request);
             }
@@ -5347,9 +7406,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceStateRequest
      * @return SetGameServerInstanceStateResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
-        FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+        return SetGameServerInstanceState(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceStateResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
             public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
                 return privateSetGameServerInstanceStateAsync(request);
             }
@@ -5358,16 +7427,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetGameServerInstanceStateResult> exceptionResult = new PlayFabResult<SetGameServerInstanceStateResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetGameServerInstanceStateResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceStateResult>>(){}.getType();
+
     /** Set the state of the indicated Game Server Instance. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetGameServerInstanceStateResult> privateSetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceState"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceState"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetGameServerInstanceStateResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5378,9 +7451,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetGameServerInstanceStateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceStateResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceStateResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceStateResult>) httpResult;
         SetGameServerInstanceStateResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceStateResult> pfResult = new PlayFabResult<SetGameServerInstanceStateResult>();
@@ -5393,9 +7465,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceTagsRequest
      * @return Async Task will return SetGameServerInstanceTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+        return SetGameServerInstanceTagsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetGameServerInstanceTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
             public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
                 return privateSetGameServerInstanceTagsAsync(request);
             }
@@ -5407,9 +7489,19 @@ public class PlayFabServerAPI {
      * @param request SetGameServerInstanceTagsRequest
      * @return SetGameServerInstanceTagsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
-        FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+        return SetGameServerInstanceTags(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetGameServerInstanceTagsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
             public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
                 return privateSetGameServerInstanceTagsAsync(request);
             }
@@ -5418,16 +7510,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetGameServerInstanceTagsResult> exceptionResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetGameServerInstanceTagsResultType = new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceTagsResult>>(){}.getType();
+
     /** Set custom tags for the specified Game Server Instance */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetGameServerInstanceTagsResult> privateSetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetGameServerInstanceTagsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5438,9 +7534,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetGameServerInstanceTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceTagsResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceTagsResult>) httpResult;
         SetGameServerInstanceTagsResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceTagsResult> pfResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
@@ -5454,9 +7549,20 @@ public class PlayFabServerAPI {
      * @param request SetPlayerSecretRequest
      * @return Async Task will return SetPlayerSecretResult
      */
+    public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
+        return SetPlayerSecretAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPlayerSecretResult
+     */
     @SuppressWarnings("unchecked")
-    public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+    public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -5469,9 +7575,20 @@ public class PlayFabServerAPI {
      * @param request SetPlayerSecretRequest
      * @return SetPlayerSecretResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
-        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+        return SetPlayerSecret(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPlayerSecretResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
                 return privateSetPlayerSecretAsync(request);
             }
@@ -5480,10 +7597,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPlayerSecretResultType = new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType();
+
     /**
      * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
      * secret use the Admin or Server API method SetPlayerSecret.
@@ -5492,7 +7613,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetPlayerSecretResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5503,9 +7624,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -5518,9 +7638,19 @@ public class PlayFabServerAPI {
      * @param request SetPublisherDataRequest
      * @return Async Task will return SetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+        return SetPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
                 return privateSetPublisherDataAsync(request);
             }
@@ -5532,9 +7662,19 @@ public class PlayFabServerAPI {
      * @param request SetPublisherDataRequest
      * @return SetPublisherDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
-        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+        return SetPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetPublisherDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetPublisherDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
                 return privateSetPublisherDataAsync(request);
             }
@@ -5543,16 +7683,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType();
+
     /** Updates the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5563,9 +7707,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -5578,9 +7721,19 @@ public class PlayFabServerAPI {
      * @param request SetTitleDataRequest
      * @return Async Task will return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleDataAsync(request);
             }
@@ -5592,9 +7745,19 @@ public class PlayFabServerAPI {
      * @param request SetTitleDataRequest
      * @return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
-        FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleDataAsync(request);
             }
@@ -5603,16 +7766,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetTitleDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
     /** Updates the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetTitleDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5623,9 +7790,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -5638,9 +7804,19 @@ public class PlayFabServerAPI {
      * @param request SetTitleDataRequest
      * @return Async Task will return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleInternalDataAsync(request);
             }
@@ -5652,9 +7828,19 @@ public class PlayFabServerAPI {
      * @param request SetTitleDataRequest
      * @return SetTitleDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
-        FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
+        return SetTitleInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return SetTitleDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<SetTitleDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
                 return privateSetTitleInternalDataAsync(request);
             }
@@ -5663,16 +7849,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SetTitleInternalDataResultType = new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType();
+
     /** Updates the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SetTitleInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5683,9 +7873,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -5699,9 +7888,20 @@ public class PlayFabServerAPI {
      * @param request SubtractCharacterVirtualCurrencyRequest
      * @return Async Task will return ModifyCharacterVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+        return SubtractCharacterVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractCharacterVirtualCurrencyAsync(request);
             }
@@ -5714,9 +7914,20 @@ public class PlayFabServerAPI {
      * @param request SubtractCharacterVirtualCurrencyRequest
      * @return ModifyCharacterVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+        return SubtractCharacterVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractCharacterVirtualCurrencyAsync(request);
             }
@@ -5725,10 +7936,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SubtractCharacterVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType();
+
     /**
      * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
      * balance negative with this API.
@@ -5737,7 +7952,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateSubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SubtractCharacterVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5748,9 +7963,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -5764,9 +7978,20 @@ public class PlayFabServerAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return Async Task will return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrencyAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -5779,9 +8004,20 @@ public class PlayFabServerAPI {
      * @param request SubtractUserVirtualCurrencyRequest
      * @return ModifyUserVirtualCurrencyResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
-        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+        return SubtractUserVirtualCurrency(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
                 return privateSubtractUserVirtualCurrencyAsync(request);
             }
@@ -5790,10 +8026,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type SubtractUserVirtualCurrencyResultType = new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType();
+
     /**
      * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
      * balance negative with this API.
@@ -5802,7 +8042,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, SubtractUserVirtualCurrencyResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5813,9 +8053,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -5830,9 +8069,21 @@ public class PlayFabServerAPI {
      * @param request UnlockContainerInstanceRequest
      * @return Async Task will return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerInstanceAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerInstanceAsync(request);
             }
@@ -5846,9 +8097,21 @@ public class PlayFabServerAPI {
      * @param request UnlockContainerInstanceRequest
      * @return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
-        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerInstance(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerInstanceAsync(request);
             }
@@ -5857,10 +8120,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlockContainerInstanceResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
     /**
      * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
      * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
@@ -5870,7 +8137,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UnlockContainerInstanceResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5881,9 +8148,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -5899,9 +8165,22 @@ public class PlayFabServerAPI {
      * @param request UnlockContainerItemRequest
      * @return Async Task will return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerItemAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerItemAsync(request);
             }
@@ -5916,9 +8195,22 @@ public class PlayFabServerAPI {
      * @param request UnlockContainerItemRequest
      * @return UnlockContainerItemResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
-        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+        return UnlockContainerItem(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UnlockContainerItemResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
                 return privateUnlockContainerItemAsync(request);
             }
@@ -5927,10 +8219,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UnlockContainerItemResultType = new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType();
+
     /**
      * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
      * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
@@ -5941,7 +8237,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UnlockContainerItemResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5952,9 +8248,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -5967,9 +8262,19 @@ public class PlayFabServerAPI {
      * @param request UpdateAvatarUrlRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateAvatarUrlAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateAvatarUrlAsync(request);
             }
@@ -5981,9 +8286,19 @@ public class PlayFabServerAPI {
      * @param request UpdateAvatarUrlRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateAvatarUrl(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateAvatarUrlAsync(request);
             }
@@ -5992,16 +8307,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateAvatarUrlResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Update the avatar URL of the specified player */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateAvatarUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateAvatarUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateAvatarUrlResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6012,9 +8331,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6027,9 +8345,19 @@ public class PlayFabServerAPI {
      * @param request UpdateBansRequest
      * @return Async Task will return UpdateBansResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
+        return UpdateBansAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
                 return privateUpdateBansAsync(request);
             }
@@ -6041,9 +8369,19 @@ public class PlayFabServerAPI {
      * @param request UpdateBansRequest
      * @return UpdateBansResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
-        FutureTask<PlayFabResult<UpdateBansResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
+        return UpdateBans(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateBansResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateBansResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
                 return privateUpdateBansAsync(request);
             }
@@ -6052,16 +8390,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateBansResultType = new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType();
+
     /** Updates information of a list of existing bans specified with Ban Ids. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateBansResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6072,9 +8414,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -6087,9 +8428,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return Async Task will return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterDataAsync(request);
             }
@@ -6101,9 +8452,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterDataAsync(request);
             }
@@ -6112,16 +8473,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user's character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCharacterDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6132,9 +8497,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -6147,9 +8511,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return Async Task will return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterInternalDataAsync(request);
             }
@@ -6161,9 +8535,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterInternalDataAsync(request);
             }
@@ -6172,16 +8556,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user's character which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCharacterInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6192,9 +8580,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -6207,9 +8594,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return Async Task will return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterReadOnlyDataAsync(request);
             }
@@ -6221,9 +8618,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterDataRequest
      * @return UpdateCharacterDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+        return UpdateCharacterReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
                 return privateUpdateCharacterReadOnlyDataAsync(request);
             }
@@ -6232,16 +8639,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user's character which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCharacterReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6252,9 +8663,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -6267,9 +8677,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterStatisticsRequest
      * @return Async Task will return UpdateCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+        return UpdateCharacterStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
                 return privateUpdateCharacterStatisticsAsync(request);
             }
@@ -6281,9 +8701,19 @@ public class PlayFabServerAPI {
      * @param request UpdateCharacterStatisticsRequest
      * @return UpdateCharacterStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
-        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+        return UpdateCharacterStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateCharacterStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
                 return privateUpdateCharacterStatisticsAsync(request);
             }
@@ -6292,16 +8722,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateCharacterStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType();
+
     /** Updates the values of the specified title-specific statistics for the specific character */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateCharacterStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6312,9 +8746,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -6327,9 +8760,19 @@ public class PlayFabServerAPI {
      * @param request UpdatePlayerStatisticsRequest
      * @return Async Task will return UpdatePlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+        return UpdatePlayerStatisticsAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
                 return privateUpdatePlayerStatisticsAsync(request);
             }
@@ -6341,9 +8784,19 @@ public class PlayFabServerAPI {
      * @param request UpdatePlayerStatisticsRequest
      * @return UpdatePlayerStatisticsResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
-        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+        return UpdatePlayerStatistics(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdatePlayerStatisticsResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
                 return privateUpdatePlayerStatisticsAsync(request);
             }
@@ -6352,16 +8805,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdatePlayerStatisticsResultType = new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType();
+
     /** Updates the values of the specified title-specific statistics for the user */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdatePlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdatePlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdatePlayerStatisticsResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6372,9 +8829,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -6391,9 +8847,23 @@ public class PlayFabServerAPI {
      * @param request UpdateSharedGroupDataRequest
      * @return Async Task will return UpdateSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+        return UpdateSharedGroupDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
                 return privateUpdateSharedGroupDataAsync(request);
             }
@@ -6409,9 +8879,23 @@ public class PlayFabServerAPI {
      * @param request UpdateSharedGroupDataRequest
      * @return UpdateSharedGroupDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
-        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+        return UpdateSharedGroupData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://api.playfab.com/docs/tutorials/landing-players/shared-groups
+     * @param request UpdateSharedGroupDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateSharedGroupDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
                 return privateUpdateSharedGroupDataAsync(request);
             }
@@ -6420,10 +8904,14 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateSharedGroupDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType();
+
     /**
      * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
      * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
@@ -6435,7 +8923,7 @@ public class PlayFabServerAPI {
     private static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateSharedGroupDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6446,9 +8934,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -6461,9 +8948,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -6475,9 +8972,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserDataAsync(request);
             }
@@ -6486,16 +8993,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6506,9 +9017,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6521,9 +9031,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInternalDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserInternalDataAsync(request);
             }
@@ -6535,9 +9055,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInternalDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserInternalDataAsync(request);
             }
@@ -6546,16 +9076,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6566,9 +9100,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6581,9 +9114,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInventoryItemDataRequest
      * @return Async Task will return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateUserInventoryItemCustomDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateUserInventoryItemCustomDataAsync(request);
             }
@@ -6595,9 +9138,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInventoryItemDataRequest
      * @return EmptyResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
-        FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
+        return UpdateUserInventoryItemCustomData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return EmptyResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<EmptyResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
                 return privateUpdateUserInventoryItemCustomDataAsync(request);
             }
@@ -6606,16 +9159,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserInventoryItemCustomDataResultType = new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType();
+
     /** Updates the key-value pair data tagged to the specified item, which is read-only from the client. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<EmptyResponse> privateUpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInventoryItemCustomData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInventoryItemCustomData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserInventoryItemCustomDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6626,9 +9183,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6641,9 +9197,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -6655,9 +9221,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherDataAsync(request);
             }
@@ -6666,16 +9242,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6686,9 +9266,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6701,9 +9280,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInternalDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherInternalDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherInternalDataAsync(request);
             }
@@ -6715,9 +9304,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserInternalDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherInternalData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherInternalDataAsync(request);
             }
@@ -6726,16 +9325,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherInternalDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherInternalDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6746,9 +9349,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6761,9 +9363,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherReadOnlyDataAsync(request);
             }
@@ -6775,9 +9387,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserPublisherReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserPublisherReadOnlyDataAsync(request);
             }
@@ -6786,16 +9408,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserPublisherReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserPublisherReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6806,9 +9432,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6821,9 +9446,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return Async Task will return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserReadOnlyDataAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserReadOnlyDataAsync(request);
             }
@@ -6835,9 +9470,19 @@ public class PlayFabServerAPI {
      * @param request UpdateUserDataRequest
      * @return UpdateUserDataResult
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
-        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+        return UpdateUserReadOnlyData(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return UpdateUserDataResult
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<UpdateUserDataResult>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
                 return privateUpdateUserReadOnlyDataAsync(request);
             }
@@ -6846,16 +9491,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type UpdateUserReadOnlyDataResultType = new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType();
+
     /** Updates the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, UpdateUserReadOnlyDataResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6866,9 +9515,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6881,9 +9529,19 @@ public class PlayFabServerAPI {
      * @param request WriteServerCharacterEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteServerCharacterEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteCharacterEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteServerCharacterEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteCharacterEventAsync(request);
             }
@@ -6895,9 +9553,19 @@ public class PlayFabServerAPI {
      * @param request WriteServerCharacterEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteCharacterEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteCharacterEventAsync(request);
             }
@@ -6906,16 +9574,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WriteCharacterEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a character-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteServerCharacterEventRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteCharacterEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteCharacterEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, WriteCharacterEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6926,9 +9598,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -6941,9 +9612,19 @@ public class PlayFabServerAPI {
      * @param request WriteServerPlayerEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteServerPlayerEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WritePlayerEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteServerPlayerEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWritePlayerEventAsync(request);
             }
@@ -6955,9 +9636,19 @@ public class PlayFabServerAPI {
      * @param request WriteServerPlayerEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WritePlayerEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWritePlayerEventAsync(request);
             }
@@ -6966,16 +9657,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WritePlayerEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a player-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteServerPlayerEventRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WritePlayerEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WritePlayerEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, WritePlayerEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6986,9 +9681,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -7001,9 +9695,19 @@ public class PlayFabServerAPI {
      * @param request WriteTitleEventRequest
      * @return Async Task will return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
-        return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteTitleEventAsync(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none. Cancelling the task aborts the call
+     * @return Async Task will return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request, long timeoutMs) {
+        return new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteTitleEventAsync(request);
             }
@@ -7015,9 +9719,19 @@ public class PlayFabServerAPI {
      * @param request WriteTitleEventRequest
      * @return WriteEventResponse
      */
-    @SuppressWarnings("unchecked")
     public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
-        FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
+        return WriteTitleEvent(request, PlayFabSettings.CallTimeoutMs);
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @param timeoutMs Deadline for the whole call, including retries; 0 for none
+     * @return WriteEventResponse
+     */
+    @SuppressWarnings("unchecked")
+    public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request, long timeoutMs) {
+        FutureTask<PlayFabResult<WriteEventResponse>> task = new PlayFabCallTask(timeoutMs, new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
                 return privateWriteTitleEventAsync(request);
             }
@@ -7026,16 +9740,20 @@ public class PlayFabServerAPI {
             task.run();
             return task.get();
         } catch(Exception e) {
-            return null;
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GenerateExceptionError(e);
+            return exceptionResult;
         }
     }
 
+    private static final Type WriteTitleEventResultType = new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType();
+
     /** Writes a title-based event into PlayStream. */
     @SuppressWarnings("unchecked")
     private static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
         if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteTitleEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteTitleEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, WriteTitleEventResultType);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7046,9 +9764,8 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
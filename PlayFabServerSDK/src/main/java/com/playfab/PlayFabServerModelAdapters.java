@@ -0,0 +1,13867 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * Precompiled Gson TypeAdapters for every class and enum in PlayFabServerModels.
+ * Fields are read and written directly, so (de)serialization never reflects over model fields, and R8/ProGuard builds
+ * need no keep rules for the models. Registered through PlayFabModelAdapters.FACTORY
+ */
+@SuppressWarnings("deprecation") // Deprecated model fields are still read and written, like any other
+public class PlayFabServerModelAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Integer id = ids.get(type.getRawType());
+            if (id == null)
+                return null;
+            switch (id) {
+                case 0: return (TypeAdapter<T>) new AdCampaignAttributionAdapter(gson);
+                case 1: return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case 2: return (TypeAdapter<T>) new AddCharacterVirtualCurrencyRequestAdapter(gson);
+                case 3: return (TypeAdapter<T>) new AddFriendRequestAdapter(gson);
+                case 4: return (TypeAdapter<T>) new AddPlayerTagRequestAdapter(gson);
+                case 5: return (TypeAdapter<T>) new AddPlayerTagResultAdapter(gson);
+                case 6: return (TypeAdapter<T>) new AddSharedGroupMembersRequestAdapter(gson);
+                case 7: return (TypeAdapter<T>) new AddSharedGroupMembersResultAdapter(gson);
+                case 8: return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case 9: return (TypeAdapter<T>) new AdvancedPushPlatformMsgAdapter(gson);
+                case 10: return (TypeAdapter<T>) new AuthenticateSessionTicketRequestAdapter(gson);
+                case 11: return (TypeAdapter<T>) new AuthenticateSessionTicketResultAdapter(gson);
+                case 12: return (TypeAdapter<T>) new AwardSteamAchievementItemAdapter(gson);
+                case 13: return (TypeAdapter<T>) new AwardSteamAchievementRequestAdapter(gson);
+                case 14: return (TypeAdapter<T>) new AwardSteamAchievementResultAdapter(gson);
+                case 15: return (TypeAdapter<T>) new BanInfoAdapter(gson);
+                case 16: return (TypeAdapter<T>) new BanRequestAdapter(gson);
+                case 17: return (TypeAdapter<T>) new BanUsersRequestAdapter(gson);
+                case 18: return (TypeAdapter<T>) new BanUsersResultAdapter(gson);
+                case 19: return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case 20: return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case 21: return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case 22: return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case 23: return (TypeAdapter<T>) new CharacterInventoryAdapter(gson);
+                case 24: return (TypeAdapter<T>) new CharacterLeaderboardEntryAdapter(gson);
+                case 25: return (TypeAdapter<T>) new CharacterResultAdapter(gson);
+                case 26: return (TypeAdapter<T>) new ConsumeItemRequestAdapter(gson);
+                case 27: return (TypeAdapter<T>) new ConsumeItemResultAdapter(gson);
+                case 28: return (TypeAdapter<T>) new ContactEmailInfoAdapter(gson);
+                case 29: return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case 30: return (TypeAdapter<T>) new CreateSharedGroupRequestAdapter(gson);
+                case 31: return (TypeAdapter<T>) new CreateSharedGroupResultAdapter(gson);
+                case 32: return (TypeAdapter<T>) new DeleteCharacterFromUserRequestAdapter(gson);
+                case 33: return (TypeAdapter<T>) new DeleteCharacterFromUserResultAdapter(gson);
+                case 34: return (TypeAdapter<T>) new DeletePlayerRequestAdapter(gson);
+                case 35: return (TypeAdapter<T>) new DeletePlayerResultAdapter(gson);
+                case 36: return (TypeAdapter<T>) new DeleteSharedGroupRequestAdapter(gson);
+                case 37: return (TypeAdapter<T>) new DeleteUsersRequestAdapter(gson);
+                case 38: return (TypeAdapter<T>) new DeleteUsersResultAdapter(gson);
+                case 39: return (TypeAdapter<T>) new DeregisterGameRequestAdapter(gson);
+                case 40: return (TypeAdapter<T>) new DeregisterGameResponseAdapter(gson);
+                case 41: return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case 42: return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case 43: return (TypeAdapter<T>) new EvaluateRandomResultTableRequestAdapter(gson);
+                case 44: return (TypeAdapter<T>) new EvaluateRandomResultTableResultAdapter(gson);
+                case 45: return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case 46: return (TypeAdapter<T>) new ExecuteCloudScriptServerRequestAdapter(gson);
+                case 47: return (TypeAdapter<T>) new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+                case 48: return (TypeAdapter<T>) new FacebookPlayFabIdPairAdapter(gson);
+                case 49: return (TypeAdapter<T>) new FriendInfoAdapter(gson);
+                case 50: return (TypeAdapter<T>) new GetAllSegmentsRequestAdapter(gson);
+                case 51: return (TypeAdapter<T>) new GetAllSegmentsResultAdapter(gson);
+                case 52: return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case 53: return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case 54: return (TypeAdapter<T>) new GetCharacterDataRequestAdapter(gson);
+                case 55: return (TypeAdapter<T>) new GetCharacterDataResultAdapter(gson);
+                case 56: return (TypeAdapter<T>) new GetCharacterInventoryRequestAdapter(gson);
+                case 57: return (TypeAdapter<T>) new GetCharacterInventoryResultAdapter(gson);
+                case 58: return (TypeAdapter<T>) new GetCharacterLeaderboardRequestAdapter(gson);
+                case 59: return (TypeAdapter<T>) new GetCharacterLeaderboardResultAdapter(gson);
+                case 60: return (TypeAdapter<T>) new GetCharacterStatisticsRequestAdapter(gson);
+                case 61: return (TypeAdapter<T>) new GetCharacterStatisticsResultAdapter(gson);
+                case 62: return (TypeAdapter<T>) new GetContentDownloadUrlRequestAdapter(gson);
+                case 63: return (TypeAdapter<T>) new GetContentDownloadUrlResultAdapter(gson);
+                case 64: return (TypeAdapter<T>) new GetFriendLeaderboardRequestAdapter(gson);
+                case 65: return (TypeAdapter<T>) new GetFriendsListRequestAdapter(gson);
+                case 66: return (TypeAdapter<T>) new GetFriendsListResultAdapter(gson);
+                case 67: return (TypeAdapter<T>) new GetLeaderboardAroundCharacterRequestAdapter(gson);
+                case 68: return (TypeAdapter<T>) new GetLeaderboardAroundCharacterResultAdapter(gson);
+                case 69: return (TypeAdapter<T>) new GetLeaderboardAroundUserRequestAdapter(gson);
+                case 70: return (TypeAdapter<T>) new GetLeaderboardAroundUserResultAdapter(gson);
+                case 71: return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+                case 72: return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersResultAdapter(gson);
+                case 73: return (TypeAdapter<T>) new GetLeaderboardRequestAdapter(gson);
+                case 74: return (TypeAdapter<T>) new GetLeaderboardResultAdapter(gson);
+                case 75: return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestAdapter(gson);
+                case 76: return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+                case 77: return (TypeAdapter<T>) new GetPlayerCombinedInfoResultAdapter(gson);
+                case 78: return (TypeAdapter<T>) new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+                case 79: return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case 80: return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case 81: return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case 82: return (TypeAdapter<T>) new GetPlayersInSegmentRequestAdapter(gson);
+                case 83: return (TypeAdapter<T>) new GetPlayersInSegmentResultAdapter(gson);
+                case 84: return (TypeAdapter<T>) new GetPlayersSegmentsRequestAdapter(gson);
+                case 85: return (TypeAdapter<T>) new GetPlayerStatisticsRequestAdapter(gson);
+                case 86: return (TypeAdapter<T>) new GetPlayerStatisticsResultAdapter(gson);
+                case 87: return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case 88: return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case 89: return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case 90: return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case 91: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+                case 92: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+                case 93: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+                case 94: return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+                case 95: return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+                case 96: return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+                case 97: return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+                case 98: return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+                case 99: return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case 100: return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case 101: return (TypeAdapter<T>) new GetRandomResultTablesRequestAdapter(gson);
+                case 102: return (TypeAdapter<T>) new GetRandomResultTablesResultAdapter(gson);
+                case 103: return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case 104: return (TypeAdapter<T>) new GetSharedGroupDataRequestAdapter(gson);
+                case 105: return (TypeAdapter<T>) new GetSharedGroupDataResultAdapter(gson);
+                case 106: return (TypeAdapter<T>) new GetTimeRequestAdapter(gson);
+                case 107: return (TypeAdapter<T>) new GetTimeResultAdapter(gson);
+                case 108: return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case 109: return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case 110: return (TypeAdapter<T>) new GetTitleNewsRequestAdapter(gson);
+                case 111: return (TypeAdapter<T>) new GetTitleNewsResultAdapter(gson);
+                case 112: return (TypeAdapter<T>) new GetUserAccountInfoRequestAdapter(gson);
+                case 113: return (TypeAdapter<T>) new GetUserAccountInfoResultAdapter(gson);
+                case 114: return (TypeAdapter<T>) new GetUserBansRequestAdapter(gson);
+                case 115: return (TypeAdapter<T>) new GetUserBansResultAdapter(gson);
+                case 116: return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case 117: return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case 118: return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case 119: return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case 120: return (TypeAdapter<T>) new GrantCharacterToUserRequestAdapter(gson);
+                case 121: return (TypeAdapter<T>) new GrantCharacterToUserResultAdapter(gson);
+                case 122: return (TypeAdapter<T>) new GrantedItemInstanceAdapter(gson);
+                case 123: return (TypeAdapter<T>) new GrantItemsToCharacterRequestAdapter(gson);
+                case 124: return (TypeAdapter<T>) new GrantItemsToCharacterResultAdapter(gson);
+                case 125: return (TypeAdapter<T>) new GrantItemsToUserRequestAdapter(gson);
+                case 126: return (TypeAdapter<T>) new GrantItemsToUserResultAdapter(gson);
+                case 127: return (TypeAdapter<T>) new GrantItemsToUsersRequestAdapter(gson);
+                case 128: return (TypeAdapter<T>) new GrantItemsToUsersResultAdapter(gson);
+                case 129: return (TypeAdapter<T>) new ItemGrantAdapter(gson);
+                case 130: return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case 131: return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case 132: return (TypeAdapter<T>) new ListUsersCharactersRequestAdapter(gson);
+                case 133: return (TypeAdapter<T>) new ListUsersCharactersResultAdapter(gson);
+                case 134: return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case 135: return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case 136: return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case 137: return (TypeAdapter<T>) new ModifyCharacterVirtualCurrencyResultAdapter(gson);
+                case 138: return (TypeAdapter<T>) new ModifyItemUsesRequestAdapter(gson);
+                case 139: return (TypeAdapter<T>) new ModifyItemUsesResultAdapter(gson);
+                case 140: return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case 141: return (TypeAdapter<T>) new MoveItemToCharacterFromCharacterRequestAdapter(gson);
+                case 142: return (TypeAdapter<T>) new MoveItemToCharacterFromCharacterResultAdapter(gson);
+                case 143: return (TypeAdapter<T>) new MoveItemToCharacterFromUserRequestAdapter(gson);
+                case 144: return (TypeAdapter<T>) new MoveItemToCharacterFromUserResultAdapter(gson);
+                case 145: return (TypeAdapter<T>) new MoveItemToUserFromCharacterRequestAdapter(gson);
+                case 146: return (TypeAdapter<T>) new MoveItemToUserFromCharacterResultAdapter(gson);
+                case 147: return (TypeAdapter<T>) new NintendoSwitchPlayFabIdPairAdapter(gson);
+                case 148: return (TypeAdapter<T>) new NotifyMatchmakerPlayerLeftRequestAdapter(gson);
+                case 149: return (TypeAdapter<T>) new NotifyMatchmakerPlayerLeftResultAdapter(gson);
+                case 150: return (TypeAdapter<T>) new PlayerLeaderboardEntryAdapter(gson);
+                case 151: return (TypeAdapter<T>) new PlayerLinkedAccountAdapter(gson);
+                case 152: return (TypeAdapter<T>) new PlayerLocationAdapter(gson);
+                case 153: return (TypeAdapter<T>) new PlayerProfileAdapter(gson);
+                case 154: return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case 155: return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case 156: return (TypeAdapter<T>) new PlayerStatisticAdapter(gson);
+                case 157: return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case 158: return (TypeAdapter<T>) new PushNotificationPackageAdapter(gson);
+                case 159: return (TypeAdapter<T>) new PushNotificationRegistrationAdapter(gson);
+                case 160: return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case 161: return (TypeAdapter<T>) new RandomResultTableListingAdapter(gson);
+                case 162: return (TypeAdapter<T>) new RedeemCouponRequestAdapter(gson);
+                case 163: return (TypeAdapter<T>) new RedeemCouponResultAdapter(gson);
+                case 164: return (TypeAdapter<T>) new RedeemMatchmakerTicketRequestAdapter(gson);
+                case 165: return (TypeAdapter<T>) new RedeemMatchmakerTicketResultAdapter(gson);
+                case 166: return (TypeAdapter<T>) new RefreshGameServerInstanceHeartbeatRequestAdapter(gson);
+                case 167: return (TypeAdapter<T>) new RefreshGameServerInstanceHeartbeatResultAdapter(gson);
+                case 168: return (TypeAdapter<T>) new RegisterGameRequestAdapter(gson);
+                case 169: return (TypeAdapter<T>) new RegisterGameResponseAdapter(gson);
+                case 170: return (TypeAdapter<T>) new RemoveFriendRequestAdapter(gson);
+                case 171: return (TypeAdapter<T>) new RemovePlayerTagRequestAdapter(gson);
+                case 172: return (TypeAdapter<T>) new RemovePlayerTagResultAdapter(gson);
+                case 173: return (TypeAdapter<T>) new RemoveSharedGroupMembersRequestAdapter(gson);
+                case 174: return (TypeAdapter<T>) new RemoveSharedGroupMembersResultAdapter(gson);
+                case 175: return (TypeAdapter<T>) new ReportPlayerServerRequestAdapter(gson);
+                case 176: return (TypeAdapter<T>) new ReportPlayerServerResultAdapter(gson);
+                case 177: return (TypeAdapter<T>) new ResultTableNodeAdapter(gson);
+                case 178: return (TypeAdapter<T>) new RevokeAllBansForUserRequestAdapter(gson);
+                case 179: return (TypeAdapter<T>) new RevokeAllBansForUserResultAdapter(gson);
+                case 180: return (TypeAdapter<T>) new RevokeBansRequestAdapter(gson);
+                case 181: return (TypeAdapter<T>) new RevokeBansResultAdapter(gson);
+                case 182: return (TypeAdapter<T>) new RevokeInventoryItemAdapter(gson);
+                case 183: return (TypeAdapter<T>) new RevokeInventoryItemRequestAdapter(gson);
+                case 184: return (TypeAdapter<T>) new RevokeInventoryItemsRequestAdapter(gson);
+                case 185: return (TypeAdapter<T>) new RevokeInventoryItemsResultAdapter(gson);
+                case 186: return (TypeAdapter<T>) new RevokeInventoryResultAdapter(gson);
+                case 187: return (TypeAdapter<T>) new RevokeItemErrorAdapter(gson);
+                case 188: return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case 189: return (TypeAdapter<T>) new SendCustomAccountRecoveryEmailRequestAdapter(gson);
+                case 190: return (TypeAdapter<T>) new SendCustomAccountRecoveryEmailResultAdapter(gson);
+                case 191: return (TypeAdapter<T>) new SendEmailFromTemplateRequestAdapter(gson);
+                case 192: return (TypeAdapter<T>) new SendEmailFromTemplateResultAdapter(gson);
+                case 193: return (TypeAdapter<T>) new SendPushNotificationRequestAdapter(gson);
+                case 194: return (TypeAdapter<T>) new SendPushNotificationResultAdapter(gson);
+                case 195: return (TypeAdapter<T>) new SetFriendTagsRequestAdapter(gson);
+                case 196: return (TypeAdapter<T>) new SetGameServerInstanceDataRequestAdapter(gson);
+                case 197: return (TypeAdapter<T>) new SetGameServerInstanceDataResultAdapter(gson);
+                case 198: return (TypeAdapter<T>) new SetGameServerInstanceStateRequestAdapter(gson);
+                case 199: return (TypeAdapter<T>) new SetGameServerInstanceStateResultAdapter(gson);
+                case 200: return (TypeAdapter<T>) new SetGameServerInstanceTagsRequestAdapter(gson);
+                case 201: return (TypeAdapter<T>) new SetGameServerInstanceTagsResultAdapter(gson);
+                case 202: return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case 203: return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case 204: return (TypeAdapter<T>) new SetPublisherDataRequestAdapter(gson);
+                case 205: return (TypeAdapter<T>) new SetPublisherDataResultAdapter(gson);
+                case 206: return (TypeAdapter<T>) new SetTitleDataRequestAdapter(gson);
+                case 207: return (TypeAdapter<T>) new SetTitleDataResultAdapter(gson);
+                case 208: return (TypeAdapter<T>) new SharedGroupDataRecordAdapter(gson);
+                case 209: return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case 210: return (TypeAdapter<T>) new StatisticNameVersionAdapter(gson);
+                case 211: return (TypeAdapter<T>) new StatisticUpdateAdapter(gson);
+                case 212: return (TypeAdapter<T>) new StatisticValueAdapter(gson);
+                case 213: return (TypeAdapter<T>) new SteamPlayFabIdPairAdapter(gson);
+                case 214: return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case 215: return (TypeAdapter<T>) new SubtractCharacterVirtualCurrencyRequestAdapter(gson);
+                case 216: return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case 217: return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case 218: return (TypeAdapter<T>) new TitleNewsItemAdapter(gson);
+                case 219: return (TypeAdapter<T>) new UnlockContainerInstanceRequestAdapter(gson);
+                case 220: return (TypeAdapter<T>) new UnlockContainerItemRequestAdapter(gson);
+                case 221: return (TypeAdapter<T>) new UnlockContainerItemResultAdapter(gson);
+                case 222: return (TypeAdapter<T>) new UpdateAvatarUrlRequestAdapter(gson);
+                case 223: return (TypeAdapter<T>) new UpdateBanRequestAdapter(gson);
+                case 224: return (TypeAdapter<T>) new UpdateBansRequestAdapter(gson);
+                case 225: return (TypeAdapter<T>) new UpdateBansResultAdapter(gson);
+                case 226: return (TypeAdapter<T>) new UpdateCharacterDataRequestAdapter(gson);
+                case 227: return (TypeAdapter<T>) new UpdateCharacterDataResultAdapter(gson);
+                case 228: return (TypeAdapter<T>) new UpdateCharacterStatisticsRequestAdapter(gson);
+                case 229: return (TypeAdapter<T>) new UpdateCharacterStatisticsResultAdapter(gson);
+                case 230: return (TypeAdapter<T>) new UpdatePlayerStatisticsRequestAdapter(gson);
+                case 231: return (TypeAdapter<T>) new UpdatePlayerStatisticsResultAdapter(gson);
+                case 232: return (TypeAdapter<T>) new UpdateSharedGroupDataRequestAdapter(gson);
+                case 233: return (TypeAdapter<T>) new UpdateSharedGroupDataResultAdapter(gson);
+                case 234: return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case 235: return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case 236: return (TypeAdapter<T>) new UpdateUserInternalDataRequestAdapter(gson);
+                case 237: return (TypeAdapter<T>) new UpdateUserInventoryItemDataRequestAdapter(gson);
+                case 238: return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case 239: return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case 240: return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case 241: return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case 242: return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case 243: return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case 244: return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case 245: return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case 246: return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case 247: return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case 248: return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case 249: return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case 250: return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case 251: return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case 252: return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case 253: return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case 254: return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case 255: return (TypeAdapter<T>) new UserWindowsHelloInfoAdapter(gson);
+                case 256: return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case 257: return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case 258: return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case 259: return (TypeAdapter<T>) new WriteEventResponseAdapter(gson);
+                case 260: return (TypeAdapter<T>) new WriteServerCharacterEventRequestAdapter(gson);
+                case 261: return (TypeAdapter<T>) new WriteServerPlayerEventRequestAdapter(gson);
+                case 262: return (TypeAdapter<T>) new WriteTitleEventRequestAdapter(gson);
+                case 263: return (TypeAdapter<T>) CloudScriptRevisionOptionAdapter;
+                case 264: return (TypeAdapter<T>) ContinentCodeAdapter;
+                case 265: return (TypeAdapter<T>) CountryCodeAdapter;
+                case 266: return (TypeAdapter<T>) CurrencyAdapter;
+                case 267: return (TypeAdapter<T>) EmailVerificationStatusAdapter;
+                case 268: return (TypeAdapter<T>) GameInstanceStateAdapter;
+                case 269: return (TypeAdapter<T>) GenericErrorCodesAdapter;
+                case 270: return (TypeAdapter<T>) LoginIdentityProviderAdapter;
+                case 271: return (TypeAdapter<T>) PlayerConnectionStateAdapter;
+                case 272: return (TypeAdapter<T>) PushNotificationPlatformAdapter;
+                case 273: return (TypeAdapter<T>) RegionAdapter;
+                case 274: return (TypeAdapter<T>) ResultTableNodeTypeAdapter;
+                case 275: return (TypeAdapter<T>) SubscriptionProviderStatusAdapter;
+                case 276: return (TypeAdapter<T>) TitleActivationStatusAdapter;
+                case 277: return (TypeAdapter<T>) UserDataPermissionAdapter;
+                case 278: return (TypeAdapter<T>) UserOriginationAdapter;
+                default: return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+    static {
+        ids.put(AdCampaignAttribution.class, 0);
+        ids.put(AdCampaignAttributionModel.class, 1);
+        ids.put(AddCharacterVirtualCurrencyRequest.class, 2);
+        ids.put(AddFriendRequest.class, 3);
+        ids.put(AddPlayerTagRequest.class, 4);
+        ids.put(AddPlayerTagResult.class, 5);
+        ids.put(AddSharedGroupMembersRequest.class, 6);
+        ids.put(AddSharedGroupMembersResult.class, 7);
+        ids.put(AddUserVirtualCurrencyRequest.class, 8);
+        ids.put(AdvancedPushPlatformMsg.class, 9);
+        ids.put(AuthenticateSessionTicketRequest.class, 10);
+        ids.put(AuthenticateSessionTicketResult.class, 11);
+        ids.put(AwardSteamAchievementItem.class, 12);
+        ids.put(AwardSteamAchievementRequest.class, 13);
+        ids.put(AwardSteamAchievementResult.class, 14);
+        ids.put(BanInfo.class, 15);
+        ids.put(BanRequest.class, 16);
+        ids.put(BanUsersRequest.class, 17);
+        ids.put(BanUsersResult.class, 18);
+        ids.put(CatalogItem.class, 19);
+        ids.put(CatalogItemBundleInfo.class, 20);
+        ids.put(CatalogItemConsumableInfo.class, 21);
+        ids.put(CatalogItemContainerInfo.class, 22);
+        ids.put(CharacterInventory.class, 23);
+        ids.put(CharacterLeaderboardEntry.class, 24);
+        ids.put(CharacterResult.class, 25);
+        ids.put(ConsumeItemRequest.class, 26);
+        ids.put(ConsumeItemResult.class, 27);
+        ids.put(ContactEmailInfo.class, 28);
+        ids.put(ContactEmailInfoModel.class, 29);
+        ids.put(CreateSharedGroupRequest.class, 30);
+        ids.put(CreateSharedGroupResult.class, 31);
+        ids.put(DeleteCharacterFromUserRequest.class, 32);
+        ids.put(DeleteCharacterFromUserResult.class, 33);
+        ids.put(DeletePlayerRequest.class, 34);
+        ids.put(DeletePlayerResult.class, 35);
+        ids.put(DeleteSharedGroupRequest.class, 36);
+        ids.put(DeleteUsersRequest.class, 37);
+        ids.put(DeleteUsersResult.class, 38);
+        ids.put(DeregisterGameRequest.class, 39);
+        ids.put(DeregisterGameResponse.class, 40);
+        ids.put(EmptyResponse.class, 41);
+        ids.put(EntityKey.class, 42);
+        ids.put(EvaluateRandomResultTableRequest.class, 43);
+        ids.put(EvaluateRandomResultTableResult.class, 44);
+        ids.put(ExecuteCloudScriptResult.class, 45);
+        ids.put(ExecuteCloudScriptServerRequest.class, 46);
+        ids.put(FacebookInstantGamesPlayFabIdPair.class, 47);
+        ids.put(FacebookPlayFabIdPair.class, 48);
+        ids.put(FriendInfo.class, 49);
+        ids.put(GetAllSegmentsRequest.class, 50);
+        ids.put(GetAllSegmentsResult.class, 51);
+        ids.put(GetCatalogItemsRequest.class, 52);
+        ids.put(GetCatalogItemsResult.class, 53);
+        ids.put(GetCharacterDataRequest.class, 54);
+        ids.put(GetCharacterDataResult.class, 55);
+        ids.put(GetCharacterInventoryRequest.class, 56);
+        ids.put(GetCharacterInventoryResult.class, 57);
+        ids.put(GetCharacterLeaderboardRequest.class, 58);
+        ids.put(GetCharacterLeaderboardResult.class, 59);
+        ids.put(GetCharacterStatisticsRequest.class, 60);
+        ids.put(GetCharacterStatisticsResult.class, 61);
+        ids.put(GetContentDownloadUrlRequest.class, 62);
+        ids.put(GetContentDownloadUrlResult.class, 63);
+        ids.put(GetFriendLeaderboardRequest.class, 64);
+        ids.put(GetFriendsListRequest.class, 65);
+        ids.put(GetFriendsListResult.class, 66);
+        ids.put(GetLeaderboardAroundCharacterRequest.class, 67);
+        ids.put(GetLeaderboardAroundCharacterResult.class, 68);
+        ids.put(GetLeaderboardAroundUserRequest.class, 69);
+        ids.put(GetLeaderboardAroundUserResult.class, 70);
+        ids.put(GetLeaderboardForUsersCharactersRequest.class, 71);
+        ids.put(GetLeaderboardForUsersCharactersResult.class, 72);
+        ids.put(GetLeaderboardRequest.class, 73);
+        ids.put(GetLeaderboardResult.class, 74);
+        ids.put(GetPlayerCombinedInfoRequest.class, 75);
+        ids.put(GetPlayerCombinedInfoRequestParams.class, 76);
+        ids.put(GetPlayerCombinedInfoResult.class, 77);
+        ids.put(GetPlayerCombinedInfoResultPayload.class, 78);
+        ids.put(GetPlayerProfileRequest.class, 79);
+        ids.put(GetPlayerProfileResult.class, 80);
+        ids.put(GetPlayerSegmentsResult.class, 81);
+        ids.put(GetPlayersInSegmentRequest.class, 82);
+        ids.put(GetPlayersInSegmentResult.class, 83);
+        ids.put(GetPlayersSegmentsRequest.class, 84);
+        ids.put(GetPlayerStatisticsRequest.class, 85);
+        ids.put(GetPlayerStatisticsResult.class, 86);
+        ids.put(GetPlayerStatisticVersionsRequest.class, 87);
+        ids.put(GetPlayerStatisticVersionsResult.class, 88);
+        ids.put(GetPlayerTagsRequest.class, 89);
+        ids.put(GetPlayerTagsResult.class, 90);
+        ids.put(GetPlayFabIDsFromFacebookIDsRequest.class, 91);
+        ids.put(GetPlayFabIDsFromFacebookIDsResult.class, 92);
+        ids.put(GetPlayFabIDsFromFacebookInstantGamesIdsRequest.class, 93);
+        ids.put(GetPlayFabIDsFromFacebookInstantGamesIdsResult.class, 94);
+        ids.put(GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest.class, 95);
+        ids.put(GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class, 96);
+        ids.put(GetPlayFabIDsFromSteamIDsRequest.class, 97);
+        ids.put(GetPlayFabIDsFromSteamIDsResult.class, 98);
+        ids.put(GetPublisherDataRequest.class, 99);
+        ids.put(GetPublisherDataResult.class, 100);
+        ids.put(GetRandomResultTablesRequest.class, 101);
+        ids.put(GetRandomResultTablesResult.class, 102);
+        ids.put(GetSegmentResult.class, 103);
+        ids.put(GetSharedGroupDataRequest.class, 104);
+        ids.put(GetSharedGroupDataResult.class, 105);
+        ids.put(GetTimeRequest.class, 106);
+        ids.put(GetTimeResult.class, 107);
+        ids.put(GetTitleDataRequest.class, 108);
+        ids.put(GetTitleDataResult.class, 109);
+        ids.put(GetTitleNewsRequest.class, 110);
+        ids.put(GetTitleNewsResult.class, 111);
+        ids.put(GetUserAccountInfoRequest.class, 112);
+        ids.put(GetUserAccountInfoResult.class, 113);
+        ids.put(GetUserBansRequest.class, 114);
+        ids.put(GetUserBansResult.class, 115);
+        ids.put(GetUserDataRequest.class, 116);
+        ids.put(GetUserDataResult.class, 117);
+        ids.put(GetUserInventoryRequest.class, 118);
+        ids.put(GetUserInventoryResult.class, 119);
+        ids.put(GrantCharacterToUserRequest.class, 120);
+        ids.put(GrantCharacterToUserResult.class, 121);
+        ids.put(GrantedItemInstance.class, 122);
+        ids.put(GrantItemsToCharacterRequest.class, 123);
+        ids.put(GrantItemsToCharacterResult.class, 124);
+        ids.put(GrantItemsToUserRequest.class, 125);
+        ids.put(GrantItemsToUserResult.class, 126);
+        ids.put(GrantItemsToUsersRequest.class, 127);
+        ids.put(GrantItemsToUsersResult.class, 128);
+        ids.put(ItemGrant.class, 129);
+        ids.put(ItemInstance.class, 130);
+        ids.put(LinkedPlatformAccountModel.class, 131);
+        ids.put(ListUsersCharactersRequest.class, 132);
+        ids.put(ListUsersCharactersResult.class, 133);
+        ids.put(LocationModel.class, 134);
+        ids.put(LogStatement.class, 135);
+        ids.put(MembershipModel.class, 136);
+        ids.put(ModifyCharacterVirtualCurrencyResult.class, 137);
+        ids.put(ModifyItemUsesRequest.class, 138);
+        ids.put(ModifyItemUsesResult.class, 139);
+        ids.put(ModifyUserVirtualCurrencyResult.class, 140);
+        ids.put(MoveItemToCharacterFromCharacterRequest.class, 141);
+        ids.put(MoveItemToCharacterFromCharacterResult.class, 142);
+        ids.put(MoveItemToCharacterFromUserRequest.class, 143);
+        ids.put(MoveItemToCharacterFromUserResult.class, 144);
+        ids.put(MoveItemToUserFromCharacterRequest.class, 145);
+        ids.put(MoveItemToUserFromCharacterResult.class, 146);
+        ids.put(NintendoSwitchPlayFabIdPair.class, 147);
+        ids.put(NotifyMatchmakerPlayerLeftRequest.class, 148);
+        ids.put(NotifyMatchmakerPlayerLeftResult.class, 149);
+        ids.put(PlayerLeaderboardEntry.class, 150);
+        ids.put(PlayerLinkedAccount.class, 151);
+        ids.put(PlayerLocation.class, 152);
+        ids.put(PlayerProfile.class, 153);
+        ids.put(PlayerProfileModel.class, 154);
+        ids.put(PlayerProfileViewConstraints.class, 155);
+        ids.put(PlayerStatistic.class, 156);
+        ids.put(PlayerStatisticVersion.class, 157);
+        ids.put(PushNotificationPackage.class, 158);
+        ids.put(PushNotificationRegistration.class, 159);
+        ids.put(PushNotificationRegistrationModel.class, 160);
+        ids.put(RandomResultTableListing.class, 161);
+        ids.put(RedeemCouponRequest.class, 162);
+        ids.put(RedeemCouponResult.class, 163);
+        ids.put(RedeemMatchmakerTicketRequest.class, 164);
+        ids.put(RedeemMatchmakerTicketResult.class, 165);
+        ids.put(RefreshGameServerInstanceHeartbeatRequest.class, 166);
+        ids.put(RefreshGameServerInstanceHeartbeatResult.class, 167);
+        ids.put(RegisterGameRequest.class, 168);
+        ids.put(RegisterGameResponse.class, 169);
+        ids.put(RemoveFriendRequest.class, 170);
+        ids.put(RemovePlayerTagRequest.class, 171);
+        ids.put(RemovePlayerTagResult.class, 172);
+        ids.put(RemoveSharedGroupMembersRequest.class, 173);
+        ids.put(RemoveSharedGroupMembersResult.class, 174);
+        ids.put(ReportPlayerServerRequest.class, 175);
+        ids.put(ReportPlayerServerResult.class, 176);
+        ids.put(ResultTableNode.class, 177);
+        ids.put(RevokeAllBansForUserRequest.class, 178);
+        ids.put(RevokeAllBansForUserResult.class, 179);
+        ids.put(RevokeBansRequest.class, 180);
+        ids.put(RevokeBansResult.class, 181);
+        ids.put(RevokeInventoryItem.class, 182);
+        ids.put(RevokeInventoryItemRequest.class, 183);
+        ids.put(RevokeInventoryItemsRequest.class, 184);
+        ids.put(RevokeInventoryItemsResult.class, 185);
+        ids.put(RevokeInventoryResult.class, 186);
+        ids.put(RevokeItemError.class, 187);
+        ids.put(ScriptExecutionError.class, 188);
+        ids.put(SendCustomAccountRecoveryEmailRequest.class, 189);
+        ids.put(SendCustomAccountRecoveryEmailResult.class, 190);
+        ids.put(SendEmailFromTemplateRequest.class, 191);
+        ids.put(SendEmailFromTemplateResult.class, 192);
+        ids.put(SendPushNotificationRequest.class, 193);
+        ids.put(SendPushNotificationResult.class, 194);
+        ids.put(SetFriendTagsRequest.class, 195);
+        ids.put(SetGameServerInstanceDataRequest.class, 196);
+        ids.put(SetGameServerInstanceDataResult.class, 197);
+        ids.put(SetGameServerInstanceStateRequest.class, 198);
+        ids.put(SetGameServerInstanceStateResult.class, 199);
+        ids.put(SetGameServerInstanceTagsRequest.class, 200);
+        ids.put(SetGameServerInstanceTagsResult.class, 201);
+        ids.put(SetPlayerSecretRequest.class, 202);
+        ids.put(SetPlayerSecretResult.class, 203);
+        ids.put(SetPublisherDataRequest.class, 204);
+        ids.put(SetPublisherDataResult.class, 205);
+        ids.put(SetTitleDataRequest.class, 206);
+        ids.put(SetTitleDataResult.class, 207);
+        ids.put(SharedGroupDataRecord.class, 208);
+        ids.put(StatisticModel.class, 209);
+        ids.put(StatisticNameVersion.class, 210);
+        ids.put(StatisticUpdate.class, 211);
+        ids.put(StatisticValue.class, 212);
+        ids.put(SteamPlayFabIdPair.class, 213);
+        ids.put(SubscriptionModel.class, 214);
+        ids.put(SubtractCharacterVirtualCurrencyRequest.class, 215);
+        ids.put(SubtractUserVirtualCurrencyRequest.class, 216);
+        ids.put(TagModel.class, 217);
+        ids.put(TitleNewsItem.class, 218);
+        ids.put(UnlockContainerInstanceRequest.class, 219);
+        ids.put(UnlockContainerItemRequest.class, 220);
+        ids.put(UnlockContainerItemResult.class, 221);
+        ids.put(UpdateAvatarUrlRequest.class, 222);
+        ids.put(UpdateBanRequest.class, 223);
+        ids.put(UpdateBansRequest.class, 224);
+        ids.put(UpdateBansResult.class, 225);
+        ids.put(UpdateCharacterDataRequest.class, 226);
+        ids.put(UpdateCharacterDataResult.class, 227);
+        ids.put(UpdateCharacterStatisticsRequest.class, 228);
+        ids.put(UpdateCharacterStatisticsResult.class, 229);
+        ids.put(UpdatePlayerStatisticsRequest.class, 230);
+        ids.put(UpdatePlayerStatisticsResult.class, 231);
+        ids.put(UpdateSharedGroupDataRequest.class, 232);
+        ids.put(UpdateSharedGroupDataResult.class, 233);
+        ids.put(UpdateUserDataRequest.class, 234);
+        ids.put(UpdateUserDataResult.class, 235);
+        ids.put(UpdateUserInternalDataRequest.class, 236);
+        ids.put(UpdateUserInventoryItemDataRequest.class, 237);
+        ids.put(UserAccountInfo.class, 238);
+        ids.put(UserAndroidDeviceInfo.class, 239);
+        ids.put(UserCustomIdInfo.class, 240);
+        ids.put(UserDataRecord.class, 241);
+        ids.put(UserFacebookInfo.class, 242);
+        ids.put(UserFacebookInstantGamesIdInfo.class, 243);
+        ids.put(UserGameCenterInfo.class, 244);
+        ids.put(UserGoogleInfo.class, 245);
+        ids.put(UserIosDeviceInfo.class, 246);
+        ids.put(UserKongregateInfo.class, 247);
+        ids.put(UserNintendoSwitchDeviceIdInfo.class, 248);
+        ids.put(UserOpenIdInfo.class, 249);
+        ids.put(UserPrivateAccountInfo.class, 250);
+        ids.put(UserPsnInfo.class, 251);
+        ids.put(UserSteamInfo.class, 252);
+        ids.put(UserTitleInfo.class, 253);
+        ids.put(UserTwitchInfo.class, 254);
+        ids.put(UserWindowsHelloInfo.class, 255);
+        ids.put(UserXboxInfo.class, 256);
+        ids.put(ValueToDateModel.class, 257);
+        ids.put(VirtualCurrencyRechargeTime.class, 258);
+        ids.put(WriteEventResponse.class, 259);
+        ids.put(WriteServerCharacterEventRequest.class, 260);
+        ids.put(WriteServerPlayerEventRequest.class, 261);
+        ids.put(WriteTitleEventRequest.class, 262);
+        ids.put(CloudScriptRevisionOption.class, 263);
+        ids.put(ContinentCode.class, 264);
+        ids.put(CountryCode.class, 265);
+        ids.put(Currency.class, 266);
+        ids.put(EmailVerificationStatus.class, 267);
+        ids.put(GameInstanceState.class, 268);
+        ids.put(GenericErrorCodes.class, 269);
+        ids.put(LoginIdentityProvider.class, 270);
+        ids.put(PlayerConnectionState.class, 271);
+        ids.put(PushNotificationPlatform.class, 272);
+        ids.put(Region.class, 273);
+        ids.put(ResultTableNodeType.class, 274);
+        ids.put(SubscriptionProviderStatus.class, 275);
+        ids.put(TitleActivationStatus.class, 276);
+        ids.put(UserDataPermission.class, 277);
+        ids.put(UserOrigination.class, 278);
+    }
+
+    static final class AdCampaignAttributionAdapter extends TypeAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AttributedAt != null) {
+                out.name("AttributedAt");
+                dateAdapter.write(out, value.AttributedAt);
+            }
+            if (value.CampaignId != null) {
+                out.name("CampaignId");
+                out.value(value.CampaignId);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                out.value(value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdCampaignAttribution read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttribution value = new AdCampaignAttribution();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                    case "CampaignId": value.CampaignId = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AttributedAt != null) {
+                out.name("AttributedAt");
+                dateAdapter.write(out, value.AttributedAt);
+            }
+            if (value.CampaignId != null) {
+                out.name("CampaignId");
+                out.value(value.CampaignId);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                out.value(value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                    case "CampaignId": value.CampaignId = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddCharacterVirtualCurrencyRequestAdapter extends TypeAdapter<AddCharacterVirtualCurrencyRequest> {
+        AddCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddCharacterVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public AddCharacterVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddCharacterVirtualCurrencyRequest value = new AddCharacterVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddFriendRequestAdapter extends TypeAdapter<AddFriendRequest> {
+        AddFriendRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendEmail != null) {
+                out.name("FriendEmail");
+                out.value(value.FriendEmail);
+            }
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.FriendTitleDisplayName != null) {
+                out.name("FriendTitleDisplayName");
+                out.value(value.FriendTitleDisplayName);
+            }
+            if (value.FriendUsername != null) {
+                out.name("FriendUsername");
+                out.value(value.FriendUsername);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public AddFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendRequest value = new AddFriendRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendEmail": value.FriendEmail = PlayFabModelAdapters.readString(in); break;
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "FriendTitleDisplayName": value.FriendTitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "FriendUsername": value.FriendUsername = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddPlayerTagRequestAdapter extends TypeAdapter<AddPlayerTagRequest> {
+        AddPlayerTagRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TagName != null) {
+                out.name("TagName");
+                out.value(value.TagName);
+            }
+            out.endObject();
+        }
+
+        public AddPlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagRequest value = new AddPlayerTagRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TagName": value.TagName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddPlayerTagResultAdapter extends TypeAdapter<AddPlayerTagResult> {
+        AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddPlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddPlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagResult value = new AddPlayerTagResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddSharedGroupMembersRequestAdapter extends TypeAdapter<AddSharedGroupMembersRequest> {
+        AddSharedGroupMembersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabIds != null) {
+                out.name("PlayFabIds");
+                PlayFabModelAdapters.writeList(out, value.PlayFabIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public AddSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersRequest value = new AddSharedGroupMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabIds": value.PlayFabIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddSharedGroupMembersResultAdapter extends TypeAdapter<AddSharedGroupMembersResult> {
+        AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public AddSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersResult value = new AddSharedGroupMembersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AdvancedPushPlatformMsgAdapter extends TypeAdapter<AdvancedPushPlatformMsg> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        AdvancedPushPlatformMsgAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, AdvancedPushPlatformMsg value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Json != null) {
+                out.name("Json");
+                out.value(value.Json);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public AdvancedPushPlatformMsg read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdvancedPushPlatformMsg value = new AdvancedPushPlatformMsg();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Json": value.Json = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AuthenticateSessionTicketRequestAdapter extends TypeAdapter<AuthenticateSessionTicketRequest> {
+        AuthenticateSessionTicketRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AuthenticateSessionTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SessionTicket != null) {
+                out.name("SessionTicket");
+                out.value(value.SessionTicket);
+            }
+            out.endObject();
+        }
+
+        public AuthenticateSessionTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthenticateSessionTicketRequest value = new AuthenticateSessionTicketRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SessionTicket": value.SessionTicket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AuthenticateSessionTicketResultAdapter extends TypeAdapter<AuthenticateSessionTicketResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        AuthenticateSessionTicketResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        public void write(JsonWriter out, AuthenticateSessionTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UserInfo != null) {
+                out.name("UserInfo");
+                userAccountInfoAdapter.write(out, value.UserInfo);
+            }
+            out.endObject();
+        }
+
+        public AuthenticateSessionTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthenticateSessionTicketResult value = new AuthenticateSessionTicketResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AwardSteamAchievementItemAdapter extends TypeAdapter<AwardSteamAchievementItem> {
+        AwardSteamAchievementItemAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, AwardSteamAchievementItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AchievementName != null) {
+                out.name("AchievementName");
+                out.value(value.AchievementName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Result != null) {
+                out.name("Result");
+                out.value(value.Result.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public AwardSteamAchievementItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementItem value = new AwardSteamAchievementItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AchievementName": value.AchievementName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Result": value.Result = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AwardSteamAchievementRequestAdapter extends TypeAdapter<AwardSteamAchievementRequest> {
+        private final TypeAdapter<AwardSteamAchievementItem> awardSteamAchievementItemAdapter;
+
+        AwardSteamAchievementRequestAdapter(Gson gson) {
+            awardSteamAchievementItemAdapter = gson.getAdapter(AwardSteamAchievementItem.class);
+        }
+
+        public void write(JsonWriter out, AwardSteamAchievementRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Achievements != null) {
+                out.name("Achievements");
+                PlayFabModelAdapters.writeList(out, value.Achievements, awardSteamAchievementItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public AwardSteamAchievementRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementRequest value = new AwardSteamAchievementRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Achievements": value.Achievements = PlayFabModelAdapters.readList(in, awardSteamAchievementItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AwardSteamAchievementResultAdapter extends TypeAdapter<AwardSteamAchievementResult> {
+        private final TypeAdapter<AwardSteamAchievementItem> awardSteamAchievementItemAdapter;
+
+        AwardSteamAchievementResultAdapter(Gson gson) {
+            awardSteamAchievementItemAdapter = gson.getAdapter(AwardSteamAchievementItem.class);
+        }
+
+        public void write(JsonWriter out, AwardSteamAchievementResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AchievementResults != null) {
+                out.name("AchievementResults");
+                PlayFabModelAdapters.writeList(out, value.AchievementResults, awardSteamAchievementItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public AwardSteamAchievementResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementResult value = new AwardSteamAchievementResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AchievementResults": value.AchievementResults = PlayFabModelAdapters.readList(in, awardSteamAchievementItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanInfoAdapter extends TypeAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, BanInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Active != null) {
+                out.name("Active");
+                out.value(value.Active.booleanValue());
+            }
+            if (value.BanId != null) {
+                out.name("BanId");
+                out.value(value.BanId);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public BanInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanInfo value = new BanInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Active": value.Active = PlayFabModelAdapters.readBoolean(in); break;
+                    case "BanId": value.BanId = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanRequestAdapter extends TypeAdapter<BanRequest> {
+        BanRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, BanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DurationInHours != null) {
+                out.name("DurationInHours");
+                out.value(value.DurationInHours);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public BanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanRequest value = new BanRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DurationInHours": value.DurationInHours = PlayFabModelAdapters.readLong(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanUsersRequestAdapter extends TypeAdapter<BanUsersRequest> {
+        private final TypeAdapter<BanRequest> banRequestAdapter;
+
+        BanUsersRequestAdapter(Gson gson) {
+            banRequestAdapter = gson.getAdapter(BanRequest.class);
+        }
+
+        public void write(JsonWriter out, BanUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bans != null) {
+                out.name("Bans");
+                PlayFabModelAdapters.writeList(out, value.Bans, banRequestAdapter);
+            }
+            out.endObject();
+        }
+
+        public BanUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersRequest value = new BanUsersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bans": value.Bans = PlayFabModelAdapters.readList(in, banRequestAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class BanUsersResultAdapter extends TypeAdapter<BanUsersResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        BanUsersResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, BanUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public BanUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersResult value = new BanUsersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+        }
+
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bundle != null) {
+                out.name("Bundle");
+                catalogItemBundleInfoAdapter.write(out, value.Bundle);
+            }
+            if (value.CanBecomeCharacter != null) {
+                out.name("CanBecomeCharacter");
+                out.value(value.CanBecomeCharacter.booleanValue());
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Consumable != null) {
+                out.name("Consumable");
+                catalogItemConsumableInfoAdapter.write(out, value.Consumable);
+            }
+            if (value.Container != null) {
+                out.name("Container");
+                catalogItemContainerInfoAdapter.write(out, value.Container);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                out.value(value.CustomData);
+            }
+            if (value.Description != null) {
+                out.name("Description");
+                out.value(value.Description);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.InitialLimitedEditionCount != null) {
+                out.name("InitialLimitedEditionCount");
+                out.value(value.InitialLimitedEditionCount);
+            }
+            if (value.IsLimitedEdition != null) {
+                out.name("IsLimitedEdition");
+                out.value(value.IsLimitedEdition.booleanValue());
+            }
+            if (value.IsStackable != null) {
+                out.name("IsStackable");
+                out.value(value.IsStackable.booleanValue());
+            }
+            if (value.IsTradable != null) {
+                out.name("IsTradable");
+                out.value(value.IsTradable.booleanValue());
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemImageUrl != null) {
+                out.name("ItemImageUrl");
+                out.value(value.ItemImageUrl);
+            }
+            if (value.RealCurrencyPrices != null) {
+                out.name("RealCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.RealCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyPrices != null) {
+                out.name("VirtualCurrencyPrices");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyPrices, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                    case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabModelAdapters.readBoolean(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                    case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readString(in); break;
+                    case "Description": value.Description = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "IsLimitedEdition": value.IsLimitedEdition = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsStackable": value.IsStackable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IsTradable": value.IsTradable = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemImageUrl": value.ItemImageUrl = PlayFabModelAdapters.readString(in); break;
+                    case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        CatalogItemBundleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BundledItems != null) {
+                out.name("BundledItems");
+                PlayFabModelAdapters.writeList(out, value.BundledItems, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledResultTables != null) {
+                out.name("BundledResultTables");
+                PlayFabModelAdapters.writeList(out, value.BundledResultTables, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundledVirtualCurrencies != null) {
+                out.name("BundledVirtualCurrencies");
+                PlayFabModelAdapters.writeMap(out, value.BundledVirtualCurrencies, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BundledItems": value.BundledItems = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledResultTables": value.BundledResultTables = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UsageCount != null) {
+                out.name("UsageCount");
+                out.value(value.UsageCount);
+            }
+            if (value.UsagePeriod != null) {
+                out.name("UsagePeriod");
+                out.value(value.UsagePeriod);
+            }
+            if (value.UsagePeriodGroup != null) {
+                out.name("UsagePeriodGroup");
+                out.value(value.UsagePeriodGroup);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UsageCount": value.UsageCount = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriod": value.UsagePeriod = PlayFabModelAdapters.readLong(in); break;
+                    case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        CatalogItemContainerInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemContents != null) {
+                out.name("ItemContents");
+                PlayFabModelAdapters.writeList(out, value.ItemContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeyItemId != null) {
+                out.name("KeyItemId");
+                out.value(value.KeyItemId);
+            }
+            if (value.ResultTableContents != null) {
+                out.name("ResultTableContents");
+                PlayFabModelAdapters.writeList(out, value.ResultTableContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.VirtualCurrencyContents != null) {
+                out.name("VirtualCurrencyContents");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyContents, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemContents": value.ItemContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "KeyItemId": value.KeyItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ResultTableContents": value.ResultTableContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterInventoryAdapter extends TypeAdapter<CharacterInventory> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        CharacterInventoryAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, CharacterInventory value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public CharacterInventory read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterInventory value = new CharacterInventory();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterLeaderboardEntryAdapter extends TypeAdapter<CharacterLeaderboardEntry> {
+        CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Position != null) {
+                out.name("Position");
+                out.value(value.Position);
+            }
+            if (value.StatValue != null) {
+                out.name("StatValue");
+                out.value(value.StatValue);
+            }
+            out.endObject();
+        }
+
+        public CharacterLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterLeaderboardEntry value = new CharacterLeaderboardEntry();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Position": value.Position = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatValue": value.StatValue = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CharacterResultAdapter extends TypeAdapter<CharacterResult> {
+        CharacterResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            out.endObject();
+        }
+
+        public CharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterResult value = new CharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeItemRequestAdapter extends TypeAdapter<ConsumeItemRequest> {
+        ConsumeItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ConsumeCount != null) {
+                out.name("ConsumeCount");
+                out.value(value.ConsumeCount);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ConsumeItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemRequest value = new ConsumeItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ConsumeCount": value.ConsumeCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ConsumeItemResultAdapter extends TypeAdapter<ConsumeItemResult> {
+        ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ConsumeItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            out.endObject();
+        }
+
+        public ConsumeItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemResult value = new ConsumeItemResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContactEmailInfoAdapter extends TypeAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        public void write(JsonWriter out, ContactEmailInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.VerificationStatus != null) {
+                out.name("VerificationStatus");
+                emailVerificationStatusAdapter.write(out, value.VerificationStatus);
+            }
+            out.endObject();
+        }
+
+        public ContactEmailInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfo value = new ContactEmailInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailAddress != null) {
+                out.name("EmailAddress");
+                out.value(value.EmailAddress);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.VerificationStatus != null) {
+                out.name("VerificationStatus");
+                emailVerificationStatusAdapter.write(out, value.VerificationStatus);
+            }
+            out.endObject();
+        }
+
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailAddress": value.EmailAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateSharedGroupRequestAdapter extends TypeAdapter<CreateSharedGroupRequest> {
+        CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public CreateSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupRequest value = new CreateSharedGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CreateSharedGroupResultAdapter extends TypeAdapter<CreateSharedGroupResult> {
+        CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public CreateSharedGroupResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupResult value = new CreateSharedGroupResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteCharacterFromUserRequestAdapter extends TypeAdapter<DeleteCharacterFromUserRequest> {
+        DeleteCharacterFromUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteCharacterFromUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SaveCharacterInventory != null) {
+                out.name("SaveCharacterInventory");
+                out.value(value.SaveCharacterInventory.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public DeleteCharacterFromUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteCharacterFromUserRequest value = new DeleteCharacterFromUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SaveCharacterInventory": value.SaveCharacterInventory = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteCharacterFromUserResultAdapter extends TypeAdapter<DeleteCharacterFromUserResult> {
+        DeleteCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteCharacterFromUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeleteCharacterFromUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteCharacterFromUserResult value = new DeleteCharacterFromUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerRequestAdapter extends TypeAdapter<DeletePlayerRequest> {
+        DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public DeletePlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerRequest value = new DeletePlayerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeletePlayerResultAdapter extends TypeAdapter<DeletePlayerResult> {
+        DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeletePlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeletePlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerResult value = new DeletePlayerResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteSharedGroupRequestAdapter extends TypeAdapter<DeleteSharedGroupRequest> {
+        DeleteSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public DeleteSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteSharedGroupRequest value = new DeleteSharedGroupRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteUsersRequestAdapter extends TypeAdapter<DeleteUsersRequest> {
+        DeleteUsersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabIds != null) {
+                out.name("PlayFabIds");
+                PlayFabModelAdapters.writeList(out, value.PlayFabIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            out.endObject();
+        }
+
+        public DeleteUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteUsersRequest value = new DeleteUsersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabIds": value.PlayFabIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeleteUsersResultAdapter extends TypeAdapter<DeleteUsersResult> {
+        DeleteUsersResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeleteUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeleteUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteUsersResult value = new DeleteUsersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeregisterGameRequestAdapter extends TypeAdapter<DeregisterGameRequest> {
+        DeregisterGameRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeregisterGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            out.endObject();
+        }
+
+        public DeregisterGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeregisterGameRequest value = new DeregisterGameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class DeregisterGameResponseAdapter extends TypeAdapter<DeregisterGameResponse> {
+        DeregisterGameResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, DeregisterGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public DeregisterGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeregisterGameResponse value = new DeregisterGameResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Type != null) {
+                out.name("Type");
+                out.value(value.Type);
+            }
+            out.endObject();
+        }
+
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Type": value.Type = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EvaluateRandomResultTableRequestAdapter extends TypeAdapter<EvaluateRandomResultTableRequest> {
+        EvaluateRandomResultTableRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EvaluateRandomResultTableRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.TableId != null) {
+                out.name("TableId");
+                out.value(value.TableId);
+            }
+            out.endObject();
+        }
+
+        public EvaluateRandomResultTableRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EvaluateRandomResultTableRequest value = new EvaluateRandomResultTableRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "TableId": value.TableId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EvaluateRandomResultTableResultAdapter extends TypeAdapter<EvaluateRandomResultTableResult> {
+        EvaluateRandomResultTableResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, EvaluateRandomResultTableResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ResultItemId != null) {
+                out.name("ResultItemId");
+                out.value(value.ResultItemId);
+            }
+            out.endObject();
+        }
+
+        public EvaluateRandomResultTableResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EvaluateRandomResultTableResult value = new EvaluateRandomResultTableResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ResultItemId": value.ResultItemId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.APIRequestsIssued != null) {
+                out.name("APIRequestsIssued");
+                out.value(value.APIRequestsIssued);
+            }
+            if (value.Error != null) {
+                out.name("Error");
+                scriptExecutionErrorAdapter.write(out, value.Error);
+            }
+            if (value.ExecutionTimeSeconds != null) {
+                out.name("ExecutionTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ExecutionTimeSeconds);
+            }
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionResult != null) {
+                out.name("FunctionResult");
+                objectAdapter.write(out, value.FunctionResult);
+            }
+            if (value.FunctionResultTooLarge != null) {
+                out.name("FunctionResultTooLarge");
+                out.value(value.FunctionResultTooLarge.booleanValue());
+            }
+            if (value.HttpRequestsIssued != null) {
+                out.name("HttpRequestsIssued");
+                out.value(value.HttpRequestsIssued);
+            }
+            if (value.Logs != null) {
+                out.name("Logs");
+                PlayFabModelAdapters.writeList(out, value.Logs, logStatementAdapter);
+            }
+            if (value.LogsTooLarge != null) {
+                out.name("LogsTooLarge");
+                out.value(value.LogsTooLarge.booleanValue());
+            }
+            if (value.MemoryConsumedBytes != null) {
+                out.name("MemoryConsumedBytes");
+                out.value(value.MemoryConsumedBytes);
+            }
+            if (value.ProcessorTimeSeconds != null) {
+                out.name("ProcessorTimeSeconds");
+                PlayFabModelAdapters.writeDouble(out, value.ProcessorTimeSeconds);
+            }
+            if (value.Revision != null) {
+                out.name("Revision");
+                out.value(value.Revision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "APIRequestsIssued": value.APIRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                    case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                    case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabModelAdapters.readInteger(in); break;
+                    case "Logs": value.Logs = PlayFabModelAdapters.readList(in, logStatementAdapter); break;
+                    case "LogsTooLarge": value.LogsTooLarge = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabModelAdapters.readLong(in); break;
+                    case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = PlayFabModelAdapters.readDouble(in); break;
+                    case "Revision": value.Revision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ExecuteCloudScriptServerRequestAdapter extends TypeAdapter<ExecuteCloudScriptServerRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteCloudScriptServerRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        public void write(JsonWriter out, ExecuteCloudScriptServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FunctionName != null) {
+                out.name("FunctionName");
+                out.value(value.FunctionName);
+            }
+            if (value.FunctionParameter != null) {
+                out.name("FunctionParameter");
+                objectAdapter.write(out, value.FunctionParameter);
+            }
+            if (value.GeneratePlayStreamEvent != null) {
+                out.name("GeneratePlayStreamEvent");
+                out.value(value.GeneratePlayStreamEvent.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.RevisionSelection != null) {
+                out.name("RevisionSelection");
+                cloudScriptRevisionOptionAdapter.write(out, value.RevisionSelection);
+            }
+            if (value.SpecificRevision != null) {
+                out.name("SpecificRevision");
+                out.value(value.SpecificRevision);
+            }
+            out.endObject();
+        }
+
+        public ExecuteCloudScriptServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptServerRequest value = new ExecuteCloudScriptServerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FunctionName": value.FunctionName = PlayFabModelAdapters.readString(in); break;
+                    case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                    case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                    case "SpecificRevision": value.SpecificRevision = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FacebookInstantGamesPlayFabIdPairAdapter extends TypeAdapter<FacebookInstantGamesPlayFabIdPair> {
+        FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public FacebookInstantGamesPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookInstantGamesPlayFabIdPair value = new FacebookInstantGamesPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FacebookPlayFabIdPairAdapter extends TypeAdapter<FacebookPlayFabIdPair> {
+        FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookId != null) {
+                out.name("FacebookId");
+                out.value(value.FacebookId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public FacebookPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookPlayFabIdPair value = new FacebookPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookId": value.FacebookId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FriendInfoAdapter extends TypeAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        public void write(JsonWriter out, FriendInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CurrentMatchmakerLobbyId != null) {
+                out.name("CurrentMatchmakerLobbyId");
+                out.value(value.CurrentMatchmakerLobbyId);
+            }
+            if (value.FacebookInfo != null) {
+                out.name("FacebookInfo");
+                userFacebookInfoAdapter.write(out, value.FacebookInfo);
+            }
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.GameCenterInfo != null) {
+                out.name("GameCenterInfo");
+                userGameCenterInfoAdapter.write(out, value.GameCenterInfo);
+            }
+            if (value.Profile != null) {
+                out.name("Profile");
+                playerProfileModelAdapter.write(out, value.Profile);
+            }
+            if (value.PSNInfo != null) {
+                out.name("PSNInfo");
+                userPsnInfoAdapter.write(out, value.PSNInfo);
+            }
+            if (value.SteamInfo != null) {
+                out.name("SteamInfo");
+                userSteamInfoAdapter.write(out, value.SteamInfo);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.TitleDisplayName != null) {
+                out.name("TitleDisplayName");
+                out.value(value.TitleDisplayName);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.XboxInfo != null) {
+                out.name("XboxInfo");
+                userXboxInfoAdapter.write(out, value.XboxInfo);
+            }
+            out.endObject();
+        }
+
+        public FriendInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FriendInfo value = new FriendInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CurrentMatchmakerLobbyId": value.CurrentMatchmakerLobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                    case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                    case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); break;
+                    case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "TitleDisplayName": value.TitleDisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAllSegmentsRequestAdapter extends TypeAdapter<GetAllSegmentsRequest> {
+        GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetAllSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsRequest value = new GetAllSegmentsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetAllSegmentsResultAdapter extends TypeAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        public void write(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Segments != null) {
+                out.name("Segments");
+                PlayFabModelAdapters.writeList(out, value.Segments, getSegmentResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetAllSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsResult value = new GetAllSegmentsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Segments": value.Segments = PlayFabModelAdapters.readList(in, getSegmentResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Catalog != null) {
+                out.name("Catalog");
+                PlayFabModelAdapters.writeList(out, value.Catalog, catalogItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Catalog": value.Catalog = PlayFabModelAdapters.readList(in, catalogItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterDataRequestAdapter extends TypeAdapter<GetCharacterDataRequest> {
+        GetCharacterDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.IfChangedFromDataVersion != null) {
+                out.name("IfChangedFromDataVersion");
+                out.value(value.IfChangedFromDataVersion);
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataRequest value = new GetCharacterDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterDataResultAdapter extends TypeAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, userDataRecordAdapter);
+            }
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataResult value = new GetCharacterDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterInventoryRequestAdapter extends TypeAdapter<GetCharacterInventoryRequest> {
+        GetCharacterInventoryRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryRequest value = new GetCharacterInventoryRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterInventoryResultAdapter extends TypeAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryResult value = new GetCharacterInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterLeaderboardRequestAdapter extends TypeAdapter<GetCharacterLeaderboardRequest> {
+        GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardRequest value = new GetCharacterLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterLeaderboardResultAdapter extends TypeAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardResult value = new GetCharacterLeaderboardResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterStatisticsRequestAdapter extends TypeAdapter<GetCharacterStatisticsRequest> {
+        GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsRequest value = new GetCharacterStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetCharacterStatisticsResultAdapter extends TypeAdapter<GetCharacterStatisticsResult> {
+        GetCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterStatistics != null) {
+                out.name("CharacterStatistics");
+                PlayFabModelAdapters.writeMap(out, value.CharacterStatistics, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsResult value = new GetCharacterStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterStatistics": value.CharacterStatistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentDownloadUrlRequestAdapter extends TypeAdapter<GetContentDownloadUrlRequest> {
+        GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.HttpMethod != null) {
+                out.name("HttpMethod");
+                out.value(value.HttpMethod);
+            }
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.ThruCDN != null) {
+                out.name("ThruCDN");
+                out.value(value.ThruCDN.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public GetContentDownloadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlRequest value = new GetContentDownloadUrlRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "HttpMethod": value.HttpMethod = PlayFabModelAdapters.readString(in); break;
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "ThruCDN": value.ThruCDN = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetContentDownloadUrlResultAdapter extends TypeAdapter<GetContentDownloadUrlResult> {
+        GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.URL != null) {
+                out.name("URL");
+                out.value(value.URL);
+            }
+            out.endObject();
+        }
+
+        public GetContentDownloadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlResult value = new GetContentDownloadUrlResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "URL": value.URL = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendLeaderboardRequestAdapter extends TypeAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IncludeFacebookFriends != null) {
+                out.name("IncludeFacebookFriends");
+                out.value(value.IncludeFacebookFriends.booleanValue());
+            }
+            if (value.IncludeSteamFriends != null) {
+                out.name("IncludeSteamFriends");
+                out.value(value.IncludeSteamFriends.booleanValue());
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public GetFriendLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardRequest value = new GetFriendLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendsListRequestAdapter extends TypeAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendsListRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IncludeFacebookFriends != null) {
+                out.name("IncludeFacebookFriends");
+                out.value(value.IncludeFacebookFriends.booleanValue());
+            }
+            if (value.IncludeSteamFriends != null) {
+                out.name("IncludeSteamFriends");
+                out.value(value.IncludeSteamFriends.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.XboxToken != null) {
+                out.name("XboxToken");
+                out.value(value.XboxToken);
+            }
+            out.endObject();
+        }
+
+        public GetFriendsListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListRequest value = new GetFriendsListRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "XboxToken": value.XboxToken = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetFriendsListResultAdapter extends TypeAdapter<GetFriendsListResult> {
+        private final TypeAdapter<FriendInfo> friendInfoAdapter;
+
+        GetFriendsListResultAdapter(Gson gson) {
+            friendInfoAdapter = gson.getAdapter(FriendInfo.class);
+        }
+
+        public void write(JsonWriter out, GetFriendsListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Friends != null) {
+                out.name("Friends");
+                PlayFabModelAdapters.writeList(out, value.Friends, friendInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetFriendsListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListResult value = new GetFriendsListResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Friends": value.Friends = PlayFabModelAdapters.readList(in, friendInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterRequestAdapter extends TypeAdapter<GetLeaderboardAroundCharacterRequest> {
+        GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterRequest value = new GetLeaderboardAroundCharacterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterResultAdapter extends TypeAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterResult value = new GetLeaderboardAroundCharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundUserRequestAdapter extends TypeAdapter<GetLeaderboardAroundUserRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardAroundUserRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundUserRequest value = new GetLeaderboardAroundUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardAroundUserResultAdapter extends TypeAdapter<GetLeaderboardAroundUserResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardAroundUserResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardAroundUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, playerLeaderboardEntryAdapter);
+            }
+            if (value.NextReset != null) {
+                out.name("NextReset");
+                dateAdapter.write(out, value.NextReset);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardAroundUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundUserResult value = new GetLeaderboardAroundUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, playerLeaderboardEntryAdapter); break;
+                    case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersRequestAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersRequest> {
+        GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardForUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersRequest value = new GetLeaderboardForUsersCharactersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersResultAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, characterLeaderboardEntryAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardForUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersResult value = new GetLeaderboardForUsersCharactersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, characterLeaderboardEntryAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardRequestAdapter extends TypeAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.MaxResultsCount != null) {
+                out.name("MaxResultsCount");
+                out.value(value.MaxResultsCount);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.StartPosition != null) {
+                out.name("StartPosition");
+                out.value(value.StartPosition);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardRequest value = new GetLeaderboardRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "MaxResultsCount": value.MaxResultsCount = PlayFabModelAdapters.readInteger(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "StartPosition": value.StartPosition = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetLeaderboardResultAdapter extends TypeAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Leaderboard != null) {
+                out.name("Leaderboard");
+                PlayFabModelAdapters.writeList(out, value.Leaderboard, playerLeaderboardEntryAdapter);
+            }
+            if (value.NextReset != null) {
+                out.name("NextReset");
+                dateAdapter.write(out, value.NextReset);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public GetLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardResult value = new GetLeaderboardResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Leaderboard": value.Leaderboard = PlayFabModelAdapters.readList(in, playerLeaderboardEntryAdapter); break;
+                    case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestAdapter extends TypeAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.InfoRequestParameters != null) {
+                out.name("InfoRequestParameters");
+                getPlayerCombinedInfoRequestParamsAdapter.write(out, value.InfoRequestParameters);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequest value = new GetPlayerCombinedInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestParamsAdapter extends TypeAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GetCharacterInventories != null) {
+                out.name("GetCharacterInventories");
+                out.value(value.GetCharacterInventories.booleanValue());
+            }
+            if (value.GetCharacterList != null) {
+                out.name("GetCharacterList");
+                out.value(value.GetCharacterList.booleanValue());
+            }
+            if (value.GetPlayerProfile != null) {
+                out.name("GetPlayerProfile");
+                out.value(value.GetPlayerProfile.booleanValue());
+            }
+            if (value.GetPlayerStatistics != null) {
+                out.name("GetPlayerStatistics");
+                out.value(value.GetPlayerStatistics.booleanValue());
+            }
+            if (value.GetTitleData != null) {
+                out.name("GetTitleData");
+                out.value(value.GetTitleData.booleanValue());
+            }
+            if (value.GetUserAccountInfo != null) {
+                out.name("GetUserAccountInfo");
+                out.value(value.GetUserAccountInfo.booleanValue());
+            }
+            if (value.GetUserData != null) {
+                out.name("GetUserData");
+                out.value(value.GetUserData.booleanValue());
+            }
+            if (value.GetUserInventory != null) {
+                out.name("GetUserInventory");
+                out.value(value.GetUserInventory.booleanValue());
+            }
+            if (value.GetUserReadOnlyData != null) {
+                out.name("GetUserReadOnlyData");
+                out.value(value.GetUserReadOnlyData.booleanValue());
+            }
+            if (value.GetUserVirtualCurrency != null) {
+                out.name("GetUserVirtualCurrency");
+                out.value(value.GetUserVirtualCurrency.booleanValue());
+            }
+            if (value.PlayerStatisticNames != null) {
+                out.name("PlayerStatisticNames");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatisticNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            if (value.TitleDataKeys != null) {
+                out.name("TitleDataKeys");
+                PlayFabModelAdapters.writeList(out, value.TitleDataKeys, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserDataKeys != null) {
+                out.name("UserDataKeys");
+                PlayFabModelAdapters.writeList(out, value.UserDataKeys, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserReadOnlyDataKeys != null) {
+                out.name("UserReadOnlyDataKeys");
+                PlayFabModelAdapters.writeList(out, value.UserReadOnlyDataKeys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoRequestParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequestParams value = new GetPlayerCombinedInfoRequestParams();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GetCharacterInventories": value.GetCharacterInventories = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetCharacterList": value.GetCharacterList = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetPlayerProfile": value.GetPlayerProfile = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetPlayerStatistics": value.GetPlayerStatistics = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetTitleData": value.GetTitleData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserAccountInfo": value.GetUserAccountInfo = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserData": value.GetUserData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserInventory": value.GetUserInventory = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserReadOnlyData": value.GetUserReadOnlyData = PlayFabModelAdapters.readBoolean(in); break;
+                    case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayerStatisticNames": value.PlayerStatisticNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    case "TitleDataKeys": value.TitleDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "UserDataKeys": value.UserDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultAdapter extends TypeAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.InfoResultPayload != null) {
+                out.name("InfoResultPayload");
+                getPlayerCombinedInfoResultPayloadAdapter.write(out, value.InfoResultPayload);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResult value = new GetPlayerCombinedInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultPayloadAdapter extends TypeAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<CharacterInventory> characterInventoryAdapter;
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryAdapter = gson.getAdapter(CharacterInventory.class);
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AccountInfo != null) {
+                out.name("AccountInfo");
+                userAccountInfoAdapter.write(out, value.AccountInfo);
+            }
+            if (value.CharacterInventories != null) {
+                out.name("CharacterInventories");
+                PlayFabModelAdapters.writeList(out, value.CharacterInventories, characterInventoryAdapter);
+            }
+            if (value.CharacterList != null) {
+                out.name("CharacterList");
+                PlayFabModelAdapters.writeList(out, value.CharacterList, characterResultAdapter);
+            }
+            if (value.PlayerProfile != null) {
+                out.name("PlayerProfile");
+                playerProfileModelAdapter.write(out, value.PlayerProfile);
+            }
+            if (value.PlayerStatistics != null) {
+                out.name("PlayerStatistics");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatistics, statisticValueAdapter);
+            }
+            if (value.TitleData != null) {
+                out.name("TitleData");
+                PlayFabModelAdapters.writeMap(out, value.TitleData, PlayFabModelAdapters.STRING);
+            }
+            if (value.UserData != null) {
+                out.name("UserData");
+                PlayFabModelAdapters.writeMap(out, value.UserData, userDataRecordAdapter);
+            }
+            if (value.UserDataVersion != null) {
+                out.name("UserDataVersion");
+                out.value(value.UserDataVersion);
+            }
+            if (value.UserInventory != null) {
+                out.name("UserInventory");
+                PlayFabModelAdapters.writeList(out, value.UserInventory, itemInstanceAdapter);
+            }
+            if (value.UserReadOnlyData != null) {
+                out.name("UserReadOnlyData");
+                PlayFabModelAdapters.writeMap(out, value.UserReadOnlyData, userDataRecordAdapter);
+            }
+            if (value.UserReadOnlyDataVersion != null) {
+                out.name("UserReadOnlyDataVersion");
+                out.value(value.UserReadOnlyDataVersion);
+            }
+            if (value.UserVirtualCurrency != null) {
+                out.name("UserVirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.UserVirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.UserVirtualCurrencyRechargeTimes != null) {
+                out.name("UserVirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerCombinedInfoResultPayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResultPayload value = new GetPlayerCombinedInfoResultPayload();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                    case "CharacterInventories": value.CharacterInventories = PlayFabModelAdapters.readList(in, characterInventoryAdapter); break;
+                    case "CharacterList": value.CharacterList = PlayFabModelAdapters.readList(in, characterResultAdapter); break;
+                    case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                    case "PlayerStatistics": value.PlayerStatistics = PlayFabModelAdapters.readList(in, statisticValueAdapter); break;
+                    case "TitleData": value.TitleData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "UserData": value.UserData = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "UserDataVersion": value.UserDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "UserInventory": value.UserInventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "UserReadOnlyData": value.UserReadOnlyData = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "UserVirtualCurrency": value.UserVirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ProfileConstraints != null) {
+                out.name("ProfileConstraints");
+                playerProfileViewConstraintsAdapter.write(out, value.ProfileConstraints);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerProfile != null) {
+                out.name("PlayerProfile");
+                playerProfileModelAdapter.write(out, value.PlayerProfile);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Segments != null) {
+                out.name("Segments");
+                PlayFabModelAdapters.writeList(out, value.Segments, getSegmentResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Segments": value.Segments = PlayFabModelAdapters.readList(in, getSegmentResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersInSegmentRequestAdapter extends TypeAdapter<GetPlayersInSegmentRequest> {
+        GetPlayersInSegmentRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ContinuationToken != null) {
+                out.name("ContinuationToken");
+                out.value(value.ContinuationToken);
+            }
+            if (value.MaxBatchSize != null) {
+                out.name("MaxBatchSize");
+                out.value(value.MaxBatchSize);
+            }
+            if (value.SecondsToLive != null) {
+                out.name("SecondsToLive");
+                out.value(value.SecondsToLive);
+            }
+            if (value.SegmentId != null) {
+                out.name("SegmentId");
+                out.value(value.SegmentId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersInSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentRequest value = new GetPlayersInSegmentRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ContinuationToken": value.ContinuationToken = PlayFabModelAdapters.readString(in); break;
+                    case "MaxBatchSize": value.MaxBatchSize = PlayFabModelAdapters.readLong(in); break;
+                    case "SecondsToLive": value.SecondsToLive = PlayFabModelAdapters.readLong(in); break;
+                    case "SegmentId": value.SegmentId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersInSegmentResultAdapter extends TypeAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<PlayerProfile> playerProfileAdapter;
+
+        GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileAdapter = gson.getAdapter(PlayerProfile.class);
+        }
+
+        public void write(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ContinuationToken != null) {
+                out.name("ContinuationToken");
+                out.value(value.ContinuationToken);
+            }
+            if (value.PlayerProfiles != null) {
+                out.name("PlayerProfiles");
+                PlayFabModelAdapters.writeList(out, value.PlayerProfiles, playerProfileAdapter);
+            }
+            if (value.ProfilesInSegment != null) {
+                out.name("ProfilesInSegment");
+                out.value(value.ProfilesInSegment);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersInSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentResult value = new GetPlayersInSegmentResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ContinuationToken": value.ContinuationToken = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerProfiles": value.PlayerProfiles = PlayFabModelAdapters.readList(in, playerProfileAdapter); break;
+                    case "ProfilesInSegment": value.ProfilesInSegment = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayersSegmentsRequestAdapter extends TypeAdapter<GetPlayersSegmentsRequest> {
+        GetPlayersSegmentsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayersSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersSegmentsRequest value = new GetPlayersSegmentsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticsRequestAdapter extends TypeAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<StatisticNameVersion> statisticNameVersionAdapter;
+
+        GetPlayerStatisticsRequestAdapter(Gson gson) {
+            statisticNameVersionAdapter = gson.getAdapter(StatisticNameVersion.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.StatisticNames != null) {
+                out.name("StatisticNames");
+                PlayFabModelAdapters.writeList(out, value.StatisticNames, PlayFabModelAdapters.STRING);
+            }
+            if (value.StatisticNameVersions != null) {
+                out.name("StatisticNameVersions");
+                PlayFabModelAdapters.writeList(out, value.StatisticNameVersions, statisticNameVersionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsRequest value = new GetPlayerStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticNames": value.StatisticNames = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "StatisticNameVersions": value.StatisticNameVersions = PlayFabModelAdapters.readList(in, statisticNameVersionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticsResultAdapter extends TypeAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+
+        GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticValueAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsResult value = new GetPlayerStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticValueAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticVersions != null) {
+                out.name("StatisticVersions");
+                PlayFabModelAdapters.writeList(out, value.StatisticVersions, playerStatisticVersionAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticVersions": value.StatisticVersions = PlayFabModelAdapters.readList(in, playerStatisticVersionAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        GetPlayerTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Namespace != null) {
+                out.name("Namespace");
+                out.value(value.Namespace);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Namespace": value.Namespace = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        GetPlayerTagsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookIDs != null) {
+                out.name("FacebookIDs");
+                PlayFabModelAdapters.writeList(out, value.FacebookIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsRequest value = new GetPlayFabIDsFromFacebookIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookIDs": value.FacebookIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<FacebookPlayFabIdPair> facebookPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairAdapter = gson.getAdapter(FacebookPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, facebookPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsResult value = new GetPlayFabIDsFromFacebookIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, facebookPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesIds != null) {
+                out.name("FacebookInstantGamesIds");
+                PlayFabModelAdapters.writeList(out, value.FacebookInstantGamesIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookInstantGamesIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsRequest value = new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<FacebookInstantGamesPlayFabIdPair> facebookInstantGamesPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairAdapter = gson.getAdapter(FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, facebookInstantGamesPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromFacebookInstantGamesIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsResult value = new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, facebookInstantGamesPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceIds != null) {
+                out.name("NintendoSwitchDeviceIds");
+                PlayFabModelAdapters.writeList(out, value.NintendoSwitchDeviceIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<NintendoSwitchPlayFabIdPair> nintendoSwitchPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairAdapter = gson.getAdapter(NintendoSwitchPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, nintendoSwitchPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, nintendoSwitchPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SteamStringIDs != null) {
+                out.name("SteamStringIDs");
+                PlayFabModelAdapters.writeList(out, value.SteamStringIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromSteamIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsRequest value = new GetPlayFabIDsFromSteamIDsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SteamStringIDs": value.SteamStringIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<SteamPlayFabIdPair> steamPlayFabIdPairAdapter;
+
+        GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairAdapter = gson.getAdapter(SteamPlayFabIdPair.class);
+        }
+
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeList(out, value.Data, steamPlayFabIdPairAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetPlayFabIDsFromSteamIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsResult value = new GetPlayFabIDsFromSteamIDsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readList(in, steamPlayFabIdPairAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        GetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        GetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetRandomResultTablesRequestAdapter extends TypeAdapter<GetRandomResultTablesRequest> {
+        GetRandomResultTablesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.TableIDs != null) {
+                out.name("TableIDs");
+                PlayFabModelAdapters.writeList(out, value.TableIDs, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesRequest value = new GetRandomResultTablesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "TableIDs": value.TableIDs = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetRandomResultTablesResultAdapter extends TypeAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<RandomResultTableListing> randomResultTableListingAdapter;
+
+        GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingAdapter = gson.getAdapter(RandomResultTableListing.class);
+        }
+
+        public void write(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Tables != null) {
+                out.name("Tables");
+                PlayFabModelAdapters.writeMap(out, value.Tables, randomResultTableListingAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesResult value = new GetRandomResultTablesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Tables": value.Tables = PlayFabModelAdapters.readMap(in, randomResultTableListingAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ABTestParent != null) {
+                out.name("ABTestParent");
+                out.value(value.ABTestParent);
+            }
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            out.endObject();
+        }
+
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ABTestParent": value.ABTestParent = PlayFabModelAdapters.readString(in); break;
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSharedGroupDataRequestAdapter extends TypeAdapter<GetSharedGroupDataRequest> {
+        GetSharedGroupDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GetMembers != null) {
+                out.name("GetMembers");
+                out.value(value.GetMembers.booleanValue());
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public GetSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataRequest value = new GetSharedGroupDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GetMembers": value.GetMembers = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetSharedGroupDataResultAdapter extends TypeAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<SharedGroupDataRecord> sharedGroupDataRecordAdapter;
+
+        GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordAdapter = gson.getAdapter(SharedGroupDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, sharedGroupDataRecordAdapter);
+            }
+            if (value.Members != null) {
+                out.name("Members");
+                PlayFabModelAdapters.writeList(out, value.Members, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataResult value = new GetSharedGroupDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, sharedGroupDataRecordAdapter); break;
+                    case "Members": value.Members = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTimeRequestAdapter extends TypeAdapter<GetTimeRequest> {
+        GetTimeRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTimeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public GetTimeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeRequest value = new GetTimeRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTimeResultAdapter extends TypeAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GetTimeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Time != null) {
+                out.name("Time");
+                dateAdapter.write(out, value.Time);
+            }
+            out.endObject();
+        }
+
+        public GetTimeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeResult value = new GetTimeResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Time": value.Time = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        GetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        GetTitleDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleNewsRequestAdapter extends TypeAdapter<GetTitleNewsRequest> {
+        GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Count != null) {
+                out.name("Count");
+                out.value(value.Count);
+            }
+            out.endObject();
+        }
+
+        public GetTitleNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsRequest value = new GetTitleNewsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Count": value.Count = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetTitleNewsResultAdapter extends TypeAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<TitleNewsItem> titleNewsItemAdapter;
+
+        GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemAdapter = gson.getAdapter(TitleNewsItem.class);
+        }
+
+        public void write(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.News != null) {
+                out.name("News");
+                PlayFabModelAdapters.writeList(out, value.News, titleNewsItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetTitleNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsResult value = new GetTitleNewsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "News": value.News = PlayFabModelAdapters.readList(in, titleNewsItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserAccountInfoRequestAdapter extends TypeAdapter<GetUserAccountInfoRequest> {
+        GetUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserAccountInfoRequest value = new GetUserAccountInfoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserAccountInfoResultAdapter extends TypeAdapter<GetUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        GetUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        public void write(JsonWriter out, GetUserAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.UserInfo != null) {
+                out.name("UserInfo");
+                userAccountInfoAdapter.write(out, value.UserInfo);
+            }
+            out.endObject();
+        }
+
+        public GetUserAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserAccountInfoResult value = new GetUserAccountInfoResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserBansRequestAdapter extends TypeAdapter<GetUserBansRequest> {
+        GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansRequest value = new GetUserBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserBansResultAdapter extends TypeAdapter<GetUserBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        GetUserBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, GetUserBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetUserBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansResult value = new GetUserBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        GetUserDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IfChangedFromDataVersion != null) {
+                out.name("IfChangedFromDataVersion");
+                out.value(value.IfChangedFromDataVersion);
+            }
+            if (value.Keys != null) {
+                out.name("Keys");
+                PlayFabModelAdapters.writeList(out, value.Keys, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "Keys": value.Keys = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, userDataRecordAdapter);
+            }
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, userDataRecordAdapter); break;
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        GetUserInventoryRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Inventory != null) {
+                out.name("Inventory");
+                PlayFabModelAdapters.writeList(out, value.Inventory, itemInstanceAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.VirtualCurrencyRechargeTimes != null) {
+                out.name("VirtualCurrencyRechargeTimes");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            }
+            out.endObject();
+        }
+
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Inventory": value.Inventory = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabModelAdapters.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantCharacterToUserRequestAdapter extends TypeAdapter<GrantCharacterToUserRequest> {
+        GrantCharacterToUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterName != null) {
+                out.name("CharacterName");
+                out.value(value.CharacterName);
+            }
+            if (value.CharacterType != null) {
+                out.name("CharacterType");
+                out.value(value.CharacterType);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GrantCharacterToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserRequest value = new GrantCharacterToUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterName": value.CharacterName = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterType": value.CharacterType = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantCharacterToUserResultAdapter extends TypeAdapter<GrantCharacterToUserResult> {
+        GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            out.endObject();
+        }
+
+        public GrantCharacterToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserResult value = new GrantCharacterToUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantedItemInstanceAdapter extends TypeAdapter<GrantedItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GrantedItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, GrantedItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.Result != null) {
+                out.name("Result");
+                out.value(value.Result.booleanValue());
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public GrantedItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantedItemInstance value = new GrantedItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "Result": value.Result = PlayFabModelAdapters.readBoolean(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToCharacterRequestAdapter extends TypeAdapter<GrantItemsToCharacterRequest> {
+        GrantItemsToCharacterRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantItemsToCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemIds != null) {
+                out.name("ItemIds");
+                PlayFabModelAdapters.writeList(out, value.ItemIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToCharacterRequest value = new GrantItemsToCharacterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemIds": value.ItemIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToCharacterResultAdapter extends TypeAdapter<GrantItemsToCharacterResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        GrantItemsToCharacterResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemGrantResults != null) {
+                out.name("ItemGrantResults");
+                PlayFabModelAdapters.writeList(out, value.ItemGrantResults, grantedItemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToCharacterResult value = new GrantItemsToCharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemGrantResults": value.ItemGrantResults = PlayFabModelAdapters.readList(in, grantedItemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUserRequestAdapter extends TypeAdapter<GrantItemsToUserRequest> {
+        GrantItemsToUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, GrantItemsToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.ItemIds != null) {
+                out.name("ItemIds");
+                PlayFabModelAdapters.writeList(out, value.ItemIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUserRequest value = new GrantItemsToUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "ItemIds": value.ItemIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUserResultAdapter extends TypeAdapter<GrantItemsToUserResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        GrantItemsToUserResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemGrantResults != null) {
+                out.name("ItemGrantResults");
+                PlayFabModelAdapters.writeList(out, value.ItemGrantResults, grantedItemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUserResult value = new GrantItemsToUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemGrantResults": value.ItemGrantResults = PlayFabModelAdapters.readList(in, grantedItemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUsersRequestAdapter extends TypeAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<ItemGrant> itemGrantAdapter;
+
+        GrantItemsToUsersRequestAdapter(Gson gson) {
+            itemGrantAdapter = gson.getAdapter(ItemGrant.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.ItemGrants != null) {
+                out.name("ItemGrants");
+                PlayFabModelAdapters.writeList(out, value.ItemGrants, itemGrantAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersRequest value = new GrantItemsToUsersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "ItemGrants": value.ItemGrants = PlayFabModelAdapters.readList(in, itemGrantAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class GrantItemsToUsersResultAdapter extends TypeAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        public void write(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemGrantResults != null) {
+                out.name("ItemGrantResults");
+                PlayFabModelAdapters.writeList(out, value.ItemGrantResults, grantedItemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public GrantItemsToUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersResult value = new GrantItemsToUsersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemGrantResults": value.ItemGrantResults = PlayFabModelAdapters.readList(in, grantedItemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemGrantAdapter extends TypeAdapter<ItemGrant> {
+        ItemGrantAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ItemGrant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ItemGrant read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemGrant value = new ItemGrant();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Annotation != null) {
+                out.name("Annotation");
+                out.value(value.Annotation);
+            }
+            if (value.BundleContents != null) {
+                out.name("BundleContents");
+                PlayFabModelAdapters.writeList(out, value.BundleContents, PlayFabModelAdapters.STRING);
+            }
+            if (value.BundleParent != null) {
+                out.name("BundleParent");
+                out.value(value.BundleParent);
+            }
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                PlayFabModelAdapters.writeMap(out, value.CustomData, PlayFabModelAdapters.STRING);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.ItemClass != null) {
+                out.name("ItemClass");
+                out.value(value.ItemClass);
+            }
+            if (value.ItemId != null) {
+                out.name("ItemId");
+                out.value(value.ItemId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PurchaseDate != null) {
+                out.name("PurchaseDate");
+                dateAdapter.write(out, value.PurchaseDate);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            if (value.UnitCurrency != null) {
+                out.name("UnitCurrency");
+                out.value(value.UnitCurrency);
+            }
+            if (value.UnitPrice != null) {
+                out.name("UnitPrice");
+                out.value(value.UnitPrice);
+            }
+            if (value.UsesIncrementedBy != null) {
+                out.name("UsesIncrementedBy");
+                out.value(value.UsesIncrementedBy);
+            }
+            out.endObject();
+        }
+
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Annotation": value.Annotation = PlayFabModelAdapters.readString(in); break;
+                    case "BundleContents": value.BundleContents = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "BundleParent": value.BundleParent = PlayFabModelAdapters.readString(in); break;
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "ItemClass": value.ItemClass = PlayFabModelAdapters.readString(in); break;
+                    case "ItemId": value.ItemId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    case "UnitCurrency": value.UnitCurrency = PlayFabModelAdapters.readString(in); break;
+                    case "UnitPrice": value.UnitPrice = PlayFabModelAdapters.readLong(in); break;
+                    case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                loginIdentityProviderAdapter.write(out, value.Platform);
+            }
+            if (value.PlatformUserId != null) {
+                out.name("PlatformUserId");
+                out.value(value.PlatformUserId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                    case "PlatformUserId": value.PlatformUserId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListUsersCharactersRequestAdapter extends TypeAdapter<ListUsersCharactersRequest> {
+        ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public ListUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersRequest value = new ListUsersCharactersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ListUsersCharactersResultAdapter extends TypeAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+
+        ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+        }
+
+        public void write(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Characters != null) {
+                out.name("Characters");
+                PlayFabModelAdapters.writeList(out, value.Characters, characterResultAdapter);
+            }
+            out.endObject();
+        }
+
+        public ListUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersResult value = new ListUsersCharactersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Characters": value.Characters = PlayFabModelAdapters.readList(in, characterResultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.City != null) {
+                out.name("City");
+                out.value(value.City);
+            }
+            if (value.ContinentCode != null) {
+                out.name("ContinentCode");
+                continentCodeAdapter.write(out, value.ContinentCode);
+            }
+            if (value.CountryCode != null) {
+                out.name("CountryCode");
+                countryCodeAdapter.write(out, value.CountryCode);
+            }
+            if (value.Latitude != null) {
+                out.name("Latitude");
+                PlayFabModelAdapters.writeDouble(out, value.Latitude);
+            }
+            if (value.Longitude != null) {
+                out.name("Longitude");
+                PlayFabModelAdapters.writeDouble(out, value.Longitude);
+            }
+            out.endObject();
+        }
+
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "City": value.City = PlayFabModelAdapters.readString(in); break;
+                    case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                    case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                    case "Latitude": value.Latitude = PlayFabModelAdapters.readDouble(in); break;
+                    case "Longitude": value.Longitude = PlayFabModelAdapters.readDouble(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                objectAdapter.write(out, value.Data);
+            }
+            if (value.Level != null) {
+                out.name("Level");
+                out.value(value.Level);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            out.endObject();
+        }
+
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = objectAdapter.read(in); break;
+                    case "Level": value.Level = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.MembershipExpiration != null) {
+                out.name("MembershipExpiration");
+                dateAdapter.write(out, value.MembershipExpiration);
+            }
+            if (value.MembershipId != null) {
+                out.name("MembershipId");
+                out.value(value.MembershipId);
+            }
+            if (value.OverrideExpiration != null) {
+                out.name("OverrideExpiration");
+                dateAdapter.write(out, value.OverrideExpiration);
+            }
+            if (value.Subscriptions != null) {
+                out.name("Subscriptions");
+                PlayFabModelAdapters.writeList(out, value.Subscriptions, subscriptionModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                    case "MembershipId": value.MembershipId = PlayFabModelAdapters.readString(in); break;
+                    case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                    case "Subscriptions": value.Subscriptions = PlayFabModelAdapters.readList(in, subscriptionModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyCharacterVirtualCurrencyResultAdapter extends TypeAdapter<ModifyCharacterVirtualCurrencyResult> {
+        ModifyCharacterVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyCharacterVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Balance != null) {
+                out.name("Balance");
+                out.value(value.Balance);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public ModifyCharacterVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyCharacterVirtualCurrencyResult value = new ModifyCharacterVirtualCurrencyResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Balance": value.Balance = PlayFabModelAdapters.readInteger(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyItemUsesRequestAdapter extends TypeAdapter<ModifyItemUsesRequest> {
+        ModifyItemUsesRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyItemUsesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.UsesToAdd != null) {
+                out.name("UsesToAdd");
+                out.value(value.UsesToAdd);
+            }
+            out.endObject();
+        }
+
+        public ModifyItemUsesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyItemUsesRequest value = new ModifyItemUsesRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "UsesToAdd": value.UsesToAdd = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyItemUsesResultAdapter extends TypeAdapter<ModifyItemUsesResult> {
+        ModifyItemUsesResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyItemUsesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.RemainingUses != null) {
+                out.name("RemainingUses");
+                out.value(value.RemainingUses);
+            }
+            out.endObject();
+        }
+
+        public ModifyItemUsesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyItemUsesResult value = new ModifyItemUsesResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "RemainingUses": value.RemainingUses = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Balance != null) {
+                out.name("Balance");
+                out.value(value.Balance);
+            }
+            if (value.BalanceChange != null) {
+                out.name("BalanceChange");
+                out.value(value.BalanceChange);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Balance": value.Balance = PlayFabModelAdapters.readInteger(in); break;
+                    case "BalanceChange": value.BalanceChange = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToCharacterFromCharacterRequestAdapter extends TypeAdapter<MoveItemToCharacterFromCharacterRequest> {
+        MoveItemToCharacterFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToCharacterFromCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GivingCharacterId != null) {
+                out.name("GivingCharacterId");
+                out.value(value.GivingCharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.ReceivingCharacterId != null) {
+                out.name("ReceivingCharacterId");
+                out.value(value.ReceivingCharacterId);
+            }
+            out.endObject();
+        }
+
+        public MoveItemToCharacterFromCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromCharacterRequest value = new MoveItemToCharacterFromCharacterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GivingCharacterId": value.GivingCharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "ReceivingCharacterId": value.ReceivingCharacterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToCharacterFromCharacterResultAdapter extends TypeAdapter<MoveItemToCharacterFromCharacterResult> {
+        MoveItemToCharacterFromCharacterResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToCharacterFromCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public MoveItemToCharacterFromCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromCharacterResult value = new MoveItemToCharacterFromCharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToCharacterFromUserRequestAdapter extends TypeAdapter<MoveItemToCharacterFromUserRequest> {
+        MoveItemToCharacterFromUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToCharacterFromUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public MoveItemToCharacterFromUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromUserRequest value = new MoveItemToCharacterFromUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToCharacterFromUserResultAdapter extends TypeAdapter<MoveItemToCharacterFromUserResult> {
+        MoveItemToCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToCharacterFromUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public MoveItemToCharacterFromUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromUserResult value = new MoveItemToCharacterFromUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToUserFromCharacterRequestAdapter extends TypeAdapter<MoveItemToUserFromCharacterRequest> {
+        MoveItemToUserFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToUserFromCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public MoveItemToUserFromCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToUserFromCharacterRequest value = new MoveItemToUserFromCharacterRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MoveItemToUserFromCharacterResultAdapter extends TypeAdapter<MoveItemToUserFromCharacterResult> {
+        MoveItemToUserFromCharacterResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, MoveItemToUserFromCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public MoveItemToUserFromCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToUserFromCharacterResult value = new MoveItemToUserFromCharacterResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NintendoSwitchPlayFabIdPairAdapter extends TypeAdapter<NintendoSwitchPlayFabIdPair> {
+        NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public NintendoSwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NintendoSwitchPlayFabIdPair value = new NintendoSwitchPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NotifyMatchmakerPlayerLeftRequestAdapter extends TypeAdapter<NotifyMatchmakerPlayerLeftRequest> {
+        NotifyMatchmakerPlayerLeftRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, NotifyMatchmakerPlayerLeftRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public NotifyMatchmakerPlayerLeftRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NotifyMatchmakerPlayerLeftRequest value = new NotifyMatchmakerPlayerLeftRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NotifyMatchmakerPlayerLeftResultAdapter extends TypeAdapter<NotifyMatchmakerPlayerLeftResult> {
+        private final TypeAdapter<PlayerConnectionState> playerConnectionStateAdapter;
+
+        NotifyMatchmakerPlayerLeftResultAdapter(Gson gson) {
+            playerConnectionStateAdapter = gson.getAdapter(PlayerConnectionState.class);
+        }
+
+        public void write(JsonWriter out, NotifyMatchmakerPlayerLeftResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerState != null) {
+                out.name("PlayerState");
+                playerConnectionStateAdapter.write(out, value.PlayerState);
+            }
+            out.endObject();
+        }
+
+        public NotifyMatchmakerPlayerLeftResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NotifyMatchmakerPlayerLeftResult value = new NotifyMatchmakerPlayerLeftResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerState": value.PlayerState = playerConnectionStateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLeaderboardEntryAdapter extends TypeAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        public void write(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Position != null) {
+                out.name("Position");
+                out.value(value.Position);
+            }
+            if (value.Profile != null) {
+                out.name("Profile");
+                playerProfileModelAdapter.write(out, value.Profile);
+            }
+            if (value.StatValue != null) {
+                out.name("StatValue");
+                out.value(value.StatValue);
+            }
+            out.endObject();
+        }
+
+        public PlayerLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeaderboardEntry value = new PlayerLeaderboardEntry();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Position": value.Position = PlayFabModelAdapters.readInteger(in); break;
+                    case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                    case "StatValue": value.StatValue = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLinkedAccountAdapter extends TypeAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        public void write(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                loginIdentityProviderAdapter.write(out, value.Platform);
+            }
+            if (value.PlatformUserId != null) {
+                out.name("PlatformUserId");
+                out.value(value.PlatformUserId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public PlayerLinkedAccount read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLinkedAccount value = new PlayerLinkedAccount();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                    case "PlatformUserId": value.PlatformUserId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerLocationAdapter extends TypeAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        public void write(JsonWriter out, PlayerLocation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.City != null) {
+                out.name("City");
+                out.value(value.City);
+            }
+            if (value.ContinentCode != null) {
+                out.name("ContinentCode");
+                continentCodeAdapter.write(out, value.ContinentCode);
+            }
+            if (value.CountryCode != null) {
+                out.name("CountryCode");
+                countryCodeAdapter.write(out, value.CountryCode);
+            }
+            if (value.Latitude != null) {
+                out.name("Latitude");
+                PlayFabModelAdapters.writeDouble(out, value.Latitude);
+            }
+            if (value.Longitude != null) {
+                out.name("Longitude");
+                PlayFabModelAdapters.writeDouble(out, value.Longitude);
+            }
+            out.endObject();
+        }
+
+        public PlayerLocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLocation value = new PlayerLocation();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "City": value.City = PlayFabModelAdapters.readString(in); break;
+                    case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                    case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                    case "Latitude": value.Latitude = PlayFabModelAdapters.readDouble(in); break;
+                    case "Longitude": value.Longitude = PlayFabModelAdapters.readDouble(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileAdapter extends TypeAdapter<PlayerProfile> {
+        private final TypeAdapter<AdCampaignAttribution> adCampaignAttributionAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfo> contactEmailInfoAdapter;
+        private final TypeAdapter<PlayerLinkedAccount> playerLinkedAccountAdapter;
+        private final TypeAdapter<PlayerLocation> playerLocationAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PlayerStatistic> playerStatisticAdapter;
+        private final TypeAdapter<PushNotificationRegistration> pushNotificationRegistrationAdapter;
+
+        PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionAdapter = gson.getAdapter(AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoAdapter = gson.getAdapter(ContactEmailInfo.class);
+            playerLinkedAccountAdapter = gson.getAdapter(PlayerLinkedAccount.class);
+            playerLocationAdapter = gson.getAdapter(PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            playerStatisticAdapter = gson.getAdapter(PlayerStatistic.class);
+            pushNotificationRegistrationAdapter = gson.getAdapter(PushNotificationRegistration.class);
+        }
+
+        public void write(JsonWriter out, PlayerProfile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdCampaignAttributions != null) {
+                out.name("AdCampaignAttributions");
+                PlayFabModelAdapters.writeList(out, value.AdCampaignAttributions, adCampaignAttributionAdapter);
+            }
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.BannedUntil != null) {
+                out.name("BannedUntil");
+                dateAdapter.write(out, value.BannedUntil);
+            }
+            if (value.ContactEmailAddresses != null) {
+                out.name("ContactEmailAddresses");
+                PlayFabModelAdapters.writeList(out, value.ContactEmailAddresses, contactEmailInfoAdapter);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.LinkedAccounts != null) {
+                out.name("LinkedAccounts");
+                PlayFabModelAdapters.writeList(out, value.LinkedAccounts, playerLinkedAccountAdapter);
+            }
+            if (value.Locations != null) {
+                out.name("Locations");
+                PlayFabModelAdapters.writeMap(out, value.Locations, playerLocationAdapter);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                loginIdentityProviderAdapter.write(out, value.Origination);
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PlayerStatistics != null) {
+                out.name("PlayerStatistics");
+                PlayFabModelAdapters.writeList(out, value.PlayerStatistics, playerStatisticAdapter);
+            }
+            if (value.PublisherId != null) {
+                out.name("PublisherId");
+                out.value(value.PublisherId);
+            }
+            if (value.PushNotificationRegistrations != null) {
+                out.name("PushNotificationRegistrations");
+                PlayFabModelAdapters.writeList(out, value.PushNotificationRegistrations, pushNotificationRegistrationAdapter);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeMap(out, value.Statistics, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TotalValueToDateInUSD != null) {
+                out.name("TotalValueToDateInUSD");
+                out.value(value.TotalValueToDateInUSD);
+            }
+            if (value.ValuesToDate != null) {
+                out.name("ValuesToDate");
+                PlayFabModelAdapters.writeMap(out, value.ValuesToDate, PlayFabModelAdapters.LONG);
+            }
+            if (value.VirtualCurrencyBalances != null) {
+                out.name("VirtualCurrencyBalances");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrencyBalances, PlayFabModelAdapters.INTEGER);
+            }
+            out.endObject();
+        }
+
+        public PlayerProfile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfile value = new PlayerProfile();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabModelAdapters.readList(in, adCampaignAttributionAdapter); break;
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                    case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabModelAdapters.readList(in, contactEmailInfoAdapter); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "LinkedAccounts": value.LinkedAccounts = PlayFabModelAdapters.readList(in, playerLinkedAccountAdapter); break;
+                    case "Locations": value.Locations = PlayFabModelAdapters.readMap(in, playerLocationAdapter); break;
+                    case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayerStatistics": value.PlayerStatistics = PlayFabModelAdapters.readList(in, playerStatisticAdapter); break;
+                    case "PublisherId": value.PublisherId = PlayFabModelAdapters.readString(in); break;
+                    case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabModelAdapters.readList(in, pushNotificationRegistrationAdapter); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabModelAdapters.readLong(in); break;
+                    case "ValuesToDate": value.ValuesToDate = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdCampaignAttributions != null) {
+                out.name("AdCampaignAttributions");
+                PlayFabModelAdapters.writeList(out, value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            }
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.BannedUntil != null) {
+                out.name("BannedUntil");
+                dateAdapter.write(out, value.BannedUntil);
+            }
+            if (value.ContactEmailAddresses != null) {
+                out.name("ContactEmailAddresses");
+                PlayFabModelAdapters.writeList(out, value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.LinkedAccounts != null) {
+                out.name("LinkedAccounts");
+                PlayFabModelAdapters.writeList(out, value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            }
+            if (value.Locations != null) {
+                out.name("Locations");
+                PlayFabModelAdapters.writeList(out, value.Locations, locationModelAdapter);
+            }
+            if (value.Memberships != null) {
+                out.name("Memberships");
+                PlayFabModelAdapters.writeList(out, value.Memberships, membershipModelAdapter);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                loginIdentityProviderAdapter.write(out, value.Origination);
+            }
+            if (value.PlayerId != null) {
+                out.name("PlayerId");
+                out.value(value.PlayerId);
+            }
+            if (value.PublisherId != null) {
+                out.name("PublisherId");
+                out.value(value.PublisherId);
+            }
+            if (value.PushNotificationRegistrations != null) {
+                out.name("PushNotificationRegistrations");
+                PlayFabModelAdapters.writeList(out, value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticModelAdapter);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, tagModelAdapter);
+            }
+            if (value.TitleId != null) {
+                out.name("TitleId");
+                out.value(value.TitleId);
+            }
+            if (value.TotalValueToDateInUSD != null) {
+                out.name("TotalValueToDateInUSD");
+                out.value(value.TotalValueToDateInUSD);
+            }
+            if (value.ValuesToDate != null) {
+                out.name("ValuesToDate");
+                PlayFabModelAdapters.writeList(out, value.ValuesToDate, valueToDateModelAdapter);
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabModelAdapters.readList(in, adCampaignAttributionModelAdapter); break;
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                    case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabModelAdapters.readList(in, contactEmailInfoModelAdapter); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "LinkedAccounts": value.LinkedAccounts = PlayFabModelAdapters.readList(in, linkedPlatformAccountModelAdapter); break;
+                    case "Locations": value.Locations = PlayFabModelAdapters.readList(in, locationModelAdapter); break;
+                    case "Memberships": value.Memberships = PlayFabModelAdapters.readList(in, membershipModelAdapter); break;
+                    case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                    case "PlayerId": value.PlayerId = PlayFabModelAdapters.readString(in); break;
+                    case "PublisherId": value.PublisherId = PlayFabModelAdapters.readString(in); break;
+                    case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabModelAdapters.readList(in, pushNotificationRegistrationModelAdapter); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticModelAdapter); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, tagModelAdapter); break;
+                    case "TitleId": value.TitleId = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabModelAdapters.readLong(in); break;
+                    case "ValuesToDate": value.ValuesToDate = PlayFabModelAdapters.readList(in, valueToDateModelAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ShowAvatarUrl != null) {
+                out.name("ShowAvatarUrl");
+                out.value(value.ShowAvatarUrl.booleanValue());
+            }
+            if (value.ShowBannedUntil != null) {
+                out.name("ShowBannedUntil");
+                out.value(value.ShowBannedUntil.booleanValue());
+            }
+            if (value.ShowCampaignAttributions != null) {
+                out.name("ShowCampaignAttributions");
+                out.value(value.ShowCampaignAttributions.booleanValue());
+            }
+            if (value.ShowContactEmailAddresses != null) {
+                out.name("ShowContactEmailAddresses");
+                out.value(value.ShowContactEmailAddresses.booleanValue());
+            }
+            if (value.ShowCreated != null) {
+                out.name("ShowCreated");
+                out.value(value.ShowCreated.booleanValue());
+            }
+            if (value.ShowDisplayName != null) {
+                out.name("ShowDisplayName");
+                out.value(value.ShowDisplayName.booleanValue());
+            }
+            if (value.ShowLastLogin != null) {
+                out.name("ShowLastLogin");
+                out.value(value.ShowLastLogin.booleanValue());
+            }
+            if (value.ShowLinkedAccounts != null) {
+                out.name("ShowLinkedAccounts");
+                out.value(value.ShowLinkedAccounts.booleanValue());
+            }
+            if (value.ShowLocations != null) {
+                out.name("ShowLocations");
+                out.value(value.ShowLocations.booleanValue());
+            }
+            if (value.ShowMemberships != null) {
+                out.name("ShowMemberships");
+                out.value(value.ShowMemberships.booleanValue());
+            }
+            if (value.ShowOrigination != null) {
+                out.name("ShowOrigination");
+                out.value(value.ShowOrigination.booleanValue());
+            }
+            if (value.ShowPushNotificationRegistrations != null) {
+                out.name("ShowPushNotificationRegistrations");
+                out.value(value.ShowPushNotificationRegistrations.booleanValue());
+            }
+            if (value.ShowStatistics != null) {
+                out.name("ShowStatistics");
+                out.value(value.ShowStatistics.booleanValue());
+            }
+            if (value.ShowTags != null) {
+                out.name("ShowTags");
+                out.value(value.ShowTags.booleanValue());
+            }
+            if (value.ShowTotalValueToDateInUsd != null) {
+                out.name("ShowTotalValueToDateInUsd");
+                out.value(value.ShowTotalValueToDateInUsd.booleanValue());
+            }
+            if (value.ShowValuesToDate != null) {
+                out.name("ShowValuesToDate");
+                out.value(value.ShowValuesToDate.booleanValue());
+            }
+            out.endObject();
+        }
+
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowBannedUntil": value.ShowBannedUntil = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowCreated": value.ShowCreated = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowDisplayName": value.ShowDisplayName = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLastLogin": value.ShowLastLogin = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowLocations": value.ShowLocations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowMemberships": value.ShowMemberships = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowOrigination": value.ShowOrigination = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowStatistics": value.ShowStatistics = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTags": value.ShowTags = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabModelAdapters.readBoolean(in); break;
+                    case "ShowValuesToDate": value.ShowValuesToDate = PlayFabModelAdapters.readBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticAdapter extends TypeAdapter<PlayerStatistic> {
+        PlayerStatisticAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PlayerStatistic value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Id != null) {
+                out.name("Id");
+                out.value(value.Id);
+            }
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.StatisticValue != null) {
+                out.name("StatisticValue");
+                out.value(value.StatisticValue);
+            }
+            if (value.StatisticVersion != null) {
+                out.name("StatisticVersion");
+                out.value(value.StatisticVersion);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatistic read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatistic value = new PlayerStatistic();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Id": value.Id = PlayFabModelAdapters.readString(in); break;
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "StatisticValue": value.StatisticValue = PlayFabModelAdapters.readInteger(in); break;
+                    case "StatisticVersion": value.StatisticVersion = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ActivationTime != null) {
+                out.name("ActivationTime");
+                dateAdapter.write(out, value.ActivationTime);
+            }
+            if (value.DeactivationTime != null) {
+                out.name("DeactivationTime");
+                dateAdapter.write(out, value.DeactivationTime);
+            }
+            if (value.ScheduledActivationTime != null) {
+                out.name("ScheduledActivationTime");
+                dateAdapter.write(out, value.ScheduledActivationTime);
+            }
+            if (value.ScheduledDeactivationTime != null) {
+                out.name("ScheduledDeactivationTime");
+                dateAdapter.write(out, value.ScheduledDeactivationTime);
+            }
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                    case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                    case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                    case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationPackageAdapter extends TypeAdapter<PushNotificationPackage> {
+        PushNotificationPackageAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, PushNotificationPackage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Badge != null) {
+                out.name("Badge");
+                out.value(value.Badge);
+            }
+            if (value.CustomData != null) {
+                out.name("CustomData");
+                out.value(value.CustomData);
+            }
+            if (value.Icon != null) {
+                out.name("Icon");
+                out.value(value.Icon);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.Sound != null) {
+                out.name("Sound");
+                out.value(value.Sound);
+            }
+            if (value.Title != null) {
+                out.name("Title");
+                out.value(value.Title);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationPackage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationPackage value = new PushNotificationPackage();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Badge": value.Badge = PlayFabModelAdapters.readInteger(in); break;
+                    case "CustomData": value.CustomData = PlayFabModelAdapters.readString(in); break;
+                    case "Icon": value.Icon = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "Sound": value.Sound = PlayFabModelAdapters.readString(in); break;
+                    case "Title": value.Title = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationRegistrationAdapter extends TypeAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NotificationEndpointARN != null) {
+                out.name("NotificationEndpointARN");
+                out.value(value.NotificationEndpointARN);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationRegistration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistration value = new PushNotificationRegistration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NotificationEndpointARN != null) {
+                out.name("NotificationEndpointARN");
+                out.value(value.NotificationEndpointARN);
+            }
+            if (value.Platform != null) {
+                out.name("Platform");
+                pushNotificationPlatformAdapter.write(out, value.Platform);
+            }
+            out.endObject();
+        }
+
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabModelAdapters.readString(in); break;
+                    case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RandomResultTableListingAdapter extends TypeAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        public void write(JsonWriter out, RandomResultTableListing value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.Nodes != null) {
+                out.name("Nodes");
+                PlayFabModelAdapters.writeList(out, value.Nodes, resultTableNodeAdapter);
+            }
+            if (value.TableId != null) {
+                out.name("TableId");
+                out.value(value.TableId);
+            }
+            out.endObject();
+        }
+
+        public RandomResultTableListing read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTableListing value = new RandomResultTableListing();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "Nodes": value.Nodes = PlayFabModelAdapters.readList(in, resultTableNodeAdapter); break;
+                    case "TableId": value.TableId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemCouponRequestAdapter extends TypeAdapter<RedeemCouponRequest> {
+        RedeemCouponRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CouponCode != null) {
+                out.name("CouponCode");
+                out.value(value.CouponCode);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RedeemCouponRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponRequest value = new RedeemCouponRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CouponCode": value.CouponCode = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemCouponResultAdapter extends TypeAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, RedeemCouponResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GrantedItems != null) {
+                out.name("GrantedItems");
+                PlayFabModelAdapters.writeList(out, value.GrantedItems, itemInstanceAdapter);
+            }
+            out.endObject();
+        }
+
+        public RedeemCouponResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponResult value = new RedeemCouponResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GrantedItems": value.GrantedItems = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemMatchmakerTicketRequestAdapter extends TypeAdapter<RedeemMatchmakerTicketRequest> {
+        RedeemMatchmakerTicketRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RedeemMatchmakerTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.Ticket != null) {
+                out.name("Ticket");
+                out.value(value.Ticket);
+            }
+            out.endObject();
+        }
+
+        public RedeemMatchmakerTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemMatchmakerTicketRequest value = new RedeemMatchmakerTicketRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "Ticket": value.Ticket = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RedeemMatchmakerTicketResultAdapter extends TypeAdapter<RedeemMatchmakerTicketResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        RedeemMatchmakerTicketResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        public void write(JsonWriter out, RedeemMatchmakerTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                out.value(value.Error);
+            }
+            if (value.TicketIsValid != null) {
+                out.name("TicketIsValid");
+                out.value(value.TicketIsValid.booleanValue());
+            }
+            if (value.UserInfo != null) {
+                out.name("UserInfo");
+                userAccountInfoAdapter.write(out, value.UserInfo);
+            }
+            out.endObject();
+        }
+
+        public RedeemMatchmakerTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemMatchmakerTicketResult value = new RedeemMatchmakerTicketResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = PlayFabModelAdapters.readString(in); break;
+                    case "TicketIsValid": value.TicketIsValid = PlayFabModelAdapters.readBoolean(in); break;
+                    case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RefreshGameServerInstanceHeartbeatRequestAdapter extends TypeAdapter<RefreshGameServerInstanceHeartbeatRequest> {
+        RefreshGameServerInstanceHeartbeatRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RefreshGameServerInstanceHeartbeatRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            out.endObject();
+        }
+
+        public RefreshGameServerInstanceHeartbeatRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefreshGameServerInstanceHeartbeatRequest value = new RefreshGameServerInstanceHeartbeatRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RefreshGameServerInstanceHeartbeatResultAdapter extends TypeAdapter<RefreshGameServerInstanceHeartbeatResult> {
+        RefreshGameServerInstanceHeartbeatResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RefreshGameServerInstanceHeartbeatResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RefreshGameServerInstanceHeartbeatResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefreshGameServerInstanceHeartbeatResult value = new RefreshGameServerInstanceHeartbeatResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterGameRequestAdapter extends TypeAdapter<RegisterGameRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        RegisterGameRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        public void write(JsonWriter out, RegisterGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Build != null) {
+                out.name("Build");
+                out.value(value.Build);
+            }
+            if (value.GameMode != null) {
+                out.name("GameMode");
+                out.value(value.GameMode);
+            }
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.Region != null) {
+                out.name("Region");
+                regionAdapter.write(out, value.Region);
+            }
+            if (value.ServerHost != null) {
+                out.name("ServerHost");
+                out.value(value.ServerHost);
+            }
+            if (value.ServerIPV4Address != null) {
+                out.name("ServerIPV4Address");
+                out.value(value.ServerIPV4Address);
+            }
+            if (value.ServerIPV6Address != null) {
+                out.name("ServerIPV6Address");
+                out.value(value.ServerIPV6Address);
+            }
+            if (value.ServerPort != null) {
+                out.name("ServerPort");
+                out.value(value.ServerPort);
+            }
+            if (value.ServerPublicDNSName != null) {
+                out.name("ServerPublicDNSName");
+                out.value(value.ServerPublicDNSName);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeMap(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public RegisterGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterGameRequest value = new RegisterGameRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Build": value.Build = PlayFabModelAdapters.readString(in); break;
+                    case "GameMode": value.GameMode = PlayFabModelAdapters.readString(in); break;
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "Region": value.Region = regionAdapter.read(in); break;
+                    case "ServerHost": value.ServerHost = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV4Address": value.ServerIPV4Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerIPV6Address": value.ServerIPV6Address = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPort": value.ServerPort = PlayFabModelAdapters.readString(in); break;
+                    case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RegisterGameResponseAdapter extends TypeAdapter<RegisterGameResponse> {
+        RegisterGameResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RegisterGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            out.endObject();
+        }
+
+        public RegisterGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterGameResponse value = new RegisterGameResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveFriendRequestAdapter extends TypeAdapter<RemoveFriendRequest> {
+        RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RemoveFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendRequest value = new RemoveFriendRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemovePlayerTagRequestAdapter extends TypeAdapter<RemovePlayerTagRequest> {
+        RemovePlayerTagRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.TagName != null) {
+                out.name("TagName");
+                out.value(value.TagName);
+            }
+            out.endObject();
+        }
+
+        public RemovePlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagRequest value = new RemovePlayerTagRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "TagName": value.TagName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemovePlayerTagResultAdapter extends TypeAdapter<RemovePlayerTagResult> {
+        RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemovePlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagResult value = new RemovePlayerTagResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveSharedGroupMembersRequestAdapter extends TypeAdapter<RemoveSharedGroupMembersRequest> {
+        RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabIds != null) {
+                out.name("PlayFabIds");
+                PlayFabModelAdapters.writeList(out, value.PlayFabIds, PlayFabModelAdapters.STRING);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public RemoveSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersRequest value = new RemoveSharedGroupMembersRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabIds": value.PlayFabIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RemoveSharedGroupMembersResultAdapter extends TypeAdapter<RemoveSharedGroupMembersResult> {
+        RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RemoveSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersResult value = new RemoveSharedGroupMembersResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ReportPlayerServerRequestAdapter extends TypeAdapter<ReportPlayerServerRequest> {
+        ReportPlayerServerRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ReportPlayerServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Comment != null) {
+                out.name("Comment");
+                out.value(value.Comment);
+            }
+            if (value.ReporteeId != null) {
+                out.name("ReporteeId");
+                out.value(value.ReporteeId);
+            }
+            if (value.ReporterId != null) {
+                out.name("ReporterId");
+                out.value(value.ReporterId);
+            }
+            out.endObject();
+        }
+
+        public ReportPlayerServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerServerRequest value = new ReportPlayerServerRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Comment": value.Comment = PlayFabModelAdapters.readString(in); break;
+                    case "ReporteeId": value.ReporteeId = PlayFabModelAdapters.readString(in); break;
+                    case "ReporterId": value.ReporterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ReportPlayerServerResultAdapter extends TypeAdapter<ReportPlayerServerResult> {
+        ReportPlayerServerResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ReportPlayerServerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SubmissionsRemaining != null) {
+                out.name("SubmissionsRemaining");
+                out.value(value.SubmissionsRemaining);
+            }
+            out.endObject();
+        }
+
+        public ReportPlayerServerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerServerResult value = new ReportPlayerServerResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SubmissionsRemaining": value.SubmissionsRemaining = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ResultTableNodeAdapter extends TypeAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        public void write(JsonWriter out, ResultTableNode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ResultItem != null) {
+                out.name("ResultItem");
+                out.value(value.ResultItem);
+            }
+            if (value.ResultItemType != null) {
+                out.name("ResultItemType");
+                resultTableNodeTypeAdapter.write(out, value.ResultItemType);
+            }
+            if (value.Weight != null) {
+                out.name("Weight");
+                out.value(value.Weight);
+            }
+            out.endObject();
+        }
+
+        public ResultTableNode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResultTableNode value = new ResultTableNode();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ResultItem": value.ResultItem = PlayFabModelAdapters.readString(in); break;
+                    case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); break;
+                    case "Weight": value.Weight = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeAllBansForUserRequestAdapter extends TypeAdapter<RevokeAllBansForUserRequest> {
+        RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeAllBansForUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserRequest value = new RevokeAllBansForUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeAllBansForUserResultAdapter extends TypeAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeAllBansForUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserResult value = new RevokeAllBansForUserResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeBansRequestAdapter extends TypeAdapter<RevokeBansRequest> {
+        RevokeBansRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanIds != null) {
+                out.name("BanIds");
+                PlayFabModelAdapters.writeList(out, value.BanIds, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public RevokeBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansRequest value = new RevokeBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanIds": value.BanIds = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeBansResultAdapter extends TypeAdapter<RevokeBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        RevokeBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, RevokeBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansResult value = new RevokeBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemAdapter extends TypeAdapter<RevokeInventoryItem> {
+        RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItem value = new RevokeInventoryItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemRequestAdapter extends TypeAdapter<RevokeInventoryItemRequest> {
+        RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemRequest value = new RevokeInventoryItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemsRequestAdapter extends TypeAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Items != null) {
+                out.name("Items");
+                PlayFabModelAdapters.writeList(out, value.Items, revokeInventoryItemAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsRequest value = new RevokeInventoryItemsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Items": value.Items = PlayFabModelAdapters.readList(in, revokeInventoryItemAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryItemsResultAdapter extends TypeAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<RevokeItemError> revokeItemErrorAdapter;
+
+        RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorAdapter = gson.getAdapter(RevokeItemError.class);
+        }
+
+        public void write(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Errors != null) {
+                out.name("Errors");
+                PlayFabModelAdapters.writeList(out, value.Errors, revokeItemErrorAdapter);
+            }
+            out.endObject();
+        }
+
+        public RevokeInventoryItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsResult value = new RevokeInventoryItemsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Errors": value.Errors = PlayFabModelAdapters.readList(in, revokeItemErrorAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeInventoryResultAdapter extends TypeAdapter<RevokeInventoryResult> {
+        RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, RevokeInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public RevokeInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryResult value = new RevokeInventoryResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RevokeItemErrorAdapter extends TypeAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        public void write(JsonWriter out, RevokeItemError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                genericErrorCodesAdapter.write(out, value.Error);
+            }
+            if (value.Item != null) {
+                out.name("Item");
+                revokeInventoryItemAdapter.write(out, value.Item);
+            }
+            out.endObject();
+        }
+
+        public RevokeItemError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeItemError value = new RevokeItemError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = genericErrorCodesAdapter.read(in); break;
+                    case "Item": value.Item = revokeInventoryItemAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Error != null) {
+                out.name("Error");
+                out.value(value.Error);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.StackTrace != null) {
+                out.name("StackTrace");
+                out.value(value.StackTrace);
+            }
+            out.endObject();
+        }
+
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Error": value.Error = PlayFabModelAdapters.readString(in); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "StackTrace": value.StackTrace = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendCustomAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendCustomAccountRecoveryEmailRequest> {
+        SendCustomAccountRecoveryEmailRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendCustomAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            if (value.EmailTemplateId != null) {
+                out.name("EmailTemplateId");
+                out.value(value.EmailTemplateId);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            out.endObject();
+        }
+
+        public SendCustomAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendCustomAccountRecoveryEmailRequest value = new SendCustomAccountRecoveryEmailRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    case "EmailTemplateId": value.EmailTemplateId = PlayFabModelAdapters.readString(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendCustomAccountRecoveryEmailResultAdapter extends TypeAdapter<SendCustomAccountRecoveryEmailResult> {
+        SendCustomAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendCustomAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SendCustomAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendCustomAccountRecoveryEmailResult value = new SendCustomAccountRecoveryEmailResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendEmailFromTemplateRequestAdapter extends TypeAdapter<SendEmailFromTemplateRequest> {
+        SendEmailFromTemplateRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendEmailFromTemplateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EmailTemplateId != null) {
+                out.name("EmailTemplateId");
+                out.value(value.EmailTemplateId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public SendEmailFromTemplateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendEmailFromTemplateRequest value = new SendEmailFromTemplateRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EmailTemplateId": value.EmailTemplateId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendEmailFromTemplateResultAdapter extends TypeAdapter<SendEmailFromTemplateResult> {
+        SendEmailFromTemplateResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendEmailFromTemplateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SendEmailFromTemplateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendEmailFromTemplateResult value = new SendEmailFromTemplateResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendPushNotificationRequestAdapter extends TypeAdapter<SendPushNotificationRequest> {
+        private final TypeAdapter<AdvancedPushPlatformMsg> advancedPushPlatformMsgAdapter;
+        private final TypeAdapter<PushNotificationPackage> pushNotificationPackageAdapter;
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        SendPushNotificationRequestAdapter(Gson gson) {
+            advancedPushPlatformMsgAdapter = gson.getAdapter(AdvancedPushPlatformMsg.class);
+            pushNotificationPackageAdapter = gson.getAdapter(PushNotificationPackage.class);
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        public void write(JsonWriter out, SendPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AdvancedPlatformDelivery != null) {
+                out.name("AdvancedPlatformDelivery");
+                PlayFabModelAdapters.writeList(out, value.AdvancedPlatformDelivery, advancedPushPlatformMsgAdapter);
+            }
+            if (value.Message != null) {
+                out.name("Message");
+                out.value(value.Message);
+            }
+            if (value.Package != null) {
+                out.name("Package");
+                pushNotificationPackageAdapter.write(out, value.Package);
+            }
+            if (value.Recipient != null) {
+                out.name("Recipient");
+                out.value(value.Recipient);
+            }
+            if (value.Subject != null) {
+                out.name("Subject");
+                out.value(value.Subject);
+            }
+            if (value.TargetPlatforms != null) {
+                out.name("TargetPlatforms");
+                PlayFabModelAdapters.writeList(out, value.TargetPlatforms, pushNotificationPlatformAdapter);
+            }
+            out.endObject();
+        }
+
+        public SendPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendPushNotificationRequest value = new SendPushNotificationRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AdvancedPlatformDelivery": value.AdvancedPlatformDelivery = PlayFabModelAdapters.readList(in, advancedPushPlatformMsgAdapter); break;
+                    case "Message": value.Message = PlayFabModelAdapters.readString(in); break;
+                    case "Package": value.Package = pushNotificationPackageAdapter.read(in); break;
+                    case "Recipient": value.Recipient = PlayFabModelAdapters.readString(in); break;
+                    case "Subject": value.Subject = PlayFabModelAdapters.readString(in); break;
+                    case "TargetPlatforms": value.TargetPlatforms = PlayFabModelAdapters.readList(in, pushNotificationPlatformAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SendPushNotificationResultAdapter extends TypeAdapter<SendPushNotificationResult> {
+        SendPushNotificationResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SendPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SendPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendPushNotificationResult value = new SendPushNotificationResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetFriendTagsRequestAdapter extends TypeAdapter<SetFriendTagsRequest> {
+        SetFriendTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FriendPlayFabId != null) {
+                out.name("FriendPlayFabId");
+                out.value(value.FriendPlayFabId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeList(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public SetFriendTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsRequest value = new SetFriendTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FriendPlayFabId": value.FriendPlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceDataRequestAdapter extends TypeAdapter<SetGameServerInstanceDataRequest> {
+        SetGameServerInstanceDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameServerData != null) {
+                out.name("GameServerData");
+                out.value(value.GameServerData);
+            }
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            out.endObject();
+        }
+
+        public SetGameServerInstanceDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceDataRequest value = new SetGameServerInstanceDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameServerData": value.GameServerData = PlayFabModelAdapters.readString(in); break;
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceDataResultAdapter extends TypeAdapter<SetGameServerInstanceDataResult> {
+        SetGameServerInstanceDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetGameServerInstanceDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceDataResult value = new SetGameServerInstanceDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceStateRequestAdapter extends TypeAdapter<SetGameServerInstanceStateRequest> {
+        private final TypeAdapter<GameInstanceState> gameInstanceStateAdapter;
+
+        SetGameServerInstanceStateRequestAdapter(Gson gson) {
+            gameInstanceStateAdapter = gson.getAdapter(GameInstanceState.class);
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceStateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.State != null) {
+                out.name("State");
+                gameInstanceStateAdapter.write(out, value.State);
+            }
+            out.endObject();
+        }
+
+        public SetGameServerInstanceStateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceStateRequest value = new SetGameServerInstanceStateRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "State": value.State = gameInstanceStateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceStateResultAdapter extends TypeAdapter<SetGameServerInstanceStateResult> {
+        SetGameServerInstanceStateResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceStateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetGameServerInstanceStateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceStateResult value = new SetGameServerInstanceStateResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceTagsRequestAdapter extends TypeAdapter<SetGameServerInstanceTagsRequest> {
+        SetGameServerInstanceTagsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LobbyId != null) {
+                out.name("LobbyId");
+                out.value(value.LobbyId);
+            }
+            if (value.Tags != null) {
+                out.name("Tags");
+                PlayFabModelAdapters.writeMap(out, value.Tags, PlayFabModelAdapters.STRING);
+            }
+            out.endObject();
+        }
+
+        public SetGameServerInstanceTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceTagsRequest value = new SetGameServerInstanceTagsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LobbyId": value.LobbyId = PlayFabModelAdapters.readString(in); break;
+                    case "Tags": value.Tags = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetGameServerInstanceTagsResultAdapter extends TypeAdapter<SetGameServerInstanceTagsResult> {
+        SetGameServerInstanceTagsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetGameServerInstanceTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetGameServerInstanceTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceTagsResult value = new SetGameServerInstanceTagsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayerSecret != null) {
+                out.name("PlayerSecret");
+                out.value(value.PlayerSecret);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayerSecret": value.PlayerSecret = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublisherDataRequestAdapter extends TypeAdapter<SetPublisherDataRequest> {
+        SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataRequest value = new SetPublisherDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetPublisherDataResultAdapter extends TypeAdapter<SetPublisherDataResult> {
+        SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataResult value = new SetPublisherDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetTitleDataRequestAdapter extends TypeAdapter<SetTitleDataRequest> {
+        SetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Key != null) {
+                out.name("Key");
+                out.value(value.Key);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataRequest value = new SetTitleDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Key": value.Key = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SetTitleDataResultAdapter extends TypeAdapter<SetTitleDataResult> {
+        SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public SetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataResult value = new SetTitleDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SharedGroupDataRecordAdapter extends TypeAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LastUpdated != null) {
+                out.name("LastUpdated");
+                dateAdapter.write(out, value.LastUpdated);
+            }
+            if (value.LastUpdatedBy != null) {
+                out.name("LastUpdatedBy");
+                out.value(value.LastUpdatedBy);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public SharedGroupDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedGroupDataRecord value = new SharedGroupDataRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                    case "LastUpdatedBy": value.LastUpdatedBy = PlayFabModelAdapters.readString(in); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Name != null) {
+                out.name("Name");
+                out.value(value.Name);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Name": value.Name = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticNameVersionAdapter extends TypeAdapter<StatisticNameVersion> {
+        StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticNameVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticNameVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticNameVersion value = new StatisticNameVersion();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticUpdateAdapter extends TypeAdapter<StatisticUpdate> {
+        StatisticUpdateAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticUpdate value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticUpdate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticUpdate value = new StatisticUpdate();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class StatisticValueAdapter extends TypeAdapter<StatisticValue> {
+        StatisticValueAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, StatisticValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.StatisticName != null) {
+                out.name("StatisticName");
+                out.value(value.StatisticName);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            if (value.Version != null) {
+                out.name("Version");
+                out.value(value.Version);
+            }
+            out.endObject();
+        }
+
+        public StatisticValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticValue value = new StatisticValue();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "StatisticName": value.StatisticName = PlayFabModelAdapters.readString(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readInteger(in); break;
+                    case "Version": value.Version = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SteamPlayFabIdPairAdapter extends TypeAdapter<SteamPlayFabIdPair> {
+        SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.SteamStringId != null) {
+                out.name("SteamStringId");
+                out.value(value.SteamStringId);
+            }
+            out.endObject();
+        }
+
+        public SteamPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SteamPlayFabIdPair value = new SteamPlayFabIdPair();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "SteamStringId": value.SteamStringId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Expiration != null) {
+                out.name("Expiration");
+                dateAdapter.write(out, value.Expiration);
+            }
+            if (value.InitialSubscriptionTime != null) {
+                out.name("InitialSubscriptionTime");
+                dateAdapter.write(out, value.InitialSubscriptionTime);
+            }
+            if (value.IsActive != null) {
+                out.name("IsActive");
+                out.value(value.IsActive.booleanValue());
+            }
+            if (value.Status != null) {
+                out.name("Status");
+                subscriptionProviderStatusAdapter.write(out, value.Status);
+            }
+            if (value.SubscriptionId != null) {
+                out.name("SubscriptionId");
+                out.value(value.SubscriptionId);
+            }
+            if (value.SubscriptionItemId != null) {
+                out.name("SubscriptionItemId");
+                out.value(value.SubscriptionItemId);
+            }
+            if (value.SubscriptionProvider != null) {
+                out.name("SubscriptionProvider");
+                out.value(value.SubscriptionProvider);
+            }
+            out.endObject();
+        }
+
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                    case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                    case "IsActive": value.IsActive = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                    case "SubscriptionId": value.SubscriptionId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionItemId": value.SubscriptionItemId = PlayFabModelAdapters.readString(in); break;
+                    case "SubscriptionProvider": value.SubscriptionProvider = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubtractCharacterVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractCharacterVirtualCurrencyRequest> {
+        SubtractCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SubtractCharacterVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public SubtractCharacterVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractCharacterVirtualCurrencyRequest value = new SubtractCharacterVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Amount != null) {
+                out.name("Amount");
+                out.value(value.Amount);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                out.value(value.VirtualCurrency);
+            }
+            out.endObject();
+        }
+
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Amount": value.Amount = PlayFabModelAdapters.readInteger(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TagModelAdapter extends TypeAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TagValue != null) {
+                out.name("TagValue");
+                out.value(value.TagValue);
+            }
+            out.endObject();
+        }
+
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TagValue": value.TagValue = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TitleNewsItemAdapter extends TypeAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, TitleNewsItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                out.value(value.Body);
+            }
+            if (value.NewsId != null) {
+                out.name("NewsId");
+                out.value(value.NewsId);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            if (value.Title != null) {
+                out.name("Title");
+                out.value(value.Title);
+            }
+            out.endObject();
+        }
+
+        public TitleNewsItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleNewsItem value = new TitleNewsItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readString(in); break;
+                    case "NewsId": value.NewsId = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    case "Title": value.Title = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerInstanceRequestAdapter extends TypeAdapter<UnlockContainerInstanceRequest> {
+        UnlockContainerInstanceRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ContainerItemInstanceId != null) {
+                out.name("ContainerItemInstanceId");
+                out.value(value.ContainerItemInstanceId);
+            }
+            if (value.KeyItemInstanceId != null) {
+                out.name("KeyItemInstanceId");
+                out.value(value.KeyItemInstanceId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerInstanceRequest value = new UnlockContainerInstanceRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ContainerItemInstanceId": value.ContainerItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "KeyItemInstanceId": value.KeyItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerItemRequestAdapter extends TypeAdapter<UnlockContainerItemRequest> {
+        UnlockContainerItemRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CatalogVersion != null) {
+                out.name("CatalogVersion");
+                out.value(value.CatalogVersion);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.ContainerItemId != null) {
+                out.name("ContainerItemId");
+                out.value(value.ContainerItemId);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemRequest value = new UnlockContainerItemRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CatalogVersion": value.CatalogVersion = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "ContainerItemId": value.ContainerItemId = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UnlockContainerItemResultAdapter extends TypeAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        public void write(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GrantedItems != null) {
+                out.name("GrantedItems");
+                PlayFabModelAdapters.writeList(out, value.GrantedItems, itemInstanceAdapter);
+            }
+            if (value.UnlockedItemInstanceId != null) {
+                out.name("UnlockedItemInstanceId");
+                out.value(value.UnlockedItemInstanceId);
+            }
+            if (value.UnlockedWithItemInstanceId != null) {
+                out.name("UnlockedWithItemInstanceId");
+                out.value(value.UnlockedWithItemInstanceId);
+            }
+            if (value.VirtualCurrency != null) {
+                out.name("VirtualCurrency");
+                PlayFabModelAdapters.writeMap(out, value.VirtualCurrency, PlayFabModelAdapters.LONG);
+            }
+            out.endObject();
+        }
+
+        public UnlockContainerItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemResult value = new UnlockContainerItemResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GrantedItems": value.GrantedItems = PlayFabModelAdapters.readList(in, itemInstanceAdapter); break;
+                    case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "VirtualCurrency": value.VirtualCurrency = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.LONG); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateAvatarUrlRequestAdapter extends TypeAdapter<UpdateAvatarUrlRequest> {
+        UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ImageUrl != null) {
+                out.name("ImageUrl");
+                out.value(value.ImageUrl);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateAvatarUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateAvatarUrlRequest value = new UpdateAvatarUrlRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ImageUrl": value.ImageUrl = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBanRequestAdapter extends TypeAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, UpdateBanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Active != null) {
+                out.name("Active");
+                out.value(value.Active.booleanValue());
+            }
+            if (value.BanId != null) {
+                out.name("BanId");
+                out.value(value.BanId);
+            }
+            if (value.Expires != null) {
+                out.name("Expires");
+                dateAdapter.write(out, value.Expires);
+            }
+            if (value.IPAddress != null) {
+                out.name("IPAddress");
+                out.value(value.IPAddress);
+            }
+            if (value.MACAddress != null) {
+                out.name("MACAddress");
+                out.value(value.MACAddress);
+            }
+            if (value.Permanent != null) {
+                out.name("Permanent");
+                out.value(value.Permanent.booleanValue());
+            }
+            if (value.Reason != null) {
+                out.name("Reason");
+                out.value(value.Reason);
+            }
+            out.endObject();
+        }
+
+        public UpdateBanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBanRequest value = new UpdateBanRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Active": value.Active = PlayFabModelAdapters.readBoolean(in); break;
+                    case "BanId": value.BanId = PlayFabModelAdapters.readString(in); break;
+                    case "Expires": value.Expires = dateAdapter.read(in); break;
+                    case "IPAddress": value.IPAddress = PlayFabModelAdapters.readString(in); break;
+                    case "MACAddress": value.MACAddress = PlayFabModelAdapters.readString(in); break;
+                    case "Permanent": value.Permanent = PlayFabModelAdapters.readBoolean(in); break;
+                    case "Reason": value.Reason = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBansRequestAdapter extends TypeAdapter<UpdateBansRequest> {
+        private final TypeAdapter<UpdateBanRequest> updateBanRequestAdapter;
+
+        UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestAdapter = gson.getAdapter(UpdateBanRequest.class);
+        }
+
+        public void write(JsonWriter out, UpdateBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Bans != null) {
+                out.name("Bans");
+                PlayFabModelAdapters.writeList(out, value.Bans, updateBanRequestAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdateBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansRequest value = new UpdateBansRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Bans": value.Bans = PlayFabModelAdapters.readList(in, updateBanRequestAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateBansResultAdapter extends TypeAdapter<UpdateBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        UpdateBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        public void write(JsonWriter out, UpdateBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.BanData != null) {
+                out.name("BanData");
+                PlayFabModelAdapters.writeList(out, value.BanData, banInfoAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdateBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansResult value = new UpdateBansResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "BanData": value.BanData = PlayFabModelAdapters.readList(in, banInfoAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterDataRequestAdapter extends TypeAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateCharacterDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataRequest value = new UpdateCharacterDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterDataResultAdapter extends TypeAdapter<UpdateCharacterDataResult> {
+        UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataResult value = new UpdateCharacterDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterStatisticsRequestAdapter extends TypeAdapter<UpdateCharacterStatisticsRequest> {
+        UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.CharacterStatistics != null) {
+                out.name("CharacterStatistics");
+                PlayFabModelAdapters.writeMap(out, value.CharacterStatistics, PlayFabModelAdapters.INTEGER);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsRequest value = new UpdateCharacterStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "CharacterStatistics": value.CharacterStatistics = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.INTEGER); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateCharacterStatisticsResultAdapter extends TypeAdapter<UpdateCharacterStatisticsResult> {
+        UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsResult value = new UpdateCharacterStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticsRequestAdapter extends TypeAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<StatisticUpdate> statisticUpdateAdapter;
+
+        UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            statisticUpdateAdapter = gson.getAdapter(StatisticUpdate.class);
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ForceUpdate != null) {
+                out.name("ForceUpdate");
+                out.value(value.ForceUpdate.booleanValue());
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Statistics != null) {
+                out.name("Statistics");
+                PlayFabModelAdapters.writeList(out, value.Statistics, statisticUpdateAdapter);
+            }
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsRequest value = new UpdatePlayerStatisticsRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ForceUpdate": value.ForceUpdate = PlayFabModelAdapters.readBoolean(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Statistics": value.Statistics = PlayFabModelAdapters.readList(in, statisticUpdateAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdatePlayerStatisticsResultAdapter extends TypeAdapter<UpdatePlayerStatisticsResult> {
+        UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdatePlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsResult value = new UpdatePlayerStatisticsResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateSharedGroupDataRequestAdapter extends TypeAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.SharedGroupId != null) {
+                out.name("SharedGroupId");
+                out.value(value.SharedGroupId);
+            }
+            out.endObject();
+        }
+
+        public UpdateSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataRequest value = new UpdateSharedGroupDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "SharedGroupId": value.SharedGroupId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateSharedGroupDataResultAdapter extends TypeAdapter<UpdateSharedGroupDataResult> {
+        UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        public UpdateSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataResult value = new UpdateSharedGroupDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.DataVersion != null) {
+                out.name("DataVersion");
+                out.value(value.DataVersion);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "DataVersion": value.DataVersion = PlayFabModelAdapters.readLong(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserInternalDataRequestAdapter extends TypeAdapter<UpdateUserInternalDataRequest> {
+        UpdateUserInternalDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserInternalDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInternalDataRequest value = new UpdateUserInternalDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UpdateUserInventoryItemDataRequestAdapter extends TypeAdapter<UpdateUserInventoryItemDataRequest> {
+        UpdateUserInventoryItemDataRequestAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UpdateUserInventoryItemDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.Data != null) {
+                out.name("Data");
+                PlayFabModelAdapters.writeMap(out, value.Data, PlayFabModelAdapters.STRING);
+            }
+            if (value.ItemInstanceId != null) {
+                out.name("ItemInstanceId");
+                out.value(value.ItemInstanceId);
+            }
+            if (value.KeysToRemove != null) {
+                out.name("KeysToRemove");
+                PlayFabModelAdapters.writeList(out, value.KeysToRemove, PlayFabModelAdapters.STRING);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            out.endObject();
+        }
+
+        public UpdateUserInventoryItemDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInventoryItemDataRequest value = new UpdateUserInventoryItemDataRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "Data": value.Data = PlayFabModelAdapters.readMap(in, PlayFabModelAdapters.STRING); break;
+                    case "ItemInstanceId": value.ItemInstanceId = PlayFabModelAdapters.readString(in); break;
+                    case "KeysToRemove": value.KeysToRemove = PlayFabModelAdapters.readList(in, PlayFabModelAdapters.STRING); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserWindowsHelloInfo> userWindowsHelloInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userWindowsHelloInfoAdapter = gson.getAdapter(UserWindowsHelloInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceInfo != null) {
+                out.name("AndroidDeviceInfo");
+                userAndroidDeviceInfoAdapter.write(out, value.AndroidDeviceInfo);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.CustomIdInfo != null) {
+                out.name("CustomIdInfo");
+                userCustomIdInfoAdapter.write(out, value.CustomIdInfo);
+            }
+            if (value.FacebookInfo != null) {
+                out.name("FacebookInfo");
+                userFacebookInfoAdapter.write(out, value.FacebookInfo);
+            }
+            if (value.FacebookInstantGamesIdInfo != null) {
+                out.name("FacebookInstantGamesIdInfo");
+                userFacebookInstantGamesIdInfoAdapter.write(out, value.FacebookInstantGamesIdInfo);
+            }
+            if (value.GameCenterInfo != null) {
+                out.name("GameCenterInfo");
+                userGameCenterInfoAdapter.write(out, value.GameCenterInfo);
+            }
+            if (value.GoogleInfo != null) {
+                out.name("GoogleInfo");
+                userGoogleInfoAdapter.write(out, value.GoogleInfo);
+            }
+            if (value.IosDeviceInfo != null) {
+                out.name("IosDeviceInfo");
+                userIosDeviceInfoAdapter.write(out, value.IosDeviceInfo);
+            }
+            if (value.KongregateInfo != null) {
+                out.name("KongregateInfo");
+                userKongregateInfoAdapter.write(out, value.KongregateInfo);
+            }
+            if (value.NintendoSwitchDeviceIdInfo != null) {
+                out.name("NintendoSwitchDeviceIdInfo");
+                userNintendoSwitchDeviceIdInfoAdapter.write(out, value.NintendoSwitchDeviceIdInfo);
+            }
+            if (value.OpenIdInfo != null) {
+                out.name("OpenIdInfo");
+                PlayFabModelAdapters.writeList(out, value.OpenIdInfo, userOpenIdInfoAdapter);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.PrivateInfo != null) {
+                out.name("PrivateInfo");
+                userPrivateAccountInfoAdapter.write(out, value.PrivateInfo);
+            }
+            if (value.PsnInfo != null) {
+                out.name("PsnInfo");
+                userPsnInfoAdapter.write(out, value.PsnInfo);
+            }
+            if (value.SteamInfo != null) {
+                out.name("SteamInfo");
+                userSteamInfoAdapter.write(out, value.SteamInfo);
+            }
+            if (value.TitleInfo != null) {
+                out.name("TitleInfo");
+                userTitleInfoAdapter.write(out, value.TitleInfo);
+            }
+            if (value.TwitchInfo != null) {
+                out.name("TwitchInfo");
+                userTwitchInfoAdapter.write(out, value.TwitchInfo);
+            }
+            if (value.Username != null) {
+                out.name("Username");
+                out.value(value.Username);
+            }
+            if (value.WindowsHelloInfo != null) {
+                out.name("WindowsHelloInfo");
+                userWindowsHelloInfoAdapter.write(out, value.WindowsHelloInfo);
+            }
+            if (value.XboxInfo != null) {
+                out.name("XboxInfo");
+                userXboxInfoAdapter.write(out, value.XboxInfo);
+            }
+            out.endObject();
+        }
+
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                    case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                    case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                    case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                    case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                    case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                    case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                    case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                    case "OpenIdInfo": value.OpenIdInfo = PlayFabModelAdapters.readList(in, userOpenIdInfoAdapter); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                    case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                    case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                    case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                    case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                    case "Username": value.Username = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloInfo": value.WindowsHelloInfo = userWindowsHelloInfoAdapter.read(in); break;
+                    case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AndroidDeviceId != null) {
+                out.name("AndroidDeviceId");
+                out.value(value.AndroidDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AndroidDeviceId": value.AndroidDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.CustomId != null) {
+                out.name("CustomId");
+                out.value(value.CustomId);
+            }
+            out.endObject();
+        }
+
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "CustomId": value.CustomId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.LastUpdated != null) {
+                out.name("LastUpdated");
+                dateAdapter.write(out, value.LastUpdated);
+            }
+            if (value.Permission != null) {
+                out.name("Permission");
+                userDataPermissionAdapter.write(out, value.Permission);
+            }
+            if (value.Value != null) {
+                out.name("Value");
+                out.value(value.Value);
+            }
+            out.endObject();
+        }
+
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                    case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                    case "Value": value.Value = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookId != null) {
+                out.name("FacebookId");
+                out.value(value.FacebookId);
+            }
+            if (value.FullName != null) {
+                out.name("FullName");
+                out.value(value.FullName);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookId": value.FacebookId = PlayFabModelAdapters.readString(in); break;
+                    case "FullName": value.FullName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.FacebookInstantGamesId != null) {
+                out.name("FacebookInstantGamesId");
+                out.value(value.FacebookInstantGamesId);
+            }
+            out.endObject();
+        }
+
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GameCenterId != null) {
+                out.name("GameCenterId");
+                out.value(value.GameCenterId);
+            }
+            out.endObject();
+        }
+
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GameCenterId": value.GameCenterId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.GoogleEmail != null) {
+                out.name("GoogleEmail");
+                out.value(value.GoogleEmail);
+            }
+            if (value.GoogleGender != null) {
+                out.name("GoogleGender");
+                out.value(value.GoogleGender);
+            }
+            if (value.GoogleId != null) {
+                out.name("GoogleId");
+                out.value(value.GoogleId);
+            }
+            if (value.GoogleLocale != null) {
+                out.name("GoogleLocale");
+                out.value(value.GoogleLocale);
+            }
+            out.endObject();
+        }
+
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "GoogleEmail": value.GoogleEmail = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleGender": value.GoogleGender = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleId": value.GoogleId = PlayFabModelAdapters.readString(in); break;
+                    case "GoogleLocale": value.GoogleLocale = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.IosDeviceId != null) {
+                out.name("IosDeviceId");
+                out.value(value.IosDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "IosDeviceId": value.IosDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.KongregateId != null) {
+                out.name("KongregateId");
+                out.value(value.KongregateId);
+            }
+            if (value.KongregateName != null) {
+                out.name("KongregateName");
+                out.value(value.KongregateName);
+            }
+            out.endObject();
+        }
+
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "KongregateId": value.KongregateId = PlayFabModelAdapters.readString(in); break;
+                    case "KongregateName": value.KongregateName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.NintendoSwitchDeviceId != null) {
+                out.name("NintendoSwitchDeviceId");
+                out.value(value.NintendoSwitchDeviceId);
+            }
+            out.endObject();
+        }
+
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.ConnectionId != null) {
+                out.name("ConnectionId");
+                out.value(value.ConnectionId);
+            }
+            if (value.Issuer != null) {
+                out.name("Issuer");
+                out.value(value.Issuer);
+            }
+            if (value.Subject != null) {
+                out.name("Subject");
+                out.value(value.Subject);
+            }
+            out.endObject();
+        }
+
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "ConnectionId": value.ConnectionId = PlayFabModelAdapters.readString(in); break;
+                    case "Issuer": value.Issuer = PlayFabModelAdapters.readString(in); break;
+                    case "Subject": value.Subject = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Email != null) {
+                out.name("Email");
+                out.value(value.Email);
+            }
+            out.endObject();
+        }
+
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Email": value.Email = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.PsnAccountId != null) {
+                out.name("PsnAccountId");
+                out.value(value.PsnAccountId);
+            }
+            if (value.PsnOnlineId != null) {
+                out.name("PsnOnlineId");
+                out.value(value.PsnOnlineId);
+            }
+            out.endObject();
+        }
+
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "PsnAccountId": value.PsnAccountId = PlayFabModelAdapters.readString(in); break;
+                    case "PsnOnlineId": value.PsnOnlineId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.SteamActivationStatus != null) {
+                out.name("SteamActivationStatus");
+                titleActivationStatusAdapter.write(out, value.SteamActivationStatus);
+            }
+            if (value.SteamCountry != null) {
+                out.name("SteamCountry");
+                out.value(value.SteamCountry);
+            }
+            if (value.SteamCurrency != null) {
+                out.name("SteamCurrency");
+                currencyAdapter.write(out, value.SteamCurrency);
+            }
+            if (value.SteamId != null) {
+                out.name("SteamId");
+                out.value(value.SteamId);
+            }
+            out.endObject();
+        }
+
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                    case "SteamCountry": value.SteamCountry = PlayFabModelAdapters.readString(in); break;
+                    case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                    case "SteamId": value.SteamId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.AvatarUrl != null) {
+                out.name("AvatarUrl");
+                out.value(value.AvatarUrl);
+            }
+            if (value.Created != null) {
+                out.name("Created");
+                dateAdapter.write(out, value.Created);
+            }
+            if (value.DisplayName != null) {
+                out.name("DisplayName");
+                out.value(value.DisplayName);
+            }
+            if (value.FirstLogin != null) {
+                out.name("FirstLogin");
+                dateAdapter.write(out, value.FirstLogin);
+            }
+            if (value.isBanned != null) {
+                out.name("isBanned");
+                out.value(value.isBanned.booleanValue());
+            }
+            if (value.LastLogin != null) {
+                out.name("LastLogin");
+                dateAdapter.write(out, value.LastLogin);
+            }
+            if (value.Origination != null) {
+                out.name("Origination");
+                userOriginationAdapter.write(out, value.Origination);
+            }
+            if (value.TitlePlayerAccount != null) {
+                out.name("TitlePlayerAccount");
+                entityKeyAdapter.write(out, value.TitlePlayerAccount);
+            }
+            out.endObject();
+        }
+
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "AvatarUrl": value.AvatarUrl = PlayFabModelAdapters.readString(in); break;
+                    case "Created": value.Created = dateAdapter.read(in); break;
+                    case "DisplayName": value.DisplayName = PlayFabModelAdapters.readString(in); break;
+                    case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                    case "isBanned": value.isBanned = PlayFabModelAdapters.readBoolean(in); break;
+                    case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                    case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                    case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.TwitchId != null) {
+                out.name("TwitchId");
+                out.value(value.TwitchId);
+            }
+            if (value.TwitchUserName != null) {
+                out.name("TwitchUserName");
+                out.value(value.TwitchUserName);
+            }
+            out.endObject();
+        }
+
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "TwitchId": value.TwitchId = PlayFabModelAdapters.readString(in); break;
+                    case "TwitchUserName": value.TwitchUserName = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserWindowsHelloInfoAdapter extends TypeAdapter<UserWindowsHelloInfo> {
+        UserWindowsHelloInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserWindowsHelloInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.WindowsHelloDeviceName != null) {
+                out.name("WindowsHelloDeviceName");
+                out.value(value.WindowsHelloDeviceName);
+            }
+            if (value.WindowsHelloPublicKeyHash != null) {
+                out.name("WindowsHelloPublicKeyHash");
+                out.value(value.WindowsHelloPublicKeyHash);
+            }
+            out.endObject();
+        }
+
+        public UserWindowsHelloInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserWindowsHelloInfo value = new UserWindowsHelloInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "WindowsHelloDeviceName": value.WindowsHelloDeviceName = PlayFabModelAdapters.readString(in); break;
+                    case "WindowsHelloPublicKeyHash": value.WindowsHelloPublicKeyHash = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.XboxUserId != null) {
+                out.name("XboxUserId");
+                out.value(value.XboxUserId);
+            }
+            out.endObject();
+        }
+
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "XboxUserId": value.XboxUserId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Currency != null) {
+                out.name("Currency");
+                out.value(value.Currency);
+            }
+            if (value.TotalValue != null) {
+                out.name("TotalValue");
+                out.value(value.TotalValue);
+            }
+            if (value.TotalValueAsDecimal != null) {
+                out.name("TotalValueAsDecimal");
+                out.value(value.TotalValueAsDecimal);
+            }
+            out.endObject();
+        }
+
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Currency": value.Currency = PlayFabModelAdapters.readString(in); break;
+                    case "TotalValue": value.TotalValue = PlayFabModelAdapters.readLong(in); break;
+                    case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.RechargeMax != null) {
+                out.name("RechargeMax");
+                out.value(value.RechargeMax);
+            }
+            if (value.RechargeTime != null) {
+                out.name("RechargeTime");
+                dateAdapter.write(out, value.RechargeTime);
+            }
+            if (value.SecondsToRecharge != null) {
+                out.name("SecondsToRecharge");
+                out.value(value.SecondsToRecharge);
+            }
+            out.endObject();
+        }
+
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "RechargeMax": value.RechargeMax = PlayFabModelAdapters.readInteger(in); break;
+                    case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                    case "SecondsToRecharge": value.SecondsToRecharge = PlayFabModelAdapters.readInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteEventResponseAdapter extends TypeAdapter<WriteEventResponse> {
+        WriteEventResponseAdapter(Gson gson) {
+        }
+
+        public void write(JsonWriter out, WriteEventResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.EventId != null) {
+                out.name("EventId");
+                out.value(value.EventId);
+            }
+            out.endObject();
+        }
+
+        public WriteEventResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventResponse value = new WriteEventResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "EventId": value.EventId = PlayFabModelAdapters.readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteServerCharacterEventRequestAdapter extends TypeAdapter<WriteServerCharacterEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteServerCharacterEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteServerCharacterEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.CharacterId != null) {
+                out.name("CharacterId");
+                out.value(value.CharacterId);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteServerCharacterEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteServerCharacterEventRequest value = new WriteServerCharacterEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "CharacterId": value.CharacterId = PlayFabModelAdapters.readString(in); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteServerPlayerEventRequestAdapter extends TypeAdapter<WriteServerPlayerEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteServerPlayerEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteServerPlayerEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.PlayFabId != null) {
+                out.name("PlayFabId");
+                out.value(value.PlayFabId);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteServerPlayerEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteServerPlayerEventRequest value = new WriteServerPlayerEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "PlayFabId": value.PlayFabId = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class WriteTitleEventRequestAdapter extends TypeAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteTitleEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        public void write(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.Body != null) {
+                out.name("Body");
+                PlayFabModelAdapters.writeMap(out, value.Body, objectAdapter);
+            }
+            if (value.EventName != null) {
+                out.name("EventName");
+                out.value(value.EventName);
+            }
+            if (value.Timestamp != null) {
+                out.name("Timestamp");
+                dateAdapter.write(out, value.Timestamp);
+            }
+            out.endObject();
+        }
+
+        public WriteTitleEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteTitleEventRequest value = new WriteTitleEventRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "Body": value.Body = PlayFabModelAdapters.readMap(in, objectAdapter); break;
+                    case "EventName": value.EventName = PlayFabModelAdapters.readString(in); break;
+                    case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final TypeAdapter<CloudScriptRevisionOption> CloudScriptRevisionOptionAdapter = new TypeAdapter<CloudScriptRevisionOption>() {
+        public void write(JsonWriter out, CloudScriptRevisionOption value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CloudScriptRevisionOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Live": return CloudScriptRevisionOption.Live;
+                case "Latest": return CloudScriptRevisionOption.Latest;
+                case "Specific": return CloudScriptRevisionOption.Specific;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ContinentCode> ContinentCodeAdapter = new TypeAdapter<ContinentCode>() {
+        public void write(JsonWriter out, ContinentCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ContinentCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return ContinentCode.AF;
+                case "AN": return ContinentCode.AN;
+                case "AS": return ContinentCode.AS;
+                case "EU": return ContinentCode.EU;
+                case "NA": return ContinentCode.NA;
+                case "OC": return ContinentCode.OC;
+                case "SA": return ContinentCode.SA;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<CountryCode> CountryCodeAdapter = new TypeAdapter<CountryCode>() {
+        public void write(JsonWriter out, CountryCode value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public CountryCode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AF": return CountryCode.AF;
+                case "AX": return CountryCode.AX;
+                case "AL": return CountryCode.AL;
+                case "DZ": return CountryCode.DZ;
+                case "AS": return CountryCode.AS;
+                case "AD": return CountryCode.AD;
+                case "AO": return CountryCode.AO;
+                case "AI": return CountryCode.AI;
+                case "AQ": return CountryCode.AQ;
+                case "AG": return CountryCode.AG;
+                case "AR": return CountryCode.AR;
+                case "AM": return CountryCode.AM;
+                case "AW": return CountryCode.AW;
+                case "AU": return CountryCode.AU;
+                case "AT": return CountryCode.AT;
+                case "AZ": return CountryCode.AZ;
+                case "BS": return CountryCode.BS;
+                case "BH": return CountryCode.BH;
+                case "BD": return CountryCode.BD;
+                case "BB": return CountryCode.BB;
+                case "BY": return CountryCode.BY;
+                case "BE": return CountryCode.BE;
+                case "BZ": return CountryCode.BZ;
+                case "BJ": return CountryCode.BJ;
+                case "BM": return CountryCode.BM;
+                case "BT": return CountryCode.BT;
+                case "BO": return CountryCode.BO;
+                case "BQ": return CountryCode.BQ;
+                case "BA": return CountryCode.BA;
+                case "BW": return CountryCode.BW;
+                case "BV": return CountryCode.BV;
+                case "BR": return CountryCode.BR;
+                case "IO": return CountryCode.IO;
+                case "BN": return CountryCode.BN;
+                case "BG": return CountryCode.BG;
+                case "BF": return CountryCode.BF;
+                case "BI": return CountryCode.BI;
+                case "KH": return CountryCode.KH;
+                case "CM": return CountryCode.CM;
+                case "CA": return CountryCode.CA;
+                case "CV": return CountryCode.CV;
+                case "KY": return CountryCode.KY;
+                case "CF": return CountryCode.CF;
+                case "TD": return CountryCode.TD;
+                case "CL": return CountryCode.CL;
+                case "CN": return CountryCode.CN;
+                case "CX": return CountryCode.CX;
+                case "CC": return CountryCode.CC;
+                case "CO": return CountryCode.CO;
+                case "KM": return CountryCode.KM;
+                case "CG": return CountryCode.CG;
+                case "CD": return CountryCode.CD;
+                case "CK": return CountryCode.CK;
+                case "CR": return CountryCode.CR;
+                case "CI": return CountryCode.CI;
+                case "HR": return CountryCode.HR;
+                case "CU": return CountryCode.CU;
+                case "CW": return CountryCode.CW;
+                case "CY": return CountryCode.CY;
+                case "CZ": return CountryCode.CZ;
+                case "DK": return CountryCode.DK;
+                case "DJ": return CountryCode.DJ;
+                case "DM": return CountryCode.DM;
+                case "DO": return CountryCode.DO;
+                case "EC": return CountryCode.EC;
+                case "EG": return CountryCode.EG;
+                case "SV": return CountryCode.SV;
+                case "GQ": return CountryCode.GQ;
+                case "ER": return CountryCode.ER;
+                case "EE": return CountryCode.EE;
+                case "ET": return CountryCode.ET;
+                case "FK": return CountryCode.FK;
+                case "FO": return CountryCode.FO;
+                case "FJ": return CountryCode.FJ;
+                case "FI": return CountryCode.FI;
+                case "FR": return CountryCode.FR;
+                case "GF": return CountryCode.GF;
+                case "PF": return CountryCode.PF;
+                case "TF": return CountryCode.TF;
+                case "GA": return CountryCode.GA;
+                case "GM": return CountryCode.GM;
+                case "GE": return CountryCode.GE;
+                case "DE": return CountryCode.DE;
+                case "GH": return CountryCode.GH;
+                case "GI": return CountryCode.GI;
+                case "GR": return CountryCode.GR;
+                case "GL": return CountryCode.GL;
+                case "GD": return CountryCode.GD;
+                case "GP": return CountryCode.GP;
+                case "GU": return CountryCode.GU;
+                case "GT": return CountryCode.GT;
+                case "GG": return CountryCode.GG;
+                case "GN": return CountryCode.GN;
+                case "GW": return CountryCode.GW;
+                case "GY": return CountryCode.GY;
+                case "HT": return CountryCode.HT;
+                case "HM": return CountryCode.HM;
+                case "VA": return CountryCode.VA;
+                case "HN": return CountryCode.HN;
+                case "HK": return CountryCode.HK;
+                case "HU": return CountryCode.HU;
+                case "IS": return CountryCode.IS;
+                case "IN": return CountryCode.IN;
+                case "ID": return CountryCode.ID;
+                case "IR": return CountryCode.IR;
+                case "IQ": return CountryCode.IQ;
+                case "IE": return CountryCode.IE;
+                case "IM": return CountryCode.IM;
+                case "IL": return CountryCode.IL;
+                case "IT": return CountryCode.IT;
+                case "JM": return CountryCode.JM;
+                case "JP": return CountryCode.JP;
+                case "JE": return CountryCode.JE;
+                case "JO": return CountryCode.JO;
+                case "KZ": return CountryCode.KZ;
+                case "KE": return CountryCode.KE;
+                case "KI": return CountryCode.KI;
+                case "KP": return CountryCode.KP;
+                case "KR": return CountryCode.KR;
+                case "KW": return CountryCode.KW;
+                case "KG": return CountryCode.KG;
+                case "LA": return CountryCode.LA;
+                case "LV": return CountryCode.LV;
+                case "LB": return CountryCode.LB;
+                case "LS": return CountryCode.LS;
+                case "LR": return CountryCode.LR;
+                case "LY": return CountryCode.LY;
+                case "LI": return CountryCode.LI;
+                case "LT": return CountryCode.LT;
+                case "LU": return CountryCode.LU;
+                case "MO": return CountryCode.MO;
+                case "MK": return CountryCode.MK;
+                case "MG": return CountryCode.MG;
+                case "MW": return CountryCode.MW;
+                case "MY": return CountryCode.MY;
+                case "MV": return CountryCode.MV;
+                case "ML": return CountryCode.ML;
+                case "MT": return CountryCode.MT;
+                case "MH": return CountryCode.MH;
+                case "MQ": return CountryCode.MQ;
+                case "MR": return CountryCode.MR;
+                case "MU": return CountryCode.MU;
+                case "YT": return CountryCode.YT;
+                case "MX": return CountryCode.MX;
+                case "FM": return CountryCode.FM;
+                case "MD": return CountryCode.MD;
+                case "MC": return CountryCode.MC;
+                case "MN": return CountryCode.MN;
+                case "ME": return CountryCode.ME;
+                case "MS": return CountryCode.MS;
+                case "MA": return CountryCode.MA;
+                case "MZ": return CountryCode.MZ;
+                case "MM": return CountryCode.MM;
+                case "NA": return CountryCode.NA;
+                case "NR": return CountryCode.NR;
+                case "NP": return CountryCode.NP;
+                case "NL": return CountryCode.NL;
+                case "NC": return CountryCode.NC;
+                case "NZ": return CountryCode.NZ;
+                case "NI": return CountryCode.NI;
+                case "NE": return CountryCode.NE;
+                case "NG": return CountryCode.NG;
+                case "NU": return CountryCode.NU;
+                case "NF": return CountryCode.NF;
+                case "MP": return CountryCode.MP;
+                case "NO": return CountryCode.NO;
+                case "OM": return CountryCode.OM;
+                case "PK": return CountryCode.PK;
+                case "PW": return CountryCode.PW;
+                case "PS": return CountryCode.PS;
+                case "PA": return CountryCode.PA;
+                case "PG": return CountryCode.PG;
+                case "PY": return CountryCode.PY;
+                case "PE": return CountryCode.PE;
+                case "PH": return CountryCode.PH;
+                case "PN": return CountryCode.PN;
+                case "PL": return CountryCode.PL;
+                case "PT": return CountryCode.PT;
+                case "PR": return CountryCode.PR;
+                case "QA": return CountryCode.QA;
+                case "RE": return CountryCode.RE;
+                case "RO": return CountryCode.RO;
+                case "RU": return CountryCode.RU;
+                case "RW": return CountryCode.RW;
+                case "BL": return CountryCode.BL;
+                case "SH": return CountryCode.SH;
+                case "KN": return CountryCode.KN;
+                case "LC": return CountryCode.LC;
+                case "MF": return CountryCode.MF;
+                case "PM": return CountryCode.PM;
+                case "VC": return CountryCode.VC;
+                case "WS": return CountryCode.WS;
+                case "SM": return CountryCode.SM;
+                case "ST": return CountryCode.ST;
+                case "SA": return CountryCode.SA;
+                case "SN": return CountryCode.SN;
+                case "RS": return CountryCode.RS;
+                case "SC": return CountryCode.SC;
+                case "SL": return CountryCode.SL;
+                case "SG": return CountryCode.SG;
+                case "SX": return CountryCode.SX;
+                case "SK": return CountryCode.SK;
+                case "SI": return CountryCode.SI;
+                case "SB": return CountryCode.SB;
+                case "SO": return CountryCode.SO;
+                case "ZA": return CountryCode.ZA;
+                case "GS": return CountryCode.GS;
+                case "SS": return CountryCode.SS;
+                case "ES": return CountryCode.ES;
+                case "LK": return CountryCode.LK;
+                case "SD": return CountryCode.SD;
+                case "SR": return CountryCode.SR;
+                case "SJ": return CountryCode.SJ;
+                case "SZ": return CountryCode.SZ;
+                case "SE": return CountryCode.SE;
+                case "CH": return CountryCode.CH;
+                case "SY": return CountryCode.SY;
+                case "TW": return CountryCode.TW;
+                case "TJ": return CountryCode.TJ;
+                case "TZ": return CountryCode.TZ;
+                case "TH": return CountryCode.TH;
+                case "TL": return CountryCode.TL;
+                case "TG": return CountryCode.TG;
+                case "TK": return CountryCode.TK;
+                case "TO": return CountryCode.TO;
+                case "TT": return CountryCode.TT;
+                case "TN": return CountryCode.TN;
+                case "TR": return CountryCode.TR;
+                case "TM": return CountryCode.TM;
+                case "TC": return CountryCode.TC;
+                case "TV": return CountryCode.TV;
+                case "UG": return CountryCode.UG;
+                case "UA": return CountryCode.UA;
+                case "AE": return CountryCode.AE;
+                case "GB": return CountryCode.GB;
+                case "US": return CountryCode.US;
+                case "UM": return CountryCode.UM;
+                case "UY": return CountryCode.UY;
+                case "UZ": return CountryCode.UZ;
+                case "VU": return CountryCode.VU;
+                case "VE": return CountryCode.VE;
+                case "VN": return CountryCode.VN;
+                case "VG": return CountryCode.VG;
+                case "VI": return CountryCode.VI;
+                case "WF": return CountryCode.WF;
+                case "EH": return CountryCode.EH;
+                case "YE": return CountryCode.YE;
+                case "ZM": return CountryCode.ZM;
+                case "ZW": return CountryCode.ZW;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Currency> CurrencyAdapter = new TypeAdapter<Currency>() {
+        public void write(JsonWriter out, Currency value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Currency read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "AED": return Currency.AED;
+                case "AFN": return Currency.AFN;
+                case "ALL": return Currency.ALL;
+                case "AMD": return Currency.AMD;
+                case "ANG": return Currency.ANG;
+                case "AOA": return Currency.AOA;
+                case "ARS": return Currency.ARS;
+                case "AUD": return Currency.AUD;
+                case "AWG": return Currency.AWG;
+                case "AZN": return Currency.AZN;
+                case "BAM": return Currency.BAM;
+                case "BBD": return Currency.BBD;
+                case "BDT": return Currency.BDT;
+                case "BGN": return Currency.BGN;
+                case "BHD": return Currency.BHD;
+                case "BIF": return Currency.BIF;
+                case "BMD": return Currency.BMD;
+                case "BND": return Currency.BND;
+                case "BOB": return Currency.BOB;
+                case "BRL": return Currency.BRL;
+                case "BSD": return Currency.BSD;
+                case "BTN": return Currency.BTN;
+                case "BWP": return Currency.BWP;
+                case "BYR": return Currency.BYR;
+                case "BZD": return Currency.BZD;
+                case "CAD": return Currency.CAD;
+                case "CDF": return Currency.CDF;
+                case "CHF": return Currency.CHF;
+                case "CLP": return Currency.CLP;
+                case "CNY": return Currency.CNY;
+                case "COP": return Currency.COP;
+                case "CRC": return Currency.CRC;
+                case "CUC": return Currency.CUC;
+                case "CUP": return Currency.CUP;
+                case "CVE": return Currency.CVE;
+                case "CZK": return Currency.CZK;
+                case "DJF": return Currency.DJF;
+                case "DKK": return Currency.DKK;
+                case "DOP": return Currency.DOP;
+                case "DZD": return Currency.DZD;
+                case "EGP": return Currency.EGP;
+                case "ERN": return Currency.ERN;
+                case "ETB": return Currency.ETB;
+                case "EUR": return Currency.EUR;
+                case "FJD": return Currency.FJD;
+                case "FKP": return Currency.FKP;
+                case "GBP": return Currency.GBP;
+                case "GEL": return Currency.GEL;
+                case "GGP": return Currency.GGP;
+                case "GHS": return Currency.GHS;
+                case "GIP": return Currency.GIP;
+                case "GMD": return Currency.GMD;
+                case "GNF": return Currency.GNF;
+                case "GTQ": return Currency.GTQ;
+                case "GYD": return Currency.GYD;
+                case "HKD": return Currency.HKD;
+                case "HNL": return Currency.HNL;
+                case "HRK": return Currency.HRK;
+                case "HTG": return Currency.HTG;
+                case "HUF": return Currency.HUF;
+                case "IDR": return Currency.IDR;
+                case "ILS": return Currency.ILS;
+                case "IMP": return Currency.IMP;
+                case "INR": return Currency.INR;
+                case "IQD": return Currency.IQD;
+                case "IRR": return Currency.IRR;
+                case "ISK": return Currency.ISK;
+                case "JEP": return Currency.JEP;
+                case "JMD": return Currency.JMD;
+                case "JOD": return Currency.JOD;
+                case "JPY": return Currency.JPY;
+                case "KES": return Currency.KES;
+                case "KGS": return Currency.KGS;
+                case "KHR": return Currency.KHR;
+                case "KMF": return Currency.KMF;
+                case "KPW": return Currency.KPW;
+                case "KRW": return Currency.KRW;
+                case "KWD": return Currency.KWD;
+                case "KYD": return Currency.KYD;
+                case "KZT": return Currency.KZT;
+                case "LAK": return Currency.LAK;
+                case "LBP": return Currency.LBP;
+                case "LKR": return Currency.LKR;
+                case "LRD": return Currency.LRD;
+                case "LSL": return Currency.LSL;
+                case "LYD": return Currency.LYD;
+                case "MAD": return Currency.MAD;
+                case "MDL": return Currency.MDL;
+                case "MGA": return Currency.MGA;
+                case "MKD": return Currency.MKD;
+                case "MMK": return Currency.MMK;
+                case "MNT": return Currency.MNT;
+                case "MOP": return Currency.MOP;
+                case "MRO": return Currency.MRO;
+                case "MUR": return Currency.MUR;
+                case "MVR": return Currency.MVR;
+                case "MWK": return Currency.MWK;
+                case "MXN": return Currency.MXN;
+                case "MYR": return Currency.MYR;
+                case "MZN": return Currency.MZN;
+                case "NAD": return Currency.NAD;
+                case "NGN": return Currency.NGN;
+                case "NIO": return Currency.NIO;
+                case "NOK": return Currency.NOK;
+                case "NPR": return Currency.NPR;
+                case "NZD": return Currency.NZD;
+                case "OMR": return Currency.OMR;
+                case "PAB": return Currency.PAB;
+                case "PEN": return Currency.PEN;
+                case "PGK": return Currency.PGK;
+                case "PHP": return Currency.PHP;
+                case "PKR": return Currency.PKR;
+                case "PLN": return Currency.PLN;
+                case "PYG": return Currency.PYG;
+                case "QAR": return Currency.QAR;
+                case "RON": return Currency.RON;
+                case "RSD": return Currency.RSD;
+                case "RUB": return Currency.RUB;
+                case "RWF": return Currency.RWF;
+                case "SAR": return Currency.SAR;
+                case "SBD": return Currency.SBD;
+                case "SCR": return Currency.SCR;
+                case "SDG": return Currency.SDG;
+                case "SEK": return Currency.SEK;
+                case "SGD": return Currency.SGD;
+                case "SHP": return Currency.SHP;
+                case "SLL": return Currency.SLL;
+                case "SOS": return Currency.SOS;
+                case "SPL": return Currency.SPL;
+                case "SRD": return Currency.SRD;
+                case "STD": return Currency.STD;
+                case "SVC": return Currency.SVC;
+                case "SYP": return Currency.SYP;
+                case "SZL": return Currency.SZL;
+                case "THB": return Currency.THB;
+                case "TJS": return Currency.TJS;
+                case "TMT": return Currency.TMT;
+                case "TND": return Currency.TND;
+                case "TOP": return Currency.TOP;
+                case "TRY": return Currency.TRY;
+                case "TTD": return Currency.TTD;
+                case "TVD": return Currency.TVD;
+                case "TWD": return Currency.TWD;
+                case "TZS": return Currency.TZS;
+                case "UAH": return Currency.UAH;
+                case "UGX": return Currency.UGX;
+                case "USD": return Currency.USD;
+                case "UYU": return Currency.UYU;
+                case "UZS": return Currency.UZS;
+                case "VEF": return Currency.VEF;
+                case "VND": return Currency.VND;
+                case "VUV": return Currency.VUV;
+                case "WST": return Currency.WST;
+                case "XAF": return Currency.XAF;
+                case "XCD": return Currency.XCD;
+                case "XDR": return Currency.XDR;
+                case "XOF": return Currency.XOF;
+                case "XPF": return Currency.XPF;
+                case "YER": return Currency.YER;
+                case "ZAR": return Currency.ZAR;
+                case "ZMW": return Currency.ZMW;
+                case "ZWD": return Currency.ZWD;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<EmailVerificationStatus> EmailVerificationStatusAdapter = new TypeAdapter<EmailVerificationStatus>() {
+        public void write(JsonWriter out, EmailVerificationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public EmailVerificationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unverified": return EmailVerificationStatus.Unverified;
+                case "Pending": return EmailVerificationStatus.Pending;
+                case "Confirmed": return EmailVerificationStatus.Confirmed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<GameInstanceState> GameInstanceStateAdapter = new TypeAdapter<GameInstanceState>() {
+        public void write(JsonWriter out, GameInstanceState value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public GameInstanceState read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Open": return GameInstanceState.Open;
+                case "Closed": return GameInstanceState.Closed;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<GenericErrorCodes> GenericErrorCodesAdapter = new TypeAdapter<GenericErrorCodes>() {
+        public void write(JsonWriter out, GenericErrorCodes value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public GenericErrorCodes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Success": return GenericErrorCodes.Success;
+                case "UnkownError": return GenericErrorCodes.UnkownError;
+                case "InvalidParams": return GenericErrorCodes.InvalidParams;
+                case "AccountNotFound": return GenericErrorCodes.AccountNotFound;
+                case "AccountBanned": return GenericErrorCodes.AccountBanned;
+                case "InvalidUsernameOrPassword": return GenericErrorCodes.InvalidUsernameOrPassword;
+                case "InvalidTitleId": return GenericErrorCodes.InvalidTitleId;
+                case "InvalidEmailAddress": return GenericErrorCodes.InvalidEmailAddress;
+                case "EmailAddressNotAvailable": return GenericErrorCodes.EmailAddressNotAvailable;
+                case "InvalidUsername": return GenericErrorCodes.InvalidUsername;
+                case "InvalidPassword": return GenericErrorCodes.InvalidPassword;
+                case "UsernameNotAvailable": return GenericErrorCodes.UsernameNotAvailable;
+                case "InvalidSteamTicket": return GenericErrorCodes.InvalidSteamTicket;
+                case "AccountAlreadyLinked": return GenericErrorCodes.AccountAlreadyLinked;
+                case "LinkedAccountAlreadyClaimed": return GenericErrorCodes.LinkedAccountAlreadyClaimed;
+                case "InvalidFacebookToken": return GenericErrorCodes.InvalidFacebookToken;
+                case "AccountNotLinked": return GenericErrorCodes.AccountNotLinked;
+                case "FailedByPaymentProvider": return GenericErrorCodes.FailedByPaymentProvider;
+                case "CouponCodeNotFound": return GenericErrorCodes.CouponCodeNotFound;
+                case "InvalidContainerItem": return GenericErrorCodes.InvalidContainerItem;
+                case "ContainerNotOwned": return GenericErrorCodes.ContainerNotOwned;
+                case "KeyNotOwned": return GenericErrorCodes.KeyNotOwned;
+                case "InvalidItemIdInTable": return GenericErrorCodes.InvalidItemIdInTable;
+                case "InvalidReceipt": return GenericErrorCodes.InvalidReceipt;
+                case "ReceiptAlreadyUsed": return GenericErrorCodes.ReceiptAlreadyUsed;
+                case "ReceiptCancelled": return GenericErrorCodes.ReceiptCancelled;
+                case "GameNotFound": return GenericErrorCodes.GameNotFound;
+                case "GameModeNotFound": return GenericErrorCodes.GameModeNotFound;
+                case "InvalidGoogleToken": return GenericErrorCodes.InvalidGoogleToken;
+                case "UserIsNotPartOfDeveloper": return GenericErrorCodes.UserIsNotPartOfDeveloper;
+                case "InvalidTitleForDeveloper": return GenericErrorCodes.InvalidTitleForDeveloper;
+                case "TitleNameConflicts": return GenericErrorCodes.TitleNameConflicts;
+                case "UserisNotValid": return GenericErrorCodes.UserisNotValid;
+                case "ValueAlreadyExists": return GenericErrorCodes.ValueAlreadyExists;
+                case "BuildNotFound": return GenericErrorCodes.BuildNotFound;
+                case "PlayerNotInGame": return GenericErrorCodes.PlayerNotInGame;
+                case "InvalidTicket": return GenericErrorCodes.InvalidTicket;
+                case "InvalidDeveloper": return GenericErrorCodes.InvalidDeveloper;
+                case "InvalidOrderInfo": return GenericErrorCodes.InvalidOrderInfo;
+                case "RegistrationIncomplete": return GenericErrorCodes.RegistrationIncomplete;
+                case "InvalidPlatform": return GenericErrorCodes.InvalidPlatform;
+                case "UnknownError": return GenericErrorCodes.UnknownError;
+                case "SteamApplicationNotOwned": return GenericErrorCodes.SteamApplicationNotOwned;
+                case "WrongSteamAccount": return GenericErrorCodes.WrongSteamAccount;
+                case "TitleNotActivated": return GenericErrorCodes.TitleNotActivated;
+                case "RegistrationSessionNotFound": return GenericErrorCodes.RegistrationSessionNotFound;
+                case "NoSuchMod": return GenericErrorCodes.NoSuchMod;
+                case "FileNotFound": return GenericErrorCodes.FileNotFound;
+                case "DuplicateEmail": return GenericErrorCodes.DuplicateEmail;
+                case "ItemNotFound": return GenericErrorCodes.ItemNotFound;
+                case "ItemNotOwned": return GenericErrorCodes.ItemNotOwned;
+                case "ItemNotRecycleable": return GenericErrorCodes.ItemNotRecycleable;
+                case "ItemNotAffordable": return GenericErrorCodes.ItemNotAffordable;
+                case "InvalidVirtualCurrency": return GenericErrorCodes.InvalidVirtualCurrency;
+                case "WrongVirtualCurrency": return GenericErrorCodes.WrongVirtualCurrency;
+                case "WrongPrice": return GenericErrorCodes.WrongPrice;
+                case "NonPositiveValue": return GenericErrorCodes.NonPositiveValue;
+                case "InvalidRegion": return GenericErrorCodes.InvalidRegion;
+                case "RegionAtCapacity": return GenericErrorCodes.RegionAtCapacity;
+                case "ServerFailedToStart": return GenericErrorCodes.ServerFailedToStart;
+                case "NameNotAvailable": return GenericErrorCodes.NameNotAvailable;
+                case "InsufficientFunds": return GenericErrorCodes.InsufficientFunds;
+                case "InvalidDeviceID": return GenericErrorCodes.InvalidDeviceID;
+                case "InvalidPushNotificationToken": return GenericErrorCodes.InvalidPushNotificationToken;
+                case "NoRemainingUses": return GenericErrorCodes.NoRemainingUses;
+                case "InvalidPaymentProvider": return GenericErrorCodes.InvalidPaymentProvider;
+                case "PurchaseInitializationFailure": return GenericErrorCodes.PurchaseInitializationFailure;
+                case "DuplicateUsername": return GenericErrorCodes.DuplicateUsername;
+                case "InvalidBuyerInfo": return GenericErrorCodes.InvalidBuyerInfo;
+                case "NoGameModeParamsSet": return GenericErrorCodes.NoGameModeParamsSet;
+                case "BodyTooLarge": return GenericErrorCodes.BodyTooLarge;
+                case "ReservedWordInBody": return GenericErrorCodes.ReservedWordInBody;
+                case "InvalidTypeInBody": return GenericErrorCodes.InvalidTypeInBody;
+                case "InvalidRequest": return GenericErrorCodes.InvalidRequest;
+                case "ReservedEventName": return GenericErrorCodes.ReservedEventName;
+                case "InvalidUserStatistics": return GenericErrorCodes.InvalidUserStatistics;
+                case "NotAuthenticated": return GenericErrorCodes.NotAuthenticated;
+                case "StreamAlreadyExists": return GenericErrorCodes.StreamAlreadyExists;
+                case "ErrorCreatingStream": return GenericErrorCodes.ErrorCreatingStream;
+                case "StreamNotFound": return GenericErrorCodes.StreamNotFound;
+                case "InvalidAccount": return GenericErrorCodes.InvalidAccount;
+                case "PurchaseDoesNotExist": return GenericErrorCodes.PurchaseDoesNotExist;
+                case "InvalidPurchaseTransactionStatus": return GenericErrorCodes.InvalidPurchaseTransactionStatus;
+                case "APINotEnabledForGameClientAccess": return GenericErrorCodes.APINotEnabledForGameClientAccess;
+                case "NoPushNotificationARNForTitle": return GenericErrorCodes.NoPushNotificationARNForTitle;
+                case "BuildAlreadyExists": return GenericErrorCodes.BuildAlreadyExists;
+                case "BuildPackageDoesNotExist": return GenericErrorCodes.BuildPackageDoesNotExist;
+                case "CustomAnalyticsEventsNotEnabledForTitle": return GenericErrorCodes.CustomAnalyticsEventsNotEnabledForTitle;
+                case "InvalidSharedGroupId": return GenericErrorCodes.InvalidSharedGroupId;
+                case "NotAuthorized": return GenericErrorCodes.NotAuthorized;
+                case "MissingTitleGoogleProperties": return GenericErrorCodes.MissingTitleGoogleProperties;
+                case "InvalidItemProperties": return GenericErrorCodes.InvalidItemProperties;
+                case "InvalidPSNAuthCode": return GenericErrorCodes.InvalidPSNAuthCode;
+                case "InvalidItemId": return GenericErrorCodes.InvalidItemId;
+                case "PushNotEnabledForAccount": return GenericErrorCodes.PushNotEnabledForAccount;
+                case "PushServiceError": return GenericErrorCodes.PushServiceError;
+                case "ReceiptDoesNotContainInAppItems": return GenericErrorCodes.ReceiptDoesNotContainInAppItems;
+                case "ReceiptContainsMultipleInAppItems": return GenericErrorCodes.ReceiptContainsMultipleInAppItems;
+                case "InvalidBundleID": return GenericErrorCodes.InvalidBundleID;
+                case "JavascriptException": return GenericErrorCodes.JavascriptException;
+                case "InvalidSessionTicket": return GenericErrorCodes.InvalidSessionTicket;
+                case "UnableToConnectToDatabase": return GenericErrorCodes.UnableToConnectToDatabase;
+                case "InternalServerError": return GenericErrorCodes.InternalServerError;
+                case "InvalidReportDate": return GenericErrorCodes.InvalidReportDate;
+                case "ReportNotAvailable": return GenericErrorCodes.ReportNotAvailable;
+                case "DatabaseThroughputExceeded": return GenericErrorCodes.DatabaseThroughputExceeded;
+                case "InvalidGameTicket": return GenericErrorCodes.InvalidGameTicket;
+                case "ExpiredGameTicket": return GenericErrorCodes.ExpiredGameTicket;
+                case "GameTicketDoesNotMatchLobby": return GenericErrorCodes.GameTicketDoesNotMatchLobby;
+                case "LinkedDeviceAlreadyClaimed": return GenericErrorCodes.LinkedDeviceAlreadyClaimed;
+                case "DeviceAlreadyLinked": return GenericErrorCodes.DeviceAlreadyLinked;
+                case "DeviceNotLinked": return GenericErrorCodes.DeviceNotLinked;
+                case "PartialFailure": return GenericErrorCodes.PartialFailure;
+                case "PublisherNotSet": return GenericErrorCodes.PublisherNotSet;
+                case "ServiceUnavailable": return GenericErrorCodes.ServiceUnavailable;
+                case "VersionNotFound": return GenericErrorCodes.VersionNotFound;
+                case "RevisionNotFound": return GenericErrorCodes.RevisionNotFound;
+                case "InvalidPublisherId": return GenericErrorCodes.InvalidPublisherId;
+                case "DownstreamServiceUnavailable": return GenericErrorCodes.DownstreamServiceUnavailable;
+                case "APINotIncludedInTitleUsageTier": return GenericErrorCodes.APINotIncludedInTitleUsageTier;
+                case "DAULimitExceeded": return GenericErrorCodes.DAULimitExceeded;
+                case "APIRequestLimitExceeded": return GenericErrorCodes.APIRequestLimitExceeded;
+                case "InvalidAPIEndpoint": return GenericErrorCodes.InvalidAPIEndpoint;
+                case "BuildNotAvailable": return GenericErrorCodes.BuildNotAvailable;
+                case "ConcurrentEditError": return GenericErrorCodes.ConcurrentEditError;
+                case "ContentNotFound": return GenericErrorCodes.ContentNotFound;
+                case "CharacterNotFound": return GenericErrorCodes.CharacterNotFound;
+                case "CloudScriptNotFound": return GenericErrorCodes.CloudScriptNotFound;
+                case "ContentQuotaExceeded": return GenericErrorCodes.ContentQuotaExceeded;
+                case "InvalidCharacterStatistics": return GenericErrorCodes.InvalidCharacterStatistics;
+                case "PhotonNotEnabledForTitle": return GenericErrorCodes.PhotonNotEnabledForTitle;
+                case "PhotonApplicationNotFound": return GenericErrorCodes.PhotonApplicationNotFound;
+                case "PhotonApplicationNotAssociatedWithTitle": return GenericErrorCodes.PhotonApplicationNotAssociatedWithTitle;
+                case "InvalidEmailOrPassword": return GenericErrorCodes.InvalidEmailOrPassword;
+                case "FacebookAPIError": return GenericErrorCodes.FacebookAPIError;
+                case "InvalidContentType": return GenericErrorCodes.InvalidContentType;
+                case "KeyLengthExceeded": return GenericErrorCodes.KeyLengthExceeded;
+                case "DataLengthExceeded": return GenericErrorCodes.DataLengthExceeded;
+                case "TooManyKeys": return GenericErrorCodes.TooManyKeys;
+                case "FreeTierCannotHaveVirtualCurrency": return GenericErrorCodes.FreeTierCannotHaveVirtualCurrency;
+                case "MissingAmazonSharedKey": return GenericErrorCodes.MissingAmazonSharedKey;
+                case "AmazonValidationError": return GenericErrorCodes.AmazonValidationError;
+                case "InvalidPSNIssuerId": return GenericErrorCodes.InvalidPSNIssuerId;
+                case "PSNInaccessible": return GenericErrorCodes.PSNInaccessible;
+                case "ExpiredAuthToken": return GenericErrorCodes.ExpiredAuthToken;
+                case "FailedToGetEntitlements": return GenericErrorCodes.FailedToGetEntitlements;
+                case "FailedToConsumeEntitlement": return GenericErrorCodes.FailedToConsumeEntitlement;
+                case "TradeAcceptingUserNotAllowed": return GenericErrorCodes.TradeAcceptingUserNotAllowed;
+                case "TradeInventoryItemIsAssignedToCharacter": return GenericErrorCodes.TradeInventoryItemIsAssignedToCharacter;
+                case "TradeInventoryItemIsBundle": return GenericErrorCodes.TradeInventoryItemIsBundle;
+                case "TradeStatusNotValidForCancelling": return GenericErrorCodes.TradeStatusNotValidForCancelling;
+                case "TradeStatusNotValidForAccepting": return GenericErrorCodes.TradeStatusNotValidForAccepting;
+                case "TradeDoesNotExist": return GenericErrorCodes.TradeDoesNotExist;
+                case "TradeCancelled": return GenericErrorCodes.TradeCancelled;
+                case "TradeAlreadyFilled": return GenericErrorCodes.TradeAlreadyFilled;
+                case "TradeWaitForStatusTimeout": return GenericErrorCodes.TradeWaitForStatusTimeout;
+                case "TradeInventoryItemExpired": return GenericErrorCodes.TradeInventoryItemExpired;
+                case "TradeMissingOfferedAndAcceptedItems": return GenericErrorCodes.TradeMissingOfferedAndAcceptedItems;
+                case "TradeAcceptedItemIsBundle": return GenericErrorCodes.TradeAcceptedItemIsBundle;
+                case "TradeAcceptedItemIsStackable": return GenericErrorCodes.TradeAcceptedItemIsStackable;
+                case "TradeInventoryItemInvalidStatus": return GenericErrorCodes.TradeInventoryItemInvalidStatus;
+                case "TradeAcceptedCatalogItemInvalid": return GenericErrorCodes.TradeAcceptedCatalogItemInvalid;
+                case "TradeAllowedUsersInvalid": return GenericErrorCodes.TradeAllowedUsersInvalid;
+                case "TradeInventoryItemDoesNotExist": return GenericErrorCodes.TradeInventoryItemDoesNotExist;
+                case "TradeInventoryItemIsConsumed": return GenericErrorCodes.TradeInventoryItemIsConsumed;
+                case "TradeInventoryItemIsStackable": return GenericErrorCodes.TradeInventoryItemIsStackable;
+                case "TradeAcceptedItemsMismatch": return GenericErrorCodes.TradeAcceptedItemsMismatch;
+                case "InvalidKongregateToken": return GenericErrorCodes.InvalidKongregateToken;
+                case "FeatureNotConfiguredForTitle": return GenericErrorCodes.FeatureNotConfiguredForTitle;
+                case "NoMatchingCatalogItemForReceipt": return GenericErrorCodes.NoMatchingCatalogItemForReceipt;
+                case "InvalidCurrencyCode": return GenericErrorCodes.InvalidCurrencyCode;
+                case "NoRealMoneyPriceForCatalogItem": return GenericErrorCodes.NoRealMoneyPriceForCatalogItem;
+                case "TradeInventoryItemIsNotTradable": return GenericErrorCodes.TradeInventoryItemIsNotTradable;
+                case "TradeAcceptedCatalogItemIsNotTradable": return GenericErrorCodes.TradeAcceptedCatalogItemIsNotTradable;
+                case "UsersAlreadyFriends": return GenericErrorCodes.UsersAlreadyFriends;
+                case "LinkedIdentifierAlreadyClaimed": return GenericErrorCodes.LinkedIdentifierAlreadyClaimed;
+                case "CustomIdNotLinked": return GenericErrorCodes.CustomIdNotLinked;
+                case "TotalDataSizeExceeded": return GenericErrorCodes.TotalDataSizeExceeded;
+                case "DeleteKeyConflict": return GenericErrorCodes.DeleteKeyConflict;
+                case "InvalidXboxLiveToken": return GenericErrorCodes.InvalidXboxLiveToken;
+                case "ExpiredXboxLiveToken": return GenericErrorCodes.ExpiredXboxLiveToken;
+                case "ResettableStatisticVersionRequired": return GenericErrorCodes.ResettableStatisticVersionRequired;
+                case "NotAuthorizedByTitle": return GenericErrorCodes.NotAuthorizedByTitle;
+                case "NoPartnerEnabled": return GenericErrorCodes.NoPartnerEnabled;
+                case "InvalidPartnerResponse": return GenericErrorCodes.InvalidPartnerResponse;
+                case "APINotEnabledForGameServerAccess": return GenericErrorCodes.APINotEnabledForGameServerAccess;
+                case "StatisticNotFound": return GenericErrorCodes.StatisticNotFound;
+                case "StatisticNameConflict": return GenericErrorCodes.StatisticNameConflict;
+                case "StatisticVersionClosedForWrites": return GenericErrorCodes.StatisticVersionClosedForWrites;
+                case "StatisticVersionInvalid": return GenericErrorCodes.StatisticVersionInvalid;
+                case "APIClientRequestRateLimitExceeded": return GenericErrorCodes.APIClientRequestRateLimitExceeded;
+                case "InvalidJSONContent": return GenericErrorCodes.InvalidJSONContent;
+                case "InvalidDropTable": return GenericErrorCodes.InvalidDropTable;
+                case "StatisticVersionAlreadyIncrementedForScheduledInterval": return GenericErrorCodes.StatisticVersionAlreadyIncrementedForScheduledInterval;
+                case "StatisticCountLimitExceeded": return GenericErrorCodes.StatisticCountLimitExceeded;
+                case "StatisticVersionIncrementRateExceeded": return GenericErrorCodes.StatisticVersionIncrementRateExceeded;
+                case "ContainerKeyInvalid": return GenericErrorCodes.ContainerKeyInvalid;
+                case "CloudScriptExecutionTimeLimitExceeded": return GenericErrorCodes.CloudScriptExecutionTimeLimitExceeded;
+                case "NoWritePermissionsForEvent": return GenericErrorCodes.NoWritePermissionsForEvent;
+                case "CloudScriptFunctionArgumentSizeExceeded": return GenericErrorCodes.CloudScriptFunctionArgumentSizeExceeded;
+                case "CloudScriptAPIRequestCountExceeded": return GenericErrorCodes.CloudScriptAPIRequestCountExceeded;
+                case "CloudScriptAPIRequestError": return GenericErrorCodes.CloudScriptAPIRequestError;
+                case "CloudScriptHTTPRequestError": return GenericErrorCodes.CloudScriptHTTPRequestError;
+                case "InsufficientGuildRole": return GenericErrorCodes.InsufficientGuildRole;
+                case "GuildNotFound": return GenericErrorCodes.GuildNotFound;
+                case "OverLimit": return GenericErrorCodes.OverLimit;
+                case "EventNotFound": return GenericErrorCodes.EventNotFound;
+                case "InvalidEventField": return GenericErrorCodes.InvalidEventField;
+                case "InvalidEventName": return GenericErrorCodes.InvalidEventName;
+                case "CatalogNotConfigured": return GenericErrorCodes.CatalogNotConfigured;
+                case "OperationNotSupportedForPlatform": return GenericErrorCodes.OperationNotSupportedForPlatform;
+                case "SegmentNotFound": return GenericErrorCodes.SegmentNotFound;
+                case "StoreNotFound": return GenericErrorCodes.StoreNotFound;
+                case "InvalidStatisticName": return GenericErrorCodes.InvalidStatisticName;
+                case "TitleNotQualifiedForLimit": return GenericErrorCodes.TitleNotQualifiedForLimit;
+                case "InvalidServiceLimitLevel": return GenericErrorCodes.InvalidServiceLimitLevel;
+                case "ServiceLimitLevelInTransition": return GenericErrorCodes.ServiceLimitLevelInTransition;
+                case "CouponAlreadyRedeemed": return GenericErrorCodes.CouponAlreadyRedeemed;
+                case "GameServerBuildSizeLimitExceeded": return GenericErrorCodes.GameServerBuildSizeLimitExceeded;
+                case "GameServerBuildCountLimitExceeded": return GenericErrorCodes.GameServerBuildCountLimitExceeded;
+                case "VirtualCurrencyCountLimitExceeded": return GenericErrorCodes.VirtualCurrencyCountLimitExceeded;
+                case "VirtualCurrencyCodeExists": return GenericErrorCodes.VirtualCurrencyCodeExists;
+                case "TitleNewsItemCountLimitExceeded": return GenericErrorCodes.TitleNewsItemCountLimitExceeded;
+                case "InvalidTwitchToken": return GenericErrorCodes.InvalidTwitchToken;
+                case "TwitchResponseError": return GenericErrorCodes.TwitchResponseError;
+                case "ProfaneDisplayName": return GenericErrorCodes.ProfaneDisplayName;
+                case "UserAlreadyAdded": return GenericErrorCodes.UserAlreadyAdded;
+                case "InvalidVirtualCurrencyCode": return GenericErrorCodes.InvalidVirtualCurrencyCode;
+                case "VirtualCurrencyCannotBeDeleted": return GenericErrorCodes.VirtualCurrencyCannotBeDeleted;
+                case "IdentifierAlreadyClaimed": return GenericErrorCodes.IdentifierAlreadyClaimed;
+                case "IdentifierNotLinked": return GenericErrorCodes.IdentifierNotLinked;
+                case "InvalidContinuationToken": return GenericErrorCodes.InvalidContinuationToken;
+                case "ExpiredContinuationToken": return GenericErrorCodes.ExpiredContinuationToken;
+                case "InvalidSegment": return GenericErrorCodes.InvalidSegment;
+                case "InvalidSessionId": return GenericErrorCodes.InvalidSessionId;
+                case "SessionLogNotFound": return GenericErrorCodes.SessionLogNotFound;
+                case "InvalidSearchTerm": return GenericErrorCodes.InvalidSearchTerm;
+                case "TwoFactorAuthenticationTokenRequired": return GenericErrorCodes.TwoFactorAuthenticationTokenRequired;
+                case "GameServerHostCountLimitExceeded": return GenericErrorCodes.GameServerHostCountLimitExceeded;
+                case "PlayerTagCountLimitExceeded": return GenericErrorCodes.PlayerTagCountLimitExceeded;
+                case "RequestAlreadyRunning": return GenericErrorCodes.RequestAlreadyRunning;
+                case "ActionGroupNotFound": return GenericErrorCodes.ActionGroupNotFound;
+                case "MaximumSegmentBulkActionJobsRunning": return GenericErrorCodes.MaximumSegmentBulkActionJobsRunning;
+                case "NoActionsOnPlayersInSegmentJob": return GenericErrorCodes.NoActionsOnPlayersInSegmentJob;
+                case "DuplicateStatisticName": return GenericErrorCodes.DuplicateStatisticName;
+                case "ScheduledTaskNameConflict": return GenericErrorCodes.ScheduledTaskNameConflict;
+                case "ScheduledTaskCreateConflict": return GenericErrorCodes.ScheduledTaskCreateConflict;
+                case "InvalidScheduledTaskName": return GenericErrorCodes.InvalidScheduledTaskName;
+                case "InvalidTaskSchedule": return GenericErrorCodes.InvalidTaskSchedule;
+                case "SteamNotEnabledForTitle": return GenericErrorCodes.SteamNotEnabledForTitle;
+                case "LimitNotAnUpgradeOption": return GenericErrorCodes.LimitNotAnUpgradeOption;
+                case "NoSecretKeyEnabledForCloudScript": return GenericErrorCodes.NoSecretKeyEnabledForCloudScript;
+                case "TaskNotFound": return GenericErrorCodes.TaskNotFound;
+                case "TaskInstanceNotFound": return GenericErrorCodes.TaskInstanceNotFound;
+                case "InvalidIdentityProviderId": return GenericErrorCodes.InvalidIdentityProviderId;
+                case "MisconfiguredIdentityProvider": return GenericErrorCodes.MisconfiguredIdentityProvider;
+                case "InvalidScheduledTaskType": return GenericErrorCodes.InvalidScheduledTaskType;
+                case "BillingInformationRequired": return GenericErrorCodes.BillingInformationRequired;
+                case "LimitedEditionItemUnavailable": return GenericErrorCodes.LimitedEditionItemUnavailable;
+                case "InvalidAdPlacementAndReward": return GenericErrorCodes.InvalidAdPlacementAndReward;
+                case "AllAdPlacementViewsAlreadyConsumed": return GenericErrorCodes.AllAdPlacementViewsAlreadyConsumed;
+                case "GoogleOAuthNotConfiguredForTitle": return GenericErrorCodes.GoogleOAuthNotConfiguredForTitle;
+                case "GoogleOAuthError": return GenericErrorCodes.GoogleOAuthError;
+                case "UserNotFriend": return GenericErrorCodes.UserNotFriend;
+                case "InvalidSignature": return GenericErrorCodes.InvalidSignature;
+                case "InvalidPublicKey": return GenericErrorCodes.InvalidPublicKey;
+                case "GoogleOAuthNoIdTokenIncludedInResponse": return GenericErrorCodes.GoogleOAuthNoIdTokenIncludedInResponse;
+                case "StatisticUpdateInProgress": return GenericErrorCodes.StatisticUpdateInProgress;
+                case "LeaderboardVersionNotAvailable": return GenericErrorCodes.LeaderboardVersionNotAvailable;
+                case "StatisticAlreadyHasPrizeTable": return GenericErrorCodes.StatisticAlreadyHasPrizeTable;
+                case "PrizeTableHasOverlappingRanks": return GenericErrorCodes.PrizeTableHasOverlappingRanks;
+                case "PrizeTableHasMissingRanks": return GenericErrorCodes.PrizeTableHasMissingRanks;
+                case "PrizeTableRankStartsAtZero": return GenericErrorCodes.PrizeTableRankStartsAtZero;
+                case "InvalidStatistic": return GenericErrorCodes.InvalidStatistic;
+                case "ExpressionParseFailure": return GenericErrorCodes.ExpressionParseFailure;
+                case "ExpressionInvokeFailure": return GenericErrorCodes.ExpressionInvokeFailure;
+                case "ExpressionTooLong": return GenericErrorCodes.ExpressionTooLong;
+                case "DataUpdateRateExceeded": return GenericErrorCodes.DataUpdateRateExceeded;
+                case "RestrictedEmailDomain": return GenericErrorCodes.RestrictedEmailDomain;
+                case "EncryptionKeyDisabled": return GenericErrorCodes.EncryptionKeyDisabled;
+                case "EncryptionKeyMissing": return GenericErrorCodes.EncryptionKeyMissing;
+                case "EncryptionKeyBroken": return GenericErrorCodes.EncryptionKeyBroken;
+                case "NoSharedSecretKeyConfigured": return GenericErrorCodes.NoSharedSecretKeyConfigured;
+                case "SecretKeyNotFound": return GenericErrorCodes.SecretKeyNotFound;
+                case "PlayerSecretAlreadyConfigured": return GenericErrorCodes.PlayerSecretAlreadyConfigured;
+                case "APIRequestsDisabledForTitle": return GenericErrorCodes.APIRequestsDisabledForTitle;
+                case "InvalidSharedSecretKey": return GenericErrorCodes.InvalidSharedSecretKey;
+                case "PrizeTableHasNoRanks": return GenericErrorCodes.PrizeTableHasNoRanks;
+                case "ProfileDoesNotExist": return GenericErrorCodes.ProfileDoesNotExist;
+                case "ContentS3OriginBucketNotConfigured": return GenericErrorCodes.ContentS3OriginBucketNotConfigured;
+                case "InvalidEnvironmentForReceipt": return GenericErrorCodes.InvalidEnvironmentForReceipt;
+                case "EncryptedRequestNotAllowed": return GenericErrorCodes.EncryptedRequestNotAllowed;
+                case "SignedRequestNotAllowed": return GenericErrorCodes.SignedRequestNotAllowed;
+                case "RequestViewConstraintParamsNotAllowed": return GenericErrorCodes.RequestViewConstraintParamsNotAllowed;
+                case "BadPartnerConfiguration": return GenericErrorCodes.BadPartnerConfiguration;
+                case "XboxBPCertificateFailure": return GenericErrorCodes.XboxBPCertificateFailure;
+                case "XboxXASSExchangeFailure": return GenericErrorCodes.XboxXASSExchangeFailure;
+                case "InvalidEntityId": return GenericErrorCodes.InvalidEntityId;
+                case "StatisticValueAggregationOverflow": return GenericErrorCodes.StatisticValueAggregationOverflow;
+                case "EmailMessageFromAddressIsMissing": return GenericErrorCodes.EmailMessageFromAddressIsMissing;
+                case "EmailMessageToAddressIsMissing": return GenericErrorCodes.EmailMessageToAddressIsMissing;
+                case "SmtpServerAuthenticationError": return GenericErrorCodes.SmtpServerAuthenticationError;
+                case "SmtpServerLimitExceeded": return GenericErrorCodes.SmtpServerLimitExceeded;
+                case "SmtpServerInsufficientStorage": return GenericErrorCodes.SmtpServerInsufficientStorage;
+                case "SmtpServerCommunicationError": return GenericErrorCodes.SmtpServerCommunicationError;
+                case "SmtpServerGeneralFailure": return GenericErrorCodes.SmtpServerGeneralFailure;
+                case "EmailClientTimeout": return GenericErrorCodes.EmailClientTimeout;
+                case "EmailClientCanceledTask": return GenericErrorCodes.EmailClientCanceledTask;
+                case "EmailTemplateMissing": return GenericErrorCodes.EmailTemplateMissing;
+                case "InvalidHostForTitleId": return GenericErrorCodes.InvalidHostForTitleId;
+                case "EmailConfirmationTokenDoesNotExist": return GenericErrorCodes.EmailConfirmationTokenDoesNotExist;
+                case "EmailConfirmationTokenExpired": return GenericErrorCodes.EmailConfirmationTokenExpired;
+                case "AccountDeleted": return GenericErrorCodes.AccountDeleted;
+                case "PlayerSecretNotConfigured": return GenericErrorCodes.PlayerSecretNotConfigured;
+                case "InvalidSignatureTime": return GenericErrorCodes.InvalidSignatureTime;
+                case "NoContactEmailAddressFound": return GenericErrorCodes.NoContactEmailAddressFound;
+                case "InvalidAuthToken": return GenericErrorCodes.InvalidAuthToken;
+                case "AuthTokenDoesNotExist": return GenericErrorCodes.AuthTokenDoesNotExist;
+                case "AuthTokenExpired": return GenericErrorCodes.AuthTokenExpired;
+                case "AuthTokenAlreadyUsedToResetPassword": return GenericErrorCodes.AuthTokenAlreadyUsedToResetPassword;
+                case "MembershipNameTooLong": return GenericErrorCodes.MembershipNameTooLong;
+                case "MembershipNotFound": return GenericErrorCodes.MembershipNotFound;
+                case "GoogleServiceAccountInvalid": return GenericErrorCodes.GoogleServiceAccountInvalid;
+                case "GoogleServiceAccountParseFailure": return GenericErrorCodes.GoogleServiceAccountParseFailure;
+                case "EntityTokenMissing": return GenericErrorCodes.EntityTokenMissing;
+                case "EntityTokenInvalid": return GenericErrorCodes.EntityTokenInvalid;
+                case "EntityTokenExpired": return GenericErrorCodes.EntityTokenExpired;
+                case "EntityTokenRevoked": return GenericErrorCodes.EntityTokenRevoked;
+                case "InvalidProductForSubscription": return GenericErrorCodes.InvalidProductForSubscription;
+                case "XboxInaccessible": return GenericErrorCodes.XboxInaccessible;
+                case "SubscriptionAlreadyTaken": return GenericErrorCodes.SubscriptionAlreadyTaken;
+                case "SmtpAddonNotEnabled": return GenericErrorCodes.SmtpAddonNotEnabled;
+                case "APIConcurrentRequestLimitExceeded": return GenericErrorCodes.APIConcurrentRequestLimitExceeded;
+                case "XboxRejectedXSTSExchangeRequest": return GenericErrorCodes.XboxRejectedXSTSExchangeRequest;
+                case "VariableNotDefined": return GenericErrorCodes.VariableNotDefined;
+                case "TemplateVersionNotDefined": return GenericErrorCodes.TemplateVersionNotDefined;
+                case "FileTooLarge": return GenericErrorCodes.FileTooLarge;
+                case "TitleDeleted": return GenericErrorCodes.TitleDeleted;
+                case "TitleContainsUserAccounts": return GenericErrorCodes.TitleContainsUserAccounts;
+                case "TitleDeletionPlayerCleanupFailure": return GenericErrorCodes.TitleDeletionPlayerCleanupFailure;
+                case "EntityFileOperationPending": return GenericErrorCodes.EntityFileOperationPending;
+                case "NoEntityFileOperationPending": return GenericErrorCodes.NoEntityFileOperationPending;
+                case "EntityProfileVersionMismatch": return GenericErrorCodes.EntityProfileVersionMismatch;
+                case "TemplateVersionTooOld": return GenericErrorCodes.TemplateVersionTooOld;
+                case "MembershipDefinitionInUse": return GenericErrorCodes.MembershipDefinitionInUse;
+                case "PaymentPageNotConfigured": return GenericErrorCodes.PaymentPageNotConfigured;
+                case "FailedLoginAttemptRateLimitExceeded": return GenericErrorCodes.FailedLoginAttemptRateLimitExceeded;
+                case "EntityBlockedByGroup": return GenericErrorCodes.EntityBlockedByGroup;
+                case "RoleDoesNotExist": return GenericErrorCodes.RoleDoesNotExist;
+                case "EntityIsAlreadyMember": return GenericErrorCodes.EntityIsAlreadyMember;
+                case "DuplicateRoleId": return GenericErrorCodes.DuplicateRoleId;
+                case "GroupInvitationNotFound": return GenericErrorCodes.GroupInvitationNotFound;
+                case "GroupApplicationNotFound": return GenericErrorCodes.GroupApplicationNotFound;
+                case "OutstandingInvitationAcceptedInstead": return GenericErrorCodes.OutstandingInvitationAcceptedInstead;
+                case "OutstandingApplicationAcceptedInstead": return GenericErrorCodes.OutstandingApplicationAcceptedInstead;
+                case "RoleIsGroupDefaultMember": return GenericErrorCodes.RoleIsGroupDefaultMember;
+                case "RoleIsGroupAdmin": return GenericErrorCodes.RoleIsGroupAdmin;
+                case "RoleNameNotAvailable": return GenericErrorCodes.RoleNameNotAvailable;
+                case "GroupNameNotAvailable": return GenericErrorCodes.GroupNameNotAvailable;
+                case "EmailReportAlreadySent": return GenericErrorCodes.EmailReportAlreadySent;
+                case "EmailReportRecipientBlacklisted": return GenericErrorCodes.EmailReportRecipientBlacklisted;
+                case "EventNamespaceNotAllowed": return GenericErrorCodes.EventNamespaceNotAllowed;
+                case "EventEntityNotAllowed": return GenericErrorCodes.EventEntityNotAllowed;
+                case "InvalidEntityType": return GenericErrorCodes.InvalidEntityType;
+                case "NullTokenResultFromAad": return GenericErrorCodes.NullTokenResultFromAad;
+                case "InvalidTokenResultFromAad": return GenericErrorCodes.InvalidTokenResultFromAad;
+                case "NoValidCertificateForAad": return GenericErrorCodes.NoValidCertificateForAad;
+                case "InvalidCertificateForAad": return GenericErrorCodes.InvalidCertificateForAad;
+                case "DuplicateDropTableId": return GenericErrorCodes.DuplicateDropTableId;
+                case "MultiplayerServerError": return GenericErrorCodes.MultiplayerServerError;
+                case "MultiplayerServerTooManyRequests": return GenericErrorCodes.MultiplayerServerTooManyRequests;
+                case "MultiplayerServerNoContent": return GenericErrorCodes.MultiplayerServerNoContent;
+                case "MultiplayerServerBadRequest": return GenericErrorCodes.MultiplayerServerBadRequest;
+                case "MultiplayerServerUnauthorized": return GenericErrorCodes.MultiplayerServerUnauthorized;
+                case "MultiplayerServerForbidden": return GenericErrorCodes.MultiplayerServerForbidden;
+                case "MultiplayerServerNotFound": return GenericErrorCodes.MultiplayerServerNotFound;
+                case "MultiplayerServerConflict": return GenericErrorCodes.MultiplayerServerConflict;
+                case "MultiplayerServerInternalServerError": return GenericErrorCodes.MultiplayerServerInternalServerError;
+                case "MultiplayerServerUnavailable": return GenericErrorCodes.MultiplayerServerUnavailable;
+                case "ExplicitContentDetected": return GenericErrorCodes.ExplicitContentDetected;
+                case "PIIContentDetected": return GenericErrorCodes.PIIContentDetected;
+                case "InvalidScheduledTaskParameter": return GenericErrorCodes.InvalidScheduledTaskParameter;
+                case "PerEntityEventRateLimitExceeded": return GenericErrorCodes.PerEntityEventRateLimitExceeded;
+                case "TitleDefaultLanguageNotSet": return GenericErrorCodes.TitleDefaultLanguageNotSet;
+                case "EmailTemplateMissingDefaultVersion": return GenericErrorCodes.EmailTemplateMissingDefaultVersion;
+                case "FacebookInstantGamesIdNotLinked": return GenericErrorCodes.FacebookInstantGamesIdNotLinked;
+                case "InvalidFacebookInstantGamesSignature": return GenericErrorCodes.InvalidFacebookInstantGamesSignature;
+                case "FacebookInstantGamesAuthNotConfiguredForTitle": return GenericErrorCodes.FacebookInstantGamesAuthNotConfiguredForTitle;
+                case "MatchmakingEntityInvalid": return GenericErrorCodes.MatchmakingEntityInvalid;
+                case "MatchmakingPlayerAttributesInvalid": return GenericErrorCodes.MatchmakingPlayerAttributesInvalid;
+                case "MatchmakingCreateRequestMissing": return GenericErrorCodes.MatchmakingCreateRequestMissing;
+                case "MatchmakingCreateRequestCreatorMissing": return GenericErrorCodes.MatchmakingCreateRequestCreatorMissing;
+                case "MatchmakingCreateRequestCreatorIdMissing": return GenericErrorCodes.MatchmakingCreateRequestCreatorIdMissing;
+                case "MatchmakingCreateRequestUserListMissing": return GenericErrorCodes.MatchmakingCreateRequestUserListMissing;
+                case "MatchmakingCreateRequestGiveUpAfterInvalid": return GenericErrorCodes.MatchmakingCreateRequestGiveUpAfterInvalid;
+                case "MatchmakingTicketIdMissing": return GenericErrorCodes.MatchmakingTicketIdMissing;
+                case "MatchmakingMatchIdMissing": return GenericErrorCodes.MatchmakingMatchIdMissing;
+                case "MatchmakingMatchIdIdMissing": return GenericErrorCodes.MatchmakingMatchIdIdMissing;
+                case "MatchmakingQueueNameMissing": return GenericErrorCodes.MatchmakingQueueNameMissing;
+                case "MatchmakingTitleIdMissing": return GenericErrorCodes.MatchmakingTitleIdMissing;
+                case "MatchmakingTicketIdIdMissing": return GenericErrorCodes.MatchmakingTicketIdIdMissing;
+                case "MatchmakingPlayerIdMissing": return GenericErrorCodes.MatchmakingPlayerIdMissing;
+                case "MatchmakingJoinRequestUserMissing": return GenericErrorCodes.MatchmakingJoinRequestUserMissing;
+                case "MatchmakingQueueConfigNotFound": return GenericErrorCodes.MatchmakingQueueConfigNotFound;
+                case "MatchmakingMatchNotFound": return GenericErrorCodes.MatchmakingMatchNotFound;
+                case "MatchmakingTicketNotFound": return GenericErrorCodes.MatchmakingTicketNotFound;
+                case "MatchmakingCreateTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingCreateTicketServerIdentityInvalid;
+                case "MatchmakingCreateTicketClientIdentityInvalid": return GenericErrorCodes.MatchmakingCreateTicketClientIdentityInvalid;
+                case "MatchmakingGetTicketUserMismatch": return GenericErrorCodes.MatchmakingGetTicketUserMismatch;
+                case "MatchmakingJoinTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingJoinTicketServerIdentityInvalid;
+                case "MatchmakingJoinTicketUserIdentityMismatch": return GenericErrorCodes.MatchmakingJoinTicketUserIdentityMismatch;
+                case "MatchmakingCancelTicketServerIdentityInvalid": return GenericErrorCodes.MatchmakingCancelTicketServerIdentityInvalid;
+                case "MatchmakingCancelTicketUserIdentityMismatch": return GenericErrorCodes.MatchmakingCancelTicketUserIdentityMismatch;
+                case "MatchmakingGetMatchIdentityMismatch": return GenericErrorCodes.MatchmakingGetMatchIdentityMismatch;
+                case "MatchmakingPlayerIdentityMismatch": return GenericErrorCodes.MatchmakingPlayerIdentityMismatch;
+                case "MatchmakingAlreadyJoinedTicket": return GenericErrorCodes.MatchmakingAlreadyJoinedTicket;
+                case "MatchmakingTicketAlreadyCompleted": return GenericErrorCodes.MatchmakingTicketAlreadyCompleted;
+                case "MatchmakingQueueNameInvalid": return GenericErrorCodes.MatchmakingQueueNameInvalid;
+                case "MatchmakingQueueConfigInvalid": return GenericErrorCodes.MatchmakingQueueConfigInvalid;
+                case "MatchmakingMemberProfileInvalid": return GenericErrorCodes.MatchmakingMemberProfileInvalid;
+                case "WriteAttemptedDuringExport": return GenericErrorCodes.WriteAttemptedDuringExport;
+                case "NintendoSwitchDeviceIdNotLinked": return GenericErrorCodes.NintendoSwitchDeviceIdNotLinked;
+                case "MatchmakingNotEnabled": return GenericErrorCodes.MatchmakingNotEnabled;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<LoginIdentityProvider> LoginIdentityProviderAdapter = new TypeAdapter<LoginIdentityProvider>() {
+        public void write(JsonWriter out, LoginIdentityProvider value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public LoginIdentityProvider read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unknown": return LoginIdentityProvider.Unknown;
+                case "PlayFab": return LoginIdentityProvider.PlayFab;
+                case "Custom": return LoginIdentityProvider.Custom;
+                case "GameCenter": return LoginIdentityProvider.GameCenter;
+                case "GooglePlay": return LoginIdentityProvider.GooglePlay;
+                case "Steam": return LoginIdentityProvider.Steam;
+                case "XBoxLive": return LoginIdentityProvider.XBoxLive;
+                case "PSN": return LoginIdentityProvider.PSN;
+                case "Kongregate": return LoginIdentityProvider.Kongregate;
+                case "Facebook": return LoginIdentityProvider.Facebook;
+                case "IOSDevice": return LoginIdentityProvider.IOSDevice;
+                case "AndroidDevice": return LoginIdentityProvider.AndroidDevice;
+                case "Twitch": return LoginIdentityProvider.Twitch;
+                case "WindowsHello": return LoginIdentityProvider.WindowsHello;
+                case "GameServer": return LoginIdentityProvider.GameServer;
+                case "CustomServer": return LoginIdentityProvider.CustomServer;
+                case "NintendoSwitch": return LoginIdentityProvider.NintendoSwitch;
+                case "FacebookInstantGames": return LoginIdentityProvider.FacebookInstantGames;
+                case "OpenIdConnect": return LoginIdentityProvider.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<PlayerConnectionState> PlayerConnectionStateAdapter = new TypeAdapter<PlayerConnectionState>() {
+        public void write(JsonWriter out, PlayerConnectionState value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public PlayerConnectionState read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Unassigned": return PlayerConnectionState.Unassigned;
+                case "Connecting": return PlayerConnectionState.Connecting;
+                case "Participating": return PlayerConnectionState.Participating;
+                case "Participated": return PlayerConnectionState.Participated;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<PushNotificationPlatform> PushNotificationPlatformAdapter = new TypeAdapter<PushNotificationPlatform>() {
+        public void write(JsonWriter out, PushNotificationPlatform value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public PushNotificationPlatform read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "ApplePushNotificationService": return PushNotificationPlatform.ApplePushNotificationService;
+                case "GoogleCloudMessaging": return PushNotificationPlatform.GoogleCloudMessaging;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<Region> RegionAdapter = new TypeAdapter<Region>() {
+        public void write(JsonWriter out, Region value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public Region read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "USCentral": return Region.USCentral;
+                case "USEast": return Region.USEast;
+                case "EUWest": return Region.EUWest;
+                case "Singapore": return Region.Singapore;
+                case "Japan": return Region.Japan;
+                case "Brazil": return Region.Brazil;
+                case "Australia": return Region.Australia;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<ResultTableNodeType> ResultTableNodeTypeAdapter = new TypeAdapter<ResultTableNodeType>() {
+        public void write(JsonWriter out, ResultTableNodeType value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public ResultTableNodeType read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "ItemId": return ResultTableNodeType.ItemId;
+                case "TableId": return ResultTableNodeType.TableId;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<SubscriptionProviderStatus> SubscriptionProviderStatusAdapter = new TypeAdapter<SubscriptionProviderStatus>() {
+        public void write(JsonWriter out, SubscriptionProviderStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public SubscriptionProviderStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "NoError": return SubscriptionProviderStatus.NoError;
+                case "Cancelled": return SubscriptionProviderStatus.Cancelled;
+                case "UnknownError": return SubscriptionProviderStatus.UnknownError;
+                case "BillingError": return SubscriptionProviderStatus.BillingError;
+                case "ProductUnavailable": return SubscriptionProviderStatus.ProductUnavailable;
+                case "CustomerDidNotAcceptPriceChange": return SubscriptionProviderStatus.CustomerDidNotAcceptPriceChange;
+                case "FreeTrial": return SubscriptionProviderStatus.FreeTrial;
+                case "PaymentPending": return SubscriptionProviderStatus.PaymentPending;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<TitleActivationStatus> TitleActivationStatusAdapter = new TypeAdapter<TitleActivationStatus>() {
+        public void write(JsonWriter out, TitleActivationStatus value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public TitleActivationStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "None": return TitleActivationStatus.None;
+                case "ActivatedTitleKey": return TitleActivationStatus.ActivatedTitleKey;
+                case "PendingSteam": return TitleActivationStatus.PendingSteam;
+                case "ActivatedSteam": return TitleActivationStatus.ActivatedSteam;
+                case "RevokedSteam": return TitleActivationStatus.RevokedSteam;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserDataPermission> UserDataPermissionAdapter = new TypeAdapter<UserDataPermission>() {
+        public void write(JsonWriter out, UserDataPermission value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserDataPermission read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Private": return UserDataPermission.Private;
+                case "Public": return UserDataPermission.Public;
+                default: return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<UserOrigination> UserOriginationAdapter = new TypeAdapter<UserOrigination>() {
+        public void write(JsonWriter out, UserOrigination value) throws IOException {
+            out.value(value == null ? null : value.name());
+        }
+
+        public UserOrigination read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            switch (in.nextString()) {
+                case "Organic": return UserOrigination.Organic;
+                case "Steam": return UserOrigination.Steam;
+                case "Google": return UserOrigination.Google;
+                case "Amazon": return UserOrigination.Amazon;
+                case "Facebook": return UserOrigination.Facebook;
+                case "Kongregate": return UserOrigination.Kongregate;
+                case "GamersFirst": return UserOrigination.GamersFirst;
+                case "Unknown": return UserOrigination.Unknown;
+                case "IOS": return UserOrigination.IOS;
+                case "LoadTest": return UserOrigination.LoadTest;
+                case "Android": return UserOrigination.Android;
+                case "PSN": return UserOrigination.PSN;
+                case "GameCenter": return UserOrigination.GameCenter;
+                case "CustomId": return UserOrigination.CustomId;
+                case "XboxLive": return UserOrigination.XboxLive;
+                case "Parse": return UserOrigination.Parse;
+                case "Twitch": return UserOrigination.Twitch;
+                case "WindowsHello": return UserOrigination.WindowsHello;
+                case "ServerCustomId": return UserOrigination.ServerCustomId;
+                case "NintendoSwitchDeviceId": return UserOrigination.NintendoSwitchDeviceId;
+                case "FacebookInstantGamesId": return UserOrigination.FacebookInstantGamesId;
+                case "OpenIdConnect": return UserOrigination.OpenIdConnect;
+                default: return null;
+            }
+        }
+    };
+}
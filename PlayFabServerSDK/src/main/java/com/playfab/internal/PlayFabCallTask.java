@@ -0,0 +1,45 @@
+package com.playfab.internal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The FutureTask behind every generated API method. Its call runs under a PlayFabDeadline of timeoutMs, counted from
+ * when the task starts running, and cancelling the task aborts the connection the call is waiting on, so the thread
+ * running it returns promptly instead of blocking until PlayFab answers
+ */
+public class PlayFabCallTask<V> extends FutureTask<V> {
+    private final long timeoutMs;
+    private volatile PlayFabDeadline deadline;
+
+    /** @param timeoutMs Deadline for the whole call, including retries; 0 for none */
+    public PlayFabCallTask(long timeoutMs, Callable<V> callable) {
+        super(callable);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public void run() {
+        PlayFabDeadline started = new PlayFabDeadline(timeoutMs);
+        deadline = started;
+        PlayFabDeadline previous = PlayFabDeadline.enter(started);
+        try {
+            super.run();
+        } finally {
+            PlayFabDeadline.exit(previous);
+        }
+    }
+
+    /** Cancels the task and aborts its call, whether or not mayInterruptIfRunning is set: the result could no longer be read */
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        PlayFabDeadline running = deadline;
+        if (cancelled && running != null)
+            running.cancel();
+        return cancelled;
+    }
+
+    /** The deadline of the running call, or null before the task has started */
+    public PlayFabDeadline getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,31 @@
+package com.playfab.internal;
+
+import java.lang.reflect.Type;
+
+/**
+ * JDK Flight Recorder events placeholder for runtimes older than Java 11, where every method is a no-op.
+ * The multi-release jar carries the real implementation under META-INF/versions/11; on those runtimes each API call
+ * is recorded as a com.playfab.ApiCall event and each response decode as a com.playfab.Deserialize event
+ */
+public class PlayFabFlightRecorder {
+    /** True when this runtime can record PlayFab events */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /** Starts timing an API call; returns the event to pass to commitCall, or null when the event is not being recorded */
+    public static Object beginCall() {
+        return null;
+    }
+
+    public static void commitCall(Object event, PlayFabMetricsRecorder.Call call) {
+    }
+
+    /** Starts timing the decode of one response; returns the event to pass to commitDecode, or null */
+    public static Object beginDecode() {
+        return null;
+    }
+
+    public static void commitDecode(Object event, String path, Type resultType, long bytes) {
+    }
+}
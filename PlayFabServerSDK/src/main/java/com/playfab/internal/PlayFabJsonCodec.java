@@ -0,0 +1,30 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * The json layer underneath PlayFabHTTP: every generated API method serializes its request and decodes its
+ * PlayFabJsonSuccess/PlayFabJsonError envelope through the active codec.
+ * PlayFabGsonCodec is the default; PlayFabStreamingJsonCodec is a faster bundled alternative.
+ * Install an implementation with PlayFabHTTP.setJsonCodec. Implementations must be thread safe
+ */
+public interface PlayFabJsonCodec {
+    /**
+     * Writes a model as UTF-8 json
+     * @param value The request model, serialized as its runtime class
+     * @param out The destination, which must be flushed but not closed
+     */
+    void encode(Object value, OutputStream out) throws IOException;
+
+    /**
+     * Reads one UTF-8 json document
+     * @param in The source, which is not closed
+     * @param type The type to decode into, such as a PlayFabJsonSuccess envelope type
+     * @return The decoded value, or null for an empty document
+     * @throws IOException Only when the stream itself fails; malformed json surfaces as a RuntimeException
+     */
+    Object decode(InputStream in, Type type) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.playfab.internal;
+
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Receives the measurements of every API call made through PlayFabHTTP, for forwarding to a metrics system.
+ * Install one with PlayFabHTTP.setMetricsRecorder; the built-in PlayFabMetrics histograms are fed independently of it.
+ * Called on the thread that made the call, after the response has been read, so implementations must be fast and thread-safe
+ */
+public interface PlayFabMetricsRecorder {
+    void record(Call call);
+
+    /** The measurements of one API call. Phases that did not happen are -1 */
+    public static class Call {
+        public String path; // The API path, such as /Server/GetUserData
+        public long totalNanos; // Serializing the request until the result was decoded
+        public long serializeNanos = -1; // Encoding the request model; -1 when the body was streamed, and encoding is part of timeToFirstByteNanos
+        public long timeToFirstByteNanos = -1; // Sending the request until the response status arrived, including waiting for a connection
+        public long deserializeNanos = -1; // Reading and decoding the response body, which is decoded as it streams in
+        public long requestBytes = -1;
+        public long responseBytes = -1;
+        public int httpCode; // 0 when no response was received
+        public PlayFabErrorCode errorCode; // null for a successful call
+    }
+}
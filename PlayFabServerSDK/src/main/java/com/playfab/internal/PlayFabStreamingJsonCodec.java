@@ -0,0 +1,285 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * A PlayFabJsonCodec that drives the precompiled model adapters directly over byte buffers.
+ *
+ * Requests are encoded to UTF-8 by hand into a byte buffer that is written to the stream in blocks, and responses are decoded
+ * from a byte buffer the same way, so neither direction goes through the JDK's synchronized stream encoders or Gson's
+ * per-call setup. Output is not HTML-escaped, which is valid json and keeps bodies smaller. Select it with
+ *     PlayFabHTTP.setJsonCodec(new PlayFabStreamingJsonCodec());
+ */
+public class PlayFabStreamingJsonCodec implements PlayFabJsonCodec {
+    private static final int BUFFER_SIZE = 8192;
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final Gson gson;
+
+    public PlayFabStreamingJsonCodec() {
+        this(PlayFabGsonCodec.createGson());
+    }
+
+    /** Resolves adapters from a Gson configured by the app, which should keep the PlayFab date format */
+    public PlayFabStreamingJsonCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void encode(Object value, OutputStream out) throws IOException {
+        TypeAdapter<Object> adapter = (TypeAdapter<Object>) gson.getAdapter(value.getClass());
+        Utf8Writer writer = new Utf8Writer(out);
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setSerializeNulls(false); // Gson's default: null fields and null map values are left out
+        adapter.write(jsonWriter, value);
+        writer.finish();
+    }
+
+    public Object decode(InputStream in, Type type) throws IOException {
+        JsonReader reader = new JsonReader(new Utf8Reader(in));
+        reader.setLenient(true);
+        try {
+            reader.peek();
+        } catch (EOFException e) {
+            return null; // An empty document, as with Gson.fromJson
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        try {
+            return gson.getAdapter(TypeToken.get(type)).read(reader);
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (EOFException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /** Encodes chars straight to UTF-8 in a block buffer. Unpaired surrogates are written as '?', as the JDK encoder does */
+    static final class Utf8Writer extends Writer {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int count;
+        private char highSurrogate; // A high surrogate waiting for its low half, or 0
+
+        Utf8Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        public void write(int c) throws IOException {
+            encode((char) c);
+        }
+
+        public void write(char[] chars, int offset, int length) throws IOException {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                char c = chars[i];
+                if (c < 0x80 && highSurrogate == 0) {
+                    if (count == buffer.length)
+                        flushBuffer();
+                    buffer[count++] = (byte) c;
+                } else {
+                    encode(c);
+                }
+            }
+        }
+
+        public void write(String text, int offset, int length) throws IOException {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80 && highSurrogate == 0) {
+                    if (count == buffer.length)
+                        flushBuffer();
+                    buffer[count++] = (byte) c;
+                } else {
+                    encode(c);
+                }
+            }
+        }
+
+        private void encode(char c) throws IOException {
+            if (buffer.length - count < 4)
+                flushBuffer();
+
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                buffer[count++] = '?';
+            }
+
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (count > 0) {
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        /** Writes everything buffered; a high surrogate at the end is kept back, since its low half may still follow */
+        public void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+
+        /** Ends the text: a high surrogate still waiting for its low half is written as '?', then everything is flushed */
+        void finish() throws IOException {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                if (count == buffer.length)
+                    flushBuffer();
+                buffer[count++] = '?';
+            }
+            flush();
+        }
+
+        public void close() throws IOException {
+            finish();
+            out.close();
+        }
+    }
+
+    /** Decodes UTF-8 from a block buffer. Malformed input decodes as U+FFFD, as the JDK decoder does */
+    static final class Utf8Reader extends Reader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private char lowSurrogate; // The second half of a supplementary character that did not fit the caller's array, or 0
+
+        Utf8Reader(InputStream in) {
+            this.in = in;
+        }
+
+        public int read(char[] chars, int offset, int length) throws IOException {
+            if (length == 0)
+                return 0;
+
+            int n = 0;
+            if (lowSurrogate != 0) {
+                chars[offset + n++] = lowSurrogate;
+                lowSurrogate = 0;
+            }
+
+            while (n < length) {
+                if (position == limit) {
+                    // Hand back what is already decoded rather than block for more input
+                    if (n > 0 || !fill())
+                        break;
+                }
+
+                int b = buffer[position] & 0xFF;
+                if (b < 0x80) {
+                    chars[offset + n++] = (char) b;
+                    position++;
+                    continue;
+                }
+
+                int sequence = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+                if (limit - position < sequence && b >= 0xC2 && b <= 0xF4) {
+                    if (n > 0)
+                        break;
+                    if (fill())
+                        continue;
+                    // The stream ended inside a sequence: decode the part there is
+                }
+
+                int codePoint = decode(sequence);
+                if (codePoint < 0x10000) {
+                    chars[offset + n++] = (char) codePoint;
+                } else {
+                    char low = (char) (0xDC00 + (codePoint & 0x3FF));
+                    chars[offset + n++] = (char) (0xD800 + ((codePoint - 0x10000) >> 10));
+                    if (n < length)
+                        chars[offset + n++] = low;
+                    else
+                        lowSurrogate = low;
+                }
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        // Decodes the sequence at position and advances past it. Malformed input becomes one U+FFFD per longest prefix that
+        // could have started a valid sequence, which is how the JDK decoder splits it; only a truncated sequence at the end
+        // of the stream is not fully buffered
+        private int decode(int sequence) {
+            int b = buffer[position] & 0xFF;
+            if (b < 0xC2 || b > 0xF4) {
+                position++;
+                return REPLACEMENT;
+            }
+            int available = Math.min(sequence, limit - position);
+            for (int i = 1; i < available; i++) {
+                int next = buffer[position + i] & 0xFF;
+                // The second byte range also rules out overlong forms and code points past U+10FFFF
+                int low = i == 1 && b == 0xE0 ? 0xA0 : i == 1 && b == 0xF0 ? 0x90 : 0x80;
+                int high = i == 1 && b == 0xF4 ? 0x8F : 0xBF;
+                if (next < low || next > high) {
+                    position += i;
+                    return REPLACEMENT;
+                }
+            }
+            if (available < sequence) {
+                position += available;
+                return REPLACEMENT;
+            }
+
+            int codePoint;
+            if (sequence == 2)
+                codePoint = ((b & 0x1F) << 6) | (buffer[position + 1] & 0x3F);
+            else if (sequence == 3)
+                codePoint = ((b & 0x0F) << 12) | ((buffer[position + 1] & 0x3F) << 6) | (buffer[position + 2] & 0x3F);
+            else
+                codePoint = ((b & 0x07) << 18) | ((buffer[position + 1] & 0x3F) << 12) | ((buffer[position + 2] & 0x3F) << 6) | (buffer[position + 3] & 0x3F);
+            position += sequence;
+            return codePoint >= 0xD800 && codePoint <= 0xDFFF ? REPLACEMENT : codePoint;
+        }
+
+        // Moves any partial sequence to the front and reads more input behind it; false at the end of the stream
+        private boolean fill() throws IOException {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read <= 0)
+                return false;
+            limit += read;
+            return true;
+        }
+
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.playfab.PlayFabAsync;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/**
+ * Serves title data, title internal data and publisher data from memory while PlayFabSettings.CacheTitleData is set, for
+ * reads made through the Client and Server APIs. Values are cached per key for PlayFabSettings.TitleDataCacheTtlMs or the
+ * TTL set for their key; once that has passed a value is still served for up to TitleDataCacheStaleMs longer, while it is
+ * refreshed in the background. A read only waits on PlayFab for keys it has no usable value for.
+ *
+ * Each title, store and credential (secret key or session ticket) gets a cache of its own, so a read is only ever answered
+ * with what PlayFab returned for the same credential. The least recently read of them are dropped beyond
+ * TitleDataCacheMaxStores.
+ *
+ * Writes made through the SDK (SetTitleData, SetTitleInternalData and SetPublisherData, from the Server and Admin APIs)
+ * invalidate the key they wrote as soon as they succeed; call invalidate for writes made anywhere else. Each read returns
+ * its own copy of the data. Requests and results are read through the json codec, so the cache works with whichever API
+ * modules are compiled in
+ */
+public class PlayFabTitleDataCache {
+    private static final Map<String, String> readStores = new HashMap<String, String>();
+    private static final Map<String, String> writeStores = new HashMap<String, String>();
+    static {
+        readStores.put("/Client/GetTitleData", "TitleData");
+        readStores.put("/Server/GetTitleData", "TitleData");
+        readStores.put("/Server/GetTitleInternalData", "TitleInternalData");
+        readStores.put("/Client/GetPublisherData", "PublisherData");
+        readStores.put("/Server/GetPublisherData", "PublisherData");
+        writeStores.put("/Server/SetTitleData", "TitleData");
+        writeStores.put("/Admin/SetTitleData", "TitleData");
+        writeStores.put("/Server/SetTitleInternalData", "TitleInternalData");
+        writeStores.put("/Admin/SetTitleInternalData", "TitleInternalData");
+        writeStores.put("/Server/SetPublisherData", "PublisherData");
+        writeStores.put("/Admin/SetPublisherData", "PublisherData");
+    }
+
+    // Fetches decode the result as a json tree, which serves every read path and result model alike
+    private static final Type TreeResultType = new TypeToken<PlayFabJsonSuccess<JsonObject>>(){}.getType();
+
+    private final ConcurrentHashMap<String, Store> stores = new ConcurrentHashMap<String, Store>();
+    private final ConcurrentHashMap<String, Long> ttls = new ConcurrentHashMap<String, Long>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong storesEvicted = new AtomicLong();
+
+    public boolean isCached(String path) {
+        return PlayFabSettings.CacheTitleData && readStores.containsKey(path);
+    }
+
+    /** Caches the key for ttlMs instead of PlayFabSettings.TitleDataCacheTtlMs, in every store; 0 or less not to cache it at all */
+    public void setTtl(String key, long ttlMs) {
+        ttls.put(key, ttlMs);
+        dropSnapshots();
+    }
+
+    public void clearTtl(String key) {
+        ttls.remove(key);
+        dropSnapshots();
+    }
+
+    // A snapshot of every key lives as long as the shortest TTL among them, so it is fetched again under the new TTLs
+    private void dropSnapshots() {
+        for (Store store : stores.values())
+            store.all = null;
+    }
+
+    /** Drops the key from every store, so the next read of it goes to PlayFab */
+    public void invalidate(String key) {
+        for (Store store : stores.values())
+            store.invalidate(key);
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        for (Store store : stores.values())
+            store.invalidateAll();
+        invalidations.incrementAndGet();
+    }
+
+    /** Called by PlayFabHTTP after every successful call, to invalidate what a write through the SDK has changed */
+    void onSuccess(String url, String path, Object request) {
+        String storeName = writeStores.get(path);
+        if (storeName == null)
+            return;
+        // A write changes what every credential reads from the store
+        String prefix = scope(url, path) + storeName + "\n";
+        String key = writtenKey(request);
+        for (Map.Entry<String, Store> pair : stores.entrySet()) {
+            if (!pair.getKey().startsWith(prefix))
+                continue;
+            if (key != null)
+                pair.getValue().invalidate(key);
+            else
+                pair.getValue().invalidateAll();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /** Answers a read of one of the cached paths, from memory where it can, and from PlayFab for the rest */
+    Object get(String url, String path, Object request, String authType, String authKey, Type resultType, PlayFabDeadline deadline) throws Exception {
+        List<String> keys = request != null ? requestedKeys(PlayFabModelJson.toTree(PlayFabHTTP.getJsonCodec(), request)) : null;
+        if (keys == null)
+            return PlayFabHTTP.doPostShared(url, request, authType, authKey, resultType, path, deadline);
+        Store store = store(scope(url, path) + readStores.get(path) + "\n" + PlayFabModelJson.hash(authType + "\n" + authKey));
+        store.lastReadNanos = System.nanoTime();
+        if (keys.isEmpty())
+            return getAll(store, url, path, authType, authKey, resultType, deadline);
+
+        long now = System.nanoTime();
+        Map<String, Entry> found = new HashMap<String, Entry>();
+        Set<String> fetchKeys = new TreeSet<String>();
+        List<String> stale = new ArrayList<String>();
+        boolean missed = false;
+        for (String key : keys) {
+            Entry entry = store.entries.get(key);
+            found.put(key, entry);
+            if (entry == null || now - entry.staleUntilNanos > 0) {
+                missed = true;
+                fetchKeys.add(key);
+            } else if (now - entry.expiresNanos > 0) {
+                stale.add(key);
+            }
+        }
+
+        if (missed) {
+            // Stale keys are fetched along with the missing ones, since the read has to wait on PlayFab anyway
+            misses.incrementAndGet();
+            fetchKeys.addAll(stale);
+            Object result = fetch(store, url, path, new ArrayList<String>(fetchKeys), authType, authKey, resultType, deadline);
+            if (result instanceof PlayFabError)
+                return result;
+            Map<String, String> fetched = dataOf(result);
+            Map<String, String> data = new HashMap<String, String>();
+            for (String key : keys) {
+                String value = fetchKeys.contains(key) ? (fetched != null ? fetched.get(key) : null) : found.get(key).value;
+                if (value != null)
+                    data.put(key, value);
+            }
+            return resultOf(resultType, data);
+        }
+
+        if (stale.isEmpty()) {
+            hits.incrementAndGet();
+        } else {
+            staleHits.incrementAndGet();
+            refresh(store, url, path, stale, authType, authKey, resultType);
+        }
+        Map<String, String> data = new HashMap<String, String>();
+        for (String key : keys) {
+            String value = found.get(key).value;
+            if (value != null)
+                data.put(key, value);
+        }
+        return resultOf(resultType, data);
+    }
+
+    // A read of every key is cached as one snapshot of the whole store, for the shortest TTL of any key in it
+    private Object getAll(final Store store, final String url, final String path, final String authType, final String authKey, final Type resultType, PlayFabDeadline deadline) throws Exception {
+        final Snapshot snapshot = store.all;
+        long now = System.nanoTime();
+        if (snapshot == null || now - snapshot.staleUntilNanos > 0) {
+            misses.incrementAndGet();
+            return fetchAll(store, url, path, authType, authKey, resultType, deadline);
+        }
+
+        if (now - snapshot.expiresNanos <= 0) {
+            hits.incrementAndGet();
+        } else {
+            staleHits.incrementAndGet();
+            if (snapshot.refreshing.compareAndSet(false, true)) {
+                refreshes.incrementAndGet();
+                execute(new Runnable() {
+                    public void run() {
+                        try {
+                            fetchAll(store, url, path, authType, authKey, resultType, new PlayFabDeadline(PlayFabSettings.CallTimeoutMs));
+                        } catch (Exception e) {
+                            // A failed refresh leaves the stale snapshot in place
+                        } finally {
+                            snapshot.refreshing.set(false);
+                        }
+                    }
+                });
+            }
+        }
+        return resultOf(resultType, new HashMap<String, String>(snapshot.data));
+    }
+
+    private Object fetchAll(Store store, String url, String path, String authType, String authKey, Type resultType, PlayFabDeadline deadline) throws Exception {
+        long generation = store.generation.get();
+        Object result = PlayFabHTTP.doPostShared(url, new HashMap<String, Object>(), authType, authKey, TreeResultType, path, deadline);
+        if (result instanceof PlayFabError)
+            return result;
+        Map<String, String> data = dataOf(result);
+        long ttlMs = PlayFabSettings.TitleDataCacheTtlMs;
+        if (data != null && !ttls.isEmpty()) {
+            for (String key : data.keySet())
+                ttlMs = Math.min(ttlMs, ttlMs(key));
+        }
+        if (ttlMs > 0) {
+            Snapshot snapshot = new Snapshot();
+            snapshot.data = data != null ? new HashMap<String, String>(data) : new HashMap<String, String>();
+            snapshot.expiresNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+            snapshot.staleUntilNanos = snapshot.expiresNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, PlayFabSettings.TitleDataCacheStaleMs));
+            store.putAll(snapshot, generation);
+        }
+        return resultOf(resultType, data != null ? new HashMap<String, String>(data) : new HashMap<String, String>());
+    }
+
+    // Keys are fetched sorted, so identical concurrent fetches coalesce
+    private Object fetch(Store store, String url, String path, List<String> keys, String authType, String authKey, Type resultType, PlayFabDeadline deadline) throws Exception {
+        Map<String, Object> request = new HashMap<String, Object>();
+        request.put("Keys", keys);
+        long generation = store.generation.get();
+        Object result = PlayFabHTTP.doPostShared(url, request, authType, authKey, TreeResultType, path, deadline);
+        if (result instanceof PlayFabError)
+            return result;
+        Map<String, String> data = dataOf(result);
+        long now = System.nanoTime();
+        for (String key : keys) {
+            long ttlMs = ttlMs(key);
+            if (ttlMs <= 0)
+                continue;
+            Entry entry = new Entry();
+            entry.value = data != null ? data.get(key) : null; // Keys PlayFab does not have are cached as absent
+            entry.expiresNanos = now + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+            entry.staleUntilNanos = entry.expiresNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, PlayFabSettings.TitleDataCacheStaleMs));
+            store.put(key, entry, generation);
+        }
+        return result;
+    }
+
+    private void refresh(final Store store, final String url, final String path, List<String> stale, final String authType, final String authKey, final Type resultType) {
+        final List<String> keys = new ArrayList<String>();
+        for (String key : stale) {
+            Entry entry = store.entries.get(key);
+            if (entry != null && entry.refreshing.compareAndSet(false, true))
+                keys.add(key);
+        }
+        if (keys.isEmpty())
+            return;
+        Collections.sort(keys);
+        refreshes.incrementAndGet();
+        execute(new Runnable() {
+            public void run() {
+                try {
+                    fetch(store, url, path, keys, authType, authKey, resultType, new PlayFabDeadline(PlayFabSettings.CallTimeoutMs));
+                } catch (Exception e) {
+                    // A failed refresh leaves the stale values in place, until they are refreshed by a later read or expire
+                } finally {
+                    for (String key : keys) {
+                        Entry entry = store.entries.get(key);
+                        if (entry != null)
+                            entry.refreshing.set(false);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void execute(Runnable refresh) {
+        try {
+            PlayFabAsync.getExecutor().execute(refresh);
+        } catch (RejectedExecutionException e) {
+            // The stale values are served until a later read manages to refresh them
+        }
+    }
+
+    private long ttlMs(String key) {
+        Long ttlMs = ttls.get(key);
+        return ttlMs != null ? ttlMs : PlayFabSettings.TitleDataCacheTtlMs;
+    }
+
+    private Store store(String name) {
+        Store store = stores.get(name);
+        if (store == null) {
+            Store created = new Store();
+            store = stores.putIfAbsent(name, created);
+            if (store == null) {
+                store = created;
+                evictStores(created);
+            }
+        }
+        return store;
+    }
+
+    // Drops the least recently read stores beyond TitleDataCacheMaxStores; this only runs when a store is added
+    private void evictStores(Store added) {
+        int maxStores = Math.max(1, PlayFabSettings.TitleDataCacheMaxStores);
+        while (stores.size() > maxStores) {
+            Map.Entry<String, Store> eldest = null;
+            for (Map.Entry<String, Store> pair : stores.entrySet()) {
+                if (pair.getValue() != added && (eldest == null || pair.getValue().lastReadNanos - eldest.getValue().lastReadNanos < 0))
+                    eldest = pair;
+            }
+            if (eldest == null)
+                return;
+            if (stores.remove(eldest.getKey(), eldest.getValue()))
+                storesEvicted.incrementAndGet();
+        }
+    }
+
+    // The scheme and host the call was made to, which identify the title
+    private static String scope(String url, String path) {
+        int end = url.indexOf(path);
+        return (end >= 0 ? url.substring(0, end) : url) + " ";
+    }
+
+    /** The key a write sets, or null when it cannot be told, and the whole store must be invalidated */
+    private static String writtenKey(Object request) {
+        if (request == null)
+            return null;
+        try {
+            return PlayFabModelJson.getString(PlayFabModelJson.toTree(PlayFabHTTP.getJsonCodec(), request), "Key");
+        } catch (IOException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The keys a read asks for, empty when it asks for every key, or null when the read names anything besides keys
+     * (such as an override label) and is not cached
+     */
+    private static List<String> requestedKeys(JsonObject request) {
+        List<String> keys = new ArrayList<String>();
+        for (Map.Entry<String, JsonElement> member : request.entrySet()) {
+            if (member.getValue().isJsonNull())
+                continue;
+            if (!member.getKey().equals("Keys") || !member.getValue().isJsonArray())
+                return null;
+            for (JsonElement key : member.getValue().getAsJsonArray()) {
+                if (!key.isJsonPrimitive())
+                    return null;
+                keys.add(key.getAsString());
+            }
+        }
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> dataOf(Object result) {
+        JsonObject data = result instanceof PlayFabJsonSuccess ? ((PlayFabJsonSuccess<JsonObject>) result).data : null;
+        JsonObject values = data != null ? PlayFabModelJson.getObject(data, "Data") : null;
+        if (values == null)
+            return null;
+        Map<String, String> output = new HashMap<String, String>();
+        for (Map.Entry<String, JsonElement> pair : values.entrySet()) {
+            if (pair.getValue().isJsonPrimitive())
+                output.put(pair.getKey(), pair.getValue().getAsString());
+        }
+        return output;
+    }
+
+    /** A new result of the caller's type holding the data, decoded by the codec so each read gets its own model */
+    private static Object resultOf(Type resultType, Map<String, String> data) throws IOException {
+        JsonObject values = new JsonObject();
+        for (Map.Entry<String, String> pair : data.entrySet())
+            values.addProperty(pair.getKey(), pair.getValue());
+        JsonObject result = new JsonObject();
+        result.add("Data", values);
+        JsonObject envelope = new JsonObject();
+        envelope.addProperty("code", 200);
+        envelope.addProperty("status", "OK");
+        envelope.add("data", result);
+        return PlayFabModelJson.fromTree(PlayFabHTTP.getJsonCodec(), envelope, resultType);
+    }
+
+    public Stats getStats() {
+        Stats output = new Stats();
+        output.hits = hits.get();
+        output.staleHits = staleHits.get();
+        output.misses = misses.get();
+        output.refreshes = refreshes.get();
+        output.invalidations = invalidations.get();
+        output.storesEvicted = storesEvicted.get();
+        output.stores = stores.size();
+        for (Store store : stores.values())
+            output.entries += store.entries.size() + (store.all != null ? store.all.data.size() : 0);
+        return output;
+    }
+
+    public static class Stats {
+        public long hits; // Reads answered from memory
+        public long staleHits; // Reads answered from memory that started a background refresh
+        public long misses; // Reads that waited on PlayFab for at least one key
+        public long refreshes; // Background refreshes started
+        public long invalidations;
+        public long storesEvicted; // Stores dropped beyond PlayFabSettings.TitleDataCacheMaxStores
+        public int stores; // One per title, data store and credential
+        public int entries; // Keys cached now, across every store
+    }
+
+    private static class Store {
+        final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+        // Bumped by every invalidation, so a fetch that started before one cannot put back the values it dropped
+        final AtomicLong generation = new AtomicLong();
+        volatile Snapshot all;
+        volatile long lastReadNanos = System.nanoTime();
+
+        void put(String key, Entry entry, long fetchGeneration) {
+            entries.put(key, entry);
+            if (generation.get() != fetchGeneration)
+                entries.remove(key, entry);
+        }
+
+        void putAll(Snapshot snapshot, long fetchGeneration) {
+            all = snapshot;
+            if (generation.get() != fetchGeneration && all == snapshot)
+                all = null;
+        }
+
+        void invalidate(String key) {
+            generation.incrementAndGet();
+            entries.remove(key);
+            all = null;
+        }
+
+        void invalidateAll() {
+            generation.incrementAndGet();
+            entries.clear();
+            all = null;
+        }
+    }
+
+    private static class Snapshot {
+        Map<String, String> data;
+        long expiresNanos;
+        long staleUntilNanos;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+
+    private static class Entry {
+        String value; // null when PlayFab has no value for the key
+        long expiresNanos;
+        long staleUntilNanos;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+}
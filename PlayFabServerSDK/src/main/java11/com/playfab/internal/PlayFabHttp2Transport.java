@@ -0,0 +1,270 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * HTTP/2 transport built on java.net.http.HttpClient (Java 11+).
+ * All calls to a PlayFab host are multiplexed as concurrent streams over a single connection, so hundreds of in-flight
+ * requests share one TLS session instead of each holding its own socket. Hosts that only speak HTTP/1.1 are handled by
+ * HttpClient's own connection pool. A PlayFabConnectionPool still bounds the calls in flight per host to
+ * PlayFabSettings.MaxConnectionsPerHost and counts how they ended; here each lease is a stream rather than a socket.
+ *
+ * HttpRequest.timeout only bounds the wait for the response headers, and HttpClient's body stream has no timeout of its
+ * own, so every read of the body is bounded here by the read timeout and the time left before the call's deadline, the
+ * way URLConnection's setReadTimeout bounds it on the other transport
+ */
+public class PlayFabHttp2Transport implements PlayFabTransport {
+    private static final ScheduledThreadPoolExecutor readTimer = createReadTimer();
+
+    private final HttpClient client;
+    private final PlayFabConnectionPool pool;
+
+    public PlayFabHttp2Transport() {
+        this(createClient(), new PlayFabConnectionPool());
+    }
+
+    public PlayFabHttp2Transport(HttpClient client) {
+        this(client, new PlayFabConnectionPool());
+    }
+
+    public PlayFabHttp2Transport(HttpClient client, PlayFabConnectionPool pool) {
+        this.client = client;
+        this.pool = pool;
+    }
+
+    private static ScheduledThreadPoolExecutor createReadTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "PlayFab HTTP/2 read timeout");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        timer.setRemoveOnCancelPolicy(true); // Almost every read finishes in time, so its timeout is cancelled
+        return timer;
+    }
+
+    private static HttpClient createClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NEVER);
+        if (PlayFabSettings.ConnectTimeoutMs > 0)
+            builder.connectTimeout(Duration.ofMillis(PlayFabSettings.ConnectTimeoutMs));
+        return builder.build();
+    }
+
+    /** True when this runtime provides java.net.http and the HTTP/2 transport can be used */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    public PlayFabConnectionPool getPool() {
+        return pool;
+    }
+
+    public Response post(String url, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException {
+        String host = PlayFabConnectionPool.hostKey(new URL(url));
+        pool.acquire(host, deadline.remainingNanos());
+        try {
+            return send(url, host, headers, body, deadline);
+        } catch (IOException e) {
+            pool.release(host, false);
+            throw e;
+        } catch (RuntimeException e) {
+            pool.release(host, false);
+            throw e;
+        }
+    }
+
+    private Response send(String url, String host, Map<String, String> headers, PlayFabRequestBody body, PlayFabDeadline deadline) throws IOException {
+        // HttpClient may still be reading the body after send returns, so it gets its own copy rather than a reused buffer
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+        for (Map.Entry<String, String> pair : headers.entrySet())
+            builder.header(pair.getKey(), pair.getValue());
+        int timeoutMs = deadline.readTimeoutMs();
+        if (timeoutMs > 0)
+            builder.timeout(Duration.ofMillis(timeoutMs));
+
+        // Sent asynchronously so that cancelling the call can abandon the exchange; HttpClient resets the stream from Java 16
+        final CompletableFuture<HttpResponse<InputStream>> exchange = client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        Closeable abort = new Closeable() {
+            public void close() {
+                exchange.cancel(true);
+            }
+        };
+        deadline.setInFlight(abort);
+        HttpResponse<InputStream> response;
+        try {
+            response = exchange.get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            deadline.clearInFlight(abort);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted posting to " + url);
+        } catch (CancellationException e) {
+            throw new InterruptedIOException("Call to " + url + " was cancelled");
+        } catch (ExecutionException e) {
+            deadline.clearInFlight(abort);
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpConnectTimeoutException) {
+                ConnectException unsent = new ConnectException(cause.getMessage());
+                unsent.initCause(cause);
+                throw unsent;
+            }
+            if (cause instanceof HttpTimeoutException)
+                throw new SocketTimeoutException(cause.getMessage());
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            throw new IOException("Failed to post to " + url, cause);
+        }
+
+        // From here, aborting means closing the body stream the call is reading from
+        deadline.clearInFlight(abort);
+        Http2Response output = new Http2Response(response, host, deadline);
+        deadline.setInFlight(output.body);
+        return output;
+    }
+
+    public int prewarm(String url, int connections) {
+        // A single connection carries every stream to the host, so one round trip is all the warming HTTP/2 needs
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build();
+        try {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+            pool.prewarmed(PlayFabConnectionPool.hostKey(new URL(url)));
+            return 1;
+        } catch (IOException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private class Http2Response extends Response {
+        private final BoundedBody body;
+        private final String host;
+        private final PlayFabDeadline deadline;
+        private boolean closed;
+
+        Http2Response(HttpResponse<InputStream> response, String host, PlayFabDeadline deadline) {
+            this.httpCode = response.statusCode();
+            this.body = new BoundedBody(response.body(), deadline);
+            this.host = host;
+            this.deadline = deadline;
+        }
+
+        public InputStream getBody() {
+            return body;
+        }
+
+        public void close() {
+            if (closed)
+                return;
+            closed = true;
+            boolean drained = false;
+            try {
+                PlayFabUrlConnectionTransport.drain(body);
+                drained = true;
+            } catch (IOException e) {
+                // The stream is reset by HttpClient; the shared connection is unaffected
+            } finally {
+                deadline.clearInFlight(body);
+                pool.release(host, drained);
+            }
+        }
+    }
+
+    /** The response body, with each read failed by closing the stream once the read timeout or the deadline passes */
+    private static class BoundedBody extends FilterInputStream {
+        private final PlayFabDeadline deadline;
+        private final Runnable expire;
+        private volatile boolean timedOut;
+
+        BoundedBody(InputStream body, PlayFabDeadline deadline) {
+            super(body);
+            this.deadline = deadline;
+            this.expire = new Runnable() {
+                public void run() {
+                    timedOut = true;
+                    try {
+                        in.close(); // Wakes the read blocked on HttpClient's buffer queue
+                    } catch (IOException e) {
+                        // The read fails either way
+                    }
+                }
+            };
+        }
+
+        public int read() throws IOException {
+            ScheduledFuture<?> timeout = arm();
+            try {
+                return in.read();
+            } catch (IOException e) {
+                throw timedOut ? timeout(e) : e;
+            } finally {
+                disarm(timeout);
+            }
+        }
+
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            ScheduledFuture<?> timeout = arm();
+            try {
+                return in.read(buffer, offset, length);
+            } catch (IOException e) {
+                throw timedOut ? timeout(e) : e;
+            } finally {
+                disarm(timeout);
+            }
+        }
+
+        public long skip(long count) throws IOException {
+            ScheduledFuture<?> timeout = arm();
+            try {
+                return in.skip(count);
+            } catch (IOException e) {
+                throw timedOut ? timeout(e) : e;
+            } finally {
+                disarm(timeout);
+            }
+        }
+
+        private ScheduledFuture<?> arm() throws IOException {
+            if (timedOut)
+                throw new SocketTimeoutException("Read timed out");
+            int timeoutMs = deadline.readTimeoutMs();
+            return timeoutMs > 0 ? readTimer.schedule(expire, timeoutMs, TimeUnit.MILLISECONDS) : null;
+        }
+
+        private static void disarm(ScheduledFuture<?> timeout) {
+            if (timeout != null)
+                timeout.cancel(false);
+        }
+
+        private static SocketTimeoutException timeout(IOException cause) {
+            SocketTimeoutException output = new SocketTimeoutException("Read timed out");
+            output.initCause(cause);
+            return output;
+        }
+    }
+}